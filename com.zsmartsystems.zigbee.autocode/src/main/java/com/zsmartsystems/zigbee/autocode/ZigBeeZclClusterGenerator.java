@@ -126,9 +126,18 @@ public class ZigBeeZclClusterGenerator extends ZigBeeBaseClassGenerator {
             importsAdd("java.util.concurrent.Future");
         }
         // imports.add(packageRoot + ".ZigBeeEndpoint");
-        importsAdd(packageRoot + packageZcl + ".ZclAttribute");
-        importsAdd("java.util.Map");
-        importsAdd("java.util.concurrent.ConcurrentSkipListMap");
+        if (!cluster.attributes.isEmpty()) {
+            importsAdd(packageRoot + packageZcl + ".ZclAttribute");
+            importsAdd(packageRoot + packageZcl + ".ZclAttributeDefinition");
+            importsAdd("java.util.Collections");
+            importsAdd("java.util.TreeMap");
+        }
+        if (!cluster.attributes.isEmpty() || !cluster.commands.isEmpty()) {
+            importsAdd("java.util.Map");
+        }
+        if (!cluster.commands.isEmpty()) {
+            importsAdd("java.util.concurrent.ConcurrentSkipListMap");
+        }
 
         outputImports(out);
 
@@ -190,15 +199,52 @@ public class ZigBeeZclClusterGenerator extends ZigBeeBaseClassGenerator {
             out.println();
         }
 
-        out.println("    @Override");
-        out.println("    protected Map<Integer, ZclAttribute> initializeClientAttributes() {");
-        createInitializeAttributes(out, cluster.name, attributesClient);
-        out.println();
+        if (!attributesClient.isEmpty()) {
+            out.println("    /**");
+            out.println("     * The client attribute definitions. These are shared by all instances of this cluster.");
+            out.println("     */");
+            out.println("    private static final Map<Integer, ZclAttributeDefinition> CLIENT_ATTRIBUTES = "
+                    + "initializeClientAttributeDefinitions();");
+            out.println();
+        }
+        if (!attributesServer.isEmpty()) {
+            out.println("    /**");
+            out.println("     * The server attribute definitions. These are shared by all instances of this cluster.");
+            out.println("     */");
+            out.println("    private static final Map<Integer, ZclAttributeDefinition> SERVER_ATTRIBUTES = "
+                    + "initializeServerAttributeDefinitions();");
+            out.println();
+        }
 
-        out.println("    @Override");
-        out.println("    protected Map<Integer, ZclAttribute> initializeServerAttributes() {");
-        createInitializeAttributes(out, cluster.name, attributesServer);
-        out.println();
+        if (!attributesClient.isEmpty()) {
+            out.println("    private static Map<Integer, ZclAttributeDefinition> initializeClientAttributeDefinitions() "
+                    + "{");
+            createInitializeAttributes(out, cluster.name, attributesClient);
+            out.println();
+        }
+
+        if (!attributesServer.isEmpty()) {
+            out.println("    private static Map<Integer, ZclAttributeDefinition> initializeServerAttributeDefinitions() "
+                    + "{");
+            createInitializeAttributes(out, cluster.name, attributesServer);
+            out.println();
+        }
+
+        if (!attributesClient.isEmpty()) {
+            out.println("    @Override");
+            out.println("    protected Map<Integer, ZclAttributeDefinition> getClientAttributeDefinitions() {");
+            out.println("        return CLIENT_ATTRIBUTES;");
+            out.println("    }");
+            out.println();
+        }
+
+        if (!attributesServer.isEmpty()) {
+            out.println("    @Override");
+            out.println("    protected Map<Integer, ZclAttributeDefinition> getServerAttributeDefinitions() {");
+            out.println("        return SERVER_ATTRIBUTES;");
+            out.println("    }");
+            out.println();
+        }
 
         // TODO: Add client attributes
 
@@ -269,13 +315,13 @@ public class ZigBeeZclClusterGenerator extends ZigBeeBaseClassGenerator {
                             + "(final int arrayOffset, final " + getDataTypeClass(attribute) + " value) {");
                     name = attribute.name.replaceAll("\\{\\{count\\}\\}", Integer.toString(attribute.arrayStart));
                     out.println(
-                            "        return write(serverAttributes.get(" + getEnum(name) + " + arrayOffset), value);");
+                            "        return write(getServerAttribute(" + getEnum(name) + " + arrayOffset), value);");
                 } else {
                     out.println("    @Deprecated");
                     out.println("    public Future<CommandResult> set"
                             + stringToUpperCamelCase(attribute.name).replace("_", "") + "(final "
                             + getDataTypeClass(attribute) + " value) {");
-                    out.println("        return write(serverAttributes.get(" + getEnum(attribute.name) + "), value);");
+                    out.println("        return write(getServerAttribute(" + getEnum(attribute.name) + "), value);");
                 }
                 out.println("    }");
             }
@@ -293,12 +339,12 @@ public class ZigBeeZclClusterGenerator extends ZigBeeBaseClassGenerator {
                 out.println("        }");
                 out.println();
                 name = attribute.name.replaceAll("\\{\\{count\\}\\}", Integer.toString(attribute.arrayStart));
-                out.println("        return read(serverAttributes.get(" + getEnum(name) + " + arrayOffset));");
+                out.println("        return read(getServerAttribute(" + getEnum(name) + " + arrayOffset));");
             } else {
                 out.println("    @Deprecated");
                 out.println("    public Future<CommandResult> get"
                         + stringToUpperCamelCase(attribute.name).replace("_", "") + "Async() {");
-                out.println("        return read(serverAttributes.get(" + getEnum(attribute.name) + "));");
+                out.println("        return read(getServerAttribute(" + getEnum(attribute.name) + "));");
             }
             out.println("    }");
 
@@ -311,25 +357,25 @@ public class ZigBeeZclClusterGenerator extends ZigBeeBaseClassGenerator {
                         + stringToUpperCamelCase(name).replace("_", "")
                         + "(final int arrayOffset, final long refreshPeriod) {");
                 name = attribute.name.replaceAll("\\{\\{count\\}\\}", Integer.toString(attribute.arrayStart));
-                out.println("        if (serverAttributes.get(" + getEnum(name) + " + arrayOffset"
+                out.println("        if (getServerAttribute(" + getEnum(name) + " + arrayOffset"
                         + ").isLastValueCurrent(refreshPeriod)) {");
-                out.println("            return (" + getDataTypeClass(attribute) + ") serverAttributes.get("
+                out.println("            return (" + getDataTypeClass(attribute) + ") getServerAttribute("
                         + getEnum(name) + " + arrayOffset).getLastValue();");
                 out.println("        }");
                 out.println();
-                out.println("        return (" + getDataTypeClass(attribute) + ") readSync(serverAttributes.get("
+                out.println("        return (" + getDataTypeClass(attribute) + ") readSync(getServerAttribute("
                         + getEnum(name) + " + arrayOffset));");
             } else {
                 out.println("    @Deprecated");
                 out.println("    public " + getDataTypeClass(attribute) + " get"
                         + stringToUpperCamelCase(attribute.name).replace("_", "") + "(final long refreshPeriod) {");
-                out.println("        if (serverAttributes.get(" + getEnum(attribute.name)
+                out.println("        if (getServerAttribute(" + getEnum(attribute.name)
                         + ").isLastValueCurrent(refreshPeriod)) {");
-                out.println("            return (" + getDataTypeClass(attribute) + ") serverAttributes.get("
+                out.println("            return (" + getDataTypeClass(attribute) + ") getServerAttribute("
                         + getEnum(attribute.name) + ").getLastValue();");
                 out.println("        }");
                 out.println();
-                out.println("        return (" + getDataTypeClass(attribute) + ") readSync(serverAttributes.get("
+                out.println("        return (" + getDataTypeClass(attribute) + ") readSync(getServerAttribute("
                         + getEnum(attribute.name) + "));");
             }
             out.println("    }");
@@ -351,13 +397,13 @@ public class ZigBeeZclClusterGenerator extends ZigBeeBaseClassGenerator {
                         out.println("    @Deprecated");
                         out.println("    public Future<CommandResult> set" + stringToUpperCamelCase(name)
                                 + "Reporting(final int arrayOffset, final int minInterval, final int maxInterval, final Object reportableChange) {");
-                        out.println("        return setReporting(serverAttributes.get(" + getEnum(name) + " + " + offset
+                        out.println("        return setReporting(getServerAttribute(" + getEnum(name) + " + " + offset
                                 + "), minInterval, maxInterval, reportableChange);");
                     } else {
                         out.println("    @Deprecated");
                         out.println("    public Future<CommandResult> set" + stringToUpperCamelCase(name)
                                 + "Reporting(final int arrayOffset, final int minInterval, final int maxInterval) {");
-                        out.println("        return setReporting(serverAttributes.get(" + getEnum(name) + " + " + offset
+                        out.println("        return setReporting(getServerAttribute(" + getEnum(name) + " + " + offset
                                 + "), minInterval, maxInterval);");
                     }
                 } else {
@@ -365,13 +411,13 @@ public class ZigBeeZclClusterGenerator extends ZigBeeBaseClassGenerator {
                         out.println("    @Deprecated");
                         out.println("    public Future<CommandResult> set" + stringToUpperCamelCase(attribute.name)
                                 + "Reporting(final int minInterval, final int maxInterval, final Object reportableChange) {");
-                        out.println("        return setReporting(serverAttributes.get(" + getEnum(attribute.name)
+                        out.println("        return setReporting(getServerAttribute(" + getEnum(attribute.name)
                                 + "), minInterval, maxInterval, reportableChange);");
                     } else {
                         out.println("    @Deprecated");
                         out.println("    public Future<CommandResult> set" + stringToUpperCamelCase(attribute.name)
                                 + "Reporting(final int minInterval, final int maxInterval) {");
-                        out.println("        return setReporting(serverAttributes.get(" + getEnum(attribute.name)
+                        out.println("        return setReporting(getServerAttribute(" + getEnum(attribute.name)
                                 + "), minInterval, maxInterval);");
                     }
                 }
@@ -434,7 +480,7 @@ public class ZigBeeZclClusterGenerator extends ZigBeeBaseClassGenerator {
     }
 
     private void createInitializeAttributes(PrintWriter out, String clusterName, List<ZigBeeXmlAttribute> attributes) {
-        out.println("        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();");
+        out.println("        Map<Integer, ZclAttributeDefinition> attributeMap = new TreeMap<>();");
 
         if (attributes.size() != 0) {
             out.println();
@@ -456,12 +502,12 @@ public class ZigBeeZclClusterGenerator extends ZigBeeBaseClassGenerator {
             }
         }
         out.println();
-        out.println("        return attributeMap;");
+        out.println("        return Collections.unmodifiableMap(attributeMap);");
         out.println("    }");
     }
 
     private String defineAttribute(ZigBeeXmlAttribute attribute, String clusterName, String attributeName, int count) {
-        return "new ZclAttribute(this, " + getEnum(attributeName) + ", \"" + attributeName + "\", " + "ZclDataType."
+        return "new ZclAttributeDefinition(" + getEnum(attributeName) + ", \"" + attributeName + "\", " + "ZclDataType."
                 + attribute.type + ", " + !attribute.optional + ", " + true + ", " + attribute.writable + ", "
                 + attribute.reportable + ")";
     }
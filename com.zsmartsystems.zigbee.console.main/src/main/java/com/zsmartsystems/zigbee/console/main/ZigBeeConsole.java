@@ -1204,7 +1204,7 @@ public final class ZigBeeConsole {
                     .getApplication(ZclOtaUpgradeCluster.CLUSTER_ID);
             if (otaServer == null) {
                 // Create and add the server
-                otaServer = new ZclOtaUpgradeServer();
+                otaServer = new ZclOtaUpgradeServer(networkManager);
 
                 endpoint.addApplication(otaServer);
 
@@ -0,0 +1,136 @@
+/**
+ * Copyright (c) 2016-2019 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.console.main;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.zsmartsystems.zigbee.IeeeAddress;
+import com.zsmartsystems.zigbee.database.ZclAttributeDao;
+import com.zsmartsystems.zigbee.database.ZclClusterDao;
+import com.zsmartsystems.zigbee.database.ZigBeeBinaryNetworkDataStore;
+import com.zsmartsystems.zigbee.database.ZigBeeEndpointDao;
+import com.zsmartsystems.zigbee.database.ZigBeeNetworkDataStore;
+import com.zsmartsystems.zigbee.database.ZigBeeNodeDao;
+import com.zsmartsystems.zigbee.zcl.protocol.ZclDataType;
+
+/**
+ * Compares the cold start restore time of the XML {@link ZigBeeDataStore} with the
+ * {@link ZigBeeBinaryNetworkDataStore}. This is not run as part of the unit tests - run the main method directly.
+ *
+ * @author agent
+ *
+ */
+public class ZigBeeDataStoreBenchmark {
+    private static final int NODES = 5000;
+
+    public static void main(String[] args) throws IOException {
+        int nodeCount = args.length > 0 ? Integer.parseInt(args[0]) : NODES;
+
+        List<ZigBeeNodeDao> nodes = new ArrayList<>(nodeCount);
+        for (int cnt = 0; cnt < nodeCount; cnt++) {
+            nodes.add(createNode(cnt));
+        }
+
+        String networkId = "benchmark-" + System.currentTimeMillis();
+        ZigBeeDataStore xmlStore = new ZigBeeDataStore(networkId);
+        long xmlWrite = write(xmlStore, nodes);
+        long xmlRestore = restore(new ZigBeeDataStore(networkId), nodeCount);
+
+        File binaryFile = Files.createTempFile("network", ".db").toFile();
+        ZigBeeBinaryNetworkDataStore binaryStore = new ZigBeeBinaryNetworkDataStore(binaryFile);
+        long binaryWrite = write(binaryStore, nodes);
+        binaryStore.close();
+        long binaryRestore = restore(new ZigBeeBinaryNetworkDataStore(binaryFile), nodeCount);
+
+        System.out.println("Nodes: " + nodeCount);
+        System.out.println("XML    : write " + xmlWrite + "ms, restore " + xmlRestore + "ms");
+        System.out.println("Binary : write " + binaryWrite + "ms, restore " + binaryRestore + "ms, size "
+                + binaryFile.length() + " bytes");
+
+        for (File file : new File("database/" + networkId).listFiles()) {
+            file.delete();
+        }
+        new File("database/" + networkId).delete();
+        binaryFile.delete();
+    }
+
+    private static long write(ZigBeeNetworkDataStore dataStore, List<ZigBeeNodeDao> nodes) {
+        long start = System.nanoTime();
+        for (ZigBeeNodeDao node : nodes) {
+            dataStore.writeNode(node);
+        }
+        return (System.nanoTime() - start) / 1000000;
+    }
+
+    private static long restore(ZigBeeNetworkDataStore dataStore, int nodeCount) {
+        long start = System.nanoTime();
+        Set<IeeeAddress> addresses = dataStore.readNetworkNodes();
+        int restored = 0;
+        for (IeeeAddress address : addresses) {
+            if (dataStore.readNode(address) != null) {
+                restored++;
+            }
+        }
+        long time = (System.nanoTime() - start) / 1000000;
+        if (restored != nodeCount) {
+            System.out.println("Restored " + restored + " of " + nodeCount + " nodes");
+        }
+        return time;
+    }
+
+    private static ZigBeeNodeDao createNode(int id) {
+        ZigBeeNodeDao node = new ZigBeeNodeDao();
+        node.setIeeeAddress(new IeeeAddress(String.format("00124B00%08X", id)));
+        node.setNetworkAddress(id & 0xFFFF);
+
+        List<ZigBeeEndpointDao> endpoints = new ArrayList<>();
+        for (int endpointId = 1; endpointId <= 2; endpointId++) {
+            ZigBeeEndpointDao endpoint = new ZigBeeEndpointDao();
+            endpoint.setEndpointId(endpointId);
+            endpoint.setProfileId(0x104);
+            endpoint.setDeviceId(0x100);
+            endpoint.setDeviceVersion(1);
+
+            List<ZclClusterDao> clusters = new ArrayList<>();
+            List<Integer> clusterIds = new ArrayList<>();
+            for (int clusterId : new int[] { 0x0000, 0x0006, 0x0008, 0x0702 }) {
+                Map<Integer, ZclAttributeDao> attributes = new HashMap<>();
+                for (int attributeId = 0; attributeId < 8; attributeId++) {
+                    ZclAttributeDao attribute = new ZclAttributeDao();
+                    attribute.setId(attributeId);
+                    attribute.setName("Attribute " + attributeId);
+                    attribute.setDataType(ZclDataType.UNSIGNED_16_BIT_INTEGER);
+                    attribute.setImplemented(true);
+                    attribute.setReadable(true);
+                    attribute.setLastValue(attributeId * 100);
+                    attribute.setLastReportTime(Calendar.getInstance());
+                    attributes.put(attributeId, attribute);
+                }
+                ZclClusterDao cluster = new ZclClusterDao();
+                cluster.setClusterId(clusterId);
+                cluster.setAttributes(attributes);
+                clusters.add(cluster);
+                clusterIds.add(clusterId);
+            }
+            endpoint.setInputClusterIds(clusterIds);
+            endpoint.setInputClusters(clusters);
+            endpoints.add(endpoint);
+        }
+        node.setEndpoints(endpoints);
+
+        return node;
+    }
+}
@@ -17,6 +17,7 @@ import com.zsmartsystems.zigbee.ZigBeeEndpoint;
 import com.zsmartsystems.zigbee.ZigBeeNetworkManager;
 import com.zsmartsystems.zigbee.ZigBeeProfileType;
 import com.zsmartsystems.zigbee.zcl.ZclAttribute;
+import com.zsmartsystems.zigbee.zcl.ZclAttributeDefinition;
 import com.zsmartsystems.zigbee.zcl.ZclCluster;
 
 /**
@@ -98,19 +99,26 @@ public class ZigBeeConsoleDescribeEndpointCommand extends ZigBeeConsoleAbstractC
     }
 
     private void printAttributes(final ZclCluster cluster, final PrintStream out) {
-        Map<Integer, ZclAttribute> attributeTree = new TreeMap<Integer, ZclAttribute>();
-        for (ZclAttribute attribute : cluster.getAttributes()) {
-            attributeTree.put(attribute.getId(), attribute);
+        // Print from the definitions so that attributes that have not been used are not created
+        Map<Integer, ZclAttributeDefinition> definitionTree = new TreeMap<Integer, ZclAttributeDefinition>();
+        for (ZclAttributeDefinition definition : cluster.getAttributeDefinitions()) {
+            definitionTree.put(definition.getId(), definition);
+        }
+        Map<Integer, ZclAttribute> attributes = new TreeMap<Integer, ZclAttribute>();
+        for (ZclAttribute attribute : cluster.getInstantiatedAttributes()) {
+            attributes.put(attribute.getId(), attribute);
+            definitionTree.put(attribute.getId(), attribute.getDefinition());
         }
 
-        for (ZclAttribute attribute : attributeTree.values()) {
+        for (ZclAttributeDefinition definition : definitionTree.values()) {
+            ZclAttribute attribute = attributes.get(definition.getId());
+            Object lastValue = attribute == null ? null : attribute.getLastValue();
             out.println(String.format("        %s   %5d %s%s%s %s %-40s %s %s",
-                    (cluster.getSupportedAttributes().contains(attribute.getId()) ? "S" : "U"), attribute.getId(),
-                    (attribute.isReadable() ? "r" : "-"), (attribute.isWritable() ? "w" : "-"),
-                    (attribute.isReportable() ? "s" : "-"), printZclDataType(attribute.getDataType()),
-                    attribute.getName(),
-                    (attribute.getLastValue() == null ? "" : attribute.getLastReportTime().getTime()),
-                    (attribute.getLastValue() == null ? "" : attribute.getLastValue())));
+                    (cluster.getSupportedAttributes().contains(definition.getId()) ? "S" : "U"), definition.getId(),
+                    (definition.isReadable() ? "r" : "-"), (definition.isWritable() ? "w" : "-"),
+                    (definition.isReportable() ? "s" : "-"), printZclDataType(definition.getDataType()),
+                    definition.getName(), (lastValue == null ? "" : attribute.getLastReportTime().getTime()),
+                    (lastValue == null ? "" : lastValue)));
         }
     }
 }
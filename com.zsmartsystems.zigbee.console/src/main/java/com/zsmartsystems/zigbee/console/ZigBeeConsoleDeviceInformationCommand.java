@@ -17,6 +17,7 @@ import java.util.TreeMap;
 import com.zsmartsystems.zigbee.ZigBeeEndpoint;
 import com.zsmartsystems.zigbee.ZigBeeNetworkManager;
 import com.zsmartsystems.zigbee.zcl.ZclAttribute;
+import com.zsmartsystems.zigbee.zcl.ZclAttributeDefinition;
 import com.zsmartsystems.zigbee.zcl.clusters.ZclBasicCluster;
 
 /**
@@ -101,8 +102,8 @@ public class ZigBeeConsoleDeviceInformationCommand extends ZigBeeConsoleAbstract
         }
 
         if (commands.isEmpty()) {
-            for (ZclAttribute attribute : basicCluster.getAttributes()) {
-                commands.add(attribute.getId());
+            for (ZclAttributeDefinition definition : basicCluster.getAttributeDefinitions()) {
+                commands.add(definition.getId());
             }
         }
 
@@ -49,6 +49,7 @@ import com.zsmartsystems.zigbee.transport.TransportConfigOption;
 import com.zsmartsystems.zigbee.transport.ZigBeePort;
 import com.zsmartsystems.zigbee.transport.ZigBeeTransportReceive;
 import com.zsmartsystems.zigbee.transport.ZigBeeTransportTransmit;
+import com.zsmartsystems.zigbee.transport.ZigBeeWireTrace;
 import com.zsmartsystems.zigbee.zdo.SynchronousResponse;
 
 /**
@@ -75,6 +76,11 @@ public class ZigBeeDongleTiCc2531
      */
     private final ZigBeeNetworkManager networkManager;
 
+    /**
+     * The {@link CommandInterfaceImpl} used to exchange packets with the dongle
+     */
+    private final CommandInterfaceImpl commandInterface;
+
     /**
      * The reference to the network
      */
@@ -102,7 +108,13 @@ public class ZigBeeDongleTiCc2531
      * @param serialPort the serial port
      */
     public ZigBeeDongleTiCc2531(final ZigBeePort serialPort) {
-        networkManager = new ZigBeeNetworkManager(new CommandInterfaceImpl(serialPort), NetworkMode.Coordinator, 2500L);
+        commandInterface = new CommandInterfaceImpl(serialPort);
+        networkManager = new ZigBeeNetworkManager(commandInterface, NetworkMode.Coordinator, 2500L);
+    }
+
+    @Override
+    public void setWireTrace(ZigBeeWireTrace wireTrace) {
+        commandInterface.setWireTrace(wireTrace);
     }
 
     /**
@@ -118,6 +130,16 @@ public class ZigBeeDongleTiCc2531
         networkManager.setMagicNumber(magicNumber);
     }
 
+    /**
+     * Sets the maximum number of synchronous requests (SREQs) with different command IDs that may be outstanding at
+     * once. The default of 1 waits for each SRSP before the next SREQ is sent.
+     *
+     * @param maxOutstandingRequests the maximum number of outstanding requests. Must be at least 1.
+     */
+    public void setMaxOutstandingRequests(int maxOutstandingRequests) {
+        commandInterface.setMaxOutstandingRequests(maxOutstandingRequests);
+    }
+
     @Override
     public ZigBeeStatus initialize() {
         logger.debug("CC2531 transport initialize");
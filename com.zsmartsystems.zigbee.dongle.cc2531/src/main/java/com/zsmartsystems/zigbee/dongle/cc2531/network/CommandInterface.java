@@ -8,6 +8,7 @@
 package com.zsmartsystems.zigbee.dongle.cc2531.network;
 
 import java.io.IOException;
+import java.util.concurrent.Future;
 
 import com.zsmartsystems.zigbee.dongle.cc2531.network.packet.ZToolPacket;
 
@@ -33,7 +34,19 @@ public interface CommandInterface {
     void sendPacket(ZToolPacket packet)
             throws IOException;
     /**
-     * Sends synchronous command packet.
+     * Sends synchronous command packet without blocking. The returned {@link Future} is completed when the SRSP with
+     * the same subsystem and command ID is received. If the request is not sent due to an IO exception, the future
+     * is completed exceptionally.
+     * <p>
+     * If no response is required the future should be cancelled so that following requests with the same command ID
+     * may be sent.
+     * @param packet the command packet
+     * @return the {@link Future} providing the synchronous response
+     */
+    Future<ZToolPacket> sendSynchronousCommand(ZToolPacket packet);
+    /**
+     * Sends synchronous command packet. This is a wrapper around {@link #sendSynchronousCommand(ZToolPacket)} that
+     * notifies the listener when the response is received.
      * @param packet the command packet
      * @param listener the synchronous command listener
      * @param timeoutMillis the timeout in milliseconds.
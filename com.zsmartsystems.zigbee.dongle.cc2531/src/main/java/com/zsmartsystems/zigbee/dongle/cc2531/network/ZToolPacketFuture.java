@@ -0,0 +1,117 @@
+/**
+ * Copyright (c) 2016-2019 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.dongle.cc2531.network;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import com.zsmartsystems.zigbee.dongle.cc2531.network.packet.ZToolPacket;
+
+/**
+ * A {@link Future} that is completed with a {@link ZToolPacket} received from the dongle. Threads waiting in
+ * {@link #get(long, TimeUnit)} are released as soon as the packet is set, or when the timeout expires.
+ *
+ * @author agent
+ *
+ * @param <T> the type of {@link ZToolPacket} provided by the future
+ */
+public class ZToolPacketFuture<T extends ZToolPacket> implements Future<T> {
+    private T packet;
+    private Throwable exception;
+    private boolean done;
+    private boolean cancelled;
+
+    /**
+     * Completes the future with the received packet
+     *
+     * @param packet the received {@link ZToolPacket}. May be null if the request completed without a response.
+     * @return true if the future was completed by this call, false if it was already complete
+     */
+    public synchronized boolean set(T packet) {
+        if (done) {
+            return false;
+        }
+        this.packet = packet;
+        done = true;
+        notifyAll();
+        return true;
+    }
+
+    /**
+     * Completes the future with an exception. Calls to {@link #get()} will throw an {@link ExecutionException} with
+     * the exception as the cause.
+     *
+     * @param exception the {@link Throwable} that caused the request to fail
+     * @return true if the future was completed by this call, false if it was already complete
+     */
+    public synchronized boolean setException(Throwable exception) {
+        if (done) {
+            return false;
+        }
+        this.exception = exception;
+        done = true;
+        notifyAll();
+        return true;
+    }
+
+    @Override
+    public synchronized boolean cancel(boolean mayInterruptIfRunning) {
+        if (done) {
+            return false;
+        }
+        cancelled = true;
+        done = true;
+        notifyAll();
+        return true;
+    }
+
+    @Override
+    public synchronized boolean isCancelled() {
+        return cancelled;
+    }
+
+    @Override
+    public synchronized boolean isDone() {
+        return done;
+    }
+
+    @Override
+    public synchronized T get() throws InterruptedException, ExecutionException {
+        while (!done) {
+            wait();
+        }
+        return getResult();
+    }
+
+    @Override
+    public synchronized T get(long timeout, TimeUnit unit)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        final long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (!done) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                throw new TimeoutException();
+            }
+            TimeUnit.NANOSECONDS.timedWait(this, remaining);
+        }
+        return getResult();
+    }
+
+    private T getResult() throws ExecutionException {
+        if (cancelled) {
+            throw new CancellationException();
+        }
+        if (exception != null) {
+            throw new ExecutionException(exception);
+        }
+        return packet;
+    }
+}
@@ -33,6 +33,12 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -167,6 +173,13 @@ public class ZigBeeNetworkManager {
 
     private final HashMap<Class<?>, Thread> conversation3Way = new HashMap<Class<?>, Thread>();
 
+    /**
+     * AF data requests waiting for their {@link AF_DATA_CONFIRM}, keyed by the transaction ID
+     */
+    private final Map<Integer, ZToolPacketFuture<AF_DATA_CONFIRM>> pendingDataConfirms = new HashMap<Integer, ZToolPacketFuture<AF_DATA_CONFIRM>>();
+
+    private final DataConfirmListener dataConfirmListener = new DataConfirmListener();
+
     public ZigBeeNetworkManager(CommandInterface commandInterface, NetworkMode mode, long timeout) {
         this.mode = mode;
         this.commandInterface = commandInterface;
@@ -473,6 +486,7 @@ public class ZigBeeNetworkManager {
         // if (!announceListeners.contains(announceListenerFilter)) {
         commandInterface.addAsynchronousCommandListener(announceListenerFilter);
         // }
+        commandInterface.addAsynchronousCommandListener(dataConfirmListener);
     }
 
     private boolean waitForHardware() {
@@ -862,72 +876,53 @@ public class ZigBeeNetworkManager {
     }
 
     private ZToolPacket sendSynchronous(final ZToolPacket request, int timeout) {
-        final ZToolPacket[] response = new ZToolPacket[] { null };
-        // final int RESEND_MAX_RETRY = 3;
+        ZToolPacket response = null;
         int sending = 1;
 
         logger.trace("{} sending as synchronous command.", request.getClass().getSimpleName());
 
-        SynchronousCommandListener listener = new SynchronousCommandListener() {
-            @Override
-            public void receivedCommandResponse(ZToolPacket packet) {
-                logger.trace(" {} received as synchronous command.", packet.getClass().getSimpleName());
-                synchronized (response) {
-                    // Do not set response[0] again.
-                    response[0] = packet;
-                    response.notify();
-                }
+        while (sending <= RESEND_MAX_RETRY) {
+            final Future<ZToolPacket> future;
+            try {
+                future = commandInterface.sendSynchronousCommand(request);
+            } catch (Exception e) {
+                logger.error("Synchronous command send failed due to unexpected exception.", e);
+                logger.debug("Failed to send {} [attempt {}]", request.getClass().getSimpleName(), sending);
+                sending++;
+                continue;
             }
-        };
+            logger.trace("{} sent (synchronous command, attempt {}).", request.getClass().getSimpleName(), sending);
 
-        while (sending <= RESEND_MAX_RETRY) {
             try {
-                try {
-                    commandInterface.sendSynchronousCommand(request, listener, timeout);
-                } catch (IOException e) {
-                    logger.error("Synchronous command send failed due to IO exception. ", e);
-                    break;
-                } catch (Exception ex) {
-                    logger.error("Synchronous command send failed due to unexpected exception.", ex);
-                }
-                logger.trace("{} sent (synchronous command, attempt {}).", request.getClass().getSimpleName(), sending);
-                synchronized (response) {
-                    long wakeUpTime = System.currentTimeMillis() + timeout;
-                    while (response[0] == null && wakeUpTime > System.currentTimeMillis()) {
-                        final long sleeping = wakeUpTime - System.currentTimeMillis();
-                        logger.trace("Waiting for synchronous command up to {}ms till {} Unixtime", sleeping,
-                                wakeUpTime);
-                        if (sleeping <= 0) {
-                            break;
-                        }
-                        try {
-                            response.wait(sleeping);
-                        } catch (InterruptedException ignored) {
-                        }
-                    }
-                }
-                if (response[0] != null) {
-                    logger.trace("{} -> {}", request.getClass().getSimpleName(),
-                            response[0].getClass().getSimpleName());
-                    break; // Break out as we have response.
-                } else {
-                    logger.debug("{} executed and timed out while waiting for response.",
-                            request.getClass().getSimpleName());
-                }
-                if (RESEND_ONLY_EXCEPTION) {
-                    break;
-                } else {
-                    logger.debug("Failed to send {} [attempt {}]", request.getClass().getSimpleName(), sending);
-                    sending++;
-                }
-            } catch (Exception ignored) {
+                response = future.get(timeout, TimeUnit.MILLISECONDS);
+                logger.trace("{} -> {}", request.getClass().getSimpleName(),
+                        response == null ? null : response.getClass().getSimpleName());
+                break; // Break out as we have response.
+            } catch (TimeoutException e) {
+                future.cancel(false);
+                logger.debug("{} executed and timed out while waiting for response.",
+                        request.getClass().getSimpleName());
+            } catch (ExecutionException e) {
+                logger.error("Synchronous command send failed due to IO exception. ", e.getCause());
+                break;
+            } catch (CancellationException e) {
+                logger.debug("{} was cancelled while waiting for response.", request.getClass().getSimpleName());
+                break;
+            } catch (InterruptedException e) {
+                future.cancel(false);
+                Thread.currentThread().interrupt();
+                break;
+            }
+
+            if (RESEND_ONLY_EXCEPTION) {
+                break;
+            } else {
                 logger.debug("Failed to send {} [attempt {}]", request.getClass().getSimpleName(), sending);
-                logger.trace("Sending operation failed due to ", ignored);
                 sending++;
             }
         }
 
-        return response[0];
+        return response;
     }
 
     public AF_REGISTER_SRSP sendAFRegister(AF_REGISTER request) {
@@ -939,24 +934,79 @@ public class ZigBeeNetworkManager {
         return response;
     }
 
+    /**
+     * Sends an Application Framework data request and waits for the {@link AF_DATA_CONFIRM}.
+     *
+     * @param request {@link AF_DATA_REQUEST}
+     * @return the {@link AF_DATA_CONFIRM} or null if the request failed or timed out
+     */
     public AF_DATA_CONFIRM sendAFDataRequest(AF_DATA_REQUEST request) {
+        Future<AF_DATA_CONFIRM> future = sendAFDataRequestAsync(request);
+        if (future == null) {
+            return null;
+        }
+
+        try {
+            return future.get(TIMEOUT, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            logger.debug("{} timed out waiting for AF_DATA_CONFIRM [transId={}]", request.getClass().getSimpleName(),
+                    request.TransID);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            logger.debug("Error waiting for AF_DATA_CONFIRM", e);
+        }
+        removeDataConfirm(request.TransID, future);
+        return null;
+    }
+
+    /**
+     * Sends an Application Framework data request. This waits for the AF_DATA_SRSP and returns a {@link Future} that
+     * is completed when the {@link AF_DATA_CONFIRM} with the same transaction ID is received, so further requests may
+     * be sent while the confirm is outstanding.
+     * <p>
+     * If the dongle rejects the request, the future is completed with null. Callers that stop waiting for the confirm
+     * should cancel the future.
+     *
+     * @param request {@link AF_DATA_REQUEST}
+     * @return the {@link Future} providing the {@link AF_DATA_CONFIRM}, or null if the network is not ready
+     */
+    public Future<AF_DATA_CONFIRM> sendAFDataRequestAsync(AF_DATA_REQUEST request) {
         if (!waitForNetwork()) {
             return null;
         }
-        AF_DATA_CONFIRM result = null;
 
-        waitAndLock3WayConversation(request);
-        final BlockingCommandReceiver waiter = new BlockingCommandReceiver(ZToolCMD.AF_DATA_CONFIRM, commandInterface);
+        final int transId = request.TransID & 0xFF;
+        final ZToolPacketFuture<AF_DATA_CONFIRM> future = new ZToolPacketFuture<AF_DATA_CONFIRM>() {
+            @Override
+            public boolean cancel(boolean mayInterruptIfRunning) {
+                removeDataConfirm(transId, this);
+                return super.cancel(mayInterruptIfRunning);
+            }
+        };
+        ZToolPacketFuture<AF_DATA_CONFIRM> previous;
+        synchronized (pendingDataConfirms) {
+            previous = pendingDataConfirms.put(transId, future);
+        }
+        if (previous != null) {
+            logger.debug("AF_DATA_REQUEST transaction ID {} reused before AF_DATA_CONFIRM was received", transId);
+            previous.cancel(false);
+        }
 
         AF_DATA_SRSP response = (AF_DATA_SRSP) sendSynchronous(request);
         if (response == null || response.Status != 0) {
-            waiter.cleanup();
-        } else {
-            result = (AF_DATA_CONFIRM) waiter.getCommand(TIMEOUT);
+            removeDataConfirm(transId, future);
+            future.set(null);
         }
-        unLock3WayConversation(request);
+        return future;
+    }
 
-        return result;
+    private void removeDataConfirm(int transId, Future<AF_DATA_CONFIRM> future) {
+        synchronized (pendingDataConfirms) {
+            if (pendingDataConfirms.get(transId & 0xFF) == future) {
+                pendingDataConfirms.remove(transId & 0xFF);
+            }
+        }
     }
 
     /**
@@ -1323,4 +1373,29 @@ public class ZigBeeNetworkManager {
             // No need to handle unclaimed responses here
         }
     }
+
+    /**
+     * Completes the pending AF data request futures when the {@link AF_DATA_CONFIRM} is received
+     */
+    private class DataConfirmListener implements AsynchronousCommandListener {
+        @Override
+        public void receivedAsynchronousCommand(ZToolPacket packet) {
+            if (packet.isError() || packet.getCMD().get16BitValue() != ZToolCMD.AF_DATA_CONFIRM) {
+                return;
+            }
+            AF_DATA_CONFIRM confirm = (AF_DATA_CONFIRM) packet;
+            ZToolPacketFuture<AF_DATA_CONFIRM> future;
+            synchronized (pendingDataConfirms) {
+                future = pendingDataConfirms.remove(confirm.TransID & 0xFF);
+            }
+            if (future != null) {
+                future.set(confirm);
+            }
+        }
+
+        @Override
+        public void receivedUnclaimedSynchronousCommandResponse(ZToolPacket packet) {
+            // Processing not required
+        }
+    }
 }
@@ -32,9 +32,12 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Hashtable;
 import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -42,12 +45,14 @@ import org.slf4j.LoggerFactory;
 import com.zsmartsystems.zigbee.dongle.cc2531.network.AsynchronousCommandListener;
 import com.zsmartsystems.zigbee.dongle.cc2531.network.CommandInterface;
 import com.zsmartsystems.zigbee.dongle.cc2531.network.SynchronousCommandListener;
+import com.zsmartsystems.zigbee.dongle.cc2531.network.ZToolPacketFuture;
 import com.zsmartsystems.zigbee.dongle.cc2531.network.packet.ZToolPacket;
 import com.zsmartsystems.zigbee.dongle.cc2531.network.packet.ZToolPacketHandler;
 import com.zsmartsystems.zigbee.dongle.cc2531.network.packet.ZToolPacketParser;
 import com.zsmartsystems.zigbee.dongle.cc2531.zigbee.util.ByteUtils;
 import com.zsmartsystems.zigbee.dongle.cc2531.zigbee.util.DoubleByte;
 import com.zsmartsystems.zigbee.transport.ZigBeePort;
+import com.zsmartsystems.zigbee.transport.ZigBeeWireTrace;
 
 /**
  * ZigBeeSerialInterface is used to startup connection to ZigBee network.
@@ -66,27 +71,40 @@ public class CommandInterfaceImpl implements ZToolPacketHandler, CommandInterfac
      * The port interface.
      */
     private final ZigBeePort port;
+    /**
+     * The {@link ZigBeeWireTrace} used to record frames, or null if tracing is disabled
+     */
+    private ZigBeeWireTrace wireTrace;
     /**
      * The packet parser.
      */
     private ZToolPacketParser parser;
     /**
-     * Support parallel processing of different command types.
+     * The default number of synchronous requests that may be outstanding at once
+     */
+    private static final int DEFAULT_MAX_OUTSTANDING_REQUESTS = 1;
+    /**
+     * The maximum number of synchronous requests with different command IDs that may be outstanding at once.
      * Only one command per command ID can be in process at a time.
      */
-    private final boolean supportMultipleSynchrounsCommand = false;
+    private int maxOutstandingRequests = DEFAULT_MAX_OUTSTANDING_REQUESTS;
     /**
-     * Synchronous command listeners.
+     * Synchronous requests that have been sent and are waiting for the SRSP, keyed by subsystem and command ID.
+     * Synchronised on {@link #requestLock}.
      */
-    private final Hashtable<Short, SynchronousCommandListener> synchronousCommandListeners = new Hashtable<Short, SynchronousCommandListener>();
+    private final Map<Short, SynchronousRequest> outstandingRequests = new HashMap<Short, SynchronousRequest>();
     /**
-     * Asynchronous command listeners.
+     * Synchronous requests waiting to be sent. Synchronised on {@link #requestLock}.
      */
-    private final HashSet<AsynchronousCommandListener> asynchrounsCommandListeners = new HashSet<AsynchronousCommandListener>();
+    private final List<SynchronousRequest> queuedRequests = new LinkedList<SynchronousRequest>();
     /**
-     * Timeout times for synchronous command listeners.
+     * Lock for the synchronous request lists
      */
-    private final HashMap<SynchronousCommandListener, Long> synchronousCommandListenerTimeouts = new HashMap<SynchronousCommandListener, Long>();
+    private final Object requestLock = new Object();
+    /**
+     * Asynchronous command listeners.
+     */
+    private final HashSet<AsynchronousCommandListener> asynchrounsCommandListeners = new HashSet<AsynchronousCommandListener>();
 
     /**
      * Constructor for configuring the ZigBee Network connection parameters.
@@ -100,6 +118,31 @@ public class CommandInterfaceImpl implements ZToolPacketHandler, CommandInterfac
         this.port = port;
     }
 
+    /**
+     * Sets the {@link ZigBeeWireTrace} used to record the frames exchanged with the dongle
+     *
+     * @param wireTrace the {@link ZigBeeWireTrace} to record frames, or null to disable tracing
+     */
+    public void setWireTrace(ZigBeeWireTrace wireTrace) {
+        this.wireTrace = wireTrace;
+    }
+
+    /**
+     * Sets the maximum number of synchronous requests with different command IDs that may be outstanding at once.
+     * Setting this to 1 waits for each SRSP before the next SREQ is sent.
+     *
+     * @param maxOutstandingRequests the maximum number of outstanding requests. Must be at least 1.
+     */
+    public void setMaxOutstandingRequests(int maxOutstandingRequests) {
+        if (maxOutstandingRequests < 1) {
+            throw new IllegalArgumentException("Maximum outstanding requests must be at least 1");
+        }
+        synchronized (requestLock) {
+            this.maxOutstandingRequests = maxOutstandingRequests;
+        }
+        sendQueuedRequests();
+    }
+
     /**
      * Opens connection to ZigBee Network.
      *
@@ -128,6 +171,17 @@ public class CommandInterfaceImpl implements ZToolPacketHandler, CommandInterfac
                 parser.close();
             }
         }
+
+        List<SynchronousRequest> requests;
+        synchronized (requestLock) {
+            requests = new ArrayList<SynchronousRequest>(outstandingRequests.values());
+            requests.addAll(queuedRequests);
+            outstandingRequests.clear();
+            queuedRequests.clear();
+        }
+        for (SynchronousRequest request : requests) {
+            request.cancel(false);
+        }
     }
 
     /* ZToolPacketHandler */
@@ -153,17 +207,27 @@ public class CommandInterfaceImpl implements ZToolPacketHandler, CommandInterfac
      */
     @Override
     public void handlePacket(final ZToolPacket packet) {
+        if (wireTrace != null) {
+            wireTrace.traceRx(packet.getPacket());
+        }
+
         final DoubleByte cmdId = packet.getCMD();
         switch (cmdId.getMsb() & 0xE0) {
             // Received incoming message which can be either message from dongle or remote device.
             case 0x40:
-                logger.debug("<-- {} ({})", packet.getClass().getSimpleName(), ByteUtils.toBase16(packet.getPacket()));
+                if (logger.isDebugEnabled()) {
+                    logger.debug("<-- {} ({})", packet.getClass().getSimpleName(),
+                            ByteUtils.toBase16(packet.getPacket()));
+                }
                 notifyAsynchronousCommand(packet);
                 break;
 
             // Received synchronous command response.
             case 0x60:
-                logger.debug("<-  {} ({})", packet.getClass().getSimpleName(), ByteUtils.toBase16(packet.getPacket()));
+                if (logger.isDebugEnabled()) {
+                    logger.debug("<-  {} ({})", packet.getClass().getSimpleName(),
+                            ByteUtils.toBase16(packet.getPacket()));
+                }
                 notifySynchronousCommand(packet);
                 break;
 
@@ -187,30 +251,29 @@ public class CommandInterfaceImpl implements ZToolPacketHandler, CommandInterfac
     }
 
     /**
-     * Cleans expired synchronous command listeners.
+     * Removes synchronous requests whose timeout has expired. Must be called with {@link #requestLock} held.
      */
-    private void cleanExpiredSynchronousCommandListeners() {
+    private void removeExpiredRequests() {
         final long now = System.currentTimeMillis();
-        final ArrayList<Short> expired = new ArrayList<Short>();
-        synchronized (synchronousCommandListeners) {
-            final Iterator<Map.Entry<Short, SynchronousCommandListener>> i = synchronousCommandListeners.entrySet()
-                    .iterator();
-            while (i.hasNext()) {
-                Map.Entry<Short, SynchronousCommandListener> entry = i.next();
-
-                final long expiration = synchronousCommandListenerTimeouts.get(entry.getValue());
-                if (expiration != -1L && expiration < now) {
-                    expired.add(entry.getKey());
-                }
-            }
+        removeExpiredRequests(outstandingRequests.values().iterator(), now);
+        removeExpiredRequests(queuedRequests.iterator(), now);
+    }
 
-            for (Short key : expired) {
-                synchronousCommandListeners.remove(key);
+    private void removeExpiredRequests(Iterator<SynchronousRequest> iterator, long now) {
+        while (iterator.hasNext()) {
+            SynchronousRequest request = iterator.next();
+            if (request.expiration != -1L && request.expiration < now) {
+                logger.trace("Synchronous request {} expired", request.id);
+                iterator.remove();
             }
-            synchronousCommandListeners.notifyAll();
         }
     }
 
+    @Override
+    public Future<ZToolPacket> sendSynchronousCommand(final ZToolPacket packet) {
+        return queueSynchronousCommand(packet, null, -1L);
+    }
+
     /**
      * Sends synchronous command and adds listener.
      *
@@ -222,13 +285,26 @@ public class CommandInterfaceImpl implements ZToolPacketHandler, CommandInterfac
     @Override
     public void sendSynchronousCommand(final ZToolPacket packet, final SynchronousCommandListener listener,
             final long timeoutMillis) throws IOException {
-        if (timeoutMillis == -1L) {
-            synchronousCommandListenerTimeouts.put(listener, -1L);
-        } else {
-            final long expirationTime = System.currentTimeMillis() + timeoutMillis;
-            synchronousCommandListenerTimeouts.put(listener, expirationTime);
+        final long expiration = timeoutMillis == -1L ? -1L : System.currentTimeMillis() + timeoutMillis;
+        final Future<ZToolPacket> future = queueSynchronousCommand(packet, listener, expiration);
+        if (future.isDone() && !future.isCancelled()) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof IOException) {
+                    throw (IOException) e.getCause();
+                }
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
         }
+    }
 
+    private SynchronousRequest queueSynchronousCommand(final ZToolPacket packet,
+            final SynchronousCommandListener listener, final long expiration) {
         final DoubleByte cmdId = packet.getCMD();
         final int value = (cmdId.getMsb() & 0xE0);
         if (value != 0x20) {
@@ -237,38 +313,59 @@ public class CommandInterfaceImpl implements ZToolPacketHandler, CommandInterfac
                             + " instead of " + 0x20 + "\nPacket " + packet.getClass().getName() + "\n" + packet);
         }
 
-        cleanExpiredSynchronousCommandListeners();
+        final SynchronousRequest request = new SynchronousRequest(packet, listener, expiration);
+        synchronized (requestLock) {
+            removeExpiredRequests();
+            logger.trace("Queueing synchronous request {}", request.id);
+            queuedRequests.add(request);
+        }
+        sendQueuedRequests();
+        return request;
+    }
 
-        if (supportMultipleSynchrounsCommand) {
-            synchronized (synchronousCommandListeners) {
-                final short id = (short) (cmdId.get16BitValue() & 0x1FFF);
-                while (synchronousCommandListeners.get(cmdId) != null) {
-                    try {
-                        logger.trace("Waiting for other request {} to complete", id);
-                        synchronousCommandListeners.wait(500);
-                        cleanExpiredSynchronousCommandListeners();
-                    } catch (InterruptedException ignored) {
-                    }
+    /**
+     * Sends any queued synchronous requests for which there is no outstanding request with the same command ID,
+     * while the number of outstanding requests is below the maximum.
+     */
+    private void sendQueuedRequests() {
+        final List<SynchronousRequest> sendList = new ArrayList<SynchronousRequest>();
+        synchronized (requestLock) {
+            final Iterator<SynchronousRequest> iterator = queuedRequests.iterator();
+            while (outstandingRequests.size() < maxOutstandingRequests && iterator.hasNext()) {
+                SynchronousRequest request = iterator.next();
+                if (outstandingRequests.containsKey(request.id)) {
+                    continue;
                 }
-                synchronousCommandListeners.put(id, listener);
+                iterator.remove();
+                outstandingRequests.put(request.id, request);
+                sendList.add(request);
             }
-        } else {
-            synchronized (synchronousCommandListeners) {
-                final short id = (short) (cmdId.get16BitValue() & 0x1FFF);
-                while (!synchronousCommandListeners.isEmpty()) {
-                    try {
-                        logger.trace("Waiting for other request to complete");
-                        synchronousCommandListeners.wait(500);
-                        cleanExpiredSynchronousCommandListeners();
-                    } catch (InterruptedException ignored) {
-                    }
-                }
-                logger.trace("Put synchronousCommandListeners listener for {} command", id);
-                synchronousCommandListeners.put(id, listener);
+        }
+
+        for (SynchronousRequest request : sendList) {
+            logger.trace("Sending SynchronousCommand {} ", request.packet);
+            try {
+                sendPacket(request.packet);
+            } catch (IOException | RuntimeException e) {
+                releaseRequest(request);
+                request.setException(e);
             }
         }
-        logger.trace("Sending SynchronousCommand {} ", packet);
-        sendPacket(packet);
+    }
+
+    /**
+     * Removes the request from the queues and sends the next request if one is waiting
+     *
+     * @param request the {@link SynchronousRequest} to remove
+     */
+    private void releaseRequest(SynchronousRequest request) {
+        synchronized (requestLock) {
+            if (outstandingRequests.get(request.id) == request) {
+                outstandingRequests.remove(request.id);
+            }
+            queuedRequests.remove(request);
+        }
+        sendQueuedRequests();
     }
 
     /**
@@ -295,10 +392,15 @@ public class CommandInterfaceImpl implements ZToolPacketHandler, CommandInterfac
      */
     @Override
     public void sendRaw(int[] packet) throws IOException {
+        byte[] outputBytes = new byte[packet.length];
+        for (int i = 0; i < packet.length; i++) {
+            outputBytes[i] = (byte) packet[i];
+        }
         synchronized (port) {
-            for (int i = 0; i < packet.length; i++) {
-                port.write(packet[i]);
-            }
+            port.write(outputBytes, 0, outputBytes.length);
+        }
+        if (wireTrace != null) {
+            wireTrace.traceTx(packet);
         }
     }
 
@@ -308,29 +410,30 @@ public class CommandInterfaceImpl implements ZToolPacketHandler, CommandInterfac
      * @param packet the received packet
      */
     private void notifySynchronousCommand(final ZToolPacket packet) {
-        final DoubleByte cmdId = packet.getCMD();
-        synchronized (synchronousCommandListeners) {
-            final short id = (short) (cmdId.get16BitValue() & 0x1FFF);
-            final SynchronousCommandListener listener = synchronousCommandListeners.get(id);
-            if (listener != null) {
-                listener.receivedCommandResponse(packet);
-                synchronousCommandListeners.remove(id);
-                synchronousCommandListeners.notifyAll();
-            } else {
-                // Notify asynchronous command listeners of unclaimed asynchronous command responses.
-                final AsynchronousCommandListener[] listeners;
-                synchronized (asynchrounsCommandListeners) {
-                    listeners = asynchrounsCommandListeners.toArray(new AsynchronousCommandListener[] {});
-                }
-                for (final AsynchronousCommandListener asynchronousCommandListener : listeners) {
-                    try {
-                        asynchronousCommandListener.receivedUnclaimedSynchronousCommandResponse(packet);
-                    } catch (Throwable e) {
-                        logger.error("Error in incoming asynchronous message processing: ", e);
-                    }
-                }
-            }
+        final short id = (short) (packet.getCMD().get16BitValue() & 0x1FFF);
+        final SynchronousRequest request;
+        synchronized (requestLock) {
+            request = outstandingRequests.remove(id);
+            removeExpiredRequests();
+        }
+        sendQueuedRequests();
 
+        if (request != null) {
+            request.set(packet);
+            return;
+        }
+
+        // Notify asynchronous command listeners of unclaimed asynchronous command responses.
+        final AsynchronousCommandListener[] listeners;
+        synchronized (asynchrounsCommandListeners) {
+            listeners = asynchrounsCommandListeners.toArray(new AsynchronousCommandListener[] {});
+        }
+        for (final AsynchronousCommandListener asynchronousCommandListener : listeners) {
+            try {
+                asynchronousCommandListener.receivedUnclaimedSynchronousCommandResponse(packet);
+            } catch (Throwable e) {
+                logger.error("Error in incoming asynchronous message processing: ", e);
+            }
         }
     }
 
@@ -386,4 +489,42 @@ public class CommandInterfaceImpl implements ZToolPacketHandler, CommandInterfac
             }
         }
     }
+
+    /**
+     * A synchronous request that is queued or waiting for its SRSP. The request is correlated with the response
+     * using the subsystem and command ID.
+     */
+    private class SynchronousRequest extends ZToolPacketFuture<ZToolPacket> {
+        private final short id;
+        private final ZToolPacket packet;
+        private final SynchronousCommandListener listener;
+        private final long expiration;
+
+        SynchronousRequest(ZToolPacket packet, SynchronousCommandListener listener, long expiration) {
+            this.id = (short) (packet.getCMD().get16BitValue() & 0x1FFF);
+            this.packet = packet;
+            this.listener = listener;
+            this.expiration = expiration;
+        }
+
+        @Override
+        public boolean set(ZToolPacket response) {
+            if (!super.set(response)) {
+                return false;
+            }
+            if (listener != null) {
+                listener.receivedCommandResponse(response);
+            }
+            return true;
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            if (!super.cancel(mayInterruptIfRunning)) {
+                return false;
+            }
+            releaseRequest(this);
+            return true;
+        }
+    }
 }
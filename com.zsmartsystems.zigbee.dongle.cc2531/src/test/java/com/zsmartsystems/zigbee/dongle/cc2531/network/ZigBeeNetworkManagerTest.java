@@ -9,14 +9,16 @@ package com.zsmartsystems.zigbee.dongle.cc2531.network;
 
 import static org.junit.Assert.assertTrue;
 
-import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.Arrays;
+import java.util.concurrent.Future;
 
 import org.junit.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
 
 import com.zsmartsystems.zigbee.dongle.cc2531.network.packet.ZToolPacket;
 
@@ -27,20 +29,17 @@ import com.zsmartsystems.zigbee.dongle.cc2531.network.packet.ZToolPacket;
  */
 public class ZigBeeNetworkManagerTest {
     protected ArgumentCaptor<ZToolPacket> argumentPacket;
-    protected ArgumentCaptor<SynchronousCommandListener> argumentListener;
-    protected ArgumentCaptor<Long> argumentTimeout;
 
     private CommandInterface getCommandInterface() {
         CommandInterface commandInterface = Mockito.mock(CommandInterface.class);
         argumentPacket = ArgumentCaptor.forClass(ZToolPacket.class);
-        argumentListener = ArgumentCaptor.forClass(SynchronousCommandListener.class);
-        argumentTimeout = ArgumentCaptor.forClass(Long.class);
-        try {
-            Mockito.doNothing().when(commandInterface).sendSynchronousCommand(argumentPacket.capture(),
-                    argumentListener.capture(), argumentTimeout.capture());
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
+        Mockito.when(commandInterface.sendSynchronousCommand(argumentPacket.capture()))
+                .thenAnswer(new Answer<Future<ZToolPacket>>() {
+                    @Override
+                    public Future<ZToolPacket> answer(InvocationOnMock invocation) {
+                        return new ZToolPacketFuture<ZToolPacket>();
+                    }
+                });
 
         return commandInterface;
     }
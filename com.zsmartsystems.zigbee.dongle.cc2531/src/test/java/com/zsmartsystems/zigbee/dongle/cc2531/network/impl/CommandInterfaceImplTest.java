@@ -0,0 +1,162 @@
+/**
+ * Copyright (c) 2016-2019 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.dongle.cc2531.network.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+import com.zsmartsystems.zigbee.dongle.cc2531.network.SynchronousCommandListener;
+import com.zsmartsystems.zigbee.dongle.cc2531.network.packet.ZToolPacket;
+import com.zsmartsystems.zigbee.dongle.cc2531.network.packet.system.SYS_VERSION;
+import com.zsmartsystems.zigbee.dongle.cc2531.network.packet.system.SYS_VERSION_RESPONSE;
+import com.zsmartsystems.zigbee.dongle.cc2531.network.packet.util.UTIL_LED_CONTROL;
+import com.zsmartsystems.zigbee.dongle.cc2531.network.packet.util.UTIL_LED_CONTROL_RESPONSE;
+import com.zsmartsystems.zigbee.transport.ZigBeePort;
+
+/**
+ *
+ * @author agent
+ *
+ */
+public class CommandInterfaceImplTest {
+    private ZigBeePort port;
+
+    private CommandInterfaceImpl getCommandInterface() {
+        port = Mockito.mock(ZigBeePort.class);
+        return new CommandInterfaceImpl(port);
+    }
+
+    private SYS_VERSION_RESPONSE getVersionResponse() {
+        return new SYS_VERSION_RESPONSE(new int[] { 2, 0, 2, 6, 3 });
+    }
+
+    @Test
+    public void sendSynchronousCommand() throws Exception {
+        CommandInterfaceImpl commandInterface = getCommandInterface();
+
+        Future<ZToolPacket> future = commandInterface.sendSynchronousCommand(new SYS_VERSION());
+        Mockito.verify(port, Mockito.times(1)).write(ArgumentMatchers.any(byte[].class), ArgumentMatchers.anyInt(),
+                ArgumentMatchers.anyInt());
+        assertFalse(future.isDone());
+
+        SYS_VERSION_RESPONSE response = getVersionResponse();
+        commandInterface.handlePacket(response);
+        assertTrue(future.isDone());
+        assertEquals(response, future.get(0, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void stopAndWait() throws Exception {
+        CommandInterfaceImpl commandInterface = getCommandInterface();
+
+        Future<ZToolPacket> version = commandInterface.sendSynchronousCommand(new SYS_VERSION());
+        Future<ZToolPacket> led = commandInterface.sendSynchronousCommand(new UTIL_LED_CONTROL(1, true));
+        Mockito.verify(port, Mockito.times(1)).write(ArgumentMatchers.any(byte[].class), ArgumentMatchers.anyInt(),
+                ArgumentMatchers.anyInt());
+
+        // The second request is sent as soon as the first response is received
+        commandInterface.handlePacket(getVersionResponse());
+        assertTrue(version.isDone());
+        Mockito.verify(port, Mockito.times(2)).write(ArgumentMatchers.any(byte[].class), ArgumentMatchers.anyInt(),
+                ArgumentMatchers.anyInt());
+
+        UTIL_LED_CONTROL_RESPONSE response = new UTIL_LED_CONTROL_RESPONSE(new int[] { 0 });
+        commandInterface.handlePacket(response);
+        assertEquals(response, led.get(0, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void pipelined() throws Exception {
+        CommandInterfaceImpl commandInterface = getCommandInterface();
+        commandInterface.setMaxOutstandingRequests(2);
+
+        Future<ZToolPacket> version1 = commandInterface.sendSynchronousCommand(new SYS_VERSION());
+        Future<ZToolPacket> led = commandInterface.sendSynchronousCommand(new UTIL_LED_CONTROL(1, true));
+        Future<ZToolPacket> version2 = commandInterface.sendSynchronousCommand(new SYS_VERSION());
+
+        // Only one request per command ID may be outstanding
+        Mockito.verify(port, Mockito.times(2)).write(ArgumentMatchers.any(byte[].class), ArgumentMatchers.anyInt(),
+                ArgumentMatchers.anyInt());
+
+        UTIL_LED_CONTROL_RESPONSE ledResponse = new UTIL_LED_CONTROL_RESPONSE(new int[] { 0 });
+        commandInterface.handlePacket(ledResponse);
+        assertEquals(ledResponse, led.get(0, TimeUnit.MILLISECONDS));
+        assertFalse(version1.isDone());
+        Mockito.verify(port, Mockito.times(2)).write(ArgumentMatchers.any(byte[].class), ArgumentMatchers.anyInt(),
+                ArgumentMatchers.anyInt());
+
+        SYS_VERSION_RESPONSE versionResponse1 = getVersionResponse();
+        commandInterface.handlePacket(versionResponse1);
+        assertEquals(versionResponse1, version1.get(0, TimeUnit.MILLISECONDS));
+        assertFalse(version2.isDone());
+        Mockito.verify(port, Mockito.times(3)).write(ArgumentMatchers.any(byte[].class), ArgumentMatchers.anyInt(),
+                ArgumentMatchers.anyInt());
+
+        SYS_VERSION_RESPONSE versionResponse2 = getVersionResponse();
+        commandInterface.handlePacket(versionResponse2);
+        assertEquals(versionResponse2, version2.get(0, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void cancel() throws Exception {
+        CommandInterfaceImpl commandInterface = getCommandInterface();
+
+        Future<ZToolPacket> version = commandInterface.sendSynchronousCommand(new SYS_VERSION());
+        Future<ZToolPacket> led = commandInterface.sendSynchronousCommand(new UTIL_LED_CONTROL(1, true));
+
+        try {
+            version.get(1, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            version.cancel(false);
+        }
+        assertTrue(version.isCancelled());
+        Mockito.verify(port, Mockito.times(2)).write(ArgumentMatchers.any(byte[].class), ArgumentMatchers.anyInt(),
+                ArgumentMatchers.anyInt());
+
+        // A late response to the cancelled request is not passed to the next request
+        commandInterface.handlePacket(getVersionResponse());
+        assertFalse(led.isDone());
+    }
+
+    @Test
+    public void sendSynchronousCommandListener() throws Exception {
+        CommandInterfaceImpl commandInterface = getCommandInterface();
+        SynchronousCommandListener listener = Mockito.mock(SynchronousCommandListener.class);
+
+        commandInterface.sendSynchronousCommand(new SYS_VERSION(), listener, 1000);
+        SYS_VERSION_RESPONSE response = getVersionResponse();
+        commandInterface.handlePacket(response);
+        Mockito.verify(listener, Mockito.times(1)).receivedCommandResponse(response);
+    }
+
+    @Test(expected = ExecutionException.class)
+    public void sendSynchronousCommandException() throws Exception {
+        CommandInterfaceImpl commandInterface = getCommandInterface();
+        Mockito.doThrow(new IllegalStateException()).when(port).write(ArgumentMatchers.any(byte[].class),
+                ArgumentMatchers.anyInt(), ArgumentMatchers.anyInt());
+
+        Future<ZToolPacket> future = commandInterface.sendSynchronousCommand(new SYS_VERSION());
+        assertTrue(future.isDone());
+        future.get();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void setMaxOutstandingRequestsInvalid() {
+        getCommandInterface().setMaxOutstandingRequests(0);
+    }
+}
@@ -41,6 +41,7 @@ import com.zsmartsystems.zigbee.transport.ZigBeePort;
 import com.zsmartsystems.zigbee.transport.ZigBeeTransportReceive;
 import com.zsmartsystems.zigbee.transport.ZigBeeTransportState;
 import com.zsmartsystems.zigbee.transport.ZigBeeTransportTransmit;
+import com.zsmartsystems.zigbee.transport.ZigBeeWireTrace;
 
 /**
  * ZigBee Dongle for the Dresden ConBee.
@@ -69,6 +70,17 @@ public class ZigBeeDongleConBee implements ZigBeeTransportTransmit {
      */
     private ConBeeFrameHandler conbeeHandler;
 
+    /**
+     * The {@link ZigBeeWireTrace} used to record frames, or null if tracing is disabled
+     */
+    private ZigBeeWireTrace wireTrace;
+
+    /**
+     * The maximum number of requests that may be outstanding with the ConBee at any time, or null to use the frame
+     * handler default
+     */
+    private Integer maxOutstandingFrames;
+
     /**
      * The current network state of the ConBee stack
      */
@@ -98,6 +110,29 @@ public class ZigBeeDongleConBee implements ZigBeeTransportTransmit {
         this.serialPort = serialPort;
     }
 
+    /**
+     * Sets the maximum number of requests that may be outstanding with the ConBee at any time. By default reading of
+     * received data, sending of data and querying of sent data are pipelined. Setting this to 1 provides the legacy
+     * behaviour where each request must complete before the next is sent. This must be called before
+     * {@link #initialize()}.
+     *
+     * @param maxOutstandingFrames the maximum number of outstanding requests. Must be at least 1.
+     */
+    public void setMaxOutstandingFrames(int maxOutstandingFrames) {
+        if (maxOutstandingFrames < 1) {
+            throw new IllegalArgumentException("Maximum outstanding frames must be at least 1");
+        }
+        this.maxOutstandingFrames = maxOutstandingFrames;
+    }
+
+    @Override
+    public void setWireTrace(ZigBeeWireTrace wireTrace) {
+        this.wireTrace = wireTrace;
+        if (conbeeHandler != null) {
+            conbeeHandler.setWireTrace(wireTrace);
+        }
+    }
+
     @Override
     public ZigBeeStatus initialize() {
         logger.debug("ConBee transport initialize");
@@ -110,6 +145,10 @@ public class ZigBeeDongleConBee implements ZigBeeTransportTransmit {
         }
 
         conbeeHandler = new ConBeeFrameHandler(serialPort, this);
+        conbeeHandler.setWireTrace(wireTrace);
+        if (maxOutstandingFrames != null) {
+            conbeeHandler.setMaxOutstandingFrames(maxOutstandingFrames);
+        }
 
         ConBeeVersionRequest versionRequest = new ConBeeVersionRequest();
         ConBeeVersionResponse versionResponse = (ConBeeVersionResponse) conbeeHandler
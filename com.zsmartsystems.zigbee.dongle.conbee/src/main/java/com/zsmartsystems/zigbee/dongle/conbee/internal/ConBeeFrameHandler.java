@@ -9,7 +9,9 @@ package com.zsmartsystems.zigbee.dongle.conbee.internal;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Timer;
 import java.util.TimerTask;
 import java.util.concurrent.ArrayBlockingQueue;
@@ -26,6 +28,7 @@ import org.slf4j.LoggerFactory;
 import com.zsmartsystems.zigbee.ZigBeeExecutors;
 import com.zsmartsystems.zigbee.dongle.conbee.ZigBeeDongleConBee;
 import com.zsmartsystems.zigbee.dongle.conbee.internal.frame.ConBeeDeviceState;
+import com.zsmartsystems.zigbee.dongle.conbee.internal.frame.ConBeeDeviceStateChanged;
 import com.zsmartsystems.zigbee.dongle.conbee.internal.frame.ConBeeDeviceStateRequest;
 import com.zsmartsystems.zigbee.dongle.conbee.internal.frame.ConBeeFrame;
 import com.zsmartsystems.zigbee.dongle.conbee.internal.frame.ConBeeFrameRequest;
@@ -34,6 +37,7 @@ import com.zsmartsystems.zigbee.dongle.conbee.internal.frame.ConBeeQuerySendData
 import com.zsmartsystems.zigbee.dongle.conbee.internal.frame.ConBeeReadReceivedDataRequest;
 import com.zsmartsystems.zigbee.dongle.conbee.internal.transaction.ConBeeTransaction;
 import com.zsmartsystems.zigbee.transport.ZigBeePort;
+import com.zsmartsystems.zigbee.transport.ZigBeeWireTrace;
 
 /**
  * Frame parser for ConBee SLIP protocol.
@@ -59,9 +63,23 @@ public class ConBeeFrameHandler {
     private final int RECEIVE_TIMEOUT_DEFAULT = 250;
     private int receiveTimeout = RECEIVE_TIMEOUT_DEFAULT;
     private final Timer timer = new Timer();
-    private TimerTask timerTask = null;
 
-    private ConBeeFrameRequest sentFrame = null;
+    /**
+     * The default maximum number of requests that may be outstanding with the ConBee at any time
+     */
+    private final int DEFAULT_MAX_OUTSTANDING_FRAMES = 3;
+
+    /**
+     * The maximum number of requests that may be outstanding with the ConBee at any time. Setting this to 1 provides
+     * the legacy behaviour where each request must complete before the next is sent.
+     */
+    private int maxOutstandingFrames = DEFAULT_MAX_OUTSTANDING_FRAMES;
+
+    /**
+     * The requests that have been sent to the ConBee and are awaiting a response, keyed by the sequence number. Each
+     * request has its own retry timer. Only one request of each type is outstanding at any time.
+     */
+    private final Map<Integer, ConBeeRetryTimer> outstandingFrames = new HashMap<>();
 
     /**
      * The queue of {@link ConBeeFrameRequest} frames waiting to be sent
@@ -76,13 +94,18 @@ public class ConBeeFrameHandler {
      */
     private ZigBeePort serialPort;
 
+    /**
+     * The {@link ZigBeeWireTrace} used to record frames, or null if tracing is disabled
+     */
+    private ZigBeeWireTrace wireTrace;
+
     /**
      * The receive thread.
      */
     private Thread receiveThread = null;
 
     /**
-     * Object used to synchronise access to the send queue
+     * Object used to synchronise access to the send queue and outstanding frames
      */
     private Object transmitSync = new Object();
 
@@ -114,29 +137,29 @@ public class ConBeeFrameHandler {
                         continue;
                     }
 
-                    StringBuilder builder = new StringBuilder();
-                    builder.append("Data");
-                    for (int value : responseData) {
-                        builder.append(String.format(" %02X", value));
+                    if (wireTrace != null) {
+                        wireTrace.traceRx(responseData);
+                    }
+                    if (logger.isDebugEnabled()) {
+                        StringBuilder builder = new StringBuilder();
+                        builder.append("Data");
+                        for (int value : responseData) {
+                            builder.append(String.format(" %02X", value));
+                        }
+                        logger.debug("CONBEE RX: {}", builder.toString());
                     }
-                    logger.debug("CONBEE RX: {}", builder.toString());
 
                     ConBeeFrameResponse frame = (ConBeeFrameResponse) ConBeeFrame.create(responseData);
                     if (frame != null) {
                         logger.debug("CONBEE RX Frame: {}", frame);
 
-                        if (sentFrame == null) {
-                            logger.debug("CONBEE RX Frame but sentFrame is null: {}", frame);
-                        } else if (sentFrame.getSequence() != frame.getSequence()) {
-                            logger.debug("CONBEE RX Frame has inconsistent sequece: RX{} // TX{}", frame.getSequence(),
-                                    sentFrame.getSequence());
-                        } else {
-                            sentFrame = null;
+                        // Device state changes are unsolicited, so don't complete a request
+                        if (!(frame instanceof ConBeeDeviceStateChanged)) {
+                            releaseFrame(frame);
                         }
 
                         dongle.receiveIncomingFrame(frame);
                         notifyTransactionComplete(frame);
-                        resetRetryTimer();
 
                         // Check the device state
                         handleConBeeState(frame.getDeviceState());
@@ -194,44 +217,96 @@ public class ConBeeFrameHandler {
     /**
      * Process a received device state update
      * <p>
-     * This method will perform any polling etc as required to fulfill any device requests
+     * This method will perform any polling etc as required to fulfill any device requests. Reading of received data,
+     * sending of queued frames and querying of sent data are pipelined so that each may be outstanding at the same
+     * time, allowing pending indications and confirms to be drained without waiting for each other.
      *
      * @param deviceState the latest {@link ConBeeDeviceState}
      */
     protected void handleConBeeState(ConBeeDeviceState deviceState) {
         logger.debug("ConBeeDeviceState={}", deviceState);
         synchronized (transmitSync) {
-            logger.debug("ConBeeDeviceState-sync");
-            if (sentFrame != null) {
-                logger.debug("ConBeeDeviceState sendFrame!=null");
-                return;
+            // Reading received data takes priority so that incoming data is not delayed by outgoing traffic
+            if (deviceState.isDataIndication() && isFrameAllowed(ConBeeReadReceivedDataRequest.class)) {
+                // There is data available to be read - read the next frame
+                outputFrame(new ConBeeReadReceivedDataRequest());
             }
 
-            if (deviceState.isDataIndication()) {
-                logger.debug("ConBeeDeviceState read");
-                // There is data available to be read - read the next frame
-                ConBeeReadReceivedDataRequest readRequest = new ConBeeReadReceivedDataRequest();
-                outputFrame(readRequest);
-            } else if (deviceState.isDataRequest() && !sendQueue.isEmpty()) {
+            if (deviceState.isDataRequest()) {
                 // Data can be sent
-                try {
-                    logger.debug("ConBeeDeviceState out before");
-                    ConBeeFrameRequest txFrame = sendQueue.take();
+                ConBeeFrameRequest txFrame = sendQueue.peek();
+                if (txFrame != null && isFrameAllowed(txFrame.getClass())) {
+                    sendQueue.remove(txFrame);
                     logger.debug("ConBeeDeviceState out {}", txFrame);
                     outputFrame(txFrame);
-                    logger.debug("ConBeeDeviceState out after");
-                } catch (InterruptedException e) {
-                    logger.debug("Interrupted getting frame to send");
                 }
-            } else if (deviceState.isDataConfirm()) {
+            }
+
+            if (deviceState.isDataConfirm() && isFrameAllowed(ConBeeQuerySendDataRequest.class)) {
                 // Check the state of a sent frame
-                ConBeeQuerySendDataRequest queryRequest = new ConBeeQuerySendDataRequest();
-                outputFrame(queryRequest);
-            } else if (deviceState.isConfigChanged()) {
-                // The configuration has changed
+                outputFrame(new ConBeeQuerySendDataRequest());
+            }
+
+            // The configuration has changed - nothing to do here
+        }
+    }
+
+    /**
+     * Checks if a request of the specified type can be sent. A request can be sent if the maximum number of
+     * outstanding requests has not been reached, and there is no other request of the same type outstanding.
+     *
+     * @param requestClass the class of the {@link ConBeeFrameRequest}
+     * @return true if the request may be sent
+     */
+    private boolean isFrameAllowed(Class<?> requestClass) {
+        if (outstandingFrames.size() >= maxOutstandingFrames) {
+            return false;
+        }
+        for (ConBeeRetryTimer outstanding : outstandingFrames.values()) {
+            if (outstanding.frame.getClass() == requestClass) {
+                return false;
             }
         }
-        logger.debug("ConBeeDeviceState-done");
+        return true;
+    }
+
+    /**
+     * Releases the outstanding request matching the sequence number of a received response
+     *
+     * @param response the received {@link ConBeeFrameResponse}
+     */
+    private void releaseFrame(ConBeeFrameResponse response) {
+        synchronized (transmitSync) {
+            ConBeeRetryTimer retryTimer = outstandingFrames.remove(response.getSequence());
+            if (retryTimer == null) {
+                logger.debug("CONBEE RX Frame does not match an outstanding request: {}", response);
+                return;
+            }
+            retryTimer.cancel();
+        }
+    }
+
+    /**
+     * Sets the maximum number of requests that may be outstanding with the ConBee at any time. Requests are
+     * correlated with their responses using the sequence number, and each outstanding request has its own timeout.
+     * Setting this to 1 provides the legacy behaviour where each request must complete before the next is sent.
+     *
+     * @param maxOutstandingFrames the maximum number of outstanding requests. Must be at least 1.
+     */
+    public void setMaxOutstandingFrames(int maxOutstandingFrames) {
+        if (maxOutstandingFrames < 1) {
+            throw new IllegalArgumentException("Maximum outstanding frames must be at least 1");
+        }
+        this.maxOutstandingFrames = maxOutstandingFrames;
+    }
+
+    /**
+     * Sets the {@link ZigBeeWireTrace} used to record the frames exchanged with the ConBee
+     *
+     * @param wireTrace the {@link ZigBeeWireTrace} to record frames, or null to disable tracing
+     */
+    public void setWireTrace(ZigBeeWireTrace wireTrace) {
+        this.wireTrace = wireTrace;
     }
 
     /**
@@ -246,6 +321,7 @@ public class ConBeeFrameHandler {
      */
     public void close() {
         this.closeHandler = true;
+        timer.cancel();
         try {
             receiveThread.interrupt();
             receiveThread.join();
@@ -263,72 +339,83 @@ public class ConBeeFrameHandler {
         return receiveThread != null && receiveThread.isAlive();
     }
 
-    // Synchronize this method to ensure a packet gets sent as a block
-    private synchronized void outputFrame(ConBeeFrameRequest frame) {
+    // Must be called with transmitSync held to ensure a packet gets sent as a block
+    private void outputFrame(ConBeeFrameRequest frame) {
         frame.setSequence(callbackSequence.getAndIncrement());
         if (frame.getSequence() == 255) {
             callbackSequence.set(0);
         }
-        sentFrame = frame;
 
-        StringBuilder result = new StringBuilder();
         // Send the data
         logger.debug("CONBEE TX: {}", frame);
-        serialPort.write(SLIP_END);
 
-        for (int val : frame.getOutputBuffer()) {
-            result.append(String.format(" %02X", val));
-            // logger.debug("CONBEE TX: {}", String.format("%02X", val));
+        // Build the SLIP encoded frame so it can be written as a single block.
+        // Worst case every byte is escaped, plus the start and end bytes.
+        int[] outputBuffer = frame.getOutputBuffer();
+        byte[] slipFrame = new byte[outputBuffer.length * 2 + 2];
+        int slipLength = 0;
+        slipFrame[slipLength++] = (byte) SLIP_END;
+
+        for (int val : outputBuffer) {
             switch (val) {
                 case SLIP_END:
-                    // logger.debug("CONBEE TX: [ESC]");
-                    serialPort.write(SLIP_ESC);
-                    serialPort.write(SLIP_ESC_END);
+                    slipFrame[slipLength++] = (byte) SLIP_ESC;
+                    slipFrame[slipLength++] = (byte) SLIP_ESC_END;
                     break;
                 case SLIP_ESC:
-                    // logger.debug("CONBEE TX: [ESC]");
-                    serialPort.write(SLIP_ESC);
-                    serialPort.write(SLIP_ESC_ESC);
+                    slipFrame[slipLength++] = (byte) SLIP_ESC;
+                    slipFrame[slipLength++] = (byte) SLIP_ESC_ESC;
                     break;
                 default:
-                    serialPort.write(val);
+                    slipFrame[slipLength++] = (byte) val;
                     break;
             }
         }
 
-        logger.debug("CONBEE TX:{}", result.toString());
-
-        serialPort.write(SLIP_END);
+        slipFrame[slipLength++] = (byte) SLIP_END;
+        serialPort.write(slipFrame, 0, slipLength);
+        if (wireTrace != null) {
+            wireTrace.traceTx(outputBuffer);
+        }
+        if (logger.isDebugEnabled()) {
+            StringBuilder result = new StringBuilder();
+            for (int val : outputBuffer) {
+                result.append(String.format(" %02X", val));
+            }
+            logger.debug("CONBEE TX:{}", result.toString());
+        }
 
-        startRetryTimer();
+        // Start the retry timer for this request
+        ConBeeRetryTimer retryTimer = new ConBeeRetryTimer(frame);
+        outstandingFrames.put(frame.getSequence(), retryTimer);
+        try {
+            timer.schedule(retryTimer, receiveTimeout);
+        } catch (IllegalStateException e) {
+            logger.debug("CONBEE TX: Timer is closed");
+        }
     }
 
-    private synchronized void startRetryTimer() {
-        // Stop any existing timer
-        resetRetryTimer();
-
-        // Create the timer task
-        timerTask = new ConBeeRetryTimer();
-        timer.schedule(timerTask, receiveTimeout);
-    }
+    private class ConBeeRetryTimer extends TimerTask {
+        private final ConBeeFrameRequest frame;
 
-    private synchronized void resetRetryTimer() {
-        // Stop any existing timer
-        if (timerTask != null) {
-            timerTask.cancel();
-            timerTask = null;
+        ConBeeRetryTimer(ConBeeFrameRequest frame) {
+            this.frame = frame;
         }
-    }
 
-    private class ConBeeRetryTimer extends TimerTask {
         @Override
         public void run() {
-            logger.debug("CONBEE TX: TIMEOUT");
-
-            // TODO: Retransmit?
+            logger.debug("CONBEE TX: TIMEOUT {}", frame);
 
             synchronized (transmitSync) {
-                transmitSync.notify();
+                if (outstandingFrames.get(frame.getSequence()) != this) {
+                    return;
+                }
+                outstandingFrames.remove(frame.getSequence());
+
+                // Request the device state to resynchronise once nothing else is outstanding
+                if (outstandingFrames.isEmpty() && !closeHandler) {
+                    outputFrame(new ConBeeDeviceStateRequest());
+                }
             }
         }
     }
@@ -340,19 +427,17 @@ public class ConBeeFrameHandler {
      *
      * @param request {@link ConBeeFrameRequest}
      */
-    public synchronized void queueFrame(ConBeeFrameRequest request) {
+    public void queueFrame(ConBeeFrameRequest request) {
         sendQueue.add(request);
 
         logger.debug("TX CONBEE queue: {}", sendQueue.size());
 
+        // If there are requests outstanding, the device state in their response will trigger the send
         synchronized (transmitSync) {
-            logger.debug("TX CONBEE queue: {} sync", sendQueue.size());
-            if (sentFrame == null) {
-                logger.debug("TX CONBEE queue: {} send", sendQueue.size());
+            if (outstandingFrames.isEmpty()) {
                 outputFrame(new ConBeeDeviceStateRequest());
             }
         }
-        logger.debug("TX CONBEE queue: {} exit", sendQueue.size());
     }
 
     /**
@@ -0,0 +1,108 @@
+/**
+ * Copyright (c) 2016-2019 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.dongle.conbee.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import com.zsmartsystems.zigbee.ZigBeeEndpointAddress;
+import com.zsmartsystems.zigbee.dongle.conbee.ZigBeeDongleConBee;
+import com.zsmartsystems.zigbee.dongle.conbee.internal.frame.ConBeeAddressMode;
+import com.zsmartsystems.zigbee.dongle.conbee.internal.frame.ConBeeEnqueueSendDataRequest;
+
+/**
+ *
+ * @author agent
+ *
+ */
+public class ConBeeFrameHandlerTest {
+    private static final int LATENCY = 2;
+    private static final int INDICATIONS = 100;
+    private static final int TRANSMITS = 10;
+
+    private ConBeeEnqueueSendDataRequest createSendRequest(int requestId) {
+        ConBeeEnqueueSendDataRequest request = new ConBeeEnqueueSendDataRequest();
+        request.setRequestId(requestId);
+        request.setDestinationAddress(new ZigBeeEndpointAddress(0x1234, 1));
+        request.setDestinationAddressMode(ConBeeAddressMode.NWK);
+        request.setProfileId(0x0104);
+        request.setClusterId(0x0006);
+        request.setRadius(0x1F);
+        request.setSourceEndpoint(1);
+        request.setAdsuData(new int[] { 0x00, 0x01, 0x02 });
+        return request;
+    }
+
+    /**
+     * Runs the simulated port harness, draining the indications and sending the frames. Checks that all frames were
+     * delivered, and that the handler had the expected number of frames outstanding at once.
+     *
+     * @param maxOutstandingFrames the maximum number of outstanding frames in the handler
+     * @return the time taken in nanoseconds
+     */
+    private long runHarness(int maxOutstandingFrames) throws InterruptedException {
+        ConBeeSimulatedPort port = new ConBeeSimulatedPort(LATENCY);
+        ConBeeFrameHandler frameHandler = new ConBeeFrameHandler(port, Mockito.mock(ZigBeeDongleConBee.class));
+        frameHandler.setMaxOutstandingFrames(maxOutstandingFrames);
+
+        long start = System.nanoTime();
+        for (int cnt = 0; cnt < TRANSMITS; cnt++) {
+            frameHandler.queueFrame(createSendRequest(cnt));
+        }
+        port.addIndications(INDICATIONS);
+
+        long timeout = System.currentTimeMillis() + 10000;
+        while (System.currentTimeMillis() < timeout && (port.getIndicationsRead() < INDICATIONS
+                || port.getFramesSent() < TRANSMITS || port.getConfirmsRead() < TRANSMITS)) {
+            Thread.sleep(1);
+        }
+        long time = System.nanoTime() - start;
+
+        frameHandler.close();
+        port.close();
+
+        assertEquals(INDICATIONS, port.getIndicationsRead());
+        assertEquals(TRANSMITS, port.getFramesSent());
+        assertEquals(TRANSMITS, port.getConfirmsRead());
+        assertEquals(maxOutstandingFrames, port.getMaxOutstandingRequests());
+        return time;
+    }
+
+    @Test
+    public void pipelined() throws InterruptedException {
+        runHarness(3);
+    }
+
+    @Test
+    public void stopAndWait() throws InterruptedException {
+        runHarness(1);
+    }
+
+    @Test
+    public void pipelinedThroughput() throws InterruptedException {
+        // Each request waits for the latency of the previous one when not pipelined
+        long stopAndWaitTime = runHarness(1);
+        long pipelinedTime = runHarness(3);
+        assertTrue("Pipelined " + pipelinedTime + "ns, stop and wait " + stopAndWaitTime + "ns",
+                pipelinedTime < stopAndWaitTime);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void setMaxOutstandingFramesInvalid() {
+        ConBeeFrameHandler frameHandler = new ConBeeFrameHandler(new ConBeeSimulatedPort(LATENCY),
+                Mockito.mock(ZigBeeDongleConBee.class));
+        try {
+            frameHandler.setMaxOutstandingFrames(0);
+        } finally {
+            frameHandler.close();
+        }
+    }
+}
@@ -0,0 +1,249 @@
+/**
+ * Copyright (c) 2016-2019 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.dongle.conbee.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import com.zsmartsystems.zigbee.transport.ZigBeePort;
+
+/**
+ * A simulated ConBee used to test the {@link ConBeeFrameHandler}. Requests written to the port are decoded, and a
+ * response is returned after a fixed latency. The device holds a number of pending indications which are read with
+ * {@link #addIndications(int)}, and each frame that is sent generates a confirm that must be queried.
+ * <p>
+ * Requests are processed concurrently so that the effect of pipelining in the frame handler can be measured.
+ *
+ * @author agent
+ *
+ */
+class ConBeeSimulatedPort implements ZigBeePort {
+    private final static int SLIP_ESC = 0xDB;
+    private final static int SLIP_ESC_END = 0xDC;
+    private final static int SLIP_ESC_ESC = 0xDD;
+    private final static int SLIP_END = 0xC0;
+
+    private final static int[] INDICATION = new int[] { 0x17, 0x00, 0x00, 0x32, 0x00, 0x2B, 0x00, 0x00, 0x02, 0x00,
+            0x00, 0x00, 0x03, 0x8C, 0x0A, 0x01, 0xFF, 0xFF, 0x2E, 0x21, 0x00, 0x00, 0x00, 0x00, 0x01, 0x80, 0x0E, 0x00,
+            0x00, 0x00, 0x8C, 0x0A, 0x01, 0xFF, 0xFF, 0x2E, 0x21, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0xAF, 0x00, 0x00,
+            0x00, 0x02, 0x02, 0x00 };
+
+    private final BlockingQueue<Integer> rxQueue = new LinkedBlockingQueue<>();
+    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(4);
+    private final long latency;
+
+    private int pendingIndications;
+    private int pendingConfirms;
+    private int indicationsRead;
+    private int confirmsRead;
+    private int framesSent;
+    private int outstandingRequests;
+    private int maxOutstandingRequests;
+
+    /**
+     * Creates the simulated port
+     *
+     * @param latency the time in milliseconds taken to respond to each request
+     */
+    ConBeeSimulatedPort(long latency) {
+        this.latency = latency;
+    }
+
+    /**
+     * Adds indications to the device and notifies the handler with a device state change
+     *
+     * @param count the number of indications to add
+     */
+    synchronized void addIndications(int count) {
+        pendingIndications += count;
+        sendFrame(new int[] { 0x0E, 0x00, 0x00, 0x07, 0x00, getState() });
+    }
+
+    synchronized int getIndicationsRead() {
+        return indicationsRead;
+    }
+
+    synchronized int getConfirmsRead() {
+        return confirmsRead;
+    }
+
+    synchronized int getFramesSent() {
+        return framesSent;
+    }
+
+    /**
+     * Gets the maximum number of requests that were outstanding at once - ie written to the port, but not yet responded
+     * to.
+     *
+     * @return the maximum number of outstanding requests
+     */
+    synchronized int getMaxOutstandingRequests() {
+        return maxOutstandingRequests;
+    }
+
+    private synchronized void requestReceived() {
+        outstandingRequests++;
+        maxOutstandingRequests = Math.max(maxOutstandingRequests, outstandingRequests);
+    }
+
+    private int getState() {
+        return 0x22 | (pendingConfirms > 0 ? 0x04 : 0) | (pendingIndications > 0 ? 0x08 : 0);
+    }
+
+    private synchronized void processRequest(int[] request) {
+        outstandingRequests--;
+        int sequence = request[1];
+        switch (request[0]) {
+            case 0x07:
+                sendFrame(new int[] { 0x07, sequence, 0x00, 0x08, 0x00, getState(), 0x00, 0x00 });
+                break;
+            case 0x17:
+                if (pendingIndications == 0) {
+                    sendFrame(new int[] { 0x17, sequence, 0x05, 0x08, 0x00, 0x01, 0x00, getState() });
+                    break;
+                }
+                pendingIndications--;
+                indicationsRead++;
+                int[] indication = INDICATION.clone();
+                indication[1] = sequence;
+                indication[7] = getState();
+                sendFrame(indication);
+                break;
+            case 0x12:
+                pendingConfirms++;
+                framesSent++;
+                sendFrame(new int[] { 0x12, sequence, 0x00, 0x09, 0x00, getState(), request[7] });
+                break;
+            case 0x04:
+                if (pendingConfirms == 0) {
+                    sendFrame(new int[] { 0x04, sequence, 0x05, 0x07, 0x00, 0x00, 0x00, getState() });
+                    break;
+                }
+                pendingConfirms--;
+                confirmsRead++;
+                sendFrame(new int[] { 0x04, sequence, 0x00, 0x13, 0x00, 0x0C, 0x00, getState(), 0x00, 0x02, 0x34,
+                        0x12, 0x01, 0x01, 0x00, 0x00, 0x00, 0x00, 0x00 });
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void sendFrame(int[] frame) {
+        int crc = 0;
+        for (int value : frame) {
+            crc += value;
+        }
+        crc = (~crc + 1) & 0xFFFF;
+
+        List<Integer> data = new ArrayList<>();
+        for (int value : frame) {
+            data.add(value);
+        }
+        data.add(crc & 0xFF);
+        data.add(crc >> 8);
+
+        synchronized (rxQueue) {
+            rxQueue.add(SLIP_END);
+            for (int value : data) {
+                if (value == SLIP_END) {
+                    rxQueue.add(SLIP_ESC);
+                    rxQueue.add(SLIP_ESC_END);
+                } else if (value == SLIP_ESC) {
+                    rxQueue.add(SLIP_ESC);
+                    rxQueue.add(SLIP_ESC_ESC);
+                } else {
+                    rxQueue.add(value);
+                }
+            }
+            rxQueue.add(SLIP_END);
+        }
+    }
+
+    @Override
+    public boolean open() {
+        return true;
+    }
+
+    @Override
+    public boolean open(int baudRate) {
+        return true;
+    }
+
+    @Override
+    public boolean open(int baudRate, FlowControl flowControl) {
+        return true;
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    @Override
+    public void write(int value) {
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) {
+        final List<Integer> request = new ArrayList<>();
+        boolean escaped = false;
+        for (int cnt = offset; cnt < offset + length; cnt++) {
+            int value = bytes[cnt] & 0xFF;
+            if (value == SLIP_END) {
+                continue;
+            }
+            if (value == SLIP_ESC) {
+                escaped = true;
+                continue;
+            }
+            if (escaped) {
+                escaped = false;
+                value = value == SLIP_ESC_END ? SLIP_END : SLIP_ESC;
+            }
+            request.add(value);
+        }
+
+        final int[] frame = new int[request.size()];
+        for (int cnt = 0; cnt < frame.length; cnt++) {
+            frame[cnt] = request.get(cnt);
+        }
+        requestReceived();
+        scheduler.schedule(new Runnable() {
+            @Override
+            public void run() {
+                processRequest(frame);
+            }
+        }, latency, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public int read() {
+        return read(10);
+    }
+
+    @Override
+    public int read(int timeout) {
+        try {
+            Integer value = rxQueue.poll(timeout, TimeUnit.MILLISECONDS);
+            return value == null ? -1 : value;
+        } catch (InterruptedException e) {
+            return -1;
+        }
+    }
+
+    @Override
+    public void purgeRxBuffer() {
+        rxQueue.clear();
+    }
+}
@@ -900,11 +900,6 @@ public class CommandGenerator extends ClassGenerator {
 
         out.println("package " + ezspPackage + ";");
         out.println();
-        out.println("import java.lang.reflect.Constructor;");
-        out.println("import java.lang.reflect.InvocationTargetException;");
-        out.println("import java.util.HashMap;");
-        out.println("import java.util.Map;");
-        out.println();
         out.println("import org.slf4j.Logger;");
         out.println("import org.slf4j.LoggerFactory;");
         // out.println();
@@ -999,24 +994,6 @@ public class CommandGenerator extends ClassGenerator {
         out.println("    protected int frameId = 0;");
         out.println("    protected boolean isResponse = false;");
         out.println();
-        out.println("    private static Map<Integer, Class<?>> ezspHandlerMap = new HashMap<Integer, Class<?>>();");
-        out.println("    static {");
-        for (Command command : commandMap.values()) {
-            String className;
-            if (command.name.endsWith("Handler")) {
-                className = "Ezsp" + command.name.substring(0, 1).toUpperCase() + command.name.substring(1);
-            } else {
-                className = "Ezsp" + command.name.substring(0, 1).toUpperCase() + command.name.substring(1)
-                        + "Response";
-            }
-
-            String reference = camelCaseToConstant(
-                    command.name.substring(0, 1).toUpperCase() + command.name.substring(1));
-            out.println("        ezspHandlerMap.put(FRAME_ID_" + reference + ", " + className + ".class);");
-        }
-        out.println("    }");
-        out.println();
-
         out.println("    /**");
         out.println("     * Sets the 8 bit transaction sequence number");
         out.println("     *");
@@ -1060,36 +1037,48 @@ public class CommandGenerator extends ClassGenerator {
         out.println("     * @return the {@link EzspFrameResponse} or null if the response can't be created.");
         out.println("     */");
         out.println("    public static EzspFrameResponse createHandler(int[] data) {");
-        out.println("        Class<?> ezspClass = null;");
-        out.println();
         out.println("        try {");
-        out.println("            if (data[2] != 0xFF) {");
-        out.println("                ezspClass = ezspHandlerMap.get(data[2]);");
+        out.println("            if (data[2] != EZSP_LEGACY_FRAME_ID) {");
+        out.println("                return createHandler(data[2], data);");
         out.println("            } else {");
-        out.println("                ezspClass = ezspHandlerMap.get(data[4]);");
+        out.println("                return createHandler(data[4], data);");
         out.println("            }");
-        out.println("        } catch (ArrayIndexOutOfBoundsException e) {");
-        out.println("            logger.debug(\"Error detecting the EZSP frame type\", e);");
-        out.println("        }");
-        out.println();
-        out.println("        if (ezspClass == null) {");
-        out.println("            return null;");
-        out.println("        }");
-        out.println();
-        out.println("        Constructor<?> ctor;");
-        out.println("        try {");
-        out.println("            ctor = ezspClass.getConstructor(int[].class);");
-        out.println("            EzspFrameResponse ezspFrame = (EzspFrameResponse) ctor.newInstance(data);");
-        out.println("            return ezspFrame;");
-        out.println(
-                "        } catch (SecurityException | NoSuchMethodException | IllegalArgumentException | InstantiationException");
-        out.println("                | IllegalAccessException | InvocationTargetException e) {");
+        out.println("        } catch (RuntimeException e) {");
         out.println("            logger.debug(\"Error creating instance of EzspFrame\", e);");
         out.println("        }");
         out.println();
         out.println("        return null;");
         out.println("    }");
         out.println();
+        out.println("    /**");
+        out.println("     * Dispatch table of the response frames, indexed by the frame ID. The response is constructed directly");
+        out.println("     * so that no reflection is required for each received frame.");
+        out.println("     *");
+        out.println("     * @param frameId the EZSP frame ID");
+        out.println("     * @param data the int[] containing the EZSP data from which to generate the frame");
+        out.println("     * @return the {@link EzspFrameResponse} or null if the frame ID is unknown");
+        out.println("     */");
+        out.println("    private static EzspFrameResponse createHandler(int frameId, int[] data) {");
+        out.println("        switch (frameId) {");
+        for (Command command : commandMap.values()) {
+            String className;
+            if (command.name.endsWith("Handler")) {
+                className = "Ezsp" + command.name.substring(0, 1).toUpperCase() + command.name.substring(1);
+            } else {
+                className = "Ezsp" + command.name.substring(0, 1).toUpperCase() + command.name.substring(1)
+                        + "Response";
+            }
+
+            String reference = camelCaseToConstant(
+                    command.name.substring(0, 1).toUpperCase() + command.name.substring(1));
+            out.println("            case FRAME_ID_" + reference + ":");
+            out.println("                return new " + className + "(data);");
+        }
+        out.println("            default:");
+        out.println("                return null;");
+        out.println("        }");
+        out.println("    }");
+        out.println();
 
         out.println("    /**");
         out.println("     * Set the EZSP version to use");
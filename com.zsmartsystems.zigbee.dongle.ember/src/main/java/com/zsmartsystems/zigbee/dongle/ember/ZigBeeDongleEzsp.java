@@ -95,6 +95,7 @@ import com.zsmartsystems.zigbee.transport.ZigBeeTransportProgressState;
 import com.zsmartsystems.zigbee.transport.ZigBeeTransportReceive;
 import com.zsmartsystems.zigbee.transport.ZigBeeTransportState;
 import com.zsmartsystems.zigbee.transport.ZigBeeTransportTransmit;
+import com.zsmartsystems.zigbee.transport.ZigBeeWireTrace;
 
 /**
  * Implementation of the Silabs Ember NCP (Network Co-Processor) EZSP dongle implementation.
@@ -177,6 +178,16 @@ public class ZigBeeDongleEzsp implements ZigBeeTransportTransmit, ZigBeeTranspor
      */
     private EmberSerialProtocol protocol;
 
+    /**
+     * The maximum number of unacknowledged DATA frames when using the {@link EmberSerialProtocol#ASH2} protocol
+     */
+    private int ashTxWindow = 1;
+
+    /**
+     * The {@link ZigBeeWireTrace} used to record frames, or null if tracing is disabled
+     */
+    private ZigBeeWireTrace wireTrace;
+
     /**
      * The Ember version used in this system. Set during initialisation and saved in case the client is interested.
      */
@@ -323,6 +334,25 @@ public class ZigBeeDongleEzsp implements ZigBeeTransportTransmit, ZigBeeTranspor
         this.resetProvider = resetProvider;
     }
 
+    /**
+     * Sets the ASH transmit window - the maximum number of DATA frames that may be sent to the NCP before an
+     * acknowledgement is received. The default of 1 provides stop-and-wait operation. The ASH protocol allows a
+     * window of up to 7 frames.
+     * <p>
+     * Note that this must be called prior to {@link #initialize()} and is only used with the
+     * {@link EmberSerialProtocol#ASH2} protocol.
+     *
+     * @param ashTxWindow the transmit window size (1 to 7)
+     * @return true if the window size is valid
+     */
+    public boolean setAshTxWindow(int ashTxWindow) {
+        if (ashTxWindow < 1 || ashTxWindow > 7) {
+            return false;
+        }
+        this.ashTxWindow = ashTxWindow;
+        return true;
+    }
+
     /**
      * Update the Ember configuration that will be sent to the dongle during the initialisation.
      * <p>
@@ -386,6 +416,14 @@ public class ZigBeeDongleEzsp implements ZigBeeTransportTransmit, ZigBeeTranspor
         this.defaultDeviceId = defaultDeviceId;
     }
 
+    @Override
+    public void setWireTrace(ZigBeeWireTrace wireTrace) {
+        this.wireTrace = wireTrace;
+        if (frameHandler != null) {
+            frameHandler.setWireTrace(wireTrace);
+        }
+    }
+
     @Override
     public ZigBeeStatus initialize() {
         logger.debug("EZSP dongle initialize with protocol {}.", protocol);
@@ -1148,7 +1186,9 @@ public class ZigBeeDongleEzsp implements ZigBeeTransportTransmit, ZigBeeTranspor
 
         switch (protocol) {
             case ASH2:
-                frameHandler = new AshFrameHandler(this);
+                AshFrameHandler ashHandler = new AshFrameHandler(this);
+                ashHandler.setTxWindow(ashTxWindow);
+                frameHandler = ashHandler;
                 break;
             case SPI:
                 frameHandler = new SpiFrameHandler(this);
@@ -1161,6 +1201,7 @@ public class ZigBeeDongleEzsp implements ZigBeeTransportTransmit, ZigBeeTranspor
         }
 
         // Connect to the ASH handler and NCP
+        frameHandler.setWireTrace(wireTrace);
         frameHandler.start(serialPort);
 
         // If possible, perform a hardware reset of the NCP
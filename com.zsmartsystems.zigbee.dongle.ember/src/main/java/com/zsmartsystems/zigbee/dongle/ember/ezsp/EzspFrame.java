@@ -7,11 +7,6 @@
  */
 package com.zsmartsystems.zigbee.dongle.ember.ezsp;
 
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
-import java.util.HashMap;
-import java.util.Map;
-
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import com.zsmartsystems.zigbee.dongle.ember.ezsp.command.*;
@@ -226,150 +221,6 @@ public abstract class EzspFrame {
     protected int frameId = 0;
     protected boolean isResponse = false;
 
-    private static Map<Integer, Class<?>> ezspHandlerMap = new HashMap<Integer, Class<?>>();
-    static {
-        ezspHandlerMap.put(FRAME_ID_ADD_ENDPOINT, EzspAddEndpointResponse.class);
-        ezspHandlerMap.put(FRAME_ID_ADD_OR_UPDATE_KEY_TABLE_ENTRY, EzspAddOrUpdateKeyTableEntryResponse.class);
-        ezspHandlerMap.put(FRAME_ID_ADD_TRANSIENT_LINK_KEY, EzspAddTransientLinkKeyResponse.class);
-        ezspHandlerMap.put(FRAME_ID_AES_MMO_HASH, EzspAesMmoHashResponse.class);
-        ezspHandlerMap.put(FRAME_ID_BECOME_TRUST_CENTER, EzspBecomeTrustCenterResponse.class);
-        ezspHandlerMap.put(FRAME_ID_BINDING_IS_ACTIVE, EzspBindingIsActiveResponse.class);
-        ezspHandlerMap.put(FRAME_ID_CALCULATE_SMACS, EzspCalculateSmacsResponse.class);
-        ezspHandlerMap.put(FRAME_ID_CALCULATE_SMACS283K1, EzspCalculateSmacs283k1Response.class);
-        ezspHandlerMap.put(FRAME_ID_CALCULATE_SMACS283K1_HANDLER, EzspCalculateSmacs283k1Handler.class);
-        ezspHandlerMap.put(FRAME_ID_CALCULATE_SMACS_HANDLER, EzspCalculateSmacsHandler.class);
-        ezspHandlerMap.put(FRAME_ID_CALLBACK, EzspCallbackResponse.class);
-        ezspHandlerMap.put(FRAME_ID_CHANGE_SOURCE_ROUTE_HANDLER, EzspChangeSourceRouteHandler.class);
-        ezspHandlerMap.put(FRAME_ID_CHILD_JOIN_HANDLER, EzspChildJoinHandler.class);
-        ezspHandlerMap.put(FRAME_ID_CLEAR_BINDING_TABLE, EzspClearBindingTableResponse.class);
-        ezspHandlerMap.put(FRAME_ID_CLEAR_KEY_TABLE, EzspClearKeyTableResponse.class);
-        ezspHandlerMap.put(FRAME_ID_CLEAR_TEMPORARY_DATA_MAYBE_STORE_LINK_KEY, EzspClearTemporaryDataMaybeStoreLinkKeyResponse.class);
-        ezspHandlerMap.put(FRAME_ID_CLEAR_TEMPORARY_DATA_MAYBE_STORE_LINK_KEY283K1, EzspClearTemporaryDataMaybeStoreLinkKey283k1Response.class);
-        ezspHandlerMap.put(FRAME_ID_CLEAR_TRANSIENT_LINK_KEYS, EzspClearTransientLinkKeysResponse.class);
-        ezspHandlerMap.put(FRAME_ID_COUNTER_ROLLOVER_HANDLER, EzspCounterRolloverHandler.class);
-        ezspHandlerMap.put(FRAME_ID_D_GP_SEND, EzspDGpSendResponse.class);
-        ezspHandlerMap.put(FRAME_ID_D_GP_SENT_HANDLER, EzspDGpSentHandler.class);
-        ezspHandlerMap.put(FRAME_ID_DELETE_BINDING, EzspDeleteBindingResponse.class);
-        ezspHandlerMap.put(FRAME_ID_ENERGY_SCAN_REQUEST, EzspEnergyScanRequestResponse.class);
-        ezspHandlerMap.put(FRAME_ID_ENERGY_SCAN_RESULT_HANDLER, EzspEnergyScanResultHandler.class);
-        ezspHandlerMap.put(FRAME_ID_ERASE_KEY_TABLE_ENTRY, EzspEraseKeyTableEntryResponse.class);
-        ezspHandlerMap.put(FRAME_ID_FIND_AND_REJOIN_NETWORK, EzspFindAndRejoinNetworkResponse.class);
-        ezspHandlerMap.put(FRAME_ID_FIND_KEY_TABLE_ENTRY, EzspFindKeyTableEntryResponse.class);
-        ezspHandlerMap.put(FRAME_ID_FORM_NETWORK, EzspFormNetworkResponse.class);
-        ezspHandlerMap.put(FRAME_ID_GENERATE_CBKE_KEYS, EzspGenerateCbkeKeysResponse.class);
-        ezspHandlerMap.put(FRAME_ID_GENERATE_CBKE_KEYS283K1, EzspGenerateCbkeKeys283k1Response.class);
-        ezspHandlerMap.put(FRAME_ID_GENERATE_CBKE_KEYS283K1_HANDLER, EzspGenerateCbkeKeys283k1Handler.class);
-        ezspHandlerMap.put(FRAME_ID_GENERATE_CBKE_KEYS_HANDLER, EzspGenerateCbkeKeysHandler.class);
-        ezspHandlerMap.put(FRAME_ID_GET_ADDRESS_TABLE_REMOTE_EUI64, EzspGetAddressTableRemoteEui64Response.class);
-        ezspHandlerMap.put(FRAME_ID_GET_BINDING, EzspGetBindingResponse.class);
-        ezspHandlerMap.put(FRAME_ID_GET_BINDING_REMOTE_NODE_ID, EzspGetBindingRemoteNodeIdResponse.class);
-        ezspHandlerMap.put(FRAME_ID_GET_CERTIFICATE, EzspGetCertificateResponse.class);
-        ezspHandlerMap.put(FRAME_ID_GET_CERTIFICATE283K1, EzspGetCertificate283k1Response.class);
-        ezspHandlerMap.put(FRAME_ID_GET_CHILD_DATA, EzspGetChildDataResponse.class);
-        ezspHandlerMap.put(FRAME_ID_GET_CONFIGURATION_VALUE, EzspGetConfigurationValueResponse.class);
-        ezspHandlerMap.put(FRAME_ID_GET_CURRENT_SECURITY_STATE, EzspGetCurrentSecurityStateResponse.class);
-        ezspHandlerMap.put(FRAME_ID_GET_EUI64, EzspGetEui64Response.class);
-        ezspHandlerMap.put(FRAME_ID_GET_EXTENDED_TIMEOUT, EzspGetExtendedTimeoutResponse.class);
-        ezspHandlerMap.put(FRAME_ID_GET_KEY, EzspGetKeyResponse.class);
-        ezspHandlerMap.put(FRAME_ID_GET_KEY_TABLE_ENTRY, EzspGetKeyTableEntryResponse.class);
-        ezspHandlerMap.put(FRAME_ID_GET_LIBRARY_STATUS, EzspGetLibraryStatusResponse.class);
-        ezspHandlerMap.put(FRAME_ID_GET_MFG_TOKEN, EzspGetMfgTokenResponse.class);
-        ezspHandlerMap.put(FRAME_ID_GET_NEIGHBOR, EzspGetNeighborResponse.class);
-        ezspHandlerMap.put(FRAME_ID_GET_NETWORK_PARAMETERS, EzspGetNetworkParametersResponse.class);
-        ezspHandlerMap.put(FRAME_ID_GET_NODE_ID, EzspGetNodeIdResponse.class);
-        ezspHandlerMap.put(FRAME_ID_GET_PARENT_CHILD_PARAMETERS, EzspGetParentChildParametersResponse.class);
-        ezspHandlerMap.put(FRAME_ID_GET_POLICY, EzspGetPolicyResponse.class);
-        ezspHandlerMap.put(FRAME_ID_GET_ROUTE_TABLE_ENTRY, EzspGetRouteTableEntryResponse.class);
-        ezspHandlerMap.put(FRAME_ID_GET_STANDALONE_BOOTLOADER_VERSION_PLAT_MICRO_PHY, EzspGetStandaloneBootloaderVersionPlatMicroPhyResponse.class);
-        ezspHandlerMap.put(FRAME_ID_GET_TRANSIENT_KEY_TABLE_ENTRY, EzspGetTransientKeyTableEntryResponse.class);
-        ezspHandlerMap.put(FRAME_ID_GET_TRANSIENT_LINK_KEY, EzspGetTransientLinkKeyResponse.class);
-        ezspHandlerMap.put(FRAME_ID_GET_VALUE, EzspGetValueResponse.class);
-        ezspHandlerMap.put(FRAME_ID_GET_XNCP_INFO, EzspGetXncpInfoResponse.class);
-        ezspHandlerMap.put(FRAME_ID_GP_PROXY_TABLE_GET_ENTRY, EzspGpProxyTableGetEntryResponse.class);
-        ezspHandlerMap.put(FRAME_ID_GP_PROXY_TABLE_LOOKUP, EzspGpProxyTableLookupResponse.class);
-        ezspHandlerMap.put(FRAME_ID_GP_PROXY_TABLE_PROCESS_GP_PAIRING, EzspGpProxyTableProcessGpPairingResponse.class);
-        ezspHandlerMap.put(FRAME_ID_GP_SINK_TABLE_CLEAR_ALL, EzspGpSinkTableClearAllResponse.class);
-        ezspHandlerMap.put(FRAME_ID_GP_SINK_TABLE_FIND_OR_ALLOCATE_ENTRY, EzspGpSinkTableFindOrAllocateEntryResponse.class);
-        ezspHandlerMap.put(FRAME_ID_GP_SINK_TABLE_GET_ENTRY, EzspGpSinkTableGetEntryResponse.class);
-        ezspHandlerMap.put(FRAME_ID_GP_SINK_TABLE_INIT, EzspGpSinkTableInitResponse.class);
-        ezspHandlerMap.put(FRAME_ID_GP_SINK_TABLE_LOOKUP, EzspGpSinkTableLookupResponse.class);
-        ezspHandlerMap.put(FRAME_ID_GP_SINK_TABLE_REMOVE_ENTRY, EzspGpSinkTableRemoveEntryResponse.class);
-        ezspHandlerMap.put(FRAME_ID_GP_SINK_TABLE_SET_ENTRY, EzspGpSinkTableSetEntryResponse.class);
-        ezspHandlerMap.put(FRAME_ID_GPEP_INCOMING_MESSAGE_HANDLER, EzspGpepIncomingMessageHandler.class);
-        ezspHandlerMap.put(FRAME_ID_ID_CONFLICT_HANDLER, EzspIdConflictHandler.class);
-        ezspHandlerMap.put(FRAME_ID_INCOMING_MANY_TO_ONE_ROUTE_REQUEST_HANDLER, EzspIncomingManyToOneRouteRequestHandler.class);
-        ezspHandlerMap.put(FRAME_ID_INCOMING_MESSAGE_HANDLER, EzspIncomingMessageHandler.class);
-        ezspHandlerMap.put(FRAME_ID_INCOMING_ROUTE_ERROR_HANDLER, EzspIncomingRouteErrorHandler.class);
-        ezspHandlerMap.put(FRAME_ID_INCOMING_ROUTE_RECORD_HANDLER, EzspIncomingRouteRecordHandler.class);
-        ezspHandlerMap.put(FRAME_ID_INCOMING_SENDER_EUI64_HANDLER, EzspIncomingSenderEui64Handler.class);
-        ezspHandlerMap.put(FRAME_ID_INVALID_COMMAND, EzspInvalidCommandResponse.class);
-        ezspHandlerMap.put(FRAME_ID_JOIN_NETWORK, EzspJoinNetworkResponse.class);
-        ezspHandlerMap.put(FRAME_ID_LAUNCH_STANDALONE_BOOTLOADER, EzspLaunchStandaloneBootloaderResponse.class);
-        ezspHandlerMap.put(FRAME_ID_LEAVE_NETWORK, EzspLeaveNetworkResponse.class);
-        ezspHandlerMap.put(FRAME_ID_LOOKUP_EUI64_BY_NODE_ID, EzspLookupEui64ByNodeIdResponse.class);
-        ezspHandlerMap.put(FRAME_ID_LOOKUP_NODE_ID_BY_EUI64, EzspLookupNodeIdByEui64Response.class);
-        ezspHandlerMap.put(FRAME_ID_MAC_FILTER_MATCH_MESSAGE_HANDLER, EzspMacFilterMatchMessageHandler.class);
-        ezspHandlerMap.put(FRAME_ID_MESSAGE_SENT_HANDLER, EzspMessageSentHandler.class);
-        ezspHandlerMap.put(FRAME_ID_MFGLIB_END, EzspMfglibEndResponse.class);
-        ezspHandlerMap.put(FRAME_ID_MFGLIB_GET_CHANNEL, EzspMfglibGetChannelResponse.class);
-        ezspHandlerMap.put(FRAME_ID_MFGLIB_GET_POWER, EzspMfglibGetPowerResponse.class);
-        ezspHandlerMap.put(FRAME_ID_MFGLIB_RX_HANDLER, EzspMfglibRxHandler.class);
-        ezspHandlerMap.put(FRAME_ID_MFGLIB_SEND_PACKET, EzspMfglibSendPacketResponse.class);
-        ezspHandlerMap.put(FRAME_ID_MFGLIB_SET_CHANNEL, EzspMfglibSetChannelResponse.class);
-        ezspHandlerMap.put(FRAME_ID_MFGLIB_SET_POWER, EzspMfglibSetPowerResponse.class);
-        ezspHandlerMap.put(FRAME_ID_MFGLIB_START, EzspMfglibStartResponse.class);
-        ezspHandlerMap.put(FRAME_ID_MFGLIB_START_STREAM, EzspMfglibStartStreamResponse.class);
-        ezspHandlerMap.put(FRAME_ID_MFGLIB_START_TONE, EzspMfglibStartToneResponse.class);
-        ezspHandlerMap.put(FRAME_ID_MFGLIB_STOP_STREAM, EzspMfglibStopStreamResponse.class);
-        ezspHandlerMap.put(FRAME_ID_MFGLIB_STOP_TONE, EzspMfglibStopToneResponse.class);
-        ezspHandlerMap.put(FRAME_ID_NEIGHBOR_COUNT, EzspNeighborCountResponse.class);
-        ezspHandlerMap.put(FRAME_ID_NETWORK_FOUND_HANDLER, EzspNetworkFoundHandler.class);
-        ezspHandlerMap.put(FRAME_ID_NETWORK_INIT, EzspNetworkInitResponse.class);
-        ezspHandlerMap.put(FRAME_ID_NETWORK_STATE, EzspNetworkStateResponse.class);
-        ezspHandlerMap.put(FRAME_ID_NO_CALLBACKS, EzspNoCallbacksResponse.class);
-        ezspHandlerMap.put(FRAME_ID_NOP, EzspNopResponse.class);
-        ezspHandlerMap.put(FRAME_ID_PERMIT_JOINING, EzspPermitJoiningResponse.class);
-        ezspHandlerMap.put(FRAME_ID_POLL_HANDLER, EzspPollHandler.class);
-        ezspHandlerMap.put(FRAME_ID_READ_AND_CLEAR_COUNTERS, EzspReadAndClearCountersResponse.class);
-        ezspHandlerMap.put(FRAME_ID_READ_COUNTERS, EzspReadCountersResponse.class);
-        ezspHandlerMap.put(FRAME_ID_REMOTE_DELETE_BINDING_HANDLER, EzspRemoteDeleteBindingHandler.class);
-        ezspHandlerMap.put(FRAME_ID_REMOTE_SET_BINDING_HANDLER, EzspRemoteSetBindingHandler.class);
-        ezspHandlerMap.put(FRAME_ID_REMOVE_DEVICE, EzspRemoveDeviceResponse.class);
-        ezspHandlerMap.put(FRAME_ID_REQUEST_LINK_KEY, EzspRequestLinkKeyResponse.class);
-        ezspHandlerMap.put(FRAME_ID_RESET_TO_FACTORY_DEFAULTS, EzspResetToFactoryDefaultsResponse.class);
-        ezspHandlerMap.put(FRAME_ID_SCAN_COMPLETE_HANDLER, EzspScanCompleteHandler.class);
-        ezspHandlerMap.put(FRAME_ID_SEND_BROADCAST, EzspSendBroadcastResponse.class);
-        ezspHandlerMap.put(FRAME_ID_SEND_MANY_TO_ONE_ROUTE_REQUEST, EzspSendManyToOneRouteRequestResponse.class);
-        ezspHandlerMap.put(FRAME_ID_SEND_MULTICAST, EzspSendMulticastResponse.class);
-        ezspHandlerMap.put(FRAME_ID_SEND_REPLY, EzspSendReplyResponse.class);
-        ezspHandlerMap.put(FRAME_ID_SEND_TRUST_CENTER_LINK_KEY, EzspSendTrustCenterLinkKeyResponse.class);
-        ezspHandlerMap.put(FRAME_ID_SEND_UNICAST, EzspSendUnicastResponse.class);
-        ezspHandlerMap.put(FRAME_ID_SET_BINDING, EzspSetBindingResponse.class);
-        ezspHandlerMap.put(FRAME_ID_SET_BINDING_REMOTE_NODE_ID, EzspSetBindingRemoteNodeIdResponse.class);
-        ezspHandlerMap.put(FRAME_ID_SET_CONCENTRATOR, EzspSetConcentratorResponse.class);
-        ezspHandlerMap.put(FRAME_ID_SET_CONFIGURATION_VALUE, EzspSetConfigurationValueResponse.class);
-        ezspHandlerMap.put(FRAME_ID_SET_EXTENDED_TIMEOUT, EzspSetExtendedTimeoutResponse.class);
-        ezspHandlerMap.put(FRAME_ID_SET_INITIAL_SECURITY_STATE, EzspSetInitialSecurityStateResponse.class);
-        ezspHandlerMap.put(FRAME_ID_SET_KEY_TABLE_ENTRY, EzspSetKeyTableEntryResponse.class);
-        ezspHandlerMap.put(FRAME_ID_SET_MANUFACTURER_CODE, EzspSetManufacturerCodeResponse.class);
-        ezspHandlerMap.put(FRAME_ID_SET_POLICY, EzspSetPolicyResponse.class);
-        ezspHandlerMap.put(FRAME_ID_SET_POWER_DESCRIPTOR, EzspSetPowerDescriptorResponse.class);
-        ezspHandlerMap.put(FRAME_ID_SET_PREINSTALLED_CBKE_DATA, EzspSetPreinstalledCbkeDataResponse.class);
-        ezspHandlerMap.put(FRAME_ID_SET_PREINSTALLED_CBKE_DATA283K1, EzspSetPreinstalledCbkeData283k1Response.class);
-        ezspHandlerMap.put(FRAME_ID_SET_RADIO_CHANNEL, EzspSetRadioChannelResponse.class);
-        ezspHandlerMap.put(FRAME_ID_SET_RADIO_POWER, EzspSetRadioPowerResponse.class);
-        ezspHandlerMap.put(FRAME_ID_SET_SOURCE_ROUTE, EzspSetSourceRouteResponse.class);
-        ezspHandlerMap.put(FRAME_ID_SET_VALUE, EzspSetValueResponse.class);
-        ezspHandlerMap.put(FRAME_ID_STACK_STATUS_HANDLER, EzspStackStatusHandler.class);
-        ezspHandlerMap.put(FRAME_ID_STACK_TOKEN_CHANGED_HANDLER, EzspStackTokenChangedHandler.class);
-        ezspHandlerMap.put(FRAME_ID_START_SCAN, EzspStartScanResponse.class);
-        ezspHandlerMap.put(FRAME_ID_STOP_SCAN, EzspStopScanResponse.class);
-        ezspHandlerMap.put(FRAME_ID_SWITCH_NETWORK_KEY_HANDLER, EzspSwitchNetworkKeyHandler.class);
-        ezspHandlerMap.put(FRAME_ID_TRUST_CENTER_JOIN_HANDLER, EzspTrustCenterJoinHandler.class);
-        ezspHandlerMap.put(FRAME_ID_VERSION, EzspVersionResponse.class);
-        ezspHandlerMap.put(FRAME_ID_ZIGBEE_KEY_ESTABLISHMENT_HANDLER, EzspZigbeeKeyEstablishmentHandler.class);
-    }
-
     /**
      * Sets the 8 bit transaction sequence number
      *
@@ -413,35 +264,314 @@ public abstract class EzspFrame {
      * @return the {@link EzspFrameResponse} or null if the response can't be created.
      */
     public static EzspFrameResponse createHandler(int[] data) {
-        Class<?> ezspClass = null;
-
         try {
-            if (data[2] != 0xFF) {
-                ezspClass = ezspHandlerMap.get(data[2]);
+            if (data[2] != EZSP_LEGACY_FRAME_ID) {
+                return createHandler(data[2], data);
             } else {
-                ezspClass = ezspHandlerMap.get(data[4]);
+                return createHandler(data[4], data);
             }
-        } catch (ArrayIndexOutOfBoundsException e) {
-            logger.debug("Error detecting the EZSP frame type", e);
-        }
-
-        if (ezspClass == null) {
-            return null;
-        }
-
-        Constructor<?> ctor;
-        try {
-            ctor = ezspClass.getConstructor(int[].class);
-            EzspFrameResponse ezspFrame = (EzspFrameResponse) ctor.newInstance(data);
-            return ezspFrame;
-        } catch (SecurityException | NoSuchMethodException | IllegalArgumentException | InstantiationException
-                | IllegalAccessException | InvocationTargetException e) {
+        } catch (RuntimeException e) {
             logger.debug("Error creating instance of EzspFrame", e);
         }
 
         return null;
     }
 
+    /**
+     * Dispatch table of the response frames, indexed by the frame ID. The response is constructed directly
+     * so that no reflection is required for each received frame.
+     *
+     * @param frameId the EZSP frame ID
+     * @param data the int[] containing the EZSP data from which to generate the frame
+     * @return the {@link EzspFrameResponse} or null if the frame ID is unknown
+     */
+    private static EzspFrameResponse createHandler(int frameId, int[] data) {
+        switch (frameId) {
+            case FRAME_ID_ADD_ENDPOINT:
+                return new EzspAddEndpointResponse(data);
+            case FRAME_ID_ADD_OR_UPDATE_KEY_TABLE_ENTRY:
+                return new EzspAddOrUpdateKeyTableEntryResponse(data);
+            case FRAME_ID_ADD_TRANSIENT_LINK_KEY:
+                return new EzspAddTransientLinkKeyResponse(data);
+            case FRAME_ID_AES_MMO_HASH:
+                return new EzspAesMmoHashResponse(data);
+            case FRAME_ID_BECOME_TRUST_CENTER:
+                return new EzspBecomeTrustCenterResponse(data);
+            case FRAME_ID_BINDING_IS_ACTIVE:
+                return new EzspBindingIsActiveResponse(data);
+            case FRAME_ID_CALCULATE_SMACS:
+                return new EzspCalculateSmacsResponse(data);
+            case FRAME_ID_CALCULATE_SMACS283K1:
+                return new EzspCalculateSmacs283k1Response(data);
+            case FRAME_ID_CALCULATE_SMACS283K1_HANDLER:
+                return new EzspCalculateSmacs283k1Handler(data);
+            case FRAME_ID_CALCULATE_SMACS_HANDLER:
+                return new EzspCalculateSmacsHandler(data);
+            case FRAME_ID_CALLBACK:
+                return new EzspCallbackResponse(data);
+            case FRAME_ID_CHANGE_SOURCE_ROUTE_HANDLER:
+                return new EzspChangeSourceRouteHandler(data);
+            case FRAME_ID_CHILD_JOIN_HANDLER:
+                return new EzspChildJoinHandler(data);
+            case FRAME_ID_CLEAR_BINDING_TABLE:
+                return new EzspClearBindingTableResponse(data);
+            case FRAME_ID_CLEAR_KEY_TABLE:
+                return new EzspClearKeyTableResponse(data);
+            case FRAME_ID_CLEAR_TEMPORARY_DATA_MAYBE_STORE_LINK_KEY:
+                return new EzspClearTemporaryDataMaybeStoreLinkKeyResponse(data);
+            case FRAME_ID_CLEAR_TEMPORARY_DATA_MAYBE_STORE_LINK_KEY283K1:
+                return new EzspClearTemporaryDataMaybeStoreLinkKey283k1Response(data);
+            case FRAME_ID_CLEAR_TRANSIENT_LINK_KEYS:
+                return new EzspClearTransientLinkKeysResponse(data);
+            case FRAME_ID_COUNTER_ROLLOVER_HANDLER:
+                return new EzspCounterRolloverHandler(data);
+            case FRAME_ID_D_GP_SEND:
+                return new EzspDGpSendResponse(data);
+            case FRAME_ID_D_GP_SENT_HANDLER:
+                return new EzspDGpSentHandler(data);
+            case FRAME_ID_DELETE_BINDING:
+                return new EzspDeleteBindingResponse(data);
+            case FRAME_ID_ENERGY_SCAN_REQUEST:
+                return new EzspEnergyScanRequestResponse(data);
+            case FRAME_ID_ENERGY_SCAN_RESULT_HANDLER:
+                return new EzspEnergyScanResultHandler(data);
+            case FRAME_ID_ERASE_KEY_TABLE_ENTRY:
+                return new EzspEraseKeyTableEntryResponse(data);
+            case FRAME_ID_FIND_AND_REJOIN_NETWORK:
+                return new EzspFindAndRejoinNetworkResponse(data);
+            case FRAME_ID_FIND_KEY_TABLE_ENTRY:
+                return new EzspFindKeyTableEntryResponse(data);
+            case FRAME_ID_FORM_NETWORK:
+                return new EzspFormNetworkResponse(data);
+            case FRAME_ID_GENERATE_CBKE_KEYS:
+                return new EzspGenerateCbkeKeysResponse(data);
+            case FRAME_ID_GENERATE_CBKE_KEYS283K1:
+                return new EzspGenerateCbkeKeys283k1Response(data);
+            case FRAME_ID_GENERATE_CBKE_KEYS283K1_HANDLER:
+                return new EzspGenerateCbkeKeys283k1Handler(data);
+            case FRAME_ID_GENERATE_CBKE_KEYS_HANDLER:
+                return new EzspGenerateCbkeKeysHandler(data);
+            case FRAME_ID_GET_ADDRESS_TABLE_REMOTE_EUI64:
+                return new EzspGetAddressTableRemoteEui64Response(data);
+            case FRAME_ID_GET_BINDING:
+                return new EzspGetBindingResponse(data);
+            case FRAME_ID_GET_BINDING_REMOTE_NODE_ID:
+                return new EzspGetBindingRemoteNodeIdResponse(data);
+            case FRAME_ID_GET_CERTIFICATE:
+                return new EzspGetCertificateResponse(data);
+            case FRAME_ID_GET_CERTIFICATE283K1:
+                return new EzspGetCertificate283k1Response(data);
+            case FRAME_ID_GET_CHILD_DATA:
+                return new EzspGetChildDataResponse(data);
+            case FRAME_ID_GET_CONFIGURATION_VALUE:
+                return new EzspGetConfigurationValueResponse(data);
+            case FRAME_ID_GET_CURRENT_SECURITY_STATE:
+                return new EzspGetCurrentSecurityStateResponse(data);
+            case FRAME_ID_GET_EUI64:
+                return new EzspGetEui64Response(data);
+            case FRAME_ID_GET_EXTENDED_TIMEOUT:
+                return new EzspGetExtendedTimeoutResponse(data);
+            case FRAME_ID_GET_KEY:
+                return new EzspGetKeyResponse(data);
+            case FRAME_ID_GET_KEY_TABLE_ENTRY:
+                return new EzspGetKeyTableEntryResponse(data);
+            case FRAME_ID_GET_LIBRARY_STATUS:
+                return new EzspGetLibraryStatusResponse(data);
+            case FRAME_ID_GET_MFG_TOKEN:
+                return new EzspGetMfgTokenResponse(data);
+            case FRAME_ID_GET_NEIGHBOR:
+                return new EzspGetNeighborResponse(data);
+            case FRAME_ID_GET_NETWORK_PARAMETERS:
+                return new EzspGetNetworkParametersResponse(data);
+            case FRAME_ID_GET_NODE_ID:
+                return new EzspGetNodeIdResponse(data);
+            case FRAME_ID_GET_PARENT_CHILD_PARAMETERS:
+                return new EzspGetParentChildParametersResponse(data);
+            case FRAME_ID_GET_POLICY:
+                return new EzspGetPolicyResponse(data);
+            case FRAME_ID_GET_ROUTE_TABLE_ENTRY:
+                return new EzspGetRouteTableEntryResponse(data);
+            case FRAME_ID_GET_STANDALONE_BOOTLOADER_VERSION_PLAT_MICRO_PHY:
+                return new EzspGetStandaloneBootloaderVersionPlatMicroPhyResponse(data);
+            case FRAME_ID_GET_TRANSIENT_KEY_TABLE_ENTRY:
+                return new EzspGetTransientKeyTableEntryResponse(data);
+            case FRAME_ID_GET_TRANSIENT_LINK_KEY:
+                return new EzspGetTransientLinkKeyResponse(data);
+            case FRAME_ID_GET_VALUE:
+                return new EzspGetValueResponse(data);
+            case FRAME_ID_GET_XNCP_INFO:
+                return new EzspGetXncpInfoResponse(data);
+            case FRAME_ID_GP_PROXY_TABLE_GET_ENTRY:
+                return new EzspGpProxyTableGetEntryResponse(data);
+            case FRAME_ID_GP_PROXY_TABLE_LOOKUP:
+                return new EzspGpProxyTableLookupResponse(data);
+            case FRAME_ID_GP_PROXY_TABLE_PROCESS_GP_PAIRING:
+                return new EzspGpProxyTableProcessGpPairingResponse(data);
+            case FRAME_ID_GP_SINK_TABLE_CLEAR_ALL:
+                return new EzspGpSinkTableClearAllResponse(data);
+            case FRAME_ID_GP_SINK_TABLE_FIND_OR_ALLOCATE_ENTRY:
+                return new EzspGpSinkTableFindOrAllocateEntryResponse(data);
+            case FRAME_ID_GP_SINK_TABLE_GET_ENTRY:
+                return new EzspGpSinkTableGetEntryResponse(data);
+            case FRAME_ID_GP_SINK_TABLE_INIT:
+                return new EzspGpSinkTableInitResponse(data);
+            case FRAME_ID_GP_SINK_TABLE_LOOKUP:
+                return new EzspGpSinkTableLookupResponse(data);
+            case FRAME_ID_GP_SINK_TABLE_REMOVE_ENTRY:
+                return new EzspGpSinkTableRemoveEntryResponse(data);
+            case FRAME_ID_GP_SINK_TABLE_SET_ENTRY:
+                return new EzspGpSinkTableSetEntryResponse(data);
+            case FRAME_ID_GPEP_INCOMING_MESSAGE_HANDLER:
+                return new EzspGpepIncomingMessageHandler(data);
+            case FRAME_ID_ID_CONFLICT_HANDLER:
+                return new EzspIdConflictHandler(data);
+            case FRAME_ID_INCOMING_MANY_TO_ONE_ROUTE_REQUEST_HANDLER:
+                return new EzspIncomingManyToOneRouteRequestHandler(data);
+            case FRAME_ID_INCOMING_MESSAGE_HANDLER:
+                return new EzspIncomingMessageHandler(data);
+            case FRAME_ID_INCOMING_ROUTE_ERROR_HANDLER:
+                return new EzspIncomingRouteErrorHandler(data);
+            case FRAME_ID_INCOMING_ROUTE_RECORD_HANDLER:
+                return new EzspIncomingRouteRecordHandler(data);
+            case FRAME_ID_INCOMING_SENDER_EUI64_HANDLER:
+                return new EzspIncomingSenderEui64Handler(data);
+            case FRAME_ID_INVALID_COMMAND:
+                return new EzspInvalidCommandResponse(data);
+            case FRAME_ID_JOIN_NETWORK:
+                return new EzspJoinNetworkResponse(data);
+            case FRAME_ID_LAUNCH_STANDALONE_BOOTLOADER:
+                return new EzspLaunchStandaloneBootloaderResponse(data);
+            case FRAME_ID_LEAVE_NETWORK:
+                return new EzspLeaveNetworkResponse(data);
+            case FRAME_ID_LOOKUP_EUI64_BY_NODE_ID:
+                return new EzspLookupEui64ByNodeIdResponse(data);
+            case FRAME_ID_LOOKUP_NODE_ID_BY_EUI64:
+                return new EzspLookupNodeIdByEui64Response(data);
+            case FRAME_ID_MAC_FILTER_MATCH_MESSAGE_HANDLER:
+                return new EzspMacFilterMatchMessageHandler(data);
+            case FRAME_ID_MESSAGE_SENT_HANDLER:
+                return new EzspMessageSentHandler(data);
+            case FRAME_ID_MFGLIB_END:
+                return new EzspMfglibEndResponse(data);
+            case FRAME_ID_MFGLIB_GET_CHANNEL:
+                return new EzspMfglibGetChannelResponse(data);
+            case FRAME_ID_MFGLIB_GET_POWER:
+                return new EzspMfglibGetPowerResponse(data);
+            case FRAME_ID_MFGLIB_RX_HANDLER:
+                return new EzspMfglibRxHandler(data);
+            case FRAME_ID_MFGLIB_SEND_PACKET:
+                return new EzspMfglibSendPacketResponse(data);
+            case FRAME_ID_MFGLIB_SET_CHANNEL:
+                return new EzspMfglibSetChannelResponse(data);
+            case FRAME_ID_MFGLIB_SET_POWER:
+                return new EzspMfglibSetPowerResponse(data);
+            case FRAME_ID_MFGLIB_START:
+                return new EzspMfglibStartResponse(data);
+            case FRAME_ID_MFGLIB_START_STREAM:
+                return new EzspMfglibStartStreamResponse(data);
+            case FRAME_ID_MFGLIB_START_TONE:
+                return new EzspMfglibStartToneResponse(data);
+            case FRAME_ID_MFGLIB_STOP_STREAM:
+                return new EzspMfglibStopStreamResponse(data);
+            case FRAME_ID_MFGLIB_STOP_TONE:
+                return new EzspMfglibStopToneResponse(data);
+            case FRAME_ID_NEIGHBOR_COUNT:
+                return new EzspNeighborCountResponse(data);
+            case FRAME_ID_NETWORK_FOUND_HANDLER:
+                return new EzspNetworkFoundHandler(data);
+            case FRAME_ID_NETWORK_INIT:
+                return new EzspNetworkInitResponse(data);
+            case FRAME_ID_NETWORK_STATE:
+                return new EzspNetworkStateResponse(data);
+            case FRAME_ID_NO_CALLBACKS:
+                return new EzspNoCallbacksResponse(data);
+            case FRAME_ID_NOP:
+                return new EzspNopResponse(data);
+            case FRAME_ID_PERMIT_JOINING:
+                return new EzspPermitJoiningResponse(data);
+            case FRAME_ID_POLL_HANDLER:
+                return new EzspPollHandler(data);
+            case FRAME_ID_READ_AND_CLEAR_COUNTERS:
+                return new EzspReadAndClearCountersResponse(data);
+            case FRAME_ID_READ_COUNTERS:
+                return new EzspReadCountersResponse(data);
+            case FRAME_ID_REMOTE_DELETE_BINDING_HANDLER:
+                return new EzspRemoteDeleteBindingHandler(data);
+            case FRAME_ID_REMOTE_SET_BINDING_HANDLER:
+                return new EzspRemoteSetBindingHandler(data);
+            case FRAME_ID_REMOVE_DEVICE:
+                return new EzspRemoveDeviceResponse(data);
+            case FRAME_ID_REQUEST_LINK_KEY:
+                return new EzspRequestLinkKeyResponse(data);
+            case FRAME_ID_RESET_TO_FACTORY_DEFAULTS:
+                return new EzspResetToFactoryDefaultsResponse(data);
+            case FRAME_ID_SCAN_COMPLETE_HANDLER:
+                return new EzspScanCompleteHandler(data);
+            case FRAME_ID_SEND_BROADCAST:
+                return new EzspSendBroadcastResponse(data);
+            case FRAME_ID_SEND_MANY_TO_ONE_ROUTE_REQUEST:
+                return new EzspSendManyToOneRouteRequestResponse(data);
+            case FRAME_ID_SEND_MULTICAST:
+                return new EzspSendMulticastResponse(data);
+            case FRAME_ID_SEND_REPLY:
+                return new EzspSendReplyResponse(data);
+            case FRAME_ID_SEND_TRUST_CENTER_LINK_KEY:
+                return new EzspSendTrustCenterLinkKeyResponse(data);
+            case FRAME_ID_SEND_UNICAST:
+                return new EzspSendUnicastResponse(data);
+            case FRAME_ID_SET_BINDING:
+                return new EzspSetBindingResponse(data);
+            case FRAME_ID_SET_BINDING_REMOTE_NODE_ID:
+                return new EzspSetBindingRemoteNodeIdResponse(data);
+            case FRAME_ID_SET_CONCENTRATOR:
+                return new EzspSetConcentratorResponse(data);
+            case FRAME_ID_SET_CONFIGURATION_VALUE:
+                return new EzspSetConfigurationValueResponse(data);
+            case FRAME_ID_SET_EXTENDED_TIMEOUT:
+                return new EzspSetExtendedTimeoutResponse(data);
+            case FRAME_ID_SET_INITIAL_SECURITY_STATE:
+                return new EzspSetInitialSecurityStateResponse(data);
+            case FRAME_ID_SET_KEY_TABLE_ENTRY:
+                return new EzspSetKeyTableEntryResponse(data);
+            case FRAME_ID_SET_MANUFACTURER_CODE:
+                return new EzspSetManufacturerCodeResponse(data);
+            case FRAME_ID_SET_POLICY:
+                return new EzspSetPolicyResponse(data);
+            case FRAME_ID_SET_POWER_DESCRIPTOR:
+                return new EzspSetPowerDescriptorResponse(data);
+            case FRAME_ID_SET_PREINSTALLED_CBKE_DATA:
+                return new EzspSetPreinstalledCbkeDataResponse(data);
+            case FRAME_ID_SET_PREINSTALLED_CBKE_DATA283K1:
+                return new EzspSetPreinstalledCbkeData283k1Response(data);
+            case FRAME_ID_SET_RADIO_CHANNEL:
+                return new EzspSetRadioChannelResponse(data);
+            case FRAME_ID_SET_RADIO_POWER:
+                return new EzspSetRadioPowerResponse(data);
+            case FRAME_ID_SET_SOURCE_ROUTE:
+                return new EzspSetSourceRouteResponse(data);
+            case FRAME_ID_SET_VALUE:
+                return new EzspSetValueResponse(data);
+            case FRAME_ID_STACK_STATUS_HANDLER:
+                return new EzspStackStatusHandler(data);
+            case FRAME_ID_STACK_TOKEN_CHANGED_HANDLER:
+                return new EzspStackTokenChangedHandler(data);
+            case FRAME_ID_START_SCAN:
+                return new EzspStartScanResponse(data);
+            case FRAME_ID_STOP_SCAN:
+                return new EzspStopScanResponse(data);
+            case FRAME_ID_SWITCH_NETWORK_KEY_HANDLER:
+                return new EzspSwitchNetworkKeyHandler(data);
+            case FRAME_ID_TRUST_CENTER_JOIN_HANDLER:
+                return new EzspTrustCenterJoinHandler(data);
+            case FRAME_ID_VERSION:
+                return new EzspVersionResponse(data);
+            case FRAME_ID_ZIGBEE_KEY_ESTABLISHMENT_HANDLER:
+                return new EzspZigbeeKeyEstablishmentHandler(data);
+            default:
+                return null;
+        }
+    }
+
     /**
      * Set the EZSP version to use
      *
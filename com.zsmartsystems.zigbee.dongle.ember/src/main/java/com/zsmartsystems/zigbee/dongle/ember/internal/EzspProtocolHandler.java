@@ -15,6 +15,7 @@ import com.zsmartsystems.zigbee.dongle.ember.ezsp.EzspFrameRequest;
 import com.zsmartsystems.zigbee.dongle.ember.ezsp.EzspFrameResponse;
 import com.zsmartsystems.zigbee.dongle.ember.internal.transaction.EzspTransaction;
 import com.zsmartsystems.zigbee.transport.ZigBeePort;
+import com.zsmartsystems.zigbee.transport.ZigBeeWireTrace;
 
 /**
  * Interface for the EZSP protocol handler. The protocol handler manages the low level data transfer of EZSP frames.
@@ -32,6 +33,13 @@ public interface EzspProtocolHandler {
      */
     public void start(final ZigBeePort port);
 
+    /**
+     * Sets the {@link ZigBeeWireTrace} used to record the frames exchanged with the NCP.
+     *
+     * @param wireTrace the {@link ZigBeeWireTrace} to record frames, or null to disable tracing
+     */
+    public void setWireTrace(ZigBeeWireTrace wireTrace);
+
     /**
      * Set the close flag to true.
      */
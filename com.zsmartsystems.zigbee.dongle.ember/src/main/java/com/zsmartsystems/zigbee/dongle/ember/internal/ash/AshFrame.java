@@ -185,13 +185,16 @@ public class AshFrame {
             return null;
         }
 
+        // Data frames are decoded directly from the unstuffed buffer to avoid copying the frame twice
+        if (frameType == FrameType.DATA) {
+            dataRandomise(unstuffedData, 1, outLength);
+            return new AshFrameData(unstuffedData, outLength);
+        }
+
         int[] frameBuffer = Arrays.copyOfRange(unstuffedData, 0, outLength);
         switch (frameType) {
             case ACK:
                 return new AshFrameAck(frameBuffer);
-            case DATA:
-                dataRandomise(frameBuffer, 1, frameBuffer.length);
-                return new AshFrameData(frameBuffer);
             case ERROR:
                 return new AshFrameError(frameBuffer);
             case NAK:
@@ -34,10 +34,20 @@ public class AshFrameData extends AshFrame {
      * @param frameBuffer the incoming data buffer
      */
     public AshFrameData(int[] frameBuffer) {
+        this(frameBuffer, frameBuffer.length);
+    }
+
+    /**
+     * Constructor taking an incoming data buffer that may be longer than the frame
+     *
+     * @param frameBuffer the incoming data buffer
+     * @param frameLength the number of bytes in the buffer that make up the frame, including the CRC
+     */
+    AshFrameData(int[] frameBuffer, int frameLength) {
         frameType = FrameType.DATA;
 
         processHeader(frameBuffer);
-        dataBuffer = Arrays.copyOfRange(frameBuffer, 1, frameBuffer.length - 2);
+        dataBuffer = Arrays.copyOfRange(frameBuffer, 1, frameLength - 2);
     }
 
     public void setReTx() {
@@ -8,16 +8,12 @@
 package com.zsmartsystems.zigbee.dongle.ember.internal.ash;
 
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.List;
 import java.util.Map;
 import java.util.Queue;
-import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
@@ -34,7 +30,9 @@ import com.zsmartsystems.zigbee.dongle.ember.ezsp.EzspFrameResponse;
 import com.zsmartsystems.zigbee.dongle.ember.internal.EzspFrameHandler;
 import com.zsmartsystems.zigbee.dongle.ember.internal.EzspProtocolHandler;
 import com.zsmartsystems.zigbee.dongle.ember.internal.transaction.EzspTransaction;
+import com.zsmartsystems.zigbee.dongle.ember.internal.transaction.EzspTransactionIndex;
 import com.zsmartsystems.zigbee.transport.ZigBeePort;
+import com.zsmartsystems.zigbee.transport.ZigBeeWireTrace;
 
 /**
  * Frame parser for the Silicon Labs Asynchronous Serial Host (ASH) protocol.
@@ -73,10 +71,16 @@ public class AshFrameHandler implements EzspProtocolHandler {
     private final int ACK_TIMEOUTS = 4;
     private int retries = 0;
 
+    /**
+     * The maximum transmit window size supported by the ASH protocol. Frame numbers are 3 bits, so no more than 7
+     * frames may be outstanding at any time.
+     */
+    private final int TX_WINDOW_MAX = 7;
+
     /**
      * Maximum number of DATA frames we can transmit without an ACK
      */
-    private final int TX_WINDOW = 1;
+    private int txWindow = 1;
 
     private long sentTime;
 
@@ -115,8 +119,10 @@ public class AshFrameHandler implements EzspProtocolHandler {
 
     private boolean stateConnected = false;
 
-    private ExecutorService executor = ZigBeeExecutors.newCachedThreadPool("AshExecutor");
-    private final List<AshListener> transactionListeners = new ArrayList<AshListener>();
+    /**
+     * The transactions waiting for a response from the NCP
+     */
+    private final EzspTransactionIndex transactionIndex = new EzspTransactionIndex();
 
     /**
      * The packet handler.
@@ -128,6 +134,11 @@ public class AshFrameHandler implements EzspProtocolHandler {
      */
     private ZigBeePort port;
 
+    /**
+     * The {@link ZigBeeWireTrace} used to record frames, or null if tracing is disabled
+     */
+    private ZigBeeWireTrace wireTrace;
+
     /**
      * The parser parserThread.
      */
@@ -148,6 +159,29 @@ public class AshFrameHandler implements EzspProtocolHandler {
         this.frameHandler = frameHandler;
     }
 
+    /**
+     * Sets the maximum number of DATA frames that may be outstanding (sent but not acknowledged) at any time. A window
+     * of 1 provides stop-and-wait operation. Larger windows allow frames to be pipelined to the NCP, with go-back-N
+     * retransmission of all unacknowledged frames on a NAK or timeout.
+     *
+     * @param txWindow the transmit window size (1 to 7)
+     * @return true if the window size was set
+     */
+    public boolean setTxWindow(int txWindow) {
+        if (txWindow < 1 || txWindow > TX_WINDOW_MAX) {
+            logger.debug("ASH: Invalid TX window size {}", txWindow);
+            return false;
+        }
+        logger.debug("ASH: TX window size set to {}", txWindow);
+        this.txWindow = txWindow;
+        return true;
+    }
+
+    @Override
+    public void setWireTrace(ZigBeeWireTrace wireTrace) {
+        this.wireTrace = wireTrace;
+    }
+
     @Override
     public void start(final ZigBeePort port) {
         this.port = port;
@@ -165,6 +199,9 @@ public class AshFrameHandler implements EzspProtocolHandler {
                         if (packetData == null) {
                             continue;
                         }
+                        if (wireTrace != null) {
+                            wireTrace.traceRx(packetData);
+                        }
 
                         final AshFrame packet = AshFrame.createFromInput(packetData);
                         AshFrame responseFrame = null;
@@ -221,6 +258,8 @@ public class AshFrameHandler implements EzspProtocolHandler {
                                     break;
                                 case NAK:
                                     statsRxNaks++;
+                                    // The NAK acknowledges all frames prior to ackNum - resend the remainder
+                                    ackSentQueue(packet.getAckNum());
                                     sendRetry();
                                     break;
                                 case RSTACK:
@@ -279,7 +318,9 @@ public class AshFrameHandler implements EzspProtocolHandler {
 
         while (!closeHandler) {
             int val = port.read();
-            logger.trace("ASH RX: {}", String.format("%02X", val));
+            if (logger.isTraceEnabled()) {
+                logger.trace("ASH RX: {}", String.format("%02X", val));
+            }
             switch (val) {
                 case ASH_CANCEL_BYTE:
                     // Cancel Byte: Terminates a frame in progress. A Cancel Byte causes all data received since the
@@ -371,7 +412,6 @@ public class AshFrameHandler implements EzspProtocolHandler {
 
     @Override
     public void setClosing() {
-        executor.shutdown();
         closeHandler = true;
     }
 
@@ -390,7 +430,6 @@ public class AshFrameHandler implements EzspProtocolHandler {
         frameHandler.handleLinkStateChange(false);
 
         timer.shutdownNow();
-        executor.shutdownNow();
 
         try {
             parserThread.interrupt();
@@ -408,35 +447,40 @@ public class AshFrameHandler implements EzspProtocolHandler {
 
     // Synchronize this method so we can do the window check without interruption.
     // Otherwise this method could be called twice from different threads that could end up with
-    // more than the TX_WINDOW number of frames sent.
+    // more than the txWindow number of frames sent.
     private synchronized boolean sendNextFrame() {
-        // We're not allowed to send if we're not connected
-        if (!stateConnected) {
-            return false;
-        }
+        boolean sent = false;
 
-        // Check how many frames are outstanding
-        if (sentQueue.size() >= TX_WINDOW) {
-            // check timer task
-            if (timerFuture == null) {
-                startRetryTimer();
+        // Fill the transmit window
+        while (true) {
+            // We're not allowed to send if we're not connected
+            if (!stateConnected) {
+                return sent;
             }
-            return false;
-        }
 
-        EzspFrameRequest nextFrame = sendQueue.poll();
-        if (nextFrame == null) {
-            // Nothing to send
-            return false;
-        }
+            // Check how many frames are outstanding
+            if (sentQueue.size() >= txWindow) {
+                // check timer task
+                if (timerFuture == null) {
+                    startRetryTimer();
+                }
+                return sent;
+            }
 
-        // Encapsulate the EZSP frame into the ASH packet
-        logger.trace("TX ASH EZSP: {}", nextFrame);
-        AshFrameData ashFrame = new AshFrameData(nextFrame);
+            EzspFrameRequest nextFrame = sendQueue.poll();
+            if (nextFrame == null) {
+                // Nothing to send
+                return sent;
+            }
 
-        retries = 0;
-        sendFrame(ashFrame);
-        return true;
+            // Encapsulate the EZSP frame into the ASH packet
+            logger.trace("TX ASH EZSP: {}", nextFrame);
+            AshFrameData ashFrame = new AshFrameData(nextFrame);
+
+            retries = 0;
+            sendFrame(ashFrame);
+            sent = true;
+        }
     }
 
     private synchronized void sendFrame(AshFrame ashFrame) {
@@ -463,16 +507,21 @@ public class AshFrameHandler implements EzspProtocolHandler {
         outputFrame(ashFrame);
     }
 
-    private void sendRetry() {
+    /**
+     * Resends all unacknowledged frames in the sent queue in order. The NCP discards any out of sequence frames, so
+     * all frames following the first unacknowledged frame must be resent.
+     */
+    private synchronized void sendRetry() {
         logger.debug("ASH: Retry Sent Queue Length {}", sentQueue.size());
-        AshFrameData ashFrame = sentQueue.peek();
-        if (ashFrame == null) {
+        if (sentQueue.isEmpty()) {
             logger.debug("ASH: Retry nothing to resend!");
             return;
         }
 
-        ashFrame.setReTx();
-        outputFrame(ashFrame);
+        for (AshFrameData ashFrame : sentQueue) {
+            ashFrame.setReTx();
+            outputFrame(ashFrame);
+        }
     }
 
     // Synchronize this method to ensure a packet gets sent as a block
@@ -480,9 +529,15 @@ public class AshFrameHandler implements EzspProtocolHandler {
         ashFrame.setAckNum(ackNum);
         logger.debug("--> TX ASH frame: {}", ashFrame);
 
-        // Send the data
-        for (int outByte : ashFrame.getOutputBuffer()) {
-            port.write(outByte);
+        // Send the data as a single block
+        int[] outputBuffer = ashFrame.getOutputBuffer();
+        byte[] outputBytes = new byte[outputBuffer.length];
+        for (int cnt = 0; cnt < outputBuffer.length; cnt++) {
+            outputBytes[cnt] = (byte) outputBuffer[cnt];
+        }
+        port.write(outputBytes, 0, outputBytes.length);
+        if (wireTrace != null) {
+            wireTrace.traceTx(outputBuffer);
         }
 
         // Only start the timer for data and reset frames
@@ -530,11 +585,30 @@ public class AshFrameHandler implements EzspProtocolHandler {
 
     /**
      * Acknowledge frames we've sent and removes the from the sent queue.
-     * This method is called for each DATA or ACK frame where we have the 'ack' property.
+     * This method is called for each DATA, ACK or NAK frame where we have the 'ack' property.
+     * <p>
+     * The ackNum is the number of the next frame the NCP expects to receive, so all frames before this are
+     * acknowledged. An ackNum that does not fall within the outstanding window (eg a stale or duplicate ACK) is
+     * ignored.
      *
      * @param ackNum the last ack from the NCP
      */
-    private void ackSentQueue(int ackNum) {
+    private synchronized void ackSentQueue(int ackNum) {
+        AshFrameData firstFrame = sentQueue.peek();
+        if (firstFrame == null) {
+            return;
+        }
+
+        int ackedFrames = (ackNum - firstFrame.getFrmNum()) & 0x07;
+        if (ackedFrames == 0) {
+            return;
+        }
+        if (ackedFrames > sentQueue.size()) {
+            logger.debug("ASH: Ignoring ackNum {} outside of sent window [{}, size {}]", ackNum,
+                    firstFrame.getFrmNum(), sentQueue.size());
+            return;
+        }
+
         // Handle the timer if it's running
         if (sentTime != 0) {
             stopRetryTimer();
@@ -549,10 +623,18 @@ public class AshFrameHandler implements EzspProtocolHandler {
             sentTime = 0;
         }
 
-        while (sentQueue.peek() != null && sentQueue.peek().getFrmNum() != ackNum) {
+        for (int cnt = 0; cnt < ackedFrames; cnt++) {
             AshFrameData ackedFrame = sentQueue.poll();
             logger.debug("ASH: Frame acked and removed {}", ackedFrame);
         }
+
+        // Frames are still outstanding - keep the retry timer running for them
+        retries = 0;
+        if (!sentQueue.isEmpty()) {
+            startRetryTimer();
+        } else {
+            stopRetryTimer();
+        }
     }
 
     private synchronized void startRetryTimer() {
@@ -575,7 +657,7 @@ public class AshFrameHandler implements EzspProtocolHandler {
     private class AshRetryTimer implements Runnable {
         @Override
         public void run() {
-            // Resend the first message in the sentQueue
+            // Resend the messages in the sentQueue
             if (stateConnected && sentQueue.isEmpty()) {
                 return;
             }
@@ -621,11 +703,7 @@ public class AshFrameHandler implements EzspProtocolHandler {
      * Aborts all waiting transactions
      */
     private void clearTransactionQueue() {
-        synchronized (transactionListeners) {
-            for (AshListener listener : transactionListeners) {
-                listener.transactionComplete();
-            }
-        }
+        transactionIndex.clear();
     }
 
     /**
@@ -635,33 +713,7 @@ public class AshFrameHandler implements EzspProtocolHandler {
      * @return true if the response was processed
      */
     private boolean notifyTransactionComplete(final EzspFrameResponse response) {
-        boolean processed = false;
-
-        synchronized (transactionListeners) {
-            for (AshListener listener : transactionListeners) {
-                if (listener.transactionEvent(response)) {
-                    processed = true;
-                }
-            }
-        }
-
-        return processed;
-    }
-
-    private void addTransactionListener(AshListener listener) {
-        synchronized (transactionListeners) {
-            if (transactionListeners.contains(listener)) {
-                return;
-            }
-
-            transactionListeners.add(listener);
-        }
-    }
-
-    private void removeTransactionListener(AshListener listener) {
-        synchronized (transactionListeners) {
-            transactionListeners.remove(listener);
-        }
+        return transactionIndex.notifyResponse(response);
     }
 
     @Override
@@ -671,59 +723,10 @@ public class AshFrameHandler implements EzspProtocolHandler {
             return null;
         }
 
-        class TransactionWaiter implements Callable<EzspFrame>, AshListener {
-            // private EzspFrame response = null;
-            private boolean complete = false;
-
-            @Override
-            public EzspFrame call() {
-                // Register a listener
-                addTransactionListener(this);
-
-                // Send the transaction
-                queueFrame(ezspTransaction.getRequest());
-
-                // Wait for the transaction to complete
-                synchronized (this) {
-                    while (!complete) {
-                        try {
-                            wait();
-                        } catch (InterruptedException e) {
-                            complete = true;
-                        }
-                    }
-                }
-
-                // Remove the listener
-                removeTransactionListener(this);
-
-                return null;// response;
-            }
-
-            @Override
-            public boolean transactionEvent(EzspFrameResponse ezspResponse) {
-                // Check if this response completes our transaction
-                if (!ezspTransaction.isMatch(ezspResponse)) {
-                    return false;
-                }
-
-                transactionComplete();
-                // response = request;
-
-                return true;
-            }
-
-            @Override
-            public void transactionComplete() {
-                synchronized (this) {
-                    complete = true;
-                    notify();
-                }
-            }
-        }
-
-        Callable<EzspFrame> worker = new TransactionWaiter();
-        return executor.submit(worker);
+        // Register the transaction before sending so the response can't be missed
+        Future<EzspFrame> future = transactionIndex.addTransaction(ezspTransaction);
+        queueFrame(ezspTransaction.getRequest());
+        return future;
     }
 
     @Override
@@ -755,59 +758,7 @@ public class AshFrameHandler implements EzspProtocolHandler {
      */
     @Override
     public Future<EzspFrameResponse> eventWaitAsync(final Class<?> eventClass) {
-        class TransactionWaiter implements Callable<EzspFrameResponse>, AshListener {
-            private boolean complete = false;
-            private EzspFrameResponse receivedEvent = null;
-
-            @Override
-            public EzspFrameResponse call() {
-                // Register a listener
-                addTransactionListener(this);
-
-                // Wait for the event
-                synchronized (this) {
-                    while (!complete) {
-                        try {
-                            wait();
-                        } catch (InterruptedException e) {
-                            logger.debug("ASH interrupted in eventWaitAsync {}", eventClass);
-                        }
-                    }
-                }
-
-                // Remove the listener
-                removeTransactionListener(this);
-
-                return receivedEvent;
-            }
-
-            @Override
-            public boolean transactionEvent(EzspFrameResponse ezspResponse) {
-                // Check if this response completes our transaction
-                if (ezspResponse.getClass() != eventClass) {
-                    return false;
-                }
-
-                receivedEvent = ezspResponse;
-
-                synchronized (this) {
-                    complete = true;
-                    notify();
-                }
-                return true;
-            }
-
-            @Override
-            public void transactionComplete() {
-                synchronized (this) {
-                    complete = true;
-                    notify();
-                }
-            }
-        }
-
-        Callable<EzspFrameResponse> worker = new TransactionWaiter();
-        return executor.submit(worker);
+        return transactionIndex.addEventWaiter(eventClass);
     }
 
     /**
@@ -854,10 +805,4 @@ public class AshFrameHandler implements EzspProtocolHandler {
         }
         return result.toString();
     }
-
-    interface AshListener {
-        boolean transactionEvent(EzspFrameResponse ezspResponse);
-
-        void transactionComplete();
-    }
 }
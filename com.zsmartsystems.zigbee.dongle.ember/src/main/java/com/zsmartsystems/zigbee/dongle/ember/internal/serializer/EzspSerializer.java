@@ -130,14 +130,10 @@ public class EzspSerializer {
     }
 
     public void serializeEmberEui64(IeeeAddress address) {
-        buffer[length++] = address.getValue()[0];
-        buffer[length++] = address.getValue()[1];
-        buffer[length++] = address.getValue()[2];
-        buffer[length++] = address.getValue()[3];
-        buffer[length++] = address.getValue()[4];
-        buffer[length++] = address.getValue()[5];
-        buffer[length++] = address.getValue()[6];
-        buffer[length++] = address.getValue()[7];
+        long value = address.longValue();
+        for (int cnt = 0; cnt < 8; cnt++) {
+            buffer[length++] = (int) ((value >> (cnt * 8)) & 0xFF);
+        }
     }
 
     public void serializeEmberNetworkParameters(EmberNetworkParameters networkParameters) {
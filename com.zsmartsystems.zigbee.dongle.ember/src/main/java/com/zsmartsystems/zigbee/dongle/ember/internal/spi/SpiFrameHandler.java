@@ -8,16 +8,12 @@
 package com.zsmartsystems.zigbee.dongle.ember.internal.spi;
 
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.List;
 import java.util.Map;
 import java.util.Queue;
-import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
@@ -39,7 +35,9 @@ import com.zsmartsystems.zigbee.dongle.ember.ezsp.command.EzspSendUnicastRespons
 import com.zsmartsystems.zigbee.dongle.ember.internal.EzspFrameHandler;
 import com.zsmartsystems.zigbee.dongle.ember.internal.EzspProtocolHandler;
 import com.zsmartsystems.zigbee.dongle.ember.internal.transaction.EzspTransaction;
+import com.zsmartsystems.zigbee.dongle.ember.internal.transaction.EzspTransactionIndex;
 import com.zsmartsystems.zigbee.transport.ZigBeePort;
+import com.zsmartsystems.zigbee.transport.ZigBeeWireTrace;
 
 /**
  * Frame parser for the Silicon Labs SPI protocol.
@@ -121,8 +119,10 @@ public class SpiFrameHandler implements EzspProtocolHandler {
 
     private int[] lastFrameSent = null;
 
-    private ExecutorService executor = ZigBeeExecutors.newCachedThreadPool("SpiExecutor");
-    private final List<SpiListener> transactionListeners = new ArrayList<SpiListener>();
+    /**
+     * The transactions waiting for a response from the NCP
+     */
+    private final EzspTransactionIndex transactionIndex = new EzspTransactionIndex();
 
     private final Map<Integer, String> errorMessages = new ConcurrentHashMap<Integer, String>();
 
@@ -136,6 +136,11 @@ public class SpiFrameHandler implements EzspProtocolHandler {
      */
     private ZigBeePort port;
 
+    /**
+     * The {@link ZigBeeWireTrace} used to record frames, or null if tracing is disabled
+     */
+    private ZigBeeWireTrace wireTrace;
+
     /**
      * The parser parserThread.
      */
@@ -188,6 +193,11 @@ public class SpiFrameHandler implements EzspProtocolHandler {
         this.pollRate = pollRate;
     }
 
+    @Override
+    public void setWireTrace(ZigBeeWireTrace wireTrace) {
+        this.wireTrace = wireTrace;
+    }
+
     @Override
     public void start(final ZigBeePort port) {
         this.port = port;
@@ -207,6 +217,9 @@ public class SpiFrameHandler implements EzspProtocolHandler {
                         if (packetData == null) {
                             continue;
                         }
+                        if (wireTrace != null) {
+                            wireTrace.traceRx(packetData);
+                        }
 
                         // Reset the exception counter
                         exceptionCnt = 0;
@@ -253,7 +266,9 @@ public class SpiFrameHandler implements EzspProtocolHandler {
 
         while (!closeHandler) {
             int val = port.read();
-            logger.trace("SPI RX: {}", String.format("%02X", val));
+            if (logger.isTraceEnabled()) {
+                logger.trace("SPI RX: {}", String.format("%02X", val));
+            }
             switch (rxState) {
                 case RX_TYPE:
                     inputBuffer[0] = val;
@@ -345,11 +360,12 @@ public class SpiFrameHandler implements EzspProtocolHandler {
                 int[] ezspPacketData = Arrays.copyOfRange(packetData, 2, packetData.length);
 
                 // Only trace-log in case of NoCallBacksResponse (which is due to polling)
-                String logMessage = String.format("<-- RX SPI frame: %s", frameToString(packetData));
                 if (isEzspNoCallbacksResponse(ezspPacketData)) {
-                    logger.trace(logMessage);
-                } else {
-                    logger.debug(logMessage);
+                    if (logger.isTraceEnabled()) {
+                        logger.trace("<-- RX SPI frame: {}", frameToString(packetData));
+                    }
+                } else if (logger.isDebugEnabled()) {
+                    logger.debug("<-- RX SPI frame: {}", frameToString(packetData));
                 }
 
                 processSpiEzsp(ezspPacketData);
@@ -429,11 +445,10 @@ public class SpiFrameHandler implements EzspProtocolHandler {
         }
 
         // Only trace-log for NoCallbacksResponse (which is due to polling)
-        String logMessage = String.format("RX EZSP: %s", response.toString());
         if (response instanceof EzspNoCallbacksResponse) {
-            logger.trace(logMessage);
+            logger.trace("RX EZSP: {}", response);
         } else {
-            logger.debug(logMessage);
+            logger.debug("RX EZSP: {}", response);
         }
 
         // If there is a callback pending, then send a poll
@@ -460,7 +475,6 @@ public class SpiFrameHandler implements EzspProtocolHandler {
 
     @Override
     public void setClosing() {
-        executor.shutdown();
         closeHandler = true;
     }
 
@@ -478,14 +492,9 @@ public class SpiFrameHandler implements EzspProtocolHandler {
             stopRetryTimer();
         }
 
-        synchronized (transactionListeners) {
-            for (SpiListener listener : transactionListeners) {
-                listener.transactionComplete();
-            }
-        }
+        transactionIndex.clear();
 
         timer.shutdownNow();
-        executor.shutdownNow();
 
         try {
             parserThread.interrupt();
@@ -524,11 +533,10 @@ public class SpiFrameHandler implements EzspProtocolHandler {
         }
 
         // Only trace-log for callback requests (which occur due to polling)
-        String logMessage = String.format("TX EZSP: %s", nextFrame.toString());
         if (isCallbackRequest) {
-            logger.trace(logMessage);
+            logger.trace("TX EZSP: {}", nextFrame);
         } else {
-            logger.debug(logMessage);
+            logger.debug("TX EZSP: {}", nextFrame);
         }
 
         // Encapsulate the EZSP frame into the SPI packet
@@ -554,19 +562,24 @@ public class SpiFrameHandler implements EzspProtocolHandler {
         synchronized (outputFrameSynchronisation) {
             lastFrameSent = outputData;
 
-            String logMessage = String.format("--> TX SPI frame: %s", frameToString(outputData));
             if (tracelogFrame) {
-                logger.trace(logMessage);
-            } else {
-                logger.debug(logMessage);
+                if (logger.isTraceEnabled()) {
+                    logger.trace("--> TX SPI frame: {}", frameToString(outputData));
+                }
+            } else if (logger.isDebugEnabled()) {
+                logger.debug("--> TX SPI frame: {}", frameToString(outputData));
             }
 
-            // Send the data
-            for (int outByte : outputData) {
-                logger.trace("SPI TX: {}", String.format("%02X", outByte));
-                port.write(outByte);
+            // Send the data, with the terminating flag, as a single block
+            byte[] outputBytes = new byte[outputData.length + 1];
+            for (int cnt = 0; cnt < outputData.length; cnt++) {
+                outputBytes[cnt] = (byte) outputData[cnt];
+            }
+            outputBytes[outputData.length] = (byte) SPI_FLAG_BYTE;
+            port.write(outputBytes, 0, outputBytes.length);
+            if (wireTrace != null) {
+                wireTrace.traceTx(outputData);
             }
-            port.write(SPI_FLAG_BYTE);
 
             startRetryTimer();
         }
@@ -651,15 +664,7 @@ public class SpiFrameHandler implements EzspProtocolHandler {
      * @return true if the response was processed
      */
     private boolean notifyTransactionComplete(final EzspFrameResponse response) {
-        boolean processed = false;
-
-        synchronized (transactionListeners) {
-            for (SpiListener listener : transactionListeners) {
-                if (listener.transactionEvent(response)) {
-                    processed = true;
-                }
-            }
-        }
+        boolean processed = transactionIndex.notifyResponse(response);
 
         // For responses to higher level commands, we still want to pass these up so we can provide the
         // update the transaction progress.
@@ -670,80 +675,17 @@ public class SpiFrameHandler implements EzspProtocolHandler {
         return processed;
     }
 
-    private void addTransactionListener(SpiListener listener) {
-        synchronized (transactionListeners) {
-            if (transactionListeners.contains(listener)) {
-                return;
-            }
-
-            transactionListeners.add(listener);
-        }
-    }
-
-    private void removeTransactionListener(SpiListener listener) {
-        synchronized (transactionListeners) {
-            transactionListeners.remove(listener);
-        }
-    }
-
     @Override
     public Future<EzspFrame> sendEzspRequestAsync(final EzspTransaction ezspTransaction) {
-        class TransactionWaiter implements Callable<EzspFrame>, SpiListener {
-            // private EzspFrame response = null;
-            private boolean complete = false;
-
-            @Override
-            public EzspFrame call() {
-                // Register a listener
-                addTransactionListener(this);
-
-                // Send the transaction
-                queueFrame(ezspTransaction.getRequest());
-
-                // Wait for the transaction to complete
-                synchronized (this) {
-                    while (!complete) {
-                        try {
-                            wait();
-                        } catch (InterruptedException e) {
-                            complete = true;
-                        }
-                    }
-                }
-
-                // Remove the listener
-                removeTransactionListener(this);
-
-                return null;// response;
-            }
-
-            @Override
-            public boolean transactionEvent(EzspFrameResponse ezspResponse) {
-                // Check if this response completes our transaction
-                if (!ezspTransaction.isMatch(ezspResponse)) {
-                    return false;
-                }
-
-                // response = request;
-                synchronized (this) {
-                    complete = true;
-                    notify();
-                }
-
-                return true;
-            }
-
-            @Override
-            public void transactionComplete() {
-                synchronized (this) {
-                    complete = true;
-                    notify();
-                }
-            }
+        if (closeHandler) {
+            logger.debug("SPI: Handler is closed");
+            return null;
         }
 
-        Callable<EzspFrame> worker = new TransactionWaiter();
-        return executor.submit(worker);
+        // Register the transaction before sending so the response can't be missed
+        Future<EzspFrame> future = transactionIndex.addTransaction(ezspTransaction);
+        queueFrame(ezspTransaction.getRequest());
+        return future;
     }
 
     @Override
@@ -780,12 +722,6 @@ public class SpiFrameHandler implements EzspProtocolHandler {
         return spiErrors;
     }
 
-    interface SpiListener {
-        boolean transactionEvent(EzspFrameResponse ezspResponse);
-
-        void transactionComplete();
-    }
-
     /**
      * Wait for the requested {@link EzspFrameResponse} to be received
      *
@@ -794,59 +730,7 @@ public class SpiFrameHandler implements EzspProtocolHandler {
      */
     @Override
     public Future<EzspFrameResponse> eventWaitAsync(final Class<?> eventClass) {
-        class TransactionWaiter implements Callable<EzspFrameResponse>, SpiListener {
-            private boolean complete = false;
-            private EzspFrameResponse receivedEvent = null;
-
-            @Override
-            public EzspFrameResponse call() {
-                // Register a listener
-                addTransactionListener(this);
-
-                // Wait for the event
-                synchronized (this) {
-                    while (!complete) {
-                        try {
-                            wait();
-                        } catch (InterruptedException e) {
-                            logger.debug("ASH interrupted in eventWaitAsync {}", eventClass);
-                        }
-                    }
-                }
-
-                // Remove the listener
-                removeTransactionListener(this);
-
-                return receivedEvent;
-            }
-
-            @Override
-            public boolean transactionEvent(EzspFrameResponse ezspResponse) {
-                // Check if this response completes our transaction
-                if (ezspResponse.getClass() != eventClass) {
-                    return false;
-                }
-
-                receivedEvent = ezspResponse;
-
-                synchronized (this) {
-                    complete = true;
-                    notify();
-                }
-                return true;
-            }
-
-            @Override
-            public void transactionComplete() {
-                synchronized (this) {
-                    complete = true;
-                    notify();
-                }
-            }
-        }
-
-        Callable<EzspFrameResponse> worker = new TransactionWaiter();
-        return executor.submit(worker);
+        return transactionIndex.addEventWaiter(eventClass);
     }
 
     /**
@@ -0,0 +1,95 @@
+/**
+ * Copyright (c) 2016-2019 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.dongle.ember.internal.transaction;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * A {@link Future} that is completed directly by the thread receiving frames from the NCP, so that no thread is
+ * required for each outstanding EZSP transaction. Threads waiting in {@link #get()} are released as soon as the
+ * future is completed.
+ *
+ * @author agent
+ *
+ * @param <T> the type of the result
+ */
+public class EzspTransactionFuture<T> implements Future<T> {
+    private T result;
+    private boolean done;
+    private boolean cancelled;
+
+    /**
+     * Completes the future with the result
+     *
+     * @param result the result. May be null if the transaction was aborted.
+     * @return true if the future was completed by this call, false if it was already complete
+     */
+    public synchronized boolean set(T result) {
+        if (done) {
+            return false;
+        }
+        this.result = result;
+        done = true;
+        notifyAll();
+        return true;
+    }
+
+    @Override
+    public synchronized boolean cancel(boolean mayInterruptIfRunning) {
+        if (done) {
+            return false;
+        }
+        cancelled = true;
+        done = true;
+        notifyAll();
+        return true;
+    }
+
+    @Override
+    public synchronized boolean isCancelled() {
+        return cancelled;
+    }
+
+    @Override
+    public synchronized boolean isDone() {
+        return done;
+    }
+
+    @Override
+    public synchronized T get() throws InterruptedException, ExecutionException {
+        while (!done) {
+            wait();
+        }
+        return getResult();
+    }
+
+    @Override
+    public synchronized T get(long timeout, TimeUnit unit)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        final long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (!done) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                throw new TimeoutException();
+            }
+            TimeUnit.NANOSECONDS.timedWait(this, remaining);
+        }
+        return getResult();
+    }
+
+    private T getResult() {
+        if (cancelled) {
+            throw new CancellationException();
+        }
+        return result;
+    }
+}
@@ -0,0 +1,237 @@
+/**
+ * Copyright (c) 2016-2019 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.dongle.ember.internal.transaction;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Future;
+
+import com.zsmartsystems.zigbee.dongle.ember.ezsp.EzspFrame;
+import com.zsmartsystems.zigbee.dongle.ember.ezsp.EzspFrameResponse;
+
+/**
+ * Holds the EZSP transactions and event waiters that are waiting for a response from the NCP, and completes their
+ * {@link Future}s as responses are received.
+ * <p>
+ * {@link EzspSingleResponseTransaction}s are indexed by the request sequence number, and event waiters are indexed by
+ * the response class, so each received frame only needs to be checked against the few entries that could match it.
+ * Other transactions (eg {@link EzspMultiResponseTransaction}) may match responses with any sequence number, and are
+ * checked against every received frame.
+ *
+ * @author agent
+ *
+ */
+public class EzspTransactionIndex {
+    /**
+     * Single response transactions, keyed by the request sequence number
+     */
+    private final Map<Integer, List<TransactionFuture>> sequenceTransactions = new HashMap<Integer, List<TransactionFuture>>();
+
+    /**
+     * Transactions that are not correlated by the sequence number
+     */
+    private final List<TransactionFuture> otherTransactions = new ArrayList<TransactionFuture>();
+
+    /**
+     * Event waiters, keyed by the response class
+     */
+    private final Map<Class<?>, List<EventFuture>> eventWaiters = new HashMap<Class<?>, List<EventFuture>>();
+
+    /**
+     * Adds a transaction to the index. The returned {@link Future} is completed with the {@link EzspFrameResponse}
+     * that completes the transaction, or null if the transaction is aborted with {@link #clear()}.
+     * <p>
+     * Cancelling the {@link Future} removes the transaction from the index.
+     *
+     * @param transaction the {@link EzspTransaction}
+     * @return the {@link Future} that is completed when the transaction completes
+     */
+    public Future<EzspFrame> addTransaction(EzspTransaction transaction) {
+        TransactionFuture future = new TransactionFuture(transaction);
+        synchronized (this) {
+            if (future.sequence == null) {
+                otherTransactions.add(future);
+            } else {
+                List<TransactionFuture> transactions = sequenceTransactions.get(future.sequence);
+                if (transactions == null) {
+                    transactions = new ArrayList<TransactionFuture>(1);
+                    sequenceTransactions.put(future.sequence, transactions);
+                }
+                transactions.add(future);
+            }
+        }
+        return future;
+    }
+
+    /**
+     * Adds a waiter for an {@link EzspFrameResponse} of the requested class. The returned {@link Future} is completed
+     * with the next response of this class, or null if the waiter is aborted with {@link #clear()}.
+     * <p>
+     * Cancelling the {@link Future} removes the waiter from the index.
+     *
+     * @param eventClass the {@link EzspFrameResponse} class to wait for
+     * @return the {@link Future} that is completed when the response is received
+     */
+    public Future<EzspFrameResponse> addEventWaiter(Class<?> eventClass) {
+        EventFuture future = new EventFuture(eventClass);
+        synchronized (this) {
+            List<EventFuture> waiters = eventWaiters.get(eventClass);
+            if (waiters == null) {
+                waiters = new ArrayList<EventFuture>(1);
+                eventWaiters.put(eventClass, waiters);
+            }
+            waiters.add(future);
+        }
+        return future;
+    }
+
+    /**
+     * Processes a received {@link EzspFrameResponse}, completing any transactions and event waiters that it matches.
+     * The futures are completed on the calling thread once the index is unlocked.
+     *
+     * @param response the received {@link EzspFrameResponse}
+     * @return true if the response completed at least one transaction or event waiter
+     */
+    public boolean notifyResponse(EzspFrameResponse response) {
+        List<TransactionFuture> completedTransactions = new ArrayList<TransactionFuture>(1);
+        List<EventFuture> completedEvents;
+        synchronized (this) {
+            List<TransactionFuture> transactions = sequenceTransactions.get(response.getSequenceNumber());
+            if (transactions != null) {
+                matchTransactions(transactions.iterator(), response, completedTransactions);
+                if (transactions.isEmpty()) {
+                    sequenceTransactions.remove(response.getSequenceNumber());
+                }
+            }
+            if (!otherTransactions.isEmpty()) {
+                matchTransactions(otherTransactions.iterator(), response, completedTransactions);
+            }
+            completedEvents = eventWaiters.remove(response.getClass());
+        }
+
+        for (TransactionFuture future : completedTransactions) {
+            future.set(response);
+        }
+        if (completedEvents != null) {
+            for (EventFuture future : completedEvents) {
+                future.set(response);
+            }
+        }
+
+        return !completedTransactions.isEmpty() || completedEvents != null;
+    }
+
+    /**
+     * Aborts all transactions and event waiters. The futures are completed with null.
+     */
+    public void clear() {
+        List<TransactionFuture> transactions;
+        List<EventFuture> events = new ArrayList<EventFuture>();
+        synchronized (this) {
+            transactions = new ArrayList<TransactionFuture>(otherTransactions);
+            for (List<TransactionFuture> sequenceList : sequenceTransactions.values()) {
+                transactions.addAll(sequenceList);
+            }
+            for (List<EventFuture> eventList : eventWaiters.values()) {
+                events.addAll(eventList);
+            }
+            sequenceTransactions.clear();
+            otherTransactions.clear();
+            eventWaiters.clear();
+        }
+
+        for (TransactionFuture future : transactions) {
+            future.set(null);
+        }
+        for (EventFuture future : events) {
+            future.set(null);
+        }
+    }
+
+    /**
+     * Gets the number of transactions and event waiters in the index
+     *
+     * @return the number of outstanding transactions and event waiters
+     */
+    public synchronized int size() {
+        int size = otherTransactions.size();
+        for (List<TransactionFuture> sequenceList : sequenceTransactions.values()) {
+            size += sequenceList.size();
+        }
+        for (List<EventFuture> eventList : eventWaiters.values()) {
+            size += eventList.size();
+        }
+        return size;
+    }
+
+    private void matchTransactions(Iterator<TransactionFuture> iterator, EzspFrameResponse response,
+            List<TransactionFuture> completed) {
+        while (iterator.hasNext()) {
+            TransactionFuture future = iterator.next();
+            if (future.transaction.isMatch(response)) {
+                iterator.remove();
+                completed.add(future);
+            }
+        }
+    }
+
+    private synchronized void removeTransaction(TransactionFuture future) {
+        if (future.sequence == null) {
+            otherTransactions.remove(future);
+            return;
+        }
+        List<TransactionFuture> transactions = sequenceTransactions.get(future.sequence);
+        if (transactions != null && transactions.remove(future) && transactions.isEmpty()) {
+            sequenceTransactions.remove(future.sequence);
+        }
+    }
+
+    private synchronized void removeEventWaiter(EventFuture future) {
+        List<EventFuture> waiters = eventWaiters.get(future.eventClass);
+        if (waiters != null && waiters.remove(future) && waiters.isEmpty()) {
+            eventWaiters.remove(future.eventClass);
+        }
+    }
+
+    private class TransactionFuture extends EzspTransactionFuture<EzspFrame> {
+        private final EzspTransaction transaction;
+        private final Integer sequence;
+
+        TransactionFuture(EzspTransaction transaction) {
+            this.transaction = transaction;
+            if (transaction instanceof EzspSingleResponseTransaction) {
+                sequence = transaction.getRequest().getSequenceNumber();
+            } else {
+                sequence = null;
+            }
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            removeTransaction(this);
+            return super.cancel(mayInterruptIfRunning);
+        }
+    }
+
+    private class EventFuture extends EzspTransactionFuture<EzspFrameResponse> {
+        private final Class<?> eventClass;
+
+        EventFuture(Class<?> eventClass) {
+            this.eventClass = eventClass;
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            removeEventWaiter(this);
+            return super.cancel(mayInterruptIfRunning);
+        }
+    }
+}
@@ -9,10 +9,12 @@ package com.zsmartsystems.zigbee.dongle.ember.ezsp;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 import org.junit.Test;
 
+import com.zsmartsystems.zigbee.dongle.ember.ezsp.command.EzspIncomingMessageHandler;
 import com.zsmartsystems.zigbee.dongle.ember.ezsp.command.EzspNoCallbacksResponse;
 import com.zsmartsystems.zigbee.dongle.ember.ezsp.command.EzspVersionResponse;
 
@@ -52,4 +54,32 @@ public class EzspFrameResponseTest {
         System.out.println(response);
         assertTrue(response.isCallbackPending());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testCreateHandler() {
+        EzspFrameResponse response = EzspFrame.createHandler(new int[] { 0x01, 0x80, 0x00, 0x04, 0x02, 0x00, 0x59 });
+        assertTrue(response instanceof EzspVersionResponse);
+        assertEquals(4, ((EzspVersionResponse) response).getProtocolVersion());
+
+        response = EzspFrame.createHandler(new int[] { 0x01, 0x80, 0xFF, 0x00, 0x00, 0x05, 0x02, 0x10, 0x5A });
+        assertTrue(response instanceof EzspVersionResponse);
+        assertEquals(5, ((EzspVersionResponse) response).getProtocolVersion());
+
+        response = EzspFrame.createHandler(new int[] { 0x2C, 0x88, 0x07 });
+        assertTrue(response instanceof EzspNoCallbacksResponse);
+
+        response = EzspFrame.createHandler(new int[] { 0x00, 0x94, 0x45, 0x00, 0x00, 0x01, 0x00, 0x00, 0x00, 0x00,
+                0x00, 0x00, 0x00, 0x00, 0x58, 0xFF, 0x00, 0x00, 0x00, 0xFF, 0xFF, 0x01, 0x00 });
+        assertTrue(response instanceof EzspIncomingMessageHandler);
+    }
+
+    @Test
+    public void testCreateHandlerInvalid() {
+        // Unknown frame ID
+        assertNull(EzspFrame.createHandler(new int[] { 0x01, 0x80, 0xFE, 0x00 }));
+
+        // Frame too short to decode
+        assertNull(EzspFrame.createHandler(new int[] { 0x01, 0x80 }));
+        assertNull(EzspFrame.createHandler(new int[] { 0x01, 0x80, 0x00 }));
+    }
+}
@@ -23,6 +23,7 @@ import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 
 import org.junit.Test;
 import org.mockito.ArgumentCaptor;
@@ -243,6 +244,123 @@ public class AshFrameHandlerTest {
         assertFalse(stateCapture.getValue());
     }
 
+    private int countFrames(List<Integer> outputData) {
+        int frames = 0;
+        for (int value : outputData) {
+            if (value == 0x7E) {
+                frames++;
+            }
+        }
+        return frames;
+    }
+
+    private void queueVersionRequests(AshFrameHandler frameHandler, int count) {
+        for (int cnt = 0; cnt < count; cnt++) {
+            EzspVersionRequest request = new EzspVersionRequest();
+            request.setSequenceNumber(cnt);
+            request.setDesiredProtocolVersion(4);
+            frameHandler.queueFrame(request);
+        }
+    }
+
+    private void ackSentQueue(AshFrameHandler frameHandler, int ackNum) throws Exception {
+        TestUtilities.invokeMethod(AshFrameHandler.class, frameHandler, "ackSentQueue", int.class, ackNum);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Queue<AshFrameData> getSentQueue(AshFrameHandler frameHandler) throws Exception {
+        return (Queue<AshFrameData>) TestUtilities.getField(AshFrameHandler.class, frameHandler, "sentQueue");
+    }
+
+    @Test
+    public void testTxWindow() throws Exception {
+        TestPort port = new TestPort(null, null);
+
+        EzspFrameHandler ezspHandler = Mockito.mock(EzspFrameHandler.class);
+        AshFrameHandler frameHandler = new AshFrameHandler(ezspHandler);
+
+        assertFalse(frameHandler.setTxWindow(0));
+        assertFalse(frameHandler.setTxWindow(8));
+        assertTrue(frameHandler.setTxWindow(4));
+
+        frameHandler.start(port);
+        TestUtilities.setField(AshFrameHandler.class, frameHandler, "stateConnected", true);
+
+        // Only the window size is sent before an ACK is received
+        queueVersionRequests(frameHandler, 6);
+        Queue<AshFrameData> sentQueue = getSentQueue(frameHandler);
+        assertEquals(4, sentQueue.size());
+        assertEquals(4, countFrames(port.getOutputData()));
+        assertEquals(0, sentQueue.peek().getFrmNum());
+
+        // Acknowledge the first two frames - the remaining two queued frames can now be sent
+        ackSentQueue(frameHandler, 2);
+        assertEquals(2, sentQueue.size());
+        assertEquals(2, sentQueue.peek().getFrmNum());
+        TestUtilities.invokeMethod(AshFrameHandler.class, frameHandler, "sendNextFrame");
+        assertEquals(4, sentQueue.size());
+        assertEquals(6, countFrames(port.getOutputData()));
+
+        // Stale and out of window ACKs are ignored
+        ackSentQueue(frameHandler, 1);
+        assertEquals(4, sentQueue.size());
+        ackSentQueue(frameHandler, 7);
+        assertEquals(4, sentQueue.size());
+
+        // ACKs received out of order - the later ACK covers the earlier one
+        ackSentQueue(frameHandler, 5);
+        assertEquals(1, sentQueue.size());
+        assertEquals(5, sentQueue.peek().getFrmNum());
+        ackSentQueue(frameHandler, 4);
+        assertEquals(1, sentQueue.size());
+
+        ackSentQueue(frameHandler, 6);
+        assertTrue(sentQueue.isEmpty());
+
+        frameHandler.close();
+    }
+
+    @Test
+    public void testTxWindowRetry() throws Exception {
+        TestPort port = new TestPort(null, null);
+
+        EzspFrameHandler ezspHandler = Mockito.mock(EzspFrameHandler.class);
+        AshFrameHandler frameHandler = new AshFrameHandler(ezspHandler);
+        assertTrue(frameHandler.setTxWindow(3));
+
+        frameHandler.start(port);
+        TestUtilities.setField(AshFrameHandler.class, frameHandler, "stateConnected", true);
+
+        queueVersionRequests(frameHandler, 3);
+        Queue<AshFrameData> sentQueue = getSentQueue(frameHandler);
+        assertEquals(3, sentQueue.size());
+
+        // The first frame is lost - the NCP NAKs with the first frame number, and all frames are resent in order
+        port.getOutputData().clear();
+        ackSentQueue(frameHandler, 0);
+        TestUtilities.invokeMethod(AshFrameHandler.class, frameHandler, "sendRetry");
+        assertEquals(3, sentQueue.size());
+        assertEquals(3, countFrames(port.getOutputData()));
+        int frmNum = 0;
+        for (AshFrameData frame : sentQueue) {
+            assertTrue(frame.getReTx());
+            assertEquals(frmNum++, frame.getFrmNum());
+        }
+
+        // The second frame is lost - the first is acknowledged and only the remainder are resent
+        port.getOutputData().clear();
+        ackSentQueue(frameHandler, 1);
+        TestUtilities.invokeMethod(AshFrameHandler.class, frameHandler, "sendRetry");
+        assertEquals(2, sentQueue.size());
+        assertEquals(2, countFrames(port.getOutputData()));
+        assertEquals(1, sentQueue.peek().getFrmNum());
+
+        ackSentQueue(frameHandler, 3);
+        assertTrue(sentQueue.isEmpty());
+
+        frameHandler.close();
+    }
+
     @Test
     public void testErrorToOffline() {
         int[] data = new int[] { 0xC2, 0x02, 0x52, 0x98, 0xDE, 0x7E, 0xC1, 0x02, 0x0B, 0x0A, 0x52, 0x7E, 0xC2, 0x02,
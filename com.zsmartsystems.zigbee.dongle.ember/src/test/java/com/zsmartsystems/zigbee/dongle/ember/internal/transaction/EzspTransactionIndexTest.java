@@ -0,0 +1,129 @@
+/**
+ * Copyright (c) 2016-2019 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.dongle.ember.internal.transaction;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import com.zsmartsystems.zigbee.ZigBeeChannelMask;
+import com.zsmartsystems.zigbee.dongle.ember.ezsp.EzspFrame;
+import com.zsmartsystems.zigbee.dongle.ember.ezsp.EzspFrameResponse;
+import com.zsmartsystems.zigbee.dongle.ember.ezsp.EzspFrameTest;
+import com.zsmartsystems.zigbee.dongle.ember.ezsp.command.EzspEnergyScanResultHandler;
+import com.zsmartsystems.zigbee.dongle.ember.ezsp.command.EzspScanCompleteHandler;
+import com.zsmartsystems.zigbee.dongle.ember.ezsp.command.EzspStartScanRequest;
+import com.zsmartsystems.zigbee.dongle.ember.ezsp.command.EzspStartScanResponse;
+import com.zsmartsystems.zigbee.dongle.ember.ezsp.command.EzspVersionRequest;
+import com.zsmartsystems.zigbee.dongle.ember.ezsp.command.EzspVersionResponse;
+import com.zsmartsystems.zigbee.dongle.ember.ezsp.structure.EzspNetworkScanType;
+
+/**
+ *
+ * @author agent
+ *
+ */
+public class EzspTransactionIndexTest extends EzspFrameTest {
+    private EzspTransaction getVersionTransaction(int sequence) {
+        EzspVersionRequest version = new EzspVersionRequest();
+        version.setSequenceNumber(sequence);
+        version.setDesiredProtocolVersion(4);
+        return new EzspSingleResponseTransaction(version, EzspVersionResponse.class);
+    }
+
+    @Test
+    public void singleResponse() throws Exception {
+        EzspTransactionIndex index = new EzspTransactionIndex();
+
+        EzspTransaction transaction3 = getVersionTransaction(3);
+        EzspTransaction transaction4 = getVersionTransaction(4);
+        Future<EzspFrame> future3 = index.addTransaction(transaction3);
+        Future<EzspFrame> future4 = index.addTransaction(transaction4);
+        assertEquals(2, index.size());
+
+        EzspVersionResponse response = new EzspVersionResponse(getPacketData("03 80 00 04 02 00 58"));
+        assertTrue(index.notifyResponse(response));
+        assertTrue(future3.isDone());
+        assertFalse(future4.isDone());
+        assertEquals(response, future3.get(0, TimeUnit.MILLISECONDS));
+        assertEquals(response, transaction3.getResponse());
+        assertEquals(1, index.size());
+
+        // The same response is not processed twice
+        assertFalse(index.notifyResponse(response));
+    }
+
+    @Test
+    public void multiResponse() throws Exception {
+        EzspTransactionIndex index = new EzspTransactionIndex();
+
+        EzspStartScanRequest request = new EzspStartScanRequest();
+        request.setChannelMask(ZigBeeChannelMask.CHANNEL_MASK_2GHZ);
+        request.setDuration(1);
+        request.setScanType(EzspNetworkScanType.EZSP_ENERGY_SCAN);
+        Set<Class<?>> relatedResponses = new HashSet<Class<?>>(
+                Arrays.asList(EzspStartScanResponse.class, EzspEnergyScanResultHandler.class));
+        EzspTransaction transaction = new EzspMultiResponseTransaction(request, EzspScanCompleteHandler.class,
+                relatedResponses);
+        Future<EzspFrame> future = index.addTransaction(transaction);
+
+        assertFalse(index.notifyResponse(new EzspStartScanResponse(getPacketData("39 80 1A 00"))));
+        assertFalse(index.notifyResponse(new EzspEnergyScanResultHandler(getPacketData("39 8C 48 0B C1"))));
+        assertFalse(future.isDone());
+
+        EzspScanCompleteHandler scanComplete = new EzspScanCompleteHandler(getPacketData("3F 88 1C 02 00"));
+        assertTrue(index.notifyResponse(scanComplete));
+        assertEquals(scanComplete, future.get(0, TimeUnit.MILLISECONDS));
+        assertEquals(3, transaction.getResponses().size());
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    public void eventWaiter() throws Exception {
+        EzspTransactionIndex index = new EzspTransactionIndex();
+
+        Future<EzspFrameResponse> future1 = index.addEventWaiter(EzspScanCompleteHandler.class);
+        Future<EzspFrameResponse> future2 = index.addEventWaiter(EzspScanCompleteHandler.class);
+        Future<EzspFrameResponse> cancelled = index.addEventWaiter(EzspStartScanResponse.class);
+        assertEquals(3, index.size());
+
+        assertTrue(cancelled.cancel(true));
+        assertEquals(2, index.size());
+        assertFalse(index.notifyResponse(new EzspStartScanResponse(getPacketData("39 80 1A 00"))));
+
+        EzspScanCompleteHandler scanComplete = new EzspScanCompleteHandler(getPacketData("3F 88 1C 02 00"));
+        assertTrue(index.notifyResponse(scanComplete));
+        assertEquals(scanComplete, future1.get(0, TimeUnit.MILLISECONDS));
+        assertEquals(scanComplete, future2.get(0, TimeUnit.MILLISECONDS));
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    public void clear() throws Exception {
+        EzspTransactionIndex index = new EzspTransactionIndex();
+
+        Future<EzspFrame> transaction = index.addTransaction(getVersionTransaction(5));
+        Future<EzspFrameResponse> event = index.addEventWaiter(EzspScanCompleteHandler.class);
+
+        index.clear();
+        assertEquals(0, index.size());
+        assertTrue(transaction.isDone());
+        assertNull(transaction.get());
+        assertTrue(event.isDone());
+        assertNull(event.get());
+    }
+}
@@ -86,6 +86,7 @@ import com.zsmartsystems.zigbee.transport.ZigBeeTransportProgressState;
 import com.zsmartsystems.zigbee.transport.ZigBeeTransportReceive;
 import com.zsmartsystems.zigbee.transport.ZigBeeTransportState;
 import com.zsmartsystems.zigbee.transport.ZigBeeTransportTransmit;
+import com.zsmartsystems.zigbee.transport.ZigBeeWireTrace;
 
 /**
  * Implementation of the Telegesis ZigBee dongle.
@@ -110,6 +111,11 @@ public class ZigBeeDongleTelegesis
      */
     private TelegesisFrameHandler frameHandler;
 
+    /**
+     * The {@link ZigBeeWireTrace} used to record frames, or null if tracing is disabled
+     */
+    private ZigBeeWireTrace wireTrace;
+
     /**
      * The Telegesis bootload handler
      */
@@ -372,6 +378,14 @@ public class ZigBeeDongleTelegesis
         return new TelegesisNcp(frameHandler);
     }
 
+    @Override
+    public void setWireTrace(ZigBeeWireTrace wireTrace) {
+        this.wireTrace = wireTrace;
+        if (frameHandler != null) {
+            frameHandler.setWireTrace(wireTrace);
+        }
+    }
+
     @Override
     public ZigBeeStatus initialize() {
         logger.debug("Telegesis dongle initialize.");
@@ -385,6 +399,7 @@ public class ZigBeeDongleTelegesis
 
         // Create and start the frame handler
         frameHandler = new TelegesisFrameHandler(this);
+        frameHandler.setWireTrace(wireTrace);
         frameHandler.start(serialPort);
         frameHandler.addEventListener(this);
 
@@ -31,6 +31,7 @@ import com.zsmartsystems.zigbee.dongle.telegesis.internal.protocol.TelegesisEven
 import com.zsmartsystems.zigbee.dongle.telegesis.internal.protocol.TelegesisFrame;
 import com.zsmartsystems.zigbee.dongle.telegesis.internal.protocol.TelegesisStatusCode;
 import com.zsmartsystems.zigbee.transport.ZigBeePort;
+import com.zsmartsystems.zigbee.transport.ZigBeeWireTrace;
 
 /**
  * Frame parser for the Telegesis AT command protocol.
@@ -66,6 +67,11 @@ public class TelegesisFrameHandler {
      */
     private ZigBeePort serialPort;
 
+    /**
+     * The {@link ZigBeeWireTrace} used to record frames, or null if tracing is disabled
+     */
+    private ZigBeeWireTrace wireTrace;
+
     /**
      * The parser parserThread.
      */
@@ -170,11 +176,12 @@ public class TelegesisFrameHandler {
                             continue;
                         }
 
-                        StringBuilder builder = new StringBuilder();
-                        for (int value : responseData) {
-                            builder.append(String.format("%c", value));
+                        if (wireTrace != null) {
+                            wireTrace.traceRx(responseData);
+                        }
+                        if (logger.isDebugEnabled()) {
+                            logger.debug("RX Telegesis Data:{}", frameToString(responseData));
                         }
-                        logger.debug("RX Telegesis Data:{}", builder.toString());
 
                         // Use the Event Factory to get an event
                         TelegesisEvent event = TelegesisEventFactory.getTelegesisFrame(responseData);
@@ -191,7 +198,7 @@ public class TelegesisFrameHandler {
                                     done = sentCommand.deserialize(responseData);
                                 } catch (Exception e) {
                                     logger.debug("Exception deserialising frame {}. Transaction will complete. ",
-                                            builder.toString(), e);
+                                            frameToString(responseData), e);
                                     done = true;
                                 }
 
@@ -234,7 +241,9 @@ public class TelegesisFrameHandler {
                 logger.debug("TELEGESIS RX buffer overrun - resetting!");
             }
 
-            logger.trace("RX Telegesis: {}", String.format("%02X %c", val, val));
+            if (logger.isTraceEnabled()) {
+                logger.trace("RX Telegesis: {}", String.format("%02X %c", val, val));
+            }
 
             switch (rxState) {
                 case WAITING:
@@ -353,13 +362,19 @@ public class TelegesisFrameHandler {
             // Remember the command we're processing
             sentCommand = nextFrame;
 
-            // Send the data
-            StringBuilder builder = new StringBuilder();
-            for (int sendByte : nextFrame.serialize()) {
-                builder.append(String.format("%c", sendByte));
-                serialPort.write(sendByte);
+            // Send the data as a single block
+            int[] frameData = nextFrame.serialize();
+            byte[] outputBytes = new byte[frameData.length];
+            for (int cnt = 0; cnt < frameData.length; cnt++) {
+                outputBytes[cnt] = (byte) frameData[cnt];
+            }
+            serialPort.write(outputBytes, 0, outputBytes.length);
+            if (wireTrace != null) {
+                wireTrace.traceTx(frameData);
+            }
+            if (logger.isDebugEnabled()) {
+                logger.debug("TX Telegesis Data:{}", frameToString(frameData));
             }
-            logger.debug("TX Telegesis Data:{}", builder.toString());
 
             // Start the timeout
             startTimer();
@@ -425,6 +440,23 @@ public class TelegesisFrameHandler {
         this.transactionTimeout = transactionTimeout;
     }
 
+    /**
+     * Sets the {@link ZigBeeWireTrace} used to record the frames exchanged with the dongle
+     *
+     * @param wireTrace the {@link ZigBeeWireTrace} to record frames, or null to disable tracing
+     */
+    public void setWireTrace(ZigBeeWireTrace wireTrace) {
+        this.wireTrace = wireTrace;
+    }
+
+    private String frameToString(int[] frame) {
+        StringBuilder builder = new StringBuilder(frame.length);
+        for (int value : frame) {
+            builder.append((char) value);
+        }
+        return builder.toString();
+    }
+
     private void addTransactionListener(TelegesisListener listener) {
         synchronized (transactionListeners) {
             if (transactionListeners.contains(listener)) {
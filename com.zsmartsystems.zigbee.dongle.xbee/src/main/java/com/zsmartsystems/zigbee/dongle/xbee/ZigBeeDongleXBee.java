@@ -55,6 +55,7 @@ import com.zsmartsystems.zigbee.transport.ZigBeePort;
 import com.zsmartsystems.zigbee.transport.ZigBeeTransportReceive;
 import com.zsmartsystems.zigbee.transport.ZigBeeTransportState;
 import com.zsmartsystems.zigbee.transport.ZigBeeTransportTransmit;
+import com.zsmartsystems.zigbee.transport.ZigBeeWireTrace;
 
 /**
  * Implementation of the XBee ZigBee dongle.
@@ -119,6 +120,17 @@ public class ZigBeeDongleXBee implements ZigBeeTransportTransmit, XBeeEventListe
      */
     private String versionString = "Unknown";
 
+    /**
+     * The maximum number of frames that may be outstanding with the XBee at any time, or null to use the frame handler
+     * default
+     */
+    private Integer maxOutstandingFrames;
+
+    /**
+     * The {@link ZigBeeWireTrace} used to record frames, or null if tracing is disabled
+     */
+    private ZigBeeWireTrace wireTrace;
+
     private boolean coordinatorStarted = false;
     private boolean initialisationComplete = false;
 
@@ -131,6 +143,28 @@ public class ZigBeeDongleXBee implements ZigBeeTransportTransmit, XBeeEventListe
         this.serialPort = serialPort;
     }
 
+    /**
+     * Sets the maximum number of frames that may be outstanding with the XBee at any time. By default the frame
+     * handler pipelines requests, correlating responses using the frame ID. Setting this to 1 provides the legacy
+     * stop-and-wait behaviour for compatibility with older firmware. This must be called before {@link #initialize()}.
+     *
+     * @param maxOutstandingFrames the maximum number of outstanding frames. Must be at least 1.
+     */
+    public void setMaxOutstandingFrames(int maxOutstandingFrames) {
+        if (maxOutstandingFrames < 1) {
+            throw new IllegalArgumentException("Maximum outstanding frames must be at least 1");
+        }
+        this.maxOutstandingFrames = maxOutstandingFrames;
+    }
+
+    @Override
+    public void setWireTrace(ZigBeeWireTrace wireTrace) {
+        this.wireTrace = wireTrace;
+        if (frameHandler != null) {
+            frameHandler.setWireTrace(wireTrace);
+        }
+    }
+
     @Override
     public ZigBeeStatus initialize() {
         logger.debug("XBee dongle initialize.");
@@ -142,6 +176,10 @@ public class ZigBeeDongleXBee implements ZigBeeTransportTransmit, XBeeEventListe
 
         // Create and start the frame handler
         frameHandler = new XBeeFrameHandler();
+        if (maxOutstandingFrames != null) {
+            frameHandler.setMaxOutstandingFrames(maxOutstandingFrames);
+        }
+        frameHandler.setWireTrace(wireTrace);
         frameHandler.start(serialPort);
         frameHandler.addEventListener(this);
 
@@ -9,7 +9,9 @@ package com.zsmartsystems.zigbee.dongle.xbee.internal;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Queue;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentLinkedQueue;
@@ -31,6 +33,7 @@ import com.zsmartsystems.zigbee.dongle.xbee.internal.protocol.XBeeEvent;
 import com.zsmartsystems.zigbee.dongle.xbee.internal.protocol.XBeeFrame;
 import com.zsmartsystems.zigbee.dongle.xbee.internal.protocol.XBeeResponse;
 import com.zsmartsystems.zigbee.transport.ZigBeePort;
+import com.zsmartsystems.zigbee.transport.ZigBeeWireTrace;
 
 /**
  * Frame parser for the XBee API command protocol.
@@ -66,20 +69,26 @@ public class XBeeFrameHandler {
      */
     private ZigBeePort serialPort;
 
+    /**
+     * The {@link ZigBeeWireTrace} used to record frames, or null if tracing is disabled
+     */
+    private ZigBeeWireTrace wireTrace;
+
     /**
      * The parser parserThread.
      */
     private Thread parserThread = null;
 
     /**
-     * Object to synchronise access to sentCommand
+     * Object to synchronise access to outstandingFrames
      */
     private Object commandLock = new Object();
 
     /**
-     * The command that we're currently sending, or null if no command is being transacted
+     * The frames that have been sent to the XBee and are awaiting a response, keyed by the frame ID. Each frame has its
+     * own timeout timer. Frames are held in the order in which they were sent.
      */
-    private XBeeCommand sentCommand = null;
+    private final Map<Integer, ScheduledFuture<?>> outstandingFrames = new LinkedHashMap<>();
 
     /**
      * Flag reflecting that parser has been closed and parser parserThread should exit.
@@ -91,11 +100,6 @@ public class XBeeFrameHandler {
      */
     private ScheduledExecutorService timeoutScheduler;
 
-    /**
-     * The future be used for timeouts
-     */
-    private ScheduledFuture<?> timeoutTimer = null;
-
     /**
      * Frame ID counter
      */
@@ -121,6 +125,22 @@ public class XBeeFrameHandler {
      */
     private int commandTimeout = DEFAULT_COMMAND_TIMEOUT;
 
+    /**
+     * The default number of frames that may be outstanding with the XBee at any time
+     */
+    private final int DEFAULT_MAX_OUTSTANDING_FRAMES = 4;
+
+    /**
+     * The maximum number of frames that may be outstanding with the XBee at any time. Setting this to 1 provides the
+     * legacy stop-and-wait behaviour where each frame must be acknowledged before the next is sent.
+     */
+    private int maxOutstandingFrames = DEFAULT_MAX_OUTSTANDING_FRAMES;
+
+    /**
+     * Offset of the frame ID within the serialized command (following the two length bytes and the frame type)
+     */
+    private final int FRAME_ID_OFFSET = 3;
+
     enum RxStateMachine {
         WAITING,
         RECEIVE_LEN1,
@@ -158,26 +178,29 @@ public class XBeeFrameHandler {
                 logger.debug("XBeeFrameHandler thread started");
                 while (!closeHandler) {
                     try {
-                        synchronized (commandLock) {
-                            if (sentCommand == null) {
-                                sendNextFrame();
-                            }
-                        }
+                        sendNextFrame();
 
                         // Get a packet from the serial port
                         int[] responseData = getPacket();
                         if (responseData == null) {
-                            synchronized (commandLock) {
-                                sentCommand = null;
+                            // In stop-and-wait mode a corrupted frame is assumed to be the response to our command.
+                            // When pipelining we can't know which frame it belonged to, so leave it to the timer.
+                            if (maxOutstandingFrames == 1) {
+                                releaseAllFrames();
                             }
                             continue;
                         }
 
-                        StringBuilder builder = new StringBuilder();
-                        for (int value : responseData) {
-                            builder.append(String.format(" %02X", value));
+                        if (wireTrace != null) {
+                            wireTrace.traceRx(responseData);
+                        }
+                        if (logger.isDebugEnabled()) {
+                            StringBuilder builder = new StringBuilder();
+                            for (int value : responseData) {
+                                builder.append(String.format(" %02X", value));
+                            }
+                            logger.debug("RX XBEE Data:{}", builder.toString());
                         }
-                        logger.debug("RX XBEE Data:{}", builder.toString());
 
                         // Use the Event Factory to get an event
                         XBeeEvent event = XBeeEventFactory.getXBeeFrame(responseData);
@@ -188,9 +211,7 @@ public class XBeeFrameHandler {
                         // Use the Response Factory to get a response
                         XBeeResponse response = XBeeResponseFactory.getXBeeFrame(responseData);
                         if (response != null && notifyResponseReceived(response)) {
-                            synchronized (commandLock) {
-                                sentCommand = null;
-                            }
+                            releaseFrame(response.getFrameId());
                         }
                     } catch (Exception e) {
                         logger.error("XBeeFrameHandler exception", e);
@@ -249,7 +270,9 @@ public class XBeeFrameHandler {
                 logger.debug("XBEE RX buffer overrun - resetting!");
             }
 
-            logger.trace("RX XBEE: {}", String.format("%02X %c", val, val));
+            if (logger.isTraceEnabled()) {
+                logger.trace("RX XBEE: {}", String.format("%02X %c", val, val));
+            }
 
             if (escaped) {
                 escaped = false;
@@ -314,7 +337,7 @@ public class XBeeFrameHandler {
      */
     public void close() {
         setClosing();
-        stopTimer();
+        releaseAllFrames();
         try {
             parserThread.interrupt();
             parserThread.join();
@@ -337,42 +360,84 @@ public class XBeeFrameHandler {
 
     private void sendNextFrame() {
         synchronized (commandLock) {
-            // Are we already processing a command?
-            if (sentCommand != null) {
-                logger.trace("TX XBEE Frame outstanding: {}", sentCommand);
-                return;
-            }
+            while (outstandingFrames.size() < maxOutstandingFrames) {
+                XBeeCommand nextFrame = sendQueue.poll();
+                if (nextFrame == null) {
+                    logger.trace("XBEE TX: Nothing to send");
+                    // Nothing to send
+                    return;
+                }
 
-            XBeeCommand nextFrame = sendQueue.poll();
-            if (nextFrame == null) {
-                logger.trace("XBEE TX: Nothing to send");
-                // Nothing to send
-                stopTimer();
-                return;
-            }
+                logger.debug("TX XBEE: {}", nextFrame);
+
+                // Build the escaped frame so it can be written as a single block.
+                // Worst case every byte is escaped, plus the flag.
+                int[] frameData = nextFrame.serialize();
+                byte[] outputBytes = new byte[frameData.length * 2 + 1];
+                int outputLength = 0;
+                outputBytes[outputLength++] = (byte) XBEE_FLAG;
+
+                // Send the data
+                for (int sendByte : frameData) {
+                    if (escapeCodes.contains(sendByte)) {
+                        outputBytes[outputLength++] = (byte) XBEE_ESCAPE;
+                        outputBytes[outputLength++] = (byte) (sendByte ^ XBEE_XOR);
+                    } else {
+                        outputBytes[outputLength++] = (byte) sendByte;
+                    }
+                }
+                serialPort.write(outputBytes, 0, outputLength);
+                if (wireTrace != null) {
+                    wireTrace.traceTx(frameData);
+                }
+                if (logger.isDebugEnabled()) {
+                    StringBuilder builder = new StringBuilder();
+                    for (int sendByte : frameData) {
+                        builder.append(String.format(" %02X", sendByte));
+                    }
+                    logger.debug("TX XBEE Data:{}", builder.toString());
+                }
 
-            logger.debug("TX XBEE: {}", nextFrame);
+                // Remember the frame we're processing and start its timeout
+                int sentFrameId = frameData[FRAME_ID_OFFSET];
+                outstandingFrames.put(sentFrameId, startTimer(sentFrameId));
+            }
 
-            // Remember the command we're processing
-            sentCommand = nextFrame;
+            logger.trace("TX XBEE Frames outstanding: {}", outstandingFrames.keySet());
+        }
+    }
 
-            serialPort.write(XBEE_FLAG);
+    /**
+     * Releases an outstanding frame once it has completed, stopping its timer and allowing the next queued frame to
+     * be sent.
+     *
+     * @param releasedFrameId the frame ID of the completed frame
+     */
+    private void releaseFrame(int releasedFrameId) {
+        synchronized (commandLock) {
+            if (!outstandingFrames.containsKey(releasedFrameId)) {
+                return;
+            }
+            ScheduledFuture<?> timer = outstandingFrames.remove(releasedFrameId);
+            if (timer != null) {
+                logger.trace("XBEE Timer: Stop {}", releasedFrameId);
+                timer.cancel(false);
+            }
+        }
+        sendNextFrame();
+    }
 
-            // Send the data
-            StringBuilder builder = new StringBuilder();
-            for (int sendByte : nextFrame.serialize()) {
-                builder.append(String.format(" %02X", sendByte));
-                if (escapeCodes.contains(sendByte)) {
-                    serialPort.write(XBEE_ESCAPE);
-                    serialPort.write(sendByte ^ XBEE_XOR);
-                } else {
-                    serialPort.write(sendByte);
+    /**
+     * Releases all outstanding frames and stops their timers.
+     */
+    private void releaseAllFrames() {
+        synchronized (commandLock) {
+            for (ScheduledFuture<?> timer : outstandingFrames.values()) {
+                if (timer != null) {
+                    timer.cancel(false);
                 }
             }
-            logger.debug("TX XBEE Data:{}", builder.toString());
-
-            // Start the timeout
-            startTimer();
+            outstandingFrames.clear();
         }
     }
 
@@ -437,6 +502,29 @@ public class XBeeFrameHandler {
         this.transactionTimeout = transactionTimeout;
     }
 
+    /**
+     * Sets the maximum number of frames that may be outstanding with the XBee at any time. Frames are correlated with
+     * their responses using the frame ID, and each outstanding frame has its own timeout. Setting this to 1 provides
+     * the legacy stop-and-wait behaviour.
+     *
+     * @param maxOutstandingFrames the maximum number of outstanding frames. Must be at least 1.
+     */
+    public void setMaxOutstandingFrames(int maxOutstandingFrames) {
+        if (maxOutstandingFrames < 1) {
+            throw new IllegalArgumentException("Maximum outstanding frames must be at least 1");
+        }
+        this.maxOutstandingFrames = maxOutstandingFrames;
+    }
+
+    /**
+     * Sets the {@link ZigBeeWireTrace} used to record the frames exchanged with the XBee
+     *
+     * @param wireTrace the {@link ZigBeeWireTrace} to record frames, or null to disable tracing
+     */
+    public void setWireTrace(ZigBeeWireTrace wireTrace) {
+        this.wireTrace = wireTrace;
+    }
+
     private void addTransactionListener(XBeeListener listener) {
         synchronized (transactionListeners) {
             if (transactionListeners.contains(listener)) {
@@ -530,6 +618,12 @@ public class XBeeFrameHandler {
                 // Remove the listener
                 removeTransactionListener(this);
 
+                // If we were aborted, make sure the frame doesn't hold up the queue
+                if (completionResponse == null) {
+                    sendQueue.remove(command);
+                    releaseFrame(ourFrameId);
+                }
+
                 return completionResponse;
             }
 
@@ -567,10 +661,6 @@ public class XBeeFrameHandler {
             return future.get(transactionTimeout, TimeUnit.MILLISECONDS);
         } catch (InterruptedException | ExecutionException | TimeoutException e) {
             logger.debug("XBee interrupted in sendRequest {}", command);
-            synchronized (commandLock) {
-                sentCommand = null;
-            }
-
             future.cancel(true);
             return null;
         }
@@ -647,35 +737,23 @@ public class XBeeFrameHandler {
     }
 
     /**
-     * Starts the transaction timeout. This will simply cancel the transaction and send the next frame from the queue if
-     * the timer times out. We don't try and retry as this might cause other unwanted issues.
+     * Starts the transaction timeout for a frame. This will simply cancel the transaction and send the next frame from
+     * the queue if the timer times out. We don't try and retry as this might cause other unwanted issues.
+     *
+     * @param timerFrameId the frame ID of the frame being timed
+     * @return the {@link ScheduledFuture} for the timer
      */
-    private void startTimer() {
-        stopTimer();
-        logger.trace("XBEE Timer: Start");
-        timeoutTimer = timeoutScheduler.schedule(new Runnable() {
+    private ScheduledFuture<?> startTimer(final int timerFrameId) {
+        logger.trace("XBEE Timer: Start {}", timerFrameId);
+        return timeoutScheduler.schedule(new Runnable() {
             @Override
             public void run() {
-                timeoutTimer = null;
-                logger.debug("XBEE Timer: Timeout");
-                synchronized (commandLock) {
-                    if (sentCommand != null) {
-                        sentCommand = null;
-                        sendNextFrame();
-                    }
-                }
+                logger.debug("XBEE Timer: Timeout {}", timerFrameId);
+                releaseFrame(timerFrameId);
             }
         }, commandTimeout, TimeUnit.MILLISECONDS);
     }
 
-    private void stopTimer() {
-        if (timeoutTimer != null) {
-            logger.trace("XBEE Timer: Stop");
-            timeoutTimer.cancel(false);
-            timeoutTimer = null;
-        }
-    }
-
     interface XBeeListener {
         boolean transactionEvent(XBeeResponse response);
     }
@@ -192,8 +192,9 @@ public class XBeeFrame {
      * @param address the {@link IeeeAddress}
      */
     protected void serializeIeeeAddress(IeeeAddress address) {
+        long value = address.longValue();
         for (int cnt = 7; cnt >= 0; cnt--) {
-            buffer[length++] = address.getValue()[cnt];
+            buffer[length++] = (int) ((value >> (cnt * 8)) & 0xFF);
         }
     }
 
@@ -18,9 +18,13 @@ import java.io.OutputStream;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.concurrent.ScheduledExecutorService;
 
 import org.junit.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
 
+import com.zsmartsystems.zigbee.dongle.xbee.internal.protocol.XBeeCommand;
 import com.zsmartsystems.zigbee.transport.ZigBeePort;
 
 /**
@@ -98,6 +102,82 @@ public class XBeeFrameHandlerTest {
         assertEquals(0x11, response[3]);
     }
 
+    private XBeeCommand createCommand(int frameId) {
+        XBeeCommand command = Mockito.mock(XBeeCommand.class);
+        Mockito.when(command.serialize()).thenReturn(new int[] { 0x00, 0x04, 0x08, frameId, 0x41, 0x49, 0x00 });
+        return command;
+    }
+
+    private XBeeFrameHandler createFrameHandler(ZigBeePort port) throws Exception {
+        XBeeFrameHandler frameHandler = new XBeeFrameHandler();
+
+        Field field = frameHandler.getClass().getDeclaredField("serialPort");
+        field.setAccessible(true);
+        field.set(frameHandler, port);
+
+        field = frameHandler.getClass().getDeclaredField("timeoutScheduler");
+        field.setAccessible(true);
+        field.set(frameHandler, Mockito.mock(ScheduledExecutorService.class));
+
+        return frameHandler;
+    }
+
+    private void queueFrame(XBeeFrameHandler frameHandler, XBeeCommand command) throws Exception {
+        Method privateMethod = XBeeFrameHandler.class.getDeclaredMethod("queueFrame", XBeeCommand.class);
+        privateMethod.setAccessible(true);
+        privateMethod.invoke(frameHandler, command);
+    }
+
+    private void releaseFrame(XBeeFrameHandler frameHandler, int frameId) throws Exception {
+        Method privateMethod = XBeeFrameHandler.class.getDeclaredMethod("releaseFrame", int.class);
+        privateMethod.setAccessible(true);
+        privateMethod.invoke(frameHandler, frameId);
+    }
+
+    @Test
+    public void testPipelinedFrames() throws Exception {
+        ZigBeePort port = Mockito.mock(ZigBeePort.class);
+        XBeeFrameHandler frameHandler = createFrameHandler(port);
+        frameHandler.setMaxOutstandingFrames(2);
+
+        queueFrame(frameHandler, createCommand(1));
+        queueFrame(frameHandler, createCommand(2));
+        queueFrame(frameHandler, createCommand(3));
+        Mockito.verify(port, Mockito.times(2)).write(ArgumentMatchers.any(byte[].class), ArgumentMatchers.anyInt(),
+                ArgumentMatchers.anyInt());
+
+        // Unknown frame IDs don't release a frame
+        releaseFrame(frameHandler, 5);
+        Mockito.verify(port, Mockito.times(2)).write(ArgumentMatchers.any(byte[].class), ArgumentMatchers.anyInt(),
+                ArgumentMatchers.anyInt());
+
+        // Frames can complete out of order
+        releaseFrame(frameHandler, 2);
+        Mockito.verify(port, Mockito.times(3)).write(ArgumentMatchers.any(byte[].class), ArgumentMatchers.anyInt(),
+                ArgumentMatchers.anyInt());
+    }
+
+    @Test
+    public void testStopAndWait() throws Exception {
+        ZigBeePort port = Mockito.mock(ZigBeePort.class);
+        XBeeFrameHandler frameHandler = createFrameHandler(port);
+        frameHandler.setMaxOutstandingFrames(1);
+
+        queueFrame(frameHandler, createCommand(1));
+        queueFrame(frameHandler, createCommand(2));
+        Mockito.verify(port, Mockito.times(1)).write(ArgumentMatchers.any(byte[].class), ArgumentMatchers.anyInt(),
+                ArgumentMatchers.anyInt());
+
+        releaseFrame(frameHandler, 1);
+        Mockito.verify(port, Mockito.times(2)).write(ArgumentMatchers.any(byte[].class), ArgumentMatchers.anyInt(),
+                ArgumentMatchers.anyInt());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMaxOutstandingFramesInvalid() {
+        new XBeeFrameHandler().setMaxOutstandingFrames(0);
+    }
+
     class TestPort implements ZigBeePort {
         InputStream input;
         OutputStream output;
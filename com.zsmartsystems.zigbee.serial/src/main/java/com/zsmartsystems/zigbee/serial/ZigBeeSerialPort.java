@@ -7,6 +7,8 @@
  */
 package com.zsmartsystems.zigbee.serial;
 
+import java.util.Arrays;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -48,29 +50,39 @@ public class ZigBeeSerialPort implements ZigBeePort, SerialPortEventListener {
     private final FlowControl flowControl;
 
     /**
-     * The circular fifo queue for receive data
+     * The length of the receive buffer. This must be a power of 2.
+     */
+    private final int maxLength = 4096;
+
+    /**
+     * The circular fifo queue for receive data.
+     * <p>
+     * The queue is lock free - it is written only by the serial event thread, and read only by the application reader
+     * thread. The start and end pointers are free running counters, masked to index into the buffer.
      */
-    private int[] buffer = new int[512];
+    private final byte[] buffer = new byte[maxLength];
 
     /**
-     * The receive buffer end pointer (where we put the newly received data)
+     * The receive buffer end pointer (where we put the newly received data). Only updated by the serial event thread.
      */
-    private int end = 0;
+    private volatile int end = 0;
 
     /**
-     * The receive buffer start pointer (where we take the data to pass to the application)
+     * The receive buffer start pointer (where we take the data to pass to the application). Only updated by the
+     * reader.
      */
-    private int start = 0;
+    private volatile int start = 0;
 
     /**
-     * The length of the receive buffer
+     * Set by {@link #purgeRxBuffer()} to request that the reader discards the data received up to
+     * {@link #purgePosition}. The purge is applied by the reader so that only the reader updates {@link #start}.
      */
-    private int maxLength = 512;
+    private volatile boolean purgeRequested = false;
 
     /**
-     * Synchronisation object for buffer queue manipulation
+     * The value of {@link #end} when the purge was requested
      */
-    private Object bufferSynchronisationObject = new Object();
+    private volatile int purgePosition = 0;
 
     /**
      * Constructor setting port name and baud rate.
@@ -179,7 +191,23 @@ public class ZigBeeSerialPort implements ZigBeePort, SerialPortEventListener {
         try {
             serialPort.writeInt(value);
         } catch (SerialPortException e) {
-            e.printStackTrace();
+            logger.error("Error writing to serial port '{}'.", portName, e);
+        }
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) {
+        if (serialPort == null) {
+            return;
+        }
+        try {
+            if (offset == 0 && length == bytes.length) {
+                serialPort.writeBytes(bytes);
+            } else {
+                serialPort.writeBytes(Arrays.copyOfRange(bytes, offset, offset + length));
+            }
+        } catch (SerialPortException e) {
+            logger.error("Error writing to serial port '{}'.", portName, e);
         }
     }
 
@@ -190,51 +218,82 @@ public class ZigBeeSerialPort implements ZigBeePort, SerialPortEventListener {
 
     @Override
     public int read(int timeout) {
-        long endTime = System.currentTimeMillis() + timeout;
+        if (!waitForData(timeout)) {
+            return -1;
+        }
 
-        try {
-            while (System.currentTimeMillis() < endTime) {
-                synchronized (bufferSynchronisationObject) {
-                    if (start != end) {
-                        int value = buffer[start++];
-                        if (start >= maxLength) {
-                            start = 0;
-                        }
-                        return value;
-                    }
-                }
+        int value = buffer[start & (maxLength - 1)] & 0xFF;
+        start++;
+        return value;
+    }
 
-                synchronized (this) {
-                    if (serialPort == null) {
-                        return -1;
+    @Override
+    public int read(byte[] bytes, int offset, int length, int timeout) {
+        if (length == 0) {
+            return 0;
+        }
+        if (!waitForData(timeout)) {
+            return -1;
+        }
+
+        int readPos = start;
+        int count = Math.min(end - readPos, length);
+        for (int cnt = 0; cnt < count; cnt++) {
+            bytes[offset + cnt] = buffer[(readPos + cnt) & (maxLength - 1)];
+        }
+        start = readPos + count;
+        return count;
+    }
+
+    /**
+     * Waits until data is available in the receive buffer. The calling thread only blocks if the buffer is empty.
+     *
+     * @param timeout the timeout in milliseconds to wait
+     * @return true if data is available, false if the timeout expired or the port was closed
+     */
+    private boolean waitForData(int timeout) {
+        applyPurge();
+        if (start != end) {
+            return true;
+        }
+
+        long endTime = System.currentTimeMillis() + timeout;
+        try {
+            synchronized (this) {
+                while (start == end) {
+                    long waitTime = endTime - System.currentTimeMillis();
+                    if (serialPort == null || waitTime <= 0) {
+                        return false;
                     }
 
-                    wait(endTime - System.currentTimeMillis());
+                    wait(waitTime);
                 }
             }
-            return -1;
+            return true;
         } catch (InterruptedException e) {
         }
-        return -1;
+        return false;
     }
 
     @Override
     public void serialEvent(SerialPortEvent event) {
         if (event.isRXCHAR() & event.getEventValue() > 0) {
             try {
-                int[] input = serialPort.readIntArray();
+                byte[] input = serialPort.readBytes();
                 if (input == null) {
                     return;
                 }
 
-                synchronized (bufferSynchronisationObject) {
-                    for (int recv : input) {
-                        buffer[end++] = recv;
-                        if (end >= maxLength) {
-                            end = 0;
-                        }
-                    }
+                int writePos = end;
+                int count = Math.min(input.length, maxLength - (writePos - start));
+                if (count < input.length) {
+                    logger.warn("Serial port '{}' receive buffer overflow - {} bytes dropped", portName,
+                            input.length - count);
                 }
+                for (int cnt = 0; cnt < count; cnt++) {
+                    buffer[(writePos + cnt) & (maxLength - 1)] = input[cnt];
+                }
+                end = writePos + count;
 
                 synchronized (this) {
                     this.notify();
@@ -245,12 +304,25 @@ public class ZigBeeSerialPort implements ZigBeePort, SerialPortEventListener {
         }
     }
 
+    /**
+     * Discards the data received before the last call to {@link #purgeRxBuffer()}. Called only by the reader.
+     */
+    private void applyPurge() {
+        if (!purgeRequested) {
+            return;
+        }
+        purgeRequested = false;
+        int position = purgePosition;
+        // Don't move backwards if the reader has already consumed data beyond the purge position
+        if (position - start > 0) {
+            start = position;
+        }
+    }
+
     @Override
     public void purgeRxBuffer() {
-        synchronized (bufferSynchronisationObject) {
-            start = 0;
-            end = 0;
-        }
+        purgePosition = end;
+        purgeRequested = true;
     }
 
     public boolean setDtr(boolean state) {
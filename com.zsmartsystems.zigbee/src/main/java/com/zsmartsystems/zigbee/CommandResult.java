@@ -24,6 +24,11 @@ public class CommandResult {
      */
     private final ZigBeeCommand response;
 
+    /**
+     * True if the command was replaced by a later command before it was sent
+     */
+    private final boolean superseded;
+
     /**
      * Constructor which sets the received response command or null if timeout occurs.
      *
@@ -31,13 +36,29 @@ public class CommandResult {
      */
     public CommandResult(final ZigBeeCommand response) {
         this.response = response;
+        this.superseded = false;
     }
 
     /**
      * Constructor for timeout situations.
      */
     public CommandResult() {
-        response = null;
+        this(null);
+    }
+
+    private CommandResult(final boolean superseded) {
+        this.response = null;
+        this.superseded = superseded;
+    }
+
+    /**
+     * Creates a result for a command that was replaced by a later command before it was sent. The command was not sent,
+     * so the result is neither successful nor a timeout.
+     *
+     * @return the superseded {@link CommandResult}
+     */
+    public static CommandResult superseded() {
+        return new CommandResult(true);
     }
 
     /**
@@ -55,7 +76,16 @@ public class CommandResult {
      * @return TRUE if timeout occurred
      */
     public boolean isTimeout() {
-        return response == null;
+        return response == null && !superseded;
+    }
+
+    /**
+     * Checks whether the command was replaced by a later command before it was sent.
+     *
+     * @return TRUE if the command was superseded
+     */
+    public boolean isSuperseded() {
+        return superseded;
     }
 
     /**
@@ -117,6 +147,8 @@ public class CommandResult {
         if (isSuccess()) {
             builder.append("SUCCESS, ");
             builder.append(response);
+        } else if (isSuperseded()) {
+            builder.append("SUPERSEDED");
         } else if (isTimeout()) {
             builder.append("TIMEOUT");
         } else {
@@ -9,22 +9,32 @@ package com.zsmartsystems.zigbee;
 
 import java.math.BigInteger;
 import java.security.InvalidParameterException;
-import java.util.Arrays;
 
 /**
- * Represents a 64 bit extended PAN Id
+ * Represents a 64 bit extended PAN Id.
+ * <p>
+ * The PAN Id is immutable and is held as a single long.
  *
  * @author Chris Jackson
  *
  */
 public class ExtendedPanId {
-    private int[] panId;
+    private final long panId;
 
     /**
      * Default constructor. Creates a PAN Id of 0
      */
     public ExtendedPanId() {
-        this.panId = new int[] { 0, 0, 0, 0, 0, 0, 0, 0 };
+        this.panId = 0;
+    }
+
+    /**
+     * Create an {@link ExtendedPanId} from a long
+     *
+     * @param panId the panId as a long
+     */
+    public ExtendedPanId(long panId) {
+        this.panId = panId;
     }
 
     /**
@@ -33,18 +43,7 @@ public class ExtendedPanId {
      * @param panId the panId as a {@link BigInteger}
      */
     public ExtendedPanId(BigInteger panId) {
-        this.panId = new int[8];
-
-        long longVal = panId.longValue();
-
-        this.panId[0] = (int) (longVal & 0xff);
-        this.panId[1] = (int) ((longVal >> 8) & 0xff);
-        this.panId[2] = (int) ((longVal >> 16) & 0xff);
-        this.panId[3] = (int) ((longVal >> 24) & 0xff);
-        this.panId[4] = (int) ((longVal >> 32) & 0xff);
-        this.panId[5] = (int) ((longVal >> 40) & 0xff);
-        this.panId[6] = (int) ((longVal >> 48) & 0xff);
-        this.panId[7] = (int) ((longVal >> 56) & 0xff);
+        this.panId = panId.longValue();
     }
 
     /**
@@ -64,55 +63,53 @@ public class ExtendedPanId {
      */
     public ExtendedPanId(int[] panId) {
         if (panId == null) {
-            this.panId = new int[] { 0, 0, 0, 0, 0, 0, 0, 0 };
+            this.panId = 0;
             return;
         }
         if (panId.length != 8) {
             throw new IllegalArgumentException("ExtendedPanId array length must be 8");
         }
-        this.panId = Arrays.copyOf(panId, 8);
+        long value = 0;
+        for (int cnt = 7; cnt >= 0; cnt--) {
+            value = (value << 8) | (panId[cnt] & 0xff);
+        }
+        this.panId = value;
     }
 
     /**
-     * Gets the ExtendedPanId as an integer array with length 8
+     * Gets the ExtendedPanId as an integer array with length 8. A new array is returned on each call.
      *
      * @return int array of panId
      */
     public int[] getValue() {
+        int[] value = new int[8];
+        for (int cnt = 0; cnt < 8; cnt++) {
+            value[cnt] = (int) ((panId >> (cnt * 8)) & 0xff);
+        }
+        return value;
+    }
+
+    /**
+     * Gets the ExtendedPanId as a long
+     *
+     * @return the panId as a long
+     */
+    public long longValue() {
         return panId;
     }
 
     /**
-     * Check if the ExtendedPanId is valid. This checks the length of the ID, and checks
-     * it is not 0000000000000000 or FFFFFFFFFFFFFFFF.
+     * Check if the ExtendedPanId is valid. This checks it is not 0000000000000000 or FFFFFFFFFFFFFFFF.
      *
      * @return true if the extended PAN ID is valid
      */
     public boolean isValid() {
-        if (panId == null || panId.length != 8) {
-            return false;
-        }
-
-        int cnt0 = 0;
-        int cntF = 0;
-        for (int val : panId) {
-            if (val == 0x00) {
-                cnt0++;
-            }
-            if (val == 0xFF) {
-                cntF++;
-            }
-        }
-
-        return !(cnt0 == 8 || cntF == 8);
+        return panId != 0 && panId != -1L;
     }
 
     @Override
     public int hashCode() {
-        final int prime = 31;
-        int result = 1;
-        result = prime * result + Arrays.hashCode(panId);
-        return result;
+        return (int) (panId ^ (panId >>> 32));
     }
 
     @Override
@@ -126,19 +123,12 @@ public class ExtendedPanId {
         if (getClass() != obj.getClass()) {
             return false;
         }
-        ExtendedPanId other = (ExtendedPanId) obj;
-        return Arrays.equals(panId, other.panId);
+        return panId == ((ExtendedPanId) obj).panId;
     }
 
     @Override
     public String toString() {
-        StringBuilder builder = new StringBuilder();
-
-        for (int cnt = 7; cnt >= 0; cnt--) {
-            builder.append(String.format("%02X", panId[cnt]));
-        }
-
-        return builder.toString();
+        return String.format("%016X", panId);
     }
 
     /**
@@ -7,24 +7,43 @@
  */
 package com.zsmartsystems.zigbee;
 
+import java.lang.ref.WeakReference;
 import java.math.BigInteger;
-import java.util.Arrays;
-import java.util.Objects;
+import java.util.Map;
+import java.util.WeakHashMap;
 
 /**
- * Represents a 64 bit IEEE network address
+ * Represents a 64 bit IEEE network address.
+ * <p>
+ * The address is immutable and is held as a single long, so it may be used efficiently as a map key - hashing and
+ * comparison do not require any allocation. Where many copies of the same address are held, {@link #intern()} may be
+ * used to share a single instance.
  *
  * @author Chris Jackson
  *
  */
 public class IeeeAddress implements Comparable<IeeeAddress> {
-    private int[] address;
+    /**
+     * Pool of interned addresses. Entries are removed once the address is no longer referenced elsewhere.
+     */
+    private static final Map<IeeeAddress, WeakReference<IeeeAddress>> internPool = new WeakHashMap<>();
+
+    private final long address;
 
     /**
      * Default constructor. Creates an address 0
      */
     public IeeeAddress() {
-        this.address = new int[] { 0, 0, 0, 0, 0, 0, 0, 0 };
+        this.address = 0;
+    }
+
+    /**
+     * Create an {@link IeeeAddress} from a long
+     *
+     * @param address the address as a long
+     */
+    public IeeeAddress(long address) {
+        this.address = address;
     }
 
     /**
@@ -33,9 +52,7 @@ public class IeeeAddress implements Comparable<IeeeAddress> {
      * @param address the address as a {@link BigInteger}
      */
     public IeeeAddress(BigInteger address) {
-        this();
-
-        setAddress(address.longValue());
+        this.address = address.longValue();
     }
 
     /**
@@ -45,9 +62,8 @@ public class IeeeAddress implements Comparable<IeeeAddress> {
      * @throws IllegalArgumentException
      */
     public IeeeAddress(String address) {
-        this();
         try {
-            setAddress(new BigInteger(address, 16).longValue());
+            this.address = new BigInteger(address, 16).longValue();
         } catch (NumberFormatException e) {
             throw new IllegalArgumentException("IeeeAddress string must contain valid hexadecimal value");
         }
@@ -63,22 +79,56 @@ public class IeeeAddress implements Comparable<IeeeAddress> {
         if (address.length != 8) {
             throw new IllegalArgumentException("IeeeAddress array length must be 8");
         }
-        this.address = Arrays.copyOf(address, 8);
+        long value = 0;
+        for (int cnt = 7; cnt >= 0; cnt--) {
+            value = (value << 8) | (address[cnt] & 0xff);
+        }
+        this.address = value;
     }
 
     /**
-     * Gets the IeeeAddress as an integer array with length 8
+     * Gets the IeeeAddress as an integer array with length 8. A new array is returned on each call.
      *
      * @return int array of address
      */
     public int[] getValue() {
+        int[] value = new int[8];
+        for (int cnt = 0; cnt < 8; cnt++) {
+            value[cnt] = (int) ((address >> (cnt * 8)) & 0xff);
+        }
+        return value;
+    }
+
+    /**
+     * Gets the IeeeAddress as a long
+     *
+     * @return the address as a long
+     */
+    public long longValue() {
         return address;
     }
 
+    /**
+     * Gets a shared instance of this address. Addresses that are equal return the same instance while the instance is
+     * referenced, so this may be used to reduce memory where the same address is held in many places.
+     *
+     * @return the shared {@link IeeeAddress} instance equal to this address
+     */
+    public IeeeAddress intern() {
+        synchronized (internPool) {
+            WeakReference<IeeeAddress> reference = internPool.get(this);
+            IeeeAddress interned = reference == null ? null : reference.get();
+            if (interned == null) {
+                internPool.put(this, new WeakReference<>(this));
+                interned = this;
+            }
+            return interned;
+        }
+    }
+
     @Override
     public int hashCode() {
-        return Objects.hash(address[0], address[1], address[2], address[3], address[4], address[5], address[6],
-                address[7]);
+        return (int) (address ^ (address >>> 32));
     }
 
     @Override
@@ -89,24 +139,12 @@ public class IeeeAddress implements Comparable<IeeeAddress> {
         if (!IeeeAddress.class.isAssignableFrom(obj.getClass())) {
             return false;
         }
-        final IeeeAddress other = (IeeeAddress) obj;
-        for (int cnt = 0; cnt < 8; cnt++) {
-            if (other.getValue()[cnt] != address[cnt]) {
-                return false;
-            }
-        }
-        return true;
+        return ((IeeeAddress) obj).address == address;
     }
 
     @Override
     public String toString() {
-        StringBuilder builder = new StringBuilder();
-
-        for (int cnt = 7; cnt >= 0; cnt--) {
-            builder.append(String.format("%02X", address[cnt]));
-        }
-
-        return builder.toString();
+        return String.format("%016X", address);
     }
 
     @Override
@@ -114,28 +152,8 @@ public class IeeeAddress implements Comparable<IeeeAddress> {
         if (other == null) {
             return -1;
         }
-        if (!IeeeAddress.class.isAssignableFrom(other.getClass())) {
-            return -1;
-        }
-        for (int cnt = 0; cnt < 8; cnt++) {
-            if (other.getValue()[cnt] == address[cnt]) {
-                continue;
-            }
-
-            return other.getValue()[cnt] < address[cnt] ? 1 : -1;
-        }
-        return 0;
-    }
-
-    private void setAddress(long longVal) {
-        this.address[0] = (int) (longVal & 0xff);
-        this.address[1] = (int) ((longVal >> 8) & 0xff);
-        this.address[2] = (int) ((longVal >> 16) & 0xff);
-        this.address[3] = (int) ((longVal >> 24) & 0xff);
-        this.address[4] = (int) ((longVal >> 32) & 0xff);
-        this.address[5] = (int) ((longVal >> 40) & 0xff);
-        this.address[6] = (int) ((longVal >> 48) & 0xff);
-        this.address[7] = (int) ((longVal >> 56) & 0xff);
-
+        // Addresses are ordered by the least significant byte first, compared as unsigned values
+        return Long.compare(Long.reverseBytes(address) ^ Long.MIN_VALUE,
+                Long.reverseBytes(other.address) ^ Long.MIN_VALUE);
     }
 }
@@ -0,0 +1,107 @@
+/**
+ * Copyright (c) 2016-2019 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Filter used by a {@link ZigBeeCommandListener} to limit the commands it is notified of. The filter is checked before
+ * the notification is scheduled, so commands that the listener is not interested in do not use a notification thread.
+ * <p>
+ * A command matches the filter if it matches all of the configured conditions -
+ * <ul>
+ * <li>the cluster ID is one of the cluster IDs added with {@link #addClusterId(int)}
+ * <li>the command is an instance of one of the classes added with {@link #addCommandClass(Class)}
+ * <li>the source network address is the address set with {@link #setSourceAddress(Integer)}
+ * </ul>
+ * Conditions that are not configured match all commands.
+ *
+ * @author agent
+ */
+public class ZigBeeCommandFilter {
+    private final Set<Integer> clusterIds = new HashSet<Integer>();
+    private final Set<Class<?>> commandClasses = new HashSet<Class<?>>();
+    private volatile Integer sourceAddress;
+
+    /**
+     * Creates a filter that matches all commands
+     */
+    public ZigBeeCommandFilter() {
+    }
+
+    /**
+     * Creates a filter that matches commands that are an instance of any of the command classes
+     *
+     * @param commandClasses the {@link ZigBeeCommand} classes to match
+     */
+    public ZigBeeCommandFilter(Class<?>... commandClasses) {
+        this.commandClasses.addAll(Arrays.asList(commandClasses));
+    }
+
+    /**
+     * Adds a cluster ID to the filter
+     *
+     * @param clusterId the cluster ID to match
+     */
+    public void addClusterId(int clusterId) {
+        clusterIds.add(clusterId);
+    }
+
+    /**
+     * Adds a command class to the filter. Commands match if they are an instance of the class, so a super class such
+     * as {@link com.zsmartsystems.zigbee.zcl.ZclCommand} may be used to match all commands of that type.
+     *
+     * @param commandClass the {@link ZigBeeCommand} class to match
+     */
+    public void addCommandClass(Class<?> commandClass) {
+        commandClasses.add(commandClass);
+    }
+
+    /**
+     * Sets the source network address to match. This may be changed after the filter has been registered, eg if the
+     * network address of a node changes.
+     *
+     * @param sourceAddress the source network address, or null to match all source addresses
+     */
+    public void setSourceAddress(Integer sourceAddress) {
+        this.sourceAddress = sourceAddress;
+    }
+
+    /**
+     * Checks if the command matches this filter
+     *
+     * @param command the received {@link ZigBeeCommand}
+     * @return true if the command matches the filter and should be passed to the listener
+     */
+    public boolean isMatch(ZigBeeCommand command) {
+        if (!clusterIds.isEmpty() && !clusterIds.contains(command.getClusterId())) {
+            return false;
+        }
+        if (sourceAddress != null && (command.getSourceAddress() == null
+                || command.getSourceAddress().getAddress() != sourceAddress.intValue())) {
+            return false;
+        }
+        if (commandClasses.isEmpty()) {
+            return true;
+        }
+        for (Class<?> commandClass : commandClasses) {
+            if (commandClass.isInstance(command)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return "ZigBeeCommandFilter [clusterIds=" + clusterIds + ", commandClasses=" + commandClasses
+                + ", sourceAddress=" + sourceAddress + "]";
+    }
+}
@@ -20,4 +20,15 @@ public interface ZigBeeCommandListener {
      * @param command the received {@link ZigBeeCommand}
      */
     void commandReceived(final ZigBeeCommand command);
+
+    /**
+     * Gets the {@link ZigBeeCommandFilter} used to limit the commands passed to {@link #commandReceived(ZigBeeCommand)}.
+     * The filter is read when the listener is added, so a different filter returned later will not be used. The
+     * source address of the filter may be updated with {@link ZigBeeCommandFilter#setSourceAddress(Integer)}.
+     *
+     * @return the {@link ZigBeeCommandFilter}, or null if the listener should receive all commands
+     */
+    default ZigBeeCommandFilter getCommandFilter() {
+        return null;
+    }
 }
@@ -114,6 +114,7 @@ public class ZigBeeEndpoint {
      */
     public void setDeviceId(int deviceId) {
         this.deviceId = deviceId;
+        node.setFullSnapshotRequired();
     }
 
     /**
@@ -132,6 +133,7 @@ public class ZigBeeEndpoint {
      */
     public void setDeviceVersion(int deviceVersion) {
         this.deviceVersion = deviceVersion;
+        node.setFullSnapshotRequired();
     }
 
     /**
@@ -167,6 +169,7 @@ public class ZigBeeEndpoint {
         }
 
         inputClusters.put(cluster.getClusterId(), cluster);
+        node.setFullSnapshotRequired();
         return true;
     }
 
@@ -214,6 +217,7 @@ public class ZigBeeEndpoint {
         logger.debug("{}: Setting input clusters {}", getEndpointAddress(), printClusterList(inputClusterIds));
 
         updateClusters(inputClusters, inputClusterIds, true);
+        node.setFullSnapshotRequired();
     }
 
     /**
@@ -256,6 +260,7 @@ public class ZigBeeEndpoint {
         logger.debug("{}: Setting output clusters {}", getEndpointAddress(), printClusterList(outputClusterIds));
 
         updateClusters(outputClusters, outputClusterIds, false);
+        node.setFullSnapshotRequired();
     }
 
     /**
@@ -273,6 +278,7 @@ public class ZigBeeEndpoint {
 
         cluster.setClient();
         outputClusters.put(cluster.getClusterId(), cluster);
+        node.setFullSnapshotRequired();
         return true;
     }
 
@@ -381,6 +387,7 @@ public class ZigBeeEndpoint {
      */
     public void setProfileId(int profileId) {
         this.profileId = profileId;
+        node.setFullSnapshotRequired();
     }
 
     /**
@@ -490,11 +497,16 @@ public class ZigBeeEndpoint {
             }
         }
 
+        if (updated) {
+            node.setFullSnapshotRequired();
+        }
         return updated;
     }
 
     /**
      * Gets a {@link ZigBeeEndpointDao} used for serialisation of the {@link ZigBeeEndpoint}
+     * <p>
+     * Calling this method clears the dirty state of all clusters in the endpoint.
      *
      * @return the {@link ZigBeeEndpointDao}
      */
@@ -523,6 +535,62 @@ public class ZigBeeEndpoint {
         return dao;
     }
 
+    /**
+     * Checks if any of the clusters in the endpoint have changed since they were last persisted. Changes to the
+     * endpoint itself (eg the addition of clusters) are recorded in the parent {@link ZigBeeNode} and require a full
+     * snapshot of the node.
+     *
+     * @return true if any cluster in the endpoint has changed and needs to be persisted
+     */
+    public boolean isDirty() {
+        for (ZclCluster cluster : inputClusters.values()) {
+            if (cluster.isDirty()) {
+                return true;
+            }
+        }
+        for (ZclCluster cluster : outputClusters.values()) {
+            if (cluster.isDirty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Gets a {@link ZigBeeEndpointDao} containing only the clusters that have changed since they were last persisted.
+     * The endpoint fields and cluster ID lists are not included as any change to these requires a full snapshot of the
+     * node.
+     * <p>
+     * Calling this method clears the dirty state of all clusters in the endpoint.
+     *
+     * @return the {@link ZigBeeEndpointDao} containing the changes to the endpoint
+     */
+    public ZigBeeEndpointDao getDeltaDao() {
+        ZigBeeEndpointDao dao = new ZigBeeEndpointDao();
+
+        dao.setEndpointId(endpointId);
+
+        List<ZclClusterDao> clusters;
+
+        clusters = new ArrayList<ZclClusterDao>();
+        for (ZclCluster cluster : inputClusters.values()) {
+            if (cluster.isDirty()) {
+                clusters.add(cluster.getDeltaDao());
+            }
+        }
+        dao.setInputClusters(clusters);
+
+        clusters = new ArrayList<ZclClusterDao>();
+        for (ZclCluster cluster : outputClusters.values()) {
+            if (cluster.isDirty()) {
+                clusters.add(cluster.getDeltaDao());
+            }
+        }
+        dao.setOutputClusters(clusters);
+
+        return dao;
+    }
+
     public void setDao(ZigBeeEndpointDao dao) {
         endpointId = dao.getEndpointId();
         if (dao.getProfileId() != null) {
@@ -7,10 +7,14 @@
  */
 package com.zsmartsystems.zigbee;
 
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 /**
@@ -75,6 +79,23 @@ public class ZigBeeExecutors {
         return Executors.newFixedThreadPool(nThreads, new ThreadFactoryWithNamePrefix(name));
     }
 
+    /**
+     * Creates a thread pool that uses at most nThreads threads, operating off a bounded queue. Threads are created as
+     * tasks are submitted, and are terminated once they have been idle for 60 seconds. If all threads are active and
+     * the queue is full, further tasks are rejected with a {@link RejectedExecutionException}.
+     *
+     * @param nThreads the maximum number of threads in the pool
+     * @param queueSize the maximum number of tasks waiting for a thread
+     * @param name the thread pool name
+     * @return the newly created thread pool
+     */
+    public static ExecutorService newBoundedThreadPool(int nThreads, int queueSize, String name) {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(nThreads, nThreads, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<Runnable>(queueSize), new ThreadFactoryWithNamePrefix(name));
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
     /**
      * ThreadFactory with the ability to set the thread name prefix. This class is the same as
      * {@link java.util.concurrent.Executors#defaultThreadFactory()} from JDK8, except for the thread naming feature.
@@ -20,6 +20,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
@@ -41,9 +42,12 @@ import com.zsmartsystems.zigbee.database.ZigBeeNetworkDatabaseManager;
 import com.zsmartsystems.zigbee.internal.ClusterMatcher;
 import com.zsmartsystems.zigbee.internal.NotificationService;
 import com.zsmartsystems.zigbee.internal.ZigBeeCommandNotifier;
+import com.zsmartsystems.zigbee.internal.ZigBeeTimerService;
 import com.zsmartsystems.zigbee.security.ZigBeeKey;
 import com.zsmartsystems.zigbee.serialization.ZigBeeDeserializer;
 import com.zsmartsystems.zigbee.serialization.ZigBeeSerializer;
+import com.zsmartsystems.zigbee.transaction.ZigBeeTransactionAdmissionStatus;
+import com.zsmartsystems.zigbee.transaction.ZigBeeTransactionCallback;
 import com.zsmartsystems.zigbee.transaction.ZigBeeTransactionManager;
 import com.zsmartsystems.zigbee.transaction.ZigBeeTransactionMatcher;
 import com.zsmartsystems.zigbee.transport.TransportConfig;
@@ -143,6 +147,12 @@ public class ZigBeeNetworkManager implements ZigBeeNetwork, ZigBeeTransportRecei
      */
     private final Map<IeeeAddress, ZigBeeNode> networkNodes = new ConcurrentHashMap<>();
 
+    /**
+     * Index of the nodes in the ZigBee network by their 16 bit network address. This is maintained as nodes are added,
+     * updated and removed so that nodes can be looked up by network address without iterating over all nodes.
+     */
+    private final ConcurrentMap<Integer, ZigBeeNode> networkAddressIndex = new ConcurrentHashMap<>();
+
     /**
      * The groups in the ZigBee network.
      */
@@ -178,6 +188,13 @@ public class ZigBeeNetworkManager implements ZigBeeNetwork, ZigBeeTransportRecei
     private final ScheduledExecutorService executorService = ZigBeeExecutors.newScheduledThreadPool(6,
             "NetworkManager");
 
+    /**
+     * The timer used for single shot tasks. These are mostly discovery and retry timers that are frequently
+     * rescheduled, so are held in a {@link ZigBeeTimerService} where scheduling and cancelling are O(1). Expired tasks
+     * are run by the {@link #executorService}. Periodic tasks remain scheduled in the {@link #executorService}.
+     */
+    private final ZigBeeTimerService timerService = new ZigBeeTimerService("NetworkManagerTimer", executorService);
+
     /**
      * The {@link ZigBeeTransportTransmit} implementation. This provides the interface
      * for sending data to the network which is an implementation of a ZigBee
@@ -211,14 +228,26 @@ public class ZigBeeNetworkManager implements ZigBeeNetwork, ZigBeeTransportRecei
     private Set<IeeeAddress> nodeDiscoveryComplete = Collections.synchronizedSet(new HashSet<>());
 
     /**
-     * The serializer class used to serialize commands to data packets
+     * The constructor of the serializer class used to serialize commands to data packets. The constructor is resolved
+     * once when the serializer is set to avoid the reflective lookup for every command.
+     */
+    private Constructor<? extends ZigBeeSerializer> serializerConstructor;
+
+    /**
+     * The constructor of the deserializer class used to deserialize commands from data packets. The constructor is
+     * resolved once when the deserializer is set to avoid the reflective lookup for every received frame.
      */
-    private Class<ZigBeeSerializer> serializerClass;
+    private Constructor<? extends ZigBeeDeserializer> deserializerConstructor;
 
     /**
-     * The deserializer class used to deserialize commands from data packets
+     * True if the {@link #deserializerConstructor} takes the payload as a byte[], or false if it takes an int[]
      */
-    private Class<ZigBeeDeserializer> deserializerClass;
+    private boolean deserializerBytePayload;
+
+    /**
+     * Cache of the ZDO command constructors, indexed by the {@link ZdoCommandType}
+     */
+    private final Map<ZdoCommandType, Constructor<? extends ZdoCommand>> zdoConstructors = new ConcurrentHashMap<>();
 
     /**
      * List of {@link ZigBeeNetworkExtension}s that are available to this network. Extensions are added
@@ -317,14 +346,29 @@ public class ZigBeeNetworkManager implements ZigBeeNetwork, ZigBeeTransportRecei
     /**
      * Set the serializer class to be used to convert commands and fields into data to be sent to the dongle.
      * The system instantiates a new serializer for each command.
+     * <p>
+     * The deserializer is constructed with the payload as a byte[] if it provides a suitable constructor, so that the
+     * received payload is not copied. Otherwise the payload is passed as an int[].
      *
      * @param serializer the {@link ZigBeeSerializer} class
      * @param deserializer the {@link ZigBeeDeerializer} class
      */
     @SuppressWarnings("unchecked")
     public void setSerializer(Class<?> serializer, Class<?> deserializer) {
-        this.serializerClass = (Class<ZigBeeSerializer>) serializer;
-        this.deserializerClass = (Class<ZigBeeDeserializer>) deserializer;
+        try {
+            this.serializerConstructor = ((Class<ZigBeeSerializer>) serializer).getConstructor();
+            try {
+                this.deserializerConstructor = ((Class<ZigBeeDeserializer>) deserializer)
+                        .getConstructor(byte[].class);
+                this.deserializerBytePayload = true;
+            } catch (NoSuchMethodException e) {
+                this.deserializerConstructor = ((Class<ZigBeeDeserializer>) deserializer)
+                        .getConstructor(int[].class);
+                this.deserializerBytePayload = false;
+            }
+        } catch (NoSuchMethodException | SecurityException e) {
+            logger.debug("Error setting serializer", e);
+        }
     }
 
     /**
@@ -496,6 +540,19 @@ public class ZigBeeNetworkManager implements ZigBeeNetwork, ZigBeeTransportRecei
         transport.setDefaultDeviceId(defaultDeviceId);
     }
 
+    /**
+     * Sets the delivery mode for received commands. When batched delivery is enabled, all {@link ZigBeeCommandListener}s
+     * are notified of a command from a single notification task rather than a task per listener. This reduces the
+     * thread handoffs for each received command when many listeners are registered, but a slow listener will delay
+     * the notification of other listeners.
+     *
+     * @param batchedDelivery true to notify all command listeners in a single task
+     */
+    public void setBatchedCommandNotification(boolean batchedDelivery) {
+        logger.debug("Batched command notification set to {}", batchedDelivery);
+        commandNotifier.setBatchedDelivery(batchedDelivery);
+    }
+
     /**
      * Set the current network key in use by the system.
      * <p>
@@ -625,6 +682,7 @@ public class ZigBeeNetworkManager implements ZigBeeNetwork, ZigBeeTransportRecei
         transactionManager.shutdown();
 
         NotificationService.shutdown(5000);
+        timerService.shutdown();
         executorService.shutdownNow();
     }
 
@@ -653,7 +711,7 @@ public class ZigBeeNetworkManager implements ZigBeeNetwork, ZigBeeTransportRecei
             logger.debug("ZigBeeNetworkManager scheduleTask: not scheduling task while {}", networkState);
             return null;
         }
-        return executorService.schedule(runnableTask, delay, TimeUnit.MILLISECONDS);
+        return timerService.schedule(runnableTask, delay);
     }
 
     /**
@@ -672,7 +730,7 @@ public class ZigBeeNetworkManager implements ZigBeeNetwork, ZigBeeTransportRecei
             return null;
         }
 
-        return executorService.schedule(runnableTask, delay, TimeUnit.MILLISECONDS);
+        return timerService.schedule(runnableTask, delay);
     }
 
     /**
@@ -688,7 +746,7 @@ public class ZigBeeNetworkManager implements ZigBeeNetwork, ZigBeeTransportRecei
      */
     public ScheduledFuture<?> scheduleTask(Runnable runnableTask, long initialDelay, long period) {
         if (period == 0) {
-            return executorService.schedule(runnableTask, initialDelay, TimeUnit.MILLISECONDS);
+            return timerService.schedule(runnableTask, initialDelay);
         } else {
             return executorService.scheduleAtFixedRate(runnableTask, initialDelay, period, TimeUnit.MILLISECONDS);
         }
@@ -739,14 +797,16 @@ public class ZigBeeNetworkManager implements ZigBeeNetwork, ZigBeeTransportRecei
             // TODO: Handle multicast
         }
 
+        if (serializerConstructor == null) {
+            logger.error("No serializer has been set - unable to send {}", command);
+            return false;
+        }
         final ZclFieldSerializer fieldSerializer;
         try {
-            Constructor<? extends ZigBeeSerializer> constructor;
-            constructor = serializerClass.getConstructor();
-            ZigBeeSerializer serializer = constructor.newInstance();
+            ZigBeeSerializer serializer = serializerConstructor.newInstance();
             fieldSerializer = new ZclFieldSerializer(serializer);
-        } catch (NoSuchMethodException | SecurityException | InstantiationException | IllegalAccessException
-                | IllegalArgumentException | InvocationTargetException e) {
+        } catch (InstantiationException | IllegalAccessException | IllegalArgumentException
+                | InvocationTargetException e) {
             logger.debug("Error serializing ZigBee frame {}", e);
             return false;
         }
@@ -761,7 +821,7 @@ public class ZigBeeNetworkManager implements ZigBeeNetwork, ZigBeeTransportRecei
             command.serialize(fieldSerializer);
 
             // Serialise the ZCL header and add the payload
-            apsFrame.setPayload(fieldSerializer.getPayload());
+            apsFrame.setPayloadBytes(fieldSerializer.getPayloadBytes());
         }
 
         if (command instanceof ZclCommand) {
@@ -791,7 +851,7 @@ public class ZigBeeNetworkManager implements ZigBeeNetwork, ZigBeeTransportRecei
             command.serialize(fieldSerializer);
 
             // Serialise the ZCL header and add the payload
-            apsFrame.setPayload(zclHeader.serialize(fieldSerializer, fieldSerializer.getPayload()));
+            apsFrame.setPayloadBytes(zclHeader.serialize(fieldSerializer, fieldSerializer.getPayloadBytes()));
 
             logger.debug("TX ZCL: {}", zclHeader);
         }
@@ -829,13 +889,16 @@ public class ZigBeeNetworkManager implements ZigBeeNetwork, ZigBeeTransportRecei
         }
 
         // Create the deserialiser
-        Constructor<? extends ZigBeeDeserializer> constructor;
+        if (deserializerConstructor == null) {
+            logger.error("No deserializer has been set - unable to process {}", apsFrame);
+            return;
+        }
         ZigBeeDeserializer deserializer;
         try {
-            constructor = deserializerClass.getConstructor(int[].class);
-            deserializer = constructor.newInstance(new Object[] { apsFrame.getPayload() });
-        } catch (NoSuchMethodException | SecurityException | InstantiationException | IllegalAccessException
-                | IllegalArgumentException | InvocationTargetException e) {
+            deserializer = deserializerConstructor.newInstance(
+                    new Object[] { deserializerBytePayload ? apsFrame.getPayloadBytes() : apsFrame.getPayload() });
+        } catch (InstantiationException | IllegalAccessException | IllegalArgumentException
+                | InvocationTargetException e) {
             logger.debug("Error creating deserializer", e);
             return;
         }
@@ -862,7 +925,7 @@ public class ZigBeeNetworkManager implements ZigBeeNetwork, ZigBeeTransportRecei
 
             // Notify the listeners that we have heard a device that was unknown to us
             for (final ZigBeeAnnounceListener announceListener : announceListeners) {
-                NotificationService.execute(new Runnable() {
+                NotificationService.execute(announceListener, new Runnable() {
                     @Override
                     public void run() {
                         announceListener.announceUnknownDevice(apsFrame.getSourceAddress());
@@ -908,9 +971,11 @@ public class ZigBeeNetworkManager implements ZigBeeNetwork, ZigBeeTransportRecei
 
         ZigBeeCommand command;
         try {
-            Class<? extends ZdoCommand> commandClass = commandType.getCommandClass();
-            Constructor<? extends ZdoCommand> constructor;
-            constructor = commandClass.getConstructor();
+            Constructor<? extends ZdoCommand> constructor = zdoConstructors.get(commandType);
+            if (constructor == null) {
+                constructor = commandType.getCommandClass().getConstructor();
+                zdoConstructors.put(commandType, constructor);
+            }
             command = constructor.newInstance();
         } catch (NoSuchMethodException | SecurityException | InstantiationException | IllegalAccessException
                 | IllegalArgumentException | InvocationTargetException e) {
@@ -1038,7 +1103,7 @@ public class ZigBeeNetworkManager implements ZigBeeNetwork, ZigBeeTransportRecei
 
         // Notify the listeners
         for (final ZigBeeAnnounceListener announceListener : announceListeners) {
-            NotificationService.execute(new Runnable() {
+            NotificationService.execute(announceListener, new Runnable() {
                 @Override
                 public void run() {
                     announceListener.deviceStatusUpdate(deviceStatus, networkAddress, ieeeAddress);
@@ -1110,7 +1175,7 @@ public class ZigBeeNetworkManager implements ZigBeeNetwork, ZigBeeTransportRecei
         }
 
         for (final ZigBeeNetworkStateListener stateListener : stateListeners) {
-            NotificationService.execute(new Runnable() {
+            NotificationService.execute(stateListener, new Runnable() {
                 @Override
                 public void run() {
                     stateListener.networkStateUpdated(state);
@@ -1143,7 +1208,7 @@ public class ZigBeeNetworkManager implements ZigBeeNetwork, ZigBeeTransportRecei
 
             for (final ZigBeeNode node : networkNodes.values()) {
                 for (final ZigBeeNetworkNodeListener listener : nodeListeners) {
-                    NotificationService.execute(new Runnable() {
+                    NotificationService.execute(listener, new Runnable() {
                         @Override
                         public void run() {
                             listener.nodeAdded(node);
@@ -1155,7 +1220,7 @@ public class ZigBeeNetworkManager implements ZigBeeNetwork, ZigBeeTransportRecei
 
         // Now that everything is added and started, notify the listeners that the state has updated
         for (final ZigBeeNetworkStateListener stateListener : stateListeners) {
-            NotificationService.execute(new Runnable() {
+            NotificationService.execute(stateListener, new Runnable() {
                 @Override
                 public void run() {
                     stateListener.networkStateUpdated(ZigBeeNetworkState.ONLINE);
@@ -1369,13 +1434,20 @@ public class ZigBeeNetworkManager implements ZigBeeNetwork, ZigBeeTransportRecei
      * @return the {@link ZigBeeNode} or null if the node with the requested network address was not found
      */
     public ZigBeeNode getNode(final Integer networkAddress) {
-        synchronized (networkNodes) {
-            for (ZigBeeNode node : networkNodes.values()) {
-                if (node.getNetworkAddress().equals(networkAddress)) {
-                    return node;
-                }
-            }
+        if (networkAddress == null) {
+            return null;
+        }
+
+        ZigBeeNode node = networkAddressIndex.get(networkAddress);
+        if (node == null) {
+            return null;
         }
+        if (networkAddress.equals(node.getNetworkAddress()) && networkNodes.get(node.getIeeeAddress()) == node) {
+            return node;
+        }
+
+        // The node address was changed without updating the index - remove the stale entry
+        networkAddressIndex.remove(networkAddress, node);
         return null;
     }
 
@@ -1406,10 +1478,13 @@ public class ZigBeeNetworkManager implements ZigBeeNetwork, ZigBeeTransportRecei
         synchronized (networkNodes) {
             // Don't update if the node is not known
             // We especially don't want to notify listeners of a device we removed, that didn't exist!
-            if (!networkNodes.containsKey(node.getIeeeAddress())) {
+            ZigBeeNode currentNode = networkNodes.remove(node.getIeeeAddress());
+            if (currentNode == null) {
                 return;
             }
-            networkNodes.remove(node.getIeeeAddress());
+            if (currentNode.getNetworkAddress() != null) {
+                networkAddressIndex.remove(currentNode.getNetworkAddress(), currentNode);
+            }
             removeCommandListener(node);
         }
 
@@ -1420,7 +1495,7 @@ public class ZigBeeNetworkManager implements ZigBeeNetwork, ZigBeeTransportRecei
         }
 
         for (final ZigBeeNetworkNodeListener listener : nodeListeners) {
-            NotificationService.execute(new Runnable() {
+            NotificationService.execute(listener, new Runnable() {
                 @Override
                 public void run() {
                     listener.nodeRemoved(node);
@@ -1455,6 +1530,9 @@ public class ZigBeeNetworkManager implements ZigBeeNetwork, ZigBeeTransportRecei
                 return;
             }
             networkNodes.put(node.getIeeeAddress(), node);
+            if (node.getNetworkAddress() != null) {
+                networkAddressIndex.put(node.getNetworkAddress(), node);
+            }
             addCommandListener(node);
         }
 
@@ -1465,7 +1543,7 @@ public class ZigBeeNetworkManager implements ZigBeeNetwork, ZigBeeTransportRecei
         }
 
         for (final ZigBeeNetworkNodeListener listener : nodeListeners) {
-            NotificationService.execute(new Runnable() {
+            NotificationService.execute(listener, new Runnable() {
                 @Override
                 public void run() {
                     listener.nodeAdded(node);
@@ -1496,8 +1574,21 @@ public class ZigBeeNetworkManager implements ZigBeeNetwork, ZigBeeTransportRecei
                 return;
             }
 
+            final Integer previousNetworkAddress = currentNode.getNetworkAddress();
+            final boolean updated = currentNode.updateNode(node);
+
+            // Keep the network address index consistent. The address may also have been set directly on the node
+            // before it was passed to this method, in which case the node is not updated, but the index must be.
+            final Integer networkAddress = currentNode.getNetworkAddress();
+            if (networkAddress != null && networkAddressIndex.get(networkAddress) != currentNode) {
+                if (previousNetworkAddress != null && !previousNetworkAddress.equals(networkAddress)) {
+                    networkAddressIndex.remove(previousNetworkAddress, currentNode);
+                }
+                networkAddressIndex.put(networkAddress, currentNode);
+            }
+
             // Return if there were no updates
-            if (!currentNode.updateNode(node)) {
+            if (!updated) {
                 logger.debug("{}: Node {} is not updated", node.getIeeeAddress(), node.getNetworkAddress());
                 return;
             }
@@ -1523,7 +1614,7 @@ public class ZigBeeNetworkManager implements ZigBeeNetwork, ZigBeeTransportRecei
         }
 
         for (final ZigBeeNetworkNodeListener listener : nodeListeners) {
-            NotificationService.execute(new Runnable() {
+            NotificationService.execute(listener, new Runnable() {
                 @Override
                 public void run() {
                     if (sendNodeAdded) {
@@ -1636,6 +1727,32 @@ public class ZigBeeNetworkManager implements ZigBeeNetwork, ZigBeeTransportRecei
         return transactionManager.sendTransaction(command, responseMatcher);
     }
 
+    /**
+     * Offers a command for sending without blocking, returning immediately with the status of the request. This allows
+     * applications to apply back pressure when the transaction queues are full.
+     *
+     * @param command the {@link ZigBeeCommand} to send
+     * @param responseMatcher the {@link ZigBeeTransactionMatcher} to match the response which will complete the
+     *            transaction. May be null if no response is expected.
+     * @param callback the {@link ZigBeeTransactionCallback} to notify when the transaction completes. May be null.
+     * @return the {@link ZigBeeTransactionAdmissionStatus}
+     */
+    public ZigBeeTransactionAdmissionStatus trySendTransaction(ZigBeeCommand command,
+            ZigBeeTransactionMatcher responseMatcher, ZigBeeTransactionCallback callback) {
+        finaliseOutgoingCommand(command);
+        return transactionManager.trySendTransaction(command, responseMatcher, callback);
+    }
+
+    /**
+     * Gets the {@link ZigBeeTransactionManager} used to send transactions. This may be used to configure the
+     * transaction queues.
+     *
+     * @return the {@link ZigBeeTransactionManager}
+     */
+    public ZigBeeTransactionManager getTransactionManager() {
+        return transactionManager;
+    }
+
     @Override
     public void receiveCommandState(int msgTag, ZigBeeTransportProgressState state) {
         logger.debug("RX STA: msgTag={} state={}", String.format("%02X", msgTag), state);
@@ -126,6 +126,19 @@ public class ZigBeeNode implements ZigBeeCommandListener {
 
     private ZigBeeNodeState nodeState = ZigBeeNodeState.UNKNOWN;
 
+    /**
+     * Records if a change has been made to the node that can not be persisted with a delta - ie any change other than
+     * to the state of the clusters and attributes. If set, {@link #getDeltaDao()} will return the full
+     * {@link ZigBeeNodeDao}.
+     */
+    private volatile boolean fullSnapshotRequired = true;
+
+    /**
+     * The filter used to limit the commands received to those sent from this node. The source address is updated when
+     * the network address of the node changes.
+     */
+    private final ZigBeeCommandFilter commandFilter = new ZigBeeCommandFilter(ZclCommand.class);
+
     public enum ZigBeeNodeState {
         /**
          * Node state is not currently known.
@@ -171,6 +184,7 @@ public class ZigBeeNode implements ZigBeeCommandListener {
         this(network, ieeeAddress);
 
         this.networkAddress = networkAddress;
+        commandFilter.setSourceAddress(networkAddress);
     }
 
     /**
@@ -197,6 +211,10 @@ public class ZigBeeNode implements ZigBeeCommandListener {
     public boolean setNetworkAddress(Integer networkAddress) {
         boolean changed = this.networkAddress == null || (!this.networkAddress.equals(networkAddress));
         this.networkAddress = networkAddress;
+        commandFilter.setSourceAddress(networkAddress);
+        if (changed) {
+            fullSnapshotRequired = true;
+        }
         return changed;
     }
 
@@ -216,6 +234,7 @@ public class ZigBeeNode implements ZigBeeCommandListener {
      */
     public void setNodeDescriptor(NodeDescriptor nodeDescriptor) {
         this.nodeDescriptor = nodeDescriptor;
+        fullSnapshotRequired = true;
     }
 
     /**
@@ -234,6 +253,7 @@ public class ZigBeeNode implements ZigBeeCommandListener {
      */
     public void setPowerDescriptor(PowerDescriptor powerDescriptor) {
         this.powerDescriptor = powerDescriptor;
+        fullSnapshotRequired = true;
     }
 
     /**
@@ -359,6 +379,7 @@ public class ZigBeeNode implements ZigBeeCommandListener {
             this.bindingTable.addAll(bindingTable);
             logger.debug("{}: Binding table updated: {}", ieeeAddress, bindingTable);
         }
+        fullSnapshotRequired = true;
     }
 
     /**
@@ -455,9 +476,10 @@ public class ZigBeeNode implements ZigBeeCommandListener {
         synchronized (endpoints) {
             endpoints.put(endpoint.getEndpointId(), endpoint);
         }
+        fullSnapshotRequired = true;
         synchronized (this) {
             for (final ZigBeeNetworkEndpointListener listener : endpointListeners) {
-                NotificationService.execute(new Runnable() {
+                NotificationService.execute(listener, new Runnable() {
                     @Override
                     public void run() {
                         listener.deviceAdded(endpoint);
@@ -476,9 +498,10 @@ public class ZigBeeNode implements ZigBeeCommandListener {
         synchronized (endpoints) {
             endpoints.put(endpoint.getEndpointId(), endpoint);
         }
+        fullSnapshotRequired = true;
         synchronized (this) {
             for (final ZigBeeNetworkEndpointListener listener : endpointListeners) {
-                NotificationService.execute(new Runnable() {
+                NotificationService.execute(listener, new Runnable() {
                     @Override
                     public void run() {
                         listener.deviceUpdated(endpoint);
@@ -498,10 +521,11 @@ public class ZigBeeNode implements ZigBeeCommandListener {
         synchronized (endpoints) {
             endpoint = endpoints.remove(endpointId);
         }
+        fullSnapshotRequired = true;
         synchronized (this) {
             if (endpoint != null) {
                 for (final ZigBeeNetworkEndpointListener listener : endpointListeners) {
-                    NotificationService.execute(new Runnable() {
+                    NotificationService.execute(listener, new Runnable() {
                         @Override
                         public void run() {
                             listener.deviceRemoved(endpoint);
@@ -698,6 +722,11 @@ public class ZigBeeNode implements ZigBeeCommandListener {
         endpoint.commandReceived(zclCommand);
     }
 
+    @Override
+    public ZigBeeCommandFilter getCommandFilter() {
+        return commandFilter;
+    }
+
     /**
      * Checks if basic device discovery is complete. This ensures that we have received the {@link NodeDescriptor} and
      * the {@link SimpleDescriptor} so that we know the endpoints.
@@ -730,6 +759,7 @@ public class ZigBeeNode implements ZigBeeCommandListener {
                     node.getNetworkAddress());
             updated = true;
             networkAddress = node.getNetworkAddress();
+            commandFilter.setSourceAddress(networkAddress);
         }
 
         if (node.getNodeDescriptor() != null
@@ -797,15 +827,22 @@ public class ZigBeeNode implements ZigBeeCommandListener {
             }
         }
 
+        if (updated) {
+            fullSnapshotRequired = true;
+        }
         return updated;
     }
 
     /**
      * Gets a {@link ZigBeeNodeDao} representing the node
+     * <p>
+     * Calling this method clears the dirty state of the node, and all endpoints, clusters and attributes. If the DAO can
+     * not be persisted, {@link #setFullSnapshotRequired()} must be called so that the changes are not lost.
      *
      * @return the {@link ZigBeeNodeDao}
      */
     public ZigBeeNodeDao getDao() {
+        fullSnapshotRequired = false;
         ZigBeeNodeDao dao = new ZigBeeNodeDao();
 
         dao.setIeeeAddress(ieeeAddress);
@@ -823,6 +860,71 @@ public class ZigBeeNode implements ZigBeeCommandListener {
         return dao;
     }
 
+    /**
+     * Checks if the node has changed since the last call to {@link #getDao()} or {@link #getDeltaDao()}.
+     *
+     * @return true if the node has changed and needs to be persisted
+     */
+    public boolean isDirty() {
+        if (fullSnapshotRequired) {
+            return true;
+        }
+        for (ZigBeeEndpoint endpoint : endpoints.values()) {
+            if (endpoint.isDirty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Gets a {@link ZigBeeNodeDao} containing only the changes to the node since the last call to {@link #getDao()} or
+     * {@link #getDeltaDao()}. This allows a data store that supports deltas to persist frequent
+     * changes (eg attribute reports) without serialising the complete node.
+     * <p>
+     * If the node has been changed in a way that can not be represented as a delta (eg the network address or
+     * descriptors have changed, or endpoints or clusters have been added or removed) then the full
+     * {@link ZigBeeNodeDao} is returned - {@link ZigBeeNodeDao#isDelta()} can be used to tell the two apart. A delta
+     * contains only the endpoints, clusters and attributes that have changed, and can be merged with the previous
+     * state using {@link ZigBeeNodeDao#applyDelta(ZigBeeNodeDao)}.
+     * <p>
+     * Calling this method clears the dirty state of the node. If the DAO can not be persisted,
+     * {@link #setFullSnapshotRequired()} must be called so that the changes are not lost.
+     *
+     * @return the {@link ZigBeeNodeDao} containing the changes, or null if the node has not changed
+     */
+    public ZigBeeNodeDao getDeltaDao() {
+        if (fullSnapshotRequired) {
+            return getDao();
+        }
+
+        List<ZigBeeEndpointDao> endpointDaoList = new ArrayList<ZigBeeEndpointDao>();
+        for (ZigBeeEndpoint endpoint : endpoints.values()) {
+            if (endpoint.isDirty()) {
+                endpointDaoList.add(endpoint.getDeltaDao());
+            }
+        }
+        if (endpointDaoList.isEmpty()) {
+            return null;
+        }
+
+        ZigBeeNodeDao dao = new ZigBeeNodeDao();
+        dao.setDelta(true);
+        dao.setIeeeAddress(ieeeAddress);
+        dao.setEndpoints(endpointDaoList);
+
+        return dao;
+    }
+
+    /**
+     * Records that the node has changed in a way that can not be persisted as a delta, so the next call to
+     * {@link #getDeltaDao()} will return the full {@link ZigBeeNodeDao}. This is also used if a DAO could not be
+     * persisted, since the dirty state of the node has already been cleared.
+     */
+    public void setFullSnapshotRequired() {
+        fullSnapshotRequired = true;
+    }
+
     public void setDao(ZigBeeNodeDao dao) {
         ieeeAddress = dao.getIeeeAddress();
         setNetworkAddress(dao.getNetworkAddress());
@@ -837,6 +939,7 @@ public class ZigBeeNode implements ZigBeeCommandListener {
             endpoint.setDao(endpointDao);
             endpoints.put(endpoint.getEndpointId(), endpoint);
         }
+        fullSnapshotRequired = true;
     }
 
     /**
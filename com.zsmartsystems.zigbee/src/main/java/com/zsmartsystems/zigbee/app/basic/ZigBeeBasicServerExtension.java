@@ -107,10 +107,17 @@ public class ZigBeeBasicServerExtension implements ZigBeeNetworkExtension, ZigBe
                     }
                     attribute.setValue(attributeValue);
 
-                    // Go through and mark attributes we support as implemented
-                    for (ZclAttribute localAttribute : cluster.getLocalAttributes()) {
+                    // Go through and mark attributes we support as implemented.
+                    // Attributes that have not been instantiated are not implemented.
+                    for (ZclAttribute localAttribute : cluster.getInstantiatedLocalAttributes()) {
                         localAttribute.setImplemented(attributes.containsKey(localAttribute.getId()));
                     }
+                    for (Integer supportedAttributeId : attributes.keySet()) {
+                        ZclAttribute localAttribute = cluster.getLocalAttribute(supportedAttributeId);
+                        if (localAttribute != null) {
+                            localAttribute.setImplemented(true);
+                        }
+                    }
                 }
             }
         }
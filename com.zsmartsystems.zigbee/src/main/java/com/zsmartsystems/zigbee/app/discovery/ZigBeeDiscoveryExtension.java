@@ -20,6 +20,7 @@ import org.slf4j.LoggerFactory;
 
 import com.zsmartsystems.zigbee.IeeeAddress;
 import com.zsmartsystems.zigbee.ZigBeeCommand;
+import com.zsmartsystems.zigbee.ZigBeeCommandFilter;
 import com.zsmartsystems.zigbee.ZigBeeCommandListener;
 import com.zsmartsystems.zigbee.ZigBeeNetworkManager;
 import com.zsmartsystems.zigbee.ZigBeeNetworkNodeListener;
@@ -229,6 +230,11 @@ public class ZigBeeDiscoveryExtension
         }
     }
 
+    @Override
+    public ZigBeeCommandFilter getCommandFilter() {
+        return new ZigBeeCommandFilter(ManagementLeaveResponse.class, DeviceAnnounce.class);
+    }
+
     /**
      * Starts a discovery on a node.
      *
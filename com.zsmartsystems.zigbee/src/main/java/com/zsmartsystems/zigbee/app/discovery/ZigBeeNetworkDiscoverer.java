@@ -7,12 +7,17 @@
  */
 package com.zsmartsystems.zigbee.app.discovery;
 
+import java.util.ArrayDeque;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -22,12 +27,16 @@ import com.zsmartsystems.zigbee.IeeeAddress;
 import com.zsmartsystems.zigbee.ZigBeeAnnounceListener;
 import com.zsmartsystems.zigbee.ZigBeeBroadcastDestination;
 import com.zsmartsystems.zigbee.ZigBeeCommand;
+import com.zsmartsystems.zigbee.ZigBeeCommandFilter;
 import com.zsmartsystems.zigbee.ZigBeeCommandListener;
 import com.zsmartsystems.zigbee.ZigBeeEndpointAddress;
 import com.zsmartsystems.zigbee.ZigBeeNetworkManager;
 import com.zsmartsystems.zigbee.ZigBeeNode;
 import com.zsmartsystems.zigbee.ZigBeeNode.ZigBeeNodeState;
 import com.zsmartsystems.zigbee.ZigBeeNodeStatus;
+import com.zsmartsystems.zigbee.transaction.ZigBeeTransactionCallback;
+import com.zsmartsystems.zigbee.transaction.ZigBeeTransactionFuture;
+import com.zsmartsystems.zigbee.transaction.ZigBeeTransactionMatcher;
 import com.zsmartsystems.zigbee.zdo.ZdoStatus;
 import com.zsmartsystems.zigbee.zdo.command.DeviceAnnounce;
 import com.zsmartsystems.zigbee.zdo.command.IeeeAddressRequest;
@@ -42,6 +51,10 @@ import com.zsmartsystems.zigbee.zdo.command.NetworkAddressResponse;
  * Device listeners are always notified first as each endpoint discovery completes.
  * Once a node is fully discovered and all its endpoints are included into the network,
  * we can notify the node listeners.
+ * <p>
+ * Discovery does not block threads while waiting for responses from the network, and retries are scheduled rather
+ * than sleeping, so that a large number of nodes can be discovered without tying up the {@link ZigBeeNetworkManager}
+ * scheduler. The number of discoveries that are active at once is limited, with further discoveries being queued.
  *
  * @author Chris Jackson
  */
@@ -66,6 +79,17 @@ public class ZigBeeNetworkDiscoverer implements ZigBeeCommandListener, ZigBeeAnn
      */
     private final int DEFAULT_REQUERY_TIME = 300000;
 
+    /**
+     * Default maximum number of discovery tasks that may be active at once
+     */
+    private final int DEFAULT_MAX_ACTIVE_DISCOVERIES = 10;
+
+    /**
+     * The maximum time to wait for a transaction that can't notify completion with a callback, so that a transaction
+     * that never completes can't hold a discovery slot
+     */
+    private final int TRANSACTION_TIMEOUT = 12000;
+
     /**
      * The ZigBee network manager.
      */
@@ -86,6 +110,21 @@ public class ZigBeeNetworkDiscoverer implements ZigBeeCommandListener, ZigBeeAnn
      */
     private int requeryPeriod = DEFAULT_REQUERY_TIME;
 
+    /**
+     * The maximum number of discovery tasks that may be active at once
+     */
+    private int maxActiveDiscoveries = DEFAULT_MAX_ACTIVE_DISCOVERIES;
+
+    /**
+     * Queue of discovery tasks waiting for an active task to complete before they can start
+     */
+    private final Queue<DiscoveryTask> pendingDiscoveries = new ArrayDeque<>();
+
+    /**
+     * The number of discovery tasks currently active. Synchronised on {@link #pendingDiscoveries}.
+     */
+    private int activeDiscoveries = 0;
+
     /**
      * Map of node discovery times.
      */
@@ -113,6 +152,10 @@ public class ZigBeeNetworkDiscoverer implements ZigBeeCommandListener, ZigBeeAnn
         logger.debug("Network discovery task: starting");
 
         initialized = true;
+        synchronized (pendingDiscoveries) {
+            pendingDiscoveries.clear();
+            activeDiscoveries = 0;
+        }
 
         networkManager.addCommandListener(this);
         networkManager.addAnnounceListener(this);
@@ -129,6 +172,9 @@ public class ZigBeeNetworkDiscoverer implements ZigBeeCommandListener, ZigBeeAnn
         networkManager.removeCommandListener(this);
         networkManager.removeAnnounceListener(this);
         initialized = false;
+        synchronized (pendingDiscoveries) {
+            pendingDiscoveries.clear();
+        }
     }
 
     /**
@@ -159,6 +205,16 @@ public class ZigBeeNetworkDiscoverer implements ZigBeeCommandListener, ZigBeeAnn
         this.requeryPeriod = requeryPeriod;
     }
 
+    /**
+     * Sets the maximum number of discoveries that may be active at once. Further discoveries are queued until an active
+     * discovery completes.
+     *
+     * @param maxActiveDiscoveries the maximum number of active discoveries
+     */
+    protected void setMaxActiveDiscoveries(int maxActiveDiscoveries) {
+        this.maxActiveDiscoveries = Math.max(1, maxActiveDiscoveries);
+    }
+
     @Override
     public void deviceStatusUpdate(final ZigBeeNodeStatus deviceStatus, final Integer networkAddress,
             final IeeeAddress ieeeAddress) {
@@ -192,6 +248,11 @@ public class ZigBeeNetworkDiscoverer implements ZigBeeCommandListener, ZigBeeAnn
         }
     }
 
+    @Override
+    public ZigBeeCommandFilter getCommandFilter() {
+        return new ZigBeeCommandFilter(DeviceAnnounce.class);
+    }
+
     /**
      * Starts a discovery on a node given the network address.
      *
@@ -204,49 +265,41 @@ public class ZigBeeNetworkDiscoverer implements ZigBeeCommandListener, ZigBeeAnn
             return;
         }
 
-        networkManager.executeTask(new Runnable() {
+        logger.debug("{}: NWK Discovery scheduling node rediscovery", networkAddress);
+        networkManager.executeTask(new DiscoveryTask() {
             @Override
-            public void run() {
+            protected void sendRequest() {
                 logger.debug("{}: NWK Discovery starting node rediscovery", networkAddress);
-                int retries = 0;
-
-                try {
-                    do {
-                        // Request basic response, start index for associated list is 0
-                        final IeeeAddressRequest request = new IeeeAddressRequest();
-                        request.setRequestType(0);
-                        request.setStartIndex(0);
-                        request.setNwkAddrOfInterest(networkAddress);
-                        request.setDestinationAddress(
-                                new ZigBeeEndpointAddress(ZigBeeBroadcastDestination.BROADCAST_RX_ON.getKey()));
-                        CommandResult response = networkManager.sendTransaction(request, request).get();
-                        if (response.isError()) {
-                            return;
-                        }
 
-                        final IeeeAddressResponse ieeeAddressResponse = response.getResponse();
-                        logger.debug("{}: NWK Discovery IeeeAddressRequest returned {}", networkAddress,
-                                ieeeAddressResponse);
-                        if (ieeeAddressResponse != null && ieeeAddressResponse.getStatus() == ZdoStatus.SUCCESS) {
-                            addNode(ieeeAddressResponse.getIeeeAddrRemoteDev(),
-                                    ieeeAddressResponse.getNwkAddrRemoteDev());
-                            startNodeDiscovery(ieeeAddressResponse.getNwkAddrRemoteDev());
-                            break;
-                        }
+                // Request basic response, start index for associated list is 0
+                final IeeeAddressRequest request = new IeeeAddressRequest();
+                request.setRequestType(0);
+                request.setStartIndex(0);
+                request.setNwkAddrOfInterest(networkAddress);
+                request.setDestinationAddress(
+                        new ZigBeeEndpointAddress(ZigBeeBroadcastDestination.BROADCAST_RX_ON.getKey()));
+                sendTransaction(request, request);
+            }
 
-                        // We failed with the last request. Wait a bit then retry
-                        try {
-                            logger.debug("{}: NWK Discovery node rediscovery request failed. Wait before retry.",
-                                    networkAddress);
-                            Thread.sleep(retryPeriod);
-                        } catch (InterruptedException e) {
-                            break;
-                        }
-                    } while (retries++ < retryCount);
-                } catch (InterruptedException | ExecutionException e) {
-                    logger.debug("NWK Discovery interrupted in checkIeeeAddressResponse");
+            @Override
+            protected void handleResponse(CommandResult response) {
+                if (response.isError()) {
+                    finish(networkAddress, false);
+                    return;
                 }
-                logger.debug("{}: NWK Discovery finishing node rediscovery after {} attempts", networkAddress, retries);
+
+                final IeeeAddressResponse ieeeAddressResponse = response.getResponse();
+                logger.debug("{}: NWK Discovery IeeeAddressRequest returned {}", networkAddress, ieeeAddressResponse);
+                if (ieeeAddressResponse != null && ieeeAddressResponse.getStatus() == ZdoStatus.SUCCESS) {
+                    addNode(ieeeAddressResponse.getIeeeAddrRemoteDev(), ieeeAddressResponse.getNwkAddrRemoteDev());
+                    startNodeDiscovery(ieeeAddressResponse.getNwkAddrRemoteDev());
+                    finish(networkAddress, true);
+                    return;
+                }
+
+                // We failed with the last request. Wait a bit then retry
+                logger.debug("{}: NWK Discovery node rediscovery request failed. Wait before retry.", networkAddress);
+                nextAttempt(networkAddress, true);
             }
         });
     }
@@ -264,46 +317,34 @@ public class ZigBeeNetworkDiscoverer implements ZigBeeCommandListener, ZigBeeAnn
             return;
         }
 
-        networkManager.executeTask(new Runnable() {
+        logger.debug("{}: NWK Discovery scheduling node rediscovery", ieeeAddress);
+        networkManager.executeTask(new DiscoveryTask() {
             @Override
-            public void run() {
+            protected void sendRequest() {
                 logger.debug("{}: NWK Discovery starting node rediscovery", ieeeAddress);
-                int retries = 0;
-                try {
-                    do {
-                        if (Thread.currentThread().isInterrupted()) {
-                            break;
-                        }
 
-                        NetworkAddressRequest request = new NetworkAddressRequest();
-                        request.setIeeeAddr(ieeeAddress);
-                        request.setRequestType(0);
-                        request.setStartIndex(0);
-                        request.setDestinationAddress(
-                                new ZigBeeEndpointAddress(ZigBeeBroadcastDestination.BROADCAST_RX_ON.getKey()));
-                        CommandResult response = networkManager.sendTransaction(request, request).get();
-
-                        final NetworkAddressResponse nwkAddressResponse = response.getResponse();
-                        if (nwkAddressResponse != null && nwkAddressResponse.getStatus() == ZdoStatus.SUCCESS) {
-                            addNode(nwkAddressResponse.getIeeeAddrRemoteDev(),
-                                    nwkAddressResponse.getNwkAddrRemoteDev());
-                            startNodeDiscovery(nwkAddressResponse.getNwkAddrRemoteDev());
-                            break;
-                        }
+                NetworkAddressRequest request = new NetworkAddressRequest();
+                request.setIeeeAddr(ieeeAddress);
+                request.setRequestType(0);
+                request.setStartIndex(0);
+                request.setDestinationAddress(
+                        new ZigBeeEndpointAddress(ZigBeeBroadcastDestination.BROADCAST_RX_ON.getKey()));
+                sendTransaction(request, request);
+            }
 
-                        // We failed with the last request. Wait a bit then retry
-                        try {
-                            logger.debug("{}: NWK Discovery node rediscovery request failed. Wait before retry.",
-                                    ieeeAddress);
-                            Thread.sleep(retryPeriod);
-                        } catch (InterruptedException e) {
-                            break;
-                        }
-                    } while (retries++ < retryCount);
-                } catch (InterruptedException | ExecutionException e) {
-                    logger.debug("NWK Discovery interrupt in rediscoverNode");
+            @Override
+            protected void handleResponse(CommandResult response) {
+                final NetworkAddressResponse nwkAddressResponse = response.getResponse();
+                if (nwkAddressResponse != null && nwkAddressResponse.getStatus() == ZdoStatus.SUCCESS) {
+                    addNode(nwkAddressResponse.getIeeeAddrRemoteDev(), nwkAddressResponse.getNwkAddrRemoteDev());
+                    startNodeDiscovery(nwkAddressResponse.getNwkAddrRemoteDev());
+                    finish(ieeeAddress, true);
+                    return;
                 }
-                logger.debug("{}: NWK Discovery finishing node rediscovery after {} attempts", ieeeAddress, retries);
+
+                // We failed with the last request. Wait a bit then retry
+                logger.debug("{}: NWK Discovery node rediscovery request failed. Wait before retry.", ieeeAddress);
+                nextAttempt(ieeeAddress, true);
             }
         });
     }
@@ -327,101 +368,100 @@ public class ZigBeeNetworkDiscoverer implements ZigBeeCommandListener, ZigBeeAnn
         }
 
         logger.debug("{}: NWK Discovery scheduling node discovery", nodeNetworkAddress);
-        networkManager.executeTask(new Runnable() {
-            @Override
-            public void run() {
-                try {
-                    logger.debug("{}: NWK Discovery starting node discovery", nodeNetworkAddress);
-                    int retries = 0;
-                    boolean success = true;
-                    do {
-                        if (Thread.currentThread().isInterrupted()) {
-                            break;
-                        }
-
-                        if (!success) {
-                            // We failed with the last request. Wait a bit then retry.
-                            Thread.sleep(retryPeriod);
-                        }
-
-                        // If we don't know the node yet, then try to find the IEEE address
-                        // before requesting the associated nodes.
-                        if (networkManager.getNode(nodeNetworkAddress) == null) {
-                            success = getIeeeAddress(nodeNetworkAddress);
-                            continue;
-                        }
-
-                        success = getAssociatedNodes(nodeNetworkAddress);
-                        if (success) {
-                            break;
-                        }
-                    } while (retries++ < retryCount);
-
-                    logger.debug("{}: NWK Discovery ending node discovery. Success={}.", nodeNetworkAddress, success);
-                } catch (InterruptedException | ExecutionException e) {
-                    logger.debug("NWK Discovery interrupted");
-                } catch (Exception e) {
-                    logger.error("{}: NWK Discovery error during node discovery: ", nodeNetworkAddress, e);
-                }
-            }
-        });
+        networkManager.executeTask(new NodeDiscoveryTask(nodeNetworkAddress));
     }
 
     /**
-     * Discovers the {@link IeeeAddress} of a remote device. This uses a broadcast request to try to discover the
-     * device.
-     *
-     * @param networkAddress the network address of the device
-     * @return true if the node {@link IeeeAddress} was found
-     * @throws InterruptedException
-     * @throws ExecutionException
+     * Discovers a node. If the node is not yet known, this first discovers the {@link IeeeAddress} of the node using a
+     * broadcast request. It then gets the associated nodes for the node, and starts a discovery of the associated
+     * nodes.
      */
-    private boolean getIeeeAddress(final int networkAddress) throws InterruptedException, ExecutionException {
-        // Request basic response, start index for associated list is 0
-        final IeeeAddressRequest request = new IeeeAddressRequest();
-        request.setRequestType(0);
-        request.setStartIndex(0);
-        request.setNwkAddrOfInterest(networkAddress);
-        request.setDestinationAddress(new ZigBeeEndpointAddress(ZigBeeBroadcastDestination.BROADCAST_RX_ON.getKey()));
-        CommandResult response = networkManager.sendTransaction(request, request).get();
-        if (response.isError()) {
-            return false;
-        }
+    private class NodeDiscoveryTask extends DiscoveryTask {
+        private final int networkAddress;
+
+        /**
+         * True while the {@link IeeeAddress} of the node is being requested, false while requesting the associated
+         * nodes
+         */
+        private boolean requestingIeeeAddress;
 
-        final IeeeAddressResponse ieeeAddressResponse = response.getResponse();
-        logger.debug("{}: NWK Discovery IeeeAddressRequest returned {}", networkAddress, ieeeAddressResponse);
-        if (ieeeAddressResponse != null && ieeeAddressResponse.getStatus() == ZdoStatus.SUCCESS) {
-            addNode(ieeeAddressResponse.getIeeeAddrRemoteDev(), ieeeAddressResponse.getNwkAddrRemoteDev());
-            startNodeDiscovery(ieeeAddressResponse.getNwkAddrRemoteDev());
-            return true;
+        private Integer startIndex;
+        private int totalAssociatedDevices;
+        private final Set<Integer> associatedDevices = new HashSet<Integer>();
+
+        NodeDiscoveryTask(int networkAddress) {
+            this.networkAddress = networkAddress;
         }
 
-        return false;
-    }
+        @Override
+        protected void sendRequest() {
+            logger.debug("{}: NWK Discovery starting node discovery", networkAddress);
+
+            // If we don't know the node yet, then try to find the IEEE address
+            // before requesting the associated nodes.
+            if (networkManager.getNode(networkAddress) == null) {
+                requestingIeeeAddress = true;
+
+                // Request basic response, start index for associated list is 0
+                final IeeeAddressRequest request = new IeeeAddressRequest();
+                request.setRequestType(0);
+                request.setStartIndex(0);
+                request.setNwkAddrOfInterest(networkAddress);
+                request.setDestinationAddress(
+                        new ZigBeeEndpointAddress(ZigBeeBroadcastDestination.BROADCAST_RX_ON.getKey()));
+                sendTransaction(request, request);
+                return;
+            }
 
-    /**
-     * Get the associated nodes for this address, and start a discovery of the associated nodes.
-     *
-     * @param networkAddress the network address of the node
-     * @return true if the message was processed ok
-     * @throws ExecutionException
-     * @throws InterruptedException
-     */
-    private boolean getAssociatedNodes(final int networkAddress) throws InterruptedException, ExecutionException {
-        Integer startIndex = 0;
-        int totalAssociatedDevices = 0;
-        Set<Integer> associatedDevices = new HashSet<Integer>();
+            requestingIeeeAddress = false;
+            startIndex = 0;
+            totalAssociatedDevices = 0;
+            associatedDevices.clear();
+            requestAssociatedNodes();
+        }
 
-        do {
+        private void requestAssociatedNodes() {
             // Request extended response, start index for associated list is 0
             final IeeeAddressRequest ieeeAddressRequest = new IeeeAddressRequest();
             ieeeAddressRequest.setDestinationAddress(new ZigBeeEndpointAddress(networkAddress));
             ieeeAddressRequest.setRequestType(1);
             ieeeAddressRequest.setStartIndex(startIndex);
             ieeeAddressRequest.setNwkAddrOfInterest(networkAddress);
-            CommandResult response = networkManager.sendTransaction(ieeeAddressRequest, ieeeAddressRequest).get();
+            sendTransaction(ieeeAddressRequest, ieeeAddressRequest);
+        }
+
+        @Override
+        protected void handleResponse(CommandResult response) {
+            if (requestingIeeeAddress) {
+                handleIeeeAddressResponse(response);
+            } else {
+                handleAssociatedNodesResponse(response);
+            }
+        }
+
+        private void handleIeeeAddressResponse(CommandResult response) {
+            if (!response.isError()) {
+                final IeeeAddressResponse ieeeAddressResponse = response.getResponse();
+                logger.debug("{}: NWK Discovery IeeeAddressRequest returned {}", networkAddress,
+                        ieeeAddressResponse);
+                if (ieeeAddressResponse != null && ieeeAddressResponse.getStatus() == ZdoStatus.SUCCESS) {
+                    addNode(ieeeAddressResponse.getIeeeAddrRemoteDev(), ieeeAddressResponse.getNwkAddrRemoteDev());
+                    startNodeDiscovery(ieeeAddressResponse.getNwkAddrRemoteDev());
+
+                    // Now request the associated nodes
+                    nextAttempt(networkAddress, false);
+                    return;
+                }
+            }
+
+            // We failed with the last request. Wait a bit then retry.
+            nextAttempt(networkAddress, true);
+        }
+
+        private void handleAssociatedNodesResponse(CommandResult response) {
             if (response.isError()) {
-                return false;
+                nextAttempt(networkAddress, true);
+                return;
             }
 
             final IeeeAddressResponse ieeeAddressResponse = response.getResponse();
@@ -433,14 +473,156 @@ public class ZigBeeNetworkDiscoverer implements ZigBeeCommandListener, ZigBeeAnn
                 startIndex += ieeeAddressResponse.getNwkAddrAssocDevList().size();
                 totalAssociatedDevices = ieeeAddressResponse.getNwkAddrAssocDevList().size();
             }
-        } while (startIndex < totalAssociatedDevices);
 
-        // Start discovery for any associated nodes
-        for (final int deviceNetworkAddress : associatedDevices) {
-            startNodeDiscovery(deviceNetworkAddress);
+            if (startIndex < totalAssociatedDevices) {
+                requestAssociatedNodes();
+                return;
+            }
+
+            // Start discovery for any associated nodes
+            for (final int deviceNetworkAddress : associatedDevices) {
+                startNodeDiscovery(deviceNetworkAddress);
+            }
+
+            finish(networkAddress, true);
+        }
+    }
+
+    /**
+     * Base class for the discovery tasks. Discovery tasks do not block a thread while waiting for responses - requests
+     * are sent with a {@link ZigBeeTransactionCallback} and the task continues when the response is received. Retries
+     * are scheduled with the {@link ZigBeeNetworkManager} scheduler rather than sleeping.
+     * <p>
+     * The number of tasks that may be active at once is limited to {@link #maxActiveDiscoveries} so that a burst of
+     * discoveries (eg following a power failure when all devices announce) does not flood the network. Tasks that
+     * can't be started are queued and started as active tasks complete.
+     */
+    private abstract class DiscoveryTask implements Runnable, ZigBeeTransactionCallback {
+        /**
+         * The number of attempts made so far
+         */
+        private int attempts = 0;
+
+        private boolean started = false;
+
+        @Override
+        public void run() {
+            if (!started) {
+                synchronized (pendingDiscoveries) {
+                    if (activeDiscoveries >= maxActiveDiscoveries) {
+                        pendingDiscoveries.add(this);
+                        logger.debug("NWK Discovery queued task - {} active, {} queued", activeDiscoveries,
+                                pendingDiscoveries.size());
+                        return;
+                    }
+                    activeDiscoveries++;
+                }
+                started = true;
+            }
+
+            try {
+                sendRequest();
+            } catch (Exception e) {
+                logger.error("NWK Discovery error sending request: ", e);
+                finish(null, false);
+            }
         }
 
-        return true;
+        /**
+         * Sends the request for the current attempt
+         */
+        protected abstract void sendRequest();
+
+        /**
+         * Handles the response to the last request
+         *
+         * @param response the {@link CommandResult} for the request
+         */
+        protected abstract void handleResponse(CommandResult response);
+
+        /**
+         * Sends a transaction, and calls {@link #handleResponse(CommandResult)} when it completes
+         *
+         * @param command the {@link ZigBeeCommand} to send
+         * @param responseMatcher the {@link ZigBeeTransactionMatcher} used to match the response
+         */
+        protected void sendTransaction(ZigBeeCommand command, ZigBeeTransactionMatcher responseMatcher) {
+            final Future<CommandResult> future = networkManager.sendTransaction(command, responseMatcher);
+            if (future instanceof ZigBeeTransactionFuture) {
+                ((ZigBeeTransactionFuture) future).addCallback(this);
+            } else if (future == null) {
+                transactionComplete(new CommandResult());
+            } else {
+                // Not a future we can register a callback with, so fall back to waiting for the result
+                networkManager.executeTask(new Runnable() {
+                    @Override
+                    public void run() {
+                        CommandResult result;
+                        try {
+                            result = future.get(TRANSACTION_TIMEOUT, TimeUnit.MILLISECONDS);
+                        } catch (TimeoutException e) {
+                            logger.debug("NWK Discovery timeout waiting for transaction");
+                            future.cancel(true);
+                            result = new CommandResult();
+                        } catch (InterruptedException | ExecutionException e) {
+                            result = new CommandResult();
+                        }
+                        transactionComplete(result);
+                    }
+                });
+            }
+        }
+
+        @Override
+        public void transactionComplete(CommandResult result) {
+            try {
+                handleResponse(result);
+            } catch (Exception e) {
+                logger.error("NWK Discovery error handling response: ", e);
+                finish(null, false);
+            }
+        }
+
+        /**
+         * Starts the next attempt, if the maximum number of attempts has not been reached
+         *
+         * @param address the address of the node being discovered, used for logging
+         * @param delay true if the retry period should elapse before the next attempt
+         */
+        protected void nextAttempt(Object address, boolean delay) {
+            if (attempts++ >= retryCount || !initialized) {
+                finish(address, false);
+                return;
+            }
+            if (!delay) {
+                sendRequest();
+                return;
+            }
+            if (networkManager.scheduleTask(this, retryPeriod) == null) {
+                finish(address, false);
+            }
+        }
+
+        /**
+         * Completes the task, and starts the next queued task if there is one
+         *
+         * @param address the address of the node being discovered, used for logging
+         * @param success true if the discovery was successful
+         */
+        protected void finish(Object address, boolean success) {
+            logger.debug("{}: NWK Discovery ending discovery after {} attempts. Success={}.", address, attempts + 1,
+                    success);
+            DiscoveryTask nextTask;
+            synchronized (pendingDiscoveries) {
+                if (activeDiscoveries > 0) {
+                    activeDiscoveries--;
+                }
+                nextTask = pendingDiscoveries.poll();
+            }
+            if (nextTask != null) {
+                networkManager.executeTask(nextTask);
+            }
+        }
     }
 
     /**
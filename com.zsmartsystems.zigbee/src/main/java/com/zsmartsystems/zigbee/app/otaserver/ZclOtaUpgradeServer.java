@@ -22,9 +22,11 @@ import org.slf4j.LoggerFactory;
 
 import com.zsmartsystems.zigbee.CommandResult;
 import com.zsmartsystems.zigbee.ZigBeeExecutors;
+import com.zsmartsystems.zigbee.ZigBeeNetworkManager;
 import com.zsmartsystems.zigbee.ZigBeeStatus;
 import com.zsmartsystems.zigbee.app.ZigBeeApplication;
 import com.zsmartsystems.zigbee.internal.NotificationService;
+import com.zsmartsystems.zigbee.internal.ZigBeeTimerService;
 import com.zsmartsystems.zigbee.zcl.ZclCluster;
 import com.zsmartsystems.zigbee.zcl.ZclCommand;
 import com.zsmartsystems.zigbee.zcl.ZclCommandListener;
@@ -182,9 +184,16 @@ public class ZclOtaUpgradeServer implements ZigBeeApplication, ZclCommandListene
     private ScheduledFuture<?> scheduledPageTask;
 
     /**
-     * Timer used to handle transfer timeout
+     * The {@link ZigBeeNetworkManager} used to schedule the transfer timeout. The timer is restarted on every block
+     * request, so this uses the network manager timer where scheduling and cancelling are O(1).
      */
-    private ScheduledExecutorService timer = ZigBeeExecutors.newScheduledThreadPool(1, "OtaUpgradeTimer");
+    private final ZigBeeNetworkManager networkManager;
+
+    /**
+     * Timer used to handle transfer timeout for servers created without a {@link ZigBeeNetworkManager}. This is shared
+     * by all servers, and the timeout handler only updates the status, so it is run in the timer thread.
+     */
+    private static final ZigBeeTimerService sharedTimer = new ZigBeeTimerService("OtaUpgradeTimer", null);
 
     /**
      * Current timer task
@@ -235,9 +244,19 @@ public class ZclOtaUpgradeServer implements ZigBeeApplication, ZclCommandListene
             .unmodifiableList(new ArrayList<ZigBeeOtaStatusCallback>());
 
     /**
-     * Constructor
+     * Constructor. The transfer timeout is scheduled in a timer shared by all servers created with this constructor.
      */
     public ZclOtaUpgradeServer() {
+        this(null);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param networkManager the {@link ZigBeeNetworkManager} used to schedule the transfer timeout
+     */
+    public ZclOtaUpgradeServer(ZigBeeNetworkManager networkManager) {
+        this.networkManager = networkManager;
         status = ZigBeeOtaServerStatus.OTA_UNINITIALISED;
 
         // queryJitter needs to be a random value between 1 and 100
@@ -256,7 +275,6 @@ public class ZclOtaUpgradeServer implements ZigBeeApplication, ZclCommandListene
     public void appShutdown() {
         cluster.removeCommandListener(this);
         stopTransferTimer();
-        timer.shutdownNow();
     }
 
     @Override
@@ -501,7 +519,7 @@ public class ZclOtaUpgradeServer implements ZigBeeApplication, ZclCommandListene
         synchronized (this) {
             // Notify the listeners
             for (final ZigBeeOtaStatusCallback statusListener : statusListeners) {
-                NotificationService.execute(new Runnable() {
+                NotificationService.execute(statusListener, new Runnable() {
                     @Override
                     public void run() {
                         statusListener.otaStatusUpdate(updatedStatus, percentComplete);
@@ -820,7 +838,11 @@ public class ZclOtaUpgradeServer implements ZigBeeApplication, ZclCommandListene
         stopTransferTimer();
 
         // Create the timer task
-        timerTask = timer.schedule(new OtaTransferTimer(), transferTimeoutPeriod, TimeUnit.MILLISECONDS);
+        if (networkManager == null) {
+            timerTask = sharedTimer.schedule(new OtaTransferTimer(), transferTimeoutPeriod);
+        } else {
+            timerTask = networkManager.scheduleTask(new OtaTransferTimer(), transferTimeoutPeriod);
+        }
     }
 
     /**
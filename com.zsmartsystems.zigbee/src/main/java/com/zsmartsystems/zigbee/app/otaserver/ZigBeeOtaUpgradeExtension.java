@@ -67,7 +67,7 @@ public class ZigBeeOtaUpgradeExtension implements ZigBeeNetworkExtension, ZigBee
          */
         for (ZigBeeEndpoint endpoint : node.getEndpoints()) {
             if (endpoint.getOutputCluster(ZclOtaUpgradeCluster.CLUSTER_ID) != null) {
-                endpoint.addApplication(new ZclOtaUpgradeServer());
+                endpoint.addApplication(new ZclOtaUpgradeServer(networkManager));
                 break;
             }
         }
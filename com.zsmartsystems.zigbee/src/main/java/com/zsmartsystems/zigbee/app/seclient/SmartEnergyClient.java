@@ -25,6 +25,7 @@ import com.zsmartsystems.zigbee.CommandResult;
 import com.zsmartsystems.zigbee.IeeeAddress;
 import com.zsmartsystems.zigbee.ZigBeeBroadcastDestination;
 import com.zsmartsystems.zigbee.ZigBeeCommand;
+import com.zsmartsystems.zigbee.ZigBeeCommandFilter;
 import com.zsmartsystems.zigbee.ZigBeeCommandListener;
 import com.zsmartsystems.zigbee.ZigBeeEndpoint;
 import com.zsmartsystems.zigbee.ZigBeeEndpointAddress;
@@ -332,7 +333,7 @@ public class SmartEnergyClient implements ZigBeeNetworkExtension, ZigBeeCommandL
         synchronized (this) {
             // Notify the listeners
             for (final SmartEnergyStatusCallback statusListener : statusListeners) {
-                NotificationService.execute(new Runnable() {
+                NotificationService.execute(statusListener, new Runnable() {
                     @Override
                     public void run() {
                         statusListener.sepStatusUpdate(updatedStatus);
@@ -708,6 +709,11 @@ public class SmartEnergyClient implements ZigBeeNetworkExtension, ZigBeeCommandL
         }
     }
 
+    @Override
+    public ZigBeeCommandFilter getCommandFilter() {
+        return new ZigBeeCommandFilter(MatchDescriptorResponse.class);
+    }
+
     @Override
     public void networkStateUpdated(ZigBeeNetworkState state) {
         switch (state) {
@@ -164,12 +164,12 @@ public class ApsDataEntity {
 
         // Check that we have fragmentation enabled and that this frame requires fragmenting
         // TODO: Don't fragment unicast or broadcast
-        if (apsFrame.getPayload().length < fragmentationLength || fragmentationWindow == 0) {
+        if (apsFrame.getPayloadLength() < fragmentationLength || fragmentationWindow == 0) {
             transport.sendCommand(msgTag, apsFrame);
             return true;
         }
 
-        int totalFragments = ((apsFrame.getPayload().length + fragmentationLength - 1) / fragmentationLength);
+        int totalFragments = ((apsFrame.getPayloadLength() + fragmentationLength - 1) / fragmentationLength);
 
         apsFrame.setMsgTag(msgTag);
         apsFrame.setFragmentBase(0);
@@ -216,10 +216,10 @@ public class ApsDataEntity {
             fragment.setMsgTag(apsFrame.getMsgTag());
 
             int offset = fragmentNumber * fragmentationLength;
-            int end = offset + ((offset + fragmentationLength < apsFrame.getPayload().length) ? fragmentationLength
-                    : (apsFrame.getPayload().length - offset));
+            int end = offset + ((offset + fragmentationLength < apsFrame.getPayloadLength()) ? fragmentationLength
+                    : (apsFrame.getPayloadLength() - offset));
 
-            fragment.setPayload(Arrays.copyOfRange(apsFrame.getPayload(), offset, end));
+            fragment.setPayloadBytes(Arrays.copyOfRange(apsFrame.getPayloadBytes(), offset, end));
 
             logger.debug("Sending APS Frame Fragment: {}", fragment);
 
@@ -304,11 +304,11 @@ public class ApsDataEntity {
             return null;
         }
 
-        int[] combined = new int[apsFrame.getPayload().length + fragment.getPayload().length];
-        System.arraycopy(apsFrame.getPayload(), 0, combined, 0, apsFrame.getPayload().length);
-        System.arraycopy(fragment.getPayload(), 0, combined, apsFrame.getPayload().length,
-                fragment.getPayload().length);
-        apsFrame.setPayload(combined);
+        byte[] combined = new byte[apsFrame.getPayloadLength() + fragment.getPayloadLength()];
+        System.arraycopy(apsFrame.getPayloadBytes(), 0, combined, 0, apsFrame.getPayloadLength());
+        System.arraycopy(fragment.getPayloadBytes(), 0, combined, apsFrame.getPayloadLength(),
+                fragment.getPayloadLength());
+        apsFrame.setPayloadBytes(combined);
         apsFrame.setFragmentBase(fragment.getFragmentNumber() + 1);
 
         logger.debug("Received fragment frame {} of {}: {}", fragment.getFragmentNumber(), apsFrame.getFragmentTotal(),
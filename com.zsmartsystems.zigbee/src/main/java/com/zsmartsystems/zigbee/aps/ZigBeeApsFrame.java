@@ -143,8 +143,11 @@ public class ZigBeeApsFrame {
      * <p>
      * This is defined as the application payload as defined in the ZigBee standard. This could include a ZCL cluster
      * starting with the ZCL header, or a ZDO frame etc.
+     * <p>
+     * The payload is held as a byte array. The integer array accessors are retained for transports that still work
+     * with one byte per integer.
      */
-    private int[] payload;
+    private byte[] payload;
 
     /**
      * Gets the destination network address of this frame
@@ -376,14 +379,66 @@ public class ZigBeeApsFrame {
         this.apsCounter = apsCounter;
     }
 
+    /**
+     * Sets the APS payload from an integer array, with one byte per element
+     *
+     * @param payload the APS payload as an int array
+     */
     public void setPayload(int[] payload) {
-        this.payload = payload;
+        if (payload == null) {
+            this.payload = null;
+            return;
+        }
+        this.payload = new byte[payload.length];
+        for (int cnt = 0; cnt < payload.length; cnt++) {
+            this.payload[cnt] = (byte) payload[cnt];
+        }
     }
 
+    /**
+     * Gets the APS payload as an integer array, with one byte per element. A new array is created on each call - use
+     * {@link #getPayloadBytes()} where possible.
+     *
+     * @return the APS payload as an int array
+     */
     public int[] getPayload() {
+        if (payload == null) {
+            return null;
+        }
+        int[] intPayload = new int[payload.length];
+        for (int cnt = 0; cnt < payload.length; cnt++) {
+            intPayload[cnt] = payload[cnt] & 0xFF;
+        }
+        return intPayload;
+    }
+
+    /**
+     * Sets the APS payload. The array is not copied, so it must not be modified once it is passed to the frame.
+     *
+     * @param payload the APS payload as a byte array
+     */
+    public void setPayloadBytes(byte[] payload) {
+        this.payload = payload;
+    }
+
+    /**
+     * Gets the APS payload. The array is not copied, so it must not be modified.
+     *
+     * @return the APS payload as a byte array
+     */
+    public byte[] getPayloadBytes() {
         return payload;
     }
 
+    /**
+     * Gets the length of the APS payload
+     *
+     * @return the number of bytes in the APS payload, or 0 if no payload is set
+     */
+    public int getPayloadLength() {
+        return payload == null ? 0 : payload.length;
+    }
+
     @Override
     public String toString() {
         StringBuilder builder = new StringBuilder(164);
@@ -415,7 +470,7 @@ public class ZigBeeApsFrame {
                 if (c != 0) {
                     builder.append(' ');
                 }
-                builder.append(String.format("%02X", payload[c]));
+                builder.append(String.format("%02X", payload[c] & 0xFF));
             }
         }
         builder.append(']');
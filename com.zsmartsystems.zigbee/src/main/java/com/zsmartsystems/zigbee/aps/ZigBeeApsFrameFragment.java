@@ -72,12 +72,13 @@ public class ZigBeeApsFrameFragment extends ZigBeeApsFrame {
         builder.append(String.format(", apsCounter=%02X", super.getApsCounter()));
         builder.append(", payload=");
 
-        if (getPayload() != null) {
-            for (int c = 0; c < getPayload().length; c++) {
+        byte[] payload = getPayloadBytes();
+        if (payload != null) {
+            for (int c = 0; c < payload.length; c++) {
                 if (c != 0) {
                     builder.append(' ');
                 }
-                builder.append(String.format("%02X", getPayload()[c]));
+                builder.append(String.format("%02X", payload[c] & 0xFF));
             }
         }
 
@@ -0,0 +1,660 @@
+/**
+ * Copyright (c) 2016-2019 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.database;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.zsmartsystems.zigbee.IeeeAddress;
+
+/**
+ * A {@link ZigBeeNetworkDataStore} that persists the network in a single append-only binary log file.
+ * <p>
+ * Each call to {@link #writeNode(ZigBeeNodeDao)} or {@link #removeNode(IeeeAddress)} appends a single record to the end
+ * of the log, and {@link #writeNodes(Collection)} appends the records for all nodes before flushing the log. Each
+ * record consists of the record length, the record type, the payload and a CRC32 checksum. The log is
+ * read sequentially once when the store is opened, and the latest record for each node is retained in memory in its
+ * binary form so that {@link #readNode(IeeeAddress)} does not need to access the file.
+ * <p>
+ * The store supports deltas (see {@link ZigBeeNodeDao#isDelta()}) - these are appended to the log as delta records
+ * without the need to rewrite the complete node. The deltas for each node are retained in memory, and merged into the
+ * node record once a number of deltas has accumulated, or when the log is compacted.
+ * <p>
+ * As the log grows with superseded records, it is periodically compacted by writing the current records for all nodes
+ * to a new file, which then atomically replaces the log. If a record is found to be corrupt when the log is opened (eg
+ * if the system failed part way through a write), the log is truncated at the last valid record. If the file is not a
+ * log, or has an unsupported version, it is moved aside and a new log is started so that the file is never modified.
+ * If a write fails, the write methods throw an {@link IllegalStateException}, and the next write replaces the log with
+ * the current records for all nodes, as the failed write may have left a partial record at the end of the log.
+ *
+ * @author agent
+ *
+ */
+public class ZigBeeBinaryNetworkDataStore implements ZigBeeNetworkDataStore {
+    /**
+     * The logger.
+     */
+    private final Logger logger = LoggerFactory.getLogger(ZigBeeBinaryNetworkDataStore.class);
+
+    /**
+     * Magic number written at the start of the file
+     */
+    private static final int FILE_MAGIC = 0x5A424C47;
+
+    /**
+     * The file format version
+     */
+    private static final int FILE_VERSION = 1;
+
+    /**
+     * The length of the file header
+     */
+    private static final int HEADER_LENGTH = 5;
+
+    /**
+     * The maximum length of a single record. Used to detect corrupted length fields.
+     */
+    private static final int RECORD_LENGTH_MAX = 0x1000000;
+
+    /**
+     * Record containing a complete {@link ZigBeeNodeDao}
+     */
+    static final int RECORD_NODE = 1;
+
+    /**
+     * Record recording the removal of a node
+     */
+    static final int RECORD_REMOVE = 2;
+
+    /**
+     * Record containing a delta {@link ZigBeeNodeDao} to be merged with the current node record
+     */
+    static final int RECORD_DELTA = 3;
+
+    /**
+     * The maximum number of deltas retained for a node before they are merged into the node record
+     */
+    private static final int DELTAS_MAX = 16;
+
+    /**
+     * The default ratio of records in the log to the number of nodes at which the log will be compacted
+     */
+    private static final int COMPACTION_RATIO_DEFAULT = 4;
+
+    /**
+     * The default minimum number of records in the log before it will be compacted
+     */
+    private static final int COMPACTION_RECORDS_MIN_DEFAULT = 1000;
+
+    /**
+     * The log file
+     */
+    private final File file;
+
+    /**
+     * The latest serialised node record for each node in the network
+     */
+    private final Map<IeeeAddress, byte[]> nodes = new ConcurrentHashMap<>();
+
+    /**
+     * The serialised deltas for each node that have been written since the node record
+     */
+    private final Map<IeeeAddress, List<byte[]>> deltas = new ConcurrentHashMap<>();
+
+    /**
+     * The output stream used to append records to the log
+     */
+    private DataOutputStream logStream;
+
+    /**
+     * The file output stream - used to sync the log to the storage device
+     */
+    private FileOutputStream fileStream;
+
+    /**
+     * The number of records currently in the log
+     */
+    private int logRecords;
+
+    /**
+     * The ratio of records to nodes at which the log will be compacted
+     */
+    private int compactionRatio = COMPACTION_RATIO_DEFAULT;
+
+    /**
+     * The minimum number of records in the log before it will be compacted
+     */
+    private int compactionRecordsMin = COMPACTION_RECORDS_MIN_DEFAULT;
+
+    /**
+     * If true, the log is synchronised to the storage device after each write
+     */
+    private boolean syncWrites;
+
+    /**
+     * Set if the file could not be read, and could not be moved aside. The file is never written in this state.
+     */
+    private boolean logInvalid;
+
+    /**
+     * Set if the log does not hold the nodes held in memory - eg if a write to the log failed and the log may end with a
+     * partial record. The log is compacted before further writes.
+     */
+    private boolean logFailed;
+
+    /**
+     * Creates the data store. The log is read, and the nodes restored, when the store is created.
+     *
+     * @param file the {@link File} holding the log. The file will be created if it does not exist.
+     */
+    public ZigBeeBinaryNetworkDataStore(File file) {
+        this.file = file;
+
+        File directory = file.getAbsoluteFile().getParentFile();
+        if (directory != null && !directory.exists() && !directory.mkdirs()) {
+            logger.error("Data store: Error creating folder {}", directory);
+        }
+
+        readLog();
+    }
+
+    /**
+     * Sets the ratio of records in the log to the number of nodes in the network at which the log will be compacted.
+     *
+     * @param compactionRatio the ratio of records to nodes at which the log will be compacted. Must be at least 2.
+     */
+    public void setCompactionRatio(int compactionRatio) {
+        this.compactionRatio = Math.max(2, compactionRatio);
+    }
+
+    /**
+     * Sets the minimum number of records that must be in the log before it will be compacted. This prevents continual
+     * compaction of small networks.
+     *
+     * @param compactionRecordsMin the minimum number of records in the log before it will be compacted
+     */
+    public void setCompactionRecordsMin(int compactionRecordsMin) {
+        this.compactionRecordsMin = compactionRecordsMin;
+    }
+
+    /**
+     * Sets whether the log is synchronised to the storage device after every write. By default the data is flushed to
+     * the operating system but not synchronised.
+     *
+     * @param syncWrites true to synchronise the log to the storage device after every write
+     */
+    public void setSyncWrites(boolean syncWrites) {
+        this.syncWrites = syncWrites;
+    }
+
+    @Override
+    public Set<IeeeAddress> readNetworkNodes() {
+        return new HashSet<>(nodes.keySet());
+    }
+
+    @Override
+    public synchronized ZigBeeNodeDao readNode(IeeeAddress address) {
+        byte[] record = nodes.get(address);
+        if (record == null) {
+            return null;
+        }
+
+        try {
+            ZigBeeNodeDao node = deserialize(record);
+            List<byte[]> nodeDeltas = deltas.get(address);
+            if (nodeDeltas != null) {
+                for (byte[] delta : nodeDeltas) {
+                    node.applyDelta(deserialize(delta));
+                }
+            }
+            return node;
+        } catch (IOException e) {
+            logger.error("{}: Data store: Error restoring node", address, e);
+            return null;
+        }
+    }
+
+    @Override
+    public boolean isDeltaSupported() {
+        return true;
+    }
+
+    @Override
+    public synchronized void writeNode(ZigBeeNodeDao node) {
+        writeNodes(Collections.singleton(node));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * All nodes are appended to the log before it is flushed (and optionally synchronised) to the storage device.
+     */
+    @Override
+    public synchronized void writeNodes(Collection<ZigBeeNodeDao> nodesToWrite) {
+        List<byte[]> records = new ArrayList<>(nodesToWrite.size());
+        for (ZigBeeNodeDao node : nodesToWrite) {
+            if (node.isDelta() && !nodes.containsKey(node.getIeeeAddress())) {
+                logger.debug("{}: Data store: Delta ignored for unknown node", node.getIeeeAddress());
+                continue;
+            }
+
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try {
+                ZigBeeNodeDaoSerializer.serialize(new DataOutputStream(bytes), node);
+            } catch (IOException e) {
+                logger.error("{}: Data store: Error serialising node", node.getIeeeAddress(), e);
+                continue;
+            }
+
+            byte[] payload = bytes.toByteArray();
+            if (node.isDelta()) {
+                addDelta(node.getIeeeAddress(), payload);
+                records.add(createRecord(RECORD_DELTA, payload));
+            } else {
+                nodes.put(node.getIeeeAddress(), payload);
+                deltas.remove(node.getIeeeAddress());
+                records.add(createRecord(RECORD_NODE, payload));
+            }
+        }
+        if (!appendRecords(records)) {
+            throw new IllegalStateException("Unable to write " + records.size() + " records to log " + file);
+        }
+    }
+
+    @Override
+    public synchronized void removeNode(IeeeAddress address) {
+        deltas.remove(address);
+        if (nodes.remove(address) == null) {
+            return;
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try {
+            ZigBeeNodeDaoSerializer.writeIeeeAddress(new DataOutputStream(bytes), address);
+        } catch (IOException e) {
+            logger.error("{}: Data store: Error serialising node removal", address, e);
+            return;
+        }
+        appendRecords(Collections.singletonList(createRecord(RECORD_REMOVE, bytes.toByteArray())));
+    }
+
+    /**
+     * Compacts the log so that it contains only the current record for each node. Any deltas are merged into the node
+     * records - deltas that can not be merged are retained in the log.
+     */
+    public synchronized void compact() {
+        compactLog();
+    }
+
+    private boolean compactLog() {
+        logger.debug("Data store: Compacting log with {} records for {} nodes", logRecords, nodes.size());
+        closeLog();
+
+        for (IeeeAddress address : new ArrayList<>(deltas.keySet())) {
+            mergeDeltas(address);
+        }
+
+        if (logInvalid) {
+            logger.error("Data store: Log {} is invalid and will not be compacted", file);
+            return false;
+        }
+
+        File tempFile = new File(file.getPath() + ".tmp");
+        int records;
+        try {
+            records = writeCompactedLog(tempFile);
+        } catch (IOException e) {
+            logger.error("Data store: Error compacting log", e);
+            deleteFile(tempFile);
+            return false;
+        }
+
+        // Rename is atomic on POSIX systems. Other systems may not allow the rename to replace the existing file.
+        if (!tempFile.renameTo(file) && !(file.delete() && tempFile.renameTo(file))) {
+            logger.error("Data store: Error replacing log with compacted log");
+            deleteFile(tempFile);
+            if (!file.exists()) {
+                // The log was deleted before the rename failed - write the compacted log in its place
+                try {
+                    records = writeCompactedLog(file);
+                } catch (IOException e) {
+                    logger.error("Data store: Error rewriting log", e);
+                    return false;
+                }
+            } else {
+                return false;
+            }
+        }
+        logRecords = records;
+        logFailed = false;
+        return true;
+    }
+
+    /**
+     * Writes the current record for each node to a new log file, and synchronises it to the storage device
+     *
+     * @param target the {@link File} to write
+     * @return the number of records written
+     * @throws IOException if there is an error writing the file
+     */
+    private int writeCompactedLog(File target) throws IOException {
+        try (FileOutputStream targetStream = new FileOutputStream(target);
+                DataOutputStream output = new DataOutputStream(new BufferedOutputStream(targetStream))) {
+            writeHeader(output);
+            int records = 0;
+            for (Map.Entry<IeeeAddress, byte[]> node : nodes.entrySet()) {
+                writeRecord(output, createRecord(RECORD_NODE, node.getValue()));
+                records++;
+
+                // Deltas are only retained here if they could not be merged
+                List<byte[]> nodeDeltas = deltas.get(node.getKey());
+                if (nodeDeltas != null) {
+                    for (byte[] delta : nodeDeltas) {
+                        writeRecord(output, createRecord(RECORD_DELTA, delta));
+                        records++;
+                    }
+                }
+            }
+            output.flush();
+            targetStream.getFD().sync();
+            return records;
+        }
+    }
+
+    private void deleteFile(File fileToDelete) {
+        if (fileToDelete.exists() && !fileToDelete.delete()) {
+            logger.warn("Data store: Unable to delete {}", fileToDelete);
+        }
+    }
+
+    /**
+     * Closes the data store. Any further writes will reopen the log.
+     */
+    public synchronized void close() {
+        closeLog();
+    }
+
+    /**
+     * Reads the complete log in a single sequential pass, retaining the latest record for each node. If a corrupt
+     * record is found, the log is truncated at the end of the last valid record.
+     */
+    private void readLog() {
+        if (!file.exists() || file.length() == 0) {
+            return;
+        }
+
+        long validLength = 0;
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            if (input.readInt() != FILE_MAGIC) {
+                logger.error("Data store: File {} is not a network data store", file);
+                moveInvalidLog();
+                return;
+            }
+            int version = input.readUnsignedByte();
+            if (version != FILE_VERSION) {
+                logger.error("Data store: File {} has unsupported version {}", file, version);
+                moveInvalidLog();
+                return;
+            }
+            validLength = HEADER_LENGTH;
+
+            while (true) {
+                int length;
+                try {
+                    length = input.readInt();
+                } catch (EOFException e) {
+                    break;
+                }
+                if (length < 1 || length > RECORD_LENGTH_MAX) {
+                    logger.warn("Data store: Invalid record length {} at offset {}", length, validLength);
+                    break;
+                }
+                byte[] record = new byte[length];
+                input.readFully(record);
+                int checksum = input.readInt();
+                if (checksum != getChecksum(record)) {
+                    logger.warn("Data store: Invalid record checksum at offset {}", validLength);
+                    break;
+                }
+
+                try {
+                    processRecord(record);
+                } catch (IOException e) {
+                    // The record is complete, so this is not a partial write - the log can not be read
+                    throw new IOException("Invalid record at offset " + validLength, e);
+                }
+                validLength += length + 8;
+                logRecords++;
+            }
+        } catch (EOFException e) {
+            logger.warn("Data store: Incomplete record at offset {}", validLength);
+        } catch (IOException e) {
+            // Nodes after the error are not loaded, so the log must not be overwritten with the nodes held in memory
+            logger.error("Data store: Error reading log", e);
+            moveInvalidLog();
+            logFailed = true;
+            return;
+        }
+
+        if (validLength < file.length()) {
+            logger.warn("Data store: Truncating log from {} to {} bytes", file.length(), validLength);
+            try (RandomAccessFile truncateFile = new RandomAccessFile(file, "rw")) {
+                truncateFile.setLength(validLength);
+            } catch (IOException e) {
+                logger.error("Data store: Error truncating log", e);
+            }
+        }
+
+        logger.debug("Data store: Read {} records for {} nodes", logRecords, nodes.size());
+    }
+
+    /**
+     * Moves a file that can not be read as a log aside, so that a new log can be started without modifying the file.
+     * If the file can not be moved, the store will not write to the file.
+     */
+    private void moveInvalidLog() {
+        File invalidFile = new File(file.getPath() + ".invalid");
+        for (int cnt = 1; invalidFile.exists(); cnt++) {
+            invalidFile = new File(file.getPath() + ".invalid" + cnt);
+        }
+        if (file.renameTo(invalidFile)) {
+            logger.warn("Data store: Moved {} to {} and started a new log", file, invalidFile);
+        } else {
+            logger.error("Data store: Unable to move {} - the network will not be saved", file);
+            logInvalid = true;
+        }
+    }
+
+    private void processRecord(byte[] record) throws IOException {
+        byte[] payload = Arrays.copyOfRange(record, 1, record.length);
+        IeeeAddress address = ZigBeeNodeDaoSerializer
+                .readIeeeAddress(new DataInputStream(new ByteArrayInputStream(payload)));
+        switch (record[0]) {
+            case RECORD_NODE:
+                nodes.put(address, payload);
+                deltas.remove(address);
+                break;
+            case RECORD_REMOVE:
+                nodes.remove(address);
+                deltas.remove(address);
+                break;
+            case RECORD_DELTA:
+                if (nodes.containsKey(address)) {
+                    addDelta(address, payload);
+                }
+                break;
+            default:
+                logger.debug("Data store: Unknown record type {}", record[0]);
+                break;
+        }
+    }
+
+    /**
+     * Adds a delta for the node. If the maximum number of deltas has been reached, they are merged into the node
+     * record to limit the memory used, and the time taken to restore the node.
+     *
+     * @param address the {@link IeeeAddress} of the node
+     * @param payload the serialised delta
+     */
+    private void addDelta(IeeeAddress address, byte[] payload) {
+        List<byte[]> nodeDeltas = deltas.get(address);
+        if (nodeDeltas == null) {
+            nodeDeltas = new ArrayList<>();
+            deltas.put(address, nodeDeltas);
+        }
+        nodeDeltas.add(payload);
+        if (nodeDeltas.size() >= DELTAS_MAX) {
+            mergeDeltas(address);
+        }
+    }
+
+    /**
+     * Merges all deltas for the node into the node record held in memory. This does not change the log.
+     *
+     * @param address the {@link IeeeAddress} of the node
+     */
+    private void mergeDeltas(IeeeAddress address) {
+        List<byte[]> nodeDeltas = deltas.get(address);
+        byte[] record = nodes.get(address);
+        if (nodeDeltas == null || record == null) {
+            return;
+        }
+
+        try {
+            ZigBeeNodeDao node = deserialize(record);
+            for (byte[] delta : nodeDeltas) {
+                node.applyDelta(deserialize(delta));
+            }
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            ZigBeeNodeDaoSerializer.serialize(new DataOutputStream(bytes), node);
+            nodes.put(address, bytes.toByteArray());
+            deltas.remove(address);
+        } catch (IOException e) {
+            // The deltas are retained, and are written as delta records when the log is compacted
+            logger.error("{}: Data store: Error merging node deltas", address, e);
+        }
+    }
+
+    private ZigBeeNodeDao deserialize(byte[] payload) throws IOException {
+        return ZigBeeNodeDaoSerializer.deserialize(new DataInputStream(new ByteArrayInputStream(payload)));
+    }
+
+    /**
+     * Appends the records to the log. The records must already be applied to the nodes held in memory, so that if the
+     * log needs to be compacted the records are included.
+     *
+     * @param records the records to append
+     * @return false if the write failed, and should be retried
+     */
+    private boolean appendRecords(List<byte[]> records) {
+        if (records.isEmpty()) {
+            return true;
+        }
+        if (logInvalid) {
+            logger.error("Data store: Log {} is invalid - {} records not written", file, records.size());
+            return true;
+        }
+        if (logFailed) {
+            // The log may end with a partial record from the failed write - replace it with the current records
+            logger.debug("Data store: Replacing log after failed write");
+            return compactLog();
+        }
+        try {
+            if (logStream == null) {
+                openLog();
+            }
+            for (byte[] record : records) {
+                writeRecord(logStream, record);
+                logRecords++;
+            }
+            logStream.flush();
+            if (syncWrites) {
+                fileStream.getFD().sync();
+            }
+        } catch (IOException e) {
+            logger.error("Data store: Error writing log", e);
+            closeLog();
+            logFailed = true;
+            return false;
+        }
+
+        if (logRecords >= compactionRecordsMin && logRecords >= nodes.size() * compactionRatio) {
+            compactLog();
+        }
+        return true;
+    }
+
+    private void openLog() throws IOException {
+        boolean newFile = !file.exists() || file.length() == 0;
+        fileStream = new FileOutputStream(file, true);
+        logStream = new DataOutputStream(new BufferedOutputStream(fileStream));
+        if (newFile) {
+            writeHeader(logStream);
+        }
+    }
+
+    private void closeLog() {
+        if (logStream == null) {
+            return;
+        }
+        try {
+            logStream.close();
+        } catch (IOException e) {
+            logger.debug("Data store: Error closing log", e);
+        }
+        logStream = null;
+        fileStream = null;
+    }
+
+    private void writeHeader(DataOutputStream output) throws IOException {
+        output.writeInt(FILE_MAGIC);
+        output.writeByte(FILE_VERSION);
+    }
+
+    private byte[] createRecord(int type, byte[] payload) {
+        byte[] record = new byte[payload.length + 1];
+        record[0] = (byte) type;
+        System.arraycopy(payload, 0, record, 1, payload.length);
+        return record;
+    }
+
+    private void writeRecord(DataOutputStream output, byte[] record) throws IOException {
+        output.writeInt(record.length);
+        output.write(record);
+        output.writeInt(getChecksum(record));
+    }
+
+    private int getChecksum(byte[] record) {
+        CRC32 crc = new CRC32();
+        crc.update(record);
+        return (int) crc.getValue();
+    }
+}
@@ -7,6 +7,7 @@
  */
 package com.zsmartsystems.zigbee.database;
 
+import java.util.Collection;
 import java.util.Set;
 
 import com.zsmartsystems.zigbee.IeeeAddress;
@@ -19,7 +20,12 @@ import com.zsmartsystems.zigbee.IeeeAddress;
  * <p>
  * The underlying data store implementation must be able to store and retrieve node data with the
  * {@link #writeNode(ZigBeeNodeDao)} and {@link #readNode(IeeeAddress)} methods, and also provide a list of all nodes
- * currently in the store with the {@link #readNetworkNodes()} method.
+ * currently in the store with the {@link #readNetworkNodes()} method. Data stores that can commit multiple nodes more
+ * efficiently than writing them individually may also override {@link #writeNodes(Collection)}.
+ * <p>
+ * Data stores that return true from {@link #isDeltaSupported()} may be passed a {@link ZigBeeNodeDao} that only holds
+ * the changes to a node since it was last written (see {@link ZigBeeNodeDao#isDelta()}). The delta must be merged with
+ * the node previously written to the store, for example with {@link ZigBeeNodeDao#applyDelta(ZigBeeNodeDao)}.
  *
  * @author Chris Jackson
  *
@@ -48,11 +54,40 @@ public interface ZigBeeNetworkDataStore {
     /**
      * Called when information about a node has been updated, and the node must persist the node data to non-volatile
      * storage.
+     * <p>
+     * If the node can not be persisted, the data store should throw a {@link RuntimeException}. The complete node will
+     * then be written again later, so that no changes are lost.
      *
      * @param node the {@link ZigBeeNodeDao} to be persisted
      */
     void writeNode(ZigBeeNodeDao node);
 
+    /**
+     * Called when information about a number of nodes has been updated, and the nodes must be persisted to
+     * non-volatile storage. The database manager will combine the nodes updated within the deferred write period into a
+     * single call to allow the data store to commit them together - eg in a single database transaction.
+     * <p>
+     * The default implementation calls {@link #writeNode(ZigBeeNodeDao)} for each node. If a
+     * {@link RuntimeException} is thrown, all the nodes will be written again later.
+     *
+     * @param nodes the {@link Collection} of {@link ZigBeeNodeDao}s to be persisted
+     */
+    default void writeNodes(Collection<ZigBeeNodeDao> nodes) {
+        for (ZigBeeNodeDao node : nodes) {
+            writeNode(node);
+        }
+    }
+
+    /**
+     * Returns true if the data store is able to persist a {@link ZigBeeNodeDao} that only holds the changes to a node.
+     * If this returns false (the default), the complete node will always be written.
+     *
+     * @return true if the data store supports writing deltas
+     */
+    default boolean isDeltaSupported() {
+        return false;
+    }
+
     /**
      * Called when a node has been removed from the network. It is expected that the database implementation will remove
      * this data from the storage.
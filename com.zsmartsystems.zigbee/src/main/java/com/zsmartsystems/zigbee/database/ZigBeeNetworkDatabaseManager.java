@@ -7,9 +7,11 @@
  */
 package com.zsmartsystems.zigbee.database;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -29,7 +31,15 @@ import com.zsmartsystems.zigbee.ZigBeeNode;
  * <p>
  * The database manager will not normally write data to the data store immediately. It will instead defer the write for
  * the {@link #deferredWriteTime}. If there are many consecutive writes that continue to retrigger the deferred timer,
- * then after {@link #deferredWriteTimeout} period, the node will be written to the data store.
+ * then after {@link #deferredWriteTimeout} period, the nodes will be written to the data store. All nodes that are
+ * updated while the write is deferred are coalesced into a single batch which is passed to the data store with
+ * {@link ZigBeeNetworkDataStore#writeNodes(java.util.Collection)}. Any outstanding batch is written when the database
+ * manager is shut down.
+ * <p>
+ * If the data store supports deltas (see {@link ZigBeeNetworkDataStore#isDeltaSupported()}), only the changes made to
+ * each node since it was last written are passed to the data store, and nodes that have not changed are not written.
+ * If the data store fails to write a batch, the complete nodes are written again after the
+ * {@link #deferredWriteTimeout}.
  * <p>
  * All writes to the {@link ZigBeeDataStore} are managed through a single thread scheduler to ensure that only a single
  * write is in progress at once. This allows the data store to be kept simple and ensures writes don't get queued thus
@@ -86,14 +96,19 @@ public class ZigBeeNetworkDatabaseManager implements ZigBeeNetworkNodeListener {
     private long deferredWriteTimeout = TimeUnit.MILLISECONDS.toNanos(DEFERRED_WRITE_TIMEOUT);
 
     /**
-     * Map of deferred write futures for each node
+     * Map of nodes that are waiting to be written in the next batch
      */
-    private final Map<IeeeAddress, ScheduledFuture<?>> deferredWriteFutures = new ConcurrentHashMap<>();
+    private final Map<IeeeAddress, ZigBeeNode> deferredWriteNodes = new LinkedHashMap<>();
 
     /**
-     * Map of the first time we deferred the write on the node
+     * The future for the deferred write of the current batch
      */
-    private final Map<IeeeAddress, Long> deferredWriteTimes = new ConcurrentHashMap<>();
+    private ScheduledFuture<?> deferredWriteFuture;
+
+    /**
+     * The time (in nanoseconds) at which the current batch must be written, even if the deferred timer is retriggered
+     */
+    private long deferredWriteTimeoutTime;
 
     /**
      * Single thread scheduler to ensure single writes within the data store
@@ -180,6 +195,17 @@ public class ZigBeeNetworkDatabaseManager implements ZigBeeNetworkNodeListener {
     public void shutdown() {
         logger.debug("Data store: shutting down.");
         networkManager.removeNetworkNodeListener(this);
+
+        // Write any outstanding nodes before the scheduler is shutdown
+        synchronized (deferredWriteNodes) {
+            if (deferredWriteFuture != null) {
+                deferredWriteFuture.cancel(false);
+                deferredWriteFuture = null;
+            }
+            if (!deferredWriteNodes.isEmpty()) {
+                executorService.execute(new CommitNodesTask());
+            }
+        }
         executorService.shutdown();
         try {
             executorService.awaitTermination(SHUTDOWN_TIMEOUT, TimeUnit.MILLISECONDS);
@@ -209,20 +235,24 @@ public class ZigBeeNetworkDatabaseManager implements ZigBeeNetworkNodeListener {
             return;
         }
 
+        synchronized (deferredWriteNodes) {
+            deferredWriteNodes.remove(node.getIeeeAddress());
+        }
         dataStore.removeNode(node.getIeeeAddress());
     }
 
     private void saveNode(ZigBeeNode node) {
         int deferredDelay = deferredWriteTime;
 
-        synchronized (deferredWriteFutures) {
-            if (deferredWriteFutures.containsKey(node.getIeeeAddress())) {
+        synchronized (deferredWriteNodes) {
+            deferredWriteNodes.put(node.getIeeeAddress(), node);
+
+            if (deferredWriteFuture != null) {
                 // Cancel the currently scheduled write
-                deferredWriteFutures.get(node.getIeeeAddress()).cancel(false);
+                deferredWriteFuture.cancel(false);
 
-                if (deferredWriteTimes.get(node.getIeeeAddress()) != null
-                        && deferredWriteTimes.get(node.getIeeeAddress()) < System.nanoTime()) {
-                    logger.debug("{}: Data store: Maximum deferred time reached.", node.getIeeeAddress());
+                if (deferredWriteTimeoutTime < System.nanoTime()) {
+                    logger.debug("Data store: Maximum deferred time reached.");
 
                     // Run the write immediately.
                     // This is still run through the scheduler to ensure we don't make
@@ -230,39 +260,85 @@ public class ZigBeeNetworkDatabaseManager implements ZigBeeNetworkNodeListener {
                     deferredDelay = 0;
                 }
             } else {
-                // First deferred write - save the time
-                deferredWriteTimes.put(node.getIeeeAddress(), System.nanoTime() + deferredWriteTimeout);
+                // First deferred write in this batch - save the time
+                deferredWriteTimeoutTime = System.nanoTime() + deferredWriteTimeout;
             }
 
             logger.debug("{}: Data store: Deferring write for {}ms.", node.getIeeeAddress(), deferredDelay);
 
-            CommitNodeTask commitTask = new CommitNodeTask(node);
-            deferredWriteFutures.put(node.getIeeeAddress(),
-                    executorService.schedule(commitTask, deferredDelay, TimeUnit.MILLISECONDS));
+            deferredWriteFuture = executorService.schedule(new CommitNodesTask(), deferredDelay,
+                    TimeUnit.MILLISECONDS);
         }
     }
 
-    private class CommitNodeTask implements Runnable {
-        private ZigBeeNode node;
-
-        CommitNodeTask(ZigBeeNode node) {
-            this.node = node;
-        }
-
+    private class CommitNodesTask implements Runnable {
         @Override
         public void run() {
-            writeNode(node);
+            writeNodes();
         }
     }
 
-    private void writeNode(ZigBeeNode node) {
-        logger.debug("{}: Data store: Writing node.", node.getIeeeAddress());
-        synchronized (deferredWriteFutures) {
-            deferredWriteTimes.remove(node.getIeeeAddress());
-            deferredWriteFutures.remove(node.getIeeeAddress());
+    private void writeNodes() {
+        List<ZigBeeNode> nodes;
+        synchronized (deferredWriteNodes) {
+            nodes = new ArrayList<>(deferredWriteNodes.values());
+            deferredWriteNodes.clear();
+            deferredWriteFuture = null;
+        }
+
+        boolean deltaSupported = dataStore.isDeltaSupported();
+        List<ZigBeeNode> changedNodes = new ArrayList<>(nodes.size());
+        List<ZigBeeNodeDao> nodeDaos = new ArrayList<>(nodes.size());
+        for (ZigBeeNode node : nodes) {
+            ZigBeeNodeDao nodeDao = deltaSupported ? node.getDeltaDao() : node.getDao();
+            if (nodeDao == null) {
+                logger.debug("{}: Data store: Node has not changed.", node.getIeeeAddress());
+                continue;
+            }
+            changedNodes.add(node);
+            nodeDaos.add(nodeDao);
+        }
+
+        if (nodeDaos.isEmpty()) {
+            return;
         }
+        try {
+            if (nodeDaos.size() == 1) {
+                logger.debug("{}: Data store: Writing node.", nodeDaos.get(0).getIeeeAddress());
+                dataStore.writeNode(nodeDaos.get(0));
+            } else {
+                logger.debug("Data store: Writing {} nodes.", nodeDaos.size());
+                dataStore.writeNodes(nodeDaos);
+            }
+        } catch (RuntimeException e) {
+            logger.error("Data store: Error writing {} nodes.", nodeDaos.size(), e);
+            retryNodes(changedNodes);
+        }
+    }
 
-        dataStore.writeNode(node.getDao());
+    /**
+     * Schedules the complete nodes to be written again after a failed write. The dirty state of the nodes was cleared
+     * when the DAOs were created, so the nodes are marked to require a full snapshot.
+     *
+     * @param nodes the {@link ZigBeeNode}s that were not written
+     */
+    private void retryNodes(List<ZigBeeNode> nodes) {
+        synchronized (deferredWriteNodes) {
+            for (ZigBeeNode node : nodes) {
+                node.setFullSnapshotRequired();
+                if (!deferredWriteNodes.containsKey(node.getIeeeAddress())) {
+                    deferredWriteNodes.put(node.getIeeeAddress(), node);
+                }
+            }
+            if (deferredWriteFuture != null || executorService.isShutdown()) {
+                return;
+            }
+
+            long retryDelay = TimeUnit.NANOSECONDS.toMillis(deferredWriteTimeout);
+            logger.debug("Data store: Retrying write of {} nodes in {}ms.", nodes.size(), retryDelay);
+            deferredWriteTimeoutTime = System.nanoTime() + deferredWriteTimeout;
+            deferredWriteFuture = executorService.schedule(new CommitNodesTask(), retryDelay, TimeUnit.MILLISECONDS);
+        }
     }
 
 }
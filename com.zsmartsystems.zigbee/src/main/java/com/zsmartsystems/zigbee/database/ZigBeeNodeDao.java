@@ -7,7 +7,9 @@
  */
 package com.zsmartsystems.zigbee.database;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import com.zsmartsystems.zigbee.IeeeAddress;
@@ -18,6 +20,10 @@ import com.zsmartsystems.zigbee.zdo.field.PowerDescriptor;
 
 /**
  * This class provides a clean class to hold a data object for serialisation of a {@link ZigBeeNode}
+ * <p>
+ * The DAO may hold either the complete state of the node, or a delta containing only the endpoints, clusters and
+ * attributes that have changed (see {@link ZigBeeNode#getDeltaDao()}). A delta can be merged into the complete state
+ * with {@link #applyDelta(ZigBeeNodeDao)}.
  *
  * @author Chris Jackson
  *
@@ -50,6 +56,11 @@ public class ZigBeeNodeDao {
 
     private Set<BindingTable> bindingTable;
 
+    /**
+     * True if this DAO only holds the changes to the node
+     */
+    private transient boolean delta;
+
     public IeeeAddress getIeeeAddress() {
         return ieeeAddress;
     }
@@ -97,4 +108,108 @@ public class ZigBeeNodeDao {
     public Set<BindingTable> getBindingTable() {
         return bindingTable;
     }
+
+    /**
+     * Returns true if this DAO is a delta, holding only the changes to the node
+     *
+     * @return true if this DAO is a delta
+     */
+    public boolean isDelta() {
+        return delta;
+    }
+
+    public void setDelta(boolean delta) {
+        this.delta = delta;
+    }
+
+    /**
+     * Merges a delta into this DAO. Node level fields in the delta replace the current values if they are set.
+     * Endpoints and clusters in the delta are matched to those in this DAO by their ID, and the attributes in the delta
+     * replace the existing attributes. Endpoints or clusters in the delta that are not found in this DAO are added.
+     *
+     * @param delta the {@link ZigBeeNodeDao} holding the changes to apply to this DAO
+     */
+    public void applyDelta(ZigBeeNodeDao delta) {
+        if (delta.getNetworkAddress() != null) {
+            networkAddress = delta.getNetworkAddress();
+        }
+        if (delta.getNodeDescriptor() != null) {
+            nodeDescriptor = delta.getNodeDescriptor();
+        }
+        if (delta.getPowerDescriptor() != null) {
+            powerDescriptor = delta.getPowerDescriptor();
+        }
+        if (delta.getBindingTable() != null) {
+            bindingTable = delta.getBindingTable();
+        }
+        if (delta.getEndpoints() == null) {
+            return;
+        }
+        // Copy the list as it may not be modifiable
+        endpoints = endpoints == null ? new ArrayList<ZigBeeEndpointDao>() : new ArrayList<>(endpoints);
+
+        for (ZigBeeEndpointDao deltaEndpoint : delta.getEndpoints()) {
+            ZigBeeEndpointDao endpoint = null;
+            for (ZigBeeEndpointDao currentEndpoint : endpoints) {
+                if (currentEndpoint.getEndpointId() == deltaEndpoint.getEndpointId()) {
+                    endpoint = currentEndpoint;
+                    break;
+                }
+            }
+            if (endpoint == null) {
+                endpoints.add(deltaEndpoint);
+                continue;
+            }
+
+            if (deltaEndpoint.getProfileId() != null) {
+                endpoint.setProfileId(deltaEndpoint.getProfileId());
+            }
+            if (deltaEndpoint.getDeviceId() != null) {
+                endpoint.setDeviceId(deltaEndpoint.getDeviceId());
+            }
+            if (deltaEndpoint.getDeviceVersion() != null) {
+                endpoint.setDeviceVersion(deltaEndpoint.getDeviceVersion());
+            }
+            applyClusterDelta(endpoint.getInputClusters(), deltaEndpoint.getInputClusters());
+            applyClusterDelta(endpoint.getOutputClusters(), deltaEndpoint.getOutputClusters());
+        }
+    }
+
+    private void applyClusterDelta(List<ZclClusterDao> clusters, List<ZclClusterDao> deltaClusters) {
+        for (ZclClusterDao deltaCluster : deltaClusters) {
+            ZclClusterDao cluster = null;
+            for (ZclClusterDao currentCluster : clusters) {
+                if (currentCluster.getClusterId() == deltaCluster.getClusterId()) {
+                    cluster = currentCluster;
+                    break;
+                }
+            }
+            if (cluster == null) {
+                clusters.add(deltaCluster);
+                continue;
+            }
+
+            if (deltaCluster.getLabel() != null) {
+                cluster.setLabel(deltaCluster.getLabel());
+            }
+            if (deltaCluster.getSupportedAttributes() != null) {
+                cluster.setSupportedAttributes(deltaCluster.getSupportedAttributes());
+            }
+            if (deltaCluster.getSupportedCommandsGenerated() != null) {
+                cluster.setSupportedCommandsGenerated(deltaCluster.getSupportedCommandsGenerated());
+            }
+            if (deltaCluster.getSupportedCommandsReceived() != null) {
+                cluster.setSupportedCommandsReceived(deltaCluster.getSupportedCommandsReceived());
+            }
+            Map<Integer, ZclAttributeDao> deltaAttributes = deltaCluster.getAttributes();
+            if (deltaAttributes == null || deltaAttributes.isEmpty()) {
+                continue;
+            }
+            if (cluster.getAttributes() == null) {
+                cluster.setAttributes(deltaAttributes);
+            } else {
+                cluster.getAttributes().putAll(deltaAttributes);
+            }
+        }
+    }
 }
@@ -0,0 +1,735 @@
+/**
+ * Copyright (c) 2016-2019 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.database;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TimeZone;
+import java.util.TreeSet;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.zsmartsystems.zigbee.ExtendedPanId;
+import com.zsmartsystems.zigbee.IeeeAddress;
+import com.zsmartsystems.zigbee.serialization.DefaultDeserializer;
+import com.zsmartsystems.zigbee.security.ZigBeeKey;
+import com.zsmartsystems.zigbee.serialization.DefaultSerializer;
+import com.zsmartsystems.zigbee.zcl.ZclStatus;
+import com.zsmartsystems.zigbee.zcl.field.ByteArray;
+import com.zsmartsystems.zigbee.zcl.field.ZclArrayList;
+import com.zsmartsystems.zigbee.zcl.field.ZclDataPair;
+import com.zsmartsystems.zigbee.zcl.protocol.ZclDataType;
+import com.zsmartsystems.zigbee.zdo.ZdoStatus;
+import com.zsmartsystems.zigbee.zdo.field.BindingTable;
+import com.zsmartsystems.zigbee.zdo.field.NodeDescriptor;
+import com.zsmartsystems.zigbee.zdo.field.NodeDescriptor.FrequencyBandType;
+import com.zsmartsystems.zigbee.zdo.field.NodeDescriptor.MacCapabilitiesType;
+import com.zsmartsystems.zigbee.zdo.field.NodeDescriptor.ServerCapabilitiesType;
+import com.zsmartsystems.zigbee.zdo.field.PowerDescriptor;
+import com.zsmartsystems.zigbee.zdo.field.PowerDescriptor.PowerSourceType;
+
+/**
+ * Serializes and deserializes a {@link ZigBeeNodeDao} to a compact binary form.
+ * <p>
+ * Descriptors and binding table entries are stored in their ZDO wire format. Attribute values are stored with a type
+ * tag so that they can be restored to the same class - if a value of a class that is not supported is found, the node
+ * is not serialized rather than losing the value.
+ *
+ * @author agent
+ *
+ */
+class ZigBeeNodeDaoSerializer {
+    /**
+     * The logger.
+     */
+    private final static Logger logger = LoggerFactory.getLogger(ZigBeeNodeDaoSerializer.class);
+
+    private static final int VALUE_NULL = 0;
+    private static final int VALUE_BOOLEAN = 1;
+    private static final int VALUE_INTEGER = 2;
+    private static final int VALUE_LONG = 3;
+    private static final int VALUE_DOUBLE = 4;
+    private static final int VALUE_FLOAT = 5;
+    private static final int VALUE_STRING = 6;
+    private static final int VALUE_CALENDAR = 7;
+    private static final int VALUE_BYTEARRAY = 8;
+    private static final int VALUE_IEEEADDRESS = 9;
+    private static final int VALUE_EXTENDEDPANID = 10;
+    private static final int VALUE_BIGINTEGER = 11;
+    private static final int VALUE_ZIGBEEKEY = 12;
+    private static final int VALUE_ZCLSTATUS = 13;
+    private static final int VALUE_ZDOSTATUS = 14;
+    private static final int VALUE_ZCLDATATYPE = 15;
+    private static final int VALUE_ZCLDATAPAIR = 16;
+    private static final int VALUE_ZCLARRAYLIST = 17;
+    private static final int VALUE_LIST = 18;
+
+    private ZigBeeNodeDaoSerializer() {
+        // Static methods only
+    }
+
+    /**
+     * Writes the {@link ZigBeeNodeDao} to the output
+     *
+     * @param output the {@link DataOutput} to write to
+     * @param node the {@link ZigBeeNodeDao} to write
+     * @throws IOException if there is an error writing to the output
+     */
+    static void serialize(DataOutput output, ZigBeeNodeDao node) throws IOException {
+        writeIeeeAddress(output, node.getIeeeAddress());
+        writeInteger(output, node.getNetworkAddress());
+        writeNodeDescriptor(output, node.getNodeDescriptor());
+        writePowerDescriptor(output, node.getPowerDescriptor());
+
+        List<ZigBeeEndpointDao> endpoints = node.getEndpoints();
+        if (endpoints == null) {
+            output.writeShort(-1);
+        } else {
+            output.writeShort(endpoints.size());
+            for (ZigBeeEndpointDao endpoint : endpoints) {
+                writeEndpoint(output, endpoint);
+            }
+        }
+
+        Set<BindingTable> bindingTable = node.getBindingTable();
+        if (bindingTable == null) {
+            output.writeShort(-1);
+        } else {
+            output.writeShort(bindingTable.size());
+            for (BindingTable binding : bindingTable) {
+                DefaultSerializer serializer = new DefaultSerializer();
+                binding.serialize(serializer);
+                writeBytes(output, serializer.getPayload());
+            }
+        }
+    }
+
+    /**
+     * Reads a {@link ZigBeeNodeDao} from the input
+     *
+     * @param input the {@link DataInput} to read from
+     * @return the {@link ZigBeeNodeDao}
+     * @throws IOException if there is an error reading from the input
+     */
+    static ZigBeeNodeDao deserialize(DataInput input) throws IOException {
+        ZigBeeNodeDao node = new ZigBeeNodeDao();
+
+        node.setIeeeAddress(readIeeeAddress(input));
+        node.setNetworkAddress(readInteger(input));
+        node.setNodeDescriptor(readNodeDescriptor(input));
+        node.setPowerDescriptor(readPowerDescriptor(input));
+
+        int cnt = input.readShort();
+        if (cnt >= 0) {
+            List<ZigBeeEndpointDao> endpoints = new ArrayList<>(cnt);
+            for (int i = 0; i < cnt; i++) {
+                endpoints.add(readEndpoint(input));
+            }
+            node.setEndpoints(endpoints);
+        }
+
+        cnt = input.readShort();
+        if (cnt >= 0) {
+            Set<BindingTable> bindingTable = new HashSet<>(cnt);
+            for (int i = 0; i < cnt; i++) {
+                BindingTable binding = new BindingTable();
+                binding.deserialize(new DefaultDeserializer(readBytes(input)));
+                bindingTable.add(binding);
+            }
+            node.setBindingTable(bindingTable);
+        }
+
+        return node;
+    }
+
+    private static void writeEndpoint(DataOutput output, ZigBeeEndpointDao endpoint) throws IOException {
+        output.writeByte(endpoint.getEndpointId());
+        writeInteger(output, endpoint.getProfileId());
+        writeInteger(output, endpoint.getDeviceId());
+        writeInteger(output, endpoint.getDeviceVersion());
+        writeIntegers(output, endpoint.getInputClusterIds());
+        writeIntegers(output, endpoint.getOutputClusterIds());
+        writeClusters(output, endpoint.getInputClusters());
+        writeClusters(output, endpoint.getOutputClusters());
+    }
+
+    private static ZigBeeEndpointDao readEndpoint(DataInput input) throws IOException {
+        ZigBeeEndpointDao endpoint = new ZigBeeEndpointDao();
+        endpoint.setEndpointId(input.readUnsignedByte());
+        endpoint.setProfileId(readInteger(input));
+        Integer deviceId = readInteger(input);
+        if (deviceId != null) {
+            endpoint.setDeviceId(deviceId);
+        }
+        Integer deviceVersion = readInteger(input);
+        if (deviceVersion != null) {
+            endpoint.setDeviceVersion(deviceVersion);
+        }
+        // Lists are null in an endpoint restored by XStream without them, and are left empty here
+        List<Integer> clusterIds = readIntegers(input, new ArrayList<Integer>());
+        if (clusterIds != null) {
+            endpoint.setInputClusterIds(clusterIds);
+        }
+        clusterIds = readIntegers(input, new ArrayList<Integer>());
+        if (clusterIds != null) {
+            endpoint.setOutputClusterIds(clusterIds);
+        }
+        List<ZclClusterDao> clusters = readClusters(input);
+        if (clusters != null) {
+            endpoint.setInputClusters(clusters);
+        }
+        clusters = readClusters(input);
+        if (clusters != null) {
+            endpoint.setOutputClusters(clusters);
+        }
+        return endpoint;
+    }
+
+    private static void writeClusters(DataOutput output, List<ZclClusterDao> clusters) throws IOException {
+        if (clusters == null) {
+            output.writeShort(-1);
+            return;
+        }
+        output.writeShort(clusters.size());
+        for (ZclClusterDao cluster : clusters) {
+            writeCluster(output, cluster);
+        }
+    }
+
+    private static List<ZclClusterDao> readClusters(DataInput input) throws IOException {
+        int cnt = input.readShort();
+        if (cnt < 0) {
+            return null;
+        }
+        List<ZclClusterDao> clusters = new ArrayList<>(cnt);
+        for (int i = 0; i < cnt; i++) {
+            clusters.add(readCluster(input));
+        }
+        return clusters;
+    }
+
+    static void writeCluster(DataOutput output, ZclClusterDao cluster) throws IOException {
+        output.writeShort(cluster.getClusterId());
+        output.writeBoolean(cluster.getClient());
+        writeString(output, cluster.getLabel());
+        writeIntegers(output, cluster.getSupportedAttributes());
+        writeIntegers(output, cluster.getSupportedCommandsGenerated());
+        writeIntegers(output, cluster.getSupportedCommandsReceived());
+
+        Map<Integer, ZclAttributeDao> attributes = cluster.getAttributes();
+        if (attributes == null) {
+            output.writeShort(-1);
+            return;
+        }
+        output.writeShort(attributes.size());
+        for (ZclAttributeDao attribute : attributes.values()) {
+            writeAttribute(output, attribute);
+        }
+    }
+
+    static ZclClusterDao readCluster(DataInput input) throws IOException {
+        ZclClusterDao cluster = new ZclClusterDao();
+        cluster.setClusterId(input.readUnsignedShort());
+        cluster.setClient(input.readBoolean());
+        cluster.setLabel(readString(input));
+        cluster.setSupportedAttributes(readIntegers(input, new TreeSet<Integer>()));
+        cluster.setSupportedCommandsGenerated(readIntegers(input, new TreeSet<Integer>()));
+        cluster.setSupportedCommandsReceived(readIntegers(input, new TreeSet<Integer>()));
+
+        int cnt = input.readShort();
+        if (cnt >= 0) {
+            Map<Integer, ZclAttributeDao> attributes = new HashMap<>(cnt);
+            for (int i = 0; i < cnt; i++) {
+                ZclAttributeDao attribute = readAttribute(input);
+                attributes.put(attribute.getId(), attribute);
+            }
+            cluster.setAttributes(attributes);
+        }
+        return cluster;
+    }
+
+    static void writeAttribute(DataOutput output, ZclAttributeDao attribute) throws IOException {
+        output.writeShort(attribute.getId());
+        writeString(output, attribute.getName());
+        writeString(output, attribute.getDataType() == null ? null : attribute.getDataType().name());
+        int flags = (attribute.isMandatory() ? 0x01 : 0) | (attribute.isImplemented() ? 0x02 : 0)
+                | (attribute.isReadable() ? 0x04 : 0) | (attribute.isWritable() ? 0x08 : 0)
+                | (attribute.isReportable() ? 0x10 : 0);
+        output.writeByte(flags);
+        output.writeInt(attribute.getMinimumReportingPeriod());
+        output.writeInt(attribute.getMaximumReportingPeriod());
+        output.writeInt(attribute.getReportingTimeout());
+        writeValue(output, attribute.getReportingChange());
+        writeValue(output, attribute.getLastReportTime());
+        writeValue(output, attribute.getLastValue());
+    }
+
+    static ZclAttributeDao readAttribute(DataInput input) throws IOException {
+        ZclAttributeDao attribute = new ZclAttributeDao();
+        attribute.setId(input.readUnsignedShort());
+        attribute.setName(readString(input));
+        String dataType = readString(input);
+        if (dataType != null) {
+            try {
+                attribute.setDataType(ZclDataType.valueOf(dataType));
+            } catch (IllegalArgumentException e) {
+                logger.debug("Unknown data type {} restoring attribute {}", dataType, attribute.getId());
+            }
+        }
+        int flags = input.readUnsignedByte();
+        attribute.setMandatory((flags & 0x01) != 0);
+        attribute.setImplemented((flags & 0x02) != 0);
+        attribute.setReadable((flags & 0x04) != 0);
+        attribute.setWritable((flags & 0x08) != 0);
+        attribute.setReportable((flags & 0x10) != 0);
+        attribute.setMinimumReportingPeriod(input.readInt());
+        attribute.setMaximumReportingPeriod(input.readInt());
+        attribute.setReportingTimeout(input.readInt());
+        attribute.setReportingChange(readValue(input));
+        Object lastReportTime = readValue(input);
+        if (lastReportTime instanceof Calendar) {
+            attribute.setLastReportTime((Calendar) lastReportTime);
+        }
+        attribute.setLastValue(readValue(input));
+        return attribute;
+    }
+
+    private static void writeNodeDescriptor(DataOutput output, NodeDescriptor descriptor) throws IOException {
+        if (descriptor == null) {
+            output.writeBoolean(false);
+            return;
+        }
+        output.writeBoolean(true);
+
+        // Use the ZDO wire format so that the descriptor can be restored with NodeDescriptor.deserialize()
+        int logicalType;
+        switch (descriptor.getLogicalType()) {
+            case COORDINATOR:
+                logicalType = 0;
+                break;
+            case ROUTER:
+                logicalType = 1;
+                break;
+            case END_DEVICE:
+                logicalType = 2;
+                break;
+            default:
+                logicalType = 7;
+                break;
+        }
+        output.writeByte(logicalType | (descriptor.isComplexDescriptorAvailable() ? 0x08 : 0)
+                | (descriptor.isUserDescriptorAvailable() ? 0x10 : 0));
+
+        int frequencyBands = 0;
+        if (descriptor.getFrequencyBands().contains(FrequencyBandType.FREQ_868_MHZ)) {
+            frequencyBands |= 0x01;
+        }
+        if (descriptor.getFrequencyBands().contains(FrequencyBandType.FREQ_902_MHZ)) {
+            frequencyBands |= 0x04;
+        }
+        if (descriptor.getFrequencyBands().contains(FrequencyBandType.FREQ_2400_MHZ)) {
+            frequencyBands |= 0x08;
+        }
+        output.writeByte((descriptor.getApsFlags() & 0x07) | (frequencyBands << 3));
+
+        int macCapabilities = 0;
+        Set<MacCapabilitiesType> macSet = descriptor.getMacCapabilities();
+        macCapabilities |= macSet.contains(MacCapabilitiesType.ALTERNATIVE_PAN) ? 0x01 : 0;
+        macCapabilities |= macSet.contains(MacCapabilitiesType.FULL_FUNCTION_DEVICE) ? 0x02 : 0;
+        macCapabilities |= macSet.contains(MacCapabilitiesType.MAINS_POWER) ? 0x04 : 0;
+        macCapabilities |= macSet.contains(MacCapabilitiesType.RECEIVER_ON_WHEN_IDLE) ? 0x08 : 0;
+        macCapabilities |= macSet.contains(MacCapabilitiesType.SECURITY_CAPABLE) ? 0x40 : 0;
+        macCapabilities |= macSet.contains(MacCapabilitiesType.ADDRESS_ALLOCATION) ? 0x80 : 0;
+        output.writeByte(macCapabilities);
+
+        writeShortLittleEndian(output, descriptor.getManufacturerCode());
+        output.writeByte(descriptor.getBufferSize());
+        writeShortLittleEndian(output, descriptor.getIncomingTransferSize());
+
+        int serverMask = descriptor.getStackCompliance() << 9;
+        for (ServerCapabilitiesType capability : descriptor.getServerCapabilities()) {
+            serverMask |= 1 << capability.ordinal();
+        }
+        writeShortLittleEndian(output, serverMask);
+        writeShortLittleEndian(output, descriptor.getOutGoingTransferSize());
+        output.writeByte((descriptor.isExtendedEndpointListAvailable() ? 0x01 : 0)
+                | (descriptor.isExtendedSimpleDescriptorListAvailable() ? 0x02 : 0));
+    }
+
+    private static NodeDescriptor readNodeDescriptor(DataInput input) throws IOException {
+        if (!input.readBoolean()) {
+            return null;
+        }
+        int[] payload = new int[13];
+        for (int cnt = 0; cnt < payload.length; cnt++) {
+            payload[cnt] = input.readUnsignedByte();
+        }
+        NodeDescriptor descriptor = new NodeDescriptor();
+        descriptor.deserialize(new DefaultDeserializer(payload));
+        return descriptor;
+    }
+
+    private static void writePowerDescriptor(DataOutput output, PowerDescriptor descriptor) throws IOException {
+        if (descriptor == null) {
+            output.writeBoolean(false);
+            return;
+        }
+        output.writeBoolean(true);
+
+        // Use the ZDO wire format so that the descriptor can be restored with PowerDescriptor.deserialize()
+        int currentPowerMode;
+        switch (descriptor.getCurrentPowerMode()) {
+            case RECEIVER_ON_IDLE:
+                currentPowerMode = 0x00;
+                break;
+            case RECEIVER_ON_PERIODICALLY:
+                currentPowerMode = 0x01;
+                break;
+            case RECEIVER_ON_STIMULATED:
+                currentPowerMode = 0x02;
+                break;
+            default:
+                currentPowerMode = 0x0F;
+                break;
+        }
+        int availablePowerSources = 0;
+        if (descriptor.getAvailablePowerSources() != null) {
+            for (PowerSourceType source : descriptor.getAvailablePowerSources()) {
+                availablePowerSources |= getPowerSourceMask(source);
+            }
+        }
+        int powerLevel;
+        switch (descriptor.getPowerLevel()) {
+            case CRITICAL:
+                powerLevel = 0x0;
+                break;
+            case LOW:
+                powerLevel = 0x4;
+                break;
+            case MEDIUM:
+                powerLevel = 0x8;
+                break;
+            case FULL:
+                powerLevel = 0xC;
+                break;
+            default:
+                powerLevel = 0xF;
+                break;
+        }
+        output.writeByte(currentPowerMode | (availablePowerSources << 4));
+        output.writeByte(getPowerSourceMask(descriptor.getCurrentPowerSource()) | (powerLevel << 4));
+    }
+
+    private static int getPowerSourceMask(PowerSourceType source) {
+        switch (source) {
+            case MAINS:
+                return 0x01;
+            case RECHARGABLE_BATTERY:
+                return 0x02;
+            case DISPOSABLE_BATTERY:
+                return 0x04;
+            default:
+                return 0x00;
+        }
+    }
+
+    private static PowerDescriptor readPowerDescriptor(DataInput input) throws IOException {
+        if (!input.readBoolean()) {
+            return null;
+        }
+        PowerDescriptor descriptor = new PowerDescriptor();
+        descriptor.deserialize(new DefaultDeserializer(new int[] { input.readUnsignedByte(), input.readUnsignedByte() }));
+        return descriptor;
+    }
+
+    /**
+     * Writes an attribute value with a type tag. Lists are written recursively, so the same classes are supported for
+     * list elements.
+     *
+     * @param output the {@link DataOutput}
+     * @param value the value to write
+     * @throws IOException if there is an error writing to the output, or the class of the value is not supported
+     */
+    static void writeValue(DataOutput output, Object value) throws IOException {
+        if (value == null) {
+            output.writeByte(VALUE_NULL);
+        } else if (value instanceof Boolean) {
+            output.writeByte(VALUE_BOOLEAN);
+            output.writeBoolean((Boolean) value);
+        } else if (value instanceof Integer) {
+            output.writeByte(VALUE_INTEGER);
+            output.writeInt((Integer) value);
+        } else if (value instanceof Long) {
+            output.writeByte(VALUE_LONG);
+            output.writeLong((Long) value);
+        } else if (value instanceof Double) {
+            output.writeByte(VALUE_DOUBLE);
+            output.writeDouble((Double) value);
+        } else if (value instanceof Float) {
+            output.writeByte(VALUE_FLOAT);
+            output.writeFloat((Float) value);
+        } else if (value instanceof String) {
+            output.writeByte(VALUE_STRING);
+            output.writeUTF((String) value);
+        } else if (value instanceof Calendar) {
+            output.writeByte(VALUE_CALENDAR);
+            output.writeLong(((Calendar) value).getTimeInMillis());
+            output.writeUTF(((Calendar) value).getTimeZone().getID());
+        } else if (value instanceof ByteArray) {
+            output.writeByte(VALUE_BYTEARRAY);
+            byte[] bytes = ((ByteArray) value).get();
+            output.writeShort(bytes.length);
+            output.write(bytes);
+        } else if (value instanceof IeeeAddress) {
+            output.writeByte(VALUE_IEEEADDRESS);
+            writeIeeeAddress(output, (IeeeAddress) value);
+        } else if (value instanceof ExtendedPanId) {
+            output.writeByte(VALUE_EXTENDEDPANID);
+            for (int val : ((ExtendedPanId) value).getValue()) {
+                output.writeByte(val);
+            }
+        } else if (value instanceof BigInteger) {
+            output.writeByte(VALUE_BIGINTEGER);
+            byte[] bytes = ((BigInteger) value).toByteArray();
+            output.writeShort(bytes.length);
+            output.write(bytes);
+        } else if (value instanceof ZigBeeKey) {
+            output.writeByte(VALUE_ZIGBEEKEY);
+            writeZigBeeKey(output, (ZigBeeKey) value);
+        } else if (value instanceof ZclStatus) {
+            output.writeByte(VALUE_ZCLSTATUS);
+            output.writeByte(((ZclStatus) value).getId());
+        } else if (value instanceof ZdoStatus) {
+            output.writeByte(VALUE_ZDOSTATUS);
+            output.writeByte(((ZdoStatus) value).getId());
+        } else if (value instanceof ZclDataType) {
+            output.writeByte(VALUE_ZCLDATATYPE);
+            output.writeUTF(((ZclDataType) value).name());
+        } else if (value instanceof ZclDataPair) {
+            output.writeByte(VALUE_ZCLDATAPAIR);
+            writeString(output, ((ZclDataPair) value).getDataType() == null ? null
+                    : ((ZclDataPair) value).getDataType().name());
+            writeValue(output, ((ZclDataPair) value).getValue());
+        } else if (value instanceof ZclArrayList) {
+            output.writeByte(VALUE_ZCLARRAYLIST);
+            writeString(output, ((ZclArrayList) value).getDataType() == null ? null
+                    : ((ZclArrayList) value).getDataType().name());
+            writeValues(output, (ZclArrayList) value);
+        } else if (value instanceof List) {
+            output.writeByte(VALUE_LIST);
+            writeValues(output, (List<?>) value);
+        } else {
+            throw new IOException("Unable to persist value of class " + value.getClass().getName());
+        }
+    }
+
+    static Object readValue(DataInput input) throws IOException {
+        int type = input.readUnsignedByte();
+        switch (type) {
+            case VALUE_NULL:
+                return null;
+            case VALUE_BOOLEAN:
+                return input.readBoolean();
+            case VALUE_INTEGER:
+                return input.readInt();
+            case VALUE_LONG:
+                return input.readLong();
+            case VALUE_DOUBLE:
+                return input.readDouble();
+            case VALUE_FLOAT:
+                return input.readFloat();
+            case VALUE_STRING:
+                return input.readUTF();
+            case VALUE_CALENDAR:
+                long time = input.readLong();
+                Calendar calendar = Calendar.getInstance(TimeZone.getTimeZone(input.readUTF()));
+                calendar.setTimeInMillis(time);
+                return calendar;
+            case VALUE_BYTEARRAY:
+                byte[] bytes = new byte[input.readUnsignedShort()];
+                input.readFully(bytes);
+                return new ByteArray(bytes);
+            case VALUE_IEEEADDRESS:
+                return readIeeeAddress(input);
+            case VALUE_EXTENDEDPANID:
+                int[] panId = new int[8];
+                for (int cnt = 0; cnt < 8; cnt++) {
+                    panId[cnt] = input.readUnsignedByte();
+                }
+                return new ExtendedPanId(panId);
+            case VALUE_BIGINTEGER:
+                byte[] bigInteger = new byte[input.readUnsignedShort()];
+                input.readFully(bigInteger);
+                return new BigInteger(bigInteger);
+            case VALUE_ZIGBEEKEY:
+                return readZigBeeKey(input);
+            case VALUE_ZCLSTATUS:
+                return ZclStatus.getStatus(input.readUnsignedByte());
+            case VALUE_ZDOSTATUS:
+                return ZdoStatus.getStatus(input.readUnsignedByte());
+            case VALUE_ZCLDATATYPE:
+                return readDataType(input.readUTF());
+            case VALUE_ZCLDATAPAIR:
+                ZclDataType pairType = readDataType(readString(input));
+                return new ZclDataPair(pairType, readValue(input));
+            case VALUE_ZCLARRAYLIST:
+                ZclArrayList arrayList = new ZclArrayList(readDataType(readString(input)));
+                readValues(input, arrayList);
+                return arrayList;
+            case VALUE_LIST:
+                List<Object> list = new ArrayList<>();
+                readValues(input, list);
+                return list;
+            default:
+                throw new IOException("Unknown value type " + type);
+        }
+    }
+
+    private static void writeValues(DataOutput output, List<?> values) throws IOException {
+        output.writeInt(values.size());
+        for (Object value : values) {
+            writeValue(output, value);
+        }
+    }
+
+    private static void readValues(DataInput input, List<Object> values) throws IOException {
+        int cnt = input.readInt();
+        for (int i = 0; i < cnt; i++) {
+            values.add(readValue(input));
+        }
+    }
+
+    private static ZclDataType readDataType(String dataType) throws IOException {
+        if (dataType == null) {
+            return null;
+        }
+        try {
+            return ZclDataType.valueOf(dataType);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Unknown data type " + dataType);
+        }
+    }
+
+    private static void writeZigBeeKey(DataOutput output, ZigBeeKey key) throws IOException {
+        for (int val : key.getValue()) {
+            output.writeByte(val);
+        }
+        output.writeBoolean(key.hasAddress());
+        if (key.hasAddress()) {
+            writeIeeeAddress(output, key.getAddress());
+        }
+        writeInteger(output, key.getIncomingFrameCounter());
+        writeInteger(output, key.getOutgoingFrameCounter());
+        writeInteger(output, key.getSequenceNumber());
+    }
+
+    private static ZigBeeKey readZigBeeKey(DataInput input) throws IOException {
+        int[] value = new int[16];
+        for (int cnt = 0; cnt < value.length; cnt++) {
+            value[cnt] = input.readUnsignedByte();
+        }
+        ZigBeeKey key = new ZigBeeKey(value);
+        if (input.readBoolean()) {
+            key.setAddress(readIeeeAddress(input));
+        }
+        key.setIncomingFrameCounter(readInteger(input));
+        key.setOutgoingFrameCounter(readInteger(input));
+        key.setSequenceNumber(readInteger(input));
+        return key;
+    }
+
+    static void writeIeeeAddress(DataOutput output, IeeeAddress address) throws IOException {
+        // The address is written least significant byte first
+        output.writeLong(Long.reverseBytes(address.longValue()));
+    }
+
+    static IeeeAddress readIeeeAddress(DataInput input) throws IOException {
+        return new IeeeAddress(Long.reverseBytes(input.readLong()));
+    }
+
+    private static void writeShortLittleEndian(DataOutput output, int value) throws IOException {
+        output.writeByte(value & 0xFF);
+        output.writeByte((value >> 8) & 0xFF);
+    }
+
+    private static void writeBytes(DataOutput output, int[] bytes) throws IOException {
+        output.writeShort(bytes.length);
+        for (int val : bytes) {
+            output.writeByte(val);
+        }
+    }
+
+    private static int[] readBytes(DataInput input) throws IOException {
+        int[] bytes = new int[input.readUnsignedShort()];
+        for (int cnt = 0; cnt < bytes.length; cnt++) {
+            bytes[cnt] = input.readUnsignedByte();
+        }
+        return bytes;
+    }
+
+    private static void writeInteger(DataOutput output, Integer value) throws IOException {
+        output.writeBoolean(value != null);
+        if (value != null) {
+            output.writeInt(value);
+        }
+    }
+
+    private static Integer readInteger(DataInput input) throws IOException {
+        if (!input.readBoolean()) {
+            return null;
+        }
+        return input.readInt();
+    }
+
+    private static void writeString(DataOutput output, String value) throws IOException {
+        output.writeBoolean(value != null);
+        if (value != null) {
+            output.writeUTF(value);
+        }
+    }
+
+    private static String readString(DataInput input) throws IOException {
+        if (!input.readBoolean()) {
+            return null;
+        }
+        return input.readUTF();
+    }
+
+    private static void writeIntegers(DataOutput output, Collection<Integer> values) throws IOException {
+        if (values == null) {
+            output.writeInt(-1);
+            return;
+        }
+        output.writeInt(values.size());
+        for (Integer value : values) {
+            output.writeInt(value);
+        }
+    }
+
+    private static <T extends Collection<Integer>> T readIntegers(DataInput input, T values) throws IOException {
+        int cnt = input.readInt();
+        if (cnt < 0) {
+            return null;
+        }
+        for (int i = 0; i < cnt; i++) {
+            values.add(input.readInt());
+        }
+        return values;
+    }
+}
@@ -18,6 +18,7 @@ import org.slf4j.LoggerFactory;
 
 import com.zsmartsystems.zigbee.ZigBeeBroadcastDestination;
 import com.zsmartsystems.zigbee.ZigBeeCommand;
+import com.zsmartsystems.zigbee.ZigBeeCommandFilter;
 import com.zsmartsystems.zigbee.ZigBeeCommandListener;
 import com.zsmartsystems.zigbee.ZigBeeNetworkManager;
 import com.zsmartsystems.zigbee.ZigBeeNode;
@@ -106,4 +107,9 @@ public class ClusterMatcher implements ZigBeeCommandListener {
             networkManager.sendTransaction(matchResponse);
         }
     }
+
+    @Override
+    public ZigBeeCommandFilter getCommandFilter() {
+        return new ZigBeeCommandFilter(MatchDescriptorRequest.class);
+    }
 }
@@ -7,8 +7,17 @@
  */
 package com.zsmartsystems.zigbee.internal;
 
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayDeque;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Queue;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -19,7 +28,21 @@ import com.zsmartsystems.zigbee.ZigBeeExecutors;
  * {@link NotificationService} is used to provide notifications to our listeners "safely". A separate
  * thread is used so that the notifier is not blocked.
  * <p>
- * This helper class ensures that the stack handles threads efficiently throughout the system.
+ * This helper class ensures that the stack handles threads efficiently throughout the system. Notifications are run
+ * by a bounded pool of threads, with a bounded queue of notifications waiting for a thread. If the queue is full, the
+ * notification is held in an overflow backlog and submitted to the pool as the notification threads complete their
+ * work. Notifications are never lost, and are never run in the thread of the caller, which is often a transport
+ * receive thread, or a thread holding a lock that a listener may need.
+ * <p>
+ * Notifications that are scheduled with {@link #execute(Object, Runnable)} are delivered in order - all
+ * notifications with the same key (normally the listener being notified) are run one at a time, in the order they were
+ * scheduled. Notifications for different keys still run in parallel.
+ * <p>
+ * Notifications to transactions are scheduled with {@link #executeTransaction(Object, Runnable)} and use a separate
+ * pool, so that listeners which block waiting for a transaction cannot delay the notification that completes it.
+ * <p>
+ * On JDK 21 and later, {@link #setVirtualThreads(boolean)} may be used to run notifications in virtual threads rather
+ * than the pool.
  *
  * @author Chris Jackson
  */
@@ -29,27 +52,147 @@ public class NotificationService {
      */
     private static Logger logger = LoggerFactory.getLogger(NotificationService.class);
 
-    private static ExecutorService executorService = ZigBeeExecutors.newCachedThreadPool("NotificationService");
+    /**
+     * The default maximum number of threads used to run notifications
+     */
+    public static final int DEFAULT_THREAD_POOL_SIZE = 8;
+
+    /**
+     * The default maximum number of notifications waiting for a thread
+     */
+    public static final int DEFAULT_QUEUE_SIZE = 1000;
+
+    /**
+     * The maximum number of ordered notifications run for a single key before the thread is returned to the pool, so
+     * that a busy listener does not hold a thread indefinitely
+     */
+    private static final int ORDERED_BATCH_SIZE = 16;
+
+    private static int threadPoolSize = DEFAULT_THREAD_POOL_SIZE;
+    private static int queueSize = DEFAULT_QUEUE_SIZE;
+    private static boolean virtualThreads = false;
+
+    private static ExecutorService executorService = createExecutorService("NotificationService");
+
+    private static ExecutorService transactionExecutorService = createExecutorService("TransactionNotification");
+
+    /**
+     * Ordered notifications waiting to run, indexed by their key. A key is only in the map while it has notifications
+     * queued or running.
+     */
+    private static final Map<Object, OrderedNotifications> orderedNotifications = new IdentityHashMap<>();
+
+    /**
+     * Tasks that could not be submitted as the executor queue was full, waiting to be submitted when a notification
+     * thread completes a task
+     */
+    private static final Queue<Runnable> overflow = new ArrayDeque<>();
+    private static final Queue<Runnable> transactionOverflow = new ArrayDeque<>();
+
+    private static final AtomicInteger queueDepth = new AtomicInteger();
+    private static final AtomicInteger maxQueueDepth = new AtomicInteger();
+    private static final AtomicLong executedCount = new AtomicLong();
+    private static final AtomicLong overflowCount = new AtomicLong();
+    private static final AtomicLong totalLatency = new AtomicLong();
+    private static final AtomicLong maxLatency = new AtomicLong();
 
     /**
      * Initializes the notification service
      */
-    public static void initialize() {
+    public static synchronized void initialize() {
         if (executorService.isShutdown()) {
-            executorService = ZigBeeExecutors.newCachedThreadPool("NotificationService");
+            synchronized (orderedNotifications) {
+                orderedNotifications.clear();
+            }
+            synchronized (overflow) {
+                overflow.clear();
+            }
+            synchronized (transactionOverflow) {
+                transactionOverflow.clear();
+            }
+            queueDepth.set(0);
+            executorService = createExecutorService("NotificationService");
+        }
+        if (transactionExecutorService.isShutdown()) {
+            transactionExecutorService = createExecutorService("TransactionNotification");
+        }
+    }
+
+    /**
+     * Sets the maximum number of threads used to run notifications. Defaults to {@link #DEFAULT_THREAD_POOL_SIZE}.
+     * Notifications already scheduled are completed by the existing threads.
+     *
+     * @param threadPoolSize the maximum number of notification threads
+     */
+    public static synchronized void setThreadPoolSize(int threadPoolSize) {
+        if (threadPoolSize < 1) {
+            throw new IllegalArgumentException("Thread pool size must be at least 1");
         }
+        NotificationService.threadPoolSize = threadPoolSize;
+        restartExecutorService();
+    }
+
+    /**
+     * Sets the maximum number of notifications that may wait for a thread. Defaults to {@link #DEFAULT_QUEUE_SIZE}.
+     * Once the queue is full, further notifications are held in an overflow backlog until a thread is available.
+     *
+     * @param queueSize the maximum number of notifications waiting for a thread
+     */
+    public static synchronized void setQueueSize(int queueSize) {
+        if (queueSize < 1) {
+            throw new IllegalArgumentException("Queue size must be at least 1");
+        }
+        NotificationService.queueSize = queueSize;
+        restartExecutorService();
+    }
+
+    /**
+     * Sets whether notifications are run in virtual threads rather than the thread pool. Virtual threads are only
+     * available on JDK 21 and later - if they are not available, the thread pool continues to be used.
+     *
+     * @param virtualThreads true to run notifications in virtual threads
+     * @return true if virtual threads are in use
+     */
+    public static synchronized boolean setVirtualThreads(boolean virtualThreads) {
+        NotificationService.virtualThreads = virtualThreads;
+        restartExecutorService();
+        return NotificationService.virtualThreads;
     }
 
+    /**
+     * Schedules a notification. There is no ordering between notifications scheduled with this method.
+     *
+     * @param command the {@link Runnable} to run
+     */
     public static void execute(Runnable command) {
         if (executorService.isShutdown()) {
             logger.debug("NotificationService is shutdown. Not scheduling {}", command.getClass().getName());
             return;
         }
-        try {
-            executorService.execute(command);
-        } catch (Exception e) {
-            logger.error("NotificationService scheduler error ", e);
-        }
+        submit(false, new Notification(command));
+    }
+
+    /**
+     * Schedules a notification that is run in order with all other notifications with the same key. The key is
+     * compared by identity, and would normally be the listener that is being notified so that each listener sees its
+     * notifications in the order they were scheduled.
+     *
+     * @param key the {@link Object} used to order the notification
+     * @param command the {@link Runnable} to run
+     */
+    public static void execute(Object key, Runnable command) {
+        executeOrdered(false, key, command);
+    }
+
+    /**
+     * Schedules a notification to a transaction. The notification is run in order with all other notifications with
+     * the same key, as with {@link #execute(Object, Runnable)}, but uses a separate pool from listener notifications.
+     *
+     * @param key the {@link Object} used to order the notification - normally the transaction
+     * @param command the {@link Runnable} to run
+     */
+    public static void executeTransaction(Object key, Runnable command) {
+        executeOrdered(true, key, command);
     }
 
     /**
@@ -59,11 +202,300 @@ public class NotificationService {
      */
     public static void shutdown(long wait) {
         executorService.shutdown();
+        transactionExecutorService.shutdown();
         try {
             executorService.awaitTermination(wait, TimeUnit.MILLISECONDS);
+            transactionExecutorService.awaitTermination(wait, TimeUnit.MILLISECONDS);
         } catch (InterruptedException e) {
         }
         executorService.shutdownNow();
+        transactionExecutorService.shutdownNow();
+    }
+
+    /**
+     * Gets the number of notifications that are scheduled but have not started
+     *
+     * @return the number of notifications waiting to run
+     */
+    public static int getQueueDepth() {
+        return queueDepth.get();
+    }
+
+    /**
+     * Gets the highest number of notifications that have been waiting to run since the statistics were reset
+     *
+     * @return the maximum queue depth
+     */
+    public static int getMaxQueueDepth() {
+        return maxQueueDepth.get();
+    }
+
+    /**
+     * Gets the number of notifications that have been run since the statistics were reset
+     *
+     * @return the number of notifications run
+     */
+    public static long getExecutedCount() {
+        return executedCount.get();
+    }
+
+    /**
+     * Gets the number of times the queue was full and a notification was held in the overflow backlog
+     *
+     * @return the number of queue overflows
+     */
+    public static long getOverflowCount() {
+        return overflowCount.get();
+    }
+
+    /**
+     * Gets the average time between a notification being scheduled and it starting to run
+     *
+     * @return the average notification latency in milliseconds
+     */
+    public static long getAverageLatency() {
+        long executed = executedCount.get();
+        if (executed == 0) {
+            return 0;
+        }
+        return TimeUnit.NANOSECONDS.toMillis(totalLatency.get() / executed);
+    }
+
+    /**
+     * Gets the longest time between a notification being scheduled and it starting to run since the statistics were
+     * reset
+     *
+     * @return the maximum notification latency in milliseconds
+     */
+    public static long getMaxLatency() {
+        return TimeUnit.NANOSECONDS.toMillis(maxLatency.get());
+    }
+
+    /**
+     * Resets the notification statistics
+     */
+    public static void resetStatistics() {
+        maxQueueDepth.set(queueDepth.get());
+        executedCount.set(0);
+        overflowCount.set(0);
+        totalLatency.set(0);
+        maxLatency.set(0);
+    }
+
+    private static void executeOrdered(boolean transaction, Object key, Runnable command) {
+        if (getExecutorService(transaction).isShutdown()) {
+            logger.debug("NotificationService is shutdown. Not scheduling {}", command.getClass().getName());
+            return;
+        }
+
+        OrderedNotifications notifications;
+        boolean schedule = false;
+        synchronized (orderedNotifications) {
+            notifications = orderedNotifications.get(key);
+            if (notifications == null) {
+                notifications = new OrderedNotifications(transaction, key);
+                orderedNotifications.put(key, notifications);
+                schedule = true;
+            }
+            notifications.queue.add(new Notification(command));
+        }
+
+        if (schedule) {
+            submit(transaction, notifications);
+        }
+    }
+
+    private static ExecutorService getExecutorService(boolean transaction) {
+        return transaction ? transactionExecutorService : executorService;
+    }
+
+    private static void restartExecutorService() {
+        if (!executorService.isShutdown()) {
+            ExecutorService oldExecutorService = executorService;
+            executorService = createExecutorService("NotificationService");
+            oldExecutorService.shutdown();
+        }
+        if (!transactionExecutorService.isShutdown()) {
+            ExecutorService oldExecutorService = transactionExecutorService;
+            transactionExecutorService = createExecutorService("TransactionNotification");
+            oldExecutorService.shutdown();
+        }
+    }
+
+    private static ExecutorService createExecutorService(String name) {
+        if (virtualThreads) {
+            try {
+                return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+                logger.debug("NotificationService virtual threads are not available");
+                virtualThreads = false;
+            }
+        }
+        return ZigBeeExecutors.newBoundedThreadPool(threadPoolSize, queueSize, name);
+    }
+
+    private static Queue<Runnable> getOverflow(boolean transaction) {
+        return transaction ? transactionOverflow : overflow;
+    }
+
+    /**
+     * Submits a task to the executor. If the executor queue is full, the task is added to the overflow backlog. The
+     * task is never run in the calling thread.
+     *
+     * @param transaction true to use the transaction executor
+     * @param task the task to run
+     */
+    private static void submit(boolean transaction, Runnable task) {
+        Queue<Runnable> backlog = getOverflow(transaction);
+        synchronized (backlog) {
+            // Tasks already in the backlog are submitted first so that the submission order is retained
+            if (backlog.isEmpty() && trySubmit(transaction, task)) {
+                return;
+            }
+            overflowCount.incrementAndGet();
+            backlog.add(task);
+        }
+
+        // The executor may have completed its queued tasks before the task was added to the backlog, in which case
+        // no notification thread will submit it
+        submitOverflow(transaction);
+    }
+
+    /**
+     * Submits tasks from the overflow backlog to the executor until the backlog is empty or the executor queue is
+     * full. This is called each time a notification thread completes a task.
+     *
+     * @param transaction true to use the transaction executor
+     */
+    private static void submitOverflow(boolean transaction) {
+        Queue<Runnable> backlog = getOverflow(transaction);
+        synchronized (backlog) {
+            Runnable task;
+            while ((task = backlog.peek()) != null && trySubmit(transaction, task)) {
+                backlog.poll();
+            }
+        }
+    }
+
+    /**
+     * Submits a task to the executor
+     *
+     * @param transaction true to use the transaction executor
+     * @param task the task to run
+     * @return false if the executor queue is full and the task was not submitted
+     */
+    private static boolean trySubmit(final boolean transaction, final Runnable task) {
+        ExecutorService executor = getExecutorService(transaction);
+        try {
+            executor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        task.run();
+                    } finally {
+                        submitOverflow(transaction);
+                    }
+                }
+
+                @Override
+                public String toString() {
+                    return task.toString();
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            if (executor.isShutdown()) {
+                // The executor may have been restarted with a new configuration
+                if (executor != getExecutorService(transaction)) {
+                    return trySubmit(transaction, task);
+                }
+                logger.debug("NotificationService is shutdown. Not running {}", task);
+                return true;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * A single notification, recording the time it was scheduled
+     */
+    private static class Notification implements Runnable {
+        private final Runnable command;
+        private final long scheduledTime = System.nanoTime();
+
+        Notification(Runnable command) {
+            this.command = command;
+
+            int depth = queueDepth.incrementAndGet();
+            int max = maxQueueDepth.get();
+            while (depth > max && !maxQueueDepth.compareAndSet(max, depth)) {
+                max = maxQueueDepth.get();
+            }
+        }
+
+        @Override
+        public void run() {
+            queueDepth.decrementAndGet();
+            long latency = System.nanoTime() - scheduledTime;
+            totalLatency.addAndGet(latency);
+            long max = maxLatency.get();
+            while (latency > max && !maxLatency.compareAndSet(max, latency)) {
+                max = maxLatency.get();
+            }
+            executedCount.incrementAndGet();
+
+            try {
+                command.run();
+            } catch (RuntimeException e) {
+                logger.error("NotificationService notification error ", e);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return command.getClass().getName();
+        }
     }
 
+    /**
+     * The notifications waiting to run for a single key. Only one instance is submitted to the executor at a time, so
+     * the notifications are run in order.
+     */
+    private static class OrderedNotifications implements Runnable {
+        private final boolean transaction;
+        private final Object key;
+        private final Queue<Notification> queue = new ArrayDeque<>();
+
+        OrderedNotifications(boolean transaction, Object key) {
+            this.transaction = transaction;
+            this.key = key;
+        }
+
+        @Override
+        public void run() {
+            while (true) {
+                for (int cnt = 0; cnt < ORDERED_BATCH_SIZE; cnt++) {
+                    Notification notification;
+                    synchronized (orderedNotifications) {
+                        notification = queue.poll();
+                        if (notification == null) {
+                            orderedNotifications.remove(key);
+                            return;
+                        }
+                    }
+                    notification.run();
+                }
+
+                // Give other keys a chance to run - if the executor is full, continue in this notification thread
+                if (trySubmit(transaction, this)) {
+                    return;
+                }
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "OrderedNotifications [key=" + key + "]";
+        }
+    }
 }
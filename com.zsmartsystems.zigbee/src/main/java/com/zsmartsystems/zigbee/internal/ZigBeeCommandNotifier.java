@@ -7,32 +7,63 @@
  */
 package com.zsmartsystems.zigbee.internal;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import com.zsmartsystems.zigbee.ZigBeeCommand;
+import com.zsmartsystems.zigbee.ZigBeeCommandFilter;
 import com.zsmartsystems.zigbee.ZigBeeCommandListener;
 
 /**
  * Class to manage notifications of received commands. The library distributes commands hierarchically so this class
  * provides a centralised function for managing this.
+ * <p>
+ * By default, each listener is notified in a separate {@link NotificationService} task. If batched delivery is enabled
+ * with {@link #setBatchedDelivery(boolean)}, a single task is scheduled for each command, and the listeners are
+ * notified in turn within that task. This reduces the number of thread handoffs when there are many listeners, at the
+ * cost of a slow listener delaying the others.
+ * <p>
+ * Listeners that provide a {@link ZigBeeCommandFilter} are only notified of commands that match the filter.
  *
  * @author Chris Jackson
  *
  */
 public class ZigBeeCommandNotifier {
+    /**
+     * The logger.
+     */
+    private final Logger logger = LoggerFactory.getLogger(ZigBeeCommandNotifier.class);
+
     /**
      * The command listeners.
      */
     private Set<ZigBeeCommandListener> commandListeners = new HashSet<ZigBeeCommandListener>();
 
+    /**
+     * A copy of the command listeners and their filters, replaced whenever the listeners change so that
+     * notifications do not need to lock the listener set
+     */
+    private volatile ListenerEntry[] listenerEntries = new ListenerEntry[0];
+
+    /**
+     * True if all listeners are notified in a single task
+     */
+    private volatile boolean batchedDelivery = false;
+
     /**
      * Adds a command listener
      *
      * @param commandListener the {@link CommandListener} to add
      */
     public synchronized void addCommandListener(ZigBeeCommandListener commandListener) {
-        commandListeners.add(commandListener);
+        if (commandListeners.add(commandListener)) {
+            updateListenerEntries();
+        }
     }
 
     /**
@@ -41,7 +72,20 @@ public class ZigBeeCommandNotifier {
      * @param commandListener the {@link CommandListener} to remove
      */
     public synchronized void removeCommandListener(ZigBeeCommandListener commandListener) {
-        commandListeners.remove(commandListener);
+        if (commandListeners.remove(commandListener)) {
+            updateListenerEntries();
+        }
+    }
+
+    /**
+     * Sets the delivery mode. When batched delivery is enabled, a single notification task is scheduled for each
+     * command and all listeners are called from that task. Commands are still delivered to each listener in the
+     * order they were received.
+     *
+     * @param batchedDelivery true to notify all listeners in a single task
+     */
+    public void setBatchedDelivery(boolean batchedDelivery) {
+        this.batchedDelivery = batchedDelivery;
     }
 
     /**
@@ -49,10 +93,36 @@ public class ZigBeeCommandNotifier {
      *
      * @param command the {@link ZigBeeCommand} to send to the listeners
      */
-    public synchronized void notifyCommandListeners(final ZigBeeCommand command) {
+    public void notifyCommandListeners(final ZigBeeCommand command) {
+        final List<ZigBeeCommandListener> listeners = new ArrayList<ZigBeeCommandListener>();
+        for (ListenerEntry entry : listenerEntries) {
+            if (entry.filter == null || entry.filter.isMatch(command)) {
+                listeners.add(entry.listener);
+            }
+        }
+        if (listeners.isEmpty()) {
+            return;
+        }
+
+        if (batchedDelivery) {
+            NotificationService.execute(this, new Runnable() {
+                @Override
+                public void run() {
+                    for (ZigBeeCommandListener commandListener : listeners) {
+                        try {
+                            commandListener.commandReceived(command);
+                        } catch (RuntimeException e) {
+                            logger.error("Error notifying command listener {}", commandListener, e);
+                        }
+                    }
+                }
+            });
+            return;
+        }
+
         // Notify the listeners
-        for (final ZigBeeCommandListener commandListener : commandListeners) {
-            NotificationService.execute(new Runnable() {
+        for (final ZigBeeCommandListener commandListener : listeners) {
+            NotificationService.execute(commandListener, new Runnable() {
                 @Override
                 public void run() {
                     commandListener.commandReceived(command);
@@ -60,4 +130,23 @@ public class ZigBeeCommandNotifier {
             });
         }
     }
+
+    private void updateListenerEntries() {
+        ListenerEntry[] entries = new ListenerEntry[commandListeners.size()];
+        int cnt = 0;
+        for (ZigBeeCommandListener commandListener : commandListeners) {
+            entries[cnt++] = new ListenerEntry(commandListener);
+        }
+        listenerEntries = entries;
+    }
+
+    private static class ListenerEntry {
+        private final ZigBeeCommandListener listener;
+        private final ZigBeeCommandFilter filter;
+
+        ListenerEntry(ZigBeeCommandListener listener) {
+            this.listener = listener;
+            this.filter = listener.getCommandFilter();
+        }
+    }
 }
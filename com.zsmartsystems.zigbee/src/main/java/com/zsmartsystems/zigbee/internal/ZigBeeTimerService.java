@@ -0,0 +1,413 @@
+/**
+ * Copyright (c) 2016-2019 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.internal;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A hashed wheel timer used for the large number of short timers in the system, such as transaction timeouts, which are
+ * normally cancelled before they expire.
+ * <p>
+ * Timers are held in a circular wheel of buckets, with each bucket covering one tick. Scheduling a timer adds it to a
+ * lock free queue, and cancelling a timer only marks it as cancelled, so both are O(1) and do not contend with the
+ * timer thread. Once per tick the timer thread moves new timers into their bucket, and expires the timers in the
+ * current bucket. Timers are never run before their delay has passed, but may run up to one tick late.
+ * <p>
+ * Expired timers are run by the {@link Executor} provided in the constructor, so that long running tasks do not delay
+ * the wheel. If no executor is provided, the tasks are run in the timer thread and must not block.
+ * <p>
+ * The timer thread is started when the first timer is scheduled, and waits without ticking while there are no timers.
+ *
+ * @author agent
+ */
+public class ZigBeeTimerService {
+    /**
+     * The logger
+     */
+    private final Logger logger = LoggerFactory.getLogger(ZigBeeTimerService.class);
+
+    /**
+     * The default tick duration in milliseconds
+     */
+    public static final long DEFAULT_TICK_DURATION = 10;
+
+    /**
+     * The default number of buckets in the wheel
+     */
+    public static final int DEFAULT_WHEEL_SIZE = 512;
+
+    private static final int STATE_PENDING = 0;
+    private static final int STATE_CANCELLED = 1;
+    private static final int STATE_EXPIRED = 2;
+    private static final int STATE_COMPLETE = 3;
+
+    private final String name;
+    private final Executor executor;
+    private final long tickDuration;
+    private final Queue<TimerTask>[] wheel;
+    private final int mask;
+
+    /**
+     * Timers that have been scheduled, but not yet added to the wheel by the timer thread
+     */
+    private final Queue<TimerTask> pendingTimers = new ConcurrentLinkedQueue<>();
+
+    /**
+     * The number of timers in the wheel. This is only used by the timer thread.
+     */
+    private int wheelTimers = 0;
+
+    /**
+     * Lock used by the timer thread to wait while there are no timers
+     */
+    private final Object parkLock = new Object();
+
+    /**
+     * Set while the timer thread is waiting for a timer to be scheduled
+     */
+    private volatile boolean parked = false;
+
+    private Thread timerThread;
+    private volatile boolean shutdown = false;
+
+    /**
+     * The time the timer thread started, in nanoseconds. Timer deadlines are relative to this time.
+     */
+    private volatile long startTime;
+
+    /**
+     * The number of ticks processed by the timer thread
+     */
+    private long tick = 0;
+
+    /**
+     * Creates a timer service with the default tick duration and wheel size
+     *
+     * @param name the name of the timer thread
+     * @param executor the {@link Executor} used to run expired tasks, or null to run them in the timer thread
+     */
+    public ZigBeeTimerService(String name, Executor executor) {
+        this(name, executor, DEFAULT_TICK_DURATION, DEFAULT_WHEEL_SIZE);
+    }
+
+    /**
+     * Creates a timer service
+     *
+     * @param name the name of the timer thread
+     * @param executor the {@link Executor} used to run expired tasks, or null to run them in the timer thread
+     * @param tickDuration the duration of each tick in milliseconds. This is the timer resolution.
+     * @param wheelSize the number of buckets in the wheel. This is rounded up to a power of 2.
+     */
+    @SuppressWarnings("unchecked")
+    public ZigBeeTimerService(String name, Executor executor, long tickDuration, int wheelSize) {
+        if (tickDuration < 1) {
+            throw new IllegalArgumentException("Tick duration must be at least 1ms");
+        }
+        if (wheelSize < 1) {
+            throw new IllegalArgumentException("Wheel size must be at least 1");
+        }
+
+        this.name = name;
+        this.executor = executor;
+        this.tickDuration = TimeUnit.MILLISECONDS.toNanos(tickDuration);
+
+        int size = 1;
+        while (size < wheelSize) {
+            size <<= 1;
+        }
+        wheel = new Queue[size];
+        for (int cnt = 0; cnt < size; cnt++) {
+            wheel[cnt] = new ArrayDeque<>();
+        }
+        mask = size - 1;
+    }
+
+    /**
+     * Schedules a task to run after the delay. The returned {@link ScheduledFuture} may be used to cancel the task.
+     *
+     * @param task the {@link Runnable} to run
+     * @param delay the delay in milliseconds
+     * @return the {@link ScheduledFuture} for the task
+     * @throws RejectedExecutionException if the timer service has been shut down
+     */
+    public ScheduledFuture<?> schedule(Runnable task, long delay) {
+        if (shutdown) {
+            throw new RejectedExecutionException("Timer service " + name + " is shut down");
+        }
+        start();
+
+        TimerTask timer = new TimerTask(task,
+                System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delay < 0 ? 0 : delay));
+        pendingTimers.add(timer);
+        if (parked) {
+            synchronized (parkLock) {
+                parkLock.notifyAll();
+            }
+        }
+        return timer;
+    }
+
+    /**
+     * Shuts down the timer service and waits for the timer thread to stop. All timers that have not expired are
+     * cancelled.
+     */
+    public synchronized void shutdown() {
+        shutdown = true;
+        if (timerThread != null) {
+            timerThread.interrupt();
+            if (Thread.currentThread() != timerThread) {
+                try {
+                    timerThread.join(1000);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+        TimerTask timer;
+        while ((timer = pendingTimers.poll()) != null) {
+            timer.cancel(false);
+        }
+    }
+
+    private synchronized void start() {
+        if (timerThread != null || shutdown) {
+            return;
+        }
+        startTime = System.nanoTime();
+        timerThread = new Thread(new Worker(), name);
+        timerThread.setDaemon(true);
+        timerThread.start();
+    }
+
+    private void transferPendingTimers() {
+        TimerTask timer;
+        while ((timer = pendingTimers.poll()) != null) {
+            if (timer.state.get() != STATE_PENDING) {
+                continue;
+            }
+            long calculated = (timer.deadline - startTime) / tickDuration;
+            timer.remainingRounds = (calculated - tick) / wheel.length;
+            wheel[(int) (Math.max(calculated, tick) & mask)].add(timer);
+            wheelTimers++;
+        }
+    }
+
+    private void expireTimers(Queue<TimerTask> bucket) {
+        int size = bucket.size();
+        for (int cnt = 0; cnt < size; cnt++) {
+            TimerTask timer = bucket.poll();
+            if (timer.state.get() != STATE_PENDING) {
+                wheelTimers--;
+                continue;
+            }
+            if (timer.remainingRounds > 0) {
+                timer.remainingRounds--;
+                bucket.add(timer);
+                continue;
+            }
+            wheelTimers--;
+            timer.expire();
+        }
+    }
+
+    /**
+     * Waits until a timer is scheduled. This is only called when the wheel is empty, so the tick is then moved on to
+     * the current time rather than processing each of the empty ticks that passed while waiting.
+     */
+    private void park() {
+        synchronized (parkLock) {
+            parked = true;
+            try {
+                while (pendingTimers.isEmpty() && !shutdown) {
+                    parkLock.wait();
+                }
+            } catch (InterruptedException e) {
+                // Interrupted on shutdown
+            } finally {
+                parked = false;
+            }
+        }
+        tick = Math.max(tick, (System.nanoTime() - startTime) / tickDuration);
+    }
+
+    private void cancelAll() {
+        for (Queue<TimerTask> bucket : wheel) {
+            for (TimerTask timer : bucket) {
+                timer.cancel(false);
+            }
+            bucket.clear();
+        }
+        wheelTimers = 0;
+        TimerTask timer;
+        while ((timer = pendingTimers.poll()) != null) {
+            timer.cancel(false);
+        }
+    }
+
+    private class Worker implements Runnable {
+        @Override
+        public void run() {
+            while (!shutdown) {
+                if (wheelTimers == 0 && pendingTimers.isEmpty()) {
+                    park();
+                    continue;
+                }
+
+                long deadline = startTime + (tick + 1) * tickDuration;
+                long sleepTime = deadline - System.nanoTime();
+                if (sleepTime > 0) {
+                    try {
+                        TimeUnit.NANOSECONDS.sleep(sleepTime);
+                    } catch (InterruptedException e) {
+                        continue;
+                    }
+                    continue;
+                }
+
+                transferPendingTimers();
+                expireTimers(wheel[(int) (tick & mask)]);
+                tick++;
+            }
+            cancelAll();
+            logger.debug("Timer service {} stopped", name);
+        }
+    }
+
+    /**
+     * A single timer
+     */
+    private class TimerTask implements ScheduledFuture<Object>, Runnable {
+        private final Runnable task;
+        private final long deadline;
+        private final AtomicInteger state = new AtomicInteger(STATE_PENDING);
+        private long remainingRounds;
+        private Throwable exception;
+
+        TimerTask(Runnable task, long deadline) {
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        private void expire() {
+            if (!state.compareAndSet(STATE_PENDING, STATE_EXPIRED)) {
+                return;
+            }
+            if (executor == null) {
+                run();
+                return;
+            }
+            try {
+                executor.execute(this);
+            } catch (RejectedExecutionException e) {
+                logger.debug("Timer service {} executor rejected task {}", name, task);
+                complete(e);
+            }
+        }
+
+        @Override
+        public void run() {
+            Throwable result = null;
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                logger.error("Timer service {} task error ", name, e);
+                result = e;
+            }
+            complete(result);
+        }
+
+        private synchronized void complete(Throwable exception) {
+            this.exception = exception;
+            state.set(STATE_COMPLETE);
+            notifyAll();
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            if (!state.compareAndSet(STATE_PENDING, STATE_CANCELLED)) {
+                return false;
+            }
+            synchronized (this) {
+                notifyAll();
+            }
+            return true;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return state.get() == STATE_CANCELLED;
+        }
+
+        @Override
+        public boolean isDone() {
+            int current = state.get();
+            return current == STATE_CANCELLED || current == STATE_COMPLETE;
+        }
+
+        @Override
+        public synchronized Object get() throws InterruptedException, ExecutionException {
+            while (!isDone()) {
+                wait();
+            }
+            return getResult();
+        }
+
+        @Override
+        public synchronized Object get(long timeout, TimeUnit unit)
+                throws InterruptedException, ExecutionException, TimeoutException {
+            final long waitDeadline = System.nanoTime() + unit.toNanos(timeout);
+            while (!isDone()) {
+                long remaining = waitDeadline - System.nanoTime();
+                if (remaining <= 0) {
+                    throw new TimeoutException();
+                }
+                TimeUnit.NANOSECONDS.timedWait(this, remaining);
+            }
+            return getResult();
+        }
+
+        private Object getResult() throws ExecutionException {
+            if (isCancelled()) {
+                throw new CancellationException();
+            }
+            if (exception != null) {
+                throw new ExecutionException(exception);
+            }
+            return null;
+        }
+
+        @Override
+        public String toString() {
+            return "TimerTask [task=" + task + ", state=" + state.get() + "]";
+        }
+    }
+}
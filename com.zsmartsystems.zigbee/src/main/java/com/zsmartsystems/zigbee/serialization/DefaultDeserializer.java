@@ -9,7 +9,6 @@ package com.zsmartsystems.zigbee.serialization;
 
 import java.io.UnsupportedEncodingException;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 
 import com.zsmartsystems.zigbee.ExtendedPanId;
@@ -35,13 +34,32 @@ import com.zsmartsystems.zigbee.zdo.field.SimpleDescriptor;
  */
 public class DefaultDeserializer implements ZigBeeDeserializer {
     private int index = 0;
-    private int[] payload;
+    private byte[] payload;
 
-    public DefaultDeserializer(int[] payload) {
+    /**
+     * Creates a deserializer that reads directly from the payload. The array is not copied, so it must not be modified
+     * while it is being deserialized.
+     *
+     * @param payload the payload as a byte array
+     */
+    public DefaultDeserializer(byte[] payload) {
         this.payload = payload;
         this.index = 0;
     }
 
+    /**
+     * Creates a deserializer from a payload held as an integer array, with one byte per element
+     *
+     * @param payload the payload as an integer array
+     */
+    public DefaultDeserializer(int[] payload) {
+        this.payload = new byte[payload.length];
+        for (int cnt = 0; cnt < payload.length; cnt++) {
+            this.payload[cnt] = (byte) payload[cnt];
+        }
+        this.index = 0;
+    }
+
     @Override
     public boolean isEndOfStream() {
         return index >= payload.length;
@@ -74,7 +92,7 @@ public class DefaultDeserializer implements ZigBeeDeserializer {
         Object[] value = new Object[1];
         switch (type) {
             case BOOLEAN:
-                value[0] = payload[index++] == 0 ? false : true;
+                value[0] = readByte() == 0 ? false : true;
                 break;
             case RAW_OCTET:
                 int rawSize = payload.length - index;
@@ -82,27 +100,25 @@ public class DefaultDeserializer implements ZigBeeDeserializer {
                 index += rawSize;
                 break;
             case OCTET_STRING:
-                int octetSize = payload[index++];
+                int octetSize = readByte();
                 value[0] = new ByteArray(payload, index, index + octetSize);
                 index += octetSize;
                 break;
             case CHARACTER_STRING:
-                int stringSize = payload[index++];
+                int stringSize = readByte();
                 if (stringSize == 255) {
                     value[0] = null;
                     break;
                 }
-                byte[] bytes = new byte[stringSize];
                 int length = stringSize;
                 for (int cnt = 0; cnt < stringSize; cnt++) {
-                    bytes[cnt] = (byte) payload[index + cnt];
                     if (payload[index + cnt] == 0) {
                         length = cnt;
                         break;
                     }
                 }
                 try {
-                    value[0] = new String(Arrays.copyOfRange(bytes, 0, length), "UTF-8");
+                    value[0] = new String(payload, index, length, "UTF-8");
                 } catch (UnsupportedEncodingException e) {
                     value[0] = null;
                     break;
@@ -110,35 +126,29 @@ public class DefaultDeserializer implements ZigBeeDeserializer {
                 index += stringSize;
                 break;
             case LONG_OCTET_STRING:
-                int longOctetSize = (short) (payload[index++] + (payload[index++] << 8));
+                int longOctetSize = (short) (readByte() + (readByte() << 8));
                 value[0] = new ByteArray(payload, index, index + longOctetSize);
                 index += longOctetSize;
                 break;
             case SECURITY_KEY:
-                value[0] = new ZigBeeKey(Arrays.copyOfRange(payload, index, index + 16));
+                int[] key = new int[16];
+                for (int cnt = 0; cnt < 16; cnt++) {
+                    key[cnt] = getByte(index + cnt);
+                }
+                value[0] = new ZigBeeKey(key);
                 index += 16;
                 break;
             case ENDPOINT:
             case BITMAP_8_BIT:
             case DATA_8_BIT:
             case ENUMERATION_8_BIT:
-                value[0] = Integer.valueOf((byte) payload[index++] & 0xFF);
+                value[0] = Integer.valueOf((byte) readByte() & 0xFF);
                 break;
             case EXTENDED_PANID:
-                int[] panId = new int[8];
-                for (int iCnt = 7; iCnt >= 0; iCnt--) {
-                    panId[iCnt] = payload[index + iCnt];
-                }
-                index += 8;
-                value[0] = new ExtendedPanId(panId);
+                value[0] = new ExtendedPanId(readLong64());
                 break;
             case IEEE_ADDRESS:
-                int[] address = new int[8];
-                for (int iCnt = 7; iCnt >= 0; iCnt--) {
-                    address[iCnt] = payload[index + iCnt];
-                }
-                index += 8;
-                value[0] = new IeeeAddress(address);
+                value[0] = new IeeeAddress(readLong64());
                 break;
             case N_X_ATTRIBUTE_INFORMATION:
                 break;
@@ -159,18 +169,18 @@ public class DefaultDeserializer implements ZigBeeDeserializer {
             case N_X_READ_ATTRIBUTE_STATUS_RECORD:
                 break;
             case N_X_UNSIGNED_16_BIT_INTEGER:
-                int cntN16 = Integer.valueOf((byte) payload[index++] & 0xFF);
+                int cntN16 = Integer.valueOf((byte) readByte() & 0xFF);
                 List<Integer> arrayN16 = new ArrayList<Integer>(cntN16);
                 for (int arrayIndex = 0; arrayIndex < cntN16; arrayIndex++) {
-                    arrayN16.add(Integer.valueOf(payload[index++] + ((payload[index++] << 8) & 0xffff)));
+                    arrayN16.add(Integer.valueOf(readByte() + ((readByte() << 8) & 0xffff)));
                 }
                 value[0] = arrayN16;
                 break;
             case N_X_UNSIGNED_8_BIT_INTEGER:
-                int cntN8 = Integer.valueOf((byte) payload[index++] & 0xFF);
+                int cntN8 = Integer.valueOf((byte) readByte() & 0xFF);
                 List<Integer> arrayN8 = new ArrayList<Integer>(cntN8);
                 for (int arrayIndex = 0; arrayIndex < cntN8; arrayIndex++) {
-                    arrayN8.add(Integer.valueOf(payload[index++]));
+                    arrayN8.add(Integer.valueOf(readByte()));
                 }
                 value[0] = arrayN8;
                 break;
@@ -178,7 +188,7 @@ public class DefaultDeserializer implements ZigBeeDeserializer {
                 int cntX8 = payload.length - index;
                 List<Integer> arrayX8 = new ArrayList<Integer>(cntX8);
                 for (int arrayIndex = 0; arrayIndex < cntX8; arrayIndex++) {
-                    arrayX8.add(Integer.valueOf(payload[index++]));
+                    arrayX8.add(Integer.valueOf(readByte()));
                 }
                 value[0] = arrayX8;
                 break;
@@ -186,7 +196,7 @@ public class DefaultDeserializer implements ZigBeeDeserializer {
                 int cntX16 = (payload.length - index) / 2;
                 List<Integer> arrayX16 = new ArrayList<Integer>(cntX16);
                 for (int arrayIndex = 0; arrayIndex < cntX16; arrayIndex++) {
-                    arrayX16.add(Integer.valueOf(payload[index++]));
+                    arrayX16.add(Integer.valueOf(readByte()));
                 }
                 value[0] = arrayX16;
                 break;
@@ -194,7 +204,7 @@ public class DefaultDeserializer implements ZigBeeDeserializer {
                 int cnt8Array = payload.length - index;
                 int[] intarray8 = new int[cnt8Array];
                 for (int arrayIndex = 0; arrayIndex < cnt8Array; arrayIndex++) {
-                    intarray8[arrayIndex] = payload[index++];
+                    intarray8[arrayIndex] = readByte();
                 }
                 value[0] = intarray8;
                 break;
@@ -208,7 +218,7 @@ public class DefaultDeserializer implements ZigBeeDeserializer {
             case ENUMERATION_16_BIT:
             case SIGNED_16_BIT_INTEGER:
             case UNSIGNED_16_BIT_INTEGER:
-                short shortVal = (short) (payload[index++] + (payload[index++] << 8));
+                short shortVal = (short) (readByte() + (readByte() << 8));
                 if (type == ZclDataType.SIGNED_16_BIT_INTEGER) {
                     value[0] = Integer.valueOf(shortVal);
                 } else {
@@ -218,29 +228,29 @@ public class DefaultDeserializer implements ZigBeeDeserializer {
             case BITMAP_24_BIT:
             case SIGNED_24_BIT_INTEGER:
             case UNSIGNED_24_BIT_INTEGER:
-                value[0] = payload[index++] + (payload[index++] << 8) + (payload[index++] << 16);
+                value[0] = readByte() + (readByte() << 8) + (readByte() << 16);
                 break;
             case BITMAP_32_BIT:
             case ENUMERATION_32_BIT:
             case SIGNED_32_BIT_INTEGER:
             case UNSIGNED_32_BIT_INTEGER:
-                value[0] = payload[index++] + (payload[index++] << 8) + (payload[index++] << 16)
-                        + (payload[index++] << 24);
+                value[0] = readByte() + (readByte() << 8) + (readByte() << 16)
+                        + (readByte() << 24);
                 break;
             case UNSIGNED_40_BIT_INTEGER:
-                value[0] = (payload[index++]) + ((long) (payload[index++]) << 8) + ((long) (payload[index++]) << 16)
-                        + ((long) (payload[index++]) << 24) + ((long) (payload[index++]) << 32);
+                value[0] = (readByte()) + ((long) (readByte()) << 8) + ((long) (readByte()) << 16)
+                        + ((long) (readByte()) << 24) + ((long) (readByte()) << 32);
                 break;
             case UNSIGNED_48_BIT_INTEGER:
-                value[0] = (payload[index++]) + ((long) (payload[index++]) << 8) + ((long) (payload[index++]) << 16)
-                        + ((long) (payload[index++]) << 24) + ((long) (payload[index++]) << 32)
-                        + ((long) (payload[index++]) << 40);
+                value[0] = (readByte()) + ((long) (readByte()) << 8) + ((long) (readByte()) << 16)
+                        + ((long) (readByte()) << 24) + ((long) (readByte()) << 32)
+                        + ((long) (readByte()) << 40);
                 break;
             case SIGNED_8_BIT_INTEGER:
-                value[0] = Integer.valueOf((byte) payload[index++]);
+                value[0] = Integer.valueOf((byte) readByte());
                 break;
             case UNSIGNED_8_BIT_INTEGER:
-                value[0] = Integer.valueOf((byte) payload[index++] & 0xFF);
+                value[0] = Integer.valueOf((byte) readByte() & 0xFF);
                 break;
             case UTCTIME:
                 break;
@@ -275,36 +285,33 @@ public class DefaultDeserializer implements ZigBeeDeserializer {
                 value[0] = simpleDescriptor;
                 break;
             case ZCL_STATUS:
-                value[0] = ZclStatus.getStatus(payload[index++]);
+                value[0] = ZclStatus.getStatus(readByte());
                 break;
             case ZDO_STATUS:
-                value[0] = ZdoStatus.getStatus(payload[index++]);
+                value[0] = ZdoStatus.getStatus(readByte());
                 break;
             case ZIGBEE_DATA_TYPE:
-                value[0] = ZclDataType.getType(payload[index++]);
+                value[0] = ZclDataType.getType(readByte());
                 break;
             case BYTE_ARRAY:
-                int cntB8 = Integer.valueOf((byte) payload[index++] & 0xFF);
-                byte[] arrayB8 = new byte[cntB8];
-                for (int arrayIndex = 0; arrayIndex < cntB8; arrayIndex++) {
-                    arrayB8[arrayIndex] = (byte) (payload[index++] & 0xff);
-                }
-                value[0] = new ByteArray(arrayB8);
+                int cntB8 = Integer.valueOf((byte) readByte() & 0xFF);
+                value[0] = new ByteArray(payload, index, index + cntB8);
+                index += cntB8;
                 break;
             case ORDERED_SEQUENCE_STRUCTURE:
-                int structSize = Integer.valueOf((payload[index++] + (payload[index++] << 8)));
+                int structSize = Integer.valueOf((readByte() + (readByte() << 8)));
                 List<ZclDataPair> structure = new ArrayList<>();
                 for (int cnt = 0; cnt < structSize; cnt++) {
-                    ZclDataType structType = ZclDataType.getType(payload[index++]);
+                    ZclDataType structType = ZclDataType.getType(readByte());
                     Object structValue = readZigBeeType(structType);
                     structure.add(new ZclDataPair(structType, structValue));
                 }
                 value[0] = structure;
                 break;
             case ORDERED_SEQUENCE_ARRAY:
-                ZclDataType arrayType = ZclDataType.getType(payload[index++]);
+                ZclDataType arrayType = ZclDataType.getType(readByte());
                 ZclArrayList array = new ZclArrayList(arrayType);
-                int arraySize = Integer.valueOf((payload[index++] + (payload[index++] << 8)));
+                int arraySize = Integer.valueOf((readByte() + (readByte() << 8)));
                 for (int cnt = 0; cnt < arraySize; cnt++) {
                     Object arrayValue = readZigBeeType(arrayType);
                     array.add(arrayValue);
@@ -312,8 +319,8 @@ public class DefaultDeserializer implements ZigBeeDeserializer {
                 value[0] = array;
                 break;
             case FLOAT_32_BIT:
-                Float float32 = Float.intBitsToFloat(payload[index++] + (payload[index++] << 8)
-                        + (payload[index++] << 16) + (payload[index++] << 24));
+                Float float32 = Float.intBitsToFloat(readByte() + (readByte() << 8)
+                        + (readByte() << 16) + (readByte() << 24));
                 value[0] = float32.doubleValue();
                 break;
             default:
@@ -322,4 +329,21 @@ public class DefaultDeserializer implements ZigBeeDeserializer {
         }
         return value[0];
     }
+
+    private int readByte() {
+        return payload[index++] & 0xFF;
+    }
+
+    private int getByte(int position) {
+        return payload[position] & 0xFF;
+    }
+
+    private long readLong64() {
+        long value = 0;
+        for (int cnt = 7; cnt >= 0; cnt--) {
+            value = (value << 8) | getByte(index + cnt);
+        }
+        index += 8;
+        return value;
+    }
 }
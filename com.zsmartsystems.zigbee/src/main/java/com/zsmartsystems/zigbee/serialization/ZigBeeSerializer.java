@@ -26,4 +26,19 @@ public interface ZigBeeSerializer {
      * @return a copy of the payload
      */
     public int[] getPayload();
+
+    /**
+     * Gets a copy of the payload as a byte array. Serializers should override this if they hold the payload as bytes
+     * to avoid the conversion from the integer array.
+     *
+     * @return a copy of the payload
+     */
+    public default byte[] getPayloadBytes() {
+        int[] payload = getPayload();
+        byte[] bytes = new byte[payload.length];
+        for (int cnt = 0; cnt < payload.length; cnt++) {
+            bytes[cnt] = (byte) payload[cnt];
+        }
+        return bytes;
+    }
 }
@@ -0,0 +1,99 @@
+/**
+ * Copyright (c) 2016-2019 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.transaction;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import com.zsmartsystems.zigbee.ZigBeeCommand;
+import com.zsmartsystems.zigbee.zcl.ZclCommand;
+import com.zsmartsystems.zigbee.zcl.clusters.colorcontrol.EnhancedMoveToHueAndSaturationCommand;
+import com.zsmartsystems.zigbee.zcl.clusters.colorcontrol.EnhancedMoveToHueCommand;
+import com.zsmartsystems.zigbee.zcl.clusters.colorcontrol.MoveToColorCommand;
+import com.zsmartsystems.zigbee.zcl.clusters.colorcontrol.MoveToColorTemperatureCommand;
+import com.zsmartsystems.zigbee.zcl.clusters.colorcontrol.MoveToHueAndSaturationCommand;
+import com.zsmartsystems.zigbee.zcl.clusters.colorcontrol.MoveToHueCommand;
+import com.zsmartsystems.zigbee.zcl.clusters.colorcontrol.MoveToSaturationCommand;
+import com.zsmartsystems.zigbee.zcl.clusters.general.WriteAttributesCommand;
+import com.zsmartsystems.zigbee.zcl.clusters.levelcontrol.MoveToLevelCommand;
+import com.zsmartsystems.zigbee.zcl.clusters.levelcontrol.MoveToLevelWithOnOffCommand;
+import com.zsmartsystems.zigbee.zcl.clusters.onoff.OffCommand;
+import com.zsmartsystems.zigbee.zcl.clusters.onoff.OnCommand;
+import com.zsmartsystems.zigbee.zcl.field.WriteAttributeRecord;
+
+/**
+ * The default {@link ZigBeeSupersedeKeyProvider}. Commands that set an absolute state supersede earlier commands to
+ * the same endpoint that set the same state:
+ * <ul>
+ * <li>{@link OnCommand} and {@link OffCommand}
+ * <li>{@link MoveToLevelCommand} and {@link MoveToLevelWithOnOffCommand}
+ * <li>{@link MoveToColorCommand}, {@link MoveToColorTemperatureCommand}, {@link MoveToHueAndSaturationCommand} and
+ * {@link EnhancedMoveToHueAndSaturationCommand}
+ * <li>{@link MoveToHueCommand} and {@link EnhancedMoveToHueCommand}
+ * <li>{@link MoveToSaturationCommand}
+ * <li>{@link WriteAttributesCommand} writing the same attributes
+ * </ul>
+ * Relative commands such as toggle, move and step are never superseded. The key may be changed for other commands by
+ * extending this class.
+ *
+ * @author agent
+ *
+ */
+public class ZigBeeDefaultSupersedeKeyProvider implements ZigBeeSupersedeKeyProvider {
+    @Override
+    public Object getSupersedeKey(ZigBeeCommand command) {
+        if (command instanceof OnCommand || command instanceof OffCommand) {
+            return getKey(command, "OnOff");
+        }
+        if (command instanceof MoveToLevelCommand || command instanceof MoveToLevelWithOnOffCommand) {
+            return getKey(command, "Level");
+        }
+        if (command instanceof MoveToColorCommand || command instanceof MoveToColorTemperatureCommand
+                || command instanceof MoveToHueAndSaturationCommand
+                || command instanceof EnhancedMoveToHueAndSaturationCommand) {
+            return getKey(command, "Color");
+        }
+        if (command instanceof MoveToHueCommand || command instanceof EnhancedMoveToHueCommand) {
+            return getKey(command, "Hue");
+        }
+        if (command instanceof MoveToSaturationCommand) {
+            return getKey(command, "Saturation");
+        }
+        if (command instanceof WriteAttributesCommand) {
+            List<WriteAttributeRecord> records = ((WriteAttributesCommand) command).getRecords();
+            if (records == null || records.isEmpty()) {
+                return null;
+            }
+            List<Integer> attributes = new ArrayList<>(records.size());
+            for (WriteAttributeRecord record : records) {
+                attributes.add(record.getAttributeIdentifier());
+            }
+            Collections.sort(attributes);
+            return getKey(command, "WriteAttributes", ((ZclCommand) command).getManufacturerCode(), attributes);
+        }
+
+        return null;
+    }
+
+    /**
+     * Creates a supersede key from the command destination and cluster, and the additional values provided
+     *
+     * @param command the {@link ZigBeeCommand}
+     * @param values additional values to include in the key
+     * @return the supersede key
+     */
+    protected Object getKey(ZigBeeCommand command, Object... values) {
+        List<Object> key = new ArrayList<>(values.length + 2);
+        key.add(command.getDestinationAddress());
+        key.add(command.getClusterId());
+        key.addAll(Arrays.asList(values));
+        return key;
+    }
+}
@@ -0,0 +1,159 @@
+/**
+ * Copyright (c) 2016-2019 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.transaction;
+
+/**
+ * Estimates the round trip time of transactions, and derives the retry timeout from the estimate.
+ * <p>
+ * The smoothed round trip time and its mean deviation are maintained using the Jacobson/Karels algorithm. The retry
+ * timeout is the smoothed round trip time plus four times the deviation, limited to the minimum and maximum timeouts
+ * provided by the caller. Until the first sample is received, the maximum timeout is used.
+ * <p>
+ * Each time a transaction fails, the timeout is doubled (up to the maximum timeout) until a new sample is received.
+ * Only transactions that were sent once should be sampled, since the response to a retried transaction can not be
+ * matched to a particular transmission.
+ *
+ * @author agent
+ *
+ */
+public class ZigBeeRoundTripEstimator {
+    /**
+     * The maximum factor the timeout may be increased by following failures
+     */
+    private static final int MAX_BACKOFF = 8;
+
+    /**
+     * The minimum variance added to the round trip time. This stops the timeout collapsing onto the round trip time
+     * when responses are very consistent.
+     */
+    private static final int MIN_VARIANCE = 10;
+
+    /**
+     * The smoothed round trip time in milliseconds
+     */
+    private long smoothedRoundTripTime;
+
+    /**
+     * The mean deviation of the round trip time in milliseconds
+     */
+    private long roundTripTimeVariance;
+
+    /**
+     * The number of samples received
+     */
+    private int sampleCount;
+
+    /**
+     * The factor the timeout is currently increased by following failures
+     */
+    private int backoff = 1;
+
+    /**
+     * Adds a round trip time measurement
+     *
+     * @param roundTripTime the time in milliseconds from when the transaction was sent until it completed
+     */
+    public synchronized void addSample(long roundTripTime) {
+        if (roundTripTime < 0) {
+            return;
+        }
+
+        if (sampleCount == 0) {
+            smoothedRoundTripTime = roundTripTime;
+            roundTripTimeVariance = roundTripTime / 2;
+        } else {
+            // RTTVAR = 3/4 RTTVAR + 1/4 |SRTT - R| then SRTT = 7/8 SRTT + 1/8 R
+            roundTripTimeVariance += (Math.abs(smoothedRoundTripTime - roundTripTime) - roundTripTimeVariance) / 4;
+            smoothedRoundTripTime += (roundTripTime - smoothedRoundTripTime) / 8;
+        }
+        sampleCount++;
+        backoff = 1;
+    }
+
+    /**
+     * Notifies the estimator that a transaction has failed. This increases the timeout until the next sample is
+     * received.
+     */
+    public synchronized void transactionFailed() {
+        if (backoff < MAX_BACKOFF) {
+            backoff *= 2;
+        }
+    }
+
+    /**
+     * Gets the smoothed round trip time
+     *
+     * @return the smoothed round trip time in milliseconds, or 0 if no samples have been received
+     */
+    public synchronized long getSmoothedRoundTripTime() {
+        return smoothedRoundTripTime;
+    }
+
+    /**
+     * Gets the mean deviation of the round trip time
+     *
+     * @return the round trip time variance in milliseconds, or 0 if no samples have been received
+     */
+    public synchronized long getRoundTripTimeVariance() {
+        return roundTripTimeVariance;
+    }
+
+    /**
+     * Gets the number of round trip time samples that have been received
+     *
+     * @return the number of samples
+     */
+    public synchronized int getSampleCount() {
+        return sampleCount;
+    }
+
+    /**
+     * Gets the retry timeout derived from the round trip time estimate
+     *
+     * @param minimumTimeout the minimum timeout in milliseconds
+     * @param maximumTimeout the maximum timeout in milliseconds
+     * @return the retry timeout in milliseconds
+     */
+    public synchronized int getRetryTimeout(int minimumTimeout, int maximumTimeout) {
+        if (sampleCount == 0) {
+            return maximumTimeout;
+        }
+
+        long timeout = (smoothedRoundTripTime + Math.max(MIN_VARIANCE, 4 * roundTripTimeVariance)) * backoff;
+        return (int) Math.max(minimumTimeout, Math.min(maximumTimeout, timeout));
+    }
+
+    /**
+     * Gets the retry timeout derived from the round trip time estimate. Until the first sample is received, the
+     * timeout from the default estimator is used instead of the maximum timeout, increased by the backoff from any
+     * failures recorded by this estimator.
+     *
+     * @param minimumTimeout the minimum timeout in milliseconds
+     * @param maximumTimeout the maximum timeout in milliseconds
+     * @param defaultEstimator the {@link ZigBeeRoundTripEstimator} to use until a sample is received
+     * @return the retry timeout in milliseconds
+     */
+    public int getRetryTimeout(int minimumTimeout, int maximumTimeout, ZigBeeRoundTripEstimator defaultEstimator) {
+        int currentBackoff;
+        synchronized (this) {
+            if (sampleCount != 0) {
+                return getRetryTimeout(minimumTimeout, maximumTimeout);
+            }
+            currentBackoff = backoff;
+        }
+
+        long timeout = (long) defaultEstimator.getRetryTimeout(minimumTimeout, maximumTimeout) * currentBackoff;
+        return (int) Math.min(maximumTimeout, timeout);
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "ZigBeeRoundTripEstimator [smoothedRoundTripTime=" + smoothedRoundTripTime + ", roundTripTimeVariance="
+                + roundTripTimeVariance + ", sampleCount=" + sampleCount + ", backoff=" + backoff + "]";
+    }
+}
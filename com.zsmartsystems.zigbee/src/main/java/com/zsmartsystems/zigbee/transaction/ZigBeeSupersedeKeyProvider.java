@@ -0,0 +1,32 @@
+/**
+ * Copyright (c) 2016-2019 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.transaction;
+
+import com.zsmartsystems.zigbee.ZigBeeCommand;
+
+/**
+ * Provides the supersede key for a command. When a {@link ZigBeeTransactionQueue} has a
+ * {@link ZigBeeSupersedeKeyProvider}, a new transaction replaces any transaction waiting in the queue with an equal
+ * supersede key, and the replaced transaction completes with a superseded result.
+ * <p>
+ * Commands with equal keys must be commands where only the latest command matters - for example, setting the level of
+ * a light to an absolute value.
+ *
+ * @author agent
+ *
+ */
+public interface ZigBeeSupersedeKeyProvider {
+    /**
+     * Gets the supersede key for a command. The key must implement {@link Object#equals(Object)} and
+     * {@link Object#hashCode()}, and should include the destination address of the command.
+     *
+     * @param command the {@link ZigBeeCommand}
+     * @return the supersede key, or null if the command may not be superseded
+     */
+    Object getSupersedeKey(ZigBeeCommand command);
+}
@@ -7,6 +7,8 @@
  */
 package com.zsmartsystems.zigbee.transaction;
 
+import java.util.Arrays;
+import java.util.Objects;
 import java.util.concurrent.ScheduledFuture;
 
 import org.slf4j.Logger;
@@ -15,7 +17,9 @@ import org.slf4j.LoggerFactory;
 import com.zsmartsystems.zigbee.CommandResult;
 import com.zsmartsystems.zigbee.ZigBeeAddress;
 import com.zsmartsystems.zigbee.ZigBeeCommand;
+import com.zsmartsystems.zigbee.serialization.DefaultSerializer;
 import com.zsmartsystems.zigbee.transport.ZigBeeTransportProgressState;
+import com.zsmartsystems.zigbee.zcl.ZclFieldSerializer;
 
 /**
  * Transaction class to handle the sending of commands and timeout in the event there is no response.
@@ -140,6 +144,16 @@ public class ZigBeeTransaction {
      */
     private Long queueTime;
 
+    /**
+     * The time this transaction was last sent in milliseconds. This is used to measure the round trip time.
+     */
+    private long sendTime;
+
+    /**
+     * The serialized command payload, used to check for duplicate transactions. This is only created when needed.
+     */
+    private int[] payload;
+
     /**
      * Transaction constructor
      *
@@ -206,11 +220,64 @@ public class ZigBeeTransaction {
      */
     protected ZigBeeCommand startTransaction() {
         state = TransactionState.DISPATCHED;
+        sendTime = System.currentTimeMillis();
         startTimer(timeout1);
         sendCnt++;
         return command;
     }
 
+    /**
+     * Gets the time from when the transaction was last sent until now. When called on completion of the transaction,
+     * this is the round trip time.
+     *
+     * @return the time since the transaction was last sent in milliseconds
+     */
+    protected long getRoundTripTime() {
+        return System.currentTimeMillis() - sendTime;
+    }
+
+    /**
+     * Checks if another transaction is a duplicate of this transaction. Transactions are duplicates if the commands are
+     * the same type, are sent to the same address, have the same payload, and both either wait for a response or not.
+     *
+     * @param transaction the {@link ZigBeeTransaction} to compare
+     * @return true if the transaction is a duplicate of this transaction
+     */
+    protected boolean isDuplicate(ZigBeeTransaction transaction) {
+        ZigBeeCommand other = transaction.command;
+        if (command.getClass() != other.getClass() || (responseMatcher == null) != (transaction.responseMatcher == null)
+                || command.getApsSecurity() != other.getApsSecurity()
+                || !Objects.equals(command.getClusterId(), other.getClusterId())
+                || !Objects.equals(command.getDestinationAddress(), other.getDestinationAddress())) {
+            return false;
+        }
+
+        int[] thisPayload = getPayload();
+        return thisPayload != null && Arrays.equals(thisPayload, transaction.getPayload());
+    }
+
+    private int[] getPayload() {
+        if (payload == null) {
+            try {
+                ZclFieldSerializer serializer = new ZclFieldSerializer(new DefaultSerializer());
+                command.serialize(serializer);
+                payload = serializer.getPayload();
+            } catch (RuntimeException e) {
+                logger.debug("Unable to serialize command to check for duplicates: {}", command);
+            }
+        }
+        return payload;
+    }
+
+    /**
+     * Gets the {@link ZigBeeCommand} that this transaction is sending
+     *
+     * @return the {@link ZigBeeCommand} for the transaction
+     */
+    protected ZigBeeCommand getCommand() {
+        return command;
+    }
+
     /**
      * Gets the {@link ZigBeeAddress} that this transaction is being sent to
      *
@@ -220,6 +287,15 @@ public class ZigBeeTransaction {
         return command.getDestinationAddress();
     }
 
+    /**
+     * Gets the {@link ZigBeeTransactionMatcher} used to match the response to this transaction
+     *
+     * @return the {@link ZigBeeTransactionMatcher} or null if no response is expected
+     */
+    protected ZigBeeTransactionMatcher getResponseMatcher() {
+        return responseMatcher;
+    }
+
     /**
      * Gets the number of times this transaction has been sent. The sendCnt is incremented in the
      * {@link #startTransaction()} method.
@@ -266,7 +342,7 @@ public class ZigBeeTransaction {
      * @return the current timeout in milliseconds
      */
     public int getTimerPeriod2() {
-        return timeout1;
+        return timeout2;
     }
 
     /**
@@ -277,7 +353,7 @@ public class ZigBeeTransaction {
      * @param timeout the timeout to set in milliseconds
      */
     public void setTimerPeriod2(int timeout) {
-        this.timeout1 = timeout;
+        this.timeout2 = timeout;
     }
 
     /**
@@ -319,6 +395,25 @@ public class ZigBeeTransaction {
         }
     }
 
+    /**
+     * Completes a transaction that has been superseded by a later transaction before it was sent. The state will be
+     * set to {@link TransactionState#FAILED} and the future completed with a superseded {@link CommandResult}.
+     */
+    protected void supersede() {
+        state = TransactionState.FAILED;
+
+        if (timeoutTask != null) {
+            timeoutTask.cancel(false);
+        }
+        logger.debug("Transaction superseded: {}", this);
+        if (transactionFuture != null) {
+            synchronized (transactionFuture) {
+                transactionFuture.set(CommandResult.superseded());
+                transactionFuture.notify();
+            }
+        }
+    }
+
     /**
      * Called by the transaction manager when a {@link ZigBeeCommand} is received. The transaction should check this
      * command to see if it completes the transaction.
@@ -0,0 +1,35 @@
+/**
+ * Copyright (c) 2016-2019 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.transaction;
+
+/**
+ * Defines how the {@link ZigBeeTransactionManager} handles a new transaction when a queue has reached its maximum
+ * depth.
+ *
+ * @author agent
+ *
+ */
+public enum ZigBeeTransactionAdmissionPolicy {
+    /**
+     * The new transaction is rejected
+     */
+    REJECT,
+
+    /**
+     * The oldest transaction waiting in the queue is dropped to make room for the new transaction. The dropped
+     * transaction completes with a failed result.
+     */
+    DROP_OLDEST,
+
+    /**
+     * A new transaction that duplicates a transaction already waiting in the queue is merged with the waiting
+     * transaction, and completes with its result. Duplicates are merged whether or not the queue is full. If the queue
+     * is full and the transaction is not a duplicate, it is rejected.
+     */
+    COALESCE
+}
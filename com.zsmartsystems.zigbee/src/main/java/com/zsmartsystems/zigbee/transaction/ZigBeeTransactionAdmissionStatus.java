@@ -0,0 +1,37 @@
+/**
+ * Copyright (c) 2016-2019 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.transaction;
+
+/**
+ * The immediate status returned when a transaction is offered to the {@link ZigBeeTransactionManager} with
+ * {@link ZigBeeTransactionManager#trySendTransaction(com.zsmartsystems.zigbee.ZigBeeCommand, ZigBeeTransactionMatcher, ZigBeeTransactionCallback)}.
+ *
+ * @author agent
+ *
+ */
+public enum ZigBeeTransactionAdmissionStatus {
+    /**
+     * The transaction was added to the queue
+     */
+    ACCEPTED,
+
+    /**
+     * The transaction duplicates a transaction already waiting in the queue, and will complete with its result
+     */
+    COALESCED,
+
+    /**
+     * The transaction was not queued as the queue is full
+     */
+    REJECTED,
+
+    /**
+     * The transaction was not queued as no queue is available for the destination, or the manager is shut down
+     */
+    FAILED
+}
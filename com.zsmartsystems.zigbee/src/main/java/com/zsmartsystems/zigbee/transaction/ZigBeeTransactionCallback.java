@@ -0,0 +1,28 @@
+/**
+ * Copyright (c) 2016-2019 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.transaction;
+
+import com.zsmartsystems.zigbee.CommandResult;
+
+/**
+ * Defines a callback interface to be notified when a transaction completes, without blocking a thread waiting on the
+ * {@link ZigBeeTransactionFuture}.
+ *
+ * @author agent
+ *
+ */
+public interface ZigBeeTransactionCallback {
+
+    /**
+     * Called when the transaction completes. If the transaction failed, or was cancelled, the {@link CommandResult}
+     * will indicate a timeout.
+     *
+     * @param result the {@link CommandResult} of the transaction
+     */
+    public void transactionComplete(CommandResult result);
+}
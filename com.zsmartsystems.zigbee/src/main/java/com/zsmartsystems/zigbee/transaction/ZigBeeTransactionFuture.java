@@ -7,15 +7,22 @@
  */
 package com.zsmartsystems.zigbee.transaction;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 
 import com.zsmartsystems.zigbee.CommandResult;
+import com.zsmartsystems.zigbee.internal.NotificationService;
 
 /**
  * Future implementation for asynchronous transactions. Multiple threads may listen for the completion of the
  * transaction.
+ * <p>
+ * Callers that do not want to block a thread waiting for the result may register a {@link ZigBeeTransactionCallback}
+ * with {@link #addCallback(ZigBeeTransactionCallback)}. Callbacks are notified through the {@link NotificationService}
+ * once the transaction completes or is cancelled.
  *
  * @author Chris Jackson
  */
@@ -27,6 +34,11 @@ public class ZigBeeTransactionFuture implements Future<CommandResult> {
 
     private boolean cancelled = false;
 
+    /**
+     * The callbacks to notify when the transaction completes
+     */
+    private final List<ZigBeeTransactionCallback> callbacks = new ArrayList<>();
+
     // Not final for tests
     private static long TIMEOUT_MILLISECONDS = 12000;
 
@@ -38,6 +50,7 @@ public class ZigBeeTransactionFuture implements Future<CommandResult> {
     public synchronized void set(final CommandResult result) {
         this.result = result;
         notifyAll();
+        notifyCallbacks(result);
     }
 
     @Override
@@ -47,9 +60,44 @@ public class ZigBeeTransactionFuture implements Future<CommandResult> {
         }
         cancelled = true;
         notifyAll();
+        notifyCallbacks(new CommandResult());
         return true;
     }
 
+    /**
+     * Adds a {@link ZigBeeTransactionCallback} to be notified when the transaction completes. If the transaction has
+     * already completed, the callback will be notified immediately.
+     *
+     * @param callback the {@link ZigBeeTransactionCallback} to notify
+     */
+    public void addCallback(final ZigBeeTransactionCallback callback) {
+        final CommandResult completedResult;
+        synchronized (this) {
+            if (result == null && !cancelled) {
+                callbacks.add(callback);
+                return;
+            }
+            completedResult = result == null ? new CommandResult() : result;
+        }
+        notifyCallback(callback, completedResult);
+    }
+
+    private void notifyCallbacks(final CommandResult result) {
+        for (ZigBeeTransactionCallback callback : callbacks) {
+            notifyCallback(callback, result);
+        }
+        callbacks.clear();
+    }
+
+    private void notifyCallback(final ZigBeeTransactionCallback callback, final CommandResult result) {
+        NotificationService.execute(callback, new Runnable() {
+            @Override
+            public void run() {
+                callback.transactionComplete(result);
+            }
+        });
+    }
+
     @Override
     public boolean isCancelled() {
         return cancelled;
@@ -76,6 +124,9 @@ public class ZigBeeTransactionFuture implements Future<CommandResult> {
             if (result != null) {
                 return result;
             }
+            if (cancelled) {
+                return new CommandResult();
+            }
             unit.timedWait(this, timeout);
             if (result == null) {
                 set(new CommandResult());
@@ -9,6 +9,7 @@ package com.zsmartsystems.zigbee.transaction;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -34,8 +35,11 @@ import com.zsmartsystems.zigbee.ZigBeeNetworkManager;
 import com.zsmartsystems.zigbee.ZigBeeNetworkNodeListener;
 import com.zsmartsystems.zigbee.ZigBeeNode;
 import com.zsmartsystems.zigbee.internal.NotificationService;
+import com.zsmartsystems.zigbee.internal.ZigBeeTimerService;
 import com.zsmartsystems.zigbee.transaction.ZigBeeTransaction.TransactionState;
 import com.zsmartsystems.zigbee.transport.ZigBeeTransportProgressState;
+import com.zsmartsystems.zigbee.zcl.ZclCommand;
+import com.zsmartsystems.zigbee.zcl.ZclTransactionMatcher;
 import com.zsmartsystems.zigbee.zdo.field.NodeDescriptor.MacCapabilitiesType;
 
 /**
@@ -63,7 +67,14 @@ import com.zsmartsystems.zigbee.zdo.field.NodeDescriptor.MacCapabilitiesType;
  * attempt to send the next transaction in order to keep the transport layer full, while also fulfilling the various
  * constraints in the queues.
  * <p>
- * When sending, queues are polled in random order to ensure that all queues get a fair chance at sending data.
+ * When sending, the next queue is selected by the {@link ZigBeeTransactionScheduler}, which serves the queues that are
+ * ready to send in round robin order to ensure that all queues get a fair chance at sending data.
+ * <p>
+ * The number of transactions waiting in each node queue, and in all queues, is limited. When a limit is reached, the
+ * {@link ZigBeeTransactionAdmissionPolicy} sets whether the new transaction is rejected, the oldest waiting transaction
+ * is dropped, or duplicate transactions are merged. Applications that need to know immediately if a transaction is
+ * accepted may use {@link #trySendTransaction(ZigBeeCommand, ZigBeeTransactionMatcher, ZigBeeTransactionCallback)},
+ * and may register a {@link ZigBeeTransactionQueueListener} to be notified when the queues become congested.
  *
  * @author Chris Jackson
  *
@@ -91,6 +102,7 @@ public class ZigBeeTransactionManager implements ZigBeeNetworkNodeListener {
     private final int SLEEPY_RETRIES = 2;
     private final int SLEEPY_TRANSACTIONS = 1;
     private final int SLEEPY_DELAY = 50;
+    private final int SLEEPY_MAX_RETRY_TIMEOUT = 20000;
 
     private final int MCAST_RETRIES = 0;
     private final int MCAST_TRANSACTIONS = 3;
@@ -100,6 +112,16 @@ public class ZigBeeTransactionManager implements ZigBeeNetworkNodeListener {
     private final int BCAST_TRANSACTIONS = 3;
     private final int BCAST_DELAY = 1200;
 
+    /**
+     * The default maximum number of transactions waiting in a single queue
+     */
+    private final int MAX_QUEUE_DEPTH = 100;
+
+    /**
+     * The default maximum number of transactions waiting in all queues
+     */
+    private final int MAX_QUEUED_TRANSACTIONS = 2000;
+
     /**
      * The {@link ZigBeeNetworkManager} to which this manager belongs
      */
@@ -110,6 +132,40 @@ public class ZigBeeTransactionManager implements ZigBeeNetworkNodeListener {
      */
     private Set<ZigBeeTransaction> outstandingTransactions = new HashSet<>();
 
+    /**
+     * Index of outstanding transactions keyed by the response correlation key (source address, endpoint and
+     * transaction ID) so that received responses can be routed directly to the transaction that is waiting for them.
+     * Only transactions using the {@link ZclTransactionMatcher} are indexed here. Synchronised on
+     * {@link #outstandingTransactions}.
+     */
+    private final Map<Long, Set<ZigBeeTransaction>> responseIndex = new HashMap<>();
+
+    /**
+     * The response correlation key used for each transaction in the {@link #responseIndex}. The key is recorded when
+     * the transaction is added as the destination address may be updated while the transaction is outstanding.
+     * Synchronised on {@link #outstandingTransactions}.
+     */
+    private final Map<ZigBeeTransaction, Long> responseKeys = new HashMap<>();
+
+    /**
+     * Index of outstanding transactions keyed by transaction ID. This is used to route the
+     * {@link ZigBeeTransportProgressState} updates from the transport. Synchronised on
+     * {@link #outstandingTransactions}.
+     */
+    private final Map<Integer, Set<ZigBeeTransaction>> transactionIdIndex = new HashMap<>();
+
+    /**
+     * The set of outstanding transactions whose response can not be correlated through the {@link #responseIndex}.
+     * These transactions are notified of every received command. Synchronised on {@link #outstandingTransactions}.
+     */
+    private final Set<ZigBeeTransaction> unindexedResponseTransactions = new HashSet<>();
+
+    /**
+     * The set of outstanding transactions without a transaction ID. These transactions are notified of every progress
+     * update from the transport. Synchronised on {@link #outstandingTransactions}.
+     */
+    private final Set<ZigBeeTransaction> unindexedProgressTransactions = new HashSet<>();
+
     /**
      * The maximum number of transactions the manager will allow at any time
      */
@@ -120,6 +176,54 @@ public class ZigBeeTransactionManager implements ZigBeeNetworkNodeListener {
      */
     private int maxSleepyTransactions = MAX_SLEEPY_TRANSACTIONS;
 
+    /**
+     * The maximum number of transactions waiting in a single queue
+     */
+    private int maxQueueDepth = MAX_QUEUE_DEPTH;
+
+    /**
+     * The maximum number of transactions waiting in all queues
+     */
+    private int maxQueuedTransactions = MAX_QUEUED_TRANSACTIONS;
+
+    /**
+     * The number of waiting transactions at which the {@link ZigBeeTransactionQueueListener}s are notified that the
+     * queues are congested
+     */
+    private int highWatermark = MAX_QUEUED_TRANSACTIONS * 3 / 4;
+
+    /**
+     * The number of waiting transactions at which the {@link ZigBeeTransactionQueueListener}s are notified that the
+     * queues are no longer congested
+     */
+    private int lowWatermark = MAX_QUEUED_TRANSACTIONS / 2;
+
+    /**
+     * The policy used when a queue is full
+     */
+    private ZigBeeTransactionAdmissionPolicy admissionPolicy = ZigBeeTransactionAdmissionPolicy.REJECT;
+
+    /**
+     * The {@link ZigBeeSupersedeKeyProvider} applied to the queues. Superseding is disabled by default.
+     */
+    private ZigBeeSupersedeKeyProvider supersedeKeyProvider;
+
+    /**
+     * The number of transactions waiting to be sent in all queues
+     */
+    private int queuedTransactions = 0;
+
+    /**
+     * True if the number of waiting transactions has reached the high watermark, and not yet fallen to the low
+     * watermark
+     */
+    private boolean congested = false;
+
+    /**
+     * The listeners to be notified when the queues become congested
+     */
+    private Set<ZigBeeTransactionQueueListener> queueListeners = Collections.unmodifiableSet(new HashSet<>());
+
     /**
      * A counter holding the number of sleepy transactions
      */
@@ -134,6 +238,13 @@ public class ZigBeeTransactionManager implements ZigBeeNetworkNodeListener {
     private final ScheduledExecutorService executorService = ZigBeeExecutors.newScheduledThreadPool(6,
             "TransactionManager");
 
+    /**
+     * The timer used for transaction timeouts and to release delayed queues. Nearly all transaction timers are
+     * cancelled before they expire, so these are held in a {@link ZigBeeTimerService} where scheduling and cancelling
+     * are O(1). Expired timers are run by the {@link #executorService}.
+     */
+    private final ZigBeeTimerService timerService = new ZigBeeTimerService("TransactionTimer", executorService);
+
     /**
      * A Map containing the queue for each node. This provides quick access when adding commands to queue, or performing
      * any queue function where we know the node.
@@ -146,9 +257,22 @@ public class ZigBeeTransactionManager implements ZigBeeNetworkNodeListener {
     private final AtomicInteger transactionIdCounter = new AtomicInteger();
 
     /**
-     * A List of queues with outstanding commands. This is used for random access when sending transactions.
+     * The scheduler for queues with outstanding commands. This is used to select the next queue when sending
+     * transactions.
+     */
+    private final ZigBeeTransactionScheduler scheduler = new ZigBeeTransactionScheduler();
+
+    /**
+     * The round trip time estimate for all mains powered nodes. This is used to set the timeout for nodes where the
+     * round trip time has not yet been measured.
      */
-    private final List<ZigBeeTransactionQueue> outstandingQueues = new ArrayList<>();
+    private final ZigBeeRoundTripEstimator mainsRoundTripEstimator = new ZigBeeRoundTripEstimator();
+
+    /**
+     * The round trip time estimate for all sleepy nodes. This is used to set the timeout for nodes where the round trip
+     * time has not yet been measured.
+     */
+    private final ZigBeeRoundTripEstimator sleepyRoundTripEstimator = new ZigBeeRoundTripEstimator();
 
     private final ZigBeeTransactionQueue defaultQueue;
     private final ZigBeeTransactionQueue broadcastQueue;
@@ -167,6 +291,7 @@ public class ZigBeeTransactionManager implements ZigBeeNetworkNodeListener {
 
         defaultProfile = new ZigBeeTransactionProfile(NODE_RETRIES, NODE_TRANSACTIONS, NODE_DELAY);
         defaultSleepyProfile = new ZigBeeTransactionProfile(SLEEPY_RETRIES, SLEEPY_TRANSACTIONS, SLEEPY_DELAY);
+        defaultSleepyProfile.setMaxRetryTimeout(SLEEPY_MAX_RETRY_TIMEOUT);
 
         defaultQueue = new ZigBeeTransactionQueue("Default");
         defaultQueue.setProfile(defaultProfile);
@@ -189,6 +314,7 @@ public class ZigBeeTransactionManager implements ZigBeeNetworkNodeListener {
 
         networkManager.removeNetworkNodeListener(this);
 
+        timerService.shutdown();
         executorService.shutdownNow();
 
         if (timeoutTask != null) {
@@ -202,11 +328,14 @@ public class ZigBeeTransactionManager implements ZigBeeNetworkNodeListener {
         }
 
         nodeQueue.clear();
+        synchronized (this) {
+            queuedTransactions = 0;
+        }
 
         synchronized (outstandingTransactions) {
             // Notify the listeners
             for (final ZigBeeTransaction transaction : outstandingTransactions) {
-                NotificationService.execute(new Runnable() {
+                NotificationService.executeTransaction(transaction, new Runnable() {
                     @Override
                     public void run() {
                         transaction.cancel();
@@ -352,25 +481,274 @@ public class ZigBeeTransactionManager implements ZigBeeNetworkNodeListener {
                 return null;
             }
 
-            return queueTransaction(queue, transaction);
+            if (queueTransaction(queue, transaction) == ZigBeeTransactionAdmissionStatus.REJECTED) {
+                // The caller is not able to see the rejection, so the future completes immediately with a failure
+                transaction.getFuture().set(new CommandResult());
+            }
         }
+
+        sendNextTransaction();
+
+        return transaction.getFuture();
     }
 
     /**
-     * Adds a {@link ZigBeeTransaction} to the respective {@link ZigBeeTransactionQueue}
+     * Offers a command to the transaction manager without blocking, returning immediately with the status of the
+     * request. If the transaction is rejected, the callback is not notified and the caller should retry later. This
+     * allows the caller to apply back pressure when the queues are full, rather than waiting for transactions to time
+     * out.
      *
+     * @param command the {@link ZigBeeCommand} to send
+     * @param responseMatcher the {@link ZigBeeTransactionMatcher} to match the response which will complete the
+     *            transaction. May be null if no response is expected.
+     * @param callback the {@link ZigBeeTransactionCallback} to notify when the transaction completes. May be null.
+     * @return the {@link ZigBeeTransactionAdmissionStatus}
+     */
+    public ZigBeeTransactionAdmissionStatus trySendTransaction(ZigBeeCommand command,
+            ZigBeeTransactionMatcher responseMatcher, ZigBeeTransactionCallback callback) {
+        ZigBeeTransaction transaction = new ZigBeeTransaction(this, command, responseMatcher);
+        ZigBeeTransactionAdmissionStatus status;
+
+        synchronized (this) {
+            ZigBeeTransactionQueue queue = getTransactionQueue(transaction);
+            if (queue == null) {
+                logger.debug("Error getting queue for {}", transaction);
+                return ZigBeeTransactionAdmissionStatus.FAILED;
+            }
+
+            status = queueTransaction(queue, transaction);
+        }
+
+        if (status == ZigBeeTransactionAdmissionStatus.ACCEPTED
+                || status == ZigBeeTransactionAdmissionStatus.COALESCED) {
+            if (callback != null) {
+                transaction.getFuture().addCallback(callback);
+            }
+            sendNextTransaction();
+        }
+
+        return status;
+    }
+
+    /**
+     * Adds a {@link ZigBeeTransaction} to the respective {@link ZigBeeTransactionQueue}, applying the
+     * {@link ZigBeeTransactionAdmissionPolicy} if the queue is full. This must be called with the manager locked.
+     * <p>
+     * If the transaction is coalesced with a duplicate, the future of the duplicate transaction is set in the
+     * transaction so that both complete together.
+     *
+     * @param queue the {@link ZigBeeTransactionQueue} to add the transaction to. Not null.
      * @param transaction the {@link ZigBeeTransaction} to add to the queue. Not null.
-     * @return the future {@link CommandResult}
+     * @return the {@link ZigBeeTransactionAdmissionStatus}
      */
-    private ZigBeeTransactionFuture queueTransaction(ZigBeeTransactionQueue queue, ZigBeeTransaction transaction) {
-        queue.addToQueue(transaction);
-        if (!queue.isEmpty() && !outstandingQueues.contains(queue)) {
-            outstandingQueues.add(queue);
+    private ZigBeeTransactionAdmissionStatus queueTransaction(ZigBeeTransactionQueue queue,
+            ZigBeeTransaction transaction) {
+        if (admissionPolicy == ZigBeeTransactionAdmissionPolicy.COALESCE) {
+            ZigBeeTransaction duplicate = queue.getDuplicate(transaction);
+            if (duplicate != null) {
+                logger.debug("Transaction coalesced with {}", duplicate);
+                transaction.setFuture(duplicate.getFuture());
+                return ZigBeeTransactionAdmissionStatus.COALESCED;
+            }
         }
 
-        sendNextTransaction();
+        // A transaction that supersedes a waiting transaction does not increase the queue length
+        int queueSize = queue.size();
+        if ((queueSize >= maxQueueDepth || queuedTransactions >= maxQueuedTransactions)
+                && queue.getSuperseded(transaction) == null) {
+            if (admissionPolicy != ZigBeeTransactionAdmissionPolicy.DROP_OLDEST || queue.dropOldest() == null) {
+                logger.debug("Transaction rejected: queue={}, queued={}: {}", queueSize, queuedTransactions,
+                        transaction);
+                transaction.setFuture(new ZigBeeTransactionFuture());
+                return ZigBeeTransactionAdmissionStatus.REJECTED;
+            }
+        }
 
-        return transaction.getFuture();
+        if (queue.addToQueue(transaction) == null) {
+            logger.debug("Transaction not queued as queue is shut down: {}", transaction);
+            return ZigBeeTransactionAdmissionStatus.FAILED;
+        }
+        updateQueuedTransactions(queue.size() - queueSize);
+        scheduler.schedule(queue);
+
+        return ZigBeeTransactionAdmissionStatus.ACCEPTED;
+    }
+
+    /**
+     * Updates the number of transactions waiting in all queues, and notifies the
+     * {@link ZigBeeTransactionQueueListener}s if a watermark is crossed. This must be called with the manager locked.
+     *
+     * @param change the change in the number of waiting transactions
+     */
+    private void updateQueuedTransactions(int change) {
+        if (change == 0) {
+            return;
+        }
+        queuedTransactions = Math.max(0, queuedTransactions + change);
+
+        if (!congested && queuedTransactions >= highWatermark) {
+            congested = true;
+        } else if (congested && queuedTransactions <= lowWatermark) {
+            congested = false;
+        } else {
+            return;
+        }
+
+        logger.debug("Transaction queue congestion changed to {} with {} transactions queued", congested,
+                queuedTransactions);
+        final boolean congestedState = congested;
+        final int queuedState = queuedTransactions;
+        for (final ZigBeeTransactionQueueListener listener : queueListeners) {
+            NotificationService.execute(listener, new Runnable() {
+                @Override
+                public void run() {
+                    listener.transactionQueueCongestion(congestedState, queuedState);
+                }
+            });
+        }
+    }
+
+    /**
+     * Adds a {@link ZigBeeTransactionQueueListener} to be notified when the queues become congested
+     *
+     * @param listener the {@link ZigBeeTransactionQueueListener} to add
+     */
+    public void addQueueListener(ZigBeeTransactionQueueListener listener) {
+        synchronized (this) {
+            final Set<ZigBeeTransactionQueueListener> modifiedListeners = new HashSet<>(queueListeners);
+            modifiedListeners.add(listener);
+            queueListeners = Collections.unmodifiableSet(modifiedListeners);
+        }
+    }
+
+    /**
+     * Removes a {@link ZigBeeTransactionQueueListener}
+     *
+     * @param listener the {@link ZigBeeTransactionQueueListener} to remove
+     */
+    public void removeQueueListener(ZigBeeTransactionQueueListener listener) {
+        synchronized (this) {
+            final Set<ZigBeeTransactionQueueListener> modifiedListeners = new HashSet<>(queueListeners);
+            modifiedListeners.remove(listener);
+            queueListeners = Collections.unmodifiableSet(modifiedListeners);
+        }
+    }
+
+    /**
+     * Gets the number of transactions waiting to be sent in all queues
+     *
+     * @return the number of waiting transactions
+     */
+    public synchronized int getQueuedTransactions() {
+        return queuedTransactions;
+    }
+
+    /**
+     * Gets the maximum number of transactions that may wait in a single queue
+     *
+     * @return the maximum queue depth
+     */
+    public int getMaxQueueDepth() {
+        return maxQueueDepth;
+    }
+
+    /**
+     * Sets the maximum number of transactions that may wait in a single queue. When this is reached, the
+     * {@link ZigBeeTransactionAdmissionPolicy} is applied to new transactions.
+     *
+     * @param maxQueueDepth the maximum queue depth. Must be greater than 0.
+     */
+    public void setMaxQueueDepth(int maxQueueDepth) {
+        if (maxQueueDepth < 1) {
+            throw new IllegalArgumentException("Queue depth must be greater than 0");
+        }
+        this.maxQueueDepth = maxQueueDepth;
+    }
+
+    /**
+     * Gets the maximum number of transactions that may wait in all queues
+     *
+     * @return the maximum number of waiting transactions
+     */
+    public int getMaxQueuedTransactions() {
+        return maxQueuedTransactions;
+    }
+
+    /**
+     * Sets the maximum number of transactions that may wait in all queues. When this is reached, the
+     * {@link ZigBeeTransactionAdmissionPolicy} is applied to new transactions.
+     *
+     * @param maxQueuedTransactions the maximum number of waiting transactions. Must be greater than 0.
+     */
+    public void setMaxQueuedTransactions(int maxQueuedTransactions) {
+        if (maxQueuedTransactions < 1) {
+            throw new IllegalArgumentException("Queued transactions must be greater than 0");
+        }
+        this.maxQueuedTransactions = maxQueuedTransactions;
+    }
+
+    /**
+     * Sets the watermarks at which the {@link ZigBeeTransactionQueueListener}s are notified. Listeners are notified
+     * that the queues are congested when the number of waiting transactions rises to the high watermark, and that the
+     * queues are no longer congested when it falls to the low watermark.
+     *
+     * @param lowWatermark the low watermark
+     * @param highWatermark the high watermark. Must be greater than the low watermark.
+     */
+    public synchronized void setWatermarks(int lowWatermark, int highWatermark) {
+        if (lowWatermark < 0 || highWatermark <= lowWatermark) {
+            throw new IllegalArgumentException("High watermark must be greater than low watermark");
+        }
+        this.lowWatermark = lowWatermark;
+        this.highWatermark = highWatermark;
+    }
+
+    /**
+     * Gets the {@link ZigBeeTransactionAdmissionPolicy} applied when a queue is full
+     *
+     * @return the {@link ZigBeeTransactionAdmissionPolicy}
+     */
+    public ZigBeeTransactionAdmissionPolicy getAdmissionPolicy() {
+        return admissionPolicy;
+    }
+
+    /**
+     * Sets the {@link ZigBeeTransactionAdmissionPolicy} applied when a queue is full
+     *
+     * @param admissionPolicy the {@link ZigBeeTransactionAdmissionPolicy}
+     */
+    public void setAdmissionPolicy(ZigBeeTransactionAdmissionPolicy admissionPolicy) {
+        if (admissionPolicy == null) {
+            throw new IllegalArgumentException("Admission policy must not be null");
+        }
+        this.admissionPolicy = admissionPolicy;
+    }
+
+    /**
+     * Gets the {@link ZigBeeSupersedeKeyProvider} used by the transaction queues
+     *
+     * @return the {@link ZigBeeSupersedeKeyProvider}, or null if superseding is disabled
+     */
+    public ZigBeeSupersedeKeyProvider getSupersedeKeyProvider() {
+        return supersedeKeyProvider;
+    }
+
+    /**
+     * Sets the {@link ZigBeeSupersedeKeyProvider} used by the transaction queues. When set, a new transaction replaces
+     * any transaction waiting in the same queue with the same supersede key, and the replaced transaction completes with
+     * a superseded {@link CommandResult}. The provider is applied to all existing and new queues.
+     *
+     * @param supersedeKeyProvider the {@link ZigBeeSupersedeKeyProvider}, or null to disable superseding
+     */
+    public synchronized void setSupersedeKeyProvider(ZigBeeSupersedeKeyProvider supersedeKeyProvider) {
+        this.supersedeKeyProvider = supersedeKeyProvider;
+
+        defaultQueue.setSupersedeKeyProvider(supersedeKeyProvider);
+        broadcastQueue.setSupersedeKeyProvider(supersedeKeyProvider);
+        multicastQueue.setSupersedeKeyProvider(supersedeKeyProvider);
+        for (ZigBeeTransactionQueue queue : nodeQueue.values()) {
+            queue.setSupersedeKeyProvider(supersedeKeyProvider);
+        }
     }
 
     /**
@@ -396,6 +774,7 @@ public class ZigBeeTransactionManager implements ZigBeeNetworkNodeListener {
             if (queue == null) {
                 logger.debug("{}: Creating new Transaction Queue", node.getIeeeAddress());
                 queue = new ZigBeeTransactionQueue(node.getIeeeAddress().toString());
+                queue.setSupersedeKeyProvider(supersedeKeyProvider);
                 setQueueType(node, queue);
 
                 nodeQueue.put(node.getIeeeAddress(), queue);
@@ -474,7 +853,24 @@ public class ZigBeeTransactionManager implements ZigBeeNetworkNodeListener {
      */
     private void addTransactionListener(ZigBeeTransaction transaction) {
         synchronized (outstandingTransactions) {
-            outstandingTransactions.add(transaction);
+            if (!outstandingTransactions.add(transaction)) {
+                return;
+            }
+
+            Long responseKey = getResponseKey(transaction);
+            if (responseKey == null) {
+                unindexedResponseTransactions.add(transaction);
+            } else {
+                responseKeys.put(transaction, responseKey);
+                addToIndex(responseIndex, responseKey, transaction);
+            }
+
+            Integer transactionId = transaction.getTransactionId();
+            if (transactionId == null) {
+                unindexedProgressTransactions.add(transaction);
+            } else {
+                addToIndex(transactionIdIndex, transactionId, transaction);
+            }
         }
         logger.debug("transactionListenerAdded: {} outstanding", outstandingTransactions.size());
     }
@@ -488,11 +884,90 @@ public class ZigBeeTransactionManager implements ZigBeeNetworkNodeListener {
      */
     private void removeTransactionListener(ZigBeeTransaction transaction) {
         synchronized (outstandingTransactions) {
-            outstandingTransactions.remove(transaction);
+            if (!outstandingTransactions.remove(transaction)) {
+                return;
+            }
+
+            Long responseKey = responseKeys.remove(transaction);
+            if (responseKey == null) {
+                unindexedResponseTransactions.remove(transaction);
+            } else {
+                removeFromIndex(responseIndex, responseKey, transaction);
+            }
+
+            Integer transactionId = transaction.getTransactionId();
+            if (transactionId == null) {
+                unindexedProgressTransactions.remove(transaction);
+            } else {
+                removeFromIndex(transactionIdIndex, transactionId, transaction);
+            }
         }
         logger.debug("transactionListenerRemoved: {} outstanding", outstandingTransactions.size());
     }
 
+    private <K> void addToIndex(Map<K, Set<ZigBeeTransaction>> index, K key, ZigBeeTransaction transaction) {
+        Set<ZigBeeTransaction> transactions = index.get(key);
+        if (transactions == null) {
+            transactions = new HashSet<>(2);
+            index.put(key, transactions);
+        }
+        transactions.add(transaction);
+    }
+
+    private <K> void removeFromIndex(Map<K, Set<ZigBeeTransaction>> index, K key, ZigBeeTransaction transaction) {
+        Set<ZigBeeTransaction> transactions = index.get(key);
+        if (transactions == null) {
+            return;
+        }
+        transactions.remove(transaction);
+        if (transactions.isEmpty()) {
+            index.remove(key);
+        }
+    }
+
+    /**
+     * Gets the response correlation key for an outstanding transaction. The key is only available for unicast
+     * transactions that use the {@link ZclTransactionMatcher}, as this matcher only completes the transaction when the
+     * response is received from the request destination with the same transaction ID.
+     * <p>
+     * The key is only used to route responses - the {@link ZigBeeTransactionMatcher} is still applied to any command
+     * delivered to the transaction.
+     *
+     * @param transaction the {@link ZigBeeTransaction}
+     * @return the correlation key, or null if responses to this transaction can not be indexed
+     */
+    private Long getResponseKey(ZigBeeTransaction transaction) {
+        if (!(transaction.getResponseMatcher() instanceof ZclTransactionMatcher)
+                || transaction.getTransactionId() == null) {
+            return null;
+        }
+        ZigBeeAddress address = transaction.getDestinationAddress();
+        if (!(address instanceof ZigBeeEndpointAddress)
+                || ZigBeeBroadcastDestination.isBroadcast(address.getAddress())) {
+            return null;
+        }
+        return getResponseKey((ZigBeeEndpointAddress) address, transaction.getTransactionId());
+    }
+
+    /**
+     * Gets the response correlation key for a received command.
+     *
+     * @param command the received {@link ZigBeeCommand}
+     * @return the correlation key, or null if the command can not be correlated through the index
+     */
+    private Long getResponseKey(ZigBeeCommand command) {
+        if (!(command instanceof ZclCommand) || command.getTransactionId() == null
+                || !(command.getSourceAddress() instanceof ZigBeeEndpointAddress)) {
+            return null;
+        }
+        return getResponseKey((ZigBeeEndpointAddress) command.getSourceAddress(), command.getTransactionId());
+    }
+
+    private Long getResponseKey(ZigBeeEndpointAddress address, int transactionId) {
+        return ((long) address.getAddress() << 40) | ((long) (address.getEndpoint() & 0xFFFF) << 24)
+                | (transactionId & 0xFFFFFFL);
+    }
+
     /**
      * Schedules a task with a timeout. Used by {@link ZigBeeTransaction}s to time out failed transactions
      *
@@ -501,7 +976,7 @@ public class ZigBeeTransactionManager implements ZigBeeNetworkNodeListener {
      * @return the {@link ScheduledFuture} for this task
      */
     protected ScheduledFuture<?> scheduleTask(Runnable runnableTask, long delay) {
-        return executorService.schedule(runnableTask, delay, TimeUnit.MILLISECONDS);
+        return timerService.schedule(runnableTask, delay);
     }
 
     /**
@@ -519,7 +994,15 @@ public class ZigBeeTransactionManager implements ZigBeeNetworkNodeListener {
             if (queue == null) {
                 logger.debug("Transaction complete: No queue found {}", transaction);
             } else {
+                if (state == TransactionState.COMPLETE && transaction.getSendCnt() == 1
+                        && queue != broadcastQueue && queue != multicastQueue) {
+                    (queue.isSleepy() ? sleepyRoundTripEstimator : mainsRoundTripEstimator)
+                            .addSample(transaction.getRoundTripTime());
+                }
+                int queueSize = queue.size();
                 queue.transactionComplete(transaction, state);
+                updateQueuedTransactions(queue.size() - queueSize);
+                scheduler.schedule(queue);
 
                 if (queue.isSleepy()) {
                     sleepyTransactions--;
@@ -531,28 +1014,40 @@ public class ZigBeeTransactionManager implements ZigBeeNetworkNodeListener {
     }
 
     /**
-     * Notify transactions of the received command
+     * Notify transactions of the received command. Transactions whose response can be correlated are looked up directly
+     * in the {@link #responseIndex} - all other outstanding transactions with a response matcher are also notified.
      *
      * @param command the {@link ZigBeeCommand} to send to the transactions
      */
     private void notifyTransactionCommand(final ZigBeeCommand command) {
         logger.debug("notifyTransactionCommand: {} ", command);
+        final List<ZigBeeTransaction> transactions = new ArrayList<>();
         synchronized (outstandingTransactions) {
-            // Notify the listeners
-            for (final ZigBeeTransaction transaction : outstandingTransactions) {
-                logger.debug("notifyTransactionCommand: {} {}", command, transaction);
-                NotificationService.execute(new Runnable() {
-                    @Override
-                    public void run() {
-                        transaction.commandReceived(command);
-                    }
-                });
+            Long responseKey = getResponseKey(command);
+            if (responseKey != null) {
+                Set<ZigBeeTransaction> indexedTransactions = responseIndex.get(responseKey);
+                if (indexedTransactions != null) {
+                    transactions.addAll(indexedTransactions);
+                }
             }
+            transactions.addAll(unindexedResponseTransactions);
+        }
+
+        // Notify the listeners
+        for (final ZigBeeTransaction transaction : transactions) {
+            logger.debug("notifyTransactionCommand: {} {}", command, transaction);
+            NotificationService.executeTransaction(transaction, new Runnable() {
+                @Override
+                public void run() {
+                    transaction.commandReceived(command);
+                }
+            });
         }
     }
 
     /**
-     * Notify transactions of the current {@link ZigBeeTransportProgressState} from the transport layer
+     * Notify transactions of the current {@link ZigBeeTransportProgressState} from the transport layer. Only
+     * transactions with the same transaction ID, or those without a transaction ID, are notified.
      *
      * @param transactionId the ID of the transaction whose state has been updated
      * @param state the current {@link ZigBeeTransportProgressState} for the transaction
@@ -560,16 +1055,23 @@ public class ZigBeeTransactionManager implements ZigBeeNetworkNodeListener {
     private void notifyTransactionProgress(final int transactionId, ZigBeeTransportProgressState state) {
         logger.debug("notifyTransactionProgress: TID={}, state={}, outstanding={}",
                 String.format("%02X", transactionId), state, outstandingTransactions.size());
+        final List<ZigBeeTransaction> transactions = new ArrayList<>();
         synchronized (outstandingTransactions) {
-            // Notify the listeners
-            for (final ZigBeeTransaction transaction : outstandingTransactions) {
-                NotificationService.execute(new Runnable() {
-                    @Override
-                    public void run() {
-                        transaction.transactionStatusReceived(state, transactionId);
-                    }
-                });
+            Set<ZigBeeTransaction> indexedTransactions = transactionIdIndex.get(transactionId);
+            if (indexedTransactions != null) {
+                transactions.addAll(indexedTransactions);
             }
+            transactions.addAll(unindexedProgressTransactions);
+        }
+
+        // Notify the listeners
+        for (final ZigBeeTransaction transaction : transactions) {
+            NotificationService.executeTransaction(transaction, new Runnable() {
+                @Override
+                public void run() {
+                    transaction.transactionStatusReceived(state, transactionId);
+                }
+            });
         }
     }
 
@@ -607,92 +1109,87 @@ public class ZigBeeTransactionManager implements ZigBeeNetworkNodeListener {
             }
         }
         nodeQueue.remove(address);
-        outstandingQueues.remove(queue);
+        synchronized (this) {
+            scheduler.remove(queue);
+            updateQueuedTransactions(-queue.size());
+        }
     }
 
     /**
      * Polls the queues to send outstanding transactions. This will send as many transactions as necessary, or available
      * within the constraints that have been set (e.g. the maxOutstandingTransactions).
      * <p>
-     * The order of transmission from each queue is randomised to ensure a fair ordering of transactions to each device.
-     * If a queue returns null, then it does not have transactions to send at that time and we let the timer take care
-     * of rescheduling the transmission.
+     * The next queue is selected by the {@link ZigBeeTransactionScheduler} to ensure a fair ordering of transactions to
+     * each device. Queues that are delayed are released by the scheduler when their delay expires, and we let the timer
+     * take care of rescheduling the transmission.
      */
     private void sendNextTransaction() {
         synchronized (this) {
-            if (timeoutTask != null) {
-                timeoutTask.cancel(false);
-            }
-
-            ZigBeeTransaction transaction;
-
-            // Randomly loop through all queues, taking a transaction from each one in turn
-            // If we have more transactions outstanding than we're allowed, then exit
-            // If we get through an iteration of all queues without sending anything, then exit
+            // Take a transaction from each ready queue in turn until we have more transactions outstanding than we're
+            // allowed, or there are no more queues ready to send.
             //
             // Points to note -:
-            // * Queues may have more than one transaction to send
+            // * Queues may have more than one transaction to send, and are rescheduled after each transaction
             // * Queues may have transactions to send, but be unable to send them at this time
+            // * Sleepy queues are not selected if we've exceeded the sleepy transmissions
+            while (outstandingTransactions.size() < maxOutstandingTransactions) {
+                ZigBeeTransactionQueue queue = scheduler.getNextQueue(sleepyTransactions < maxSleepyTransactions);
+                if (queue == null) {
+                    break;
+                }
 
-            List<ZigBeeTransactionQueue> emptyQueues = new ArrayList<>();
-            boolean sendDone;
-            do {
-                // Exit unless we send at least one transaction
-                sendDone = true;
-
-                // Randomise the lists
-                Collections.shuffle(outstandingQueues);
-
-                // Clear the list of queues that have been emptied
-                emptyQueues.clear();
-
-                for (ZigBeeTransactionQueue queue : outstandingQueues) {
-                    // Check if we've reached the maximum number of commands we can send
-                    if (outstandingTransactions.size() >= maxOutstandingTransactions) {
-                        sendDone = true;
-                        break;
-                    }
-
-                    // If this is a sleepy queue, and we've exceeded the sleepy transmissions, then ignore the queue
-                    if (queue.isSleepy() && sleepyTransactions >= maxSleepyTransactions) {
-                        continue;
+                ZigBeeTransaction transaction = queue.getTransaction();
+                if (transaction != null) {
+                    updateQueuedTransactions(-1);
+                    if (queue.isSleepy()) {
+                        sleepyTransactions++;
                     }
 
-                    // Queue may return null if it has transactions queued, but it can't release any at this time
-                    transaction = queue.getTransaction();
-                    if (transaction != null) {
-                        if (queue.isSleepy()) {
-                            sleepyTransactions++;
-                        }
-
-                        // Send the transaction.
-                        send(transaction);
-                        sendDone = false;
-                    }
+                    int timeout = getRetryTimeout(queue);
+                    transaction.setTimerPeriod1(timeout);
+                    transaction.setTimerPeriod2(timeout);
 
-                    // If the queue has no more transactions,
-                    // remove it from the list of queues with outstanding transactions.
-                    if (queue.isEmpty()) {
-                        emptyQueues.add(queue);
-                    }
+                    // Send the transaction.
+                    send(transaction);
                 }
 
-                outstandingQueues.removeAll(emptyQueues);
-            } while (!sendDone);
+                scheduler.schedule(queue);
+            }
 
-            // Loop through all outstanding queues and find the next release time
-            long timeout = Long.MAX_VALUE;
-            for (ZigBeeTransactionQueue queue : outstandingQueues) {
-                long nextTime = queue.getNextReleaseTime();
-                if (nextTime < timeout) {
-                    timeout = nextTime;
+            long timeout = scheduler.getNextReleaseTime();
+            if (timeout == Long.MAX_VALUE) {
+                if (timeoutTask != null) {
+                    timeoutTask.cancel(false);
+                    timeoutTask = null;
+                }
+            } else {
+                // The existing timer is kept if it is still pending and will run before the next queue is released
+                long pending = timeoutTask == null ? 0 : timeoutTask.getDelay(TimeUnit.MILLISECONDS);
+                if (pending <= 0 || pending > timeout) {
+                    if (timeoutTask != null) {
+                        timeoutTask.cancel(false);
+                    }
+                    startRequeueTimer(timeout);
                 }
             }
+        }
+    }
 
-            if (timeout > 0) {
-                startRequeueTimer(timeout);
-            }
+    /**
+     * Gets the timeout for a transaction sent from the queue. This is derived from the round trip time measured for the
+     * queue. If the round trip time has not yet been measured for a node, the estimate for all nodes of the same type is
+     * used, increased by the backoff from failures on the queue so that a slow node is not held to the timeout of
+     * faster nodes. Failures are not recorded in the shared estimators, as they would increase the timeout for all
+     * nodes.
+     *
+     * @param queue the {@link ZigBeeTransactionQueue} the transaction is sent from
+     * @return the timeout in milliseconds
+     */
+    private int getRetryTimeout(ZigBeeTransactionQueue queue) {
+        if (queue == broadcastQueue || queue == multicastQueue) {
+            return queue.getRetryTimeout();
         }
+        return queue.getRetryTimeout(queue.isSleepy() ? sleepyRoundTripEstimator : mainsRoundTripEstimator);
     }
 
     /**
@@ -726,6 +1223,11 @@ public class ZigBeeTransactionManager implements ZigBeeNetworkNodeListener {
         }
 
         if (setQueueType(node, queue)) {
+            // Reschedule the queue in the priority class for its new type
+            synchronized (this) {
+                scheduler.remove(queue);
+                scheduler.schedule(queue);
+            }
             synchronized (outstandingTransactions) {
                 int sleepyCnt = 0;
                 // The queue type changed - resync the sleepyTransactions counter
@@ -13,6 +13,7 @@ package com.zsmartsystems.zigbee.transaction;
  * <li>Outstanding transactions
  * <li>Inter-transaction delay
  * <li>Retries
+ * <li>Retry timeout limits
  * <li>Duplicate removal
  * </ul>
  *
@@ -23,6 +24,8 @@ public class ZigBeeTransactionProfile {
     private static final int RETRIES = 3;
     private static final int TRANSACTIONS = 2;
     private static final int DELAY = 50;
+    private static final int MIN_RETRY_TIMEOUT = 2000;
+    private static final int MAX_RETRY_TIMEOUT = 10000;
 
     /**
      * The maximum number of outstanding transactions the queue will have outstanding.
@@ -39,6 +42,17 @@ public class ZigBeeTransactionProfile {
      */
     private int maxRetries;
 
+    /**
+     * The minimum retry timeout that may be derived from the measured round trip time
+     */
+    private int minRetryTimeout = MIN_RETRY_TIMEOUT;
+
+    /**
+     * The maximum retry timeout that may be derived from the measured round trip time. This is also used as the
+     * timeout until the round trip time has been measured.
+     */
+    private int maxRetryTimeout = MAX_RETRY_TIMEOUT;
+
     /**
      * Constructs a {@link ZigBeeTransactionProfile}
      */
@@ -117,9 +131,48 @@ public class ZigBeeTransactionProfile {
         this.maxRetries = maxRetries;
     }
 
+    /**
+     * Gets the minimum retry timeout. The timeout derived from the measured round trip time will not be less than this.
+     *
+     * @return the minimum retry timeout in milliseconds
+     */
+    public int getMinRetryTimeout() {
+        return minRetryTimeout;
+    }
+
+    /**
+     * Sets the minimum retry timeout. The timeout derived from the measured round trip time will not be less than this.
+     *
+     * @param minRetryTimeout the minimum retry timeout in milliseconds
+     */
+    public void setMinRetryTimeout(int minRetryTimeout) {
+        this.minRetryTimeout = minRetryTimeout;
+    }
+
+    /**
+     * Gets the maximum retry timeout. The timeout derived from the measured round trip time will not exceed this, and
+     * it is used as the timeout until the round trip time has been measured.
+     *
+     * @return the maximum retry timeout in milliseconds
+     */
+    public int getMaxRetryTimeout() {
+        return maxRetryTimeout;
+    }
+
+    /**
+     * Sets the maximum retry timeout. The timeout derived from the measured round trip time will not exceed this, and
+     * it is used as the timeout until the round trip time has been measured.
+     *
+     * @param maxRetryTimeout the maximum retry timeout in milliseconds
+     */
+    public void setMaxRetryTimeout(int maxRetryTimeout) {
+        this.maxRetryTimeout = maxRetryTimeout;
+    }
+
     @Override
     public String toString() {
         return "ZigBeeTransactionProfile [maxOutstandingTransactions=" + maxOutstandingTransactions
-                + ", interTransactionDelay=" + interTransactionDelay + ", maxRetries=" + maxRetries + "]";
+                + ", interTransactionDelay=" + interTransactionDelay + ", maxRetries=" + maxRetries
+                + ", minRetryTimeout=" + minRetryTimeout + ", maxRetryTimeout=" + maxRetryTimeout + "]";
     }
 }
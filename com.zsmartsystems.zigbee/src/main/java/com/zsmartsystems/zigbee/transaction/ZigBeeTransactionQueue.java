@@ -27,9 +27,14 @@ import com.zsmartsystems.zigbee.transaction.ZigBeeTransaction.TransactionState;
  * the queue (and normally therefore, to a single device) to be limited. This may be used to manage broadcasts, where
  * only a limited number of broadcasts should be outstanding within a 7.6 second period, or it may be used to avoid
  * overloading a device with limited buffering.
- * <li>Duplicates: Duplicate commands may be removed, leaving only the most recent command in the queue.
+ * <li>Duplicates: A new transaction that duplicates a transaction waiting in the queue may be merged with the waiting
+ * transaction.
+ * <li>Superseding: If a {@link ZigBeeSupersedeKeyProvider} is set, a new transaction replaces any transaction waiting in
+ * the queue with the same supersede key. The replaced transaction completes with a superseded {@link CommandResult}.
  * <li>Inter-transaction delay: This may be used to set the minimum delay between any two transactions being sent. This
  * may be required to manage slow devices.
+ * <li>Retry timeout: The round trip time of transactions sent from the queue is measured, and used to derive the
+ * timeout for each transaction within the limits set in the profile.
  * </ul>
  * <p>
  * Normally a queue will be established for each device, or possibly for each type of transaction (eg broadcasts).
@@ -89,6 +94,17 @@ public class ZigBeeTransactionQueue {
      */
     private ZigBeeTransactionProfile profile = new ZigBeeTransactionProfile();
 
+    /**
+     * The round trip time estimate for transactions sent from this queue
+     */
+    private final ZigBeeRoundTripEstimator roundTripEstimator = new ZigBeeRoundTripEstimator();
+
+    /**
+     * The {@link ZigBeeSupersedeKeyProvider} used to find transactions superseded by a new transaction, or null if
+     * transactions are never superseded
+     */
+    private ZigBeeSupersedeKeyProvider supersedeKeyProvider;
+
     /**
      * Flag to remember if we have shut down this queue
      */
@@ -135,6 +151,25 @@ public class ZigBeeTransactionQueue {
         return profile;
     }
 
+    /**
+     * Sets the {@link ZigBeeSupersedeKeyProvider} for this queue. When set, a new transaction replaces any transaction
+     * waiting in the queue with the same supersede key.
+     *
+     * @param supersedeKeyProvider the {@link ZigBeeSupersedeKeyProvider}, or null to disable superseding
+     */
+    public void setSupersedeKeyProvider(ZigBeeSupersedeKeyProvider supersedeKeyProvider) {
+        this.supersedeKeyProvider = supersedeKeyProvider;
+    }
+
+    /**
+     * Gets the {@link ZigBeeSupersedeKeyProvider} for this queue
+     *
+     * @return the {@link ZigBeeSupersedeKeyProvider}, or null if superseding is disabled
+     */
+    public ZigBeeSupersedeKeyProvider getSupersedeKeyProvider() {
+        return supersedeKeyProvider;
+    }
+
     /**
      * Sets the queue for a sleepy or non-sleepy queue
      *
@@ -182,6 +217,13 @@ public class ZigBeeTransactionQueue {
         if (transaction.getSendCnt() == 0) {
             // Set the time the transaction is queued - for statistics and monitoring
             transaction.setQueueTime();
+            // Remove any waiting transaction that is superseded by this one
+            ZigBeeTransaction superseded = getSuperseded(transaction);
+            if (superseded != null) {
+                queue.remove(superseded);
+                logger.debug("{}: Transaction superseded by {}", queueName, transaction);
+                superseded.supersede();
+            }
             // First time sending this transaction - add to the end of the queue
             queue.add(transaction);
         } else {
@@ -216,6 +258,61 @@ public class ZigBeeTransactionQueue {
         return queue.poll();
     }
 
+    /**
+     * Gets a transaction waiting in the queue that duplicates the transaction
+     *
+     * @param transaction the {@link ZigBeeTransaction} to check
+     * @return the waiting {@link ZigBeeTransaction} that duplicates the transaction, or null if there is no duplicate
+     */
+    protected ZigBeeTransaction getDuplicate(ZigBeeTransaction transaction) {
+        for (ZigBeeTransaction queued : queue) {
+            if (queued.getSendCnt() == 0 && queued.isDuplicate(transaction)) {
+                return queued;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Gets a transaction waiting in the queue that would be superseded by the transaction. Transactions that have
+     * already been sent are never superseded.
+     *
+     * @param transaction the {@link ZigBeeTransaction} to check
+     * @return the waiting {@link ZigBeeTransaction} that would be superseded, or null if there is none
+     */
+    protected ZigBeeTransaction getSuperseded(ZigBeeTransaction transaction) {
+        if (supersedeKeyProvider == null) {
+            return null;
+        }
+        Object key = supersedeKeyProvider.getSupersedeKey(transaction.getCommand());
+        if (key == null) {
+            return null;
+        }
+        for (ZigBeeTransaction queued : queue) {
+            if (queued != transaction && queued.getSendCnt() == 0
+                    && key.equals(supersedeKeyProvider.getSupersedeKey(queued.getCommand()))) {
+                return queued;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Removes the oldest transaction waiting in the queue. The transaction is cancelled, and its future completes with
+     * a failed result.
+     *
+     * @return the {@link ZigBeeTransaction} that was removed, or null if the queue is empty
+     */
+    protected ZigBeeTransaction dropOldest() {
+        ZigBeeTransaction transaction = queue.poll();
+        if (transaction != null) {
+            logger.debug("{}: Dropped oldest transaction, len={}, transaction={}", queueName, queue.size(),
+                    transaction);
+            transaction.cancel();
+        }
+        return transaction;
+    }
+
     /**
      * Returns true if there are currently no transactions waiting to be sent
      *
@@ -225,6 +322,16 @@ public class ZigBeeTransactionQueue {
         return queue.isEmpty();
     }
 
+    /**
+     * Returns true if the queue has the maximum number of outstanding transactions allowed by its profile, and can not
+     * release another transaction until one completes
+     *
+     * @return true if the queue can not release transactions until an outstanding transaction completes
+     */
+    protected boolean isBlocked() {
+        return outstandingTransactions >= profile.getMaxOutstandingTransactions();
+    }
+
     /**
      * Gets the number of transactions waiting to be sent
      *
@@ -244,6 +351,56 @@ public class ZigBeeTransactionQueue {
         return delay < 0 ? 0 : delay;
     }
 
+    /**
+     * Gets the smoothed round trip time of transactions sent from this queue
+     *
+     * @return the smoothed round trip time in milliseconds, or 0 if no transactions have completed
+     */
+    public long getSmoothedRoundTripTime() {
+        return roundTripEstimator.getSmoothedRoundTripTime();
+    }
+
+    /**
+     * Gets the mean deviation of the round trip time of transactions sent from this queue
+     *
+     * @return the round trip time variance in milliseconds, or 0 if no transactions have completed
+     */
+    public long getRoundTripTimeVariance() {
+        return roundTripEstimator.getRoundTripTimeVariance();
+    }
+
+    /**
+     * Gets the number of round trip times that have been measured for transactions sent from this queue
+     *
+     * @return the number of round trip time samples
+     */
+    public int getRoundTripSampleCount() {
+        return roundTripEstimator.getSampleCount();
+    }
+
+    /**
+     * Gets the timeout to use for transactions sent from this queue. This is derived from the measured round trip time,
+     * within the limits set in the {@link ZigBeeTransactionProfile}.
+     *
+     * @return the retry timeout in milliseconds
+     */
+    public int getRetryTimeout() {
+        return roundTripEstimator.getRetryTimeout(profile.getMinRetryTimeout(), profile.getMaxRetryTimeout());
+    }
+
+    /**
+     * Gets the timeout to use for transactions sent from this queue. Until the round trip time has been measured for
+     * this queue, the estimate from the default estimator is used. Failures of transactions sent from this queue
+     * increase the timeout in either case.
+     *
+     * @param defaultEstimator the {@link ZigBeeRoundTripEstimator} to use until the round trip time is measured
+     * @return the retry timeout in milliseconds
+     */
+    public int getRetryTimeout(ZigBeeRoundTripEstimator defaultEstimator) {
+        return roundTripEstimator.getRetryTimeout(profile.getMinRetryTimeout(), profile.getMaxRetryTimeout(),
+                defaultEstimator);
+    }
+
     /**
      * Notification that a previously released transaction has been completed.
      * <p>
@@ -262,7 +419,13 @@ public class ZigBeeTransactionQueue {
             return;
         }
 
+        // Only transactions that were sent once are measured, as a response can't be matched to a retry
+        if (state == TransactionState.COMPLETE && transaction.getSendCnt() == 1) {
+            roundTripEstimator.addSample(transaction.getRoundTripTime());
+        }
+
         if (state == TransactionState.FAILED) {
+            roundTripEstimator.transactionFailed();
             if (transaction.getSendCnt() < profile.getMaxRetries()) {
                 // Transaction failed - requeue
                 addToQueue(transaction);
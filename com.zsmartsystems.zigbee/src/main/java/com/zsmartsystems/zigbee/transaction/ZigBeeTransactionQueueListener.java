@@ -0,0 +1,28 @@
+/**
+ * Copyright (c) 2016-2019 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.transaction;
+
+/**
+ * Listener to be notified when the number of transactions waiting in the {@link ZigBeeTransactionManager} queues
+ * crosses the high or low watermark. This allows applications to stop sending new transactions while the system is
+ * congested, rather than waiting for transactions to time out.
+ *
+ * @author agent
+ *
+ */
+public interface ZigBeeTransactionQueueListener {
+    /**
+     * Called when the number of waiting transactions rises to the high watermark, or falls to the low watermark after
+     * the high watermark has been reached.
+     *
+     * @param congested true if the high watermark has been reached, or false if the number of waiting transactions has
+     *            fallen to the low watermark
+     * @param queuedTransactions the number of transactions waiting to be sent
+     */
+    void transactionQueueCongestion(boolean congested, int queuedTransactions);
+}
@@ -0,0 +1,221 @@
+/**
+ * Copyright (c) 2016-2019 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.transaction;
+
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Schedules the {@link ZigBeeTransactionQueue}s that have transactions waiting to be sent, so that the
+ * {@link ZigBeeTransactionManager} can select the next queue to send from without polling every queue.
+ * <p>
+ * Each queue with transactions waiting is in one of the following states -:
+ * <ul>
+ * <li>Ready: the queue can release a transaction now. Ready queues are held in a FIFO for their priority class, and a
+ * queue that still has transactions after sending is added back to the tail, so the queues within a class are served
+ * in round robin order.
+ * <li>Delayed: the queue is waiting for its inter-transaction delay. Delayed queues are held in a priority queue ordered
+ * by their release time, and become ready once the release time has passed.
+ * <li>Blocked: the queue has the maximum number of outstanding transactions allowed by its profile. Blocked queues are
+ * not held by the scheduler - the manager schedules the queue again when one of its transactions completes.
+ * </ul>
+ * Ready queues are split into priority classes for mains powered and sleepy devices. The classes are served using
+ * deficit round robin - each class is allowed to send a number of transactions set by its quantum in each round, and a
+ * class with no ready queues does not accumulate credit. Sleepy queues are skipped without losing their place while
+ * the maximum number of sleepy transactions are outstanding, so that mains powered devices are never held behind sleepy
+ * devices.
+ * <p>
+ * All operations are O(log n) or better in the number of queues. This class is not thread safe - all methods must be
+ * called with the {@link ZigBeeTransactionManager} locked.
+ *
+ * @author agent
+ *
+ */
+public class ZigBeeTransactionScheduler {
+    /**
+     * The number of transactions the mains powered class may send in each round
+     */
+    private static final int MAINS_QUANTUM = 4;
+
+    /**
+     * The number of transactions the sleepy class may send in each round
+     */
+    private static final int SLEEPY_QUANTUM = 1;
+
+    private final PriorityClass mainsClass = new PriorityClass(MAINS_QUANTUM);
+    private final PriorityClass sleepyClass = new PriorityClass(SLEEPY_QUANTUM);
+    private final PriorityClass[] priorityClasses = new PriorityClass[] { mainsClass, sleepyClass };
+
+    /**
+     * The index of the priority class currently being served
+     */
+    private int currentClass = 0;
+
+    /**
+     * Delayed queues, ordered by the time they may release their next transaction
+     */
+    private final PriorityQueue<ScheduledQueue> delayedQueues = new PriorityQueue<>(11,
+            new Comparator<ScheduledQueue>() {
+                @Override
+                public int compare(ScheduledQueue queue1, ScheduledQueue queue2) {
+                    return Long.compare(queue1.releaseTime, queue2.releaseTime);
+                }
+            });
+
+    /**
+     * The current scheduling entry for each queue that is ready or delayed. Entries in the ready FIFOs or the delayed
+     * queue that are not in this map are stale and are discarded when they are reached.
+     */
+    private final Map<ZigBeeTransactionQueue, ScheduledQueue> scheduledQueues = new IdentityHashMap<>();
+
+    /**
+     * Schedules a queue. This must be called when transactions are added to the queue, after a transaction is taken
+     * from the queue, and when a transaction from the queue completes. Queues that are already scheduled are not
+     * changed.
+     *
+     * @param queue the {@link ZigBeeTransactionQueue} to schedule
+     */
+    protected void schedule(ZigBeeTransactionQueue queue) {
+        if (scheduledQueues.containsKey(queue) || queue.isEmpty() || queue.isBlocked()) {
+            return;
+        }
+
+        long delay = queue.getNextReleaseTime();
+        if (delay > 0) {
+            ScheduledQueue scheduled = new ScheduledQueue(queue, System.currentTimeMillis() + delay);
+            scheduledQueues.put(queue, scheduled);
+            delayedQueues.add(scheduled);
+        } else {
+            ScheduledQueue scheduled = new ScheduledQueue(queue, 0);
+            scheduledQueues.put(queue, scheduled);
+            (queue.isSleepy() ? sleepyClass : mainsClass).ready.add(scheduled);
+        }
+    }
+
+    /**
+     * Removes a queue from the scheduler. This is used when the queue is shut down, or the queue type changes.
+     *
+     * @param queue the {@link ZigBeeTransactionQueue} to remove
+     */
+    protected void remove(ZigBeeTransactionQueue queue) {
+        scheduledQueues.remove(queue);
+    }
+
+    /**
+     * Gets the next queue to send a transaction from. The queue is removed from the scheduler, and the caller must
+     * call {@link #schedule(ZigBeeTransactionQueue)} once the transaction has been taken from the queue.
+     *
+     * @param sleepyAvailable true if a transaction may be sent to a sleepy device
+     * @return the next {@link ZigBeeTransactionQueue} to send from, or null if no queue is ready
+     */
+    protected ZigBeeTransactionQueue getNextQueue(boolean sleepyAvailable) {
+        releaseDelayedQueues();
+
+        for (int cnt = 0; cnt <= priorityClasses.length; cnt++) {
+            PriorityClass priorityClass = priorityClasses[currentClass];
+            ScheduledQueue scheduled = null;
+            if (priorityClass != sleepyClass || sleepyAvailable) {
+                scheduled = priorityClass.peekReady();
+            }
+
+            if (scheduled == null) {
+                priorityClass.deficit = 0;
+            } else if (priorityClass.deficit > 0) {
+                priorityClass.deficit--;
+                priorityClass.ready.poll();
+                scheduledQueues.remove(scheduled.queue);
+                return scheduled.queue;
+            }
+
+            currentClass = (currentClass + 1) % priorityClasses.length;
+            priorityClasses[currentClass].deficit += priorityClasses[currentClass].quantum;
+        }
+
+        return null;
+    }
+
+    /**
+     * Gets the number of milliseconds until the next delayed queue may release a transaction
+     *
+     * @return the number of milliseconds until a delayed queue is ready, or {@link Long#MAX_VALUE} if no queues are
+     *         delayed
+     */
+    protected long getNextReleaseTime() {
+        ScheduledQueue scheduled = peekDelayed();
+        if (scheduled == null) {
+            return Long.MAX_VALUE;
+        }
+        return scheduled.queue.getNextReleaseTime();
+    }
+
+    /**
+     * Gets the number of queues that are ready or delayed
+     *
+     * @return the number of scheduled queues
+     */
+    protected int size() {
+        return scheduledQueues.size();
+    }
+
+    private void releaseDelayedQueues() {
+        long now = System.currentTimeMillis();
+        ScheduledQueue scheduled;
+        while ((scheduled = peekDelayed()) != null && scheduled.releaseTime <= now) {
+            delayedQueues.poll();
+            scheduledQueues.remove(scheduled.queue);
+            schedule(scheduled.queue);
+        }
+    }
+
+    private ScheduledQueue peekDelayed() {
+        ScheduledQueue scheduled;
+        while ((scheduled = delayedQueues.peek()) != null && scheduledQueues.get(scheduled.queue) != scheduled) {
+            delayedQueues.poll();
+        }
+        return scheduled;
+    }
+
+    /**
+     * The scheduling entry for a queue
+     */
+    private class ScheduledQueue {
+        private final ZigBeeTransactionQueue queue;
+        private final long releaseTime;
+
+        ScheduledQueue(ZigBeeTransactionQueue queue, long releaseTime) {
+            this.queue = queue;
+            this.releaseTime = releaseTime;
+        }
+    }
+
+    /**
+     * The ready queues for a priority class
+     */
+    private class PriorityClass {
+        private final Deque<ScheduledQueue> ready = new ArrayDeque<>();
+        private final int quantum;
+        private int deficit;
+
+        PriorityClass(int quantum) {
+            this.quantum = quantum;
+            this.deficit = quantum;
+        }
+
+        private ScheduledQueue peekReady() {
+            ScheduledQueue scheduled;
+            while ((scheduled = ready.peek()) != null && scheduledQueues.get(scheduled.queue) != scheduled) {
+                ready.poll();
+            }
+            return scheduled;
+        }
+    }
+}
@@ -58,6 +58,22 @@ public interface ZigBeePort {
      */
     void write(int value);
 
+    /**
+     * Write a block of data bytes to the serial port. This should be non-blocking.
+     * <p>
+     * Implementations should override this to write the block to the underlying port in a single operation. The
+     * default implementation writes each byte with {@link #write(int)}.
+     *
+     * @param bytes the data to write
+     * @param offset the offset of the first byte to write
+     * @param length the number of bytes to write
+     */
+    default void write(byte[] bytes, int offset, int length) {
+        for (int cnt = offset; cnt < offset + length; cnt++) {
+            write(bytes[cnt] & 0xFF);
+        }
+    }
+
     /**
      * Read a value from the port. This should block until a byte is available.
      *
@@ -73,6 +89,31 @@ public interface ZigBeePort {
      */
     int read(int timeout);
 
+    /**
+     * Read a block of data from the port. This will block until at least one byte is available or the timeout period
+     * is reached, and will then return the data currently available, up to the requested length.
+     * <p>
+     * Implementations should override this to read all available data in a single operation. The default
+     * implementation reads a single byte with {@link #read(int)}.
+     *
+     * @param bytes the buffer into which the data is read
+     * @param offset the offset in the buffer at which to start writing data
+     * @param length the maximum number of bytes to read
+     * @param timeout the timeout in milliseconds to wait. If no data is received, -1 is returned.
+     * @return the number of bytes read, or -1 if no data was received
+     */
+    default int read(byte[] bytes, int offset, int length, int timeout) {
+        if (length == 0) {
+            return 0;
+        }
+        int value = read(timeout);
+        if (value == -1) {
+            return -1;
+        }
+        bytes[offset] = (byte) value;
+        return 1;
+    }
+
     /**
      * Purge all data currently in the receive buffer
      */
@@ -221,4 +221,15 @@ public interface ZigBeeTransportTransmit {
      */
     default void setDefaultDeviceId(int defaultDeviceId) {
     }
+
+    /**
+     * Sets the {@link ZigBeeWireTrace} used to record the raw frames exchanged with the NCP. Setting this to null
+     * disables tracing. Transports that do not support wire tracing will ignore this.
+     * <p>
+     * This should be set before calling the {@link #initialize} method.
+     *
+     * @param wireTrace the {@link ZigBeeWireTrace} to record frames, or null to disable tracing
+     */
+    default void setWireTrace(ZigBeeWireTrace wireTrace) {
+    }
 }
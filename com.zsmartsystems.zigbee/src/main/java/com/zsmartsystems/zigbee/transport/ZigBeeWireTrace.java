@@ -0,0 +1,313 @@
+/**
+ * Copyright (c) 2016-2019 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.transport;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Records the raw frames exchanged between a dongle frame handler and the NCP. Frames are held in binary form in a
+ * fixed size ring buffer along with a timestamp and the direction, so the oldest frames are discarded once the buffer
+ * is full. No formatting is performed when a frame is recorded - the buffer can be dumped on demand with
+ * {@link #dump(OutputStream)}, and frames can also be streamed to an {@link OutputStream} as they are recorded with
+ * {@link #setOutputStream(OutputStream)}.
+ * <p>
+ * Output is written in the libpcap file format using the {@link #PCAP_LINKTYPE_USER0} link type. Each packet starts
+ * with a single byte defining the direction ({@link #DIRECTION_RX} or {@link #DIRECTION_TX}) followed by the frame.
+ * <p>
+ * Frame handlers should only call the trace methods when a {@link ZigBeeWireTrace} has been set so that there is no
+ * overhead when tracing is disabled.
+ *
+ * @author agent
+ *
+ */
+public class ZigBeeWireTrace {
+    /**
+     * The logger.
+     */
+    private final Logger logger = LoggerFactory.getLogger(ZigBeeWireTrace.class);
+
+    /**
+     * Direction byte used for frames received from the NCP
+     */
+    public static final int DIRECTION_RX = 0;
+
+    /**
+     * Direction byte used for frames sent to the NCP
+     */
+    public static final int DIRECTION_TX = 1;
+
+    /**
+     * The pcap link type used for the output - this is reserved for private use
+     */
+    public static final int PCAP_LINKTYPE_USER0 = 147;
+
+    private static final int PCAP_MAGIC = 0xA1B2C3D4;
+    private static final int PCAP_VERSION_MAJOR = 2;
+    private static final int PCAP_VERSION_MINOR = 4;
+    private static final int PCAP_SNAPLEN = 0xFFFF;
+    private static final int PCAP_HEADER_LENGTH = 24;
+    private static final int PCAP_RECORD_HEADER_LENGTH = 16;
+
+    /**
+     * The default size of the ring buffer in bytes
+     */
+    private static final int DEFAULT_BUFFER_SIZE = 65536;
+
+    /**
+     * Each record in the ring buffer starts with the timestamp (8 bytes), the direction (1 byte) and the length (2
+     * bytes)
+     */
+    private static final int RECORD_HEADER_LENGTH = 11;
+
+    /**
+     * The maximum length of a single frame. Longer frames are truncated.
+     */
+    private static final int MAX_FRAME_LENGTH = PCAP_SNAPLEN - 1;
+
+    /**
+     * The ring buffer
+     */
+    private final byte[] buffer;
+
+    /**
+     * The position of the oldest record in the ring buffer
+     */
+    private int start = 0;
+
+    /**
+     * The number of bytes used in the ring buffer
+     */
+    private int used = 0;
+
+    /**
+     * The number of records in the ring buffer
+     */
+    private int recordCount = 0;
+
+    /**
+     * The stream to write frames to as they are recorded, or null if frames are only recorded in the ring buffer
+     */
+    private OutputStream outputStream;
+
+    /**
+     * Creates a {@link ZigBeeWireTrace} with the default buffer size
+     */
+    public ZigBeeWireTrace() {
+        this(DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Creates a {@link ZigBeeWireTrace} with the specified buffer size
+     *
+     * @param bufferSize the size of the ring buffer in bytes
+     */
+    public ZigBeeWireTrace(int bufferSize) {
+        if (bufferSize <= RECORD_HEADER_LENGTH) {
+            throw new IllegalArgumentException("Buffer size must be greater than " + RECORD_HEADER_LENGTH);
+        }
+        buffer = new byte[bufferSize];
+    }
+
+    /**
+     * Records a frame sent to the NCP
+     *
+     * @param frame the frame data
+     */
+    public void traceTx(int[] frame) {
+        trace(DIRECTION_TX, frame, 0, frame.length);
+    }
+
+    /**
+     * Records a frame sent to the NCP
+     *
+     * @param frame the frame data
+     * @param offset the offset of the first byte of the frame
+     * @param length the number of bytes in the frame
+     */
+    public void traceTx(int[] frame, int offset, int length) {
+        trace(DIRECTION_TX, frame, offset, length);
+    }
+
+    /**
+     * Records a frame received from the NCP
+     *
+     * @param frame the frame data
+     */
+    public void traceRx(int[] frame) {
+        trace(DIRECTION_RX, frame, 0, frame.length);
+    }
+
+    /**
+     * Records a frame received from the NCP
+     *
+     * @param frame the frame data
+     * @param offset the offset of the first byte of the frame
+     * @param length the number of bytes in the frame
+     */
+    public void traceRx(int[] frame, int offset, int length) {
+        trace(DIRECTION_RX, frame, offset, length);
+    }
+
+    private synchronized void trace(int direction, int[] frame, int offset, int length) {
+        long timestamp = System.currentTimeMillis();
+        length = Math.min(length, MAX_FRAME_LENGTH);
+
+        int recordLength = RECORD_HEADER_LENGTH + length;
+        if (recordLength <= buffer.length) {
+            while (buffer.length - used < recordLength) {
+                discardOldest();
+            }
+
+            int position = (start + used) % buffer.length;
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                position = put(position, (int) (timestamp >> shift));
+            }
+            position = put(position, direction);
+            position = put(position, length >> 8);
+            position = put(position, length);
+            for (int cnt = 0; cnt < length; cnt++) {
+                position = put(position, frame[offset + cnt]);
+            }
+            used += recordLength;
+            recordCount++;
+        }
+
+        if (outputStream != null) {
+            byte[] data = new byte[length];
+            for (int cnt = 0; cnt < length; cnt++) {
+                data[cnt] = (byte) frame[offset + cnt];
+            }
+            try {
+                writeRecord(outputStream, timestamp, direction, data);
+            } catch (IOException e) {
+                logger.debug("Error writing wire trace - streaming stopped", e);
+                outputStream = null;
+            }
+        }
+    }
+
+    /**
+     * Sets the {@link OutputStream} to which frames are written as they are recorded. The pcap file header is written
+     * immediately. Setting the stream to null stops streaming - the previous stream is flushed, but is not closed.
+     *
+     * @param outputStream the {@link OutputStream} to write frames to, or null to stop streaming
+     * @throws IOException if there is an error writing the file header
+     */
+    public synchronized void setOutputStream(OutputStream outputStream) throws IOException {
+        if (this.outputStream != null) {
+            this.outputStream.flush();
+        }
+        this.outputStream = null;
+        if (outputStream != null) {
+            writeHeader(outputStream);
+            this.outputStream = outputStream;
+        }
+    }
+
+    /**
+     * Writes the frames currently held in the ring buffer to the {@link OutputStream} in pcap format, oldest first.
+     * The ring buffer is not cleared.
+     *
+     * @param outputStream the {@link OutputStream} to write to
+     * @throws IOException if there is an error writing to the stream
+     */
+    public synchronized void dump(OutputStream outputStream) throws IOException {
+        writeHeader(outputStream);
+
+        int position = start;
+        for (int record = 0; record < recordCount; record++) {
+            long timestamp = 0;
+            for (int cnt = 0; cnt < 8; cnt++) {
+                timestamp = (timestamp << 8) | get(position);
+                position = (position + 1) % buffer.length;
+            }
+            int direction = get(position);
+            int length = (get(position + 1) << 8) | get(position + 2);
+            position = (position + 3) % buffer.length;
+
+            byte[] data = new byte[length];
+            for (int cnt = 0; cnt < length; cnt++) {
+                data[cnt] = buffer[position];
+                position = (position + 1) % buffer.length;
+            }
+            writeRecord(outputStream, timestamp, direction, data);
+        }
+        outputStream.flush();
+    }
+
+    /**
+     * Gets the number of frames currently held in the ring buffer
+     *
+     * @return the number of frames in the ring buffer
+     */
+    public synchronized int getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * Removes all frames from the ring buffer
+     */
+    public synchronized void clear() {
+        start = 0;
+        used = 0;
+        recordCount = 0;
+    }
+
+    private void discardOldest() {
+        int length = (get(start + 9) << 8) | get(start + 10);
+        int recordLength = RECORD_HEADER_LENGTH + length;
+        start = (start + recordLength) % buffer.length;
+        used -= recordLength;
+        recordCount--;
+    }
+
+    private int put(int position, int value) {
+        buffer[position] = (byte) value;
+        return (position + 1) % buffer.length;
+    }
+
+    private int get(int position) {
+        return buffer[position % buffer.length] & 0xFF;
+    }
+
+    private void writeHeader(OutputStream outputStream) throws IOException {
+        byte[] header = new byte[PCAP_HEADER_LENGTH];
+        putInt(header, 0, PCAP_MAGIC);
+        header[4] = 0;
+        header[5] = PCAP_VERSION_MAJOR;
+        header[6] = 0;
+        header[7] = PCAP_VERSION_MINOR;
+        // Timezone offset and timestamp accuracy are left as 0
+        putInt(header, 16, PCAP_SNAPLEN);
+        putInt(header, 20, PCAP_LINKTYPE_USER0);
+        outputStream.write(header);
+    }
+
+    private void writeRecord(OutputStream outputStream, long timestamp, int direction, byte[] data)
+            throws IOException {
+        byte[] record = new byte[PCAP_RECORD_HEADER_LENGTH + 1 + data.length];
+        putInt(record, 0, (int) (timestamp / 1000));
+        putInt(record, 4, (int) (timestamp % 1000) * 1000);
+        putInt(record, 8, data.length + 1);
+        putInt(record, 12, data.length + 1);
+        record[PCAP_RECORD_HEADER_LENGTH] = (byte) direction;
+        System.arraycopy(data, 0, record, PCAP_RECORD_HEADER_LENGTH + 1, data.length);
+        outputStream.write(record);
+    }
+
+    private void putInt(byte[] data, int offset, int value) {
+        data[offset] = (byte) (value >> 24);
+        data[offset + 1] = (byte) (value >> 16);
+        data[offset + 2] = (byte) (value >> 8);
+        data[offset + 3] = (byte) value;
+    }
+}
@@ -28,47 +28,15 @@ public class ZclAttribute {
     private ZclCluster cluster;
 
     /**
-     * The attribute identifier field is 16-bits in length and shall contain the
-     * identifier of the attribute that the reporting configuration details
-     * apply to.
+     * The static definition of this attribute. This may be shared with other instances of the same cluster.
      */
-    private int id;
-
-    /**
-     * Stores the name of this attribute;
-     */
-    private String name;
-
-    /**
-     * Defines the ZigBee data type.
-     */
-    private ZclDataType dataType;
-
-    /**
-     * Defines if this attribute is mandatory to be implemented
-     */
-    private boolean mandatory;
+    private ZclAttributeDefinition definition;
 
     /**
      * Defines if the attribute is implemented by the device
      */
     private boolean implemented;
 
-    /**
-     * True if this attribute is readable
-     */
-    private boolean readable;
-
-    /**
-     * True if this attribute is writable
-     */
-    private boolean writable;
-
-    /**
-     * True if this attribute is reportable
-     */
-    private boolean reportable;
-
     /**
      * The minimum reporting interval field is 16-bits in length and shall
      * contain the minimum interval, in seconds, between issuing reports for the
@@ -105,11 +73,6 @@ public class ZclAttribute {
      */
     private int reportingTimeout;
 
-    /**
-     * The manufacturer code of this attribute. If null, the attribute is not manufacturer-specific.
-     */
-    private Integer manufacturerCode;
-
     /**
      * Records the last time a report was received
      */
@@ -120,6 +83,11 @@ public class ZclAttribute {
      */
     private Object lastValue;
 
+    /**
+     * Records if the attribute has changed since the last {@link ZclAttributeDao} was created
+     */
+    private volatile boolean dirty;
+
     /**
      * Default constructor
      */
@@ -141,13 +109,7 @@ public class ZclAttribute {
     public ZclAttribute(final ZclCluster cluster, final int id, final String name, final ZclDataType dataType,
             final boolean mandatory, final boolean readable, final boolean writable, final boolean reportable) {
         this.cluster = cluster;
-        this.id = id;
-        this.name = name;
-        this.dataType = dataType;
-        this.mandatory = mandatory;
-        this.readable = readable;
-        this.writable = writable;
-        this.reportable = reportable;
+        this.definition = new ZclAttributeDefinition(id, name, dataType, mandatory, readable, writable, reportable);
     }
 
     /**
@@ -167,14 +129,28 @@ public class ZclAttribute {
             final boolean mandatory, final boolean readable, final boolean writable, final boolean reportable,
             final int manufacturerCode) {
         this.cluster = cluster;
-        this.id = id;
-        this.name = name;
-        this.dataType = dataType;
-        this.mandatory = mandatory;
-        this.readable = readable;
-        this.writable = writable;
-        this.reportable = reportable;
-        this.manufacturerCode = manufacturerCode;
+        this.definition = new ZclAttributeDefinition(id, name, dataType, mandatory, readable, writable, reportable,
+                manufacturerCode);
+    }
+
+    /**
+     * Constructor used to create the attribute from a shared {@link ZclAttributeDefinition}
+     *
+     * @param cluster the {@link ZclCluster} to which the attribute belongs
+     * @param definition the {@link ZclAttributeDefinition} defining the static information for the attribute
+     */
+    public ZclAttribute(final ZclCluster cluster, final ZclAttributeDefinition definition) {
+        this.cluster = cluster;
+        this.definition = definition;
+    }
+
+    /**
+     * Gets the {@link ZclAttributeDefinition} holding the static information for this attribute
+     *
+     * @return the {@link ZclAttributeDefinition} for this attribute
+     */
+    public ZclAttributeDefinition getDefinition() {
+        return definition;
     }
 
     /**
@@ -190,7 +166,7 @@ public class ZclAttribute {
             return getLastValue();
         }
 
-        return cluster.readAttributeValue(id);
+        return cluster.readAttributeValue(definition.getId());
     }
 
     /**
@@ -200,7 +176,7 @@ public class ZclAttribute {
      * @return command future {@link CommandResult}
      */
     public Future<CommandResult> writeValue(Object value) {
-        return cluster.writeAttribute(id, dataType, value);
+        return cluster.writeAttribute(definition.getId(), definition.getDataType(), value);
     }
 
     /**
@@ -227,7 +203,7 @@ public class ZclAttribute {
      * @return the attribute ID
      */
     public int getId() {
-        return id;
+        return definition.getId();
     }
 
     /**
@@ -240,7 +216,7 @@ public class ZclAttribute {
      * @return true if the attribute must be implemented
      */
     public boolean isMandatory() {
-        return mandatory;
+        return definition.isMandatory();
     }
 
     /**
@@ -258,7 +234,7 @@ public class ZclAttribute {
      * @return true if the attribute is readable
      */
     public boolean isReadable() {
-        return readable;
+        return definition.isReadable();
     }
 
     /**
@@ -267,7 +243,7 @@ public class ZclAttribute {
      * @return true if the attribute is writable
      */
     public boolean isWritable() {
-        return writable;
+        return definition.isWritable();
     }
 
     /**
@@ -276,7 +252,7 @@ public class ZclAttribute {
      * @return true if the attribute is reportable
      */
     public boolean isReportable() {
-        return reportable;
+        return definition.isReportable();
     }
 
     /**
@@ -285,6 +261,9 @@ public class ZclAttribute {
      * @param implemented true if the attribute is implemented
      */
     public void setImplemented(boolean implemented) {
+        if (this.implemented != implemented) {
+            dirty = true;
+        }
         this.implemented = implemented;
     }
 
@@ -294,7 +273,7 @@ public class ZclAttribute {
      * @return the {@link ZigBeeType} of this attribute
      */
     public ZclDataType getDataType() {
-        return dataType;
+        return definition.getDataType();
     }
 
     /**
@@ -359,14 +338,14 @@ public class ZclAttribute {
      * @return whether this is a manufacturer-specific attribute
      */
     public boolean isManufacturerSpecific() {
-        return manufacturerCode != null;
+        return definition.getManufacturerCode() != null;
     }
 
     /**
      * @return the manufacturer code of this attribute (null for attributes that are not manufacturer-specific)
      */
     public Integer getManufacturerCode() {
-        return manufacturerCode;
+        return definition.getManufacturerCode();
     }
 
     /**
@@ -418,7 +397,7 @@ public class ZclAttribute {
      */
     public Future<CommandResult> setReporting(final int minInterval, final int maxInterval,
             final Object reportableChange) {
-        return cluster.setReporting(id, minInterval, maxInterval, reportableChange);
+        return cluster.setReporting(definition.getId(), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -443,7 +422,7 @@ public class ZclAttribute {
      * @return command future {@link CommandResult}
      */
     public Future<CommandResult> setReporting(final int minInterval, final int maxInterval) {
-        return cluster.setReporting(id, minInterval, maxInterval);
+        return cluster.setReporting(definition.getId(), minInterval, maxInterval);
     }
 
     /**
@@ -472,7 +451,7 @@ public class ZclAttribute {
      * @return the name as {@link String}
      */
     public String getName() {
-        return name;
+        return definition.getName();
     }
 
     /**
@@ -483,6 +462,16 @@ public class ZclAttribute {
     public void updateValue(Object attributeValue) {
         lastValue = attributeValue;
         lastReportTime = Calendar.getInstance();
+        dirty = true;
+    }
+
+    /**
+     * Checks if the attribute has changed since the last call to {@link #getDao()}.
+     *
+     * @return true if the attribute state has changed and needs to be persisted
+     */
+    public boolean isDirty() {
+        return dirty;
     }
 
     @Override
@@ -492,11 +481,11 @@ public class ZclAttribute {
         builder.append("ZclAttribute [cluster=");
         builder.append(cluster.getClusterName());
         builder.append(", id=");
-        builder.append(id);
+        builder.append(definition.getId());
         builder.append(", name=");
-        builder.append(name);
+        builder.append(definition.getName());
         builder.append(", dataType=");
-        builder.append(dataType);
+        builder.append(definition.getDataType());
         builder.append(", lastValue=");
         builder.append(lastValue);
         if (lastReportTime != null) {
@@ -517,41 +506,47 @@ public class ZclAttribute {
      */
     public void setDao(ZclCluster cluster, ZclAttributeDao dao) {
         this.cluster = cluster;
-        id = dao.getId();
-        name = dao.getName();
-        dataType = dao.getDataType();
-        mandatory = dao.isMandatory();
+        definition = new ZclAttributeDefinition(dao.getId(), dao.getName(), dao.getDataType(), dao.isMandatory(),
+                dao.isReadable(), dao.isWritable(), dao.isReportable());
+
+        // Use the shared definition from the cluster if it is the same to avoid duplicating the static data
+        ZclAttributeDefinition sharedDefinition = cluster.getAttributeDefinition(dao.getId());
+        if (definition.equals(sharedDefinition)) {
+            definition = sharedDefinition;
+        }
         implemented = dao.isImplemented();
-        writable = dao.isWritable();
-        readable = dao.isReadable();
-        reportable = dao.isReportable();
         lastValue = dao.getLastValue();
         lastReportTime = dao.getLastReportTime();
         minimumReportingPeriod = dao.getMinimumReportingPeriod();
         maximumReportingPeriod = dao.getMaximumReportingPeriod();
         reportingChange = dao.getReportingChange();
         reportingTimeout = dao.getReportingTimeout();
+        dirty = false;
     }
 
     /**
      * Returns a Data Acquisition Object for this attribute. This is a clean class recording the state of the primary
      * fields of the attribute for persistence purposes.
+     * <p>
+     * Calling this method clears the dirty state of the attribute.
      *
      * @return the {@link ZclAttributeDao} from this {@link ZclAttribute}
      */
     public ZclAttributeDao getDao() {
+        // Clear the flag first so that an update while the DAO is being created is not lost
+        dirty = false;
         ZclAttributeDao dao = new ZclAttributeDao();
 
-        dao.setId(id);
-        dao.setDataType(dataType);
-        dao.setName(name);
-        dao.setMandatory(mandatory);
+        dao.setId(definition.getId());
+        dao.setDataType(definition.getDataType());
+        dao.setName(definition.getName());
+        dao.setMandatory(definition.isMandatory());
         dao.setImplemented(implemented);
         dao.setMinimumReportingPeriod(minimumReportingPeriod);
         dao.setMaximumReportingPeriod(maximumReportingPeriod);
-        dao.setReadable(readable);
-        dao.setWritable(writable);
-        dao.setReportable(reportable);
+        dao.setReadable(definition.isReadable());
+        dao.setWritable(definition.isWritable());
+        dao.setReportable(definition.isReportable());
         dao.setReportingChange(reportingChange);
         dao.setReportingTimeout(reportingTimeout);
         dao.setLastValue(lastValue);
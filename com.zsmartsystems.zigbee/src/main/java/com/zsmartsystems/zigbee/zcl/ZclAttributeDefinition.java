@@ -0,0 +1,200 @@
+/**
+ * Copyright (c) 2016-2019 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.zcl;
+
+import java.util.Objects;
+
+import com.zsmartsystems.zigbee.zcl.protocol.ZclDataType;
+
+/**
+ * Defines the static information of a Cluster Library Attribute - its identifier, name, data type and access flags.
+ * <p>
+ * This class is immutable so that a single definition can be shared by all instances of a cluster. The per-instance
+ * state such as the last value and reporting configuration is held in {@link ZclAttribute}.
+ *
+ * @author agent
+ *
+ */
+public class ZclAttributeDefinition {
+    /**
+     * The attribute identifier
+     */
+    private final int id;
+
+    /**
+     * Stores the name of this attribute;
+     */
+    private final String name;
+
+    /**
+     * Defines the ZigBee data type.
+     */
+    private final ZclDataType dataType;
+
+    /**
+     * Defines if this attribute is mandatory to be implemented
+     */
+    private final boolean mandatory;
+
+    /**
+     * True if this attribute is readable
+     */
+    private final boolean readable;
+
+    /**
+     * True if this attribute is writable
+     */
+    private final boolean writable;
+
+    /**
+     * True if this attribute is reportable
+     */
+    private final boolean reportable;
+
+    /**
+     * The manufacturer code of this attribute. If null, the attribute is not manufacturer-specific.
+     */
+    private final Integer manufacturerCode;
+
+    /**
+     * Constructor used to define a non-manufacturer-specific attribute
+     *
+     * @param id the attribute ID
+     * @param name the human readable name
+     * @param dataType the {@link ZclDataType} for this attribute
+     * @param mandatory true if this is defined as mandatory in the ZCL specification
+     * @param readable true if this is defined as readable in the ZCL specification
+     * @param writable true if this is defined as writable in the ZCL specification
+     * @param reportable true if this is defined as reportable in the ZCL specification
+     */
+    public ZclAttributeDefinition(final int id, final String name, final ZclDataType dataType,
+            final boolean mandatory, final boolean readable, final boolean writable, final boolean reportable) {
+        this(id, name, dataType, mandatory, readable, writable, reportable, null);
+    }
+
+    /**
+     * Constructor used to define an attribute
+     *
+     * @param id the attribute ID
+     * @param name the human readable name
+     * @param dataType the {@link ZclDataType} for this attribute
+     * @param mandatory true if this is defined as mandatory in the ZCL specification
+     * @param readable true if this is defined as readable in the ZCL specification
+     * @param writable true if this is defined as writable in the ZCL specification
+     * @param reportable true if this is defined as reportable in the ZCL specification
+     * @param manufacturerCode the code for the manufacturer specific attribute, or null if this is not manufacturer
+     *            specific
+     */
+    public ZclAttributeDefinition(final int id, final String name, final ZclDataType dataType,
+            final boolean mandatory, final boolean readable, final boolean writable, final boolean reportable,
+            final Integer manufacturerCode) {
+        this.id = id;
+        this.name = name;
+        this.dataType = dataType;
+        this.mandatory = mandatory;
+        this.readable = readable;
+        this.writable = writable;
+        this.reportable = reportable;
+        this.manufacturerCode = manufacturerCode;
+    }
+
+    /**
+     * Gets the attribute ID
+     *
+     * @return the attribute ID
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Gets the name of this attribute
+     *
+     * @return the name as {@link String}
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the {@link ZclDataType} of this attribute
+     *
+     * @return the {@link ZclDataType} of this attribute
+     */
+    public ZclDataType getDataType() {
+        return dataType;
+    }
+
+    /**
+     * Returns true if the implementation of this attribute in the cluster is mandatory as required by the ZigBee
+     * standard.
+     *
+     * @return true if the attribute must be implemented
+     */
+    public boolean isMandatory() {
+        return mandatory;
+    }
+
+    /**
+     * Returns true if this attribute is readable
+     *
+     * @return true if the attribute is readable
+     */
+    public boolean isReadable() {
+        return readable;
+    }
+
+    /**
+     * Returns true if this attribute is writable
+     *
+     * @return true if the attribute is writable
+     */
+    public boolean isWritable() {
+        return writable;
+    }
+
+    /**
+     * Returns true if this attribute is reportable
+     *
+     * @return true if the attribute is reportable
+     */
+    public boolean isReportable() {
+        return reportable;
+    }
+
+    /**
+     * @return the manufacturer code of this attribute (null for attributes that are not manufacturer-specific)
+     */
+    public Integer getManufacturerCode() {
+        return manufacturerCode;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, name, dataType, mandatory, readable, writable, reportable, manufacturerCode);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        ZclAttributeDefinition other = (ZclAttributeDefinition) obj;
+        return id == other.id && Objects.equals(name, other.name) && dataType == other.dataType
+                && mandatory == other.mandatory && readable == other.readable && writable == other.writable
+                && reportable == other.reportable && Objects.equals(manufacturerCode, other.manufacturerCode);
+    }
+
+    @Override
+    public String toString() {
+        return "ZclAttributeDefinition [id=" + id + ", name=" + name + ", dataType=" + dataType + "]";
+    }
+}
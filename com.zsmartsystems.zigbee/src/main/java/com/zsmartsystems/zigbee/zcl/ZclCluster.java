@@ -7,6 +7,7 @@
  */
 package com.zsmartsystems.zigbee.zcl;
 
+import java.lang.reflect.Constructor;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -18,6 +19,7 @@ import java.util.Set;
 import java.util.TreeSet;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
@@ -129,6 +131,12 @@ public abstract class ZclCluster {
      */
     private final Set<Integer> supportedCommandsGenerated = new HashSet<>();
 
+    /**
+     * Records if the supported attributes or commands have changed since the last {@link ZclClusterDao} was created.
+     * Changes to the attributes are recorded in each {@link ZclAttribute}.
+     */
+    private volatile boolean dirty;
+
     /**
      * Set of listeners to receive notifications when an attribute updates its value
      */
@@ -140,16 +148,20 @@ public abstract class ZclCluster {
     private final Set<ZclCommandListener> commandListeners = new CopyOnWriteArraySet<>();
 
     /**
-     * Map of client attributes supported by the cluster. This contains all attributes, even if they are not supported
-     * by the remote device. To check what attributes are supported by the remove device, us the
-     * {@link #discoverAttributes()} method followed by the {@link #getSupportedAttributes()} method.
+     * Map of client attributes instantiated in the cluster. Attributes defined in
+     * {@link #getClientAttributeDefinitions()} are only added to this map when they are first used, along with any
+     * attributes added with {@link #addAttributes(Set)} or {@link #addLocalAttributes(Set)}. To check what attributes
+     * are supported by the remove device, us the {@link #discoverAttributes()} method followed by the
+     * {@link #getSupportedAttributes()} method.
      */
     protected Map<Integer, ZclAttribute> clientAttributes = initializeClientAttributes();
 
     /**
-     * Map of server attributes supported by the cluster. This contains all attributes, even if they are not supported
-     * by the remote device. To check what attributes are supported by the remove device, us the
-     * {@link #discoverAttributes()} method followed by the {@link #getSupportedAttributes()} method.
+     * Map of server attributes instantiated in the cluster. Attributes defined in
+     * {@link #getServerAttributeDefinitions()} are only added to this map when they are first used, along with any
+     * attributes added with {@link #addAttributes(Set)} or {@link #addLocalAttributes(Set)}. To check what attributes
+     * are supported by the remove device, us the {@link #discoverAttributes()} method followed by the
+     * {@link #getSupportedAttributes()} method.
      */
     protected Map<Integer, ZclAttribute> serverAttributes = initializeServerAttributes();
 
@@ -170,6 +182,12 @@ public abstract class ZclCluster {
      */
     protected static Map<Integer, Class<? extends ZclCommand>> genericCommands = new HashMap<>();
 
+    /**
+     * Cache of the command constructors shared by all clusters. This avoids the reflective constructor lookup each time
+     * a command is received.
+     */
+    private static final Map<Class<?>, Constructor<? extends ZclCommand>> constructorCache = new ConcurrentHashMap<>();
+
     /**
      * Set of generic commands internally handled by this class
      */
@@ -226,20 +244,48 @@ public abstract class ZclCluster {
     }
 
     /**
-     * Abstract method called when the cluster starts to initialise the list of client attributes defined in this
-     * cluster by the cluster library
+     * Method called when the cluster starts to initialise the map of client attributes instantiated in this cluster.
+     * <p>
+     * Clusters should normally define their attributes in {@link #getClientAttributeDefinitions()} so that the
+     * attributes are only created when they are used. Any attributes returned here are always instantiated.
      *
-     * @return a {@link Map} of all attributes this cluster is known to support
+     * @return a {@link Map} of attributes to instantiate when the cluster is created
      */
-    protected abstract Map<Integer, ZclAttribute> initializeClientAttributes();
+    protected Map<Integer, ZclAttribute> initializeClientAttributes() {
+        return new ConcurrentSkipListMap<>();
+    }
 
     /**
-     * Abstract method called when the cluster starts to initialise the list of server attributes defined in this
-     * cluster by the cluster library
+     * Method called when the cluster starts to initialise the map of server attributes instantiated in this cluster.
+     * <p>
+     * Clusters should normally define their attributes in {@link #getServerAttributeDefinitions()} so that the
+     * attributes are only created when they are used. Any attributes returned here are always instantiated.
+     *
+     * @return a {@link Map} of attributes to instantiate when the cluster is created
+     */
+    protected Map<Integer, ZclAttribute> initializeServerAttributes() {
+        return new ConcurrentSkipListMap<>();
+    }
+
+    /**
+     * Gets the definitions of the client attributes defined in this cluster by the cluster library. The definitions
+     * are immutable, and should be shared by all instances of the cluster.
+     *
+     * @return a {@link Map} of all client attribute definitions this cluster is known to support
+     */
+    protected Map<Integer, ZclAttributeDefinition> getClientAttributeDefinitions() {
+        return Collections.emptyMap();
+    }
+
+    /**
+     * Gets the definitions of the server attributes defined in this cluster by the cluster library. The definitions
+     * are immutable, and should be shared by all instances of the cluster.
      *
-     * @return a {@link Map} of all attributes this cluster is known to support
+     * @return a {@link Map} of all server attribute definitions this cluster is known to support
      */
-    protected abstract Map<Integer, ZclAttribute> initializeServerAttributes();
+    protected Map<Integer, ZclAttributeDefinition> getServerAttributeDefinitions() {
+        return Collections.emptyMap();
+    }
 
     /**
      * Abstract method called when the cluster starts to initialise the list of server side commands defined in this
@@ -585,6 +631,23 @@ public abstract class ZclCluster {
      * @return {@link Set} containing all {@link ZclAttributes} available in this cluster
      */
     public Collection<ZclAttribute> getAttributes() {
+        if (isClient) {
+            return getAttributes(clientAttributes, getClientAttributeDefinitions());
+        } else {
+            return getAttributes(serverAttributes, getServerAttributeDefinitions());
+        }
+    }
+
+    /**
+     * Gets the attributes of this cluster that have been instantiated. Attributes are created from the cluster
+     * definitions when they are first used, so unlike {@link #getAttributes()} this does not include attributes that
+     * have never been used, and does not create them.
+     * <p>
+     * This will return either the list of client or server attributes, depending on the cluster.
+     *
+     * @return {@link Collection} containing the instantiated {@link ZclAttributes} in this cluster
+     */
+    public Collection<ZclAttribute> getInstantiatedAttributes() {
         if (isClient) {
             return Collections.unmodifiableCollection(clientAttributes.values());
         } else {
@@ -592,6 +655,22 @@ public abstract class ZclCluster {
         }
     }
 
+    /**
+     * Gets the definitions of all attributes defined for this cluster, even if they are not actually supported by
+     * the device. Getting the definitions does not create the attributes.
+     * <p>
+     * This will return either the list of client or server attribute definitions, depending on the cluster.
+     *
+     * @return {@link Collection} containing all {@link ZclAttributeDefinition}s defined in this cluster
+     */
+    public Collection<ZclAttributeDefinition> getAttributeDefinitions() {
+        if (isClient) {
+            return getClientAttributeDefinitions().values();
+        } else {
+            return getServerAttributeDefinitions().values();
+        }
+    }
+
     /**
      * Gets an attribute given the attribute ID
      *
@@ -600,9 +679,9 @@ public abstract class ZclCluster {
      */
     public ZclAttribute getAttribute(int attributeId) {
         if (isClient) {
-            return clientAttributes.get(attributeId);
+            return getAttribute(clientAttributes, getClientAttributeDefinitions(), attributeId);
         } else {
-            return serverAttributes.get(attributeId);
+            return getAttribute(serverAttributes, getServerAttributeDefinitions(), attributeId);
         }
     }
 
@@ -614,12 +693,83 @@ public abstract class ZclCluster {
      */
     public ZclAttribute getLocalAttribute(int attributeId) {
         if (isClient) {
-            return serverAttributes.get(attributeId);
+            return getAttribute(serverAttributes, getServerAttributeDefinitions(), attributeId);
+        } else {
+            return getAttribute(clientAttributes, getClientAttributeDefinitions(), attributeId);
+        }
+    }
+
+    /**
+     * Gets a server attribute given the attribute ID, irrespective of whether the remote device is a client or server
+     *
+     * @param attributeId the attribute ID
+     * @return the {@link ZclAttribute}
+     */
+    protected ZclAttribute getServerAttribute(int attributeId) {
+        return getAttribute(serverAttributes, getServerAttributeDefinitions(), attributeId);
+    }
+
+    /**
+     * Gets the definition of a remote attribute given the attribute ID
+     *
+     * @param attributeId the attribute ID
+     * @return the {@link ZclAttributeDefinition} or null if the attribute is not defined in this cluster
+     */
+    protected ZclAttributeDefinition getAttributeDefinition(int attributeId) {
+        if (isClient) {
+            return getClientAttributeDefinitions().get(attributeId);
         } else {
-            return clientAttributes.get(attributeId);
+            return getServerAttributeDefinitions().get(attributeId);
         }
     }
 
+    /**
+     * Gets an attribute from the instantiated attributes, creating it from the shared definition if it has not yet
+     * been used.
+     *
+     * @param attributes the {@link Map} of instantiated attributes
+     * @param definitions the {@link Map} of shared attribute definitions
+     * @param attributeId the attribute ID
+     * @return the {@link ZclAttribute} or null if the attribute is not known
+     */
+    private ZclAttribute getAttribute(Map<Integer, ZclAttribute> attributes,
+            Map<Integer, ZclAttributeDefinition> definitions, int attributeId) {
+        ZclAttribute attribute = attributes.get(attributeId);
+        if (attribute != null) {
+            return attribute;
+        }
+
+        ZclAttributeDefinition definition = definitions.get(attributeId);
+        if (definition == null) {
+            return null;
+        }
+
+        synchronized (attributes) {
+            attribute = attributes.get(attributeId);
+            if (attribute == null) {
+                attribute = new ZclAttribute(this, definition);
+                attributes.put(attributeId, attribute);
+            }
+        }
+        return attribute;
+    }
+
+    /**
+     * Gets all attributes from the instantiated attributes, first creating any defined attributes that have not yet
+     * been used.
+     *
+     * @param attributes the {@link Map} of instantiated attributes
+     * @param definitions the {@link Map} of shared attribute definitions
+     * @return {@link Collection} containing all the attributes
+     */
+    private Collection<ZclAttribute> getAttributes(Map<Integer, ZclAttribute> attributes,
+            Map<Integer, ZclAttributeDefinition> definitions) {
+        for (Integer attributeId : definitions.keySet()) {
+            getAttribute(attributes, definitions, attributeId);
+        }
+        return Collections.unmodifiableCollection(attributes.values());
+    }
+
     /**
      * Gets all the local attributes supported by this cluster This will return all attributes, even if they are not
      * actually supported by the device. The user should check to see if this is implemented.
@@ -629,6 +779,22 @@ public abstract class ZclCluster {
      * @return {@link Set} containing all local {@link ZclAttributes} available in this cluster
      */
     public Collection<ZclAttribute> getLocalAttributes() {
+        if (isClient) {
+            return getAttributes(serverAttributes, getServerAttributeDefinitions());
+        } else {
+            return getAttributes(clientAttributes, getClientAttributeDefinitions());
+        }
+    }
+
+    /**
+     * Gets the local attributes of this cluster that have been instantiated. As with
+     * {@link #getInstantiatedAttributes()}, attributes that have never been used are not included or created.
+     * <p>
+     * This will return either the list of client or server attributes, depending on the cluster.
+     *
+     * @return {@link Collection} containing the instantiated local {@link ZclAttributes} in this cluster
+     */
+    public Collection<ZclAttribute> getInstantiatedLocalAttributes() {
         if (isClient) {
             return Collections.unmodifiableCollection(serverAttributes.values());
         } else {
@@ -768,11 +934,15 @@ public abstract class ZclCluster {
     public Set<Integer> getSupportedAttributes() {
         synchronized (supportedAttributes) {
             if (!supportedAttributesKnown) {
+                Set<Integer> attributeIds = new TreeSet<>();
                 if (isClient) {
-                    return clientAttributes.keySet();
+                    attributeIds.addAll(getClientAttributeDefinitions().keySet());
+                    attributeIds.addAll(clientAttributes.keySet());
                 } else {
-                    return serverAttributes.keySet();
+                    attributeIds.addAll(getServerAttributeDefinitions().keySet());
+                    attributeIds.addAll(serverAttributes.keySet());
                 }
+                return Collections.unmodifiableSet(attributeIds);
             }
 
             return supportedAttributes;
@@ -869,8 +1039,9 @@ public abstract class ZclCluster {
                     } while (!complete);
 
                     supportedAttributes.clear();
-                    for (ZclAttribute attribute : getAttributes()) {
-                        // Set all remote attributes as unimplemented
+                    // Set all remote attributes as unimplemented.
+                    // Attributes that have not yet been instantiated are unimplemented by default.
+                    for (ZclAttribute attribute : (isClient ? clientAttributes : serverAttributes).values()) {
                         attribute.setImplemented(false);
                     }
                     for (AttributeInformation attributeInfo : attributes) {
@@ -883,6 +1054,7 @@ public abstract class ZclCluster {
                     }
                 }
                 supportedAttributesKnown = true;
+                dirty = true;
                 return true;
             }
         });
@@ -992,6 +1164,7 @@ public abstract class ZclCluster {
 
                     supportedCommandsReceived.clear();
                     supportedCommandsReceived.addAll(commands);
+                    dirty = true;
                 }
                 return true;
             }
@@ -1101,6 +1274,7 @@ public abstract class ZclCluster {
 
                     supportedCommandsGenerated.clear();
                     supportedCommandsGenerated.addAll(commands);
+                    dirty = true;
                 }
 
                 return true;
@@ -1141,7 +1315,7 @@ public abstract class ZclCluster {
      */
     private void notifyAttributeListener(final ZclAttribute attribute, final Object value) {
         for (final ZclAttributeListener listener : attributeListeners) {
-            NotificationService.execute(new Runnable() {
+            NotificationService.execute(listener, new Runnable() {
                 @Override
                 public void run() {
                     logger.trace("{}: ZclCluster.notifyAttributeListener {} of {} with value {}",
@@ -1194,7 +1368,7 @@ public abstract class ZclCluster {
         synchronized (commandListeners) {
             latch = new CountDownLatch(commandListeners.size());
             for (final ZclCommandListener listener : commandListeners) {
-                NotificationService.execute(new Runnable() {
+                NotificationService.execute(listener, new Runnable() {
                     @Override
                     public void run() {
                         logger.trace("{}: ZclCluster.notifyCommandListener {} of {}",
@@ -1237,24 +1411,17 @@ public abstract class ZclCluster {
      * @param command the {@link ReadAttributesCommand}
      */
     private void handleReadAttributes(ReadAttributesCommand command) {
-        Map<Integer, ZclAttribute> localAttributes;
-        if (isClient) {
-            localAttributes = serverAttributes;
-        } else {
-            localAttributes = clientAttributes;
-        }
-
         List<ReadAttributeStatusRecord> attributeRecords = new ArrayList<>();
         for (int attributeId : command.getIdentifiers()) {
             ReadAttributeStatusRecord record = new ReadAttributeStatusRecord();
             record.setAttributeIdentifier(attributeId);
 
-            if (localAttributes.containsKey(attributeId) && localAttributes.get(attributeId) != null
-                    && localAttributes.get(attributeId).isImplemented()) {
-                if (localAttributes.get(attributeId).getLastValue() != null) {
+            ZclAttribute attribute = getLocalAttribute(attributeId);
+            if (attribute != null && attribute.isImplemented()) {
+                if (attribute.getLastValue() != null) {
                     record.setStatus(ZclStatus.SUCCESS);
-                    record.setAttributeDataType(localAttributes.get(attributeId).getDataType());
-                    record.setAttributeValue(localAttributes.get(attributeId).getLastValue());
+                    record.setAttributeDataType(attribute.getDataType());
+                    record.setAttributeValue(attribute.getLastValue());
                 } else {
                     record.setStatus(ZclStatus.INVALID_VALUE);
                 }
@@ -1272,13 +1439,14 @@ public abstract class ZclCluster {
 
     /**
      * Process the {@link DiscoverAttributesCommand} to discover supported local attributes.
-     * This will return all local attributes that are marked as implemented.
+     * This will return all local attributes that are marked as implemented. Attributes that have never been used are
+     * not implemented, so only the attributes in use need to be checked.
      *
      * @param command the {@link DiscoverAttributesCommand} to respond to
      */
     private void handleDiscoverAttributes(DiscoverAttributesCommand command) {
         List<AttributeInformation> attributeInformation = new ArrayList<>();
-        for (ZclAttribute attribute : getLocalAttributes()) {
+        for (ZclAttribute attribute : getInstantiatedLocalAttributes()) {
             if (!attribute.isImplemented() || attribute.getId() < command.getStartAttributeIdentifier()) {
                 continue;
             }
@@ -1481,12 +1649,18 @@ public abstract class ZclCluster {
     }
 
     private ZclCommand getCommand(int commandId, Map<Integer, Class<? extends ZclCommand>> commands) {
-        if (!commands.containsKey(commandId)) {
+        Class<? extends ZclCommand> commandClass = commands.get(commandId);
+        if (commandClass == null) {
             return null;
         }
 
         try {
-            return commands.get(commandId).getConstructor().newInstance();
+            Constructor<? extends ZclCommand> constructor = constructorCache.get(commandClass);
+            if (constructor == null) {
+                constructor = commandClass.getConstructor();
+                constructorCache.put(commandClass, constructor);
+            }
+            return constructor.newInstance();
         } catch (Exception e) {
             logger.debug("Error instantiating cluster command {}, id={}", clusterName, commandId);
         }
@@ -1496,10 +1670,13 @@ public abstract class ZclCluster {
     /**
      * Returns a Data Acquisition Object for this cluster. This is a clean class recording the state of the primary
      * fields of the cluster for persistence purposes.
+     * <p>
+     * Calling this method clears the dirty state of the cluster and its attributes.
      *
      * @return the {@link ZclClusterDao}
      */
     public ZclClusterDao getDao() {
+        dirty = false;
         ZclClusterDao dao = new ZclClusterDao();
 
         dao.setClusterId(clusterId);
@@ -1524,6 +1701,57 @@ public abstract class ZclCluster {
         return dao;
     }
 
+    /**
+     * Checks if the cluster, or any of its attributes, has changed since the last call to {@link #getDao()} or
+     * {@link #getDeltaDao()}.
+     *
+     * @return true if the cluster state has changed and needs to be persisted
+     */
+    public boolean isDirty() {
+        if (dirty) {
+            return true;
+        }
+        for (ZclAttribute attribute : (isClient ? clientAttributes : serverAttributes).values()) {
+            if (attribute.isDirty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns a Data Acquisition Object containing only the state of the cluster that has changed since the last call
+     * to {@link #getDao()} or {@link #getDeltaDao()}. Only the attributes that have changed are included, and the
+     * supported attribute and command sets are only included (ie are not null) if they have changed.
+     * <p>
+     * Calling this method clears the dirty state of the cluster and its attributes.
+     *
+     * @return the {@link ZclClusterDao} containing the changes to the cluster
+     */
+    public ZclClusterDao getDeltaDao() {
+        ZclClusterDao dao = new ZclClusterDao();
+
+        dao.setClusterId(clusterId);
+        dao.setClient(isClient);
+        if (dirty) {
+            dirty = false;
+            if (supportedAttributesKnown) {
+                dao.setSupportedAttributes(Collections.unmodifiableSet(new TreeSet<>(supportedAttributes)));
+            }
+            dao.setSupportedCommandsGenerated(Collections.unmodifiableSet(new TreeSet<>(supportedCommandsGenerated)));
+            dao.setSupportedCommandsReceived(Collections.unmodifiableSet(new TreeSet<>(supportedCommandsReceived)));
+        }
+
+        Map<Integer, ZclAttributeDao> daoAttributes = new HashMap<>();
+        for (ZclAttribute attribute : (isClient ? clientAttributes : serverAttributes).values()) {
+            if (attribute.isDirty()) {
+                daoAttributes.put(attribute.getId(), attribute.getDao());
+            }
+        }
+        dao.setAttributes(daoAttributes);
+        return dao;
+    }
+
     /**
      * Sets the state of the cluster from a {@link ZclClusterDao} which has been restored from a persisted state.
      *
@@ -1539,7 +1767,7 @@ public abstract class ZclCluster {
         supportedCommandsGenerated.addAll(dao.getSupportedCommandsGenerated());
         supportedCommandsReceived.addAll(dao.getSupportedCommandsReceived());
 
-        Map<Integer, ZclAttribute> daoZclAttributes = new HashMap<>();
+        Map<Integer, ZclAttribute> daoZclAttributes = new ConcurrentSkipListMap<>();
         for (ZclAttributeDao daoAttribute : dao.getAttributes().values()) {
             // Normalize the data to protect against the users serialisation system restoring incorrect data classes
             daoAttribute
@@ -1554,6 +1782,7 @@ public abstract class ZclCluster {
         } else {
             serverAttributes = daoZclAttributes;
         }
+        dirty = false;
     }
 
     //
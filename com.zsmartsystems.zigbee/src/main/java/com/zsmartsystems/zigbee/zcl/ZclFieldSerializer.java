@@ -51,4 +51,13 @@ public class ZclFieldSerializer {
     public int[] getPayload() {
         return serializer.getPayload();
     }
+
+    /**
+     * Gets payload as a byte array.
+     *
+     * @return the payload
+     */
+    public byte[] getPayloadBytes() {
+        return serializer.getPayloadBytes();
+    }
 }
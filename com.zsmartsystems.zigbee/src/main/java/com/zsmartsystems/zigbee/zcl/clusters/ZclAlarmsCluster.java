@@ -7,7 +7,9 @@
  */
 package com.zsmartsystems.zigbee.zcl.clusters;
 
+import java.util.Collections;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.Future;
 
@@ -16,6 +18,7 @@ import javax.annotation.Generated;
 import com.zsmartsystems.zigbee.CommandResult;
 import com.zsmartsystems.zigbee.ZigBeeEndpoint;
 import com.zsmartsystems.zigbee.zcl.ZclAttribute;
+import com.zsmartsystems.zigbee.zcl.ZclAttributeDefinition;
 import com.zsmartsystems.zigbee.zcl.ZclCluster;
 import com.zsmartsystems.zigbee.zcl.ZclCommand;
 import com.zsmartsystems.zigbee.zcl.clusters.alarms.AlarmCommand;
@@ -44,7 +47,7 @@ import com.zsmartsystems.zigbee.zcl.protocol.ZclDataType;
  * <p>
  * Code is auto-generated. Modifications may be overwritten!
  */
-@Generated(value = "com.zsmartsystems.zigbee.autocode.ZigBeeCodeGenerator", date = "2019-10-04T18:21:10Z")
+@Generated(value = "com.zsmartsystems.zigbee.autocode.ZigBeeCodeGenerator", date = "2026-10-18T14:31:35Z")
 public class ZclAlarmsCluster extends ZclCluster {
     /**
      * The ZigBee Cluster Library Cluster ID
@@ -66,20 +69,22 @@ public class ZclAlarmsCluster extends ZclCluster {
      */
     public static final int ATTR_ALARMCOUNT = 0x0000;
 
-    @Override
-    protected Map<Integer, ZclAttribute> initializeClientAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
+    /**
+     * The server attribute definitions. These are shared by all instances of this cluster.
+     */
+    private static final Map<Integer, ZclAttributeDefinition> SERVER_ATTRIBUTES = initializeServerAttributeDefinitions();
 
-        return attributeMap;
-    }
+    private static Map<Integer, ZclAttributeDefinition> initializeServerAttributeDefinitions() {
+        Map<Integer, ZclAttributeDefinition> attributeMap = new TreeMap<>();
 
-    @Override
-    protected Map<Integer, ZclAttribute> initializeServerAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
+        attributeMap.put(ATTR_ALARMCOUNT, new ZclAttributeDefinition(ATTR_ALARMCOUNT, "Alarm Count", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
 
-        attributeMap.put(ATTR_ALARMCOUNT, new ZclAttribute(this, ATTR_ALARMCOUNT, "Alarm Count", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
+        return Collections.unmodifiableMap(attributeMap);
+    }
 
-        return attributeMap;
+    @Override
+    protected Map<Integer, ZclAttributeDefinition> getServerAttributeDefinitions() {
+        return SERVER_ATTRIBUTES;
     }
 
     @Override
@@ -131,7 +136,7 @@ public class ZclAlarmsCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getAlarmCountAsync() {
-        return read(serverAttributes.get(ATTR_ALARMCOUNT));
+        return read(getServerAttribute(ATTR_ALARMCOUNT));
     }
 
     /**
@@ -160,11 +165,11 @@ public class ZclAlarmsCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getAlarmCount(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_ALARMCOUNT).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_ALARMCOUNT).getLastValue();
+        if (getServerAttribute(ATTR_ALARMCOUNT).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_ALARMCOUNT).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_ALARMCOUNT));
+        return (Integer) readSync(getServerAttribute(ATTR_ALARMCOUNT));
     }
 
     /**
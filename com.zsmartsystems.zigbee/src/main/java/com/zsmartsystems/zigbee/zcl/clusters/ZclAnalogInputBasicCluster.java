@@ -7,8 +7,9 @@
  */
 package com.zsmartsystems.zigbee.zcl.clusters;
 
+import java.util.Collections;
 import java.util.Map;
-import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.TreeMap;
 import java.util.concurrent.Future;
 
 import javax.annotation.Generated;
@@ -16,6 +17,7 @@ import javax.annotation.Generated;
 import com.zsmartsystems.zigbee.CommandResult;
 import com.zsmartsystems.zigbee.ZigBeeEndpoint;
 import com.zsmartsystems.zigbee.zcl.ZclAttribute;
+import com.zsmartsystems.zigbee.zcl.ZclAttributeDefinition;
 import com.zsmartsystems.zigbee.zcl.ZclCluster;
 import com.zsmartsystems.zigbee.zcl.protocol.ZclDataType;
 
@@ -28,7 +30,7 @@ import com.zsmartsystems.zigbee.zcl.protocol.ZclDataType;
  * <p>
  * Code is auto-generated. Modifications may be overwritten!
  */
-@Generated(value = "com.zsmartsystems.zigbee.autocode.ZigBeeCodeGenerator", date = "2019-10-04T18:21:10Z")
+@Generated(value = "com.zsmartsystems.zigbee.autocode.ZigBeeCodeGenerator", date = "2026-10-18T14:31:35Z")
 public class ZclAnalogInputBasicCluster extends ZclCluster {
     /**
      * The ZigBee Cluster Library Cluster ID
@@ -154,29 +156,31 @@ public class ZclAnalogInputBasicCluster extends ZclCluster {
      */
     public static final int ATTR_APPLICATIONTYPE = 0x0100;
 
-    @Override
-    protected Map<Integer, ZclAttribute> initializeClientAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
+    /**
+     * The server attribute definitions. These are shared by all instances of this cluster.
+     */
+    private static final Map<Integer, ZclAttributeDefinition> SERVER_ATTRIBUTES = initializeServerAttributeDefinitions();
 
-        return attributeMap;
-    }
+    private static Map<Integer, ZclAttributeDefinition> initializeServerAttributeDefinitions() {
+        Map<Integer, ZclAttributeDefinition> attributeMap = new TreeMap<>();
 
-    @Override
-    protected Map<Integer, ZclAttribute> initializeServerAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
+        attributeMap.put(ATTR_DESCRIPTION, new ZclAttributeDefinition(ATTR_DESCRIPTION, "Description", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        attributeMap.put(ATTR_MAXPRESENTVALUE, new ZclAttributeDefinition(ATTR_MAXPRESENTVALUE, "Max Present Value", ZclDataType.FLOAT_32_BIT, false, true, true, false));
+        attributeMap.put(ATTR_MINPRESENTVALUE, new ZclAttributeDefinition(ATTR_MINPRESENTVALUE, "Min Present Value", ZclDataType.FLOAT_32_BIT, false, true, true, false));
+        attributeMap.put(ATTR_OUTOFSERVICE, new ZclAttributeDefinition(ATTR_OUTOFSERVICE, "Out Of Service", ZclDataType.BOOLEAN, false, true, true, false));
+        attributeMap.put(ATTR_PRESENTVALUE, new ZclAttributeDefinition(ATTR_PRESENTVALUE, "Present Value", ZclDataType.FLOAT_32_BIT, false, true, true, false));
+        attributeMap.put(ATTR_RELIABILITY, new ZclAttributeDefinition(ATTR_RELIABILITY, "Reliability", ZclDataType.ENUMERATION_8_BIT, false, true, true, false));
+        attributeMap.put(ATTR_RESOLUTION, new ZclAttributeDefinition(ATTR_RESOLUTION, "Resolution", ZclDataType.FLOAT_32_BIT, false, true, true, false));
+        attributeMap.put(ATTR_STATUSFLAGS, new ZclAttributeDefinition(ATTR_STATUSFLAGS, "Status Flags", ZclDataType.BITMAP_8_BIT, false, true, true, false));
+        attributeMap.put(ATTR_ENGINEERINGUNITS, new ZclAttributeDefinition(ATTR_ENGINEERINGUNITS, "Engineering Units", ZclDataType.ENUMERATION_32_BIT, false, true, true, false));
+        attributeMap.put(ATTR_APPLICATIONTYPE, new ZclAttributeDefinition(ATTR_APPLICATIONTYPE, "Application Type", ZclDataType.SIGNED_32_BIT_INTEGER, false, true, true, false));
 
-        attributeMap.put(ATTR_DESCRIPTION, new ZclAttribute(this, ATTR_DESCRIPTION, "Description", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_MAXPRESENTVALUE, new ZclAttribute(this, ATTR_MAXPRESENTVALUE, "Max Present Value", ZclDataType.FLOAT_32_BIT, false, true, true, false));
-        attributeMap.put(ATTR_MINPRESENTVALUE, new ZclAttribute(this, ATTR_MINPRESENTVALUE, "Min Present Value", ZclDataType.FLOAT_32_BIT, false, true, true, false));
-        attributeMap.put(ATTR_OUTOFSERVICE, new ZclAttribute(this, ATTR_OUTOFSERVICE, "Out Of Service", ZclDataType.BOOLEAN, false, true, true, false));
-        attributeMap.put(ATTR_PRESENTVALUE, new ZclAttribute(this, ATTR_PRESENTVALUE, "Present Value", ZclDataType.FLOAT_32_BIT, false, true, true, false));
-        attributeMap.put(ATTR_RELIABILITY, new ZclAttribute(this, ATTR_RELIABILITY, "Reliability", ZclDataType.ENUMERATION_8_BIT, false, true, true, false));
-        attributeMap.put(ATTR_RESOLUTION, new ZclAttribute(this, ATTR_RESOLUTION, "Resolution", ZclDataType.FLOAT_32_BIT, false, true, true, false));
-        attributeMap.put(ATTR_STATUSFLAGS, new ZclAttribute(this, ATTR_STATUSFLAGS, "Status Flags", ZclDataType.BITMAP_8_BIT, false, true, true, false));
-        attributeMap.put(ATTR_ENGINEERINGUNITS, new ZclAttribute(this, ATTR_ENGINEERINGUNITS, "Engineering Units", ZclDataType.ENUMERATION_32_BIT, false, true, true, false));
-        attributeMap.put(ATTR_APPLICATIONTYPE, new ZclAttribute(this, ATTR_APPLICATIONTYPE, "Application Type", ZclDataType.SIGNED_32_BIT_INTEGER, false, true, true, false));
+        return Collections.unmodifiableMap(attributeMap);
+    }
 
-        return attributeMap;
+    @Override
+    protected Map<Integer, ZclAttributeDefinition> getServerAttributeDefinitions() {
+        return SERVER_ATTRIBUTES;
     }
 
     /**
@@ -206,7 +210,7 @@ public class ZclAnalogInputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setDescription(final String value) {
-        return write(serverAttributes.get(ATTR_DESCRIPTION), value);
+        return write(getServerAttribute(ATTR_DESCRIPTION), value);
     }
 
     /**
@@ -226,7 +230,7 @@ public class ZclAnalogInputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getDescriptionAsync() {
-        return read(serverAttributes.get(ATTR_DESCRIPTION));
+        return read(getServerAttribute(ATTR_DESCRIPTION));
     }
 
     /**
@@ -254,11 +258,11 @@ public class ZclAnalogInputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public String getDescription(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_DESCRIPTION).isLastValueCurrent(refreshPeriod)) {
-            return (String) serverAttributes.get(ATTR_DESCRIPTION).getLastValue();
+        if (getServerAttribute(ATTR_DESCRIPTION).isLastValueCurrent(refreshPeriod)) {
+            return (String) getServerAttribute(ATTR_DESCRIPTION).getLastValue();
         }
 
-        return (String) readSync(serverAttributes.get(ATTR_DESCRIPTION));
+        return (String) readSync(getServerAttribute(ATTR_DESCRIPTION));
     }
 
     /**
@@ -279,7 +283,7 @@ public class ZclAnalogInputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setMaxPresentValue(final Double value) {
-        return write(serverAttributes.get(ATTR_MAXPRESENTVALUE), value);
+        return write(getServerAttribute(ATTR_MAXPRESENTVALUE), value);
     }
 
     /**
@@ -299,7 +303,7 @@ public class ZclAnalogInputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getMaxPresentValueAsync() {
-        return read(serverAttributes.get(ATTR_MAXPRESENTVALUE));
+        return read(getServerAttribute(ATTR_MAXPRESENTVALUE));
     }
 
     /**
@@ -327,11 +331,11 @@ public class ZclAnalogInputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Double getMaxPresentValue(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_MAXPRESENTVALUE).isLastValueCurrent(refreshPeriod)) {
-            return (Double) serverAttributes.get(ATTR_MAXPRESENTVALUE).getLastValue();
+        if (getServerAttribute(ATTR_MAXPRESENTVALUE).isLastValueCurrent(refreshPeriod)) {
+            return (Double) getServerAttribute(ATTR_MAXPRESENTVALUE).getLastValue();
         }
 
-        return (Double) readSync(serverAttributes.get(ATTR_MAXPRESENTVALUE));
+        return (Double) readSync(getServerAttribute(ATTR_MAXPRESENTVALUE));
     }
 
     /**
@@ -352,7 +356,7 @@ public class ZclAnalogInputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setMinPresentValue(final Double value) {
-        return write(serverAttributes.get(ATTR_MINPRESENTVALUE), value);
+        return write(getServerAttribute(ATTR_MINPRESENTVALUE), value);
     }
 
     /**
@@ -372,7 +376,7 @@ public class ZclAnalogInputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getMinPresentValueAsync() {
-        return read(serverAttributes.get(ATTR_MINPRESENTVALUE));
+        return read(getServerAttribute(ATTR_MINPRESENTVALUE));
     }
 
     /**
@@ -400,11 +404,11 @@ public class ZclAnalogInputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Double getMinPresentValue(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_MINPRESENTVALUE).isLastValueCurrent(refreshPeriod)) {
-            return (Double) serverAttributes.get(ATTR_MINPRESENTVALUE).getLastValue();
+        if (getServerAttribute(ATTR_MINPRESENTVALUE).isLastValueCurrent(refreshPeriod)) {
+            return (Double) getServerAttribute(ATTR_MINPRESENTVALUE).getLastValue();
         }
 
-        return (Double) readSync(serverAttributes.get(ATTR_MINPRESENTVALUE));
+        return (Double) readSync(getServerAttribute(ATTR_MINPRESENTVALUE));
     }
 
     /**
@@ -420,7 +424,7 @@ public class ZclAnalogInputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setOutOfService(final Boolean value) {
-        return write(serverAttributes.get(ATTR_OUTOFSERVICE), value);
+        return write(getServerAttribute(ATTR_OUTOFSERVICE), value);
     }
 
     /**
@@ -435,7 +439,7 @@ public class ZclAnalogInputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getOutOfServiceAsync() {
-        return read(serverAttributes.get(ATTR_OUTOFSERVICE));
+        return read(getServerAttribute(ATTR_OUTOFSERVICE));
     }
 
     /**
@@ -458,11 +462,11 @@ public class ZclAnalogInputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Boolean getOutOfService(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_OUTOFSERVICE).isLastValueCurrent(refreshPeriod)) {
-            return (Boolean) serverAttributes.get(ATTR_OUTOFSERVICE).getLastValue();
+        if (getServerAttribute(ATTR_OUTOFSERVICE).isLastValueCurrent(refreshPeriod)) {
+            return (Boolean) getServerAttribute(ATTR_OUTOFSERVICE).getLastValue();
         }
 
-        return (Boolean) readSync(serverAttributes.get(ATTR_OUTOFSERVICE));
+        return (Boolean) readSync(getServerAttribute(ATTR_OUTOFSERVICE));
     }
 
     /**
@@ -486,7 +490,7 @@ public class ZclAnalogInputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setPresentValue(final Double value) {
-        return write(serverAttributes.get(ATTR_PRESENTVALUE), value);
+        return write(getServerAttribute(ATTR_PRESENTVALUE), value);
     }
 
     /**
@@ -509,7 +513,7 @@ public class ZclAnalogInputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getPresentValueAsync() {
-        return read(serverAttributes.get(ATTR_PRESENTVALUE));
+        return read(getServerAttribute(ATTR_PRESENTVALUE));
     }
 
     /**
@@ -540,11 +544,11 @@ public class ZclAnalogInputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Double getPresentValue(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PRESENTVALUE).isLastValueCurrent(refreshPeriod)) {
-            return (Double) serverAttributes.get(ATTR_PRESENTVALUE).getLastValue();
+        if (getServerAttribute(ATTR_PRESENTVALUE).isLastValueCurrent(refreshPeriod)) {
+            return (Double) getServerAttribute(ATTR_PRESENTVALUE).getLastValue();
         }
 
-        return (Double) readSync(serverAttributes.get(ATTR_PRESENTVALUE));
+        return (Double) readSync(getServerAttribute(ATTR_PRESENTVALUE));
     }
 
     /**
@@ -569,7 +573,7 @@ public class ZclAnalogInputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setReliability(final Integer value) {
-        return write(serverAttributes.get(ATTR_RELIABILITY), value);
+        return write(getServerAttribute(ATTR_RELIABILITY), value);
     }
 
     /**
@@ -593,7 +597,7 @@ public class ZclAnalogInputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getReliabilityAsync() {
-        return read(serverAttributes.get(ATTR_RELIABILITY));
+        return read(getServerAttribute(ATTR_RELIABILITY));
     }
 
     /**
@@ -625,11 +629,11 @@ public class ZclAnalogInputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getReliability(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_RELIABILITY).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_RELIABILITY).getLastValue();
+        if (getServerAttribute(ATTR_RELIABILITY).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_RELIABILITY).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_RELIABILITY));
+        return (Integer) readSync(getServerAttribute(ATTR_RELIABILITY));
     }
 
     /**
@@ -648,7 +652,7 @@ public class ZclAnalogInputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setResolution(final Double value) {
-        return write(serverAttributes.get(ATTR_RESOLUTION), value);
+        return write(getServerAttribute(ATTR_RESOLUTION), value);
     }
 
     /**
@@ -666,7 +670,7 @@ public class ZclAnalogInputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getResolutionAsync() {
-        return read(serverAttributes.get(ATTR_RESOLUTION));
+        return read(getServerAttribute(ATTR_RESOLUTION));
     }
 
     /**
@@ -692,11 +696,11 @@ public class ZclAnalogInputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Double getResolution(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_RESOLUTION).isLastValueCurrent(refreshPeriod)) {
-            return (Double) serverAttributes.get(ATTR_RESOLUTION).getLastValue();
+        if (getServerAttribute(ATTR_RESOLUTION).isLastValueCurrent(refreshPeriod)) {
+            return (Double) getServerAttribute(ATTR_RESOLUTION).getLastValue();
         }
 
-        return (Double) readSync(serverAttributes.get(ATTR_RESOLUTION));
+        return (Double) readSync(getServerAttribute(ATTR_RESOLUTION));
     }
 
     /**
@@ -741,7 +745,7 @@ public class ZclAnalogInputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setStatusFlags(final Integer value) {
-        return write(serverAttributes.get(ATTR_STATUSFLAGS), value);
+        return write(getServerAttribute(ATTR_STATUSFLAGS), value);
     }
 
     /**
@@ -785,7 +789,7 @@ public class ZclAnalogInputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getStatusFlagsAsync() {
-        return read(serverAttributes.get(ATTR_STATUSFLAGS));
+        return read(getServerAttribute(ATTR_STATUSFLAGS));
     }
 
     /**
@@ -837,11 +841,11 @@ public class ZclAnalogInputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getStatusFlags(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_STATUSFLAGS).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_STATUSFLAGS).getLastValue();
+        if (getServerAttribute(ATTR_STATUSFLAGS).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_STATUSFLAGS).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_STATUSFLAGS));
+        return (Integer) readSync(getServerAttribute(ATTR_STATUSFLAGS));
     }
 
     /**
@@ -873,7 +877,7 @@ public class ZclAnalogInputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setEngineeringUnits(final Integer value) {
-        return write(serverAttributes.get(ATTR_ENGINEERINGUNITS), value);
+        return write(getServerAttribute(ATTR_ENGINEERINGUNITS), value);
     }
 
     /**
@@ -904,7 +908,7 @@ public class ZclAnalogInputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getEngineeringUnitsAsync() {
-        return read(serverAttributes.get(ATTR_ENGINEERINGUNITS));
+        return read(getServerAttribute(ATTR_ENGINEERINGUNITS));
     }
 
     /**
@@ -943,11 +947,11 @@ public class ZclAnalogInputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getEngineeringUnits(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_ENGINEERINGUNITS).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_ENGINEERINGUNITS).getLastValue();
+        if (getServerAttribute(ATTR_ENGINEERINGUNITS).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_ENGINEERINGUNITS).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_ENGINEERINGUNITS));
+        return (Integer) readSync(getServerAttribute(ATTR_ENGINEERINGUNITS));
     }
 
     /**
@@ -976,7 +980,7 @@ public class ZclAnalogInputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setApplicationType(final Integer value) {
-        return write(serverAttributes.get(ATTR_APPLICATIONTYPE), value);
+        return write(getServerAttribute(ATTR_APPLICATIONTYPE), value);
     }
 
     /**
@@ -1004,7 +1008,7 @@ public class ZclAnalogInputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getApplicationTypeAsync() {
-        return read(serverAttributes.get(ATTR_APPLICATIONTYPE));
+        return read(getServerAttribute(ATTR_APPLICATIONTYPE));
     }
 
     /**
@@ -1040,10 +1044,10 @@ public class ZclAnalogInputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getApplicationType(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_APPLICATIONTYPE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_APPLICATIONTYPE).getLastValue();
+        if (getServerAttribute(ATTR_APPLICATIONTYPE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_APPLICATIONTYPE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_APPLICATIONTYPE));
+        return (Integer) readSync(getServerAttribute(ATTR_APPLICATIONTYPE));
     }
 }
@@ -7,7 +7,9 @@
  */
 package com.zsmartsystems.zigbee.zcl.clusters;
 
+import java.util.Collections;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.Future;
 
@@ -16,6 +18,7 @@ import javax.annotation.Generated;
 import com.zsmartsystems.zigbee.CommandResult;
 import com.zsmartsystems.zigbee.ZigBeeEndpoint;
 import com.zsmartsystems.zigbee.zcl.ZclAttribute;
+import com.zsmartsystems.zigbee.zcl.ZclAttributeDefinition;
 import com.zsmartsystems.zigbee.zcl.ZclCluster;
 import com.zsmartsystems.zigbee.zcl.ZclCommand;
 import com.zsmartsystems.zigbee.zcl.clusters.basic.ResetToFactoryDefaultsCommand;
@@ -30,7 +33,7 @@ import com.zsmartsystems.zigbee.zcl.protocol.ZclDataType;
  * <p>
  * Code is auto-generated. Modifications may be overwritten!
  */
-@Generated(value = "com.zsmartsystems.zigbee.autocode.ZigBeeCodeGenerator", date = "2019-10-04T18:21:10Z")
+@Generated(value = "com.zsmartsystems.zigbee.autocode.ZigBeeCodeGenerator", date = "2026-10-18T14:31:35Z")
 public class ZclBasicCluster extends ZclCluster {
     /**
      * The ZigBee Cluster Library Cluster ID
@@ -128,37 +131,39 @@ public class ZclBasicCluster extends ZclCluster {
      */
     public static final int ATTR_SWBUILDID = 0x4000;
 
-    @Override
-    protected Map<Integer, ZclAttribute> initializeClientAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
-
-        return attributeMap;
+    /**
+     * The server attribute definitions. These are shared by all instances of this cluster.
+     */
+    private static final Map<Integer, ZclAttributeDefinition> SERVER_ATTRIBUTES = initializeServerAttributeDefinitions();
+
+    private static Map<Integer, ZclAttributeDefinition> initializeServerAttributeDefinitions() {
+        Map<Integer, ZclAttributeDefinition> attributeMap = new TreeMap<>();
+
+        attributeMap.put(ATTR_ZCLVERSION, new ZclAttributeDefinition(ATTR_ZCLVERSION, "ZCL Version", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_APPLICATIONVERSION, new ZclAttributeDefinition(ATTR_APPLICATIONVERSION, "Application Version", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_STACKVERSION, new ZclAttributeDefinition(ATTR_STACKVERSION, "Stack Version", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_HWVERSION, new ZclAttributeDefinition(ATTR_HWVERSION, "HW Version", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_MANUFACTURERNAME, new ZclAttributeDefinition(ATTR_MANUFACTURERNAME, "Manufacturer Name", ZclDataType.CHARACTER_STRING, true, true, false, false));
+        attributeMap.put(ATTR_MODELIDENTIFIER, new ZclAttributeDefinition(ATTR_MODELIDENTIFIER, "Model Identifier", ZclDataType.CHARACTER_STRING, true, true, false, false));
+        attributeMap.put(ATTR_DATECODE, new ZclAttributeDefinition(ATTR_DATECODE, "Date Code", ZclDataType.CHARACTER_STRING, true, true, false, false));
+        attributeMap.put(ATTR_POWERSOURCE, new ZclAttributeDefinition(ATTR_POWERSOURCE, "Power Source", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
+        attributeMap.put(ATTR_GENERICDEVICECLASS, new ZclAttributeDefinition(ATTR_GENERICDEVICECLASS, "Generic Device Class", ZclDataType.ENUMERATION_8_BIT, false, true, false, false));
+        attributeMap.put(ATTR_GENERICDEVICETYPE, new ZclAttributeDefinition(ATTR_GENERICDEVICETYPE, "Generic Device Type", ZclDataType.ENUMERATION_8_BIT, false, true, false, false));
+        attributeMap.put(ATTR_PRODUCTCODE, new ZclAttributeDefinition(ATTR_PRODUCTCODE, "Product Code", ZclDataType.CHARACTER_STRING, false, true, false, false));
+        attributeMap.put(ATTR_PRODUCTURL, new ZclAttributeDefinition(ATTR_PRODUCTURL, "Product URL", ZclDataType.CHARACTER_STRING, false, true, false, false));
+        attributeMap.put(ATTR_LOCATIONDESCRIPTION, new ZclAttributeDefinition(ATTR_LOCATIONDESCRIPTION, "Location Description", ZclDataType.CHARACTER_STRING, true, true, true, false));
+        attributeMap.put(ATTR_PHYSICALENVIRONMENT, new ZclAttributeDefinition(ATTR_PHYSICALENVIRONMENT, "Physical Environment", ZclDataType.ENUMERATION_8_BIT, true, true, true, false));
+        attributeMap.put(ATTR_DEVICEENABLED, new ZclAttributeDefinition(ATTR_DEVICEENABLED, "Device Enabled", ZclDataType.BOOLEAN, true, true, true, false));
+        attributeMap.put(ATTR_ALARMMASK, new ZclAttributeDefinition(ATTR_ALARMMASK, "Alarm Mask", ZclDataType.BITMAP_8_BIT, true, true, true, false));
+        attributeMap.put(ATTR_DISABLELOCALCONFIG, new ZclAttributeDefinition(ATTR_DISABLELOCALCONFIG, "Disable Local Config", ZclDataType.BITMAP_8_BIT, true, true, true, false));
+        attributeMap.put(ATTR_SWBUILDID, new ZclAttributeDefinition(ATTR_SWBUILDID, "SW Build ID", ZclDataType.CHARACTER_STRING, false, true, false, false));
+
+        return Collections.unmodifiableMap(attributeMap);
     }
 
     @Override
-    protected Map<Integer, ZclAttribute> initializeServerAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
-
-        attributeMap.put(ATTR_ZCLVERSION, new ZclAttribute(this, ATTR_ZCLVERSION, "ZCL Version", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_APPLICATIONVERSION, new ZclAttribute(this, ATTR_APPLICATIONVERSION, "Application Version", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_STACKVERSION, new ZclAttribute(this, ATTR_STACKVERSION, "Stack Version", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_HWVERSION, new ZclAttribute(this, ATTR_HWVERSION, "HW Version", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_MANUFACTURERNAME, new ZclAttribute(this, ATTR_MANUFACTURERNAME, "Manufacturer Name", ZclDataType.CHARACTER_STRING, true, true, false, false));
-        attributeMap.put(ATTR_MODELIDENTIFIER, new ZclAttribute(this, ATTR_MODELIDENTIFIER, "Model Identifier", ZclDataType.CHARACTER_STRING, true, true, false, false));
-        attributeMap.put(ATTR_DATECODE, new ZclAttribute(this, ATTR_DATECODE, "Date Code", ZclDataType.CHARACTER_STRING, true, true, false, false));
-        attributeMap.put(ATTR_POWERSOURCE, new ZclAttribute(this, ATTR_POWERSOURCE, "Power Source", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_GENERICDEVICECLASS, new ZclAttribute(this, ATTR_GENERICDEVICECLASS, "Generic Device Class", ZclDataType.ENUMERATION_8_BIT, false, true, false, false));
-        attributeMap.put(ATTR_GENERICDEVICETYPE, new ZclAttribute(this, ATTR_GENERICDEVICETYPE, "Generic Device Type", ZclDataType.ENUMERATION_8_BIT, false, true, false, false));
-        attributeMap.put(ATTR_PRODUCTCODE, new ZclAttribute(this, ATTR_PRODUCTCODE, "Product Code", ZclDataType.CHARACTER_STRING, false, true, false, false));
-        attributeMap.put(ATTR_PRODUCTURL, new ZclAttribute(this, ATTR_PRODUCTURL, "Product URL", ZclDataType.CHARACTER_STRING, false, true, false, false));
-        attributeMap.put(ATTR_LOCATIONDESCRIPTION, new ZclAttribute(this, ATTR_LOCATIONDESCRIPTION, "Location Description", ZclDataType.CHARACTER_STRING, true, true, true, false));
-        attributeMap.put(ATTR_PHYSICALENVIRONMENT, new ZclAttribute(this, ATTR_PHYSICALENVIRONMENT, "Physical Environment", ZclDataType.ENUMERATION_8_BIT, true, true, true, false));
-        attributeMap.put(ATTR_DEVICEENABLED, new ZclAttribute(this, ATTR_DEVICEENABLED, "Device Enabled", ZclDataType.BOOLEAN, true, true, true, false));
-        attributeMap.put(ATTR_ALARMMASK, new ZclAttribute(this, ATTR_ALARMMASK, "Alarm Mask", ZclDataType.BITMAP_8_BIT, true, true, true, false));
-        attributeMap.put(ATTR_DISABLELOCALCONFIG, new ZclAttribute(this, ATTR_DISABLELOCALCONFIG, "Disable Local Config", ZclDataType.BITMAP_8_BIT, true, true, true, false));
-        attributeMap.put(ATTR_SWBUILDID, new ZclAttribute(this, ATTR_SWBUILDID, "SW Build ID", ZclDataType.CHARACTER_STRING, false, true, false, false));
-
-        return attributeMap;
+    protected Map<Integer, ZclAttributeDefinition> getServerAttributeDefinitions() {
+        return SERVER_ATTRIBUTES;
     }
 
     @Override
@@ -194,7 +199,7 @@ public class ZclBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getZclVersionAsync() {
-        return read(serverAttributes.get(ATTR_ZCLVERSION));
+        return read(getServerAttribute(ATTR_ZCLVERSION));
     }
 
     /**
@@ -220,11 +225,11 @@ public class ZclBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getZclVersion(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_ZCLVERSION).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_ZCLVERSION).getLastValue();
+        if (getServerAttribute(ATTR_ZCLVERSION).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_ZCLVERSION).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_ZCLVERSION));
+        return (Integer) readSync(getServerAttribute(ATTR_ZCLVERSION));
     }
 
     /**
@@ -245,7 +250,7 @@ public class ZclBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setZclVersionReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_ZCLVERSION), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_ZCLVERSION), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -264,7 +269,7 @@ public class ZclBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getApplicationVersionAsync() {
-        return read(serverAttributes.get(ATTR_APPLICATIONVERSION));
+        return read(getServerAttribute(ATTR_APPLICATIONVERSION));
     }
 
     /**
@@ -291,11 +296,11 @@ public class ZclBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getApplicationVersion(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_APPLICATIONVERSION).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_APPLICATIONVERSION).getLastValue();
+        if (getServerAttribute(ATTR_APPLICATIONVERSION).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_APPLICATIONVERSION).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_APPLICATIONVERSION));
+        return (Integer) readSync(getServerAttribute(ATTR_APPLICATIONVERSION));
     }
 
     /**
@@ -317,7 +322,7 @@ public class ZclBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setApplicationVersionReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_APPLICATIONVERSION), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_APPLICATIONVERSION), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -336,7 +341,7 @@ public class ZclBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getStackVersionAsync() {
-        return read(serverAttributes.get(ATTR_STACKVERSION));
+        return read(getServerAttribute(ATTR_STACKVERSION));
     }
 
     /**
@@ -363,11 +368,11 @@ public class ZclBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getStackVersion(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_STACKVERSION).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_STACKVERSION).getLastValue();
+        if (getServerAttribute(ATTR_STACKVERSION).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_STACKVERSION).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_STACKVERSION));
+        return (Integer) readSync(getServerAttribute(ATTR_STACKVERSION));
     }
 
     /**
@@ -389,7 +394,7 @@ public class ZclBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setStackVersionReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_STACKVERSION), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_STACKVERSION), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -407,7 +412,7 @@ public class ZclBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getHwVersionAsync() {
-        return read(serverAttributes.get(ATTR_HWVERSION));
+        return read(getServerAttribute(ATTR_HWVERSION));
     }
 
     /**
@@ -433,11 +438,11 @@ public class ZclBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getHwVersion(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_HWVERSION).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_HWVERSION).getLastValue();
+        if (getServerAttribute(ATTR_HWVERSION).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_HWVERSION).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_HWVERSION));
+        return (Integer) readSync(getServerAttribute(ATTR_HWVERSION));
     }
 
     /**
@@ -458,7 +463,7 @@ public class ZclBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setHwVersionReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_HWVERSION), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_HWVERSION), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -476,7 +481,7 @@ public class ZclBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getManufacturerNameAsync() {
-        return read(serverAttributes.get(ATTR_MANUFACTURERNAME));
+        return read(getServerAttribute(ATTR_MANUFACTURERNAME));
     }
 
     /**
@@ -502,11 +507,11 @@ public class ZclBasicCluster extends ZclCluster {
      */
     @Deprecated
     public String getManufacturerName(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_MANUFACTURERNAME).isLastValueCurrent(refreshPeriod)) {
-            return (String) serverAttributes.get(ATTR_MANUFACTURERNAME).getLastValue();
+        if (getServerAttribute(ATTR_MANUFACTURERNAME).isLastValueCurrent(refreshPeriod)) {
+            return (String) getServerAttribute(ATTR_MANUFACTURERNAME).getLastValue();
         }
 
-        return (String) readSync(serverAttributes.get(ATTR_MANUFACTURERNAME));
+        return (String) readSync(getServerAttribute(ATTR_MANUFACTURERNAME));
     }
 
     /**
@@ -526,7 +531,7 @@ public class ZclBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setManufacturerNameReporting(final int minInterval, final int maxInterval) {
-        return setReporting(serverAttributes.get(ATTR_MANUFACTURERNAME), minInterval, maxInterval);
+        return setReporting(getServerAttribute(ATTR_MANUFACTURERNAME), minInterval, maxInterval);
     }
 
     /**
@@ -545,7 +550,7 @@ public class ZclBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getModelIdentifierAsync() {
-        return read(serverAttributes.get(ATTR_MODELIDENTIFIER));
+        return read(getServerAttribute(ATTR_MODELIDENTIFIER));
     }
 
     /**
@@ -572,11 +577,11 @@ public class ZclBasicCluster extends ZclCluster {
      */
     @Deprecated
     public String getModelIdentifier(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_MODELIDENTIFIER).isLastValueCurrent(refreshPeriod)) {
-            return (String) serverAttributes.get(ATTR_MODELIDENTIFIER).getLastValue();
+        if (getServerAttribute(ATTR_MODELIDENTIFIER).isLastValueCurrent(refreshPeriod)) {
+            return (String) getServerAttribute(ATTR_MODELIDENTIFIER).getLastValue();
         }
 
-        return (String) readSync(serverAttributes.get(ATTR_MODELIDENTIFIER));
+        return (String) readSync(getServerAttribute(ATTR_MODELIDENTIFIER));
     }
 
     /**
@@ -597,7 +602,7 @@ public class ZclBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setModelIdentifierReporting(final int minInterval, final int maxInterval) {
-        return setReporting(serverAttributes.get(ATTR_MODELIDENTIFIER), minInterval, maxInterval);
+        return setReporting(getServerAttribute(ATTR_MODELIDENTIFIER), minInterval, maxInterval);
     }
 
     /**
@@ -616,7 +621,7 @@ public class ZclBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getDateCodeAsync() {
-        return read(serverAttributes.get(ATTR_DATECODE));
+        return read(getServerAttribute(ATTR_DATECODE));
     }
 
     /**
@@ -643,11 +648,11 @@ public class ZclBasicCluster extends ZclCluster {
      */
     @Deprecated
     public String getDateCode(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_DATECODE).isLastValueCurrent(refreshPeriod)) {
-            return (String) serverAttributes.get(ATTR_DATECODE).getLastValue();
+        if (getServerAttribute(ATTR_DATECODE).isLastValueCurrent(refreshPeriod)) {
+            return (String) getServerAttribute(ATTR_DATECODE).getLastValue();
         }
 
-        return (String) readSync(serverAttributes.get(ATTR_DATECODE));
+        return (String) readSync(getServerAttribute(ATTR_DATECODE));
     }
 
     /**
@@ -668,7 +673,7 @@ public class ZclBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setDateCodeReporting(final int minInterval, final int maxInterval) {
-        return setReporting(serverAttributes.get(ATTR_DATECODE), minInterval, maxInterval);
+        return setReporting(getServerAttribute(ATTR_DATECODE), minInterval, maxInterval);
     }
 
     /**
@@ -688,7 +693,7 @@ public class ZclBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getPowerSourceAsync() {
-        return read(serverAttributes.get(ATTR_POWERSOURCE));
+        return read(getServerAttribute(ATTR_POWERSOURCE));
     }
 
     /**
@@ -716,11 +721,11 @@ public class ZclBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getPowerSource(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_POWERSOURCE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_POWERSOURCE).getLastValue();
+        if (getServerAttribute(ATTR_POWERSOURCE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_POWERSOURCE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_POWERSOURCE));
+        return (Integer) readSync(getServerAttribute(ATTR_POWERSOURCE));
     }
 
     /**
@@ -742,7 +747,7 @@ public class ZclBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setPowerSourceReporting(final int minInterval, final int maxInterval) {
-        return setReporting(serverAttributes.get(ATTR_POWERSOURCE), minInterval, maxInterval);
+        return setReporting(getServerAttribute(ATTR_POWERSOURCE), minInterval, maxInterval);
     }
 
     /**
@@ -757,7 +762,7 @@ public class ZclBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getGenericDeviceClassAsync() {
-        return read(serverAttributes.get(ATTR_GENERICDEVICECLASS));
+        return read(getServerAttribute(ATTR_GENERICDEVICECLASS));
     }
 
     /**
@@ -780,11 +785,11 @@ public class ZclBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getGenericDeviceClass(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_GENERICDEVICECLASS).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_GENERICDEVICECLASS).getLastValue();
+        if (getServerAttribute(ATTR_GENERICDEVICECLASS).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_GENERICDEVICECLASS).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_GENERICDEVICECLASS));
+        return (Integer) readSync(getServerAttribute(ATTR_GENERICDEVICECLASS));
     }
 
     /**
@@ -799,7 +804,7 @@ public class ZclBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getGenericDeviceTypeAsync() {
-        return read(serverAttributes.get(ATTR_GENERICDEVICETYPE));
+        return read(getServerAttribute(ATTR_GENERICDEVICETYPE));
     }
 
     /**
@@ -822,11 +827,11 @@ public class ZclBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getGenericDeviceType(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_GENERICDEVICETYPE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_GENERICDEVICETYPE).getLastValue();
+        if (getServerAttribute(ATTR_GENERICDEVICETYPE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_GENERICDEVICETYPE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_GENERICDEVICETYPE));
+        return (Integer) readSync(getServerAttribute(ATTR_GENERICDEVICETYPE));
     }
 
     /**
@@ -841,7 +846,7 @@ public class ZclBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getProductCodeAsync() {
-        return read(serverAttributes.get(ATTR_PRODUCTCODE));
+        return read(getServerAttribute(ATTR_PRODUCTCODE));
     }
 
     /**
@@ -864,11 +869,11 @@ public class ZclBasicCluster extends ZclCluster {
      */
     @Deprecated
     public String getProductCode(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PRODUCTCODE).isLastValueCurrent(refreshPeriod)) {
-            return (String) serverAttributes.get(ATTR_PRODUCTCODE).getLastValue();
+        if (getServerAttribute(ATTR_PRODUCTCODE).isLastValueCurrent(refreshPeriod)) {
+            return (String) getServerAttribute(ATTR_PRODUCTCODE).getLastValue();
         }
 
-        return (String) readSync(serverAttributes.get(ATTR_PRODUCTCODE));
+        return (String) readSync(getServerAttribute(ATTR_PRODUCTCODE));
     }
 
     /**
@@ -883,7 +888,7 @@ public class ZclBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getProductUrlAsync() {
-        return read(serverAttributes.get(ATTR_PRODUCTURL));
+        return read(getServerAttribute(ATTR_PRODUCTURL));
     }
 
     /**
@@ -906,11 +911,11 @@ public class ZclBasicCluster extends ZclCluster {
      */
     @Deprecated
     public String getProductUrl(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PRODUCTURL).isLastValueCurrent(refreshPeriod)) {
-            return (String) serverAttributes.get(ATTR_PRODUCTURL).getLastValue();
+        if (getServerAttribute(ATTR_PRODUCTURL).isLastValueCurrent(refreshPeriod)) {
+            return (String) getServerAttribute(ATTR_PRODUCTURL).getLastValue();
         }
 
-        return (String) readSync(serverAttributes.get(ATTR_PRODUCTURL));
+        return (String) readSync(getServerAttribute(ATTR_PRODUCTURL));
     }
 
     /**
@@ -929,7 +934,7 @@ public class ZclBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setLocationDescription(final String value) {
-        return write(serverAttributes.get(ATTR_LOCATIONDESCRIPTION), value);
+        return write(getServerAttribute(ATTR_LOCATIONDESCRIPTION), value);
     }
 
     /**
@@ -947,7 +952,7 @@ public class ZclBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getLocationDescriptionAsync() {
-        return read(serverAttributes.get(ATTR_LOCATIONDESCRIPTION));
+        return read(getServerAttribute(ATTR_LOCATIONDESCRIPTION));
     }
 
     /**
@@ -973,11 +978,11 @@ public class ZclBasicCluster extends ZclCluster {
      */
     @Deprecated
     public String getLocationDescription(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_LOCATIONDESCRIPTION).isLastValueCurrent(refreshPeriod)) {
-            return (String) serverAttributes.get(ATTR_LOCATIONDESCRIPTION).getLastValue();
+        if (getServerAttribute(ATTR_LOCATIONDESCRIPTION).isLastValueCurrent(refreshPeriod)) {
+            return (String) getServerAttribute(ATTR_LOCATIONDESCRIPTION).getLastValue();
         }
 
-        return (String) readSync(serverAttributes.get(ATTR_LOCATIONDESCRIPTION));
+        return (String) readSync(getServerAttribute(ATTR_LOCATIONDESCRIPTION));
     }
 
     /**
@@ -997,7 +1002,7 @@ public class ZclBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setLocationDescriptionReporting(final int minInterval, final int maxInterval) {
-        return setReporting(serverAttributes.get(ATTR_LOCATIONDESCRIPTION), minInterval, maxInterval);
+        return setReporting(getServerAttribute(ATTR_LOCATIONDESCRIPTION), minInterval, maxInterval);
     }
 
     /**
@@ -1016,7 +1021,7 @@ public class ZclBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setPhysicalEnvironment(final Integer value) {
-        return write(serverAttributes.get(ATTR_PHYSICALENVIRONMENT), value);
+        return write(getServerAttribute(ATTR_PHYSICALENVIRONMENT), value);
     }
 
     /**
@@ -1034,7 +1039,7 @@ public class ZclBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getPhysicalEnvironmentAsync() {
-        return read(serverAttributes.get(ATTR_PHYSICALENVIRONMENT));
+        return read(getServerAttribute(ATTR_PHYSICALENVIRONMENT));
     }
 
     /**
@@ -1060,11 +1065,11 @@ public class ZclBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getPhysicalEnvironment(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PHYSICALENVIRONMENT).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_PHYSICALENVIRONMENT).getLastValue();
+        if (getServerAttribute(ATTR_PHYSICALENVIRONMENT).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_PHYSICALENVIRONMENT).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_PHYSICALENVIRONMENT));
+        return (Integer) readSync(getServerAttribute(ATTR_PHYSICALENVIRONMENT));
     }
 
     /**
@@ -1084,7 +1089,7 @@ public class ZclBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setPhysicalEnvironmentReporting(final int minInterval, final int maxInterval) {
-        return setReporting(serverAttributes.get(ATTR_PHYSICALENVIRONMENT), minInterval, maxInterval);
+        return setReporting(getServerAttribute(ATTR_PHYSICALENVIRONMENT), minInterval, maxInterval);
     }
 
     /**
@@ -1103,7 +1108,7 @@ public class ZclBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setDeviceEnabled(final Boolean value) {
-        return write(serverAttributes.get(ATTR_DEVICEENABLED), value);
+        return write(getServerAttribute(ATTR_DEVICEENABLED), value);
     }
 
     /**
@@ -1121,7 +1126,7 @@ public class ZclBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getDeviceEnabledAsync() {
-        return read(serverAttributes.get(ATTR_DEVICEENABLED));
+        return read(getServerAttribute(ATTR_DEVICEENABLED));
     }
 
     /**
@@ -1147,11 +1152,11 @@ public class ZclBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Boolean getDeviceEnabled(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_DEVICEENABLED).isLastValueCurrent(refreshPeriod)) {
-            return (Boolean) serverAttributes.get(ATTR_DEVICEENABLED).getLastValue();
+        if (getServerAttribute(ATTR_DEVICEENABLED).isLastValueCurrent(refreshPeriod)) {
+            return (Boolean) getServerAttribute(ATTR_DEVICEENABLED).getLastValue();
         }
 
-        return (Boolean) readSync(serverAttributes.get(ATTR_DEVICEENABLED));
+        return (Boolean) readSync(getServerAttribute(ATTR_DEVICEENABLED));
     }
 
     /**
@@ -1171,7 +1176,7 @@ public class ZclBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setDeviceEnabledReporting(final int minInterval, final int maxInterval) {
-        return setReporting(serverAttributes.get(ATTR_DEVICEENABLED), minInterval, maxInterval);
+        return setReporting(getServerAttribute(ATTR_DEVICEENABLED), minInterval, maxInterval);
     }
 
     /**
@@ -1190,7 +1195,7 @@ public class ZclBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setAlarmMask(final Integer value) {
-        return write(serverAttributes.get(ATTR_ALARMMASK), value);
+        return write(getServerAttribute(ATTR_ALARMMASK), value);
     }
 
     /**
@@ -1208,7 +1213,7 @@ public class ZclBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getAlarmMaskAsync() {
-        return read(serverAttributes.get(ATTR_ALARMMASK));
+        return read(getServerAttribute(ATTR_ALARMMASK));
     }
 
     /**
@@ -1234,11 +1239,11 @@ public class ZclBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getAlarmMask(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_ALARMMASK).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_ALARMMASK).getLastValue();
+        if (getServerAttribute(ATTR_ALARMMASK).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_ALARMMASK).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_ALARMMASK));
+        return (Integer) readSync(getServerAttribute(ATTR_ALARMMASK));
     }
 
     /**
@@ -1258,7 +1263,7 @@ public class ZclBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setAlarmMaskReporting(final int minInterval, final int maxInterval) {
-        return setReporting(serverAttributes.get(ATTR_ALARMMASK), minInterval, maxInterval);
+        return setReporting(getServerAttribute(ATTR_ALARMMASK), minInterval, maxInterval);
     }
 
     /**
@@ -1281,7 +1286,7 @@ public class ZclBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setDisableLocalConfig(final Integer value) {
-        return write(serverAttributes.get(ATTR_DISABLELOCALCONFIG), value);
+        return write(getServerAttribute(ATTR_DISABLELOCALCONFIG), value);
     }
 
     /**
@@ -1303,7 +1308,7 @@ public class ZclBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getDisableLocalConfigAsync() {
-        return read(serverAttributes.get(ATTR_DISABLELOCALCONFIG));
+        return read(getServerAttribute(ATTR_DISABLELOCALCONFIG));
     }
 
     /**
@@ -1333,11 +1338,11 @@ public class ZclBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getDisableLocalConfig(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_DISABLELOCALCONFIG).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_DISABLELOCALCONFIG).getLastValue();
+        if (getServerAttribute(ATTR_DISABLELOCALCONFIG).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_DISABLELOCALCONFIG).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_DISABLELOCALCONFIG));
+        return (Integer) readSync(getServerAttribute(ATTR_DISABLELOCALCONFIG));
     }
 
     /**
@@ -1361,7 +1366,7 @@ public class ZclBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setDisableLocalConfigReporting(final int minInterval, final int maxInterval) {
-        return setReporting(serverAttributes.get(ATTR_DISABLELOCALCONFIG), minInterval, maxInterval);
+        return setReporting(getServerAttribute(ATTR_DISABLELOCALCONFIG), minInterval, maxInterval);
     }
 
     /**
@@ -1379,7 +1384,7 @@ public class ZclBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getSwBuildIdAsync() {
-        return read(serverAttributes.get(ATTR_SWBUILDID));
+        return read(getServerAttribute(ATTR_SWBUILDID));
     }
 
     /**
@@ -1405,11 +1410,11 @@ public class ZclBasicCluster extends ZclCluster {
      */
     @Deprecated
     public String getSwBuildId(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_SWBUILDID).isLastValueCurrent(refreshPeriod)) {
-            return (String) serverAttributes.get(ATTR_SWBUILDID).getLastValue();
+        if (getServerAttribute(ATTR_SWBUILDID).isLastValueCurrent(refreshPeriod)) {
+            return (String) getServerAttribute(ATTR_SWBUILDID).getLastValue();
         }
 
-        return (String) readSync(serverAttributes.get(ATTR_SWBUILDID));
+        return (String) readSync(getServerAttribute(ATTR_SWBUILDID));
     }
 
     /**
@@ -7,8 +7,9 @@
  */
 package com.zsmartsystems.zigbee.zcl.clusters;
 
+import java.util.Collections;
 import java.util.Map;
-import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.TreeMap;
 import java.util.concurrent.Future;
 
 import javax.annotation.Generated;
@@ -16,6 +17,7 @@ import javax.annotation.Generated;
 import com.zsmartsystems.zigbee.CommandResult;
 import com.zsmartsystems.zigbee.ZigBeeEndpoint;
 import com.zsmartsystems.zigbee.zcl.ZclAttribute;
+import com.zsmartsystems.zigbee.zcl.ZclAttributeDefinition;
 import com.zsmartsystems.zigbee.zcl.ZclCluster;
 import com.zsmartsystems.zigbee.zcl.protocol.ZclDataType;
 
@@ -28,7 +30,7 @@ import com.zsmartsystems.zigbee.zcl.protocol.ZclDataType;
  * <p>
  * Code is auto-generated. Modifications may be overwritten!
  */
-@Generated(value = "com.zsmartsystems.zigbee.autocode.ZigBeeCodeGenerator", date = "2019-10-04T18:21:10Z")
+@Generated(value = "com.zsmartsystems.zigbee.autocode.ZigBeeCodeGenerator", date = "2026-10-18T14:31:35Z")
 public class ZclBinaryInputBasicCluster extends ZclCluster {
     /**
      * The ZigBee Cluster Library Cluster ID
@@ -164,28 +166,30 @@ public class ZclBinaryInputBasicCluster extends ZclCluster {
      */
     public static final int ATTR_APPLICATIONTYPE = 0x0100;
 
-    @Override
-    protected Map<Integer, ZclAttribute> initializeClientAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
+    /**
+     * The server attribute definitions. These are shared by all instances of this cluster.
+     */
+    private static final Map<Integer, ZclAttributeDefinition> SERVER_ATTRIBUTES = initializeServerAttributeDefinitions();
 
-        return attributeMap;
-    }
+    private static Map<Integer, ZclAttributeDefinition> initializeServerAttributeDefinitions() {
+        Map<Integer, ZclAttributeDefinition> attributeMap = new TreeMap<>();
 
-    @Override
-    protected Map<Integer, ZclAttribute> initializeServerAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
+        attributeMap.put(ATTR_ACTIVETEXT, new ZclAttributeDefinition(ATTR_ACTIVETEXT, "Active Text", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        attributeMap.put(ATTR_DESCRIPTION, new ZclAttributeDefinition(ATTR_DESCRIPTION, "Description", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        attributeMap.put(ATTR_INACTIVETEXT, new ZclAttributeDefinition(ATTR_INACTIVETEXT, "Inactive Text", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        attributeMap.put(ATTR_OUTOFSERVICE, new ZclAttributeDefinition(ATTR_OUTOFSERVICE, "Out Of Service", ZclDataType.BOOLEAN, true, true, true, false));
+        attributeMap.put(ATTR_POLARITY, new ZclAttributeDefinition(ATTR_POLARITY, "Polarity", ZclDataType.ENUMERATION_8_BIT, false, true, false, false));
+        attributeMap.put(ATTR_PRESENTVALUE, new ZclAttributeDefinition(ATTR_PRESENTVALUE, "Present Value", ZclDataType.BOOLEAN, true, true, true, true));
+        attributeMap.put(ATTR_RELIABILITY, new ZclAttributeDefinition(ATTR_RELIABILITY, "Reliability", ZclDataType.ENUMERATION_8_BIT, false, true, true, false));
+        attributeMap.put(ATTR_STATUSFLAGS, new ZclAttributeDefinition(ATTR_STATUSFLAGS, "Status Flags", ZclDataType.BITMAP_8_BIT, true, true, false, true));
+        attributeMap.put(ATTR_APPLICATIONTYPE, new ZclAttributeDefinition(ATTR_APPLICATIONTYPE, "Application Type", ZclDataType.SIGNED_32_BIT_INTEGER, false, true, false, false));
 
-        attributeMap.put(ATTR_ACTIVETEXT, new ZclAttribute(this, ATTR_ACTIVETEXT, "Active Text", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_DESCRIPTION, new ZclAttribute(this, ATTR_DESCRIPTION, "Description", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_INACTIVETEXT, new ZclAttribute(this, ATTR_INACTIVETEXT, "Inactive Text", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_OUTOFSERVICE, new ZclAttribute(this, ATTR_OUTOFSERVICE, "Out Of Service", ZclDataType.BOOLEAN, true, true, true, false));
-        attributeMap.put(ATTR_POLARITY, new ZclAttribute(this, ATTR_POLARITY, "Polarity", ZclDataType.ENUMERATION_8_BIT, false, true, false, false));
-        attributeMap.put(ATTR_PRESENTVALUE, new ZclAttribute(this, ATTR_PRESENTVALUE, "Present Value", ZclDataType.BOOLEAN, true, true, true, true));
-        attributeMap.put(ATTR_RELIABILITY, new ZclAttribute(this, ATTR_RELIABILITY, "Reliability", ZclDataType.ENUMERATION_8_BIT, false, true, true, false));
-        attributeMap.put(ATTR_STATUSFLAGS, new ZclAttribute(this, ATTR_STATUSFLAGS, "Status Flags", ZclDataType.BITMAP_8_BIT, true, true, false, true));
-        attributeMap.put(ATTR_APPLICATIONTYPE, new ZclAttribute(this, ATTR_APPLICATIONTYPE, "Application Type", ZclDataType.SIGNED_32_BIT_INTEGER, false, true, false, false));
+        return Collections.unmodifiableMap(attributeMap);
+    }
 
-        return attributeMap;
+    @Override
+    protected Map<Integer, ZclAttributeDefinition> getServerAttributeDefinitions() {
+        return SERVER_ATTRIBUTES;
     }
 
     /**
@@ -219,7 +223,7 @@ public class ZclBinaryInputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setActiveText(final String value) {
-        return write(serverAttributes.get(ATTR_ACTIVETEXT), value);
+        return write(getServerAttribute(ATTR_ACTIVETEXT), value);
     }
 
     /**
@@ -243,7 +247,7 @@ public class ZclBinaryInputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getActiveTextAsync() {
-        return read(serverAttributes.get(ATTR_ACTIVETEXT));
+        return read(getServerAttribute(ATTR_ACTIVETEXT));
     }
 
     /**
@@ -275,11 +279,11 @@ public class ZclBinaryInputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public String getActiveText(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_ACTIVETEXT).isLastValueCurrent(refreshPeriod)) {
-            return (String) serverAttributes.get(ATTR_ACTIVETEXT).getLastValue();
+        if (getServerAttribute(ATTR_ACTIVETEXT).isLastValueCurrent(refreshPeriod)) {
+            return (String) getServerAttribute(ATTR_ACTIVETEXT).getLastValue();
         }
 
-        return (String) readSync(serverAttributes.get(ATTR_ACTIVETEXT));
+        return (String) readSync(getServerAttribute(ATTR_ACTIVETEXT));
     }
 
     /**
@@ -300,7 +304,7 @@ public class ZclBinaryInputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setDescription(final String value) {
-        return write(serverAttributes.get(ATTR_DESCRIPTION), value);
+        return write(getServerAttribute(ATTR_DESCRIPTION), value);
     }
 
     /**
@@ -320,7 +324,7 @@ public class ZclBinaryInputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getDescriptionAsync() {
-        return read(serverAttributes.get(ATTR_DESCRIPTION));
+        return read(getServerAttribute(ATTR_DESCRIPTION));
     }
 
     /**
@@ -348,11 +352,11 @@ public class ZclBinaryInputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public String getDescription(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_DESCRIPTION).isLastValueCurrent(refreshPeriod)) {
-            return (String) serverAttributes.get(ATTR_DESCRIPTION).getLastValue();
+        if (getServerAttribute(ATTR_DESCRIPTION).isLastValueCurrent(refreshPeriod)) {
+            return (String) getServerAttribute(ATTR_DESCRIPTION).getLastValue();
         }
 
-        return (String) readSync(serverAttributes.get(ATTR_DESCRIPTION));
+        return (String) readSync(getServerAttribute(ATTR_DESCRIPTION));
     }
 
     /**
@@ -377,7 +381,7 @@ public class ZclBinaryInputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setInactiveText(final String value) {
-        return write(serverAttributes.get(ATTR_INACTIVETEXT), value);
+        return write(getServerAttribute(ATTR_INACTIVETEXT), value);
     }
 
     /**
@@ -401,7 +405,7 @@ public class ZclBinaryInputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getInactiveTextAsync() {
-        return read(serverAttributes.get(ATTR_INACTIVETEXT));
+        return read(getServerAttribute(ATTR_INACTIVETEXT));
     }
 
     /**
@@ -433,11 +437,11 @@ public class ZclBinaryInputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public String getInactiveText(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_INACTIVETEXT).isLastValueCurrent(refreshPeriod)) {
-            return (String) serverAttributes.get(ATTR_INACTIVETEXT).getLastValue();
+        if (getServerAttribute(ATTR_INACTIVETEXT).isLastValueCurrent(refreshPeriod)) {
+            return (String) getServerAttribute(ATTR_INACTIVETEXT).getLastValue();
         }
 
-        return (String) readSync(serverAttributes.get(ATTR_INACTIVETEXT));
+        return (String) readSync(getServerAttribute(ATTR_INACTIVETEXT));
     }
 
     /**
@@ -462,7 +466,7 @@ public class ZclBinaryInputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setOutOfService(final Boolean value) {
-        return write(serverAttributes.get(ATTR_OUTOFSERVICE), value);
+        return write(getServerAttribute(ATTR_OUTOFSERVICE), value);
     }
 
     /**
@@ -486,7 +490,7 @@ public class ZclBinaryInputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getOutOfServiceAsync() {
-        return read(serverAttributes.get(ATTR_OUTOFSERVICE));
+        return read(getServerAttribute(ATTR_OUTOFSERVICE));
     }
 
     /**
@@ -518,11 +522,11 @@ public class ZclBinaryInputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Boolean getOutOfService(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_OUTOFSERVICE).isLastValueCurrent(refreshPeriod)) {
-            return (Boolean) serverAttributes.get(ATTR_OUTOFSERVICE).getLastValue();
+        if (getServerAttribute(ATTR_OUTOFSERVICE).isLastValueCurrent(refreshPeriod)) {
+            return (Boolean) getServerAttribute(ATTR_OUTOFSERVICE).getLastValue();
         }
 
-        return (Boolean) readSync(serverAttributes.get(ATTR_OUTOFSERVICE));
+        return (Boolean) readSync(getServerAttribute(ATTR_OUTOFSERVICE));
     }
 
     /**
@@ -548,7 +552,7 @@ public class ZclBinaryInputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setOutOfServiceReporting(final int minInterval, final int maxInterval) {
-        return setReporting(serverAttributes.get(ATTR_OUTOFSERVICE), minInterval, maxInterval);
+        return setReporting(getServerAttribute(ATTR_OUTOFSERVICE), minInterval, maxInterval);
     }
 
     /**
@@ -576,7 +580,7 @@ public class ZclBinaryInputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getPolarityAsync() {
-        return read(serverAttributes.get(ATTR_POLARITY));
+        return read(getServerAttribute(ATTR_POLARITY));
     }
 
     /**
@@ -612,11 +616,11 @@ public class ZclBinaryInputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getPolarity(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_POLARITY).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_POLARITY).getLastValue();
+        if (getServerAttribute(ATTR_POLARITY).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_POLARITY).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_POLARITY));
+        return (Integer) readSync(getServerAttribute(ATTR_POLARITY));
     }
 
     /**
@@ -640,7 +644,7 @@ public class ZclBinaryInputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setPresentValue(final Boolean value) {
-        return write(serverAttributes.get(ATTR_PRESENTVALUE), value);
+        return write(getServerAttribute(ATTR_PRESENTVALUE), value);
     }
 
     /**
@@ -663,7 +667,7 @@ public class ZclBinaryInputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getPresentValueAsync() {
-        return read(serverAttributes.get(ATTR_PRESENTVALUE));
+        return read(getServerAttribute(ATTR_PRESENTVALUE));
     }
 
     /**
@@ -694,11 +698,11 @@ public class ZclBinaryInputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Boolean getPresentValue(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PRESENTVALUE).isLastValueCurrent(refreshPeriod)) {
-            return (Boolean) serverAttributes.get(ATTR_PRESENTVALUE).getLastValue();
+        if (getServerAttribute(ATTR_PRESENTVALUE).isLastValueCurrent(refreshPeriod)) {
+            return (Boolean) getServerAttribute(ATTR_PRESENTVALUE).getLastValue();
         }
 
-        return (Boolean) readSync(serverAttributes.get(ATTR_PRESENTVALUE));
+        return (Boolean) readSync(getServerAttribute(ATTR_PRESENTVALUE));
     }
 
     /**
@@ -723,7 +727,7 @@ public class ZclBinaryInputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setPresentValueReporting(final int minInterval, final int maxInterval) {
-        return setReporting(serverAttributes.get(ATTR_PRESENTVALUE), minInterval, maxInterval);
+        return setReporting(getServerAttribute(ATTR_PRESENTVALUE), minInterval, maxInterval);
     }
 
     /**
@@ -748,7 +752,7 @@ public class ZclBinaryInputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setReliability(final Integer value) {
-        return write(serverAttributes.get(ATTR_RELIABILITY), value);
+        return write(getServerAttribute(ATTR_RELIABILITY), value);
     }
 
     /**
@@ -772,7 +776,7 @@ public class ZclBinaryInputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getReliabilityAsync() {
-        return read(serverAttributes.get(ATTR_RELIABILITY));
+        return read(getServerAttribute(ATTR_RELIABILITY));
     }
 
     /**
@@ -804,11 +808,11 @@ public class ZclBinaryInputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getReliability(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_RELIABILITY).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_RELIABILITY).getLastValue();
+        if (getServerAttribute(ATTR_RELIABILITY).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_RELIABILITY).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_RELIABILITY));
+        return (Integer) readSync(getServerAttribute(ATTR_RELIABILITY));
     }
 
     /**
@@ -852,7 +856,7 @@ public class ZclBinaryInputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getStatusFlagsAsync() {
-        return read(serverAttributes.get(ATTR_STATUSFLAGS));
+        return read(getServerAttribute(ATTR_STATUSFLAGS));
     }
 
     /**
@@ -904,11 +908,11 @@ public class ZclBinaryInputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getStatusFlags(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_STATUSFLAGS).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_STATUSFLAGS).getLastValue();
+        if (getServerAttribute(ATTR_STATUSFLAGS).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_STATUSFLAGS).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_STATUSFLAGS));
+        return (Integer) readSync(getServerAttribute(ATTR_STATUSFLAGS));
     }
 
     /**
@@ -954,7 +958,7 @@ public class ZclBinaryInputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setStatusFlagsReporting(final int minInterval, final int maxInterval) {
-        return setReporting(serverAttributes.get(ATTR_STATUSFLAGS), minInterval, maxInterval);
+        return setReporting(getServerAttribute(ATTR_STATUSFLAGS), minInterval, maxInterval);
     }
 
     /**
@@ -982,7 +986,7 @@ public class ZclBinaryInputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getApplicationTypeAsync() {
-        return read(serverAttributes.get(ATTR_APPLICATIONTYPE));
+        return read(getServerAttribute(ATTR_APPLICATIONTYPE));
     }
 
     /**
@@ -1018,10 +1022,10 @@ public class ZclBinaryInputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getApplicationType(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_APPLICATIONTYPE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_APPLICATIONTYPE).getLastValue();
+        if (getServerAttribute(ATTR_APPLICATIONTYPE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_APPLICATIONTYPE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_APPLICATIONTYPE));
+        return (Integer) readSync(getServerAttribute(ATTR_APPLICATIONTYPE));
     }
 }
@@ -7,7 +7,9 @@
  */
 package com.zsmartsystems.zigbee.zcl.clusters;
 
+import java.util.Collections;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.Future;
 
@@ -16,6 +18,7 @@ import javax.annotation.Generated;
 import com.zsmartsystems.zigbee.CommandResult;
 import com.zsmartsystems.zigbee.ZigBeeEndpoint;
 import com.zsmartsystems.zigbee.zcl.ZclAttribute;
+import com.zsmartsystems.zigbee.zcl.ZclAttributeDefinition;
 import com.zsmartsystems.zigbee.zcl.ZclCluster;
 import com.zsmartsystems.zigbee.zcl.ZclCommand;
 import com.zsmartsystems.zigbee.zcl.clusters.colorcontrol.ColorLoopSetCommand;
@@ -58,7 +61,7 @@ import com.zsmartsystems.zigbee.zcl.protocol.ZclDataType;
  * <p>
  * Code is auto-generated. Modifications may be overwritten!
  */
-@Generated(value = "com.zsmartsystems.zigbee.autocode.ZigBeeCodeGenerator", date = "2019-10-04T18:21:10Z")
+@Generated(value = "com.zsmartsystems.zigbee.autocode.ZigBeeCodeGenerator", date = "2026-10-18T14:31:35Z")
 public class ZclColorControlCluster extends ZclCluster {
     /**
      * The ZigBee Cluster Library Cluster ID
@@ -220,38 +223,40 @@ public class ZclColorControlCluster extends ZclCluster {
      */
     public static final int ATTR_COLORTEMPERATUREMAX = 0x400C;
 
-    @Override
-    protected Map<Integer, ZclAttribute> initializeClientAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
-
-        return attributeMap;
+    /**
+     * The server attribute definitions. These are shared by all instances of this cluster.
+     */
+    private static final Map<Integer, ZclAttributeDefinition> SERVER_ATTRIBUTES = initializeServerAttributeDefinitions();
+
+    private static Map<Integer, ZclAttributeDefinition> initializeServerAttributeDefinitions() {
+        Map<Integer, ZclAttributeDefinition> attributeMap = new TreeMap<>();
+
+        attributeMap.put(ATTR_CURRENTHUE, new ZclAttributeDefinition(ATTR_CURRENTHUE, "Current Hue", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, true));
+        attributeMap.put(ATTR_CURRENTSATURATION, new ZclAttributeDefinition(ATTR_CURRENTSATURATION, "Current Saturation", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, true));
+        attributeMap.put(ATTR_REMAININGTIME, new ZclAttributeDefinition(ATTR_REMAININGTIME, "Remaining Time", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_CURRENTX, new ZclAttributeDefinition(ATTR_CURRENTX, "Current X", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, true));
+        attributeMap.put(ATTR_CURRENTY, new ZclAttributeDefinition(ATTR_CURRENTY, "Current Y", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, true));
+        attributeMap.put(ATTR_DRIFTCOMPENSATION, new ZclAttributeDefinition(ATTR_DRIFTCOMPENSATION, "Drift Compensation", ZclDataType.ENUMERATION_8_BIT, false, true, false, false));
+        attributeMap.put(ATTR_COMPENSATIONTEXT, new ZclAttributeDefinition(ATTR_COMPENSATIONTEXT, "Compensation Text", ZclDataType.CHARACTER_STRING, false, true, false, false));
+        attributeMap.put(ATTR_COLORTEMPERATURE, new ZclAttributeDefinition(ATTR_COLORTEMPERATURE, "Color Temperature", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, true));
+        attributeMap.put(ATTR_COLORMODE, new ZclAttributeDefinition(ATTR_COLORMODE, "Color Mode", ZclDataType.ENUMERATION_8_BIT, false, true, false, false));
+        attributeMap.put(ATTR_ENHANCEDCURRENTHUE, new ZclAttributeDefinition(ATTR_ENHANCEDCURRENTHUE, "Enhanced Current Hue", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, true));
+        attributeMap.put(ATTR_ENHANCEDCOLORMODE, new ZclAttributeDefinition(ATTR_ENHANCEDCOLORMODE, "Enhanced Color Mode", ZclDataType.ENUMERATION_8_BIT, false, true, false, false));
+        attributeMap.put(ATTR_COLORLOOPACTIVE, new ZclAttributeDefinition(ATTR_COLORLOOPACTIVE, "Color Loop Active", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_COLORLOOPDIRECTION, new ZclAttributeDefinition(ATTR_COLORLOOPDIRECTION, "Color Loop Direction", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_COLORLOOPTIME, new ZclAttributeDefinition(ATTR_COLORLOOPTIME, "Color Loop Time", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_COLORLOOPSTARTHUE, new ZclAttributeDefinition(ATTR_COLORLOOPSTARTHUE, "Color Loop Start Hue", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_COLORLOOPSTOREDHUE, new ZclAttributeDefinition(ATTR_COLORLOOPSTOREDHUE, "Color Loop Stored Hue", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_COLORCAPABILITIES, new ZclAttributeDefinition(ATTR_COLORCAPABILITIES, "Color Capabilities", ZclDataType.BITMAP_16_BIT, false, true, false, false));
+        attributeMap.put(ATTR_COLORTEMPERATUREMIN, new ZclAttributeDefinition(ATTR_COLORTEMPERATUREMIN, "Color Temperature Min", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_COLORTEMPERATUREMAX, new ZclAttributeDefinition(ATTR_COLORTEMPERATUREMAX, "Color Temperature Max", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
+
+        return Collections.unmodifiableMap(attributeMap);
     }
 
     @Override
-    protected Map<Integer, ZclAttribute> initializeServerAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
-
-        attributeMap.put(ATTR_CURRENTHUE, new ZclAttribute(this, ATTR_CURRENTHUE, "Current Hue", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, true));
-        attributeMap.put(ATTR_CURRENTSATURATION, new ZclAttribute(this, ATTR_CURRENTSATURATION, "Current Saturation", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, true));
-        attributeMap.put(ATTR_REMAININGTIME, new ZclAttribute(this, ATTR_REMAININGTIME, "Remaining Time", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_CURRENTX, new ZclAttribute(this, ATTR_CURRENTX, "Current X", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, true));
-        attributeMap.put(ATTR_CURRENTY, new ZclAttribute(this, ATTR_CURRENTY, "Current Y", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, true));
-        attributeMap.put(ATTR_DRIFTCOMPENSATION, new ZclAttribute(this, ATTR_DRIFTCOMPENSATION, "Drift Compensation", ZclDataType.ENUMERATION_8_BIT, false, true, false, false));
-        attributeMap.put(ATTR_COMPENSATIONTEXT, new ZclAttribute(this, ATTR_COMPENSATIONTEXT, "Compensation Text", ZclDataType.CHARACTER_STRING, false, true, false, false));
-        attributeMap.put(ATTR_COLORTEMPERATURE, new ZclAttribute(this, ATTR_COLORTEMPERATURE, "Color Temperature", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, true));
-        attributeMap.put(ATTR_COLORMODE, new ZclAttribute(this, ATTR_COLORMODE, "Color Mode", ZclDataType.ENUMERATION_8_BIT, false, true, false, false));
-        attributeMap.put(ATTR_ENHANCEDCURRENTHUE, new ZclAttribute(this, ATTR_ENHANCEDCURRENTHUE, "Enhanced Current Hue", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, true));
-        attributeMap.put(ATTR_ENHANCEDCOLORMODE, new ZclAttribute(this, ATTR_ENHANCEDCOLORMODE, "Enhanced Color Mode", ZclDataType.ENUMERATION_8_BIT, false, true, false, false));
-        attributeMap.put(ATTR_COLORLOOPACTIVE, new ZclAttribute(this, ATTR_COLORLOOPACTIVE, "Color Loop Active", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_COLORLOOPDIRECTION, new ZclAttribute(this, ATTR_COLORLOOPDIRECTION, "Color Loop Direction", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_COLORLOOPTIME, new ZclAttribute(this, ATTR_COLORLOOPTIME, "Color Loop Time", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_COLORLOOPSTARTHUE, new ZclAttribute(this, ATTR_COLORLOOPSTARTHUE, "Color Loop Start Hue", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_COLORLOOPSTOREDHUE, new ZclAttribute(this, ATTR_COLORLOOPSTOREDHUE, "Color Loop Stored Hue", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_COLORCAPABILITIES, new ZclAttribute(this, ATTR_COLORCAPABILITIES, "Color Capabilities", ZclDataType.BITMAP_16_BIT, false, true, false, false));
-        attributeMap.put(ATTR_COLORTEMPERATUREMIN, new ZclAttribute(this, ATTR_COLORTEMPERATUREMIN, "Color Temperature Min", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_COLORTEMPERATUREMAX, new ZclAttribute(this, ATTR_COLORTEMPERATUREMAX, "Color Temperature Max", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
-
-        return attributeMap;
+    protected Map<Integer, ZclAttributeDefinition> getServerAttributeDefinitions() {
+        return SERVER_ATTRIBUTES;
     }
 
     @Override
@@ -311,7 +316,7 @@ public class ZclColorControlCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCurrentHueAsync() {
-        return read(serverAttributes.get(ATTR_CURRENTHUE));
+        return read(getServerAttribute(ATTR_CURRENTHUE));
     }
 
     /**
@@ -343,11 +348,11 @@ public class ZclColorControlCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCurrentHue(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CURRENTHUE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CURRENTHUE).getLastValue();
+        if (getServerAttribute(ATTR_CURRENTHUE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CURRENTHUE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CURRENTHUE));
+        return (Integer) readSync(getServerAttribute(ATTR_CURRENTHUE));
     }
 
     /**
@@ -369,7 +374,7 @@ public class ZclColorControlCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCurrentSaturationAsync() {
-        return read(serverAttributes.get(ATTR_CURRENTSATURATION));
+        return read(getServerAttribute(ATTR_CURRENTSATURATION));
     }
 
     /**
@@ -399,11 +404,11 @@ public class ZclColorControlCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCurrentSaturation(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CURRENTSATURATION).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CURRENTSATURATION).getLastValue();
+        if (getServerAttribute(ATTR_CURRENTSATURATION).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CURRENTSATURATION).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CURRENTSATURATION));
+        return (Integer) readSync(getServerAttribute(ATTR_CURRENTSATURATION));
     }
 
     /**
@@ -421,7 +426,7 @@ public class ZclColorControlCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getRemainingTimeAsync() {
-        return read(serverAttributes.get(ATTR_REMAININGTIME));
+        return read(getServerAttribute(ATTR_REMAININGTIME));
     }
 
     /**
@@ -447,11 +452,11 @@ public class ZclColorControlCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getRemainingTime(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_REMAININGTIME).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_REMAININGTIME).getLastValue();
+        if (getServerAttribute(ATTR_REMAININGTIME).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_REMAININGTIME).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_REMAININGTIME));
+        return (Integer) readSync(getServerAttribute(ATTR_REMAININGTIME));
     }
 
     /**
@@ -474,7 +479,7 @@ public class ZclColorControlCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCurrentXAsync() {
-        return read(serverAttributes.get(ATTR_CURRENTX));
+        return read(getServerAttribute(ATTR_CURRENTX));
     }
 
     /**
@@ -505,11 +510,11 @@ public class ZclColorControlCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCurrentX(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CURRENTX).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CURRENTX).getLastValue();
+        if (getServerAttribute(ATTR_CURRENTX).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CURRENTX).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CURRENTX));
+        return (Integer) readSync(getServerAttribute(ATTR_CURRENTX));
     }
 
     /**
@@ -535,7 +540,7 @@ public class ZclColorControlCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setCurrentXReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_CURRENTX), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_CURRENTX), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -558,7 +563,7 @@ public class ZclColorControlCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCurrentYAsync() {
-        return read(serverAttributes.get(ATTR_CURRENTY));
+        return read(getServerAttribute(ATTR_CURRENTY));
     }
 
     /**
@@ -589,11 +594,11 @@ public class ZclColorControlCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCurrentY(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CURRENTY).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CURRENTY).getLastValue();
+        if (getServerAttribute(ATTR_CURRENTY).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CURRENTY).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CURRENTY));
+        return (Integer) readSync(getServerAttribute(ATTR_CURRENTY));
     }
 
     /**
@@ -619,7 +624,7 @@ public class ZclColorControlCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setCurrentYReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_CURRENTY), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_CURRENTY), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -637,7 +642,7 @@ public class ZclColorControlCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getDriftCompensationAsync() {
-        return read(serverAttributes.get(ATTR_DRIFTCOMPENSATION));
+        return read(getServerAttribute(ATTR_DRIFTCOMPENSATION));
     }
 
     /**
@@ -663,11 +668,11 @@ public class ZclColorControlCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getDriftCompensation(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_DRIFTCOMPENSATION).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_DRIFTCOMPENSATION).getLastValue();
+        if (getServerAttribute(ATTR_DRIFTCOMPENSATION).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_DRIFTCOMPENSATION).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_DRIFTCOMPENSATION));
+        return (Integer) readSync(getServerAttribute(ATTR_DRIFTCOMPENSATION));
     }
 
     /**
@@ -685,7 +690,7 @@ public class ZclColorControlCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCompensationTextAsync() {
-        return read(serverAttributes.get(ATTR_COMPENSATIONTEXT));
+        return read(getServerAttribute(ATTR_COMPENSATIONTEXT));
     }
 
     /**
@@ -711,11 +716,11 @@ public class ZclColorControlCluster extends ZclCluster {
      */
     @Deprecated
     public String getCompensationText(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_COMPENSATIONTEXT).isLastValueCurrent(refreshPeriod)) {
-            return (String) serverAttributes.get(ATTR_COMPENSATIONTEXT).getLastValue();
+        if (getServerAttribute(ATTR_COMPENSATIONTEXT).isLastValueCurrent(refreshPeriod)) {
+            return (String) getServerAttribute(ATTR_COMPENSATIONTEXT).getLastValue();
         }
 
-        return (String) readSync(serverAttributes.get(ATTR_COMPENSATIONTEXT));
+        return (String) readSync(getServerAttribute(ATTR_COMPENSATIONTEXT));
     }
 
     /**
@@ -744,7 +749,7 @@ public class ZclColorControlCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getColorTemperatureAsync() {
-        return read(serverAttributes.get(ATTR_COLORTEMPERATURE));
+        return read(getServerAttribute(ATTR_COLORTEMPERATURE));
     }
 
     /**
@@ -781,11 +786,11 @@ public class ZclColorControlCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getColorTemperature(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_COLORTEMPERATURE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_COLORTEMPERATURE).getLastValue();
+        if (getServerAttribute(ATTR_COLORTEMPERATURE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_COLORTEMPERATURE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_COLORTEMPERATURE));
+        return (Integer) readSync(getServerAttribute(ATTR_COLORTEMPERATURE));
     }
 
     /**
@@ -806,7 +811,7 @@ public class ZclColorControlCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getColorModeAsync() {
-        return read(serverAttributes.get(ATTR_COLORMODE));
+        return read(getServerAttribute(ATTR_COLORMODE));
     }
 
     /**
@@ -835,11 +840,11 @@ public class ZclColorControlCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getColorMode(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_COLORMODE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_COLORMODE).getLastValue();
+        if (getServerAttribute(ATTR_COLORMODE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_COLORMODE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_COLORMODE));
+        return (Integer) readSync(getServerAttribute(ATTR_COLORMODE));
     }
 
     /**
@@ -861,7 +866,7 @@ public class ZclColorControlCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getEnhancedCurrentHueAsync() {
-        return read(serverAttributes.get(ATTR_ENHANCEDCURRENTHUE));
+        return read(getServerAttribute(ATTR_ENHANCEDCURRENTHUE));
     }
 
     /**
@@ -891,11 +896,11 @@ public class ZclColorControlCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getEnhancedCurrentHue(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_ENHANCEDCURRENTHUE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_ENHANCEDCURRENTHUE).getLastValue();
+        if (getServerAttribute(ATTR_ENHANCEDCURRENTHUE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_ENHANCEDCURRENTHUE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_ENHANCEDCURRENTHUE));
+        return (Integer) readSync(getServerAttribute(ATTR_ENHANCEDCURRENTHUE));
     }
 
     /**
@@ -915,7 +920,7 @@ public class ZclColorControlCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getEnhancedColorModeAsync() {
-        return read(serverAttributes.get(ATTR_ENHANCEDCOLORMODE));
+        return read(getServerAttribute(ATTR_ENHANCEDCOLORMODE));
     }
 
     /**
@@ -943,11 +948,11 @@ public class ZclColorControlCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getEnhancedColorMode(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_ENHANCEDCOLORMODE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_ENHANCEDCOLORMODE).getLastValue();
+        if (getServerAttribute(ATTR_ENHANCEDCOLORMODE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_ENHANCEDCOLORMODE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_ENHANCEDCOLORMODE));
+        return (Integer) readSync(getServerAttribute(ATTR_ENHANCEDCOLORMODE));
     }
 
     /**
@@ -967,7 +972,7 @@ public class ZclColorControlCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getColorLoopActiveAsync() {
-        return read(serverAttributes.get(ATTR_COLORLOOPACTIVE));
+        return read(getServerAttribute(ATTR_COLORLOOPACTIVE));
     }
 
     /**
@@ -995,11 +1000,11 @@ public class ZclColorControlCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getColorLoopActive(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_COLORLOOPACTIVE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_COLORLOOPACTIVE).getLastValue();
+        if (getServerAttribute(ATTR_COLORLOOPACTIVE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_COLORLOOPACTIVE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_COLORLOOPACTIVE));
+        return (Integer) readSync(getServerAttribute(ATTR_COLORLOOPACTIVE));
     }
 
     /**
@@ -1019,7 +1024,7 @@ public class ZclColorControlCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getColorLoopDirectionAsync() {
-        return read(serverAttributes.get(ATTR_COLORLOOPDIRECTION));
+        return read(getServerAttribute(ATTR_COLORLOOPDIRECTION));
     }
 
     /**
@@ -1047,11 +1052,11 @@ public class ZclColorControlCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getColorLoopDirection(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_COLORLOOPDIRECTION).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_COLORLOOPDIRECTION).getLastValue();
+        if (getServerAttribute(ATTR_COLORLOOPDIRECTION).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_COLORLOOPDIRECTION).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_COLORLOOPDIRECTION));
+        return (Integer) readSync(getServerAttribute(ATTR_COLORLOOPDIRECTION));
     }
 
     /**
@@ -1070,7 +1075,7 @@ public class ZclColorControlCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getColorLoopTimeAsync() {
-        return read(serverAttributes.get(ATTR_COLORLOOPTIME));
+        return read(getServerAttribute(ATTR_COLORLOOPTIME));
     }
 
     /**
@@ -1097,11 +1102,11 @@ public class ZclColorControlCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getColorLoopTime(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_COLORLOOPTIME).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_COLORLOOPTIME).getLastValue();
+        if (getServerAttribute(ATTR_COLORLOOPTIME).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_COLORLOOPTIME).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_COLORLOOPTIME));
+        return (Integer) readSync(getServerAttribute(ATTR_COLORLOOPTIME));
     }
 
     /**
@@ -1119,7 +1124,7 @@ public class ZclColorControlCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getColorLoopStartHueAsync() {
-        return read(serverAttributes.get(ATTR_COLORLOOPSTARTHUE));
+        return read(getServerAttribute(ATTR_COLORLOOPSTARTHUE));
     }
 
     /**
@@ -1145,11 +1150,11 @@ public class ZclColorControlCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getColorLoopStartHue(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_COLORLOOPSTARTHUE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_COLORLOOPSTARTHUE).getLastValue();
+        if (getServerAttribute(ATTR_COLORLOOPSTARTHUE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_COLORLOOPSTARTHUE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_COLORLOOPSTARTHUE));
+        return (Integer) readSync(getServerAttribute(ATTR_COLORLOOPSTARTHUE));
     }
 
     /**
@@ -1168,7 +1173,7 @@ public class ZclColorControlCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getColorLoopStoredHueAsync() {
-        return read(serverAttributes.get(ATTR_COLORLOOPSTOREDHUE));
+        return read(getServerAttribute(ATTR_COLORLOOPSTOREDHUE));
     }
 
     /**
@@ -1195,11 +1200,11 @@ public class ZclColorControlCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getColorLoopStoredHue(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_COLORLOOPSTOREDHUE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_COLORLOOPSTOREDHUE).getLastValue();
+        if (getServerAttribute(ATTR_COLORLOOPSTOREDHUE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_COLORLOOPSTOREDHUE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_COLORLOOPSTOREDHUE));
+        return (Integer) readSync(getServerAttribute(ATTR_COLORLOOPSTOREDHUE));
     }
 
     /**
@@ -1220,7 +1225,7 @@ public class ZclColorControlCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getColorCapabilitiesAsync() {
-        return read(serverAttributes.get(ATTR_COLORCAPABILITIES));
+        return read(getServerAttribute(ATTR_COLORCAPABILITIES));
     }
 
     /**
@@ -1249,11 +1254,11 @@ public class ZclColorControlCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getColorCapabilities(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_COLORCAPABILITIES).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_COLORCAPABILITIES).getLastValue();
+        if (getServerAttribute(ATTR_COLORCAPABILITIES).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_COLORCAPABILITIES).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_COLORCAPABILITIES));
+        return (Integer) readSync(getServerAttribute(ATTR_COLORCAPABILITIES));
     }
 
     /**
@@ -1273,7 +1278,7 @@ public class ZclColorControlCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getColorTemperatureMinAsync() {
-        return read(serverAttributes.get(ATTR_COLORTEMPERATUREMIN));
+        return read(getServerAttribute(ATTR_COLORTEMPERATUREMIN));
     }
 
     /**
@@ -1301,11 +1306,11 @@ public class ZclColorControlCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getColorTemperatureMin(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_COLORTEMPERATUREMIN).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_COLORTEMPERATUREMIN).getLastValue();
+        if (getServerAttribute(ATTR_COLORTEMPERATUREMIN).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_COLORTEMPERATUREMIN).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_COLORTEMPERATUREMIN));
+        return (Integer) readSync(getServerAttribute(ATTR_COLORTEMPERATUREMIN));
     }
 
     /**
@@ -1325,7 +1330,7 @@ public class ZclColorControlCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getColorTemperatureMaxAsync() {
-        return read(serverAttributes.get(ATTR_COLORTEMPERATUREMAX));
+        return read(getServerAttribute(ATTR_COLORTEMPERATUREMAX));
     }
 
     /**
@@ -1353,11 +1358,11 @@ public class ZclColorControlCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getColorTemperatureMax(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_COLORTEMPERATUREMAX).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_COLORTEMPERATUREMAX).getLastValue();
+        if (getServerAttribute(ATTR_COLORTEMPERATUREMAX).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_COLORTEMPERATUREMAX).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_COLORTEMPERATUREMAX));
+        return (Integer) readSync(getServerAttribute(ATTR_COLORTEMPERATUREMAX));
     }
 
     /**
@@ -7,8 +7,9 @@
  */
 package com.zsmartsystems.zigbee.zcl.clusters;
 
+import java.util.Collections;
 import java.util.Map;
-import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.TreeMap;
 import java.util.concurrent.Future;
 
 import javax.annotation.Generated;
@@ -16,6 +17,7 @@ import javax.annotation.Generated;
 import com.zsmartsystems.zigbee.CommandResult;
 import com.zsmartsystems.zigbee.ZigBeeEndpoint;
 import com.zsmartsystems.zigbee.zcl.ZclAttribute;
+import com.zsmartsystems.zigbee.zcl.ZclAttributeDefinition;
 import com.zsmartsystems.zigbee.zcl.ZclCluster;
 import com.zsmartsystems.zigbee.zcl.protocol.ZclDataType;
 
@@ -26,7 +28,7 @@ import com.zsmartsystems.zigbee.zcl.protocol.ZclDataType;
  * <p>
  * Code is auto-generated. Modifications may be overwritten!
  */
-@Generated(value = "com.zsmartsystems.zigbee.autocode.ZigBeeCodeGenerator", date = "2019-10-04T18:21:10Z")
+@Generated(value = "com.zsmartsystems.zigbee.autocode.ZigBeeCodeGenerator", date = "2026-10-18T14:31:35Z")
 public class ZclDehumidificationControlCluster extends ZclCluster {
     /**
      * The ZigBee Cluster Library Cluster ID
@@ -83,27 +85,29 @@ public class ZclDehumidificationControlCluster extends ZclCluster {
      */
     public static final int ATTR_RELATIVEHUMIDITYDISPLAY = 0x0015;
 
-    @Override
-    protected Map<Integer, ZclAttribute> initializeClientAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
+    /**
+     * The server attribute definitions. These are shared by all instances of this cluster.
+     */
+    private static final Map<Integer, ZclAttributeDefinition> SERVER_ATTRIBUTES = initializeServerAttributeDefinitions();
+
+    private static Map<Integer, ZclAttributeDefinition> initializeServerAttributeDefinitions() {
+        Map<Integer, ZclAttributeDefinition> attributeMap = new TreeMap<>();
+
+        attributeMap.put(ATTR_RELATIVEHUMIDITY, new ZclAttributeDefinition(ATTR_RELATIVEHUMIDITY, "Relative Humidity", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_DEHUMIDIFICATIONCOOLING, new ZclAttributeDefinition(ATTR_DEHUMIDIFICATIONCOOLING, "Dehumidification Cooling", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_RHDEHUMIDIFICATIONSETPOINT, new ZclAttributeDefinition(ATTR_RHDEHUMIDIFICATIONSETPOINT, "Rh Dehumidification Setpoint", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, true));
+        attributeMap.put(ATTR_RELATIVEHUMIDITYMODE, new ZclAttributeDefinition(ATTR_RELATIVEHUMIDITYMODE, "Relative Humidity Mode", ZclDataType.ENUMERATION_8_BIT, false, true, true, true));
+        attributeMap.put(ATTR_DEHUMIDIFICATIONLOCKOUT, new ZclAttributeDefinition(ATTR_DEHUMIDIFICATIONLOCKOUT, "Dehumidification Lockout", ZclDataType.ENUMERATION_8_BIT, false, true, true, true));
+        attributeMap.put(ATTR_DEHUMIDIFICATIONHYSTERESIS, new ZclAttributeDefinition(ATTR_DEHUMIDIFICATIONHYSTERESIS, "Dehumidification Hysteresis", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, true));
+        attributeMap.put(ATTR_DEHUMIDIFICATIONMAXCOOL, new ZclAttributeDefinition(ATTR_DEHUMIDIFICATIONMAXCOOL, "Dehumidification Max Cool", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, true));
+        attributeMap.put(ATTR_RELATIVEHUMIDITYDISPLAY, new ZclAttributeDefinition(ATTR_RELATIVEHUMIDITYDISPLAY, "Relative Humidity Display", ZclDataType.ENUMERATION_8_BIT, false, true, true, true));
 
-        return attributeMap;
+        return Collections.unmodifiableMap(attributeMap);
     }
 
     @Override
-    protected Map<Integer, ZclAttribute> initializeServerAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
-
-        attributeMap.put(ATTR_RELATIVEHUMIDITY, new ZclAttribute(this, ATTR_RELATIVEHUMIDITY, "Relative Humidity", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_DEHUMIDIFICATIONCOOLING, new ZclAttribute(this, ATTR_DEHUMIDIFICATIONCOOLING, "Dehumidification Cooling", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_RHDEHUMIDIFICATIONSETPOINT, new ZclAttribute(this, ATTR_RHDEHUMIDIFICATIONSETPOINT, "Rh Dehumidification Setpoint", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, true));
-        attributeMap.put(ATTR_RELATIVEHUMIDITYMODE, new ZclAttribute(this, ATTR_RELATIVEHUMIDITYMODE, "Relative Humidity Mode", ZclDataType.ENUMERATION_8_BIT, false, true, true, true));
-        attributeMap.put(ATTR_DEHUMIDIFICATIONLOCKOUT, new ZclAttribute(this, ATTR_DEHUMIDIFICATIONLOCKOUT, "Dehumidification Lockout", ZclDataType.ENUMERATION_8_BIT, false, true, true, true));
-        attributeMap.put(ATTR_DEHUMIDIFICATIONHYSTERESIS, new ZclAttribute(this, ATTR_DEHUMIDIFICATIONHYSTERESIS, "Dehumidification Hysteresis", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, true));
-        attributeMap.put(ATTR_DEHUMIDIFICATIONMAXCOOL, new ZclAttribute(this, ATTR_DEHUMIDIFICATIONMAXCOOL, "Dehumidification Max Cool", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, true));
-        attributeMap.put(ATTR_RELATIVEHUMIDITYDISPLAY, new ZclAttribute(this, ATTR_RELATIVEHUMIDITYDISPLAY, "Relative Humidity Display", ZclDataType.ENUMERATION_8_BIT, false, true, true, true));
-
-        return attributeMap;
+    protected Map<Integer, ZclAttributeDefinition> getServerAttributeDefinitions() {
+        return SERVER_ATTRIBUTES;
     }
 
     /**
@@ -131,7 +135,7 @@ public class ZclDehumidificationControlCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getRelativeHumidityAsync() {
-        return read(serverAttributes.get(ATTR_RELATIVEHUMIDITY));
+        return read(getServerAttribute(ATTR_RELATIVEHUMIDITY));
     }
 
     /**
@@ -158,11 +162,11 @@ public class ZclDehumidificationControlCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getRelativeHumidity(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_RELATIVEHUMIDITY).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_RELATIVEHUMIDITY).getLastValue();
+        if (getServerAttribute(ATTR_RELATIVEHUMIDITY).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_RELATIVEHUMIDITY).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_RELATIVEHUMIDITY));
+        return (Integer) readSync(getServerAttribute(ATTR_RELATIVEHUMIDITY));
     }
 
     /**
@@ -184,7 +188,7 @@ public class ZclDehumidificationControlCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setRelativeHumidityReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_RELATIVEHUMIDITY), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_RELATIVEHUMIDITY), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -203,7 +207,7 @@ public class ZclDehumidificationControlCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getDehumidificationCoolingAsync() {
-        return read(serverAttributes.get(ATTR_DEHUMIDIFICATIONCOOLING));
+        return read(getServerAttribute(ATTR_DEHUMIDIFICATIONCOOLING));
     }
 
     /**
@@ -230,11 +234,11 @@ public class ZclDehumidificationControlCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getDehumidificationCooling(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_DEHUMIDIFICATIONCOOLING).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_DEHUMIDIFICATIONCOOLING).getLastValue();
+        if (getServerAttribute(ATTR_DEHUMIDIFICATIONCOOLING).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_DEHUMIDIFICATIONCOOLING).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_DEHUMIDIFICATIONCOOLING));
+        return (Integer) readSync(getServerAttribute(ATTR_DEHUMIDIFICATIONCOOLING));
     }
 
     /**
@@ -256,7 +260,7 @@ public class ZclDehumidificationControlCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setDehumidificationCoolingReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_DEHUMIDIFICATIONCOOLING), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_DEHUMIDIFICATIONCOOLING), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -276,7 +280,7 @@ public class ZclDehumidificationControlCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setRhDehumidificationSetpoint(final Integer value) {
-        return write(serverAttributes.get(ATTR_RHDEHUMIDIFICATIONSETPOINT), value);
+        return write(getServerAttribute(ATTR_RHDEHUMIDIFICATIONSETPOINT), value);
     }
 
     /**
@@ -295,7 +299,7 @@ public class ZclDehumidificationControlCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getRhDehumidificationSetpointAsync() {
-        return read(serverAttributes.get(ATTR_RHDEHUMIDIFICATIONSETPOINT));
+        return read(getServerAttribute(ATTR_RHDEHUMIDIFICATIONSETPOINT));
     }
 
     /**
@@ -322,11 +326,11 @@ public class ZclDehumidificationControlCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getRhDehumidificationSetpoint(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_RHDEHUMIDIFICATIONSETPOINT).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_RHDEHUMIDIFICATIONSETPOINT).getLastValue();
+        if (getServerAttribute(ATTR_RHDEHUMIDIFICATIONSETPOINT).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_RHDEHUMIDIFICATIONSETPOINT).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_RHDEHUMIDIFICATIONSETPOINT));
+        return (Integer) readSync(getServerAttribute(ATTR_RHDEHUMIDIFICATIONSETPOINT));
     }
 
     /**
@@ -345,7 +349,7 @@ public class ZclDehumidificationControlCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setRelativeHumidityMode(final Integer value) {
-        return write(serverAttributes.get(ATTR_RELATIVEHUMIDITYMODE), value);
+        return write(getServerAttribute(ATTR_RELATIVEHUMIDITYMODE), value);
     }
 
     /**
@@ -363,7 +367,7 @@ public class ZclDehumidificationControlCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getRelativeHumidityModeAsync() {
-        return read(serverAttributes.get(ATTR_RELATIVEHUMIDITYMODE));
+        return read(getServerAttribute(ATTR_RELATIVEHUMIDITYMODE));
     }
 
     /**
@@ -389,11 +393,11 @@ public class ZclDehumidificationControlCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getRelativeHumidityMode(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_RELATIVEHUMIDITYMODE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_RELATIVEHUMIDITYMODE).getLastValue();
+        if (getServerAttribute(ATTR_RELATIVEHUMIDITYMODE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_RELATIVEHUMIDITYMODE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_RELATIVEHUMIDITYMODE));
+        return (Integer) readSync(getServerAttribute(ATTR_RELATIVEHUMIDITYMODE));
     }
 
     /**
@@ -412,7 +416,7 @@ public class ZclDehumidificationControlCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setDehumidificationLockout(final Integer value) {
-        return write(serverAttributes.get(ATTR_DEHUMIDIFICATIONLOCKOUT), value);
+        return write(getServerAttribute(ATTR_DEHUMIDIFICATIONLOCKOUT), value);
     }
 
     /**
@@ -430,7 +434,7 @@ public class ZclDehumidificationControlCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getDehumidificationLockoutAsync() {
-        return read(serverAttributes.get(ATTR_DEHUMIDIFICATIONLOCKOUT));
+        return read(getServerAttribute(ATTR_DEHUMIDIFICATIONLOCKOUT));
     }
 
     /**
@@ -456,11 +460,11 @@ public class ZclDehumidificationControlCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getDehumidificationLockout(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_DEHUMIDIFICATIONLOCKOUT).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_DEHUMIDIFICATIONLOCKOUT).getLastValue();
+        if (getServerAttribute(ATTR_DEHUMIDIFICATIONLOCKOUT).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_DEHUMIDIFICATIONLOCKOUT).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_DEHUMIDIFICATIONLOCKOUT));
+        return (Integer) readSync(getServerAttribute(ATTR_DEHUMIDIFICATIONLOCKOUT));
     }
 
     /**
@@ -479,7 +483,7 @@ public class ZclDehumidificationControlCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setDehumidificationHysteresis(final Integer value) {
-        return write(serverAttributes.get(ATTR_DEHUMIDIFICATIONHYSTERESIS), value);
+        return write(getServerAttribute(ATTR_DEHUMIDIFICATIONHYSTERESIS), value);
     }
 
     /**
@@ -497,7 +501,7 @@ public class ZclDehumidificationControlCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getDehumidificationHysteresisAsync() {
-        return read(serverAttributes.get(ATTR_DEHUMIDIFICATIONHYSTERESIS));
+        return read(getServerAttribute(ATTR_DEHUMIDIFICATIONHYSTERESIS));
     }
 
     /**
@@ -523,11 +527,11 @@ public class ZclDehumidificationControlCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getDehumidificationHysteresis(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_DEHUMIDIFICATIONHYSTERESIS).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_DEHUMIDIFICATIONHYSTERESIS).getLastValue();
+        if (getServerAttribute(ATTR_DEHUMIDIFICATIONHYSTERESIS).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_DEHUMIDIFICATIONHYSTERESIS).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_DEHUMIDIFICATIONHYSTERESIS));
+        return (Integer) readSync(getServerAttribute(ATTR_DEHUMIDIFICATIONHYSTERESIS));
     }
 
     /**
@@ -546,7 +550,7 @@ public class ZclDehumidificationControlCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setDehumidificationMaxCool(final Integer value) {
-        return write(serverAttributes.get(ATTR_DEHUMIDIFICATIONMAXCOOL), value);
+        return write(getServerAttribute(ATTR_DEHUMIDIFICATIONMAXCOOL), value);
     }
 
     /**
@@ -564,7 +568,7 @@ public class ZclDehumidificationControlCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getDehumidificationMaxCoolAsync() {
-        return read(serverAttributes.get(ATTR_DEHUMIDIFICATIONMAXCOOL));
+        return read(getServerAttribute(ATTR_DEHUMIDIFICATIONMAXCOOL));
     }
 
     /**
@@ -590,11 +594,11 @@ public class ZclDehumidificationControlCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getDehumidificationMaxCool(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_DEHUMIDIFICATIONMAXCOOL).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_DEHUMIDIFICATIONMAXCOOL).getLastValue();
+        if (getServerAttribute(ATTR_DEHUMIDIFICATIONMAXCOOL).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_DEHUMIDIFICATIONMAXCOOL).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_DEHUMIDIFICATIONMAXCOOL));
+        return (Integer) readSync(getServerAttribute(ATTR_DEHUMIDIFICATIONMAXCOOL));
     }
 
     /**
@@ -613,7 +617,7 @@ public class ZclDehumidificationControlCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setRelativeHumidityDisplay(final Integer value) {
-        return write(serverAttributes.get(ATTR_RELATIVEHUMIDITYDISPLAY), value);
+        return write(getServerAttribute(ATTR_RELATIVEHUMIDITYDISPLAY), value);
     }
 
     /**
@@ -631,7 +635,7 @@ public class ZclDehumidificationControlCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getRelativeHumidityDisplayAsync() {
-        return read(serverAttributes.get(ATTR_RELATIVEHUMIDITYDISPLAY));
+        return read(getServerAttribute(ATTR_RELATIVEHUMIDITYDISPLAY));
     }
 
     /**
@@ -657,10 +661,10 @@ public class ZclDehumidificationControlCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getRelativeHumidityDisplay(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_RELATIVEHUMIDITYDISPLAY).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_RELATIVEHUMIDITYDISPLAY).getLastValue();
+        if (getServerAttribute(ATTR_RELATIVEHUMIDITYDISPLAY).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_RELATIVEHUMIDITYDISPLAY).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_RELATIVEHUMIDITYDISPLAY));
+        return (Integer) readSync(getServerAttribute(ATTR_RELATIVEHUMIDITYDISPLAY));
     }
 }
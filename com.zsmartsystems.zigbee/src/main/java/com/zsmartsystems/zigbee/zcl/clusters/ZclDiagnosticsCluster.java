@@ -7,8 +7,9 @@
  */
 package com.zsmartsystems.zigbee.zcl.clusters;
 
+import java.util.Collections;
 import java.util.Map;
-import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.TreeMap;
 import java.util.concurrent.Future;
 
 import javax.annotation.Generated;
@@ -16,6 +17,7 @@ import javax.annotation.Generated;
 import com.zsmartsystems.zigbee.CommandResult;
 import com.zsmartsystems.zigbee.ZigBeeEndpoint;
 import com.zsmartsystems.zigbee.zcl.ZclAttribute;
+import com.zsmartsystems.zigbee.zcl.ZclAttributeDefinition;
 import com.zsmartsystems.zigbee.zcl.ZclCluster;
 import com.zsmartsystems.zigbee.zcl.protocol.ZclDataType;
 
@@ -28,7 +30,7 @@ import com.zsmartsystems.zigbee.zcl.protocol.ZclDataType;
  * <p>
  * Code is auto-generated. Modifications may be overwritten!
  */
-@Generated(value = "com.zsmartsystems.zigbee.autocode.ZigBeeCodeGenerator", date = "2019-10-04T18:21:10Z")
+@Generated(value = "com.zsmartsystems.zigbee.autocode.ZigBeeCodeGenerator", date = "2026-10-18T14:31:35Z")
 public class ZclDiagnosticsCluster extends ZclCluster {
     /**
      * The ZigBee Cluster Library Cluster ID
@@ -95,51 +97,53 @@ public class ZclDiagnosticsCluster extends ZclCluster {
     public static final int ATTR_LASTMESSAGELQI = 0x011C;
     public static final int ATTR_LASTMESSAGERSSI = 0x011D;
 
-    @Override
-    protected Map<Integer, ZclAttribute> initializeClientAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
-
-        return attributeMap;
+    /**
+     * The server attribute definitions. These are shared by all instances of this cluster.
+     */
+    private static final Map<Integer, ZclAttributeDefinition> SERVER_ATTRIBUTES = initializeServerAttributeDefinitions();
+
+    private static Map<Integer, ZclAttributeDefinition> initializeServerAttributeDefinitions() {
+        Map<Integer, ZclAttributeDefinition> attributeMap = new TreeMap<>();
+
+        attributeMap.put(ATTR_NUMBEROFRESETS, new ZclAttributeDefinition(ATTR_NUMBEROFRESETS, "Number Of Resets", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PERSISTENTMEMORYWRITES, new ZclAttributeDefinition(ATTR_PERSISTENTMEMORYWRITES, "Persistent Memory Writes", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_MACRXBCAST, new ZclAttributeDefinition(ATTR_MACRXBCAST, "MAC Rx Bcast", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_MACTXBCAST, new ZclAttributeDefinition(ATTR_MACTXBCAST, "MAC Tx Bcast", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_MACRXUCAST, new ZclAttributeDefinition(ATTR_MACRXUCAST, "MAC Rx Ucast", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_MACTXUCAST, new ZclAttributeDefinition(ATTR_MACTXUCAST, "MAC Tx Ucast", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_MACTXUCASTRETRY, new ZclAttributeDefinition(ATTR_MACTXUCASTRETRY, "MAC Tx Ucast Retry", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_MACTXUCASTFAIL, new ZclAttributeDefinition(ATTR_MACTXUCASTFAIL, "MAC Tx Ucast Fail", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_APSRXBCAST, new ZclAttributeDefinition(ATTR_APSRXBCAST, "APS Rx Bcast", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_APSTXBCAST, new ZclAttributeDefinition(ATTR_APSTXBCAST, "APS Tx Bcast", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_APSRXUCAST, new ZclAttributeDefinition(ATTR_APSRXUCAST, "APS Rx Ucast", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_APSTXUCASTSUCCESS, new ZclAttributeDefinition(ATTR_APSTXUCASTSUCCESS, "APS Tx Ucast Success", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_APSTXUCASTRETRY, new ZclAttributeDefinition(ATTR_APSTXUCASTRETRY, "APS Tx Ucast Retry", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_APSTXUCASTFAIL, new ZclAttributeDefinition(ATTR_APSTXUCASTFAIL, "APS Tx Ucast Fail", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_ROUTEDISCINITIATED, new ZclAttributeDefinition(ATTR_ROUTEDISCINITIATED, "Route Disc Initiated", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_NEIGHBORADDED, new ZclAttributeDefinition(ATTR_NEIGHBORADDED, "Neighbor Added", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_NEIGHBORREMOVED, new ZclAttributeDefinition(ATTR_NEIGHBORREMOVED, "Neighbor Removed", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_NEIGHBORSTALE, new ZclAttributeDefinition(ATTR_NEIGHBORSTALE, "Neighbor Stale", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_JOININDICATION, new ZclAttributeDefinition(ATTR_JOININDICATION, "Join Indication", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CHILDMOVED, new ZclAttributeDefinition(ATTR_CHILDMOVED, "Child Moved", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_NWKFCFAILURE, new ZclAttributeDefinition(ATTR_NWKFCFAILURE, "NWK FC Failure", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_APSFCFAILURE, new ZclAttributeDefinition(ATTR_APSFCFAILURE, "APS FC Failure", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_APSUNAUTHORIZEDKEY, new ZclAttributeDefinition(ATTR_APSUNAUTHORIZEDKEY, "APS Unauthorized Key", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_NWKDECRYPTFAILURES, new ZclAttributeDefinition(ATTR_NWKDECRYPTFAILURES, "NWK Decrypt Failures", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_APSDECRYPTFAILURES, new ZclAttributeDefinition(ATTR_APSDECRYPTFAILURES, "APS Decrypt Failures", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PACKETBUFFERALLOCATEFAILURES, new ZclAttributeDefinition(ATTR_PACKETBUFFERALLOCATEFAILURES, "Packet Buffer Allocate Failures", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_RELAYEDUCAST, new ZclAttributeDefinition(ATTR_RELAYEDUCAST, "Relayed Ucast", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PHYTOMACQUEUELIMITREACHED, new ZclAttributeDefinition(ATTR_PHYTOMACQUEUELIMITREACHED, "Phy To MAC Queue Limit Reached", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PACKETVALIDATEDROPCOUNT, new ZclAttributeDefinition(ATTR_PACKETVALIDATEDROPCOUNT, "Packet Validate Drop Count", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_AVERAGEMACRETRYPERAPSMESSAGESENT, new ZclAttributeDefinition(ATTR_AVERAGEMACRETRYPERAPSMESSAGESENT, "Average MAC Retry Per APS Message Sent", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_LASTMESSAGELQI, new ZclAttributeDefinition(ATTR_LASTMESSAGELQI, "Last Message LQI", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_LASTMESSAGERSSI, new ZclAttributeDefinition(ATTR_LASTMESSAGERSSI, "Last Message RSSI", ZclDataType.SIGNED_8_BIT_INTEGER, true, true, false, false));
+
+        return Collections.unmodifiableMap(attributeMap);
     }
 
     @Override
-    protected Map<Integer, ZclAttribute> initializeServerAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
-
-        attributeMap.put(ATTR_NUMBEROFRESETS, new ZclAttribute(this, ATTR_NUMBEROFRESETS, "Number Of Resets", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PERSISTENTMEMORYWRITES, new ZclAttribute(this, ATTR_PERSISTENTMEMORYWRITES, "Persistent Memory Writes", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_MACRXBCAST, new ZclAttribute(this, ATTR_MACRXBCAST, "MAC Rx Bcast", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_MACTXBCAST, new ZclAttribute(this, ATTR_MACTXBCAST, "MAC Tx Bcast", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_MACRXUCAST, new ZclAttribute(this, ATTR_MACRXUCAST, "MAC Rx Ucast", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_MACTXUCAST, new ZclAttribute(this, ATTR_MACTXUCAST, "MAC Tx Ucast", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_MACTXUCASTRETRY, new ZclAttribute(this, ATTR_MACTXUCASTRETRY, "MAC Tx Ucast Retry", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_MACTXUCASTFAIL, new ZclAttribute(this, ATTR_MACTXUCASTFAIL, "MAC Tx Ucast Fail", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_APSRXBCAST, new ZclAttribute(this, ATTR_APSRXBCAST, "APS Rx Bcast", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_APSTXBCAST, new ZclAttribute(this, ATTR_APSTXBCAST, "APS Tx Bcast", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_APSRXUCAST, new ZclAttribute(this, ATTR_APSRXUCAST, "APS Rx Ucast", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_APSTXUCASTSUCCESS, new ZclAttribute(this, ATTR_APSTXUCASTSUCCESS, "APS Tx Ucast Success", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_APSTXUCASTRETRY, new ZclAttribute(this, ATTR_APSTXUCASTRETRY, "APS Tx Ucast Retry", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_APSTXUCASTFAIL, new ZclAttribute(this, ATTR_APSTXUCASTFAIL, "APS Tx Ucast Fail", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_ROUTEDISCINITIATED, new ZclAttribute(this, ATTR_ROUTEDISCINITIATED, "Route Disc Initiated", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_NEIGHBORADDED, new ZclAttribute(this, ATTR_NEIGHBORADDED, "Neighbor Added", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_NEIGHBORREMOVED, new ZclAttribute(this, ATTR_NEIGHBORREMOVED, "Neighbor Removed", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_NEIGHBORSTALE, new ZclAttribute(this, ATTR_NEIGHBORSTALE, "Neighbor Stale", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_JOININDICATION, new ZclAttribute(this, ATTR_JOININDICATION, "Join Indication", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CHILDMOVED, new ZclAttribute(this, ATTR_CHILDMOVED, "Child Moved", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_NWKFCFAILURE, new ZclAttribute(this, ATTR_NWKFCFAILURE, "NWK FC Failure", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_APSFCFAILURE, new ZclAttribute(this, ATTR_APSFCFAILURE, "APS FC Failure", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_APSUNAUTHORIZEDKEY, new ZclAttribute(this, ATTR_APSUNAUTHORIZEDKEY, "APS Unauthorized Key", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_NWKDECRYPTFAILURES, new ZclAttribute(this, ATTR_NWKDECRYPTFAILURES, "NWK Decrypt Failures", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_APSDECRYPTFAILURES, new ZclAttribute(this, ATTR_APSDECRYPTFAILURES, "APS Decrypt Failures", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PACKETBUFFERALLOCATEFAILURES, new ZclAttribute(this, ATTR_PACKETBUFFERALLOCATEFAILURES, "Packet Buffer Allocate Failures", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_RELAYEDUCAST, new ZclAttribute(this, ATTR_RELAYEDUCAST, "Relayed Ucast", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PHYTOMACQUEUELIMITREACHED, new ZclAttribute(this, ATTR_PHYTOMACQUEUELIMITREACHED, "Phy To MAC Queue Limit Reached", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PACKETVALIDATEDROPCOUNT, new ZclAttribute(this, ATTR_PACKETVALIDATEDROPCOUNT, "Packet Validate Drop Count", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_AVERAGEMACRETRYPERAPSMESSAGESENT, new ZclAttribute(this, ATTR_AVERAGEMACRETRYPERAPSMESSAGESENT, "Average MAC Retry Per APS Message Sent", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_LASTMESSAGELQI, new ZclAttribute(this, ATTR_LASTMESSAGELQI, "Last Message LQI", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_LASTMESSAGERSSI, new ZclAttribute(this, ATTR_LASTMESSAGERSSI, "Last Message RSSI", ZclDataType.SIGNED_8_BIT_INTEGER, true, true, false, false));
-
-        return attributeMap;
+    protected Map<Integer, ZclAttributeDefinition> getServerAttributeDefinitions() {
+        return SERVER_ATTRIBUTES;
     }
 
     /**
@@ -167,7 +171,7 @@ public class ZclDiagnosticsCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getNumberOfResetsAsync() {
-        return read(serverAttributes.get(ATTR_NUMBEROFRESETS));
+        return read(getServerAttribute(ATTR_NUMBEROFRESETS));
     }
 
     /**
@@ -194,11 +198,11 @@ public class ZclDiagnosticsCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getNumberOfResets(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_NUMBEROFRESETS).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_NUMBEROFRESETS).getLastValue();
+        if (getServerAttribute(ATTR_NUMBEROFRESETS).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_NUMBEROFRESETS).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_NUMBEROFRESETS));
+        return (Integer) readSync(getServerAttribute(ATTR_NUMBEROFRESETS));
     }
 
     /**
@@ -220,7 +224,7 @@ public class ZclDiagnosticsCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setNumberOfResetsReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_NUMBEROFRESETS), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_NUMBEROFRESETS), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -238,7 +242,7 @@ public class ZclDiagnosticsCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getPersistentMemoryWritesAsync() {
-        return read(serverAttributes.get(ATTR_PERSISTENTMEMORYWRITES));
+        return read(getServerAttribute(ATTR_PERSISTENTMEMORYWRITES));
     }
 
     /**
@@ -264,11 +268,11 @@ public class ZclDiagnosticsCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getPersistentMemoryWrites(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PERSISTENTMEMORYWRITES).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_PERSISTENTMEMORYWRITES).getLastValue();
+        if (getServerAttribute(ATTR_PERSISTENTMEMORYWRITES).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_PERSISTENTMEMORYWRITES).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_PERSISTENTMEMORYWRITES));
+        return (Integer) readSync(getServerAttribute(ATTR_PERSISTENTMEMORYWRITES));
     }
 
     /**
@@ -289,7 +293,7 @@ public class ZclDiagnosticsCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setPersistentMemoryWritesReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_PERSISTENTMEMORYWRITES), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_PERSISTENTMEMORYWRITES), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -306,7 +310,7 @@ public class ZclDiagnosticsCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getMacRxBcastAsync() {
-        return read(serverAttributes.get(ATTR_MACRXBCAST));
+        return read(getServerAttribute(ATTR_MACRXBCAST));
     }
 
     /**
@@ -331,11 +335,11 @@ public class ZclDiagnosticsCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getMacRxBcast(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_MACRXBCAST).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_MACRXBCAST).getLastValue();
+        if (getServerAttribute(ATTR_MACRXBCAST).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_MACRXBCAST).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_MACRXBCAST));
+        return (Integer) readSync(getServerAttribute(ATTR_MACRXBCAST));
     }
 
     /**
@@ -355,7 +359,7 @@ public class ZclDiagnosticsCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setMacRxBcastReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_MACRXBCAST), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_MACRXBCAST), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -372,7 +376,7 @@ public class ZclDiagnosticsCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getMacTxBcastAsync() {
-        return read(serverAttributes.get(ATTR_MACTXBCAST));
+        return read(getServerAttribute(ATTR_MACTXBCAST));
     }
 
     /**
@@ -397,11 +401,11 @@ public class ZclDiagnosticsCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getMacTxBcast(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_MACTXBCAST).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_MACTXBCAST).getLastValue();
+        if (getServerAttribute(ATTR_MACTXBCAST).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_MACTXBCAST).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_MACTXBCAST));
+        return (Integer) readSync(getServerAttribute(ATTR_MACTXBCAST));
     }
 
     /**
@@ -421,7 +425,7 @@ public class ZclDiagnosticsCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setMacTxBcastReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_MACTXBCAST), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_MACTXBCAST), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -438,7 +442,7 @@ public class ZclDiagnosticsCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getMacRxUcastAsync() {
-        return read(serverAttributes.get(ATTR_MACRXUCAST));
+        return read(getServerAttribute(ATTR_MACRXUCAST));
     }
 
     /**
@@ -463,11 +467,11 @@ public class ZclDiagnosticsCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getMacRxUcast(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_MACRXUCAST).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_MACRXUCAST).getLastValue();
+        if (getServerAttribute(ATTR_MACRXUCAST).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_MACRXUCAST).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_MACRXUCAST));
+        return (Integer) readSync(getServerAttribute(ATTR_MACRXUCAST));
     }
 
     /**
@@ -487,7 +491,7 @@ public class ZclDiagnosticsCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setMacRxUcastReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_MACRXUCAST), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_MACRXUCAST), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -504,7 +508,7 @@ public class ZclDiagnosticsCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getMacTxUcastAsync() {
-        return read(serverAttributes.get(ATTR_MACTXUCAST));
+        return read(getServerAttribute(ATTR_MACTXUCAST));
     }
 
     /**
@@ -529,11 +533,11 @@ public class ZclDiagnosticsCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getMacTxUcast(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_MACTXUCAST).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_MACTXUCAST).getLastValue();
+        if (getServerAttribute(ATTR_MACTXUCAST).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_MACTXUCAST).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_MACTXUCAST));
+        return (Integer) readSync(getServerAttribute(ATTR_MACTXUCAST));
     }
 
     /**
@@ -553,7 +557,7 @@ public class ZclDiagnosticsCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setMacTxUcastReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_MACTXUCAST), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_MACTXUCAST), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -568,7 +572,7 @@ public class ZclDiagnosticsCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getMacTxUcastRetryAsync() {
-        return read(serverAttributes.get(ATTR_MACTXUCASTRETRY));
+        return read(getServerAttribute(ATTR_MACTXUCASTRETRY));
     }
 
     /**
@@ -591,11 +595,11 @@ public class ZclDiagnosticsCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getMacTxUcastRetry(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_MACTXUCASTRETRY).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_MACTXUCASTRETRY).getLastValue();
+        if (getServerAttribute(ATTR_MACTXUCASTRETRY).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_MACTXUCASTRETRY).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_MACTXUCASTRETRY));
+        return (Integer) readSync(getServerAttribute(ATTR_MACTXUCASTRETRY));
     }
 
     /**
@@ -613,7 +617,7 @@ public class ZclDiagnosticsCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setMacTxUcastRetryReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_MACTXUCASTRETRY), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_MACTXUCASTRETRY), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -628,7 +632,7 @@ public class ZclDiagnosticsCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getMacTxUcastFailAsync() {
-        return read(serverAttributes.get(ATTR_MACTXUCASTFAIL));
+        return read(getServerAttribute(ATTR_MACTXUCASTFAIL));
     }
 
     /**
@@ -651,11 +655,11 @@ public class ZclDiagnosticsCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getMacTxUcastFail(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_MACTXUCASTFAIL).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_MACTXUCASTFAIL).getLastValue();
+        if (getServerAttribute(ATTR_MACTXUCASTFAIL).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_MACTXUCASTFAIL).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_MACTXUCASTFAIL));
+        return (Integer) readSync(getServerAttribute(ATTR_MACTXUCASTFAIL));
     }
 
     /**
@@ -673,7 +677,7 @@ public class ZclDiagnosticsCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setMacTxUcastFailReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_MACTXUCASTFAIL), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_MACTXUCASTFAIL), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -688,7 +692,7 @@ public class ZclDiagnosticsCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getApsRxBcastAsync() {
-        return read(serverAttributes.get(ATTR_APSRXBCAST));
+        return read(getServerAttribute(ATTR_APSRXBCAST));
     }
 
     /**
@@ -711,11 +715,11 @@ public class ZclDiagnosticsCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getApsRxBcast(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_APSRXBCAST).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_APSRXBCAST).getLastValue();
+        if (getServerAttribute(ATTR_APSRXBCAST).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_APSRXBCAST).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_APSRXBCAST));
+        return (Integer) readSync(getServerAttribute(ATTR_APSRXBCAST));
     }
 
     /**
@@ -733,7 +737,7 @@ public class ZclDiagnosticsCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setApsRxBcastReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_APSRXBCAST), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_APSRXBCAST), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -748,7 +752,7 @@ public class ZclDiagnosticsCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getApsTxBcastAsync() {
-        return read(serverAttributes.get(ATTR_APSTXBCAST));
+        return read(getServerAttribute(ATTR_APSTXBCAST));
     }
 
     /**
@@ -771,11 +775,11 @@ public class ZclDiagnosticsCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getApsTxBcast(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_APSTXBCAST).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_APSTXBCAST).getLastValue();
+        if (getServerAttribute(ATTR_APSTXBCAST).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_APSTXBCAST).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_APSTXBCAST));
+        return (Integer) readSync(getServerAttribute(ATTR_APSTXBCAST));
     }
 
     /**
@@ -793,7 +797,7 @@ public class ZclDiagnosticsCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setApsTxBcastReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_APSTXBCAST), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_APSTXBCAST), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -808,7 +812,7 @@ public class ZclDiagnosticsCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getApsRxUcastAsync() {
-        return read(serverAttributes.get(ATTR_APSRXUCAST));
+        return read(getServerAttribute(ATTR_APSRXUCAST));
     }
 
     /**
@@ -831,11 +835,11 @@ public class ZclDiagnosticsCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getApsRxUcast(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_APSRXUCAST).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_APSRXUCAST).getLastValue();
+        if (getServerAttribute(ATTR_APSRXUCAST).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_APSRXUCAST).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_APSRXUCAST));
+        return (Integer) readSync(getServerAttribute(ATTR_APSRXUCAST));
     }
 
     /**
@@ -853,7 +857,7 @@ public class ZclDiagnosticsCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setApsRxUcastReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_APSRXUCAST), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_APSRXUCAST), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -868,7 +872,7 @@ public class ZclDiagnosticsCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getApsTxUcastSuccessAsync() {
-        return read(serverAttributes.get(ATTR_APSTXUCASTSUCCESS));
+        return read(getServerAttribute(ATTR_APSTXUCASTSUCCESS));
     }
 
     /**
@@ -891,11 +895,11 @@ public class ZclDiagnosticsCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getApsTxUcastSuccess(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_APSTXUCASTSUCCESS).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_APSTXUCASTSUCCESS).getLastValue();
+        if (getServerAttribute(ATTR_APSTXUCASTSUCCESS).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_APSTXUCASTSUCCESS).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_APSTXUCASTSUCCESS));
+        return (Integer) readSync(getServerAttribute(ATTR_APSTXUCASTSUCCESS));
     }
 
     /**
@@ -913,7 +917,7 @@ public class ZclDiagnosticsCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setApsTxUcastSuccessReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_APSTXUCASTSUCCESS), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_APSTXUCASTSUCCESS), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -928,7 +932,7 @@ public class ZclDiagnosticsCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getApsTxUcastRetryAsync() {
-        return read(serverAttributes.get(ATTR_APSTXUCASTRETRY));
+        return read(getServerAttribute(ATTR_APSTXUCASTRETRY));
     }
 
     /**
@@ -951,11 +955,11 @@ public class ZclDiagnosticsCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getApsTxUcastRetry(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_APSTXUCASTRETRY).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_APSTXUCASTRETRY).getLastValue();
+        if (getServerAttribute(ATTR_APSTXUCASTRETRY).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_APSTXUCASTRETRY).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_APSTXUCASTRETRY));
+        return (Integer) readSync(getServerAttribute(ATTR_APSTXUCASTRETRY));
     }
 
     /**
@@ -973,7 +977,7 @@ public class ZclDiagnosticsCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setApsTxUcastRetryReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_APSTXUCASTRETRY), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_APSTXUCASTRETRY), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -988,7 +992,7 @@ public class ZclDiagnosticsCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getApsTxUcastFailAsync() {
-        return read(serverAttributes.get(ATTR_APSTXUCASTFAIL));
+        return read(getServerAttribute(ATTR_APSTXUCASTFAIL));
     }
 
     /**
@@ -1011,11 +1015,11 @@ public class ZclDiagnosticsCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getApsTxUcastFail(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_APSTXUCASTFAIL).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_APSTXUCASTFAIL).getLastValue();
+        if (getServerAttribute(ATTR_APSTXUCASTFAIL).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_APSTXUCASTFAIL).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_APSTXUCASTFAIL));
+        return (Integer) readSync(getServerAttribute(ATTR_APSTXUCASTFAIL));
     }
 
     /**
@@ -1033,7 +1037,7 @@ public class ZclDiagnosticsCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setApsTxUcastFailReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_APSTXUCASTFAIL), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_APSTXUCASTFAIL), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -1048,7 +1052,7 @@ public class ZclDiagnosticsCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getRouteDiscInitiatedAsync() {
-        return read(serverAttributes.get(ATTR_ROUTEDISCINITIATED));
+        return read(getServerAttribute(ATTR_ROUTEDISCINITIATED));
     }
 
     /**
@@ -1071,11 +1075,11 @@ public class ZclDiagnosticsCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getRouteDiscInitiated(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_ROUTEDISCINITIATED).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_ROUTEDISCINITIATED).getLastValue();
+        if (getServerAttribute(ATTR_ROUTEDISCINITIATED).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_ROUTEDISCINITIATED).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_ROUTEDISCINITIATED));
+        return (Integer) readSync(getServerAttribute(ATTR_ROUTEDISCINITIATED));
     }
 
     /**
@@ -1093,7 +1097,7 @@ public class ZclDiagnosticsCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setRouteDiscInitiatedReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_ROUTEDISCINITIATED), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_ROUTEDISCINITIATED), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -1108,7 +1112,7 @@ public class ZclDiagnosticsCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getNeighborAddedAsync() {
-        return read(serverAttributes.get(ATTR_NEIGHBORADDED));
+        return read(getServerAttribute(ATTR_NEIGHBORADDED));
     }
 
     /**
@@ -1131,11 +1135,11 @@ public class ZclDiagnosticsCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getNeighborAdded(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_NEIGHBORADDED).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_NEIGHBORADDED).getLastValue();
+        if (getServerAttribute(ATTR_NEIGHBORADDED).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_NEIGHBORADDED).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_NEIGHBORADDED));
+        return (Integer) readSync(getServerAttribute(ATTR_NEIGHBORADDED));
     }
 
     /**
@@ -1153,7 +1157,7 @@ public class ZclDiagnosticsCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setNeighborAddedReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_NEIGHBORADDED), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_NEIGHBORADDED), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -1168,7 +1172,7 @@ public class ZclDiagnosticsCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getNeighborRemovedAsync() {
-        return read(serverAttributes.get(ATTR_NEIGHBORREMOVED));
+        return read(getServerAttribute(ATTR_NEIGHBORREMOVED));
     }
 
     /**
@@ -1191,11 +1195,11 @@ public class ZclDiagnosticsCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getNeighborRemoved(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_NEIGHBORREMOVED).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_NEIGHBORREMOVED).getLastValue();
+        if (getServerAttribute(ATTR_NEIGHBORREMOVED).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_NEIGHBORREMOVED).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_NEIGHBORREMOVED));
+        return (Integer) readSync(getServerAttribute(ATTR_NEIGHBORREMOVED));
     }
 
     /**
@@ -1213,7 +1217,7 @@ public class ZclDiagnosticsCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setNeighborRemovedReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_NEIGHBORREMOVED), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_NEIGHBORREMOVED), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -1228,7 +1232,7 @@ public class ZclDiagnosticsCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getNeighborStaleAsync() {
-        return read(serverAttributes.get(ATTR_NEIGHBORSTALE));
+        return read(getServerAttribute(ATTR_NEIGHBORSTALE));
     }
 
     /**
@@ -1251,11 +1255,11 @@ public class ZclDiagnosticsCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getNeighborStale(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_NEIGHBORSTALE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_NEIGHBORSTALE).getLastValue();
+        if (getServerAttribute(ATTR_NEIGHBORSTALE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_NEIGHBORSTALE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_NEIGHBORSTALE));
+        return (Integer) readSync(getServerAttribute(ATTR_NEIGHBORSTALE));
     }
 
     /**
@@ -1273,7 +1277,7 @@ public class ZclDiagnosticsCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setNeighborStaleReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_NEIGHBORSTALE), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_NEIGHBORSTALE), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -1288,7 +1292,7 @@ public class ZclDiagnosticsCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getJoinIndicationAsync() {
-        return read(serverAttributes.get(ATTR_JOININDICATION));
+        return read(getServerAttribute(ATTR_JOININDICATION));
     }
 
     /**
@@ -1311,11 +1315,11 @@ public class ZclDiagnosticsCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getJoinIndication(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_JOININDICATION).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_JOININDICATION).getLastValue();
+        if (getServerAttribute(ATTR_JOININDICATION).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_JOININDICATION).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_JOININDICATION));
+        return (Integer) readSync(getServerAttribute(ATTR_JOININDICATION));
     }
 
     /**
@@ -1333,7 +1337,7 @@ public class ZclDiagnosticsCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setJoinIndicationReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_JOININDICATION), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_JOININDICATION), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -1348,7 +1352,7 @@ public class ZclDiagnosticsCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getChildMovedAsync() {
-        return read(serverAttributes.get(ATTR_CHILDMOVED));
+        return read(getServerAttribute(ATTR_CHILDMOVED));
     }
 
     /**
@@ -1371,11 +1375,11 @@ public class ZclDiagnosticsCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getChildMoved(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CHILDMOVED).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CHILDMOVED).getLastValue();
+        if (getServerAttribute(ATTR_CHILDMOVED).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CHILDMOVED).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CHILDMOVED));
+        return (Integer) readSync(getServerAttribute(ATTR_CHILDMOVED));
     }
 
     /**
@@ -1393,7 +1397,7 @@ public class ZclDiagnosticsCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setChildMovedReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_CHILDMOVED), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_CHILDMOVED), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -1408,7 +1412,7 @@ public class ZclDiagnosticsCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getNwkFcFailureAsync() {
-        return read(serverAttributes.get(ATTR_NWKFCFAILURE));
+        return read(getServerAttribute(ATTR_NWKFCFAILURE));
     }
 
     /**
@@ -1431,11 +1435,11 @@ public class ZclDiagnosticsCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getNwkFcFailure(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_NWKFCFAILURE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_NWKFCFAILURE).getLastValue();
+        if (getServerAttribute(ATTR_NWKFCFAILURE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_NWKFCFAILURE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_NWKFCFAILURE));
+        return (Integer) readSync(getServerAttribute(ATTR_NWKFCFAILURE));
     }
 
     /**
@@ -1453,7 +1457,7 @@ public class ZclDiagnosticsCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setNwkFcFailureReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_NWKFCFAILURE), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_NWKFCFAILURE), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -1468,7 +1472,7 @@ public class ZclDiagnosticsCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getApsFcFailureAsync() {
-        return read(serverAttributes.get(ATTR_APSFCFAILURE));
+        return read(getServerAttribute(ATTR_APSFCFAILURE));
     }
 
     /**
@@ -1491,11 +1495,11 @@ public class ZclDiagnosticsCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getApsFcFailure(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_APSFCFAILURE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_APSFCFAILURE).getLastValue();
+        if (getServerAttribute(ATTR_APSFCFAILURE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_APSFCFAILURE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_APSFCFAILURE));
+        return (Integer) readSync(getServerAttribute(ATTR_APSFCFAILURE));
     }
 
     /**
@@ -1513,7 +1517,7 @@ public class ZclDiagnosticsCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setApsFcFailureReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_APSFCFAILURE), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_APSFCFAILURE), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -1528,7 +1532,7 @@ public class ZclDiagnosticsCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getApsUnauthorizedKeyAsync() {
-        return read(serverAttributes.get(ATTR_APSUNAUTHORIZEDKEY));
+        return read(getServerAttribute(ATTR_APSUNAUTHORIZEDKEY));
     }
 
     /**
@@ -1551,11 +1555,11 @@ public class ZclDiagnosticsCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getApsUnauthorizedKey(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_APSUNAUTHORIZEDKEY).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_APSUNAUTHORIZEDKEY).getLastValue();
+        if (getServerAttribute(ATTR_APSUNAUTHORIZEDKEY).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_APSUNAUTHORIZEDKEY).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_APSUNAUTHORIZEDKEY));
+        return (Integer) readSync(getServerAttribute(ATTR_APSUNAUTHORIZEDKEY));
     }
 
     /**
@@ -1573,7 +1577,7 @@ public class ZclDiagnosticsCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setApsUnauthorizedKeyReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_APSUNAUTHORIZEDKEY), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_APSUNAUTHORIZEDKEY), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -1588,7 +1592,7 @@ public class ZclDiagnosticsCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getNwkDecryptFailuresAsync() {
-        return read(serverAttributes.get(ATTR_NWKDECRYPTFAILURES));
+        return read(getServerAttribute(ATTR_NWKDECRYPTFAILURES));
     }
 
     /**
@@ -1611,11 +1615,11 @@ public class ZclDiagnosticsCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getNwkDecryptFailures(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_NWKDECRYPTFAILURES).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_NWKDECRYPTFAILURES).getLastValue();
+        if (getServerAttribute(ATTR_NWKDECRYPTFAILURES).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_NWKDECRYPTFAILURES).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_NWKDECRYPTFAILURES));
+        return (Integer) readSync(getServerAttribute(ATTR_NWKDECRYPTFAILURES));
     }
 
     /**
@@ -1633,7 +1637,7 @@ public class ZclDiagnosticsCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setNwkDecryptFailuresReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_NWKDECRYPTFAILURES), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_NWKDECRYPTFAILURES), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -1648,7 +1652,7 @@ public class ZclDiagnosticsCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getApsDecryptFailuresAsync() {
-        return read(serverAttributes.get(ATTR_APSDECRYPTFAILURES));
+        return read(getServerAttribute(ATTR_APSDECRYPTFAILURES));
     }
 
     /**
@@ -1671,11 +1675,11 @@ public class ZclDiagnosticsCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getApsDecryptFailures(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_APSDECRYPTFAILURES).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_APSDECRYPTFAILURES).getLastValue();
+        if (getServerAttribute(ATTR_APSDECRYPTFAILURES).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_APSDECRYPTFAILURES).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_APSDECRYPTFAILURES));
+        return (Integer) readSync(getServerAttribute(ATTR_APSDECRYPTFAILURES));
     }
 
     /**
@@ -1693,7 +1697,7 @@ public class ZclDiagnosticsCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setApsDecryptFailuresReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_APSDECRYPTFAILURES), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_APSDECRYPTFAILURES), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -1708,7 +1712,7 @@ public class ZclDiagnosticsCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getPacketBufferAllocateFailuresAsync() {
-        return read(serverAttributes.get(ATTR_PACKETBUFFERALLOCATEFAILURES));
+        return read(getServerAttribute(ATTR_PACKETBUFFERALLOCATEFAILURES));
     }
 
     /**
@@ -1731,11 +1735,11 @@ public class ZclDiagnosticsCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getPacketBufferAllocateFailures(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PACKETBUFFERALLOCATEFAILURES).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_PACKETBUFFERALLOCATEFAILURES).getLastValue();
+        if (getServerAttribute(ATTR_PACKETBUFFERALLOCATEFAILURES).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_PACKETBUFFERALLOCATEFAILURES).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_PACKETBUFFERALLOCATEFAILURES));
+        return (Integer) readSync(getServerAttribute(ATTR_PACKETBUFFERALLOCATEFAILURES));
     }
 
     /**
@@ -1753,7 +1757,7 @@ public class ZclDiagnosticsCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setPacketBufferAllocateFailuresReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_PACKETBUFFERALLOCATEFAILURES), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_PACKETBUFFERALLOCATEFAILURES), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -1768,7 +1772,7 @@ public class ZclDiagnosticsCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getRelayedUcastAsync() {
-        return read(serverAttributes.get(ATTR_RELAYEDUCAST));
+        return read(getServerAttribute(ATTR_RELAYEDUCAST));
     }
 
     /**
@@ -1791,11 +1795,11 @@ public class ZclDiagnosticsCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getRelayedUcast(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_RELAYEDUCAST).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_RELAYEDUCAST).getLastValue();
+        if (getServerAttribute(ATTR_RELAYEDUCAST).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_RELAYEDUCAST).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_RELAYEDUCAST));
+        return (Integer) readSync(getServerAttribute(ATTR_RELAYEDUCAST));
     }
 
     /**
@@ -1813,7 +1817,7 @@ public class ZclDiagnosticsCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setRelayedUcastReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_RELAYEDUCAST), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_RELAYEDUCAST), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -1828,7 +1832,7 @@ public class ZclDiagnosticsCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getPhyToMacQueueLimitReachedAsync() {
-        return read(serverAttributes.get(ATTR_PHYTOMACQUEUELIMITREACHED));
+        return read(getServerAttribute(ATTR_PHYTOMACQUEUELIMITREACHED));
     }
 
     /**
@@ -1851,11 +1855,11 @@ public class ZclDiagnosticsCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getPhyToMacQueueLimitReached(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PHYTOMACQUEUELIMITREACHED).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_PHYTOMACQUEUELIMITREACHED).getLastValue();
+        if (getServerAttribute(ATTR_PHYTOMACQUEUELIMITREACHED).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_PHYTOMACQUEUELIMITREACHED).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_PHYTOMACQUEUELIMITREACHED));
+        return (Integer) readSync(getServerAttribute(ATTR_PHYTOMACQUEUELIMITREACHED));
     }
 
     /**
@@ -1873,7 +1877,7 @@ public class ZclDiagnosticsCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setPhyToMacQueueLimitReachedReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_PHYTOMACQUEUELIMITREACHED), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_PHYTOMACQUEUELIMITREACHED), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -1888,7 +1892,7 @@ public class ZclDiagnosticsCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getPacketValidateDropCountAsync() {
-        return read(serverAttributes.get(ATTR_PACKETVALIDATEDROPCOUNT));
+        return read(getServerAttribute(ATTR_PACKETVALIDATEDROPCOUNT));
     }
 
     /**
@@ -1911,11 +1915,11 @@ public class ZclDiagnosticsCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getPacketValidateDropCount(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PACKETVALIDATEDROPCOUNT).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_PACKETVALIDATEDROPCOUNT).getLastValue();
+        if (getServerAttribute(ATTR_PACKETVALIDATEDROPCOUNT).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_PACKETVALIDATEDROPCOUNT).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_PACKETVALIDATEDROPCOUNT));
+        return (Integer) readSync(getServerAttribute(ATTR_PACKETVALIDATEDROPCOUNT));
     }
 
     /**
@@ -1933,7 +1937,7 @@ public class ZclDiagnosticsCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setPacketValidateDropCountReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_PACKETVALIDATEDROPCOUNT), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_PACKETVALIDATEDROPCOUNT), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -1948,7 +1952,7 @@ public class ZclDiagnosticsCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getAverageMacRetryPerApsMessageSentAsync() {
-        return read(serverAttributes.get(ATTR_AVERAGEMACRETRYPERAPSMESSAGESENT));
+        return read(getServerAttribute(ATTR_AVERAGEMACRETRYPERAPSMESSAGESENT));
     }
 
     /**
@@ -1971,11 +1975,11 @@ public class ZclDiagnosticsCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getAverageMacRetryPerApsMessageSent(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_AVERAGEMACRETRYPERAPSMESSAGESENT).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_AVERAGEMACRETRYPERAPSMESSAGESENT).getLastValue();
+        if (getServerAttribute(ATTR_AVERAGEMACRETRYPERAPSMESSAGESENT).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_AVERAGEMACRETRYPERAPSMESSAGESENT).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_AVERAGEMACRETRYPERAPSMESSAGESENT));
+        return (Integer) readSync(getServerAttribute(ATTR_AVERAGEMACRETRYPERAPSMESSAGESENT));
     }
 
     /**
@@ -1993,7 +1997,7 @@ public class ZclDiagnosticsCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setAverageMacRetryPerApsMessageSentReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_AVERAGEMACRETRYPERAPSMESSAGESENT), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_AVERAGEMACRETRYPERAPSMESSAGESENT), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -2008,7 +2012,7 @@ public class ZclDiagnosticsCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getLastMessageLqiAsync() {
-        return read(serverAttributes.get(ATTR_LASTMESSAGELQI));
+        return read(getServerAttribute(ATTR_LASTMESSAGELQI));
     }
 
     /**
@@ -2031,11 +2035,11 @@ public class ZclDiagnosticsCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getLastMessageLqi(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_LASTMESSAGELQI).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_LASTMESSAGELQI).getLastValue();
+        if (getServerAttribute(ATTR_LASTMESSAGELQI).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_LASTMESSAGELQI).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_LASTMESSAGELQI));
+        return (Integer) readSync(getServerAttribute(ATTR_LASTMESSAGELQI));
     }
 
     /**
@@ -2053,7 +2057,7 @@ public class ZclDiagnosticsCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setLastMessageLqiReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_LASTMESSAGELQI), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_LASTMESSAGELQI), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -2068,7 +2072,7 @@ public class ZclDiagnosticsCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getLastMessageRssiAsync() {
-        return read(serverAttributes.get(ATTR_LASTMESSAGERSSI));
+        return read(getServerAttribute(ATTR_LASTMESSAGERSSI));
     }
 
     /**
@@ -2091,11 +2095,11 @@ public class ZclDiagnosticsCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getLastMessageRssi(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_LASTMESSAGERSSI).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_LASTMESSAGERSSI).getLastValue();
+        if (getServerAttribute(ATTR_LASTMESSAGERSSI).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_LASTMESSAGERSSI).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_LASTMESSAGERSSI));
+        return (Integer) readSync(getServerAttribute(ATTR_LASTMESSAGERSSI));
     }
 
     /**
@@ -2113,6 +2117,6 @@ public class ZclDiagnosticsCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setLastMessageRssiReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_LASTMESSAGERSSI), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_LASTMESSAGERSSI), minInterval, maxInterval, reportableChange);
     }
 }
@@ -7,7 +7,9 @@
  */
 package com.zsmartsystems.zigbee.zcl.clusters;
 
+import java.util.Collections;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.Future;
 
@@ -16,6 +18,7 @@ import javax.annotation.Generated;
 import com.zsmartsystems.zigbee.CommandResult;
 import com.zsmartsystems.zigbee.ZigBeeEndpoint;
 import com.zsmartsystems.zigbee.zcl.ZclAttribute;
+import com.zsmartsystems.zigbee.zcl.ZclAttributeDefinition;
 import com.zsmartsystems.zigbee.zcl.ZclCluster;
 import com.zsmartsystems.zigbee.zcl.ZclCommand;
 import com.zsmartsystems.zigbee.zcl.clusters.doorlock.LockDoorCommand;
@@ -55,7 +58,7 @@ import com.zsmartsystems.zigbee.zcl.protocol.ZclDataType;
  * <p>
  * Code is auto-generated. Modifications may be overwritten!
  */
-@Generated(value = "com.zsmartsystems.zigbee.autocode.ZigBeeCodeGenerator", date = "2019-10-04T18:21:10Z")
+@Generated(value = "com.zsmartsystems.zigbee.autocode.ZigBeeCodeGenerator", date = "2026-10-18T14:31:35Z")
 public class ZclDoorLockCluster extends ZclCluster {
     /**
      * The ZigBee Cluster Library Cluster ID
@@ -311,62 +314,64 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     public static final int ATTR_RFIDPROGRAMMINGEVENTMASK = 0x0047;
 
-    @Override
-    protected Map<Integer, ZclAttribute> initializeClientAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
-
-        return attributeMap;
+    /**
+     * The server attribute definitions. These are shared by all instances of this cluster.
+     */
+    private static final Map<Integer, ZclAttributeDefinition> SERVER_ATTRIBUTES = initializeServerAttributeDefinitions();
+
+    private static Map<Integer, ZclAttributeDefinition> initializeServerAttributeDefinitions() {
+        Map<Integer, ZclAttributeDefinition> attributeMap = new TreeMap<>();
+
+        attributeMap.put(ATTR_LOCKSTATE, new ZclAttributeDefinition(ATTR_LOCKSTATE, "Lock State", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
+        attributeMap.put(ATTR_LOCKTYPE, new ZclAttributeDefinition(ATTR_LOCKTYPE, "Lock Type", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
+        attributeMap.put(ATTR_ACTUATORENABLED, new ZclAttributeDefinition(ATTR_ACTUATORENABLED, "Actuator Enabled", ZclDataType.BOOLEAN, true, true, false, false));
+        attributeMap.put(ATTR_DOORSTATE, new ZclAttributeDefinition(ATTR_DOORSTATE, "Door State", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
+        attributeMap.put(ATTR_DOOROPENEVENTS, new ZclAttributeDefinition(ATTR_DOOROPENEVENTS, "Door Open Events", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, true, true));
+        attributeMap.put(ATTR_DOORCLOSEDEVENTS, new ZclAttributeDefinition(ATTR_DOORCLOSEDEVENTS, "Door Closed Events", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, true, true));
+        attributeMap.put(ATTR_OPENPERIOD, new ZclAttributeDefinition(ATTR_OPENPERIOD, "Open Period", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, true, true));
+        attributeMap.put(ATTR_NUMLOCKRECORDSSUPPORTED, new ZclAttributeDefinition(ATTR_NUMLOCKRECORDSSUPPORTED, "Num Lock Records Supported", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_NUMTOTALUSERSSUPPORTED, new ZclAttributeDefinition(ATTR_NUMTOTALUSERSSUPPORTED, "Num Total Users Supported", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_NUMPINUSERSSUPPORTED, new ZclAttributeDefinition(ATTR_NUMPINUSERSSUPPORTED, "Num PIN Users Supported", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_NUMRFIDUSERSSUPPORTED, new ZclAttributeDefinition(ATTR_NUMRFIDUSERSSUPPORTED, "Num RFID Users Supported", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_NUMWEEKDAYSCHEDULESSUPPORTEDPERUSER, new ZclAttributeDefinition(ATTR_NUMWEEKDAYSCHEDULESSUPPORTEDPERUSER, "Num Weekday Schedules Supported Per User", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_NUMYEARDAYSCHEDULESSUPPORTEDPERUSER, new ZclAttributeDefinition(ATTR_NUMYEARDAYSCHEDULESSUPPORTEDPERUSER, "Num Yearday Schedules Supported Per User", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_NUMHOLIDAYSCHEDULESSUPPORTEDPERUSER, new ZclAttributeDefinition(ATTR_NUMHOLIDAYSCHEDULESSUPPORTEDPERUSER, "Num Holiday Schedules Supported Per User", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_MAXPINLENGTH, new ZclAttributeDefinition(ATTR_MAXPINLENGTH, "Max PIN Length", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_MINPINLENGTH, new ZclAttributeDefinition(ATTR_MINPINLENGTH, "Min PIN Length", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_MAXRFIDCODELENGTH, new ZclAttributeDefinition(ATTR_MAXRFIDCODELENGTH, "Max RFID Code Length", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_MINRFIDCODELENGTH, new ZclAttributeDefinition(ATTR_MINRFIDCODELENGTH, "Min RFID Code Length", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_ENABLELOGGING, new ZclAttributeDefinition(ATTR_ENABLELOGGING, "Enable Logging", ZclDataType.BOOLEAN, false, true, true, true));
+        attributeMap.put(ATTR_LANGUAGE, new ZclAttributeDefinition(ATTR_LANGUAGE, "Language", ZclDataType.CHARACTER_STRING, false, true, true, true));
+        attributeMap.put(ATTR_LEDSETTINGS, new ZclAttributeDefinition(ATTR_LEDSETTINGS, "LED Settings", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, true));
+        attributeMap.put(ATTR_AUTORELOCKTIME, new ZclAttributeDefinition(ATTR_AUTORELOCKTIME, "Auto Relock Time", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, true, true));
+        attributeMap.put(ATTR_SOUNDVOLUME, new ZclAttributeDefinition(ATTR_SOUNDVOLUME, "Sound Volume", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, true));
+        attributeMap.put(ATTR_OPERATINGMODE, new ZclAttributeDefinition(ATTR_OPERATINGMODE, "Operating Mode", ZclDataType.ENUMERATION_8_BIT, false, true, true, true));
+        attributeMap.put(ATTR_SUPPORTEDOPERATINGMODES, new ZclAttributeDefinition(ATTR_SUPPORTEDOPERATINGMODES, "Supported Operating Modes", ZclDataType.BITMAP_16_BIT, true, true, false, false));
+        attributeMap.put(ATTR_DEFAULTCONFIGURATIONREGISTER, new ZclAttributeDefinition(ATTR_DEFAULTCONFIGURATIONREGISTER, "Default Configuration Register", ZclDataType.BITMAP_16_BIT, true, true, false, false));
+        attributeMap.put(ATTR_ENABLELOCALPROGRAMMING, new ZclAttributeDefinition(ATTR_ENABLELOCALPROGRAMMING, "Enable Local Programming", ZclDataType.BOOLEAN, false, true, true, true));
+        attributeMap.put(ATTR_ENABLEONETOUCHLOCKING, new ZclAttributeDefinition(ATTR_ENABLEONETOUCHLOCKING, "Enable One Touch Locking", ZclDataType.BOOLEAN, false, true, true, true));
+        attributeMap.put(ATTR_ENABLEINSIDESTATUSLED, new ZclAttributeDefinition(ATTR_ENABLEINSIDESTATUSLED, "Enable Inside Status Led", ZclDataType.BOOLEAN, false, true, true, true));
+        attributeMap.put(ATTR_ENABLEPRIVACYMODEBUTTON, new ZclAttributeDefinition(ATTR_ENABLEPRIVACYMODEBUTTON, "Enable Privacy Mode Button", ZclDataType.BOOLEAN, false, true, true, true));
+        attributeMap.put(ATTR_WRONGCODEENTRYLIMIT, new ZclAttributeDefinition(ATTR_WRONGCODEENTRYLIMIT, "Wrong Code Entry Limit", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, true));
+        attributeMap.put(ATTR_USERCODETEMPORARYDISABLETIME, new ZclAttributeDefinition(ATTR_USERCODETEMPORARYDISABLETIME, "User Code Temporary Disable Time", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, true));
+        attributeMap.put(ATTR_SENDPINOVERTHEAIR, new ZclAttributeDefinition(ATTR_SENDPINOVERTHEAIR, "Send PIN Over The Air", ZclDataType.BOOLEAN, false, true, true, true));
+        attributeMap.put(ATTR_REQUIREPINFORRFOPERATION, new ZclAttributeDefinition(ATTR_REQUIREPINFORRFOPERATION, "Require PIN For RF Operation", ZclDataType.BOOLEAN, false, true, true, true));
+        attributeMap.put(ATTR_ZIGBEESECURITYLEVEL, new ZclAttributeDefinition(ATTR_ZIGBEESECURITYLEVEL, "ZigBee Security Level", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
+        attributeMap.put(ATTR_ALARMMASK, new ZclAttributeDefinition(ATTR_ALARMMASK, "Alarm Mask", ZclDataType.BITMAP_16_BIT, false, true, true, true));
+        attributeMap.put(ATTR_KEYPADOPERATIONEVENTMASK, new ZclAttributeDefinition(ATTR_KEYPADOPERATIONEVENTMASK, "Keypad Operation Event Mask", ZclDataType.BITMAP_16_BIT, false, true, true, true));
+        attributeMap.put(ATTR_RFOPERATIONEVENTMASK, new ZclAttributeDefinition(ATTR_RFOPERATIONEVENTMASK, "RF Operation Event Mask", ZclDataType.BITMAP_16_BIT, false, true, true, true));
+        attributeMap.put(ATTR_MANUALOPERATIONEVENTMASK, new ZclAttributeDefinition(ATTR_MANUALOPERATIONEVENTMASK, "Manual Operation Event Mask", ZclDataType.BITMAP_16_BIT, false, true, true, true));
+        attributeMap.put(ATTR_RFIDOPERATIONEVENTMASK, new ZclAttributeDefinition(ATTR_RFIDOPERATIONEVENTMASK, "RFID Operation Event Mask", ZclDataType.BITMAP_16_BIT, false, true, true, true));
+        attributeMap.put(ATTR_KEYPADPROGRAMMINGEVENTMASK, new ZclAttributeDefinition(ATTR_KEYPADPROGRAMMINGEVENTMASK, "Keypad Programming Event Mask", ZclDataType.BITMAP_16_BIT, false, true, true, true));
+        attributeMap.put(ATTR_RFPROGRAMMINGEVENTMASK, new ZclAttributeDefinition(ATTR_RFPROGRAMMINGEVENTMASK, "RF Programming Event Mask", ZclDataType.BITMAP_16_BIT, false, true, true, true));
+        attributeMap.put(ATTR_RFIDPROGRAMMINGEVENTMASK, new ZclAttributeDefinition(ATTR_RFIDPROGRAMMINGEVENTMASK, "RFID Programming Event Mask", ZclDataType.BITMAP_16_BIT, false, true, true, true));
+
+        return Collections.unmodifiableMap(attributeMap);
     }
 
     @Override
-    protected Map<Integer, ZclAttribute> initializeServerAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
-
-        attributeMap.put(ATTR_LOCKSTATE, new ZclAttribute(this, ATTR_LOCKSTATE, "Lock State", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_LOCKTYPE, new ZclAttribute(this, ATTR_LOCKTYPE, "Lock Type", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_ACTUATORENABLED, new ZclAttribute(this, ATTR_ACTUATORENABLED, "Actuator Enabled", ZclDataType.BOOLEAN, true, true, false, false));
-        attributeMap.put(ATTR_DOORSTATE, new ZclAttribute(this, ATTR_DOORSTATE, "Door State", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_DOOROPENEVENTS, new ZclAttribute(this, ATTR_DOOROPENEVENTS, "Door Open Events", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, true, true));
-        attributeMap.put(ATTR_DOORCLOSEDEVENTS, new ZclAttribute(this, ATTR_DOORCLOSEDEVENTS, "Door Closed Events", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, true, true));
-        attributeMap.put(ATTR_OPENPERIOD, new ZclAttribute(this, ATTR_OPENPERIOD, "Open Period", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, true, true));
-        attributeMap.put(ATTR_NUMLOCKRECORDSSUPPORTED, new ZclAttribute(this, ATTR_NUMLOCKRECORDSSUPPORTED, "Num Lock Records Supported", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_NUMTOTALUSERSSUPPORTED, new ZclAttribute(this, ATTR_NUMTOTALUSERSSUPPORTED, "Num Total Users Supported", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_NUMPINUSERSSUPPORTED, new ZclAttribute(this, ATTR_NUMPINUSERSSUPPORTED, "Num PIN Users Supported", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_NUMRFIDUSERSSUPPORTED, new ZclAttribute(this, ATTR_NUMRFIDUSERSSUPPORTED, "Num RFID Users Supported", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_NUMWEEKDAYSCHEDULESSUPPORTEDPERUSER, new ZclAttribute(this, ATTR_NUMWEEKDAYSCHEDULESSUPPORTEDPERUSER, "Num Weekday Schedules Supported Per User", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_NUMYEARDAYSCHEDULESSUPPORTEDPERUSER, new ZclAttribute(this, ATTR_NUMYEARDAYSCHEDULESSUPPORTEDPERUSER, "Num Yearday Schedules Supported Per User", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_NUMHOLIDAYSCHEDULESSUPPORTEDPERUSER, new ZclAttribute(this, ATTR_NUMHOLIDAYSCHEDULESSUPPORTEDPERUSER, "Num Holiday Schedules Supported Per User", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_MAXPINLENGTH, new ZclAttribute(this, ATTR_MAXPINLENGTH, "Max PIN Length", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_MINPINLENGTH, new ZclAttribute(this, ATTR_MINPINLENGTH, "Min PIN Length", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_MAXRFIDCODELENGTH, new ZclAttribute(this, ATTR_MAXRFIDCODELENGTH, "Max RFID Code Length", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_MINRFIDCODELENGTH, new ZclAttribute(this, ATTR_MINRFIDCODELENGTH, "Min RFID Code Length", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_ENABLELOGGING, new ZclAttribute(this, ATTR_ENABLELOGGING, "Enable Logging", ZclDataType.BOOLEAN, false, true, true, true));
-        attributeMap.put(ATTR_LANGUAGE, new ZclAttribute(this, ATTR_LANGUAGE, "Language", ZclDataType.CHARACTER_STRING, false, true, true, true));
-        attributeMap.put(ATTR_LEDSETTINGS, new ZclAttribute(this, ATTR_LEDSETTINGS, "LED Settings", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, true));
-        attributeMap.put(ATTR_AUTORELOCKTIME, new ZclAttribute(this, ATTR_AUTORELOCKTIME, "Auto Relock Time", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, true, true));
-        attributeMap.put(ATTR_SOUNDVOLUME, new ZclAttribute(this, ATTR_SOUNDVOLUME, "Sound Volume", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, true));
-        attributeMap.put(ATTR_OPERATINGMODE, new ZclAttribute(this, ATTR_OPERATINGMODE, "Operating Mode", ZclDataType.ENUMERATION_8_BIT, false, true, true, true));
-        attributeMap.put(ATTR_SUPPORTEDOPERATINGMODES, new ZclAttribute(this, ATTR_SUPPORTEDOPERATINGMODES, "Supported Operating Modes", ZclDataType.BITMAP_16_BIT, true, true, false, false));
-        attributeMap.put(ATTR_DEFAULTCONFIGURATIONREGISTER, new ZclAttribute(this, ATTR_DEFAULTCONFIGURATIONREGISTER, "Default Configuration Register", ZclDataType.BITMAP_16_BIT, true, true, false, false));
-        attributeMap.put(ATTR_ENABLELOCALPROGRAMMING, new ZclAttribute(this, ATTR_ENABLELOCALPROGRAMMING, "Enable Local Programming", ZclDataType.BOOLEAN, false, true, true, true));
-        attributeMap.put(ATTR_ENABLEONETOUCHLOCKING, new ZclAttribute(this, ATTR_ENABLEONETOUCHLOCKING, "Enable One Touch Locking", ZclDataType.BOOLEAN, false, true, true, true));
-        attributeMap.put(ATTR_ENABLEINSIDESTATUSLED, new ZclAttribute(this, ATTR_ENABLEINSIDESTATUSLED, "Enable Inside Status Led", ZclDataType.BOOLEAN, false, true, true, true));
-        attributeMap.put(ATTR_ENABLEPRIVACYMODEBUTTON, new ZclAttribute(this, ATTR_ENABLEPRIVACYMODEBUTTON, "Enable Privacy Mode Button", ZclDataType.BOOLEAN, false, true, true, true));
-        attributeMap.put(ATTR_WRONGCODEENTRYLIMIT, new ZclAttribute(this, ATTR_WRONGCODEENTRYLIMIT, "Wrong Code Entry Limit", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, true));
-        attributeMap.put(ATTR_USERCODETEMPORARYDISABLETIME, new ZclAttribute(this, ATTR_USERCODETEMPORARYDISABLETIME, "User Code Temporary Disable Time", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, true));
-        attributeMap.put(ATTR_SENDPINOVERTHEAIR, new ZclAttribute(this, ATTR_SENDPINOVERTHEAIR, "Send PIN Over The Air", ZclDataType.BOOLEAN, false, true, true, true));
-        attributeMap.put(ATTR_REQUIREPINFORRFOPERATION, new ZclAttribute(this, ATTR_REQUIREPINFORRFOPERATION, "Require PIN For RF Operation", ZclDataType.BOOLEAN, false, true, true, true));
-        attributeMap.put(ATTR_ZIGBEESECURITYLEVEL, new ZclAttribute(this, ATTR_ZIGBEESECURITYLEVEL, "ZigBee Security Level", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_ALARMMASK, new ZclAttribute(this, ATTR_ALARMMASK, "Alarm Mask", ZclDataType.BITMAP_16_BIT, false, true, true, true));
-        attributeMap.put(ATTR_KEYPADOPERATIONEVENTMASK, new ZclAttribute(this, ATTR_KEYPADOPERATIONEVENTMASK, "Keypad Operation Event Mask", ZclDataType.BITMAP_16_BIT, false, true, true, true));
-        attributeMap.put(ATTR_RFOPERATIONEVENTMASK, new ZclAttribute(this, ATTR_RFOPERATIONEVENTMASK, "RF Operation Event Mask", ZclDataType.BITMAP_16_BIT, false, true, true, true));
-        attributeMap.put(ATTR_MANUALOPERATIONEVENTMASK, new ZclAttribute(this, ATTR_MANUALOPERATIONEVENTMASK, "Manual Operation Event Mask", ZclDataType.BITMAP_16_BIT, false, true, true, true));
-        attributeMap.put(ATTR_RFIDOPERATIONEVENTMASK, new ZclAttribute(this, ATTR_RFIDOPERATIONEVENTMASK, "RFID Operation Event Mask", ZclDataType.BITMAP_16_BIT, false, true, true, true));
-        attributeMap.put(ATTR_KEYPADPROGRAMMINGEVENTMASK, new ZclAttribute(this, ATTR_KEYPADPROGRAMMINGEVENTMASK, "Keypad Programming Event Mask", ZclDataType.BITMAP_16_BIT, false, true, true, true));
-        attributeMap.put(ATTR_RFPROGRAMMINGEVENTMASK, new ZclAttribute(this, ATTR_RFPROGRAMMINGEVENTMASK, "RF Programming Event Mask", ZclDataType.BITMAP_16_BIT, false, true, true, true));
-        attributeMap.put(ATTR_RFIDPROGRAMMINGEVENTMASK, new ZclAttribute(this, ATTR_RFIDPROGRAMMINGEVENTMASK, "RFID Programming Event Mask", ZclDataType.BITMAP_16_BIT, false, true, true, true));
-
-        return attributeMap;
+    protected Map<Integer, ZclAttributeDefinition> getServerAttributeDefinitions() {
+        return SERVER_ATTRIBUTES;
     }
 
     @Override
@@ -416,7 +421,7 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getLockStateAsync() {
-        return read(serverAttributes.get(ATTR_LOCKSTATE));
+        return read(getServerAttribute(ATTR_LOCKSTATE));
     }
 
     /**
@@ -441,11 +446,11 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getLockState(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_LOCKSTATE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_LOCKSTATE).getLastValue();
+        if (getServerAttribute(ATTR_LOCKSTATE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_LOCKSTATE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_LOCKSTATE));
+        return (Integer) readSync(getServerAttribute(ATTR_LOCKSTATE));
     }
 
     /**
@@ -464,7 +469,7 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setLockStateReporting(final int minInterval, final int maxInterval) {
-        return setReporting(serverAttributes.get(ATTR_LOCKSTATE), minInterval, maxInterval);
+        return setReporting(getServerAttribute(ATTR_LOCKSTATE), minInterval, maxInterval);
     }
 
     /**
@@ -481,7 +486,7 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getLockTypeAsync() {
-        return read(serverAttributes.get(ATTR_LOCKTYPE));
+        return read(getServerAttribute(ATTR_LOCKTYPE));
     }
 
     /**
@@ -506,11 +511,11 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getLockType(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_LOCKTYPE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_LOCKTYPE).getLastValue();
+        if (getServerAttribute(ATTR_LOCKTYPE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_LOCKTYPE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_LOCKTYPE));
+        return (Integer) readSync(getServerAttribute(ATTR_LOCKTYPE));
     }
 
     /**
@@ -529,7 +534,7 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setLockTypeReporting(final int minInterval, final int maxInterval) {
-        return setReporting(serverAttributes.get(ATTR_LOCKTYPE), minInterval, maxInterval);
+        return setReporting(getServerAttribute(ATTR_LOCKTYPE), minInterval, maxInterval);
     }
 
     /**
@@ -546,7 +551,7 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getActuatorEnabledAsync() {
-        return read(serverAttributes.get(ATTR_ACTUATORENABLED));
+        return read(getServerAttribute(ATTR_ACTUATORENABLED));
     }
 
     /**
@@ -571,11 +576,11 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Boolean getActuatorEnabled(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_ACTUATORENABLED).isLastValueCurrent(refreshPeriod)) {
-            return (Boolean) serverAttributes.get(ATTR_ACTUATORENABLED).getLastValue();
+        if (getServerAttribute(ATTR_ACTUATORENABLED).isLastValueCurrent(refreshPeriod)) {
+            return (Boolean) getServerAttribute(ATTR_ACTUATORENABLED).getLastValue();
         }
 
-        return (Boolean) readSync(serverAttributes.get(ATTR_ACTUATORENABLED));
+        return (Boolean) readSync(getServerAttribute(ATTR_ACTUATORENABLED));
     }
 
     /**
@@ -594,7 +599,7 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setActuatorEnabledReporting(final int minInterval, final int maxInterval) {
-        return setReporting(serverAttributes.get(ATTR_ACTUATORENABLED), minInterval, maxInterval);
+        return setReporting(getServerAttribute(ATTR_ACTUATORENABLED), minInterval, maxInterval);
     }
 
     /**
@@ -611,7 +616,7 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getDoorStateAsync() {
-        return read(serverAttributes.get(ATTR_DOORSTATE));
+        return read(getServerAttribute(ATTR_DOORSTATE));
     }
 
     /**
@@ -636,11 +641,11 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getDoorState(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_DOORSTATE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_DOORSTATE).getLastValue();
+        if (getServerAttribute(ATTR_DOORSTATE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_DOORSTATE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_DOORSTATE));
+        return (Integer) readSync(getServerAttribute(ATTR_DOORSTATE));
     }
 
     /**
@@ -659,7 +664,7 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setDoorStateReporting(final int minInterval, final int maxInterval) {
-        return setReporting(serverAttributes.get(ATTR_DOORSTATE), minInterval, maxInterval);
+        return setReporting(getServerAttribute(ATTR_DOORSTATE), minInterval, maxInterval);
     }
 
     /**
@@ -678,7 +683,7 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setDoorOpenEvents(final Integer value) {
-        return write(serverAttributes.get(ATTR_DOOROPENEVENTS), value);
+        return write(getServerAttribute(ATTR_DOOROPENEVENTS), value);
     }
 
     /**
@@ -696,7 +701,7 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getDoorOpenEventsAsync() {
-        return read(serverAttributes.get(ATTR_DOOROPENEVENTS));
+        return read(getServerAttribute(ATTR_DOOROPENEVENTS));
     }
 
     /**
@@ -722,11 +727,11 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getDoorOpenEvents(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_DOOROPENEVENTS).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_DOOROPENEVENTS).getLastValue();
+        if (getServerAttribute(ATTR_DOOROPENEVENTS).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_DOOROPENEVENTS).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_DOOROPENEVENTS));
+        return (Integer) readSync(getServerAttribute(ATTR_DOOROPENEVENTS));
     }
 
     /**
@@ -745,7 +750,7 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setDoorClosedEvents(final Integer value) {
-        return write(serverAttributes.get(ATTR_DOORCLOSEDEVENTS), value);
+        return write(getServerAttribute(ATTR_DOORCLOSEDEVENTS), value);
     }
 
     /**
@@ -763,7 +768,7 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getDoorClosedEventsAsync() {
-        return read(serverAttributes.get(ATTR_DOORCLOSEDEVENTS));
+        return read(getServerAttribute(ATTR_DOORCLOSEDEVENTS));
     }
 
     /**
@@ -789,11 +794,11 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getDoorClosedEvents(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_DOORCLOSEDEVENTS).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_DOORCLOSEDEVENTS).getLastValue();
+        if (getServerAttribute(ATTR_DOORCLOSEDEVENTS).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_DOORCLOSEDEVENTS).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_DOORCLOSEDEVENTS));
+        return (Integer) readSync(getServerAttribute(ATTR_DOORCLOSEDEVENTS));
     }
 
     /**
@@ -812,7 +817,7 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setOpenPeriod(final Integer value) {
-        return write(serverAttributes.get(ATTR_OPENPERIOD), value);
+        return write(getServerAttribute(ATTR_OPENPERIOD), value);
     }
 
     /**
@@ -830,7 +835,7 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getOpenPeriodAsync() {
-        return read(serverAttributes.get(ATTR_OPENPERIOD));
+        return read(getServerAttribute(ATTR_OPENPERIOD));
     }
 
     /**
@@ -856,11 +861,11 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getOpenPeriod(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_OPENPERIOD).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_OPENPERIOD).getLastValue();
+        if (getServerAttribute(ATTR_OPENPERIOD).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_OPENPERIOD).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_OPENPERIOD));
+        return (Integer) readSync(getServerAttribute(ATTR_OPENPERIOD));
     }
 
     /**
@@ -877,7 +882,7 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getNumLockRecordsSupportedAsync() {
-        return read(serverAttributes.get(ATTR_NUMLOCKRECORDSSUPPORTED));
+        return read(getServerAttribute(ATTR_NUMLOCKRECORDSSUPPORTED));
     }
 
     /**
@@ -902,11 +907,11 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getNumLockRecordsSupported(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_NUMLOCKRECORDSSUPPORTED).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_NUMLOCKRECORDSSUPPORTED).getLastValue();
+        if (getServerAttribute(ATTR_NUMLOCKRECORDSSUPPORTED).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_NUMLOCKRECORDSSUPPORTED).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_NUMLOCKRECORDSSUPPORTED));
+        return (Integer) readSync(getServerAttribute(ATTR_NUMLOCKRECORDSSUPPORTED));
     }
 
     /**
@@ -926,7 +931,7 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setNumLockRecordsSupportedReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_NUMLOCKRECORDSSUPPORTED), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_NUMLOCKRECORDSSUPPORTED), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -944,7 +949,7 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getNumTotalUsersSupportedAsync() {
-        return read(serverAttributes.get(ATTR_NUMTOTALUSERSSUPPORTED));
+        return read(getServerAttribute(ATTR_NUMTOTALUSERSSUPPORTED));
     }
 
     /**
@@ -970,11 +975,11 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getNumTotalUsersSupported(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_NUMTOTALUSERSSUPPORTED).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_NUMTOTALUSERSSUPPORTED).getLastValue();
+        if (getServerAttribute(ATTR_NUMTOTALUSERSSUPPORTED).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_NUMTOTALUSERSSUPPORTED).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_NUMTOTALUSERSSUPPORTED));
+        return (Integer) readSync(getServerAttribute(ATTR_NUMTOTALUSERSSUPPORTED));
     }
 
     /**
@@ -995,7 +1000,7 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setNumTotalUsersSupportedReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_NUMTOTALUSERSSUPPORTED), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_NUMTOTALUSERSSUPPORTED), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -1012,7 +1017,7 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getNumPinUsersSupportedAsync() {
-        return read(serverAttributes.get(ATTR_NUMPINUSERSSUPPORTED));
+        return read(getServerAttribute(ATTR_NUMPINUSERSSUPPORTED));
     }
 
     /**
@@ -1037,11 +1042,11 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getNumPinUsersSupported(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_NUMPINUSERSSUPPORTED).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_NUMPINUSERSSUPPORTED).getLastValue();
+        if (getServerAttribute(ATTR_NUMPINUSERSSUPPORTED).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_NUMPINUSERSSUPPORTED).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_NUMPINUSERSSUPPORTED));
+        return (Integer) readSync(getServerAttribute(ATTR_NUMPINUSERSSUPPORTED));
     }
 
     /**
@@ -1061,7 +1066,7 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setNumPinUsersSupportedReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_NUMPINUSERSSUPPORTED), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_NUMPINUSERSSUPPORTED), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -1078,7 +1083,7 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getNumRfidUsersSupportedAsync() {
-        return read(serverAttributes.get(ATTR_NUMRFIDUSERSSUPPORTED));
+        return read(getServerAttribute(ATTR_NUMRFIDUSERSSUPPORTED));
     }
 
     /**
@@ -1103,11 +1108,11 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getNumRfidUsersSupported(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_NUMRFIDUSERSSUPPORTED).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_NUMRFIDUSERSSUPPORTED).getLastValue();
+        if (getServerAttribute(ATTR_NUMRFIDUSERSSUPPORTED).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_NUMRFIDUSERSSUPPORTED).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_NUMRFIDUSERSSUPPORTED));
+        return (Integer) readSync(getServerAttribute(ATTR_NUMRFIDUSERSSUPPORTED));
     }
 
     /**
@@ -1127,7 +1132,7 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setNumRfidUsersSupportedReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_NUMRFIDUSERSSUPPORTED), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_NUMRFIDUSERSSUPPORTED), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -1144,7 +1149,7 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getNumWeekdaySchedulesSupportedPerUserAsync() {
-        return read(serverAttributes.get(ATTR_NUMWEEKDAYSCHEDULESSUPPORTEDPERUSER));
+        return read(getServerAttribute(ATTR_NUMWEEKDAYSCHEDULESSUPPORTEDPERUSER));
     }
 
     /**
@@ -1169,11 +1174,11 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getNumWeekdaySchedulesSupportedPerUser(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_NUMWEEKDAYSCHEDULESSUPPORTEDPERUSER).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_NUMWEEKDAYSCHEDULESSUPPORTEDPERUSER).getLastValue();
+        if (getServerAttribute(ATTR_NUMWEEKDAYSCHEDULESSUPPORTEDPERUSER).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_NUMWEEKDAYSCHEDULESSUPPORTEDPERUSER).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_NUMWEEKDAYSCHEDULESSUPPORTEDPERUSER));
+        return (Integer) readSync(getServerAttribute(ATTR_NUMWEEKDAYSCHEDULESSUPPORTEDPERUSER));
     }
 
     /**
@@ -1193,7 +1198,7 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setNumWeekdaySchedulesSupportedPerUserReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_NUMWEEKDAYSCHEDULESSUPPORTEDPERUSER), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_NUMWEEKDAYSCHEDULESSUPPORTEDPERUSER), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -1210,7 +1215,7 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getNumYeardaySchedulesSupportedPerUserAsync() {
-        return read(serverAttributes.get(ATTR_NUMYEARDAYSCHEDULESSUPPORTEDPERUSER));
+        return read(getServerAttribute(ATTR_NUMYEARDAYSCHEDULESSUPPORTEDPERUSER));
     }
 
     /**
@@ -1235,11 +1240,11 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getNumYeardaySchedulesSupportedPerUser(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_NUMYEARDAYSCHEDULESSUPPORTEDPERUSER).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_NUMYEARDAYSCHEDULESSUPPORTEDPERUSER).getLastValue();
+        if (getServerAttribute(ATTR_NUMYEARDAYSCHEDULESSUPPORTEDPERUSER).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_NUMYEARDAYSCHEDULESSUPPORTEDPERUSER).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_NUMYEARDAYSCHEDULESSUPPORTEDPERUSER));
+        return (Integer) readSync(getServerAttribute(ATTR_NUMYEARDAYSCHEDULESSUPPORTEDPERUSER));
     }
 
     /**
@@ -1259,7 +1264,7 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setNumYeardaySchedulesSupportedPerUserReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_NUMYEARDAYSCHEDULESSUPPORTEDPERUSER), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_NUMYEARDAYSCHEDULESSUPPORTEDPERUSER), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -1276,7 +1281,7 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getNumHolidaySchedulesSupportedPerUserAsync() {
-        return read(serverAttributes.get(ATTR_NUMHOLIDAYSCHEDULESSUPPORTEDPERUSER));
+        return read(getServerAttribute(ATTR_NUMHOLIDAYSCHEDULESSUPPORTEDPERUSER));
     }
 
     /**
@@ -1301,11 +1306,11 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getNumHolidaySchedulesSupportedPerUser(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_NUMHOLIDAYSCHEDULESSUPPORTEDPERUSER).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_NUMHOLIDAYSCHEDULESSUPPORTEDPERUSER).getLastValue();
+        if (getServerAttribute(ATTR_NUMHOLIDAYSCHEDULESSUPPORTEDPERUSER).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_NUMHOLIDAYSCHEDULESSUPPORTEDPERUSER).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_NUMHOLIDAYSCHEDULESSUPPORTEDPERUSER));
+        return (Integer) readSync(getServerAttribute(ATTR_NUMHOLIDAYSCHEDULESSUPPORTEDPERUSER));
     }
 
     /**
@@ -1325,7 +1330,7 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setNumHolidaySchedulesSupportedPerUserReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_NUMHOLIDAYSCHEDULESSUPPORTEDPERUSER), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_NUMHOLIDAYSCHEDULESSUPPORTEDPERUSER), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -1344,7 +1349,7 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getMaxPinLengthAsync() {
-        return read(serverAttributes.get(ATTR_MAXPINLENGTH));
+        return read(getServerAttribute(ATTR_MAXPINLENGTH));
     }
 
     /**
@@ -1371,11 +1376,11 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getMaxPinLength(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_MAXPINLENGTH).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_MAXPINLENGTH).getLastValue();
+        if (getServerAttribute(ATTR_MAXPINLENGTH).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_MAXPINLENGTH).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_MAXPINLENGTH));
+        return (Integer) readSync(getServerAttribute(ATTR_MAXPINLENGTH));
     }
 
     /**
@@ -1397,7 +1402,7 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setMaxPinLengthReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_MAXPINLENGTH), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_MAXPINLENGTH), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -1416,7 +1421,7 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getMinPinLengthAsync() {
-        return read(serverAttributes.get(ATTR_MINPINLENGTH));
+        return read(getServerAttribute(ATTR_MINPINLENGTH));
     }
 
     /**
@@ -1443,11 +1448,11 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getMinPinLength(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_MINPINLENGTH).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_MINPINLENGTH).getLastValue();
+        if (getServerAttribute(ATTR_MINPINLENGTH).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_MINPINLENGTH).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_MINPINLENGTH));
+        return (Integer) readSync(getServerAttribute(ATTR_MINPINLENGTH));
     }
 
     /**
@@ -1469,7 +1474,7 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setMinPinLengthReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_MINPINLENGTH), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_MINPINLENGTH), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -1489,7 +1494,7 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getMaxRfidCodeLengthAsync() {
-        return read(serverAttributes.get(ATTR_MAXRFIDCODELENGTH));
+        return read(getServerAttribute(ATTR_MAXRFIDCODELENGTH));
     }
 
     /**
@@ -1517,11 +1522,11 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getMaxRfidCodeLength(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_MAXRFIDCODELENGTH).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_MAXRFIDCODELENGTH).getLastValue();
+        if (getServerAttribute(ATTR_MAXRFIDCODELENGTH).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_MAXRFIDCODELENGTH).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_MAXRFIDCODELENGTH));
+        return (Integer) readSync(getServerAttribute(ATTR_MAXRFIDCODELENGTH));
     }
 
     /**
@@ -1544,7 +1549,7 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setMaxRfidCodeLengthReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_MAXRFIDCODELENGTH), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_MAXRFIDCODELENGTH), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -1564,7 +1569,7 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getMinRfidCodeLengthAsync() {
-        return read(serverAttributes.get(ATTR_MINRFIDCODELENGTH));
+        return read(getServerAttribute(ATTR_MINRFIDCODELENGTH));
     }
 
     /**
@@ -1592,11 +1597,11 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getMinRfidCodeLength(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_MINRFIDCODELENGTH).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_MINRFIDCODELENGTH).getLastValue();
+        if (getServerAttribute(ATTR_MINRFIDCODELENGTH).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_MINRFIDCODELENGTH).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_MINRFIDCODELENGTH));
+        return (Integer) readSync(getServerAttribute(ATTR_MINRFIDCODELENGTH));
     }
 
     /**
@@ -1619,7 +1624,7 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setMinRfidCodeLengthReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_MINRFIDCODELENGTH), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_MINRFIDCODELENGTH), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -1641,7 +1646,7 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setEnableLogging(final Boolean value) {
-        return write(serverAttributes.get(ATTR_ENABLELOGGING), value);
+        return write(getServerAttribute(ATTR_ENABLELOGGING), value);
     }
 
     /**
@@ -1662,7 +1667,7 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getEnableLoggingAsync() {
-        return read(serverAttributes.get(ATTR_ENABLELOGGING));
+        return read(getServerAttribute(ATTR_ENABLELOGGING));
     }
 
     /**
@@ -1691,11 +1696,11 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Boolean getEnableLogging(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_ENABLELOGGING).isLastValueCurrent(refreshPeriod)) {
-            return (Boolean) serverAttributes.get(ATTR_ENABLELOGGING).getLastValue();
+        if (getServerAttribute(ATTR_ENABLELOGGING).isLastValueCurrent(refreshPeriod)) {
+            return (Boolean) getServerAttribute(ATTR_ENABLELOGGING).getLastValue();
         }
 
-        return (Boolean) readSync(serverAttributes.get(ATTR_ENABLELOGGING));
+        return (Boolean) readSync(getServerAttribute(ATTR_ENABLELOGGING));
     }
 
     /**
@@ -1716,7 +1721,7 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setLanguage(final String value) {
-        return write(serverAttributes.get(ATTR_LANGUAGE), value);
+        return write(getServerAttribute(ATTR_LANGUAGE), value);
     }
 
     /**
@@ -1736,7 +1741,7 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getLanguageAsync() {
-        return read(serverAttributes.get(ATTR_LANGUAGE));
+        return read(getServerAttribute(ATTR_LANGUAGE));
     }
 
     /**
@@ -1764,11 +1769,11 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public String getLanguage(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_LANGUAGE).isLastValueCurrent(refreshPeriod)) {
-            return (String) serverAttributes.get(ATTR_LANGUAGE).getLastValue();
+        if (getServerAttribute(ATTR_LANGUAGE).isLastValueCurrent(refreshPeriod)) {
+            return (String) getServerAttribute(ATTR_LANGUAGE).getLastValue();
         }
 
-        return (String) readSync(serverAttributes.get(ATTR_LANGUAGE));
+        return (String) readSync(getServerAttribute(ATTR_LANGUAGE));
     }
 
     /**
@@ -1786,7 +1791,7 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setLedSettings(final Integer value) {
-        return write(serverAttributes.get(ATTR_LEDSETTINGS), value);
+        return write(getServerAttribute(ATTR_LEDSETTINGS), value);
     }
 
     /**
@@ -1803,7 +1808,7 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getLedSettingsAsync() {
-        return read(serverAttributes.get(ATTR_LEDSETTINGS));
+        return read(getServerAttribute(ATTR_LEDSETTINGS));
     }
 
     /**
@@ -1828,11 +1833,11 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getLedSettings(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_LEDSETTINGS).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_LEDSETTINGS).getLastValue();
+        if (getServerAttribute(ATTR_LEDSETTINGS).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_LEDSETTINGS).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_LEDSETTINGS));
+        return (Integer) readSync(getServerAttribute(ATTR_LEDSETTINGS));
     }
 
     /**
@@ -1852,7 +1857,7 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setAutoRelockTime(final Integer value) {
-        return write(serverAttributes.get(ATTR_AUTORELOCKTIME), value);
+        return write(getServerAttribute(ATTR_AUTORELOCKTIME), value);
     }
 
     /**
@@ -1871,7 +1876,7 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getAutoRelockTimeAsync() {
-        return read(serverAttributes.get(ATTR_AUTORELOCKTIME));
+        return read(getServerAttribute(ATTR_AUTORELOCKTIME));
     }
 
     /**
@@ -1898,11 +1903,11 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getAutoRelockTime(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_AUTORELOCKTIME).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_AUTORELOCKTIME).getLastValue();
+        if (getServerAttribute(ATTR_AUTORELOCKTIME).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_AUTORELOCKTIME).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_AUTORELOCKTIME));
+        return (Integer) readSync(getServerAttribute(ATTR_AUTORELOCKTIME));
     }
 
     /**
@@ -1920,7 +1925,7 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setSoundVolume(final Integer value) {
-        return write(serverAttributes.get(ATTR_SOUNDVOLUME), value);
+        return write(getServerAttribute(ATTR_SOUNDVOLUME), value);
     }
 
     /**
@@ -1937,7 +1942,7 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getSoundVolumeAsync() {
-        return read(serverAttributes.get(ATTR_SOUNDVOLUME));
+        return read(getServerAttribute(ATTR_SOUNDVOLUME));
     }
 
     /**
@@ -1962,11 +1967,11 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getSoundVolume(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_SOUNDVOLUME).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_SOUNDVOLUME).getLastValue();
+        if (getServerAttribute(ATTR_SOUNDVOLUME).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_SOUNDVOLUME).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_SOUNDVOLUME));
+        return (Integer) readSync(getServerAttribute(ATTR_SOUNDVOLUME));
     }
 
     /**
@@ -1984,7 +1989,7 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setOperatingMode(final Integer value) {
-        return write(serverAttributes.get(ATTR_OPERATINGMODE), value);
+        return write(getServerAttribute(ATTR_OPERATINGMODE), value);
     }
 
     /**
@@ -2001,7 +2006,7 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getOperatingModeAsync() {
-        return read(serverAttributes.get(ATTR_OPERATINGMODE));
+        return read(getServerAttribute(ATTR_OPERATINGMODE));
     }
 
     /**
@@ -2026,11 +2031,11 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getOperatingMode(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_OPERATINGMODE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_OPERATINGMODE).getLastValue();
+        if (getServerAttribute(ATTR_OPERATINGMODE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_OPERATINGMODE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_OPERATINGMODE));
+        return (Integer) readSync(getServerAttribute(ATTR_OPERATINGMODE));
     }
 
     /**
@@ -2049,7 +2054,7 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getSupportedOperatingModesAsync() {
-        return read(serverAttributes.get(ATTR_SUPPORTEDOPERATINGMODES));
+        return read(getServerAttribute(ATTR_SUPPORTEDOPERATINGMODES));
     }
 
     /**
@@ -2076,11 +2081,11 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getSupportedOperatingModes(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_SUPPORTEDOPERATINGMODES).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_SUPPORTEDOPERATINGMODES).getLastValue();
+        if (getServerAttribute(ATTR_SUPPORTEDOPERATINGMODES).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_SUPPORTEDOPERATINGMODES).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_SUPPORTEDOPERATINGMODES));
+        return (Integer) readSync(getServerAttribute(ATTR_SUPPORTEDOPERATINGMODES));
     }
 
     /**
@@ -2101,7 +2106,7 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setSupportedOperatingModesReporting(final int minInterval, final int maxInterval) {
-        return setReporting(serverAttributes.get(ATTR_SUPPORTEDOPERATINGMODES), minInterval, maxInterval);
+        return setReporting(getServerAttribute(ATTR_SUPPORTEDOPERATINGMODES), minInterval, maxInterval);
     }
 
     /**
@@ -2126,7 +2131,7 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getDefaultConfigurationRegisterAsync() {
-        return read(serverAttributes.get(ATTR_DEFAULTCONFIGURATIONREGISTER));
+        return read(getServerAttribute(ATTR_DEFAULTCONFIGURATIONREGISTER));
     }
 
     /**
@@ -2159,11 +2164,11 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getDefaultConfigurationRegister(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_DEFAULTCONFIGURATIONREGISTER).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_DEFAULTCONFIGURATIONREGISTER).getLastValue();
+        if (getServerAttribute(ATTR_DEFAULTCONFIGURATIONREGISTER).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_DEFAULTCONFIGURATIONREGISTER).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_DEFAULTCONFIGURATIONREGISTER));
+        return (Integer) readSync(getServerAttribute(ATTR_DEFAULTCONFIGURATIONREGISTER));
     }
 
     /**
@@ -2190,7 +2195,7 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setDefaultConfigurationRegisterReporting(final int minInterval, final int maxInterval) {
-        return setReporting(serverAttributes.get(ATTR_DEFAULTCONFIGURATIONREGISTER), minInterval, maxInterval);
+        return setReporting(getServerAttribute(ATTR_DEFAULTCONFIGURATIONREGISTER), minInterval, maxInterval);
     }
 
     /**
@@ -2213,7 +2218,7 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setEnableLocalProgramming(final Boolean value) {
-        return write(serverAttributes.get(ATTR_ENABLELOCALPROGRAMMING), value);
+        return write(getServerAttribute(ATTR_ENABLELOCALPROGRAMMING), value);
     }
 
     /**
@@ -2235,7 +2240,7 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getEnableLocalProgrammingAsync() {
-        return read(serverAttributes.get(ATTR_ENABLELOCALPROGRAMMING));
+        return read(getServerAttribute(ATTR_ENABLELOCALPROGRAMMING));
     }
 
     /**
@@ -2265,11 +2270,11 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Boolean getEnableLocalProgramming(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_ENABLELOCALPROGRAMMING).isLastValueCurrent(refreshPeriod)) {
-            return (Boolean) serverAttributes.get(ATTR_ENABLELOCALPROGRAMMING).getLastValue();
+        if (getServerAttribute(ATTR_ENABLELOCALPROGRAMMING).isLastValueCurrent(refreshPeriod)) {
+            return (Boolean) getServerAttribute(ATTR_ENABLELOCALPROGRAMMING).getLastValue();
         }
 
-        return (Boolean) readSync(serverAttributes.get(ATTR_ENABLELOCALPROGRAMMING));
+        return (Boolean) readSync(getServerAttribute(ATTR_ENABLELOCALPROGRAMMING));
     }
 
     /**
@@ -2287,7 +2292,7 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setEnableOneTouchLocking(final Boolean value) {
-        return write(serverAttributes.get(ATTR_ENABLEONETOUCHLOCKING), value);
+        return write(getServerAttribute(ATTR_ENABLEONETOUCHLOCKING), value);
     }
 
     /**
@@ -2304,7 +2309,7 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getEnableOneTouchLockingAsync() {
-        return read(serverAttributes.get(ATTR_ENABLEONETOUCHLOCKING));
+        return read(getServerAttribute(ATTR_ENABLEONETOUCHLOCKING));
     }
 
     /**
@@ -2329,11 +2334,11 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Boolean getEnableOneTouchLocking(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_ENABLEONETOUCHLOCKING).isLastValueCurrent(refreshPeriod)) {
-            return (Boolean) serverAttributes.get(ATTR_ENABLEONETOUCHLOCKING).getLastValue();
+        if (getServerAttribute(ATTR_ENABLEONETOUCHLOCKING).isLastValueCurrent(refreshPeriod)) {
+            return (Boolean) getServerAttribute(ATTR_ENABLEONETOUCHLOCKING).getLastValue();
         }
 
-        return (Boolean) readSync(serverAttributes.get(ATTR_ENABLEONETOUCHLOCKING));
+        return (Boolean) readSync(getServerAttribute(ATTR_ENABLEONETOUCHLOCKING));
     }
 
     /**
@@ -2351,7 +2356,7 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setEnableInsideStatusLed(final Boolean value) {
-        return write(serverAttributes.get(ATTR_ENABLEINSIDESTATUSLED), value);
+        return write(getServerAttribute(ATTR_ENABLEINSIDESTATUSLED), value);
     }
 
     /**
@@ -2368,7 +2373,7 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getEnableInsideStatusLedAsync() {
-        return read(serverAttributes.get(ATTR_ENABLEINSIDESTATUSLED));
+        return read(getServerAttribute(ATTR_ENABLEINSIDESTATUSLED));
     }
 
     /**
@@ -2393,11 +2398,11 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Boolean getEnableInsideStatusLed(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_ENABLEINSIDESTATUSLED).isLastValueCurrent(refreshPeriod)) {
-            return (Boolean) serverAttributes.get(ATTR_ENABLEINSIDESTATUSLED).getLastValue();
+        if (getServerAttribute(ATTR_ENABLEINSIDESTATUSLED).isLastValueCurrent(refreshPeriod)) {
+            return (Boolean) getServerAttribute(ATTR_ENABLEINSIDESTATUSLED).getLastValue();
         }
 
-        return (Boolean) readSync(serverAttributes.get(ATTR_ENABLEINSIDESTATUSLED));
+        return (Boolean) readSync(getServerAttribute(ATTR_ENABLEINSIDESTATUSLED));
     }
 
     /**
@@ -2416,7 +2421,7 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setEnablePrivacyModeButton(final Boolean value) {
-        return write(serverAttributes.get(ATTR_ENABLEPRIVACYMODEBUTTON), value);
+        return write(getServerAttribute(ATTR_ENABLEPRIVACYMODEBUTTON), value);
     }
 
     /**
@@ -2434,7 +2439,7 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getEnablePrivacyModeButtonAsync() {
-        return read(serverAttributes.get(ATTR_ENABLEPRIVACYMODEBUTTON));
+        return read(getServerAttribute(ATTR_ENABLEPRIVACYMODEBUTTON));
     }
 
     /**
@@ -2460,11 +2465,11 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Boolean getEnablePrivacyModeButton(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_ENABLEPRIVACYMODEBUTTON).isLastValueCurrent(refreshPeriod)) {
-            return (Boolean) serverAttributes.get(ATTR_ENABLEPRIVACYMODEBUTTON).getLastValue();
+        if (getServerAttribute(ATTR_ENABLEPRIVACYMODEBUTTON).isLastValueCurrent(refreshPeriod)) {
+            return (Boolean) getServerAttribute(ATTR_ENABLEPRIVACYMODEBUTTON).getLastValue();
         }
 
-        return (Boolean) readSync(serverAttributes.get(ATTR_ENABLEPRIVACYMODEBUTTON));
+        return (Boolean) readSync(getServerAttribute(ATTR_ENABLEPRIVACYMODEBUTTON));
     }
 
     /**
@@ -2484,7 +2489,7 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setWrongCodeEntryLimit(final Integer value) {
-        return write(serverAttributes.get(ATTR_WRONGCODEENTRYLIMIT), value);
+        return write(getServerAttribute(ATTR_WRONGCODEENTRYLIMIT), value);
     }
 
     /**
@@ -2503,7 +2508,7 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getWrongCodeEntryLimitAsync() {
-        return read(serverAttributes.get(ATTR_WRONGCODEENTRYLIMIT));
+        return read(getServerAttribute(ATTR_WRONGCODEENTRYLIMIT));
     }
 
     /**
@@ -2530,11 +2535,11 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getWrongCodeEntryLimit(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_WRONGCODEENTRYLIMIT).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_WRONGCODEENTRYLIMIT).getLastValue();
+        if (getServerAttribute(ATTR_WRONGCODEENTRYLIMIT).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_WRONGCODEENTRYLIMIT).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_WRONGCODEENTRYLIMIT));
+        return (Integer) readSync(getServerAttribute(ATTR_WRONGCODEENTRYLIMIT));
     }
 
     /**
@@ -2554,7 +2559,7 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setUserCodeTemporaryDisableTime(final Integer value) {
-        return write(serverAttributes.get(ATTR_USERCODETEMPORARYDISABLETIME), value);
+        return write(getServerAttribute(ATTR_USERCODETEMPORARYDISABLETIME), value);
     }
 
     /**
@@ -2573,7 +2578,7 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getUserCodeTemporaryDisableTimeAsync() {
-        return read(serverAttributes.get(ATTR_USERCODETEMPORARYDISABLETIME));
+        return read(getServerAttribute(ATTR_USERCODETEMPORARYDISABLETIME));
     }
 
     /**
@@ -2600,11 +2605,11 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getUserCodeTemporaryDisableTime(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_USERCODETEMPORARYDISABLETIME).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_USERCODETEMPORARYDISABLETIME).getLastValue();
+        if (getServerAttribute(ATTR_USERCODETEMPORARYDISABLETIME).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_USERCODETEMPORARYDISABLETIME).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_USERCODETEMPORARYDISABLETIME));
+        return (Integer) readSync(getServerAttribute(ATTR_USERCODETEMPORARYDISABLETIME));
     }
 
     /**
@@ -2630,7 +2635,7 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setSendPinOverTheAir(final Boolean value) {
-        return write(serverAttributes.get(ATTR_SENDPINOVERTHEAIR), value);
+        return write(getServerAttribute(ATTR_SENDPINOVERTHEAIR), value);
     }
 
     /**
@@ -2655,7 +2660,7 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getSendPinOverTheAirAsync() {
-        return read(serverAttributes.get(ATTR_SENDPINOVERTHEAIR));
+        return read(getServerAttribute(ATTR_SENDPINOVERTHEAIR));
     }
 
     /**
@@ -2688,11 +2693,11 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Boolean getSendPinOverTheAir(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_SENDPINOVERTHEAIR).isLastValueCurrent(refreshPeriod)) {
-            return (Boolean) serverAttributes.get(ATTR_SENDPINOVERTHEAIR).getLastValue();
+        if (getServerAttribute(ATTR_SENDPINOVERTHEAIR).isLastValueCurrent(refreshPeriod)) {
+            return (Boolean) getServerAttribute(ATTR_SENDPINOVERTHEAIR).getLastValue();
         }
 
-        return (Boolean) readSync(serverAttributes.get(ATTR_SENDPINOVERTHEAIR));
+        return (Boolean) readSync(getServerAttribute(ATTR_SENDPINOVERTHEAIR));
     }
 
     /**
@@ -2712,7 +2717,7 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setRequirePinForRfOperation(final Boolean value) {
-        return write(serverAttributes.get(ATTR_REQUIREPINFORRFOPERATION), value);
+        return write(getServerAttribute(ATTR_REQUIREPINFORRFOPERATION), value);
     }
 
     /**
@@ -2731,7 +2736,7 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getRequirePinForRfOperationAsync() {
-        return read(serverAttributes.get(ATTR_REQUIREPINFORRFOPERATION));
+        return read(getServerAttribute(ATTR_REQUIREPINFORRFOPERATION));
     }
 
     /**
@@ -2758,11 +2763,11 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Boolean getRequirePinForRfOperation(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_REQUIREPINFORRFOPERATION).isLastValueCurrent(refreshPeriod)) {
-            return (Boolean) serverAttributes.get(ATTR_REQUIREPINFORRFOPERATION).getLastValue();
+        if (getServerAttribute(ATTR_REQUIREPINFORRFOPERATION).isLastValueCurrent(refreshPeriod)) {
+            return (Boolean) getServerAttribute(ATTR_REQUIREPINFORRFOPERATION).getLastValue();
         }
 
-        return (Boolean) readSync(serverAttributes.get(ATTR_REQUIREPINFORRFOPERATION));
+        return (Boolean) readSync(getServerAttribute(ATTR_REQUIREPINFORRFOPERATION));
     }
 
     /**
@@ -2786,7 +2791,7 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getZigbeeSecurityLevelAsync() {
-        return read(serverAttributes.get(ATTR_ZIGBEESECURITYLEVEL));
+        return read(getServerAttribute(ATTR_ZIGBEESECURITYLEVEL));
     }
 
     /**
@@ -2818,11 +2823,11 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getZigbeeSecurityLevel(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_ZIGBEESECURITYLEVEL).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_ZIGBEESECURITYLEVEL).getLastValue();
+        if (getServerAttribute(ATTR_ZIGBEESECURITYLEVEL).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_ZIGBEESECURITYLEVEL).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_ZIGBEESECURITYLEVEL));
+        return (Integer) readSync(getServerAttribute(ATTR_ZIGBEESECURITYLEVEL));
     }
 
     /**
@@ -2848,7 +2853,7 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setZigbeeSecurityLevelReporting(final int minInterval, final int maxInterval) {
-        return setReporting(serverAttributes.get(ATTR_ZIGBEESECURITYLEVEL), minInterval, maxInterval);
+        return setReporting(getServerAttribute(ATTR_ZIGBEESECURITYLEVEL), minInterval, maxInterval);
     }
 
     /**
@@ -2869,7 +2874,7 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setAlarmMask(final Integer value) {
-        return write(serverAttributes.get(ATTR_ALARMMASK), value);
+        return write(getServerAttribute(ATTR_ALARMMASK), value);
     }
 
     /**
@@ -2889,7 +2894,7 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getAlarmMaskAsync() {
-        return read(serverAttributes.get(ATTR_ALARMMASK));
+        return read(getServerAttribute(ATTR_ALARMMASK));
     }
 
     /**
@@ -2917,11 +2922,11 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getAlarmMask(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_ALARMMASK).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_ALARMMASK).getLastValue();
+        if (getServerAttribute(ATTR_ALARMMASK).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_ALARMMASK).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_ALARMMASK));
+        return (Integer) readSync(getServerAttribute(ATTR_ALARMMASK));
     }
 
     /**
@@ -2940,7 +2945,7 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setKeypadOperationEventMask(final Integer value) {
-        return write(serverAttributes.get(ATTR_KEYPADOPERATIONEVENTMASK), value);
+        return write(getServerAttribute(ATTR_KEYPADOPERATIONEVENTMASK), value);
     }
 
     /**
@@ -2958,7 +2963,7 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getKeypadOperationEventMaskAsync() {
-        return read(serverAttributes.get(ATTR_KEYPADOPERATIONEVENTMASK));
+        return read(getServerAttribute(ATTR_KEYPADOPERATIONEVENTMASK));
     }
 
     /**
@@ -2984,11 +2989,11 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getKeypadOperationEventMask(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_KEYPADOPERATIONEVENTMASK).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_KEYPADOPERATIONEVENTMASK).getLastValue();
+        if (getServerAttribute(ATTR_KEYPADOPERATIONEVENTMASK).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_KEYPADOPERATIONEVENTMASK).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_KEYPADOPERATIONEVENTMASK));
+        return (Integer) readSync(getServerAttribute(ATTR_KEYPADOPERATIONEVENTMASK));
     }
 
     /**
@@ -3007,7 +3012,7 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setRfOperationEventMask(final Integer value) {
-        return write(serverAttributes.get(ATTR_RFOPERATIONEVENTMASK), value);
+        return write(getServerAttribute(ATTR_RFOPERATIONEVENTMASK), value);
     }
 
     /**
@@ -3025,7 +3030,7 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getRfOperationEventMaskAsync() {
-        return read(serverAttributes.get(ATTR_RFOPERATIONEVENTMASK));
+        return read(getServerAttribute(ATTR_RFOPERATIONEVENTMASK));
     }
 
     /**
@@ -3051,11 +3056,11 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getRfOperationEventMask(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_RFOPERATIONEVENTMASK).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_RFOPERATIONEVENTMASK).getLastValue();
+        if (getServerAttribute(ATTR_RFOPERATIONEVENTMASK).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_RFOPERATIONEVENTMASK).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_RFOPERATIONEVENTMASK));
+        return (Integer) readSync(getServerAttribute(ATTR_RFOPERATIONEVENTMASK));
     }
 
     /**
@@ -3074,7 +3079,7 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setManualOperationEventMask(final Integer value) {
-        return write(serverAttributes.get(ATTR_MANUALOPERATIONEVENTMASK), value);
+        return write(getServerAttribute(ATTR_MANUALOPERATIONEVENTMASK), value);
     }
 
     /**
@@ -3092,7 +3097,7 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getManualOperationEventMaskAsync() {
-        return read(serverAttributes.get(ATTR_MANUALOPERATIONEVENTMASK));
+        return read(getServerAttribute(ATTR_MANUALOPERATIONEVENTMASK));
     }
 
     /**
@@ -3118,11 +3123,11 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getManualOperationEventMask(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_MANUALOPERATIONEVENTMASK).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_MANUALOPERATIONEVENTMASK).getLastValue();
+        if (getServerAttribute(ATTR_MANUALOPERATIONEVENTMASK).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_MANUALOPERATIONEVENTMASK).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_MANUALOPERATIONEVENTMASK));
+        return (Integer) readSync(getServerAttribute(ATTR_MANUALOPERATIONEVENTMASK));
     }
 
     /**
@@ -3141,7 +3146,7 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setRfidOperationEventMask(final Integer value) {
-        return write(serverAttributes.get(ATTR_RFIDOPERATIONEVENTMASK), value);
+        return write(getServerAttribute(ATTR_RFIDOPERATIONEVENTMASK), value);
     }
 
     /**
@@ -3159,7 +3164,7 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getRfidOperationEventMaskAsync() {
-        return read(serverAttributes.get(ATTR_RFIDOPERATIONEVENTMASK));
+        return read(getServerAttribute(ATTR_RFIDOPERATIONEVENTMASK));
     }
 
     /**
@@ -3185,11 +3190,11 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getRfidOperationEventMask(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_RFIDOPERATIONEVENTMASK).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_RFIDOPERATIONEVENTMASK).getLastValue();
+        if (getServerAttribute(ATTR_RFIDOPERATIONEVENTMASK).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_RFIDOPERATIONEVENTMASK).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_RFIDOPERATIONEVENTMASK));
+        return (Integer) readSync(getServerAttribute(ATTR_RFIDOPERATIONEVENTMASK));
     }
 
     /**
@@ -3208,7 +3213,7 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setKeypadProgrammingEventMask(final Integer value) {
-        return write(serverAttributes.get(ATTR_KEYPADPROGRAMMINGEVENTMASK), value);
+        return write(getServerAttribute(ATTR_KEYPADPROGRAMMINGEVENTMASK), value);
     }
 
     /**
@@ -3226,7 +3231,7 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getKeypadProgrammingEventMaskAsync() {
-        return read(serverAttributes.get(ATTR_KEYPADPROGRAMMINGEVENTMASK));
+        return read(getServerAttribute(ATTR_KEYPADPROGRAMMINGEVENTMASK));
     }
 
     /**
@@ -3252,11 +3257,11 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getKeypadProgrammingEventMask(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_KEYPADPROGRAMMINGEVENTMASK).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_KEYPADPROGRAMMINGEVENTMASK).getLastValue();
+        if (getServerAttribute(ATTR_KEYPADPROGRAMMINGEVENTMASK).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_KEYPADPROGRAMMINGEVENTMASK).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_KEYPADPROGRAMMINGEVENTMASK));
+        return (Integer) readSync(getServerAttribute(ATTR_KEYPADPROGRAMMINGEVENTMASK));
     }
 
     /**
@@ -3275,7 +3280,7 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setRfProgrammingEventMask(final Integer value) {
-        return write(serverAttributes.get(ATTR_RFPROGRAMMINGEVENTMASK), value);
+        return write(getServerAttribute(ATTR_RFPROGRAMMINGEVENTMASK), value);
     }
 
     /**
@@ -3293,7 +3298,7 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getRfProgrammingEventMaskAsync() {
-        return read(serverAttributes.get(ATTR_RFPROGRAMMINGEVENTMASK));
+        return read(getServerAttribute(ATTR_RFPROGRAMMINGEVENTMASK));
     }
 
     /**
@@ -3319,11 +3324,11 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getRfProgrammingEventMask(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_RFPROGRAMMINGEVENTMASK).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_RFPROGRAMMINGEVENTMASK).getLastValue();
+        if (getServerAttribute(ATTR_RFPROGRAMMINGEVENTMASK).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_RFPROGRAMMINGEVENTMASK).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_RFPROGRAMMINGEVENTMASK));
+        return (Integer) readSync(getServerAttribute(ATTR_RFPROGRAMMINGEVENTMASK));
     }
 
     /**
@@ -3342,7 +3347,7 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setRfidProgrammingEventMask(final Integer value) {
-        return write(serverAttributes.get(ATTR_RFIDPROGRAMMINGEVENTMASK), value);
+        return write(getServerAttribute(ATTR_RFIDPROGRAMMINGEVENTMASK), value);
     }
 
     /**
@@ -3360,7 +3365,7 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getRfidProgrammingEventMaskAsync() {
-        return read(serverAttributes.get(ATTR_RFIDPROGRAMMINGEVENTMASK));
+        return read(getServerAttribute(ATTR_RFIDPROGRAMMINGEVENTMASK));
     }
 
     /**
@@ -3386,11 +3391,11 @@ public class ZclDoorLockCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getRfidProgrammingEventMask(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_RFIDPROGRAMMINGEVENTMASK).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_RFIDPROGRAMMINGEVENTMASK).getLastValue();
+        if (getServerAttribute(ATTR_RFIDPROGRAMMINGEVENTMASK).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_RFIDPROGRAMMINGEVENTMASK).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_RFIDPROGRAMMINGEVENTMASK));
+        return (Integer) readSync(getServerAttribute(ATTR_RFIDPROGRAMMINGEVENTMASK));
     }
 
     /**
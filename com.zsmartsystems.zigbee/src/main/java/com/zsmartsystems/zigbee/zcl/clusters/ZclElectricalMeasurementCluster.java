@@ -7,7 +7,9 @@
  */
 package com.zsmartsystems.zigbee.zcl.clusters;
 
+import java.util.Collections;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.Future;
 
@@ -16,6 +18,7 @@ import javax.annotation.Generated;
 import com.zsmartsystems.zigbee.CommandResult;
 import com.zsmartsystems.zigbee.ZigBeeEndpoint;
 import com.zsmartsystems.zigbee.zcl.ZclAttribute;
+import com.zsmartsystems.zigbee.zcl.ZclAttributeDefinition;
 import com.zsmartsystems.zigbee.zcl.ZclCluster;
 import com.zsmartsystems.zigbee.zcl.ZclCommand;
 import com.zsmartsystems.zigbee.zcl.clusters.electricalmeasurement.GetMeasurementProfileCommand;
@@ -41,7 +44,7 @@ import com.zsmartsystems.zigbee.zcl.protocol.ZclDataType;
  * <p>
  * Code is auto-generated. Modifications may be overwritten!
  */
-@Generated(value = "com.zsmartsystems.zigbee.autocode.ZigBeeCodeGenerator", date = "2019-10-04T18:21:10Z")
+@Generated(value = "com.zsmartsystems.zigbee.autocode.ZigBeeCodeGenerator", date = "2026-10-18T14:31:35Z")
 public class ZclElectricalMeasurementCluster extends ZclCluster {
     /**
      * The ZigBee Cluster Library Cluster ID
@@ -241,147 +244,149 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
     public static final int ATTR_RMSVOLTAGESAGPERIODPHASEC = 0x0A16;
     public static final int ATTR_RMSVOLTAGESWELLPERIODPHASEC = 0x0A17;
 
-    @Override
-    protected Map<Integer, ZclAttribute> initializeClientAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
-
-        return attributeMap;
+    /**
+     * The server attribute definitions. These are shared by all instances of this cluster.
+     */
+    private static final Map<Integer, ZclAttributeDefinition> SERVER_ATTRIBUTES = initializeServerAttributeDefinitions();
+
+    private static Map<Integer, ZclAttributeDefinition> initializeServerAttributeDefinitions() {
+        Map<Integer, ZclAttributeDefinition> attributeMap = new TreeMap<>();
+
+        attributeMap.put(ATTR_MEASUREMENTTYPE, new ZclAttributeDefinition(ATTR_MEASUREMENTTYPE, "Measurement Type", ZclDataType.BITMAP_32_BIT, true, true, false, false));
+        attributeMap.put(ATTR_DCVOLTAGE, new ZclAttributeDefinition(ATTR_DCVOLTAGE, "DC Voltage", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_DCVOLTAGEMIN, new ZclAttributeDefinition(ATTR_DCVOLTAGEMIN, "DC Voltage Min", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_DCVOLTAGEMAX, new ZclAttributeDefinition(ATTR_DCVOLTAGEMAX, "DC Voltage Max", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_DCCURRENT, new ZclAttributeDefinition(ATTR_DCCURRENT, "DC Current", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_DCCURRENTMIN, new ZclAttributeDefinition(ATTR_DCCURRENTMIN, "DC Current Min", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_DCCURRENTMAX, new ZclAttributeDefinition(ATTR_DCCURRENTMAX, "DC Current Max", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_DCPOWER, new ZclAttributeDefinition(ATTR_DCPOWER, "DC Power", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_DCPOWERMIN, new ZclAttributeDefinition(ATTR_DCPOWERMIN, "DC Power Min", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_DCPOWERMAX, new ZclAttributeDefinition(ATTR_DCPOWERMAX, "DC Power Max", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_DCVOLTAGEMULTIPLIER, new ZclAttributeDefinition(ATTR_DCVOLTAGEMULTIPLIER, "DC Voltage Multiplier", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_DCVOLTAGEDIVISOR, new ZclAttributeDefinition(ATTR_DCVOLTAGEDIVISOR, "DC Voltage Divisor", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_DCCURRENTMULTIPLIER, new ZclAttributeDefinition(ATTR_DCCURRENTMULTIPLIER, "DC Current Multiplier", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_DCCURRENTDIVISOR, new ZclAttributeDefinition(ATTR_DCCURRENTDIVISOR, "DC Current Divisor", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_DCPOWERMULTIPLIER, new ZclAttributeDefinition(ATTR_DCPOWERMULTIPLIER, "DC Power Multiplier", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_DCPOWERDIVISOR, new ZclAttributeDefinition(ATTR_DCPOWERDIVISOR, "DC Power Divisor", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_ACFREQUENCY, new ZclAttributeDefinition(ATTR_ACFREQUENCY, "AC Frequency", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_ACFREQUENCYMIN, new ZclAttributeDefinition(ATTR_ACFREQUENCYMIN, "AC Frequency Min", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_ACFREQUENCYMAX, new ZclAttributeDefinition(ATTR_ACFREQUENCYMAX, "AC Frequency Max", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_NEUTRALCURRENT, new ZclAttributeDefinition(ATTR_NEUTRALCURRENT, "Neutral Current", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_TOTALACTIVEPOWER, new ZclAttributeDefinition(ATTR_TOTALACTIVEPOWER, "Total Active Power", ZclDataType.SIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TOTALREACTIVEPOWER, new ZclAttributeDefinition(ATTR_TOTALREACTIVEPOWER, "Total Reactive Power", ZclDataType.SIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TOTALAPPARENTPOWER, new ZclAttributeDefinition(ATTR_TOTALAPPARENTPOWER, "Total Apparent Power", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_MEASURED1STHARMONICCURRENT, new ZclAttributeDefinition(ATTR_MEASURED1STHARMONICCURRENT, "Measured 1st Harmonic Current", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_MEASURED3RDHARMONICCURRENT, new ZclAttributeDefinition(ATTR_MEASURED3RDHARMONICCURRENT, "Measured 3rd Harmonic Current", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_MEASURED5THHARMONICCURRENT, new ZclAttributeDefinition(ATTR_MEASURED5THHARMONICCURRENT, "Measured 5th Harmonic Current", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_MEASURED7THHARMONICCURRENT, new ZclAttributeDefinition(ATTR_MEASURED7THHARMONICCURRENT, "Measured 7th Harmonic Current", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_MEASURED9THHARMONICCURRENT, new ZclAttributeDefinition(ATTR_MEASURED9THHARMONICCURRENT, "Measured 9th Harmonic Current", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_MEASURED11THHARMONICCURRENT, new ZclAttributeDefinition(ATTR_MEASURED11THHARMONICCURRENT, "Measured 11th Harmonic Current", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_MEASUREDPHASE1STHARMONICCURRENT, new ZclAttributeDefinition(ATTR_MEASUREDPHASE1STHARMONICCURRENT, "Measured Phase 1st Harmonic Current", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_MEASUREDPHASE3RDHARMONICCURRENT, new ZclAttributeDefinition(ATTR_MEASUREDPHASE3RDHARMONICCURRENT, "Measured Phase 3rd Harmonic Current", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_MEASUREDPHASE5THHARMONICCURRENT, new ZclAttributeDefinition(ATTR_MEASUREDPHASE5THHARMONICCURRENT, "Measured Phase 5th Harmonic Current", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_MEASUREDPHASE7THHARMONICCURRENT, new ZclAttributeDefinition(ATTR_MEASUREDPHASE7THHARMONICCURRENT, "Measured Phase 7th Harmonic Current", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_MEASUREDPHASE9THHARMONICCURRENT, new ZclAttributeDefinition(ATTR_MEASUREDPHASE9THHARMONICCURRENT, "Measured Phase 9th Harmonic Current", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_MEASUREDPHASE11THHARMONICCURRENT, new ZclAttributeDefinition(ATTR_MEASUREDPHASE11THHARMONICCURRENT, "Measured Phase 11th Harmonic Current", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_ACFREQUENCYMULTIPLIER, new ZclAttributeDefinition(ATTR_ACFREQUENCYMULTIPLIER, "AC Frequency Multiplier", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_ACFREQUENCYDIVISOR, new ZclAttributeDefinition(ATTR_ACFREQUENCYDIVISOR, "AC Frequency Divisor", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_POWERMULTIPLIER, new ZclAttributeDefinition(ATTR_POWERMULTIPLIER, "Power Multiplier", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_POWERDIVISOR, new ZclAttributeDefinition(ATTR_POWERDIVISOR, "Power Divisor", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_HARMONICCURRENTMULTIPLIER, new ZclAttributeDefinition(ATTR_HARMONICCURRENTMULTIPLIER, "Harmonic Current Multiplier", ZclDataType.SIGNED_8_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PHASEHARMONICCURRENTMULTIPLIER, new ZclAttributeDefinition(ATTR_PHASEHARMONICCURRENTMULTIPLIER, "Phase Harmonic Current Multiplier", ZclDataType.SIGNED_8_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_INSTANTANEOUSVOLTAGE, new ZclAttributeDefinition(ATTR_INSTANTANEOUSVOLTAGE, "Instantaneous Voltage", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_INSTANTANEOUSLINECURRENT, new ZclAttributeDefinition(ATTR_INSTANTANEOUSLINECURRENT, "Instantaneous Line Current", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_INSTANTANEOUSACTIVECURRENT, new ZclAttributeDefinition(ATTR_INSTANTANEOUSACTIVECURRENT, "Instantaneous Active Current", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_INSTANTANEOUSREACTIVECURRENT, new ZclAttributeDefinition(ATTR_INSTANTANEOUSREACTIVECURRENT, "Instantaneous Reactive Current", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_INSTANTANEOUSPOWER, new ZclAttributeDefinition(ATTR_INSTANTANEOUSPOWER, "Instantaneous Power", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_RMSVOLTAGE, new ZclAttributeDefinition(ATTR_RMSVOLTAGE, "RMS Voltage", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RMSVOLTAGEMIN, new ZclAttributeDefinition(ATTR_RMSVOLTAGEMIN, "RMS Voltage Min", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_RMSVOLTAGEMAX, new ZclAttributeDefinition(ATTR_RMSVOLTAGEMAX, "RMS Voltage Max", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_RMSCURRENT, new ZclAttributeDefinition(ATTR_RMSCURRENT, "RMS Current", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RMSCURRENTMIN, new ZclAttributeDefinition(ATTR_RMSCURRENTMIN, "RMS Current Min", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_RMSCURRENTMAX, new ZclAttributeDefinition(ATTR_RMSCURRENTMAX, "RMS Current Max", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_ACTIVEPOWER, new ZclAttributeDefinition(ATTR_ACTIVEPOWER, "Active Power", ZclDataType.SIGNED_16_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_ACTIVEPOWERMIN, new ZclAttributeDefinition(ATTR_ACTIVEPOWERMIN, "Active Power Min", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_ACTIVEPOWERMAX, new ZclAttributeDefinition(ATTR_ACTIVEPOWERMAX, "Active Power Max", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_REACTIVEPOWER, new ZclAttributeDefinition(ATTR_REACTIVEPOWER, "Reactive Power", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_APPARENTPOWER, new ZclAttributeDefinition(ATTR_APPARENTPOWER, "Apparent Power", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_POWERFACTOR, new ZclAttributeDefinition(ATTR_POWERFACTOR, "Power Factor", ZclDataType.SIGNED_8_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_AVERAGERMSVOLTAGEMEASUREMENTPERIOD, new ZclAttributeDefinition(ATTR_AVERAGERMSVOLTAGEMEASUREMENTPERIOD, "Average RMS Voltage Measurement Period", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, true, true));
+        attributeMap.put(ATTR_AVERAGERMSUNDERVOLTAGECOUNTER, new ZclAttributeDefinition(ATTR_AVERAGERMSUNDERVOLTAGECOUNTER, "Average RMS Under Voltage Counter", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, true, true));
+        attributeMap.put(ATTR_RMSEXTREMEOVERVOLTAGEPERIOD, new ZclAttributeDefinition(ATTR_RMSEXTREMEOVERVOLTAGEPERIOD, "RMS Extreme Over Voltage Period", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, true, true));
+        attributeMap.put(ATTR_RMSEXTREMEUNDERVOLTAGEPERIOD, new ZclAttributeDefinition(ATTR_RMSEXTREMEUNDERVOLTAGEPERIOD, "RMS Extreme Under Voltage Period", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, true, true));
+        attributeMap.put(ATTR_RMSVOLTAGESAGPERIOD, new ZclAttributeDefinition(ATTR_RMSVOLTAGESAGPERIOD, "RMS Voltage Sag Period", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, true, true));
+        attributeMap.put(ATTR_RMSVOLTAGESWELLPERIOD, new ZclAttributeDefinition(ATTR_RMSVOLTAGESWELLPERIOD, "RMS Voltage Swell Period", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, true, true));
+        attributeMap.put(ATTR_ACVOLTAGEMULTIPLIER, new ZclAttributeDefinition(ATTR_ACVOLTAGEMULTIPLIER, "AC Voltage Multiplier", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_ACVOLTAGEDIVISOR, new ZclAttributeDefinition(ATTR_ACVOLTAGEDIVISOR, "AC Voltage Divisor", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_ACCURRENTMULTIPLIER, new ZclAttributeDefinition(ATTR_ACCURRENTMULTIPLIER, "AC Current Multiplier", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_ACCURRENTDIVISOR, new ZclAttributeDefinition(ATTR_ACCURRENTDIVISOR, "AC Current Divisor", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_ACPOWERMULTIPLIER, new ZclAttributeDefinition(ATTR_ACPOWERMULTIPLIER, "AC Power Multiplier", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_ACPOWERDIVISOR, new ZclAttributeDefinition(ATTR_ACPOWERDIVISOR, "AC Power Divisor", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_OVERLOADALARMSMASK, new ZclAttributeDefinition(ATTR_OVERLOADALARMSMASK, "Overload Alarms Mask", ZclDataType.BITMAP_8_BIT, false, true, true, true));
+        attributeMap.put(ATTR_VOLTAGEOVERLOAD, new ZclAttributeDefinition(ATTR_VOLTAGEOVERLOAD, "Voltage Overload", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTOVERLOAD, new ZclAttributeDefinition(ATTR_CURRENTOVERLOAD, "Current Overload", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_ACOVERLOADALARMSMASK, new ZclAttributeDefinition(ATTR_ACOVERLOADALARMSMASK, "AC Overload Alarms Mask", ZclDataType.BITMAP_16_BIT, false, true, true, true));
+        attributeMap.put(ATTR_ACVOLTAGEOVERLOAD, new ZclAttributeDefinition(ATTR_ACVOLTAGEOVERLOAD, "AC Voltage Overload", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_ACCURRENTOVERLOAD, new ZclAttributeDefinition(ATTR_ACCURRENTOVERLOAD, "AC Current Overload", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_ACACTIVEPOWEROVERLOAD, new ZclAttributeDefinition(ATTR_ACACTIVEPOWEROVERLOAD, "AC Active Power Overload", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_ACREACTIVEPOWEROVERLOAD, new ZclAttributeDefinition(ATTR_ACREACTIVEPOWEROVERLOAD, "AC Reactive Power Overload", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_AVERAGERMSOVERVOLTAGE, new ZclAttributeDefinition(ATTR_AVERAGERMSOVERVOLTAGE, "Average RMS Over Voltage", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_AVERAGERMSUNDERVOLTAGE, new ZclAttributeDefinition(ATTR_AVERAGERMSUNDERVOLTAGE, "Average RMS Under Voltage", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_RMSEXTREMEOVERVOLTAGE, new ZclAttributeDefinition(ATTR_RMSEXTREMEOVERVOLTAGE, "RMS Extreme Over Voltage", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_RMSEXTREMEUNDERVOLTAGE, new ZclAttributeDefinition(ATTR_RMSEXTREMEUNDERVOLTAGE, "RMS Extreme Under Voltage", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_RMSVOLTAGESAG, new ZclAttributeDefinition(ATTR_RMSVOLTAGESAG, "RMS Voltage Sag", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_RMSVOLTAGESWELL, new ZclAttributeDefinition(ATTR_RMSVOLTAGESWELL, "RMS Voltage Swell", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_LINECURRENTPHASEB, new ZclAttributeDefinition(ATTR_LINECURRENTPHASEB, "Line Current Phase B", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_ACTIVECURRENTPHASEB, new ZclAttributeDefinition(ATTR_ACTIVECURRENTPHASEB, "Active Current Phase B", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_REACTIVECURRENTPHASEB, new ZclAttributeDefinition(ATTR_REACTIVECURRENTPHASEB, "Reactive Current Phase B", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_RMSVOLTAGEPHASEB, new ZclAttributeDefinition(ATTR_RMSVOLTAGEPHASEB, "RMS Voltage Phase B", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_RMSVOLTAGEMINPHASEB, new ZclAttributeDefinition(ATTR_RMSVOLTAGEMINPHASEB, "RMS Voltage Min Phase B", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_RMSVOLTAGEMAXPHASEB, new ZclAttributeDefinition(ATTR_RMSVOLTAGEMAXPHASEB, "RMS Voltage Max Phase B", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_RMSCURRENTPHASEB, new ZclAttributeDefinition(ATTR_RMSCURRENTPHASEB, "RMS Current Phase B", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_RMSCURRENTMINPHASEB, new ZclAttributeDefinition(ATTR_RMSCURRENTMINPHASEB, "RMS Current Min Phase B", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_RMSCURRENTMAXPHASEB, new ZclAttributeDefinition(ATTR_RMSCURRENTMAXPHASEB, "RMS Current Max Phase B", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_ACTIVEPOWERPHASEB, new ZclAttributeDefinition(ATTR_ACTIVEPOWERPHASEB, "Active Power Phase B", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_ACTIVEPOWERMINPHASEB, new ZclAttributeDefinition(ATTR_ACTIVEPOWERMINPHASEB, "Active Power Min Phase B", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_ACTIVEPOWERMAXPHASEB, new ZclAttributeDefinition(ATTR_ACTIVEPOWERMAXPHASEB, "Active Power Max Phase B", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_REACTIVEPOWERPHASEB, new ZclAttributeDefinition(ATTR_REACTIVEPOWERPHASEB, "Reactive Power Phase B", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_APPARENTPOWERPHASEB, new ZclAttributeDefinition(ATTR_APPARENTPOWERPHASEB, "Apparent Power Phase B", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_POWERFACTORPHASEB, new ZclAttributeDefinition(ATTR_POWERFACTORPHASEB, "Power Factor Phase B", ZclDataType.SIGNED_8_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_AVERAGERMSVOLTAGEMEASUREMENTPERIODPHASEB, new ZclAttributeDefinition(ATTR_AVERAGERMSVOLTAGEMEASUREMENTPERIODPHASEB, "Average RMS Voltage Measurement Period Phase B", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_AVERAGERMSOVERVOLTAGECOUNTERPHASEB, new ZclAttributeDefinition(ATTR_AVERAGERMSOVERVOLTAGECOUNTERPHASEB, "Average RMS Over Voltage Counter Phase B", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_AVERAGERMSUNDERVOLTAGECOUNTERPHASEB, new ZclAttributeDefinition(ATTR_AVERAGERMSUNDERVOLTAGECOUNTERPHASEB, "Average RMS Under Voltage Counter Phase B", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_RMSEXTREMEOVERVOLTAGEPERIODPHASEB, new ZclAttributeDefinition(ATTR_RMSEXTREMEOVERVOLTAGEPERIODPHASEB, "RMS Extreme Over Voltage Period Phase B", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_RMSEXTREMEUNDERVOLTAGEPERIODPHASEB, new ZclAttributeDefinition(ATTR_RMSEXTREMEUNDERVOLTAGEPERIODPHASEB, "RMS Extreme Under Voltage Period Phase B", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_RMSVOLTAGESAGPERIODPHASEB, new ZclAttributeDefinition(ATTR_RMSVOLTAGESAGPERIODPHASEB, "RMS Voltage Sag Period Phase B", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_RMSVOLTAGESWELLPERIODPHASEB, new ZclAttributeDefinition(ATTR_RMSVOLTAGESWELLPERIODPHASEB, "RMS Voltage Swell Period Phase B", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_LINECURRENTPHASEC, new ZclAttributeDefinition(ATTR_LINECURRENTPHASEC, "Line Current Phase C", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_ACTIVECURRENTPHASEC, new ZclAttributeDefinition(ATTR_ACTIVECURRENTPHASEC, "Active Current Phase C", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_REACTIVECURRENTPHASEC, new ZclAttributeDefinition(ATTR_REACTIVECURRENTPHASEC, "Reactive Current Phase C", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_RMSVOLTAGEPHASEC, new ZclAttributeDefinition(ATTR_RMSVOLTAGEPHASEC, "RMS Voltage Phase C", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_RMSVOLTAGEMINPHASEC, new ZclAttributeDefinition(ATTR_RMSVOLTAGEMINPHASEC, "RMS Voltage Min Phase C", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_RMSVOLTAGEMAXPHASEC, new ZclAttributeDefinition(ATTR_RMSVOLTAGEMAXPHASEC, "RMS Voltage Max Phase C", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_RMSCURRENTPHASEC, new ZclAttributeDefinition(ATTR_RMSCURRENTPHASEC, "RMS Current Phase C", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_RMSCURRENTMINPHASEC, new ZclAttributeDefinition(ATTR_RMSCURRENTMINPHASEC, "RMS Current Min Phase C", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_RMSCURRENTMAXPHASEC, new ZclAttributeDefinition(ATTR_RMSCURRENTMAXPHASEC, "RMS Current Max Phase C", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_ACTIVEPOWERPHASEC, new ZclAttributeDefinition(ATTR_ACTIVEPOWERPHASEC, "Active Power Phase C", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_ACTIVEPOWERMINPHASEC, new ZclAttributeDefinition(ATTR_ACTIVEPOWERMINPHASEC, "Active Power Min Phase C", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_ACTIVEPOWERMAXPHASEC, new ZclAttributeDefinition(ATTR_ACTIVEPOWERMAXPHASEC, "Active Power Max Phase C", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_REACTIVEPOWERPHASEC, new ZclAttributeDefinition(ATTR_REACTIVEPOWERPHASEC, "Reactive Power Phase C", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_APPARENTPOWERPHASEC, new ZclAttributeDefinition(ATTR_APPARENTPOWERPHASEC, "Apparent Power Phase C", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_POWERFACTORPHASEC, new ZclAttributeDefinition(ATTR_POWERFACTORPHASEC, "Power Factor Phase C", ZclDataType.SIGNED_8_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_AVERAGERMSVOLTAGEMEASUREMENTPERIODPHASEC, new ZclAttributeDefinition(ATTR_AVERAGERMSVOLTAGEMEASUREMENTPERIODPHASEC, "Average RMS Voltage Measurement Period Phase C", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_AVERAGERMSOVERVOLTAGECOUNTERPHASEC, new ZclAttributeDefinition(ATTR_AVERAGERMSOVERVOLTAGECOUNTERPHASEC, "Average RMS Over Voltage Counter Phase C", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_AVERAGERMSUNDERVOLTAGECOUNTERPHASEC, new ZclAttributeDefinition(ATTR_AVERAGERMSUNDERVOLTAGECOUNTERPHASEC, "Average RMS Under Voltage Counter Phase C", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_RMSEXTREMEOVERVOLTAGEPERIODPHASEC, new ZclAttributeDefinition(ATTR_RMSEXTREMEOVERVOLTAGEPERIODPHASEC, "RMS Extreme Over Voltage Period Phase C", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_RMSEXTREMEUNDERVOLTAGEPERIODPHASEC, new ZclAttributeDefinition(ATTR_RMSEXTREMEUNDERVOLTAGEPERIODPHASEC, "RMS Extreme Under Voltage Period Phase C", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_RMSVOLTAGESAGPERIODPHASEC, new ZclAttributeDefinition(ATTR_RMSVOLTAGESAGPERIODPHASEC, "RMS Voltage Sag Period Phase C", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_RMSVOLTAGESWELLPERIODPHASEC, new ZclAttributeDefinition(ATTR_RMSVOLTAGESWELLPERIODPHASEC, "RMS Voltage Swell Period Phase C", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+
+        return Collections.unmodifiableMap(attributeMap);
     }
 
     @Override
-    protected Map<Integer, ZclAttribute> initializeServerAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
-
-        attributeMap.put(ATTR_MEASUREMENTTYPE, new ZclAttribute(this, ATTR_MEASUREMENTTYPE, "Measurement Type", ZclDataType.BITMAP_32_BIT, true, true, false, false));
-        attributeMap.put(ATTR_DCVOLTAGE, new ZclAttribute(this, ATTR_DCVOLTAGE, "DC Voltage", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_DCVOLTAGEMIN, new ZclAttribute(this, ATTR_DCVOLTAGEMIN, "DC Voltage Min", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_DCVOLTAGEMAX, new ZclAttribute(this, ATTR_DCVOLTAGEMAX, "DC Voltage Max", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_DCCURRENT, new ZclAttribute(this, ATTR_DCCURRENT, "DC Current", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_DCCURRENTMIN, new ZclAttribute(this, ATTR_DCCURRENTMIN, "DC Current Min", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_DCCURRENTMAX, new ZclAttribute(this, ATTR_DCCURRENTMAX, "DC Current Max", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_DCPOWER, new ZclAttribute(this, ATTR_DCPOWER, "DC Power", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_DCPOWERMIN, new ZclAttribute(this, ATTR_DCPOWERMIN, "DC Power Min", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_DCPOWERMAX, new ZclAttribute(this, ATTR_DCPOWERMAX, "DC Power Max", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_DCVOLTAGEMULTIPLIER, new ZclAttribute(this, ATTR_DCVOLTAGEMULTIPLIER, "DC Voltage Multiplier", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_DCVOLTAGEDIVISOR, new ZclAttribute(this, ATTR_DCVOLTAGEDIVISOR, "DC Voltage Divisor", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_DCCURRENTMULTIPLIER, new ZclAttribute(this, ATTR_DCCURRENTMULTIPLIER, "DC Current Multiplier", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_DCCURRENTDIVISOR, new ZclAttribute(this, ATTR_DCCURRENTDIVISOR, "DC Current Divisor", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_DCPOWERMULTIPLIER, new ZclAttribute(this, ATTR_DCPOWERMULTIPLIER, "DC Power Multiplier", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_DCPOWERDIVISOR, new ZclAttribute(this, ATTR_DCPOWERDIVISOR, "DC Power Divisor", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_ACFREQUENCY, new ZclAttribute(this, ATTR_ACFREQUENCY, "AC Frequency", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_ACFREQUENCYMIN, new ZclAttribute(this, ATTR_ACFREQUENCYMIN, "AC Frequency Min", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_ACFREQUENCYMAX, new ZclAttribute(this, ATTR_ACFREQUENCYMAX, "AC Frequency Max", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_NEUTRALCURRENT, new ZclAttribute(this, ATTR_NEUTRALCURRENT, "Neutral Current", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_TOTALACTIVEPOWER, new ZclAttribute(this, ATTR_TOTALACTIVEPOWER, "Total Active Power", ZclDataType.SIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TOTALREACTIVEPOWER, new ZclAttribute(this, ATTR_TOTALREACTIVEPOWER, "Total Reactive Power", ZclDataType.SIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TOTALAPPARENTPOWER, new ZclAttribute(this, ATTR_TOTALAPPARENTPOWER, "Total Apparent Power", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_MEASURED1STHARMONICCURRENT, new ZclAttribute(this, ATTR_MEASURED1STHARMONICCURRENT, "Measured 1st Harmonic Current", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_MEASURED3RDHARMONICCURRENT, new ZclAttribute(this, ATTR_MEASURED3RDHARMONICCURRENT, "Measured 3rd Harmonic Current", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_MEASURED5THHARMONICCURRENT, new ZclAttribute(this, ATTR_MEASURED5THHARMONICCURRENT, "Measured 5th Harmonic Current", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_MEASURED7THHARMONICCURRENT, new ZclAttribute(this, ATTR_MEASURED7THHARMONICCURRENT, "Measured 7th Harmonic Current", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_MEASURED9THHARMONICCURRENT, new ZclAttribute(this, ATTR_MEASURED9THHARMONICCURRENT, "Measured 9th Harmonic Current", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_MEASURED11THHARMONICCURRENT, new ZclAttribute(this, ATTR_MEASURED11THHARMONICCURRENT, "Measured 11th Harmonic Current", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_MEASUREDPHASE1STHARMONICCURRENT, new ZclAttribute(this, ATTR_MEASUREDPHASE1STHARMONICCURRENT, "Measured Phase 1st Harmonic Current", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_MEASUREDPHASE3RDHARMONICCURRENT, new ZclAttribute(this, ATTR_MEASUREDPHASE3RDHARMONICCURRENT, "Measured Phase 3rd Harmonic Current", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_MEASUREDPHASE5THHARMONICCURRENT, new ZclAttribute(this, ATTR_MEASUREDPHASE5THHARMONICCURRENT, "Measured Phase 5th Harmonic Current", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_MEASUREDPHASE7THHARMONICCURRENT, new ZclAttribute(this, ATTR_MEASUREDPHASE7THHARMONICCURRENT, "Measured Phase 7th Harmonic Current", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_MEASUREDPHASE9THHARMONICCURRENT, new ZclAttribute(this, ATTR_MEASUREDPHASE9THHARMONICCURRENT, "Measured Phase 9th Harmonic Current", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_MEASUREDPHASE11THHARMONICCURRENT, new ZclAttribute(this, ATTR_MEASUREDPHASE11THHARMONICCURRENT, "Measured Phase 11th Harmonic Current", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_ACFREQUENCYMULTIPLIER, new ZclAttribute(this, ATTR_ACFREQUENCYMULTIPLIER, "AC Frequency Multiplier", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_ACFREQUENCYDIVISOR, new ZclAttribute(this, ATTR_ACFREQUENCYDIVISOR, "AC Frequency Divisor", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_POWERMULTIPLIER, new ZclAttribute(this, ATTR_POWERMULTIPLIER, "Power Multiplier", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_POWERDIVISOR, new ZclAttribute(this, ATTR_POWERDIVISOR, "Power Divisor", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_HARMONICCURRENTMULTIPLIER, new ZclAttribute(this, ATTR_HARMONICCURRENTMULTIPLIER, "Harmonic Current Multiplier", ZclDataType.SIGNED_8_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PHASEHARMONICCURRENTMULTIPLIER, new ZclAttribute(this, ATTR_PHASEHARMONICCURRENTMULTIPLIER, "Phase Harmonic Current Multiplier", ZclDataType.SIGNED_8_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_INSTANTANEOUSVOLTAGE, new ZclAttribute(this, ATTR_INSTANTANEOUSVOLTAGE, "Instantaneous Voltage", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_INSTANTANEOUSLINECURRENT, new ZclAttribute(this, ATTR_INSTANTANEOUSLINECURRENT, "Instantaneous Line Current", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_INSTANTANEOUSACTIVECURRENT, new ZclAttribute(this, ATTR_INSTANTANEOUSACTIVECURRENT, "Instantaneous Active Current", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_INSTANTANEOUSREACTIVECURRENT, new ZclAttribute(this, ATTR_INSTANTANEOUSREACTIVECURRENT, "Instantaneous Reactive Current", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_INSTANTANEOUSPOWER, new ZclAttribute(this, ATTR_INSTANTANEOUSPOWER, "Instantaneous Power", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_RMSVOLTAGE, new ZclAttribute(this, ATTR_RMSVOLTAGE, "RMS Voltage", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RMSVOLTAGEMIN, new ZclAttribute(this, ATTR_RMSVOLTAGEMIN, "RMS Voltage Min", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_RMSVOLTAGEMAX, new ZclAttribute(this, ATTR_RMSVOLTAGEMAX, "RMS Voltage Max", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_RMSCURRENT, new ZclAttribute(this, ATTR_RMSCURRENT, "RMS Current", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RMSCURRENTMIN, new ZclAttribute(this, ATTR_RMSCURRENTMIN, "RMS Current Min", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_RMSCURRENTMAX, new ZclAttribute(this, ATTR_RMSCURRENTMAX, "RMS Current Max", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_ACTIVEPOWER, new ZclAttribute(this, ATTR_ACTIVEPOWER, "Active Power", ZclDataType.SIGNED_16_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_ACTIVEPOWERMIN, new ZclAttribute(this, ATTR_ACTIVEPOWERMIN, "Active Power Min", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_ACTIVEPOWERMAX, new ZclAttribute(this, ATTR_ACTIVEPOWERMAX, "Active Power Max", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_REACTIVEPOWER, new ZclAttribute(this, ATTR_REACTIVEPOWER, "Reactive Power", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_APPARENTPOWER, new ZclAttribute(this, ATTR_APPARENTPOWER, "Apparent Power", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_POWERFACTOR, new ZclAttribute(this, ATTR_POWERFACTOR, "Power Factor", ZclDataType.SIGNED_8_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_AVERAGERMSVOLTAGEMEASUREMENTPERIOD, new ZclAttribute(this, ATTR_AVERAGERMSVOLTAGEMEASUREMENTPERIOD, "Average RMS Voltage Measurement Period", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, true, true));
-        attributeMap.put(ATTR_AVERAGERMSUNDERVOLTAGECOUNTER, new ZclAttribute(this, ATTR_AVERAGERMSUNDERVOLTAGECOUNTER, "Average RMS Under Voltage Counter", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, true, true));
-        attributeMap.put(ATTR_RMSEXTREMEOVERVOLTAGEPERIOD, new ZclAttribute(this, ATTR_RMSEXTREMEOVERVOLTAGEPERIOD, "RMS Extreme Over Voltage Period", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, true, true));
-        attributeMap.put(ATTR_RMSEXTREMEUNDERVOLTAGEPERIOD, new ZclAttribute(this, ATTR_RMSEXTREMEUNDERVOLTAGEPERIOD, "RMS Extreme Under Voltage Period", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, true, true));
-        attributeMap.put(ATTR_RMSVOLTAGESAGPERIOD, new ZclAttribute(this, ATTR_RMSVOLTAGESAGPERIOD, "RMS Voltage Sag Period", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, true, true));
-        attributeMap.put(ATTR_RMSVOLTAGESWELLPERIOD, new ZclAttribute(this, ATTR_RMSVOLTAGESWELLPERIOD, "RMS Voltage Swell Period", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, true, true));
-        attributeMap.put(ATTR_ACVOLTAGEMULTIPLIER, new ZclAttribute(this, ATTR_ACVOLTAGEMULTIPLIER, "AC Voltage Multiplier", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_ACVOLTAGEDIVISOR, new ZclAttribute(this, ATTR_ACVOLTAGEDIVISOR, "AC Voltage Divisor", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_ACCURRENTMULTIPLIER, new ZclAttribute(this, ATTR_ACCURRENTMULTIPLIER, "AC Current Multiplier", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_ACCURRENTDIVISOR, new ZclAttribute(this, ATTR_ACCURRENTDIVISOR, "AC Current Divisor", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_ACPOWERMULTIPLIER, new ZclAttribute(this, ATTR_ACPOWERMULTIPLIER, "AC Power Multiplier", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_ACPOWERDIVISOR, new ZclAttribute(this, ATTR_ACPOWERDIVISOR, "AC Power Divisor", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_OVERLOADALARMSMASK, new ZclAttribute(this, ATTR_OVERLOADALARMSMASK, "Overload Alarms Mask", ZclDataType.BITMAP_8_BIT, false, true, true, true));
-        attributeMap.put(ATTR_VOLTAGEOVERLOAD, new ZclAttribute(this, ATTR_VOLTAGEOVERLOAD, "Voltage Overload", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTOVERLOAD, new ZclAttribute(this, ATTR_CURRENTOVERLOAD, "Current Overload", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_ACOVERLOADALARMSMASK, new ZclAttribute(this, ATTR_ACOVERLOADALARMSMASK, "AC Overload Alarms Mask", ZclDataType.BITMAP_16_BIT, false, true, true, true));
-        attributeMap.put(ATTR_ACVOLTAGEOVERLOAD, new ZclAttribute(this, ATTR_ACVOLTAGEOVERLOAD, "AC Voltage Overload", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_ACCURRENTOVERLOAD, new ZclAttribute(this, ATTR_ACCURRENTOVERLOAD, "AC Current Overload", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_ACACTIVEPOWEROVERLOAD, new ZclAttribute(this, ATTR_ACACTIVEPOWEROVERLOAD, "AC Active Power Overload", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_ACREACTIVEPOWEROVERLOAD, new ZclAttribute(this, ATTR_ACREACTIVEPOWEROVERLOAD, "AC Reactive Power Overload", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_AVERAGERMSOVERVOLTAGE, new ZclAttribute(this, ATTR_AVERAGERMSOVERVOLTAGE, "Average RMS Over Voltage", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_AVERAGERMSUNDERVOLTAGE, new ZclAttribute(this, ATTR_AVERAGERMSUNDERVOLTAGE, "Average RMS Under Voltage", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_RMSEXTREMEOVERVOLTAGE, new ZclAttribute(this, ATTR_RMSEXTREMEOVERVOLTAGE, "RMS Extreme Over Voltage", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_RMSEXTREMEUNDERVOLTAGE, new ZclAttribute(this, ATTR_RMSEXTREMEUNDERVOLTAGE, "RMS Extreme Under Voltage", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_RMSVOLTAGESAG, new ZclAttribute(this, ATTR_RMSVOLTAGESAG, "RMS Voltage Sag", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_RMSVOLTAGESWELL, new ZclAttribute(this, ATTR_RMSVOLTAGESWELL, "RMS Voltage Swell", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_LINECURRENTPHASEB, new ZclAttribute(this, ATTR_LINECURRENTPHASEB, "Line Current Phase B", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_ACTIVECURRENTPHASEB, new ZclAttribute(this, ATTR_ACTIVECURRENTPHASEB, "Active Current Phase B", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_REACTIVECURRENTPHASEB, new ZclAttribute(this, ATTR_REACTIVECURRENTPHASEB, "Reactive Current Phase B", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_RMSVOLTAGEPHASEB, new ZclAttribute(this, ATTR_RMSVOLTAGEPHASEB, "RMS Voltage Phase B", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_RMSVOLTAGEMINPHASEB, new ZclAttribute(this, ATTR_RMSVOLTAGEMINPHASEB, "RMS Voltage Min Phase B", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_RMSVOLTAGEMAXPHASEB, new ZclAttribute(this, ATTR_RMSVOLTAGEMAXPHASEB, "RMS Voltage Max Phase B", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_RMSCURRENTPHASEB, new ZclAttribute(this, ATTR_RMSCURRENTPHASEB, "RMS Current Phase B", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_RMSCURRENTMINPHASEB, new ZclAttribute(this, ATTR_RMSCURRENTMINPHASEB, "RMS Current Min Phase B", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_RMSCURRENTMAXPHASEB, new ZclAttribute(this, ATTR_RMSCURRENTMAXPHASEB, "RMS Current Max Phase B", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_ACTIVEPOWERPHASEB, new ZclAttribute(this, ATTR_ACTIVEPOWERPHASEB, "Active Power Phase B", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_ACTIVEPOWERMINPHASEB, new ZclAttribute(this, ATTR_ACTIVEPOWERMINPHASEB, "Active Power Min Phase B", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_ACTIVEPOWERMAXPHASEB, new ZclAttribute(this, ATTR_ACTIVEPOWERMAXPHASEB, "Active Power Max Phase B", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_REACTIVEPOWERPHASEB, new ZclAttribute(this, ATTR_REACTIVEPOWERPHASEB, "Reactive Power Phase B", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_APPARENTPOWERPHASEB, new ZclAttribute(this, ATTR_APPARENTPOWERPHASEB, "Apparent Power Phase B", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_POWERFACTORPHASEB, new ZclAttribute(this, ATTR_POWERFACTORPHASEB, "Power Factor Phase B", ZclDataType.SIGNED_8_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_AVERAGERMSVOLTAGEMEASUREMENTPERIODPHASEB, new ZclAttribute(this, ATTR_AVERAGERMSVOLTAGEMEASUREMENTPERIODPHASEB, "Average RMS Voltage Measurement Period Phase B", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_AVERAGERMSOVERVOLTAGECOUNTERPHASEB, new ZclAttribute(this, ATTR_AVERAGERMSOVERVOLTAGECOUNTERPHASEB, "Average RMS Over Voltage Counter Phase B", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_AVERAGERMSUNDERVOLTAGECOUNTERPHASEB, new ZclAttribute(this, ATTR_AVERAGERMSUNDERVOLTAGECOUNTERPHASEB, "Average RMS Under Voltage Counter Phase B", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_RMSEXTREMEOVERVOLTAGEPERIODPHASEB, new ZclAttribute(this, ATTR_RMSEXTREMEOVERVOLTAGEPERIODPHASEB, "RMS Extreme Over Voltage Period Phase B", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_RMSEXTREMEUNDERVOLTAGEPERIODPHASEB, new ZclAttribute(this, ATTR_RMSEXTREMEUNDERVOLTAGEPERIODPHASEB, "RMS Extreme Under Voltage Period Phase B", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_RMSVOLTAGESAGPERIODPHASEB, new ZclAttribute(this, ATTR_RMSVOLTAGESAGPERIODPHASEB, "RMS Voltage Sag Period Phase B", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_RMSVOLTAGESWELLPERIODPHASEB, new ZclAttribute(this, ATTR_RMSVOLTAGESWELLPERIODPHASEB, "RMS Voltage Swell Period Phase B", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_LINECURRENTPHASEC, new ZclAttribute(this, ATTR_LINECURRENTPHASEC, "Line Current Phase C", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_ACTIVECURRENTPHASEC, new ZclAttribute(this, ATTR_ACTIVECURRENTPHASEC, "Active Current Phase C", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_REACTIVECURRENTPHASEC, new ZclAttribute(this, ATTR_REACTIVECURRENTPHASEC, "Reactive Current Phase C", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_RMSVOLTAGEPHASEC, new ZclAttribute(this, ATTR_RMSVOLTAGEPHASEC, "RMS Voltage Phase C", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_RMSVOLTAGEMINPHASEC, new ZclAttribute(this, ATTR_RMSVOLTAGEMINPHASEC, "RMS Voltage Min Phase C", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_RMSVOLTAGEMAXPHASEC, new ZclAttribute(this, ATTR_RMSVOLTAGEMAXPHASEC, "RMS Voltage Max Phase C", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_RMSCURRENTPHASEC, new ZclAttribute(this, ATTR_RMSCURRENTPHASEC, "RMS Current Phase C", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_RMSCURRENTMINPHASEC, new ZclAttribute(this, ATTR_RMSCURRENTMINPHASEC, "RMS Current Min Phase C", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_RMSCURRENTMAXPHASEC, new ZclAttribute(this, ATTR_RMSCURRENTMAXPHASEC, "RMS Current Max Phase C", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_ACTIVEPOWERPHASEC, new ZclAttribute(this, ATTR_ACTIVEPOWERPHASEC, "Active Power Phase C", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_ACTIVEPOWERMINPHASEC, new ZclAttribute(this, ATTR_ACTIVEPOWERMINPHASEC, "Active Power Min Phase C", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_ACTIVEPOWERMAXPHASEC, new ZclAttribute(this, ATTR_ACTIVEPOWERMAXPHASEC, "Active Power Max Phase C", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_REACTIVEPOWERPHASEC, new ZclAttribute(this, ATTR_REACTIVEPOWERPHASEC, "Reactive Power Phase C", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_APPARENTPOWERPHASEC, new ZclAttribute(this, ATTR_APPARENTPOWERPHASEC, "Apparent Power Phase C", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_POWERFACTORPHASEC, new ZclAttribute(this, ATTR_POWERFACTORPHASEC, "Power Factor Phase C", ZclDataType.SIGNED_8_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_AVERAGERMSVOLTAGEMEASUREMENTPERIODPHASEC, new ZclAttribute(this, ATTR_AVERAGERMSVOLTAGEMEASUREMENTPERIODPHASEC, "Average RMS Voltage Measurement Period Phase C", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_AVERAGERMSOVERVOLTAGECOUNTERPHASEC, new ZclAttribute(this, ATTR_AVERAGERMSOVERVOLTAGECOUNTERPHASEC, "Average RMS Over Voltage Counter Phase C", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_AVERAGERMSUNDERVOLTAGECOUNTERPHASEC, new ZclAttribute(this, ATTR_AVERAGERMSUNDERVOLTAGECOUNTERPHASEC, "Average RMS Under Voltage Counter Phase C", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_RMSEXTREMEOVERVOLTAGEPERIODPHASEC, new ZclAttribute(this, ATTR_RMSEXTREMEOVERVOLTAGEPERIODPHASEC, "RMS Extreme Over Voltage Period Phase C", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_RMSEXTREMEUNDERVOLTAGEPERIODPHASEC, new ZclAttribute(this, ATTR_RMSEXTREMEUNDERVOLTAGEPERIODPHASEC, "RMS Extreme Under Voltage Period Phase C", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_RMSVOLTAGESAGPERIODPHASEC, new ZclAttribute(this, ATTR_RMSVOLTAGESAGPERIODPHASEC, "RMS Voltage Sag Period Phase C", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_RMSVOLTAGESWELLPERIODPHASEC, new ZclAttribute(this, ATTR_RMSVOLTAGESWELLPERIODPHASEC, "RMS Voltage Swell Period Phase C", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-
-        return attributeMap;
+    protected Map<Integer, ZclAttributeDefinition> getServerAttributeDefinitions() {
+        return SERVER_ATTRIBUTES;
     }
 
     @Override
@@ -428,7 +433,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getMeasurementTypeAsync() {
-        return read(serverAttributes.get(ATTR_MEASUREMENTTYPE));
+        return read(getServerAttribute(ATTR_MEASUREMENTTYPE));
     }
 
     /**
@@ -454,11 +459,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getMeasurementType(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_MEASUREMENTTYPE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_MEASUREMENTTYPE).getLastValue();
+        if (getServerAttribute(ATTR_MEASUREMENTTYPE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_MEASUREMENTTYPE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_MEASUREMENTTYPE));
+        return (Integer) readSync(getServerAttribute(ATTR_MEASUREMENTTYPE));
     }
 
     /**
@@ -478,7 +483,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setMeasurementTypeReporting(final int minInterval, final int maxInterval) {
-        return setReporting(serverAttributes.get(ATTR_MEASUREMENTTYPE), minInterval, maxInterval);
+        return setReporting(getServerAttribute(ATTR_MEASUREMENTTYPE), minInterval, maxInterval);
     }
 
     /**
@@ -493,7 +498,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getDcVoltageAsync() {
-        return read(serverAttributes.get(ATTR_DCVOLTAGE));
+        return read(getServerAttribute(ATTR_DCVOLTAGE));
     }
 
     /**
@@ -516,11 +521,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getDcVoltage(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_DCVOLTAGE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_DCVOLTAGE).getLastValue();
+        if (getServerAttribute(ATTR_DCVOLTAGE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_DCVOLTAGE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_DCVOLTAGE));
+        return (Integer) readSync(getServerAttribute(ATTR_DCVOLTAGE));
     }
 
     /**
@@ -538,7 +543,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setDcVoltageReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_DCVOLTAGE), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_DCVOLTAGE), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -553,7 +558,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getDcVoltageMinAsync() {
-        return read(serverAttributes.get(ATTR_DCVOLTAGEMIN));
+        return read(getServerAttribute(ATTR_DCVOLTAGEMIN));
     }
 
     /**
@@ -576,11 +581,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getDcVoltageMin(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_DCVOLTAGEMIN).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_DCVOLTAGEMIN).getLastValue();
+        if (getServerAttribute(ATTR_DCVOLTAGEMIN).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_DCVOLTAGEMIN).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_DCVOLTAGEMIN));
+        return (Integer) readSync(getServerAttribute(ATTR_DCVOLTAGEMIN));
     }
 
     /**
@@ -598,7 +603,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setDcVoltageMinReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_DCVOLTAGEMIN), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_DCVOLTAGEMIN), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -613,7 +618,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getDcVoltageMaxAsync() {
-        return read(serverAttributes.get(ATTR_DCVOLTAGEMAX));
+        return read(getServerAttribute(ATTR_DCVOLTAGEMAX));
     }
 
     /**
@@ -636,11 +641,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getDcVoltageMax(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_DCVOLTAGEMAX).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_DCVOLTAGEMAX).getLastValue();
+        if (getServerAttribute(ATTR_DCVOLTAGEMAX).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_DCVOLTAGEMAX).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_DCVOLTAGEMAX));
+        return (Integer) readSync(getServerAttribute(ATTR_DCVOLTAGEMAX));
     }
 
     /**
@@ -658,7 +663,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setDcVoltageMaxReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_DCVOLTAGEMAX), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_DCVOLTAGEMAX), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -673,7 +678,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getDcCurrentAsync() {
-        return read(serverAttributes.get(ATTR_DCCURRENT));
+        return read(getServerAttribute(ATTR_DCCURRENT));
     }
 
     /**
@@ -696,11 +701,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getDcCurrent(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_DCCURRENT).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_DCCURRENT).getLastValue();
+        if (getServerAttribute(ATTR_DCCURRENT).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_DCCURRENT).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_DCCURRENT));
+        return (Integer) readSync(getServerAttribute(ATTR_DCCURRENT));
     }
 
     /**
@@ -718,7 +723,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setDcCurrentReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_DCCURRENT), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_DCCURRENT), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -733,7 +738,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getDcCurrentMinAsync() {
-        return read(serverAttributes.get(ATTR_DCCURRENTMIN));
+        return read(getServerAttribute(ATTR_DCCURRENTMIN));
     }
 
     /**
@@ -756,11 +761,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getDcCurrentMin(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_DCCURRENTMIN).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_DCCURRENTMIN).getLastValue();
+        if (getServerAttribute(ATTR_DCCURRENTMIN).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_DCCURRENTMIN).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_DCCURRENTMIN));
+        return (Integer) readSync(getServerAttribute(ATTR_DCCURRENTMIN));
     }
 
     /**
@@ -778,7 +783,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setDcCurrentMinReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_DCCURRENTMIN), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_DCCURRENTMIN), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -793,7 +798,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getDcCurrentMaxAsync() {
-        return read(serverAttributes.get(ATTR_DCCURRENTMAX));
+        return read(getServerAttribute(ATTR_DCCURRENTMAX));
     }
 
     /**
@@ -816,11 +821,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getDcCurrentMax(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_DCCURRENTMAX).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_DCCURRENTMAX).getLastValue();
+        if (getServerAttribute(ATTR_DCCURRENTMAX).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_DCCURRENTMAX).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_DCCURRENTMAX));
+        return (Integer) readSync(getServerAttribute(ATTR_DCCURRENTMAX));
     }
 
     /**
@@ -838,7 +843,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setDcCurrentMaxReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_DCCURRENTMAX), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_DCCURRENTMAX), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -853,7 +858,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getDcPowerAsync() {
-        return read(serverAttributes.get(ATTR_DCPOWER));
+        return read(getServerAttribute(ATTR_DCPOWER));
     }
 
     /**
@@ -876,11 +881,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getDcPower(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_DCPOWER).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_DCPOWER).getLastValue();
+        if (getServerAttribute(ATTR_DCPOWER).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_DCPOWER).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_DCPOWER));
+        return (Integer) readSync(getServerAttribute(ATTR_DCPOWER));
     }
 
     /**
@@ -898,7 +903,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setDcPowerReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_DCPOWER), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_DCPOWER), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -913,7 +918,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getDcPowerMinAsync() {
-        return read(serverAttributes.get(ATTR_DCPOWERMIN));
+        return read(getServerAttribute(ATTR_DCPOWERMIN));
     }
 
     /**
@@ -936,11 +941,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getDcPowerMin(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_DCPOWERMIN).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_DCPOWERMIN).getLastValue();
+        if (getServerAttribute(ATTR_DCPOWERMIN).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_DCPOWERMIN).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_DCPOWERMIN));
+        return (Integer) readSync(getServerAttribute(ATTR_DCPOWERMIN));
     }
 
     /**
@@ -958,7 +963,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setDcPowerMinReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_DCPOWERMIN), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_DCPOWERMIN), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -973,7 +978,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getDcPowerMaxAsync() {
-        return read(serverAttributes.get(ATTR_DCPOWERMAX));
+        return read(getServerAttribute(ATTR_DCPOWERMAX));
     }
 
     /**
@@ -996,11 +1001,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getDcPowerMax(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_DCPOWERMAX).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_DCPOWERMAX).getLastValue();
+        if (getServerAttribute(ATTR_DCPOWERMAX).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_DCPOWERMAX).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_DCPOWERMAX));
+        return (Integer) readSync(getServerAttribute(ATTR_DCPOWERMAX));
     }
 
     /**
@@ -1018,7 +1023,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setDcPowerMaxReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_DCPOWERMAX), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_DCPOWERMAX), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -1033,7 +1038,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getDcVoltageMultiplierAsync() {
-        return read(serverAttributes.get(ATTR_DCVOLTAGEMULTIPLIER));
+        return read(getServerAttribute(ATTR_DCVOLTAGEMULTIPLIER));
     }
 
     /**
@@ -1056,11 +1061,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getDcVoltageMultiplier(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_DCVOLTAGEMULTIPLIER).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_DCVOLTAGEMULTIPLIER).getLastValue();
+        if (getServerAttribute(ATTR_DCVOLTAGEMULTIPLIER).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_DCVOLTAGEMULTIPLIER).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_DCVOLTAGEMULTIPLIER));
+        return (Integer) readSync(getServerAttribute(ATTR_DCVOLTAGEMULTIPLIER));
     }
 
     /**
@@ -1078,7 +1083,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setDcVoltageMultiplierReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_DCVOLTAGEMULTIPLIER), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_DCVOLTAGEMULTIPLIER), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -1093,7 +1098,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getDcVoltageDivisorAsync() {
-        return read(serverAttributes.get(ATTR_DCVOLTAGEDIVISOR));
+        return read(getServerAttribute(ATTR_DCVOLTAGEDIVISOR));
     }
 
     /**
@@ -1116,11 +1121,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getDcVoltageDivisor(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_DCVOLTAGEDIVISOR).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_DCVOLTAGEDIVISOR).getLastValue();
+        if (getServerAttribute(ATTR_DCVOLTAGEDIVISOR).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_DCVOLTAGEDIVISOR).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_DCVOLTAGEDIVISOR));
+        return (Integer) readSync(getServerAttribute(ATTR_DCVOLTAGEDIVISOR));
     }
 
     /**
@@ -1138,7 +1143,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setDcVoltageDivisorReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_DCVOLTAGEDIVISOR), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_DCVOLTAGEDIVISOR), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -1153,7 +1158,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getDcCurrentMultiplierAsync() {
-        return read(serverAttributes.get(ATTR_DCCURRENTMULTIPLIER));
+        return read(getServerAttribute(ATTR_DCCURRENTMULTIPLIER));
     }
 
     /**
@@ -1176,11 +1181,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getDcCurrentMultiplier(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_DCCURRENTMULTIPLIER).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_DCCURRENTMULTIPLIER).getLastValue();
+        if (getServerAttribute(ATTR_DCCURRENTMULTIPLIER).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_DCCURRENTMULTIPLIER).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_DCCURRENTMULTIPLIER));
+        return (Integer) readSync(getServerAttribute(ATTR_DCCURRENTMULTIPLIER));
     }
 
     /**
@@ -1198,7 +1203,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setDcCurrentMultiplierReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_DCCURRENTMULTIPLIER), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_DCCURRENTMULTIPLIER), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -1213,7 +1218,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getDcCurrentDivisorAsync() {
-        return read(serverAttributes.get(ATTR_DCCURRENTDIVISOR));
+        return read(getServerAttribute(ATTR_DCCURRENTDIVISOR));
     }
 
     /**
@@ -1236,11 +1241,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getDcCurrentDivisor(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_DCCURRENTDIVISOR).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_DCCURRENTDIVISOR).getLastValue();
+        if (getServerAttribute(ATTR_DCCURRENTDIVISOR).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_DCCURRENTDIVISOR).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_DCCURRENTDIVISOR));
+        return (Integer) readSync(getServerAttribute(ATTR_DCCURRENTDIVISOR));
     }
 
     /**
@@ -1258,7 +1263,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setDcCurrentDivisorReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_DCCURRENTDIVISOR), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_DCCURRENTDIVISOR), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -1273,7 +1278,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getDcPowerMultiplierAsync() {
-        return read(serverAttributes.get(ATTR_DCPOWERMULTIPLIER));
+        return read(getServerAttribute(ATTR_DCPOWERMULTIPLIER));
     }
 
     /**
@@ -1296,11 +1301,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getDcPowerMultiplier(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_DCPOWERMULTIPLIER).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_DCPOWERMULTIPLIER).getLastValue();
+        if (getServerAttribute(ATTR_DCPOWERMULTIPLIER).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_DCPOWERMULTIPLIER).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_DCPOWERMULTIPLIER));
+        return (Integer) readSync(getServerAttribute(ATTR_DCPOWERMULTIPLIER));
     }
 
     /**
@@ -1318,7 +1323,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setDcPowerMultiplierReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_DCPOWERMULTIPLIER), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_DCPOWERMULTIPLIER), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -1333,7 +1338,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getDcPowerDivisorAsync() {
-        return read(serverAttributes.get(ATTR_DCPOWERDIVISOR));
+        return read(getServerAttribute(ATTR_DCPOWERDIVISOR));
     }
 
     /**
@@ -1356,11 +1361,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getDcPowerDivisor(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_DCPOWERDIVISOR).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_DCPOWERDIVISOR).getLastValue();
+        if (getServerAttribute(ATTR_DCPOWERDIVISOR).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_DCPOWERDIVISOR).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_DCPOWERDIVISOR));
+        return (Integer) readSync(getServerAttribute(ATTR_DCPOWERDIVISOR));
     }
 
     /**
@@ -1378,7 +1383,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setDcPowerDivisorReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_DCPOWERDIVISOR), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_DCPOWERDIVISOR), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -1396,7 +1401,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getAcFrequencyAsync() {
-        return read(serverAttributes.get(ATTR_ACFREQUENCY));
+        return read(getServerAttribute(ATTR_ACFREQUENCY));
     }
 
     /**
@@ -1422,11 +1427,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getAcFrequency(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_ACFREQUENCY).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_ACFREQUENCY).getLastValue();
+        if (getServerAttribute(ATTR_ACFREQUENCY).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_ACFREQUENCY).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_ACFREQUENCY));
+        return (Integer) readSync(getServerAttribute(ATTR_ACFREQUENCY));
     }
 
     /**
@@ -1441,7 +1446,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getAcFrequencyMinAsync() {
-        return read(serverAttributes.get(ATTR_ACFREQUENCYMIN));
+        return read(getServerAttribute(ATTR_ACFREQUENCYMIN));
     }
 
     /**
@@ -1464,11 +1469,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getAcFrequencyMin(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_ACFREQUENCYMIN).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_ACFREQUENCYMIN).getLastValue();
+        if (getServerAttribute(ATTR_ACFREQUENCYMIN).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_ACFREQUENCYMIN).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_ACFREQUENCYMIN));
+        return (Integer) readSync(getServerAttribute(ATTR_ACFREQUENCYMIN));
     }
 
     /**
@@ -1486,7 +1491,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setAcFrequencyMinReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_ACFREQUENCYMIN), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_ACFREQUENCYMIN), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -1501,7 +1506,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getAcFrequencyMaxAsync() {
-        return read(serverAttributes.get(ATTR_ACFREQUENCYMAX));
+        return read(getServerAttribute(ATTR_ACFREQUENCYMAX));
     }
 
     /**
@@ -1524,11 +1529,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getAcFrequencyMax(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_ACFREQUENCYMAX).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_ACFREQUENCYMAX).getLastValue();
+        if (getServerAttribute(ATTR_ACFREQUENCYMAX).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_ACFREQUENCYMAX).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_ACFREQUENCYMAX));
+        return (Integer) readSync(getServerAttribute(ATTR_ACFREQUENCYMAX));
     }
 
     /**
@@ -1546,7 +1551,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setAcFrequencyMaxReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_ACFREQUENCYMAX), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_ACFREQUENCYMAX), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -1561,7 +1566,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getNeutralCurrentAsync() {
-        return read(serverAttributes.get(ATTR_NEUTRALCURRENT));
+        return read(getServerAttribute(ATTR_NEUTRALCURRENT));
     }
 
     /**
@@ -1584,11 +1589,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getNeutralCurrent(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_NEUTRALCURRENT).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_NEUTRALCURRENT).getLastValue();
+        if (getServerAttribute(ATTR_NEUTRALCURRENT).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_NEUTRALCURRENT).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_NEUTRALCURRENT));
+        return (Integer) readSync(getServerAttribute(ATTR_NEUTRALCURRENT));
     }
 
     /**
@@ -1606,7 +1611,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setNeutralCurrentReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_NEUTRALCURRENT), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_NEUTRALCURRENT), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -1626,7 +1631,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getTotalActivePowerAsync() {
-        return read(serverAttributes.get(ATTR_TOTALACTIVEPOWER));
+        return read(getServerAttribute(ATTR_TOTALACTIVEPOWER));
     }
 
     /**
@@ -1654,11 +1659,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getTotalActivePower(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_TOTALACTIVEPOWER).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_TOTALACTIVEPOWER).getLastValue();
+        if (getServerAttribute(ATTR_TOTALACTIVEPOWER).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_TOTALACTIVEPOWER).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_TOTALACTIVEPOWER));
+        return (Integer) readSync(getServerAttribute(ATTR_TOTALACTIVEPOWER));
     }
 
     /**
@@ -1679,7 +1684,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getTotalReactivePowerAsync() {
-        return read(serverAttributes.get(ATTR_TOTALREACTIVEPOWER));
+        return read(getServerAttribute(ATTR_TOTALREACTIVEPOWER));
     }
 
     /**
@@ -1708,11 +1713,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getTotalReactivePower(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_TOTALREACTIVEPOWER).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_TOTALREACTIVEPOWER).getLastValue();
+        if (getServerAttribute(ATTR_TOTALREACTIVEPOWER).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_TOTALREACTIVEPOWER).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_TOTALREACTIVEPOWER));
+        return (Integer) readSync(getServerAttribute(ATTR_TOTALREACTIVEPOWER));
     }
 
     /**
@@ -1730,7 +1735,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getTotalApparentPowerAsync() {
-        return read(serverAttributes.get(ATTR_TOTALAPPARENTPOWER));
+        return read(getServerAttribute(ATTR_TOTALAPPARENTPOWER));
     }
 
     /**
@@ -1756,11 +1761,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getTotalApparentPower(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_TOTALAPPARENTPOWER).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_TOTALAPPARENTPOWER).getLastValue();
+        if (getServerAttribute(ATTR_TOTALAPPARENTPOWER).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_TOTALAPPARENTPOWER).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_TOTALAPPARENTPOWER));
+        return (Integer) readSync(getServerAttribute(ATTR_TOTALAPPARENTPOWER));
     }
 
     /**
@@ -1775,7 +1780,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getMeasured1stHarmonicCurrentAsync() {
-        return read(serverAttributes.get(ATTR_MEASURED1STHARMONICCURRENT));
+        return read(getServerAttribute(ATTR_MEASURED1STHARMONICCURRENT));
     }
 
     /**
@@ -1798,11 +1803,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getMeasured1stHarmonicCurrent(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_MEASURED1STHARMONICCURRENT).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_MEASURED1STHARMONICCURRENT).getLastValue();
+        if (getServerAttribute(ATTR_MEASURED1STHARMONICCURRENT).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_MEASURED1STHARMONICCURRENT).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_MEASURED1STHARMONICCURRENT));
+        return (Integer) readSync(getServerAttribute(ATTR_MEASURED1STHARMONICCURRENT));
     }
 
     /**
@@ -1820,7 +1825,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setMeasured1stHarmonicCurrentReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_MEASURED1STHARMONICCURRENT), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_MEASURED1STHARMONICCURRENT), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -1835,7 +1840,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getMeasured3rdHarmonicCurrentAsync() {
-        return read(serverAttributes.get(ATTR_MEASURED3RDHARMONICCURRENT));
+        return read(getServerAttribute(ATTR_MEASURED3RDHARMONICCURRENT));
     }
 
     /**
@@ -1858,11 +1863,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getMeasured3rdHarmonicCurrent(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_MEASURED3RDHARMONICCURRENT).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_MEASURED3RDHARMONICCURRENT).getLastValue();
+        if (getServerAttribute(ATTR_MEASURED3RDHARMONICCURRENT).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_MEASURED3RDHARMONICCURRENT).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_MEASURED3RDHARMONICCURRENT));
+        return (Integer) readSync(getServerAttribute(ATTR_MEASURED3RDHARMONICCURRENT));
     }
 
     /**
@@ -1880,7 +1885,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setMeasured3rdHarmonicCurrentReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_MEASURED3RDHARMONICCURRENT), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_MEASURED3RDHARMONICCURRENT), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -1895,7 +1900,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getMeasured5thHarmonicCurrentAsync() {
-        return read(serverAttributes.get(ATTR_MEASURED5THHARMONICCURRENT));
+        return read(getServerAttribute(ATTR_MEASURED5THHARMONICCURRENT));
     }
 
     /**
@@ -1918,11 +1923,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getMeasured5thHarmonicCurrent(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_MEASURED5THHARMONICCURRENT).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_MEASURED5THHARMONICCURRENT).getLastValue();
+        if (getServerAttribute(ATTR_MEASURED5THHARMONICCURRENT).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_MEASURED5THHARMONICCURRENT).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_MEASURED5THHARMONICCURRENT));
+        return (Integer) readSync(getServerAttribute(ATTR_MEASURED5THHARMONICCURRENT));
     }
 
     /**
@@ -1940,7 +1945,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setMeasured5thHarmonicCurrentReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_MEASURED5THHARMONICCURRENT), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_MEASURED5THHARMONICCURRENT), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -1955,7 +1960,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getMeasured7thHarmonicCurrentAsync() {
-        return read(serverAttributes.get(ATTR_MEASURED7THHARMONICCURRENT));
+        return read(getServerAttribute(ATTR_MEASURED7THHARMONICCURRENT));
     }
 
     /**
@@ -1978,11 +1983,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getMeasured7thHarmonicCurrent(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_MEASURED7THHARMONICCURRENT).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_MEASURED7THHARMONICCURRENT).getLastValue();
+        if (getServerAttribute(ATTR_MEASURED7THHARMONICCURRENT).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_MEASURED7THHARMONICCURRENT).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_MEASURED7THHARMONICCURRENT));
+        return (Integer) readSync(getServerAttribute(ATTR_MEASURED7THHARMONICCURRENT));
     }
 
     /**
@@ -2000,7 +2005,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setMeasured7thHarmonicCurrentReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_MEASURED7THHARMONICCURRENT), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_MEASURED7THHARMONICCURRENT), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -2015,7 +2020,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getMeasured9thHarmonicCurrentAsync() {
-        return read(serverAttributes.get(ATTR_MEASURED9THHARMONICCURRENT));
+        return read(getServerAttribute(ATTR_MEASURED9THHARMONICCURRENT));
     }
 
     /**
@@ -2038,11 +2043,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getMeasured9thHarmonicCurrent(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_MEASURED9THHARMONICCURRENT).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_MEASURED9THHARMONICCURRENT).getLastValue();
+        if (getServerAttribute(ATTR_MEASURED9THHARMONICCURRENT).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_MEASURED9THHARMONICCURRENT).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_MEASURED9THHARMONICCURRENT));
+        return (Integer) readSync(getServerAttribute(ATTR_MEASURED9THHARMONICCURRENT));
     }
 
     /**
@@ -2060,7 +2065,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setMeasured9thHarmonicCurrentReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_MEASURED9THHARMONICCURRENT), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_MEASURED9THHARMONICCURRENT), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -2075,7 +2080,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getMeasured11thHarmonicCurrentAsync() {
-        return read(serverAttributes.get(ATTR_MEASURED11THHARMONICCURRENT));
+        return read(getServerAttribute(ATTR_MEASURED11THHARMONICCURRENT));
     }
 
     /**
@@ -2098,11 +2103,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getMeasured11thHarmonicCurrent(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_MEASURED11THHARMONICCURRENT).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_MEASURED11THHARMONICCURRENT).getLastValue();
+        if (getServerAttribute(ATTR_MEASURED11THHARMONICCURRENT).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_MEASURED11THHARMONICCURRENT).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_MEASURED11THHARMONICCURRENT));
+        return (Integer) readSync(getServerAttribute(ATTR_MEASURED11THHARMONICCURRENT));
     }
 
     /**
@@ -2120,7 +2125,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setMeasured11thHarmonicCurrentReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_MEASURED11THHARMONICCURRENT), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_MEASURED11THHARMONICCURRENT), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -2135,7 +2140,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getMeasuredPhase1stHarmonicCurrentAsync() {
-        return read(serverAttributes.get(ATTR_MEASUREDPHASE1STHARMONICCURRENT));
+        return read(getServerAttribute(ATTR_MEASUREDPHASE1STHARMONICCURRENT));
     }
 
     /**
@@ -2158,11 +2163,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getMeasuredPhase1stHarmonicCurrent(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_MEASUREDPHASE1STHARMONICCURRENT).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_MEASUREDPHASE1STHARMONICCURRENT).getLastValue();
+        if (getServerAttribute(ATTR_MEASUREDPHASE1STHARMONICCURRENT).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_MEASUREDPHASE1STHARMONICCURRENT).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_MEASUREDPHASE1STHARMONICCURRENT));
+        return (Integer) readSync(getServerAttribute(ATTR_MEASUREDPHASE1STHARMONICCURRENT));
     }
 
     /**
@@ -2180,7 +2185,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setMeasuredPhase1stHarmonicCurrentReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_MEASUREDPHASE1STHARMONICCURRENT), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_MEASUREDPHASE1STHARMONICCURRENT), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -2195,7 +2200,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getMeasuredPhase3rdHarmonicCurrentAsync() {
-        return read(serverAttributes.get(ATTR_MEASUREDPHASE3RDHARMONICCURRENT));
+        return read(getServerAttribute(ATTR_MEASUREDPHASE3RDHARMONICCURRENT));
     }
 
     /**
@@ -2218,11 +2223,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getMeasuredPhase3rdHarmonicCurrent(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_MEASUREDPHASE3RDHARMONICCURRENT).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_MEASUREDPHASE3RDHARMONICCURRENT).getLastValue();
+        if (getServerAttribute(ATTR_MEASUREDPHASE3RDHARMONICCURRENT).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_MEASUREDPHASE3RDHARMONICCURRENT).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_MEASUREDPHASE3RDHARMONICCURRENT));
+        return (Integer) readSync(getServerAttribute(ATTR_MEASUREDPHASE3RDHARMONICCURRENT));
     }
 
     /**
@@ -2240,7 +2245,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setMeasuredPhase3rdHarmonicCurrentReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_MEASUREDPHASE3RDHARMONICCURRENT), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_MEASUREDPHASE3RDHARMONICCURRENT), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -2255,7 +2260,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getMeasuredPhase5thHarmonicCurrentAsync() {
-        return read(serverAttributes.get(ATTR_MEASUREDPHASE5THHARMONICCURRENT));
+        return read(getServerAttribute(ATTR_MEASUREDPHASE5THHARMONICCURRENT));
     }
 
     /**
@@ -2278,11 +2283,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getMeasuredPhase5thHarmonicCurrent(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_MEASUREDPHASE5THHARMONICCURRENT).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_MEASUREDPHASE5THHARMONICCURRENT).getLastValue();
+        if (getServerAttribute(ATTR_MEASUREDPHASE5THHARMONICCURRENT).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_MEASUREDPHASE5THHARMONICCURRENT).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_MEASUREDPHASE5THHARMONICCURRENT));
+        return (Integer) readSync(getServerAttribute(ATTR_MEASUREDPHASE5THHARMONICCURRENT));
     }
 
     /**
@@ -2300,7 +2305,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setMeasuredPhase5thHarmonicCurrentReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_MEASUREDPHASE5THHARMONICCURRENT), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_MEASUREDPHASE5THHARMONICCURRENT), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -2315,7 +2320,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getMeasuredPhase7thHarmonicCurrentAsync() {
-        return read(serverAttributes.get(ATTR_MEASUREDPHASE7THHARMONICCURRENT));
+        return read(getServerAttribute(ATTR_MEASUREDPHASE7THHARMONICCURRENT));
     }
 
     /**
@@ -2338,11 +2343,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getMeasuredPhase7thHarmonicCurrent(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_MEASUREDPHASE7THHARMONICCURRENT).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_MEASUREDPHASE7THHARMONICCURRENT).getLastValue();
+        if (getServerAttribute(ATTR_MEASUREDPHASE7THHARMONICCURRENT).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_MEASUREDPHASE7THHARMONICCURRENT).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_MEASUREDPHASE7THHARMONICCURRENT));
+        return (Integer) readSync(getServerAttribute(ATTR_MEASUREDPHASE7THHARMONICCURRENT));
     }
 
     /**
@@ -2360,7 +2365,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setMeasuredPhase7thHarmonicCurrentReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_MEASUREDPHASE7THHARMONICCURRENT), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_MEASUREDPHASE7THHARMONICCURRENT), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -2375,7 +2380,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getMeasuredPhase9thHarmonicCurrentAsync() {
-        return read(serverAttributes.get(ATTR_MEASUREDPHASE9THHARMONICCURRENT));
+        return read(getServerAttribute(ATTR_MEASUREDPHASE9THHARMONICCURRENT));
     }
 
     /**
@@ -2398,11 +2403,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getMeasuredPhase9thHarmonicCurrent(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_MEASUREDPHASE9THHARMONICCURRENT).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_MEASUREDPHASE9THHARMONICCURRENT).getLastValue();
+        if (getServerAttribute(ATTR_MEASUREDPHASE9THHARMONICCURRENT).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_MEASUREDPHASE9THHARMONICCURRENT).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_MEASUREDPHASE9THHARMONICCURRENT));
+        return (Integer) readSync(getServerAttribute(ATTR_MEASUREDPHASE9THHARMONICCURRENT));
     }
 
     /**
@@ -2420,7 +2425,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setMeasuredPhase9thHarmonicCurrentReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_MEASUREDPHASE9THHARMONICCURRENT), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_MEASUREDPHASE9THHARMONICCURRENT), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -2435,7 +2440,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getMeasuredPhase11thHarmonicCurrentAsync() {
-        return read(serverAttributes.get(ATTR_MEASUREDPHASE11THHARMONICCURRENT));
+        return read(getServerAttribute(ATTR_MEASUREDPHASE11THHARMONICCURRENT));
     }
 
     /**
@@ -2458,11 +2463,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getMeasuredPhase11thHarmonicCurrent(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_MEASUREDPHASE11THHARMONICCURRENT).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_MEASUREDPHASE11THHARMONICCURRENT).getLastValue();
+        if (getServerAttribute(ATTR_MEASUREDPHASE11THHARMONICCURRENT).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_MEASUREDPHASE11THHARMONICCURRENT).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_MEASUREDPHASE11THHARMONICCURRENT));
+        return (Integer) readSync(getServerAttribute(ATTR_MEASUREDPHASE11THHARMONICCURRENT));
     }
 
     /**
@@ -2480,7 +2485,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setMeasuredPhase11thHarmonicCurrentReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_MEASUREDPHASE11THHARMONICCURRENT), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_MEASUREDPHASE11THHARMONICCURRENT), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -2495,7 +2500,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getAcFrequencyMultiplierAsync() {
-        return read(serverAttributes.get(ATTR_ACFREQUENCYMULTIPLIER));
+        return read(getServerAttribute(ATTR_ACFREQUENCYMULTIPLIER));
     }
 
     /**
@@ -2518,11 +2523,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getAcFrequencyMultiplier(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_ACFREQUENCYMULTIPLIER).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_ACFREQUENCYMULTIPLIER).getLastValue();
+        if (getServerAttribute(ATTR_ACFREQUENCYMULTIPLIER).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_ACFREQUENCYMULTIPLIER).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_ACFREQUENCYMULTIPLIER));
+        return (Integer) readSync(getServerAttribute(ATTR_ACFREQUENCYMULTIPLIER));
     }
 
     /**
@@ -2540,7 +2545,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setAcFrequencyMultiplierReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_ACFREQUENCYMULTIPLIER), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_ACFREQUENCYMULTIPLIER), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -2555,7 +2560,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getAcFrequencyDivisorAsync() {
-        return read(serverAttributes.get(ATTR_ACFREQUENCYDIVISOR));
+        return read(getServerAttribute(ATTR_ACFREQUENCYDIVISOR));
     }
 
     /**
@@ -2578,11 +2583,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getAcFrequencyDivisor(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_ACFREQUENCYDIVISOR).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_ACFREQUENCYDIVISOR).getLastValue();
+        if (getServerAttribute(ATTR_ACFREQUENCYDIVISOR).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_ACFREQUENCYDIVISOR).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_ACFREQUENCYDIVISOR));
+        return (Integer) readSync(getServerAttribute(ATTR_ACFREQUENCYDIVISOR));
     }
 
     /**
@@ -2600,7 +2605,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setAcFrequencyDivisorReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_ACFREQUENCYDIVISOR), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_ACFREQUENCYDIVISOR), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -2615,7 +2620,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getPowerMultiplierAsync() {
-        return read(serverAttributes.get(ATTR_POWERMULTIPLIER));
+        return read(getServerAttribute(ATTR_POWERMULTIPLIER));
     }
 
     /**
@@ -2638,11 +2643,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getPowerMultiplier(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_POWERMULTIPLIER).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_POWERMULTIPLIER).getLastValue();
+        if (getServerAttribute(ATTR_POWERMULTIPLIER).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_POWERMULTIPLIER).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_POWERMULTIPLIER));
+        return (Integer) readSync(getServerAttribute(ATTR_POWERMULTIPLIER));
     }
 
     /**
@@ -2660,7 +2665,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setPowerMultiplierReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_POWERMULTIPLIER), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_POWERMULTIPLIER), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -2675,7 +2680,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getPowerDivisorAsync() {
-        return read(serverAttributes.get(ATTR_POWERDIVISOR));
+        return read(getServerAttribute(ATTR_POWERDIVISOR));
     }
 
     /**
@@ -2698,11 +2703,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getPowerDivisor(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_POWERDIVISOR).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_POWERDIVISOR).getLastValue();
+        if (getServerAttribute(ATTR_POWERDIVISOR).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_POWERDIVISOR).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_POWERDIVISOR));
+        return (Integer) readSync(getServerAttribute(ATTR_POWERDIVISOR));
     }
 
     /**
@@ -2720,7 +2725,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setPowerDivisorReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_POWERDIVISOR), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_POWERDIVISOR), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -2735,7 +2740,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getHarmonicCurrentMultiplierAsync() {
-        return read(serverAttributes.get(ATTR_HARMONICCURRENTMULTIPLIER));
+        return read(getServerAttribute(ATTR_HARMONICCURRENTMULTIPLIER));
     }
 
     /**
@@ -2758,11 +2763,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getHarmonicCurrentMultiplier(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_HARMONICCURRENTMULTIPLIER).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_HARMONICCURRENTMULTIPLIER).getLastValue();
+        if (getServerAttribute(ATTR_HARMONICCURRENTMULTIPLIER).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_HARMONICCURRENTMULTIPLIER).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_HARMONICCURRENTMULTIPLIER));
+        return (Integer) readSync(getServerAttribute(ATTR_HARMONICCURRENTMULTIPLIER));
     }
 
     /**
@@ -2780,7 +2785,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setHarmonicCurrentMultiplierReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_HARMONICCURRENTMULTIPLIER), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_HARMONICCURRENTMULTIPLIER), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -2795,7 +2800,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getPhaseHarmonicCurrentMultiplierAsync() {
-        return read(serverAttributes.get(ATTR_PHASEHARMONICCURRENTMULTIPLIER));
+        return read(getServerAttribute(ATTR_PHASEHARMONICCURRENTMULTIPLIER));
     }
 
     /**
@@ -2818,11 +2823,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getPhaseHarmonicCurrentMultiplier(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PHASEHARMONICCURRENTMULTIPLIER).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_PHASEHARMONICCURRENTMULTIPLIER).getLastValue();
+        if (getServerAttribute(ATTR_PHASEHARMONICCURRENTMULTIPLIER).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_PHASEHARMONICCURRENTMULTIPLIER).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_PHASEHARMONICCURRENTMULTIPLIER));
+        return (Integer) readSync(getServerAttribute(ATTR_PHASEHARMONICCURRENTMULTIPLIER));
     }
 
     /**
@@ -2840,7 +2845,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setPhaseHarmonicCurrentMultiplierReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_PHASEHARMONICCURRENTMULTIPLIER), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_PHASEHARMONICCURRENTMULTIPLIER), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -2855,7 +2860,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getInstantaneousVoltageAsync() {
-        return read(serverAttributes.get(ATTR_INSTANTANEOUSVOLTAGE));
+        return read(getServerAttribute(ATTR_INSTANTANEOUSVOLTAGE));
     }
 
     /**
@@ -2878,11 +2883,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getInstantaneousVoltage(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_INSTANTANEOUSVOLTAGE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_INSTANTANEOUSVOLTAGE).getLastValue();
+        if (getServerAttribute(ATTR_INSTANTANEOUSVOLTAGE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_INSTANTANEOUSVOLTAGE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_INSTANTANEOUSVOLTAGE));
+        return (Integer) readSync(getServerAttribute(ATTR_INSTANTANEOUSVOLTAGE));
     }
 
     /**
@@ -2900,7 +2905,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setInstantaneousVoltageReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_INSTANTANEOUSVOLTAGE), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_INSTANTANEOUSVOLTAGE), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -2915,7 +2920,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getInstantaneousLineCurrentAsync() {
-        return read(serverAttributes.get(ATTR_INSTANTANEOUSLINECURRENT));
+        return read(getServerAttribute(ATTR_INSTANTANEOUSLINECURRENT));
     }
 
     /**
@@ -2938,11 +2943,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getInstantaneousLineCurrent(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_INSTANTANEOUSLINECURRENT).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_INSTANTANEOUSLINECURRENT).getLastValue();
+        if (getServerAttribute(ATTR_INSTANTANEOUSLINECURRENT).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_INSTANTANEOUSLINECURRENT).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_INSTANTANEOUSLINECURRENT));
+        return (Integer) readSync(getServerAttribute(ATTR_INSTANTANEOUSLINECURRENT));
     }
 
     /**
@@ -2960,7 +2965,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setInstantaneousLineCurrentReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_INSTANTANEOUSLINECURRENT), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_INSTANTANEOUSLINECURRENT), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -2975,7 +2980,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getInstantaneousActiveCurrentAsync() {
-        return read(serverAttributes.get(ATTR_INSTANTANEOUSACTIVECURRENT));
+        return read(getServerAttribute(ATTR_INSTANTANEOUSACTIVECURRENT));
     }
 
     /**
@@ -2998,11 +3003,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getInstantaneousActiveCurrent(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_INSTANTANEOUSACTIVECURRENT).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_INSTANTANEOUSACTIVECURRENT).getLastValue();
+        if (getServerAttribute(ATTR_INSTANTANEOUSACTIVECURRENT).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_INSTANTANEOUSACTIVECURRENT).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_INSTANTANEOUSACTIVECURRENT));
+        return (Integer) readSync(getServerAttribute(ATTR_INSTANTANEOUSACTIVECURRENT));
     }
 
     /**
@@ -3020,7 +3025,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setInstantaneousActiveCurrentReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_INSTANTANEOUSACTIVECURRENT), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_INSTANTANEOUSACTIVECURRENT), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -3035,7 +3040,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getInstantaneousReactiveCurrentAsync() {
-        return read(serverAttributes.get(ATTR_INSTANTANEOUSREACTIVECURRENT));
+        return read(getServerAttribute(ATTR_INSTANTANEOUSREACTIVECURRENT));
     }
 
     /**
@@ -3058,11 +3063,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getInstantaneousReactiveCurrent(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_INSTANTANEOUSREACTIVECURRENT).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_INSTANTANEOUSREACTIVECURRENT).getLastValue();
+        if (getServerAttribute(ATTR_INSTANTANEOUSREACTIVECURRENT).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_INSTANTANEOUSREACTIVECURRENT).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_INSTANTANEOUSREACTIVECURRENT));
+        return (Integer) readSync(getServerAttribute(ATTR_INSTANTANEOUSREACTIVECURRENT));
     }
 
     /**
@@ -3080,7 +3085,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setInstantaneousReactiveCurrentReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_INSTANTANEOUSREACTIVECURRENT), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_INSTANTANEOUSREACTIVECURRENT), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -3095,7 +3100,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getInstantaneousPowerAsync() {
-        return read(serverAttributes.get(ATTR_INSTANTANEOUSPOWER));
+        return read(getServerAttribute(ATTR_INSTANTANEOUSPOWER));
     }
 
     /**
@@ -3118,11 +3123,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getInstantaneousPower(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_INSTANTANEOUSPOWER).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_INSTANTANEOUSPOWER).getLastValue();
+        if (getServerAttribute(ATTR_INSTANTANEOUSPOWER).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_INSTANTANEOUSPOWER).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_INSTANTANEOUSPOWER));
+        return (Integer) readSync(getServerAttribute(ATTR_INSTANTANEOUSPOWER));
     }
 
     /**
@@ -3140,7 +3145,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setInstantaneousPowerReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_INSTANTANEOUSPOWER), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_INSTANTANEOUSPOWER), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -3158,7 +3163,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getRmsVoltageAsync() {
-        return read(serverAttributes.get(ATTR_RMSVOLTAGE));
+        return read(getServerAttribute(ATTR_RMSVOLTAGE));
     }
 
     /**
@@ -3184,11 +3189,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getRmsVoltage(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_RMSVOLTAGE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_RMSVOLTAGE).getLastValue();
+        if (getServerAttribute(ATTR_RMSVOLTAGE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_RMSVOLTAGE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_RMSVOLTAGE));
+        return (Integer) readSync(getServerAttribute(ATTR_RMSVOLTAGE));
     }
 
     /**
@@ -3203,7 +3208,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getRmsVoltageMinAsync() {
-        return read(serverAttributes.get(ATTR_RMSVOLTAGEMIN));
+        return read(getServerAttribute(ATTR_RMSVOLTAGEMIN));
     }
 
     /**
@@ -3226,11 +3231,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getRmsVoltageMin(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_RMSVOLTAGEMIN).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_RMSVOLTAGEMIN).getLastValue();
+        if (getServerAttribute(ATTR_RMSVOLTAGEMIN).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_RMSVOLTAGEMIN).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_RMSVOLTAGEMIN));
+        return (Integer) readSync(getServerAttribute(ATTR_RMSVOLTAGEMIN));
     }
 
     /**
@@ -3248,7 +3253,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setRmsVoltageMinReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_RMSVOLTAGEMIN), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_RMSVOLTAGEMIN), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -3263,7 +3268,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getRmsVoltageMaxAsync() {
-        return read(serverAttributes.get(ATTR_RMSVOLTAGEMAX));
+        return read(getServerAttribute(ATTR_RMSVOLTAGEMAX));
     }
 
     /**
@@ -3286,11 +3291,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getRmsVoltageMax(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_RMSVOLTAGEMAX).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_RMSVOLTAGEMAX).getLastValue();
+        if (getServerAttribute(ATTR_RMSVOLTAGEMAX).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_RMSVOLTAGEMAX).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_RMSVOLTAGEMAX));
+        return (Integer) readSync(getServerAttribute(ATTR_RMSVOLTAGEMAX));
     }
 
     /**
@@ -3308,7 +3313,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setRmsVoltageMaxReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_RMSVOLTAGEMAX), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_RMSVOLTAGEMAX), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -3326,7 +3331,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getRmsCurrentAsync() {
-        return read(serverAttributes.get(ATTR_RMSCURRENT));
+        return read(getServerAttribute(ATTR_RMSCURRENT));
     }
 
     /**
@@ -3352,11 +3357,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getRmsCurrent(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_RMSCURRENT).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_RMSCURRENT).getLastValue();
+        if (getServerAttribute(ATTR_RMSCURRENT).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_RMSCURRENT).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_RMSCURRENT));
+        return (Integer) readSync(getServerAttribute(ATTR_RMSCURRENT));
     }
 
     /**
@@ -3371,7 +3376,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getRmsCurrentMinAsync() {
-        return read(serverAttributes.get(ATTR_RMSCURRENTMIN));
+        return read(getServerAttribute(ATTR_RMSCURRENTMIN));
     }
 
     /**
@@ -3394,11 +3399,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getRmsCurrentMin(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_RMSCURRENTMIN).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_RMSCURRENTMIN).getLastValue();
+        if (getServerAttribute(ATTR_RMSCURRENTMIN).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_RMSCURRENTMIN).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_RMSCURRENTMIN));
+        return (Integer) readSync(getServerAttribute(ATTR_RMSCURRENTMIN));
     }
 
     /**
@@ -3416,7 +3421,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setRmsCurrentMinReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_RMSCURRENTMIN), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_RMSCURRENTMIN), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -3431,7 +3436,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getRmsCurrentMaxAsync() {
-        return read(serverAttributes.get(ATTR_RMSCURRENTMAX));
+        return read(getServerAttribute(ATTR_RMSCURRENTMAX));
     }
 
     /**
@@ -3454,11 +3459,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getRmsCurrentMax(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_RMSCURRENTMAX).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_RMSCURRENTMAX).getLastValue();
+        if (getServerAttribute(ATTR_RMSCURRENTMAX).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_RMSCURRENTMAX).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_RMSCURRENTMAX));
+        return (Integer) readSync(getServerAttribute(ATTR_RMSCURRENTMAX));
     }
 
     /**
@@ -3476,7 +3481,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setRmsCurrentMaxReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_RMSCURRENTMAX), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_RMSCURRENTMAX), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -3495,7 +3500,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getActivePowerAsync() {
-        return read(serverAttributes.get(ATTR_ACTIVEPOWER));
+        return read(getServerAttribute(ATTR_ACTIVEPOWER));
     }
 
     /**
@@ -3522,11 +3527,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getActivePower(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_ACTIVEPOWER).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_ACTIVEPOWER).getLastValue();
+        if (getServerAttribute(ATTR_ACTIVEPOWER).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_ACTIVEPOWER).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_ACTIVEPOWER));
+        return (Integer) readSync(getServerAttribute(ATTR_ACTIVEPOWER));
     }
 
     /**
@@ -3541,7 +3546,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getActivePowerMinAsync() {
-        return read(serverAttributes.get(ATTR_ACTIVEPOWERMIN));
+        return read(getServerAttribute(ATTR_ACTIVEPOWERMIN));
     }
 
     /**
@@ -3564,11 +3569,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getActivePowerMin(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_ACTIVEPOWERMIN).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_ACTIVEPOWERMIN).getLastValue();
+        if (getServerAttribute(ATTR_ACTIVEPOWERMIN).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_ACTIVEPOWERMIN).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_ACTIVEPOWERMIN));
+        return (Integer) readSync(getServerAttribute(ATTR_ACTIVEPOWERMIN));
     }
 
     /**
@@ -3586,7 +3591,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setActivePowerMinReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_ACTIVEPOWERMIN), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_ACTIVEPOWERMIN), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -3601,7 +3606,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getActivePowerMaxAsync() {
-        return read(serverAttributes.get(ATTR_ACTIVEPOWERMAX));
+        return read(getServerAttribute(ATTR_ACTIVEPOWERMAX));
     }
 
     /**
@@ -3624,11 +3629,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getActivePowerMax(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_ACTIVEPOWERMAX).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_ACTIVEPOWERMAX).getLastValue();
+        if (getServerAttribute(ATTR_ACTIVEPOWERMAX).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_ACTIVEPOWERMAX).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_ACTIVEPOWERMAX));
+        return (Integer) readSync(getServerAttribute(ATTR_ACTIVEPOWERMAX));
     }
 
     /**
@@ -3646,7 +3651,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setActivePowerMaxReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_ACTIVEPOWERMAX), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_ACTIVEPOWERMAX), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -3661,7 +3666,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getReactivePowerAsync() {
-        return read(serverAttributes.get(ATTR_REACTIVEPOWER));
+        return read(getServerAttribute(ATTR_REACTIVEPOWER));
     }
 
     /**
@@ -3684,11 +3689,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getReactivePower(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_REACTIVEPOWER).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_REACTIVEPOWER).getLastValue();
+        if (getServerAttribute(ATTR_REACTIVEPOWER).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_REACTIVEPOWER).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_REACTIVEPOWER));
+        return (Integer) readSync(getServerAttribute(ATTR_REACTIVEPOWER));
     }
 
     /**
@@ -3706,7 +3711,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setReactivePowerReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_REACTIVEPOWER), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_REACTIVEPOWER), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -3721,7 +3726,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getApparentPowerAsync() {
-        return read(serverAttributes.get(ATTR_APPARENTPOWER));
+        return read(getServerAttribute(ATTR_APPARENTPOWER));
     }
 
     /**
@@ -3744,11 +3749,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getApparentPower(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_APPARENTPOWER).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_APPARENTPOWER).getLastValue();
+        if (getServerAttribute(ATTR_APPARENTPOWER).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_APPARENTPOWER).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_APPARENTPOWER));
+        return (Integer) readSync(getServerAttribute(ATTR_APPARENTPOWER));
     }
 
     /**
@@ -3766,7 +3771,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setApparentPowerReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_APPARENTPOWER), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_APPARENTPOWER), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -3781,7 +3786,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getPowerFactorAsync() {
-        return read(serverAttributes.get(ATTR_POWERFACTOR));
+        return read(getServerAttribute(ATTR_POWERFACTOR));
     }
 
     /**
@@ -3804,11 +3809,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getPowerFactor(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_POWERFACTOR).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_POWERFACTOR).getLastValue();
+        if (getServerAttribute(ATTR_POWERFACTOR).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_POWERFACTOR).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_POWERFACTOR));
+        return (Integer) readSync(getServerAttribute(ATTR_POWERFACTOR));
     }
 
     /**
@@ -3826,7 +3831,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setPowerFactorReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_POWERFACTOR), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_POWERFACTOR), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -3842,7 +3847,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setAverageRmsVoltageMeasurementPeriod(final Integer value) {
-        return write(serverAttributes.get(ATTR_AVERAGERMSVOLTAGEMEASUREMENTPERIOD), value);
+        return write(getServerAttribute(ATTR_AVERAGERMSVOLTAGEMEASUREMENTPERIOD), value);
     }
 
     /**
@@ -3857,7 +3862,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getAverageRmsVoltageMeasurementPeriodAsync() {
-        return read(serverAttributes.get(ATTR_AVERAGERMSVOLTAGEMEASUREMENTPERIOD));
+        return read(getServerAttribute(ATTR_AVERAGERMSVOLTAGEMEASUREMENTPERIOD));
     }
 
     /**
@@ -3880,11 +3885,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getAverageRmsVoltageMeasurementPeriod(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_AVERAGERMSVOLTAGEMEASUREMENTPERIOD).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_AVERAGERMSVOLTAGEMEASUREMENTPERIOD).getLastValue();
+        if (getServerAttribute(ATTR_AVERAGERMSVOLTAGEMEASUREMENTPERIOD).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_AVERAGERMSVOLTAGEMEASUREMENTPERIOD).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_AVERAGERMSVOLTAGEMEASUREMENTPERIOD));
+        return (Integer) readSync(getServerAttribute(ATTR_AVERAGERMSVOLTAGEMEASUREMENTPERIOD));
     }
 
     /**
@@ -3900,7 +3905,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setAverageRmsUnderVoltageCounter(final Integer value) {
-        return write(serverAttributes.get(ATTR_AVERAGERMSUNDERVOLTAGECOUNTER), value);
+        return write(getServerAttribute(ATTR_AVERAGERMSUNDERVOLTAGECOUNTER), value);
     }
 
     /**
@@ -3915,7 +3920,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getAverageRmsUnderVoltageCounterAsync() {
-        return read(serverAttributes.get(ATTR_AVERAGERMSUNDERVOLTAGECOUNTER));
+        return read(getServerAttribute(ATTR_AVERAGERMSUNDERVOLTAGECOUNTER));
     }
 
     /**
@@ -3938,11 +3943,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getAverageRmsUnderVoltageCounter(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_AVERAGERMSUNDERVOLTAGECOUNTER).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_AVERAGERMSUNDERVOLTAGECOUNTER).getLastValue();
+        if (getServerAttribute(ATTR_AVERAGERMSUNDERVOLTAGECOUNTER).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_AVERAGERMSUNDERVOLTAGECOUNTER).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_AVERAGERMSUNDERVOLTAGECOUNTER));
+        return (Integer) readSync(getServerAttribute(ATTR_AVERAGERMSUNDERVOLTAGECOUNTER));
     }
 
     /**
@@ -3958,7 +3963,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setRmsExtremeOverVoltagePeriod(final Integer value) {
-        return write(serverAttributes.get(ATTR_RMSEXTREMEOVERVOLTAGEPERIOD), value);
+        return write(getServerAttribute(ATTR_RMSEXTREMEOVERVOLTAGEPERIOD), value);
     }
 
     /**
@@ -3973,7 +3978,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getRmsExtremeOverVoltagePeriodAsync() {
-        return read(serverAttributes.get(ATTR_RMSEXTREMEOVERVOLTAGEPERIOD));
+        return read(getServerAttribute(ATTR_RMSEXTREMEOVERVOLTAGEPERIOD));
     }
 
     /**
@@ -3996,11 +4001,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getRmsExtremeOverVoltagePeriod(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_RMSEXTREMEOVERVOLTAGEPERIOD).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_RMSEXTREMEOVERVOLTAGEPERIOD).getLastValue();
+        if (getServerAttribute(ATTR_RMSEXTREMEOVERVOLTAGEPERIOD).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_RMSEXTREMEOVERVOLTAGEPERIOD).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_RMSEXTREMEOVERVOLTAGEPERIOD));
+        return (Integer) readSync(getServerAttribute(ATTR_RMSEXTREMEOVERVOLTAGEPERIOD));
     }
 
     /**
@@ -4016,7 +4021,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setRmsExtremeUnderVoltagePeriod(final Integer value) {
-        return write(serverAttributes.get(ATTR_RMSEXTREMEUNDERVOLTAGEPERIOD), value);
+        return write(getServerAttribute(ATTR_RMSEXTREMEUNDERVOLTAGEPERIOD), value);
     }
 
     /**
@@ -4031,7 +4036,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getRmsExtremeUnderVoltagePeriodAsync() {
-        return read(serverAttributes.get(ATTR_RMSEXTREMEUNDERVOLTAGEPERIOD));
+        return read(getServerAttribute(ATTR_RMSEXTREMEUNDERVOLTAGEPERIOD));
     }
 
     /**
@@ -4054,11 +4059,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getRmsExtremeUnderVoltagePeriod(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_RMSEXTREMEUNDERVOLTAGEPERIOD).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_RMSEXTREMEUNDERVOLTAGEPERIOD).getLastValue();
+        if (getServerAttribute(ATTR_RMSEXTREMEUNDERVOLTAGEPERIOD).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_RMSEXTREMEUNDERVOLTAGEPERIOD).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_RMSEXTREMEUNDERVOLTAGEPERIOD));
+        return (Integer) readSync(getServerAttribute(ATTR_RMSEXTREMEUNDERVOLTAGEPERIOD));
     }
 
     /**
@@ -4074,7 +4079,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setRmsVoltageSagPeriod(final Integer value) {
-        return write(serverAttributes.get(ATTR_RMSVOLTAGESAGPERIOD), value);
+        return write(getServerAttribute(ATTR_RMSVOLTAGESAGPERIOD), value);
     }
 
     /**
@@ -4089,7 +4094,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getRmsVoltageSagPeriodAsync() {
-        return read(serverAttributes.get(ATTR_RMSVOLTAGESAGPERIOD));
+        return read(getServerAttribute(ATTR_RMSVOLTAGESAGPERIOD));
     }
 
     /**
@@ -4112,11 +4117,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getRmsVoltageSagPeriod(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_RMSVOLTAGESAGPERIOD).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_RMSVOLTAGESAGPERIOD).getLastValue();
+        if (getServerAttribute(ATTR_RMSVOLTAGESAGPERIOD).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_RMSVOLTAGESAGPERIOD).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_RMSVOLTAGESAGPERIOD));
+        return (Integer) readSync(getServerAttribute(ATTR_RMSVOLTAGESAGPERIOD));
     }
 
     /**
@@ -4132,7 +4137,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setRmsVoltageSwellPeriod(final Integer value) {
-        return write(serverAttributes.get(ATTR_RMSVOLTAGESWELLPERIOD), value);
+        return write(getServerAttribute(ATTR_RMSVOLTAGESWELLPERIOD), value);
     }
 
     /**
@@ -4147,7 +4152,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getRmsVoltageSwellPeriodAsync() {
-        return read(serverAttributes.get(ATTR_RMSVOLTAGESWELLPERIOD));
+        return read(getServerAttribute(ATTR_RMSVOLTAGESWELLPERIOD));
     }
 
     /**
@@ -4170,11 +4175,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getRmsVoltageSwellPeriod(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_RMSVOLTAGESWELLPERIOD).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_RMSVOLTAGESWELLPERIOD).getLastValue();
+        if (getServerAttribute(ATTR_RMSVOLTAGESWELLPERIOD).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_RMSVOLTAGESWELLPERIOD).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_RMSVOLTAGESWELLPERIOD));
+        return (Integer) readSync(getServerAttribute(ATTR_RMSVOLTAGESWELLPERIOD));
     }
 
     /**
@@ -4189,7 +4194,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getAcVoltageMultiplierAsync() {
-        return read(serverAttributes.get(ATTR_ACVOLTAGEMULTIPLIER));
+        return read(getServerAttribute(ATTR_ACVOLTAGEMULTIPLIER));
     }
 
     /**
@@ -4212,11 +4217,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getAcVoltageMultiplier(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_ACVOLTAGEMULTIPLIER).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_ACVOLTAGEMULTIPLIER).getLastValue();
+        if (getServerAttribute(ATTR_ACVOLTAGEMULTIPLIER).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_ACVOLTAGEMULTIPLIER).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_ACVOLTAGEMULTIPLIER));
+        return (Integer) readSync(getServerAttribute(ATTR_ACVOLTAGEMULTIPLIER));
     }
 
     /**
@@ -4231,7 +4236,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getAcVoltageDivisorAsync() {
-        return read(serverAttributes.get(ATTR_ACVOLTAGEDIVISOR));
+        return read(getServerAttribute(ATTR_ACVOLTAGEDIVISOR));
     }
 
     /**
@@ -4254,11 +4259,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getAcVoltageDivisor(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_ACVOLTAGEDIVISOR).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_ACVOLTAGEDIVISOR).getLastValue();
+        if (getServerAttribute(ATTR_ACVOLTAGEDIVISOR).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_ACVOLTAGEDIVISOR).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_ACVOLTAGEDIVISOR));
+        return (Integer) readSync(getServerAttribute(ATTR_ACVOLTAGEDIVISOR));
     }
 
     /**
@@ -4277,7 +4282,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getAcCurrentMultiplierAsync() {
-        return read(serverAttributes.get(ATTR_ACCURRENTMULTIPLIER));
+        return read(getServerAttribute(ATTR_ACCURRENTMULTIPLIER));
     }
 
     /**
@@ -4304,11 +4309,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getAcCurrentMultiplier(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_ACCURRENTMULTIPLIER).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_ACCURRENTMULTIPLIER).getLastValue();
+        if (getServerAttribute(ATTR_ACCURRENTMULTIPLIER).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_ACCURRENTMULTIPLIER).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_ACCURRENTMULTIPLIER));
+        return (Integer) readSync(getServerAttribute(ATTR_ACCURRENTMULTIPLIER));
     }
 
     /**
@@ -4327,7 +4332,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getAcCurrentDivisorAsync() {
-        return read(serverAttributes.get(ATTR_ACCURRENTDIVISOR));
+        return read(getServerAttribute(ATTR_ACCURRENTDIVISOR));
     }
 
     /**
@@ -4354,11 +4359,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getAcCurrentDivisor(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_ACCURRENTDIVISOR).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_ACCURRENTDIVISOR).getLastValue();
+        if (getServerAttribute(ATTR_ACCURRENTDIVISOR).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_ACCURRENTDIVISOR).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_ACCURRENTDIVISOR));
+        return (Integer) readSync(getServerAttribute(ATTR_ACCURRENTDIVISOR));
     }
 
     /**
@@ -4377,7 +4382,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getAcPowerMultiplierAsync() {
-        return read(serverAttributes.get(ATTR_ACPOWERMULTIPLIER));
+        return read(getServerAttribute(ATTR_ACPOWERMULTIPLIER));
     }
 
     /**
@@ -4404,11 +4409,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getAcPowerMultiplier(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_ACPOWERMULTIPLIER).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_ACPOWERMULTIPLIER).getLastValue();
+        if (getServerAttribute(ATTR_ACPOWERMULTIPLIER).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_ACPOWERMULTIPLIER).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_ACPOWERMULTIPLIER));
+        return (Integer) readSync(getServerAttribute(ATTR_ACPOWERMULTIPLIER));
     }
 
     /**
@@ -4427,7 +4432,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getAcPowerDivisorAsync() {
-        return read(serverAttributes.get(ATTR_ACPOWERDIVISOR));
+        return read(getServerAttribute(ATTR_ACPOWERDIVISOR));
     }
 
     /**
@@ -4454,11 +4459,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getAcPowerDivisor(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_ACPOWERDIVISOR).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_ACPOWERDIVISOR).getLastValue();
+        if (getServerAttribute(ATTR_ACPOWERDIVISOR).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_ACPOWERDIVISOR).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_ACPOWERDIVISOR));
+        return (Integer) readSync(getServerAttribute(ATTR_ACPOWERDIVISOR));
     }
 
     /**
@@ -4474,7 +4479,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setOverloadAlarmsMask(final Integer value) {
-        return write(serverAttributes.get(ATTR_OVERLOADALARMSMASK), value);
+        return write(getServerAttribute(ATTR_OVERLOADALARMSMASK), value);
     }
 
     /**
@@ -4489,7 +4494,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getOverloadAlarmsMaskAsync() {
-        return read(serverAttributes.get(ATTR_OVERLOADALARMSMASK));
+        return read(getServerAttribute(ATTR_OVERLOADALARMSMASK));
     }
 
     /**
@@ -4512,11 +4517,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getOverloadAlarmsMask(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_OVERLOADALARMSMASK).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_OVERLOADALARMSMASK).getLastValue();
+        if (getServerAttribute(ATTR_OVERLOADALARMSMASK).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_OVERLOADALARMSMASK).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_OVERLOADALARMSMASK));
+        return (Integer) readSync(getServerAttribute(ATTR_OVERLOADALARMSMASK));
     }
 
     /**
@@ -4531,7 +4536,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getVoltageOverloadAsync() {
-        return read(serverAttributes.get(ATTR_VOLTAGEOVERLOAD));
+        return read(getServerAttribute(ATTR_VOLTAGEOVERLOAD));
     }
 
     /**
@@ -4554,11 +4559,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getVoltageOverload(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_VOLTAGEOVERLOAD).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_VOLTAGEOVERLOAD).getLastValue();
+        if (getServerAttribute(ATTR_VOLTAGEOVERLOAD).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_VOLTAGEOVERLOAD).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_VOLTAGEOVERLOAD));
+        return (Integer) readSync(getServerAttribute(ATTR_VOLTAGEOVERLOAD));
     }
 
     /**
@@ -4576,7 +4581,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setVoltageOverloadReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_VOLTAGEOVERLOAD), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_VOLTAGEOVERLOAD), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -4591,7 +4596,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCurrentOverloadAsync() {
-        return read(serverAttributes.get(ATTR_CURRENTOVERLOAD));
+        return read(getServerAttribute(ATTR_CURRENTOVERLOAD));
     }
 
     /**
@@ -4614,11 +4619,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCurrentOverload(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CURRENTOVERLOAD).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CURRENTOVERLOAD).getLastValue();
+        if (getServerAttribute(ATTR_CURRENTOVERLOAD).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CURRENTOVERLOAD).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CURRENTOVERLOAD));
+        return (Integer) readSync(getServerAttribute(ATTR_CURRENTOVERLOAD));
     }
 
     /**
@@ -4636,7 +4641,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setCurrentOverloadReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_CURRENTOVERLOAD), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_CURRENTOVERLOAD), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -4652,7 +4657,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setAcOverloadAlarmsMask(final Integer value) {
-        return write(serverAttributes.get(ATTR_ACOVERLOADALARMSMASK), value);
+        return write(getServerAttribute(ATTR_ACOVERLOADALARMSMASK), value);
     }
 
     /**
@@ -4667,7 +4672,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getAcOverloadAlarmsMaskAsync() {
-        return read(serverAttributes.get(ATTR_ACOVERLOADALARMSMASK));
+        return read(getServerAttribute(ATTR_ACOVERLOADALARMSMASK));
     }
 
     /**
@@ -4690,11 +4695,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getAcOverloadAlarmsMask(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_ACOVERLOADALARMSMASK).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_ACOVERLOADALARMSMASK).getLastValue();
+        if (getServerAttribute(ATTR_ACOVERLOADALARMSMASK).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_ACOVERLOADALARMSMASK).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_ACOVERLOADALARMSMASK));
+        return (Integer) readSync(getServerAttribute(ATTR_ACOVERLOADALARMSMASK));
     }
 
     /**
@@ -4709,7 +4714,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getAcVoltageOverloadAsync() {
-        return read(serverAttributes.get(ATTR_ACVOLTAGEOVERLOAD));
+        return read(getServerAttribute(ATTR_ACVOLTAGEOVERLOAD));
     }
 
     /**
@@ -4732,11 +4737,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getAcVoltageOverload(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_ACVOLTAGEOVERLOAD).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_ACVOLTAGEOVERLOAD).getLastValue();
+        if (getServerAttribute(ATTR_ACVOLTAGEOVERLOAD).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_ACVOLTAGEOVERLOAD).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_ACVOLTAGEOVERLOAD));
+        return (Integer) readSync(getServerAttribute(ATTR_ACVOLTAGEOVERLOAD));
     }
 
     /**
@@ -4754,7 +4759,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setAcVoltageOverloadReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_ACVOLTAGEOVERLOAD), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_ACVOLTAGEOVERLOAD), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -4769,7 +4774,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getAcCurrentOverloadAsync() {
-        return read(serverAttributes.get(ATTR_ACCURRENTOVERLOAD));
+        return read(getServerAttribute(ATTR_ACCURRENTOVERLOAD));
     }
 
     /**
@@ -4792,11 +4797,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getAcCurrentOverload(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_ACCURRENTOVERLOAD).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_ACCURRENTOVERLOAD).getLastValue();
+        if (getServerAttribute(ATTR_ACCURRENTOVERLOAD).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_ACCURRENTOVERLOAD).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_ACCURRENTOVERLOAD));
+        return (Integer) readSync(getServerAttribute(ATTR_ACCURRENTOVERLOAD));
     }
 
     /**
@@ -4814,7 +4819,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setAcCurrentOverloadReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_ACCURRENTOVERLOAD), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_ACCURRENTOVERLOAD), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -4829,7 +4834,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getAcActivePowerOverloadAsync() {
-        return read(serverAttributes.get(ATTR_ACACTIVEPOWEROVERLOAD));
+        return read(getServerAttribute(ATTR_ACACTIVEPOWEROVERLOAD));
     }
 
     /**
@@ -4852,11 +4857,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getAcActivePowerOverload(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_ACACTIVEPOWEROVERLOAD).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_ACACTIVEPOWEROVERLOAD).getLastValue();
+        if (getServerAttribute(ATTR_ACACTIVEPOWEROVERLOAD).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_ACACTIVEPOWEROVERLOAD).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_ACACTIVEPOWEROVERLOAD));
+        return (Integer) readSync(getServerAttribute(ATTR_ACACTIVEPOWEROVERLOAD));
     }
 
     /**
@@ -4874,7 +4879,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setAcActivePowerOverloadReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_ACACTIVEPOWEROVERLOAD), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_ACACTIVEPOWEROVERLOAD), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -4889,7 +4894,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getAcReactivePowerOverloadAsync() {
-        return read(serverAttributes.get(ATTR_ACREACTIVEPOWEROVERLOAD));
+        return read(getServerAttribute(ATTR_ACREACTIVEPOWEROVERLOAD));
     }
 
     /**
@@ -4912,11 +4917,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getAcReactivePowerOverload(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_ACREACTIVEPOWEROVERLOAD).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_ACREACTIVEPOWEROVERLOAD).getLastValue();
+        if (getServerAttribute(ATTR_ACREACTIVEPOWEROVERLOAD).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_ACREACTIVEPOWEROVERLOAD).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_ACREACTIVEPOWEROVERLOAD));
+        return (Integer) readSync(getServerAttribute(ATTR_ACREACTIVEPOWEROVERLOAD));
     }
 
     /**
@@ -4934,7 +4939,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setAcReactivePowerOverloadReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_ACREACTIVEPOWEROVERLOAD), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_ACREACTIVEPOWEROVERLOAD), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -4949,7 +4954,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getAverageRmsOverVoltageAsync() {
-        return read(serverAttributes.get(ATTR_AVERAGERMSOVERVOLTAGE));
+        return read(getServerAttribute(ATTR_AVERAGERMSOVERVOLTAGE));
     }
 
     /**
@@ -4972,11 +4977,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getAverageRmsOverVoltage(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_AVERAGERMSOVERVOLTAGE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_AVERAGERMSOVERVOLTAGE).getLastValue();
+        if (getServerAttribute(ATTR_AVERAGERMSOVERVOLTAGE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_AVERAGERMSOVERVOLTAGE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_AVERAGERMSOVERVOLTAGE));
+        return (Integer) readSync(getServerAttribute(ATTR_AVERAGERMSOVERVOLTAGE));
     }
 
     /**
@@ -4994,7 +4999,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setAverageRmsOverVoltageReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_AVERAGERMSOVERVOLTAGE), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_AVERAGERMSOVERVOLTAGE), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -5009,7 +5014,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getAverageRmsUnderVoltageAsync() {
-        return read(serverAttributes.get(ATTR_AVERAGERMSUNDERVOLTAGE));
+        return read(getServerAttribute(ATTR_AVERAGERMSUNDERVOLTAGE));
     }
 
     /**
@@ -5032,11 +5037,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getAverageRmsUnderVoltage(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_AVERAGERMSUNDERVOLTAGE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_AVERAGERMSUNDERVOLTAGE).getLastValue();
+        if (getServerAttribute(ATTR_AVERAGERMSUNDERVOLTAGE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_AVERAGERMSUNDERVOLTAGE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_AVERAGERMSUNDERVOLTAGE));
+        return (Integer) readSync(getServerAttribute(ATTR_AVERAGERMSUNDERVOLTAGE));
     }
 
     /**
@@ -5054,7 +5059,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setAverageRmsUnderVoltageReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_AVERAGERMSUNDERVOLTAGE), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_AVERAGERMSUNDERVOLTAGE), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -5069,7 +5074,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getRmsExtremeOverVoltageAsync() {
-        return read(serverAttributes.get(ATTR_RMSEXTREMEOVERVOLTAGE));
+        return read(getServerAttribute(ATTR_RMSEXTREMEOVERVOLTAGE));
     }
 
     /**
@@ -5092,11 +5097,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getRmsExtremeOverVoltage(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_RMSEXTREMEOVERVOLTAGE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_RMSEXTREMEOVERVOLTAGE).getLastValue();
+        if (getServerAttribute(ATTR_RMSEXTREMEOVERVOLTAGE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_RMSEXTREMEOVERVOLTAGE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_RMSEXTREMEOVERVOLTAGE));
+        return (Integer) readSync(getServerAttribute(ATTR_RMSEXTREMEOVERVOLTAGE));
     }
 
     /**
@@ -5114,7 +5119,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setRmsExtremeOverVoltageReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_RMSEXTREMEOVERVOLTAGE), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_RMSEXTREMEOVERVOLTAGE), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -5129,7 +5134,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getRmsExtremeUnderVoltageAsync() {
-        return read(serverAttributes.get(ATTR_RMSEXTREMEUNDERVOLTAGE));
+        return read(getServerAttribute(ATTR_RMSEXTREMEUNDERVOLTAGE));
     }
 
     /**
@@ -5152,11 +5157,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getRmsExtremeUnderVoltage(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_RMSEXTREMEUNDERVOLTAGE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_RMSEXTREMEUNDERVOLTAGE).getLastValue();
+        if (getServerAttribute(ATTR_RMSEXTREMEUNDERVOLTAGE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_RMSEXTREMEUNDERVOLTAGE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_RMSEXTREMEUNDERVOLTAGE));
+        return (Integer) readSync(getServerAttribute(ATTR_RMSEXTREMEUNDERVOLTAGE));
     }
 
     /**
@@ -5174,7 +5179,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setRmsExtremeUnderVoltageReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_RMSEXTREMEUNDERVOLTAGE), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_RMSEXTREMEUNDERVOLTAGE), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -5189,7 +5194,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getRmsVoltageSagAsync() {
-        return read(serverAttributes.get(ATTR_RMSVOLTAGESAG));
+        return read(getServerAttribute(ATTR_RMSVOLTAGESAG));
     }
 
     /**
@@ -5212,11 +5217,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getRmsVoltageSag(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_RMSVOLTAGESAG).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_RMSVOLTAGESAG).getLastValue();
+        if (getServerAttribute(ATTR_RMSVOLTAGESAG).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_RMSVOLTAGESAG).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_RMSVOLTAGESAG));
+        return (Integer) readSync(getServerAttribute(ATTR_RMSVOLTAGESAG));
     }
 
     /**
@@ -5234,7 +5239,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setRmsVoltageSagReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_RMSVOLTAGESAG), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_RMSVOLTAGESAG), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -5249,7 +5254,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getRmsVoltageSwellAsync() {
-        return read(serverAttributes.get(ATTR_RMSVOLTAGESWELL));
+        return read(getServerAttribute(ATTR_RMSVOLTAGESWELL));
     }
 
     /**
@@ -5272,11 +5277,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getRmsVoltageSwell(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_RMSVOLTAGESWELL).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_RMSVOLTAGESWELL).getLastValue();
+        if (getServerAttribute(ATTR_RMSVOLTAGESWELL).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_RMSVOLTAGESWELL).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_RMSVOLTAGESWELL));
+        return (Integer) readSync(getServerAttribute(ATTR_RMSVOLTAGESWELL));
     }
 
     /**
@@ -5294,7 +5299,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setRmsVoltageSwellReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_RMSVOLTAGESWELL), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_RMSVOLTAGESWELL), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -5309,7 +5314,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getLineCurrentPhaseBAsync() {
-        return read(serverAttributes.get(ATTR_LINECURRENTPHASEB));
+        return read(getServerAttribute(ATTR_LINECURRENTPHASEB));
     }
 
     /**
@@ -5332,11 +5337,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getLineCurrentPhaseB(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_LINECURRENTPHASEB).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_LINECURRENTPHASEB).getLastValue();
+        if (getServerAttribute(ATTR_LINECURRENTPHASEB).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_LINECURRENTPHASEB).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_LINECURRENTPHASEB));
+        return (Integer) readSync(getServerAttribute(ATTR_LINECURRENTPHASEB));
     }
 
     /**
@@ -5354,7 +5359,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setLineCurrentPhaseBReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_LINECURRENTPHASEB), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_LINECURRENTPHASEB), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -5369,7 +5374,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getActiveCurrentPhaseBAsync() {
-        return read(serverAttributes.get(ATTR_ACTIVECURRENTPHASEB));
+        return read(getServerAttribute(ATTR_ACTIVECURRENTPHASEB));
     }
 
     /**
@@ -5392,11 +5397,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getActiveCurrentPhaseB(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_ACTIVECURRENTPHASEB).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_ACTIVECURRENTPHASEB).getLastValue();
+        if (getServerAttribute(ATTR_ACTIVECURRENTPHASEB).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_ACTIVECURRENTPHASEB).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_ACTIVECURRENTPHASEB));
+        return (Integer) readSync(getServerAttribute(ATTR_ACTIVECURRENTPHASEB));
     }
 
     /**
@@ -5414,7 +5419,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setActiveCurrentPhaseBReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_ACTIVECURRENTPHASEB), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_ACTIVECURRENTPHASEB), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -5429,7 +5434,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getReactiveCurrentPhaseBAsync() {
-        return read(serverAttributes.get(ATTR_REACTIVECURRENTPHASEB));
+        return read(getServerAttribute(ATTR_REACTIVECURRENTPHASEB));
     }
 
     /**
@@ -5452,11 +5457,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getReactiveCurrentPhaseB(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_REACTIVECURRENTPHASEB).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_REACTIVECURRENTPHASEB).getLastValue();
+        if (getServerAttribute(ATTR_REACTIVECURRENTPHASEB).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_REACTIVECURRENTPHASEB).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_REACTIVECURRENTPHASEB));
+        return (Integer) readSync(getServerAttribute(ATTR_REACTIVECURRENTPHASEB));
     }
 
     /**
@@ -5474,7 +5479,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setReactiveCurrentPhaseBReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_REACTIVECURRENTPHASEB), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_REACTIVECURRENTPHASEB), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -5489,7 +5494,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getRmsVoltagePhaseBAsync() {
-        return read(serverAttributes.get(ATTR_RMSVOLTAGEPHASEB));
+        return read(getServerAttribute(ATTR_RMSVOLTAGEPHASEB));
     }
 
     /**
@@ -5512,11 +5517,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getRmsVoltagePhaseB(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_RMSVOLTAGEPHASEB).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_RMSVOLTAGEPHASEB).getLastValue();
+        if (getServerAttribute(ATTR_RMSVOLTAGEPHASEB).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_RMSVOLTAGEPHASEB).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_RMSVOLTAGEPHASEB));
+        return (Integer) readSync(getServerAttribute(ATTR_RMSVOLTAGEPHASEB));
     }
 
     /**
@@ -5534,7 +5539,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setRmsVoltagePhaseBReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_RMSVOLTAGEPHASEB), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_RMSVOLTAGEPHASEB), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -5549,7 +5554,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getRmsVoltageMinPhaseBAsync() {
-        return read(serverAttributes.get(ATTR_RMSVOLTAGEMINPHASEB));
+        return read(getServerAttribute(ATTR_RMSVOLTAGEMINPHASEB));
     }
 
     /**
@@ -5572,11 +5577,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getRmsVoltageMinPhaseB(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_RMSVOLTAGEMINPHASEB).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_RMSVOLTAGEMINPHASEB).getLastValue();
+        if (getServerAttribute(ATTR_RMSVOLTAGEMINPHASEB).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_RMSVOLTAGEMINPHASEB).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_RMSVOLTAGEMINPHASEB));
+        return (Integer) readSync(getServerAttribute(ATTR_RMSVOLTAGEMINPHASEB));
     }
 
     /**
@@ -5594,7 +5599,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setRmsVoltageMinPhaseBReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_RMSVOLTAGEMINPHASEB), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_RMSVOLTAGEMINPHASEB), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -5609,7 +5614,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getRmsVoltageMaxPhaseBAsync() {
-        return read(serverAttributes.get(ATTR_RMSVOLTAGEMAXPHASEB));
+        return read(getServerAttribute(ATTR_RMSVOLTAGEMAXPHASEB));
     }
 
     /**
@@ -5632,11 +5637,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getRmsVoltageMaxPhaseB(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_RMSVOLTAGEMAXPHASEB).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_RMSVOLTAGEMAXPHASEB).getLastValue();
+        if (getServerAttribute(ATTR_RMSVOLTAGEMAXPHASEB).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_RMSVOLTAGEMAXPHASEB).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_RMSVOLTAGEMAXPHASEB));
+        return (Integer) readSync(getServerAttribute(ATTR_RMSVOLTAGEMAXPHASEB));
     }
 
     /**
@@ -5654,7 +5659,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setRmsVoltageMaxPhaseBReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_RMSVOLTAGEMAXPHASEB), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_RMSVOLTAGEMAXPHASEB), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -5669,7 +5674,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getRmsCurrentPhaseBAsync() {
-        return read(serverAttributes.get(ATTR_RMSCURRENTPHASEB));
+        return read(getServerAttribute(ATTR_RMSCURRENTPHASEB));
     }
 
     /**
@@ -5692,11 +5697,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getRmsCurrentPhaseB(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_RMSCURRENTPHASEB).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_RMSCURRENTPHASEB).getLastValue();
+        if (getServerAttribute(ATTR_RMSCURRENTPHASEB).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_RMSCURRENTPHASEB).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_RMSCURRENTPHASEB));
+        return (Integer) readSync(getServerAttribute(ATTR_RMSCURRENTPHASEB));
     }
 
     /**
@@ -5714,7 +5719,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setRmsCurrentPhaseBReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_RMSCURRENTPHASEB), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_RMSCURRENTPHASEB), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -5729,7 +5734,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getRmsCurrentMinPhaseBAsync() {
-        return read(serverAttributes.get(ATTR_RMSCURRENTMINPHASEB));
+        return read(getServerAttribute(ATTR_RMSCURRENTMINPHASEB));
     }
 
     /**
@@ -5752,11 +5757,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getRmsCurrentMinPhaseB(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_RMSCURRENTMINPHASEB).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_RMSCURRENTMINPHASEB).getLastValue();
+        if (getServerAttribute(ATTR_RMSCURRENTMINPHASEB).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_RMSCURRENTMINPHASEB).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_RMSCURRENTMINPHASEB));
+        return (Integer) readSync(getServerAttribute(ATTR_RMSCURRENTMINPHASEB));
     }
 
     /**
@@ -5774,7 +5779,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setRmsCurrentMinPhaseBReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_RMSCURRENTMINPHASEB), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_RMSCURRENTMINPHASEB), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -5789,7 +5794,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getRmsCurrentMaxPhaseBAsync() {
-        return read(serverAttributes.get(ATTR_RMSCURRENTMAXPHASEB));
+        return read(getServerAttribute(ATTR_RMSCURRENTMAXPHASEB));
     }
 
     /**
@@ -5812,11 +5817,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getRmsCurrentMaxPhaseB(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_RMSCURRENTMAXPHASEB).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_RMSCURRENTMAXPHASEB).getLastValue();
+        if (getServerAttribute(ATTR_RMSCURRENTMAXPHASEB).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_RMSCURRENTMAXPHASEB).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_RMSCURRENTMAXPHASEB));
+        return (Integer) readSync(getServerAttribute(ATTR_RMSCURRENTMAXPHASEB));
     }
 
     /**
@@ -5834,7 +5839,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setRmsCurrentMaxPhaseBReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_RMSCURRENTMAXPHASEB), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_RMSCURRENTMAXPHASEB), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -5849,7 +5854,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getActivePowerPhaseBAsync() {
-        return read(serverAttributes.get(ATTR_ACTIVEPOWERPHASEB));
+        return read(getServerAttribute(ATTR_ACTIVEPOWERPHASEB));
     }
 
     /**
@@ -5872,11 +5877,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getActivePowerPhaseB(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_ACTIVEPOWERPHASEB).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_ACTIVEPOWERPHASEB).getLastValue();
+        if (getServerAttribute(ATTR_ACTIVEPOWERPHASEB).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_ACTIVEPOWERPHASEB).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_ACTIVEPOWERPHASEB));
+        return (Integer) readSync(getServerAttribute(ATTR_ACTIVEPOWERPHASEB));
     }
 
     /**
@@ -5894,7 +5899,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setActivePowerPhaseBReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_ACTIVEPOWERPHASEB), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_ACTIVEPOWERPHASEB), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -5909,7 +5914,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getActivePowerMinPhaseBAsync() {
-        return read(serverAttributes.get(ATTR_ACTIVEPOWERMINPHASEB));
+        return read(getServerAttribute(ATTR_ACTIVEPOWERMINPHASEB));
     }
 
     /**
@@ -5932,11 +5937,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getActivePowerMinPhaseB(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_ACTIVEPOWERMINPHASEB).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_ACTIVEPOWERMINPHASEB).getLastValue();
+        if (getServerAttribute(ATTR_ACTIVEPOWERMINPHASEB).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_ACTIVEPOWERMINPHASEB).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_ACTIVEPOWERMINPHASEB));
+        return (Integer) readSync(getServerAttribute(ATTR_ACTIVEPOWERMINPHASEB));
     }
 
     /**
@@ -5954,7 +5959,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setActivePowerMinPhaseBReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_ACTIVEPOWERMINPHASEB), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_ACTIVEPOWERMINPHASEB), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -5969,7 +5974,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getActivePowerMaxPhaseBAsync() {
-        return read(serverAttributes.get(ATTR_ACTIVEPOWERMAXPHASEB));
+        return read(getServerAttribute(ATTR_ACTIVEPOWERMAXPHASEB));
     }
 
     /**
@@ -5992,11 +5997,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getActivePowerMaxPhaseB(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_ACTIVEPOWERMAXPHASEB).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_ACTIVEPOWERMAXPHASEB).getLastValue();
+        if (getServerAttribute(ATTR_ACTIVEPOWERMAXPHASEB).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_ACTIVEPOWERMAXPHASEB).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_ACTIVEPOWERMAXPHASEB));
+        return (Integer) readSync(getServerAttribute(ATTR_ACTIVEPOWERMAXPHASEB));
     }
 
     /**
@@ -6014,7 +6019,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setActivePowerMaxPhaseBReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_ACTIVEPOWERMAXPHASEB), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_ACTIVEPOWERMAXPHASEB), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -6029,7 +6034,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getReactivePowerPhaseBAsync() {
-        return read(serverAttributes.get(ATTR_REACTIVEPOWERPHASEB));
+        return read(getServerAttribute(ATTR_REACTIVEPOWERPHASEB));
     }
 
     /**
@@ -6052,11 +6057,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getReactivePowerPhaseB(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_REACTIVEPOWERPHASEB).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_REACTIVEPOWERPHASEB).getLastValue();
+        if (getServerAttribute(ATTR_REACTIVEPOWERPHASEB).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_REACTIVEPOWERPHASEB).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_REACTIVEPOWERPHASEB));
+        return (Integer) readSync(getServerAttribute(ATTR_REACTIVEPOWERPHASEB));
     }
 
     /**
@@ -6074,7 +6079,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setReactivePowerPhaseBReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_REACTIVEPOWERPHASEB), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_REACTIVEPOWERPHASEB), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -6089,7 +6094,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getApparentPowerPhaseBAsync() {
-        return read(serverAttributes.get(ATTR_APPARENTPOWERPHASEB));
+        return read(getServerAttribute(ATTR_APPARENTPOWERPHASEB));
     }
 
     /**
@@ -6112,11 +6117,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getApparentPowerPhaseB(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_APPARENTPOWERPHASEB).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_APPARENTPOWERPHASEB).getLastValue();
+        if (getServerAttribute(ATTR_APPARENTPOWERPHASEB).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_APPARENTPOWERPHASEB).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_APPARENTPOWERPHASEB));
+        return (Integer) readSync(getServerAttribute(ATTR_APPARENTPOWERPHASEB));
     }
 
     /**
@@ -6134,7 +6139,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setApparentPowerPhaseBReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_APPARENTPOWERPHASEB), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_APPARENTPOWERPHASEB), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -6149,7 +6154,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getPowerFactorPhaseBAsync() {
-        return read(serverAttributes.get(ATTR_POWERFACTORPHASEB));
+        return read(getServerAttribute(ATTR_POWERFACTORPHASEB));
     }
 
     /**
@@ -6172,11 +6177,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getPowerFactorPhaseB(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_POWERFACTORPHASEB).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_POWERFACTORPHASEB).getLastValue();
+        if (getServerAttribute(ATTR_POWERFACTORPHASEB).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_POWERFACTORPHASEB).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_POWERFACTORPHASEB));
+        return (Integer) readSync(getServerAttribute(ATTR_POWERFACTORPHASEB));
     }
 
     /**
@@ -6194,7 +6199,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setPowerFactorPhaseBReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_POWERFACTORPHASEB), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_POWERFACTORPHASEB), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -6209,7 +6214,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getAverageRmsVoltageMeasurementPeriodPhaseBAsync() {
-        return read(serverAttributes.get(ATTR_AVERAGERMSVOLTAGEMEASUREMENTPERIODPHASEB));
+        return read(getServerAttribute(ATTR_AVERAGERMSVOLTAGEMEASUREMENTPERIODPHASEB));
     }
 
     /**
@@ -6232,11 +6237,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getAverageRmsVoltageMeasurementPeriodPhaseB(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_AVERAGERMSVOLTAGEMEASUREMENTPERIODPHASEB).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_AVERAGERMSVOLTAGEMEASUREMENTPERIODPHASEB).getLastValue();
+        if (getServerAttribute(ATTR_AVERAGERMSVOLTAGEMEASUREMENTPERIODPHASEB).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_AVERAGERMSVOLTAGEMEASUREMENTPERIODPHASEB).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_AVERAGERMSVOLTAGEMEASUREMENTPERIODPHASEB));
+        return (Integer) readSync(getServerAttribute(ATTR_AVERAGERMSVOLTAGEMEASUREMENTPERIODPHASEB));
     }
 
     /**
@@ -6254,7 +6259,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setAverageRmsVoltageMeasurementPeriodPhaseBReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_AVERAGERMSVOLTAGEMEASUREMENTPERIODPHASEB), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_AVERAGERMSVOLTAGEMEASUREMENTPERIODPHASEB), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -6269,7 +6274,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getAverageRmsOverVoltageCounterPhaseBAsync() {
-        return read(serverAttributes.get(ATTR_AVERAGERMSOVERVOLTAGECOUNTERPHASEB));
+        return read(getServerAttribute(ATTR_AVERAGERMSOVERVOLTAGECOUNTERPHASEB));
     }
 
     /**
@@ -6292,11 +6297,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getAverageRmsOverVoltageCounterPhaseB(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_AVERAGERMSOVERVOLTAGECOUNTERPHASEB).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_AVERAGERMSOVERVOLTAGECOUNTERPHASEB).getLastValue();
+        if (getServerAttribute(ATTR_AVERAGERMSOVERVOLTAGECOUNTERPHASEB).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_AVERAGERMSOVERVOLTAGECOUNTERPHASEB).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_AVERAGERMSOVERVOLTAGECOUNTERPHASEB));
+        return (Integer) readSync(getServerAttribute(ATTR_AVERAGERMSOVERVOLTAGECOUNTERPHASEB));
     }
 
     /**
@@ -6314,7 +6319,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setAverageRmsOverVoltageCounterPhaseBReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_AVERAGERMSOVERVOLTAGECOUNTERPHASEB), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_AVERAGERMSOVERVOLTAGECOUNTERPHASEB), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -6329,7 +6334,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getAverageRmsUnderVoltageCounterPhaseBAsync() {
-        return read(serverAttributes.get(ATTR_AVERAGERMSUNDERVOLTAGECOUNTERPHASEB));
+        return read(getServerAttribute(ATTR_AVERAGERMSUNDERVOLTAGECOUNTERPHASEB));
     }
 
     /**
@@ -6352,11 +6357,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getAverageRmsUnderVoltageCounterPhaseB(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_AVERAGERMSUNDERVOLTAGECOUNTERPHASEB).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_AVERAGERMSUNDERVOLTAGECOUNTERPHASEB).getLastValue();
+        if (getServerAttribute(ATTR_AVERAGERMSUNDERVOLTAGECOUNTERPHASEB).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_AVERAGERMSUNDERVOLTAGECOUNTERPHASEB).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_AVERAGERMSUNDERVOLTAGECOUNTERPHASEB));
+        return (Integer) readSync(getServerAttribute(ATTR_AVERAGERMSUNDERVOLTAGECOUNTERPHASEB));
     }
 
     /**
@@ -6374,7 +6379,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setAverageRmsUnderVoltageCounterPhaseBReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_AVERAGERMSUNDERVOLTAGECOUNTERPHASEB), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_AVERAGERMSUNDERVOLTAGECOUNTERPHASEB), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -6389,7 +6394,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getRmsExtremeOverVoltagePeriodPhaseBAsync() {
-        return read(serverAttributes.get(ATTR_RMSEXTREMEOVERVOLTAGEPERIODPHASEB));
+        return read(getServerAttribute(ATTR_RMSEXTREMEOVERVOLTAGEPERIODPHASEB));
     }
 
     /**
@@ -6412,11 +6417,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getRmsExtremeOverVoltagePeriodPhaseB(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_RMSEXTREMEOVERVOLTAGEPERIODPHASEB).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_RMSEXTREMEOVERVOLTAGEPERIODPHASEB).getLastValue();
+        if (getServerAttribute(ATTR_RMSEXTREMEOVERVOLTAGEPERIODPHASEB).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_RMSEXTREMEOVERVOLTAGEPERIODPHASEB).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_RMSEXTREMEOVERVOLTAGEPERIODPHASEB));
+        return (Integer) readSync(getServerAttribute(ATTR_RMSEXTREMEOVERVOLTAGEPERIODPHASEB));
     }
 
     /**
@@ -6434,7 +6439,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setRmsExtremeOverVoltagePeriodPhaseBReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_RMSEXTREMEOVERVOLTAGEPERIODPHASEB), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_RMSEXTREMEOVERVOLTAGEPERIODPHASEB), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -6449,7 +6454,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getRmsExtremeUnderVoltagePeriodPhaseBAsync() {
-        return read(serverAttributes.get(ATTR_RMSEXTREMEUNDERVOLTAGEPERIODPHASEB));
+        return read(getServerAttribute(ATTR_RMSEXTREMEUNDERVOLTAGEPERIODPHASEB));
     }
 
     /**
@@ -6472,11 +6477,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getRmsExtremeUnderVoltagePeriodPhaseB(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_RMSEXTREMEUNDERVOLTAGEPERIODPHASEB).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_RMSEXTREMEUNDERVOLTAGEPERIODPHASEB).getLastValue();
+        if (getServerAttribute(ATTR_RMSEXTREMEUNDERVOLTAGEPERIODPHASEB).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_RMSEXTREMEUNDERVOLTAGEPERIODPHASEB).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_RMSEXTREMEUNDERVOLTAGEPERIODPHASEB));
+        return (Integer) readSync(getServerAttribute(ATTR_RMSEXTREMEUNDERVOLTAGEPERIODPHASEB));
     }
 
     /**
@@ -6494,7 +6499,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setRmsExtremeUnderVoltagePeriodPhaseBReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_RMSEXTREMEUNDERVOLTAGEPERIODPHASEB), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_RMSEXTREMEUNDERVOLTAGEPERIODPHASEB), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -6509,7 +6514,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getRmsVoltageSagPeriodPhaseBAsync() {
-        return read(serverAttributes.get(ATTR_RMSVOLTAGESAGPERIODPHASEB));
+        return read(getServerAttribute(ATTR_RMSVOLTAGESAGPERIODPHASEB));
     }
 
     /**
@@ -6532,11 +6537,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getRmsVoltageSagPeriodPhaseB(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_RMSVOLTAGESAGPERIODPHASEB).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_RMSVOLTAGESAGPERIODPHASEB).getLastValue();
+        if (getServerAttribute(ATTR_RMSVOLTAGESAGPERIODPHASEB).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_RMSVOLTAGESAGPERIODPHASEB).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_RMSVOLTAGESAGPERIODPHASEB));
+        return (Integer) readSync(getServerAttribute(ATTR_RMSVOLTAGESAGPERIODPHASEB));
     }
 
     /**
@@ -6554,7 +6559,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setRmsVoltageSagPeriodPhaseBReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_RMSVOLTAGESAGPERIODPHASEB), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_RMSVOLTAGESAGPERIODPHASEB), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -6569,7 +6574,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getRmsVoltageSwellPeriodPhaseBAsync() {
-        return read(serverAttributes.get(ATTR_RMSVOLTAGESWELLPERIODPHASEB));
+        return read(getServerAttribute(ATTR_RMSVOLTAGESWELLPERIODPHASEB));
     }
 
     /**
@@ -6592,11 +6597,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getRmsVoltageSwellPeriodPhaseB(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_RMSVOLTAGESWELLPERIODPHASEB).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_RMSVOLTAGESWELLPERIODPHASEB).getLastValue();
+        if (getServerAttribute(ATTR_RMSVOLTAGESWELLPERIODPHASEB).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_RMSVOLTAGESWELLPERIODPHASEB).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_RMSVOLTAGESWELLPERIODPHASEB));
+        return (Integer) readSync(getServerAttribute(ATTR_RMSVOLTAGESWELLPERIODPHASEB));
     }
 
     /**
@@ -6614,7 +6619,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setRmsVoltageSwellPeriodPhaseBReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_RMSVOLTAGESWELLPERIODPHASEB), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_RMSVOLTAGESWELLPERIODPHASEB), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -6629,7 +6634,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getLineCurrentPhaseCAsync() {
-        return read(serverAttributes.get(ATTR_LINECURRENTPHASEC));
+        return read(getServerAttribute(ATTR_LINECURRENTPHASEC));
     }
 
     /**
@@ -6652,11 +6657,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getLineCurrentPhaseC(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_LINECURRENTPHASEC).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_LINECURRENTPHASEC).getLastValue();
+        if (getServerAttribute(ATTR_LINECURRENTPHASEC).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_LINECURRENTPHASEC).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_LINECURRENTPHASEC));
+        return (Integer) readSync(getServerAttribute(ATTR_LINECURRENTPHASEC));
     }
 
     /**
@@ -6674,7 +6679,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setLineCurrentPhaseCReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_LINECURRENTPHASEC), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_LINECURRENTPHASEC), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -6689,7 +6694,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getActiveCurrentPhaseCAsync() {
-        return read(serverAttributes.get(ATTR_ACTIVECURRENTPHASEC));
+        return read(getServerAttribute(ATTR_ACTIVECURRENTPHASEC));
     }
 
     /**
@@ -6712,11 +6717,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getActiveCurrentPhaseC(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_ACTIVECURRENTPHASEC).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_ACTIVECURRENTPHASEC).getLastValue();
+        if (getServerAttribute(ATTR_ACTIVECURRENTPHASEC).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_ACTIVECURRENTPHASEC).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_ACTIVECURRENTPHASEC));
+        return (Integer) readSync(getServerAttribute(ATTR_ACTIVECURRENTPHASEC));
     }
 
     /**
@@ -6734,7 +6739,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setActiveCurrentPhaseCReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_ACTIVECURRENTPHASEC), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_ACTIVECURRENTPHASEC), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -6749,7 +6754,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getReactiveCurrentPhaseCAsync() {
-        return read(serverAttributes.get(ATTR_REACTIVECURRENTPHASEC));
+        return read(getServerAttribute(ATTR_REACTIVECURRENTPHASEC));
     }
 
     /**
@@ -6772,11 +6777,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getReactiveCurrentPhaseC(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_REACTIVECURRENTPHASEC).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_REACTIVECURRENTPHASEC).getLastValue();
+        if (getServerAttribute(ATTR_REACTIVECURRENTPHASEC).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_REACTIVECURRENTPHASEC).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_REACTIVECURRENTPHASEC));
+        return (Integer) readSync(getServerAttribute(ATTR_REACTIVECURRENTPHASEC));
     }
 
     /**
@@ -6794,7 +6799,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setReactiveCurrentPhaseCReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_REACTIVECURRENTPHASEC), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_REACTIVECURRENTPHASEC), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -6809,7 +6814,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getRmsVoltagePhaseCAsync() {
-        return read(serverAttributes.get(ATTR_RMSVOLTAGEPHASEC));
+        return read(getServerAttribute(ATTR_RMSVOLTAGEPHASEC));
     }
 
     /**
@@ -6832,11 +6837,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getRmsVoltagePhaseC(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_RMSVOLTAGEPHASEC).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_RMSVOLTAGEPHASEC).getLastValue();
+        if (getServerAttribute(ATTR_RMSVOLTAGEPHASEC).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_RMSVOLTAGEPHASEC).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_RMSVOLTAGEPHASEC));
+        return (Integer) readSync(getServerAttribute(ATTR_RMSVOLTAGEPHASEC));
     }
 
     /**
@@ -6854,7 +6859,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setRmsVoltagePhaseCReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_RMSVOLTAGEPHASEC), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_RMSVOLTAGEPHASEC), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -6869,7 +6874,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getRmsVoltageMinPhaseCAsync() {
-        return read(serverAttributes.get(ATTR_RMSVOLTAGEMINPHASEC));
+        return read(getServerAttribute(ATTR_RMSVOLTAGEMINPHASEC));
     }
 
     /**
@@ -6892,11 +6897,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getRmsVoltageMinPhaseC(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_RMSVOLTAGEMINPHASEC).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_RMSVOLTAGEMINPHASEC).getLastValue();
+        if (getServerAttribute(ATTR_RMSVOLTAGEMINPHASEC).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_RMSVOLTAGEMINPHASEC).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_RMSVOLTAGEMINPHASEC));
+        return (Integer) readSync(getServerAttribute(ATTR_RMSVOLTAGEMINPHASEC));
     }
 
     /**
@@ -6914,7 +6919,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setRmsVoltageMinPhaseCReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_RMSVOLTAGEMINPHASEC), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_RMSVOLTAGEMINPHASEC), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -6929,7 +6934,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getRmsVoltageMaxPhaseCAsync() {
-        return read(serverAttributes.get(ATTR_RMSVOLTAGEMAXPHASEC));
+        return read(getServerAttribute(ATTR_RMSVOLTAGEMAXPHASEC));
     }
 
     /**
@@ -6952,11 +6957,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getRmsVoltageMaxPhaseC(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_RMSVOLTAGEMAXPHASEC).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_RMSVOLTAGEMAXPHASEC).getLastValue();
+        if (getServerAttribute(ATTR_RMSVOLTAGEMAXPHASEC).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_RMSVOLTAGEMAXPHASEC).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_RMSVOLTAGEMAXPHASEC));
+        return (Integer) readSync(getServerAttribute(ATTR_RMSVOLTAGEMAXPHASEC));
     }
 
     /**
@@ -6974,7 +6979,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setRmsVoltageMaxPhaseCReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_RMSVOLTAGEMAXPHASEC), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_RMSVOLTAGEMAXPHASEC), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -6989,7 +6994,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getRmsCurrentPhaseCAsync() {
-        return read(serverAttributes.get(ATTR_RMSCURRENTPHASEC));
+        return read(getServerAttribute(ATTR_RMSCURRENTPHASEC));
     }
 
     /**
@@ -7012,11 +7017,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getRmsCurrentPhaseC(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_RMSCURRENTPHASEC).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_RMSCURRENTPHASEC).getLastValue();
+        if (getServerAttribute(ATTR_RMSCURRENTPHASEC).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_RMSCURRENTPHASEC).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_RMSCURRENTPHASEC));
+        return (Integer) readSync(getServerAttribute(ATTR_RMSCURRENTPHASEC));
     }
 
     /**
@@ -7034,7 +7039,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setRmsCurrentPhaseCReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_RMSCURRENTPHASEC), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_RMSCURRENTPHASEC), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -7049,7 +7054,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getRmsCurrentMinPhaseCAsync() {
-        return read(serverAttributes.get(ATTR_RMSCURRENTMINPHASEC));
+        return read(getServerAttribute(ATTR_RMSCURRENTMINPHASEC));
     }
 
     /**
@@ -7072,11 +7077,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getRmsCurrentMinPhaseC(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_RMSCURRENTMINPHASEC).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_RMSCURRENTMINPHASEC).getLastValue();
+        if (getServerAttribute(ATTR_RMSCURRENTMINPHASEC).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_RMSCURRENTMINPHASEC).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_RMSCURRENTMINPHASEC));
+        return (Integer) readSync(getServerAttribute(ATTR_RMSCURRENTMINPHASEC));
     }
 
     /**
@@ -7094,7 +7099,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setRmsCurrentMinPhaseCReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_RMSCURRENTMINPHASEC), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_RMSCURRENTMINPHASEC), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -7109,7 +7114,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getRmsCurrentMaxPhaseCAsync() {
-        return read(serverAttributes.get(ATTR_RMSCURRENTMAXPHASEC));
+        return read(getServerAttribute(ATTR_RMSCURRENTMAXPHASEC));
     }
 
     /**
@@ -7132,11 +7137,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getRmsCurrentMaxPhaseC(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_RMSCURRENTMAXPHASEC).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_RMSCURRENTMAXPHASEC).getLastValue();
+        if (getServerAttribute(ATTR_RMSCURRENTMAXPHASEC).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_RMSCURRENTMAXPHASEC).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_RMSCURRENTMAXPHASEC));
+        return (Integer) readSync(getServerAttribute(ATTR_RMSCURRENTMAXPHASEC));
     }
 
     /**
@@ -7154,7 +7159,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setRmsCurrentMaxPhaseCReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_RMSCURRENTMAXPHASEC), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_RMSCURRENTMAXPHASEC), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -7169,7 +7174,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getActivePowerPhaseCAsync() {
-        return read(serverAttributes.get(ATTR_ACTIVEPOWERPHASEC));
+        return read(getServerAttribute(ATTR_ACTIVEPOWERPHASEC));
     }
 
     /**
@@ -7192,11 +7197,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getActivePowerPhaseC(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_ACTIVEPOWERPHASEC).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_ACTIVEPOWERPHASEC).getLastValue();
+        if (getServerAttribute(ATTR_ACTIVEPOWERPHASEC).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_ACTIVEPOWERPHASEC).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_ACTIVEPOWERPHASEC));
+        return (Integer) readSync(getServerAttribute(ATTR_ACTIVEPOWERPHASEC));
     }
 
     /**
@@ -7214,7 +7219,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setActivePowerPhaseCReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_ACTIVEPOWERPHASEC), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_ACTIVEPOWERPHASEC), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -7229,7 +7234,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getActivePowerMinPhaseCAsync() {
-        return read(serverAttributes.get(ATTR_ACTIVEPOWERMINPHASEC));
+        return read(getServerAttribute(ATTR_ACTIVEPOWERMINPHASEC));
     }
 
     /**
@@ -7252,11 +7257,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getActivePowerMinPhaseC(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_ACTIVEPOWERMINPHASEC).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_ACTIVEPOWERMINPHASEC).getLastValue();
+        if (getServerAttribute(ATTR_ACTIVEPOWERMINPHASEC).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_ACTIVEPOWERMINPHASEC).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_ACTIVEPOWERMINPHASEC));
+        return (Integer) readSync(getServerAttribute(ATTR_ACTIVEPOWERMINPHASEC));
     }
 
     /**
@@ -7274,7 +7279,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setActivePowerMinPhaseCReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_ACTIVEPOWERMINPHASEC), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_ACTIVEPOWERMINPHASEC), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -7289,7 +7294,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getActivePowerMaxPhaseCAsync() {
-        return read(serverAttributes.get(ATTR_ACTIVEPOWERMAXPHASEC));
+        return read(getServerAttribute(ATTR_ACTIVEPOWERMAXPHASEC));
     }
 
     /**
@@ -7312,11 +7317,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getActivePowerMaxPhaseC(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_ACTIVEPOWERMAXPHASEC).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_ACTIVEPOWERMAXPHASEC).getLastValue();
+        if (getServerAttribute(ATTR_ACTIVEPOWERMAXPHASEC).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_ACTIVEPOWERMAXPHASEC).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_ACTIVEPOWERMAXPHASEC));
+        return (Integer) readSync(getServerAttribute(ATTR_ACTIVEPOWERMAXPHASEC));
     }
 
     /**
@@ -7334,7 +7339,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setActivePowerMaxPhaseCReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_ACTIVEPOWERMAXPHASEC), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_ACTIVEPOWERMAXPHASEC), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -7349,7 +7354,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getReactivePowerPhaseCAsync() {
-        return read(serverAttributes.get(ATTR_REACTIVEPOWERPHASEC));
+        return read(getServerAttribute(ATTR_REACTIVEPOWERPHASEC));
     }
 
     /**
@@ -7372,11 +7377,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getReactivePowerPhaseC(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_REACTIVEPOWERPHASEC).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_REACTIVEPOWERPHASEC).getLastValue();
+        if (getServerAttribute(ATTR_REACTIVEPOWERPHASEC).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_REACTIVEPOWERPHASEC).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_REACTIVEPOWERPHASEC));
+        return (Integer) readSync(getServerAttribute(ATTR_REACTIVEPOWERPHASEC));
     }
 
     /**
@@ -7394,7 +7399,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setReactivePowerPhaseCReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_REACTIVEPOWERPHASEC), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_REACTIVEPOWERPHASEC), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -7409,7 +7414,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getApparentPowerPhaseCAsync() {
-        return read(serverAttributes.get(ATTR_APPARENTPOWERPHASEC));
+        return read(getServerAttribute(ATTR_APPARENTPOWERPHASEC));
     }
 
     /**
@@ -7432,11 +7437,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getApparentPowerPhaseC(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_APPARENTPOWERPHASEC).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_APPARENTPOWERPHASEC).getLastValue();
+        if (getServerAttribute(ATTR_APPARENTPOWERPHASEC).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_APPARENTPOWERPHASEC).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_APPARENTPOWERPHASEC));
+        return (Integer) readSync(getServerAttribute(ATTR_APPARENTPOWERPHASEC));
     }
 
     /**
@@ -7454,7 +7459,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setApparentPowerPhaseCReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_APPARENTPOWERPHASEC), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_APPARENTPOWERPHASEC), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -7469,7 +7474,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getPowerFactorPhaseCAsync() {
-        return read(serverAttributes.get(ATTR_POWERFACTORPHASEC));
+        return read(getServerAttribute(ATTR_POWERFACTORPHASEC));
     }
 
     /**
@@ -7492,11 +7497,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getPowerFactorPhaseC(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_POWERFACTORPHASEC).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_POWERFACTORPHASEC).getLastValue();
+        if (getServerAttribute(ATTR_POWERFACTORPHASEC).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_POWERFACTORPHASEC).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_POWERFACTORPHASEC));
+        return (Integer) readSync(getServerAttribute(ATTR_POWERFACTORPHASEC));
     }
 
     /**
@@ -7514,7 +7519,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setPowerFactorPhaseCReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_POWERFACTORPHASEC), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_POWERFACTORPHASEC), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -7529,7 +7534,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getAverageRmsVoltageMeasurementPeriodPhaseCAsync() {
-        return read(serverAttributes.get(ATTR_AVERAGERMSVOLTAGEMEASUREMENTPERIODPHASEC));
+        return read(getServerAttribute(ATTR_AVERAGERMSVOLTAGEMEASUREMENTPERIODPHASEC));
     }
 
     /**
@@ -7552,11 +7557,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getAverageRmsVoltageMeasurementPeriodPhaseC(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_AVERAGERMSVOLTAGEMEASUREMENTPERIODPHASEC).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_AVERAGERMSVOLTAGEMEASUREMENTPERIODPHASEC).getLastValue();
+        if (getServerAttribute(ATTR_AVERAGERMSVOLTAGEMEASUREMENTPERIODPHASEC).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_AVERAGERMSVOLTAGEMEASUREMENTPERIODPHASEC).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_AVERAGERMSVOLTAGEMEASUREMENTPERIODPHASEC));
+        return (Integer) readSync(getServerAttribute(ATTR_AVERAGERMSVOLTAGEMEASUREMENTPERIODPHASEC));
     }
 
     /**
@@ -7574,7 +7579,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setAverageRmsVoltageMeasurementPeriodPhaseCReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_AVERAGERMSVOLTAGEMEASUREMENTPERIODPHASEC), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_AVERAGERMSVOLTAGEMEASUREMENTPERIODPHASEC), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -7589,7 +7594,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getAverageRmsOverVoltageCounterPhaseCAsync() {
-        return read(serverAttributes.get(ATTR_AVERAGERMSOVERVOLTAGECOUNTERPHASEC));
+        return read(getServerAttribute(ATTR_AVERAGERMSOVERVOLTAGECOUNTERPHASEC));
     }
 
     /**
@@ -7612,11 +7617,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getAverageRmsOverVoltageCounterPhaseC(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_AVERAGERMSOVERVOLTAGECOUNTERPHASEC).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_AVERAGERMSOVERVOLTAGECOUNTERPHASEC).getLastValue();
+        if (getServerAttribute(ATTR_AVERAGERMSOVERVOLTAGECOUNTERPHASEC).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_AVERAGERMSOVERVOLTAGECOUNTERPHASEC).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_AVERAGERMSOVERVOLTAGECOUNTERPHASEC));
+        return (Integer) readSync(getServerAttribute(ATTR_AVERAGERMSOVERVOLTAGECOUNTERPHASEC));
     }
 
     /**
@@ -7634,7 +7639,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setAverageRmsOverVoltageCounterPhaseCReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_AVERAGERMSOVERVOLTAGECOUNTERPHASEC), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_AVERAGERMSOVERVOLTAGECOUNTERPHASEC), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -7649,7 +7654,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getAverageRmsUnderVoltageCounterPhaseCAsync() {
-        return read(serverAttributes.get(ATTR_AVERAGERMSUNDERVOLTAGECOUNTERPHASEC));
+        return read(getServerAttribute(ATTR_AVERAGERMSUNDERVOLTAGECOUNTERPHASEC));
     }
 
     /**
@@ -7672,11 +7677,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getAverageRmsUnderVoltageCounterPhaseC(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_AVERAGERMSUNDERVOLTAGECOUNTERPHASEC).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_AVERAGERMSUNDERVOLTAGECOUNTERPHASEC).getLastValue();
+        if (getServerAttribute(ATTR_AVERAGERMSUNDERVOLTAGECOUNTERPHASEC).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_AVERAGERMSUNDERVOLTAGECOUNTERPHASEC).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_AVERAGERMSUNDERVOLTAGECOUNTERPHASEC));
+        return (Integer) readSync(getServerAttribute(ATTR_AVERAGERMSUNDERVOLTAGECOUNTERPHASEC));
     }
 
     /**
@@ -7694,7 +7699,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setAverageRmsUnderVoltageCounterPhaseCReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_AVERAGERMSUNDERVOLTAGECOUNTERPHASEC), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_AVERAGERMSUNDERVOLTAGECOUNTERPHASEC), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -7709,7 +7714,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getRmsExtremeOverVoltagePeriodPhaseCAsync() {
-        return read(serverAttributes.get(ATTR_RMSEXTREMEOVERVOLTAGEPERIODPHASEC));
+        return read(getServerAttribute(ATTR_RMSEXTREMEOVERVOLTAGEPERIODPHASEC));
     }
 
     /**
@@ -7732,11 +7737,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getRmsExtremeOverVoltagePeriodPhaseC(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_RMSEXTREMEOVERVOLTAGEPERIODPHASEC).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_RMSEXTREMEOVERVOLTAGEPERIODPHASEC).getLastValue();
+        if (getServerAttribute(ATTR_RMSEXTREMEOVERVOLTAGEPERIODPHASEC).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_RMSEXTREMEOVERVOLTAGEPERIODPHASEC).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_RMSEXTREMEOVERVOLTAGEPERIODPHASEC));
+        return (Integer) readSync(getServerAttribute(ATTR_RMSEXTREMEOVERVOLTAGEPERIODPHASEC));
     }
 
     /**
@@ -7754,7 +7759,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setRmsExtremeOverVoltagePeriodPhaseCReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_RMSEXTREMEOVERVOLTAGEPERIODPHASEC), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_RMSEXTREMEOVERVOLTAGEPERIODPHASEC), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -7769,7 +7774,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getRmsExtremeUnderVoltagePeriodPhaseCAsync() {
-        return read(serverAttributes.get(ATTR_RMSEXTREMEUNDERVOLTAGEPERIODPHASEC));
+        return read(getServerAttribute(ATTR_RMSEXTREMEUNDERVOLTAGEPERIODPHASEC));
     }
 
     /**
@@ -7792,11 +7797,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getRmsExtremeUnderVoltagePeriodPhaseC(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_RMSEXTREMEUNDERVOLTAGEPERIODPHASEC).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_RMSEXTREMEUNDERVOLTAGEPERIODPHASEC).getLastValue();
+        if (getServerAttribute(ATTR_RMSEXTREMEUNDERVOLTAGEPERIODPHASEC).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_RMSEXTREMEUNDERVOLTAGEPERIODPHASEC).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_RMSEXTREMEUNDERVOLTAGEPERIODPHASEC));
+        return (Integer) readSync(getServerAttribute(ATTR_RMSEXTREMEUNDERVOLTAGEPERIODPHASEC));
     }
 
     /**
@@ -7814,7 +7819,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setRmsExtremeUnderVoltagePeriodPhaseCReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_RMSEXTREMEUNDERVOLTAGEPERIODPHASEC), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_RMSEXTREMEUNDERVOLTAGEPERIODPHASEC), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -7829,7 +7834,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getRmsVoltageSagPeriodPhaseCAsync() {
-        return read(serverAttributes.get(ATTR_RMSVOLTAGESAGPERIODPHASEC));
+        return read(getServerAttribute(ATTR_RMSVOLTAGESAGPERIODPHASEC));
     }
 
     /**
@@ -7852,11 +7857,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getRmsVoltageSagPeriodPhaseC(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_RMSVOLTAGESAGPERIODPHASEC).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_RMSVOLTAGESAGPERIODPHASEC).getLastValue();
+        if (getServerAttribute(ATTR_RMSVOLTAGESAGPERIODPHASEC).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_RMSVOLTAGESAGPERIODPHASEC).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_RMSVOLTAGESAGPERIODPHASEC));
+        return (Integer) readSync(getServerAttribute(ATTR_RMSVOLTAGESAGPERIODPHASEC));
     }
 
     /**
@@ -7874,7 +7879,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setRmsVoltageSagPeriodPhaseCReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_RMSVOLTAGESAGPERIODPHASEC), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_RMSVOLTAGESAGPERIODPHASEC), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -7889,7 +7894,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getRmsVoltageSwellPeriodPhaseCAsync() {
-        return read(serverAttributes.get(ATTR_RMSVOLTAGESWELLPERIODPHASEC));
+        return read(getServerAttribute(ATTR_RMSVOLTAGESWELLPERIODPHASEC));
     }
 
     /**
@@ -7912,11 +7917,11 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getRmsVoltageSwellPeriodPhaseC(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_RMSVOLTAGESWELLPERIODPHASEC).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_RMSVOLTAGESWELLPERIODPHASEC).getLastValue();
+        if (getServerAttribute(ATTR_RMSVOLTAGESWELLPERIODPHASEC).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_RMSVOLTAGESWELLPERIODPHASEC).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_RMSVOLTAGESWELLPERIODPHASEC));
+        return (Integer) readSync(getServerAttribute(ATTR_RMSVOLTAGESWELLPERIODPHASEC));
     }
 
     /**
@@ -7934,7 +7939,7 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setRmsVoltageSwellPeriodPhaseCReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_RMSVOLTAGESWELLPERIODPHASEC), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_RMSVOLTAGESWELLPERIODPHASEC), minInterval, maxInterval, reportableChange);
     }
 
     /**
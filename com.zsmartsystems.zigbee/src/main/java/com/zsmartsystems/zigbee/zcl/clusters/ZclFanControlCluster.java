@@ -7,8 +7,9 @@
  */
 package com.zsmartsystems.zigbee.zcl.clusters;
 
+import java.util.Collections;
 import java.util.Map;
-import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.TreeMap;
 import java.util.concurrent.Future;
 
 import javax.annotation.Generated;
@@ -16,6 +17,7 @@ import javax.annotation.Generated;
 import com.zsmartsystems.zigbee.CommandResult;
 import com.zsmartsystems.zigbee.ZigBeeEndpoint;
 import com.zsmartsystems.zigbee.zcl.ZclAttribute;
+import com.zsmartsystems.zigbee.zcl.ZclAttributeDefinition;
 import com.zsmartsystems.zigbee.zcl.ZclCluster;
 import com.zsmartsystems.zigbee.zcl.protocol.ZclDataType;
 
@@ -27,7 +29,7 @@ import com.zsmartsystems.zigbee.zcl.protocol.ZclDataType;
  * <p>
  * Code is auto-generated. Modifications may be overwritten!
  */
-@Generated(value = "com.zsmartsystems.zigbee.autocode.ZigBeeCodeGenerator", date = "2019-10-04T18:21:10Z")
+@Generated(value = "com.zsmartsystems.zigbee.autocode.ZigBeeCodeGenerator", date = "2026-10-18T14:31:35Z")
 public class ZclFanControlCluster extends ZclCluster {
     /**
      * The ZigBee Cluster Library Cluster ID
@@ -50,21 +52,23 @@ public class ZclFanControlCluster extends ZclCluster {
      */
     public static final int ATTR_FANMODESEQUENCE = 0x0001;
 
-    @Override
-    protected Map<Integer, ZclAttribute> initializeClientAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
+    /**
+     * The server attribute definitions. These are shared by all instances of this cluster.
+     */
+    private static final Map<Integer, ZclAttributeDefinition> SERVER_ATTRIBUTES = initializeServerAttributeDefinitions();
 
-        return attributeMap;
-    }
+    private static Map<Integer, ZclAttributeDefinition> initializeServerAttributeDefinitions() {
+        Map<Integer, ZclAttributeDefinition> attributeMap = new TreeMap<>();
 
-    @Override
-    protected Map<Integer, ZclAttribute> initializeServerAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
+        attributeMap.put(ATTR_FANMODE, new ZclAttributeDefinition(ATTR_FANMODE, "Fan Mode", ZclDataType.ENUMERATION_8_BIT, false, true, true, true));
+        attributeMap.put(ATTR_FANMODESEQUENCE, new ZclAttributeDefinition(ATTR_FANMODESEQUENCE, "Fan Mode Sequence", ZclDataType.ENUMERATION_8_BIT, false, true, true, true));
 
-        attributeMap.put(ATTR_FANMODE, new ZclAttribute(this, ATTR_FANMODE, "Fan Mode", ZclDataType.ENUMERATION_8_BIT, false, true, true, true));
-        attributeMap.put(ATTR_FANMODESEQUENCE, new ZclAttribute(this, ATTR_FANMODESEQUENCE, "Fan Mode Sequence", ZclDataType.ENUMERATION_8_BIT, false, true, true, true));
+        return Collections.unmodifiableMap(attributeMap);
+    }
 
-        return attributeMap;
+    @Override
+    protected Map<Integer, ZclAttributeDefinition> getServerAttributeDefinitions() {
+        return SERVER_ATTRIBUTES;
     }
 
     /**
@@ -91,7 +95,7 @@ public class ZclFanControlCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setFanMode(final Integer value) {
-        return write(serverAttributes.get(ATTR_FANMODE), value);
+        return write(getServerAttribute(ATTR_FANMODE), value);
     }
 
     /**
@@ -108,7 +112,7 @@ public class ZclFanControlCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getFanModeAsync() {
-        return read(serverAttributes.get(ATTR_FANMODE));
+        return read(getServerAttribute(ATTR_FANMODE));
     }
 
     /**
@@ -133,11 +137,11 @@ public class ZclFanControlCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getFanMode(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_FANMODE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_FANMODE).getLastValue();
+        if (getServerAttribute(ATTR_FANMODE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_FANMODE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_FANMODE));
+        return (Integer) readSync(getServerAttribute(ATTR_FANMODE));
     }
 
     /**
@@ -156,7 +160,7 @@ public class ZclFanControlCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setFanModeSequence(final Integer value) {
-        return write(serverAttributes.get(ATTR_FANMODESEQUENCE), value);
+        return write(getServerAttribute(ATTR_FANMODESEQUENCE), value);
     }
 
     /**
@@ -174,7 +178,7 @@ public class ZclFanControlCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getFanModeSequenceAsync() {
-        return read(serverAttributes.get(ATTR_FANMODESEQUENCE));
+        return read(getServerAttribute(ATTR_FANMODESEQUENCE));
     }
 
     /**
@@ -200,10 +204,10 @@ public class ZclFanControlCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getFanModeSequence(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_FANMODESEQUENCE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_FANMODESEQUENCE).getLastValue();
+        if (getServerAttribute(ATTR_FANMODESEQUENCE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_FANMODESEQUENCE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_FANMODESEQUENCE));
+        return (Integer) readSync(getServerAttribute(ATTR_FANMODESEQUENCE));
     }
 }
@@ -7,8 +7,9 @@
  */
 package com.zsmartsystems.zigbee.zcl.clusters;
 
+import java.util.Collections;
 import java.util.Map;
-import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.TreeMap;
 import java.util.concurrent.Future;
 
 import javax.annotation.Generated;
@@ -16,6 +17,7 @@ import javax.annotation.Generated;
 import com.zsmartsystems.zigbee.CommandResult;
 import com.zsmartsystems.zigbee.ZigBeeEndpoint;
 import com.zsmartsystems.zigbee.zcl.ZclAttribute;
+import com.zsmartsystems.zigbee.zcl.ZclAttributeDefinition;
 import com.zsmartsystems.zigbee.zcl.ZclCluster;
 import com.zsmartsystems.zigbee.zcl.protocol.ZclDataType;
 
@@ -27,7 +29,7 @@ import com.zsmartsystems.zigbee.zcl.protocol.ZclDataType;
  * <p>
  * Code is auto-generated. Modifications may be overwritten!
  */
-@Generated(value = "com.zsmartsystems.zigbee.autocode.ZigBeeCodeGenerator", date = "2019-10-04T18:21:10Z")
+@Generated(value = "com.zsmartsystems.zigbee.autocode.ZigBeeCodeGenerator", date = "2026-10-18T14:31:35Z")
 public class ZclFlowMeasurementCluster extends ZclCluster {
     /**
      * The ZigBee Cluster Library Cluster ID
@@ -77,23 +79,25 @@ public class ZclFlowMeasurementCluster extends ZclCluster {
      */
     public static final int ATTR_TOLERANCE = 0x0003;
 
-    @Override
-    protected Map<Integer, ZclAttribute> initializeClientAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
+    /**
+     * The server attribute definitions. These are shared by all instances of this cluster.
+     */
+    private static final Map<Integer, ZclAttributeDefinition> SERVER_ATTRIBUTES = initializeServerAttributeDefinitions();
 
-        return attributeMap;
-    }
+    private static Map<Integer, ZclAttributeDefinition> initializeServerAttributeDefinitions() {
+        Map<Integer, ZclAttributeDefinition> attributeMap = new TreeMap<>();
 
-    @Override
-    protected Map<Integer, ZclAttribute> initializeServerAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
+        attributeMap.put(ATTR_MEASUREDVALUE, new ZclAttributeDefinition(ATTR_MEASUREDVALUE, "Measured Value", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, true));
+        attributeMap.put(ATTR_MINMEASUREDVALUE, new ZclAttributeDefinition(ATTR_MINMEASUREDVALUE, "Min Measured Value", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_MAXMEASUREDVALUE, new ZclAttributeDefinition(ATTR_MAXMEASUREDVALUE, "Max Measured Value", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_TOLERANCE, new ZclAttributeDefinition(ATTR_TOLERANCE, "Tolerance", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, true));
 
-        attributeMap.put(ATTR_MEASUREDVALUE, new ZclAttribute(this, ATTR_MEASUREDVALUE, "Measured Value", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, true));
-        attributeMap.put(ATTR_MINMEASUREDVALUE, new ZclAttribute(this, ATTR_MINMEASUREDVALUE, "Min Measured Value", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_MAXMEASUREDVALUE, new ZclAttribute(this, ATTR_MAXMEASUREDVALUE, "Max Measured Value", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_TOLERANCE, new ZclAttribute(this, ATTR_TOLERANCE, "Tolerance", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, true));
+        return Collections.unmodifiableMap(attributeMap);
+    }
 
-        return attributeMap;
+    @Override
+    protected Map<Integer, ZclAttributeDefinition> getServerAttributeDefinitions() {
+        return SERVER_ATTRIBUTES;
     }
 
     /**
@@ -131,7 +135,7 @@ public class ZclFlowMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getMeasuredValueAsync() {
-        return read(serverAttributes.get(ATTR_MEASUREDVALUE));
+        return read(getServerAttribute(ATTR_MEASUREDVALUE));
     }
 
     /**
@@ -168,11 +172,11 @@ public class ZclFlowMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getMeasuredValue(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_MEASUREDVALUE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_MEASUREDVALUE).getLastValue();
+        if (getServerAttribute(ATTR_MEASUREDVALUE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_MEASUREDVALUE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_MEASUREDVALUE));
+        return (Integer) readSync(getServerAttribute(ATTR_MEASUREDVALUE));
     }
 
     /**
@@ -204,7 +208,7 @@ public class ZclFlowMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setMeasuredValueReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_MEASUREDVALUE), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_MEASUREDVALUE), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -222,7 +226,7 @@ public class ZclFlowMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getMinMeasuredValueAsync() {
-        return read(serverAttributes.get(ATTR_MINMEASUREDVALUE));
+        return read(getServerAttribute(ATTR_MINMEASUREDVALUE));
     }
 
     /**
@@ -248,11 +252,11 @@ public class ZclFlowMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getMinMeasuredValue(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_MINMEASUREDVALUE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_MINMEASUREDVALUE).getLastValue();
+        if (getServerAttribute(ATTR_MINMEASUREDVALUE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_MINMEASUREDVALUE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_MINMEASUREDVALUE));
+        return (Integer) readSync(getServerAttribute(ATTR_MINMEASUREDVALUE));
     }
 
     /**
@@ -273,7 +277,7 @@ public class ZclFlowMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setMinMeasuredValueReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_MINMEASUREDVALUE), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_MINMEASUREDVALUE), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -295,7 +299,7 @@ public class ZclFlowMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getMaxMeasuredValueAsync() {
-        return read(serverAttributes.get(ATTR_MAXMEASUREDVALUE));
+        return read(getServerAttribute(ATTR_MAXMEASUREDVALUE));
     }
 
     /**
@@ -325,11 +329,11 @@ public class ZclFlowMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getMaxMeasuredValue(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_MAXMEASUREDVALUE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_MAXMEASUREDVALUE).getLastValue();
+        if (getServerAttribute(ATTR_MAXMEASUREDVALUE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_MAXMEASUREDVALUE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_MAXMEASUREDVALUE));
+        return (Integer) readSync(getServerAttribute(ATTR_MAXMEASUREDVALUE));
     }
 
     /**
@@ -354,7 +358,7 @@ public class ZclFlowMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setMaxMeasuredValueReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_MAXMEASUREDVALUE), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_MAXMEASUREDVALUE), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -373,7 +377,7 @@ public class ZclFlowMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getToleranceAsync() {
-        return read(serverAttributes.get(ATTR_TOLERANCE));
+        return read(getServerAttribute(ATTR_TOLERANCE));
     }
 
     /**
@@ -400,10 +404,10 @@ public class ZclFlowMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getTolerance(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_TOLERANCE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_TOLERANCE).getLastValue();
+        if (getServerAttribute(ATTR_TOLERANCE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_TOLERANCE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_TOLERANCE));
+        return (Integer) readSync(getServerAttribute(ATTR_TOLERANCE));
     }
 }
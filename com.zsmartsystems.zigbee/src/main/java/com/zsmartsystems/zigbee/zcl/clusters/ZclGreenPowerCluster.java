@@ -7,7 +7,9 @@
  */
 package com.zsmartsystems.zigbee.zcl.clusters;
 
+import java.util.Collections;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.Future;
 
@@ -18,6 +20,7 @@ import com.zsmartsystems.zigbee.IeeeAddress;
 import com.zsmartsystems.zigbee.ZigBeeEndpoint;
 import com.zsmartsystems.zigbee.security.ZigBeeKey;
 import com.zsmartsystems.zigbee.zcl.ZclAttribute;
+import com.zsmartsystems.zigbee.zcl.ZclAttributeDefinition;
 import com.zsmartsystems.zigbee.zcl.ZclCluster;
 import com.zsmartsystems.zigbee.zcl.ZclCommand;
 import com.zsmartsystems.zigbee.zcl.clusters.greenpower.GpCommissioningNotification;
@@ -48,7 +51,7 @@ import com.zsmartsystems.zigbee.zcl.protocol.ZclDataType;
  * <p>
  * Code is auto-generated. Modifications may be overwritten!
  */
-@Generated(value = "com.zsmartsystems.zigbee.autocode.ZigBeeCodeGenerator", date = "2019-10-04T18:21:10Z")
+@Generated(value = "com.zsmartsystems.zigbee.autocode.ZigBeeCodeGenerator", date = "2026-10-18T14:31:35Z")
 public class ZclGreenPowerCluster extends ZclCluster {
     /**
      * The ZigBee Cluster Library Cluster ID
@@ -84,42 +87,60 @@ public class ZclGreenPowerCluster extends ZclCluster {
     public static final int ATTR_GPSERVERSHAREDSECURITYKEY = 0x0021;
     public static final int ATTR_GPSERVERLINKKEY = 0x0022;
 
+    /**
+     * The client attribute definitions. These are shared by all instances of this cluster.
+     */
+    private static final Map<Integer, ZclAttributeDefinition> CLIENT_ATTRIBUTES = initializeClientAttributeDefinitions();
+
+    /**
+     * The server attribute definitions. These are shared by all instances of this cluster.
+     */
+    private static final Map<Integer, ZclAttributeDefinition> SERVER_ATTRIBUTES = initializeServerAttributeDefinitions();
+
+    private static Map<Integer, ZclAttributeDefinition> initializeClientAttributeDefinitions() {
+        Map<Integer, ZclAttributeDefinition> attributeMap = new TreeMap<>();
+
+        attributeMap.put(ATTR_GPPMAXPROXYTABLEENTRIES, new ZclAttributeDefinition(ATTR_GPPMAXPROXYTABLEENTRIES, "Gpp Max Proxy Table Entries", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PROXYTABLE, new ZclAttributeDefinition(ATTR_PROXYTABLE, "Proxy Table", ZclDataType.LONG_OCTET_STRING, true, true, false, false));
+        attributeMap.put(ATTR_GPPNOTIFICATIONRETRYNUMBER, new ZclAttributeDefinition(ATTR_GPPNOTIFICATIONRETRYNUMBER, "Gpp Notification Retry Number", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, true));
+        attributeMap.put(ATTR_GPPNOTIFICATIONRETRYTIMER, new ZclAttributeDefinition(ATTR_GPPNOTIFICATIONRETRYTIMER, "Gpp Notification Retry Timer", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, true));
+        attributeMap.put(ATTR_GPPMAXSEARCHCOUNTER, new ZclAttributeDefinition(ATTR_GPPMAXSEARCHCOUNTER, "Gpp Max Search Counter", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, true));
+        attributeMap.put(ATTR_GPPBLOCKEDGPDID, new ZclAttributeDefinition(ATTR_GPPBLOCKEDGPDID, "Gpp Blocked Gpd ID", ZclDataType.LONG_OCTET_STRING, true, true, false, false));
+        attributeMap.put(ATTR_GPPFUNCTIONALITY, new ZclAttributeDefinition(ATTR_GPPFUNCTIONALITY, "Gpp Functionality", ZclDataType.BITMAP_24_BIT, true, true, false, false));
+        attributeMap.put(ATTR_GPPACTIVEFUNCTIONALITY, new ZclAttributeDefinition(ATTR_GPPACTIVEFUNCTIONALITY, "Gpp Active Functionality", ZclDataType.BITMAP_24_BIT, true, true, false, false));
+        attributeMap.put(ATTR_GPCLIENTSHAREDSECURITYKEYTYPE, new ZclAttributeDefinition(ATTR_GPCLIENTSHAREDSECURITYKEYTYPE, "Gp Client Shared Security Key Type", ZclDataType.BITMAP_8_BIT, false, true, true, true));
+        attributeMap.put(ATTR_GPCLIENTSHAREDSECURITYKEY, new ZclAttributeDefinition(ATTR_GPCLIENTSHAREDSECURITYKEY, "Gp Client Shared Security Key", ZclDataType.SECURITY_KEY, false, true, true, true));
+        attributeMap.put(ATTR_GPCLIENTLINKKEY, new ZclAttributeDefinition(ATTR_GPCLIENTLINKKEY, "Gp Client Link Key", ZclDataType.SECURITY_KEY, false, true, true, true));
+
+        return Collections.unmodifiableMap(attributeMap);
+    }
+
+    private static Map<Integer, ZclAttributeDefinition> initializeServerAttributeDefinitions() {
+        Map<Integer, ZclAttributeDefinition> attributeMap = new TreeMap<>();
+
+        attributeMap.put(ATTR_GPSMAXSINKTABLEENTRIES, new ZclAttributeDefinition(ATTR_GPSMAXSINKTABLEENTRIES, "Gps Max Sink Table Entries", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_SINKTABLE, new ZclAttributeDefinition(ATTR_SINKTABLE, "Sink Table", ZclDataType.LONG_OCTET_STRING, true, true, false, false));
+        attributeMap.put(ATTR_GPSCOMMUNICATIONMODE, new ZclAttributeDefinition(ATTR_GPSCOMMUNICATIONMODE, "Gps Communication Mode", ZclDataType.BITMAP_8_BIT, false, true, true, true));
+        attributeMap.put(ATTR_GPSCOMMISSIONINGEXITMODE, new ZclAttributeDefinition(ATTR_GPSCOMMISSIONINGEXITMODE, "Gps Commissioning Exit Mode", ZclDataType.BITMAP_8_BIT, false, true, true, true));
+        attributeMap.put(ATTR_GPSCOMMISSIONINGWINDOW, new ZclAttributeDefinition(ATTR_GPSCOMMISSIONINGWINDOW, "Gps Commissioning Window", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, true, true));
+        attributeMap.put(ATTR_GPSSECURITYLEVEL, new ZclAttributeDefinition(ATTR_GPSSECURITYLEVEL, "Gps Security Level", ZclDataType.BITMAP_8_BIT, false, true, true, true));
+        attributeMap.put(ATTR_GPSFUNCTIONALITY, new ZclAttributeDefinition(ATTR_GPSFUNCTIONALITY, "Gps Functionality", ZclDataType.BITMAP_24_BIT, true, true, false, false));
+        attributeMap.put(ATTR_GPSACTIVEFUNCTIONALITY, new ZclAttributeDefinition(ATTR_GPSACTIVEFUNCTIONALITY, "Gps Active Functionality", ZclDataType.BITMAP_24_BIT, true, true, false, false));
+        attributeMap.put(ATTR_GPSERVERSHAREDSECURITYKEYTYPE, new ZclAttributeDefinition(ATTR_GPSERVERSHAREDSECURITYKEYTYPE, "Gp Server Shared Security Key Type", ZclDataType.BITMAP_8_BIT, false, true, true, true));
+        attributeMap.put(ATTR_GPSERVERSHAREDSECURITYKEY, new ZclAttributeDefinition(ATTR_GPSERVERSHAREDSECURITYKEY, "Gp server Shared Security Key", ZclDataType.SECURITY_KEY, false, true, true, true));
+        attributeMap.put(ATTR_GPSERVERLINKKEY, new ZclAttributeDefinition(ATTR_GPSERVERLINKKEY, "Gp Server Link Key", ZclDataType.SECURITY_KEY, false, true, true, true));
+
+        return Collections.unmodifiableMap(attributeMap);
+    }
+
     @Override
-    protected Map<Integer, ZclAttribute> initializeClientAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
-
-        attributeMap.put(ATTR_GPPMAXPROXYTABLEENTRIES, new ZclAttribute(this, ATTR_GPPMAXPROXYTABLEENTRIES, "Gpp Max Proxy Table Entries", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PROXYTABLE, new ZclAttribute(this, ATTR_PROXYTABLE, "Proxy Table", ZclDataType.LONG_OCTET_STRING, true, true, false, false));
-        attributeMap.put(ATTR_GPPNOTIFICATIONRETRYNUMBER, new ZclAttribute(this, ATTR_GPPNOTIFICATIONRETRYNUMBER, "Gpp Notification Retry Number", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, true));
-        attributeMap.put(ATTR_GPPNOTIFICATIONRETRYTIMER, new ZclAttribute(this, ATTR_GPPNOTIFICATIONRETRYTIMER, "Gpp Notification Retry Timer", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, true));
-        attributeMap.put(ATTR_GPPMAXSEARCHCOUNTER, new ZclAttribute(this, ATTR_GPPMAXSEARCHCOUNTER, "Gpp Max Search Counter", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, true));
-        attributeMap.put(ATTR_GPPBLOCKEDGPDID, new ZclAttribute(this, ATTR_GPPBLOCKEDGPDID, "Gpp Blocked Gpd ID", ZclDataType.LONG_OCTET_STRING, true, true, false, false));
-        attributeMap.put(ATTR_GPPFUNCTIONALITY, new ZclAttribute(this, ATTR_GPPFUNCTIONALITY, "Gpp Functionality", ZclDataType.BITMAP_24_BIT, true, true, false, false));
-        attributeMap.put(ATTR_GPPACTIVEFUNCTIONALITY, new ZclAttribute(this, ATTR_GPPACTIVEFUNCTIONALITY, "Gpp Active Functionality", ZclDataType.BITMAP_24_BIT, true, true, false, false));
-        attributeMap.put(ATTR_GPCLIENTSHAREDSECURITYKEYTYPE, new ZclAttribute(this, ATTR_GPCLIENTSHAREDSECURITYKEYTYPE, "Gp Client Shared Security Key Type", ZclDataType.BITMAP_8_BIT, false, true, true, true));
-        attributeMap.put(ATTR_GPCLIENTSHAREDSECURITYKEY, new ZclAttribute(this, ATTR_GPCLIENTSHAREDSECURITYKEY, "Gp Client Shared Security Key", ZclDataType.SECURITY_KEY, false, true, true, true));
-        attributeMap.put(ATTR_GPCLIENTLINKKEY, new ZclAttribute(this, ATTR_GPCLIENTLINKKEY, "Gp Client Link Key", ZclDataType.SECURITY_KEY, false, true, true, true));
-
-        return attributeMap;
+    protected Map<Integer, ZclAttributeDefinition> getClientAttributeDefinitions() {
+        return CLIENT_ATTRIBUTES;
     }
 
     @Override
-    protected Map<Integer, ZclAttribute> initializeServerAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
-
-        attributeMap.put(ATTR_GPSMAXSINKTABLEENTRIES, new ZclAttribute(this, ATTR_GPSMAXSINKTABLEENTRIES, "Gps Max Sink Table Entries", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_SINKTABLE, new ZclAttribute(this, ATTR_SINKTABLE, "Sink Table", ZclDataType.LONG_OCTET_STRING, true, true, false, false));
-        attributeMap.put(ATTR_GPSCOMMUNICATIONMODE, new ZclAttribute(this, ATTR_GPSCOMMUNICATIONMODE, "Gps Communication Mode", ZclDataType.BITMAP_8_BIT, false, true, true, true));
-        attributeMap.put(ATTR_GPSCOMMISSIONINGEXITMODE, new ZclAttribute(this, ATTR_GPSCOMMISSIONINGEXITMODE, "Gps Commissioning Exit Mode", ZclDataType.BITMAP_8_BIT, false, true, true, true));
-        attributeMap.put(ATTR_GPSCOMMISSIONINGWINDOW, new ZclAttribute(this, ATTR_GPSCOMMISSIONINGWINDOW, "Gps Commissioning Window", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, true, true));
-        attributeMap.put(ATTR_GPSSECURITYLEVEL, new ZclAttribute(this, ATTR_GPSSECURITYLEVEL, "Gps Security Level", ZclDataType.BITMAP_8_BIT, false, true, true, true));
-        attributeMap.put(ATTR_GPSFUNCTIONALITY, new ZclAttribute(this, ATTR_GPSFUNCTIONALITY, "Gps Functionality", ZclDataType.BITMAP_24_BIT, true, true, false, false));
-        attributeMap.put(ATTR_GPSACTIVEFUNCTIONALITY, new ZclAttribute(this, ATTR_GPSACTIVEFUNCTIONALITY, "Gps Active Functionality", ZclDataType.BITMAP_24_BIT, true, true, false, false));
-        attributeMap.put(ATTR_GPSERVERSHAREDSECURITYKEYTYPE, new ZclAttribute(this, ATTR_GPSERVERSHAREDSECURITYKEYTYPE, "Gp Server Shared Security Key Type", ZclDataType.BITMAP_8_BIT, false, true, true, true));
-        attributeMap.put(ATTR_GPSERVERSHAREDSECURITYKEY, new ZclAttribute(this, ATTR_GPSERVERSHAREDSECURITYKEY, "Gp server Shared Security Key", ZclDataType.SECURITY_KEY, false, true, true, true));
-        attributeMap.put(ATTR_GPSERVERLINKKEY, new ZclAttribute(this, ATTR_GPSERVERLINKKEY, "Gp Server Link Key", ZclDataType.SECURITY_KEY, false, true, true, true));
-
-        return attributeMap;
+    protected Map<Integer, ZclAttributeDefinition> getServerAttributeDefinitions() {
+        return SERVER_ATTRIBUTES;
     }
 
     @Override
@@ -175,7 +196,7 @@ public class ZclGreenPowerCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getGpsMaxSinkTableEntriesAsync() {
-        return read(serverAttributes.get(ATTR_GPSMAXSINKTABLEENTRIES));
+        return read(getServerAttribute(ATTR_GPSMAXSINKTABLEENTRIES));
     }
 
     /**
@@ -198,11 +219,11 @@ public class ZclGreenPowerCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getGpsMaxSinkTableEntries(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_GPSMAXSINKTABLEENTRIES).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_GPSMAXSINKTABLEENTRIES).getLastValue();
+        if (getServerAttribute(ATTR_GPSMAXSINKTABLEENTRIES).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_GPSMAXSINKTABLEENTRIES).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_GPSMAXSINKTABLEENTRIES));
+        return (Integer) readSync(getServerAttribute(ATTR_GPSMAXSINKTABLEENTRIES));
     }
 
     /**
@@ -220,7 +241,7 @@ public class ZclGreenPowerCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setGpsMaxSinkTableEntriesReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_GPSMAXSINKTABLEENTRIES), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_GPSMAXSINKTABLEENTRIES), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -235,7 +256,7 @@ public class ZclGreenPowerCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getSinkTableAsync() {
-        return read(serverAttributes.get(ATTR_SINKTABLE));
+        return read(getServerAttribute(ATTR_SINKTABLE));
     }
 
     /**
@@ -258,11 +279,11 @@ public class ZclGreenPowerCluster extends ZclCluster {
      */
     @Deprecated
     public ByteArray getSinkTable(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_SINKTABLE).isLastValueCurrent(refreshPeriod)) {
-            return (ByteArray) serverAttributes.get(ATTR_SINKTABLE).getLastValue();
+        if (getServerAttribute(ATTR_SINKTABLE).isLastValueCurrent(refreshPeriod)) {
+            return (ByteArray) getServerAttribute(ATTR_SINKTABLE).getLastValue();
         }
 
-        return (ByteArray) readSync(serverAttributes.get(ATTR_SINKTABLE));
+        return (ByteArray) readSync(getServerAttribute(ATTR_SINKTABLE));
     }
 
     /**
@@ -279,7 +300,7 @@ public class ZclGreenPowerCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setSinkTableReporting(final int minInterval, final int maxInterval) {
-        return setReporting(serverAttributes.get(ATTR_SINKTABLE), minInterval, maxInterval);
+        return setReporting(getServerAttribute(ATTR_SINKTABLE), minInterval, maxInterval);
     }
 
     /**
@@ -295,7 +316,7 @@ public class ZclGreenPowerCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setGpsCommunicationMode(final Integer value) {
-        return write(serverAttributes.get(ATTR_GPSCOMMUNICATIONMODE), value);
+        return write(getServerAttribute(ATTR_GPSCOMMUNICATIONMODE), value);
     }
 
     /**
@@ -310,7 +331,7 @@ public class ZclGreenPowerCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getGpsCommunicationModeAsync() {
-        return read(serverAttributes.get(ATTR_GPSCOMMUNICATIONMODE));
+        return read(getServerAttribute(ATTR_GPSCOMMUNICATIONMODE));
     }
 
     /**
@@ -333,11 +354,11 @@ public class ZclGreenPowerCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getGpsCommunicationMode(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_GPSCOMMUNICATIONMODE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_GPSCOMMUNICATIONMODE).getLastValue();
+        if (getServerAttribute(ATTR_GPSCOMMUNICATIONMODE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_GPSCOMMUNICATIONMODE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_GPSCOMMUNICATIONMODE));
+        return (Integer) readSync(getServerAttribute(ATTR_GPSCOMMUNICATIONMODE));
     }
 
     /**
@@ -353,7 +374,7 @@ public class ZclGreenPowerCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setGpsCommissioningExitMode(final Integer value) {
-        return write(serverAttributes.get(ATTR_GPSCOMMISSIONINGEXITMODE), value);
+        return write(getServerAttribute(ATTR_GPSCOMMISSIONINGEXITMODE), value);
     }
 
     /**
@@ -368,7 +389,7 @@ public class ZclGreenPowerCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getGpsCommissioningExitModeAsync() {
-        return read(serverAttributes.get(ATTR_GPSCOMMISSIONINGEXITMODE));
+        return read(getServerAttribute(ATTR_GPSCOMMISSIONINGEXITMODE));
     }
 
     /**
@@ -391,11 +412,11 @@ public class ZclGreenPowerCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getGpsCommissioningExitMode(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_GPSCOMMISSIONINGEXITMODE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_GPSCOMMISSIONINGEXITMODE).getLastValue();
+        if (getServerAttribute(ATTR_GPSCOMMISSIONINGEXITMODE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_GPSCOMMISSIONINGEXITMODE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_GPSCOMMISSIONINGEXITMODE));
+        return (Integer) readSync(getServerAttribute(ATTR_GPSCOMMISSIONINGEXITMODE));
     }
 
     /**
@@ -411,7 +432,7 @@ public class ZclGreenPowerCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setGpsCommissioningWindow(final Integer value) {
-        return write(serverAttributes.get(ATTR_GPSCOMMISSIONINGWINDOW), value);
+        return write(getServerAttribute(ATTR_GPSCOMMISSIONINGWINDOW), value);
     }
 
     /**
@@ -426,7 +447,7 @@ public class ZclGreenPowerCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getGpsCommissioningWindowAsync() {
-        return read(serverAttributes.get(ATTR_GPSCOMMISSIONINGWINDOW));
+        return read(getServerAttribute(ATTR_GPSCOMMISSIONINGWINDOW));
     }
 
     /**
@@ -449,11 +470,11 @@ public class ZclGreenPowerCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getGpsCommissioningWindow(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_GPSCOMMISSIONINGWINDOW).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_GPSCOMMISSIONINGWINDOW).getLastValue();
+        if (getServerAttribute(ATTR_GPSCOMMISSIONINGWINDOW).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_GPSCOMMISSIONINGWINDOW).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_GPSCOMMISSIONINGWINDOW));
+        return (Integer) readSync(getServerAttribute(ATTR_GPSCOMMISSIONINGWINDOW));
     }
 
     /**
@@ -469,7 +490,7 @@ public class ZclGreenPowerCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setGpsSecurityLevel(final Integer value) {
-        return write(serverAttributes.get(ATTR_GPSSECURITYLEVEL), value);
+        return write(getServerAttribute(ATTR_GPSSECURITYLEVEL), value);
     }
 
     /**
@@ -484,7 +505,7 @@ public class ZclGreenPowerCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getGpsSecurityLevelAsync() {
-        return read(serverAttributes.get(ATTR_GPSSECURITYLEVEL));
+        return read(getServerAttribute(ATTR_GPSSECURITYLEVEL));
     }
 
     /**
@@ -507,11 +528,11 @@ public class ZclGreenPowerCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getGpsSecurityLevel(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_GPSSECURITYLEVEL).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_GPSSECURITYLEVEL).getLastValue();
+        if (getServerAttribute(ATTR_GPSSECURITYLEVEL).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_GPSSECURITYLEVEL).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_GPSSECURITYLEVEL));
+        return (Integer) readSync(getServerAttribute(ATTR_GPSSECURITYLEVEL));
     }
 
     /**
@@ -526,7 +547,7 @@ public class ZclGreenPowerCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getGpsFunctionalityAsync() {
-        return read(serverAttributes.get(ATTR_GPSFUNCTIONALITY));
+        return read(getServerAttribute(ATTR_GPSFUNCTIONALITY));
     }
 
     /**
@@ -549,11 +570,11 @@ public class ZclGreenPowerCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getGpsFunctionality(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_GPSFUNCTIONALITY).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_GPSFUNCTIONALITY).getLastValue();
+        if (getServerAttribute(ATTR_GPSFUNCTIONALITY).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_GPSFUNCTIONALITY).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_GPSFUNCTIONALITY));
+        return (Integer) readSync(getServerAttribute(ATTR_GPSFUNCTIONALITY));
     }
 
     /**
@@ -570,7 +591,7 @@ public class ZclGreenPowerCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setGpsFunctionalityReporting(final int minInterval, final int maxInterval) {
-        return setReporting(serverAttributes.get(ATTR_GPSFUNCTIONALITY), minInterval, maxInterval);
+        return setReporting(getServerAttribute(ATTR_GPSFUNCTIONALITY), minInterval, maxInterval);
     }
 
     /**
@@ -585,7 +606,7 @@ public class ZclGreenPowerCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getGpsActiveFunctionalityAsync() {
-        return read(serverAttributes.get(ATTR_GPSACTIVEFUNCTIONALITY));
+        return read(getServerAttribute(ATTR_GPSACTIVEFUNCTIONALITY));
     }
 
     /**
@@ -608,11 +629,11 @@ public class ZclGreenPowerCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getGpsActiveFunctionality(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_GPSACTIVEFUNCTIONALITY).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_GPSACTIVEFUNCTIONALITY).getLastValue();
+        if (getServerAttribute(ATTR_GPSACTIVEFUNCTIONALITY).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_GPSACTIVEFUNCTIONALITY).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_GPSACTIVEFUNCTIONALITY));
+        return (Integer) readSync(getServerAttribute(ATTR_GPSACTIVEFUNCTIONALITY));
     }
 
     /**
@@ -629,7 +650,7 @@ public class ZclGreenPowerCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setGpsActiveFunctionalityReporting(final int minInterval, final int maxInterval) {
-        return setReporting(serverAttributes.get(ATTR_GPSACTIVEFUNCTIONALITY), minInterval, maxInterval);
+        return setReporting(getServerAttribute(ATTR_GPSACTIVEFUNCTIONALITY), minInterval, maxInterval);
     }
 
     /**
@@ -645,7 +666,7 @@ public class ZclGreenPowerCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setGpServerSharedSecurityKeyType(final Integer value) {
-        return write(serverAttributes.get(ATTR_GPSERVERSHAREDSECURITYKEYTYPE), value);
+        return write(getServerAttribute(ATTR_GPSERVERSHAREDSECURITYKEYTYPE), value);
     }
 
     /**
@@ -660,7 +681,7 @@ public class ZclGreenPowerCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getGpServerSharedSecurityKeyTypeAsync() {
-        return read(serverAttributes.get(ATTR_GPSERVERSHAREDSECURITYKEYTYPE));
+        return read(getServerAttribute(ATTR_GPSERVERSHAREDSECURITYKEYTYPE));
     }
 
     /**
@@ -683,11 +704,11 @@ public class ZclGreenPowerCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getGpServerSharedSecurityKeyType(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_GPSERVERSHAREDSECURITYKEYTYPE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_GPSERVERSHAREDSECURITYKEYTYPE).getLastValue();
+        if (getServerAttribute(ATTR_GPSERVERSHAREDSECURITYKEYTYPE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_GPSERVERSHAREDSECURITYKEYTYPE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_GPSERVERSHAREDSECURITYKEYTYPE));
+        return (Integer) readSync(getServerAttribute(ATTR_GPSERVERSHAREDSECURITYKEYTYPE));
     }
 
     /**
@@ -703,7 +724,7 @@ public class ZclGreenPowerCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setGpServerSharedSecurityKey(final ZigBeeKey value) {
-        return write(serverAttributes.get(ATTR_GPSERVERSHAREDSECURITYKEY), value);
+        return write(getServerAttribute(ATTR_GPSERVERSHAREDSECURITYKEY), value);
     }
 
     /**
@@ -718,7 +739,7 @@ public class ZclGreenPowerCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getGpServerSharedSecurityKeyAsync() {
-        return read(serverAttributes.get(ATTR_GPSERVERSHAREDSECURITYKEY));
+        return read(getServerAttribute(ATTR_GPSERVERSHAREDSECURITYKEY));
     }
 
     /**
@@ -741,11 +762,11 @@ public class ZclGreenPowerCluster extends ZclCluster {
      */
     @Deprecated
     public ZigBeeKey getGpServerSharedSecurityKey(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_GPSERVERSHAREDSECURITYKEY).isLastValueCurrent(refreshPeriod)) {
-            return (ZigBeeKey) serverAttributes.get(ATTR_GPSERVERSHAREDSECURITYKEY).getLastValue();
+        if (getServerAttribute(ATTR_GPSERVERSHAREDSECURITYKEY).isLastValueCurrent(refreshPeriod)) {
+            return (ZigBeeKey) getServerAttribute(ATTR_GPSERVERSHAREDSECURITYKEY).getLastValue();
         }
 
-        return (ZigBeeKey) readSync(serverAttributes.get(ATTR_GPSERVERSHAREDSECURITYKEY));
+        return (ZigBeeKey) readSync(getServerAttribute(ATTR_GPSERVERSHAREDSECURITYKEY));
     }
 
     /**
@@ -761,7 +782,7 @@ public class ZclGreenPowerCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setGpServerLinkKey(final ZigBeeKey value) {
-        return write(serverAttributes.get(ATTR_GPSERVERLINKKEY), value);
+        return write(getServerAttribute(ATTR_GPSERVERLINKKEY), value);
     }
 
     /**
@@ -776,7 +797,7 @@ public class ZclGreenPowerCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getGpServerLinkKeyAsync() {
-        return read(serverAttributes.get(ATTR_GPSERVERLINKKEY));
+        return read(getServerAttribute(ATTR_GPSERVERLINKKEY));
     }
 
     /**
@@ -799,11 +820,11 @@ public class ZclGreenPowerCluster extends ZclCluster {
      */
     @Deprecated
     public ZigBeeKey getGpServerLinkKey(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_GPSERVERLINKKEY).isLastValueCurrent(refreshPeriod)) {
-            return (ZigBeeKey) serverAttributes.get(ATTR_GPSERVERLINKKEY).getLastValue();
+        if (getServerAttribute(ATTR_GPSERVERLINKKEY).isLastValueCurrent(refreshPeriod)) {
+            return (ZigBeeKey) getServerAttribute(ATTR_GPSERVERLINKKEY).getLastValue();
         }
 
-        return (ZigBeeKey) readSync(serverAttributes.get(ATTR_GPSERVERLINKKEY));
+        return (ZigBeeKey) readSync(getServerAttribute(ATTR_GPSERVERLINKKEY));
     }
 
     /**
@@ -7,8 +7,10 @@
  */
 package com.zsmartsystems.zigbee.zcl.clusters;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.Future;
 
@@ -17,6 +19,7 @@ import javax.annotation.Generated;
 import com.zsmartsystems.zigbee.CommandResult;
 import com.zsmartsystems.zigbee.ZigBeeEndpoint;
 import com.zsmartsystems.zigbee.zcl.ZclAttribute;
+import com.zsmartsystems.zigbee.zcl.ZclAttributeDefinition;
 import com.zsmartsystems.zigbee.zcl.ZclCluster;
 import com.zsmartsystems.zigbee.zcl.ZclCommand;
 import com.zsmartsystems.zigbee.zcl.clusters.groups.AddGroupCommand;
@@ -61,7 +64,7 @@ import com.zsmartsystems.zigbee.zcl.protocol.ZclDataType;
  * <p>
  * Code is auto-generated. Modifications may be overwritten!
  */
-@Generated(value = "com.zsmartsystems.zigbee.autocode.ZigBeeCodeGenerator", date = "2019-10-04T18:21:10Z")
+@Generated(value = "com.zsmartsystems.zigbee.autocode.ZigBeeCodeGenerator", date = "2026-10-18T14:31:35Z")
 public class ZclGroupsCluster extends ZclCluster {
     /**
      * The ZigBee Cluster Library Cluster ID
@@ -81,20 +84,22 @@ public class ZclGroupsCluster extends ZclCluster {
      */
     public static final int ATTR_NAMESUPPORT = 0x0000;
 
-    @Override
-    protected Map<Integer, ZclAttribute> initializeClientAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
+    /**
+     * The server attribute definitions. These are shared by all instances of this cluster.
+     */
+    private static final Map<Integer, ZclAttributeDefinition> SERVER_ATTRIBUTES = initializeServerAttributeDefinitions();
 
-        return attributeMap;
-    }
+    private static Map<Integer, ZclAttributeDefinition> initializeServerAttributeDefinitions() {
+        Map<Integer, ZclAttributeDefinition> attributeMap = new TreeMap<>();
 
-    @Override
-    protected Map<Integer, ZclAttribute> initializeServerAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
+        attributeMap.put(ATTR_NAMESUPPORT, new ZclAttributeDefinition(ATTR_NAMESUPPORT, "Name Support", ZclDataType.BITMAP_8_BIT, true, true, false, false));
 
-        attributeMap.put(ATTR_NAMESUPPORT, new ZclAttribute(this, ATTR_NAMESUPPORT, "Name Support", ZclDataType.BITMAP_8_BIT, true, true, false, false));
+        return Collections.unmodifiableMap(attributeMap);
+    }
 
-        return attributeMap;
+    @Override
+    protected Map<Integer, ZclAttributeDefinition> getServerAttributeDefinitions() {
+        return SERVER_ATTRIBUTES;
     }
 
     @Override
@@ -148,7 +153,7 @@ public class ZclGroupsCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getNameSupportAsync() {
-        return read(serverAttributes.get(ATTR_NAMESUPPORT));
+        return read(getServerAttribute(ATTR_NAMESUPPORT));
     }
 
     /**
@@ -175,11 +180,11 @@ public class ZclGroupsCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getNameSupport(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_NAMESUPPORT).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_NAMESUPPORT).getLastValue();
+        if (getServerAttribute(ATTR_NAMESUPPORT).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_NAMESUPPORT).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_NAMESUPPORT));
+        return (Integer) readSync(getServerAttribute(ATTR_NAMESUPPORT));
     }
 
     /**
@@ -200,7 +205,7 @@ public class ZclGroupsCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setNameSupportReporting(final int minInterval, final int maxInterval) {
-        return setReporting(serverAttributes.get(ATTR_NAMESUPPORT), minInterval, maxInterval);
+        return setReporting(getServerAttribute(ATTR_NAMESUPPORT), minInterval, maxInterval);
     }
 
     /**
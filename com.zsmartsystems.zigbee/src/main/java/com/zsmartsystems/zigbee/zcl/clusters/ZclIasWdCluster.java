@@ -7,7 +7,9 @@
  */
 package com.zsmartsystems.zigbee.zcl.clusters;
 
+import java.util.Collections;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.Future;
 
@@ -16,6 +18,7 @@ import javax.annotation.Generated;
 import com.zsmartsystems.zigbee.CommandResult;
 import com.zsmartsystems.zigbee.ZigBeeEndpoint;
 import com.zsmartsystems.zigbee.zcl.ZclAttribute;
+import com.zsmartsystems.zigbee.zcl.ZclAttributeDefinition;
 import com.zsmartsystems.zigbee.zcl.ZclCluster;
 import com.zsmartsystems.zigbee.zcl.ZclCommand;
 import com.zsmartsystems.zigbee.zcl.clusters.iaswd.Squawk;
@@ -32,7 +35,7 @@ import com.zsmartsystems.zigbee.zcl.protocol.ZclDataType;
  * <p>
  * Code is auto-generated. Modifications may be overwritten!
  */
-@Generated(value = "com.zsmartsystems.zigbee.autocode.ZigBeeCodeGenerator", date = "2019-10-04T18:21:10Z")
+@Generated(value = "com.zsmartsystems.zigbee.autocode.ZigBeeCodeGenerator", date = "2026-10-18T14:31:35Z")
 public class ZclIasWdCluster extends ZclCluster {
     /**
      * The ZigBee Cluster Library Cluster ID
@@ -51,20 +54,22 @@ public class ZclIasWdCluster extends ZclCluster {
      */
     public static final int ATTR_MAXDURATION = 0x0000;
 
-    @Override
-    protected Map<Integer, ZclAttribute> initializeClientAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
+    /**
+     * The server attribute definitions. These are shared by all instances of this cluster.
+     */
+    private static final Map<Integer, ZclAttributeDefinition> SERVER_ATTRIBUTES = initializeServerAttributeDefinitions();
 
-        return attributeMap;
-    }
+    private static Map<Integer, ZclAttributeDefinition> initializeServerAttributeDefinitions() {
+        Map<Integer, ZclAttributeDefinition> attributeMap = new TreeMap<>();
 
-    @Override
-    protected Map<Integer, ZclAttribute> initializeServerAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
+        attributeMap.put(ATTR_MAXDURATION, new ZclAttributeDefinition(ATTR_MAXDURATION, "Max Duration", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, true, false));
 
-        attributeMap.put(ATTR_MAXDURATION, new ZclAttribute(this, ATTR_MAXDURATION, "Max Duration", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, true, false));
+        return Collections.unmodifiableMap(attributeMap);
+    }
 
-        return attributeMap;
+    @Override
+    protected Map<Integer, ZclAttributeDefinition> getServerAttributeDefinitions() {
+        return SERVER_ATTRIBUTES;
     }
 
     @Override
@@ -102,7 +107,7 @@ public class ZclIasWdCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setMaxDuration(final Integer value) {
-        return write(serverAttributes.get(ATTR_MAXDURATION), value);
+        return write(getServerAttribute(ATTR_MAXDURATION), value);
     }
 
     /**
@@ -120,7 +125,7 @@ public class ZclIasWdCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getMaxDurationAsync() {
-        return read(serverAttributes.get(ATTR_MAXDURATION));
+        return read(getServerAttribute(ATTR_MAXDURATION));
     }
 
     /**
@@ -146,11 +151,11 @@ public class ZclIasWdCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getMaxDuration(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_MAXDURATION).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_MAXDURATION).getLastValue();
+        if (getServerAttribute(ATTR_MAXDURATION).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_MAXDURATION).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_MAXDURATION));
+        return (Integer) readSync(getServerAttribute(ATTR_MAXDURATION));
     }
 
     /**
@@ -171,7 +176,7 @@ public class ZclIasWdCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setMaxDurationReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_MAXDURATION), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_MAXDURATION), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -7,7 +7,9 @@
  */
 package com.zsmartsystems.zigbee.zcl.clusters;
 
+import java.util.Collections;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.Future;
 
@@ -17,6 +19,7 @@ import com.zsmartsystems.zigbee.CommandResult;
 import com.zsmartsystems.zigbee.IeeeAddress;
 import com.zsmartsystems.zigbee.ZigBeeEndpoint;
 import com.zsmartsystems.zigbee.zcl.ZclAttribute;
+import com.zsmartsystems.zigbee.zcl.ZclAttributeDefinition;
 import com.zsmartsystems.zigbee.zcl.ZclCluster;
 import com.zsmartsystems.zigbee.zcl.ZclCommand;
 import com.zsmartsystems.zigbee.zcl.clusters.iaszone.InitiateNormalOperationModeCommand;
@@ -35,7 +38,7 @@ import com.zsmartsystems.zigbee.zcl.protocol.ZclDataType;
  * <p>
  * Code is auto-generated. Modifications may be overwritten!
  */
-@Generated(value = "com.zsmartsystems.zigbee.autocode.ZigBeeCodeGenerator", date = "2019-10-04T18:21:10Z")
+@Generated(value = "com.zsmartsystems.zigbee.autocode.ZigBeeCodeGenerator", date = "2026-10-18T14:31:35Z")
 public class ZclIasZoneCluster extends ZclCluster {
     /**
      * The ZigBee Cluster Library Cluster ID
@@ -110,26 +113,28 @@ public class ZclIasZoneCluster extends ZclCluster {
      */
     public static final int ATTR_CURRENTZONESENSITIVITYLEVEL = 0x0013;
 
-    @Override
-    protected Map<Integer, ZclAttribute> initializeClientAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
+    /**
+     * The server attribute definitions. These are shared by all instances of this cluster.
+     */
+    private static final Map<Integer, ZclAttributeDefinition> SERVER_ATTRIBUTES = initializeServerAttributeDefinitions();
 
-        return attributeMap;
-    }
+    private static Map<Integer, ZclAttributeDefinition> initializeServerAttributeDefinitions() {
+        Map<Integer, ZclAttributeDefinition> attributeMap = new TreeMap<>();
 
-    @Override
-    protected Map<Integer, ZclAttribute> initializeServerAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
+        attributeMap.put(ATTR_ZONESTATE, new ZclAttributeDefinition(ATTR_ZONESTATE, "Zone State", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
+        attributeMap.put(ATTR_ZONETYPE, new ZclAttributeDefinition(ATTR_ZONETYPE, "Zone Type", ZclDataType.ENUMERATION_16_BIT, true, true, false, false));
+        attributeMap.put(ATTR_ZONESTATUS, new ZclAttributeDefinition(ATTR_ZONESTATUS, "Zone Status", ZclDataType.BITMAP_16_BIT, true, true, false, false));
+        attributeMap.put(ATTR_IASCIEADDRESS, new ZclAttributeDefinition(ATTR_IASCIEADDRESS, "IAS CIE Address", ZclDataType.IEEE_ADDRESS, true, true, true, false));
+        attributeMap.put(ATTR_ZONEID, new ZclAttributeDefinition(ATTR_ZONEID, "Zone ID", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, true, false));
+        attributeMap.put(ATTR_NUMBEROFZONESENSITIVITYLEVELSSUPPORTED, new ZclAttributeDefinition(ATTR_NUMBEROFZONESENSITIVITYLEVELSSUPPORTED, "Number Of Zone Sensitivity Levels Supported", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_CURRENTZONESENSITIVITYLEVEL, new ZclAttributeDefinition(ATTR_CURRENTZONESENSITIVITYLEVEL, "Current Zone Sensitivity Level", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, false));
 
-        attributeMap.put(ATTR_ZONESTATE, new ZclAttribute(this, ATTR_ZONESTATE, "Zone State", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_ZONETYPE, new ZclAttribute(this, ATTR_ZONETYPE, "Zone Type", ZclDataType.ENUMERATION_16_BIT, true, true, false, false));
-        attributeMap.put(ATTR_ZONESTATUS, new ZclAttribute(this, ATTR_ZONESTATUS, "Zone Status", ZclDataType.BITMAP_16_BIT, true, true, false, false));
-        attributeMap.put(ATTR_IASCIEADDRESS, new ZclAttribute(this, ATTR_IASCIEADDRESS, "IAS CIE Address", ZclDataType.IEEE_ADDRESS, true, true, true, false));
-        attributeMap.put(ATTR_ZONEID, new ZclAttribute(this, ATTR_ZONEID, "Zone ID", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, true, false));
-        attributeMap.put(ATTR_NUMBEROFZONESENSITIVITYLEVELSSUPPORTED, new ZclAttribute(this, ATTR_NUMBEROFZONESENSITIVITYLEVELSSUPPORTED, "Number Of Zone Sensitivity Levels Supported", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_CURRENTZONESENSITIVITYLEVEL, new ZclAttribute(this, ATTR_CURRENTZONESENSITIVITYLEVEL, "Current Zone Sensitivity Level", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, false));
+        return Collections.unmodifiableMap(attributeMap);
+    }
 
-        return attributeMap;
+    @Override
+    protected Map<Integer, ZclAttributeDefinition> getServerAttributeDefinitions() {
+        return SERVER_ATTRIBUTES;
     }
 
     @Override
@@ -176,7 +181,7 @@ public class ZclIasZoneCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getZoneStateAsync() {
-        return read(serverAttributes.get(ATTR_ZONESTATE));
+        return read(getServerAttribute(ATTR_ZONESTATE));
     }
 
     /**
@@ -201,11 +206,11 @@ public class ZclIasZoneCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getZoneState(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_ZONESTATE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_ZONESTATE).getLastValue();
+        if (getServerAttribute(ATTR_ZONESTATE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_ZONESTATE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_ZONESTATE));
+        return (Integer) readSync(getServerAttribute(ATTR_ZONESTATE));
     }
 
     /**
@@ -224,7 +229,7 @@ public class ZclIasZoneCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setZoneStateReporting(final int minInterval, final int maxInterval) {
-        return setReporting(serverAttributes.get(ATTR_ZONESTATE), minInterval, maxInterval);
+        return setReporting(getServerAttribute(ATTR_ZONESTATE), minInterval, maxInterval);
     }
 
     /**
@@ -241,7 +246,7 @@ public class ZclIasZoneCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getZoneTypeAsync() {
-        return read(serverAttributes.get(ATTR_ZONETYPE));
+        return read(getServerAttribute(ATTR_ZONETYPE));
     }
 
     /**
@@ -266,11 +271,11 @@ public class ZclIasZoneCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getZoneType(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_ZONETYPE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_ZONETYPE).getLastValue();
+        if (getServerAttribute(ATTR_ZONETYPE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_ZONETYPE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_ZONETYPE));
+        return (Integer) readSync(getServerAttribute(ATTR_ZONETYPE));
     }
 
     /**
@@ -289,7 +294,7 @@ public class ZclIasZoneCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setZoneTypeReporting(final int minInterval, final int maxInterval) {
-        return setReporting(serverAttributes.get(ATTR_ZONETYPE), minInterval, maxInterval);
+        return setReporting(getServerAttribute(ATTR_ZONETYPE), minInterval, maxInterval);
     }
 
     /**
@@ -306,7 +311,7 @@ public class ZclIasZoneCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getZoneStatusAsync() {
-        return read(serverAttributes.get(ATTR_ZONESTATUS));
+        return read(getServerAttribute(ATTR_ZONESTATUS));
     }
 
     /**
@@ -331,11 +336,11 @@ public class ZclIasZoneCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getZoneStatus(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_ZONESTATUS).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_ZONESTATUS).getLastValue();
+        if (getServerAttribute(ATTR_ZONESTATUS).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_ZONESTATUS).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_ZONESTATUS));
+        return (Integer) readSync(getServerAttribute(ATTR_ZONESTATUS));
     }
 
     /**
@@ -354,7 +359,7 @@ public class ZclIasZoneCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setZoneStatusReporting(final int minInterval, final int maxInterval) {
-        return setReporting(serverAttributes.get(ATTR_ZONESTATUS), minInterval, maxInterval);
+        return setReporting(getServerAttribute(ATTR_ZONESTATUS), minInterval, maxInterval);
     }
 
     /**
@@ -380,7 +385,7 @@ public class ZclIasZoneCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setIasCieAddress(final IeeeAddress value) {
-        return write(serverAttributes.get(ATTR_IASCIEADDRESS), value);
+        return write(getServerAttribute(ATTR_IASCIEADDRESS), value);
     }
 
     /**
@@ -405,7 +410,7 @@ public class ZclIasZoneCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getIasCieAddressAsync() {
-        return read(serverAttributes.get(ATTR_IASCIEADDRESS));
+        return read(getServerAttribute(ATTR_IASCIEADDRESS));
     }
 
     /**
@@ -438,11 +443,11 @@ public class ZclIasZoneCluster extends ZclCluster {
      */
     @Deprecated
     public IeeeAddress getIasCieAddress(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_IASCIEADDRESS).isLastValueCurrent(refreshPeriod)) {
-            return (IeeeAddress) serverAttributes.get(ATTR_IASCIEADDRESS).getLastValue();
+        if (getServerAttribute(ATTR_IASCIEADDRESS).isLastValueCurrent(refreshPeriod)) {
+            return (IeeeAddress) getServerAttribute(ATTR_IASCIEADDRESS).getLastValue();
         }
 
-        return (IeeeAddress) readSync(serverAttributes.get(ATTR_IASCIEADDRESS));
+        return (IeeeAddress) readSync(getServerAttribute(ATTR_IASCIEADDRESS));
     }
 
     /**
@@ -469,7 +474,7 @@ public class ZclIasZoneCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setIasCieAddressReporting(final int minInterval, final int maxInterval) {
-        return setReporting(serverAttributes.get(ATTR_IASCIEADDRESS), minInterval, maxInterval);
+        return setReporting(getServerAttribute(ATTR_IASCIEADDRESS), minInterval, maxInterval);
     }
 
     /**
@@ -490,7 +495,7 @@ public class ZclIasZoneCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setZoneId(final Integer value) {
-        return write(serverAttributes.get(ATTR_ZONEID), value);
+        return write(getServerAttribute(ATTR_ZONEID), value);
     }
 
     /**
@@ -510,7 +515,7 @@ public class ZclIasZoneCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getZoneIdAsync() {
-        return read(serverAttributes.get(ATTR_ZONEID));
+        return read(getServerAttribute(ATTR_ZONEID));
     }
 
     /**
@@ -538,11 +543,11 @@ public class ZclIasZoneCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getZoneId(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_ZONEID).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_ZONEID).getLastValue();
+        if (getServerAttribute(ATTR_ZONEID).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_ZONEID).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_ZONEID));
+        return (Integer) readSync(getServerAttribute(ATTR_ZONEID));
     }
 
     /**
@@ -565,7 +570,7 @@ public class ZclIasZoneCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setZoneIdReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_ZONEID), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_ZONEID), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -596,7 +601,7 @@ public class ZclIasZoneCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getNumberOfZoneSensitivityLevelsSupportedAsync() {
-        return read(serverAttributes.get(ATTR_NUMBEROFZONESENSITIVITYLEVELSSUPPORTED));
+        return read(getServerAttribute(ATTR_NUMBEROFZONESENSITIVITYLEVELSSUPPORTED));
     }
 
     /**
@@ -635,11 +640,11 @@ public class ZclIasZoneCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getNumberOfZoneSensitivityLevelsSupported(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_NUMBEROFZONESENSITIVITYLEVELSSUPPORTED).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_NUMBEROFZONESENSITIVITYLEVELSSUPPORTED).getLastValue();
+        if (getServerAttribute(ATTR_NUMBEROFZONESENSITIVITYLEVELSSUPPORTED).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_NUMBEROFZONESENSITIVITYLEVELSSUPPORTED).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_NUMBEROFZONESENSITIVITYLEVELSSUPPORTED));
+        return (Integer) readSync(getServerAttribute(ATTR_NUMBEROFZONESENSITIVITYLEVELSSUPPORTED));
     }
 
     /**
@@ -665,7 +670,7 @@ public class ZclIasZoneCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setCurrentZoneSensitivityLevel(final Integer value) {
-        return write(serverAttributes.get(ATTR_CURRENTZONESENSITIVITYLEVEL), value);
+        return write(getServerAttribute(ATTR_CURRENTZONESENSITIVITYLEVEL), value);
     }
 
     /**
@@ -690,7 +695,7 @@ public class ZclIasZoneCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCurrentZoneSensitivityLevelAsync() {
-        return read(serverAttributes.get(ATTR_CURRENTZONESENSITIVITYLEVEL));
+        return read(getServerAttribute(ATTR_CURRENTZONESENSITIVITYLEVEL));
     }
 
     /**
@@ -723,11 +728,11 @@ public class ZclIasZoneCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCurrentZoneSensitivityLevel(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CURRENTZONESENSITIVITYLEVEL).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CURRENTZONESENSITIVITYLEVEL).getLastValue();
+        if (getServerAttribute(ATTR_CURRENTZONESENSITIVITYLEVEL).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CURRENTZONESENSITIVITYLEVEL).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CURRENTZONESENSITIVITYLEVEL));
+        return (Integer) readSync(getServerAttribute(ATTR_CURRENTZONESENSITIVITYLEVEL));
     }
 
     /**
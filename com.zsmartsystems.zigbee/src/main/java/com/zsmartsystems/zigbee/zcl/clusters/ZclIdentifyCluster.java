@@ -7,7 +7,9 @@
  */
 package com.zsmartsystems.zigbee.zcl.clusters;
 
+import java.util.Collections;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.Future;
 
@@ -16,6 +18,7 @@ import javax.annotation.Generated;
 import com.zsmartsystems.zigbee.CommandResult;
 import com.zsmartsystems.zigbee.ZigBeeEndpoint;
 import com.zsmartsystems.zigbee.zcl.ZclAttribute;
+import com.zsmartsystems.zigbee.zcl.ZclAttributeDefinition;
 import com.zsmartsystems.zigbee.zcl.ZclCluster;
 import com.zsmartsystems.zigbee.zcl.ZclCommand;
 import com.zsmartsystems.zigbee.zcl.clusters.identify.IdentifyCommand;
@@ -35,7 +38,7 @@ import com.zsmartsystems.zigbee.zcl.protocol.ZclDataType;
  * <p>
  * Code is auto-generated. Modifications may be overwritten!
  */
-@Generated(value = "com.zsmartsystems.zigbee.autocode.ZigBeeCodeGenerator", date = "2019-10-04T18:21:10Z")
+@Generated(value = "com.zsmartsystems.zigbee.autocode.ZigBeeCodeGenerator", date = "2026-10-18T14:31:35Z")
 public class ZclIdentifyCluster extends ZclCluster {
     /**
      * The ZigBee Cluster Library Cluster ID
@@ -62,20 +65,22 @@ public class ZclIdentifyCluster extends ZclCluster {
      */
     public static final int ATTR_IDENTIFYTIME = 0x0000;
 
-    @Override
-    protected Map<Integer, ZclAttribute> initializeClientAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
+    /**
+     * The server attribute definitions. These are shared by all instances of this cluster.
+     */
+    private static final Map<Integer, ZclAttributeDefinition> SERVER_ATTRIBUTES = initializeServerAttributeDefinitions();
 
-        return attributeMap;
-    }
+    private static Map<Integer, ZclAttributeDefinition> initializeServerAttributeDefinitions() {
+        Map<Integer, ZclAttributeDefinition> attributeMap = new TreeMap<>();
 
-    @Override
-    protected Map<Integer, ZclAttribute> initializeServerAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
+        attributeMap.put(ATTR_IDENTIFYTIME, new ZclAttributeDefinition(ATTR_IDENTIFYTIME, "Identify Time", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, true, false));
 
-        attributeMap.put(ATTR_IDENTIFYTIME, new ZclAttribute(this, ATTR_IDENTIFYTIME, "Identify Time", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, true, false));
+        return Collections.unmodifiableMap(attributeMap);
+    }
 
-        return attributeMap;
+    @Override
+    protected Map<Integer, ZclAttributeDefinition> getServerAttributeDefinitions() {
+        return SERVER_ATTRIBUTES;
     }
 
     @Override
@@ -130,7 +135,7 @@ public class ZclIdentifyCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setIdentifyTime(final Integer value) {
-        return write(serverAttributes.get(ATTR_IDENTIFYTIME), value);
+        return write(getServerAttribute(ATTR_IDENTIFYTIME), value);
     }
 
     /**
@@ -156,7 +161,7 @@ public class ZclIdentifyCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getIdentifyTimeAsync() {
-        return read(serverAttributes.get(ATTR_IDENTIFYTIME));
+        return read(getServerAttribute(ATTR_IDENTIFYTIME));
     }
 
     /**
@@ -190,11 +195,11 @@ public class ZclIdentifyCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getIdentifyTime(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_IDENTIFYTIME).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_IDENTIFYTIME).getLastValue();
+        if (getServerAttribute(ATTR_IDENTIFYTIME).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_IDENTIFYTIME).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_IDENTIFYTIME));
+        return (Integer) readSync(getServerAttribute(ATTR_IDENTIFYTIME));
     }
 
     /**
@@ -223,7 +228,7 @@ public class ZclIdentifyCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setIdentifyTimeReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_IDENTIFYTIME), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_IDENTIFYTIME), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -7,8 +7,9 @@
  */
 package com.zsmartsystems.zigbee.zcl.clusters;
 
+import java.util.Collections;
 import java.util.Map;
-import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.TreeMap;
 import java.util.concurrent.Future;
 
 import javax.annotation.Generated;
@@ -16,6 +17,7 @@ import javax.annotation.Generated;
 import com.zsmartsystems.zigbee.CommandResult;
 import com.zsmartsystems.zigbee.ZigBeeEndpoint;
 import com.zsmartsystems.zigbee.zcl.ZclAttribute;
+import com.zsmartsystems.zigbee.zcl.ZclAttributeDefinition;
 import com.zsmartsystems.zigbee.zcl.ZclCluster;
 import com.zsmartsystems.zigbee.zcl.protocol.ZclDataType;
 
@@ -28,7 +30,7 @@ import com.zsmartsystems.zigbee.zcl.protocol.ZclDataType;
  * <p>
  * Code is auto-generated. Modifications may be overwritten!
  */
-@Generated(value = "com.zsmartsystems.zigbee.autocode.ZigBeeCodeGenerator", date = "2019-10-04T18:21:10Z")
+@Generated(value = "com.zsmartsystems.zigbee.autocode.ZigBeeCodeGenerator", date = "2026-10-18T14:31:35Z")
 public class ZclIlluminanceLevelSensingCluster extends ZclCluster {
     /**
      * The ZigBee Cluster Library Cluster ID
@@ -69,22 +71,24 @@ public class ZclIlluminanceLevelSensingCluster extends ZclCluster {
      */
     public static final int ATTR_ILLUMINANCETARGETLEVEL = 0x0010;
 
-    @Override
-    protected Map<Integer, ZclAttribute> initializeClientAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
+    /**
+     * The server attribute definitions. These are shared by all instances of this cluster.
+     */
+    private static final Map<Integer, ZclAttributeDefinition> SERVER_ATTRIBUTES = initializeServerAttributeDefinitions();
 
-        return attributeMap;
-    }
+    private static Map<Integer, ZclAttributeDefinition> initializeServerAttributeDefinitions() {
+        Map<Integer, ZclAttributeDefinition> attributeMap = new TreeMap<>();
 
-    @Override
-    protected Map<Integer, ZclAttribute> initializeServerAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
+        attributeMap.put(ATTR_LEVELSTATUS, new ZclAttributeDefinition(ATTR_LEVELSTATUS, "Level Status", ZclDataType.ENUMERATION_8_BIT, true, true, false, true));
+        attributeMap.put(ATTR_LIGHTSENSORTYPE, new ZclAttributeDefinition(ATTR_LIGHTSENSORTYPE, "Light Sensor Type", ZclDataType.ENUMERATION_8_BIT, false, true, false, false));
+        attributeMap.put(ATTR_ILLUMINANCETARGETLEVEL, new ZclAttributeDefinition(ATTR_ILLUMINANCETARGETLEVEL, "Illuminance Target Level", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
 
-        attributeMap.put(ATTR_LEVELSTATUS, new ZclAttribute(this, ATTR_LEVELSTATUS, "Level Status", ZclDataType.ENUMERATION_8_BIT, true, true, false, true));
-        attributeMap.put(ATTR_LIGHTSENSORTYPE, new ZclAttribute(this, ATTR_LIGHTSENSORTYPE, "Light Sensor Type", ZclDataType.ENUMERATION_8_BIT, false, true, false, false));
-        attributeMap.put(ATTR_ILLUMINANCETARGETLEVEL, new ZclAttribute(this, ATTR_ILLUMINANCETARGETLEVEL, "Illuminance Target Level", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
+        return Collections.unmodifiableMap(attributeMap);
+    }
 
-        return attributeMap;
+    @Override
+    protected Map<Integer, ZclAttributeDefinition> getServerAttributeDefinitions() {
+        return SERVER_ATTRIBUTES;
     }
 
     /**
@@ -111,7 +115,7 @@ public class ZclIlluminanceLevelSensingCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getLevelStatusAsync() {
-        return read(serverAttributes.get(ATTR_LEVELSTATUS));
+        return read(getServerAttribute(ATTR_LEVELSTATUS));
     }
 
     /**
@@ -137,11 +141,11 @@ public class ZclIlluminanceLevelSensingCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getLevelStatus(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_LEVELSTATUS).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_LEVELSTATUS).getLastValue();
+        if (getServerAttribute(ATTR_LEVELSTATUS).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_LEVELSTATUS).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_LEVELSTATUS));
+        return (Integer) readSync(getServerAttribute(ATTR_LEVELSTATUS));
     }
 
     /**
@@ -161,7 +165,7 @@ public class ZclIlluminanceLevelSensingCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setLevelStatusReporting(final int minInterval, final int maxInterval) {
-        return setReporting(serverAttributes.get(ATTR_LEVELSTATUS), minInterval, maxInterval);
+        return setReporting(getServerAttribute(ATTR_LEVELSTATUS), minInterval, maxInterval);
     }
 
     /**
@@ -178,7 +182,7 @@ public class ZclIlluminanceLevelSensingCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getLightSensorTypeAsync() {
-        return read(serverAttributes.get(ATTR_LIGHTSENSORTYPE));
+        return read(getServerAttribute(ATTR_LIGHTSENSORTYPE));
     }
 
     /**
@@ -203,11 +207,11 @@ public class ZclIlluminanceLevelSensingCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getLightSensorType(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_LIGHTSENSORTYPE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_LIGHTSENSORTYPE).getLastValue();
+        if (getServerAttribute(ATTR_LIGHTSENSORTYPE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_LIGHTSENSORTYPE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_LIGHTSENSORTYPE));
+        return (Integer) readSync(getServerAttribute(ATTR_LIGHTSENSORTYPE));
     }
 
     /**
@@ -238,7 +242,7 @@ public class ZclIlluminanceLevelSensingCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getIlluminanceTargetLevelAsync() {
-        return read(serverAttributes.get(ATTR_ILLUMINANCETARGETLEVEL));
+        return read(getServerAttribute(ATTR_ILLUMINANCETARGETLEVEL));
     }
 
     /**
@@ -277,10 +281,10 @@ public class ZclIlluminanceLevelSensingCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getIlluminanceTargetLevel(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_ILLUMINANCETARGETLEVEL).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_ILLUMINANCETARGETLEVEL).getLastValue();
+        if (getServerAttribute(ATTR_ILLUMINANCETARGETLEVEL).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_ILLUMINANCETARGETLEVEL).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_ILLUMINANCETARGETLEVEL));
+        return (Integer) readSync(getServerAttribute(ATTR_ILLUMINANCETARGETLEVEL));
     }
 }
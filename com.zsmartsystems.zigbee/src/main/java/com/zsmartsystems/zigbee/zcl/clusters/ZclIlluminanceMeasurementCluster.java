@@ -7,8 +7,9 @@
  */
 package com.zsmartsystems.zigbee.zcl.clusters;
 
+import java.util.Collections;
 import java.util.Map;
-import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.TreeMap;
 import java.util.concurrent.Future;
 
 import javax.annotation.Generated;
@@ -16,6 +17,7 @@ import javax.annotation.Generated;
 import com.zsmartsystems.zigbee.CommandResult;
 import com.zsmartsystems.zigbee.ZigBeeEndpoint;
 import com.zsmartsystems.zigbee.zcl.ZclAttribute;
+import com.zsmartsystems.zigbee.zcl.ZclAttributeDefinition;
 import com.zsmartsystems.zigbee.zcl.ZclCluster;
 import com.zsmartsystems.zigbee.zcl.protocol.ZclDataType;
 
@@ -27,7 +29,7 @@ import com.zsmartsystems.zigbee.zcl.protocol.ZclDataType;
  * <p>
  * Code is auto-generated. Modifications may be overwritten!
  */
-@Generated(value = "com.zsmartsystems.zigbee.autocode.ZigBeeCodeGenerator", date = "2019-10-04T18:21:10Z")
+@Generated(value = "com.zsmartsystems.zigbee.autocode.ZigBeeCodeGenerator", date = "2026-10-18T14:31:35Z")
 public class ZclIlluminanceMeasurementCluster extends ZclCluster {
     /**
      * The ZigBee Cluster Library Cluster ID
@@ -78,24 +80,26 @@ public class ZclIlluminanceMeasurementCluster extends ZclCluster {
      */
     public static final int ATTR_LIGHTSENSORTYPE = 0x0004;
 
-    @Override
-    protected Map<Integer, ZclAttribute> initializeClientAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
+    /**
+     * The server attribute definitions. These are shared by all instances of this cluster.
+     */
+    private static final Map<Integer, ZclAttributeDefinition> SERVER_ATTRIBUTES = initializeServerAttributeDefinitions();
 
-        return attributeMap;
-    }
+    private static Map<Integer, ZclAttributeDefinition> initializeServerAttributeDefinitions() {
+        Map<Integer, ZclAttributeDefinition> attributeMap = new TreeMap<>();
 
-    @Override
-    protected Map<Integer, ZclAttribute> initializeServerAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
+        attributeMap.put(ATTR_MEASUREDVALUE, new ZclAttributeDefinition(ATTR_MEASUREDVALUE, "Measured Value", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, true));
+        attributeMap.put(ATTR_MINMEASUREDVALUE, new ZclAttributeDefinition(ATTR_MINMEASUREDVALUE, "Min Measured Value", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_MAXMEASUREDVALUE, new ZclAttributeDefinition(ATTR_MAXMEASUREDVALUE, "Max Measured Value", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_TOLERANCE, new ZclAttributeDefinition(ATTR_TOLERANCE, "Tolerance", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, true));
+        attributeMap.put(ATTR_LIGHTSENSORTYPE, new ZclAttributeDefinition(ATTR_LIGHTSENSORTYPE, "Light Sensor Type", ZclDataType.ENUMERATION_8_BIT, false, true, false, false));
 
-        attributeMap.put(ATTR_MEASUREDVALUE, new ZclAttribute(this, ATTR_MEASUREDVALUE, "Measured Value", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, true));
-        attributeMap.put(ATTR_MINMEASUREDVALUE, new ZclAttribute(this, ATTR_MINMEASUREDVALUE, "Min Measured Value", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_MAXMEASUREDVALUE, new ZclAttribute(this, ATTR_MAXMEASUREDVALUE, "Max Measured Value", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_TOLERANCE, new ZclAttribute(this, ATTR_TOLERANCE, "Tolerance", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, true));
-        attributeMap.put(ATTR_LIGHTSENSORTYPE, new ZclAttribute(this, ATTR_LIGHTSENSORTYPE, "Light Sensor Type", ZclDataType.ENUMERATION_8_BIT, false, true, false, false));
+        return Collections.unmodifiableMap(attributeMap);
+    }
 
-        return attributeMap;
+    @Override
+    protected Map<Integer, ZclAttributeDefinition> getServerAttributeDefinitions() {
+        return SERVER_ATTRIBUTES;
     }
 
     /**
@@ -130,7 +134,7 @@ public class ZclIlluminanceMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getMeasuredValueAsync() {
-        return read(serverAttributes.get(ATTR_MEASUREDVALUE));
+        return read(getServerAttribute(ATTR_MEASUREDVALUE));
     }
 
     /**
@@ -164,11 +168,11 @@ public class ZclIlluminanceMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getMeasuredValue(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_MEASUREDVALUE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_MEASUREDVALUE).getLastValue();
+        if (getServerAttribute(ATTR_MEASUREDVALUE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_MEASUREDVALUE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_MEASUREDVALUE));
+        return (Integer) readSync(getServerAttribute(ATTR_MEASUREDVALUE));
     }
 
     /**
@@ -197,7 +201,7 @@ public class ZclIlluminanceMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setMeasuredValueReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_MEASUREDVALUE), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_MEASUREDVALUE), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -215,7 +219,7 @@ public class ZclIlluminanceMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getMinMeasuredValueAsync() {
-        return read(serverAttributes.get(ATTR_MINMEASUREDVALUE));
+        return read(getServerAttribute(ATTR_MINMEASUREDVALUE));
     }
 
     /**
@@ -241,11 +245,11 @@ public class ZclIlluminanceMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getMinMeasuredValue(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_MINMEASUREDVALUE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_MINMEASUREDVALUE).getLastValue();
+        if (getServerAttribute(ATTR_MINMEASUREDVALUE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_MINMEASUREDVALUE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_MINMEASUREDVALUE));
+        return (Integer) readSync(getServerAttribute(ATTR_MINMEASUREDVALUE));
     }
 
     /**
@@ -266,7 +270,7 @@ public class ZclIlluminanceMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setMinMeasuredValueReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_MINMEASUREDVALUE), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_MINMEASUREDVALUE), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -288,7 +292,7 @@ public class ZclIlluminanceMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getMaxMeasuredValueAsync() {
-        return read(serverAttributes.get(ATTR_MAXMEASUREDVALUE));
+        return read(getServerAttribute(ATTR_MAXMEASUREDVALUE));
     }
 
     /**
@@ -318,11 +322,11 @@ public class ZclIlluminanceMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getMaxMeasuredValue(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_MAXMEASUREDVALUE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_MAXMEASUREDVALUE).getLastValue();
+        if (getServerAttribute(ATTR_MAXMEASUREDVALUE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_MAXMEASUREDVALUE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_MAXMEASUREDVALUE));
+        return (Integer) readSync(getServerAttribute(ATTR_MAXMEASUREDVALUE));
     }
 
     /**
@@ -347,7 +351,7 @@ public class ZclIlluminanceMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setMaxMeasuredValueReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_MAXMEASUREDVALUE), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_MAXMEASUREDVALUE), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -366,7 +370,7 @@ public class ZclIlluminanceMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getToleranceAsync() {
-        return read(serverAttributes.get(ATTR_TOLERANCE));
+        return read(getServerAttribute(ATTR_TOLERANCE));
     }
 
     /**
@@ -393,11 +397,11 @@ public class ZclIlluminanceMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getTolerance(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_TOLERANCE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_TOLERANCE).getLastValue();
+        if (getServerAttribute(ATTR_TOLERANCE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_TOLERANCE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_TOLERANCE));
+        return (Integer) readSync(getServerAttribute(ATTR_TOLERANCE));
     }
 
     /**
@@ -414,7 +418,7 @@ public class ZclIlluminanceMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getLightSensorTypeAsync() {
-        return read(serverAttributes.get(ATTR_LIGHTSENSORTYPE));
+        return read(getServerAttribute(ATTR_LIGHTSENSORTYPE));
     }
 
     /**
@@ -439,10 +443,10 @@ public class ZclIlluminanceMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getLightSensorType(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_LIGHTSENSORTYPE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_LIGHTSENSORTYPE).getLastValue();
+        if (getServerAttribute(ATTR_LIGHTSENSORTYPE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_LIGHTSENSORTYPE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_LIGHTSENSORTYPE));
+        return (Integer) readSync(getServerAttribute(ATTR_LIGHTSENSORTYPE));
     }
 }
@@ -7,7 +7,9 @@
  */
 package com.zsmartsystems.zigbee.zcl.clusters;
 
+import java.util.Collections;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.Future;
 
@@ -16,6 +18,7 @@ import javax.annotation.Generated;
 import com.zsmartsystems.zigbee.CommandResult;
 import com.zsmartsystems.zigbee.ZigBeeEndpoint;
 import com.zsmartsystems.zigbee.zcl.ZclAttribute;
+import com.zsmartsystems.zigbee.zcl.ZclAttributeDefinition;
 import com.zsmartsystems.zigbee.zcl.ZclCluster;
 import com.zsmartsystems.zigbee.zcl.ZclCommand;
 import com.zsmartsystems.zigbee.zcl.clusters.keyestablishment.ConfirmKeyDataRequestCommand;
@@ -62,7 +65,7 @@ import com.zsmartsystems.zigbee.zcl.protocol.ZclDataType;
  * <p>
  * Code is auto-generated. Modifications may be overwritten!
  */
-@Generated(value = "com.zsmartsystems.zigbee.autocode.ZigBeeCodeGenerator", date = "2019-10-04T18:21:10Z")
+@Generated(value = "com.zsmartsystems.zigbee.autocode.ZigBeeCodeGenerator", date = "2026-10-18T14:31:35Z")
 public class ZclKeyEstablishmentCluster extends ZclCluster {
     /**
      * The ZigBee Cluster Library Cluster ID
@@ -90,22 +93,40 @@ public class ZclKeyEstablishmentCluster extends ZclCluster {
      */
     public static final int ATTR_SERVERKEYESTABLISHMENTSUITE = 0x0000;
 
-    @Override
-    protected Map<Integer, ZclAttribute> initializeClientAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
+    /**
+     * The client attribute definitions. These are shared by all instances of this cluster.
+     */
+    private static final Map<Integer, ZclAttributeDefinition> CLIENT_ATTRIBUTES = initializeClientAttributeDefinitions();
+
+    /**
+     * The server attribute definitions. These are shared by all instances of this cluster.
+     */
+    private static final Map<Integer, ZclAttributeDefinition> SERVER_ATTRIBUTES = initializeServerAttributeDefinitions();
+
+    private static Map<Integer, ZclAttributeDefinition> initializeClientAttributeDefinitions() {
+        Map<Integer, ZclAttributeDefinition> attributeMap = new TreeMap<>();
 
-        attributeMap.put(ATTR_CLIENTKEYESTABLISHMENTSUITE, new ZclAttribute(this, ATTR_CLIENTKEYESTABLISHMENTSUITE, "Client Key Establishment Suite", ZclDataType.ENUMERATION_16_BIT, true, true, false, false));
+        attributeMap.put(ATTR_CLIENTKEYESTABLISHMENTSUITE, new ZclAttributeDefinition(ATTR_CLIENTKEYESTABLISHMENTSUITE, "Client Key Establishment Suite", ZclDataType.ENUMERATION_16_BIT, true, true, false, false));
 
-        return attributeMap;
+        return Collections.unmodifiableMap(attributeMap);
     }
 
-    @Override
-    protected Map<Integer, ZclAttribute> initializeServerAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
+    private static Map<Integer, ZclAttributeDefinition> initializeServerAttributeDefinitions() {
+        Map<Integer, ZclAttributeDefinition> attributeMap = new TreeMap<>();
+
+        attributeMap.put(ATTR_SERVERKEYESTABLISHMENTSUITE, new ZclAttributeDefinition(ATTR_SERVERKEYESTABLISHMENTSUITE, "Server Key Establishment Suite", ZclDataType.ENUMERATION_16_BIT, true, true, false, false));
 
-        attributeMap.put(ATTR_SERVERKEYESTABLISHMENTSUITE, new ZclAttribute(this, ATTR_SERVERKEYESTABLISHMENTSUITE, "Server Key Establishment Suite", ZclDataType.ENUMERATION_16_BIT, true, true, false, false));
+        return Collections.unmodifiableMap(attributeMap);
+    }
 
-        return attributeMap;
+    @Override
+    protected Map<Integer, ZclAttributeDefinition> getClientAttributeDefinitions() {
+        return CLIENT_ATTRIBUTES;
+    }
+
+    @Override
+    protected Map<Integer, ZclAttributeDefinition> getServerAttributeDefinitions() {
+        return SERVER_ATTRIBUTES;
     }
 
     @Override
@@ -157,7 +178,7 @@ public class ZclKeyEstablishmentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getServerKeyEstablishmentSuiteAsync() {
-        return read(serverAttributes.get(ATTR_SERVERKEYESTABLISHMENTSUITE));
+        return read(getServerAttribute(ATTR_SERVERKEYESTABLISHMENTSUITE));
     }
 
     /**
@@ -185,11 +206,11 @@ public class ZclKeyEstablishmentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getServerKeyEstablishmentSuite(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_SERVERKEYESTABLISHMENTSUITE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_SERVERKEYESTABLISHMENTSUITE).getLastValue();
+        if (getServerAttribute(ATTR_SERVERKEYESTABLISHMENTSUITE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_SERVERKEYESTABLISHMENTSUITE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_SERVERKEYESTABLISHMENTSUITE));
+        return (Integer) readSync(getServerAttribute(ATTR_SERVERKEYESTABLISHMENTSUITE));
     }
 
     /**
@@ -211,7 +232,7 @@ public class ZclKeyEstablishmentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setServerKeyEstablishmentSuiteReporting(final int minInterval, final int maxInterval) {
-        return setReporting(serverAttributes.get(ATTR_SERVERKEYESTABLISHMENTSUITE), minInterval, maxInterval);
+        return setReporting(getServerAttribute(ATTR_SERVERKEYESTABLISHMENTSUITE), minInterval, maxInterval);
     }
 
     /**
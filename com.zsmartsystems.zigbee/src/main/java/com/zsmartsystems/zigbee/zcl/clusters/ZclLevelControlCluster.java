@@ -7,7 +7,9 @@
  */
 package com.zsmartsystems.zigbee.zcl.clusters;
 
+import java.util.Collections;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.Future;
 
@@ -16,6 +18,7 @@ import javax.annotation.Generated;
 import com.zsmartsystems.zigbee.CommandResult;
 import com.zsmartsystems.zigbee.ZigBeeEndpoint;
 import com.zsmartsystems.zigbee.zcl.ZclAttribute;
+import com.zsmartsystems.zigbee.zcl.ZclAttributeDefinition;
 import com.zsmartsystems.zigbee.zcl.ZclCluster;
 import com.zsmartsystems.zigbee.zcl.ZclCommand;
 import com.zsmartsystems.zigbee.zcl.clusters.levelcontrol.MoveCommand;
@@ -51,7 +54,7 @@ import com.zsmartsystems.zigbee.zcl.protocol.ZclDataType;
  * <p>
  * Code is auto-generated. Modifications may be overwritten!
  */
-@Generated(value = "com.zsmartsystems.zigbee.autocode.ZigBeeCodeGenerator", date = "2019-10-04T18:21:10Z")
+@Generated(value = "com.zsmartsystems.zigbee.autocode.ZigBeeCodeGenerator", date = "2026-10-18T14:31:35Z")
 public class ZclLevelControlCluster extends ZclCluster {
     /**
      * The ZigBee Cluster Library Cluster ID
@@ -114,28 +117,30 @@ public class ZclLevelControlCluster extends ZclCluster {
     public static final int ATTR_DEFAULTMOVERATE = 0x0014;
     public static final int ATTR_STARTUPCURRENTLEVEL = 0x4000;
 
-    @Override
-    protected Map<Integer, ZclAttribute> initializeClientAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
+    /**
+     * The server attribute definitions. These are shared by all instances of this cluster.
+     */
+    private static final Map<Integer, ZclAttributeDefinition> SERVER_ATTRIBUTES = initializeServerAttributeDefinitions();
 
-        return attributeMap;
-    }
+    private static Map<Integer, ZclAttributeDefinition> initializeServerAttributeDefinitions() {
+        Map<Integer, ZclAttributeDefinition> attributeMap = new TreeMap<>();
 
-    @Override
-    protected Map<Integer, ZclAttribute> initializeServerAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
+        attributeMap.put(ATTR_CURRENTLEVEL, new ZclAttributeDefinition(ATTR_CURRENTLEVEL, "Current Level", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, true));
+        attributeMap.put(ATTR_REMAININGTIME, new ZclAttributeDefinition(ATTR_REMAININGTIME, "Remaining Time", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_OPTIONS, new ZclAttributeDefinition(ATTR_OPTIONS, "Options", ZclDataType.BITMAP_8_BIT, false, true, false, false));
+        attributeMap.put(ATTR_ONOFFTRANSITIONTIME, new ZclAttributeDefinition(ATTR_ONOFFTRANSITIONTIME, "On Off Transition Time", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, true, false));
+        attributeMap.put(ATTR_ONLEVEL, new ZclAttributeDefinition(ATTR_ONLEVEL, "On Level", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, false));
+        attributeMap.put(ATTR_ONTRANSITIONTIME, new ZclAttributeDefinition(ATTR_ONTRANSITIONTIME, "On Transition Time", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, true, false));
+        attributeMap.put(ATTR_OFFTRANSITIONTIME, new ZclAttributeDefinition(ATTR_OFFTRANSITIONTIME, "Off Transition Time", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, true, false));
+        attributeMap.put(ATTR_DEFAULTMOVERATE, new ZclAttributeDefinition(ATTR_DEFAULTMOVERATE, "Default Move Rate", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, true, false));
+        attributeMap.put(ATTR_STARTUPCURRENTLEVEL, new ZclAttributeDefinition(ATTR_STARTUPCURRENTLEVEL, "Start Up Current Level", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, false));
 
-        attributeMap.put(ATTR_CURRENTLEVEL, new ZclAttribute(this, ATTR_CURRENTLEVEL, "Current Level", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, true));
-        attributeMap.put(ATTR_REMAININGTIME, new ZclAttribute(this, ATTR_REMAININGTIME, "Remaining Time", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_OPTIONS, new ZclAttribute(this, ATTR_OPTIONS, "Options", ZclDataType.BITMAP_8_BIT, false, true, false, false));
-        attributeMap.put(ATTR_ONOFFTRANSITIONTIME, new ZclAttribute(this, ATTR_ONOFFTRANSITIONTIME, "On Off Transition Time", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, true, false));
-        attributeMap.put(ATTR_ONLEVEL, new ZclAttribute(this, ATTR_ONLEVEL, "On Level", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, false));
-        attributeMap.put(ATTR_ONTRANSITIONTIME, new ZclAttribute(this, ATTR_ONTRANSITIONTIME, "On Transition Time", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, true, false));
-        attributeMap.put(ATTR_OFFTRANSITIONTIME, new ZclAttribute(this, ATTR_OFFTRANSITIONTIME, "Off Transition Time", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, true, false));
-        attributeMap.put(ATTR_DEFAULTMOVERATE, new ZclAttribute(this, ATTR_DEFAULTMOVERATE, "Default Move Rate", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, true, false));
-        attributeMap.put(ATTR_STARTUPCURRENTLEVEL, new ZclAttribute(this, ATTR_STARTUPCURRENTLEVEL, "Start Up Current Level", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, false));
+        return Collections.unmodifiableMap(attributeMap);
+    }
 
-        return attributeMap;
+    @Override
+    protected Map<Integer, ZclAttributeDefinition> getServerAttributeDefinitions() {
+        return SERVER_ATTRIBUTES;
     }
 
     @Override
@@ -178,7 +183,7 @@ public class ZclLevelControlCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCurrentLevelAsync() {
-        return read(serverAttributes.get(ATTR_CURRENTLEVEL));
+        return read(getServerAttribute(ATTR_CURRENTLEVEL));
     }
 
     /**
@@ -204,11 +209,11 @@ public class ZclLevelControlCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCurrentLevel(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CURRENTLEVEL).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CURRENTLEVEL).getLastValue();
+        if (getServerAttribute(ATTR_CURRENTLEVEL).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CURRENTLEVEL).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CURRENTLEVEL));
+        return (Integer) readSync(getServerAttribute(ATTR_CURRENTLEVEL));
     }
 
     /**
@@ -229,7 +234,7 @@ public class ZclLevelControlCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setCurrentLevelReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_CURRENTLEVEL), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_CURRENTLEVEL), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -247,7 +252,7 @@ public class ZclLevelControlCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getRemainingTimeAsync() {
-        return read(serverAttributes.get(ATTR_REMAININGTIME));
+        return read(getServerAttribute(ATTR_REMAININGTIME));
     }
 
     /**
@@ -273,11 +278,11 @@ public class ZclLevelControlCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getRemainingTime(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_REMAININGTIME).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_REMAININGTIME).getLastValue();
+        if (getServerAttribute(ATTR_REMAININGTIME).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_REMAININGTIME).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_REMAININGTIME));
+        return (Integer) readSync(getServerAttribute(ATTR_REMAININGTIME));
     }
 
     /**
@@ -292,7 +297,7 @@ public class ZclLevelControlCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getOptionsAsync() {
-        return read(serverAttributes.get(ATTR_OPTIONS));
+        return read(getServerAttribute(ATTR_OPTIONS));
     }
 
     /**
@@ -315,11 +320,11 @@ public class ZclLevelControlCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getOptions(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_OPTIONS).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_OPTIONS).getLastValue();
+        if (getServerAttribute(ATTR_OPTIONS).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_OPTIONS).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_OPTIONS));
+        return (Integer) readSync(getServerAttribute(ATTR_OPTIONS));
     }
 
     /**
@@ -343,7 +348,7 @@ public class ZclLevelControlCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setOnOffTransitionTime(final Integer value) {
-        return write(serverAttributes.get(ATTR_ONOFFTRANSITIONTIME), value);
+        return write(getServerAttribute(ATTR_ONOFFTRANSITIONTIME), value);
     }
 
     /**
@@ -366,7 +371,7 @@ public class ZclLevelControlCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getOnOffTransitionTimeAsync() {
-        return read(serverAttributes.get(ATTR_ONOFFTRANSITIONTIME));
+        return read(getServerAttribute(ATTR_ONOFFTRANSITIONTIME));
     }
 
     /**
@@ -397,11 +402,11 @@ public class ZclLevelControlCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getOnOffTransitionTime(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_ONOFFTRANSITIONTIME).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_ONOFFTRANSITIONTIME).getLastValue();
+        if (getServerAttribute(ATTR_ONOFFTRANSITIONTIME).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_ONOFFTRANSITIONTIME).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_ONOFFTRANSITIONTIME));
+        return (Integer) readSync(getServerAttribute(ATTR_ONOFFTRANSITIONTIME));
     }
 
     /**
@@ -421,7 +426,7 @@ public class ZclLevelControlCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setOnLevel(final Integer value) {
-        return write(serverAttributes.get(ATTR_ONLEVEL), value);
+        return write(getServerAttribute(ATTR_ONLEVEL), value);
     }
 
     /**
@@ -440,7 +445,7 @@ public class ZclLevelControlCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getOnLevelAsync() {
-        return read(serverAttributes.get(ATTR_ONLEVEL));
+        return read(getServerAttribute(ATTR_ONLEVEL));
     }
 
     /**
@@ -467,11 +472,11 @@ public class ZclLevelControlCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getOnLevel(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_ONLEVEL).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_ONLEVEL).getLastValue();
+        if (getServerAttribute(ATTR_ONLEVEL).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_ONLEVEL).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_ONLEVEL));
+        return (Integer) readSync(getServerAttribute(ATTR_ONLEVEL));
     }
 
     /**
@@ -493,7 +498,7 @@ public class ZclLevelControlCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setOnTransitionTime(final Integer value) {
-        return write(serverAttributes.get(ATTR_ONTRANSITIONTIME), value);
+        return write(getServerAttribute(ATTR_ONTRANSITIONTIME), value);
     }
 
     /**
@@ -514,7 +519,7 @@ public class ZclLevelControlCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getOnTransitionTimeAsync() {
-        return read(serverAttributes.get(ATTR_ONTRANSITIONTIME));
+        return read(getServerAttribute(ATTR_ONTRANSITIONTIME));
     }
 
     /**
@@ -543,11 +548,11 @@ public class ZclLevelControlCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getOnTransitionTime(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_ONTRANSITIONTIME).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_ONTRANSITIONTIME).getLastValue();
+        if (getServerAttribute(ATTR_ONTRANSITIONTIME).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_ONTRANSITIONTIME).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_ONTRANSITIONTIME));
+        return (Integer) readSync(getServerAttribute(ATTR_ONTRANSITIONTIME));
     }
 
     /**
@@ -569,7 +574,7 @@ public class ZclLevelControlCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setOffTransitionTime(final Integer value) {
-        return write(serverAttributes.get(ATTR_OFFTRANSITIONTIME), value);
+        return write(getServerAttribute(ATTR_OFFTRANSITIONTIME), value);
     }
 
     /**
@@ -590,7 +595,7 @@ public class ZclLevelControlCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getOffTransitionTimeAsync() {
-        return read(serverAttributes.get(ATTR_OFFTRANSITIONTIME));
+        return read(getServerAttribute(ATTR_OFFTRANSITIONTIME));
     }
 
     /**
@@ -619,11 +624,11 @@ public class ZclLevelControlCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getOffTransitionTime(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_OFFTRANSITIONTIME).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_OFFTRANSITIONTIME).getLastValue();
+        if (getServerAttribute(ATTR_OFFTRANSITIONTIME).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_OFFTRANSITIONTIME).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_OFFTRANSITIONTIME));
+        return (Integer) readSync(getServerAttribute(ATTR_OFFTRANSITIONTIME));
     }
 
     /**
@@ -642,7 +647,7 @@ public class ZclLevelControlCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setDefaultMoveRate(final Integer value) {
-        return write(serverAttributes.get(ATTR_DEFAULTMOVERATE), value);
+        return write(getServerAttribute(ATTR_DEFAULTMOVERATE), value);
     }
 
     /**
@@ -660,7 +665,7 @@ public class ZclLevelControlCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getDefaultMoveRateAsync() {
-        return read(serverAttributes.get(ATTR_DEFAULTMOVERATE));
+        return read(getServerAttribute(ATTR_DEFAULTMOVERATE));
     }
 
     /**
@@ -686,11 +691,11 @@ public class ZclLevelControlCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getDefaultMoveRate(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_DEFAULTMOVERATE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_DEFAULTMOVERATE).getLastValue();
+        if (getServerAttribute(ATTR_DEFAULTMOVERATE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_DEFAULTMOVERATE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_DEFAULTMOVERATE));
+        return (Integer) readSync(getServerAttribute(ATTR_DEFAULTMOVERATE));
     }
 
     /**
@@ -706,7 +711,7 @@ public class ZclLevelControlCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setStartUpCurrentLevel(final Integer value) {
-        return write(serverAttributes.get(ATTR_STARTUPCURRENTLEVEL), value);
+        return write(getServerAttribute(ATTR_STARTUPCURRENTLEVEL), value);
     }
 
     /**
@@ -721,7 +726,7 @@ public class ZclLevelControlCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getStartUpCurrentLevelAsync() {
-        return read(serverAttributes.get(ATTR_STARTUPCURRENTLEVEL));
+        return read(getServerAttribute(ATTR_STARTUPCURRENTLEVEL));
     }
 
     /**
@@ -744,11 +749,11 @@ public class ZclLevelControlCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getStartUpCurrentLevel(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_STARTUPCURRENTLEVEL).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_STARTUPCURRENTLEVEL).getLastValue();
+        if (getServerAttribute(ATTR_STARTUPCURRENTLEVEL).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_STARTUPCURRENTLEVEL).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_STARTUPCURRENTLEVEL));
+        return (Integer) readSync(getServerAttribute(ATTR_STARTUPCURRENTLEVEL));
     }
 
     /**
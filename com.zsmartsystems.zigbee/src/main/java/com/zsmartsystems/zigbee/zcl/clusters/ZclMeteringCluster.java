@@ -8,7 +8,9 @@
 package com.zsmartsystems.zigbee.zcl.clusters;
 
 import java.util.Calendar;
+import java.util.Collections;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.Future;
 
@@ -17,6 +19,7 @@ import javax.annotation.Generated;
 import com.zsmartsystems.zigbee.CommandResult;
 import com.zsmartsystems.zigbee.ZigBeeEndpoint;
 import com.zsmartsystems.zigbee.zcl.ZclAttribute;
+import com.zsmartsystems.zigbee.zcl.ZclAttributeDefinition;
 import com.zsmartsystems.zigbee.zcl.ZclCluster;
 import com.zsmartsystems.zigbee.zcl.ZclCommand;
 import com.zsmartsystems.zigbee.zcl.clusters.metering.ChangeSupply;
@@ -66,7 +69,7 @@ import com.zsmartsystems.zigbee.zcl.protocol.ZclDataType;
  * <p>
  * Code is auto-generated. Modifications may be overwritten!
  */
-@Generated(value = "com.zsmartsystems.zigbee.autocode.ZigBeeCodeGenerator", date = "2019-10-04T18:21:10Z")
+@Generated(value = "com.zsmartsystems.zigbee.autocode.ZigBeeCodeGenerator", date = "2026-10-18T14:31:35Z")
 public class ZclMeteringCluster extends ZclCluster {
     /**
      * The ZigBee Cluster Library Cluster ID
@@ -2647,888 +2650,906 @@ public class ZclMeteringCluster extends ZclCluster {
     public static final int ATTR_PREVIOUSMONTH23ALTERNATIVECONSUMPTIONRECEIVED = 0x0C5A;
     public static final int ATTR_PREVIOUSMONTH25ALTERNATIVECONSUMPTIONRECEIVED = 0x0C5C;
 
-    @Override
-    protected Map<Integer, ZclAttribute> initializeClientAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
-
-        attributeMap.put(ATTR_FUNCTIONALNOTIFICATIONFLAGS, new ZclAttribute(this, ATTR_FUNCTIONALNOTIFICATIONFLAGS, "Functional Notification Flags", ZclDataType.BITMAP_32_BIT, true, true, false, false));
-        attributeMap.put(ATTR_NOTIFICATIONFLAGS2, new ZclAttribute(this, ATTR_NOTIFICATIONFLAGS2, "Notification Flags 2", ZclDataType.BITMAP_32_BIT, true, true, false, false));
-        attributeMap.put(ATTR_NOTIFICATIONFLAGS3, new ZclAttribute(this, ATTR_NOTIFICATIONFLAGS3, "Notification Flags 3", ZclDataType.BITMAP_32_BIT, true, true, false, false));
-        attributeMap.put(ATTR_NOTIFICATIONFLAGS4, new ZclAttribute(this, ATTR_NOTIFICATIONFLAGS4, "Notification Flags 4", ZclDataType.BITMAP_32_BIT, true, true, false, false));
-        attributeMap.put(ATTR_NOTIFICATIONFLAGS5, new ZclAttribute(this, ATTR_NOTIFICATIONFLAGS5, "Notification Flags 5", ZclDataType.BITMAP_32_BIT, true, true, false, false));
-        attributeMap.put(ATTR_NOTIFICATIONFLAGS6, new ZclAttribute(this, ATTR_NOTIFICATIONFLAGS6, "Notification Flags 6", ZclDataType.BITMAP_32_BIT, true, true, false, false));
-        attributeMap.put(ATTR_NOTIFICATIONFLAGS7, new ZclAttribute(this, ATTR_NOTIFICATIONFLAGS7, "Notification Flags 7", ZclDataType.BITMAP_32_BIT, true, true, false, false));
-        attributeMap.put(ATTR_NOTIFICATIONFLAGS8, new ZclAttribute(this, ATTR_NOTIFICATIONFLAGS8, "Notification Flags 8", ZclDataType.BITMAP_32_BIT, true, true, false, false));
+    /**
+     * The client attribute definitions. These are shared by all instances of this cluster.
+     */
+    private static final Map<Integer, ZclAttributeDefinition> CLIENT_ATTRIBUTES = initializeClientAttributeDefinitions();
+
+    /**
+     * The server attribute definitions. These are shared by all instances of this cluster.
+     */
+    private static final Map<Integer, ZclAttributeDefinition> SERVER_ATTRIBUTES = initializeServerAttributeDefinitions();
+
+    private static Map<Integer, ZclAttributeDefinition> initializeClientAttributeDefinitions() {
+        Map<Integer, ZclAttributeDefinition> attributeMap = new TreeMap<>();
+
+        attributeMap.put(ATTR_FUNCTIONALNOTIFICATIONFLAGS, new ZclAttributeDefinition(ATTR_FUNCTIONALNOTIFICATIONFLAGS, "Functional Notification Flags", ZclDataType.BITMAP_32_BIT, true, true, false, false));
+        attributeMap.put(ATTR_NOTIFICATIONFLAGS2, new ZclAttributeDefinition(ATTR_NOTIFICATIONFLAGS2, "Notification Flags 2", ZclDataType.BITMAP_32_BIT, true, true, false, false));
+        attributeMap.put(ATTR_NOTIFICATIONFLAGS3, new ZclAttributeDefinition(ATTR_NOTIFICATIONFLAGS3, "Notification Flags 3", ZclDataType.BITMAP_32_BIT, true, true, false, false));
+        attributeMap.put(ATTR_NOTIFICATIONFLAGS4, new ZclAttributeDefinition(ATTR_NOTIFICATIONFLAGS4, "Notification Flags 4", ZclDataType.BITMAP_32_BIT, true, true, false, false));
+        attributeMap.put(ATTR_NOTIFICATIONFLAGS5, new ZclAttributeDefinition(ATTR_NOTIFICATIONFLAGS5, "Notification Flags 5", ZclDataType.BITMAP_32_BIT, true, true, false, false));
+        attributeMap.put(ATTR_NOTIFICATIONFLAGS6, new ZclAttributeDefinition(ATTR_NOTIFICATIONFLAGS6, "Notification Flags 6", ZclDataType.BITMAP_32_BIT, true, true, false, false));
+        attributeMap.put(ATTR_NOTIFICATIONFLAGS7, new ZclAttributeDefinition(ATTR_NOTIFICATIONFLAGS7, "Notification Flags 7", ZclDataType.BITMAP_32_BIT, true, true, false, false));
+        attributeMap.put(ATTR_NOTIFICATIONFLAGS8, new ZclAttributeDefinition(ATTR_NOTIFICATIONFLAGS8, "Notification Flags 8", ZclDataType.BITMAP_32_BIT, true, true, false, false));
+
+        return Collections.unmodifiableMap(attributeMap);
+    }
+
+    private static Map<Integer, ZclAttributeDefinition> initializeServerAttributeDefinitions() {
+        Map<Integer, ZclAttributeDefinition> attributeMap = new TreeMap<>();
+
+        attributeMap.put(ATTR_CURRENTSUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTSUMMATIONDELIVERED, "Current Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTSUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTSUMMATIONRECEIVED, "Current Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_CURRENTMAXDEMANDDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTMAXDEMANDDELIVERED, "Current Max Demand Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_CURRENTMAXDEMANDRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTMAXDEMANDRECEIVED, "Current Max Demand Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_DFTSUMMATION, new ZclAttributeDefinition(ATTR_DFTSUMMATION, "Dft Summation", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_DAILYFREEZETIME, new ZclAttributeDefinition(ATTR_DAILYFREEZETIME, "Daily Freeze Time", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_POWERFACTOR, new ZclAttributeDefinition(ATTR_POWERFACTOR, "Power Factor", ZclDataType.SIGNED_8_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_READINGSNAPSHOTTIME, new ZclAttributeDefinition(ATTR_READINGSNAPSHOTTIME, "Reading Snapshot Time", ZclDataType.UTCTIME, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTMAXDEMANDDELIVEREDTIME, new ZclAttributeDefinition(ATTR_CURRENTMAXDEMANDDELIVEREDTIME, "Current Max Demand Delivered Time", ZclDataType.UTCTIME, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTMAXDEMANDRECEIVEDTIME, new ZclAttributeDefinition(ATTR_CURRENTMAXDEMANDRECEIVEDTIME, "Current Max Demand Received Time", ZclDataType.UTCTIME, true, true, false, false));
+        attributeMap.put(ATTR_DEFAULTUPDATEPERIOD, new ZclAttributeDefinition(ATTR_DEFAULTUPDATEPERIOD, "Default Update Period", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_FASTPOLLUPDATEPERIOD, new ZclAttributeDefinition(ATTR_FASTPOLLUPDATEPERIOD, "Fast Poll Update Period", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_CURRENTBLOCKPERIODCONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTBLOCKPERIODCONSUMPTIONDELIVERED, "Current Block Period Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_DAILYCONSUMPTIONTARGET, new ZclAttributeDefinition(ATTR_DAILYCONSUMPTIONTARGET, "Daily Consumption Target", ZclDataType.UNSIGNED_24_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_CURRENTBLOCK, new ZclAttributeDefinition(ATTR_CURRENTBLOCK, "Current Block", ZclDataType.ENUMERATION_8_BIT, false, true, false, false));
+        attributeMap.put(ATTR_PROFILEINTERVALPERIOD, new ZclAttributeDefinition(ATTR_PROFILEINTERVALPERIOD, "Profile Interval Period", ZclDataType.ENUMERATION_8_BIT, false, true, false, false));
+        attributeMap.put(ATTR_INTERVALREADREPORTINGPERIOD, new ZclAttributeDefinition(ATTR_INTERVALREADREPORTINGPERIOD, "Interval Read Reporting Period", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_PRESETREADINGTIME, new ZclAttributeDefinition(ATTR_PRESETREADINGTIME, "Preset Reading Time", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_VOLUMEPERREPORT, new ZclAttributeDefinition(ATTR_VOLUMEPERREPORT, "Volume Per Report", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_FLOWRESTRICTION, new ZclAttributeDefinition(ATTR_FLOWRESTRICTION, "Flow Restriction", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_SUPPLYSTATUS, new ZclAttributeDefinition(ATTR_SUPPLYSTATUS, "Supply Status", ZclDataType.ENUMERATION_8_BIT, false, true, false, false));
+        attributeMap.put(ATTR_CURRENTINLETENERGYCARRIERSUMMATION, new ZclAttributeDefinition(ATTR_CURRENTINLETENERGYCARRIERSUMMATION, "Current Inlet Energy Carrier Summation", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_CURRENTOUTLETENERGYCARRIERSUMMATION, new ZclAttributeDefinition(ATTR_CURRENTOUTLETENERGYCARRIERSUMMATION, "Current Outlet Energy Carrier Summation", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_INLETTEMPERATURE, new ZclAttributeDefinition(ATTR_INLETTEMPERATURE, "Inlet Temperature", ZclDataType.SIGNED_24_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_OUTLETTEMPERATURE, new ZclAttributeDefinition(ATTR_OUTLETTEMPERATURE, "Outlet Temperature", ZclDataType.SIGNED_24_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_CONTROLTEMPERATURE, new ZclAttributeDefinition(ATTR_CONTROLTEMPERATURE, "Control Temperature", ZclDataType.SIGNED_24_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_CURRENTINLETENERGYCARRIERDEMAND, new ZclAttributeDefinition(ATTR_CURRENTINLETENERGYCARRIERDEMAND, "Current Inlet Energy Carrier Demand", ZclDataType.SIGNED_24_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_CURRENTOUTLETENERGYCARRIERDEMAND, new ZclAttributeDefinition(ATTR_CURRENTOUTLETENERGYCARRIERDEMAND, "Current Outlet Energy Carrier Demand", ZclDataType.SIGNED_24_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSBLOCKPERIODCONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSBLOCKPERIODCONSUMPTIONDELIVERED, "Previous Block Period Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_CURRENTBLOCKPERIODCONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTBLOCKPERIODCONSUMPTIONRECEIVED, "Current Block Period Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_CURRENTBLOCKRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTBLOCKRECEIVED, "Current Block Received", ZclDataType.ENUMERATION_8_BIT, false, true, false, false));
+        attributeMap.put(ATTR_DFTSUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_DFTSUMMATIONRECEIVED, "Dft Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_ACTIVEREGISTERTIERDELIVERED, new ZclAttributeDefinition(ATTR_ACTIVEREGISTERTIERDELIVERED, "Active Register Tier Delivered", ZclDataType.ENUMERATION_8_BIT, false, true, false, false));
+        attributeMap.put(ATTR_ACTIVEREGISTERTIERRECEIVED, new ZclAttributeDefinition(ATTR_ACTIVEREGISTERTIERRECEIVED, "Active Register Tier Received", ZclDataType.ENUMERATION_8_BIT, false, true, false, false));
+        attributeMap.put(ATTR_LASTBLOCKSWITCHTIME, new ZclAttributeDefinition(ATTR_LASTBLOCKSWITCHTIME, "Last Block Switch Time", ZclDataType.UTCTIME, false, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER1SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER1SUMMATIONDELIVERED, "Current Tier 1 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER3SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER3SUMMATIONDELIVERED, "Current Tier 3 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER5SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER5SUMMATIONDELIVERED, "Current Tier 5 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER7SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER7SUMMATIONDELIVERED, "Current Tier 7 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER9SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER9SUMMATIONDELIVERED, "Current Tier 9 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER11SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER11SUMMATIONDELIVERED, "Current Tier 11 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER13SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER13SUMMATIONDELIVERED, "Current Tier 13 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER15SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER15SUMMATIONDELIVERED, "Current Tier 15 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER17SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER17SUMMATIONDELIVERED, "Current Tier 17 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER19SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER19SUMMATIONDELIVERED, "Current Tier 19 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER21SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER21SUMMATIONDELIVERED, "Current Tier 21 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER23SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER23SUMMATIONDELIVERED, "Current Tier 23 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER25SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER25SUMMATIONDELIVERED, "Current Tier 25 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER27SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER27SUMMATIONDELIVERED, "Current Tier 27 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER29SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER29SUMMATIONDELIVERED, "Current Tier 29 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER31SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER31SUMMATIONDELIVERED, "Current Tier 31 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER33SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER33SUMMATIONDELIVERED, "Current Tier 33 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER35SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER35SUMMATIONDELIVERED, "Current Tier 35 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER37SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER37SUMMATIONDELIVERED, "Current Tier 37 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER39SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER39SUMMATIONDELIVERED, "Current Tier 39 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER41SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER41SUMMATIONDELIVERED, "Current Tier 41 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER43SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER43SUMMATIONDELIVERED, "Current Tier 43 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER45SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER45SUMMATIONDELIVERED, "Current Tier 45 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER47SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER47SUMMATIONDELIVERED, "Current Tier 47 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER49SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER49SUMMATIONDELIVERED, "Current Tier 49 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER51SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER51SUMMATIONDELIVERED, "Current Tier 51 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER53SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER53SUMMATIONDELIVERED, "Current Tier 53 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER55SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER55SUMMATIONDELIVERED, "Current Tier 55 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER57SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER57SUMMATIONDELIVERED, "Current Tier 57 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER59SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER59SUMMATIONDELIVERED, "Current Tier 59 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER61SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER61SUMMATIONDELIVERED, "Current Tier 61 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER63SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER63SUMMATIONDELIVERED, "Current Tier 63 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER65SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER65SUMMATIONDELIVERED, "Current Tier 65 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER67SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER67SUMMATIONDELIVERED, "Current Tier 67 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER69SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER69SUMMATIONDELIVERED, "Current Tier 69 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER71SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER71SUMMATIONDELIVERED, "Current Tier 71 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER73SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER73SUMMATIONDELIVERED, "Current Tier 73 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER75SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER75SUMMATIONDELIVERED, "Current Tier 75 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER77SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER77SUMMATIONDELIVERED, "Current Tier 77 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER79SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER79SUMMATIONDELIVERED, "Current Tier 79 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER81SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER81SUMMATIONDELIVERED, "Current Tier 81 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER83SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER83SUMMATIONDELIVERED, "Current Tier 83 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER85SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER85SUMMATIONDELIVERED, "Current Tier 85 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER87SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER87SUMMATIONDELIVERED, "Current Tier 87 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER89SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER89SUMMATIONDELIVERED, "Current Tier 89 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER91SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER91SUMMATIONDELIVERED, "Current Tier 91 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER93SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER93SUMMATIONDELIVERED, "Current Tier 93 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER95SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER95SUMMATIONDELIVERED, "Current Tier 95 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER1SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER1SUMMATIONRECEIVED, "Current Tier 1 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER3SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER3SUMMATIONRECEIVED, "Current Tier 3 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER5SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER5SUMMATIONRECEIVED, "Current Tier 5 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER7SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER7SUMMATIONRECEIVED, "Current Tier 7 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER9SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER9SUMMATIONRECEIVED, "Current Tier 9 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER11SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER11SUMMATIONRECEIVED, "Current Tier 11 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER13SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER13SUMMATIONRECEIVED, "Current Tier 13 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER15SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER15SUMMATIONRECEIVED, "Current Tier 15 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER17SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER17SUMMATIONRECEIVED, "Current Tier 17 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER19SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER19SUMMATIONRECEIVED, "Current Tier 19 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER21SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER21SUMMATIONRECEIVED, "Current Tier 21 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER23SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER23SUMMATIONRECEIVED, "Current Tier 23 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER25SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER25SUMMATIONRECEIVED, "Current Tier 25 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER27SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER27SUMMATIONRECEIVED, "Current Tier 27 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER29SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER29SUMMATIONRECEIVED, "Current Tier 29 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER31SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER31SUMMATIONRECEIVED, "Current Tier 31 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER33SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER33SUMMATIONRECEIVED, "Current Tier 33 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER35SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER35SUMMATIONRECEIVED, "Current Tier 35 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER37SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER37SUMMATIONRECEIVED, "Current Tier 37 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER39SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER39SUMMATIONRECEIVED, "Current Tier 39 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER41SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER41SUMMATIONRECEIVED, "Current Tier 41 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER43SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER43SUMMATIONRECEIVED, "Current Tier 43 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER45SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER45SUMMATIONRECEIVED, "Current Tier 45 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER47SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER47SUMMATIONRECEIVED, "Current Tier 47 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER49SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER49SUMMATIONRECEIVED, "Current Tier 49 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER51SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER51SUMMATIONRECEIVED, "Current Tier 51 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER53SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER53SUMMATIONRECEIVED, "Current Tier 53 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER55SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER55SUMMATIONRECEIVED, "Current Tier 55 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER57SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER57SUMMATIONRECEIVED, "Current Tier 57 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER59SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER59SUMMATIONRECEIVED, "Current Tier 59 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER61SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER61SUMMATIONRECEIVED, "Current Tier 61 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER63SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER63SUMMATIONRECEIVED, "Current Tier 63 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER65SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER65SUMMATIONRECEIVED, "Current Tier 65 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER67SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER67SUMMATIONRECEIVED, "Current Tier 67 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER69SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER69SUMMATIONRECEIVED, "Current Tier 69 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER71SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER71SUMMATIONRECEIVED, "Current Tier 71 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER73SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER73SUMMATIONRECEIVED, "Current Tier 73 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER75SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER75SUMMATIONRECEIVED, "Current Tier 75 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER77SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER77SUMMATIONRECEIVED, "Current Tier 77 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER79SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER79SUMMATIONRECEIVED, "Current Tier 79 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER81SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER81SUMMATIONRECEIVED, "Current Tier 81 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER83SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER83SUMMATIONRECEIVED, "Current Tier 83 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER85SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER85SUMMATIONRECEIVED, "Current Tier 85 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER87SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER87SUMMATIONRECEIVED, "Current Tier 87 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER89SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER89SUMMATIONRECEIVED, "Current Tier 89 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER91SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER91SUMMATIONRECEIVED, "Current Tier 91 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER93SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER93SUMMATIONRECEIVED, "Current Tier 93 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER95SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER95SUMMATIONRECEIVED, "Current Tier 95 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CPP1SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CPP1SUMMATIONDELIVERED, "CPP 1 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CPP2SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CPP2SUMMATIONDELIVERED, "CPP 2 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_STATUS, new ZclAttributeDefinition(ATTR_STATUS, "Status", ZclDataType.BITMAP_8_BIT, true, true, false, false));
+        attributeMap.put(ATTR_REMAININGBATTERYLIFE, new ZclAttributeDefinition(ATTR_REMAININGBATTERYLIFE, "Remaining Battery Life", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_HOURSINOPERATION, new ZclAttributeDefinition(ATTR_HOURSINOPERATION, "Hours In Operation", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_HOURSINFAULT, new ZclAttributeDefinition(ATTR_HOURSINFAULT, "Hours In Fault", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_EXTENDEDSTATUS, new ZclAttributeDefinition(ATTR_EXTENDEDSTATUS, "Extended Status", ZclDataType.BITMAP_64_BIT, true, true, false, false));
+        attributeMap.put(ATTR_REMAININGBATTERYLIFEINDAYS, new ZclAttributeDefinition(ATTR_REMAININGBATTERYLIFEINDAYS, "Remaining Battery Life In Days", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTMETERID, new ZclAttributeDefinition(ATTR_CURRENTMETERID, "Current Meter ID", ZclDataType.OCTET_STRING, true, true, false, false));
+        attributeMap.put(ATTR_AMBIENTCONSUMPTIONINDICATOR, new ZclAttributeDefinition(ATTR_AMBIENTCONSUMPTIONINDICATOR, "Ambient Consumption Indicator", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
+        attributeMap.put(ATTR_UNITOFMEASURE, new ZclAttributeDefinition(ATTR_UNITOFMEASURE, "Unit Of Measure", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
+        attributeMap.put(ATTR_MULTIPLIER, new ZclAttributeDefinition(ATTR_MULTIPLIER, "Multiplier", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_DIVISOR, new ZclAttributeDefinition(ATTR_DIVISOR, "Divisor", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_SUMMATIONFORMATTING, new ZclAttributeDefinition(ATTR_SUMMATIONFORMATTING, "Summation Formatting", ZclDataType.BITMAP_8_BIT, true, true, false, false));
+        attributeMap.put(ATTR_DEMANDFORMATTING, new ZclAttributeDefinition(ATTR_DEMANDFORMATTING, "Demand Formatting", ZclDataType.BITMAP_8_BIT, true, true, false, false));
+        attributeMap.put(ATTR_HISTORICALCONSUMPTIONFORMATTING, new ZclAttributeDefinition(ATTR_HISTORICALCONSUMPTIONFORMATTING, "Historical Consumption Formatting", ZclDataType.BITMAP_8_BIT, true, true, false, false));
+        attributeMap.put(ATTR_METERINGDEVICETYPE, new ZclAttributeDefinition(ATTR_METERINGDEVICETYPE, "Metering Device Type", ZclDataType.BITMAP_8_BIT, true, true, false, false));
+        attributeMap.put(ATTR_SITEID, new ZclAttributeDefinition(ATTR_SITEID, "Site ID", ZclDataType.OCTET_STRING, true, true, false, false));
+        attributeMap.put(ATTR_METERSERIALNUMBER, new ZclAttributeDefinition(ATTR_METERSERIALNUMBER, "Meter Serial Number", ZclDataType.OCTET_STRING, true, true, false, false));
+        attributeMap.put(ATTR_ENERGYCARRIERUNITOFMEASURE, new ZclAttributeDefinition(ATTR_ENERGYCARRIERUNITOFMEASURE, "Energy Carrier Unit Of Measure", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
+        attributeMap.put(ATTR_ENERGYCARRIERSUMMATIONFORMATTING, new ZclAttributeDefinition(ATTR_ENERGYCARRIERSUMMATIONFORMATTING, "Energy Carrier Summation Formatting", ZclDataType.BITMAP_8_BIT, true, true, false, false));
+        attributeMap.put(ATTR_ENERGYCARRIERDEMANDFORMATTING, new ZclAttributeDefinition(ATTR_ENERGYCARRIERDEMANDFORMATTING, "Energy Carrier Demand Formatting", ZclDataType.BITMAP_8_BIT, true, true, false, false));
+        attributeMap.put(ATTR_TEMPERATUREUNITOFMEASURE, new ZclAttributeDefinition(ATTR_TEMPERATUREUNITOFMEASURE, "Temperature Unit Of Measure", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
+        attributeMap.put(ATTR_TEMPERATUREFORMATTING, new ZclAttributeDefinition(ATTR_TEMPERATUREFORMATTING, "Temperature Formatting", ZclDataType.BITMAP_8_BIT, true, true, false, false));
+        attributeMap.put(ATTR_MODULESERIALNUMBER, new ZclAttributeDefinition(ATTR_MODULESERIALNUMBER, "Module Serial Number", ZclDataType.OCTET_STRING, true, true, false, false));
+        attributeMap.put(ATTR_OPERATINGTARIFFLABELDELIVERED, new ZclAttributeDefinition(ATTR_OPERATINGTARIFFLABELDELIVERED, "Operating Tariff Label Delivered", ZclDataType.OCTET_STRING, true, true, false, false));
+        attributeMap.put(ATTR_OPERATINGTARIFFLABELRECEIVED, new ZclAttributeDefinition(ATTR_OPERATINGTARIFFLABELRECEIVED, "Operating Tariff Label Received", ZclDataType.OCTET_STRING, true, true, false, false));
+        attributeMap.put(ATTR_CUSTOMERIDNUMBER, new ZclAttributeDefinition(ATTR_CUSTOMERIDNUMBER, "Customer ID Number", ZclDataType.OCTET_STRING, true, true, false, false));
+        attributeMap.put(ATTR_ALTERNATIVEUNITOFMEASURE, new ZclAttributeDefinition(ATTR_ALTERNATIVEUNITOFMEASURE, "Alternative Unit Of Measure", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
+        attributeMap.put(ATTR_ALTERNATIVEDEMANDFORMATTING, new ZclAttributeDefinition(ATTR_ALTERNATIVEDEMANDFORMATTING, "Alternative Demand Formatting", ZclDataType.BITMAP_8_BIT, true, true, false, false));
+        attributeMap.put(ATTR_ALTERNATIVECONSUMPTIONFORMATTING, new ZclAttributeDefinition(ATTR_ALTERNATIVECONSUMPTIONFORMATTING, "Alternative Consumption Formatting", ZclDataType.BITMAP_8_BIT, true, true, false, false));
+        attributeMap.put(ATTR_INSTANTANEOUSDEMAND, new ZclAttributeDefinition(ATTR_INSTANTANEOUSDEMAND, "Instantaneous Demand", ZclDataType.SIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTDAYCONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTDAYCONSUMPTIONDELIVERED, "Current Day Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTDAYCONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTDAYCONSUMPTIONRECEIVED, "Current Day Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSDAYCONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSDAYCONSUMPTIONDELIVERED, "Previous Day Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSDAYCONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSDAYCONSUMPTIONRECEIVED, "Previous Day Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTPARTIALPROFILEINTERVALSTARTTIMEDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTPARTIALPROFILEINTERVALSTARTTIMEDELIVERED, "Current Partial Profile Interval Start Time Delivered", ZclDataType.UTCTIME, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTPARTIALPROFILEINTERVALSTARTTIMERECEIVED, new ZclAttributeDefinition(ATTR_CURRENTPARTIALPROFILEINTERVALSTARTTIMERECEIVED, "Current Partial Profile Interval Start Time Received", ZclDataType.UTCTIME, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTPARTIALPROFILEINTERVALVALUEDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTPARTIALPROFILEINTERVALVALUEDELIVERED, "Current Partial Profile Interval Value Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTPARTIALPROFILEINTERVALVALUERECEIVED, new ZclAttributeDefinition(ATTR_CURRENTPARTIALPROFILEINTERVALVALUERECEIVED, "Current Partial Profile Interval Value Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTDAYMAXPRESSURE, new ZclAttributeDefinition(ATTR_CURRENTDAYMAXPRESSURE, "Current Day Max Pressure", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTDAYMINPRESSURE, new ZclAttributeDefinition(ATTR_CURRENTDAYMINPRESSURE, "Current Day Min Pressure", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSDAYMAXPRESSURE, new ZclAttributeDefinition(ATTR_PREVIOUSDAYMAXPRESSURE, "Previous Day Max Pressure", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSDAYMINPRESSURE, new ZclAttributeDefinition(ATTR_PREVIOUSDAYMINPRESSURE, "Previous Day Min Pressure", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTDAYMAXDEMAND, new ZclAttributeDefinition(ATTR_CURRENTDAYMAXDEMAND, "Current Day Max Demand", ZclDataType.SIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSDAYMAXDEMAND, new ZclAttributeDefinition(ATTR_PREVIOUSDAYMAXDEMAND, "Previous Day Max Demand", ZclDataType.SIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTMONTHMAXDEMAND, new ZclAttributeDefinition(ATTR_CURRENTMONTHMAXDEMAND, "Current Month Max Demand", ZclDataType.SIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTYEARMAXDEMAND, new ZclAttributeDefinition(ATTR_CURRENTYEARMAXDEMAND, "Current Year Max Demand", ZclDataType.SIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTDAYMAXENERGYCARRIERDEMAND, new ZclAttributeDefinition(ATTR_CURRENTDAYMAXENERGYCARRIERDEMAND, "Current Day Max Energy Carrier Demand", ZclDataType.SIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSDAYMAXENERGYCARRIERDEMAND, new ZclAttributeDefinition(ATTR_PREVIOUSDAYMAXENERGYCARRIERDEMAND, "Previous Day Max Energy Carrier Demand", ZclDataType.SIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTMONTHMAXENERGYCARRIERDEMAND, new ZclAttributeDefinition(ATTR_CURRENTMONTHMAXENERGYCARRIERDEMAND, "Current Month Max Energy Carrier Demand", ZclDataType.SIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTMONTHMINENERGYCARRIERDEMAND, new ZclAttributeDefinition(ATTR_CURRENTMONTHMINENERGYCARRIERDEMAND, "Current Month Min Energy Carrier Demand", ZclDataType.SIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTYEARMAXENERGYCARRIERDEMAND, new ZclAttributeDefinition(ATTR_CURRENTYEARMAXENERGYCARRIERDEMAND, "Current Year Max Energy Carrier Demand", ZclDataType.SIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTYEARMINENERGYCARRIERDEMAND, new ZclAttributeDefinition(ATTR_CURRENTYEARMINENERGYCARRIERDEMAND, "Current Year Min Energy Carrier Demand", ZclDataType.SIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSDAY2CONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSDAY2CONSUMPTIONDELIVERED, "Previous Day 2 Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSDAY4CONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSDAY4CONSUMPTIONDELIVERED, "Previous Day 4 Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSDAY6CONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSDAY6CONSUMPTIONDELIVERED, "Previous Day 6 Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSDAY8CONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSDAY8CONSUMPTIONDELIVERED, "Previous Day 8 Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSDAY10CONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSDAY10CONSUMPTIONDELIVERED, "Previous Day 10 Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSDAY12CONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSDAY12CONSUMPTIONDELIVERED, "Previous Day 12 Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSDAY14CONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSDAY14CONSUMPTIONDELIVERED, "Previous Day 14 Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSDAY16CONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSDAY16CONSUMPTIONDELIVERED, "Previous Day 16 Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSDAY2CONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSDAY2CONSUMPTIONRECEIVED, "Previous Day 2 Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSDAY4CONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSDAY4CONSUMPTIONRECEIVED, "Previous Day 4 Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSDAY6CONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSDAY6CONSUMPTIONRECEIVED, "Previous Day 6 Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSDAY8CONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSDAY8CONSUMPTIONRECEIVED, "Previous Day 8 Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSDAY10CONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSDAY10CONSUMPTIONRECEIVED, "Previous Day 10 Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSDAY12CONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSDAY12CONSUMPTIONRECEIVED, "Previous Day 12 Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSDAY14CONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSDAY14CONSUMPTIONRECEIVED, "Previous Day 14 Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSDAY16CONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSDAY16CONSUMPTIONRECEIVED, "Previous Day 16 Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTWEEKCONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTWEEKCONSUMPTIONDELIVERED, "Current Week Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTWEEKCONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTWEEKCONSUMPTIONRECEIVED, "Current Week Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSWEEK1CONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSWEEK1CONSUMPTIONDELIVERED, "Previous Week 1 Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSWEEK3CONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSWEEK3CONSUMPTIONDELIVERED, "Previous Week 3 Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSWEEK5CONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSWEEK5CONSUMPTIONDELIVERED, "Previous Week 5 Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSWEEK7CONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSWEEK7CONSUMPTIONDELIVERED, "Previous Week 7 Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSWEEK9CONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSWEEK9CONSUMPTIONDELIVERED, "Previous Week 9 Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSWEEK1CONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSWEEK1CONSUMPTIONRECEIVED, "Previous Week 1 Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSWEEK3CONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSWEEK3CONSUMPTIONRECEIVED, "Previous Week 3 Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSWEEK5CONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSWEEK5CONSUMPTIONRECEIVED, "Previous Week 5 Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSWEEK7CONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSWEEK7CONSUMPTIONRECEIVED, "Previous Week 7 Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSWEEK9CONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSWEEK9CONSUMPTIONRECEIVED, "Previous Week 9 Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTMONTHCONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTMONTHCONSUMPTIONDELIVERED, "Current Month Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTMONTHCONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTMONTHCONSUMPTIONRECEIVED, "Current Month Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH1CONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH1CONSUMPTIONDELIVERED, "Previous Month 1 Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH3CONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH3CONSUMPTIONDELIVERED, "Previous Month 3 Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH5CONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH5CONSUMPTIONDELIVERED, "Previous Month 5 Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH7CONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH7CONSUMPTIONDELIVERED, "Previous Month 7 Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH9CONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH9CONSUMPTIONDELIVERED, "Previous Month 9 Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH11CONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH11CONSUMPTIONDELIVERED, "Previous Month 11 Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH13CONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH13CONSUMPTIONDELIVERED, "Previous Month 13 Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH15CONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH15CONSUMPTIONDELIVERED, "Previous Month 15 Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH17CONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH17CONSUMPTIONDELIVERED, "Previous Month 17 Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH19CONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH19CONSUMPTIONDELIVERED, "Previous Month 19 Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH21CONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH21CONSUMPTIONDELIVERED, "Previous Month 21 Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH23CONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH23CONSUMPTIONDELIVERED, "Previous Month 23 Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH25CONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH25CONSUMPTIONDELIVERED, "Previous Month 25 Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH1CONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH1CONSUMPTIONRECEIVED, "Previous Month 1 Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH3CONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH3CONSUMPTIONRECEIVED, "Previous Month 3 Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH5CONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH5CONSUMPTIONRECEIVED, "Previous Month 5 Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH7CONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH7CONSUMPTIONRECEIVED, "Previous Month 7 Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH9CONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH9CONSUMPTIONRECEIVED, "Previous Month 9 Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH11CONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH11CONSUMPTIONRECEIVED, "Previous Month 11 Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH13CONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH13CONSUMPTIONRECEIVED, "Previous Month 13 Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH15CONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH15CONSUMPTIONRECEIVED, "Previous Month 15 Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH17CONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH17CONSUMPTIONRECEIVED, "Previous Month 17 Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH19CONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH19CONSUMPTIONRECEIVED, "Previous Month 19 Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH21CONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH21CONSUMPTIONRECEIVED, "Previous Month 21 Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH23CONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH23CONSUMPTIONRECEIVED, "Previous Month 23 Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH25CONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH25CONSUMPTIONRECEIVED, "Previous Month 25 Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_HISTORICALFREEZETIME, new ZclAttributeDefinition(ATTR_HISTORICALFREEZETIME, "Historical Freeze Time", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_MAXNUMBEROFPERIODSDELIVERED, new ZclAttributeDefinition(ATTR_MAXNUMBEROFPERIODSDELIVERED, "Max Number Of Periods Delivered", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTDEMANDDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTDEMANDDELIVERED, "Current Demand Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_DEMANDLIMIT, new ZclAttributeDefinition(ATTR_DEMANDLIMIT, "Demand Limit", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_DEMANDINTEGRATIONPERIOD, new ZclAttributeDefinition(ATTR_DEMANDINTEGRATIONPERIOD, "Demand Integration Period", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_NUMBEROFDEMANDSUBINTERVALS, new ZclAttributeDefinition(ATTR_NUMBEROFDEMANDSUBINTERVALS, "Number Of Demand Subintervals", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_DEMANDLIMITARMDURATION, new ZclAttributeDefinition(ATTR_DEMANDLIMITARMDURATION, "Demand Limit Arm Duration", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_LOADLIMITSUPPLYSTATE, new ZclAttributeDefinition(ATTR_LOADLIMITSUPPLYSTATE, "Load Limit Supply State", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
+        attributeMap.put(ATTR_LOADLIMITCOUNTER, new ZclAttributeDefinition(ATTR_LOADLIMITCOUNTER, "Load Limit Counter", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_SUPPLYTAMPERSTATE, new ZclAttributeDefinition(ATTR_SUPPLYTAMPERSTATE, "Supply Tamper State", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
+        attributeMap.put(ATTR_SUPPLYDEPLETIONSTATE, new ZclAttributeDefinition(ATTR_SUPPLYDEPLETIONSTATE, "Supply Depletion State", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
+        attributeMap.put(ATTR_SUPPLYUNCONTROLLEDFLOWSTATE, new ZclAttributeDefinition(ATTR_SUPPLYUNCONTROLLEDFLOWSTATE, "Supply Uncontrolled Flow State", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTNOTIERBLOCK1SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTNOTIERBLOCK1SUMMATIONDELIVERED, "Current No Tier Block 1 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTNOTIERBLOCK2SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTNOTIERBLOCK2SUMMATIONDELIVERED, "Current No Tier Block 2 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTNOTIERBLOCK3SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTNOTIERBLOCK3SUMMATIONDELIVERED, "Current No Tier Block 3 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTNOTIERBLOCK4SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTNOTIERBLOCK4SUMMATIONDELIVERED, "Current No Tier Block 4 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTNOTIERBLOCK5SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTNOTIERBLOCK5SUMMATIONDELIVERED, "Current No Tier Block 5 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTNOTIERBLOCK6SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTNOTIERBLOCK6SUMMATIONDELIVERED, "Current No Tier Block 6 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTNOTIERBLOCK7SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTNOTIERBLOCK7SUMMATIONDELIVERED, "Current No Tier Block 7 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTNOTIERBLOCK8SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTNOTIERBLOCK8SUMMATIONDELIVERED, "Current No Tier Block 8 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTNOTIERBLOCK9SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTNOTIERBLOCK9SUMMATIONDELIVERED, "Current No Tier Block 9 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTNOTIERBLOCK10SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTNOTIERBLOCK10SUMMATIONDELIVERED, "Current No Tier Block 10 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTNOTIERBLOCK11SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTNOTIERBLOCK11SUMMATIONDELIVERED, "Current No Tier Block 11 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTNOTIERBLOCK12SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTNOTIERBLOCK12SUMMATIONDELIVERED, "Current No Tier Block 12 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTNOTIERBLOCK13SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTNOTIERBLOCK13SUMMATIONDELIVERED, "Current No Tier Block 13 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTNOTIERBLOCK14SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTNOTIERBLOCK14SUMMATIONDELIVERED, "Current No Tier Block 14 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTNOTIERBLOCK15SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTNOTIERBLOCK15SUMMATIONDELIVERED, "Current No Tier Block 15 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTNOTIERBLOCK16SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTNOTIERBLOCK16SUMMATIONDELIVERED, "Current No Tier Block 16 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER1BLOCK1SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER1BLOCK1SUMMATIONDELIVERED, "Current Tier 1 Block 1 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER1BLOCK2SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER1BLOCK2SUMMATIONDELIVERED, "Current Tier 1 Block 2 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER1BLOCK3SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER1BLOCK3SUMMATIONDELIVERED, "Current Tier 1 Block 3 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER1BLOCK4SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER1BLOCK4SUMMATIONDELIVERED, "Current Tier 1 Block 4 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER1BLOCK5SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER1BLOCK5SUMMATIONDELIVERED, "Current Tier 1 Block 5 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER1BLOCK6SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER1BLOCK6SUMMATIONDELIVERED, "Current Tier 1 Block 6 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER1BLOCK7SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER1BLOCK7SUMMATIONDELIVERED, "Current Tier 1 Block 7 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER1BLOCK8SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER1BLOCK8SUMMATIONDELIVERED, "Current Tier 1 Block 8 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER1BLOCK9SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER1BLOCK9SUMMATIONDELIVERED, "Current Tier 1 Block 9 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER1BLOCK10SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER1BLOCK10SUMMATIONDELIVERED, "Current Tier 1 Block 10 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER1BLOCK11SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER1BLOCK11SUMMATIONDELIVERED, "Current Tier 1 Block 11 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER1BLOCK12SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER1BLOCK12SUMMATIONDELIVERED, "Current Tier 1 Block 12 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER1BLOCK13SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER1BLOCK13SUMMATIONDELIVERED, "Current Tier 1 Block 13 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER1BLOCK14SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER1BLOCK14SUMMATIONDELIVERED, "Current Tier 1 Block 14 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER1BLOCK15SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER1BLOCK15SUMMATIONDELIVERED, "Current Tier 1 Block 15 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER1BLOCK16SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER1BLOCK16SUMMATIONDELIVERED, "Current Tier 1 Block 16 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER2BLOCK1SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER2BLOCK1SUMMATIONDELIVERED, "Current Tier 2 Block 1 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER2BLOCK2SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER2BLOCK2SUMMATIONDELIVERED, "Current Tier 2 Block 2 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER2BLOCK3SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER2BLOCK3SUMMATIONDELIVERED, "Current Tier 2 Block 3 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER2BLOCK4SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER2BLOCK4SUMMATIONDELIVERED, "Current Tier 2 Block 4 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER2BLOCK5SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER2BLOCK5SUMMATIONDELIVERED, "Current Tier 2 Block 5 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER2BLOCK6SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER2BLOCK6SUMMATIONDELIVERED, "Current Tier 2 Block 6 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER2BLOCK7SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER2BLOCK7SUMMATIONDELIVERED, "Current Tier 2 Block 7 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER2BLOCK8SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER2BLOCK8SUMMATIONDELIVERED, "Current Tier 2 Block 8 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER2BLOCK9SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER2BLOCK9SUMMATIONDELIVERED, "Current Tier 2 Block 9 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER2BLOCK10SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER2BLOCK10SUMMATIONDELIVERED, "Current Tier 2 Block 10 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER2BLOCK11SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER2BLOCK11SUMMATIONDELIVERED, "Current Tier 2 Block 11 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER2BLOCK12SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER2BLOCK12SUMMATIONDELIVERED, "Current Tier 2 Block 12 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER2BLOCK13SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER2BLOCK13SUMMATIONDELIVERED, "Current Tier 2 Block 13 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER2BLOCK14SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER2BLOCK14SUMMATIONDELIVERED, "Current Tier 2 Block 14 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER2BLOCK15SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER2BLOCK15SUMMATIONDELIVERED, "Current Tier 2 Block 15 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER2BLOCK16SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER2BLOCK16SUMMATIONDELIVERED, "Current Tier 2 Block 16 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER3BLOCK1SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER3BLOCK1SUMMATIONDELIVERED, "Current Tier 3 Block 1 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER3BLOCK2SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER3BLOCK2SUMMATIONDELIVERED, "Current Tier 3 Block 2 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER3BLOCK3SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER3BLOCK3SUMMATIONDELIVERED, "Current Tier 3 Block 3 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER3BLOCK4SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER3BLOCK4SUMMATIONDELIVERED, "Current Tier 3 Block 4 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER3BLOCK5SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER3BLOCK5SUMMATIONDELIVERED, "Current Tier 3 Block 5 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER3BLOCK6SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER3BLOCK6SUMMATIONDELIVERED, "Current Tier 3 Block 6 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER3BLOCK7SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER3BLOCK7SUMMATIONDELIVERED, "Current Tier 3 Block 7 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER3BLOCK8SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER3BLOCK8SUMMATIONDELIVERED, "Current Tier 3 Block 8 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER3BLOCK9SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER3BLOCK9SUMMATIONDELIVERED, "Current Tier 3 Block 9 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER3BLOCK10SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER3BLOCK10SUMMATIONDELIVERED, "Current Tier 3 Block 10 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER3BLOCK11SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER3BLOCK11SUMMATIONDELIVERED, "Current Tier 3 Block 11 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER3BLOCK12SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER3BLOCK12SUMMATIONDELIVERED, "Current Tier 3 Block 12 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER3BLOCK13SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER3BLOCK13SUMMATIONDELIVERED, "Current Tier 3 Block 13 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER3BLOCK14SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER3BLOCK14SUMMATIONDELIVERED, "Current Tier 3 Block 14 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER3BLOCK15SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER3BLOCK15SUMMATIONDELIVERED, "Current Tier 3 Block 15 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER3BLOCK16SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER3BLOCK16SUMMATIONDELIVERED, "Current Tier 3 Block 16 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER4BLOCK1SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER4BLOCK1SUMMATIONDELIVERED, "Current Tier 4 Block 1 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER4BLOCK2SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER4BLOCK2SUMMATIONDELIVERED, "Current Tier 4 Block 2 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER4BLOCK3SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER4BLOCK3SUMMATIONDELIVERED, "Current Tier 4 Block 3 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER4BLOCK4SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER4BLOCK4SUMMATIONDELIVERED, "Current Tier 4 Block 4 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER4BLOCK5SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER4BLOCK5SUMMATIONDELIVERED, "Current Tier 4 Block 5 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER4BLOCK6SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER4BLOCK6SUMMATIONDELIVERED, "Current Tier 4 Block 6 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER4BLOCK7SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER4BLOCK7SUMMATIONDELIVERED, "Current Tier 4 Block 7 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER4BLOCK8SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER4BLOCK8SUMMATIONDELIVERED, "Current Tier 4 Block 8 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER4BLOCK9SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER4BLOCK9SUMMATIONDELIVERED, "Current Tier 4 Block 9 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER4BLOCK10SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER4BLOCK10SUMMATIONDELIVERED, "Current Tier 4 Block 10 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER4BLOCK11SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER4BLOCK11SUMMATIONDELIVERED, "Current Tier 4 Block 11 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER4BLOCK12SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER4BLOCK12SUMMATIONDELIVERED, "Current Tier 4 Block 12 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER4BLOCK13SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER4BLOCK13SUMMATIONDELIVERED, "Current Tier 4 Block 13 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER4BLOCK14SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER4BLOCK14SUMMATIONDELIVERED, "Current Tier 4 Block 14 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER4BLOCK15SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER4BLOCK15SUMMATIONDELIVERED, "Current Tier 4 Block 15 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER4BLOCK16SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER4BLOCK16SUMMATIONDELIVERED, "Current Tier 4 Block 16 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER5BLOCK1SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER5BLOCK1SUMMATIONDELIVERED, "Current Tier 5 Block 1 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER5BLOCK2SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER5BLOCK2SUMMATIONDELIVERED, "Current Tier 5 Block 2 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER5BLOCK3SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER5BLOCK3SUMMATIONDELIVERED, "Current Tier 5 Block 3 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER5BLOCK4SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER5BLOCK4SUMMATIONDELIVERED, "Current Tier 5 Block 4 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER5BLOCK5SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER5BLOCK5SUMMATIONDELIVERED, "Current Tier 5 Block 5 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER5BLOCK6SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER5BLOCK6SUMMATIONDELIVERED, "Current Tier 5 Block 6 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER5BLOCK7SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER5BLOCK7SUMMATIONDELIVERED, "Current Tier 5 Block 7 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER5BLOCK8SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER5BLOCK8SUMMATIONDELIVERED, "Current Tier 5 Block 8 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER5BLOCK9SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER5BLOCK9SUMMATIONDELIVERED, "Current Tier 5 Block 9 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER5BLOCK10SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER5BLOCK10SUMMATIONDELIVERED, "Current Tier 5 Block 10 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER5BLOCK11SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER5BLOCK11SUMMATIONDELIVERED, "Current Tier 5 Block 11 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER5BLOCK12SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER5BLOCK12SUMMATIONDELIVERED, "Current Tier 5 Block 12 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER5BLOCK13SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER5BLOCK13SUMMATIONDELIVERED, "Current Tier 5 Block 13 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER5BLOCK14SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER5BLOCK14SUMMATIONDELIVERED, "Current Tier 5 Block 14 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER5BLOCK15SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER5BLOCK15SUMMATIONDELIVERED, "Current Tier 5 Block 15 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER5BLOCK16SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER5BLOCK16SUMMATIONDELIVERED, "Current Tier 5 Block 16 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER6BLOCK1SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER6BLOCK1SUMMATIONDELIVERED, "Current Tier 6 Block 1 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER6BLOCK2SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER6BLOCK2SUMMATIONDELIVERED, "Current Tier 6 Block 2 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER6BLOCK3SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER6BLOCK3SUMMATIONDELIVERED, "Current Tier 6 Block 3 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER6BLOCK4SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER6BLOCK4SUMMATIONDELIVERED, "Current Tier 6 Block 4 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER6BLOCK5SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER6BLOCK5SUMMATIONDELIVERED, "Current Tier 6 Block 5 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER6BLOCK6SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER6BLOCK6SUMMATIONDELIVERED, "Current Tier 6 Block 6 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER6BLOCK7SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER6BLOCK7SUMMATIONDELIVERED, "Current Tier 6 Block 7 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER6BLOCK8SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER6BLOCK8SUMMATIONDELIVERED, "Current Tier 6 Block 8 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER6BLOCK9SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER6BLOCK9SUMMATIONDELIVERED, "Current Tier 6 Block 9 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER6BLOCK10SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER6BLOCK10SUMMATIONDELIVERED, "Current Tier 6 Block 10 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER6BLOCK11SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER6BLOCK11SUMMATIONDELIVERED, "Current Tier 6 Block 11 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER6BLOCK12SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER6BLOCK12SUMMATIONDELIVERED, "Current Tier 6 Block 12 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER6BLOCK13SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER6BLOCK13SUMMATIONDELIVERED, "Current Tier 6 Block 13 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER6BLOCK14SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER6BLOCK14SUMMATIONDELIVERED, "Current Tier 6 Block 14 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER6BLOCK15SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER6BLOCK15SUMMATIONDELIVERED, "Current Tier 6 Block 15 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER6BLOCK16SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER6BLOCK16SUMMATIONDELIVERED, "Current Tier 6 Block 16 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER7BLOCK1SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER7BLOCK1SUMMATIONDELIVERED, "Current Tier 7 Block 1 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER7BLOCK2SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER7BLOCK2SUMMATIONDELIVERED, "Current Tier 7 Block 2 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER7BLOCK3SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER7BLOCK3SUMMATIONDELIVERED, "Current Tier 7 Block 3 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER7BLOCK4SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER7BLOCK4SUMMATIONDELIVERED, "Current Tier 7 Block 4 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER7BLOCK5SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER7BLOCK5SUMMATIONDELIVERED, "Current Tier 7 Block 5 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER7BLOCK6SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER7BLOCK6SUMMATIONDELIVERED, "Current Tier 7 Block 6 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER7BLOCK7SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER7BLOCK7SUMMATIONDELIVERED, "Current Tier 7 Block 7 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER7BLOCK8SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER7BLOCK8SUMMATIONDELIVERED, "Current Tier 7 Block 8 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER7BLOCK9SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER7BLOCK9SUMMATIONDELIVERED, "Current Tier 7 Block 9 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER7BLOCK10SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER7BLOCK10SUMMATIONDELIVERED, "Current Tier 7 Block 10 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER7BLOCK11SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER7BLOCK11SUMMATIONDELIVERED, "Current Tier 7 Block 11 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER7BLOCK12SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER7BLOCK12SUMMATIONDELIVERED, "Current Tier 7 Block 12 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER7BLOCK13SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER7BLOCK13SUMMATIONDELIVERED, "Current Tier 7 Block 13 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER7BLOCK14SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER7BLOCK14SUMMATIONDELIVERED, "Current Tier 7 Block 14 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER7BLOCK15SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER7BLOCK15SUMMATIONDELIVERED, "Current Tier 7 Block 15 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER7BLOCK16SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER7BLOCK16SUMMATIONDELIVERED, "Current Tier 7 Block 16 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER8BLOCK1SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER8BLOCK1SUMMATIONDELIVERED, "Current Tier 8 Block 1 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER8BLOCK2SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER8BLOCK2SUMMATIONDELIVERED, "Current Tier 8 Block 2 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER8BLOCK3SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER8BLOCK3SUMMATIONDELIVERED, "Current Tier 8 Block 3 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER8BLOCK4SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER8BLOCK4SUMMATIONDELIVERED, "Current Tier 8 Block 4 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER8BLOCK5SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER8BLOCK5SUMMATIONDELIVERED, "Current Tier 8 Block 5 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER8BLOCK6SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER8BLOCK6SUMMATIONDELIVERED, "Current Tier 8 Block 6 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER8BLOCK7SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER8BLOCK7SUMMATIONDELIVERED, "Current Tier 8 Block 7 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER8BLOCK8SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER8BLOCK8SUMMATIONDELIVERED, "Current Tier 8 Block 8 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER8BLOCK9SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER8BLOCK9SUMMATIONDELIVERED, "Current Tier 8 Block 9 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER8BLOCK10SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER8BLOCK10SUMMATIONDELIVERED, "Current Tier 8 Block 10 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER8BLOCK11SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER8BLOCK11SUMMATIONDELIVERED, "Current Tier 8 Block 11 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER8BLOCK12SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER8BLOCK12SUMMATIONDELIVERED, "Current Tier 8 Block 12 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER8BLOCK13SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER8BLOCK13SUMMATIONDELIVERED, "Current Tier 8 Block 13 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER8BLOCK14SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER8BLOCK14SUMMATIONDELIVERED, "Current Tier 8 Block 14 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER8BLOCK15SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER8BLOCK15SUMMATIONDELIVERED, "Current Tier 8 Block 15 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER8BLOCK16SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER8BLOCK16SUMMATIONDELIVERED, "Current Tier 8 Block 16 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER9BLOCK1SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER9BLOCK1SUMMATIONDELIVERED, "Current Tier 9 Block 1 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER9BLOCK2SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER9BLOCK2SUMMATIONDELIVERED, "Current Tier 9 Block 2 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER9BLOCK3SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER9BLOCK3SUMMATIONDELIVERED, "Current Tier 9 Block 3 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER9BLOCK4SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER9BLOCK4SUMMATIONDELIVERED, "Current Tier 9 Block 4 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER9BLOCK5SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER9BLOCK5SUMMATIONDELIVERED, "Current Tier 9 Block 5 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER9BLOCK6SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER9BLOCK6SUMMATIONDELIVERED, "Current Tier 9 Block 6 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER9BLOCK7SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER9BLOCK7SUMMATIONDELIVERED, "Current Tier 9 Block 7 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER9BLOCK8SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER9BLOCK8SUMMATIONDELIVERED, "Current Tier 9 Block 8 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER9BLOCK9SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER9BLOCK9SUMMATIONDELIVERED, "Current Tier 9 Block 9 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER9BLOCK10SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER9BLOCK10SUMMATIONDELIVERED, "Current Tier 9 Block 10 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER9BLOCK11SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER9BLOCK11SUMMATIONDELIVERED, "Current Tier 9 Block 11 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER9BLOCK12SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER9BLOCK12SUMMATIONDELIVERED, "Current Tier 9 Block 12 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER9BLOCK13SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER9BLOCK13SUMMATIONDELIVERED, "Current Tier 9 Block 13 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER9BLOCK14SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER9BLOCK14SUMMATIONDELIVERED, "Current Tier 9 Block 14 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER9BLOCK15SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER9BLOCK15SUMMATIONDELIVERED, "Current Tier 9 Block 15 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER9BLOCK16SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER9BLOCK16SUMMATIONDELIVERED, "Current Tier 9 Block 16 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER10BLOCK1SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER10BLOCK1SUMMATIONDELIVERED, "Current Tier 10 Block 1 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER10BLOCK2SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER10BLOCK2SUMMATIONDELIVERED, "Current Tier 10 Block 2 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER10BLOCK3SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER10BLOCK3SUMMATIONDELIVERED, "Current Tier 10 Block 3 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER10BLOCK4SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER10BLOCK4SUMMATIONDELIVERED, "Current Tier 10 Block 4 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER10BLOCK5SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER10BLOCK5SUMMATIONDELIVERED, "Current Tier 10 Block 5 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER10BLOCK6SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER10BLOCK6SUMMATIONDELIVERED, "Current Tier 10 Block 6 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER10BLOCK7SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER10BLOCK7SUMMATIONDELIVERED, "Current Tier 10 Block 7 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER10BLOCK8SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER10BLOCK8SUMMATIONDELIVERED, "Current Tier 10 Block 8 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER10BLOCK9SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER10BLOCK9SUMMATIONDELIVERED, "Current Tier 10 Block 9 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER10BLOCK10SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER10BLOCK10SUMMATIONDELIVERED, "Current Tier 10 Block 10 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER10BLOCK11SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER10BLOCK11SUMMATIONDELIVERED, "Current Tier 10 Block 11 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER10BLOCK12SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER10BLOCK12SUMMATIONDELIVERED, "Current Tier 10 Block 12 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER10BLOCK13SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER10BLOCK13SUMMATIONDELIVERED, "Current Tier 10 Block 13 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER10BLOCK14SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER10BLOCK14SUMMATIONDELIVERED, "Current Tier 10 Block 14 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER10BLOCK15SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER10BLOCK15SUMMATIONDELIVERED, "Current Tier 10 Block 15 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER10BLOCK16SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER10BLOCK16SUMMATIONDELIVERED, "Current Tier 10 Block 16 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER11BLOCK1SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER11BLOCK1SUMMATIONDELIVERED, "Current Tier 11 Block 1 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER11BLOCK2SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER11BLOCK2SUMMATIONDELIVERED, "Current Tier 11 Block 2 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER11BLOCK3SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER11BLOCK3SUMMATIONDELIVERED, "Current Tier 11 Block 3 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER11BLOCK4SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER11BLOCK4SUMMATIONDELIVERED, "Current Tier 11 Block 4 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER11BLOCK5SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER11BLOCK5SUMMATIONDELIVERED, "Current Tier 11 Block 5 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER11BLOCK6SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER11BLOCK6SUMMATIONDELIVERED, "Current Tier 11 Block 6 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER11BLOCK7SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER11BLOCK7SUMMATIONDELIVERED, "Current Tier 11 Block 7 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER11BLOCK8SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER11BLOCK8SUMMATIONDELIVERED, "Current Tier 11 Block 8 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER11BLOCK9SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER11BLOCK9SUMMATIONDELIVERED, "Current Tier 11 Block 9 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER11BLOCK10SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER11BLOCK10SUMMATIONDELIVERED, "Current Tier 11 Block 10 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER11BLOCK11SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER11BLOCK11SUMMATIONDELIVERED, "Current Tier 11 Block 11 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER11BLOCK12SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER11BLOCK12SUMMATIONDELIVERED, "Current Tier 11 Block 12 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER11BLOCK13SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER11BLOCK13SUMMATIONDELIVERED, "Current Tier 11 Block 13 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER11BLOCK14SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER11BLOCK14SUMMATIONDELIVERED, "Current Tier 11 Block 14 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER11BLOCK15SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER11BLOCK15SUMMATIONDELIVERED, "Current Tier 11 Block 15 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER11BLOCK16SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER11BLOCK16SUMMATIONDELIVERED, "Current Tier 11 Block 16 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER12BLOCK1SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER12BLOCK1SUMMATIONDELIVERED, "Current Tier 12 Block 1 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER12BLOCK2SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER12BLOCK2SUMMATIONDELIVERED, "Current Tier 12 Block 2 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER12BLOCK3SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER12BLOCK3SUMMATIONDELIVERED, "Current Tier 12 Block 3 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER12BLOCK4SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER12BLOCK4SUMMATIONDELIVERED, "Current Tier 12 Block 4 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER12BLOCK5SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER12BLOCK5SUMMATIONDELIVERED, "Current Tier 12 Block 5 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER12BLOCK6SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER12BLOCK6SUMMATIONDELIVERED, "Current Tier 12 Block 6 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER12BLOCK7SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER12BLOCK7SUMMATIONDELIVERED, "Current Tier 12 Block 7 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER12BLOCK8SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER12BLOCK8SUMMATIONDELIVERED, "Current Tier 12 Block 8 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER12BLOCK9SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER12BLOCK9SUMMATIONDELIVERED, "Current Tier 12 Block 9 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER12BLOCK10SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER12BLOCK10SUMMATIONDELIVERED, "Current Tier 12 Block 10 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER12BLOCK11SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER12BLOCK11SUMMATIONDELIVERED, "Current Tier 12 Block 11 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER12BLOCK12SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER12BLOCK12SUMMATIONDELIVERED, "Current Tier 12 Block 12 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER12BLOCK13SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER12BLOCK13SUMMATIONDELIVERED, "Current Tier 12 Block 13 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER12BLOCK14SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER12BLOCK14SUMMATIONDELIVERED, "Current Tier 12 Block 14 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER12BLOCK15SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER12BLOCK15SUMMATIONDELIVERED, "Current Tier 12 Block 15 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER12BLOCK16SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER12BLOCK16SUMMATIONDELIVERED, "Current Tier 12 Block 16 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER13BLOCK1SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER13BLOCK1SUMMATIONDELIVERED, "Current Tier 13 Block 1 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER13BLOCK2SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER13BLOCK2SUMMATIONDELIVERED, "Current Tier 13 Block 2 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER13BLOCK3SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER13BLOCK3SUMMATIONDELIVERED, "Current Tier 13 Block 3 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER13BLOCK4SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER13BLOCK4SUMMATIONDELIVERED, "Current Tier 13 Block 4 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER13BLOCK5SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER13BLOCK5SUMMATIONDELIVERED, "Current Tier 13 Block 5 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER13BLOCK6SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER13BLOCK6SUMMATIONDELIVERED, "Current Tier 13 Block 6 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER13BLOCK7SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER13BLOCK7SUMMATIONDELIVERED, "Current Tier 13 Block 7 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER13BLOCK8SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER13BLOCK8SUMMATIONDELIVERED, "Current Tier 13 Block 8 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER13BLOCK9SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER13BLOCK9SUMMATIONDELIVERED, "Current Tier 13 Block 9 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER13BLOCK10SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER13BLOCK10SUMMATIONDELIVERED, "Current Tier 13 Block 10 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER13BLOCK11SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER13BLOCK11SUMMATIONDELIVERED, "Current Tier 13 Block 11 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER13BLOCK12SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER13BLOCK12SUMMATIONDELIVERED, "Current Tier 13 Block 12 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER13BLOCK13SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER13BLOCK13SUMMATIONDELIVERED, "Current Tier 13 Block 13 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER13BLOCK14SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER13BLOCK14SUMMATIONDELIVERED, "Current Tier 13 Block 14 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER13BLOCK15SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER13BLOCK15SUMMATIONDELIVERED, "Current Tier 13 Block 15 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER13BLOCK16SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER13BLOCK16SUMMATIONDELIVERED, "Current Tier 13 Block 16 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER14BLOCK1SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER14BLOCK1SUMMATIONDELIVERED, "Current Tier 14 Block 1 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER14BLOCK2SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER14BLOCK2SUMMATIONDELIVERED, "Current Tier 14 Block 2 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER14BLOCK3SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER14BLOCK3SUMMATIONDELIVERED, "Current Tier 14 Block 3 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER14BLOCK4SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER14BLOCK4SUMMATIONDELIVERED, "Current Tier 14 Block 4 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER14BLOCK5SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER14BLOCK5SUMMATIONDELIVERED, "Current Tier 14 Block 5 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER14BLOCK6SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER14BLOCK6SUMMATIONDELIVERED, "Current Tier 14 Block 6 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER14BLOCK7SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER14BLOCK7SUMMATIONDELIVERED, "Current Tier 14 Block 7 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER14BLOCK8SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER14BLOCK8SUMMATIONDELIVERED, "Current Tier 14 Block 8 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER14BLOCK9SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER14BLOCK9SUMMATIONDELIVERED, "Current Tier 14 Block 9 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER14BLOCK10SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER14BLOCK10SUMMATIONDELIVERED, "Current Tier 14 Block 10 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER14BLOCK11SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER14BLOCK11SUMMATIONDELIVERED, "Current Tier 14 Block 11 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER14BLOCK12SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER14BLOCK12SUMMATIONDELIVERED, "Current Tier 14 Block 12 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER14BLOCK13SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER14BLOCK13SUMMATIONDELIVERED, "Current Tier 14 Block 13 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER14BLOCK14SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER14BLOCK14SUMMATIONDELIVERED, "Current Tier 14 Block 14 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER14BLOCK15SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER14BLOCK15SUMMATIONDELIVERED, "Current Tier 14 Block 15 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER14BLOCK16SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER14BLOCK16SUMMATIONDELIVERED, "Current Tier 14 Block 16 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER15BLOCK1SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER15BLOCK1SUMMATIONDELIVERED, "Current Tier 15 Block 1 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER15BLOCK2SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER15BLOCK2SUMMATIONDELIVERED, "Current Tier 15 Block 2 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER15BLOCK3SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER15BLOCK3SUMMATIONDELIVERED, "Current Tier 15 Block 3 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER15BLOCK4SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER15BLOCK4SUMMATIONDELIVERED, "Current Tier 15 Block 4 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER15BLOCK5SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER15BLOCK5SUMMATIONDELIVERED, "Current Tier 15 Block 5 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER15BLOCK6SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER15BLOCK6SUMMATIONDELIVERED, "Current Tier 15 Block 6 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER15BLOCK7SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER15BLOCK7SUMMATIONDELIVERED, "Current Tier 15 Block 7 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER15BLOCK8SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER15BLOCK8SUMMATIONDELIVERED, "Current Tier 15 Block 8 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER15BLOCK9SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER15BLOCK9SUMMATIONDELIVERED, "Current Tier 15 Block 9 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER15BLOCK10SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER15BLOCK10SUMMATIONDELIVERED, "Current Tier 15 Block 10 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER15BLOCK11SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER15BLOCK11SUMMATIONDELIVERED, "Current Tier 15 Block 11 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER15BLOCK12SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER15BLOCK12SUMMATIONDELIVERED, "Current Tier 15 Block 12 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER15BLOCK13SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER15BLOCK13SUMMATIONDELIVERED, "Current Tier 15 Block 13 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER15BLOCK14SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER15BLOCK14SUMMATIONDELIVERED, "Current Tier 15 Block 14 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER15BLOCK15SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER15BLOCK15SUMMATIONDELIVERED, "Current Tier 15 Block 15 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER15BLOCK16SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER15BLOCK16SUMMATIONDELIVERED, "Current Tier 15 Block 16 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_GENERICALARMMASK, new ZclAttributeDefinition(ATTR_GENERICALARMMASK, "Generic Alarm Mask", ZclDataType.BITMAP_16_BIT, false, true, true, true));
+        attributeMap.put(ATTR_ELECTRICITYALARMMASK, new ZclAttributeDefinition(ATTR_ELECTRICITYALARMMASK, "Electricity Alarm Mask", ZclDataType.BITMAP_32_BIT, false, true, true, true));
+        attributeMap.put(ATTR_GENERICFLOWPRESSUREALARMMASK, new ZclAttributeDefinition(ATTR_GENERICFLOWPRESSUREALARMMASK, "Generic Flow /pressure Alarm Mask", ZclDataType.BITMAP_16_BIT, false, true, true, true));
+        attributeMap.put(ATTR_WATERSPECIFICALARMMASK, new ZclAttributeDefinition(ATTR_WATERSPECIFICALARMMASK, "Water Specific Alarm Mask", ZclDataType.BITMAP_16_BIT, false, true, true, true));
+        attributeMap.put(ATTR_HEATANDCOOLINGSPECIFICALARMMASK, new ZclAttributeDefinition(ATTR_HEATANDCOOLINGSPECIFICALARMMASK, "Heat And Cooling Specific Alarm Mask", ZclDataType.BITMAP_16_BIT, false, true, true, true));
+        attributeMap.put(ATTR_GASSPECIFICALARMMASK, new ZclAttributeDefinition(ATTR_GASSPECIFICALARMMASK, "Gas Specific Alarm Mask", ZclDataType.BITMAP_16_BIT, false, true, true, true));
+        attributeMap.put(ATTR_EXTENDEDGENERICALARMMASK, new ZclAttributeDefinition(ATTR_EXTENDEDGENERICALARMMASK, "Extended Generic Alarm Mask", ZclDataType.BITMAP_48_BIT, false, true, true, true));
+        attributeMap.put(ATTR_MANUFACTUREALARMMASK, new ZclAttributeDefinition(ATTR_MANUFACTUREALARMMASK, "Manufacture Alarm Mask", ZclDataType.BITMAP_16_BIT, false, true, true, true));
+        attributeMap.put(ATTR_CURRENTNOTIERBLOCK1SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTNOTIERBLOCK1SUMMATIONRECEIVED, "Current No Tier Block 1 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTNOTIERBLOCK2SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTNOTIERBLOCK2SUMMATIONRECEIVED, "Current No Tier Block 2 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTNOTIERBLOCK3SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTNOTIERBLOCK3SUMMATIONRECEIVED, "Current No Tier Block 3 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTNOTIERBLOCK4SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTNOTIERBLOCK4SUMMATIONRECEIVED, "Current No Tier Block 4 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTNOTIERBLOCK5SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTNOTIERBLOCK5SUMMATIONRECEIVED, "Current No Tier Block 5 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTNOTIERBLOCK6SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTNOTIERBLOCK6SUMMATIONRECEIVED, "Current No Tier Block 6 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTNOTIERBLOCK7SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTNOTIERBLOCK7SUMMATIONRECEIVED, "Current No Tier Block 7 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTNOTIERBLOCK8SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTNOTIERBLOCK8SUMMATIONRECEIVED, "Current No Tier Block 8 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTNOTIERBLOCK9SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTNOTIERBLOCK9SUMMATIONRECEIVED, "Current No Tier Block 9 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTNOTIERBLOCK10SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTNOTIERBLOCK10SUMMATIONRECEIVED, "Current No Tier Block 10 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTNOTIERBLOCK11SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTNOTIERBLOCK11SUMMATIONRECEIVED, "Current No Tier Block 11 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTNOTIERBLOCK12SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTNOTIERBLOCK12SUMMATIONRECEIVED, "Current No Tier Block 12 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTNOTIERBLOCK13SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTNOTIERBLOCK13SUMMATIONRECEIVED, "Current No Tier Block 13 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTNOTIERBLOCK14SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTNOTIERBLOCK14SUMMATIONRECEIVED, "Current No Tier Block 14 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTNOTIERBLOCK15SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTNOTIERBLOCK15SUMMATIONRECEIVED, "Current No Tier Block 15 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTNOTIERBLOCK16SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTNOTIERBLOCK16SUMMATIONRECEIVED, "Current No Tier Block 16 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER1BLOCK1SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER1BLOCK1SUMMATIONRECEIVED, "Current Tier 1 Block 1 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER1BLOCK2SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER1BLOCK2SUMMATIONRECEIVED, "Current Tier 1 Block 2 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER1BLOCK3SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER1BLOCK3SUMMATIONRECEIVED, "Current Tier 1 Block 3 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER1BLOCK4SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER1BLOCK4SUMMATIONRECEIVED, "Current Tier 1 Block 4 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER1BLOCK5SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER1BLOCK5SUMMATIONRECEIVED, "Current Tier 1 Block 5 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER1BLOCK6SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER1BLOCK6SUMMATIONRECEIVED, "Current Tier 1 Block 6 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER1BLOCK7SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER1BLOCK7SUMMATIONRECEIVED, "Current Tier 1 Block 7 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER1BLOCK8SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER1BLOCK8SUMMATIONRECEIVED, "Current Tier 1 Block 8 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER1BLOCK9SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER1BLOCK9SUMMATIONRECEIVED, "Current Tier 1 Block 9 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER1BLOCK10SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER1BLOCK10SUMMATIONRECEIVED, "Current Tier 1 Block 10 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER1BLOCK11SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER1BLOCK11SUMMATIONRECEIVED, "Current Tier 1 Block 11 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER1BLOCK12SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER1BLOCK12SUMMATIONRECEIVED, "Current Tier 1 Block 12 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER1BLOCK13SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER1BLOCK13SUMMATIONRECEIVED, "Current Tier 1 Block 13 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER1BLOCK14SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER1BLOCK14SUMMATIONRECEIVED, "Current Tier 1 Block 14 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER1BLOCK15SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER1BLOCK15SUMMATIONRECEIVED, "Current Tier 1 Block 15 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER1BLOCK16SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER1BLOCK16SUMMATIONRECEIVED, "Current Tier 1 Block 16 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER2BLOCK1SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER2BLOCK1SUMMATIONRECEIVED, "Current Tier 2 Block 1 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER2BLOCK2SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER2BLOCK2SUMMATIONRECEIVED, "Current Tier 2 Block 2 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER2BLOCK3SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER2BLOCK3SUMMATIONRECEIVED, "Current Tier 2 Block 3 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER2BLOCK4SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER2BLOCK4SUMMATIONRECEIVED, "Current Tier 2 Block 4 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER2BLOCK5SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER2BLOCK5SUMMATIONRECEIVED, "Current Tier 2 Block 5 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER2BLOCK6SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER2BLOCK6SUMMATIONRECEIVED, "Current Tier 2 Block 6 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER2BLOCK7SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER2BLOCK7SUMMATIONRECEIVED, "Current Tier 2 Block 7 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER2BLOCK8SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER2BLOCK8SUMMATIONRECEIVED, "Current Tier 2 Block 8 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER2BLOCK9SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER2BLOCK9SUMMATIONRECEIVED, "Current Tier 2 Block 9 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER2BLOCK10SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER2BLOCK10SUMMATIONRECEIVED, "Current Tier 2 Block 10 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER2BLOCK11SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER2BLOCK11SUMMATIONRECEIVED, "Current Tier 2 Block 11 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER2BLOCK12SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER2BLOCK12SUMMATIONRECEIVED, "Current Tier 2 Block 12 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER2BLOCK13SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER2BLOCK13SUMMATIONRECEIVED, "Current Tier 2 Block 13 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER2BLOCK14SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER2BLOCK14SUMMATIONRECEIVED, "Current Tier 2 Block 14 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER2BLOCK15SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER2BLOCK15SUMMATIONRECEIVED, "Current Tier 2 Block 15 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER2BLOCK16SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER2BLOCK16SUMMATIONRECEIVED, "Current Tier 2 Block 16 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER3BLOCK1SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER3BLOCK1SUMMATIONRECEIVED, "Current Tier 3 Block 1 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER3BLOCK2SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER3BLOCK2SUMMATIONRECEIVED, "Current Tier 3 Block 2 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER3BLOCK3SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER3BLOCK3SUMMATIONRECEIVED, "Current Tier 3 Block 3 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER3BLOCK4SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER3BLOCK4SUMMATIONRECEIVED, "Current Tier 3 Block 4 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER3BLOCK5SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER3BLOCK5SUMMATIONRECEIVED, "Current Tier 3 Block 5 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER3BLOCK6SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER3BLOCK6SUMMATIONRECEIVED, "Current Tier 3 Block 6 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER3BLOCK7SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER3BLOCK7SUMMATIONRECEIVED, "Current Tier 3 Block 7 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER3BLOCK8SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER3BLOCK8SUMMATIONRECEIVED, "Current Tier 3 Block 8 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER3BLOCK9SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER3BLOCK9SUMMATIONRECEIVED, "Current Tier 3 Block 9 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER3BLOCK10SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER3BLOCK10SUMMATIONRECEIVED, "Current Tier 3 Block 10 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER3BLOCK11SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER3BLOCK11SUMMATIONRECEIVED, "Current Tier 3 Block 11 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER3BLOCK12SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER3BLOCK12SUMMATIONRECEIVED, "Current Tier 3 Block 12 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER3BLOCK13SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER3BLOCK13SUMMATIONRECEIVED, "Current Tier 3 Block 13 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER3BLOCK14SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER3BLOCK14SUMMATIONRECEIVED, "Current Tier 3 Block 14 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER3BLOCK15SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER3BLOCK15SUMMATIONRECEIVED, "Current Tier 3 Block 15 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER3BLOCK16SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER3BLOCK16SUMMATIONRECEIVED, "Current Tier 3 Block 16 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER4BLOCK1SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER4BLOCK1SUMMATIONRECEIVED, "Current Tier 4 Block 1 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER4BLOCK2SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER4BLOCK2SUMMATIONRECEIVED, "Current Tier 4 Block 2 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER4BLOCK3SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER4BLOCK3SUMMATIONRECEIVED, "Current Tier 4 Block 3 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER4BLOCK4SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER4BLOCK4SUMMATIONRECEIVED, "Current Tier 4 Block 4 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER4BLOCK5SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER4BLOCK5SUMMATIONRECEIVED, "Current Tier 4 Block 5 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER4BLOCK6SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER4BLOCK6SUMMATIONRECEIVED, "Current Tier 4 Block 6 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER4BLOCK7SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER4BLOCK7SUMMATIONRECEIVED, "Current Tier 4 Block 7 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER4BLOCK8SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER4BLOCK8SUMMATIONRECEIVED, "Current Tier 4 Block 8 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER4BLOCK9SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER4BLOCK9SUMMATIONRECEIVED, "Current Tier 4 Block 9 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER4BLOCK10SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER4BLOCK10SUMMATIONRECEIVED, "Current Tier 4 Block 10 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER4BLOCK11SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER4BLOCK11SUMMATIONRECEIVED, "Current Tier 4 Block 11 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER4BLOCK12SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER4BLOCK12SUMMATIONRECEIVED, "Current Tier 4 Block 12 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER4BLOCK13SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER4BLOCK13SUMMATIONRECEIVED, "Current Tier 4 Block 13 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER4BLOCK14SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER4BLOCK14SUMMATIONRECEIVED, "Current Tier 4 Block 14 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER4BLOCK15SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER4BLOCK15SUMMATIONRECEIVED, "Current Tier 4 Block 15 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER4BLOCK16SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER4BLOCK16SUMMATIONRECEIVED, "Current Tier 4 Block 16 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER5BLOCK1SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER5BLOCK1SUMMATIONRECEIVED, "Current Tier 5 Block 1 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER5BLOCK2SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER5BLOCK2SUMMATIONRECEIVED, "Current Tier 5 Block 2 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER5BLOCK3SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER5BLOCK3SUMMATIONRECEIVED, "Current Tier 5 Block 3 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER5BLOCK4SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER5BLOCK4SUMMATIONRECEIVED, "Current Tier 5 Block 4 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER5BLOCK5SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER5BLOCK5SUMMATIONRECEIVED, "Current Tier 5 Block 5 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER5BLOCK6SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER5BLOCK6SUMMATIONRECEIVED, "Current Tier 5 Block 6 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER5BLOCK7SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER5BLOCK7SUMMATIONRECEIVED, "Current Tier 5 Block 7 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER5BLOCK8SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER5BLOCK8SUMMATIONRECEIVED, "Current Tier 5 Block 8 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER5BLOCK9SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER5BLOCK9SUMMATIONRECEIVED, "Current Tier 5 Block 9 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER5BLOCK10SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER5BLOCK10SUMMATIONRECEIVED, "Current Tier 5 Block 10 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER5BLOCK11SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER5BLOCK11SUMMATIONRECEIVED, "Current Tier 5 Block 11 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER5BLOCK12SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER5BLOCK12SUMMATIONRECEIVED, "Current Tier 5 Block 12 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER5BLOCK13SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER5BLOCK13SUMMATIONRECEIVED, "Current Tier 5 Block 13 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER5BLOCK14SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER5BLOCK14SUMMATIONRECEIVED, "Current Tier 5 Block 14 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER5BLOCK15SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER5BLOCK15SUMMATIONRECEIVED, "Current Tier 5 Block 15 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER5BLOCK16SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER5BLOCK16SUMMATIONRECEIVED, "Current Tier 5 Block 16 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER6BLOCK1SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER6BLOCK1SUMMATIONRECEIVED, "Current Tier 6 Block 1 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER6BLOCK2SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER6BLOCK2SUMMATIONRECEIVED, "Current Tier 6 Block 2 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER6BLOCK3SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER6BLOCK3SUMMATIONRECEIVED, "Current Tier 6 Block 3 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER6BLOCK4SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER6BLOCK4SUMMATIONRECEIVED, "Current Tier 6 Block 4 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER6BLOCK5SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER6BLOCK5SUMMATIONRECEIVED, "Current Tier 6 Block 5 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER6BLOCK6SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER6BLOCK6SUMMATIONRECEIVED, "Current Tier 6 Block 6 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER6BLOCK7SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER6BLOCK7SUMMATIONRECEIVED, "Current Tier 6 Block 7 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER6BLOCK8SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER6BLOCK8SUMMATIONRECEIVED, "Current Tier 6 Block 8 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER6BLOCK9SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER6BLOCK9SUMMATIONRECEIVED, "Current Tier 6 Block 9 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER6BLOCK10SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER6BLOCK10SUMMATIONRECEIVED, "Current Tier 6 Block 10 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER6BLOCK11SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER6BLOCK11SUMMATIONRECEIVED, "Current Tier 6 Block 11 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER6BLOCK12SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER6BLOCK12SUMMATIONRECEIVED, "Current Tier 6 Block 12 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER6BLOCK13SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER6BLOCK13SUMMATIONRECEIVED, "Current Tier 6 Block 13 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER6BLOCK14SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER6BLOCK14SUMMATIONRECEIVED, "Current Tier 6 Block 14 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER6BLOCK15SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER6BLOCK15SUMMATIONRECEIVED, "Current Tier 6 Block 15 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER6BLOCK16SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER6BLOCK16SUMMATIONRECEIVED, "Current Tier 6 Block 16 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER7BLOCK1SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER7BLOCK1SUMMATIONRECEIVED, "Current Tier 7 Block 1 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER7BLOCK2SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER7BLOCK2SUMMATIONRECEIVED, "Current Tier 7 Block 2 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER7BLOCK3SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER7BLOCK3SUMMATIONRECEIVED, "Current Tier 7 Block 3 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER7BLOCK4SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER7BLOCK4SUMMATIONRECEIVED, "Current Tier 7 Block 4 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER7BLOCK5SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER7BLOCK5SUMMATIONRECEIVED, "Current Tier 7 Block 5 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER7BLOCK6SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER7BLOCK6SUMMATIONRECEIVED, "Current Tier 7 Block 6 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER7BLOCK7SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER7BLOCK7SUMMATIONRECEIVED, "Current Tier 7 Block 7 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER7BLOCK8SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER7BLOCK8SUMMATIONRECEIVED, "Current Tier 7 Block 8 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER7BLOCK9SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER7BLOCK9SUMMATIONRECEIVED, "Current Tier 7 Block 9 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER7BLOCK10SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER7BLOCK10SUMMATIONRECEIVED, "Current Tier 7 Block 10 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER7BLOCK11SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER7BLOCK11SUMMATIONRECEIVED, "Current Tier 7 Block 11 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER7BLOCK12SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER7BLOCK12SUMMATIONRECEIVED, "Current Tier 7 Block 12 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER7BLOCK13SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER7BLOCK13SUMMATIONRECEIVED, "Current Tier 7 Block 13 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER7BLOCK14SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER7BLOCK14SUMMATIONRECEIVED, "Current Tier 7 Block 14 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER7BLOCK15SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER7BLOCK15SUMMATIONRECEIVED, "Current Tier 7 Block 15 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER7BLOCK16SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER7BLOCK16SUMMATIONRECEIVED, "Current Tier 7 Block 16 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER8BLOCK1SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER8BLOCK1SUMMATIONRECEIVED, "Current Tier 8 Block 1 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER8BLOCK2SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER8BLOCK2SUMMATIONRECEIVED, "Current Tier 8 Block 2 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER8BLOCK3SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER8BLOCK3SUMMATIONRECEIVED, "Current Tier 8 Block 3 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER8BLOCK4SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER8BLOCK4SUMMATIONRECEIVED, "Current Tier 8 Block 4 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER8BLOCK5SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER8BLOCK5SUMMATIONRECEIVED, "Current Tier 8 Block 5 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER8BLOCK6SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER8BLOCK6SUMMATIONRECEIVED, "Current Tier 8 Block 6 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER8BLOCK7SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER8BLOCK7SUMMATIONRECEIVED, "Current Tier 8 Block 7 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER8BLOCK8SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER8BLOCK8SUMMATIONRECEIVED, "Current Tier 8 Block 8 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER8BLOCK9SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER8BLOCK9SUMMATIONRECEIVED, "Current Tier 8 Block 9 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER8BLOCK10SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER8BLOCK10SUMMATIONRECEIVED, "Current Tier 8 Block 10 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER8BLOCK11SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER8BLOCK11SUMMATIONRECEIVED, "Current Tier 8 Block 11 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER8BLOCK12SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER8BLOCK12SUMMATIONRECEIVED, "Current Tier 8 Block 12 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER8BLOCK13SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER8BLOCK13SUMMATIONRECEIVED, "Current Tier 8 Block 13 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER8BLOCK14SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER8BLOCK14SUMMATIONRECEIVED, "Current Tier 8 Block 14 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER8BLOCK15SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER8BLOCK15SUMMATIONRECEIVED, "Current Tier 8 Block 15 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER8BLOCK16SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER8BLOCK16SUMMATIONRECEIVED, "Current Tier 8 Block 16 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER9BLOCK1SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER9BLOCK1SUMMATIONRECEIVED, "Current Tier 9 Block 1 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER9BLOCK2SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER9BLOCK2SUMMATIONRECEIVED, "Current Tier 9 Block 2 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER9BLOCK3SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER9BLOCK3SUMMATIONRECEIVED, "Current Tier 9 Block 3 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER9BLOCK4SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER9BLOCK4SUMMATIONRECEIVED, "Current Tier 9 Block 4 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER9BLOCK5SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER9BLOCK5SUMMATIONRECEIVED, "Current Tier 9 Block 5 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER9BLOCK6SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER9BLOCK6SUMMATIONRECEIVED, "Current Tier 9 Block 6 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER9BLOCK7SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER9BLOCK7SUMMATIONRECEIVED, "Current Tier 9 Block 7 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER9BLOCK8SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER9BLOCK8SUMMATIONRECEIVED, "Current Tier 9 Block 8 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER9BLOCK9SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER9BLOCK9SUMMATIONRECEIVED, "Current Tier 9 Block 9 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER9BLOCK10SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER9BLOCK10SUMMATIONRECEIVED, "Current Tier 9 Block 10 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER9BLOCK11SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER9BLOCK11SUMMATIONRECEIVED, "Current Tier 9 Block 11 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER9BLOCK12SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER9BLOCK12SUMMATIONRECEIVED, "Current Tier 9 Block 12 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER9BLOCK13SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER9BLOCK13SUMMATIONRECEIVED, "Current Tier 9 Block 13 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER9BLOCK14SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER9BLOCK14SUMMATIONRECEIVED, "Current Tier 9 Block 14 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER9BLOCK15SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER9BLOCK15SUMMATIONRECEIVED, "Current Tier 9 Block 15 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER9BLOCK16SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER9BLOCK16SUMMATIONRECEIVED, "Current Tier 9 Block 16 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER10BLOCK1SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER10BLOCK1SUMMATIONRECEIVED, "Current Tier 10 Block 1 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER10BLOCK2SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER10BLOCK2SUMMATIONRECEIVED, "Current Tier 10 Block 2 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER10BLOCK3SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER10BLOCK3SUMMATIONRECEIVED, "Current Tier 10 Block 3 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER10BLOCK4SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER10BLOCK4SUMMATIONRECEIVED, "Current Tier 10 Block 4 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER10BLOCK5SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER10BLOCK5SUMMATIONRECEIVED, "Current Tier 10 Block 5 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER10BLOCK6SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER10BLOCK6SUMMATIONRECEIVED, "Current Tier 10 Block 6 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER10BLOCK7SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER10BLOCK7SUMMATIONRECEIVED, "Current Tier 10 Block 7 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER10BLOCK8SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER10BLOCK8SUMMATIONRECEIVED, "Current Tier 10 Block 8 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER10BLOCK9SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER10BLOCK9SUMMATIONRECEIVED, "Current Tier 10 Block 9 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER10BLOCK10SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER10BLOCK10SUMMATIONRECEIVED, "Current Tier 10 Block 10 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER10BLOCK11SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER10BLOCK11SUMMATIONRECEIVED, "Current Tier 10 Block 11 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER10BLOCK12SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER10BLOCK12SUMMATIONRECEIVED, "Current Tier 10 Block 12 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER10BLOCK13SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER10BLOCK13SUMMATIONRECEIVED, "Current Tier 10 Block 13 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER10BLOCK14SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER10BLOCK14SUMMATIONRECEIVED, "Current Tier 10 Block 14 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER10BLOCK15SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER10BLOCK15SUMMATIONRECEIVED, "Current Tier 10 Block 15 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER10BLOCK16SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER10BLOCK16SUMMATIONRECEIVED, "Current Tier 10 Block 16 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER11BLOCK1SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER11BLOCK1SUMMATIONRECEIVED, "Current Tier 11 Block 1 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER11BLOCK2SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER11BLOCK2SUMMATIONRECEIVED, "Current Tier 11 Block 2 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER11BLOCK3SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER11BLOCK3SUMMATIONRECEIVED, "Current Tier 11 Block 3 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER11BLOCK4SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER11BLOCK4SUMMATIONRECEIVED, "Current Tier 11 Block 4 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER11BLOCK5SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER11BLOCK5SUMMATIONRECEIVED, "Current Tier 11 Block 5 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER11BLOCK6SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER11BLOCK6SUMMATIONRECEIVED, "Current Tier 11 Block 6 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER11BLOCK7SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER11BLOCK7SUMMATIONRECEIVED, "Current Tier 11 Block 7 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER11BLOCK8SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER11BLOCK8SUMMATIONRECEIVED, "Current Tier 11 Block 8 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER11BLOCK9SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER11BLOCK9SUMMATIONRECEIVED, "Current Tier 11 Block 9 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER11BLOCK10SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER11BLOCK10SUMMATIONRECEIVED, "Current Tier 11 Block 10 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER11BLOCK11SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER11BLOCK11SUMMATIONRECEIVED, "Current Tier 11 Block 11 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER11BLOCK12SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER11BLOCK12SUMMATIONRECEIVED, "Current Tier 11 Block 12 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER11BLOCK13SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER11BLOCK13SUMMATIONRECEIVED, "Current Tier 11 Block 13 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER11BLOCK14SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER11BLOCK14SUMMATIONRECEIVED, "Current Tier 11 Block 14 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER11BLOCK15SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER11BLOCK15SUMMATIONRECEIVED, "Current Tier 11 Block 15 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER11BLOCK16SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER11BLOCK16SUMMATIONRECEIVED, "Current Tier 11 Block 16 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER12BLOCK1SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER12BLOCK1SUMMATIONRECEIVED, "Current Tier 12 Block 1 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER12BLOCK2SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER12BLOCK2SUMMATIONRECEIVED, "Current Tier 12 Block 2 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER12BLOCK3SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER12BLOCK3SUMMATIONRECEIVED, "Current Tier 12 Block 3 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER12BLOCK4SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER12BLOCK4SUMMATIONRECEIVED, "Current Tier 12 Block 4 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER12BLOCK5SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER12BLOCK5SUMMATIONRECEIVED, "Current Tier 12 Block 5 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER12BLOCK6SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER12BLOCK6SUMMATIONRECEIVED, "Current Tier 12 Block 6 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER12BLOCK7SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER12BLOCK7SUMMATIONRECEIVED, "Current Tier 12 Block 7 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER12BLOCK8SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER12BLOCK8SUMMATIONRECEIVED, "Current Tier 12 Block 8 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER12BLOCK9SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER12BLOCK9SUMMATIONRECEIVED, "Current Tier 12 Block 9 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER12BLOCK10SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER12BLOCK10SUMMATIONRECEIVED, "Current Tier 12 Block 10 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER12BLOCK11SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER12BLOCK11SUMMATIONRECEIVED, "Current Tier 12 Block 11 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER12BLOCK12SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER12BLOCK12SUMMATIONRECEIVED, "Current Tier 12 Block 12 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER12BLOCK13SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER12BLOCK13SUMMATIONRECEIVED, "Current Tier 12 Block 13 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER12BLOCK14SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER12BLOCK14SUMMATIONRECEIVED, "Current Tier 12 Block 14 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER12BLOCK15SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER12BLOCK15SUMMATIONRECEIVED, "Current Tier 12 Block 15 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER12BLOCK16SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER12BLOCK16SUMMATIONRECEIVED, "Current Tier 12 Block 16 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER13BLOCK1SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER13BLOCK1SUMMATIONRECEIVED, "Current Tier 13 Block 1 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER13BLOCK2SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER13BLOCK2SUMMATIONRECEIVED, "Current Tier 13 Block 2 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER13BLOCK3SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER13BLOCK3SUMMATIONRECEIVED, "Current Tier 13 Block 3 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER13BLOCK4SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER13BLOCK4SUMMATIONRECEIVED, "Current Tier 13 Block 4 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER13BLOCK5SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER13BLOCK5SUMMATIONRECEIVED, "Current Tier 13 Block 5 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER13BLOCK6SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER13BLOCK6SUMMATIONRECEIVED, "Current Tier 13 Block 6 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER13BLOCK7SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER13BLOCK7SUMMATIONRECEIVED, "Current Tier 13 Block 7 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER13BLOCK8SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER13BLOCK8SUMMATIONRECEIVED, "Current Tier 13 Block 8 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER13BLOCK9SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER13BLOCK9SUMMATIONRECEIVED, "Current Tier 13 Block 9 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER13BLOCK10SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER13BLOCK10SUMMATIONRECEIVED, "Current Tier 13 Block 10 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER13BLOCK11SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER13BLOCK11SUMMATIONRECEIVED, "Current Tier 13 Block 11 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER13BLOCK12SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER13BLOCK12SUMMATIONRECEIVED, "Current Tier 13 Block 12 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER13BLOCK13SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER13BLOCK13SUMMATIONRECEIVED, "Current Tier 13 Block 13 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER13BLOCK14SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER13BLOCK14SUMMATIONRECEIVED, "Current Tier 13 Block 14 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER13BLOCK15SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER13BLOCK15SUMMATIONRECEIVED, "Current Tier 13 Block 15 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER13BLOCK16SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER13BLOCK16SUMMATIONRECEIVED, "Current Tier 13 Block 16 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER14BLOCK1SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER14BLOCK1SUMMATIONRECEIVED, "Current Tier 14 Block 1 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER14BLOCK2SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER14BLOCK2SUMMATIONRECEIVED, "Current Tier 14 Block 2 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER14BLOCK3SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER14BLOCK3SUMMATIONRECEIVED, "Current Tier 14 Block 3 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER14BLOCK4SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER14BLOCK4SUMMATIONRECEIVED, "Current Tier 14 Block 4 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER14BLOCK5SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER14BLOCK5SUMMATIONRECEIVED, "Current Tier 14 Block 5 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER14BLOCK6SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER14BLOCK6SUMMATIONRECEIVED, "Current Tier 14 Block 6 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER14BLOCK7SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER14BLOCK7SUMMATIONRECEIVED, "Current Tier 14 Block 7 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER14BLOCK8SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER14BLOCK8SUMMATIONRECEIVED, "Current Tier 14 Block 8 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER14BLOCK9SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER14BLOCK9SUMMATIONRECEIVED, "Current Tier 14 Block 9 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER14BLOCK10SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER14BLOCK10SUMMATIONRECEIVED, "Current Tier 14 Block 10 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER14BLOCK11SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER14BLOCK11SUMMATIONRECEIVED, "Current Tier 14 Block 11 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER14BLOCK12SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER14BLOCK12SUMMATIONRECEIVED, "Current Tier 14 Block 12 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER14BLOCK13SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER14BLOCK13SUMMATIONRECEIVED, "Current Tier 14 Block 13 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER14BLOCK14SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER14BLOCK14SUMMATIONRECEIVED, "Current Tier 14 Block 14 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER14BLOCK15SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER14BLOCK15SUMMATIONRECEIVED, "Current Tier 14 Block 15 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER14BLOCK16SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER14BLOCK16SUMMATIONRECEIVED, "Current Tier 14 Block 16 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER15BLOCK1SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER15BLOCK1SUMMATIONRECEIVED, "Current Tier 15 Block 1 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER15BLOCK2SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER15BLOCK2SUMMATIONRECEIVED, "Current Tier 15 Block 2 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER15BLOCK3SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER15BLOCK3SUMMATIONRECEIVED, "Current Tier 15 Block 3 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER15BLOCK4SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER15BLOCK4SUMMATIONRECEIVED, "Current Tier 15 Block 4 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER15BLOCK5SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER15BLOCK5SUMMATIONRECEIVED, "Current Tier 15 Block 5 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER15BLOCK6SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER15BLOCK6SUMMATIONRECEIVED, "Current Tier 15 Block 6 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER15BLOCK7SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER15BLOCK7SUMMATIONRECEIVED, "Current Tier 15 Block 7 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER15BLOCK8SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER15BLOCK8SUMMATIONRECEIVED, "Current Tier 15 Block 8 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER15BLOCK9SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER15BLOCK9SUMMATIONRECEIVED, "Current Tier 15 Block 9 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER15BLOCK10SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER15BLOCK10SUMMATIONRECEIVED, "Current Tier 15 Block 10 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER15BLOCK11SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER15BLOCK11SUMMATIONRECEIVED, "Current Tier 15 Block 11 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER15BLOCK12SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER15BLOCK12SUMMATIONRECEIVED, "Current Tier 15 Block 12 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER15BLOCK13SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER15BLOCK13SUMMATIONRECEIVED, "Current Tier 15 Block 13 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER15BLOCK14SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER15BLOCK14SUMMATIONRECEIVED, "Current Tier 15 Block 14 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER15BLOCK15SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER15BLOCK15SUMMATIONRECEIVED, "Current Tier 15 Block 15 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER15BLOCK16SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER15BLOCK16SUMMATIONRECEIVED, "Current Tier 15 Block 16 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_BILLTODATEDELIVERED, new ZclAttributeDefinition(ATTR_BILLTODATEDELIVERED, "Bill To Date Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_BILLTODATETIMESTAMPDELIVERED, new ZclAttributeDefinition(ATTR_BILLTODATETIMESTAMPDELIVERED, "Bill To Date Time Stamp Delivered", ZclDataType.UTCTIME, true, true, false, false));
+        attributeMap.put(ATTR_PROJECTEDBILLDELIVERED, new ZclAttributeDefinition(ATTR_PROJECTEDBILLDELIVERED, "Projected Bill Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PROJECTEDBILLTIMESTAMPDELIVERED, new ZclAttributeDefinition(ATTR_PROJECTEDBILLTIMESTAMPDELIVERED, "Projected Bill Time Stamp Delivered", ZclDataType.UTCTIME, true, true, false, false));
+        attributeMap.put(ATTR_BILLDELIVEREDTRAILINGDIGIT, new ZclAttributeDefinition(ATTR_BILLDELIVEREDTRAILINGDIGIT, "Bill Delivered Trailing Digit", ZclDataType.BITMAP_8_BIT, true, true, false, false));
+        attributeMap.put(ATTR_BILLTODATERECEIVED, new ZclAttributeDefinition(ATTR_BILLTODATERECEIVED, "Bill To Date Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_BILLTODATETIMESTAMPRECEIVED, new ZclAttributeDefinition(ATTR_BILLTODATETIMESTAMPRECEIVED, "Bill To Date Time Stamp Received", ZclDataType.UTCTIME, true, true, false, false));
+        attributeMap.put(ATTR_PROJECTEDBILLRECEIVED, new ZclAttributeDefinition(ATTR_PROJECTEDBILLRECEIVED, "Projected Bill Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PROJECTEDBILLTIMESTAMPRECEIVED, new ZclAttributeDefinition(ATTR_PROJECTEDBILLTIMESTAMPRECEIVED, "Projected Bill Time Stamp Received", ZclDataType.UTCTIME, true, true, false, false));
+        attributeMap.put(ATTR_BILLRECEIVEDTRAILINGDIGIT, new ZclAttributeDefinition(ATTR_BILLRECEIVEDTRAILINGDIGIT, "Bill Received Trailing Digit", ZclDataType.BITMAP_8_BIT, true, true, false, false));
+        attributeMap.put(ATTR_PROPOSEDCHANGESUPPLYIMPLEMENTATIONTIME, new ZclAttributeDefinition(ATTR_PROPOSEDCHANGESUPPLYIMPLEMENTATIONTIME, "Proposed Change Supply Implementation Time", ZclDataType.UTCTIME, true, true, false, false));
+        attributeMap.put(ATTR_PROPOSEDCHANGESUPPLYSTATUS, new ZclAttributeDefinition(ATTR_PROPOSEDCHANGESUPPLYSTATUS, "Proposed Change Supply Status", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
+        attributeMap.put(ATTR_UNCONTROLLEDFLOWTHRESHOLD, new ZclAttributeDefinition(ATTR_UNCONTROLLEDFLOWTHRESHOLD, "Uncontrolled Flow Threshold", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_UNCONTROLLEDFLOWTHRESHOLDUNITOFMEASURE, new ZclAttributeDefinition(ATTR_UNCONTROLLEDFLOWTHRESHOLDUNITOFMEASURE, "Uncontrolled Flow Threshold Unit Of Measure", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
+        attributeMap.put(ATTR_UNCONTROLLEDFLOWTHRESHOLDMULTIPLIER, new ZclAttributeDefinition(ATTR_UNCONTROLLEDFLOWTHRESHOLDMULTIPLIER, "Uncontrolled Flow Threshold Multiplier", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_UNCONTROLLEDFLOWTHRESHOLDDIVISOR, new ZclAttributeDefinition(ATTR_UNCONTROLLEDFLOWTHRESHOLDDIVISOR, "Uncontrolled Flow Threshold Divisor", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_FLOWSTABILIZATIONPERIOD, new ZclAttributeDefinition(ATTR_FLOWSTABILIZATIONPERIOD, "Flow Stabilization Period", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_FLOWMEASUREMENTPERIOD, new ZclAttributeDefinition(ATTR_FLOWMEASUREMENTPERIOD, "Flow Measurement Period", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_ALTERNATIVEINSTANTANEOUSDEMAND, new ZclAttributeDefinition(ATTR_ALTERNATIVEINSTANTANEOUSDEMAND, "Alternative Instantaneous Demand", ZclDataType.SIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTDAYALTERNATIVECONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTDAYALTERNATIVECONSUMPTIONDELIVERED, "Current Day Alternative Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTDAYALTERNATIVECONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTDAYALTERNATIVECONSUMPTIONRECEIVED, "Current Day Alternative Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSDAYALTERNATIVECONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSDAYALTERNATIVECONSUMPTIONDELIVERED, "Previous Day Alternative Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSDAYALTERNATIVECONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSDAYALTERNATIVECONSUMPTIONRECEIVED, "Previous Day Alternative Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTALTERNATIVEPARTIALPROFILEINTERVALSTARTTIMEDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTALTERNATIVEPARTIALPROFILEINTERVALSTARTTIMEDELIVERED, "Current Alternative Partial Profile Interval Start Time Delivered", ZclDataType.UTCTIME, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTALTERNATIVEPARTIALPROFILEINTERVALSTARTTIMERECEIVED, new ZclAttributeDefinition(ATTR_CURRENTALTERNATIVEPARTIALPROFILEINTERVALSTARTTIMERECEIVED, "Current Alternative Partial Profile Interval Start Time Received", ZclDataType.UTCTIME, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTALTERNATIVEPARTIALPROFILEINTERVALVALUEDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTALTERNATIVEPARTIALPROFILEINTERVALVALUEDELIVERED, "Current Alternative Partial Profile Interval Value Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTALTERNATIVEPARTIALPROFILEINTERVALVALUERECEIVED, new ZclAttributeDefinition(ATTR_CURRENTALTERNATIVEPARTIALPROFILEINTERVALVALUERECEIVED, "Current Alternative Partial Profile Interval Value Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTDAYALTERNATIVEMAXPRESSURE, new ZclAttributeDefinition(ATTR_CURRENTDAYALTERNATIVEMAXPRESSURE, "Current Day Alternative Max Pressure", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTDAYALTERNATIVEMINPRESSURE, new ZclAttributeDefinition(ATTR_CURRENTDAYALTERNATIVEMINPRESSURE, "Current Day Alternative Min Pressure", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSDAYALTERNATIVEMAXPRESSURE, new ZclAttributeDefinition(ATTR_PREVIOUSDAYALTERNATIVEMAXPRESSURE, "Previous Day Alternative Max Pressure", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSDAYALTERNATIVEMINPRESSURE, new ZclAttributeDefinition(ATTR_PREVIOUSDAYALTERNATIVEMINPRESSURE, "Previous Day Alternative Min Pressure", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTDAYALTERNATIVEMAXDEMAND, new ZclAttributeDefinition(ATTR_CURRENTDAYALTERNATIVEMAXDEMAND, "Current Day Alternative Max Demand", ZclDataType.SIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSDAYALTERNATIVEMAXDEMAND, new ZclAttributeDefinition(ATTR_PREVIOUSDAYALTERNATIVEMAXDEMAND, "Previous Day Alternative Max Demand", ZclDataType.SIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTMONTHALTERNATIVEMAXDEMAND, new ZclAttributeDefinition(ATTR_CURRENTMONTHALTERNATIVEMAXDEMAND, "Current Month Alternative Max Demand", ZclDataType.SIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTYEARALTERNATIVEMAXDEMAND, new ZclAttributeDefinition(ATTR_CURRENTYEARALTERNATIVEMAXDEMAND, "Current Year Alternative Max Demand", ZclDataType.SIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSDAY2ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSDAY2ALTERNATIVECONSUMPTIONDELIVERED, "Previous Day 2 Alternative Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSDAY4ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSDAY4ALTERNATIVECONSUMPTIONDELIVERED, "Previous Day 4 Alternative Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSDAY6ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSDAY6ALTERNATIVECONSUMPTIONDELIVERED, "Previous Day 6 Alternative Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSDAY8ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSDAY8ALTERNATIVECONSUMPTIONDELIVERED, "Previous Day 8 Alternative Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSDAY10ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSDAY10ALTERNATIVECONSUMPTIONDELIVERED, "Previous Day 10 Alternative Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSDAY12ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSDAY12ALTERNATIVECONSUMPTIONDELIVERED, "Previous Day 12 Alternative Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSDAY2ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSDAY2ALTERNATIVECONSUMPTIONRECEIVED, "Previous Day 2 Alternative Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSDAY4ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSDAY4ALTERNATIVECONSUMPTIONRECEIVED, "Previous Day 4 Alternative Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSDAY6ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSDAY6ALTERNATIVECONSUMPTIONRECEIVED, "Previous Day 6 Alternative Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSDAY8ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSDAY8ALTERNATIVECONSUMPTIONRECEIVED, "Previous Day 8 Alternative Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSDAY10ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSDAY10ALTERNATIVECONSUMPTIONRECEIVED, "Previous Day 10 Alternative Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSDAY12ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSDAY12ALTERNATIVECONSUMPTIONRECEIVED, "Previous Day 12 Alternative Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTWEEKALTERNATIVECONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTWEEKALTERNATIVECONSUMPTIONDELIVERED, "Current Week Alternative Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTWEEKALTERNATIVECONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTWEEKALTERNATIVECONSUMPTIONRECEIVED, "Current Week Alternative Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSWEEK1ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSWEEK1ALTERNATIVECONSUMPTIONDELIVERED, "Previous Week 1 Alternative Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSWEEK3ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSWEEK3ALTERNATIVECONSUMPTIONDELIVERED, "Previous Week 3 Alternative Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSWEEK5ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSWEEK5ALTERNATIVECONSUMPTIONDELIVERED, "Previous Week 5 Alternative Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSWEEK7ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSWEEK7ALTERNATIVECONSUMPTIONDELIVERED, "Previous Week 7 Alternative Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSWEEK9ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSWEEK9ALTERNATIVECONSUMPTIONDELIVERED, "Previous Week 9 Alternative Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSWEEK1ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSWEEK1ALTERNATIVECONSUMPTIONRECEIVED, "Previous Week 1 Alternative Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSWEEK3ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSWEEK3ALTERNATIVECONSUMPTIONRECEIVED, "Previous Week 3 Alternative Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSWEEK5ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSWEEK5ALTERNATIVECONSUMPTIONRECEIVED, "Previous Week 5 Alternative Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSWEEK7ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSWEEK7ALTERNATIVECONSUMPTIONRECEIVED, "Previous Week 7 Alternative Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSWEEK9ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSWEEK9ALTERNATIVECONSUMPTIONRECEIVED, "Previous Week 9 Alternative Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTMONTHALTERNATIVECONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTMONTHALTERNATIVECONSUMPTIONDELIVERED, "Current Month Alternative Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTMONTHALTERNATIVECONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTMONTHALTERNATIVECONSUMPTIONRECEIVED, "Current Month Alternative Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH1ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH1ALTERNATIVECONSUMPTIONDELIVERED, "Previous Month 1 Alternative Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH3ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH3ALTERNATIVECONSUMPTIONDELIVERED, "Previous Month 3 Alternative Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH5ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH5ALTERNATIVECONSUMPTIONDELIVERED, "Previous Month 5 Alternative Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH7ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH7ALTERNATIVECONSUMPTIONDELIVERED, "Previous Month 7 Alternative Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH9ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH9ALTERNATIVECONSUMPTIONDELIVERED, "Previous Month 9 Alternative Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH11ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH11ALTERNATIVECONSUMPTIONDELIVERED, "Previous Month 11 Alternative Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH13ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH13ALTERNATIVECONSUMPTIONDELIVERED, "Previous Month 13 Alternative Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH15ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH15ALTERNATIVECONSUMPTIONDELIVERED, "Previous Month 15 Alternative Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH17ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH17ALTERNATIVECONSUMPTIONDELIVERED, "Previous Month 17 Alternative Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH19ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH19ALTERNATIVECONSUMPTIONDELIVERED, "Previous Month 19 Alternative Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH21ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH21ALTERNATIVECONSUMPTIONDELIVERED, "Previous Month 21 Alternative Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH23ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH23ALTERNATIVECONSUMPTIONDELIVERED, "Previous Month 23 Alternative Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH25ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH25ALTERNATIVECONSUMPTIONDELIVERED, "Previous Month 25 Alternative Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH1ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH1ALTERNATIVECONSUMPTIONRECEIVED, "Previous Month 1 Alternative Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH3ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH3ALTERNATIVECONSUMPTIONRECEIVED, "Previous Month 3 Alternative Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH5ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH5ALTERNATIVECONSUMPTIONRECEIVED, "Previous Month 5 Alternative Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH7ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH7ALTERNATIVECONSUMPTIONRECEIVED, "Previous Month 7 Alternative Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH9ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH9ALTERNATIVECONSUMPTIONRECEIVED, "Previous Month 9 Alternative Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH11ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH11ALTERNATIVECONSUMPTIONRECEIVED, "Previous Month 11 Alternative Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH13ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH13ALTERNATIVECONSUMPTIONRECEIVED, "Previous Month 13 Alternative Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH15ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH15ALTERNATIVECONSUMPTIONRECEIVED, "Previous Month 15 Alternative Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH17ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH17ALTERNATIVECONSUMPTIONRECEIVED, "Previous Month 17 Alternative Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH19ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH19ALTERNATIVECONSUMPTIONRECEIVED, "Previous Month 19 Alternative Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH21ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH21ALTERNATIVECONSUMPTIONRECEIVED, "Previous Month 21 Alternative Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH23ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH23ALTERNATIVECONSUMPTIONRECEIVED, "Previous Month 23 Alternative Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH25ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH25ALTERNATIVECONSUMPTIONRECEIVED, "Previous Month 25 Alternative Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+
+        return Collections.unmodifiableMap(attributeMap);
+    }
 
-        return attributeMap;
+    @Override
+    protected Map<Integer, ZclAttributeDefinition> getClientAttributeDefinitions() {
+        return CLIENT_ATTRIBUTES;
     }
 
     @Override
-    protected Map<Integer, ZclAttribute> initializeServerAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
-
-        attributeMap.put(ATTR_CURRENTSUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTSUMMATIONDELIVERED, "Current Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTSUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTSUMMATIONRECEIVED, "Current Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_CURRENTMAXDEMANDDELIVERED, new ZclAttribute(this, ATTR_CURRENTMAXDEMANDDELIVERED, "Current Max Demand Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_CURRENTMAXDEMANDRECEIVED, new ZclAttribute(this, ATTR_CURRENTMAXDEMANDRECEIVED, "Current Max Demand Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_DFTSUMMATION, new ZclAttribute(this, ATTR_DFTSUMMATION, "Dft Summation", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_DAILYFREEZETIME, new ZclAttribute(this, ATTR_DAILYFREEZETIME, "Daily Freeze Time", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_POWERFACTOR, new ZclAttribute(this, ATTR_POWERFACTOR, "Power Factor", ZclDataType.SIGNED_8_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_READINGSNAPSHOTTIME, new ZclAttribute(this, ATTR_READINGSNAPSHOTTIME, "Reading Snapshot Time", ZclDataType.UTCTIME, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTMAXDEMANDDELIVEREDTIME, new ZclAttribute(this, ATTR_CURRENTMAXDEMANDDELIVEREDTIME, "Current Max Demand Delivered Time", ZclDataType.UTCTIME, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTMAXDEMANDRECEIVEDTIME, new ZclAttribute(this, ATTR_CURRENTMAXDEMANDRECEIVEDTIME, "Current Max Demand Received Time", ZclDataType.UTCTIME, true, true, false, false));
-        attributeMap.put(ATTR_DEFAULTUPDATEPERIOD, new ZclAttribute(this, ATTR_DEFAULTUPDATEPERIOD, "Default Update Period", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_FASTPOLLUPDATEPERIOD, new ZclAttribute(this, ATTR_FASTPOLLUPDATEPERIOD, "Fast Poll Update Period", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_CURRENTBLOCKPERIODCONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTBLOCKPERIODCONSUMPTIONDELIVERED, "Current Block Period Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_DAILYCONSUMPTIONTARGET, new ZclAttribute(this, ATTR_DAILYCONSUMPTIONTARGET, "Daily Consumption Target", ZclDataType.UNSIGNED_24_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_CURRENTBLOCK, new ZclAttribute(this, ATTR_CURRENTBLOCK, "Current Block", ZclDataType.ENUMERATION_8_BIT, false, true, false, false));
-        attributeMap.put(ATTR_PROFILEINTERVALPERIOD, new ZclAttribute(this, ATTR_PROFILEINTERVALPERIOD, "Profile Interval Period", ZclDataType.ENUMERATION_8_BIT, false, true, false, false));
-        attributeMap.put(ATTR_INTERVALREADREPORTINGPERIOD, new ZclAttribute(this, ATTR_INTERVALREADREPORTINGPERIOD, "Interval Read Reporting Period", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_PRESETREADINGTIME, new ZclAttribute(this, ATTR_PRESETREADINGTIME, "Preset Reading Time", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_VOLUMEPERREPORT, new ZclAttribute(this, ATTR_VOLUMEPERREPORT, "Volume Per Report", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_FLOWRESTRICTION, new ZclAttribute(this, ATTR_FLOWRESTRICTION, "Flow Restriction", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_SUPPLYSTATUS, new ZclAttribute(this, ATTR_SUPPLYSTATUS, "Supply Status", ZclDataType.ENUMERATION_8_BIT, false, true, false, false));
-        attributeMap.put(ATTR_CURRENTINLETENERGYCARRIERSUMMATION, new ZclAttribute(this, ATTR_CURRENTINLETENERGYCARRIERSUMMATION, "Current Inlet Energy Carrier Summation", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_CURRENTOUTLETENERGYCARRIERSUMMATION, new ZclAttribute(this, ATTR_CURRENTOUTLETENERGYCARRIERSUMMATION, "Current Outlet Energy Carrier Summation", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_INLETTEMPERATURE, new ZclAttribute(this, ATTR_INLETTEMPERATURE, "Inlet Temperature", ZclDataType.SIGNED_24_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_OUTLETTEMPERATURE, new ZclAttribute(this, ATTR_OUTLETTEMPERATURE, "Outlet Temperature", ZclDataType.SIGNED_24_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_CONTROLTEMPERATURE, new ZclAttribute(this, ATTR_CONTROLTEMPERATURE, "Control Temperature", ZclDataType.SIGNED_24_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_CURRENTINLETENERGYCARRIERDEMAND, new ZclAttribute(this, ATTR_CURRENTINLETENERGYCARRIERDEMAND, "Current Inlet Energy Carrier Demand", ZclDataType.SIGNED_24_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_CURRENTOUTLETENERGYCARRIERDEMAND, new ZclAttribute(this, ATTR_CURRENTOUTLETENERGYCARRIERDEMAND, "Current Outlet Energy Carrier Demand", ZclDataType.SIGNED_24_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSBLOCKPERIODCONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSBLOCKPERIODCONSUMPTIONDELIVERED, "Previous Block Period Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_CURRENTBLOCKPERIODCONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTBLOCKPERIODCONSUMPTIONRECEIVED, "Current Block Period Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_CURRENTBLOCKRECEIVED, new ZclAttribute(this, ATTR_CURRENTBLOCKRECEIVED, "Current Block Received", ZclDataType.ENUMERATION_8_BIT, false, true, false, false));
-        attributeMap.put(ATTR_DFTSUMMATIONRECEIVED, new ZclAttribute(this, ATTR_DFTSUMMATIONRECEIVED, "Dft Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_ACTIVEREGISTERTIERDELIVERED, new ZclAttribute(this, ATTR_ACTIVEREGISTERTIERDELIVERED, "Active Register Tier Delivered", ZclDataType.ENUMERATION_8_BIT, false, true, false, false));
-        attributeMap.put(ATTR_ACTIVEREGISTERTIERRECEIVED, new ZclAttribute(this, ATTR_ACTIVEREGISTERTIERRECEIVED, "Active Register Tier Received", ZclDataType.ENUMERATION_8_BIT, false, true, false, false));
-        attributeMap.put(ATTR_LASTBLOCKSWITCHTIME, new ZclAttribute(this, ATTR_LASTBLOCKSWITCHTIME, "Last Block Switch Time", ZclDataType.UTCTIME, false, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER1SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER1SUMMATIONDELIVERED, "Current Tier 1 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER3SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER3SUMMATIONDELIVERED, "Current Tier 3 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER5SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER5SUMMATIONDELIVERED, "Current Tier 5 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER7SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER7SUMMATIONDELIVERED, "Current Tier 7 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER9SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER9SUMMATIONDELIVERED, "Current Tier 9 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER11SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER11SUMMATIONDELIVERED, "Current Tier 11 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER13SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER13SUMMATIONDELIVERED, "Current Tier 13 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER15SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER15SUMMATIONDELIVERED, "Current Tier 15 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER17SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER17SUMMATIONDELIVERED, "Current Tier 17 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER19SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER19SUMMATIONDELIVERED, "Current Tier 19 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER21SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER21SUMMATIONDELIVERED, "Current Tier 21 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER23SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER23SUMMATIONDELIVERED, "Current Tier 23 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER25SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER25SUMMATIONDELIVERED, "Current Tier 25 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER27SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER27SUMMATIONDELIVERED, "Current Tier 27 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER29SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER29SUMMATIONDELIVERED, "Current Tier 29 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER31SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER31SUMMATIONDELIVERED, "Current Tier 31 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER33SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER33SUMMATIONDELIVERED, "Current Tier 33 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER35SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER35SUMMATIONDELIVERED, "Current Tier 35 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER37SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER37SUMMATIONDELIVERED, "Current Tier 37 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER39SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER39SUMMATIONDELIVERED, "Current Tier 39 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER41SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER41SUMMATIONDELIVERED, "Current Tier 41 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER43SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER43SUMMATIONDELIVERED, "Current Tier 43 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER45SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER45SUMMATIONDELIVERED, "Current Tier 45 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER47SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER47SUMMATIONDELIVERED, "Current Tier 47 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER49SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER49SUMMATIONDELIVERED, "Current Tier 49 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER51SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER51SUMMATIONDELIVERED, "Current Tier 51 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER53SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER53SUMMATIONDELIVERED, "Current Tier 53 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER55SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER55SUMMATIONDELIVERED, "Current Tier 55 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER57SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER57SUMMATIONDELIVERED, "Current Tier 57 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER59SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER59SUMMATIONDELIVERED, "Current Tier 59 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER61SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER61SUMMATIONDELIVERED, "Current Tier 61 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER63SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER63SUMMATIONDELIVERED, "Current Tier 63 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER65SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER65SUMMATIONDELIVERED, "Current Tier 65 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER67SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER67SUMMATIONDELIVERED, "Current Tier 67 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER69SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER69SUMMATIONDELIVERED, "Current Tier 69 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER71SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER71SUMMATIONDELIVERED, "Current Tier 71 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER73SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER73SUMMATIONDELIVERED, "Current Tier 73 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER75SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER75SUMMATIONDELIVERED, "Current Tier 75 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER77SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER77SUMMATIONDELIVERED, "Current Tier 77 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER79SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER79SUMMATIONDELIVERED, "Current Tier 79 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER81SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER81SUMMATIONDELIVERED, "Current Tier 81 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER83SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER83SUMMATIONDELIVERED, "Current Tier 83 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER85SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER85SUMMATIONDELIVERED, "Current Tier 85 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER87SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER87SUMMATIONDELIVERED, "Current Tier 87 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER89SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER89SUMMATIONDELIVERED, "Current Tier 89 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER91SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER91SUMMATIONDELIVERED, "Current Tier 91 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER93SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER93SUMMATIONDELIVERED, "Current Tier 93 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER95SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER95SUMMATIONDELIVERED, "Current Tier 95 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER1SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER1SUMMATIONRECEIVED, "Current Tier 1 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER3SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER3SUMMATIONRECEIVED, "Current Tier 3 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER5SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER5SUMMATIONRECEIVED, "Current Tier 5 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER7SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER7SUMMATIONRECEIVED, "Current Tier 7 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER9SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER9SUMMATIONRECEIVED, "Current Tier 9 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER11SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER11SUMMATIONRECEIVED, "Current Tier 11 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER13SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER13SUMMATIONRECEIVED, "Current Tier 13 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER15SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER15SUMMATIONRECEIVED, "Current Tier 15 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER17SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER17SUMMATIONRECEIVED, "Current Tier 17 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER19SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER19SUMMATIONRECEIVED, "Current Tier 19 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER21SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER21SUMMATIONRECEIVED, "Current Tier 21 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER23SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER23SUMMATIONRECEIVED, "Current Tier 23 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER25SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER25SUMMATIONRECEIVED, "Current Tier 25 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER27SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER27SUMMATIONRECEIVED, "Current Tier 27 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER29SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER29SUMMATIONRECEIVED, "Current Tier 29 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER31SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER31SUMMATIONRECEIVED, "Current Tier 31 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER33SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER33SUMMATIONRECEIVED, "Current Tier 33 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER35SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER35SUMMATIONRECEIVED, "Current Tier 35 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER37SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER37SUMMATIONRECEIVED, "Current Tier 37 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER39SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER39SUMMATIONRECEIVED, "Current Tier 39 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER41SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER41SUMMATIONRECEIVED, "Current Tier 41 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER43SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER43SUMMATIONRECEIVED, "Current Tier 43 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER45SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER45SUMMATIONRECEIVED, "Current Tier 45 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER47SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER47SUMMATIONRECEIVED, "Current Tier 47 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER49SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER49SUMMATIONRECEIVED, "Current Tier 49 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER51SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER51SUMMATIONRECEIVED, "Current Tier 51 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER53SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER53SUMMATIONRECEIVED, "Current Tier 53 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER55SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER55SUMMATIONRECEIVED, "Current Tier 55 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER57SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER57SUMMATIONRECEIVED, "Current Tier 57 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER59SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER59SUMMATIONRECEIVED, "Current Tier 59 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER61SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER61SUMMATIONRECEIVED, "Current Tier 61 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER63SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER63SUMMATIONRECEIVED, "Current Tier 63 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER65SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER65SUMMATIONRECEIVED, "Current Tier 65 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER67SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER67SUMMATIONRECEIVED, "Current Tier 67 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER69SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER69SUMMATIONRECEIVED, "Current Tier 69 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER71SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER71SUMMATIONRECEIVED, "Current Tier 71 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER73SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER73SUMMATIONRECEIVED, "Current Tier 73 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER75SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER75SUMMATIONRECEIVED, "Current Tier 75 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER77SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER77SUMMATIONRECEIVED, "Current Tier 77 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER79SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER79SUMMATIONRECEIVED, "Current Tier 79 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER81SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER81SUMMATIONRECEIVED, "Current Tier 81 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER83SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER83SUMMATIONRECEIVED, "Current Tier 83 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER85SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER85SUMMATIONRECEIVED, "Current Tier 85 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER87SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER87SUMMATIONRECEIVED, "Current Tier 87 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER89SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER89SUMMATIONRECEIVED, "Current Tier 89 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER91SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER91SUMMATIONRECEIVED, "Current Tier 91 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER93SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER93SUMMATIONRECEIVED, "Current Tier 93 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER95SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER95SUMMATIONRECEIVED, "Current Tier 95 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CPP1SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CPP1SUMMATIONDELIVERED, "CPP 1 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CPP2SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CPP2SUMMATIONDELIVERED, "CPP 2 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_STATUS, new ZclAttribute(this, ATTR_STATUS, "Status", ZclDataType.BITMAP_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_REMAININGBATTERYLIFE, new ZclAttribute(this, ATTR_REMAININGBATTERYLIFE, "Remaining Battery Life", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_HOURSINOPERATION, new ZclAttribute(this, ATTR_HOURSINOPERATION, "Hours In Operation", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_HOURSINFAULT, new ZclAttribute(this, ATTR_HOURSINFAULT, "Hours In Fault", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_EXTENDEDSTATUS, new ZclAttribute(this, ATTR_EXTENDEDSTATUS, "Extended Status", ZclDataType.BITMAP_64_BIT, true, true, false, false));
-        attributeMap.put(ATTR_REMAININGBATTERYLIFEINDAYS, new ZclAttribute(this, ATTR_REMAININGBATTERYLIFEINDAYS, "Remaining Battery Life In Days", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTMETERID, new ZclAttribute(this, ATTR_CURRENTMETERID, "Current Meter ID", ZclDataType.OCTET_STRING, true, true, false, false));
-        attributeMap.put(ATTR_AMBIENTCONSUMPTIONINDICATOR, new ZclAttribute(this, ATTR_AMBIENTCONSUMPTIONINDICATOR, "Ambient Consumption Indicator", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_UNITOFMEASURE, new ZclAttribute(this, ATTR_UNITOFMEASURE, "Unit Of Measure", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_MULTIPLIER, new ZclAttribute(this, ATTR_MULTIPLIER, "Multiplier", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_DIVISOR, new ZclAttribute(this, ATTR_DIVISOR, "Divisor", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_SUMMATIONFORMATTING, new ZclAttribute(this, ATTR_SUMMATIONFORMATTING, "Summation Formatting", ZclDataType.BITMAP_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_DEMANDFORMATTING, new ZclAttribute(this, ATTR_DEMANDFORMATTING, "Demand Formatting", ZclDataType.BITMAP_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_HISTORICALCONSUMPTIONFORMATTING, new ZclAttribute(this, ATTR_HISTORICALCONSUMPTIONFORMATTING, "Historical Consumption Formatting", ZclDataType.BITMAP_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_METERINGDEVICETYPE, new ZclAttribute(this, ATTR_METERINGDEVICETYPE, "Metering Device Type", ZclDataType.BITMAP_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_SITEID, new ZclAttribute(this, ATTR_SITEID, "Site ID", ZclDataType.OCTET_STRING, true, true, false, false));
-        attributeMap.put(ATTR_METERSERIALNUMBER, new ZclAttribute(this, ATTR_METERSERIALNUMBER, "Meter Serial Number", ZclDataType.OCTET_STRING, true, true, false, false));
-        attributeMap.put(ATTR_ENERGYCARRIERUNITOFMEASURE, new ZclAttribute(this, ATTR_ENERGYCARRIERUNITOFMEASURE, "Energy Carrier Unit Of Measure", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_ENERGYCARRIERSUMMATIONFORMATTING, new ZclAttribute(this, ATTR_ENERGYCARRIERSUMMATIONFORMATTING, "Energy Carrier Summation Formatting", ZclDataType.BITMAP_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_ENERGYCARRIERDEMANDFORMATTING, new ZclAttribute(this, ATTR_ENERGYCARRIERDEMANDFORMATTING, "Energy Carrier Demand Formatting", ZclDataType.BITMAP_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_TEMPERATUREUNITOFMEASURE, new ZclAttribute(this, ATTR_TEMPERATUREUNITOFMEASURE, "Temperature Unit Of Measure", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_TEMPERATUREFORMATTING, new ZclAttribute(this, ATTR_TEMPERATUREFORMATTING, "Temperature Formatting", ZclDataType.BITMAP_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_MODULESERIALNUMBER, new ZclAttribute(this, ATTR_MODULESERIALNUMBER, "Module Serial Number", ZclDataType.OCTET_STRING, true, true, false, false));
-        attributeMap.put(ATTR_OPERATINGTARIFFLABELDELIVERED, new ZclAttribute(this, ATTR_OPERATINGTARIFFLABELDELIVERED, "Operating Tariff Label Delivered", ZclDataType.OCTET_STRING, true, true, false, false));
-        attributeMap.put(ATTR_OPERATINGTARIFFLABELRECEIVED, new ZclAttribute(this, ATTR_OPERATINGTARIFFLABELRECEIVED, "Operating Tariff Label Received", ZclDataType.OCTET_STRING, true, true, false, false));
-        attributeMap.put(ATTR_CUSTOMERIDNUMBER, new ZclAttribute(this, ATTR_CUSTOMERIDNUMBER, "Customer ID Number", ZclDataType.OCTET_STRING, true, true, false, false));
-        attributeMap.put(ATTR_ALTERNATIVEUNITOFMEASURE, new ZclAttribute(this, ATTR_ALTERNATIVEUNITOFMEASURE, "Alternative Unit Of Measure", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_ALTERNATIVEDEMANDFORMATTING, new ZclAttribute(this, ATTR_ALTERNATIVEDEMANDFORMATTING, "Alternative Demand Formatting", ZclDataType.BITMAP_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_ALTERNATIVECONSUMPTIONFORMATTING, new ZclAttribute(this, ATTR_ALTERNATIVECONSUMPTIONFORMATTING, "Alternative Consumption Formatting", ZclDataType.BITMAP_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_INSTANTANEOUSDEMAND, new ZclAttribute(this, ATTR_INSTANTANEOUSDEMAND, "Instantaneous Demand", ZclDataType.SIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTDAYCONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTDAYCONSUMPTIONDELIVERED, "Current Day Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTDAYCONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTDAYCONSUMPTIONRECEIVED, "Current Day Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAYCONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSDAYCONSUMPTIONDELIVERED, "Previous Day Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAYCONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSDAYCONSUMPTIONRECEIVED, "Previous Day Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTPARTIALPROFILEINTERVALSTARTTIMEDELIVERED, new ZclAttribute(this, ATTR_CURRENTPARTIALPROFILEINTERVALSTARTTIMEDELIVERED, "Current Partial Profile Interval Start Time Delivered", ZclDataType.UTCTIME, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTPARTIALPROFILEINTERVALSTARTTIMERECEIVED, new ZclAttribute(this, ATTR_CURRENTPARTIALPROFILEINTERVALSTARTTIMERECEIVED, "Current Partial Profile Interval Start Time Received", ZclDataType.UTCTIME, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTPARTIALPROFILEINTERVALVALUEDELIVERED, new ZclAttribute(this, ATTR_CURRENTPARTIALPROFILEINTERVALVALUEDELIVERED, "Current Partial Profile Interval Value Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTPARTIALPROFILEINTERVALVALUERECEIVED, new ZclAttribute(this, ATTR_CURRENTPARTIALPROFILEINTERVALVALUERECEIVED, "Current Partial Profile Interval Value Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTDAYMAXPRESSURE, new ZclAttribute(this, ATTR_CURRENTDAYMAXPRESSURE, "Current Day Max Pressure", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTDAYMINPRESSURE, new ZclAttribute(this, ATTR_CURRENTDAYMINPRESSURE, "Current Day Min Pressure", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAYMAXPRESSURE, new ZclAttribute(this, ATTR_PREVIOUSDAYMAXPRESSURE, "Previous Day Max Pressure", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAYMINPRESSURE, new ZclAttribute(this, ATTR_PREVIOUSDAYMINPRESSURE, "Previous Day Min Pressure", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTDAYMAXDEMAND, new ZclAttribute(this, ATTR_CURRENTDAYMAXDEMAND, "Current Day Max Demand", ZclDataType.SIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAYMAXDEMAND, new ZclAttribute(this, ATTR_PREVIOUSDAYMAXDEMAND, "Previous Day Max Demand", ZclDataType.SIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTMONTHMAXDEMAND, new ZclAttribute(this, ATTR_CURRENTMONTHMAXDEMAND, "Current Month Max Demand", ZclDataType.SIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTYEARMAXDEMAND, new ZclAttribute(this, ATTR_CURRENTYEARMAXDEMAND, "Current Year Max Demand", ZclDataType.SIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTDAYMAXENERGYCARRIERDEMAND, new ZclAttribute(this, ATTR_CURRENTDAYMAXENERGYCARRIERDEMAND, "Current Day Max Energy Carrier Demand", ZclDataType.SIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAYMAXENERGYCARRIERDEMAND, new ZclAttribute(this, ATTR_PREVIOUSDAYMAXENERGYCARRIERDEMAND, "Previous Day Max Energy Carrier Demand", ZclDataType.SIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTMONTHMAXENERGYCARRIERDEMAND, new ZclAttribute(this, ATTR_CURRENTMONTHMAXENERGYCARRIERDEMAND, "Current Month Max Energy Carrier Demand", ZclDataType.SIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTMONTHMINENERGYCARRIERDEMAND, new ZclAttribute(this, ATTR_CURRENTMONTHMINENERGYCARRIERDEMAND, "Current Month Min Energy Carrier Demand", ZclDataType.SIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTYEARMAXENERGYCARRIERDEMAND, new ZclAttribute(this, ATTR_CURRENTYEARMAXENERGYCARRIERDEMAND, "Current Year Max Energy Carrier Demand", ZclDataType.SIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTYEARMINENERGYCARRIERDEMAND, new ZclAttribute(this, ATTR_CURRENTYEARMINENERGYCARRIERDEMAND, "Current Year Min Energy Carrier Demand", ZclDataType.SIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY2CONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSDAY2CONSUMPTIONDELIVERED, "Previous Day 2 Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY4CONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSDAY4CONSUMPTIONDELIVERED, "Previous Day 4 Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY6CONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSDAY6CONSUMPTIONDELIVERED, "Previous Day 6 Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY8CONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSDAY8CONSUMPTIONDELIVERED, "Previous Day 8 Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY10CONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSDAY10CONSUMPTIONDELIVERED, "Previous Day 10 Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY12CONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSDAY12CONSUMPTIONDELIVERED, "Previous Day 12 Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY14CONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSDAY14CONSUMPTIONDELIVERED, "Previous Day 14 Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY16CONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSDAY16CONSUMPTIONDELIVERED, "Previous Day 16 Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY2CONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSDAY2CONSUMPTIONRECEIVED, "Previous Day 2 Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY4CONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSDAY4CONSUMPTIONRECEIVED, "Previous Day 4 Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY6CONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSDAY6CONSUMPTIONRECEIVED, "Previous Day 6 Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY8CONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSDAY8CONSUMPTIONRECEIVED, "Previous Day 8 Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY10CONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSDAY10CONSUMPTIONRECEIVED, "Previous Day 10 Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY12CONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSDAY12CONSUMPTIONRECEIVED, "Previous Day 12 Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY14CONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSDAY14CONSUMPTIONRECEIVED, "Previous Day 14 Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY16CONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSDAY16CONSUMPTIONRECEIVED, "Previous Day 16 Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTWEEKCONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTWEEKCONSUMPTIONDELIVERED, "Current Week Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTWEEKCONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTWEEKCONSUMPTIONRECEIVED, "Current Week Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSWEEK1CONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSWEEK1CONSUMPTIONDELIVERED, "Previous Week 1 Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSWEEK3CONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSWEEK3CONSUMPTIONDELIVERED, "Previous Week 3 Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSWEEK5CONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSWEEK5CONSUMPTIONDELIVERED, "Previous Week 5 Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSWEEK7CONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSWEEK7CONSUMPTIONDELIVERED, "Previous Week 7 Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSWEEK9CONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSWEEK9CONSUMPTIONDELIVERED, "Previous Week 9 Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSWEEK1CONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSWEEK1CONSUMPTIONRECEIVED, "Previous Week 1 Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSWEEK3CONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSWEEK3CONSUMPTIONRECEIVED, "Previous Week 3 Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSWEEK5CONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSWEEK5CONSUMPTIONRECEIVED, "Previous Week 5 Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSWEEK7CONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSWEEK7CONSUMPTIONRECEIVED, "Previous Week 7 Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSWEEK9CONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSWEEK9CONSUMPTIONRECEIVED, "Previous Week 9 Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTMONTHCONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTMONTHCONSUMPTIONDELIVERED, "Current Month Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTMONTHCONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTMONTHCONSUMPTIONRECEIVED, "Current Month Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH1CONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH1CONSUMPTIONDELIVERED, "Previous Month 1 Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH3CONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH3CONSUMPTIONDELIVERED, "Previous Month 3 Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH5CONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH5CONSUMPTIONDELIVERED, "Previous Month 5 Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH7CONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH7CONSUMPTIONDELIVERED, "Previous Month 7 Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH9CONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH9CONSUMPTIONDELIVERED, "Previous Month 9 Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH11CONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH11CONSUMPTIONDELIVERED, "Previous Month 11 Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH13CONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH13CONSUMPTIONDELIVERED, "Previous Month 13 Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH15CONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH15CONSUMPTIONDELIVERED, "Previous Month 15 Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH17CONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH17CONSUMPTIONDELIVERED, "Previous Month 17 Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH19CONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH19CONSUMPTIONDELIVERED, "Previous Month 19 Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH21CONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH21CONSUMPTIONDELIVERED, "Previous Month 21 Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH23CONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH23CONSUMPTIONDELIVERED, "Previous Month 23 Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH25CONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH25CONSUMPTIONDELIVERED, "Previous Month 25 Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH1CONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH1CONSUMPTIONRECEIVED, "Previous Month 1 Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH3CONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH3CONSUMPTIONRECEIVED, "Previous Month 3 Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH5CONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH5CONSUMPTIONRECEIVED, "Previous Month 5 Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH7CONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH7CONSUMPTIONRECEIVED, "Previous Month 7 Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH9CONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH9CONSUMPTIONRECEIVED, "Previous Month 9 Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH11CONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH11CONSUMPTIONRECEIVED, "Previous Month 11 Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH13CONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH13CONSUMPTIONRECEIVED, "Previous Month 13 Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH15CONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH15CONSUMPTIONRECEIVED, "Previous Month 15 Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH17CONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH17CONSUMPTIONRECEIVED, "Previous Month 17 Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH19CONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH19CONSUMPTIONRECEIVED, "Previous Month 19 Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH21CONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH21CONSUMPTIONRECEIVED, "Previous Month 21 Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH23CONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH23CONSUMPTIONRECEIVED, "Previous Month 23 Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH25CONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH25CONSUMPTIONRECEIVED, "Previous Month 25 Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_HISTORICALFREEZETIME, new ZclAttribute(this, ATTR_HISTORICALFREEZETIME, "Historical Freeze Time", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_MAXNUMBEROFPERIODSDELIVERED, new ZclAttribute(this, ATTR_MAXNUMBEROFPERIODSDELIVERED, "Max Number Of Periods Delivered", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTDEMANDDELIVERED, new ZclAttribute(this, ATTR_CURRENTDEMANDDELIVERED, "Current Demand Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_DEMANDLIMIT, new ZclAttribute(this, ATTR_DEMANDLIMIT, "Demand Limit", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_DEMANDINTEGRATIONPERIOD, new ZclAttribute(this, ATTR_DEMANDINTEGRATIONPERIOD, "Demand Integration Period", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_NUMBEROFDEMANDSUBINTERVALS, new ZclAttribute(this, ATTR_NUMBEROFDEMANDSUBINTERVALS, "Number Of Demand Subintervals", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_DEMANDLIMITARMDURATION, new ZclAttribute(this, ATTR_DEMANDLIMITARMDURATION, "Demand Limit Arm Duration", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_LOADLIMITSUPPLYSTATE, new ZclAttribute(this, ATTR_LOADLIMITSUPPLYSTATE, "Load Limit Supply State", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_LOADLIMITCOUNTER, new ZclAttribute(this, ATTR_LOADLIMITCOUNTER, "Load Limit Counter", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_SUPPLYTAMPERSTATE, new ZclAttribute(this, ATTR_SUPPLYTAMPERSTATE, "Supply Tamper State", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_SUPPLYDEPLETIONSTATE, new ZclAttribute(this, ATTR_SUPPLYDEPLETIONSTATE, "Supply Depletion State", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_SUPPLYUNCONTROLLEDFLOWSTATE, new ZclAttribute(this, ATTR_SUPPLYUNCONTROLLEDFLOWSTATE, "Supply Uncontrolled Flow State", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTNOTIERBLOCK1SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTNOTIERBLOCK1SUMMATIONDELIVERED, "Current No Tier Block 1 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTNOTIERBLOCK2SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTNOTIERBLOCK2SUMMATIONDELIVERED, "Current No Tier Block 2 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTNOTIERBLOCK3SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTNOTIERBLOCK3SUMMATIONDELIVERED, "Current No Tier Block 3 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTNOTIERBLOCK4SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTNOTIERBLOCK4SUMMATIONDELIVERED, "Current No Tier Block 4 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTNOTIERBLOCK5SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTNOTIERBLOCK5SUMMATIONDELIVERED, "Current No Tier Block 5 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTNOTIERBLOCK6SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTNOTIERBLOCK6SUMMATIONDELIVERED, "Current No Tier Block 6 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTNOTIERBLOCK7SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTNOTIERBLOCK7SUMMATIONDELIVERED, "Current No Tier Block 7 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTNOTIERBLOCK8SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTNOTIERBLOCK8SUMMATIONDELIVERED, "Current No Tier Block 8 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTNOTIERBLOCK9SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTNOTIERBLOCK9SUMMATIONDELIVERED, "Current No Tier Block 9 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTNOTIERBLOCK10SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTNOTIERBLOCK10SUMMATIONDELIVERED, "Current No Tier Block 10 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTNOTIERBLOCK11SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTNOTIERBLOCK11SUMMATIONDELIVERED, "Current No Tier Block 11 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTNOTIERBLOCK12SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTNOTIERBLOCK12SUMMATIONDELIVERED, "Current No Tier Block 12 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTNOTIERBLOCK13SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTNOTIERBLOCK13SUMMATIONDELIVERED, "Current No Tier Block 13 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTNOTIERBLOCK14SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTNOTIERBLOCK14SUMMATIONDELIVERED, "Current No Tier Block 14 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTNOTIERBLOCK15SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTNOTIERBLOCK15SUMMATIONDELIVERED, "Current No Tier Block 15 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTNOTIERBLOCK16SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTNOTIERBLOCK16SUMMATIONDELIVERED, "Current No Tier Block 16 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER1BLOCK1SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER1BLOCK1SUMMATIONDELIVERED, "Current Tier 1 Block 1 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER1BLOCK2SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER1BLOCK2SUMMATIONDELIVERED, "Current Tier 1 Block 2 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER1BLOCK3SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER1BLOCK3SUMMATIONDELIVERED, "Current Tier 1 Block 3 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER1BLOCK4SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER1BLOCK4SUMMATIONDELIVERED, "Current Tier 1 Block 4 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER1BLOCK5SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER1BLOCK5SUMMATIONDELIVERED, "Current Tier 1 Block 5 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER1BLOCK6SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER1BLOCK6SUMMATIONDELIVERED, "Current Tier 1 Block 6 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER1BLOCK7SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER1BLOCK7SUMMATIONDELIVERED, "Current Tier 1 Block 7 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER1BLOCK8SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER1BLOCK8SUMMATIONDELIVERED, "Current Tier 1 Block 8 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER1BLOCK9SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER1BLOCK9SUMMATIONDELIVERED, "Current Tier 1 Block 9 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER1BLOCK10SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER1BLOCK10SUMMATIONDELIVERED, "Current Tier 1 Block 10 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER1BLOCK11SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER1BLOCK11SUMMATIONDELIVERED, "Current Tier 1 Block 11 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER1BLOCK12SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER1BLOCK12SUMMATIONDELIVERED, "Current Tier 1 Block 12 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER1BLOCK13SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER1BLOCK13SUMMATIONDELIVERED, "Current Tier 1 Block 13 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER1BLOCK14SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER1BLOCK14SUMMATIONDELIVERED, "Current Tier 1 Block 14 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER1BLOCK15SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER1BLOCK15SUMMATIONDELIVERED, "Current Tier 1 Block 15 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER1BLOCK16SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER1BLOCK16SUMMATIONDELIVERED, "Current Tier 1 Block 16 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER2BLOCK1SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER2BLOCK1SUMMATIONDELIVERED, "Current Tier 2 Block 1 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER2BLOCK2SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER2BLOCK2SUMMATIONDELIVERED, "Current Tier 2 Block 2 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER2BLOCK3SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER2BLOCK3SUMMATIONDELIVERED, "Current Tier 2 Block 3 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER2BLOCK4SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER2BLOCK4SUMMATIONDELIVERED, "Current Tier 2 Block 4 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER2BLOCK5SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER2BLOCK5SUMMATIONDELIVERED, "Current Tier 2 Block 5 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER2BLOCK6SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER2BLOCK6SUMMATIONDELIVERED, "Current Tier 2 Block 6 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER2BLOCK7SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER2BLOCK7SUMMATIONDELIVERED, "Current Tier 2 Block 7 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER2BLOCK8SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER2BLOCK8SUMMATIONDELIVERED, "Current Tier 2 Block 8 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER2BLOCK9SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER2BLOCK9SUMMATIONDELIVERED, "Current Tier 2 Block 9 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER2BLOCK10SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER2BLOCK10SUMMATIONDELIVERED, "Current Tier 2 Block 10 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER2BLOCK11SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER2BLOCK11SUMMATIONDELIVERED, "Current Tier 2 Block 11 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER2BLOCK12SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER2BLOCK12SUMMATIONDELIVERED, "Current Tier 2 Block 12 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER2BLOCK13SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER2BLOCK13SUMMATIONDELIVERED, "Current Tier 2 Block 13 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER2BLOCK14SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER2BLOCK14SUMMATIONDELIVERED, "Current Tier 2 Block 14 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER2BLOCK15SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER2BLOCK15SUMMATIONDELIVERED, "Current Tier 2 Block 15 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER2BLOCK16SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER2BLOCK16SUMMATIONDELIVERED, "Current Tier 2 Block 16 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER3BLOCK1SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER3BLOCK1SUMMATIONDELIVERED, "Current Tier 3 Block 1 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER3BLOCK2SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER3BLOCK2SUMMATIONDELIVERED, "Current Tier 3 Block 2 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER3BLOCK3SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER3BLOCK3SUMMATIONDELIVERED, "Current Tier 3 Block 3 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER3BLOCK4SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER3BLOCK4SUMMATIONDELIVERED, "Current Tier 3 Block 4 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER3BLOCK5SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER3BLOCK5SUMMATIONDELIVERED, "Current Tier 3 Block 5 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER3BLOCK6SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER3BLOCK6SUMMATIONDELIVERED, "Current Tier 3 Block 6 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER3BLOCK7SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER3BLOCK7SUMMATIONDELIVERED, "Current Tier 3 Block 7 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER3BLOCK8SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER3BLOCK8SUMMATIONDELIVERED, "Current Tier 3 Block 8 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER3BLOCK9SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER3BLOCK9SUMMATIONDELIVERED, "Current Tier 3 Block 9 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER3BLOCK10SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER3BLOCK10SUMMATIONDELIVERED, "Current Tier 3 Block 10 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER3BLOCK11SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER3BLOCK11SUMMATIONDELIVERED, "Current Tier 3 Block 11 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER3BLOCK12SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER3BLOCK12SUMMATIONDELIVERED, "Current Tier 3 Block 12 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER3BLOCK13SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER3BLOCK13SUMMATIONDELIVERED, "Current Tier 3 Block 13 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER3BLOCK14SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER3BLOCK14SUMMATIONDELIVERED, "Current Tier 3 Block 14 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER3BLOCK15SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER3BLOCK15SUMMATIONDELIVERED, "Current Tier 3 Block 15 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER3BLOCK16SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER3BLOCK16SUMMATIONDELIVERED, "Current Tier 3 Block 16 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER4BLOCK1SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER4BLOCK1SUMMATIONDELIVERED, "Current Tier 4 Block 1 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER4BLOCK2SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER4BLOCK2SUMMATIONDELIVERED, "Current Tier 4 Block 2 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER4BLOCK3SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER4BLOCK3SUMMATIONDELIVERED, "Current Tier 4 Block 3 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER4BLOCK4SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER4BLOCK4SUMMATIONDELIVERED, "Current Tier 4 Block 4 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER4BLOCK5SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER4BLOCK5SUMMATIONDELIVERED, "Current Tier 4 Block 5 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER4BLOCK6SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER4BLOCK6SUMMATIONDELIVERED, "Current Tier 4 Block 6 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER4BLOCK7SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER4BLOCK7SUMMATIONDELIVERED, "Current Tier 4 Block 7 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER4BLOCK8SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER4BLOCK8SUMMATIONDELIVERED, "Current Tier 4 Block 8 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER4BLOCK9SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER4BLOCK9SUMMATIONDELIVERED, "Current Tier 4 Block 9 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER4BLOCK10SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER4BLOCK10SUMMATIONDELIVERED, "Current Tier 4 Block 10 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER4BLOCK11SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER4BLOCK11SUMMATIONDELIVERED, "Current Tier 4 Block 11 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER4BLOCK12SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER4BLOCK12SUMMATIONDELIVERED, "Current Tier 4 Block 12 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER4BLOCK13SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER4BLOCK13SUMMATIONDELIVERED, "Current Tier 4 Block 13 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER4BLOCK14SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER4BLOCK14SUMMATIONDELIVERED, "Current Tier 4 Block 14 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER4BLOCK15SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER4BLOCK15SUMMATIONDELIVERED, "Current Tier 4 Block 15 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER4BLOCK16SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER4BLOCK16SUMMATIONDELIVERED, "Current Tier 4 Block 16 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER5BLOCK1SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER5BLOCK1SUMMATIONDELIVERED, "Current Tier 5 Block 1 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER5BLOCK2SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER5BLOCK2SUMMATIONDELIVERED, "Current Tier 5 Block 2 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER5BLOCK3SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER5BLOCK3SUMMATIONDELIVERED, "Current Tier 5 Block 3 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER5BLOCK4SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER5BLOCK4SUMMATIONDELIVERED, "Current Tier 5 Block 4 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER5BLOCK5SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER5BLOCK5SUMMATIONDELIVERED, "Current Tier 5 Block 5 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER5BLOCK6SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER5BLOCK6SUMMATIONDELIVERED, "Current Tier 5 Block 6 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER5BLOCK7SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER5BLOCK7SUMMATIONDELIVERED, "Current Tier 5 Block 7 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER5BLOCK8SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER5BLOCK8SUMMATIONDELIVERED, "Current Tier 5 Block 8 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER5BLOCK9SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER5BLOCK9SUMMATIONDELIVERED, "Current Tier 5 Block 9 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER5BLOCK10SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER5BLOCK10SUMMATIONDELIVERED, "Current Tier 5 Block 10 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER5BLOCK11SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER5BLOCK11SUMMATIONDELIVERED, "Current Tier 5 Block 11 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER5BLOCK12SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER5BLOCK12SUMMATIONDELIVERED, "Current Tier 5 Block 12 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER5BLOCK13SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER5BLOCK13SUMMATIONDELIVERED, "Current Tier 5 Block 13 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER5BLOCK14SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER5BLOCK14SUMMATIONDELIVERED, "Current Tier 5 Block 14 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER5BLOCK15SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER5BLOCK15SUMMATIONDELIVERED, "Current Tier 5 Block 15 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER5BLOCK16SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER5BLOCK16SUMMATIONDELIVERED, "Current Tier 5 Block 16 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER6BLOCK1SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER6BLOCK1SUMMATIONDELIVERED, "Current Tier 6 Block 1 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER6BLOCK2SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER6BLOCK2SUMMATIONDELIVERED, "Current Tier 6 Block 2 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER6BLOCK3SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER6BLOCK3SUMMATIONDELIVERED, "Current Tier 6 Block 3 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER6BLOCK4SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER6BLOCK4SUMMATIONDELIVERED, "Current Tier 6 Block 4 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER6BLOCK5SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER6BLOCK5SUMMATIONDELIVERED, "Current Tier 6 Block 5 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER6BLOCK6SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER6BLOCK6SUMMATIONDELIVERED, "Current Tier 6 Block 6 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER6BLOCK7SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER6BLOCK7SUMMATIONDELIVERED, "Current Tier 6 Block 7 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER6BLOCK8SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER6BLOCK8SUMMATIONDELIVERED, "Current Tier 6 Block 8 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER6BLOCK9SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER6BLOCK9SUMMATIONDELIVERED, "Current Tier 6 Block 9 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER6BLOCK10SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER6BLOCK10SUMMATIONDELIVERED, "Current Tier 6 Block 10 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER6BLOCK11SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER6BLOCK11SUMMATIONDELIVERED, "Current Tier 6 Block 11 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER6BLOCK12SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER6BLOCK12SUMMATIONDELIVERED, "Current Tier 6 Block 12 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER6BLOCK13SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER6BLOCK13SUMMATIONDELIVERED, "Current Tier 6 Block 13 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER6BLOCK14SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER6BLOCK14SUMMATIONDELIVERED, "Current Tier 6 Block 14 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER6BLOCK15SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER6BLOCK15SUMMATIONDELIVERED, "Current Tier 6 Block 15 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER6BLOCK16SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER6BLOCK16SUMMATIONDELIVERED, "Current Tier 6 Block 16 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER7BLOCK1SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER7BLOCK1SUMMATIONDELIVERED, "Current Tier 7 Block 1 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER7BLOCK2SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER7BLOCK2SUMMATIONDELIVERED, "Current Tier 7 Block 2 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER7BLOCK3SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER7BLOCK3SUMMATIONDELIVERED, "Current Tier 7 Block 3 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER7BLOCK4SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER7BLOCK4SUMMATIONDELIVERED, "Current Tier 7 Block 4 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER7BLOCK5SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER7BLOCK5SUMMATIONDELIVERED, "Current Tier 7 Block 5 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER7BLOCK6SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER7BLOCK6SUMMATIONDELIVERED, "Current Tier 7 Block 6 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER7BLOCK7SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER7BLOCK7SUMMATIONDELIVERED, "Current Tier 7 Block 7 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER7BLOCK8SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER7BLOCK8SUMMATIONDELIVERED, "Current Tier 7 Block 8 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER7BLOCK9SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER7BLOCK9SUMMATIONDELIVERED, "Current Tier 7 Block 9 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER7BLOCK10SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER7BLOCK10SUMMATIONDELIVERED, "Current Tier 7 Block 10 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER7BLOCK11SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER7BLOCK11SUMMATIONDELIVERED, "Current Tier 7 Block 11 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER7BLOCK12SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER7BLOCK12SUMMATIONDELIVERED, "Current Tier 7 Block 12 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER7BLOCK13SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER7BLOCK13SUMMATIONDELIVERED, "Current Tier 7 Block 13 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER7BLOCK14SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER7BLOCK14SUMMATIONDELIVERED, "Current Tier 7 Block 14 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER7BLOCK15SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER7BLOCK15SUMMATIONDELIVERED, "Current Tier 7 Block 15 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER7BLOCK16SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER7BLOCK16SUMMATIONDELIVERED, "Current Tier 7 Block 16 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER8BLOCK1SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER8BLOCK1SUMMATIONDELIVERED, "Current Tier 8 Block 1 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER8BLOCK2SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER8BLOCK2SUMMATIONDELIVERED, "Current Tier 8 Block 2 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER8BLOCK3SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER8BLOCK3SUMMATIONDELIVERED, "Current Tier 8 Block 3 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER8BLOCK4SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER8BLOCK4SUMMATIONDELIVERED, "Current Tier 8 Block 4 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER8BLOCK5SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER8BLOCK5SUMMATIONDELIVERED, "Current Tier 8 Block 5 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER8BLOCK6SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER8BLOCK6SUMMATIONDELIVERED, "Current Tier 8 Block 6 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER8BLOCK7SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER8BLOCK7SUMMATIONDELIVERED, "Current Tier 8 Block 7 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER8BLOCK8SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER8BLOCK8SUMMATIONDELIVERED, "Current Tier 8 Block 8 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER8BLOCK9SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER8BLOCK9SUMMATIONDELIVERED, "Current Tier 8 Block 9 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER8BLOCK10SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER8BLOCK10SUMMATIONDELIVERED, "Current Tier 8 Block 10 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER8BLOCK11SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER8BLOCK11SUMMATIONDELIVERED, "Current Tier 8 Block 11 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER8BLOCK12SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER8BLOCK12SUMMATIONDELIVERED, "Current Tier 8 Block 12 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER8BLOCK13SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER8BLOCK13SUMMATIONDELIVERED, "Current Tier 8 Block 13 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER8BLOCK14SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER8BLOCK14SUMMATIONDELIVERED, "Current Tier 8 Block 14 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER8BLOCK15SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER8BLOCK15SUMMATIONDELIVERED, "Current Tier 8 Block 15 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER8BLOCK16SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER8BLOCK16SUMMATIONDELIVERED, "Current Tier 8 Block 16 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER9BLOCK1SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER9BLOCK1SUMMATIONDELIVERED, "Current Tier 9 Block 1 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER9BLOCK2SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER9BLOCK2SUMMATIONDELIVERED, "Current Tier 9 Block 2 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER9BLOCK3SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER9BLOCK3SUMMATIONDELIVERED, "Current Tier 9 Block 3 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER9BLOCK4SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER9BLOCK4SUMMATIONDELIVERED, "Current Tier 9 Block 4 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER9BLOCK5SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER9BLOCK5SUMMATIONDELIVERED, "Current Tier 9 Block 5 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER9BLOCK6SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER9BLOCK6SUMMATIONDELIVERED, "Current Tier 9 Block 6 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER9BLOCK7SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER9BLOCK7SUMMATIONDELIVERED, "Current Tier 9 Block 7 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER9BLOCK8SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER9BLOCK8SUMMATIONDELIVERED, "Current Tier 9 Block 8 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER9BLOCK9SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER9BLOCK9SUMMATIONDELIVERED, "Current Tier 9 Block 9 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER9BLOCK10SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER9BLOCK10SUMMATIONDELIVERED, "Current Tier 9 Block 10 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER9BLOCK11SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER9BLOCK11SUMMATIONDELIVERED, "Current Tier 9 Block 11 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER9BLOCK12SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER9BLOCK12SUMMATIONDELIVERED, "Current Tier 9 Block 12 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER9BLOCK13SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER9BLOCK13SUMMATIONDELIVERED, "Current Tier 9 Block 13 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER9BLOCK14SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER9BLOCK14SUMMATIONDELIVERED, "Current Tier 9 Block 14 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER9BLOCK15SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER9BLOCK15SUMMATIONDELIVERED, "Current Tier 9 Block 15 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER9BLOCK16SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER9BLOCK16SUMMATIONDELIVERED, "Current Tier 9 Block 16 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER10BLOCK1SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER10BLOCK1SUMMATIONDELIVERED, "Current Tier 10 Block 1 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER10BLOCK2SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER10BLOCK2SUMMATIONDELIVERED, "Current Tier 10 Block 2 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER10BLOCK3SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER10BLOCK3SUMMATIONDELIVERED, "Current Tier 10 Block 3 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER10BLOCK4SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER10BLOCK4SUMMATIONDELIVERED, "Current Tier 10 Block 4 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER10BLOCK5SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER10BLOCK5SUMMATIONDELIVERED, "Current Tier 10 Block 5 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER10BLOCK6SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER10BLOCK6SUMMATIONDELIVERED, "Current Tier 10 Block 6 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER10BLOCK7SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER10BLOCK7SUMMATIONDELIVERED, "Current Tier 10 Block 7 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER10BLOCK8SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER10BLOCK8SUMMATIONDELIVERED, "Current Tier 10 Block 8 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER10BLOCK9SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER10BLOCK9SUMMATIONDELIVERED, "Current Tier 10 Block 9 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER10BLOCK10SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER10BLOCK10SUMMATIONDELIVERED, "Current Tier 10 Block 10 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER10BLOCK11SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER10BLOCK11SUMMATIONDELIVERED, "Current Tier 10 Block 11 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER10BLOCK12SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER10BLOCK12SUMMATIONDELIVERED, "Current Tier 10 Block 12 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER10BLOCK13SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER10BLOCK13SUMMATIONDELIVERED, "Current Tier 10 Block 13 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER10BLOCK14SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER10BLOCK14SUMMATIONDELIVERED, "Current Tier 10 Block 14 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER10BLOCK15SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER10BLOCK15SUMMATIONDELIVERED, "Current Tier 10 Block 15 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER10BLOCK16SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER10BLOCK16SUMMATIONDELIVERED, "Current Tier 10 Block 16 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER11BLOCK1SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER11BLOCK1SUMMATIONDELIVERED, "Current Tier 11 Block 1 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER11BLOCK2SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER11BLOCK2SUMMATIONDELIVERED, "Current Tier 11 Block 2 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER11BLOCK3SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER11BLOCK3SUMMATIONDELIVERED, "Current Tier 11 Block 3 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER11BLOCK4SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER11BLOCK4SUMMATIONDELIVERED, "Current Tier 11 Block 4 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER11BLOCK5SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER11BLOCK5SUMMATIONDELIVERED, "Current Tier 11 Block 5 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER11BLOCK6SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER11BLOCK6SUMMATIONDELIVERED, "Current Tier 11 Block 6 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER11BLOCK7SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER11BLOCK7SUMMATIONDELIVERED, "Current Tier 11 Block 7 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER11BLOCK8SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER11BLOCK8SUMMATIONDELIVERED, "Current Tier 11 Block 8 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER11BLOCK9SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER11BLOCK9SUMMATIONDELIVERED, "Current Tier 11 Block 9 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER11BLOCK10SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER11BLOCK10SUMMATIONDELIVERED, "Current Tier 11 Block 10 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER11BLOCK11SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER11BLOCK11SUMMATIONDELIVERED, "Current Tier 11 Block 11 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER11BLOCK12SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER11BLOCK12SUMMATIONDELIVERED, "Current Tier 11 Block 12 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER11BLOCK13SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER11BLOCK13SUMMATIONDELIVERED, "Current Tier 11 Block 13 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER11BLOCK14SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER11BLOCK14SUMMATIONDELIVERED, "Current Tier 11 Block 14 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER11BLOCK15SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER11BLOCK15SUMMATIONDELIVERED, "Current Tier 11 Block 15 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER11BLOCK16SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER11BLOCK16SUMMATIONDELIVERED, "Current Tier 11 Block 16 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER12BLOCK1SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER12BLOCK1SUMMATIONDELIVERED, "Current Tier 12 Block 1 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER12BLOCK2SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER12BLOCK2SUMMATIONDELIVERED, "Current Tier 12 Block 2 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER12BLOCK3SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER12BLOCK3SUMMATIONDELIVERED, "Current Tier 12 Block 3 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER12BLOCK4SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER12BLOCK4SUMMATIONDELIVERED, "Current Tier 12 Block 4 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER12BLOCK5SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER12BLOCK5SUMMATIONDELIVERED, "Current Tier 12 Block 5 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER12BLOCK6SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER12BLOCK6SUMMATIONDELIVERED, "Current Tier 12 Block 6 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER12BLOCK7SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER12BLOCK7SUMMATIONDELIVERED, "Current Tier 12 Block 7 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER12BLOCK8SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER12BLOCK8SUMMATIONDELIVERED, "Current Tier 12 Block 8 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER12BLOCK9SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER12BLOCK9SUMMATIONDELIVERED, "Current Tier 12 Block 9 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER12BLOCK10SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER12BLOCK10SUMMATIONDELIVERED, "Current Tier 12 Block 10 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER12BLOCK11SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER12BLOCK11SUMMATIONDELIVERED, "Current Tier 12 Block 11 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER12BLOCK12SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER12BLOCK12SUMMATIONDELIVERED, "Current Tier 12 Block 12 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER12BLOCK13SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER12BLOCK13SUMMATIONDELIVERED, "Current Tier 12 Block 13 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER12BLOCK14SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER12BLOCK14SUMMATIONDELIVERED, "Current Tier 12 Block 14 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER12BLOCK15SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER12BLOCK15SUMMATIONDELIVERED, "Current Tier 12 Block 15 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER12BLOCK16SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER12BLOCK16SUMMATIONDELIVERED, "Current Tier 12 Block 16 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER13BLOCK1SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER13BLOCK1SUMMATIONDELIVERED, "Current Tier 13 Block 1 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER13BLOCK2SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER13BLOCK2SUMMATIONDELIVERED, "Current Tier 13 Block 2 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER13BLOCK3SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER13BLOCK3SUMMATIONDELIVERED, "Current Tier 13 Block 3 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER13BLOCK4SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER13BLOCK4SUMMATIONDELIVERED, "Current Tier 13 Block 4 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER13BLOCK5SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER13BLOCK5SUMMATIONDELIVERED, "Current Tier 13 Block 5 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER13BLOCK6SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER13BLOCK6SUMMATIONDELIVERED, "Current Tier 13 Block 6 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER13BLOCK7SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER13BLOCK7SUMMATIONDELIVERED, "Current Tier 13 Block 7 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER13BLOCK8SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER13BLOCK8SUMMATIONDELIVERED, "Current Tier 13 Block 8 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER13BLOCK9SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER13BLOCK9SUMMATIONDELIVERED, "Current Tier 13 Block 9 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER13BLOCK10SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER13BLOCK10SUMMATIONDELIVERED, "Current Tier 13 Block 10 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER13BLOCK11SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER13BLOCK11SUMMATIONDELIVERED, "Current Tier 13 Block 11 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER13BLOCK12SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER13BLOCK12SUMMATIONDELIVERED, "Current Tier 13 Block 12 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER13BLOCK13SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER13BLOCK13SUMMATIONDELIVERED, "Current Tier 13 Block 13 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER13BLOCK14SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER13BLOCK14SUMMATIONDELIVERED, "Current Tier 13 Block 14 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER13BLOCK15SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER13BLOCK15SUMMATIONDELIVERED, "Current Tier 13 Block 15 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER13BLOCK16SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER13BLOCK16SUMMATIONDELIVERED, "Current Tier 13 Block 16 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER14BLOCK1SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER14BLOCK1SUMMATIONDELIVERED, "Current Tier 14 Block 1 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER14BLOCK2SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER14BLOCK2SUMMATIONDELIVERED, "Current Tier 14 Block 2 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER14BLOCK3SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER14BLOCK3SUMMATIONDELIVERED, "Current Tier 14 Block 3 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER14BLOCK4SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER14BLOCK4SUMMATIONDELIVERED, "Current Tier 14 Block 4 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER14BLOCK5SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER14BLOCK5SUMMATIONDELIVERED, "Current Tier 14 Block 5 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER14BLOCK6SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER14BLOCK6SUMMATIONDELIVERED, "Current Tier 14 Block 6 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER14BLOCK7SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER14BLOCK7SUMMATIONDELIVERED, "Current Tier 14 Block 7 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER14BLOCK8SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER14BLOCK8SUMMATIONDELIVERED, "Current Tier 14 Block 8 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER14BLOCK9SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER14BLOCK9SUMMATIONDELIVERED, "Current Tier 14 Block 9 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER14BLOCK10SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER14BLOCK10SUMMATIONDELIVERED, "Current Tier 14 Block 10 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER14BLOCK11SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER14BLOCK11SUMMATIONDELIVERED, "Current Tier 14 Block 11 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER14BLOCK12SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER14BLOCK12SUMMATIONDELIVERED, "Current Tier 14 Block 12 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER14BLOCK13SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER14BLOCK13SUMMATIONDELIVERED, "Current Tier 14 Block 13 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER14BLOCK14SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER14BLOCK14SUMMATIONDELIVERED, "Current Tier 14 Block 14 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER14BLOCK15SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER14BLOCK15SUMMATIONDELIVERED, "Current Tier 14 Block 15 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER14BLOCK16SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER14BLOCK16SUMMATIONDELIVERED, "Current Tier 14 Block 16 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER15BLOCK1SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER15BLOCK1SUMMATIONDELIVERED, "Current Tier 15 Block 1 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER15BLOCK2SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER15BLOCK2SUMMATIONDELIVERED, "Current Tier 15 Block 2 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER15BLOCK3SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER15BLOCK3SUMMATIONDELIVERED, "Current Tier 15 Block 3 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER15BLOCK4SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER15BLOCK4SUMMATIONDELIVERED, "Current Tier 15 Block 4 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER15BLOCK5SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER15BLOCK5SUMMATIONDELIVERED, "Current Tier 15 Block 5 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER15BLOCK6SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER15BLOCK6SUMMATIONDELIVERED, "Current Tier 15 Block 6 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER15BLOCK7SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER15BLOCK7SUMMATIONDELIVERED, "Current Tier 15 Block 7 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER15BLOCK8SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER15BLOCK8SUMMATIONDELIVERED, "Current Tier 15 Block 8 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER15BLOCK9SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER15BLOCK9SUMMATIONDELIVERED, "Current Tier 15 Block 9 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER15BLOCK10SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER15BLOCK10SUMMATIONDELIVERED, "Current Tier 15 Block 10 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER15BLOCK11SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER15BLOCK11SUMMATIONDELIVERED, "Current Tier 15 Block 11 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER15BLOCK12SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER15BLOCK12SUMMATIONDELIVERED, "Current Tier 15 Block 12 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER15BLOCK13SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER15BLOCK13SUMMATIONDELIVERED, "Current Tier 15 Block 13 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER15BLOCK14SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER15BLOCK14SUMMATIONDELIVERED, "Current Tier 15 Block 14 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER15BLOCK15SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER15BLOCK15SUMMATIONDELIVERED, "Current Tier 15 Block 15 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER15BLOCK16SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER15BLOCK16SUMMATIONDELIVERED, "Current Tier 15 Block 16 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_GENERICALARMMASK, new ZclAttribute(this, ATTR_GENERICALARMMASK, "Generic Alarm Mask", ZclDataType.BITMAP_16_BIT, false, true, true, true));
-        attributeMap.put(ATTR_ELECTRICITYALARMMASK, new ZclAttribute(this, ATTR_ELECTRICITYALARMMASK, "Electricity Alarm Mask", ZclDataType.BITMAP_32_BIT, false, true, true, true));
-        attributeMap.put(ATTR_GENERICFLOWPRESSUREALARMMASK, new ZclAttribute(this, ATTR_GENERICFLOWPRESSUREALARMMASK, "Generic Flow /pressure Alarm Mask", ZclDataType.BITMAP_16_BIT, false, true, true, true));
-        attributeMap.put(ATTR_WATERSPECIFICALARMMASK, new ZclAttribute(this, ATTR_WATERSPECIFICALARMMASK, "Water Specific Alarm Mask", ZclDataType.BITMAP_16_BIT, false, true, true, true));
-        attributeMap.put(ATTR_HEATANDCOOLINGSPECIFICALARMMASK, new ZclAttribute(this, ATTR_HEATANDCOOLINGSPECIFICALARMMASK, "Heat And Cooling Specific Alarm Mask", ZclDataType.BITMAP_16_BIT, false, true, true, true));
-        attributeMap.put(ATTR_GASSPECIFICALARMMASK, new ZclAttribute(this, ATTR_GASSPECIFICALARMMASK, "Gas Specific Alarm Mask", ZclDataType.BITMAP_16_BIT, false, true, true, true));
-        attributeMap.put(ATTR_EXTENDEDGENERICALARMMASK, new ZclAttribute(this, ATTR_EXTENDEDGENERICALARMMASK, "Extended Generic Alarm Mask", ZclDataType.BITMAP_48_BIT, false, true, true, true));
-        attributeMap.put(ATTR_MANUFACTUREALARMMASK, new ZclAttribute(this, ATTR_MANUFACTUREALARMMASK, "Manufacture Alarm Mask", ZclDataType.BITMAP_16_BIT, false, true, true, true));
-        attributeMap.put(ATTR_CURRENTNOTIERBLOCK1SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTNOTIERBLOCK1SUMMATIONRECEIVED, "Current No Tier Block 1 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTNOTIERBLOCK2SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTNOTIERBLOCK2SUMMATIONRECEIVED, "Current No Tier Block 2 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTNOTIERBLOCK3SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTNOTIERBLOCK3SUMMATIONRECEIVED, "Current No Tier Block 3 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTNOTIERBLOCK4SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTNOTIERBLOCK4SUMMATIONRECEIVED, "Current No Tier Block 4 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTNOTIERBLOCK5SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTNOTIERBLOCK5SUMMATIONRECEIVED, "Current No Tier Block 5 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTNOTIERBLOCK6SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTNOTIERBLOCK6SUMMATIONRECEIVED, "Current No Tier Block 6 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTNOTIERBLOCK7SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTNOTIERBLOCK7SUMMATIONRECEIVED, "Current No Tier Block 7 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTNOTIERBLOCK8SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTNOTIERBLOCK8SUMMATIONRECEIVED, "Current No Tier Block 8 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTNOTIERBLOCK9SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTNOTIERBLOCK9SUMMATIONRECEIVED, "Current No Tier Block 9 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTNOTIERBLOCK10SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTNOTIERBLOCK10SUMMATIONRECEIVED, "Current No Tier Block 10 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTNOTIERBLOCK11SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTNOTIERBLOCK11SUMMATIONRECEIVED, "Current No Tier Block 11 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTNOTIERBLOCK12SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTNOTIERBLOCK12SUMMATIONRECEIVED, "Current No Tier Block 12 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTNOTIERBLOCK13SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTNOTIERBLOCK13SUMMATIONRECEIVED, "Current No Tier Block 13 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTNOTIERBLOCK14SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTNOTIERBLOCK14SUMMATIONRECEIVED, "Current No Tier Block 14 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTNOTIERBLOCK15SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTNOTIERBLOCK15SUMMATIONRECEIVED, "Current No Tier Block 15 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTNOTIERBLOCK16SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTNOTIERBLOCK16SUMMATIONRECEIVED, "Current No Tier Block 16 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER1BLOCK1SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER1BLOCK1SUMMATIONRECEIVED, "Current Tier 1 Block 1 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER1BLOCK2SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER1BLOCK2SUMMATIONRECEIVED, "Current Tier 1 Block 2 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER1BLOCK3SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER1BLOCK3SUMMATIONRECEIVED, "Current Tier 1 Block 3 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER1BLOCK4SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER1BLOCK4SUMMATIONRECEIVED, "Current Tier 1 Block 4 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER1BLOCK5SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER1BLOCK5SUMMATIONRECEIVED, "Current Tier 1 Block 5 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER1BLOCK6SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER1BLOCK6SUMMATIONRECEIVED, "Current Tier 1 Block 6 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER1BLOCK7SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER1BLOCK7SUMMATIONRECEIVED, "Current Tier 1 Block 7 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER1BLOCK8SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER1BLOCK8SUMMATIONRECEIVED, "Current Tier 1 Block 8 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER1BLOCK9SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER1BLOCK9SUMMATIONRECEIVED, "Current Tier 1 Block 9 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER1BLOCK10SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER1BLOCK10SUMMATIONRECEIVED, "Current Tier 1 Block 10 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER1BLOCK11SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER1BLOCK11SUMMATIONRECEIVED, "Current Tier 1 Block 11 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER1BLOCK12SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER1BLOCK12SUMMATIONRECEIVED, "Current Tier 1 Block 12 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER1BLOCK13SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER1BLOCK13SUMMATIONRECEIVED, "Current Tier 1 Block 13 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER1BLOCK14SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER1BLOCK14SUMMATIONRECEIVED, "Current Tier 1 Block 14 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER1BLOCK15SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER1BLOCK15SUMMATIONRECEIVED, "Current Tier 1 Block 15 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER1BLOCK16SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER1BLOCK16SUMMATIONRECEIVED, "Current Tier 1 Block 16 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER2BLOCK1SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER2BLOCK1SUMMATIONRECEIVED, "Current Tier 2 Block 1 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER2BLOCK2SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER2BLOCK2SUMMATIONRECEIVED, "Current Tier 2 Block 2 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER2BLOCK3SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER2BLOCK3SUMMATIONRECEIVED, "Current Tier 2 Block 3 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER2BLOCK4SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER2BLOCK4SUMMATIONRECEIVED, "Current Tier 2 Block 4 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER2BLOCK5SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER2BLOCK5SUMMATIONRECEIVED, "Current Tier 2 Block 5 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER2BLOCK6SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER2BLOCK6SUMMATIONRECEIVED, "Current Tier 2 Block 6 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER2BLOCK7SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER2BLOCK7SUMMATIONRECEIVED, "Current Tier 2 Block 7 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER2BLOCK8SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER2BLOCK8SUMMATIONRECEIVED, "Current Tier 2 Block 8 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER2BLOCK9SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER2BLOCK9SUMMATIONRECEIVED, "Current Tier 2 Block 9 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER2BLOCK10SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER2BLOCK10SUMMATIONRECEIVED, "Current Tier 2 Block 10 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER2BLOCK11SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER2BLOCK11SUMMATIONRECEIVED, "Current Tier 2 Block 11 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER2BLOCK12SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER2BLOCK12SUMMATIONRECEIVED, "Current Tier 2 Block 12 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER2BLOCK13SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER2BLOCK13SUMMATIONRECEIVED, "Current Tier 2 Block 13 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER2BLOCK14SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER2BLOCK14SUMMATIONRECEIVED, "Current Tier 2 Block 14 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER2BLOCK15SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER2BLOCK15SUMMATIONRECEIVED, "Current Tier 2 Block 15 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER2BLOCK16SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER2BLOCK16SUMMATIONRECEIVED, "Current Tier 2 Block 16 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER3BLOCK1SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER3BLOCK1SUMMATIONRECEIVED, "Current Tier 3 Block 1 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER3BLOCK2SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER3BLOCK2SUMMATIONRECEIVED, "Current Tier 3 Block 2 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER3BLOCK3SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER3BLOCK3SUMMATIONRECEIVED, "Current Tier 3 Block 3 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER3BLOCK4SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER3BLOCK4SUMMATIONRECEIVED, "Current Tier 3 Block 4 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER3BLOCK5SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER3BLOCK5SUMMATIONRECEIVED, "Current Tier 3 Block 5 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER3BLOCK6SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER3BLOCK6SUMMATIONRECEIVED, "Current Tier 3 Block 6 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER3BLOCK7SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER3BLOCK7SUMMATIONRECEIVED, "Current Tier 3 Block 7 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER3BLOCK8SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER3BLOCK8SUMMATIONRECEIVED, "Current Tier 3 Block 8 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER3BLOCK9SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER3BLOCK9SUMMATIONRECEIVED, "Current Tier 3 Block 9 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER3BLOCK10SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER3BLOCK10SUMMATIONRECEIVED, "Current Tier 3 Block 10 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER3BLOCK11SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER3BLOCK11SUMMATIONRECEIVED, "Current Tier 3 Block 11 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER3BLOCK12SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER3BLOCK12SUMMATIONRECEIVED, "Current Tier 3 Block 12 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER3BLOCK13SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER3BLOCK13SUMMATIONRECEIVED, "Current Tier 3 Block 13 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER3BLOCK14SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER3BLOCK14SUMMATIONRECEIVED, "Current Tier 3 Block 14 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER3BLOCK15SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER3BLOCK15SUMMATIONRECEIVED, "Current Tier 3 Block 15 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER3BLOCK16SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER3BLOCK16SUMMATIONRECEIVED, "Current Tier 3 Block 16 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER4BLOCK1SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER4BLOCK1SUMMATIONRECEIVED, "Current Tier 4 Block 1 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER4BLOCK2SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER4BLOCK2SUMMATIONRECEIVED, "Current Tier 4 Block 2 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER4BLOCK3SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER4BLOCK3SUMMATIONRECEIVED, "Current Tier 4 Block 3 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER4BLOCK4SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER4BLOCK4SUMMATIONRECEIVED, "Current Tier 4 Block 4 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER4BLOCK5SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER4BLOCK5SUMMATIONRECEIVED, "Current Tier 4 Block 5 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER4BLOCK6SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER4BLOCK6SUMMATIONRECEIVED, "Current Tier 4 Block 6 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER4BLOCK7SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER4BLOCK7SUMMATIONRECEIVED, "Current Tier 4 Block 7 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER4BLOCK8SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER4BLOCK8SUMMATIONRECEIVED, "Current Tier 4 Block 8 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER4BLOCK9SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER4BLOCK9SUMMATIONRECEIVED, "Current Tier 4 Block 9 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER4BLOCK10SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER4BLOCK10SUMMATIONRECEIVED, "Current Tier 4 Block 10 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER4BLOCK11SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER4BLOCK11SUMMATIONRECEIVED, "Current Tier 4 Block 11 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER4BLOCK12SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER4BLOCK12SUMMATIONRECEIVED, "Current Tier 4 Block 12 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER4BLOCK13SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER4BLOCK13SUMMATIONRECEIVED, "Current Tier 4 Block 13 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER4BLOCK14SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER4BLOCK14SUMMATIONRECEIVED, "Current Tier 4 Block 14 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER4BLOCK15SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER4BLOCK15SUMMATIONRECEIVED, "Current Tier 4 Block 15 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER4BLOCK16SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER4BLOCK16SUMMATIONRECEIVED, "Current Tier 4 Block 16 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER5BLOCK1SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER5BLOCK1SUMMATIONRECEIVED, "Current Tier 5 Block 1 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER5BLOCK2SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER5BLOCK2SUMMATIONRECEIVED, "Current Tier 5 Block 2 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER5BLOCK3SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER5BLOCK3SUMMATIONRECEIVED, "Current Tier 5 Block 3 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER5BLOCK4SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER5BLOCK4SUMMATIONRECEIVED, "Current Tier 5 Block 4 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER5BLOCK5SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER5BLOCK5SUMMATIONRECEIVED, "Current Tier 5 Block 5 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER5BLOCK6SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER5BLOCK6SUMMATIONRECEIVED, "Current Tier 5 Block 6 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER5BLOCK7SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER5BLOCK7SUMMATIONRECEIVED, "Current Tier 5 Block 7 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER5BLOCK8SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER5BLOCK8SUMMATIONRECEIVED, "Current Tier 5 Block 8 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER5BLOCK9SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER5BLOCK9SUMMATIONRECEIVED, "Current Tier 5 Block 9 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER5BLOCK10SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER5BLOCK10SUMMATIONRECEIVED, "Current Tier 5 Block 10 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER5BLOCK11SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER5BLOCK11SUMMATIONRECEIVED, "Current Tier 5 Block 11 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER5BLOCK12SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER5BLOCK12SUMMATIONRECEIVED, "Current Tier 5 Block 12 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER5BLOCK13SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER5BLOCK13SUMMATIONRECEIVED, "Current Tier 5 Block 13 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER5BLOCK14SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER5BLOCK14SUMMATIONRECEIVED, "Current Tier 5 Block 14 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER5BLOCK15SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER5BLOCK15SUMMATIONRECEIVED, "Current Tier 5 Block 15 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER5BLOCK16SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER5BLOCK16SUMMATIONRECEIVED, "Current Tier 5 Block 16 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER6BLOCK1SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER6BLOCK1SUMMATIONRECEIVED, "Current Tier 6 Block 1 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER6BLOCK2SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER6BLOCK2SUMMATIONRECEIVED, "Current Tier 6 Block 2 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER6BLOCK3SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER6BLOCK3SUMMATIONRECEIVED, "Current Tier 6 Block 3 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER6BLOCK4SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER6BLOCK4SUMMATIONRECEIVED, "Current Tier 6 Block 4 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER6BLOCK5SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER6BLOCK5SUMMATIONRECEIVED, "Current Tier 6 Block 5 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER6BLOCK6SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER6BLOCK6SUMMATIONRECEIVED, "Current Tier 6 Block 6 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER6BLOCK7SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER6BLOCK7SUMMATIONRECEIVED, "Current Tier 6 Block 7 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER6BLOCK8SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER6BLOCK8SUMMATIONRECEIVED, "Current Tier 6 Block 8 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER6BLOCK9SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER6BLOCK9SUMMATIONRECEIVED, "Current Tier 6 Block 9 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER6BLOCK10SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER6BLOCK10SUMMATIONRECEIVED, "Current Tier 6 Block 10 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER6BLOCK11SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER6BLOCK11SUMMATIONRECEIVED, "Current Tier 6 Block 11 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER6BLOCK12SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER6BLOCK12SUMMATIONRECEIVED, "Current Tier 6 Block 12 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER6BLOCK13SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER6BLOCK13SUMMATIONRECEIVED, "Current Tier 6 Block 13 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER6BLOCK14SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER6BLOCK14SUMMATIONRECEIVED, "Current Tier 6 Block 14 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER6BLOCK15SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER6BLOCK15SUMMATIONRECEIVED, "Current Tier 6 Block 15 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER6BLOCK16SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER6BLOCK16SUMMATIONRECEIVED, "Current Tier 6 Block 16 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER7BLOCK1SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER7BLOCK1SUMMATIONRECEIVED, "Current Tier 7 Block 1 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER7BLOCK2SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER7BLOCK2SUMMATIONRECEIVED, "Current Tier 7 Block 2 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER7BLOCK3SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER7BLOCK3SUMMATIONRECEIVED, "Current Tier 7 Block 3 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER7BLOCK4SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER7BLOCK4SUMMATIONRECEIVED, "Current Tier 7 Block 4 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER7BLOCK5SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER7BLOCK5SUMMATIONRECEIVED, "Current Tier 7 Block 5 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER7BLOCK6SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER7BLOCK6SUMMATIONRECEIVED, "Current Tier 7 Block 6 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER7BLOCK7SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER7BLOCK7SUMMATIONRECEIVED, "Current Tier 7 Block 7 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER7BLOCK8SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER7BLOCK8SUMMATIONRECEIVED, "Current Tier 7 Block 8 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER7BLOCK9SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER7BLOCK9SUMMATIONRECEIVED, "Current Tier 7 Block 9 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER7BLOCK10SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER7BLOCK10SUMMATIONRECEIVED, "Current Tier 7 Block 10 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER7BLOCK11SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER7BLOCK11SUMMATIONRECEIVED, "Current Tier 7 Block 11 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER7BLOCK12SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER7BLOCK12SUMMATIONRECEIVED, "Current Tier 7 Block 12 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER7BLOCK13SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER7BLOCK13SUMMATIONRECEIVED, "Current Tier 7 Block 13 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER7BLOCK14SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER7BLOCK14SUMMATIONRECEIVED, "Current Tier 7 Block 14 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER7BLOCK15SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER7BLOCK15SUMMATIONRECEIVED, "Current Tier 7 Block 15 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER7BLOCK16SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER7BLOCK16SUMMATIONRECEIVED, "Current Tier 7 Block 16 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER8BLOCK1SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER8BLOCK1SUMMATIONRECEIVED, "Current Tier 8 Block 1 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER8BLOCK2SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER8BLOCK2SUMMATIONRECEIVED, "Current Tier 8 Block 2 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER8BLOCK3SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER8BLOCK3SUMMATIONRECEIVED, "Current Tier 8 Block 3 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER8BLOCK4SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER8BLOCK4SUMMATIONRECEIVED, "Current Tier 8 Block 4 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER8BLOCK5SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER8BLOCK5SUMMATIONRECEIVED, "Current Tier 8 Block 5 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER8BLOCK6SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER8BLOCK6SUMMATIONRECEIVED, "Current Tier 8 Block 6 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER8BLOCK7SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER8BLOCK7SUMMATIONRECEIVED, "Current Tier 8 Block 7 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER8BLOCK8SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER8BLOCK8SUMMATIONRECEIVED, "Current Tier 8 Block 8 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER8BLOCK9SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER8BLOCK9SUMMATIONRECEIVED, "Current Tier 8 Block 9 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER8BLOCK10SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER8BLOCK10SUMMATIONRECEIVED, "Current Tier 8 Block 10 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER8BLOCK11SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER8BLOCK11SUMMATIONRECEIVED, "Current Tier 8 Block 11 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER8BLOCK12SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER8BLOCK12SUMMATIONRECEIVED, "Current Tier 8 Block 12 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER8BLOCK13SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER8BLOCK13SUMMATIONRECEIVED, "Current Tier 8 Block 13 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER8BLOCK14SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER8BLOCK14SUMMATIONRECEIVED, "Current Tier 8 Block 14 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER8BLOCK15SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER8BLOCK15SUMMATIONRECEIVED, "Current Tier 8 Block 15 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER8BLOCK16SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER8BLOCK16SUMMATIONRECEIVED, "Current Tier 8 Block 16 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER9BLOCK1SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER9BLOCK1SUMMATIONRECEIVED, "Current Tier 9 Block 1 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER9BLOCK2SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER9BLOCK2SUMMATIONRECEIVED, "Current Tier 9 Block 2 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER9BLOCK3SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER9BLOCK3SUMMATIONRECEIVED, "Current Tier 9 Block 3 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER9BLOCK4SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER9BLOCK4SUMMATIONRECEIVED, "Current Tier 9 Block 4 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER9BLOCK5SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER9BLOCK5SUMMATIONRECEIVED, "Current Tier 9 Block 5 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER9BLOCK6SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER9BLOCK6SUMMATIONRECEIVED, "Current Tier 9 Block 6 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER9BLOCK7SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER9BLOCK7SUMMATIONRECEIVED, "Current Tier 9 Block 7 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER9BLOCK8SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER9BLOCK8SUMMATIONRECEIVED, "Current Tier 9 Block 8 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER9BLOCK9SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER9BLOCK9SUMMATIONRECEIVED, "Current Tier 9 Block 9 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER9BLOCK10SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER9BLOCK10SUMMATIONRECEIVED, "Current Tier 9 Block 10 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER9BLOCK11SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER9BLOCK11SUMMATIONRECEIVED, "Current Tier 9 Block 11 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER9BLOCK12SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER9BLOCK12SUMMATIONRECEIVED, "Current Tier 9 Block 12 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER9BLOCK13SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER9BLOCK13SUMMATIONRECEIVED, "Current Tier 9 Block 13 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER9BLOCK14SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER9BLOCK14SUMMATIONRECEIVED, "Current Tier 9 Block 14 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER9BLOCK15SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER9BLOCK15SUMMATIONRECEIVED, "Current Tier 9 Block 15 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER9BLOCK16SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER9BLOCK16SUMMATIONRECEIVED, "Current Tier 9 Block 16 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER10BLOCK1SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER10BLOCK1SUMMATIONRECEIVED, "Current Tier 10 Block 1 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER10BLOCK2SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER10BLOCK2SUMMATIONRECEIVED, "Current Tier 10 Block 2 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER10BLOCK3SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER10BLOCK3SUMMATIONRECEIVED, "Current Tier 10 Block 3 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER10BLOCK4SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER10BLOCK4SUMMATIONRECEIVED, "Current Tier 10 Block 4 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER10BLOCK5SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER10BLOCK5SUMMATIONRECEIVED, "Current Tier 10 Block 5 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER10BLOCK6SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER10BLOCK6SUMMATIONRECEIVED, "Current Tier 10 Block 6 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER10BLOCK7SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER10BLOCK7SUMMATIONRECEIVED, "Current Tier 10 Block 7 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER10BLOCK8SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER10BLOCK8SUMMATIONRECEIVED, "Current Tier 10 Block 8 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER10BLOCK9SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER10BLOCK9SUMMATIONRECEIVED, "Current Tier 10 Block 9 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER10BLOCK10SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER10BLOCK10SUMMATIONRECEIVED, "Current Tier 10 Block 10 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER10BLOCK11SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER10BLOCK11SUMMATIONRECEIVED, "Current Tier 10 Block 11 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER10BLOCK12SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER10BLOCK12SUMMATIONRECEIVED, "Current Tier 10 Block 12 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER10BLOCK13SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER10BLOCK13SUMMATIONRECEIVED, "Current Tier 10 Block 13 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER10BLOCK14SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER10BLOCK14SUMMATIONRECEIVED, "Current Tier 10 Block 14 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER10BLOCK15SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER10BLOCK15SUMMATIONRECEIVED, "Current Tier 10 Block 15 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER10BLOCK16SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER10BLOCK16SUMMATIONRECEIVED, "Current Tier 10 Block 16 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER11BLOCK1SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER11BLOCK1SUMMATIONRECEIVED, "Current Tier 11 Block 1 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER11BLOCK2SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER11BLOCK2SUMMATIONRECEIVED, "Current Tier 11 Block 2 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER11BLOCK3SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER11BLOCK3SUMMATIONRECEIVED, "Current Tier 11 Block 3 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER11BLOCK4SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER11BLOCK4SUMMATIONRECEIVED, "Current Tier 11 Block 4 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER11BLOCK5SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER11BLOCK5SUMMATIONRECEIVED, "Current Tier 11 Block 5 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER11BLOCK6SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER11BLOCK6SUMMATIONRECEIVED, "Current Tier 11 Block 6 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER11BLOCK7SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER11BLOCK7SUMMATIONRECEIVED, "Current Tier 11 Block 7 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER11BLOCK8SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER11BLOCK8SUMMATIONRECEIVED, "Current Tier 11 Block 8 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER11BLOCK9SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER11BLOCK9SUMMATIONRECEIVED, "Current Tier 11 Block 9 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER11BLOCK10SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER11BLOCK10SUMMATIONRECEIVED, "Current Tier 11 Block 10 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER11BLOCK11SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER11BLOCK11SUMMATIONRECEIVED, "Current Tier 11 Block 11 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER11BLOCK12SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER11BLOCK12SUMMATIONRECEIVED, "Current Tier 11 Block 12 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER11BLOCK13SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER11BLOCK13SUMMATIONRECEIVED, "Current Tier 11 Block 13 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER11BLOCK14SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER11BLOCK14SUMMATIONRECEIVED, "Current Tier 11 Block 14 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER11BLOCK15SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER11BLOCK15SUMMATIONRECEIVED, "Current Tier 11 Block 15 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER11BLOCK16SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER11BLOCK16SUMMATIONRECEIVED, "Current Tier 11 Block 16 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER12BLOCK1SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER12BLOCK1SUMMATIONRECEIVED, "Current Tier 12 Block 1 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER12BLOCK2SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER12BLOCK2SUMMATIONRECEIVED, "Current Tier 12 Block 2 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER12BLOCK3SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER12BLOCK3SUMMATIONRECEIVED, "Current Tier 12 Block 3 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER12BLOCK4SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER12BLOCK4SUMMATIONRECEIVED, "Current Tier 12 Block 4 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER12BLOCK5SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER12BLOCK5SUMMATIONRECEIVED, "Current Tier 12 Block 5 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER12BLOCK6SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER12BLOCK6SUMMATIONRECEIVED, "Current Tier 12 Block 6 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER12BLOCK7SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER12BLOCK7SUMMATIONRECEIVED, "Current Tier 12 Block 7 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER12BLOCK8SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER12BLOCK8SUMMATIONRECEIVED, "Current Tier 12 Block 8 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER12BLOCK9SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER12BLOCK9SUMMATIONRECEIVED, "Current Tier 12 Block 9 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER12BLOCK10SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER12BLOCK10SUMMATIONRECEIVED, "Current Tier 12 Block 10 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER12BLOCK11SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER12BLOCK11SUMMATIONRECEIVED, "Current Tier 12 Block 11 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER12BLOCK12SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER12BLOCK12SUMMATIONRECEIVED, "Current Tier 12 Block 12 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER12BLOCK13SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER12BLOCK13SUMMATIONRECEIVED, "Current Tier 12 Block 13 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER12BLOCK14SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER12BLOCK14SUMMATIONRECEIVED, "Current Tier 12 Block 14 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER12BLOCK15SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER12BLOCK15SUMMATIONRECEIVED, "Current Tier 12 Block 15 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER12BLOCK16SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER12BLOCK16SUMMATIONRECEIVED, "Current Tier 12 Block 16 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER13BLOCK1SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER13BLOCK1SUMMATIONRECEIVED, "Current Tier 13 Block 1 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER13BLOCK2SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER13BLOCK2SUMMATIONRECEIVED, "Current Tier 13 Block 2 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER13BLOCK3SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER13BLOCK3SUMMATIONRECEIVED, "Current Tier 13 Block 3 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER13BLOCK4SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER13BLOCK4SUMMATIONRECEIVED, "Current Tier 13 Block 4 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER13BLOCK5SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER13BLOCK5SUMMATIONRECEIVED, "Current Tier 13 Block 5 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER13BLOCK6SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER13BLOCK6SUMMATIONRECEIVED, "Current Tier 13 Block 6 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER13BLOCK7SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER13BLOCK7SUMMATIONRECEIVED, "Current Tier 13 Block 7 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER13BLOCK8SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER13BLOCK8SUMMATIONRECEIVED, "Current Tier 13 Block 8 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER13BLOCK9SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER13BLOCK9SUMMATIONRECEIVED, "Current Tier 13 Block 9 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER13BLOCK10SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER13BLOCK10SUMMATIONRECEIVED, "Current Tier 13 Block 10 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER13BLOCK11SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER13BLOCK11SUMMATIONRECEIVED, "Current Tier 13 Block 11 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER13BLOCK12SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER13BLOCK12SUMMATIONRECEIVED, "Current Tier 13 Block 12 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER13BLOCK13SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER13BLOCK13SUMMATIONRECEIVED, "Current Tier 13 Block 13 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER13BLOCK14SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER13BLOCK14SUMMATIONRECEIVED, "Current Tier 13 Block 14 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER13BLOCK15SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER13BLOCK15SUMMATIONRECEIVED, "Current Tier 13 Block 15 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER13BLOCK16SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER13BLOCK16SUMMATIONRECEIVED, "Current Tier 13 Block 16 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER14BLOCK1SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER14BLOCK1SUMMATIONRECEIVED, "Current Tier 14 Block 1 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER14BLOCK2SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER14BLOCK2SUMMATIONRECEIVED, "Current Tier 14 Block 2 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER14BLOCK3SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER14BLOCK3SUMMATIONRECEIVED, "Current Tier 14 Block 3 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER14BLOCK4SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER14BLOCK4SUMMATIONRECEIVED, "Current Tier 14 Block 4 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER14BLOCK5SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER14BLOCK5SUMMATIONRECEIVED, "Current Tier 14 Block 5 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER14BLOCK6SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER14BLOCK6SUMMATIONRECEIVED, "Current Tier 14 Block 6 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER14BLOCK7SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER14BLOCK7SUMMATIONRECEIVED, "Current Tier 14 Block 7 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER14BLOCK8SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER14BLOCK8SUMMATIONRECEIVED, "Current Tier 14 Block 8 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER14BLOCK9SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER14BLOCK9SUMMATIONRECEIVED, "Current Tier 14 Block 9 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER14BLOCK10SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER14BLOCK10SUMMATIONRECEIVED, "Current Tier 14 Block 10 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER14BLOCK11SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER14BLOCK11SUMMATIONRECEIVED, "Current Tier 14 Block 11 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER14BLOCK12SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER14BLOCK12SUMMATIONRECEIVED, "Current Tier 14 Block 12 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER14BLOCK13SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER14BLOCK13SUMMATIONRECEIVED, "Current Tier 14 Block 13 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER14BLOCK14SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER14BLOCK14SUMMATIONRECEIVED, "Current Tier 14 Block 14 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER14BLOCK15SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER14BLOCK15SUMMATIONRECEIVED, "Current Tier 14 Block 15 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER14BLOCK16SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER14BLOCK16SUMMATIONRECEIVED, "Current Tier 14 Block 16 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER15BLOCK1SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER15BLOCK1SUMMATIONRECEIVED, "Current Tier 15 Block 1 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER15BLOCK2SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER15BLOCK2SUMMATIONRECEIVED, "Current Tier 15 Block 2 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER15BLOCK3SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER15BLOCK3SUMMATIONRECEIVED, "Current Tier 15 Block 3 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER15BLOCK4SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER15BLOCK4SUMMATIONRECEIVED, "Current Tier 15 Block 4 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER15BLOCK5SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER15BLOCK5SUMMATIONRECEIVED, "Current Tier 15 Block 5 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER15BLOCK6SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER15BLOCK6SUMMATIONRECEIVED, "Current Tier 15 Block 6 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER15BLOCK7SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER15BLOCK7SUMMATIONRECEIVED, "Current Tier 15 Block 7 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER15BLOCK8SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER15BLOCK8SUMMATIONRECEIVED, "Current Tier 15 Block 8 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER15BLOCK9SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER15BLOCK9SUMMATIONRECEIVED, "Current Tier 15 Block 9 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER15BLOCK10SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER15BLOCK10SUMMATIONRECEIVED, "Current Tier 15 Block 10 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER15BLOCK11SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER15BLOCK11SUMMATIONRECEIVED, "Current Tier 15 Block 11 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER15BLOCK12SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER15BLOCK12SUMMATIONRECEIVED, "Current Tier 15 Block 12 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER15BLOCK13SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER15BLOCK13SUMMATIONRECEIVED, "Current Tier 15 Block 13 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER15BLOCK14SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER15BLOCK14SUMMATIONRECEIVED, "Current Tier 15 Block 14 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER15BLOCK15SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER15BLOCK15SUMMATIONRECEIVED, "Current Tier 15 Block 15 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER15BLOCK16SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER15BLOCK16SUMMATIONRECEIVED, "Current Tier 15 Block 16 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_BILLTODATEDELIVERED, new ZclAttribute(this, ATTR_BILLTODATEDELIVERED, "Bill To Date Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_BILLTODATETIMESTAMPDELIVERED, new ZclAttribute(this, ATTR_BILLTODATETIMESTAMPDELIVERED, "Bill To Date Time Stamp Delivered", ZclDataType.UTCTIME, true, true, false, false));
-        attributeMap.put(ATTR_PROJECTEDBILLDELIVERED, new ZclAttribute(this, ATTR_PROJECTEDBILLDELIVERED, "Projected Bill Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PROJECTEDBILLTIMESTAMPDELIVERED, new ZclAttribute(this, ATTR_PROJECTEDBILLTIMESTAMPDELIVERED, "Projected Bill Time Stamp Delivered", ZclDataType.UTCTIME, true, true, false, false));
-        attributeMap.put(ATTR_BILLDELIVEREDTRAILINGDIGIT, new ZclAttribute(this, ATTR_BILLDELIVEREDTRAILINGDIGIT, "Bill Delivered Trailing Digit", ZclDataType.BITMAP_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_BILLTODATERECEIVED, new ZclAttribute(this, ATTR_BILLTODATERECEIVED, "Bill To Date Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_BILLTODATETIMESTAMPRECEIVED, new ZclAttribute(this, ATTR_BILLTODATETIMESTAMPRECEIVED, "Bill To Date Time Stamp Received", ZclDataType.UTCTIME, true, true, false, false));
-        attributeMap.put(ATTR_PROJECTEDBILLRECEIVED, new ZclAttribute(this, ATTR_PROJECTEDBILLRECEIVED, "Projected Bill Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PROJECTEDBILLTIMESTAMPRECEIVED, new ZclAttribute(this, ATTR_PROJECTEDBILLTIMESTAMPRECEIVED, "Projected Bill Time Stamp Received", ZclDataType.UTCTIME, true, true, false, false));
-        attributeMap.put(ATTR_BILLRECEIVEDTRAILINGDIGIT, new ZclAttribute(this, ATTR_BILLRECEIVEDTRAILINGDIGIT, "Bill Received Trailing Digit", ZclDataType.BITMAP_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_PROPOSEDCHANGESUPPLYIMPLEMENTATIONTIME, new ZclAttribute(this, ATTR_PROPOSEDCHANGESUPPLYIMPLEMENTATIONTIME, "Proposed Change Supply Implementation Time", ZclDataType.UTCTIME, true, true, false, false));
-        attributeMap.put(ATTR_PROPOSEDCHANGESUPPLYSTATUS, new ZclAttribute(this, ATTR_PROPOSEDCHANGESUPPLYSTATUS, "Proposed Change Supply Status", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_UNCONTROLLEDFLOWTHRESHOLD, new ZclAttribute(this, ATTR_UNCONTROLLEDFLOWTHRESHOLD, "Uncontrolled Flow Threshold", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_UNCONTROLLEDFLOWTHRESHOLDUNITOFMEASURE, new ZclAttribute(this, ATTR_UNCONTROLLEDFLOWTHRESHOLDUNITOFMEASURE, "Uncontrolled Flow Threshold Unit Of Measure", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_UNCONTROLLEDFLOWTHRESHOLDMULTIPLIER, new ZclAttribute(this, ATTR_UNCONTROLLEDFLOWTHRESHOLDMULTIPLIER, "Uncontrolled Flow Threshold Multiplier", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_UNCONTROLLEDFLOWTHRESHOLDDIVISOR, new ZclAttribute(this, ATTR_UNCONTROLLEDFLOWTHRESHOLDDIVISOR, "Uncontrolled Flow Threshold Divisor", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_FLOWSTABILIZATIONPERIOD, new ZclAttribute(this, ATTR_FLOWSTABILIZATIONPERIOD, "Flow Stabilization Period", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_FLOWMEASUREMENTPERIOD, new ZclAttribute(this, ATTR_FLOWMEASUREMENTPERIOD, "Flow Measurement Period", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_ALTERNATIVEINSTANTANEOUSDEMAND, new ZclAttribute(this, ATTR_ALTERNATIVEINSTANTANEOUSDEMAND, "Alternative Instantaneous Demand", ZclDataType.SIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTDAYALTERNATIVECONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTDAYALTERNATIVECONSUMPTIONDELIVERED, "Current Day Alternative Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTDAYALTERNATIVECONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTDAYALTERNATIVECONSUMPTIONRECEIVED, "Current Day Alternative Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAYALTERNATIVECONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSDAYALTERNATIVECONSUMPTIONDELIVERED, "Previous Day Alternative Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAYALTERNATIVECONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSDAYALTERNATIVECONSUMPTIONRECEIVED, "Previous Day Alternative Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTALTERNATIVEPARTIALPROFILEINTERVALSTARTTIMEDELIVERED, new ZclAttribute(this, ATTR_CURRENTALTERNATIVEPARTIALPROFILEINTERVALSTARTTIMEDELIVERED, "Current Alternative Partial Profile Interval Start Time Delivered", ZclDataType.UTCTIME, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTALTERNATIVEPARTIALPROFILEINTERVALSTARTTIMERECEIVED, new ZclAttribute(this, ATTR_CURRENTALTERNATIVEPARTIALPROFILEINTERVALSTARTTIMERECEIVED, "Current Alternative Partial Profile Interval Start Time Received", ZclDataType.UTCTIME, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTALTERNATIVEPARTIALPROFILEINTERVALVALUEDELIVERED, new ZclAttribute(this, ATTR_CURRENTALTERNATIVEPARTIALPROFILEINTERVALVALUEDELIVERED, "Current Alternative Partial Profile Interval Value Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTALTERNATIVEPARTIALPROFILEINTERVALVALUERECEIVED, new ZclAttribute(this, ATTR_CURRENTALTERNATIVEPARTIALPROFILEINTERVALVALUERECEIVED, "Current Alternative Partial Profile Interval Value Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTDAYALTERNATIVEMAXPRESSURE, new ZclAttribute(this, ATTR_CURRENTDAYALTERNATIVEMAXPRESSURE, "Current Day Alternative Max Pressure", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTDAYALTERNATIVEMINPRESSURE, new ZclAttribute(this, ATTR_CURRENTDAYALTERNATIVEMINPRESSURE, "Current Day Alternative Min Pressure", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAYALTERNATIVEMAXPRESSURE, new ZclAttribute(this, ATTR_PREVIOUSDAYALTERNATIVEMAXPRESSURE, "Previous Day Alternative Max Pressure", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAYALTERNATIVEMINPRESSURE, new ZclAttribute(this, ATTR_PREVIOUSDAYALTERNATIVEMINPRESSURE, "Previous Day Alternative Min Pressure", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTDAYALTERNATIVEMAXDEMAND, new ZclAttribute(this, ATTR_CURRENTDAYALTERNATIVEMAXDEMAND, "Current Day Alternative Max Demand", ZclDataType.SIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAYALTERNATIVEMAXDEMAND, new ZclAttribute(this, ATTR_PREVIOUSDAYALTERNATIVEMAXDEMAND, "Previous Day Alternative Max Demand", ZclDataType.SIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTMONTHALTERNATIVEMAXDEMAND, new ZclAttribute(this, ATTR_CURRENTMONTHALTERNATIVEMAXDEMAND, "Current Month Alternative Max Demand", ZclDataType.SIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTYEARALTERNATIVEMAXDEMAND, new ZclAttribute(this, ATTR_CURRENTYEARALTERNATIVEMAXDEMAND, "Current Year Alternative Max Demand", ZclDataType.SIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY2ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSDAY2ALTERNATIVECONSUMPTIONDELIVERED, "Previous Day 2 Alternative Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY4ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSDAY4ALTERNATIVECONSUMPTIONDELIVERED, "Previous Day 4 Alternative Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY6ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSDAY6ALTERNATIVECONSUMPTIONDELIVERED, "Previous Day 6 Alternative Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY8ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSDAY8ALTERNATIVECONSUMPTIONDELIVERED, "Previous Day 8 Alternative Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY10ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSDAY10ALTERNATIVECONSUMPTIONDELIVERED, "Previous Day 10 Alternative Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY12ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSDAY12ALTERNATIVECONSUMPTIONDELIVERED, "Previous Day 12 Alternative Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY2ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSDAY2ALTERNATIVECONSUMPTIONRECEIVED, "Previous Day 2 Alternative Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY4ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSDAY4ALTERNATIVECONSUMPTIONRECEIVED, "Previous Day 4 Alternative Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY6ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSDAY6ALTERNATIVECONSUMPTIONRECEIVED, "Previous Day 6 Alternative Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY8ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSDAY8ALTERNATIVECONSUMPTIONRECEIVED, "Previous Day 8 Alternative Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY10ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSDAY10ALTERNATIVECONSUMPTIONRECEIVED, "Previous Day 10 Alternative Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY12ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSDAY12ALTERNATIVECONSUMPTIONRECEIVED, "Previous Day 12 Alternative Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTWEEKALTERNATIVECONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTWEEKALTERNATIVECONSUMPTIONDELIVERED, "Current Week Alternative Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTWEEKALTERNATIVECONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTWEEKALTERNATIVECONSUMPTIONRECEIVED, "Current Week Alternative Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSWEEK1ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSWEEK1ALTERNATIVECONSUMPTIONDELIVERED, "Previous Week 1 Alternative Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSWEEK3ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSWEEK3ALTERNATIVECONSUMPTIONDELIVERED, "Previous Week 3 Alternative Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSWEEK5ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSWEEK5ALTERNATIVECONSUMPTIONDELIVERED, "Previous Week 5 Alternative Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSWEEK7ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSWEEK7ALTERNATIVECONSUMPTIONDELIVERED, "Previous Week 7 Alternative Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSWEEK9ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSWEEK9ALTERNATIVECONSUMPTIONDELIVERED, "Previous Week 9 Alternative Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSWEEK1ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSWEEK1ALTERNATIVECONSUMPTIONRECEIVED, "Previous Week 1 Alternative Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSWEEK3ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSWEEK3ALTERNATIVECONSUMPTIONRECEIVED, "Previous Week 3 Alternative Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSWEEK5ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSWEEK5ALTERNATIVECONSUMPTIONRECEIVED, "Previous Week 5 Alternative Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSWEEK7ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSWEEK7ALTERNATIVECONSUMPTIONRECEIVED, "Previous Week 7 Alternative Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSWEEK9ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSWEEK9ALTERNATIVECONSUMPTIONRECEIVED, "Previous Week 9 Alternative Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTMONTHALTERNATIVECONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTMONTHALTERNATIVECONSUMPTIONDELIVERED, "Current Month Alternative Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTMONTHALTERNATIVECONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTMONTHALTERNATIVECONSUMPTIONRECEIVED, "Current Month Alternative Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH1ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH1ALTERNATIVECONSUMPTIONDELIVERED, "Previous Month 1 Alternative Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH3ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH3ALTERNATIVECONSUMPTIONDELIVERED, "Previous Month 3 Alternative Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH5ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH5ALTERNATIVECONSUMPTIONDELIVERED, "Previous Month 5 Alternative Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH7ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH7ALTERNATIVECONSUMPTIONDELIVERED, "Previous Month 7 Alternative Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH9ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH9ALTERNATIVECONSUMPTIONDELIVERED, "Previous Month 9 Alternative Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH11ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH11ALTERNATIVECONSUMPTIONDELIVERED, "Previous Month 11 Alternative Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH13ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH13ALTERNATIVECONSUMPTIONDELIVERED, "Previous Month 13 Alternative Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH15ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH15ALTERNATIVECONSUMPTIONDELIVERED, "Previous Month 15 Alternative Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH17ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH17ALTERNATIVECONSUMPTIONDELIVERED, "Previous Month 17 Alternative Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH19ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH19ALTERNATIVECONSUMPTIONDELIVERED, "Previous Month 19 Alternative Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH21ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH21ALTERNATIVECONSUMPTIONDELIVERED, "Previous Month 21 Alternative Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH23ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH23ALTERNATIVECONSUMPTIONDELIVERED, "Previous Month 23 Alternative Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH25ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH25ALTERNATIVECONSUMPTIONDELIVERED, "Previous Month 25 Alternative Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH1ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH1ALTERNATIVECONSUMPTIONRECEIVED, "Previous Month 1 Alternative Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH3ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH3ALTERNATIVECONSUMPTIONRECEIVED, "Previous Month 3 Alternative Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH5ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH5ALTERNATIVECONSUMPTIONRECEIVED, "Previous Month 5 Alternative Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH7ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH7ALTERNATIVECONSUMPTIONRECEIVED, "Previous Month 7 Alternative Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH9ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH9ALTERNATIVECONSUMPTIONRECEIVED, "Previous Month 9 Alternative Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH11ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH11ALTERNATIVECONSUMPTIONRECEIVED, "Previous Month 11 Alternative Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH13ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH13ALTERNATIVECONSUMPTIONRECEIVED, "Previous Month 13 Alternative Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH15ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH15ALTERNATIVECONSUMPTIONRECEIVED, "Previous Month 15 Alternative Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH17ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH17ALTERNATIVECONSUMPTIONRECEIVED, "Previous Month 17 Alternative Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH19ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH19ALTERNATIVECONSUMPTIONRECEIVED, "Previous Month 19 Alternative Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH21ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH21ALTERNATIVECONSUMPTIONRECEIVED, "Previous Month 21 Alternative Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH23ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH23ALTERNATIVECONSUMPTIONRECEIVED, "Previous Month 23 Alternative Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH25ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH25ALTERNATIVECONSUMPTIONRECEIVED, "Previous Month 25 Alternative Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-
-        return attributeMap;
+    protected Map<Integer, ZclAttributeDefinition> getServerAttributeDefinitions() {
+        return SERVER_ATTRIBUTES;
     }
 
     @Override
@@ -3603,7 +3624,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCurrentSummationDeliveredAsync() {
-        return read(serverAttributes.get(ATTR_CURRENTSUMMATIONDELIVERED));
+        return read(getServerAttribute(ATTR_CURRENTSUMMATIONDELIVERED));
     }
 
     /**
@@ -3632,11 +3653,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCurrentSummationDelivered(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CURRENTSUMMATIONDELIVERED).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CURRENTSUMMATIONDELIVERED).getLastValue();
+        if (getServerAttribute(ATTR_CURRENTSUMMATIONDELIVERED).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CURRENTSUMMATIONDELIVERED).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CURRENTSUMMATIONDELIVERED));
+        return (Integer) readSync(getServerAttribute(ATTR_CURRENTSUMMATIONDELIVERED));
     }
 
     /**
@@ -3660,7 +3681,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setCurrentSummationDeliveredReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_CURRENTSUMMATIONDELIVERED), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_CURRENTSUMMATIONDELIVERED), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -3679,7 +3700,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCurrentSummationReceivedAsync() {
-        return read(serverAttributes.get(ATTR_CURRENTSUMMATIONRECEIVED));
+        return read(getServerAttribute(ATTR_CURRENTSUMMATIONRECEIVED));
     }
 
     /**
@@ -3706,11 +3727,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCurrentSummationReceived(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CURRENTSUMMATIONRECEIVED).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CURRENTSUMMATIONRECEIVED).getLastValue();
+        if (getServerAttribute(ATTR_CURRENTSUMMATIONRECEIVED).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CURRENTSUMMATIONRECEIVED).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CURRENTSUMMATIONRECEIVED));
+        return (Integer) readSync(getServerAttribute(ATTR_CURRENTSUMMATIONRECEIVED));
     }
 
     /**
@@ -3729,7 +3750,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCurrentMaxDemandDeliveredAsync() {
-        return read(serverAttributes.get(ATTR_CURRENTMAXDEMANDDELIVERED));
+        return read(getServerAttribute(ATTR_CURRENTMAXDEMANDDELIVERED));
     }
 
     /**
@@ -3756,11 +3777,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCurrentMaxDemandDelivered(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CURRENTMAXDEMANDDELIVERED).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CURRENTMAXDEMANDDELIVERED).getLastValue();
+        if (getServerAttribute(ATTR_CURRENTMAXDEMANDDELIVERED).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CURRENTMAXDEMANDDELIVERED).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CURRENTMAXDEMANDDELIVERED));
+        return (Integer) readSync(getServerAttribute(ATTR_CURRENTMAXDEMANDDELIVERED));
     }
 
     /**
@@ -3779,7 +3800,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCurrentMaxDemandReceivedAsync() {
-        return read(serverAttributes.get(ATTR_CURRENTMAXDEMANDRECEIVED));
+        return read(getServerAttribute(ATTR_CURRENTMAXDEMANDRECEIVED));
     }
 
     /**
@@ -3806,11 +3827,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCurrentMaxDemandReceived(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CURRENTMAXDEMANDRECEIVED).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CURRENTMAXDEMANDRECEIVED).getLastValue();
+        if (getServerAttribute(ATTR_CURRENTMAXDEMANDRECEIVED).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CURRENTMAXDEMANDRECEIVED).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CURRENTMAXDEMANDRECEIVED));
+        return (Integer) readSync(getServerAttribute(ATTR_CURRENTMAXDEMANDRECEIVED));
     }
 
     /**
@@ -3829,7 +3850,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getDftSummationAsync() {
-        return read(serverAttributes.get(ATTR_DFTSUMMATION));
+        return read(getServerAttribute(ATTR_DFTSUMMATION));
     }
 
     /**
@@ -3856,11 +3877,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getDftSummation(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_DFTSUMMATION).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_DFTSUMMATION).getLastValue();
+        if (getServerAttribute(ATTR_DFTSUMMATION).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_DFTSUMMATION).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_DFTSUMMATION));
+        return (Integer) readSync(getServerAttribute(ATTR_DFTSUMMATION));
     }
 
     /**
@@ -3883,7 +3904,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getDailyFreezeTimeAsync() {
-        return read(serverAttributes.get(ATTR_DAILYFREEZETIME));
+        return read(getServerAttribute(ATTR_DAILYFREEZETIME));
     }
 
     /**
@@ -3914,11 +3935,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getDailyFreezeTime(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_DAILYFREEZETIME).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_DAILYFREEZETIME).getLastValue();
+        if (getServerAttribute(ATTR_DAILYFREEZETIME).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_DAILYFREEZETIME).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_DAILYFREEZETIME));
+        return (Integer) readSync(getServerAttribute(ATTR_DAILYFREEZETIME));
     }
 
     /**
@@ -3936,7 +3957,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getPowerFactorAsync() {
-        return read(serverAttributes.get(ATTR_POWERFACTOR));
+        return read(getServerAttribute(ATTR_POWERFACTOR));
     }
 
     /**
@@ -3962,11 +3983,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getPowerFactor(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_POWERFACTOR).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_POWERFACTOR).getLastValue();
+        if (getServerAttribute(ATTR_POWERFACTOR).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_POWERFACTOR).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_POWERFACTOR));
+        return (Integer) readSync(getServerAttribute(ATTR_POWERFACTOR));
     }
 
     /**
@@ -3986,7 +4007,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getReadingSnapshotTimeAsync() {
-        return read(serverAttributes.get(ATTR_READINGSNAPSHOTTIME));
+        return read(getServerAttribute(ATTR_READINGSNAPSHOTTIME));
     }
 
     /**
@@ -4014,11 +4035,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Calendar getReadingSnapshotTime(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_READINGSNAPSHOTTIME).isLastValueCurrent(refreshPeriod)) {
-            return (Calendar) serverAttributes.get(ATTR_READINGSNAPSHOTTIME).getLastValue();
+        if (getServerAttribute(ATTR_READINGSNAPSHOTTIME).isLastValueCurrent(refreshPeriod)) {
+            return (Calendar) getServerAttribute(ATTR_READINGSNAPSHOTTIME).getLastValue();
         }
 
-        return (Calendar) readSync(serverAttributes.get(ATTR_READINGSNAPSHOTTIME));
+        return (Calendar) readSync(getServerAttribute(ATTR_READINGSNAPSHOTTIME));
     }
 
     /**
@@ -4041,7 +4062,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setReadingSnapshotTimeReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_READINGSNAPSHOTTIME), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_READINGSNAPSHOTTIME), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -4059,7 +4080,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCurrentMaxDemandDeliveredTimeAsync() {
-        return read(serverAttributes.get(ATTR_CURRENTMAXDEMANDDELIVEREDTIME));
+        return read(getServerAttribute(ATTR_CURRENTMAXDEMANDDELIVEREDTIME));
     }
 
     /**
@@ -4085,11 +4106,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Calendar getCurrentMaxDemandDeliveredTime(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CURRENTMAXDEMANDDELIVEREDTIME).isLastValueCurrent(refreshPeriod)) {
-            return (Calendar) serverAttributes.get(ATTR_CURRENTMAXDEMANDDELIVEREDTIME).getLastValue();
+        if (getServerAttribute(ATTR_CURRENTMAXDEMANDDELIVEREDTIME).isLastValueCurrent(refreshPeriod)) {
+            return (Calendar) getServerAttribute(ATTR_CURRENTMAXDEMANDDELIVEREDTIME).getLastValue();
         }
 
-        return (Calendar) readSync(serverAttributes.get(ATTR_CURRENTMAXDEMANDDELIVEREDTIME));
+        return (Calendar) readSync(getServerAttribute(ATTR_CURRENTMAXDEMANDDELIVEREDTIME));
     }
 
     /**
@@ -4110,7 +4131,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setCurrentMaxDemandDeliveredTimeReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_CURRENTMAXDEMANDDELIVEREDTIME), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_CURRENTMAXDEMANDDELIVEREDTIME), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -4128,7 +4149,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCurrentMaxDemandReceivedTimeAsync() {
-        return read(serverAttributes.get(ATTR_CURRENTMAXDEMANDRECEIVEDTIME));
+        return read(getServerAttribute(ATTR_CURRENTMAXDEMANDRECEIVEDTIME));
     }
 
     /**
@@ -4154,11 +4175,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Calendar getCurrentMaxDemandReceivedTime(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CURRENTMAXDEMANDRECEIVEDTIME).isLastValueCurrent(refreshPeriod)) {
-            return (Calendar) serverAttributes.get(ATTR_CURRENTMAXDEMANDRECEIVEDTIME).getLastValue();
+        if (getServerAttribute(ATTR_CURRENTMAXDEMANDRECEIVEDTIME).isLastValueCurrent(refreshPeriod)) {
+            return (Calendar) getServerAttribute(ATTR_CURRENTMAXDEMANDRECEIVEDTIME).getLastValue();
         }
 
-        return (Calendar) readSync(serverAttributes.get(ATTR_CURRENTMAXDEMANDRECEIVEDTIME));
+        return (Calendar) readSync(getServerAttribute(ATTR_CURRENTMAXDEMANDRECEIVEDTIME));
     }
 
     /**
@@ -4179,7 +4200,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setCurrentMaxDemandReceivedTimeReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_CURRENTMAXDEMANDRECEIVEDTIME), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_CURRENTMAXDEMANDRECEIVEDTIME), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -4201,7 +4222,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getDefaultUpdatePeriodAsync() {
-        return read(serverAttributes.get(ATTR_DEFAULTUPDATEPERIOD));
+        return read(getServerAttribute(ATTR_DEFAULTUPDATEPERIOD));
     }
 
     /**
@@ -4231,11 +4252,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getDefaultUpdatePeriod(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_DEFAULTUPDATEPERIOD).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_DEFAULTUPDATEPERIOD).getLastValue();
+        if (getServerAttribute(ATTR_DEFAULTUPDATEPERIOD).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_DEFAULTUPDATEPERIOD).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_DEFAULTUPDATEPERIOD));
+        return (Integer) readSync(getServerAttribute(ATTR_DEFAULTUPDATEPERIOD));
     }
 
     /**
@@ -4257,7 +4278,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getFastPollUpdatePeriodAsync() {
-        return read(serverAttributes.get(ATTR_FASTPOLLUPDATEPERIOD));
+        return read(getServerAttribute(ATTR_FASTPOLLUPDATEPERIOD));
     }
 
     /**
@@ -4287,11 +4308,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getFastPollUpdatePeriod(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_FASTPOLLUPDATEPERIOD).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_FASTPOLLUPDATEPERIOD).getLastValue();
+        if (getServerAttribute(ATTR_FASTPOLLUPDATEPERIOD).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_FASTPOLLUPDATEPERIOD).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_FASTPOLLUPDATEPERIOD));
+        return (Integer) readSync(getServerAttribute(ATTR_FASTPOLLUPDATEPERIOD));
     }
 
     /**
@@ -4313,7 +4334,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCurrentBlockPeriodConsumptionDeliveredAsync() {
-        return read(serverAttributes.get(ATTR_CURRENTBLOCKPERIODCONSUMPTIONDELIVERED));
+        return read(getServerAttribute(ATTR_CURRENTBLOCKPERIODCONSUMPTIONDELIVERED));
     }
 
     /**
@@ -4343,11 +4364,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCurrentBlockPeriodConsumptionDelivered(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CURRENTBLOCKPERIODCONSUMPTIONDELIVERED).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CURRENTBLOCKPERIODCONSUMPTIONDELIVERED).getLastValue();
+        if (getServerAttribute(ATTR_CURRENTBLOCKPERIODCONSUMPTIONDELIVERED).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CURRENTBLOCKPERIODCONSUMPTIONDELIVERED).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CURRENTBLOCKPERIODCONSUMPTIONDELIVERED));
+        return (Integer) readSync(getServerAttribute(ATTR_CURRENTBLOCKPERIODCONSUMPTIONDELIVERED));
     }
 
     /**
@@ -4366,7 +4387,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getDailyConsumptionTargetAsync() {
-        return read(serverAttributes.get(ATTR_DAILYCONSUMPTIONTARGET));
+        return read(getServerAttribute(ATTR_DAILYCONSUMPTIONTARGET));
     }
 
     /**
@@ -4393,11 +4414,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getDailyConsumptionTarget(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_DAILYCONSUMPTIONTARGET).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_DAILYCONSUMPTIONTARGET).getLastValue();
+        if (getServerAttribute(ATTR_DAILYCONSUMPTIONTARGET).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_DAILYCONSUMPTIONTARGET).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_DAILYCONSUMPTIONTARGET));
+        return (Integer) readSync(getServerAttribute(ATTR_DAILYCONSUMPTIONTARGET));
     }
 
     /**
@@ -4422,7 +4443,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCurrentBlockAsync() {
-        return read(serverAttributes.get(ATTR_CURRENTBLOCK));
+        return read(getServerAttribute(ATTR_CURRENTBLOCK));
     }
 
     /**
@@ -4455,11 +4476,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCurrentBlock(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CURRENTBLOCK).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CURRENTBLOCK).getLastValue();
+        if (getServerAttribute(ATTR_CURRENTBLOCK).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CURRENTBLOCK).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CURRENTBLOCK));
+        return (Integer) readSync(getServerAttribute(ATTR_CURRENTBLOCK));
     }
 
     /**
@@ -4480,7 +4501,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getProfileIntervalPeriodAsync() {
-        return read(serverAttributes.get(ATTR_PROFILEINTERVALPERIOD));
+        return read(getServerAttribute(ATTR_PROFILEINTERVALPERIOD));
     }
 
     /**
@@ -4509,11 +4530,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getProfileIntervalPeriod(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PROFILEINTERVALPERIOD).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_PROFILEINTERVALPERIOD).getLastValue();
+        if (getServerAttribute(ATTR_PROFILEINTERVALPERIOD).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_PROFILEINTERVALPERIOD).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_PROFILEINTERVALPERIOD));
+        return (Integer) readSync(getServerAttribute(ATTR_PROFILEINTERVALPERIOD));
     }
 
     /**
@@ -4528,7 +4549,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getIntervalReadReportingPeriodAsync() {
-        return read(serverAttributes.get(ATTR_INTERVALREADREPORTINGPERIOD));
+        return read(getServerAttribute(ATTR_INTERVALREADREPORTINGPERIOD));
     }
 
     /**
@@ -4551,11 +4572,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getIntervalReadReportingPeriod(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_INTERVALREADREPORTINGPERIOD).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_INTERVALREADREPORTINGPERIOD).getLastValue();
+        if (getServerAttribute(ATTR_INTERVALREADREPORTINGPERIOD).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_INTERVALREADREPORTINGPERIOD).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_INTERVALREADREPORTINGPERIOD));
+        return (Integer) readSync(getServerAttribute(ATTR_INTERVALREADREPORTINGPERIOD));
     }
 
     /**
@@ -4575,7 +4596,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getPresetReadingTimeAsync() {
-        return read(serverAttributes.get(ATTR_PRESETREADINGTIME));
+        return read(getServerAttribute(ATTR_PRESETREADINGTIME));
     }
 
     /**
@@ -4603,11 +4624,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getPresetReadingTime(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PRESETREADINGTIME).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_PRESETREADINGTIME).getLastValue();
+        if (getServerAttribute(ATTR_PRESETREADINGTIME).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_PRESETREADINGTIME).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_PRESETREADINGTIME));
+        return (Integer) readSync(getServerAttribute(ATTR_PRESETREADINGTIME));
     }
 
     /**
@@ -4627,7 +4648,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getVolumePerReportAsync() {
-        return read(serverAttributes.get(ATTR_VOLUMEPERREPORT));
+        return read(getServerAttribute(ATTR_VOLUMEPERREPORT));
     }
 
     /**
@@ -4655,11 +4676,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getVolumePerReport(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_VOLUMEPERREPORT).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_VOLUMEPERREPORT).getLastValue();
+        if (getServerAttribute(ATTR_VOLUMEPERREPORT).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_VOLUMEPERREPORT).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_VOLUMEPERREPORT));
+        return (Integer) readSync(getServerAttribute(ATTR_VOLUMEPERREPORT));
     }
 
     /**
@@ -4678,7 +4699,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getFlowRestrictionAsync() {
-        return read(serverAttributes.get(ATTR_FLOWRESTRICTION));
+        return read(getServerAttribute(ATTR_FLOWRESTRICTION));
     }
 
     /**
@@ -4705,11 +4726,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getFlowRestriction(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_FLOWRESTRICTION).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_FLOWRESTRICTION).getLastValue();
+        if (getServerAttribute(ATTR_FLOWRESTRICTION).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_FLOWRESTRICTION).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_FLOWRESTRICTION));
+        return (Integer) readSync(getServerAttribute(ATTR_FLOWRESTRICTION));
     }
 
     /**
@@ -4727,7 +4748,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getSupplyStatusAsync() {
-        return read(serverAttributes.get(ATTR_SUPPLYSTATUS));
+        return read(getServerAttribute(ATTR_SUPPLYSTATUS));
     }
 
     /**
@@ -4753,11 +4774,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getSupplyStatus(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_SUPPLYSTATUS).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_SUPPLYSTATUS).getLastValue();
+        if (getServerAttribute(ATTR_SUPPLYSTATUS).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_SUPPLYSTATUS).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_SUPPLYSTATUS));
+        return (Integer) readSync(getServerAttribute(ATTR_SUPPLYSTATUS));
     }
 
     /**
@@ -4777,7 +4798,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCurrentInletEnergyCarrierSummationAsync() {
-        return read(serverAttributes.get(ATTR_CURRENTINLETENERGYCARRIERSUMMATION));
+        return read(getServerAttribute(ATTR_CURRENTINLETENERGYCARRIERSUMMATION));
     }
 
     /**
@@ -4805,11 +4826,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCurrentInletEnergyCarrierSummation(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CURRENTINLETENERGYCARRIERSUMMATION).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CURRENTINLETENERGYCARRIERSUMMATION).getLastValue();
+        if (getServerAttribute(ATTR_CURRENTINLETENERGYCARRIERSUMMATION).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CURRENTINLETENERGYCARRIERSUMMATION).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CURRENTINLETENERGYCARRIERSUMMATION));
+        return (Integer) readSync(getServerAttribute(ATTR_CURRENTINLETENERGYCARRIERSUMMATION));
     }
 
     /**
@@ -4829,7 +4850,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCurrentOutletEnergyCarrierSummationAsync() {
-        return read(serverAttributes.get(ATTR_CURRENTOUTLETENERGYCARRIERSUMMATION));
+        return read(getServerAttribute(ATTR_CURRENTOUTLETENERGYCARRIERSUMMATION));
     }
 
     /**
@@ -4857,11 +4878,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCurrentOutletEnergyCarrierSummation(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CURRENTOUTLETENERGYCARRIERSUMMATION).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CURRENTOUTLETENERGYCARRIERSUMMATION).getLastValue();
+        if (getServerAttribute(ATTR_CURRENTOUTLETENERGYCARRIERSUMMATION).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CURRENTOUTLETENERGYCARRIERSUMMATION).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CURRENTOUTLETENERGYCARRIERSUMMATION));
+        return (Integer) readSync(getServerAttribute(ATTR_CURRENTOUTLETENERGYCARRIERSUMMATION));
     }
 
     /**
@@ -4878,7 +4899,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getInletTemperatureAsync() {
-        return read(serverAttributes.get(ATTR_INLETTEMPERATURE));
+        return read(getServerAttribute(ATTR_INLETTEMPERATURE));
     }
 
     /**
@@ -4903,11 +4924,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getInletTemperature(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_INLETTEMPERATURE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_INLETTEMPERATURE).getLastValue();
+        if (getServerAttribute(ATTR_INLETTEMPERATURE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_INLETTEMPERATURE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_INLETTEMPERATURE));
+        return (Integer) readSync(getServerAttribute(ATTR_INLETTEMPERATURE));
     }
 
     /**
@@ -4924,7 +4945,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getOutletTemperatureAsync() {
-        return read(serverAttributes.get(ATTR_OUTLETTEMPERATURE));
+        return read(getServerAttribute(ATTR_OUTLETTEMPERATURE));
     }
 
     /**
@@ -4949,11 +4970,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getOutletTemperature(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_OUTLETTEMPERATURE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_OUTLETTEMPERATURE).getLastValue();
+        if (getServerAttribute(ATTR_OUTLETTEMPERATURE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_OUTLETTEMPERATURE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_OUTLETTEMPERATURE));
+        return (Integer) readSync(getServerAttribute(ATTR_OUTLETTEMPERATURE));
     }
 
     /**
@@ -4971,7 +4992,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getControlTemperatureAsync() {
-        return read(serverAttributes.get(ATTR_CONTROLTEMPERATURE));
+        return read(getServerAttribute(ATTR_CONTROLTEMPERATURE));
     }
 
     /**
@@ -4997,11 +5018,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getControlTemperature(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CONTROLTEMPERATURE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CONTROLTEMPERATURE).getLastValue();
+        if (getServerAttribute(ATTR_CONTROLTEMPERATURE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CONTROLTEMPERATURE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CONTROLTEMPERATURE));
+        return (Integer) readSync(getServerAttribute(ATTR_CONTROLTEMPERATURE));
     }
 
     /**
@@ -5019,7 +5040,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCurrentInletEnergyCarrierDemandAsync() {
-        return read(serverAttributes.get(ATTR_CURRENTINLETENERGYCARRIERDEMAND));
+        return read(getServerAttribute(ATTR_CURRENTINLETENERGYCARRIERDEMAND));
     }
 
     /**
@@ -5045,11 +5066,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCurrentInletEnergyCarrierDemand(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CURRENTINLETENERGYCARRIERDEMAND).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CURRENTINLETENERGYCARRIERDEMAND).getLastValue();
+        if (getServerAttribute(ATTR_CURRENTINLETENERGYCARRIERDEMAND).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CURRENTINLETENERGYCARRIERDEMAND).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CURRENTINLETENERGYCARRIERDEMAND));
+        return (Integer) readSync(getServerAttribute(ATTR_CURRENTINLETENERGYCARRIERDEMAND));
     }
 
     /**
@@ -5067,7 +5088,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCurrentOutletEnergyCarrierDemandAsync() {
-        return read(serverAttributes.get(ATTR_CURRENTOUTLETENERGYCARRIERDEMAND));
+        return read(getServerAttribute(ATTR_CURRENTOUTLETENERGYCARRIERDEMAND));
     }
 
     /**
@@ -5093,11 +5114,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCurrentOutletEnergyCarrierDemand(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CURRENTOUTLETENERGYCARRIERDEMAND).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CURRENTOUTLETENERGYCARRIERDEMAND).getLastValue();
+        if (getServerAttribute(ATTR_CURRENTOUTLETENERGYCARRIERDEMAND).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CURRENTOUTLETENERGYCARRIERDEMAND).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CURRENTOUTLETENERGYCARRIERDEMAND));
+        return (Integer) readSync(getServerAttribute(ATTR_CURRENTOUTLETENERGYCARRIERDEMAND));
     }
 
     /**
@@ -5117,7 +5138,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getPreviousBlockPeriodConsumptionDeliveredAsync() {
-        return read(serverAttributes.get(ATTR_PREVIOUSBLOCKPERIODCONSUMPTIONDELIVERED));
+        return read(getServerAttribute(ATTR_PREVIOUSBLOCKPERIODCONSUMPTIONDELIVERED));
     }
 
     /**
@@ -5145,11 +5166,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getPreviousBlockPeriodConsumptionDelivered(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PREVIOUSBLOCKPERIODCONSUMPTIONDELIVERED).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_PREVIOUSBLOCKPERIODCONSUMPTIONDELIVERED).getLastValue();
+        if (getServerAttribute(ATTR_PREVIOUSBLOCKPERIODCONSUMPTIONDELIVERED).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_PREVIOUSBLOCKPERIODCONSUMPTIONDELIVERED).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_PREVIOUSBLOCKPERIODCONSUMPTIONDELIVERED));
+        return (Integer) readSync(getServerAttribute(ATTR_PREVIOUSBLOCKPERIODCONSUMPTIONDELIVERED));
     }
 
     /**
@@ -5169,7 +5190,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCurrentBlockPeriodConsumptionReceivedAsync() {
-        return read(serverAttributes.get(ATTR_CURRENTBLOCKPERIODCONSUMPTIONRECEIVED));
+        return read(getServerAttribute(ATTR_CURRENTBLOCKPERIODCONSUMPTIONRECEIVED));
     }
 
     /**
@@ -5197,11 +5218,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCurrentBlockPeriodConsumptionReceived(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CURRENTBLOCKPERIODCONSUMPTIONRECEIVED).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CURRENTBLOCKPERIODCONSUMPTIONRECEIVED).getLastValue();
+        if (getServerAttribute(ATTR_CURRENTBLOCKPERIODCONSUMPTIONRECEIVED).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CURRENTBLOCKPERIODCONSUMPTIONRECEIVED).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CURRENTBLOCKPERIODCONSUMPTIONRECEIVED));
+        return (Integer) readSync(getServerAttribute(ATTR_CURRENTBLOCKPERIODCONSUMPTIONRECEIVED));
     }
 
     /**
@@ -5226,7 +5247,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCurrentBlockReceivedAsync() {
-        return read(serverAttributes.get(ATTR_CURRENTBLOCKRECEIVED));
+        return read(getServerAttribute(ATTR_CURRENTBLOCKRECEIVED));
     }
 
     /**
@@ -5259,11 +5280,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCurrentBlockReceived(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CURRENTBLOCKRECEIVED).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CURRENTBLOCKRECEIVED).getLastValue();
+        if (getServerAttribute(ATTR_CURRENTBLOCKRECEIVED).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CURRENTBLOCKRECEIVED).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CURRENTBLOCKRECEIVED));
+        return (Integer) readSync(getServerAttribute(ATTR_CURRENTBLOCKRECEIVED));
     }
 
     /**
@@ -5281,7 +5302,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getDftSummationReceivedAsync() {
-        return read(serverAttributes.get(ATTR_DFTSUMMATIONRECEIVED));
+        return read(getServerAttribute(ATTR_DFTSUMMATIONRECEIVED));
     }
 
     /**
@@ -5307,11 +5328,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getDftSummationReceived(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_DFTSUMMATIONRECEIVED).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_DFTSUMMATIONRECEIVED).getLastValue();
+        if (getServerAttribute(ATTR_DFTSUMMATIONRECEIVED).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_DFTSUMMATIONRECEIVED).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_DFTSUMMATIONRECEIVED));
+        return (Integer) readSync(getServerAttribute(ATTR_DFTSUMMATIONRECEIVED));
     }
 
     /**
@@ -5329,7 +5350,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getActiveRegisterTierDeliveredAsync() {
-        return read(serverAttributes.get(ATTR_ACTIVEREGISTERTIERDELIVERED));
+        return read(getServerAttribute(ATTR_ACTIVEREGISTERTIERDELIVERED));
     }
 
     /**
@@ -5355,11 +5376,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getActiveRegisterTierDelivered(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_ACTIVEREGISTERTIERDELIVERED).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_ACTIVEREGISTERTIERDELIVERED).getLastValue();
+        if (getServerAttribute(ATTR_ACTIVEREGISTERTIERDELIVERED).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_ACTIVEREGISTERTIERDELIVERED).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_ACTIVEREGISTERTIERDELIVERED));
+        return (Integer) readSync(getServerAttribute(ATTR_ACTIVEREGISTERTIERDELIVERED));
     }
 
     /**
@@ -5377,7 +5398,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getActiveRegisterTierReceivedAsync() {
-        return read(serverAttributes.get(ATTR_ACTIVEREGISTERTIERRECEIVED));
+        return read(getServerAttribute(ATTR_ACTIVEREGISTERTIERRECEIVED));
     }
 
     /**
@@ -5403,11 +5424,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getActiveRegisterTierReceived(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_ACTIVEREGISTERTIERRECEIVED).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_ACTIVEREGISTERTIERRECEIVED).getLastValue();
+        if (getServerAttribute(ATTR_ACTIVEREGISTERTIERRECEIVED).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_ACTIVEREGISTERTIERRECEIVED).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_ACTIVEREGISTERTIERRECEIVED));
+        return (Integer) readSync(getServerAttribute(ATTR_ACTIVEREGISTERTIERRECEIVED));
     }
 
     /**
@@ -5435,7 +5456,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getLastBlockSwitchTimeAsync() {
-        return read(serverAttributes.get(ATTR_LASTBLOCKSWITCHTIME));
+        return read(getServerAttribute(ATTR_LASTBLOCKSWITCHTIME));
     }
 
     /**
@@ -5471,11 +5492,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Calendar getLastBlockSwitchTime(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_LASTBLOCKSWITCHTIME).isLastValueCurrent(refreshPeriod)) {
-            return (Calendar) serverAttributes.get(ATTR_LASTBLOCKSWITCHTIME).getLastValue();
+        if (getServerAttribute(ATTR_LASTBLOCKSWITCHTIME).isLastValueCurrent(refreshPeriod)) {
+            return (Calendar) getServerAttribute(ATTR_LASTBLOCKSWITCHTIME).getLastValue();
         }
 
-        return (Calendar) readSync(serverAttributes.get(ATTR_LASTBLOCKSWITCHTIME));
+        return (Calendar) readSync(getServerAttribute(ATTR_LASTBLOCKSWITCHTIME));
     }
 
     /**
@@ -5503,7 +5524,7 @@ public class ZclMeteringCluster extends ZclCluster {
             throw new IllegalArgumentException("arrayOffset out of bounds");
         }
 
-        return read(serverAttributes.get(ATTR_CURRENTTIER1SUMMATIONDELIVERED + arrayOffset));
+        return read(getServerAttribute(ATTR_CURRENTTIER1SUMMATIONDELIVERED + arrayOffset));
     }
 
     /**
@@ -5535,11 +5556,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCurrentTierSummationDelivered(final int arrayOffset, final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CURRENTTIER1SUMMATIONDELIVERED + arrayOffset).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CURRENTTIER1SUMMATIONDELIVERED + arrayOffset).getLastValue();
+        if (getServerAttribute(ATTR_CURRENTTIER1SUMMATIONDELIVERED + arrayOffset).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CURRENTTIER1SUMMATIONDELIVERED + arrayOffset).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CURRENTTIER1SUMMATIONDELIVERED + arrayOffset));
+        return (Integer) readSync(getServerAttribute(ATTR_CURRENTTIER1SUMMATIONDELIVERED + arrayOffset));
     }
 
     /**
@@ -5566,7 +5587,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setCurrentTier1SummationDeliveredReporting(final int arrayOffset, final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_CURRENTTIER1SUMMATIONDELIVERED + (arrayOffset - 1) * 2), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_CURRENTTIER1SUMMATIONDELIVERED + (arrayOffset - 1) * 2), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -5586,7 +5607,7 @@ public class ZclMeteringCluster extends ZclCluster {
             throw new IllegalArgumentException("arrayOffset out of bounds");
         }
 
-        return read(serverAttributes.get(ATTR_CURRENTTIER1SUMMATIONRECEIVED + arrayOffset));
+        return read(getServerAttribute(ATTR_CURRENTTIER1SUMMATIONRECEIVED + arrayOffset));
     }
 
     /**
@@ -5610,11 +5631,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCurrentTierSummationReceived(final int arrayOffset, final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CURRENTTIER1SUMMATIONRECEIVED + arrayOffset).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CURRENTTIER1SUMMATIONRECEIVED + arrayOffset).getLastValue();
+        if (getServerAttribute(ATTR_CURRENTTIER1SUMMATIONRECEIVED + arrayOffset).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CURRENTTIER1SUMMATIONRECEIVED + arrayOffset).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CURRENTTIER1SUMMATIONRECEIVED + arrayOffset));
+        return (Integer) readSync(getServerAttribute(ATTR_CURRENTTIER1SUMMATIONRECEIVED + arrayOffset));
     }
 
     /**
@@ -5633,7 +5654,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setCurrentTier1SummationReceivedReporting(final int arrayOffset, final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_CURRENTTIER1SUMMATIONRECEIVED + (arrayOffset - 1) * 2), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_CURRENTTIER1SUMMATIONRECEIVED + (arrayOffset - 1) * 2), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -5653,7 +5674,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCpp1SummationDeliveredAsync() {
-        return read(serverAttributes.get(ATTR_CPP1SUMMATIONDELIVERED));
+        return read(getServerAttribute(ATTR_CPP1SUMMATIONDELIVERED));
     }
 
     /**
@@ -5681,11 +5702,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCpp1SummationDelivered(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CPP1SUMMATIONDELIVERED).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CPP1SUMMATIONDELIVERED).getLastValue();
+        if (getServerAttribute(ATTR_CPP1SUMMATIONDELIVERED).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CPP1SUMMATIONDELIVERED).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CPP1SUMMATIONDELIVERED));
+        return (Integer) readSync(getServerAttribute(ATTR_CPP1SUMMATIONDELIVERED));
     }
 
     /**
@@ -5708,7 +5729,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setCpp1SummationDeliveredReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_CPP1SUMMATIONDELIVERED), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_CPP1SUMMATIONDELIVERED), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -5728,7 +5749,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCpp2SummationDeliveredAsync() {
-        return read(serverAttributes.get(ATTR_CPP2SUMMATIONDELIVERED));
+        return read(getServerAttribute(ATTR_CPP2SUMMATIONDELIVERED));
     }
 
     /**
@@ -5756,11 +5777,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCpp2SummationDelivered(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CPP2SUMMATIONDELIVERED).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CPP2SUMMATIONDELIVERED).getLastValue();
+        if (getServerAttribute(ATTR_CPP2SUMMATIONDELIVERED).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CPP2SUMMATIONDELIVERED).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CPP2SUMMATIONDELIVERED));
+        return (Integer) readSync(getServerAttribute(ATTR_CPP2SUMMATIONDELIVERED));
     }
 
     /**
@@ -5783,7 +5804,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setCpp2SummationDeliveredReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_CPP2SUMMATIONDELIVERED), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_CPP2SUMMATIONDELIVERED), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -5805,7 +5826,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getStatusAsync() {
-        return read(serverAttributes.get(ATTR_STATUS));
+        return read(getServerAttribute(ATTR_STATUS));
     }
 
     /**
@@ -5835,11 +5856,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getStatus(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_STATUS).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_STATUS).getLastValue();
+        if (getServerAttribute(ATTR_STATUS).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_STATUS).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_STATUS));
+        return (Integer) readSync(getServerAttribute(ATTR_STATUS));
     }
 
     /**
@@ -5863,7 +5884,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setStatusReporting(final int minInterval, final int maxInterval) {
-        return setReporting(serverAttributes.get(ATTR_STATUS), minInterval, maxInterval);
+        return setReporting(getServerAttribute(ATTR_STATUS), minInterval, maxInterval);
     }
 
     /**
@@ -5882,7 +5903,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getRemainingBatteryLifeAsync() {
-        return read(serverAttributes.get(ATTR_REMAININGBATTERYLIFE));
+        return read(getServerAttribute(ATTR_REMAININGBATTERYLIFE));
     }
 
     /**
@@ -5909,11 +5930,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getRemainingBatteryLife(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_REMAININGBATTERYLIFE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_REMAININGBATTERYLIFE).getLastValue();
+        if (getServerAttribute(ATTR_REMAININGBATTERYLIFE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_REMAININGBATTERYLIFE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_REMAININGBATTERYLIFE));
+        return (Integer) readSync(getServerAttribute(ATTR_REMAININGBATTERYLIFE));
     }
 
     /**
@@ -5935,7 +5956,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setRemainingBatteryLifeReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_REMAININGBATTERYLIFE), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_REMAININGBATTERYLIFE), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -5953,7 +5974,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getHoursInOperationAsync() {
-        return read(serverAttributes.get(ATTR_HOURSINOPERATION));
+        return read(getServerAttribute(ATTR_HOURSINOPERATION));
     }
 
     /**
@@ -5979,11 +6000,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getHoursInOperation(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_HOURSINOPERATION).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_HOURSINOPERATION).getLastValue();
+        if (getServerAttribute(ATTR_HOURSINOPERATION).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_HOURSINOPERATION).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_HOURSINOPERATION));
+        return (Integer) readSync(getServerAttribute(ATTR_HOURSINOPERATION));
     }
 
     /**
@@ -6004,7 +6025,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setHoursInOperationReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_HOURSINOPERATION), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_HOURSINOPERATION), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -6022,7 +6043,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getHoursInFaultAsync() {
-        return read(serverAttributes.get(ATTR_HOURSINFAULT));
+        return read(getServerAttribute(ATTR_HOURSINFAULT));
     }
 
     /**
@@ -6048,11 +6069,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getHoursInFault(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_HOURSINFAULT).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_HOURSINFAULT).getLastValue();
+        if (getServerAttribute(ATTR_HOURSINFAULT).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_HOURSINFAULT).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_HOURSINFAULT));
+        return (Integer) readSync(getServerAttribute(ATTR_HOURSINFAULT));
     }
 
     /**
@@ -6073,7 +6094,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setHoursInFaultReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_HOURSINFAULT), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_HOURSINFAULT), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -6097,7 +6118,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getExtendedStatusAsync() {
-        return read(serverAttributes.get(ATTR_EXTENDEDSTATUS));
+        return read(getServerAttribute(ATTR_EXTENDEDSTATUS));
     }
 
     /**
@@ -6129,11 +6150,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getExtendedStatus(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_EXTENDEDSTATUS).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_EXTENDEDSTATUS).getLastValue();
+        if (getServerAttribute(ATTR_EXTENDEDSTATUS).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_EXTENDEDSTATUS).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_EXTENDEDSTATUS));
+        return (Integer) readSync(getServerAttribute(ATTR_EXTENDEDSTATUS));
     }
 
     /**
@@ -6159,7 +6180,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setExtendedStatusReporting(final int minInterval, final int maxInterval) {
-        return setReporting(serverAttributes.get(ATTR_EXTENDEDSTATUS), minInterval, maxInterval);
+        return setReporting(getServerAttribute(ATTR_EXTENDEDSTATUS), minInterval, maxInterval);
     }
 
     /**
@@ -6178,7 +6199,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getRemainingBatteryLifeInDaysAsync() {
-        return read(serverAttributes.get(ATTR_REMAININGBATTERYLIFEINDAYS));
+        return read(getServerAttribute(ATTR_REMAININGBATTERYLIFEINDAYS));
     }
 
     /**
@@ -6205,11 +6226,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getRemainingBatteryLifeInDays(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_REMAININGBATTERYLIFEINDAYS).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_REMAININGBATTERYLIFEINDAYS).getLastValue();
+        if (getServerAttribute(ATTR_REMAININGBATTERYLIFEINDAYS).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_REMAININGBATTERYLIFEINDAYS).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_REMAININGBATTERYLIFEINDAYS));
+        return (Integer) readSync(getServerAttribute(ATTR_REMAININGBATTERYLIFEINDAYS));
     }
 
     /**
@@ -6231,7 +6252,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setRemainingBatteryLifeInDaysReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_REMAININGBATTERYLIFEINDAYS), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_REMAININGBATTERYLIFEINDAYS), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -6249,7 +6270,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCurrentMeterIdAsync() {
-        return read(serverAttributes.get(ATTR_CURRENTMETERID));
+        return read(getServerAttribute(ATTR_CURRENTMETERID));
     }
 
     /**
@@ -6275,11 +6296,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public ByteArray getCurrentMeterId(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CURRENTMETERID).isLastValueCurrent(refreshPeriod)) {
-            return (ByteArray) serverAttributes.get(ATTR_CURRENTMETERID).getLastValue();
+        if (getServerAttribute(ATTR_CURRENTMETERID).isLastValueCurrent(refreshPeriod)) {
+            return (ByteArray) getServerAttribute(ATTR_CURRENTMETERID).getLastValue();
         }
 
-        return (ByteArray) readSync(serverAttributes.get(ATTR_CURRENTMETERID));
+        return (ByteArray) readSync(getServerAttribute(ATTR_CURRENTMETERID));
     }
 
     /**
@@ -6299,7 +6320,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setCurrentMeterIdReporting(final int minInterval, final int maxInterval) {
-        return setReporting(serverAttributes.get(ATTR_CURRENTMETERID), minInterval, maxInterval);
+        return setReporting(getServerAttribute(ATTR_CURRENTMETERID), minInterval, maxInterval);
     }
 
     /**
@@ -6319,7 +6340,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getAmbientConsumptionIndicatorAsync() {
-        return read(serverAttributes.get(ATTR_AMBIENTCONSUMPTIONINDICATOR));
+        return read(getServerAttribute(ATTR_AMBIENTCONSUMPTIONINDICATOR));
     }
 
     /**
@@ -6347,11 +6368,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getAmbientConsumptionIndicator(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_AMBIENTCONSUMPTIONINDICATOR).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_AMBIENTCONSUMPTIONINDICATOR).getLastValue();
+        if (getServerAttribute(ATTR_AMBIENTCONSUMPTIONINDICATOR).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_AMBIENTCONSUMPTIONINDICATOR).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_AMBIENTCONSUMPTIONINDICATOR));
+        return (Integer) readSync(getServerAttribute(ATTR_AMBIENTCONSUMPTIONINDICATOR));
     }
 
     /**
@@ -6373,7 +6394,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setAmbientConsumptionIndicatorReporting(final int minInterval, final int maxInterval) {
-        return setReporting(serverAttributes.get(ATTR_AMBIENTCONSUMPTIONINDICATOR), minInterval, maxInterval);
+        return setReporting(getServerAttribute(ATTR_AMBIENTCONSUMPTIONINDICATOR), minInterval, maxInterval);
     }
 
     /**
@@ -6395,7 +6416,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getUnitOfMeasureAsync() {
-        return read(serverAttributes.get(ATTR_UNITOFMEASURE));
+        return read(getServerAttribute(ATTR_UNITOFMEASURE));
     }
 
     /**
@@ -6425,11 +6446,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getUnitOfMeasure(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_UNITOFMEASURE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_UNITOFMEASURE).getLastValue();
+        if (getServerAttribute(ATTR_UNITOFMEASURE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_UNITOFMEASURE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_UNITOFMEASURE));
+        return (Integer) readSync(getServerAttribute(ATTR_UNITOFMEASURE));
     }
 
     /**
@@ -6453,7 +6474,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setUnitOfMeasureReporting(final int minInterval, final int maxInterval) {
-        return setReporting(serverAttributes.get(ATTR_UNITOFMEASURE), minInterval, maxInterval);
+        return setReporting(getServerAttribute(ATTR_UNITOFMEASURE), minInterval, maxInterval);
     }
 
     /**
@@ -6474,7 +6495,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getMultiplierAsync() {
-        return read(serverAttributes.get(ATTR_MULTIPLIER));
+        return read(getServerAttribute(ATTR_MULTIPLIER));
     }
 
     /**
@@ -6503,11 +6524,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getMultiplier(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_MULTIPLIER).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_MULTIPLIER).getLastValue();
+        if (getServerAttribute(ATTR_MULTIPLIER).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_MULTIPLIER).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_MULTIPLIER));
+        return (Integer) readSync(getServerAttribute(ATTR_MULTIPLIER));
     }
 
     /**
@@ -6531,7 +6552,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setMultiplierReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_MULTIPLIER), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_MULTIPLIER), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -6553,7 +6574,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getDivisorAsync() {
-        return read(serverAttributes.get(ATTR_DIVISOR));
+        return read(getServerAttribute(ATTR_DIVISOR));
     }
 
     /**
@@ -6583,11 +6604,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getDivisor(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_DIVISOR).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_DIVISOR).getLastValue();
+        if (getServerAttribute(ATTR_DIVISOR).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_DIVISOR).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_DIVISOR));
+        return (Integer) readSync(getServerAttribute(ATTR_DIVISOR));
     }
 
     /**
@@ -6612,7 +6633,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setDivisorReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_DIVISOR), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_DIVISOR), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -6631,7 +6652,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getSummationFormattingAsync() {
-        return read(serverAttributes.get(ATTR_SUMMATIONFORMATTING));
+        return read(getServerAttribute(ATTR_SUMMATIONFORMATTING));
     }
 
     /**
@@ -6658,11 +6679,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getSummationFormatting(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_SUMMATIONFORMATTING).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_SUMMATIONFORMATTING).getLastValue();
+        if (getServerAttribute(ATTR_SUMMATIONFORMATTING).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_SUMMATIONFORMATTING).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_SUMMATIONFORMATTING));
+        return (Integer) readSync(getServerAttribute(ATTR_SUMMATIONFORMATTING));
     }
 
     /**
@@ -6683,7 +6704,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setSummationFormattingReporting(final int minInterval, final int maxInterval) {
-        return setReporting(serverAttributes.get(ATTR_SUMMATIONFORMATTING), minInterval, maxInterval);
+        return setReporting(getServerAttribute(ATTR_SUMMATIONFORMATTING), minInterval, maxInterval);
     }
 
     /**
@@ -6701,7 +6722,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getDemandFormattingAsync() {
-        return read(serverAttributes.get(ATTR_DEMANDFORMATTING));
+        return read(getServerAttribute(ATTR_DEMANDFORMATTING));
     }
 
     /**
@@ -6727,11 +6748,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getDemandFormatting(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_DEMANDFORMATTING).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_DEMANDFORMATTING).getLastValue();
+        if (getServerAttribute(ATTR_DEMANDFORMATTING).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_DEMANDFORMATTING).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_DEMANDFORMATTING));
+        return (Integer) readSync(getServerAttribute(ATTR_DEMANDFORMATTING));
     }
 
     /**
@@ -6751,7 +6772,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setDemandFormattingReporting(final int minInterval, final int maxInterval) {
-        return setReporting(serverAttributes.get(ATTR_DEMANDFORMATTING), minInterval, maxInterval);
+        return setReporting(getServerAttribute(ATTR_DEMANDFORMATTING), minInterval, maxInterval);
     }
 
     /**
@@ -6770,7 +6791,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getHistoricalConsumptionFormattingAsync() {
-        return read(serverAttributes.get(ATTR_HISTORICALCONSUMPTIONFORMATTING));
+        return read(getServerAttribute(ATTR_HISTORICALCONSUMPTIONFORMATTING));
     }
 
     /**
@@ -6797,11 +6818,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getHistoricalConsumptionFormatting(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_HISTORICALCONSUMPTIONFORMATTING).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_HISTORICALCONSUMPTIONFORMATTING).getLastValue();
+        if (getServerAttribute(ATTR_HISTORICALCONSUMPTIONFORMATTING).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_HISTORICALCONSUMPTIONFORMATTING).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_HISTORICALCONSUMPTIONFORMATTING));
+        return (Integer) readSync(getServerAttribute(ATTR_HISTORICALCONSUMPTIONFORMATTING));
     }
 
     /**
@@ -6822,7 +6843,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setHistoricalConsumptionFormattingReporting(final int minInterval, final int maxInterval) {
-        return setReporting(serverAttributes.get(ATTR_HISTORICALCONSUMPTIONFORMATTING), minInterval, maxInterval);
+        return setReporting(getServerAttribute(ATTR_HISTORICALCONSUMPTIONFORMATTING), minInterval, maxInterval);
     }
 
     /**
@@ -6841,7 +6862,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getMeteringDeviceTypeAsync() {
-        return read(serverAttributes.get(ATTR_METERINGDEVICETYPE));
+        return read(getServerAttribute(ATTR_METERINGDEVICETYPE));
     }
 
     /**
@@ -6868,11 +6889,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getMeteringDeviceType(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_METERINGDEVICETYPE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_METERINGDEVICETYPE).getLastValue();
+        if (getServerAttribute(ATTR_METERINGDEVICETYPE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_METERINGDEVICETYPE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_METERINGDEVICETYPE));
+        return (Integer) readSync(getServerAttribute(ATTR_METERINGDEVICETYPE));
     }
 
     /**
@@ -6893,7 +6914,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setMeteringDeviceTypeReporting(final int minInterval, final int maxInterval) {
-        return setReporting(serverAttributes.get(ATTR_METERINGDEVICETYPE), minInterval, maxInterval);
+        return setReporting(getServerAttribute(ATTR_METERINGDEVICETYPE), minInterval, maxInterval);
     }
 
     /**
@@ -6916,7 +6937,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getSiteIdAsync() {
-        return read(serverAttributes.get(ATTR_SITEID));
+        return read(getServerAttribute(ATTR_SITEID));
     }
 
     /**
@@ -6947,11 +6968,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public ByteArray getSiteId(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_SITEID).isLastValueCurrent(refreshPeriod)) {
-            return (ByteArray) serverAttributes.get(ATTR_SITEID).getLastValue();
+        if (getServerAttribute(ATTR_SITEID).isLastValueCurrent(refreshPeriod)) {
+            return (ByteArray) getServerAttribute(ATTR_SITEID).getLastValue();
         }
 
-        return (ByteArray) readSync(serverAttributes.get(ATTR_SITEID));
+        return (ByteArray) readSync(getServerAttribute(ATTR_SITEID));
     }
 
     /**
@@ -6976,7 +6997,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setSiteIdReporting(final int minInterval, final int maxInterval) {
-        return setReporting(serverAttributes.get(ATTR_SITEID), minInterval, maxInterval);
+        return setReporting(getServerAttribute(ATTR_SITEID), minInterval, maxInterval);
     }
 
     /**
@@ -6995,7 +7016,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getMeterSerialNumberAsync() {
-        return read(serverAttributes.get(ATTR_METERSERIALNUMBER));
+        return read(getServerAttribute(ATTR_METERSERIALNUMBER));
     }
 
     /**
@@ -7022,11 +7043,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public ByteArray getMeterSerialNumber(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_METERSERIALNUMBER).isLastValueCurrent(refreshPeriod)) {
-            return (ByteArray) serverAttributes.get(ATTR_METERSERIALNUMBER).getLastValue();
+        if (getServerAttribute(ATTR_METERSERIALNUMBER).isLastValueCurrent(refreshPeriod)) {
+            return (ByteArray) getServerAttribute(ATTR_METERSERIALNUMBER).getLastValue();
         }
 
-        return (ByteArray) readSync(serverAttributes.get(ATTR_METERSERIALNUMBER));
+        return (ByteArray) readSync(getServerAttribute(ATTR_METERSERIALNUMBER));
     }
 
     /**
@@ -7047,7 +7068,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setMeterSerialNumberReporting(final int minInterval, final int maxInterval) {
-        return setReporting(serverAttributes.get(ATTR_METERSERIALNUMBER), minInterval, maxInterval);
+        return setReporting(getServerAttribute(ATTR_METERSERIALNUMBER), minInterval, maxInterval);
     }
 
     /**
@@ -7066,7 +7087,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getEnergyCarrierUnitOfMeasureAsync() {
-        return read(serverAttributes.get(ATTR_ENERGYCARRIERUNITOFMEASURE));
+        return read(getServerAttribute(ATTR_ENERGYCARRIERUNITOFMEASURE));
     }
 
     /**
@@ -7093,11 +7114,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getEnergyCarrierUnitOfMeasure(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_ENERGYCARRIERUNITOFMEASURE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_ENERGYCARRIERUNITOFMEASURE).getLastValue();
+        if (getServerAttribute(ATTR_ENERGYCARRIERUNITOFMEASURE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_ENERGYCARRIERUNITOFMEASURE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_ENERGYCARRIERUNITOFMEASURE));
+        return (Integer) readSync(getServerAttribute(ATTR_ENERGYCARRIERUNITOFMEASURE));
     }
 
     /**
@@ -7118,7 +7139,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setEnergyCarrierUnitOfMeasureReporting(final int minInterval, final int maxInterval) {
-        return setReporting(serverAttributes.get(ATTR_ENERGYCARRIERUNITOFMEASURE), minInterval, maxInterval);
+        return setReporting(getServerAttribute(ATTR_ENERGYCARRIERUNITOFMEASURE), minInterval, maxInterval);
     }
 
     /**
@@ -7137,7 +7158,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getEnergyCarrierSummationFormattingAsync() {
-        return read(serverAttributes.get(ATTR_ENERGYCARRIERSUMMATIONFORMATTING));
+        return read(getServerAttribute(ATTR_ENERGYCARRIERSUMMATIONFORMATTING));
     }
 
     /**
@@ -7164,11 +7185,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getEnergyCarrierSummationFormatting(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_ENERGYCARRIERSUMMATIONFORMATTING).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_ENERGYCARRIERSUMMATIONFORMATTING).getLastValue();
+        if (getServerAttribute(ATTR_ENERGYCARRIERSUMMATIONFORMATTING).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_ENERGYCARRIERSUMMATIONFORMATTING).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_ENERGYCARRIERSUMMATIONFORMATTING));
+        return (Integer) readSync(getServerAttribute(ATTR_ENERGYCARRIERSUMMATIONFORMATTING));
     }
 
     /**
@@ -7189,7 +7210,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setEnergyCarrierSummationFormattingReporting(final int minInterval, final int maxInterval) {
-        return setReporting(serverAttributes.get(ATTR_ENERGYCARRIERSUMMATIONFORMATTING), minInterval, maxInterval);
+        return setReporting(getServerAttribute(ATTR_ENERGYCARRIERSUMMATIONFORMATTING), minInterval, maxInterval);
     }
 
     /**
@@ -7207,7 +7228,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getEnergyCarrierDemandFormattingAsync() {
-        return read(serverAttributes.get(ATTR_ENERGYCARRIERDEMANDFORMATTING));
+        return read(getServerAttribute(ATTR_ENERGYCARRIERDEMANDFORMATTING));
     }
 
     /**
@@ -7233,11 +7254,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getEnergyCarrierDemandFormatting(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_ENERGYCARRIERDEMANDFORMATTING).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_ENERGYCARRIERDEMANDFORMATTING).getLastValue();
+        if (getServerAttribute(ATTR_ENERGYCARRIERDEMANDFORMATTING).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_ENERGYCARRIERDEMANDFORMATTING).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_ENERGYCARRIERDEMANDFORMATTING));
+        return (Integer) readSync(getServerAttribute(ATTR_ENERGYCARRIERDEMANDFORMATTING));
     }
 
     /**
@@ -7257,7 +7278,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setEnergyCarrierDemandFormattingReporting(final int minInterval, final int maxInterval) {
-        return setReporting(serverAttributes.get(ATTR_ENERGYCARRIERDEMANDFORMATTING), minInterval, maxInterval);
+        return setReporting(getServerAttribute(ATTR_ENERGYCARRIERDEMANDFORMATTING), minInterval, maxInterval);
     }
 
     /**
@@ -7275,7 +7296,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getTemperatureUnitOfMeasureAsync() {
-        return read(serverAttributes.get(ATTR_TEMPERATUREUNITOFMEASURE));
+        return read(getServerAttribute(ATTR_TEMPERATUREUNITOFMEASURE));
     }
 
     /**
@@ -7301,11 +7322,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getTemperatureUnitOfMeasure(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_TEMPERATUREUNITOFMEASURE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_TEMPERATUREUNITOFMEASURE).getLastValue();
+        if (getServerAttribute(ATTR_TEMPERATUREUNITOFMEASURE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_TEMPERATUREUNITOFMEASURE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_TEMPERATUREUNITOFMEASURE));
+        return (Integer) readSync(getServerAttribute(ATTR_TEMPERATUREUNITOFMEASURE));
     }
 
     /**
@@ -7325,7 +7346,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setTemperatureUnitOfMeasureReporting(final int minInterval, final int maxInterval) {
-        return setReporting(serverAttributes.get(ATTR_TEMPERATUREUNITOFMEASURE), minInterval, maxInterval);
+        return setReporting(getServerAttribute(ATTR_TEMPERATUREUNITOFMEASURE), minInterval, maxInterval);
     }
 
     /**
@@ -7343,7 +7364,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getTemperatureFormattingAsync() {
-        return read(serverAttributes.get(ATTR_TEMPERATUREFORMATTING));
+        return read(getServerAttribute(ATTR_TEMPERATUREFORMATTING));
     }
 
     /**
@@ -7369,11 +7390,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getTemperatureFormatting(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_TEMPERATUREFORMATTING).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_TEMPERATUREFORMATTING).getLastValue();
+        if (getServerAttribute(ATTR_TEMPERATUREFORMATTING).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_TEMPERATUREFORMATTING).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_TEMPERATUREFORMATTING));
+        return (Integer) readSync(getServerAttribute(ATTR_TEMPERATUREFORMATTING));
     }
 
     /**
@@ -7393,7 +7414,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setTemperatureFormattingReporting(final int minInterval, final int maxInterval) {
-        return setReporting(serverAttributes.get(ATTR_TEMPERATUREFORMATTING), minInterval, maxInterval);
+        return setReporting(getServerAttribute(ATTR_TEMPERATUREFORMATTING), minInterval, maxInterval);
     }
 
     /**
@@ -7413,7 +7434,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getModuleSerialNumberAsync() {
-        return read(serverAttributes.get(ATTR_MODULESERIALNUMBER));
+        return read(getServerAttribute(ATTR_MODULESERIALNUMBER));
     }
 
     /**
@@ -7441,11 +7462,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public ByteArray getModuleSerialNumber(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_MODULESERIALNUMBER).isLastValueCurrent(refreshPeriod)) {
-            return (ByteArray) serverAttributes.get(ATTR_MODULESERIALNUMBER).getLastValue();
+        if (getServerAttribute(ATTR_MODULESERIALNUMBER).isLastValueCurrent(refreshPeriod)) {
+            return (ByteArray) getServerAttribute(ATTR_MODULESERIALNUMBER).getLastValue();
         }
 
-        return (ByteArray) readSync(serverAttributes.get(ATTR_MODULESERIALNUMBER));
+        return (ByteArray) readSync(getServerAttribute(ATTR_MODULESERIALNUMBER));
     }
 
     /**
@@ -7467,7 +7488,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setModuleSerialNumberReporting(final int minInterval, final int maxInterval) {
-        return setReporting(serverAttributes.get(ATTR_MODULESERIALNUMBER), minInterval, maxInterval);
+        return setReporting(getServerAttribute(ATTR_MODULESERIALNUMBER), minInterval, maxInterval);
     }
 
     /**
@@ -7488,7 +7509,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getOperatingTariffLabelDeliveredAsync() {
-        return read(serverAttributes.get(ATTR_OPERATINGTARIFFLABELDELIVERED));
+        return read(getServerAttribute(ATTR_OPERATINGTARIFFLABELDELIVERED));
     }
 
     /**
@@ -7517,11 +7538,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public ByteArray getOperatingTariffLabelDelivered(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_OPERATINGTARIFFLABELDELIVERED).isLastValueCurrent(refreshPeriod)) {
-            return (ByteArray) serverAttributes.get(ATTR_OPERATINGTARIFFLABELDELIVERED).getLastValue();
+        if (getServerAttribute(ATTR_OPERATINGTARIFFLABELDELIVERED).isLastValueCurrent(refreshPeriod)) {
+            return (ByteArray) getServerAttribute(ATTR_OPERATINGTARIFFLABELDELIVERED).getLastValue();
         }
 
-        return (ByteArray) readSync(serverAttributes.get(ATTR_OPERATINGTARIFFLABELDELIVERED));
+        return (ByteArray) readSync(getServerAttribute(ATTR_OPERATINGTARIFFLABELDELIVERED));
     }
 
     /**
@@ -7544,7 +7565,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setOperatingTariffLabelDeliveredReporting(final int minInterval, final int maxInterval) {
-        return setReporting(serverAttributes.get(ATTR_OPERATINGTARIFFLABELDELIVERED), minInterval, maxInterval);
+        return setReporting(getServerAttribute(ATTR_OPERATINGTARIFFLABELDELIVERED), minInterval, maxInterval);
     }
 
     /**
@@ -7565,7 +7586,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getOperatingTariffLabelReceivedAsync() {
-        return read(serverAttributes.get(ATTR_OPERATINGTARIFFLABELRECEIVED));
+        return read(getServerAttribute(ATTR_OPERATINGTARIFFLABELRECEIVED));
     }
 
     /**
@@ -7594,11 +7615,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public ByteArray getOperatingTariffLabelReceived(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_OPERATINGTARIFFLABELRECEIVED).isLastValueCurrent(refreshPeriod)) {
-            return (ByteArray) serverAttributes.get(ATTR_OPERATINGTARIFFLABELRECEIVED).getLastValue();
+        if (getServerAttribute(ATTR_OPERATINGTARIFFLABELRECEIVED).isLastValueCurrent(refreshPeriod)) {
+            return (ByteArray) getServerAttribute(ATTR_OPERATINGTARIFFLABELRECEIVED).getLastValue();
         }
 
-        return (ByteArray) readSync(serverAttributes.get(ATTR_OPERATINGTARIFFLABELRECEIVED));
+        return (ByteArray) readSync(getServerAttribute(ATTR_OPERATINGTARIFFLABELRECEIVED));
     }
 
     /**
@@ -7621,7 +7642,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setOperatingTariffLabelReceivedReporting(final int minInterval, final int maxInterval) {
-        return setReporting(serverAttributes.get(ATTR_OPERATINGTARIFFLABELRECEIVED), minInterval, maxInterval);
+        return setReporting(getServerAttribute(ATTR_OPERATINGTARIFFLABELRECEIVED), minInterval, maxInterval);
     }
 
     /**
@@ -7641,7 +7662,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCustomerIdNumberAsync() {
-        return read(serverAttributes.get(ATTR_CUSTOMERIDNUMBER));
+        return read(getServerAttribute(ATTR_CUSTOMERIDNUMBER));
     }
 
     /**
@@ -7669,11 +7690,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public ByteArray getCustomerIdNumber(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CUSTOMERIDNUMBER).isLastValueCurrent(refreshPeriod)) {
-            return (ByteArray) serverAttributes.get(ATTR_CUSTOMERIDNUMBER).getLastValue();
+        if (getServerAttribute(ATTR_CUSTOMERIDNUMBER).isLastValueCurrent(refreshPeriod)) {
+            return (ByteArray) getServerAttribute(ATTR_CUSTOMERIDNUMBER).getLastValue();
         }
 
-        return (ByteArray) readSync(serverAttributes.get(ATTR_CUSTOMERIDNUMBER));
+        return (ByteArray) readSync(getServerAttribute(ATTR_CUSTOMERIDNUMBER));
     }
 
     /**
@@ -7695,7 +7716,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setCustomerIdNumberReporting(final int minInterval, final int maxInterval) {
-        return setReporting(serverAttributes.get(ATTR_CUSTOMERIDNUMBER), minInterval, maxInterval);
+        return setReporting(getServerAttribute(ATTR_CUSTOMERIDNUMBER), minInterval, maxInterval);
     }
 
     /**
@@ -7713,7 +7734,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getAlternativeUnitOfMeasureAsync() {
-        return read(serverAttributes.get(ATTR_ALTERNATIVEUNITOFMEASURE));
+        return read(getServerAttribute(ATTR_ALTERNATIVEUNITOFMEASURE));
     }
 
     /**
@@ -7739,11 +7760,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getAlternativeUnitOfMeasure(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_ALTERNATIVEUNITOFMEASURE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_ALTERNATIVEUNITOFMEASURE).getLastValue();
+        if (getServerAttribute(ATTR_ALTERNATIVEUNITOFMEASURE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_ALTERNATIVEUNITOFMEASURE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_ALTERNATIVEUNITOFMEASURE));
+        return (Integer) readSync(getServerAttribute(ATTR_ALTERNATIVEUNITOFMEASURE));
     }
 
     /**
@@ -7763,7 +7784,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setAlternativeUnitOfMeasureReporting(final int minInterval, final int maxInterval) {
-        return setReporting(serverAttributes.get(ATTR_ALTERNATIVEUNITOFMEASURE), minInterval, maxInterval);
+        return setReporting(getServerAttribute(ATTR_ALTERNATIVEUNITOFMEASURE), minInterval, maxInterval);
     }
 
     /**
@@ -7782,7 +7803,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getAlternativeDemandFormattingAsync() {
-        return read(serverAttributes.get(ATTR_ALTERNATIVEDEMANDFORMATTING));
+        return read(getServerAttribute(ATTR_ALTERNATIVEDEMANDFORMATTING));
     }
 
     /**
@@ -7809,11 +7830,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getAlternativeDemandFormatting(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_ALTERNATIVEDEMANDFORMATTING).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_ALTERNATIVEDEMANDFORMATTING).getLastValue();
+        if (getServerAttribute(ATTR_ALTERNATIVEDEMANDFORMATTING).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_ALTERNATIVEDEMANDFORMATTING).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_ALTERNATIVEDEMANDFORMATTING));
+        return (Integer) readSync(getServerAttribute(ATTR_ALTERNATIVEDEMANDFORMATTING));
     }
 
     /**
@@ -7834,7 +7855,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setAlternativeDemandFormattingReporting(final int minInterval, final int maxInterval) {
-        return setReporting(serverAttributes.get(ATTR_ALTERNATIVEDEMANDFORMATTING), minInterval, maxInterval);
+        return setReporting(getServerAttribute(ATTR_ALTERNATIVEDEMANDFORMATTING), minInterval, maxInterval);
     }
 
     /**
@@ -7849,7 +7870,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getAlternativeConsumptionFormattingAsync() {
-        return read(serverAttributes.get(ATTR_ALTERNATIVECONSUMPTIONFORMATTING));
+        return read(getServerAttribute(ATTR_ALTERNATIVECONSUMPTIONFORMATTING));
     }
 
     /**
@@ -7872,11 +7893,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getAlternativeConsumptionFormatting(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_ALTERNATIVECONSUMPTIONFORMATTING).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_ALTERNATIVECONSUMPTIONFORMATTING).getLastValue();
+        if (getServerAttribute(ATTR_ALTERNATIVECONSUMPTIONFORMATTING).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_ALTERNATIVECONSUMPTIONFORMATTING).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_ALTERNATIVECONSUMPTIONFORMATTING));
+        return (Integer) readSync(getServerAttribute(ATTR_ALTERNATIVECONSUMPTIONFORMATTING));
     }
 
     /**
@@ -7893,7 +7914,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setAlternativeConsumptionFormattingReporting(final int minInterval, final int maxInterval) {
-        return setReporting(serverAttributes.get(ATTR_ALTERNATIVECONSUMPTIONFORMATTING), minInterval, maxInterval);
+        return setReporting(getServerAttribute(ATTR_ALTERNATIVECONSUMPTIONFORMATTING), minInterval, maxInterval);
     }
 
     /**
@@ -7915,7 +7936,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getInstantaneousDemandAsync() {
-        return read(serverAttributes.get(ATTR_INSTANTANEOUSDEMAND));
+        return read(getServerAttribute(ATTR_INSTANTANEOUSDEMAND));
     }
 
     /**
@@ -7945,11 +7966,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getInstantaneousDemand(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_INSTANTANEOUSDEMAND).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_INSTANTANEOUSDEMAND).getLastValue();
+        if (getServerAttribute(ATTR_INSTANTANEOUSDEMAND).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_INSTANTANEOUSDEMAND).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_INSTANTANEOUSDEMAND));
+        return (Integer) readSync(getServerAttribute(ATTR_INSTANTANEOUSDEMAND));
     }
 
     /**
@@ -7974,7 +7995,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setInstantaneousDemandReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_INSTANTANEOUSDEMAND), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_INSTANTANEOUSDEMAND), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -7995,7 +8016,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCurrentDayConsumptionDeliveredAsync() {
-        return read(serverAttributes.get(ATTR_CURRENTDAYCONSUMPTIONDELIVERED));
+        return read(getServerAttribute(ATTR_CURRENTDAYCONSUMPTIONDELIVERED));
     }
 
     /**
@@ -8024,11 +8045,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCurrentDayConsumptionDelivered(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CURRENTDAYCONSUMPTIONDELIVERED).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CURRENTDAYCONSUMPTIONDELIVERED).getLastValue();
+        if (getServerAttribute(ATTR_CURRENTDAYCONSUMPTIONDELIVERED).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CURRENTDAYCONSUMPTIONDELIVERED).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CURRENTDAYCONSUMPTIONDELIVERED));
+        return (Integer) readSync(getServerAttribute(ATTR_CURRENTDAYCONSUMPTIONDELIVERED));
     }
 
     /**
@@ -8052,7 +8073,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setCurrentDayConsumptionDeliveredReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_CURRENTDAYCONSUMPTIONDELIVERED), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_CURRENTDAYCONSUMPTIONDELIVERED), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -8073,7 +8094,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCurrentDayConsumptionReceivedAsync() {
-        return read(serverAttributes.get(ATTR_CURRENTDAYCONSUMPTIONRECEIVED));
+        return read(getServerAttribute(ATTR_CURRENTDAYCONSUMPTIONRECEIVED));
     }
 
     /**
@@ -8102,11 +8123,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCurrentDayConsumptionReceived(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CURRENTDAYCONSUMPTIONRECEIVED).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CURRENTDAYCONSUMPTIONRECEIVED).getLastValue();
+        if (getServerAttribute(ATTR_CURRENTDAYCONSUMPTIONRECEIVED).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CURRENTDAYCONSUMPTIONRECEIVED).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CURRENTDAYCONSUMPTIONRECEIVED));
+        return (Integer) readSync(getServerAttribute(ATTR_CURRENTDAYCONSUMPTIONRECEIVED));
     }
 
     /**
@@ -8130,7 +8151,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setCurrentDayConsumptionReceivedReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_CURRENTDAYCONSUMPTIONRECEIVED), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_CURRENTDAYCONSUMPTIONRECEIVED), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -8151,7 +8172,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getPreviousDayConsumptionDeliveredAsync() {
-        return read(serverAttributes.get(ATTR_PREVIOUSDAYCONSUMPTIONDELIVERED));
+        return read(getServerAttribute(ATTR_PREVIOUSDAYCONSUMPTIONDELIVERED));
     }
 
     /**
@@ -8180,11 +8201,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getPreviousDayConsumptionDelivered(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PREVIOUSDAYCONSUMPTIONDELIVERED).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_PREVIOUSDAYCONSUMPTIONDELIVERED).getLastValue();
+        if (getServerAttribute(ATTR_PREVIOUSDAYCONSUMPTIONDELIVERED).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_PREVIOUSDAYCONSUMPTIONDELIVERED).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_PREVIOUSDAYCONSUMPTIONDELIVERED));
+        return (Integer) readSync(getServerAttribute(ATTR_PREVIOUSDAYCONSUMPTIONDELIVERED));
     }
 
     /**
@@ -8208,7 +8229,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setPreviousDayConsumptionDeliveredReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_PREVIOUSDAYCONSUMPTIONDELIVERED), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_PREVIOUSDAYCONSUMPTIONDELIVERED), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -8229,7 +8250,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getPreviousDayConsumptionReceivedAsync() {
-        return read(serverAttributes.get(ATTR_PREVIOUSDAYCONSUMPTIONRECEIVED));
+        return read(getServerAttribute(ATTR_PREVIOUSDAYCONSUMPTIONRECEIVED));
     }
 
     /**
@@ -8258,11 +8279,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getPreviousDayConsumptionReceived(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PREVIOUSDAYCONSUMPTIONRECEIVED).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_PREVIOUSDAYCONSUMPTIONRECEIVED).getLastValue();
+        if (getServerAttribute(ATTR_PREVIOUSDAYCONSUMPTIONRECEIVED).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_PREVIOUSDAYCONSUMPTIONRECEIVED).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_PREVIOUSDAYCONSUMPTIONRECEIVED));
+        return (Integer) readSync(getServerAttribute(ATTR_PREVIOUSDAYCONSUMPTIONRECEIVED));
     }
 
     /**
@@ -8286,7 +8307,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setPreviousDayConsumptionReceivedReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_PREVIOUSDAYCONSUMPTIONRECEIVED), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_PREVIOUSDAYCONSUMPTIONRECEIVED), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -8304,7 +8325,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCurrentPartialProfileIntervalStartTimeDeliveredAsync() {
-        return read(serverAttributes.get(ATTR_CURRENTPARTIALPROFILEINTERVALSTARTTIMEDELIVERED));
+        return read(getServerAttribute(ATTR_CURRENTPARTIALPROFILEINTERVALSTARTTIMEDELIVERED));
     }
 
     /**
@@ -8330,11 +8351,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Calendar getCurrentPartialProfileIntervalStartTimeDelivered(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CURRENTPARTIALPROFILEINTERVALSTARTTIMEDELIVERED).isLastValueCurrent(refreshPeriod)) {
-            return (Calendar) serverAttributes.get(ATTR_CURRENTPARTIALPROFILEINTERVALSTARTTIMEDELIVERED).getLastValue();
+        if (getServerAttribute(ATTR_CURRENTPARTIALPROFILEINTERVALSTARTTIMEDELIVERED).isLastValueCurrent(refreshPeriod)) {
+            return (Calendar) getServerAttribute(ATTR_CURRENTPARTIALPROFILEINTERVALSTARTTIMEDELIVERED).getLastValue();
         }
 
-        return (Calendar) readSync(serverAttributes.get(ATTR_CURRENTPARTIALPROFILEINTERVALSTARTTIMEDELIVERED));
+        return (Calendar) readSync(getServerAttribute(ATTR_CURRENTPARTIALPROFILEINTERVALSTARTTIMEDELIVERED));
     }
 
     /**
@@ -8355,7 +8376,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setCurrentPartialProfileIntervalStartTimeDeliveredReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_CURRENTPARTIALPROFILEINTERVALSTARTTIMEDELIVERED), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_CURRENTPARTIALPROFILEINTERVALSTARTTIMEDELIVERED), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -8373,7 +8394,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCurrentPartialProfileIntervalStartTimeReceivedAsync() {
-        return read(serverAttributes.get(ATTR_CURRENTPARTIALPROFILEINTERVALSTARTTIMERECEIVED));
+        return read(getServerAttribute(ATTR_CURRENTPARTIALPROFILEINTERVALSTARTTIMERECEIVED));
     }
 
     /**
@@ -8399,11 +8420,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Calendar getCurrentPartialProfileIntervalStartTimeReceived(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CURRENTPARTIALPROFILEINTERVALSTARTTIMERECEIVED).isLastValueCurrent(refreshPeriod)) {
-            return (Calendar) serverAttributes.get(ATTR_CURRENTPARTIALPROFILEINTERVALSTARTTIMERECEIVED).getLastValue();
+        if (getServerAttribute(ATTR_CURRENTPARTIALPROFILEINTERVALSTARTTIMERECEIVED).isLastValueCurrent(refreshPeriod)) {
+            return (Calendar) getServerAttribute(ATTR_CURRENTPARTIALPROFILEINTERVALSTARTTIMERECEIVED).getLastValue();
         }
 
-        return (Calendar) readSync(serverAttributes.get(ATTR_CURRENTPARTIALPROFILEINTERVALSTARTTIMERECEIVED));
+        return (Calendar) readSync(getServerAttribute(ATTR_CURRENTPARTIALPROFILEINTERVALSTARTTIMERECEIVED));
     }
 
     /**
@@ -8424,7 +8445,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setCurrentPartialProfileIntervalStartTimeReceivedReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_CURRENTPARTIALPROFILEINTERVALSTARTTIMERECEIVED), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_CURRENTPARTIALPROFILEINTERVALSTARTTIMERECEIVED), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -8442,7 +8463,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCurrentPartialProfileIntervalValueDeliveredAsync() {
-        return read(serverAttributes.get(ATTR_CURRENTPARTIALPROFILEINTERVALVALUEDELIVERED));
+        return read(getServerAttribute(ATTR_CURRENTPARTIALPROFILEINTERVALVALUEDELIVERED));
     }
 
     /**
@@ -8468,11 +8489,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCurrentPartialProfileIntervalValueDelivered(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CURRENTPARTIALPROFILEINTERVALVALUEDELIVERED).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CURRENTPARTIALPROFILEINTERVALVALUEDELIVERED).getLastValue();
+        if (getServerAttribute(ATTR_CURRENTPARTIALPROFILEINTERVALVALUEDELIVERED).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CURRENTPARTIALPROFILEINTERVALVALUEDELIVERED).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CURRENTPARTIALPROFILEINTERVALVALUEDELIVERED));
+        return (Integer) readSync(getServerAttribute(ATTR_CURRENTPARTIALPROFILEINTERVALVALUEDELIVERED));
     }
 
     /**
@@ -8493,7 +8514,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setCurrentPartialProfileIntervalValueDeliveredReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_CURRENTPARTIALPROFILEINTERVALVALUEDELIVERED), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_CURRENTPARTIALPROFILEINTERVALVALUEDELIVERED), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -8511,7 +8532,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCurrentPartialProfileIntervalValueReceivedAsync() {
-        return read(serverAttributes.get(ATTR_CURRENTPARTIALPROFILEINTERVALVALUERECEIVED));
+        return read(getServerAttribute(ATTR_CURRENTPARTIALPROFILEINTERVALVALUERECEIVED));
     }
 
     /**
@@ -8537,11 +8558,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCurrentPartialProfileIntervalValueReceived(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CURRENTPARTIALPROFILEINTERVALVALUERECEIVED).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CURRENTPARTIALPROFILEINTERVALVALUERECEIVED).getLastValue();
+        if (getServerAttribute(ATTR_CURRENTPARTIALPROFILEINTERVALVALUERECEIVED).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CURRENTPARTIALPROFILEINTERVALVALUERECEIVED).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CURRENTPARTIALPROFILEINTERVALVALUERECEIVED));
+        return (Integer) readSync(getServerAttribute(ATTR_CURRENTPARTIALPROFILEINTERVALVALUERECEIVED));
     }
 
     /**
@@ -8562,7 +8583,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setCurrentPartialProfileIntervalValueReceivedReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_CURRENTPARTIALPROFILEINTERVALVALUERECEIVED), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_CURRENTPARTIALPROFILEINTERVALVALUERECEIVED), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -8580,7 +8601,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCurrentDayMaxPressureAsync() {
-        return read(serverAttributes.get(ATTR_CURRENTDAYMAXPRESSURE));
+        return read(getServerAttribute(ATTR_CURRENTDAYMAXPRESSURE));
     }
 
     /**
@@ -8606,11 +8627,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCurrentDayMaxPressure(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CURRENTDAYMAXPRESSURE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CURRENTDAYMAXPRESSURE).getLastValue();
+        if (getServerAttribute(ATTR_CURRENTDAYMAXPRESSURE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CURRENTDAYMAXPRESSURE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CURRENTDAYMAXPRESSURE));
+        return (Integer) readSync(getServerAttribute(ATTR_CURRENTDAYMAXPRESSURE));
     }
 
     /**
@@ -8631,7 +8652,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setCurrentDayMaxPressureReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_CURRENTDAYMAXPRESSURE), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_CURRENTDAYMAXPRESSURE), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -8649,7 +8670,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCurrentDayMinPressureAsync() {
-        return read(serverAttributes.get(ATTR_CURRENTDAYMINPRESSURE));
+        return read(getServerAttribute(ATTR_CURRENTDAYMINPRESSURE));
     }
 
     /**
@@ -8675,11 +8696,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCurrentDayMinPressure(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CURRENTDAYMINPRESSURE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CURRENTDAYMINPRESSURE).getLastValue();
+        if (getServerAttribute(ATTR_CURRENTDAYMINPRESSURE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CURRENTDAYMINPRESSURE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CURRENTDAYMINPRESSURE));
+        return (Integer) readSync(getServerAttribute(ATTR_CURRENTDAYMINPRESSURE));
     }
 
     /**
@@ -8700,7 +8721,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setCurrentDayMinPressureReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_CURRENTDAYMINPRESSURE), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_CURRENTDAYMINPRESSURE), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -8718,7 +8739,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getPreviousDayMaxPressureAsync() {
-        return read(serverAttributes.get(ATTR_PREVIOUSDAYMAXPRESSURE));
+        return read(getServerAttribute(ATTR_PREVIOUSDAYMAXPRESSURE));
     }
 
     /**
@@ -8744,11 +8765,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getPreviousDayMaxPressure(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PREVIOUSDAYMAXPRESSURE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_PREVIOUSDAYMAXPRESSURE).getLastValue();
+        if (getServerAttribute(ATTR_PREVIOUSDAYMAXPRESSURE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_PREVIOUSDAYMAXPRESSURE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_PREVIOUSDAYMAXPRESSURE));
+        return (Integer) readSync(getServerAttribute(ATTR_PREVIOUSDAYMAXPRESSURE));
     }
 
     /**
@@ -8769,7 +8790,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setPreviousDayMaxPressureReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_PREVIOUSDAYMAXPRESSURE), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_PREVIOUSDAYMAXPRESSURE), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -8787,7 +8808,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getPreviousDayMinPressureAsync() {
-        return read(serverAttributes.get(ATTR_PREVIOUSDAYMINPRESSURE));
+        return read(getServerAttribute(ATTR_PREVIOUSDAYMINPRESSURE));
     }
 
     /**
@@ -8813,11 +8834,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getPreviousDayMinPressure(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PREVIOUSDAYMINPRESSURE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_PREVIOUSDAYMINPRESSURE).getLastValue();
+        if (getServerAttribute(ATTR_PREVIOUSDAYMINPRESSURE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_PREVIOUSDAYMINPRESSURE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_PREVIOUSDAYMINPRESSURE));
+        return (Integer) readSync(getServerAttribute(ATTR_PREVIOUSDAYMINPRESSURE));
     }
 
     /**
@@ -8838,7 +8859,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setPreviousDayMinPressureReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_PREVIOUSDAYMINPRESSURE), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_PREVIOUSDAYMINPRESSURE), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -8856,7 +8877,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCurrentDayMaxDemandAsync() {
-        return read(serverAttributes.get(ATTR_CURRENTDAYMAXDEMAND));
+        return read(getServerAttribute(ATTR_CURRENTDAYMAXDEMAND));
     }
 
     /**
@@ -8882,11 +8903,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCurrentDayMaxDemand(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CURRENTDAYMAXDEMAND).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CURRENTDAYMAXDEMAND).getLastValue();
+        if (getServerAttribute(ATTR_CURRENTDAYMAXDEMAND).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CURRENTDAYMAXDEMAND).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CURRENTDAYMAXDEMAND));
+        return (Integer) readSync(getServerAttribute(ATTR_CURRENTDAYMAXDEMAND));
     }
 
     /**
@@ -8907,7 +8928,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setCurrentDayMaxDemandReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_CURRENTDAYMAXDEMAND), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_CURRENTDAYMAXDEMAND), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -8925,7 +8946,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getPreviousDayMaxDemandAsync() {
-        return read(serverAttributes.get(ATTR_PREVIOUSDAYMAXDEMAND));
+        return read(getServerAttribute(ATTR_PREVIOUSDAYMAXDEMAND));
     }
 
     /**
@@ -8951,11 +8972,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getPreviousDayMaxDemand(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PREVIOUSDAYMAXDEMAND).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_PREVIOUSDAYMAXDEMAND).getLastValue();
+        if (getServerAttribute(ATTR_PREVIOUSDAYMAXDEMAND).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_PREVIOUSDAYMAXDEMAND).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_PREVIOUSDAYMAXDEMAND));
+        return (Integer) readSync(getServerAttribute(ATTR_PREVIOUSDAYMAXDEMAND));
     }
 
     /**
@@ -8976,7 +8997,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setPreviousDayMaxDemandReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_PREVIOUSDAYMAXDEMAND), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_PREVIOUSDAYMAXDEMAND), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -8993,7 +9014,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCurrentMonthMaxDemandAsync() {
-        return read(serverAttributes.get(ATTR_CURRENTMONTHMAXDEMAND));
+        return read(getServerAttribute(ATTR_CURRENTMONTHMAXDEMAND));
     }
 
     /**
@@ -9018,11 +9039,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCurrentMonthMaxDemand(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CURRENTMONTHMAXDEMAND).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CURRENTMONTHMAXDEMAND).getLastValue();
+        if (getServerAttribute(ATTR_CURRENTMONTHMAXDEMAND).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CURRENTMONTHMAXDEMAND).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CURRENTMONTHMAXDEMAND));
+        return (Integer) readSync(getServerAttribute(ATTR_CURRENTMONTHMAXDEMAND));
     }
 
     /**
@@ -9042,7 +9063,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setCurrentMonthMaxDemandReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_CURRENTMONTHMAXDEMAND), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_CURRENTMONTHMAXDEMAND), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -9059,7 +9080,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCurrentYearMaxDemandAsync() {
-        return read(serverAttributes.get(ATTR_CURRENTYEARMAXDEMAND));
+        return read(getServerAttribute(ATTR_CURRENTYEARMAXDEMAND));
     }
 
     /**
@@ -9084,11 +9105,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCurrentYearMaxDemand(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CURRENTYEARMAXDEMAND).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CURRENTYEARMAXDEMAND).getLastValue();
+        if (getServerAttribute(ATTR_CURRENTYEARMAXDEMAND).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CURRENTYEARMAXDEMAND).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CURRENTYEARMAXDEMAND));
+        return (Integer) readSync(getServerAttribute(ATTR_CURRENTYEARMAXDEMAND));
     }
 
     /**
@@ -9108,7 +9129,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setCurrentYearMaxDemandReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_CURRENTYEARMAXDEMAND), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_CURRENTYEARMAXDEMAND), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -9126,7 +9147,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCurrentDayMaxEnergyCarrierDemandAsync() {
-        return read(serverAttributes.get(ATTR_CURRENTDAYMAXENERGYCARRIERDEMAND));
+        return read(getServerAttribute(ATTR_CURRENTDAYMAXENERGYCARRIERDEMAND));
     }
 
     /**
@@ -9152,11 +9173,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCurrentDayMaxEnergyCarrierDemand(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CURRENTDAYMAXENERGYCARRIERDEMAND).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CURRENTDAYMAXENERGYCARRIERDEMAND).getLastValue();
+        if (getServerAttribute(ATTR_CURRENTDAYMAXENERGYCARRIERDEMAND).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CURRENTDAYMAXENERGYCARRIERDEMAND).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CURRENTDAYMAXENERGYCARRIERDEMAND));
+        return (Integer) readSync(getServerAttribute(ATTR_CURRENTDAYMAXENERGYCARRIERDEMAND));
     }
 
     /**
@@ -9177,7 +9198,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setCurrentDayMaxEnergyCarrierDemandReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_CURRENTDAYMAXENERGYCARRIERDEMAND), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_CURRENTDAYMAXENERGYCARRIERDEMAND), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -9195,7 +9216,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getPreviousDayMaxEnergyCarrierDemandAsync() {
-        return read(serverAttributes.get(ATTR_PREVIOUSDAYMAXENERGYCARRIERDEMAND));
+        return read(getServerAttribute(ATTR_PREVIOUSDAYMAXENERGYCARRIERDEMAND));
     }
 
     /**
@@ -9221,11 +9242,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getPreviousDayMaxEnergyCarrierDemand(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PREVIOUSDAYMAXENERGYCARRIERDEMAND).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_PREVIOUSDAYMAXENERGYCARRIERDEMAND).getLastValue();
+        if (getServerAttribute(ATTR_PREVIOUSDAYMAXENERGYCARRIERDEMAND).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_PREVIOUSDAYMAXENERGYCARRIERDEMAND).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_PREVIOUSDAYMAXENERGYCARRIERDEMAND));
+        return (Integer) readSync(getServerAttribute(ATTR_PREVIOUSDAYMAXENERGYCARRIERDEMAND));
     }
 
     /**
@@ -9246,7 +9267,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setPreviousDayMaxEnergyCarrierDemandReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_PREVIOUSDAYMAXENERGYCARRIERDEMAND), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_PREVIOUSDAYMAXENERGYCARRIERDEMAND), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -9264,7 +9285,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCurrentMonthMaxEnergyCarrierDemandAsync() {
-        return read(serverAttributes.get(ATTR_CURRENTMONTHMAXENERGYCARRIERDEMAND));
+        return read(getServerAttribute(ATTR_CURRENTMONTHMAXENERGYCARRIERDEMAND));
     }
 
     /**
@@ -9290,11 +9311,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCurrentMonthMaxEnergyCarrierDemand(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CURRENTMONTHMAXENERGYCARRIERDEMAND).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CURRENTMONTHMAXENERGYCARRIERDEMAND).getLastValue();
+        if (getServerAttribute(ATTR_CURRENTMONTHMAXENERGYCARRIERDEMAND).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CURRENTMONTHMAXENERGYCARRIERDEMAND).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CURRENTMONTHMAXENERGYCARRIERDEMAND));
+        return (Integer) readSync(getServerAttribute(ATTR_CURRENTMONTHMAXENERGYCARRIERDEMAND));
     }
 
     /**
@@ -9315,7 +9336,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setCurrentMonthMaxEnergyCarrierDemandReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_CURRENTMONTHMAXENERGYCARRIERDEMAND), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_CURRENTMONTHMAXENERGYCARRIERDEMAND), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -9333,7 +9354,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCurrentMonthMinEnergyCarrierDemandAsync() {
-        return read(serverAttributes.get(ATTR_CURRENTMONTHMINENERGYCARRIERDEMAND));
+        return read(getServerAttribute(ATTR_CURRENTMONTHMINENERGYCARRIERDEMAND));
     }
 
     /**
@@ -9359,11 +9380,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCurrentMonthMinEnergyCarrierDemand(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CURRENTMONTHMINENERGYCARRIERDEMAND).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CURRENTMONTHMINENERGYCARRIERDEMAND).getLastValue();
+        if (getServerAttribute(ATTR_CURRENTMONTHMINENERGYCARRIERDEMAND).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CURRENTMONTHMINENERGYCARRIERDEMAND).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CURRENTMONTHMINENERGYCARRIERDEMAND));
+        return (Integer) readSync(getServerAttribute(ATTR_CURRENTMONTHMINENERGYCARRIERDEMAND));
     }
 
     /**
@@ -9384,7 +9405,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setCurrentMonthMinEnergyCarrierDemandReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_CURRENTMONTHMINENERGYCARRIERDEMAND), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_CURRENTMONTHMINENERGYCARRIERDEMAND), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -9402,7 +9423,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCurrentYearMaxEnergyCarrierDemandAsync() {
-        return read(serverAttributes.get(ATTR_CURRENTYEARMAXENERGYCARRIERDEMAND));
+        return read(getServerAttribute(ATTR_CURRENTYEARMAXENERGYCARRIERDEMAND));
     }
 
     /**
@@ -9428,11 +9449,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCurrentYearMaxEnergyCarrierDemand(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CURRENTYEARMAXENERGYCARRIERDEMAND).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CURRENTYEARMAXENERGYCARRIERDEMAND).getLastValue();
+        if (getServerAttribute(ATTR_CURRENTYEARMAXENERGYCARRIERDEMAND).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CURRENTYEARMAXENERGYCARRIERDEMAND).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CURRENTYEARMAXENERGYCARRIERDEMAND));
+        return (Integer) readSync(getServerAttribute(ATTR_CURRENTYEARMAXENERGYCARRIERDEMAND));
     }
 
     /**
@@ -9453,7 +9474,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setCurrentYearMaxEnergyCarrierDemandReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_CURRENTYEARMAXENERGYCARRIERDEMAND), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_CURRENTYEARMAXENERGYCARRIERDEMAND), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -9471,7 +9492,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCurrentYearMinEnergyCarrierDemandAsync() {
-        return read(serverAttributes.get(ATTR_CURRENTYEARMINENERGYCARRIERDEMAND));
+        return read(getServerAttribute(ATTR_CURRENTYEARMINENERGYCARRIERDEMAND));
     }
 
     /**
@@ -9497,11 +9518,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCurrentYearMinEnergyCarrierDemand(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CURRENTYEARMINENERGYCARRIERDEMAND).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CURRENTYEARMINENERGYCARRIERDEMAND).getLastValue();
+        if (getServerAttribute(ATTR_CURRENTYEARMINENERGYCARRIERDEMAND).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CURRENTYEARMINENERGYCARRIERDEMAND).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CURRENTYEARMINENERGYCARRIERDEMAND));
+        return (Integer) readSync(getServerAttribute(ATTR_CURRENTYEARMINENERGYCARRIERDEMAND));
     }
 
     /**
@@ -9522,7 +9543,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setCurrentYearMinEnergyCarrierDemandReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_CURRENTYEARMINENERGYCARRIERDEMAND), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_CURRENTYEARMINENERGYCARRIERDEMAND), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -9547,7 +9568,7 @@ public class ZclMeteringCluster extends ZclCluster {
             throw new IllegalArgumentException("arrayOffset out of bounds");
         }
 
-        return read(serverAttributes.get(ATTR_PREVIOUSDAY2CONSUMPTIONDELIVERED + arrayOffset));
+        return read(getServerAttribute(ATTR_PREVIOUSDAY2CONSUMPTIONDELIVERED + arrayOffset));
     }
 
     /**
@@ -9576,11 +9597,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getPreviousDayConsumptionDelivered(final int arrayOffset, final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PREVIOUSDAY2CONSUMPTIONDELIVERED + arrayOffset).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_PREVIOUSDAY2CONSUMPTIONDELIVERED + arrayOffset).getLastValue();
+        if (getServerAttribute(ATTR_PREVIOUSDAY2CONSUMPTIONDELIVERED + arrayOffset).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_PREVIOUSDAY2CONSUMPTIONDELIVERED + arrayOffset).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_PREVIOUSDAY2CONSUMPTIONDELIVERED + arrayOffset));
+        return (Integer) readSync(getServerAttribute(ATTR_PREVIOUSDAY2CONSUMPTIONDELIVERED + arrayOffset));
     }
 
     /**
@@ -9604,7 +9625,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setPreviousDay2ConsumptionDeliveredReporting(final int arrayOffset, final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_PREVIOUSDAY2CONSUMPTIONDELIVERED + (arrayOffset - 1) * 2), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_PREVIOUSDAY2CONSUMPTIONDELIVERED + (arrayOffset - 1) * 2), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -9629,7 +9650,7 @@ public class ZclMeteringCluster extends ZclCluster {
             throw new IllegalArgumentException("arrayOffset out of bounds");
         }
 
-        return read(serverAttributes.get(ATTR_PREVIOUSDAY2CONSUMPTIONRECEIVED + arrayOffset));
+        return read(getServerAttribute(ATTR_PREVIOUSDAY2CONSUMPTIONRECEIVED + arrayOffset));
     }
 
     /**
@@ -9658,11 +9679,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getPreviousDayConsumptionReceived(final int arrayOffset, final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PREVIOUSDAY2CONSUMPTIONRECEIVED + arrayOffset).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_PREVIOUSDAY2CONSUMPTIONRECEIVED + arrayOffset).getLastValue();
+        if (getServerAttribute(ATTR_PREVIOUSDAY2CONSUMPTIONRECEIVED + arrayOffset).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_PREVIOUSDAY2CONSUMPTIONRECEIVED + arrayOffset).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_PREVIOUSDAY2CONSUMPTIONRECEIVED + arrayOffset));
+        return (Integer) readSync(getServerAttribute(ATTR_PREVIOUSDAY2CONSUMPTIONRECEIVED + arrayOffset));
     }
 
     /**
@@ -9686,7 +9707,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setPreviousDay2ConsumptionReceivedReporting(final int arrayOffset, final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_PREVIOUSDAY2CONSUMPTIONRECEIVED + (arrayOffset - 1) * 2), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_PREVIOUSDAY2CONSUMPTIONRECEIVED + (arrayOffset - 1) * 2), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -9707,7 +9728,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCurrentWeekConsumptionDeliveredAsync() {
-        return read(serverAttributes.get(ATTR_CURRENTWEEKCONSUMPTIONDELIVERED));
+        return read(getServerAttribute(ATTR_CURRENTWEEKCONSUMPTIONDELIVERED));
     }
 
     /**
@@ -9736,11 +9757,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCurrentWeekConsumptionDelivered(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CURRENTWEEKCONSUMPTIONDELIVERED).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CURRENTWEEKCONSUMPTIONDELIVERED).getLastValue();
+        if (getServerAttribute(ATTR_CURRENTWEEKCONSUMPTIONDELIVERED).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CURRENTWEEKCONSUMPTIONDELIVERED).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CURRENTWEEKCONSUMPTIONDELIVERED));
+        return (Integer) readSync(getServerAttribute(ATTR_CURRENTWEEKCONSUMPTIONDELIVERED));
     }
 
     /**
@@ -9764,7 +9785,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setCurrentWeekConsumptionDeliveredReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_CURRENTWEEKCONSUMPTIONDELIVERED), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_CURRENTWEEKCONSUMPTIONDELIVERED), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -9785,7 +9806,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCurrentWeekConsumptionReceivedAsync() {
-        return read(serverAttributes.get(ATTR_CURRENTWEEKCONSUMPTIONRECEIVED));
+        return read(getServerAttribute(ATTR_CURRENTWEEKCONSUMPTIONRECEIVED));
     }
 
     /**
@@ -9814,11 +9835,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCurrentWeekConsumptionReceived(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CURRENTWEEKCONSUMPTIONRECEIVED).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CURRENTWEEKCONSUMPTIONRECEIVED).getLastValue();
+        if (getServerAttribute(ATTR_CURRENTWEEKCONSUMPTIONRECEIVED).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CURRENTWEEKCONSUMPTIONRECEIVED).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CURRENTWEEKCONSUMPTIONRECEIVED));
+        return (Integer) readSync(getServerAttribute(ATTR_CURRENTWEEKCONSUMPTIONRECEIVED));
     }
 
     /**
@@ -9842,7 +9863,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setCurrentWeekConsumptionReceivedReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_CURRENTWEEKCONSUMPTIONRECEIVED), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_CURRENTWEEKCONSUMPTIONRECEIVED), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -9867,7 +9888,7 @@ public class ZclMeteringCluster extends ZclCluster {
             throw new IllegalArgumentException("arrayOffset out of bounds");
         }
 
-        return read(serverAttributes.get(ATTR_PREVIOUSWEEK1CONSUMPTIONDELIVERED + arrayOffset));
+        return read(getServerAttribute(ATTR_PREVIOUSWEEK1CONSUMPTIONDELIVERED + arrayOffset));
     }
 
     /**
@@ -9896,11 +9917,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getPreviousWeekConsumptionDelivered(final int arrayOffset, final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PREVIOUSWEEK1CONSUMPTIONDELIVERED + arrayOffset).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_PREVIOUSWEEK1CONSUMPTIONDELIVERED + arrayOffset).getLastValue();
+        if (getServerAttribute(ATTR_PREVIOUSWEEK1CONSUMPTIONDELIVERED + arrayOffset).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_PREVIOUSWEEK1CONSUMPTIONDELIVERED + arrayOffset).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_PREVIOUSWEEK1CONSUMPTIONDELIVERED + arrayOffset));
+        return (Integer) readSync(getServerAttribute(ATTR_PREVIOUSWEEK1CONSUMPTIONDELIVERED + arrayOffset));
     }
 
     /**
@@ -9924,7 +9945,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setPreviousWeek1ConsumptionDeliveredReporting(final int arrayOffset, final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_PREVIOUSWEEK1CONSUMPTIONDELIVERED + (arrayOffset - 1) * 2), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_PREVIOUSWEEK1CONSUMPTIONDELIVERED + (arrayOffset - 1) * 2), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -9949,7 +9970,7 @@ public class ZclMeteringCluster extends ZclCluster {
             throw new IllegalArgumentException("arrayOffset out of bounds");
         }
 
-        return read(serverAttributes.get(ATTR_PREVIOUSWEEK1CONSUMPTIONRECEIVED + arrayOffset));
+        return read(getServerAttribute(ATTR_PREVIOUSWEEK1CONSUMPTIONRECEIVED + arrayOffset));
     }
 
     /**
@@ -9978,11 +9999,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getPreviousWeekConsumptionReceived(final int arrayOffset, final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PREVIOUSWEEK1CONSUMPTIONRECEIVED + arrayOffset).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_PREVIOUSWEEK1CONSUMPTIONRECEIVED + arrayOffset).getLastValue();
+        if (getServerAttribute(ATTR_PREVIOUSWEEK1CONSUMPTIONRECEIVED + arrayOffset).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_PREVIOUSWEEK1CONSUMPTIONRECEIVED + arrayOffset).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_PREVIOUSWEEK1CONSUMPTIONRECEIVED + arrayOffset));
+        return (Integer) readSync(getServerAttribute(ATTR_PREVIOUSWEEK1CONSUMPTIONRECEIVED + arrayOffset));
     }
 
     /**
@@ -10006,7 +10027,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setPreviousWeek1ConsumptionReceivedReporting(final int arrayOffset, final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_PREVIOUSWEEK1CONSUMPTIONRECEIVED + (arrayOffset - 1) * 2), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_PREVIOUSWEEK1CONSUMPTIONRECEIVED + (arrayOffset - 1) * 2), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -10027,7 +10048,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCurrentMonthConsumptionDeliveredAsync() {
-        return read(serverAttributes.get(ATTR_CURRENTMONTHCONSUMPTIONDELIVERED));
+        return read(getServerAttribute(ATTR_CURRENTMONTHCONSUMPTIONDELIVERED));
     }
 
     /**
@@ -10056,11 +10077,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCurrentMonthConsumptionDelivered(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CURRENTMONTHCONSUMPTIONDELIVERED).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CURRENTMONTHCONSUMPTIONDELIVERED).getLastValue();
+        if (getServerAttribute(ATTR_CURRENTMONTHCONSUMPTIONDELIVERED).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CURRENTMONTHCONSUMPTIONDELIVERED).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CURRENTMONTHCONSUMPTIONDELIVERED));
+        return (Integer) readSync(getServerAttribute(ATTR_CURRENTMONTHCONSUMPTIONDELIVERED));
     }
 
     /**
@@ -10084,7 +10105,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setCurrentMonthConsumptionDeliveredReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_CURRENTMONTHCONSUMPTIONDELIVERED), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_CURRENTMONTHCONSUMPTIONDELIVERED), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -10105,7 +10126,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCurrentMonthConsumptionReceivedAsync() {
-        return read(serverAttributes.get(ATTR_CURRENTMONTHCONSUMPTIONRECEIVED));
+        return read(getServerAttribute(ATTR_CURRENTMONTHCONSUMPTIONRECEIVED));
     }
 
     /**
@@ -10134,11 +10155,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCurrentMonthConsumptionReceived(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CURRENTMONTHCONSUMPTIONRECEIVED).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CURRENTMONTHCONSUMPTIONRECEIVED).getLastValue();
+        if (getServerAttribute(ATTR_CURRENTMONTHCONSUMPTIONRECEIVED).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CURRENTMONTHCONSUMPTIONRECEIVED).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CURRENTMONTHCONSUMPTIONRECEIVED));
+        return (Integer) readSync(getServerAttribute(ATTR_CURRENTMONTHCONSUMPTIONRECEIVED));
     }
 
     /**
@@ -10162,7 +10183,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setCurrentMonthConsumptionReceivedReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_CURRENTMONTHCONSUMPTIONRECEIVED), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_CURRENTMONTHCONSUMPTIONRECEIVED), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -10187,7 +10208,7 @@ public class ZclMeteringCluster extends ZclCluster {
             throw new IllegalArgumentException("arrayOffset out of bounds");
         }
 
-        return read(serverAttributes.get(ATTR_PREVIOUSMONTH1CONSUMPTIONDELIVERED + arrayOffset));
+        return read(getServerAttribute(ATTR_PREVIOUSMONTH1CONSUMPTIONDELIVERED + arrayOffset));
     }
 
     /**
@@ -10216,11 +10237,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getPreviousMonthConsumptionDelivered(final int arrayOffset, final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PREVIOUSMONTH1CONSUMPTIONDELIVERED + arrayOffset).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_PREVIOUSMONTH1CONSUMPTIONDELIVERED + arrayOffset).getLastValue();
+        if (getServerAttribute(ATTR_PREVIOUSMONTH1CONSUMPTIONDELIVERED + arrayOffset).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_PREVIOUSMONTH1CONSUMPTIONDELIVERED + arrayOffset).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_PREVIOUSMONTH1CONSUMPTIONDELIVERED + arrayOffset));
+        return (Integer) readSync(getServerAttribute(ATTR_PREVIOUSMONTH1CONSUMPTIONDELIVERED + arrayOffset));
     }
 
     /**
@@ -10244,7 +10265,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setPreviousMonth1ConsumptionDeliveredReporting(final int arrayOffset, final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_PREVIOUSMONTH1CONSUMPTIONDELIVERED + (arrayOffset - 1) * 2), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_PREVIOUSMONTH1CONSUMPTIONDELIVERED + (arrayOffset - 1) * 2), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -10269,7 +10290,7 @@ public class ZclMeteringCluster extends ZclCluster {
             throw new IllegalArgumentException("arrayOffset out of bounds");
         }
 
-        return read(serverAttributes.get(ATTR_PREVIOUSMONTH1CONSUMPTIONRECEIVED + arrayOffset));
+        return read(getServerAttribute(ATTR_PREVIOUSMONTH1CONSUMPTIONRECEIVED + arrayOffset));
     }
 
     /**
@@ -10298,11 +10319,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getPreviousMonthConsumptionReceived(final int arrayOffset, final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PREVIOUSMONTH1CONSUMPTIONRECEIVED + arrayOffset).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_PREVIOUSMONTH1CONSUMPTIONRECEIVED + arrayOffset).getLastValue();
+        if (getServerAttribute(ATTR_PREVIOUSMONTH1CONSUMPTIONRECEIVED + arrayOffset).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_PREVIOUSMONTH1CONSUMPTIONRECEIVED + arrayOffset).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_PREVIOUSMONTH1CONSUMPTIONRECEIVED + arrayOffset));
+        return (Integer) readSync(getServerAttribute(ATTR_PREVIOUSMONTH1CONSUMPTIONRECEIVED + arrayOffset));
     }
 
     /**
@@ -10326,7 +10347,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setPreviousMonth1ConsumptionReceivedReporting(final int arrayOffset, final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_PREVIOUSMONTH1CONSUMPTIONRECEIVED + (arrayOffset - 1) * 2), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_PREVIOUSMONTH1CONSUMPTIONRECEIVED + (arrayOffset - 1) * 2), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -10346,7 +10367,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getHistoricalFreezeTimeAsync() {
-        return read(serverAttributes.get(ATTR_HISTORICALFREEZETIME));
+        return read(getServerAttribute(ATTR_HISTORICALFREEZETIME));
     }
 
     /**
@@ -10374,11 +10395,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getHistoricalFreezeTime(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_HISTORICALFREEZETIME).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_HISTORICALFREEZETIME).getLastValue();
+        if (getServerAttribute(ATTR_HISTORICALFREEZETIME).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_HISTORICALFREEZETIME).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_HISTORICALFREEZETIME));
+        return (Integer) readSync(getServerAttribute(ATTR_HISTORICALFREEZETIME));
     }
 
     /**
@@ -10401,7 +10422,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setHistoricalFreezeTimeReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_HISTORICALFREEZETIME), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_HISTORICALFREEZETIME), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -10422,7 +10443,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getMaxNumberOfPeriodsDeliveredAsync() {
-        return read(serverAttributes.get(ATTR_MAXNUMBEROFPERIODSDELIVERED));
+        return read(getServerAttribute(ATTR_MAXNUMBEROFPERIODSDELIVERED));
     }
 
     /**
@@ -10451,11 +10472,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getMaxNumberOfPeriodsDelivered(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_MAXNUMBEROFPERIODSDELIVERED).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_MAXNUMBEROFPERIODSDELIVERED).getLastValue();
+        if (getServerAttribute(ATTR_MAXNUMBEROFPERIODSDELIVERED).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_MAXNUMBEROFPERIODSDELIVERED).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_MAXNUMBEROFPERIODSDELIVERED));
+        return (Integer) readSync(getServerAttribute(ATTR_MAXNUMBEROFPERIODSDELIVERED));
     }
 
     /**
@@ -10479,7 +10500,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setMaxNumberOfPeriodsDeliveredReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_MAXNUMBEROFPERIODSDELIVERED), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_MAXNUMBEROFPERIODSDELIVERED), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -10500,7 +10521,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCurrentDemandDeliveredAsync() {
-        return read(serverAttributes.get(ATTR_CURRENTDEMANDDELIVERED));
+        return read(getServerAttribute(ATTR_CURRENTDEMANDDELIVERED));
     }
 
     /**
@@ -10529,11 +10550,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCurrentDemandDelivered(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CURRENTDEMANDDELIVERED).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CURRENTDEMANDDELIVERED).getLastValue();
+        if (getServerAttribute(ATTR_CURRENTDEMANDDELIVERED).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CURRENTDEMANDDELIVERED).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CURRENTDEMANDDELIVERED));
+        return (Integer) readSync(getServerAttribute(ATTR_CURRENTDEMANDDELIVERED));
     }
 
     /**
@@ -10557,7 +10578,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setCurrentDemandDeliveredReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_CURRENTDEMANDDELIVERED), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_CURRENTDEMANDDELIVERED), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -10576,7 +10597,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getDemandLimitAsync() {
-        return read(serverAttributes.get(ATTR_DEMANDLIMIT));
+        return read(getServerAttribute(ATTR_DEMANDLIMIT));
     }
 
     /**
@@ -10603,11 +10624,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getDemandLimit(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_DEMANDLIMIT).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_DEMANDLIMIT).getLastValue();
+        if (getServerAttribute(ATTR_DEMANDLIMIT).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_DEMANDLIMIT).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_DEMANDLIMIT));
+        return (Integer) readSync(getServerAttribute(ATTR_DEMANDLIMIT));
     }
 
     /**
@@ -10629,7 +10650,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setDemandLimitReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_DEMANDLIMIT), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_DEMANDLIMIT), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -10648,7 +10669,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getDemandIntegrationPeriodAsync() {
-        return read(serverAttributes.get(ATTR_DEMANDINTEGRATIONPERIOD));
+        return read(getServerAttribute(ATTR_DEMANDINTEGRATIONPERIOD));
     }
 
     /**
@@ -10675,11 +10696,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getDemandIntegrationPeriod(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_DEMANDINTEGRATIONPERIOD).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_DEMANDINTEGRATIONPERIOD).getLastValue();
+        if (getServerAttribute(ATTR_DEMANDINTEGRATIONPERIOD).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_DEMANDINTEGRATIONPERIOD).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_DEMANDINTEGRATIONPERIOD));
+        return (Integer) readSync(getServerAttribute(ATTR_DEMANDINTEGRATIONPERIOD));
     }
 
     /**
@@ -10701,7 +10722,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setDemandIntegrationPeriodReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_DEMANDINTEGRATIONPERIOD), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_DEMANDINTEGRATIONPERIOD), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -10722,7 +10743,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getNumberOfDemandSubintervalsAsync() {
-        return read(serverAttributes.get(ATTR_NUMBEROFDEMANDSUBINTERVALS));
+        return read(getServerAttribute(ATTR_NUMBEROFDEMANDSUBINTERVALS));
     }
 
     /**
@@ -10751,11 +10772,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getNumberOfDemandSubintervals(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_NUMBEROFDEMANDSUBINTERVALS).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_NUMBEROFDEMANDSUBINTERVALS).getLastValue();
+        if (getServerAttribute(ATTR_NUMBEROFDEMANDSUBINTERVALS).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_NUMBEROFDEMANDSUBINTERVALS).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_NUMBEROFDEMANDSUBINTERVALS));
+        return (Integer) readSync(getServerAttribute(ATTR_NUMBEROFDEMANDSUBINTERVALS));
     }
 
     /**
@@ -10779,7 +10800,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setNumberOfDemandSubintervalsReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_NUMBEROFDEMANDSUBINTERVALS), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_NUMBEROFDEMANDSUBINTERVALS), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -10799,7 +10820,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getDemandLimitArmDurationAsync() {
-        return read(serverAttributes.get(ATTR_DEMANDLIMITARMDURATION));
+        return read(getServerAttribute(ATTR_DEMANDLIMITARMDURATION));
     }
 
     /**
@@ -10827,11 +10848,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getDemandLimitArmDuration(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_DEMANDLIMITARMDURATION).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_DEMANDLIMITARMDURATION).getLastValue();
+        if (getServerAttribute(ATTR_DEMANDLIMITARMDURATION).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_DEMANDLIMITARMDURATION).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_DEMANDLIMITARMDURATION));
+        return (Integer) readSync(getServerAttribute(ATTR_DEMANDLIMITARMDURATION));
     }
 
     /**
@@ -10854,7 +10875,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setDemandLimitArmDurationReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_DEMANDLIMITARMDURATION), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_DEMANDLIMITARMDURATION), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -10872,7 +10893,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getLoadLimitSupplyStateAsync() {
-        return read(serverAttributes.get(ATTR_LOADLIMITSUPPLYSTATE));
+        return read(getServerAttribute(ATTR_LOADLIMITSUPPLYSTATE));
     }
 
     /**
@@ -10898,11 +10919,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getLoadLimitSupplyState(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_LOADLIMITSUPPLYSTATE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_LOADLIMITSUPPLYSTATE).getLastValue();
+        if (getServerAttribute(ATTR_LOADLIMITSUPPLYSTATE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_LOADLIMITSUPPLYSTATE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_LOADLIMITSUPPLYSTATE));
+        return (Integer) readSync(getServerAttribute(ATTR_LOADLIMITSUPPLYSTATE));
     }
 
     /**
@@ -10922,7 +10943,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setLoadLimitSupplyStateReporting(final int minInterval, final int maxInterval) {
-        return setReporting(serverAttributes.get(ATTR_LOADLIMITSUPPLYSTATE), minInterval, maxInterval);
+        return setReporting(getServerAttribute(ATTR_LOADLIMITSUPPLYSTATE), minInterval, maxInterval);
     }
 
     /**
@@ -10940,7 +10961,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getLoadLimitCounterAsync() {
-        return read(serverAttributes.get(ATTR_LOADLIMITCOUNTER));
+        return read(getServerAttribute(ATTR_LOADLIMITCOUNTER));
     }
 
     /**
@@ -10966,11 +10987,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getLoadLimitCounter(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_LOADLIMITCOUNTER).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_LOADLIMITCOUNTER).getLastValue();
+        if (getServerAttribute(ATTR_LOADLIMITCOUNTER).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_LOADLIMITCOUNTER).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_LOADLIMITCOUNTER));
+        return (Integer) readSync(getServerAttribute(ATTR_LOADLIMITCOUNTER));
     }
 
     /**
@@ -10991,7 +11012,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setLoadLimitCounterReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_LOADLIMITCOUNTER), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_LOADLIMITCOUNTER), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -11009,7 +11030,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getSupplyTamperStateAsync() {
-        return read(serverAttributes.get(ATTR_SUPPLYTAMPERSTATE));
+        return read(getServerAttribute(ATTR_SUPPLYTAMPERSTATE));
     }
 
     /**
@@ -11035,11 +11056,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getSupplyTamperState(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_SUPPLYTAMPERSTATE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_SUPPLYTAMPERSTATE).getLastValue();
+        if (getServerAttribute(ATTR_SUPPLYTAMPERSTATE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_SUPPLYTAMPERSTATE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_SUPPLYTAMPERSTATE));
+        return (Integer) readSync(getServerAttribute(ATTR_SUPPLYTAMPERSTATE));
     }
 
     /**
@@ -11059,7 +11080,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setSupplyTamperStateReporting(final int minInterval, final int maxInterval) {
-        return setReporting(serverAttributes.get(ATTR_SUPPLYTAMPERSTATE), minInterval, maxInterval);
+        return setReporting(getServerAttribute(ATTR_SUPPLYTAMPERSTATE), minInterval, maxInterval);
     }
 
     /**
@@ -11077,7 +11098,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getSupplyDepletionStateAsync() {
-        return read(serverAttributes.get(ATTR_SUPPLYDEPLETIONSTATE));
+        return read(getServerAttribute(ATTR_SUPPLYDEPLETIONSTATE));
     }
 
     /**
@@ -11103,11 +11124,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getSupplyDepletionState(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_SUPPLYDEPLETIONSTATE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_SUPPLYDEPLETIONSTATE).getLastValue();
+        if (getServerAttribute(ATTR_SUPPLYDEPLETIONSTATE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_SUPPLYDEPLETIONSTATE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_SUPPLYDEPLETIONSTATE));
+        return (Integer) readSync(getServerAttribute(ATTR_SUPPLYDEPLETIONSTATE));
     }
 
     /**
@@ -11127,7 +11148,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setSupplyDepletionStateReporting(final int minInterval, final int maxInterval) {
-        return setReporting(serverAttributes.get(ATTR_SUPPLYDEPLETIONSTATE), minInterval, maxInterval);
+        return setReporting(getServerAttribute(ATTR_SUPPLYDEPLETIONSTATE), minInterval, maxInterval);
     }
 
     /**
@@ -11145,7 +11166,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getSupplyUncontrolledFlowStateAsync() {
-        return read(serverAttributes.get(ATTR_SUPPLYUNCONTROLLEDFLOWSTATE));
+        return read(getServerAttribute(ATTR_SUPPLYUNCONTROLLEDFLOWSTATE));
     }
 
     /**
@@ -11171,11 +11192,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getSupplyUncontrolledFlowState(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_SUPPLYUNCONTROLLEDFLOWSTATE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_SUPPLYUNCONTROLLEDFLOWSTATE).getLastValue();
+        if (getServerAttribute(ATTR_SUPPLYUNCONTROLLEDFLOWSTATE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_SUPPLYUNCONTROLLEDFLOWSTATE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_SUPPLYUNCONTROLLEDFLOWSTATE));
+        return (Integer) readSync(getServerAttribute(ATTR_SUPPLYUNCONTROLLEDFLOWSTATE));
     }
 
     /**
@@ -11195,7 +11216,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setSupplyUncontrolledFlowStateReporting(final int minInterval, final int maxInterval) {
-        return setReporting(serverAttributes.get(ATTR_SUPPLYUNCONTROLLEDFLOWSTATE), minInterval, maxInterval);
+        return setReporting(getServerAttribute(ATTR_SUPPLYUNCONTROLLEDFLOWSTATE), minInterval, maxInterval);
     }
 
     /**
@@ -11215,7 +11236,7 @@ public class ZclMeteringCluster extends ZclCluster {
             throw new IllegalArgumentException("arrayOffset out of bounds");
         }
 
-        return read(serverAttributes.get(ATTR_CURRENTNOTIERBLOCK1SUMMATIONDELIVERED + arrayOffset));
+        return read(getServerAttribute(ATTR_CURRENTNOTIERBLOCK1SUMMATIONDELIVERED + arrayOffset));
     }
 
     /**
@@ -11239,11 +11260,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCurrentNoTierBlockSummationDelivered(final int arrayOffset, final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CURRENTNOTIERBLOCK1SUMMATIONDELIVERED + arrayOffset).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CURRENTNOTIERBLOCK1SUMMATIONDELIVERED + arrayOffset).getLastValue();
+        if (getServerAttribute(ATTR_CURRENTNOTIERBLOCK1SUMMATIONDELIVERED + arrayOffset).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CURRENTNOTIERBLOCK1SUMMATIONDELIVERED + arrayOffset).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CURRENTNOTIERBLOCK1SUMMATIONDELIVERED + arrayOffset));
+        return (Integer) readSync(getServerAttribute(ATTR_CURRENTNOTIERBLOCK1SUMMATIONDELIVERED + arrayOffset));
     }
 
     /**
@@ -11262,7 +11283,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setCurrentNoTierBlock1SummationDeliveredReporting(final int arrayOffset, final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_CURRENTNOTIERBLOCK1SUMMATIONDELIVERED + arrayOffset - 1), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_CURRENTNOTIERBLOCK1SUMMATIONDELIVERED + arrayOffset - 1), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -11282,7 +11303,7 @@ public class ZclMeteringCluster extends ZclCluster {
             throw new IllegalArgumentException("arrayOffset out of bounds");
         }
 
-        return read(serverAttributes.get(ATTR_CURRENTTIER1BLOCK1SUMMATIONDELIVERED + arrayOffset));
+        return read(getServerAttribute(ATTR_CURRENTTIER1BLOCK1SUMMATIONDELIVERED + arrayOffset));
     }
 
     /**
@@ -11306,11 +11327,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCurrentTier1BlockSummationDelivered(final int arrayOffset, final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CURRENTTIER1BLOCK1SUMMATIONDELIVERED + arrayOffset).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CURRENTTIER1BLOCK1SUMMATIONDELIVERED + arrayOffset).getLastValue();
+        if (getServerAttribute(ATTR_CURRENTTIER1BLOCK1SUMMATIONDELIVERED + arrayOffset).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CURRENTTIER1BLOCK1SUMMATIONDELIVERED + arrayOffset).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CURRENTTIER1BLOCK1SUMMATIONDELIVERED + arrayOffset));
+        return (Integer) readSync(getServerAttribute(ATTR_CURRENTTIER1BLOCK1SUMMATIONDELIVERED + arrayOffset));
     }
 
     /**
@@ -11329,7 +11350,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setCurrentTier1Block1SummationDeliveredReporting(final int arrayOffset, final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_CURRENTTIER1BLOCK1SUMMATIONDELIVERED + arrayOffset - 1), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_CURRENTTIER1BLOCK1SUMMATIONDELIVERED + arrayOffset - 1), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -11349,7 +11370,7 @@ public class ZclMeteringCluster extends ZclCluster {
             throw new IllegalArgumentException("arrayOffset out of bounds");
         }
 
-        return read(serverAttributes.get(ATTR_CURRENTTIER2BLOCK1SUMMATIONDELIVERED + arrayOffset));
+        return read(getServerAttribute(ATTR_CURRENTTIER2BLOCK1SUMMATIONDELIVERED + arrayOffset));
     }
 
     /**
@@ -11373,11 +11394,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCurrentTier2BlockSummationDelivered(final int arrayOffset, final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CURRENTTIER2BLOCK1SUMMATIONDELIVERED + arrayOffset).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CURRENTTIER2BLOCK1SUMMATIONDELIVERED + arrayOffset).getLastValue();
+        if (getServerAttribute(ATTR_CURRENTTIER2BLOCK1SUMMATIONDELIVERED + arrayOffset).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CURRENTTIER2BLOCK1SUMMATIONDELIVERED + arrayOffset).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CURRENTTIER2BLOCK1SUMMATIONDELIVERED + arrayOffset));
+        return (Integer) readSync(getServerAttribute(ATTR_CURRENTTIER2BLOCK1SUMMATIONDELIVERED + arrayOffset));
     }
 
     /**
@@ -11396,7 +11417,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setCurrentTier2Block1SummationDeliveredReporting(final int arrayOffset, final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_CURRENTTIER2BLOCK1SUMMATIONDELIVERED + arrayOffset - 1), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_CURRENTTIER2BLOCK1SUMMATIONDELIVERED + arrayOffset - 1), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -11416,7 +11437,7 @@ public class ZclMeteringCluster extends ZclCluster {
             throw new IllegalArgumentException("arrayOffset out of bounds");
         }
 
-        return read(serverAttributes.get(ATTR_CURRENTTIER3BLOCK1SUMMATIONDELIVERED + arrayOffset));
+        return read(getServerAttribute(ATTR_CURRENTTIER3BLOCK1SUMMATIONDELIVERED + arrayOffset));
     }
 
     /**
@@ -11440,11 +11461,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCurrentTier3BlockSummationDelivered(final int arrayOffset, final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CURRENTTIER3BLOCK1SUMMATIONDELIVERED + arrayOffset).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CURRENTTIER3BLOCK1SUMMATIONDELIVERED + arrayOffset).getLastValue();
+        if (getServerAttribute(ATTR_CURRENTTIER3BLOCK1SUMMATIONDELIVERED + arrayOffset).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CURRENTTIER3BLOCK1SUMMATIONDELIVERED + arrayOffset).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CURRENTTIER3BLOCK1SUMMATIONDELIVERED + arrayOffset));
+        return (Integer) readSync(getServerAttribute(ATTR_CURRENTTIER3BLOCK1SUMMATIONDELIVERED + arrayOffset));
     }
 
     /**
@@ -11463,7 +11484,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setCurrentTier3Block1SummationDeliveredReporting(final int arrayOffset, final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_CURRENTTIER3BLOCK1SUMMATIONDELIVERED + arrayOffset - 1), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_CURRENTTIER3BLOCK1SUMMATIONDELIVERED + arrayOffset - 1), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -11483,7 +11504,7 @@ public class ZclMeteringCluster extends ZclCluster {
             throw new IllegalArgumentException("arrayOffset out of bounds");
         }
 
-        return read(serverAttributes.get(ATTR_CURRENTTIER4BLOCK1SUMMATIONDELIVERED + arrayOffset));
+        return read(getServerAttribute(ATTR_CURRENTTIER4BLOCK1SUMMATIONDELIVERED + arrayOffset));
     }
 
     /**
@@ -11507,11 +11528,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCurrentTier4BlockSummationDelivered(final int arrayOffset, final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CURRENTTIER4BLOCK1SUMMATIONDELIVERED + arrayOffset).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CURRENTTIER4BLOCK1SUMMATIONDELIVERED + arrayOffset).getLastValue();
+        if (getServerAttribute(ATTR_CURRENTTIER4BLOCK1SUMMATIONDELIVERED + arrayOffset).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CURRENTTIER4BLOCK1SUMMATIONDELIVERED + arrayOffset).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CURRENTTIER4BLOCK1SUMMATIONDELIVERED + arrayOffset));
+        return (Integer) readSync(getServerAttribute(ATTR_CURRENTTIER4BLOCK1SUMMATIONDELIVERED + arrayOffset));
     }
 
     /**
@@ -11530,7 +11551,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setCurrentTier4Block1SummationDeliveredReporting(final int arrayOffset, final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_CURRENTTIER4BLOCK1SUMMATIONDELIVERED + arrayOffset - 1), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_CURRENTTIER4BLOCK1SUMMATIONDELIVERED + arrayOffset - 1), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -11550,7 +11571,7 @@ public class ZclMeteringCluster extends ZclCluster {
             throw new IllegalArgumentException("arrayOffset out of bounds");
         }
 
-        return read(serverAttributes.get(ATTR_CURRENTTIER5BLOCK1SUMMATIONDELIVERED + arrayOffset));
+        return read(getServerAttribute(ATTR_CURRENTTIER5BLOCK1SUMMATIONDELIVERED + arrayOffset));
     }
 
     /**
@@ -11574,11 +11595,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCurrentTier5BlockSummationDelivered(final int arrayOffset, final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CURRENTTIER5BLOCK1SUMMATIONDELIVERED + arrayOffset).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CURRENTTIER5BLOCK1SUMMATIONDELIVERED + arrayOffset).getLastValue();
+        if (getServerAttribute(ATTR_CURRENTTIER5BLOCK1SUMMATIONDELIVERED + arrayOffset).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CURRENTTIER5BLOCK1SUMMATIONDELIVERED + arrayOffset).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CURRENTTIER5BLOCK1SUMMATIONDELIVERED + arrayOffset));
+        return (Integer) readSync(getServerAttribute(ATTR_CURRENTTIER5BLOCK1SUMMATIONDELIVERED + arrayOffset));
     }
 
     /**
@@ -11597,7 +11618,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setCurrentTier5Block1SummationDeliveredReporting(final int arrayOffset, final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_CURRENTTIER5BLOCK1SUMMATIONDELIVERED + arrayOffset - 1), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_CURRENTTIER5BLOCK1SUMMATIONDELIVERED + arrayOffset - 1), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -11617,7 +11638,7 @@ public class ZclMeteringCluster extends ZclCluster {
             throw new IllegalArgumentException("arrayOffset out of bounds");
         }
 
-        return read(serverAttributes.get(ATTR_CURRENTTIER6BLOCK1SUMMATIONDELIVERED + arrayOffset));
+        return read(getServerAttribute(ATTR_CURRENTTIER6BLOCK1SUMMATIONDELIVERED + arrayOffset));
     }
 
     /**
@@ -11641,11 +11662,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCurrentTier6BlockSummationDelivered(final int arrayOffset, final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CURRENTTIER6BLOCK1SUMMATIONDELIVERED + arrayOffset).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CURRENTTIER6BLOCK1SUMMATIONDELIVERED + arrayOffset).getLastValue();
+        if (getServerAttribute(ATTR_CURRENTTIER6BLOCK1SUMMATIONDELIVERED + arrayOffset).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CURRENTTIER6BLOCK1SUMMATIONDELIVERED + arrayOffset).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CURRENTTIER6BLOCK1SUMMATIONDELIVERED + arrayOffset));
+        return (Integer) readSync(getServerAttribute(ATTR_CURRENTTIER6BLOCK1SUMMATIONDELIVERED + arrayOffset));
     }
 
     /**
@@ -11664,7 +11685,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setCurrentTier6Block1SummationDeliveredReporting(final int arrayOffset, final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_CURRENTTIER6BLOCK1SUMMATIONDELIVERED + arrayOffset - 1), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_CURRENTTIER6BLOCK1SUMMATIONDELIVERED + arrayOffset - 1), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -11684,7 +11705,7 @@ public class ZclMeteringCluster extends ZclCluster {
             throw new IllegalArgumentException("arrayOffset out of bounds");
         }
 
-        return read(serverAttributes.get(ATTR_CURRENTTIER7BLOCK1SUMMATIONDELIVERED + arrayOffset));
+        return read(getServerAttribute(ATTR_CURRENTTIER7BLOCK1SUMMATIONDELIVERED + arrayOffset));
     }
 
     /**
@@ -11708,11 +11729,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCurrentTier7BlockSummationDelivered(final int arrayOffset, final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CURRENTTIER7BLOCK1SUMMATIONDELIVERED + arrayOffset).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CURRENTTIER7BLOCK1SUMMATIONDELIVERED + arrayOffset).getLastValue();
+        if (getServerAttribute(ATTR_CURRENTTIER7BLOCK1SUMMATIONDELIVERED + arrayOffset).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CURRENTTIER7BLOCK1SUMMATIONDELIVERED + arrayOffset).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CURRENTTIER7BLOCK1SUMMATIONDELIVERED + arrayOffset));
+        return (Integer) readSync(getServerAttribute(ATTR_CURRENTTIER7BLOCK1SUMMATIONDELIVERED + arrayOffset));
     }
 
     /**
@@ -11731,7 +11752,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setCurrentTier7Block1SummationDeliveredReporting(final int arrayOffset, final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_CURRENTTIER7BLOCK1SUMMATIONDELIVERED + arrayOffset - 1), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_CURRENTTIER7BLOCK1SUMMATIONDELIVERED + arrayOffset - 1), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -11751,7 +11772,7 @@ public class ZclMeteringCluster extends ZclCluster {
             throw new IllegalArgumentException("arrayOffset out of bounds");
         }
 
-        return read(serverAttributes.get(ATTR_CURRENTTIER8BLOCK1SUMMATIONDELIVERED + arrayOffset));
+        return read(getServerAttribute(ATTR_CURRENTTIER8BLOCK1SUMMATIONDELIVERED + arrayOffset));
     }
 
     /**
@@ -11775,11 +11796,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCurrentTier8BlockSummationDelivered(final int arrayOffset, final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CURRENTTIER8BLOCK1SUMMATIONDELIVERED + arrayOffset).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CURRENTTIER8BLOCK1SUMMATIONDELIVERED + arrayOffset).getLastValue();
+        if (getServerAttribute(ATTR_CURRENTTIER8BLOCK1SUMMATIONDELIVERED + arrayOffset).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CURRENTTIER8BLOCK1SUMMATIONDELIVERED + arrayOffset).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CURRENTTIER8BLOCK1SUMMATIONDELIVERED + arrayOffset));
+        return (Integer) readSync(getServerAttribute(ATTR_CURRENTTIER8BLOCK1SUMMATIONDELIVERED + arrayOffset));
     }
 
     /**
@@ -11798,7 +11819,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setCurrentTier8Block1SummationDeliveredReporting(final int arrayOffset, final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_CURRENTTIER8BLOCK1SUMMATIONDELIVERED + arrayOffset - 1), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_CURRENTTIER8BLOCK1SUMMATIONDELIVERED + arrayOffset - 1), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -11818,7 +11839,7 @@ public class ZclMeteringCluster extends ZclCluster {
             throw new IllegalArgumentException("arrayOffset out of bounds");
         }
 
-        return read(serverAttributes.get(ATTR_CURRENTTIER9BLOCK1SUMMATIONDELIVERED + arrayOffset));
+        return read(getServerAttribute(ATTR_CURRENTTIER9BLOCK1SUMMATIONDELIVERED + arrayOffset));
     }
 
     /**
@@ -11842,11 +11863,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCurrentTier9BlockSummationDelivered(final int arrayOffset, final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CURRENTTIER9BLOCK1SUMMATIONDELIVERED + arrayOffset).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CURRENTTIER9BLOCK1SUMMATIONDELIVERED + arrayOffset).getLastValue();
+        if (getServerAttribute(ATTR_CURRENTTIER9BLOCK1SUMMATIONDELIVERED + arrayOffset).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CURRENTTIER9BLOCK1SUMMATIONDELIVERED + arrayOffset).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CURRENTTIER9BLOCK1SUMMATIONDELIVERED + arrayOffset));
+        return (Integer) readSync(getServerAttribute(ATTR_CURRENTTIER9BLOCK1SUMMATIONDELIVERED + arrayOffset));
     }
 
     /**
@@ -11865,7 +11886,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setCurrentTier9Block1SummationDeliveredReporting(final int arrayOffset, final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_CURRENTTIER9BLOCK1SUMMATIONDELIVERED + arrayOffset - 1), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_CURRENTTIER9BLOCK1SUMMATIONDELIVERED + arrayOffset - 1), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -11885,7 +11906,7 @@ public class ZclMeteringCluster extends ZclCluster {
             throw new IllegalArgumentException("arrayOffset out of bounds");
         }
 
-        return read(serverAttributes.get(ATTR_CURRENTTIER10BLOCK1SUMMATIONDELIVERED + arrayOffset));
+        return read(getServerAttribute(ATTR_CURRENTTIER10BLOCK1SUMMATIONDELIVERED + arrayOffset));
     }
 
     /**
@@ -11909,11 +11930,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCurrentTier10BlockSummationDelivered(final int arrayOffset, final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CURRENTTIER10BLOCK1SUMMATIONDELIVERED + arrayOffset).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CURRENTTIER10BLOCK1SUMMATIONDELIVERED + arrayOffset).getLastValue();
+        if (getServerAttribute(ATTR_CURRENTTIER10BLOCK1SUMMATIONDELIVERED + arrayOffset).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CURRENTTIER10BLOCK1SUMMATIONDELIVERED + arrayOffset).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CURRENTTIER10BLOCK1SUMMATIONDELIVERED + arrayOffset));
+        return (Integer) readSync(getServerAttribute(ATTR_CURRENTTIER10BLOCK1SUMMATIONDELIVERED + arrayOffset));
     }
 
     /**
@@ -11932,7 +11953,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setCurrentTier10Block1SummationDeliveredReporting(final int arrayOffset, final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_CURRENTTIER10BLOCK1SUMMATIONDELIVERED + arrayOffset - 1), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_CURRENTTIER10BLOCK1SUMMATIONDELIVERED + arrayOffset - 1), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -11952,7 +11973,7 @@ public class ZclMeteringCluster extends ZclCluster {
             throw new IllegalArgumentException("arrayOffset out of bounds");
         }
 
-        return read(serverAttributes.get(ATTR_CURRENTTIER11BLOCK1SUMMATIONDELIVERED + arrayOffset));
+        return read(getServerAttribute(ATTR_CURRENTTIER11BLOCK1SUMMATIONDELIVERED + arrayOffset));
     }
 
     /**
@@ -11976,11 +11997,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCurrentTier11BlockSummationDelivered(final int arrayOffset, final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CURRENTTIER11BLOCK1SUMMATIONDELIVERED + arrayOffset).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CURRENTTIER11BLOCK1SUMMATIONDELIVERED + arrayOffset).getLastValue();
+        if (getServerAttribute(ATTR_CURRENTTIER11BLOCK1SUMMATIONDELIVERED + arrayOffset).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CURRENTTIER11BLOCK1SUMMATIONDELIVERED + arrayOffset).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CURRENTTIER11BLOCK1SUMMATIONDELIVERED + arrayOffset));
+        return (Integer) readSync(getServerAttribute(ATTR_CURRENTTIER11BLOCK1SUMMATIONDELIVERED + arrayOffset));
     }
 
     /**
@@ -11999,7 +12020,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setCurrentTier11Block1SummationDeliveredReporting(final int arrayOffset, final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_CURRENTTIER11BLOCK1SUMMATIONDELIVERED + arrayOffset - 1), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_CURRENTTIER11BLOCK1SUMMATIONDELIVERED + arrayOffset - 1), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -12019,7 +12040,7 @@ public class ZclMeteringCluster extends ZclCluster {
             throw new IllegalArgumentException("arrayOffset out of bounds");
         }
 
-        return read(serverAttributes.get(ATTR_CURRENTTIER12BLOCK1SUMMATIONDELIVERED + arrayOffset));
+        return read(getServerAttribute(ATTR_CURRENTTIER12BLOCK1SUMMATIONDELIVERED + arrayOffset));
     }
 
     /**
@@ -12043,11 +12064,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCurrentTier12BlockSummationDelivered(final int arrayOffset, final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CURRENTTIER12BLOCK1SUMMATIONDELIVERED + arrayOffset).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CURRENTTIER12BLOCK1SUMMATIONDELIVERED + arrayOffset).getLastValue();
+        if (getServerAttribute(ATTR_CURRENTTIER12BLOCK1SUMMATIONDELIVERED + arrayOffset).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CURRENTTIER12BLOCK1SUMMATIONDELIVERED + arrayOffset).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CURRENTTIER12BLOCK1SUMMATIONDELIVERED + arrayOffset));
+        return (Integer) readSync(getServerAttribute(ATTR_CURRENTTIER12BLOCK1SUMMATIONDELIVERED + arrayOffset));
     }
 
     /**
@@ -12066,7 +12087,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setCurrentTier12Block1SummationDeliveredReporting(final int arrayOffset, final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_CURRENTTIER12BLOCK1SUMMATIONDELIVERED + arrayOffset - 1), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_CURRENTTIER12BLOCK1SUMMATIONDELIVERED + arrayOffset - 1), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -12086,7 +12107,7 @@ public class ZclMeteringCluster extends ZclCluster {
             throw new IllegalArgumentException("arrayOffset out of bounds");
         }
 
-        return read(serverAttributes.get(ATTR_CURRENTTIER13BLOCK1SUMMATIONDELIVERED + arrayOffset));
+        return read(getServerAttribute(ATTR_CURRENTTIER13BLOCK1SUMMATIONDELIVERED + arrayOffset));
     }
 
     /**
@@ -12110,11 +12131,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCurrentTier13BlockSummationDelivered(final int arrayOffset, final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CURRENTTIER13BLOCK1SUMMATIONDELIVERED + arrayOffset).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CURRENTTIER13BLOCK1SUMMATIONDELIVERED + arrayOffset).getLastValue();
+        if (getServerAttribute(ATTR_CURRENTTIER13BLOCK1SUMMATIONDELIVERED + arrayOffset).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CURRENTTIER13BLOCK1SUMMATIONDELIVERED + arrayOffset).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CURRENTTIER13BLOCK1SUMMATIONDELIVERED + arrayOffset));
+        return (Integer) readSync(getServerAttribute(ATTR_CURRENTTIER13BLOCK1SUMMATIONDELIVERED + arrayOffset));
     }
 
     /**
@@ -12133,7 +12154,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setCurrentTier13Block1SummationDeliveredReporting(final int arrayOffset, final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_CURRENTTIER13BLOCK1SUMMATIONDELIVERED + arrayOffset - 1), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_CURRENTTIER13BLOCK1SUMMATIONDELIVERED + arrayOffset - 1), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -12153,7 +12174,7 @@ public class ZclMeteringCluster extends ZclCluster {
             throw new IllegalArgumentException("arrayOffset out of bounds");
         }
 
-        return read(serverAttributes.get(ATTR_CURRENTTIER14BLOCK1SUMMATIONDELIVERED + arrayOffset));
+        return read(getServerAttribute(ATTR_CURRENTTIER14BLOCK1SUMMATIONDELIVERED + arrayOffset));
     }
 
     /**
@@ -12177,11 +12198,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCurrentTier14BlockSummationDelivered(final int arrayOffset, final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CURRENTTIER14BLOCK1SUMMATIONDELIVERED + arrayOffset).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CURRENTTIER14BLOCK1SUMMATIONDELIVERED + arrayOffset).getLastValue();
+        if (getServerAttribute(ATTR_CURRENTTIER14BLOCK1SUMMATIONDELIVERED + arrayOffset).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CURRENTTIER14BLOCK1SUMMATIONDELIVERED + arrayOffset).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CURRENTTIER14BLOCK1SUMMATIONDELIVERED + arrayOffset));
+        return (Integer) readSync(getServerAttribute(ATTR_CURRENTTIER14BLOCK1SUMMATIONDELIVERED + arrayOffset));
     }
 
     /**
@@ -12200,7 +12221,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setCurrentTier14Block1SummationDeliveredReporting(final int arrayOffset, final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_CURRENTTIER14BLOCK1SUMMATIONDELIVERED + arrayOffset - 1), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_CURRENTTIER14BLOCK1SUMMATIONDELIVERED + arrayOffset - 1), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -12220,7 +12241,7 @@ public class ZclMeteringCluster extends ZclCluster {
             throw new IllegalArgumentException("arrayOffset out of bounds");
         }
 
-        return read(serverAttributes.get(ATTR_CURRENTTIER15BLOCK1SUMMATIONDELIVERED + arrayOffset));
+        return read(getServerAttribute(ATTR_CURRENTTIER15BLOCK1SUMMATIONDELIVERED + arrayOffset));
     }
 
     /**
@@ -12244,11 +12265,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCurrentTier15BlockSummationDelivered(final int arrayOffset, final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CURRENTTIER15BLOCK1SUMMATIONDELIVERED + arrayOffset).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CURRENTTIER15BLOCK1SUMMATIONDELIVERED + arrayOffset).getLastValue();
+        if (getServerAttribute(ATTR_CURRENTTIER15BLOCK1SUMMATIONDELIVERED + arrayOffset).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CURRENTTIER15BLOCK1SUMMATIONDELIVERED + arrayOffset).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CURRENTTIER15BLOCK1SUMMATIONDELIVERED + arrayOffset));
+        return (Integer) readSync(getServerAttribute(ATTR_CURRENTTIER15BLOCK1SUMMATIONDELIVERED + arrayOffset));
     }
 
     /**
@@ -12267,7 +12288,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setCurrentTier15Block1SummationDeliveredReporting(final int arrayOffset, final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_CURRENTTIER15BLOCK1SUMMATIONDELIVERED + arrayOffset - 1), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_CURRENTTIER15BLOCK1SUMMATIONDELIVERED + arrayOffset - 1), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -12283,7 +12304,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setGenericAlarmMask(final Integer value) {
-        return write(serverAttributes.get(ATTR_GENERICALARMMASK), value);
+        return write(getServerAttribute(ATTR_GENERICALARMMASK), value);
     }
 
     /**
@@ -12298,7 +12319,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getGenericAlarmMaskAsync() {
-        return read(serverAttributes.get(ATTR_GENERICALARMMASK));
+        return read(getServerAttribute(ATTR_GENERICALARMMASK));
     }
 
     /**
@@ -12321,11 +12342,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getGenericAlarmMask(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_GENERICALARMMASK).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_GENERICALARMMASK).getLastValue();
+        if (getServerAttribute(ATTR_GENERICALARMMASK).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_GENERICALARMMASK).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_GENERICALARMMASK));
+        return (Integer) readSync(getServerAttribute(ATTR_GENERICALARMMASK));
     }
 
     /**
@@ -12341,7 +12362,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setElectricityAlarmMask(final Integer value) {
-        return write(serverAttributes.get(ATTR_ELECTRICITYALARMMASK), value);
+        return write(getServerAttribute(ATTR_ELECTRICITYALARMMASK), value);
     }
 
     /**
@@ -12356,7 +12377,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getElectricityAlarmMaskAsync() {
-        return read(serverAttributes.get(ATTR_ELECTRICITYALARMMASK));
+        return read(getServerAttribute(ATTR_ELECTRICITYALARMMASK));
     }
 
     /**
@@ -12379,11 +12400,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getElectricityAlarmMask(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_ELECTRICITYALARMMASK).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_ELECTRICITYALARMMASK).getLastValue();
+        if (getServerAttribute(ATTR_ELECTRICITYALARMMASK).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_ELECTRICITYALARMMASK).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_ELECTRICITYALARMMASK));
+        return (Integer) readSync(getServerAttribute(ATTR_ELECTRICITYALARMMASK));
     }
 
     /**
@@ -12399,7 +12420,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setGenericFlowPressureAlarmMask(final Integer value) {
-        return write(serverAttributes.get(ATTR_GENERICFLOWPRESSUREALARMMASK), value);
+        return write(getServerAttribute(ATTR_GENERICFLOWPRESSUREALARMMASK), value);
     }
 
     /**
@@ -12414,7 +12435,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getGenericFlowPressureAlarmMaskAsync() {
-        return read(serverAttributes.get(ATTR_GENERICFLOWPRESSUREALARMMASK));
+        return read(getServerAttribute(ATTR_GENERICFLOWPRESSUREALARMMASK));
     }
 
     /**
@@ -12437,11 +12458,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getGenericFlowPressureAlarmMask(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_GENERICFLOWPRESSUREALARMMASK).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_GENERICFLOWPRESSUREALARMMASK).getLastValue();
+        if (getServerAttribute(ATTR_GENERICFLOWPRESSUREALARMMASK).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_GENERICFLOWPRESSUREALARMMASK).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_GENERICFLOWPRESSUREALARMMASK));
+        return (Integer) readSync(getServerAttribute(ATTR_GENERICFLOWPRESSUREALARMMASK));
     }
 
     /**
@@ -12457,7 +12478,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setWaterSpecificAlarmMask(final Integer value) {
-        return write(serverAttributes.get(ATTR_WATERSPECIFICALARMMASK), value);
+        return write(getServerAttribute(ATTR_WATERSPECIFICALARMMASK), value);
     }
 
     /**
@@ -12472,7 +12493,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getWaterSpecificAlarmMaskAsync() {
-        return read(serverAttributes.get(ATTR_WATERSPECIFICALARMMASK));
+        return read(getServerAttribute(ATTR_WATERSPECIFICALARMMASK));
     }
 
     /**
@@ -12495,11 +12516,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getWaterSpecificAlarmMask(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_WATERSPECIFICALARMMASK).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_WATERSPECIFICALARMMASK).getLastValue();
+        if (getServerAttribute(ATTR_WATERSPECIFICALARMMASK).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_WATERSPECIFICALARMMASK).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_WATERSPECIFICALARMMASK));
+        return (Integer) readSync(getServerAttribute(ATTR_WATERSPECIFICALARMMASK));
     }
 
     /**
@@ -12515,7 +12536,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setHeatAndCoolingSpecificAlarmMask(final Integer value) {
-        return write(serverAttributes.get(ATTR_HEATANDCOOLINGSPECIFICALARMMASK), value);
+        return write(getServerAttribute(ATTR_HEATANDCOOLINGSPECIFICALARMMASK), value);
     }
 
     /**
@@ -12530,7 +12551,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getHeatAndCoolingSpecificAlarmMaskAsync() {
-        return read(serverAttributes.get(ATTR_HEATANDCOOLINGSPECIFICALARMMASK));
+        return read(getServerAttribute(ATTR_HEATANDCOOLINGSPECIFICALARMMASK));
     }
 
     /**
@@ -12553,11 +12574,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getHeatAndCoolingSpecificAlarmMask(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_HEATANDCOOLINGSPECIFICALARMMASK).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_HEATANDCOOLINGSPECIFICALARMMASK).getLastValue();
+        if (getServerAttribute(ATTR_HEATANDCOOLINGSPECIFICALARMMASK).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_HEATANDCOOLINGSPECIFICALARMMASK).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_HEATANDCOOLINGSPECIFICALARMMASK));
+        return (Integer) readSync(getServerAttribute(ATTR_HEATANDCOOLINGSPECIFICALARMMASK));
     }
 
     /**
@@ -12573,7 +12594,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setGasSpecificAlarmMask(final Integer value) {
-        return write(serverAttributes.get(ATTR_GASSPECIFICALARMMASK), value);
+        return write(getServerAttribute(ATTR_GASSPECIFICALARMMASK), value);
     }
 
     /**
@@ -12588,7 +12609,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getGasSpecificAlarmMaskAsync() {
-        return read(serverAttributes.get(ATTR_GASSPECIFICALARMMASK));
+        return read(getServerAttribute(ATTR_GASSPECIFICALARMMASK));
     }
 
     /**
@@ -12611,11 +12632,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getGasSpecificAlarmMask(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_GASSPECIFICALARMMASK).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_GASSPECIFICALARMMASK).getLastValue();
+        if (getServerAttribute(ATTR_GASSPECIFICALARMMASK).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_GASSPECIFICALARMMASK).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_GASSPECIFICALARMMASK));
+        return (Integer) readSync(getServerAttribute(ATTR_GASSPECIFICALARMMASK));
     }
 
     /**
@@ -12631,7 +12652,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setExtendedGenericAlarmMask(final Integer value) {
-        return write(serverAttributes.get(ATTR_EXTENDEDGENERICALARMMASK), value);
+        return write(getServerAttribute(ATTR_EXTENDEDGENERICALARMMASK), value);
     }
 
     /**
@@ -12646,7 +12667,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getExtendedGenericAlarmMaskAsync() {
-        return read(serverAttributes.get(ATTR_EXTENDEDGENERICALARMMASK));
+        return read(getServerAttribute(ATTR_EXTENDEDGENERICALARMMASK));
     }
 
     /**
@@ -12669,11 +12690,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getExtendedGenericAlarmMask(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_EXTENDEDGENERICALARMMASK).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_EXTENDEDGENERICALARMMASK).getLastValue();
+        if (getServerAttribute(ATTR_EXTENDEDGENERICALARMMASK).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_EXTENDEDGENERICALARMMASK).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_EXTENDEDGENERICALARMMASK));
+        return (Integer) readSync(getServerAttribute(ATTR_EXTENDEDGENERICALARMMASK));
     }
 
     /**
@@ -12689,7 +12710,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setManufactureAlarmMask(final Integer value) {
-        return write(serverAttributes.get(ATTR_MANUFACTUREALARMMASK), value);
+        return write(getServerAttribute(ATTR_MANUFACTUREALARMMASK), value);
     }
 
     /**
@@ -12704,7 +12725,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getManufactureAlarmMaskAsync() {
-        return read(serverAttributes.get(ATTR_MANUFACTUREALARMMASK));
+        return read(getServerAttribute(ATTR_MANUFACTUREALARMMASK));
     }
 
     /**
@@ -12727,11 +12748,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getManufactureAlarmMask(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_MANUFACTUREALARMMASK).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_MANUFACTUREALARMMASK).getLastValue();
+        if (getServerAttribute(ATTR_MANUFACTUREALARMMASK).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_MANUFACTUREALARMMASK).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_MANUFACTUREALARMMASK));
+        return (Integer) readSync(getServerAttribute(ATTR_MANUFACTUREALARMMASK));
     }
 
     /**
@@ -12751,7 +12772,7 @@ public class ZclMeteringCluster extends ZclCluster {
             throw new IllegalArgumentException("arrayOffset out of bounds");
         }
 
-        return read(serverAttributes.get(ATTR_CURRENTNOTIERBLOCK1SUMMATIONRECEIVED + arrayOffset));
+        return read(getServerAttribute(ATTR_CURRENTNOTIERBLOCK1SUMMATIONRECEIVED + arrayOffset));
     }
 
     /**
@@ -12775,11 +12796,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCurrentNoTierBlockSummationReceived(final int arrayOffset, final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CURRENTNOTIERBLOCK1SUMMATIONRECEIVED + arrayOffset).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CURRENTNOTIERBLOCK1SUMMATIONRECEIVED + arrayOffset).getLastValue();
+        if (getServerAttribute(ATTR_CURRENTNOTIERBLOCK1SUMMATIONRECEIVED + arrayOffset).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CURRENTNOTIERBLOCK1SUMMATIONRECEIVED + arrayOffset).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CURRENTNOTIERBLOCK1SUMMATIONRECEIVED + arrayOffset));
+        return (Integer) readSync(getServerAttribute(ATTR_CURRENTNOTIERBLOCK1SUMMATIONRECEIVED + arrayOffset));
     }
 
     /**
@@ -12798,7 +12819,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setCurrentNoTierBlock1SummationReceivedReporting(final int arrayOffset, final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_CURRENTNOTIERBLOCK1SUMMATIONRECEIVED + arrayOffset - 1), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_CURRENTNOTIERBLOCK1SUMMATIONRECEIVED + arrayOffset - 1), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -12818,7 +12839,7 @@ public class ZclMeteringCluster extends ZclCluster {
             throw new IllegalArgumentException("arrayOffset out of bounds");
         }
 
-        return read(serverAttributes.get(ATTR_CURRENTTIER1BLOCK1SUMMATIONRECEIVED + arrayOffset));
+        return read(getServerAttribute(ATTR_CURRENTTIER1BLOCK1SUMMATIONRECEIVED + arrayOffset));
     }
 
     /**
@@ -12842,11 +12863,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCurrentTier1BlockSummationReceived(final int arrayOffset, final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CURRENTTIER1BLOCK1SUMMATIONRECEIVED + arrayOffset).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CURRENTTIER1BLOCK1SUMMATIONRECEIVED + arrayOffset).getLastValue();
+        if (getServerAttribute(ATTR_CURRENTTIER1BLOCK1SUMMATIONRECEIVED + arrayOffset).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CURRENTTIER1BLOCK1SUMMATIONRECEIVED + arrayOffset).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CURRENTTIER1BLOCK1SUMMATIONRECEIVED + arrayOffset));
+        return (Integer) readSync(getServerAttribute(ATTR_CURRENTTIER1BLOCK1SUMMATIONRECEIVED + arrayOffset));
     }
 
     /**
@@ -12865,7 +12886,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setCurrentTier1Block1SummationReceivedReporting(final int arrayOffset, final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_CURRENTTIER1BLOCK1SUMMATIONRECEIVED + arrayOffset - 1), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_CURRENTTIER1BLOCK1SUMMATIONRECEIVED + arrayOffset - 1), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -12885,7 +12906,7 @@ public class ZclMeteringCluster extends ZclCluster {
             throw new IllegalArgumentException("arrayOffset out of bounds");
         }
 
-        return read(serverAttributes.get(ATTR_CURRENTTIER2BLOCK1SUMMATIONRECEIVED + arrayOffset));
+        return read(getServerAttribute(ATTR_CURRENTTIER2BLOCK1SUMMATIONRECEIVED + arrayOffset));
     }
 
     /**
@@ -12909,11 +12930,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCurrentTier2BlockSummationReceived(final int arrayOffset, final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CURRENTTIER2BLOCK1SUMMATIONRECEIVED + arrayOffset).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CURRENTTIER2BLOCK1SUMMATIONRECEIVED + arrayOffset).getLastValue();
+        if (getServerAttribute(ATTR_CURRENTTIER2BLOCK1SUMMATIONRECEIVED + arrayOffset).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CURRENTTIER2BLOCK1SUMMATIONRECEIVED + arrayOffset).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CURRENTTIER2BLOCK1SUMMATIONRECEIVED + arrayOffset));
+        return (Integer) readSync(getServerAttribute(ATTR_CURRENTTIER2BLOCK1SUMMATIONRECEIVED + arrayOffset));
     }
 
     /**
@@ -12932,7 +12953,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setCurrentTier2Block1SummationReceivedReporting(final int arrayOffset, final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_CURRENTTIER2BLOCK1SUMMATIONRECEIVED + arrayOffset - 1), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_CURRENTTIER2BLOCK1SUMMATIONRECEIVED + arrayOffset - 1), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -12952,7 +12973,7 @@ public class ZclMeteringCluster extends ZclCluster {
             throw new IllegalArgumentException("arrayOffset out of bounds");
         }
 
-        return read(serverAttributes.get(ATTR_CURRENTTIER3BLOCK1SUMMATIONRECEIVED + arrayOffset));
+        return read(getServerAttribute(ATTR_CURRENTTIER3BLOCK1SUMMATIONRECEIVED + arrayOffset));
     }
 
     /**
@@ -12976,11 +12997,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCurrentTier3BlockSummationReceived(final int arrayOffset, final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CURRENTTIER3BLOCK1SUMMATIONRECEIVED + arrayOffset).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CURRENTTIER3BLOCK1SUMMATIONRECEIVED + arrayOffset).getLastValue();
+        if (getServerAttribute(ATTR_CURRENTTIER3BLOCK1SUMMATIONRECEIVED + arrayOffset).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CURRENTTIER3BLOCK1SUMMATIONRECEIVED + arrayOffset).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CURRENTTIER3BLOCK1SUMMATIONRECEIVED + arrayOffset));
+        return (Integer) readSync(getServerAttribute(ATTR_CURRENTTIER3BLOCK1SUMMATIONRECEIVED + arrayOffset));
     }
 
     /**
@@ -12999,7 +13020,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setCurrentTier3Block1SummationReceivedReporting(final int arrayOffset, final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_CURRENTTIER3BLOCK1SUMMATIONRECEIVED + arrayOffset - 1), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_CURRENTTIER3BLOCK1SUMMATIONRECEIVED + arrayOffset - 1), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -13019,7 +13040,7 @@ public class ZclMeteringCluster extends ZclCluster {
             throw new IllegalArgumentException("arrayOffset out of bounds");
         }
 
-        return read(serverAttributes.get(ATTR_CURRENTTIER4BLOCK1SUMMATIONRECEIVED + arrayOffset));
+        return read(getServerAttribute(ATTR_CURRENTTIER4BLOCK1SUMMATIONRECEIVED + arrayOffset));
     }
 
     /**
@@ -13043,11 +13064,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCurrentTier4BlockSummationReceived(final int arrayOffset, final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CURRENTTIER4BLOCK1SUMMATIONRECEIVED + arrayOffset).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CURRENTTIER4BLOCK1SUMMATIONRECEIVED + arrayOffset).getLastValue();
+        if (getServerAttribute(ATTR_CURRENTTIER4BLOCK1SUMMATIONRECEIVED + arrayOffset).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CURRENTTIER4BLOCK1SUMMATIONRECEIVED + arrayOffset).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CURRENTTIER4BLOCK1SUMMATIONRECEIVED + arrayOffset));
+        return (Integer) readSync(getServerAttribute(ATTR_CURRENTTIER4BLOCK1SUMMATIONRECEIVED + arrayOffset));
     }
 
     /**
@@ -13066,7 +13087,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setCurrentTier4Block1SummationReceivedReporting(final int arrayOffset, final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_CURRENTTIER4BLOCK1SUMMATIONRECEIVED + arrayOffset - 1), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_CURRENTTIER4BLOCK1SUMMATIONRECEIVED + arrayOffset - 1), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -13086,7 +13107,7 @@ public class ZclMeteringCluster extends ZclCluster {
             throw new IllegalArgumentException("arrayOffset out of bounds");
         }
 
-        return read(serverAttributes.get(ATTR_CURRENTTIER5BLOCK1SUMMATIONRECEIVED + arrayOffset));
+        return read(getServerAttribute(ATTR_CURRENTTIER5BLOCK1SUMMATIONRECEIVED + arrayOffset));
     }
 
     /**
@@ -13110,11 +13131,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCurrentTier5BlockSummationReceived(final int arrayOffset, final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CURRENTTIER5BLOCK1SUMMATIONRECEIVED + arrayOffset).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CURRENTTIER5BLOCK1SUMMATIONRECEIVED + arrayOffset).getLastValue();
+        if (getServerAttribute(ATTR_CURRENTTIER5BLOCK1SUMMATIONRECEIVED + arrayOffset).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CURRENTTIER5BLOCK1SUMMATIONRECEIVED + arrayOffset).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CURRENTTIER5BLOCK1SUMMATIONRECEIVED + arrayOffset));
+        return (Integer) readSync(getServerAttribute(ATTR_CURRENTTIER5BLOCK1SUMMATIONRECEIVED + arrayOffset));
     }
 
     /**
@@ -13133,7 +13154,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setCurrentTier5Block1SummationReceivedReporting(final int arrayOffset, final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_CURRENTTIER5BLOCK1SUMMATIONRECEIVED + arrayOffset - 1), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_CURRENTTIER5BLOCK1SUMMATIONRECEIVED + arrayOffset - 1), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -13153,7 +13174,7 @@ public class ZclMeteringCluster extends ZclCluster {
             throw new IllegalArgumentException("arrayOffset out of bounds");
         }
 
-        return read(serverAttributes.get(ATTR_CURRENTTIER6BLOCK1SUMMATIONRECEIVED + arrayOffset));
+        return read(getServerAttribute(ATTR_CURRENTTIER6BLOCK1SUMMATIONRECEIVED + arrayOffset));
     }
 
     /**
@@ -13177,11 +13198,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCurrentTier6BlockSummationReceived(final int arrayOffset, final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CURRENTTIER6BLOCK1SUMMATIONRECEIVED + arrayOffset).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CURRENTTIER6BLOCK1SUMMATIONRECEIVED + arrayOffset).getLastValue();
+        if (getServerAttribute(ATTR_CURRENTTIER6BLOCK1SUMMATIONRECEIVED + arrayOffset).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CURRENTTIER6BLOCK1SUMMATIONRECEIVED + arrayOffset).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CURRENTTIER6BLOCK1SUMMATIONRECEIVED + arrayOffset));
+        return (Integer) readSync(getServerAttribute(ATTR_CURRENTTIER6BLOCK1SUMMATIONRECEIVED + arrayOffset));
     }
 
     /**
@@ -13200,7 +13221,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setCurrentTier6Block1SummationReceivedReporting(final int arrayOffset, final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_CURRENTTIER6BLOCK1SUMMATIONRECEIVED + arrayOffset - 1), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_CURRENTTIER6BLOCK1SUMMATIONRECEIVED + arrayOffset - 1), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -13220,7 +13241,7 @@ public class ZclMeteringCluster extends ZclCluster {
             throw new IllegalArgumentException("arrayOffset out of bounds");
         }
 
-        return read(serverAttributes.get(ATTR_CURRENTTIER7BLOCK1SUMMATIONRECEIVED + arrayOffset));
+        return read(getServerAttribute(ATTR_CURRENTTIER7BLOCK1SUMMATIONRECEIVED + arrayOffset));
     }
 
     /**
@@ -13244,11 +13265,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCurrentTier7BlockSummationReceived(final int arrayOffset, final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CURRENTTIER7BLOCK1SUMMATIONRECEIVED + arrayOffset).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CURRENTTIER7BLOCK1SUMMATIONRECEIVED + arrayOffset).getLastValue();
+        if (getServerAttribute(ATTR_CURRENTTIER7BLOCK1SUMMATIONRECEIVED + arrayOffset).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CURRENTTIER7BLOCK1SUMMATIONRECEIVED + arrayOffset).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CURRENTTIER7BLOCK1SUMMATIONRECEIVED + arrayOffset));
+        return (Integer) readSync(getServerAttribute(ATTR_CURRENTTIER7BLOCK1SUMMATIONRECEIVED + arrayOffset));
     }
 
     /**
@@ -13267,7 +13288,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setCurrentTier7Block1SummationReceivedReporting(final int arrayOffset, final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_CURRENTTIER7BLOCK1SUMMATIONRECEIVED + arrayOffset - 1), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_CURRENTTIER7BLOCK1SUMMATIONRECEIVED + arrayOffset - 1), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -13287,7 +13308,7 @@ public class ZclMeteringCluster extends ZclCluster {
             throw new IllegalArgumentException("arrayOffset out of bounds");
         }
 
-        return read(serverAttributes.get(ATTR_CURRENTTIER8BLOCK1SUMMATIONRECEIVED + arrayOffset));
+        return read(getServerAttribute(ATTR_CURRENTTIER8BLOCK1SUMMATIONRECEIVED + arrayOffset));
     }
 
     /**
@@ -13311,11 +13332,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCurrentTier8BlockSummationReceived(final int arrayOffset, final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CURRENTTIER8BLOCK1SUMMATIONRECEIVED + arrayOffset).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CURRENTTIER8BLOCK1SUMMATIONRECEIVED + arrayOffset).getLastValue();
+        if (getServerAttribute(ATTR_CURRENTTIER8BLOCK1SUMMATIONRECEIVED + arrayOffset).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CURRENTTIER8BLOCK1SUMMATIONRECEIVED + arrayOffset).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CURRENTTIER8BLOCK1SUMMATIONRECEIVED + arrayOffset));
+        return (Integer) readSync(getServerAttribute(ATTR_CURRENTTIER8BLOCK1SUMMATIONRECEIVED + arrayOffset));
     }
 
     /**
@@ -13334,7 +13355,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setCurrentTier8Block1SummationReceivedReporting(final int arrayOffset, final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_CURRENTTIER8BLOCK1SUMMATIONRECEIVED + arrayOffset - 1), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_CURRENTTIER8BLOCK1SUMMATIONRECEIVED + arrayOffset - 1), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -13354,7 +13375,7 @@ public class ZclMeteringCluster extends ZclCluster {
             throw new IllegalArgumentException("arrayOffset out of bounds");
         }
 
-        return read(serverAttributes.get(ATTR_CURRENTTIER9BLOCK1SUMMATIONRECEIVED + arrayOffset));
+        return read(getServerAttribute(ATTR_CURRENTTIER9BLOCK1SUMMATIONRECEIVED + arrayOffset));
     }
 
     /**
@@ -13378,11 +13399,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCurrentTier9BlockSummationReceived(final int arrayOffset, final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CURRENTTIER9BLOCK1SUMMATIONRECEIVED + arrayOffset).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CURRENTTIER9BLOCK1SUMMATIONRECEIVED + arrayOffset).getLastValue();
+        if (getServerAttribute(ATTR_CURRENTTIER9BLOCK1SUMMATIONRECEIVED + arrayOffset).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CURRENTTIER9BLOCK1SUMMATIONRECEIVED + arrayOffset).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CURRENTTIER9BLOCK1SUMMATIONRECEIVED + arrayOffset));
+        return (Integer) readSync(getServerAttribute(ATTR_CURRENTTIER9BLOCK1SUMMATIONRECEIVED + arrayOffset));
     }
 
     /**
@@ -13401,7 +13422,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setCurrentTier9Block1SummationReceivedReporting(final int arrayOffset, final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_CURRENTTIER9BLOCK1SUMMATIONRECEIVED + arrayOffset - 1), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_CURRENTTIER9BLOCK1SUMMATIONRECEIVED + arrayOffset - 1), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -13421,7 +13442,7 @@ public class ZclMeteringCluster extends ZclCluster {
             throw new IllegalArgumentException("arrayOffset out of bounds");
         }
 
-        return read(serverAttributes.get(ATTR_CURRENTTIER10BLOCK1SUMMATIONRECEIVED + arrayOffset));
+        return read(getServerAttribute(ATTR_CURRENTTIER10BLOCK1SUMMATIONRECEIVED + arrayOffset));
     }
 
     /**
@@ -13445,11 +13466,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCurrentTier10BlockSummationReceived(final int arrayOffset, final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CURRENTTIER10BLOCK1SUMMATIONRECEIVED + arrayOffset).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CURRENTTIER10BLOCK1SUMMATIONRECEIVED + arrayOffset).getLastValue();
+        if (getServerAttribute(ATTR_CURRENTTIER10BLOCK1SUMMATIONRECEIVED + arrayOffset).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CURRENTTIER10BLOCK1SUMMATIONRECEIVED + arrayOffset).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CURRENTTIER10BLOCK1SUMMATIONRECEIVED + arrayOffset));
+        return (Integer) readSync(getServerAttribute(ATTR_CURRENTTIER10BLOCK1SUMMATIONRECEIVED + arrayOffset));
     }
 
     /**
@@ -13468,7 +13489,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setCurrentTier10Block1SummationReceivedReporting(final int arrayOffset, final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_CURRENTTIER10BLOCK1SUMMATIONRECEIVED + arrayOffset - 1), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_CURRENTTIER10BLOCK1SUMMATIONRECEIVED + arrayOffset - 1), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -13488,7 +13509,7 @@ public class ZclMeteringCluster extends ZclCluster {
             throw new IllegalArgumentException("arrayOffset out of bounds");
         }
 
-        return read(serverAttributes.get(ATTR_CURRENTTIER11BLOCK1SUMMATIONRECEIVED + arrayOffset));
+        return read(getServerAttribute(ATTR_CURRENTTIER11BLOCK1SUMMATIONRECEIVED + arrayOffset));
     }
 
     /**
@@ -13512,11 +13533,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCurrentTier11BlockSummationReceived(final int arrayOffset, final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CURRENTTIER11BLOCK1SUMMATIONRECEIVED + arrayOffset).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CURRENTTIER11BLOCK1SUMMATIONRECEIVED + arrayOffset).getLastValue();
+        if (getServerAttribute(ATTR_CURRENTTIER11BLOCK1SUMMATIONRECEIVED + arrayOffset).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CURRENTTIER11BLOCK1SUMMATIONRECEIVED + arrayOffset).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CURRENTTIER11BLOCK1SUMMATIONRECEIVED + arrayOffset));
+        return (Integer) readSync(getServerAttribute(ATTR_CURRENTTIER11BLOCK1SUMMATIONRECEIVED + arrayOffset));
     }
 
     /**
@@ -13535,7 +13556,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setCurrentTier11Block1SummationReceivedReporting(final int arrayOffset, final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_CURRENTTIER11BLOCK1SUMMATIONRECEIVED + arrayOffset - 1), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_CURRENTTIER11BLOCK1SUMMATIONRECEIVED + arrayOffset - 1), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -13555,7 +13576,7 @@ public class ZclMeteringCluster extends ZclCluster {
             throw new IllegalArgumentException("arrayOffset out of bounds");
         }
 
-        return read(serverAttributes.get(ATTR_CURRENTTIER12BLOCK1SUMMATIONRECEIVED + arrayOffset));
+        return read(getServerAttribute(ATTR_CURRENTTIER12BLOCK1SUMMATIONRECEIVED + arrayOffset));
     }
 
     /**
@@ -13579,11 +13600,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCurrentTier12BlockSummationReceived(final int arrayOffset, final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CURRENTTIER12BLOCK1SUMMATIONRECEIVED + arrayOffset).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CURRENTTIER12BLOCK1SUMMATIONRECEIVED + arrayOffset).getLastValue();
+        if (getServerAttribute(ATTR_CURRENTTIER12BLOCK1SUMMATIONRECEIVED + arrayOffset).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CURRENTTIER12BLOCK1SUMMATIONRECEIVED + arrayOffset).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CURRENTTIER12BLOCK1SUMMATIONRECEIVED + arrayOffset));
+        return (Integer) readSync(getServerAttribute(ATTR_CURRENTTIER12BLOCK1SUMMATIONRECEIVED + arrayOffset));
     }
 
     /**
@@ -13602,7 +13623,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setCurrentTier12Block1SummationReceivedReporting(final int arrayOffset, final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_CURRENTTIER12BLOCK1SUMMATIONRECEIVED + arrayOffset - 1), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_CURRENTTIER12BLOCK1SUMMATIONRECEIVED + arrayOffset - 1), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -13622,7 +13643,7 @@ public class ZclMeteringCluster extends ZclCluster {
             throw new IllegalArgumentException("arrayOffset out of bounds");
         }
 
-        return read(serverAttributes.get(ATTR_CURRENTTIER13BLOCK1SUMMATIONRECEIVED + arrayOffset));
+        return read(getServerAttribute(ATTR_CURRENTTIER13BLOCK1SUMMATIONRECEIVED + arrayOffset));
     }
 
     /**
@@ -13646,11 +13667,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCurrentTier13BlockSummationReceived(final int arrayOffset, final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CURRENTTIER13BLOCK1SUMMATIONRECEIVED + arrayOffset).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CURRENTTIER13BLOCK1SUMMATIONRECEIVED + arrayOffset).getLastValue();
+        if (getServerAttribute(ATTR_CURRENTTIER13BLOCK1SUMMATIONRECEIVED + arrayOffset).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CURRENTTIER13BLOCK1SUMMATIONRECEIVED + arrayOffset).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CURRENTTIER13BLOCK1SUMMATIONRECEIVED + arrayOffset));
+        return (Integer) readSync(getServerAttribute(ATTR_CURRENTTIER13BLOCK1SUMMATIONRECEIVED + arrayOffset));
     }
 
     /**
@@ -13669,7 +13690,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setCurrentTier13Block1SummationReceivedReporting(final int arrayOffset, final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_CURRENTTIER13BLOCK1SUMMATIONRECEIVED + arrayOffset - 1), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_CURRENTTIER13BLOCK1SUMMATIONRECEIVED + arrayOffset - 1), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -13689,7 +13710,7 @@ public class ZclMeteringCluster extends ZclCluster {
             throw new IllegalArgumentException("arrayOffset out of bounds");
         }
 
-        return read(serverAttributes.get(ATTR_CURRENTTIER14BLOCK1SUMMATIONRECEIVED + arrayOffset));
+        return read(getServerAttribute(ATTR_CURRENTTIER14BLOCK1SUMMATIONRECEIVED + arrayOffset));
     }
 
     /**
@@ -13713,11 +13734,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCurrentTier14BlockSummationReceived(final int arrayOffset, final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CURRENTTIER14BLOCK1SUMMATIONRECEIVED + arrayOffset).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CURRENTTIER14BLOCK1SUMMATIONRECEIVED + arrayOffset).getLastValue();
+        if (getServerAttribute(ATTR_CURRENTTIER14BLOCK1SUMMATIONRECEIVED + arrayOffset).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CURRENTTIER14BLOCK1SUMMATIONRECEIVED + arrayOffset).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CURRENTTIER14BLOCK1SUMMATIONRECEIVED + arrayOffset));
+        return (Integer) readSync(getServerAttribute(ATTR_CURRENTTIER14BLOCK1SUMMATIONRECEIVED + arrayOffset));
     }
 
     /**
@@ -13736,7 +13757,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setCurrentTier14Block1SummationReceivedReporting(final int arrayOffset, final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_CURRENTTIER14BLOCK1SUMMATIONRECEIVED + arrayOffset - 1), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_CURRENTTIER14BLOCK1SUMMATIONRECEIVED + arrayOffset - 1), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -13756,7 +13777,7 @@ public class ZclMeteringCluster extends ZclCluster {
             throw new IllegalArgumentException("arrayOffset out of bounds");
         }
 
-        return read(serverAttributes.get(ATTR_CURRENTTIER15BLOCK1SUMMATIONRECEIVED + arrayOffset));
+        return read(getServerAttribute(ATTR_CURRENTTIER15BLOCK1SUMMATIONRECEIVED + arrayOffset));
     }
 
     /**
@@ -13780,11 +13801,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCurrentTier15BlockSummationReceived(final int arrayOffset, final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CURRENTTIER15BLOCK1SUMMATIONRECEIVED + arrayOffset).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CURRENTTIER15BLOCK1SUMMATIONRECEIVED + arrayOffset).getLastValue();
+        if (getServerAttribute(ATTR_CURRENTTIER15BLOCK1SUMMATIONRECEIVED + arrayOffset).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CURRENTTIER15BLOCK1SUMMATIONRECEIVED + arrayOffset).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CURRENTTIER15BLOCK1SUMMATIONRECEIVED + arrayOffset));
+        return (Integer) readSync(getServerAttribute(ATTR_CURRENTTIER15BLOCK1SUMMATIONRECEIVED + arrayOffset));
     }
 
     /**
@@ -13803,7 +13824,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setCurrentTier15Block1SummationReceivedReporting(final int arrayOffset, final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_CURRENTTIER15BLOCK1SUMMATIONRECEIVED + arrayOffset - 1), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_CURRENTTIER15BLOCK1SUMMATIONRECEIVED + arrayOffset - 1), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -13822,7 +13843,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getBillToDateDeliveredAsync() {
-        return read(serverAttributes.get(ATTR_BILLTODATEDELIVERED));
+        return read(getServerAttribute(ATTR_BILLTODATEDELIVERED));
     }
 
     /**
@@ -13849,11 +13870,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getBillToDateDelivered(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_BILLTODATEDELIVERED).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_BILLTODATEDELIVERED).getLastValue();
+        if (getServerAttribute(ATTR_BILLTODATEDELIVERED).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_BILLTODATEDELIVERED).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_BILLTODATEDELIVERED));
+        return (Integer) readSync(getServerAttribute(ATTR_BILLTODATEDELIVERED));
     }
 
     /**
@@ -13875,7 +13896,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setBillToDateDeliveredReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_BILLTODATEDELIVERED), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_BILLTODATEDELIVERED), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -13893,7 +13914,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getBillToDateTimeStampDeliveredAsync() {
-        return read(serverAttributes.get(ATTR_BILLTODATETIMESTAMPDELIVERED));
+        return read(getServerAttribute(ATTR_BILLTODATETIMESTAMPDELIVERED));
     }
 
     /**
@@ -13919,11 +13940,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Calendar getBillToDateTimeStampDelivered(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_BILLTODATETIMESTAMPDELIVERED).isLastValueCurrent(refreshPeriod)) {
-            return (Calendar) serverAttributes.get(ATTR_BILLTODATETIMESTAMPDELIVERED).getLastValue();
+        if (getServerAttribute(ATTR_BILLTODATETIMESTAMPDELIVERED).isLastValueCurrent(refreshPeriod)) {
+            return (Calendar) getServerAttribute(ATTR_BILLTODATETIMESTAMPDELIVERED).getLastValue();
         }
 
-        return (Calendar) readSync(serverAttributes.get(ATTR_BILLTODATETIMESTAMPDELIVERED));
+        return (Calendar) readSync(getServerAttribute(ATTR_BILLTODATETIMESTAMPDELIVERED));
     }
 
     /**
@@ -13944,7 +13965,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setBillToDateTimeStampDeliveredReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_BILLTODATETIMESTAMPDELIVERED), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_BILLTODATETIMESTAMPDELIVERED), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -13964,7 +13985,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getProjectedBillDeliveredAsync() {
-        return read(serverAttributes.get(ATTR_PROJECTEDBILLDELIVERED));
+        return read(getServerAttribute(ATTR_PROJECTEDBILLDELIVERED));
     }
 
     /**
@@ -13992,11 +14013,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getProjectedBillDelivered(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PROJECTEDBILLDELIVERED).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_PROJECTEDBILLDELIVERED).getLastValue();
+        if (getServerAttribute(ATTR_PROJECTEDBILLDELIVERED).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_PROJECTEDBILLDELIVERED).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_PROJECTEDBILLDELIVERED));
+        return (Integer) readSync(getServerAttribute(ATTR_PROJECTEDBILLDELIVERED));
     }
 
     /**
@@ -14019,7 +14040,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setProjectedBillDeliveredReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_PROJECTEDBILLDELIVERED), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_PROJECTEDBILLDELIVERED), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -14037,7 +14058,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getProjectedBillTimeStampDeliveredAsync() {
-        return read(serverAttributes.get(ATTR_PROJECTEDBILLTIMESTAMPDELIVERED));
+        return read(getServerAttribute(ATTR_PROJECTEDBILLTIMESTAMPDELIVERED));
     }
 
     /**
@@ -14063,11 +14084,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Calendar getProjectedBillTimeStampDelivered(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PROJECTEDBILLTIMESTAMPDELIVERED).isLastValueCurrent(refreshPeriod)) {
-            return (Calendar) serverAttributes.get(ATTR_PROJECTEDBILLTIMESTAMPDELIVERED).getLastValue();
+        if (getServerAttribute(ATTR_PROJECTEDBILLTIMESTAMPDELIVERED).isLastValueCurrent(refreshPeriod)) {
+            return (Calendar) getServerAttribute(ATTR_PROJECTEDBILLTIMESTAMPDELIVERED).getLastValue();
         }
 
-        return (Calendar) readSync(serverAttributes.get(ATTR_PROJECTEDBILLTIMESTAMPDELIVERED));
+        return (Calendar) readSync(getServerAttribute(ATTR_PROJECTEDBILLTIMESTAMPDELIVERED));
     }
 
     /**
@@ -14088,7 +14109,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setProjectedBillTimeStampDeliveredReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_PROJECTEDBILLTIMESTAMPDELIVERED), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_PROJECTEDBILLTIMESTAMPDELIVERED), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -14109,7 +14130,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getBillDeliveredTrailingDigitAsync() {
-        return read(serverAttributes.get(ATTR_BILLDELIVEREDTRAILINGDIGIT));
+        return read(getServerAttribute(ATTR_BILLDELIVEREDTRAILINGDIGIT));
     }
 
     /**
@@ -14138,11 +14159,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getBillDeliveredTrailingDigit(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_BILLDELIVEREDTRAILINGDIGIT).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_BILLDELIVEREDTRAILINGDIGIT).getLastValue();
+        if (getServerAttribute(ATTR_BILLDELIVEREDTRAILINGDIGIT).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_BILLDELIVEREDTRAILINGDIGIT).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_BILLDELIVEREDTRAILINGDIGIT));
+        return (Integer) readSync(getServerAttribute(ATTR_BILLDELIVEREDTRAILINGDIGIT));
     }
 
     /**
@@ -14165,7 +14186,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setBillDeliveredTrailingDigitReporting(final int minInterval, final int maxInterval) {
-        return setReporting(serverAttributes.get(ATTR_BILLDELIVEREDTRAILINGDIGIT), minInterval, maxInterval);
+        return setReporting(getServerAttribute(ATTR_BILLDELIVEREDTRAILINGDIGIT), minInterval, maxInterval);
     }
 
     /**
@@ -14184,7 +14205,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getBillToDateReceivedAsync() {
-        return read(serverAttributes.get(ATTR_BILLTODATERECEIVED));
+        return read(getServerAttribute(ATTR_BILLTODATERECEIVED));
     }
 
     /**
@@ -14211,11 +14232,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getBillToDateReceived(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_BILLTODATERECEIVED).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_BILLTODATERECEIVED).getLastValue();
+        if (getServerAttribute(ATTR_BILLTODATERECEIVED).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_BILLTODATERECEIVED).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_BILLTODATERECEIVED));
+        return (Integer) readSync(getServerAttribute(ATTR_BILLTODATERECEIVED));
     }
 
     /**
@@ -14237,7 +14258,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setBillToDateReceivedReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_BILLTODATERECEIVED), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_BILLTODATERECEIVED), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -14254,7 +14275,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getBillToDateTimeStampReceivedAsync() {
-        return read(serverAttributes.get(ATTR_BILLTODATETIMESTAMPRECEIVED));
+        return read(getServerAttribute(ATTR_BILLTODATETIMESTAMPRECEIVED));
     }
 
     /**
@@ -14279,11 +14300,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Calendar getBillToDateTimeStampReceived(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_BILLTODATETIMESTAMPRECEIVED).isLastValueCurrent(refreshPeriod)) {
-            return (Calendar) serverAttributes.get(ATTR_BILLTODATETIMESTAMPRECEIVED).getLastValue();
+        if (getServerAttribute(ATTR_BILLTODATETIMESTAMPRECEIVED).isLastValueCurrent(refreshPeriod)) {
+            return (Calendar) getServerAttribute(ATTR_BILLTODATETIMESTAMPRECEIVED).getLastValue();
         }
 
-        return (Calendar) readSync(serverAttributes.get(ATTR_BILLTODATETIMESTAMPRECEIVED));
+        return (Calendar) readSync(getServerAttribute(ATTR_BILLTODATETIMESTAMPRECEIVED));
     }
 
     /**
@@ -14303,7 +14324,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setBillToDateTimeStampReceivedReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_BILLTODATETIMESTAMPRECEIVED), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_BILLTODATETIMESTAMPRECEIVED), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -14323,7 +14344,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getProjectedBillReceivedAsync() {
-        return read(serverAttributes.get(ATTR_PROJECTEDBILLRECEIVED));
+        return read(getServerAttribute(ATTR_PROJECTEDBILLRECEIVED));
     }
 
     /**
@@ -14351,11 +14372,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getProjectedBillReceived(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PROJECTEDBILLRECEIVED).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_PROJECTEDBILLRECEIVED).getLastValue();
+        if (getServerAttribute(ATTR_PROJECTEDBILLRECEIVED).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_PROJECTEDBILLRECEIVED).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_PROJECTEDBILLRECEIVED));
+        return (Integer) readSync(getServerAttribute(ATTR_PROJECTEDBILLRECEIVED));
     }
 
     /**
@@ -14378,7 +14399,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setProjectedBillReceivedReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_PROJECTEDBILLRECEIVED), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_PROJECTEDBILLRECEIVED), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -14396,7 +14417,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getProjectedBillTimeStampReceivedAsync() {
-        return read(serverAttributes.get(ATTR_PROJECTEDBILLTIMESTAMPRECEIVED));
+        return read(getServerAttribute(ATTR_PROJECTEDBILLTIMESTAMPRECEIVED));
     }
 
     /**
@@ -14422,11 +14443,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Calendar getProjectedBillTimeStampReceived(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PROJECTEDBILLTIMESTAMPRECEIVED).isLastValueCurrent(refreshPeriod)) {
-            return (Calendar) serverAttributes.get(ATTR_PROJECTEDBILLTIMESTAMPRECEIVED).getLastValue();
+        if (getServerAttribute(ATTR_PROJECTEDBILLTIMESTAMPRECEIVED).isLastValueCurrent(refreshPeriod)) {
+            return (Calendar) getServerAttribute(ATTR_PROJECTEDBILLTIMESTAMPRECEIVED).getLastValue();
         }
 
-        return (Calendar) readSync(serverAttributes.get(ATTR_PROJECTEDBILLTIMESTAMPRECEIVED));
+        return (Calendar) readSync(getServerAttribute(ATTR_PROJECTEDBILLTIMESTAMPRECEIVED));
     }
 
     /**
@@ -14447,7 +14468,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setProjectedBillTimeStampReceivedReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_PROJECTEDBILLTIMESTAMPRECEIVED), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_PROJECTEDBILLTIMESTAMPRECEIVED), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -14468,7 +14489,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getBillReceivedTrailingDigitAsync() {
-        return read(serverAttributes.get(ATTR_BILLRECEIVEDTRAILINGDIGIT));
+        return read(getServerAttribute(ATTR_BILLRECEIVEDTRAILINGDIGIT));
     }
 
     /**
@@ -14497,11 +14518,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getBillReceivedTrailingDigit(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_BILLRECEIVEDTRAILINGDIGIT).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_BILLRECEIVEDTRAILINGDIGIT).getLastValue();
+        if (getServerAttribute(ATTR_BILLRECEIVEDTRAILINGDIGIT).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_BILLRECEIVEDTRAILINGDIGIT).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_BILLRECEIVEDTRAILINGDIGIT));
+        return (Integer) readSync(getServerAttribute(ATTR_BILLRECEIVEDTRAILINGDIGIT));
     }
 
     /**
@@ -14524,7 +14545,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setBillReceivedTrailingDigitReporting(final int minInterval, final int maxInterval) {
-        return setReporting(serverAttributes.get(ATTR_BILLRECEIVEDTRAILINGDIGIT), minInterval, maxInterval);
+        return setReporting(getServerAttribute(ATTR_BILLRECEIVEDTRAILINGDIGIT), minInterval, maxInterval);
     }
 
     /**
@@ -14543,7 +14564,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getProposedChangeSupplyImplementationTimeAsync() {
-        return read(serverAttributes.get(ATTR_PROPOSEDCHANGESUPPLYIMPLEMENTATIONTIME));
+        return read(getServerAttribute(ATTR_PROPOSEDCHANGESUPPLYIMPLEMENTATIONTIME));
     }
 
     /**
@@ -14570,11 +14591,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Calendar getProposedChangeSupplyImplementationTime(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PROPOSEDCHANGESUPPLYIMPLEMENTATIONTIME).isLastValueCurrent(refreshPeriod)) {
-            return (Calendar) serverAttributes.get(ATTR_PROPOSEDCHANGESUPPLYIMPLEMENTATIONTIME).getLastValue();
+        if (getServerAttribute(ATTR_PROPOSEDCHANGESUPPLYIMPLEMENTATIONTIME).isLastValueCurrent(refreshPeriod)) {
+            return (Calendar) getServerAttribute(ATTR_PROPOSEDCHANGESUPPLYIMPLEMENTATIONTIME).getLastValue();
         }
 
-        return (Calendar) readSync(serverAttributes.get(ATTR_PROPOSEDCHANGESUPPLYIMPLEMENTATIONTIME));
+        return (Calendar) readSync(getServerAttribute(ATTR_PROPOSEDCHANGESUPPLYIMPLEMENTATIONTIME));
     }
 
     /**
@@ -14596,7 +14617,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setProposedChangeSupplyImplementationTimeReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_PROPOSEDCHANGESUPPLYIMPLEMENTATIONTIME), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_PROPOSEDCHANGESUPPLYIMPLEMENTATIONTIME), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -14614,7 +14635,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getProposedChangeSupplyStatusAsync() {
-        return read(serverAttributes.get(ATTR_PROPOSEDCHANGESUPPLYSTATUS));
+        return read(getServerAttribute(ATTR_PROPOSEDCHANGESUPPLYSTATUS));
     }
 
     /**
@@ -14640,11 +14661,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getProposedChangeSupplyStatus(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PROPOSEDCHANGESUPPLYSTATUS).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_PROPOSEDCHANGESUPPLYSTATUS).getLastValue();
+        if (getServerAttribute(ATTR_PROPOSEDCHANGESUPPLYSTATUS).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_PROPOSEDCHANGESUPPLYSTATUS).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_PROPOSEDCHANGESUPPLYSTATUS));
+        return (Integer) readSync(getServerAttribute(ATTR_PROPOSEDCHANGESUPPLYSTATUS));
     }
 
     /**
@@ -14664,7 +14685,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setProposedChangeSupplyStatusReporting(final int minInterval, final int maxInterval) {
-        return setReporting(serverAttributes.get(ATTR_PROPOSEDCHANGESUPPLYSTATUS), minInterval, maxInterval);
+        return setReporting(getServerAttribute(ATTR_PROPOSEDCHANGESUPPLYSTATUS), minInterval, maxInterval);
     }
 
     /**
@@ -14683,7 +14704,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getUncontrolledFlowThresholdAsync() {
-        return read(serverAttributes.get(ATTR_UNCONTROLLEDFLOWTHRESHOLD));
+        return read(getServerAttribute(ATTR_UNCONTROLLEDFLOWTHRESHOLD));
     }
 
     /**
@@ -14710,11 +14731,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getUncontrolledFlowThreshold(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_UNCONTROLLEDFLOWTHRESHOLD).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_UNCONTROLLEDFLOWTHRESHOLD).getLastValue();
+        if (getServerAttribute(ATTR_UNCONTROLLEDFLOWTHRESHOLD).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_UNCONTROLLEDFLOWTHRESHOLD).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_UNCONTROLLEDFLOWTHRESHOLD));
+        return (Integer) readSync(getServerAttribute(ATTR_UNCONTROLLEDFLOWTHRESHOLD));
     }
 
     /**
@@ -14736,7 +14757,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setUncontrolledFlowThresholdReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_UNCONTROLLEDFLOWTHRESHOLD), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_UNCONTROLLEDFLOWTHRESHOLD), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -14754,7 +14775,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getUncontrolledFlowThresholdUnitOfMeasureAsync() {
-        return read(serverAttributes.get(ATTR_UNCONTROLLEDFLOWTHRESHOLDUNITOFMEASURE));
+        return read(getServerAttribute(ATTR_UNCONTROLLEDFLOWTHRESHOLDUNITOFMEASURE));
     }
 
     /**
@@ -14780,11 +14801,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getUncontrolledFlowThresholdUnitOfMeasure(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_UNCONTROLLEDFLOWTHRESHOLDUNITOFMEASURE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_UNCONTROLLEDFLOWTHRESHOLDUNITOFMEASURE).getLastValue();
+        if (getServerAttribute(ATTR_UNCONTROLLEDFLOWTHRESHOLDUNITOFMEASURE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_UNCONTROLLEDFLOWTHRESHOLDUNITOFMEASURE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_UNCONTROLLEDFLOWTHRESHOLDUNITOFMEASURE));
+        return (Integer) readSync(getServerAttribute(ATTR_UNCONTROLLEDFLOWTHRESHOLDUNITOFMEASURE));
     }
 
     /**
@@ -14804,7 +14825,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setUncontrolledFlowThresholdUnitOfMeasureReporting(final int minInterval, final int maxInterval) {
-        return setReporting(serverAttributes.get(ATTR_UNCONTROLLEDFLOWTHRESHOLDUNITOFMEASURE), minInterval, maxInterval);
+        return setReporting(getServerAttribute(ATTR_UNCONTROLLEDFLOWTHRESHOLDUNITOFMEASURE), minInterval, maxInterval);
     }
 
     /**
@@ -14824,7 +14845,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getUncontrolledFlowThresholdMultiplierAsync() {
-        return read(serverAttributes.get(ATTR_UNCONTROLLEDFLOWTHRESHOLDMULTIPLIER));
+        return read(getServerAttribute(ATTR_UNCONTROLLEDFLOWTHRESHOLDMULTIPLIER));
     }
 
     /**
@@ -14852,11 +14873,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getUncontrolledFlowThresholdMultiplier(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_UNCONTROLLEDFLOWTHRESHOLDMULTIPLIER).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_UNCONTROLLEDFLOWTHRESHOLDMULTIPLIER).getLastValue();
+        if (getServerAttribute(ATTR_UNCONTROLLEDFLOWTHRESHOLDMULTIPLIER).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_UNCONTROLLEDFLOWTHRESHOLDMULTIPLIER).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_UNCONTROLLEDFLOWTHRESHOLDMULTIPLIER));
+        return (Integer) readSync(getServerAttribute(ATTR_UNCONTROLLEDFLOWTHRESHOLDMULTIPLIER));
     }
 
     /**
@@ -14879,7 +14900,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setUncontrolledFlowThresholdMultiplierReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_UNCONTROLLEDFLOWTHRESHOLDMULTIPLIER), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_UNCONTROLLEDFLOWTHRESHOLDMULTIPLIER), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -14899,7 +14920,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getUncontrolledFlowThresholdDivisorAsync() {
-        return read(serverAttributes.get(ATTR_UNCONTROLLEDFLOWTHRESHOLDDIVISOR));
+        return read(getServerAttribute(ATTR_UNCONTROLLEDFLOWTHRESHOLDDIVISOR));
     }
 
     /**
@@ -14927,11 +14948,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getUncontrolledFlowThresholdDivisor(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_UNCONTROLLEDFLOWTHRESHOLDDIVISOR).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_UNCONTROLLEDFLOWTHRESHOLDDIVISOR).getLastValue();
+        if (getServerAttribute(ATTR_UNCONTROLLEDFLOWTHRESHOLDDIVISOR).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_UNCONTROLLEDFLOWTHRESHOLDDIVISOR).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_UNCONTROLLEDFLOWTHRESHOLDDIVISOR));
+        return (Integer) readSync(getServerAttribute(ATTR_UNCONTROLLEDFLOWTHRESHOLDDIVISOR));
     }
 
     /**
@@ -14954,7 +14975,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setUncontrolledFlowThresholdDivisorReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_UNCONTROLLEDFLOWTHRESHOLDDIVISOR), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_UNCONTROLLEDFLOWTHRESHOLDDIVISOR), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -14972,7 +14993,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getFlowStabilizationPeriodAsync() {
-        return read(serverAttributes.get(ATTR_FLOWSTABILIZATIONPERIOD));
+        return read(getServerAttribute(ATTR_FLOWSTABILIZATIONPERIOD));
     }
 
     /**
@@ -14998,11 +15019,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getFlowStabilizationPeriod(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_FLOWSTABILIZATIONPERIOD).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_FLOWSTABILIZATIONPERIOD).getLastValue();
+        if (getServerAttribute(ATTR_FLOWSTABILIZATIONPERIOD).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_FLOWSTABILIZATIONPERIOD).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_FLOWSTABILIZATIONPERIOD));
+        return (Integer) readSync(getServerAttribute(ATTR_FLOWSTABILIZATIONPERIOD));
     }
 
     /**
@@ -15023,7 +15044,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setFlowStabilizationPeriodReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_FLOWSTABILIZATIONPERIOD), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_FLOWSTABILIZATIONPERIOD), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -15042,7 +15063,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getFlowMeasurementPeriodAsync() {
-        return read(serverAttributes.get(ATTR_FLOWMEASUREMENTPERIOD));
+        return read(getServerAttribute(ATTR_FLOWMEASUREMENTPERIOD));
     }
 
     /**
@@ -15069,11 +15090,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getFlowMeasurementPeriod(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_FLOWMEASUREMENTPERIOD).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_FLOWMEASUREMENTPERIOD).getLastValue();
+        if (getServerAttribute(ATTR_FLOWMEASUREMENTPERIOD).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_FLOWMEASUREMENTPERIOD).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_FLOWMEASUREMENTPERIOD));
+        return (Integer) readSync(getServerAttribute(ATTR_FLOWMEASUREMENTPERIOD));
     }
 
     /**
@@ -15095,7 +15116,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setFlowMeasurementPeriodReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_FLOWMEASUREMENTPERIOD), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_FLOWMEASUREMENTPERIOD), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -15117,7 +15138,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getAlternativeInstantaneousDemandAsync() {
-        return read(serverAttributes.get(ATTR_ALTERNATIVEINSTANTANEOUSDEMAND));
+        return read(getServerAttribute(ATTR_ALTERNATIVEINSTANTANEOUSDEMAND));
     }
 
     /**
@@ -15147,11 +15168,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getAlternativeInstantaneousDemand(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_ALTERNATIVEINSTANTANEOUSDEMAND).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_ALTERNATIVEINSTANTANEOUSDEMAND).getLastValue();
+        if (getServerAttribute(ATTR_ALTERNATIVEINSTANTANEOUSDEMAND).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_ALTERNATIVEINSTANTANEOUSDEMAND).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_ALTERNATIVEINSTANTANEOUSDEMAND));
+        return (Integer) readSync(getServerAttribute(ATTR_ALTERNATIVEINSTANTANEOUSDEMAND));
     }
 
     /**
@@ -15176,7 +15197,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setAlternativeInstantaneousDemandReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_ALTERNATIVEINSTANTANEOUSDEMAND), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_ALTERNATIVEINSTANTANEOUSDEMAND), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -15197,7 +15218,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCurrentDayAlternativeConsumptionDeliveredAsync() {
-        return read(serverAttributes.get(ATTR_CURRENTDAYALTERNATIVECONSUMPTIONDELIVERED));
+        return read(getServerAttribute(ATTR_CURRENTDAYALTERNATIVECONSUMPTIONDELIVERED));
     }
 
     /**
@@ -15226,11 +15247,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCurrentDayAlternativeConsumptionDelivered(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CURRENTDAYALTERNATIVECONSUMPTIONDELIVERED).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CURRENTDAYALTERNATIVECONSUMPTIONDELIVERED).getLastValue();
+        if (getServerAttribute(ATTR_CURRENTDAYALTERNATIVECONSUMPTIONDELIVERED).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CURRENTDAYALTERNATIVECONSUMPTIONDELIVERED).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CURRENTDAYALTERNATIVECONSUMPTIONDELIVERED));
+        return (Integer) readSync(getServerAttribute(ATTR_CURRENTDAYALTERNATIVECONSUMPTIONDELIVERED));
     }
 
     /**
@@ -15254,7 +15275,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setCurrentDayAlternativeConsumptionDeliveredReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_CURRENTDAYALTERNATIVECONSUMPTIONDELIVERED), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_CURRENTDAYALTERNATIVECONSUMPTIONDELIVERED), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -15275,7 +15296,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCurrentDayAlternativeConsumptionReceivedAsync() {
-        return read(serverAttributes.get(ATTR_CURRENTDAYALTERNATIVECONSUMPTIONRECEIVED));
+        return read(getServerAttribute(ATTR_CURRENTDAYALTERNATIVECONSUMPTIONRECEIVED));
     }
 
     /**
@@ -15304,11 +15325,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCurrentDayAlternativeConsumptionReceived(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CURRENTDAYALTERNATIVECONSUMPTIONRECEIVED).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CURRENTDAYALTERNATIVECONSUMPTIONRECEIVED).getLastValue();
+        if (getServerAttribute(ATTR_CURRENTDAYALTERNATIVECONSUMPTIONRECEIVED).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CURRENTDAYALTERNATIVECONSUMPTIONRECEIVED).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CURRENTDAYALTERNATIVECONSUMPTIONRECEIVED));
+        return (Integer) readSync(getServerAttribute(ATTR_CURRENTDAYALTERNATIVECONSUMPTIONRECEIVED));
     }
 
     /**
@@ -15332,7 +15353,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setCurrentDayAlternativeConsumptionReceivedReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_CURRENTDAYALTERNATIVECONSUMPTIONRECEIVED), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_CURRENTDAYALTERNATIVECONSUMPTIONRECEIVED), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -15353,7 +15374,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getPreviousDayAlternativeConsumptionDeliveredAsync() {
-        return read(serverAttributes.get(ATTR_PREVIOUSDAYALTERNATIVECONSUMPTIONDELIVERED));
+        return read(getServerAttribute(ATTR_PREVIOUSDAYALTERNATIVECONSUMPTIONDELIVERED));
     }
 
     /**
@@ -15382,11 +15403,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getPreviousDayAlternativeConsumptionDelivered(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PREVIOUSDAYALTERNATIVECONSUMPTIONDELIVERED).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_PREVIOUSDAYALTERNATIVECONSUMPTIONDELIVERED).getLastValue();
+        if (getServerAttribute(ATTR_PREVIOUSDAYALTERNATIVECONSUMPTIONDELIVERED).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_PREVIOUSDAYALTERNATIVECONSUMPTIONDELIVERED).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_PREVIOUSDAYALTERNATIVECONSUMPTIONDELIVERED));
+        return (Integer) readSync(getServerAttribute(ATTR_PREVIOUSDAYALTERNATIVECONSUMPTIONDELIVERED));
     }
 
     /**
@@ -15410,7 +15431,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setPreviousDayAlternativeConsumptionDeliveredReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_PREVIOUSDAYALTERNATIVECONSUMPTIONDELIVERED), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_PREVIOUSDAYALTERNATIVECONSUMPTIONDELIVERED), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -15431,7 +15452,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getPreviousDayAlternativeConsumptionReceivedAsync() {
-        return read(serverAttributes.get(ATTR_PREVIOUSDAYALTERNATIVECONSUMPTIONRECEIVED));
+        return read(getServerAttribute(ATTR_PREVIOUSDAYALTERNATIVECONSUMPTIONRECEIVED));
     }
 
     /**
@@ -15460,11 +15481,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getPreviousDayAlternativeConsumptionReceived(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PREVIOUSDAYALTERNATIVECONSUMPTIONRECEIVED).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_PREVIOUSDAYALTERNATIVECONSUMPTIONRECEIVED).getLastValue();
+        if (getServerAttribute(ATTR_PREVIOUSDAYALTERNATIVECONSUMPTIONRECEIVED).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_PREVIOUSDAYALTERNATIVECONSUMPTIONRECEIVED).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_PREVIOUSDAYALTERNATIVECONSUMPTIONRECEIVED));
+        return (Integer) readSync(getServerAttribute(ATTR_PREVIOUSDAYALTERNATIVECONSUMPTIONRECEIVED));
     }
 
     /**
@@ -15488,7 +15509,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setPreviousDayAlternativeConsumptionReceivedReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_PREVIOUSDAYALTERNATIVECONSUMPTIONRECEIVED), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_PREVIOUSDAYALTERNATIVECONSUMPTIONRECEIVED), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -15507,7 +15528,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCurrentAlternativePartialProfileIntervalStartTimeDeliveredAsync() {
-        return read(serverAttributes.get(ATTR_CURRENTALTERNATIVEPARTIALPROFILEINTERVALSTARTTIMEDELIVERED));
+        return read(getServerAttribute(ATTR_CURRENTALTERNATIVEPARTIALPROFILEINTERVALSTARTTIMEDELIVERED));
     }
 
     /**
@@ -15534,11 +15555,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Calendar getCurrentAlternativePartialProfileIntervalStartTimeDelivered(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CURRENTALTERNATIVEPARTIALPROFILEINTERVALSTARTTIMEDELIVERED).isLastValueCurrent(refreshPeriod)) {
-            return (Calendar) serverAttributes.get(ATTR_CURRENTALTERNATIVEPARTIALPROFILEINTERVALSTARTTIMEDELIVERED).getLastValue();
+        if (getServerAttribute(ATTR_CURRENTALTERNATIVEPARTIALPROFILEINTERVALSTARTTIMEDELIVERED).isLastValueCurrent(refreshPeriod)) {
+            return (Calendar) getServerAttribute(ATTR_CURRENTALTERNATIVEPARTIALPROFILEINTERVALSTARTTIMEDELIVERED).getLastValue();
         }
 
-        return (Calendar) readSync(serverAttributes.get(ATTR_CURRENTALTERNATIVEPARTIALPROFILEINTERVALSTARTTIMEDELIVERED));
+        return (Calendar) readSync(getServerAttribute(ATTR_CURRENTALTERNATIVEPARTIALPROFILEINTERVALSTARTTIMEDELIVERED));
     }
 
     /**
@@ -15560,7 +15581,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setCurrentAlternativePartialProfileIntervalStartTimeDeliveredReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_CURRENTALTERNATIVEPARTIALPROFILEINTERVALSTARTTIMEDELIVERED), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_CURRENTALTERNATIVEPARTIALPROFILEINTERVALSTARTTIMEDELIVERED), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -15579,7 +15600,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCurrentAlternativePartialProfileIntervalStartTimeReceivedAsync() {
-        return read(serverAttributes.get(ATTR_CURRENTALTERNATIVEPARTIALPROFILEINTERVALSTARTTIMERECEIVED));
+        return read(getServerAttribute(ATTR_CURRENTALTERNATIVEPARTIALPROFILEINTERVALSTARTTIMERECEIVED));
     }
 
     /**
@@ -15606,11 +15627,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Calendar getCurrentAlternativePartialProfileIntervalStartTimeReceived(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CURRENTALTERNATIVEPARTIALPROFILEINTERVALSTARTTIMERECEIVED).isLastValueCurrent(refreshPeriod)) {
-            return (Calendar) serverAttributes.get(ATTR_CURRENTALTERNATIVEPARTIALPROFILEINTERVALSTARTTIMERECEIVED).getLastValue();
+        if (getServerAttribute(ATTR_CURRENTALTERNATIVEPARTIALPROFILEINTERVALSTARTTIMERECEIVED).isLastValueCurrent(refreshPeriod)) {
+            return (Calendar) getServerAttribute(ATTR_CURRENTALTERNATIVEPARTIALPROFILEINTERVALSTARTTIMERECEIVED).getLastValue();
         }
 
-        return (Calendar) readSync(serverAttributes.get(ATTR_CURRENTALTERNATIVEPARTIALPROFILEINTERVALSTARTTIMERECEIVED));
+        return (Calendar) readSync(getServerAttribute(ATTR_CURRENTALTERNATIVEPARTIALPROFILEINTERVALSTARTTIMERECEIVED));
     }
 
     /**
@@ -15632,7 +15653,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setCurrentAlternativePartialProfileIntervalStartTimeReceivedReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_CURRENTALTERNATIVEPARTIALPROFILEINTERVALSTARTTIMERECEIVED), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_CURRENTALTERNATIVEPARTIALPROFILEINTERVALSTARTTIMERECEIVED), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -15650,7 +15671,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCurrentAlternativePartialProfileIntervalValueDeliveredAsync() {
-        return read(serverAttributes.get(ATTR_CURRENTALTERNATIVEPARTIALPROFILEINTERVALVALUEDELIVERED));
+        return read(getServerAttribute(ATTR_CURRENTALTERNATIVEPARTIALPROFILEINTERVALVALUEDELIVERED));
     }
 
     /**
@@ -15676,11 +15697,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCurrentAlternativePartialProfileIntervalValueDelivered(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CURRENTALTERNATIVEPARTIALPROFILEINTERVALVALUEDELIVERED).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CURRENTALTERNATIVEPARTIALPROFILEINTERVALVALUEDELIVERED).getLastValue();
+        if (getServerAttribute(ATTR_CURRENTALTERNATIVEPARTIALPROFILEINTERVALVALUEDELIVERED).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CURRENTALTERNATIVEPARTIALPROFILEINTERVALVALUEDELIVERED).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CURRENTALTERNATIVEPARTIALPROFILEINTERVALVALUEDELIVERED));
+        return (Integer) readSync(getServerAttribute(ATTR_CURRENTALTERNATIVEPARTIALPROFILEINTERVALVALUEDELIVERED));
     }
 
     /**
@@ -15701,7 +15722,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setCurrentAlternativePartialProfileIntervalValueDeliveredReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_CURRENTALTERNATIVEPARTIALPROFILEINTERVALVALUEDELIVERED), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_CURRENTALTERNATIVEPARTIALPROFILEINTERVALVALUEDELIVERED), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -15719,7 +15740,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCurrentAlternativePartialProfileIntervalValueReceivedAsync() {
-        return read(serverAttributes.get(ATTR_CURRENTALTERNATIVEPARTIALPROFILEINTERVALVALUERECEIVED));
+        return read(getServerAttribute(ATTR_CURRENTALTERNATIVEPARTIALPROFILEINTERVALVALUERECEIVED));
     }
 
     /**
@@ -15745,11 +15766,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCurrentAlternativePartialProfileIntervalValueReceived(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CURRENTALTERNATIVEPARTIALPROFILEINTERVALVALUERECEIVED).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CURRENTALTERNATIVEPARTIALPROFILEINTERVALVALUERECEIVED).getLastValue();
+        if (getServerAttribute(ATTR_CURRENTALTERNATIVEPARTIALPROFILEINTERVALVALUERECEIVED).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CURRENTALTERNATIVEPARTIALPROFILEINTERVALVALUERECEIVED).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CURRENTALTERNATIVEPARTIALPROFILEINTERVALVALUERECEIVED));
+        return (Integer) readSync(getServerAttribute(ATTR_CURRENTALTERNATIVEPARTIALPROFILEINTERVALVALUERECEIVED));
     }
 
     /**
@@ -15770,7 +15791,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setCurrentAlternativePartialProfileIntervalValueReceivedReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_CURRENTALTERNATIVEPARTIALPROFILEINTERVALVALUERECEIVED), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_CURRENTALTERNATIVEPARTIALPROFILEINTERVALVALUERECEIVED), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -15788,7 +15809,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCurrentDayAlternativeMaxPressureAsync() {
-        return read(serverAttributes.get(ATTR_CURRENTDAYALTERNATIVEMAXPRESSURE));
+        return read(getServerAttribute(ATTR_CURRENTDAYALTERNATIVEMAXPRESSURE));
     }
 
     /**
@@ -15814,11 +15835,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCurrentDayAlternativeMaxPressure(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CURRENTDAYALTERNATIVEMAXPRESSURE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CURRENTDAYALTERNATIVEMAXPRESSURE).getLastValue();
+        if (getServerAttribute(ATTR_CURRENTDAYALTERNATIVEMAXPRESSURE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CURRENTDAYALTERNATIVEMAXPRESSURE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CURRENTDAYALTERNATIVEMAXPRESSURE));
+        return (Integer) readSync(getServerAttribute(ATTR_CURRENTDAYALTERNATIVEMAXPRESSURE));
     }
 
     /**
@@ -15839,7 +15860,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setCurrentDayAlternativeMaxPressureReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_CURRENTDAYALTERNATIVEMAXPRESSURE), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_CURRENTDAYALTERNATIVEMAXPRESSURE), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -15857,7 +15878,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCurrentDayAlternativeMinPressureAsync() {
-        return read(serverAttributes.get(ATTR_CURRENTDAYALTERNATIVEMINPRESSURE));
+        return read(getServerAttribute(ATTR_CURRENTDAYALTERNATIVEMINPRESSURE));
     }
 
     /**
@@ -15883,11 +15904,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCurrentDayAlternativeMinPressure(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CURRENTDAYALTERNATIVEMINPRESSURE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CURRENTDAYALTERNATIVEMINPRESSURE).getLastValue();
+        if (getServerAttribute(ATTR_CURRENTDAYALTERNATIVEMINPRESSURE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CURRENTDAYALTERNATIVEMINPRESSURE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CURRENTDAYALTERNATIVEMINPRESSURE));
+        return (Integer) readSync(getServerAttribute(ATTR_CURRENTDAYALTERNATIVEMINPRESSURE));
     }
 
     /**
@@ -15908,7 +15929,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setCurrentDayAlternativeMinPressureReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_CURRENTDAYALTERNATIVEMINPRESSURE), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_CURRENTDAYALTERNATIVEMINPRESSURE), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -15926,7 +15947,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getPreviousDayAlternativeMaxPressureAsync() {
-        return read(serverAttributes.get(ATTR_PREVIOUSDAYALTERNATIVEMAXPRESSURE));
+        return read(getServerAttribute(ATTR_PREVIOUSDAYALTERNATIVEMAXPRESSURE));
     }
 
     /**
@@ -15952,11 +15973,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getPreviousDayAlternativeMaxPressure(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PREVIOUSDAYALTERNATIVEMAXPRESSURE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_PREVIOUSDAYALTERNATIVEMAXPRESSURE).getLastValue();
+        if (getServerAttribute(ATTR_PREVIOUSDAYALTERNATIVEMAXPRESSURE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_PREVIOUSDAYALTERNATIVEMAXPRESSURE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_PREVIOUSDAYALTERNATIVEMAXPRESSURE));
+        return (Integer) readSync(getServerAttribute(ATTR_PREVIOUSDAYALTERNATIVEMAXPRESSURE));
     }
 
     /**
@@ -15977,7 +15998,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setPreviousDayAlternativeMaxPressureReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_PREVIOUSDAYALTERNATIVEMAXPRESSURE), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_PREVIOUSDAYALTERNATIVEMAXPRESSURE), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -15995,7 +16016,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getPreviousDayAlternativeMinPressureAsync() {
-        return read(serverAttributes.get(ATTR_PREVIOUSDAYALTERNATIVEMINPRESSURE));
+        return read(getServerAttribute(ATTR_PREVIOUSDAYALTERNATIVEMINPRESSURE));
     }
 
     /**
@@ -16021,11 +16042,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getPreviousDayAlternativeMinPressure(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PREVIOUSDAYALTERNATIVEMINPRESSURE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_PREVIOUSDAYALTERNATIVEMINPRESSURE).getLastValue();
+        if (getServerAttribute(ATTR_PREVIOUSDAYALTERNATIVEMINPRESSURE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_PREVIOUSDAYALTERNATIVEMINPRESSURE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_PREVIOUSDAYALTERNATIVEMINPRESSURE));
+        return (Integer) readSync(getServerAttribute(ATTR_PREVIOUSDAYALTERNATIVEMINPRESSURE));
     }
 
     /**
@@ -16046,7 +16067,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setPreviousDayAlternativeMinPressureReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_PREVIOUSDAYALTERNATIVEMINPRESSURE), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_PREVIOUSDAYALTERNATIVEMINPRESSURE), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -16064,7 +16085,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCurrentDayAlternativeMaxDemandAsync() {
-        return read(serverAttributes.get(ATTR_CURRENTDAYALTERNATIVEMAXDEMAND));
+        return read(getServerAttribute(ATTR_CURRENTDAYALTERNATIVEMAXDEMAND));
     }
 
     /**
@@ -16090,11 +16111,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCurrentDayAlternativeMaxDemand(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CURRENTDAYALTERNATIVEMAXDEMAND).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CURRENTDAYALTERNATIVEMAXDEMAND).getLastValue();
+        if (getServerAttribute(ATTR_CURRENTDAYALTERNATIVEMAXDEMAND).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CURRENTDAYALTERNATIVEMAXDEMAND).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CURRENTDAYALTERNATIVEMAXDEMAND));
+        return (Integer) readSync(getServerAttribute(ATTR_CURRENTDAYALTERNATIVEMAXDEMAND));
     }
 
     /**
@@ -16115,7 +16136,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setCurrentDayAlternativeMaxDemandReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_CURRENTDAYALTERNATIVEMAXDEMAND), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_CURRENTDAYALTERNATIVEMAXDEMAND), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -16133,7 +16154,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getPreviousDayAlternativeMaxDemandAsync() {
-        return read(serverAttributes.get(ATTR_PREVIOUSDAYALTERNATIVEMAXDEMAND));
+        return read(getServerAttribute(ATTR_PREVIOUSDAYALTERNATIVEMAXDEMAND));
     }
 
     /**
@@ -16159,11 +16180,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getPreviousDayAlternativeMaxDemand(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PREVIOUSDAYALTERNATIVEMAXDEMAND).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_PREVIOUSDAYALTERNATIVEMAXDEMAND).getLastValue();
+        if (getServerAttribute(ATTR_PREVIOUSDAYALTERNATIVEMAXDEMAND).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_PREVIOUSDAYALTERNATIVEMAXDEMAND).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_PREVIOUSDAYALTERNATIVEMAXDEMAND));
+        return (Integer) readSync(getServerAttribute(ATTR_PREVIOUSDAYALTERNATIVEMAXDEMAND));
     }
 
     /**
@@ -16184,7 +16205,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setPreviousDayAlternativeMaxDemandReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_PREVIOUSDAYALTERNATIVEMAXDEMAND), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_PREVIOUSDAYALTERNATIVEMAXDEMAND), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -16202,7 +16223,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCurrentMonthAlternativeMaxDemandAsync() {
-        return read(serverAttributes.get(ATTR_CURRENTMONTHALTERNATIVEMAXDEMAND));
+        return read(getServerAttribute(ATTR_CURRENTMONTHALTERNATIVEMAXDEMAND));
     }
 
     /**
@@ -16228,11 +16249,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCurrentMonthAlternativeMaxDemand(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CURRENTMONTHALTERNATIVEMAXDEMAND).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CURRENTMONTHALTERNATIVEMAXDEMAND).getLastValue();
+        if (getServerAttribute(ATTR_CURRENTMONTHALTERNATIVEMAXDEMAND).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CURRENTMONTHALTERNATIVEMAXDEMAND).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CURRENTMONTHALTERNATIVEMAXDEMAND));
+        return (Integer) readSync(getServerAttribute(ATTR_CURRENTMONTHALTERNATIVEMAXDEMAND));
     }
 
     /**
@@ -16253,7 +16274,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setCurrentMonthAlternativeMaxDemandReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_CURRENTMONTHALTERNATIVEMAXDEMAND), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_CURRENTMONTHALTERNATIVEMAXDEMAND), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -16271,7 +16292,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCurrentYearAlternativeMaxDemandAsync() {
-        return read(serverAttributes.get(ATTR_CURRENTYEARALTERNATIVEMAXDEMAND));
+        return read(getServerAttribute(ATTR_CURRENTYEARALTERNATIVEMAXDEMAND));
     }
 
     /**
@@ -16297,11 +16318,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCurrentYearAlternativeMaxDemand(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CURRENTYEARALTERNATIVEMAXDEMAND).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CURRENTYEARALTERNATIVEMAXDEMAND).getLastValue();
+        if (getServerAttribute(ATTR_CURRENTYEARALTERNATIVEMAXDEMAND).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CURRENTYEARALTERNATIVEMAXDEMAND).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CURRENTYEARALTERNATIVEMAXDEMAND));
+        return (Integer) readSync(getServerAttribute(ATTR_CURRENTYEARALTERNATIVEMAXDEMAND));
     }
 
     /**
@@ -16322,7 +16343,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setCurrentYearAlternativeMaxDemandReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_CURRENTYEARALTERNATIVEMAXDEMAND), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_CURRENTYEARALTERNATIVEMAXDEMAND), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -16347,7 +16368,7 @@ public class ZclMeteringCluster extends ZclCluster {
             throw new IllegalArgumentException("arrayOffset out of bounds");
         }
 
-        return read(serverAttributes.get(ATTR_PREVIOUSDAY2ALTERNATIVECONSUMPTIONDELIVERED + arrayOffset));
+        return read(getServerAttribute(ATTR_PREVIOUSDAY2ALTERNATIVECONSUMPTIONDELIVERED + arrayOffset));
     }
 
     /**
@@ -16376,11 +16397,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getPreviousDayAlternativeConsumptionDelivered(final int arrayOffset, final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PREVIOUSDAY2ALTERNATIVECONSUMPTIONDELIVERED + arrayOffset).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_PREVIOUSDAY2ALTERNATIVECONSUMPTIONDELIVERED + arrayOffset).getLastValue();
+        if (getServerAttribute(ATTR_PREVIOUSDAY2ALTERNATIVECONSUMPTIONDELIVERED + arrayOffset).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_PREVIOUSDAY2ALTERNATIVECONSUMPTIONDELIVERED + arrayOffset).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_PREVIOUSDAY2ALTERNATIVECONSUMPTIONDELIVERED + arrayOffset));
+        return (Integer) readSync(getServerAttribute(ATTR_PREVIOUSDAY2ALTERNATIVECONSUMPTIONDELIVERED + arrayOffset));
     }
 
     /**
@@ -16404,7 +16425,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setPreviousDay2AlternativeConsumptionDeliveredReporting(final int arrayOffset, final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_PREVIOUSDAY2ALTERNATIVECONSUMPTIONDELIVERED + (arrayOffset - 1) * 2), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_PREVIOUSDAY2ALTERNATIVECONSUMPTIONDELIVERED + (arrayOffset - 1) * 2), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -16429,7 +16450,7 @@ public class ZclMeteringCluster extends ZclCluster {
             throw new IllegalArgumentException("arrayOffset out of bounds");
         }
 
-        return read(serverAttributes.get(ATTR_PREVIOUSDAY2ALTERNATIVECONSUMPTIONRECEIVED + arrayOffset));
+        return read(getServerAttribute(ATTR_PREVIOUSDAY2ALTERNATIVECONSUMPTIONRECEIVED + arrayOffset));
     }
 
     /**
@@ -16458,11 +16479,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getPreviousDayAlternativeConsumptionReceived(final int arrayOffset, final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PREVIOUSDAY2ALTERNATIVECONSUMPTIONRECEIVED + arrayOffset).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_PREVIOUSDAY2ALTERNATIVECONSUMPTIONRECEIVED + arrayOffset).getLastValue();
+        if (getServerAttribute(ATTR_PREVIOUSDAY2ALTERNATIVECONSUMPTIONRECEIVED + arrayOffset).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_PREVIOUSDAY2ALTERNATIVECONSUMPTIONRECEIVED + arrayOffset).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_PREVIOUSDAY2ALTERNATIVECONSUMPTIONRECEIVED + arrayOffset));
+        return (Integer) readSync(getServerAttribute(ATTR_PREVIOUSDAY2ALTERNATIVECONSUMPTIONRECEIVED + arrayOffset));
     }
 
     /**
@@ -16486,7 +16507,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setPreviousDay2AlternativeConsumptionReceivedReporting(final int arrayOffset, final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_PREVIOUSDAY2ALTERNATIVECONSUMPTIONRECEIVED + (arrayOffset - 1) * 2), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_PREVIOUSDAY2ALTERNATIVECONSUMPTIONRECEIVED + (arrayOffset - 1) * 2), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -16507,7 +16528,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCurrentWeekAlternativeConsumptionDeliveredAsync() {
-        return read(serverAttributes.get(ATTR_CURRENTWEEKALTERNATIVECONSUMPTIONDELIVERED));
+        return read(getServerAttribute(ATTR_CURRENTWEEKALTERNATIVECONSUMPTIONDELIVERED));
     }
 
     /**
@@ -16536,11 +16557,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCurrentWeekAlternativeConsumptionDelivered(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CURRENTWEEKALTERNATIVECONSUMPTIONDELIVERED).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CURRENTWEEKALTERNATIVECONSUMPTIONDELIVERED).getLastValue();
+        if (getServerAttribute(ATTR_CURRENTWEEKALTERNATIVECONSUMPTIONDELIVERED).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CURRENTWEEKALTERNATIVECONSUMPTIONDELIVERED).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CURRENTWEEKALTERNATIVECONSUMPTIONDELIVERED));
+        return (Integer) readSync(getServerAttribute(ATTR_CURRENTWEEKALTERNATIVECONSUMPTIONDELIVERED));
     }
 
     /**
@@ -16564,7 +16585,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setCurrentWeekAlternativeConsumptionDeliveredReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_CURRENTWEEKALTERNATIVECONSUMPTIONDELIVERED), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_CURRENTWEEKALTERNATIVECONSUMPTIONDELIVERED), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -16585,7 +16606,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCurrentWeekAlternativeConsumptionReceivedAsync() {
-        return read(serverAttributes.get(ATTR_CURRENTWEEKALTERNATIVECONSUMPTIONRECEIVED));
+        return read(getServerAttribute(ATTR_CURRENTWEEKALTERNATIVECONSUMPTIONRECEIVED));
     }
 
     /**
@@ -16614,11 +16635,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCurrentWeekAlternativeConsumptionReceived(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CURRENTWEEKALTERNATIVECONSUMPTIONRECEIVED).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CURRENTWEEKALTERNATIVECONSUMPTIONRECEIVED).getLastValue();
+        if (getServerAttribute(ATTR_CURRENTWEEKALTERNATIVECONSUMPTIONRECEIVED).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CURRENTWEEKALTERNATIVECONSUMPTIONRECEIVED).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CURRENTWEEKALTERNATIVECONSUMPTIONRECEIVED));
+        return (Integer) readSync(getServerAttribute(ATTR_CURRENTWEEKALTERNATIVECONSUMPTIONRECEIVED));
     }
 
     /**
@@ -16642,7 +16663,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setCurrentWeekAlternativeConsumptionReceivedReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_CURRENTWEEKALTERNATIVECONSUMPTIONRECEIVED), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_CURRENTWEEKALTERNATIVECONSUMPTIONRECEIVED), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -16667,7 +16688,7 @@ public class ZclMeteringCluster extends ZclCluster {
             throw new IllegalArgumentException("arrayOffset out of bounds");
         }
 
-        return read(serverAttributes.get(ATTR_PREVIOUSWEEK1ALTERNATIVECONSUMPTIONDELIVERED + arrayOffset));
+        return read(getServerAttribute(ATTR_PREVIOUSWEEK1ALTERNATIVECONSUMPTIONDELIVERED + arrayOffset));
     }
 
     /**
@@ -16696,11 +16717,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getPreviousWeekAlternativeConsumptionDelivered(final int arrayOffset, final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PREVIOUSWEEK1ALTERNATIVECONSUMPTIONDELIVERED + arrayOffset).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_PREVIOUSWEEK1ALTERNATIVECONSUMPTIONDELIVERED + arrayOffset).getLastValue();
+        if (getServerAttribute(ATTR_PREVIOUSWEEK1ALTERNATIVECONSUMPTIONDELIVERED + arrayOffset).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_PREVIOUSWEEK1ALTERNATIVECONSUMPTIONDELIVERED + arrayOffset).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_PREVIOUSWEEK1ALTERNATIVECONSUMPTIONDELIVERED + arrayOffset));
+        return (Integer) readSync(getServerAttribute(ATTR_PREVIOUSWEEK1ALTERNATIVECONSUMPTIONDELIVERED + arrayOffset));
     }
 
     /**
@@ -16724,7 +16745,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setPreviousWeek1AlternativeConsumptionDeliveredReporting(final int arrayOffset, final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_PREVIOUSWEEK1ALTERNATIVECONSUMPTIONDELIVERED + (arrayOffset - 1) * 2), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_PREVIOUSWEEK1ALTERNATIVECONSUMPTIONDELIVERED + (arrayOffset - 1) * 2), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -16749,7 +16770,7 @@ public class ZclMeteringCluster extends ZclCluster {
             throw new IllegalArgumentException("arrayOffset out of bounds");
         }
 
-        return read(serverAttributes.get(ATTR_PREVIOUSWEEK1ALTERNATIVECONSUMPTIONRECEIVED + arrayOffset));
+        return read(getServerAttribute(ATTR_PREVIOUSWEEK1ALTERNATIVECONSUMPTIONRECEIVED + arrayOffset));
     }
 
     /**
@@ -16778,11 +16799,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getPreviousWeekAlternativeConsumptionReceived(final int arrayOffset, final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PREVIOUSWEEK1ALTERNATIVECONSUMPTIONRECEIVED + arrayOffset).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_PREVIOUSWEEK1ALTERNATIVECONSUMPTIONRECEIVED + arrayOffset).getLastValue();
+        if (getServerAttribute(ATTR_PREVIOUSWEEK1ALTERNATIVECONSUMPTIONRECEIVED + arrayOffset).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_PREVIOUSWEEK1ALTERNATIVECONSUMPTIONRECEIVED + arrayOffset).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_PREVIOUSWEEK1ALTERNATIVECONSUMPTIONRECEIVED + arrayOffset));
+        return (Integer) readSync(getServerAttribute(ATTR_PREVIOUSWEEK1ALTERNATIVECONSUMPTIONRECEIVED + arrayOffset));
     }
 
     /**
@@ -16806,7 +16827,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setPreviousWeek1AlternativeConsumptionReceivedReporting(final int arrayOffset, final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_PREVIOUSWEEK1ALTERNATIVECONSUMPTIONRECEIVED + (arrayOffset - 1) * 2), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_PREVIOUSWEEK1ALTERNATIVECONSUMPTIONRECEIVED + (arrayOffset - 1) * 2), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -16828,7 +16849,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCurrentMonthAlternativeConsumptionDeliveredAsync() {
-        return read(serverAttributes.get(ATTR_CURRENTMONTHALTERNATIVECONSUMPTIONDELIVERED));
+        return read(getServerAttribute(ATTR_CURRENTMONTHALTERNATIVECONSUMPTIONDELIVERED));
     }
 
     /**
@@ -16858,11 +16879,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCurrentMonthAlternativeConsumptionDelivered(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CURRENTMONTHALTERNATIVECONSUMPTIONDELIVERED).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CURRENTMONTHALTERNATIVECONSUMPTIONDELIVERED).getLastValue();
+        if (getServerAttribute(ATTR_CURRENTMONTHALTERNATIVECONSUMPTIONDELIVERED).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CURRENTMONTHALTERNATIVECONSUMPTIONDELIVERED).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CURRENTMONTHALTERNATIVECONSUMPTIONDELIVERED));
+        return (Integer) readSync(getServerAttribute(ATTR_CURRENTMONTHALTERNATIVECONSUMPTIONDELIVERED));
     }
 
     /**
@@ -16887,7 +16908,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setCurrentMonthAlternativeConsumptionDeliveredReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_CURRENTMONTHALTERNATIVECONSUMPTIONDELIVERED), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_CURRENTMONTHALTERNATIVECONSUMPTIONDELIVERED), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -16909,7 +16930,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCurrentMonthAlternativeConsumptionReceivedAsync() {
-        return read(serverAttributes.get(ATTR_CURRENTMONTHALTERNATIVECONSUMPTIONRECEIVED));
+        return read(getServerAttribute(ATTR_CURRENTMONTHALTERNATIVECONSUMPTIONRECEIVED));
     }
 
     /**
@@ -16939,11 +16960,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCurrentMonthAlternativeConsumptionReceived(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CURRENTMONTHALTERNATIVECONSUMPTIONRECEIVED).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CURRENTMONTHALTERNATIVECONSUMPTIONRECEIVED).getLastValue();
+        if (getServerAttribute(ATTR_CURRENTMONTHALTERNATIVECONSUMPTIONRECEIVED).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CURRENTMONTHALTERNATIVECONSUMPTIONRECEIVED).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CURRENTMONTHALTERNATIVECONSUMPTIONRECEIVED));
+        return (Integer) readSync(getServerAttribute(ATTR_CURRENTMONTHALTERNATIVECONSUMPTIONRECEIVED));
     }
 
     /**
@@ -16968,7 +16989,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setCurrentMonthAlternativeConsumptionReceivedReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_CURRENTMONTHALTERNATIVECONSUMPTIONRECEIVED), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_CURRENTMONTHALTERNATIVECONSUMPTIONRECEIVED), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -16988,7 +17009,7 @@ public class ZclMeteringCluster extends ZclCluster {
             throw new IllegalArgumentException("arrayOffset out of bounds");
         }
 
-        return read(serverAttributes.get(ATTR_PREVIOUSMONTH1ALTERNATIVECONSUMPTIONDELIVERED + arrayOffset));
+        return read(getServerAttribute(ATTR_PREVIOUSMONTH1ALTERNATIVECONSUMPTIONDELIVERED + arrayOffset));
     }
 
     /**
@@ -17012,11 +17033,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getPreviousMonthAlternativeConsumptionDelivered(final int arrayOffset, final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PREVIOUSMONTH1ALTERNATIVECONSUMPTIONDELIVERED + arrayOffset).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_PREVIOUSMONTH1ALTERNATIVECONSUMPTIONDELIVERED + arrayOffset).getLastValue();
+        if (getServerAttribute(ATTR_PREVIOUSMONTH1ALTERNATIVECONSUMPTIONDELIVERED + arrayOffset).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_PREVIOUSMONTH1ALTERNATIVECONSUMPTIONDELIVERED + arrayOffset).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_PREVIOUSMONTH1ALTERNATIVECONSUMPTIONDELIVERED + arrayOffset));
+        return (Integer) readSync(getServerAttribute(ATTR_PREVIOUSMONTH1ALTERNATIVECONSUMPTIONDELIVERED + arrayOffset));
     }
 
     /**
@@ -17035,7 +17056,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setPreviousMonth1AlternativeConsumptionDeliveredReporting(final int arrayOffset, final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_PREVIOUSMONTH1ALTERNATIVECONSUMPTIONDELIVERED + (arrayOffset - 1) * 2), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_PREVIOUSMONTH1ALTERNATIVECONSUMPTIONDELIVERED + (arrayOffset - 1) * 2), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -17055,7 +17076,7 @@ public class ZclMeteringCluster extends ZclCluster {
             throw new IllegalArgumentException("arrayOffset out of bounds");
         }
 
-        return read(serverAttributes.get(ATTR_PREVIOUSMONTH1ALTERNATIVECONSUMPTIONRECEIVED + arrayOffset));
+        return read(getServerAttribute(ATTR_PREVIOUSMONTH1ALTERNATIVECONSUMPTIONRECEIVED + arrayOffset));
     }
 
     /**
@@ -17079,11 +17100,11 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getPreviousMonthAlternativeConsumptionReceived(final int arrayOffset, final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PREVIOUSMONTH1ALTERNATIVECONSUMPTIONRECEIVED + arrayOffset).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_PREVIOUSMONTH1ALTERNATIVECONSUMPTIONRECEIVED + arrayOffset).getLastValue();
+        if (getServerAttribute(ATTR_PREVIOUSMONTH1ALTERNATIVECONSUMPTIONRECEIVED + arrayOffset).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_PREVIOUSMONTH1ALTERNATIVECONSUMPTIONRECEIVED + arrayOffset).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_PREVIOUSMONTH1ALTERNATIVECONSUMPTIONRECEIVED + arrayOffset));
+        return (Integer) readSync(getServerAttribute(ATTR_PREVIOUSMONTH1ALTERNATIVECONSUMPTIONRECEIVED + arrayOffset));
     }
 
     /**
@@ -17102,7 +17123,7 @@ public class ZclMeteringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setPreviousMonth1AlternativeConsumptionReceivedReporting(final int arrayOffset, final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_PREVIOUSMONTH1ALTERNATIVECONSUMPTIONRECEIVED + (arrayOffset - 1) * 2), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_PREVIOUSMONTH1ALTERNATIVECONSUMPTIONRECEIVED + (arrayOffset - 1) * 2), minInterval, maxInterval, reportableChange);
     }
 
     /**
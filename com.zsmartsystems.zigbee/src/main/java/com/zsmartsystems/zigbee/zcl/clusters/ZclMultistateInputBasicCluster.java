@@ -7,8 +7,9 @@
  */
 package com.zsmartsystems.zigbee.zcl.clusters;
 
+import java.util.Collections;
 import java.util.Map;
-import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.TreeMap;
 import java.util.concurrent.Future;
 
 import javax.annotation.Generated;
@@ -16,6 +17,7 @@ import javax.annotation.Generated;
 import com.zsmartsystems.zigbee.CommandResult;
 import com.zsmartsystems.zigbee.ZigBeeEndpoint;
 import com.zsmartsystems.zigbee.zcl.ZclAttribute;
+import com.zsmartsystems.zigbee.zcl.ZclAttributeDefinition;
 import com.zsmartsystems.zigbee.zcl.ZclCluster;
 import com.zsmartsystems.zigbee.zcl.protocol.ZclDataType;
 
@@ -29,7 +31,7 @@ import com.zsmartsystems.zigbee.zcl.protocol.ZclDataType;
  * <p>
  * Code is auto-generated. Modifications may be overwritten!
  */
-@Generated(value = "com.zsmartsystems.zigbee.autocode.ZigBeeCodeGenerator", date = "2019-10-04T18:21:10Z")
+@Generated(value = "com.zsmartsystems.zigbee.autocode.ZigBeeCodeGenerator", date = "2026-10-18T14:31:35Z")
 public class ZclMultistateInputBasicCluster extends ZclCluster {
     /**
      * The ZigBee Cluster Library Cluster ID
@@ -146,27 +148,29 @@ public class ZclMultistateInputBasicCluster extends ZclCluster {
      */
     public static final int ATTR_APPLICATIONTYPE = 0x0100;
 
-    @Override
-    protected Map<Integer, ZclAttribute> initializeClientAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
+    /**
+     * The server attribute definitions. These are shared by all instances of this cluster.
+     */
+    private static final Map<Integer, ZclAttributeDefinition> SERVER_ATTRIBUTES = initializeServerAttributeDefinitions();
+
+    private static Map<Integer, ZclAttributeDefinition> initializeServerAttributeDefinitions() {
+        Map<Integer, ZclAttributeDefinition> attributeMap = new TreeMap<>();
+
+        attributeMap.put(ATTR_STATETEXT, new ZclAttributeDefinition(ATTR_STATETEXT, "State Text", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        attributeMap.put(ATTR_DESCRIPTION, new ZclAttributeDefinition(ATTR_DESCRIPTION, "Description", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        attributeMap.put(ATTR_NUMBEROFSTATES, new ZclAttributeDefinition(ATTR_NUMBEROFSTATES, "Number Of States", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, true, false));
+        attributeMap.put(ATTR_OUTOFSERVICE, new ZclAttributeDefinition(ATTR_OUTOFSERVICE, "Out Of Service", ZclDataType.BOOLEAN, true, true, true, false));
+        attributeMap.put(ATTR_PRESENTVALUE, new ZclAttributeDefinition(ATTR_PRESENTVALUE, "Present Value", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, true, false));
+        attributeMap.put(ATTR_RELIABILITY, new ZclAttributeDefinition(ATTR_RELIABILITY, "Reliability", ZclDataType.ENUMERATION_8_BIT, false, true, true, false));
+        attributeMap.put(ATTR_STATUSFLAGS, new ZclAttributeDefinition(ATTR_STATUSFLAGS, "Status Flags", ZclDataType.BITMAP_8_BIT, true, true, false, false));
+        attributeMap.put(ATTR_APPLICATIONTYPE, new ZclAttributeDefinition(ATTR_APPLICATIONTYPE, "Application Type", ZclDataType.SIGNED_32_BIT_INTEGER, false, true, false, false));
 
-        return attributeMap;
+        return Collections.unmodifiableMap(attributeMap);
     }
 
     @Override
-    protected Map<Integer, ZclAttribute> initializeServerAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
-
-        attributeMap.put(ATTR_STATETEXT, new ZclAttribute(this, ATTR_STATETEXT, "State Text", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_DESCRIPTION, new ZclAttribute(this, ATTR_DESCRIPTION, "Description", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_NUMBEROFSTATES, new ZclAttribute(this, ATTR_NUMBEROFSTATES, "Number Of States", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, true, false));
-        attributeMap.put(ATTR_OUTOFSERVICE, new ZclAttribute(this, ATTR_OUTOFSERVICE, "Out Of Service", ZclDataType.BOOLEAN, true, true, true, false));
-        attributeMap.put(ATTR_PRESENTVALUE, new ZclAttribute(this, ATTR_PRESENTVALUE, "Present Value", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, true, false));
-        attributeMap.put(ATTR_RELIABILITY, new ZclAttribute(this, ATTR_RELIABILITY, "Reliability", ZclDataType.ENUMERATION_8_BIT, false, true, true, false));
-        attributeMap.put(ATTR_STATUSFLAGS, new ZclAttribute(this, ATTR_STATUSFLAGS, "Status Flags", ZclDataType.BITMAP_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_APPLICATIONTYPE, new ZclAttribute(this, ATTR_APPLICATIONTYPE, "Application Type", ZclDataType.SIGNED_32_BIT_INTEGER, false, true, false, false));
-
-        return attributeMap;
+    protected Map<Integer, ZclAttributeDefinition> getServerAttributeDefinitions() {
+        return SERVER_ATTRIBUTES;
     }
 
     /**
@@ -199,7 +203,7 @@ public class ZclMultistateInputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setStateText(final String value) {
-        return write(serverAttributes.get(ATTR_STATETEXT), value);
+        return write(getServerAttribute(ATTR_STATETEXT), value);
     }
 
     /**
@@ -222,7 +226,7 @@ public class ZclMultistateInputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getStateTextAsync() {
-        return read(serverAttributes.get(ATTR_STATETEXT));
+        return read(getServerAttribute(ATTR_STATETEXT));
     }
 
     /**
@@ -253,11 +257,11 @@ public class ZclMultistateInputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public String getStateText(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_STATETEXT).isLastValueCurrent(refreshPeriod)) {
-            return (String) serverAttributes.get(ATTR_STATETEXT).getLastValue();
+        if (getServerAttribute(ATTR_STATETEXT).isLastValueCurrent(refreshPeriod)) {
+            return (String) getServerAttribute(ATTR_STATETEXT).getLastValue();
         }
 
-        return (String) readSync(serverAttributes.get(ATTR_STATETEXT));
+        return (String) readSync(getServerAttribute(ATTR_STATETEXT));
     }
 
     /**
@@ -278,7 +282,7 @@ public class ZclMultistateInputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setDescription(final String value) {
-        return write(serverAttributes.get(ATTR_DESCRIPTION), value);
+        return write(getServerAttribute(ATTR_DESCRIPTION), value);
     }
 
     /**
@@ -298,7 +302,7 @@ public class ZclMultistateInputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getDescriptionAsync() {
-        return read(serverAttributes.get(ATTR_DESCRIPTION));
+        return read(getServerAttribute(ATTR_DESCRIPTION));
     }
 
     /**
@@ -326,11 +330,11 @@ public class ZclMultistateInputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public String getDescription(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_DESCRIPTION).isLastValueCurrent(refreshPeriod)) {
-            return (String) serverAttributes.get(ATTR_DESCRIPTION).getLastValue();
+        if (getServerAttribute(ATTR_DESCRIPTION).isLastValueCurrent(refreshPeriod)) {
+            return (String) getServerAttribute(ATTR_DESCRIPTION).getLastValue();
         }
 
-        return (String) readSync(serverAttributes.get(ATTR_DESCRIPTION));
+        return (String) readSync(getServerAttribute(ATTR_DESCRIPTION));
     }
 
     /**
@@ -352,7 +356,7 @@ public class ZclMultistateInputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setNumberOfStates(final Integer value) {
-        return write(serverAttributes.get(ATTR_NUMBEROFSTATES), value);
+        return write(getServerAttribute(ATTR_NUMBEROFSTATES), value);
     }
 
     /**
@@ -373,7 +377,7 @@ public class ZclMultistateInputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getNumberOfStatesAsync() {
-        return read(serverAttributes.get(ATTR_NUMBEROFSTATES));
+        return read(getServerAttribute(ATTR_NUMBEROFSTATES));
     }
 
     /**
@@ -402,11 +406,11 @@ public class ZclMultistateInputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getNumberOfStates(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_NUMBEROFSTATES).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_NUMBEROFSTATES).getLastValue();
+        if (getServerAttribute(ATTR_NUMBEROFSTATES).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_NUMBEROFSTATES).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_NUMBEROFSTATES));
+        return (Integer) readSync(getServerAttribute(ATTR_NUMBEROFSTATES));
     }
 
     /**
@@ -430,7 +434,7 @@ public class ZclMultistateInputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setNumberOfStatesReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_NUMBEROFSTATES), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_NUMBEROFSTATES), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -455,7 +459,7 @@ public class ZclMultistateInputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setOutOfService(final Boolean value) {
-        return write(serverAttributes.get(ATTR_OUTOFSERVICE), value);
+        return write(getServerAttribute(ATTR_OUTOFSERVICE), value);
     }
 
     /**
@@ -479,7 +483,7 @@ public class ZclMultistateInputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getOutOfServiceAsync() {
-        return read(serverAttributes.get(ATTR_OUTOFSERVICE));
+        return read(getServerAttribute(ATTR_OUTOFSERVICE));
     }
 
     /**
@@ -511,11 +515,11 @@ public class ZclMultistateInputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Boolean getOutOfService(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_OUTOFSERVICE).isLastValueCurrent(refreshPeriod)) {
-            return (Boolean) serverAttributes.get(ATTR_OUTOFSERVICE).getLastValue();
+        if (getServerAttribute(ATTR_OUTOFSERVICE).isLastValueCurrent(refreshPeriod)) {
+            return (Boolean) getServerAttribute(ATTR_OUTOFSERVICE).getLastValue();
         }
 
-        return (Boolean) readSync(serverAttributes.get(ATTR_OUTOFSERVICE));
+        return (Boolean) readSync(getServerAttribute(ATTR_OUTOFSERVICE));
     }
 
     /**
@@ -541,7 +545,7 @@ public class ZclMultistateInputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setOutOfServiceReporting(final int minInterval, final int maxInterval) {
-        return setReporting(serverAttributes.get(ATTR_OUTOFSERVICE), minInterval, maxInterval);
+        return setReporting(getServerAttribute(ATTR_OUTOFSERVICE), minInterval, maxInterval);
     }
 
     /**
@@ -565,7 +569,7 @@ public class ZclMultistateInputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setPresentValue(final Integer value) {
-        return write(serverAttributes.get(ATTR_PRESENTVALUE), value);
+        return write(getServerAttribute(ATTR_PRESENTVALUE), value);
     }
 
     /**
@@ -588,7 +592,7 @@ public class ZclMultistateInputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getPresentValueAsync() {
-        return read(serverAttributes.get(ATTR_PRESENTVALUE));
+        return read(getServerAttribute(ATTR_PRESENTVALUE));
     }
 
     /**
@@ -619,11 +623,11 @@ public class ZclMultistateInputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getPresentValue(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PRESENTVALUE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_PRESENTVALUE).getLastValue();
+        if (getServerAttribute(ATTR_PRESENTVALUE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_PRESENTVALUE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_PRESENTVALUE));
+        return (Integer) readSync(getServerAttribute(ATTR_PRESENTVALUE));
     }
 
     /**
@@ -649,7 +653,7 @@ public class ZclMultistateInputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setPresentValueReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_PRESENTVALUE), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_PRESENTVALUE), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -674,7 +678,7 @@ public class ZclMultistateInputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setReliability(final Integer value) {
-        return write(serverAttributes.get(ATTR_RELIABILITY), value);
+        return write(getServerAttribute(ATTR_RELIABILITY), value);
     }
 
     /**
@@ -698,7 +702,7 @@ public class ZclMultistateInputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getReliabilityAsync() {
-        return read(serverAttributes.get(ATTR_RELIABILITY));
+        return read(getServerAttribute(ATTR_RELIABILITY));
     }
 
     /**
@@ -730,11 +734,11 @@ public class ZclMultistateInputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getReliability(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_RELIABILITY).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_RELIABILITY).getLastValue();
+        if (getServerAttribute(ATTR_RELIABILITY).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_RELIABILITY).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_RELIABILITY));
+        return (Integer) readSync(getServerAttribute(ATTR_RELIABILITY));
     }
 
     /**
@@ -778,7 +782,7 @@ public class ZclMultistateInputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getStatusFlagsAsync() {
-        return read(serverAttributes.get(ATTR_STATUSFLAGS));
+        return read(getServerAttribute(ATTR_STATUSFLAGS));
     }
 
     /**
@@ -830,11 +834,11 @@ public class ZclMultistateInputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getStatusFlags(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_STATUSFLAGS).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_STATUSFLAGS).getLastValue();
+        if (getServerAttribute(ATTR_STATUSFLAGS).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_STATUSFLAGS).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_STATUSFLAGS));
+        return (Integer) readSync(getServerAttribute(ATTR_STATUSFLAGS));
     }
 
     /**
@@ -880,7 +884,7 @@ public class ZclMultistateInputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setStatusFlagsReporting(final int minInterval, final int maxInterval) {
-        return setReporting(serverAttributes.get(ATTR_STATUSFLAGS), minInterval, maxInterval);
+        return setReporting(getServerAttribute(ATTR_STATUSFLAGS), minInterval, maxInterval);
     }
 
     /**
@@ -908,7 +912,7 @@ public class ZclMultistateInputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getApplicationTypeAsync() {
-        return read(serverAttributes.get(ATTR_APPLICATIONTYPE));
+        return read(getServerAttribute(ATTR_APPLICATIONTYPE));
     }
 
     /**
@@ -944,10 +948,10 @@ public class ZclMultistateInputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getApplicationType(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_APPLICATIONTYPE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_APPLICATIONTYPE).getLastValue();
+        if (getServerAttribute(ATTR_APPLICATIONTYPE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_APPLICATIONTYPE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_APPLICATIONTYPE));
+        return (Integer) readSync(getServerAttribute(ATTR_APPLICATIONTYPE));
     }
 }
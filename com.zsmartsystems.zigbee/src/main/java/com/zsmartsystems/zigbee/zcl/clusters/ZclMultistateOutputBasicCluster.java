@@ -7,8 +7,9 @@
  */
 package com.zsmartsystems.zigbee.zcl.clusters;
 
+import java.util.Collections;
 import java.util.Map;
-import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.TreeMap;
 import java.util.concurrent.Future;
 
 import javax.annotation.Generated;
@@ -16,6 +17,7 @@ import javax.annotation.Generated;
 import com.zsmartsystems.zigbee.CommandResult;
 import com.zsmartsystems.zigbee.ZigBeeEndpoint;
 import com.zsmartsystems.zigbee.zcl.ZclAttribute;
+import com.zsmartsystems.zigbee.zcl.ZclAttributeDefinition;
 import com.zsmartsystems.zigbee.zcl.ZclCluster;
 import com.zsmartsystems.zigbee.zcl.protocol.ZclDataType;
 
@@ -28,7 +30,7 @@ import com.zsmartsystems.zigbee.zcl.protocol.ZclDataType;
  * <p>
  * Code is auto-generated. Modifications may be overwritten!
  */
-@Generated(value = "com.zsmartsystems.zigbee.autocode.ZigBeeCodeGenerator", date = "2019-10-04T18:21:10Z")
+@Generated(value = "com.zsmartsystems.zigbee.autocode.ZigBeeCodeGenerator", date = "2026-10-18T14:31:35Z")
 public class ZclMultistateOutputBasicCluster extends ZclCluster {
     /**
      * The ZigBee Cluster Library Cluster ID
@@ -150,28 +152,30 @@ public class ZclMultistateOutputBasicCluster extends ZclCluster {
      */
     public static final int ATTR_APPLICATIONTYPE = 0x0100;
 
-    @Override
-    protected Map<Integer, ZclAttribute> initializeClientAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
+    /**
+     * The server attribute definitions. These are shared by all instances of this cluster.
+     */
+    private static final Map<Integer, ZclAttributeDefinition> SERVER_ATTRIBUTES = initializeServerAttributeDefinitions();
 
-        return attributeMap;
-    }
+    private static Map<Integer, ZclAttributeDefinition> initializeServerAttributeDefinitions() {
+        Map<Integer, ZclAttributeDefinition> attributeMap = new TreeMap<>();
 
-    @Override
-    protected Map<Integer, ZclAttribute> initializeServerAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
+        attributeMap.put(ATTR_STATETEXT, new ZclAttributeDefinition(ATTR_STATETEXT, "State Text", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        attributeMap.put(ATTR_DESCRIPTION, new ZclAttributeDefinition(ATTR_DESCRIPTION, "Description", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        attributeMap.put(ATTR_NUMBEROFSTATES, new ZclAttributeDefinition(ATTR_NUMBEROFSTATES, "Number Of States", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, true, false));
+        attributeMap.put(ATTR_OUTOFSERVICE, new ZclAttributeDefinition(ATTR_OUTOFSERVICE, "Out Of Service", ZclDataType.BOOLEAN, true, true, true, false));
+        attributeMap.put(ATTR_PRESENTVALUE, new ZclAttributeDefinition(ATTR_PRESENTVALUE, "Present Value", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, true, false));
+        attributeMap.put(ATTR_RELIABILITY, new ZclAttributeDefinition(ATTR_RELIABILITY, "Reliability", ZclDataType.ENUMERATION_8_BIT, false, true, true, false));
+        attributeMap.put(ATTR_RELINQUISHDEFAULT, new ZclAttributeDefinition(ATTR_RELINQUISHDEFAULT, "Relinquish Default", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, true, false));
+        attributeMap.put(ATTR_STATUSFLAGS, new ZclAttributeDefinition(ATTR_STATUSFLAGS, "Status Flags", ZclDataType.BITMAP_8_BIT, true, true, false, false));
+        attributeMap.put(ATTR_APPLICATIONTYPE, new ZclAttributeDefinition(ATTR_APPLICATIONTYPE, "Application Type", ZclDataType.SIGNED_32_BIT_INTEGER, false, true, false, false));
 
-        attributeMap.put(ATTR_STATETEXT, new ZclAttribute(this, ATTR_STATETEXT, "State Text", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_DESCRIPTION, new ZclAttribute(this, ATTR_DESCRIPTION, "Description", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_NUMBEROFSTATES, new ZclAttribute(this, ATTR_NUMBEROFSTATES, "Number Of States", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, true, false));
-        attributeMap.put(ATTR_OUTOFSERVICE, new ZclAttribute(this, ATTR_OUTOFSERVICE, "Out Of Service", ZclDataType.BOOLEAN, true, true, true, false));
-        attributeMap.put(ATTR_PRESENTVALUE, new ZclAttribute(this, ATTR_PRESENTVALUE, "Present Value", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, true, false));
-        attributeMap.put(ATTR_RELIABILITY, new ZclAttribute(this, ATTR_RELIABILITY, "Reliability", ZclDataType.ENUMERATION_8_BIT, false, true, true, false));
-        attributeMap.put(ATTR_RELINQUISHDEFAULT, new ZclAttribute(this, ATTR_RELINQUISHDEFAULT, "Relinquish Default", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, true, false));
-        attributeMap.put(ATTR_STATUSFLAGS, new ZclAttribute(this, ATTR_STATUSFLAGS, "Status Flags", ZclDataType.BITMAP_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_APPLICATIONTYPE, new ZclAttribute(this, ATTR_APPLICATIONTYPE, "Application Type", ZclDataType.SIGNED_32_BIT_INTEGER, false, true, false, false));
+        return Collections.unmodifiableMap(attributeMap);
+    }
 
-        return attributeMap;
+    @Override
+    protected Map<Integer, ZclAttributeDefinition> getServerAttributeDefinitions() {
+        return SERVER_ATTRIBUTES;
     }
 
     /**
@@ -204,7 +208,7 @@ public class ZclMultistateOutputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setStateText(final String value) {
-        return write(serverAttributes.get(ATTR_STATETEXT), value);
+        return write(getServerAttribute(ATTR_STATETEXT), value);
     }
 
     /**
@@ -227,7 +231,7 @@ public class ZclMultistateOutputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getStateTextAsync() {
-        return read(serverAttributes.get(ATTR_STATETEXT));
+        return read(getServerAttribute(ATTR_STATETEXT));
     }
 
     /**
@@ -258,11 +262,11 @@ public class ZclMultistateOutputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public String getStateText(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_STATETEXT).isLastValueCurrent(refreshPeriod)) {
-            return (String) serverAttributes.get(ATTR_STATETEXT).getLastValue();
+        if (getServerAttribute(ATTR_STATETEXT).isLastValueCurrent(refreshPeriod)) {
+            return (String) getServerAttribute(ATTR_STATETEXT).getLastValue();
         }
 
-        return (String) readSync(serverAttributes.get(ATTR_STATETEXT));
+        return (String) readSync(getServerAttribute(ATTR_STATETEXT));
     }
 
     /**
@@ -283,7 +287,7 @@ public class ZclMultistateOutputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setDescription(final String value) {
-        return write(serverAttributes.get(ATTR_DESCRIPTION), value);
+        return write(getServerAttribute(ATTR_DESCRIPTION), value);
     }
 
     /**
@@ -303,7 +307,7 @@ public class ZclMultistateOutputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getDescriptionAsync() {
-        return read(serverAttributes.get(ATTR_DESCRIPTION));
+        return read(getServerAttribute(ATTR_DESCRIPTION));
     }
 
     /**
@@ -331,11 +335,11 @@ public class ZclMultistateOutputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public String getDescription(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_DESCRIPTION).isLastValueCurrent(refreshPeriod)) {
-            return (String) serverAttributes.get(ATTR_DESCRIPTION).getLastValue();
+        if (getServerAttribute(ATTR_DESCRIPTION).isLastValueCurrent(refreshPeriod)) {
+            return (String) getServerAttribute(ATTR_DESCRIPTION).getLastValue();
         }
 
-        return (String) readSync(serverAttributes.get(ATTR_DESCRIPTION));
+        return (String) readSync(getServerAttribute(ATTR_DESCRIPTION));
     }
 
     /**
@@ -357,7 +361,7 @@ public class ZclMultistateOutputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setNumberOfStates(final Integer value) {
-        return write(serverAttributes.get(ATTR_NUMBEROFSTATES), value);
+        return write(getServerAttribute(ATTR_NUMBEROFSTATES), value);
     }
 
     /**
@@ -378,7 +382,7 @@ public class ZclMultistateOutputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getNumberOfStatesAsync() {
-        return read(serverAttributes.get(ATTR_NUMBEROFSTATES));
+        return read(getServerAttribute(ATTR_NUMBEROFSTATES));
     }
 
     /**
@@ -407,11 +411,11 @@ public class ZclMultistateOutputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getNumberOfStates(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_NUMBEROFSTATES).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_NUMBEROFSTATES).getLastValue();
+        if (getServerAttribute(ATTR_NUMBEROFSTATES).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_NUMBEROFSTATES).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_NUMBEROFSTATES));
+        return (Integer) readSync(getServerAttribute(ATTR_NUMBEROFSTATES));
     }
 
     /**
@@ -435,7 +439,7 @@ public class ZclMultistateOutputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setNumberOfStatesReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_NUMBEROFSTATES), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_NUMBEROFSTATES), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -460,7 +464,7 @@ public class ZclMultistateOutputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setOutOfService(final Boolean value) {
-        return write(serverAttributes.get(ATTR_OUTOFSERVICE), value);
+        return write(getServerAttribute(ATTR_OUTOFSERVICE), value);
     }
 
     /**
@@ -484,7 +488,7 @@ public class ZclMultistateOutputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getOutOfServiceAsync() {
-        return read(serverAttributes.get(ATTR_OUTOFSERVICE));
+        return read(getServerAttribute(ATTR_OUTOFSERVICE));
     }
 
     /**
@@ -516,11 +520,11 @@ public class ZclMultistateOutputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Boolean getOutOfService(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_OUTOFSERVICE).isLastValueCurrent(refreshPeriod)) {
-            return (Boolean) serverAttributes.get(ATTR_OUTOFSERVICE).getLastValue();
+        if (getServerAttribute(ATTR_OUTOFSERVICE).isLastValueCurrent(refreshPeriod)) {
+            return (Boolean) getServerAttribute(ATTR_OUTOFSERVICE).getLastValue();
         }
 
-        return (Boolean) readSync(serverAttributes.get(ATTR_OUTOFSERVICE));
+        return (Boolean) readSync(getServerAttribute(ATTR_OUTOFSERVICE));
     }
 
     /**
@@ -546,7 +550,7 @@ public class ZclMultistateOutputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setOutOfServiceReporting(final int minInterval, final int maxInterval) {
-        return setReporting(serverAttributes.get(ATTR_OUTOFSERVICE), minInterval, maxInterval);
+        return setReporting(getServerAttribute(ATTR_OUTOFSERVICE), minInterval, maxInterval);
     }
 
     /**
@@ -570,7 +574,7 @@ public class ZclMultistateOutputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setPresentValue(final Integer value) {
-        return write(serverAttributes.get(ATTR_PRESENTVALUE), value);
+        return write(getServerAttribute(ATTR_PRESENTVALUE), value);
     }
 
     /**
@@ -593,7 +597,7 @@ public class ZclMultistateOutputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getPresentValueAsync() {
-        return read(serverAttributes.get(ATTR_PRESENTVALUE));
+        return read(getServerAttribute(ATTR_PRESENTVALUE));
     }
 
     /**
@@ -624,11 +628,11 @@ public class ZclMultistateOutputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getPresentValue(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PRESENTVALUE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_PRESENTVALUE).getLastValue();
+        if (getServerAttribute(ATTR_PRESENTVALUE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_PRESENTVALUE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_PRESENTVALUE));
+        return (Integer) readSync(getServerAttribute(ATTR_PRESENTVALUE));
     }
 
     /**
@@ -654,7 +658,7 @@ public class ZclMultistateOutputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setPresentValueReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_PRESENTVALUE), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_PRESENTVALUE), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -679,7 +683,7 @@ public class ZclMultistateOutputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setReliability(final Integer value) {
-        return write(serverAttributes.get(ATTR_RELIABILITY), value);
+        return write(getServerAttribute(ATTR_RELIABILITY), value);
     }
 
     /**
@@ -703,7 +707,7 @@ public class ZclMultistateOutputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getReliabilityAsync() {
-        return read(serverAttributes.get(ATTR_RELIABILITY));
+        return read(getServerAttribute(ATTR_RELIABILITY));
     }
 
     /**
@@ -735,11 +739,11 @@ public class ZclMultistateOutputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getReliability(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_RELIABILITY).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_RELIABILITY).getLastValue();
+        if (getServerAttribute(ATTR_RELIABILITY).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_RELIABILITY).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_RELIABILITY));
+        return (Integer) readSync(getServerAttribute(ATTR_RELIABILITY));
     }
 
     /**
@@ -758,7 +762,7 @@ public class ZclMultistateOutputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setRelinquishDefault(final Integer value) {
-        return write(serverAttributes.get(ATTR_RELINQUISHDEFAULT), value);
+        return write(getServerAttribute(ATTR_RELINQUISHDEFAULT), value);
     }
 
     /**
@@ -776,7 +780,7 @@ public class ZclMultistateOutputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getRelinquishDefaultAsync() {
-        return read(serverAttributes.get(ATTR_RELINQUISHDEFAULT));
+        return read(getServerAttribute(ATTR_RELINQUISHDEFAULT));
     }
 
     /**
@@ -802,11 +806,11 @@ public class ZclMultistateOutputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getRelinquishDefault(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_RELINQUISHDEFAULT).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_RELINQUISHDEFAULT).getLastValue();
+        if (getServerAttribute(ATTR_RELINQUISHDEFAULT).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_RELINQUISHDEFAULT).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_RELINQUISHDEFAULT));
+        return (Integer) readSync(getServerAttribute(ATTR_RELINQUISHDEFAULT));
     }
 
     /**
@@ -850,7 +854,7 @@ public class ZclMultistateOutputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getStatusFlagsAsync() {
-        return read(serverAttributes.get(ATTR_STATUSFLAGS));
+        return read(getServerAttribute(ATTR_STATUSFLAGS));
     }
 
     /**
@@ -902,11 +906,11 @@ public class ZclMultistateOutputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getStatusFlags(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_STATUSFLAGS).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_STATUSFLAGS).getLastValue();
+        if (getServerAttribute(ATTR_STATUSFLAGS).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_STATUSFLAGS).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_STATUSFLAGS));
+        return (Integer) readSync(getServerAttribute(ATTR_STATUSFLAGS));
     }
 
     /**
@@ -952,7 +956,7 @@ public class ZclMultistateOutputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setStatusFlagsReporting(final int minInterval, final int maxInterval) {
-        return setReporting(serverAttributes.get(ATTR_STATUSFLAGS), minInterval, maxInterval);
+        return setReporting(getServerAttribute(ATTR_STATUSFLAGS), minInterval, maxInterval);
     }
 
     /**
@@ -980,7 +984,7 @@ public class ZclMultistateOutputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getApplicationTypeAsync() {
-        return read(serverAttributes.get(ATTR_APPLICATIONTYPE));
+        return read(getServerAttribute(ATTR_APPLICATIONTYPE));
     }
 
     /**
@@ -1016,10 +1020,10 @@ public class ZclMultistateOutputBasicCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getApplicationType(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_APPLICATIONTYPE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_APPLICATIONTYPE).getLastValue();
+        if (getServerAttribute(ATTR_APPLICATIONTYPE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_APPLICATIONTYPE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_APPLICATIONTYPE));
+        return (Integer) readSync(getServerAttribute(ATTR_APPLICATIONTYPE));
     }
 }
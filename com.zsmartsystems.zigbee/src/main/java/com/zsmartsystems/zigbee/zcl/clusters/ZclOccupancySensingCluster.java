@@ -7,8 +7,9 @@
  */
 package com.zsmartsystems.zigbee.zcl.clusters;
 
+import java.util.Collections;
 import java.util.Map;
-import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.TreeMap;
 import java.util.concurrent.Future;
 
 import javax.annotation.Generated;
@@ -16,6 +17,7 @@ import javax.annotation.Generated;
 import com.zsmartsystems.zigbee.CommandResult;
 import com.zsmartsystems.zigbee.ZigBeeEndpoint;
 import com.zsmartsystems.zigbee.zcl.ZclAttribute;
+import com.zsmartsystems.zigbee.zcl.ZclAttributeDefinition;
 import com.zsmartsystems.zigbee.zcl.ZclCluster;
 import com.zsmartsystems.zigbee.zcl.protocol.ZclDataType;
 
@@ -27,7 +29,7 @@ import com.zsmartsystems.zigbee.zcl.protocol.ZclDataType;
  * <p>
  * Code is auto-generated. Modifications may be overwritten!
  */
-@Generated(value = "com.zsmartsystems.zigbee.autocode.ZigBeeCodeGenerator", date = "2019-10-04T18:21:10Z")
+@Generated(value = "com.zsmartsystems.zigbee.autocode.ZigBeeCodeGenerator", date = "2026-10-18T14:31:35Z")
 public class ZclOccupancySensingCluster extends ZclCluster {
     /**
      * The ZigBee Cluster Library Cluster ID
@@ -96,27 +98,29 @@ public class ZclOccupancySensingCluster extends ZclCluster {
      */
     public static final int ATTR_ULTRASONICUNOCCUPIEDTOOCCUPIEDTHRESHOLD = 0x0022;
 
-    @Override
-    protected Map<Integer, ZclAttribute> initializeClientAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
+    /**
+     * The server attribute definitions. These are shared by all instances of this cluster.
+     */
+    private static final Map<Integer, ZclAttributeDefinition> SERVER_ATTRIBUTES = initializeServerAttributeDefinitions();
+
+    private static Map<Integer, ZclAttributeDefinition> initializeServerAttributeDefinitions() {
+        Map<Integer, ZclAttributeDefinition> attributeMap = new TreeMap<>();
+
+        attributeMap.put(ATTR_OCCUPANCY, new ZclAttributeDefinition(ATTR_OCCUPANCY, "Occupancy", ZclDataType.BITMAP_8_BIT, true, true, false, true));
+        attributeMap.put(ATTR_OCCUPANCYSENSORTYPE, new ZclAttributeDefinition(ATTR_OCCUPANCYSENSORTYPE, "Occupancy Sensor Type", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
+        attributeMap.put(ATTR_PIROCCUPIEDTOUNOCCUPIEDDELAY, new ZclAttributeDefinition(ATTR_PIROCCUPIEDTOUNOCCUPIEDDELAY, "PIR Occupied To Unoccupied Delay", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, false));
+        attributeMap.put(ATTR_PIRUNOCCUPIEDTOOCCUPIEDDELAY, new ZclAttributeDefinition(ATTR_PIRUNOCCUPIEDTOOCCUPIEDDELAY, "PIR Unoccupied To Occupied Delay", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, false));
+        attributeMap.put(ATTR_PIRUNOCCUPIEDTOOCCUPIEDTHRESHOLD, new ZclAttributeDefinition(ATTR_PIRUNOCCUPIEDTOOCCUPIEDTHRESHOLD, "PIR Unoccupied To Occupied Threshold", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, true));
+        attributeMap.put(ATTR_ULTRASONICOCCUPIEDTOUNOCCUPIEDDELAY, new ZclAttributeDefinition(ATTR_ULTRASONICOCCUPIEDTOUNOCCUPIEDDELAY, "Ultra Sonic Occupied To Unoccupied Delay", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, false));
+        attributeMap.put(ATTR_ULTRASONICUNOCCUPIEDTOOCCUPIEDDELAY, new ZclAttributeDefinition(ATTR_ULTRASONICUNOCCUPIEDTOOCCUPIEDDELAY, "Ultra Sonic Unoccupied To Occupied Delay", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, false));
+        attributeMap.put(ATTR_ULTRASONICUNOCCUPIEDTOOCCUPIEDTHRESHOLD, new ZclAttributeDefinition(ATTR_ULTRASONICUNOCCUPIEDTOOCCUPIEDTHRESHOLD, "Ultrasonic Unoccupied To Occupied Threshold", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, false));
 
-        return attributeMap;
+        return Collections.unmodifiableMap(attributeMap);
     }
 
     @Override
-    protected Map<Integer, ZclAttribute> initializeServerAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
-
-        attributeMap.put(ATTR_OCCUPANCY, new ZclAttribute(this, ATTR_OCCUPANCY, "Occupancy", ZclDataType.BITMAP_8_BIT, true, true, false, true));
-        attributeMap.put(ATTR_OCCUPANCYSENSORTYPE, new ZclAttribute(this, ATTR_OCCUPANCYSENSORTYPE, "Occupancy Sensor Type", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_PIROCCUPIEDTOUNOCCUPIEDDELAY, new ZclAttribute(this, ATTR_PIROCCUPIEDTOUNOCCUPIEDDELAY, "PIR Occupied To Unoccupied Delay", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, false));
-        attributeMap.put(ATTR_PIRUNOCCUPIEDTOOCCUPIEDDELAY, new ZclAttribute(this, ATTR_PIRUNOCCUPIEDTOOCCUPIEDDELAY, "PIR Unoccupied To Occupied Delay", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, false));
-        attributeMap.put(ATTR_PIRUNOCCUPIEDTOOCCUPIEDTHRESHOLD, new ZclAttribute(this, ATTR_PIRUNOCCUPIEDTOOCCUPIEDTHRESHOLD, "PIR Unoccupied To Occupied Threshold", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, true));
-        attributeMap.put(ATTR_ULTRASONICOCCUPIEDTOUNOCCUPIEDDELAY, new ZclAttribute(this, ATTR_ULTRASONICOCCUPIEDTOUNOCCUPIEDDELAY, "Ultra Sonic Occupied To Unoccupied Delay", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, false));
-        attributeMap.put(ATTR_ULTRASONICUNOCCUPIEDTOOCCUPIEDDELAY, new ZclAttribute(this, ATTR_ULTRASONICUNOCCUPIEDTOOCCUPIEDDELAY, "Ultra Sonic Unoccupied To Occupied Delay", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, false));
-        attributeMap.put(ATTR_ULTRASONICUNOCCUPIEDTOOCCUPIEDTHRESHOLD, new ZclAttribute(this, ATTR_ULTRASONICUNOCCUPIEDTOOCCUPIEDTHRESHOLD, "Ultrasonic Unoccupied To Occupied Threshold", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, false));
-
-        return attributeMap;
+    protected Map<Integer, ZclAttributeDefinition> getServerAttributeDefinitions() {
+        return SERVER_ATTRIBUTES;
     }
 
     /**
@@ -145,7 +149,7 @@ public class ZclOccupancySensingCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getOccupancyAsync() {
-        return read(serverAttributes.get(ATTR_OCCUPANCY));
+        return read(getServerAttribute(ATTR_OCCUPANCY));
     }
 
     /**
@@ -173,11 +177,11 @@ public class ZclOccupancySensingCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getOccupancy(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_OCCUPANCY).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_OCCUPANCY).getLastValue();
+        if (getServerAttribute(ATTR_OCCUPANCY).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_OCCUPANCY).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_OCCUPANCY));
+        return (Integer) readSync(getServerAttribute(ATTR_OCCUPANCY));
     }
 
     /**
@@ -199,7 +203,7 @@ public class ZclOccupancySensingCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setOccupancyReporting(final int minInterval, final int maxInterval) {
-        return setReporting(serverAttributes.get(ATTR_OCCUPANCY), minInterval, maxInterval);
+        return setReporting(getServerAttribute(ATTR_OCCUPANCY), minInterval, maxInterval);
     }
 
     /**
@@ -216,7 +220,7 @@ public class ZclOccupancySensingCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getOccupancySensorTypeAsync() {
-        return read(serverAttributes.get(ATTR_OCCUPANCYSENSORTYPE));
+        return read(getServerAttribute(ATTR_OCCUPANCYSENSORTYPE));
     }
 
     /**
@@ -241,11 +245,11 @@ public class ZclOccupancySensingCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getOccupancySensorType(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_OCCUPANCYSENSORTYPE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_OCCUPANCYSENSORTYPE).getLastValue();
+        if (getServerAttribute(ATTR_OCCUPANCYSENSORTYPE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_OCCUPANCYSENSORTYPE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_OCCUPANCYSENSORTYPE));
+        return (Integer) readSync(getServerAttribute(ATTR_OCCUPANCYSENSORTYPE));
     }
 
     /**
@@ -264,7 +268,7 @@ public class ZclOccupancySensingCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setOccupancySensorTypeReporting(final int minInterval, final int maxInterval) {
-        return setReporting(serverAttributes.get(ATTR_OCCUPANCYSENSORTYPE), minInterval, maxInterval);
+        return setReporting(getServerAttribute(ATTR_OCCUPANCYSENSORTYPE), minInterval, maxInterval);
     }
 
     /**
@@ -286,7 +290,7 @@ public class ZclOccupancySensingCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setPirOccupiedToUnoccupiedDelay(final Integer value) {
-        return write(serverAttributes.get(ATTR_PIROCCUPIEDTOUNOCCUPIEDDELAY), value);
+        return write(getServerAttribute(ATTR_PIROCCUPIEDTOUNOCCUPIEDDELAY), value);
     }
 
     /**
@@ -307,7 +311,7 @@ public class ZclOccupancySensingCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getPirOccupiedToUnoccupiedDelayAsync() {
-        return read(serverAttributes.get(ATTR_PIROCCUPIEDTOUNOCCUPIEDDELAY));
+        return read(getServerAttribute(ATTR_PIROCCUPIEDTOUNOCCUPIEDDELAY));
     }
 
     /**
@@ -336,11 +340,11 @@ public class ZclOccupancySensingCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getPirOccupiedToUnoccupiedDelay(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PIROCCUPIEDTOUNOCCUPIEDDELAY).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_PIROCCUPIEDTOUNOCCUPIEDDELAY).getLastValue();
+        if (getServerAttribute(ATTR_PIROCCUPIEDTOUNOCCUPIEDDELAY).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_PIROCCUPIEDTOUNOCCUPIEDDELAY).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_PIROCCUPIEDTOUNOCCUPIEDDELAY));
+        return (Integer) readSync(getServerAttribute(ATTR_PIROCCUPIEDTOUNOCCUPIEDDELAY));
     }
 
     /**
@@ -360,7 +364,7 @@ public class ZclOccupancySensingCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setPirUnoccupiedToOccupiedDelay(final Integer value) {
-        return write(serverAttributes.get(ATTR_PIRUNOCCUPIEDTOOCCUPIEDDELAY), value);
+        return write(getServerAttribute(ATTR_PIRUNOCCUPIEDTOOCCUPIEDDELAY), value);
     }
 
     /**
@@ -379,7 +383,7 @@ public class ZclOccupancySensingCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getPirUnoccupiedToOccupiedDelayAsync() {
-        return read(serverAttributes.get(ATTR_PIRUNOCCUPIEDTOOCCUPIEDDELAY));
+        return read(getServerAttribute(ATTR_PIRUNOCCUPIEDTOOCCUPIEDDELAY));
     }
 
     /**
@@ -406,11 +410,11 @@ public class ZclOccupancySensingCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getPirUnoccupiedToOccupiedDelay(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PIRUNOCCUPIEDTOOCCUPIEDDELAY).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_PIRUNOCCUPIEDTOOCCUPIEDDELAY).getLastValue();
+        if (getServerAttribute(ATTR_PIRUNOCCUPIEDTOOCCUPIEDDELAY).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_PIRUNOCCUPIEDTOOCCUPIEDDELAY).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_PIRUNOCCUPIEDTOOCCUPIEDDELAY));
+        return (Integer) readSync(getServerAttribute(ATTR_PIRUNOCCUPIEDTOOCCUPIEDDELAY));
     }
 
     /**
@@ -432,7 +436,7 @@ public class ZclOccupancySensingCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setPirUnoccupiedToOccupiedThreshold(final Integer value) {
-        return write(serverAttributes.get(ATTR_PIRUNOCCUPIEDTOOCCUPIEDTHRESHOLD), value);
+        return write(getServerAttribute(ATTR_PIRUNOCCUPIEDTOOCCUPIEDTHRESHOLD), value);
     }
 
     /**
@@ -453,7 +457,7 @@ public class ZclOccupancySensingCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getPirUnoccupiedToOccupiedThresholdAsync() {
-        return read(serverAttributes.get(ATTR_PIRUNOCCUPIEDTOOCCUPIEDTHRESHOLD));
+        return read(getServerAttribute(ATTR_PIRUNOCCUPIEDTOOCCUPIEDTHRESHOLD));
     }
 
     /**
@@ -482,11 +486,11 @@ public class ZclOccupancySensingCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getPirUnoccupiedToOccupiedThreshold(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PIRUNOCCUPIEDTOOCCUPIEDTHRESHOLD).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_PIRUNOCCUPIEDTOOCCUPIEDTHRESHOLD).getLastValue();
+        if (getServerAttribute(ATTR_PIRUNOCCUPIEDTOOCCUPIEDTHRESHOLD).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_PIRUNOCCUPIEDTOOCCUPIEDTHRESHOLD).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_PIRUNOCCUPIEDTOOCCUPIEDTHRESHOLD));
+        return (Integer) readSync(getServerAttribute(ATTR_PIRUNOCCUPIEDTOOCCUPIEDTHRESHOLD));
     }
 
     /**
@@ -508,7 +512,7 @@ public class ZclOccupancySensingCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setUltraSonicOccupiedToUnoccupiedDelay(final Integer value) {
-        return write(serverAttributes.get(ATTR_ULTRASONICOCCUPIEDTOUNOCCUPIEDDELAY), value);
+        return write(getServerAttribute(ATTR_ULTRASONICOCCUPIEDTOUNOCCUPIEDDELAY), value);
     }
 
     /**
@@ -529,7 +533,7 @@ public class ZclOccupancySensingCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getUltraSonicOccupiedToUnoccupiedDelayAsync() {
-        return read(serverAttributes.get(ATTR_ULTRASONICOCCUPIEDTOUNOCCUPIEDDELAY));
+        return read(getServerAttribute(ATTR_ULTRASONICOCCUPIEDTOUNOCCUPIEDDELAY));
     }
 
     /**
@@ -558,11 +562,11 @@ public class ZclOccupancySensingCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getUltraSonicOccupiedToUnoccupiedDelay(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_ULTRASONICOCCUPIEDTOUNOCCUPIEDDELAY).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_ULTRASONICOCCUPIEDTOUNOCCUPIEDDELAY).getLastValue();
+        if (getServerAttribute(ATTR_ULTRASONICOCCUPIEDTOUNOCCUPIEDDELAY).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_ULTRASONICOCCUPIEDTOUNOCCUPIEDDELAY).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_ULTRASONICOCCUPIEDTOUNOCCUPIEDDELAY));
+        return (Integer) readSync(getServerAttribute(ATTR_ULTRASONICOCCUPIEDTOUNOCCUPIEDDELAY));
     }
 
     /**
@@ -582,7 +586,7 @@ public class ZclOccupancySensingCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setUltraSonicUnoccupiedToOccupiedDelay(final Integer value) {
-        return write(serverAttributes.get(ATTR_ULTRASONICUNOCCUPIEDTOOCCUPIEDDELAY), value);
+        return write(getServerAttribute(ATTR_ULTRASONICUNOCCUPIEDTOOCCUPIEDDELAY), value);
     }
 
     /**
@@ -601,7 +605,7 @@ public class ZclOccupancySensingCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getUltraSonicUnoccupiedToOccupiedDelayAsync() {
-        return read(serverAttributes.get(ATTR_ULTRASONICUNOCCUPIEDTOOCCUPIEDDELAY));
+        return read(getServerAttribute(ATTR_ULTRASONICUNOCCUPIEDTOOCCUPIEDDELAY));
     }
 
     /**
@@ -628,11 +632,11 @@ public class ZclOccupancySensingCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getUltraSonicUnoccupiedToOccupiedDelay(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_ULTRASONICUNOCCUPIEDTOOCCUPIEDDELAY).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_ULTRASONICUNOCCUPIEDTOOCCUPIEDDELAY).getLastValue();
+        if (getServerAttribute(ATTR_ULTRASONICUNOCCUPIEDTOOCCUPIEDDELAY).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_ULTRASONICUNOCCUPIEDTOOCCUPIEDDELAY).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_ULTRASONICUNOCCUPIEDTOOCCUPIEDDELAY));
+        return (Integer) readSync(getServerAttribute(ATTR_ULTRASONICUNOCCUPIEDTOOCCUPIEDDELAY));
     }
 
     /**
@@ -654,7 +658,7 @@ public class ZclOccupancySensingCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setUltrasonicUnoccupiedToOccupiedThreshold(final Integer value) {
-        return write(serverAttributes.get(ATTR_ULTRASONICUNOCCUPIEDTOOCCUPIEDTHRESHOLD), value);
+        return write(getServerAttribute(ATTR_ULTRASONICUNOCCUPIEDTOOCCUPIEDTHRESHOLD), value);
     }
 
     /**
@@ -675,7 +679,7 @@ public class ZclOccupancySensingCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getUltrasonicUnoccupiedToOccupiedThresholdAsync() {
-        return read(serverAttributes.get(ATTR_ULTRASONICUNOCCUPIEDTOOCCUPIEDTHRESHOLD));
+        return read(getServerAttribute(ATTR_ULTRASONICUNOCCUPIEDTOOCCUPIEDTHRESHOLD));
     }
 
     /**
@@ -704,10 +708,10 @@ public class ZclOccupancySensingCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getUltrasonicUnoccupiedToOccupiedThreshold(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_ULTRASONICUNOCCUPIEDTOOCCUPIEDTHRESHOLD).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_ULTRASONICUNOCCUPIEDTOOCCUPIEDTHRESHOLD).getLastValue();
+        if (getServerAttribute(ATTR_ULTRASONICUNOCCUPIEDTOOCCUPIEDTHRESHOLD).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_ULTRASONICUNOCCUPIEDTOOCCUPIEDTHRESHOLD).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_ULTRASONICUNOCCUPIEDTOOCCUPIEDTHRESHOLD));
+        return (Integer) readSync(getServerAttribute(ATTR_ULTRASONICUNOCCUPIEDTOOCCUPIEDTHRESHOLD));
     }
 }
@@ -7,7 +7,9 @@
  */
 package com.zsmartsystems.zigbee.zcl.clusters;
 
+import java.util.Collections;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.Future;
 
@@ -16,6 +18,7 @@ import javax.annotation.Generated;
 import com.zsmartsystems.zigbee.CommandResult;
 import com.zsmartsystems.zigbee.ZigBeeEndpoint;
 import com.zsmartsystems.zigbee.zcl.ZclAttribute;
+import com.zsmartsystems.zigbee.zcl.ZclAttributeDefinition;
 import com.zsmartsystems.zigbee.zcl.ZclCluster;
 import com.zsmartsystems.zigbee.zcl.ZclCommand;
 import com.zsmartsystems.zigbee.zcl.clusters.onoff.OffCommand;
@@ -33,7 +36,7 @@ import com.zsmartsystems.zigbee.zcl.protocol.ZclDataType;
  * <p>
  * Code is auto-generated. Modifications may be overwritten!
  */
-@Generated(value = "com.zsmartsystems.zigbee.autocode.ZigBeeCodeGenerator", date = "2019-10-04T18:21:10Z")
+@Generated(value = "com.zsmartsystems.zigbee.autocode.ZigBeeCodeGenerator", date = "2026-10-18T14:31:35Z")
 public class ZclOnOffCluster extends ZclCluster {
     /**
      * The ZigBee Cluster Library Cluster ID
@@ -86,29 +89,31 @@ public class ZclOnOffCluster extends ZclCluster {
     public static final int ATTR_OFFWAITTIME = 0x4002;
     public static final int ATTR_STARTUPONOFF = 0x4003;
 
-    @Override
-    protected Map<Integer, ZclAttribute> initializeClientAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
+    /**
+     * The server attribute definitions. These are shared by all instances of this cluster.
+     */
+    private static final Map<Integer, ZclAttributeDefinition> SERVER_ATTRIBUTES = initializeServerAttributeDefinitions();
 
-        return attributeMap;
-    }
-
-    @Override
-    protected Map<Integer, ZclAttribute> initializeServerAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
+    private static Map<Integer, ZclAttributeDefinition> initializeServerAttributeDefinitions() {
+        Map<Integer, ZclAttributeDefinition> attributeMap = new TreeMap<>();
 
         attributeMap.put(ATTR_ONOFF,
-                new ZclAttribute(this, ATTR_ONOFF, "On Off", ZclDataType.BOOLEAN, true, true, false, true));
-        attributeMap.put(ATTR_GLOBALSCENECONTROL, new ZclAttribute(this, ATTR_GLOBALSCENECONTROL,
+                new ZclAttributeDefinition(ATTR_ONOFF, "On Off", ZclDataType.BOOLEAN, true, true, false, true));
+        attributeMap.put(ATTR_GLOBALSCENECONTROL, new ZclAttributeDefinition(ATTR_GLOBALSCENECONTROL,
                 "Global Scene Control", ZclDataType.BOOLEAN, true, true, false, false));
-        attributeMap.put(ATTR_ONTIME, new ZclAttribute(this, ATTR_ONTIME, "On Time",
+        attributeMap.put(ATTR_ONTIME, new ZclAttributeDefinition(ATTR_ONTIME, "On Time",
                 ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, true, false));
-        attributeMap.put(ATTR_OFFWAITTIME, new ZclAttribute(this, ATTR_OFFWAITTIME, "Off Wait Time",
+        attributeMap.put(ATTR_OFFWAITTIME, new ZclAttributeDefinition(ATTR_OFFWAITTIME, "Off Wait Time",
                 ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, true, false));
-        attributeMap.put(ATTR_STARTUPONOFF, new ZclAttribute(this, ATTR_STARTUPONOFF, "Start Up On Off",
+        attributeMap.put(ATTR_STARTUPONOFF, new ZclAttributeDefinition(ATTR_STARTUPONOFF, "Start Up On Off",
                 ZclDataType.ENUMERATION_8_BIT, false, true, true, false));
 
-        return attributeMap;
+        return Collections.unmodifiableMap(attributeMap);
+    }
+
+    @Override
+    protected Map<Integer, ZclAttributeDefinition> getServerAttributeDefinitions() {
+        return SERVER_ATTRIBUTES;
     }
 
     @Override
@@ -148,7 +153,7 @@ public class ZclOnOffCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getOnOffAsync() {
-        return read(serverAttributes.get(ATTR_ONOFF));
+        return read(getServerAttribute(ATTR_ONOFF));
     }
 
     /**
@@ -173,11 +178,11 @@ public class ZclOnOffCluster extends ZclCluster {
      */
     @Deprecated
     public Boolean getOnOff(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_ONOFF).isLastValueCurrent(refreshPeriod)) {
-            return (Boolean) serverAttributes.get(ATTR_ONOFF).getLastValue();
+        if (getServerAttribute(ATTR_ONOFF).isLastValueCurrent(refreshPeriod)) {
+            return (Boolean) getServerAttribute(ATTR_ONOFF).getLastValue();
         }
 
-        return (Boolean) readSync(serverAttributes.get(ATTR_ONOFF));
+        return (Boolean) readSync(getServerAttribute(ATTR_ONOFF));
     }
 
     /**
@@ -197,7 +202,7 @@ public class ZclOnOffCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setOnOffReporting(final int minInterval, final int maxInterval) {
-        return setReporting(serverAttributes.get(ATTR_ONOFF), minInterval, maxInterval);
+        return setReporting(getServerAttribute(ATTR_ONOFF), minInterval, maxInterval);
     }
 
     /**
@@ -229,7 +234,7 @@ public class ZclOnOffCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getGlobalSceneControlAsync() {
-        return read(serverAttributes.get(ATTR_GLOBALSCENECONTROL));
+        return read(getServerAttribute(ATTR_GLOBALSCENECONTROL));
     }
 
     /**
@@ -269,11 +274,11 @@ public class ZclOnOffCluster extends ZclCluster {
      */
     @Deprecated
     public Boolean getGlobalSceneControl(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_GLOBALSCENECONTROL).isLastValueCurrent(refreshPeriod)) {
-            return (Boolean) serverAttributes.get(ATTR_GLOBALSCENECONTROL).getLastValue();
+        if (getServerAttribute(ATTR_GLOBALSCENECONTROL).isLastValueCurrent(refreshPeriod)) {
+            return (Boolean) getServerAttribute(ATTR_GLOBALSCENECONTROL).getLastValue();
         }
 
-        return (Boolean) readSync(serverAttributes.get(ATTR_GLOBALSCENECONTROL));
+        return (Boolean) readSync(getServerAttribute(ATTR_GLOBALSCENECONTROL));
     }
 
     /**
@@ -308,7 +313,7 @@ public class ZclOnOffCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setGlobalSceneControlReporting(final int minInterval, final int maxInterval) {
-        return setReporting(serverAttributes.get(ATTR_GLOBALSCENECONTROL), minInterval, maxInterval);
+        return setReporting(getServerAttribute(ATTR_GLOBALSCENECONTROL), minInterval, maxInterval);
     }
 
     /**
@@ -329,7 +334,7 @@ public class ZclOnOffCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setOnTime(final Integer value) {
-        return write(serverAttributes.get(ATTR_ONTIME), value);
+        return write(getServerAttribute(ATTR_ONTIME), value);
     }
 
     /**
@@ -349,7 +354,7 @@ public class ZclOnOffCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getOnTimeAsync() {
-        return read(serverAttributes.get(ATTR_ONTIME));
+        return read(getServerAttribute(ATTR_ONTIME));
     }
 
     /**
@@ -377,11 +382,11 @@ public class ZclOnOffCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getOnTime(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_ONTIME).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_ONTIME).getLastValue();
+        if (getServerAttribute(ATTR_ONTIME).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_ONTIME).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_ONTIME));
+        return (Integer) readSync(getServerAttribute(ATTR_ONTIME));
     }
 
     /**
@@ -406,7 +411,7 @@ public class ZclOnOffCluster extends ZclCluster {
     @Deprecated
     public Future<CommandResult> setOnTimeReporting(final int minInterval, final int maxInterval,
             final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_ONTIME), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_ONTIME), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -428,7 +433,7 @@ public class ZclOnOffCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setOffWaitTime(final Integer value) {
-        return write(serverAttributes.get(ATTR_OFFWAITTIME), value);
+        return write(getServerAttribute(ATTR_OFFWAITTIME), value);
     }
 
     /**
@@ -449,7 +454,7 @@ public class ZclOnOffCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getOffWaitTimeAsync() {
-        return read(serverAttributes.get(ATTR_OFFWAITTIME));
+        return read(getServerAttribute(ATTR_OFFWAITTIME));
     }
 
     /**
@@ -478,11 +483,11 @@ public class ZclOnOffCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getOffWaitTime(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_OFFWAITTIME).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_OFFWAITTIME).getLastValue();
+        if (getServerAttribute(ATTR_OFFWAITTIME).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_OFFWAITTIME).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_OFFWAITTIME));
+        return (Integer) readSync(getServerAttribute(ATTR_OFFWAITTIME));
     }
 
     /**
@@ -508,7 +513,7 @@ public class ZclOnOffCluster extends ZclCluster {
     @Deprecated
     public Future<CommandResult> setOffWaitTimeReporting(final int minInterval, final int maxInterval,
             final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_OFFWAITTIME), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_OFFWAITTIME), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -524,7 +529,7 @@ public class ZclOnOffCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setStartUpOnOff(final Integer value) {
-        return write(serverAttributes.get(ATTR_STARTUPONOFF), value);
+        return write(getServerAttribute(ATTR_STARTUPONOFF), value);
     }
 
     /**
@@ -539,7 +544,7 @@ public class ZclOnOffCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getStartUpOnOffAsync() {
-        return read(serverAttributes.get(ATTR_STARTUPONOFF));
+        return read(getServerAttribute(ATTR_STARTUPONOFF));
     }
 
     /**
@@ -562,11 +567,11 @@ public class ZclOnOffCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getStartUpOnOff(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_STARTUPONOFF).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_STARTUPONOFF).getLastValue();
+        if (getServerAttribute(ATTR_STARTUPONOFF).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_STARTUPONOFF).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_STARTUPONOFF));
+        return (Integer) readSync(getServerAttribute(ATTR_STARTUPONOFF));
     }
 
     /**
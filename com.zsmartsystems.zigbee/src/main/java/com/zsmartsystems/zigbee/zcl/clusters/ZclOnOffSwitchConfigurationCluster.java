@@ -7,8 +7,9 @@
  */
 package com.zsmartsystems.zigbee.zcl.clusters;
 
+import java.util.Collections;
 import java.util.Map;
-import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.TreeMap;
 import java.util.concurrent.Future;
 
 import javax.annotation.Generated;
@@ -16,6 +17,7 @@ import javax.annotation.Generated;
 import com.zsmartsystems.zigbee.CommandResult;
 import com.zsmartsystems.zigbee.ZigBeeEndpoint;
 import com.zsmartsystems.zigbee.zcl.ZclAttribute;
+import com.zsmartsystems.zigbee.zcl.ZclAttributeDefinition;
 import com.zsmartsystems.zigbee.zcl.ZclCluster;
 import com.zsmartsystems.zigbee.zcl.protocol.ZclDataType;
 
@@ -26,7 +28,7 @@ import com.zsmartsystems.zigbee.zcl.protocol.ZclDataType;
  * <p>
  * Code is auto-generated. Modifications may be overwritten!
  */
-@Generated(value = "com.zsmartsystems.zigbee.autocode.ZigBeeCodeGenerator", date = "2019-10-04T18:21:10Z")
+@Generated(value = "com.zsmartsystems.zigbee.autocode.ZigBeeCodeGenerator", date = "2026-10-18T14:31:35Z")
 public class ZclOnOffSwitchConfigurationCluster extends ZclCluster {
     /**
      * The ZigBee Cluster Library Cluster ID
@@ -50,21 +52,23 @@ public class ZclOnOffSwitchConfigurationCluster extends ZclCluster {
      */
     public static final int ATTR_SWITCHACTIONS = 0x0010;
 
-    @Override
-    protected Map<Integer, ZclAttribute> initializeClientAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
+    /**
+     * The server attribute definitions. These are shared by all instances of this cluster.
+     */
+    private static final Map<Integer, ZclAttributeDefinition> SERVER_ATTRIBUTES = initializeServerAttributeDefinitions();
 
-        return attributeMap;
-    }
+    private static Map<Integer, ZclAttributeDefinition> initializeServerAttributeDefinitions() {
+        Map<Integer, ZclAttributeDefinition> attributeMap = new TreeMap<>();
 
-    @Override
-    protected Map<Integer, ZclAttribute> initializeServerAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
+        attributeMap.put(ATTR_SWITCHTYPE, new ZclAttributeDefinition(ATTR_SWITCHTYPE, "Switch Type", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
+        attributeMap.put(ATTR_SWITCHACTIONS, new ZclAttributeDefinition(ATTR_SWITCHACTIONS, "Switch Actions", ZclDataType.ENUMERATION_8_BIT, true, true, true, false));
 
-        attributeMap.put(ATTR_SWITCHTYPE, new ZclAttribute(this, ATTR_SWITCHTYPE, "Switch Type", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_SWITCHACTIONS, new ZclAttribute(this, ATTR_SWITCHACTIONS, "Switch Actions", ZclDataType.ENUMERATION_8_BIT, true, true, true, false));
+        return Collections.unmodifiableMap(attributeMap);
+    }
 
-        return attributeMap;
+    @Override
+    protected Map<Integer, ZclAttributeDefinition> getServerAttributeDefinitions() {
+        return SERVER_ATTRIBUTES;
     }
 
     /**
@@ -91,7 +95,7 @@ public class ZclOnOffSwitchConfigurationCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getSwitchTypeAsync() {
-        return read(serverAttributes.get(ATTR_SWITCHTYPE));
+        return read(getServerAttribute(ATTR_SWITCHTYPE));
     }
 
     /**
@@ -117,11 +121,11 @@ public class ZclOnOffSwitchConfigurationCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getSwitchType(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_SWITCHTYPE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_SWITCHTYPE).getLastValue();
+        if (getServerAttribute(ATTR_SWITCHTYPE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_SWITCHTYPE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_SWITCHTYPE));
+        return (Integer) readSync(getServerAttribute(ATTR_SWITCHTYPE));
     }
 
     /**
@@ -141,7 +145,7 @@ public class ZclOnOffSwitchConfigurationCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setSwitchTypeReporting(final int minInterval, final int maxInterval) {
-        return setReporting(serverAttributes.get(ATTR_SWITCHTYPE), minInterval, maxInterval);
+        return setReporting(getServerAttribute(ATTR_SWITCHTYPE), minInterval, maxInterval);
     }
 
     /**
@@ -160,7 +164,7 @@ public class ZclOnOffSwitchConfigurationCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setSwitchActions(final Integer value) {
-        return write(serverAttributes.get(ATTR_SWITCHACTIONS), value);
+        return write(getServerAttribute(ATTR_SWITCHACTIONS), value);
     }
 
     /**
@@ -178,7 +182,7 @@ public class ZclOnOffSwitchConfigurationCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getSwitchActionsAsync() {
-        return read(serverAttributes.get(ATTR_SWITCHACTIONS));
+        return read(getServerAttribute(ATTR_SWITCHACTIONS));
     }
 
     /**
@@ -204,11 +208,11 @@ public class ZclOnOffSwitchConfigurationCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getSwitchActions(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_SWITCHACTIONS).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_SWITCHACTIONS).getLastValue();
+        if (getServerAttribute(ATTR_SWITCHACTIONS).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_SWITCHACTIONS).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_SWITCHACTIONS));
+        return (Integer) readSync(getServerAttribute(ATTR_SWITCHACTIONS));
     }
 
     /**
@@ -228,6 +232,6 @@ public class ZclOnOffSwitchConfigurationCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setSwitchActionsReporting(final int minInterval, final int maxInterval) {
-        return setReporting(serverAttributes.get(ATTR_SWITCHACTIONS), minInterval, maxInterval);
+        return setReporting(getServerAttribute(ATTR_SWITCHACTIONS), minInterval, maxInterval);
     }
 }
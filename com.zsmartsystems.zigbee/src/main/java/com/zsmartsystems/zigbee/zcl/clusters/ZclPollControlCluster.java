@@ -7,7 +7,9 @@
  */
 package com.zsmartsystems.zigbee.zcl.clusters;
 
+import java.util.Collections;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.Future;
 
@@ -16,6 +18,7 @@ import javax.annotation.Generated;
 import com.zsmartsystems.zigbee.CommandResult;
 import com.zsmartsystems.zigbee.ZigBeeEndpoint;
 import com.zsmartsystems.zigbee.zcl.ZclAttribute;
+import com.zsmartsystems.zigbee.zcl.ZclAttributeDefinition;
 import com.zsmartsystems.zigbee.zcl.ZclCluster;
 import com.zsmartsystems.zigbee.zcl.ZclCommand;
 import com.zsmartsystems.zigbee.zcl.clusters.pollcontrol.CheckInCommand;
@@ -44,7 +47,7 @@ import com.zsmartsystems.zigbee.zcl.protocol.ZclDataType;
  * <p>
  * Code is auto-generated. Modifications may be overwritten!
  */
-@Generated(value = "com.zsmartsystems.zigbee.autocode.ZigBeeCodeGenerator", date = "2019-10-04T18:21:10Z")
+@Generated(value = "com.zsmartsystems.zigbee.autocode.ZigBeeCodeGenerator", date = "2026-10-18T14:31:35Z")
 public class ZclPollControlCluster extends ZclCluster {
     /**
      * The ZigBee Cluster Library Cluster ID
@@ -131,26 +134,28 @@ public class ZclPollControlCluster extends ZclCluster {
      */
     public static final int ATTR_FASTPOLLTIMEOUTMIN = 0x0006;
 
-    @Override
-    protected Map<Integer, ZclAttribute> initializeClientAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
+    /**
+     * The server attribute definitions. These are shared by all instances of this cluster.
+     */
+    private static final Map<Integer, ZclAttributeDefinition> SERVER_ATTRIBUTES = initializeServerAttributeDefinitions();
 
-        return attributeMap;
-    }
+    private static Map<Integer, ZclAttributeDefinition> initializeServerAttributeDefinitions() {
+        Map<Integer, ZclAttributeDefinition> attributeMap = new TreeMap<>();
 
-    @Override
-    protected Map<Integer, ZclAttribute> initializeServerAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
+        attributeMap.put(ATTR_CHECKININTERVAL, new ZclAttributeDefinition(ATTR_CHECKININTERVAL, "Checkin Interval", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, true, true));
+        attributeMap.put(ATTR_LONGPOLLINTERVAL, new ZclAttributeDefinition(ATTR_LONGPOLLINTERVAL, "Long Poll Interval", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, true));
+        attributeMap.put(ATTR_SHORTPOLLINTERVAL, new ZclAttributeDefinition(ATTR_SHORTPOLLINTERVAL, "Short Poll Interval", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, true));
+        attributeMap.put(ATTR_FASTPOLLTIMEOUT, new ZclAttributeDefinition(ATTR_FASTPOLLTIMEOUT, "Fast Poll Timeout", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, true));
+        attributeMap.put(ATTR_CHECKININTERVALMIN, new ZclAttributeDefinition(ATTR_CHECKININTERVALMIN, "Checkin Interval Min", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_LONGPOLLINTERVALMIN, new ZclAttributeDefinition(ATTR_LONGPOLLINTERVALMIN, "Long Poll Interval Min", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_FASTPOLLTIMEOUTMIN, new ZclAttributeDefinition(ATTR_FASTPOLLTIMEOUTMIN, "Fast Poll Timeout Min", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
 
-        attributeMap.put(ATTR_CHECKININTERVAL, new ZclAttribute(this, ATTR_CHECKININTERVAL, "Checkin Interval", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, true, true));
-        attributeMap.put(ATTR_LONGPOLLINTERVAL, new ZclAttribute(this, ATTR_LONGPOLLINTERVAL, "Long Poll Interval", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, true));
-        attributeMap.put(ATTR_SHORTPOLLINTERVAL, new ZclAttribute(this, ATTR_SHORTPOLLINTERVAL, "Short Poll Interval", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, true));
-        attributeMap.put(ATTR_FASTPOLLTIMEOUT, new ZclAttribute(this, ATTR_FASTPOLLTIMEOUT, "Fast Poll Timeout", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, true));
-        attributeMap.put(ATTR_CHECKININTERVALMIN, new ZclAttribute(this, ATTR_CHECKININTERVALMIN, "Checkin Interval Min", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_LONGPOLLINTERVALMIN, new ZclAttribute(this, ATTR_LONGPOLLINTERVALMIN, "Long Poll Interval Min", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_FASTPOLLTIMEOUTMIN, new ZclAttribute(this, ATTR_FASTPOLLTIMEOUTMIN, "Fast Poll Timeout Min", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        return Collections.unmodifiableMap(attributeMap);
+    }
 
-        return attributeMap;
+    @Override
+    protected Map<Integer, ZclAttributeDefinition> getServerAttributeDefinitions() {
+        return SERVER_ATTRIBUTES;
     }
 
     @Override
@@ -213,7 +218,7 @@ public class ZclPollControlCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setCheckinInterval(final Integer value) {
-        return write(serverAttributes.get(ATTR_CHECKININTERVAL), value);
+        return write(getServerAttribute(ATTR_CHECKININTERVAL), value);
     }
 
     /**
@@ -245,7 +250,7 @@ public class ZclPollControlCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCheckinIntervalAsync() {
-        return read(serverAttributes.get(ATTR_CHECKININTERVAL));
+        return read(getServerAttribute(ATTR_CHECKININTERVAL));
     }
 
     /**
@@ -285,11 +290,11 @@ public class ZclPollControlCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCheckinInterval(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CHECKININTERVAL).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CHECKININTERVAL).getLastValue();
+        if (getServerAttribute(ATTR_CHECKININTERVAL).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CHECKININTERVAL).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CHECKININTERVAL));
+        return (Integer) readSync(getServerAttribute(ATTR_CHECKININTERVAL));
     }
 
     /**
@@ -324,7 +329,7 @@ public class ZclPollControlCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setCheckinIntervalReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_CHECKININTERVAL), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_CHECKININTERVAL), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -349,7 +354,7 @@ public class ZclPollControlCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getLongPollIntervalAsync() {
-        return read(serverAttributes.get(ATTR_LONGPOLLINTERVAL));
+        return read(getServerAttribute(ATTR_LONGPOLLINTERVAL));
     }
 
     /**
@@ -382,11 +387,11 @@ public class ZclPollControlCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getLongPollInterval(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_LONGPOLLINTERVAL).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_LONGPOLLINTERVAL).getLastValue();
+        if (getServerAttribute(ATTR_LONGPOLLINTERVAL).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_LONGPOLLINTERVAL).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_LONGPOLLINTERVAL));
+        return (Integer) readSync(getServerAttribute(ATTR_LONGPOLLINTERVAL));
     }
 
     /**
@@ -414,7 +419,7 @@ public class ZclPollControlCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setLongPollIntervalReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_LONGPOLLINTERVAL), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_LONGPOLLINTERVAL), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -434,7 +439,7 @@ public class ZclPollControlCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getShortPollIntervalAsync() {
-        return read(serverAttributes.get(ATTR_SHORTPOLLINTERVAL));
+        return read(getServerAttribute(ATTR_SHORTPOLLINTERVAL));
     }
 
     /**
@@ -462,11 +467,11 @@ public class ZclPollControlCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getShortPollInterval(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_SHORTPOLLINTERVAL).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_SHORTPOLLINTERVAL).getLastValue();
+        if (getServerAttribute(ATTR_SHORTPOLLINTERVAL).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_SHORTPOLLINTERVAL).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_SHORTPOLLINTERVAL));
+        return (Integer) readSync(getServerAttribute(ATTR_SHORTPOLLINTERVAL));
     }
 
     /**
@@ -489,7 +494,7 @@ public class ZclPollControlCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setShortPollIntervalReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_SHORTPOLLINTERVAL), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_SHORTPOLLINTERVAL), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -519,7 +524,7 @@ public class ZclPollControlCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getFastPollTimeoutAsync() {
-        return read(serverAttributes.get(ATTR_FASTPOLLTIMEOUT));
+        return read(getServerAttribute(ATTR_FASTPOLLTIMEOUT));
     }
 
     /**
@@ -557,11 +562,11 @@ public class ZclPollControlCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getFastPollTimeout(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_FASTPOLLTIMEOUT).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_FASTPOLLTIMEOUT).getLastValue();
+        if (getServerAttribute(ATTR_FASTPOLLTIMEOUT).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_FASTPOLLTIMEOUT).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_FASTPOLLTIMEOUT));
+        return (Integer) readSync(getServerAttribute(ATTR_FASTPOLLTIMEOUT));
     }
 
     /**
@@ -594,7 +599,7 @@ public class ZclPollControlCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setFastPollTimeoutReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_FASTPOLLTIMEOUT), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_FASTPOLLTIMEOUT), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -613,7 +618,7 @@ public class ZclPollControlCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCheckinIntervalMinAsync() {
-        return read(serverAttributes.get(ATTR_CHECKININTERVALMIN));
+        return read(getServerAttribute(ATTR_CHECKININTERVALMIN));
     }
 
     /**
@@ -640,11 +645,11 @@ public class ZclPollControlCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCheckinIntervalMin(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CHECKININTERVALMIN).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CHECKININTERVALMIN).getLastValue();
+        if (getServerAttribute(ATTR_CHECKININTERVALMIN).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CHECKININTERVALMIN).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CHECKININTERVALMIN));
+        return (Integer) readSync(getServerAttribute(ATTR_CHECKININTERVALMIN));
     }
 
     /**
@@ -666,7 +671,7 @@ public class ZclPollControlCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setCheckinIntervalMinReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_CHECKININTERVALMIN), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_CHECKININTERVALMIN), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -685,7 +690,7 @@ public class ZclPollControlCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getLongPollIntervalMinAsync() {
-        return read(serverAttributes.get(ATTR_LONGPOLLINTERVALMIN));
+        return read(getServerAttribute(ATTR_LONGPOLLINTERVALMIN));
     }
 
     /**
@@ -712,11 +717,11 @@ public class ZclPollControlCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getLongPollIntervalMin(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_LONGPOLLINTERVALMIN).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_LONGPOLLINTERVALMIN).getLastValue();
+        if (getServerAttribute(ATTR_LONGPOLLINTERVALMIN).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_LONGPOLLINTERVALMIN).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_LONGPOLLINTERVALMIN));
+        return (Integer) readSync(getServerAttribute(ATTR_LONGPOLLINTERVALMIN));
     }
 
     /**
@@ -738,7 +743,7 @@ public class ZclPollControlCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setLongPollIntervalMinReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_LONGPOLLINTERVALMIN), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_LONGPOLLINTERVALMIN), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -757,7 +762,7 @@ public class ZclPollControlCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getFastPollTimeoutMinAsync() {
-        return read(serverAttributes.get(ATTR_FASTPOLLTIMEOUTMIN));
+        return read(getServerAttribute(ATTR_FASTPOLLTIMEOUTMIN));
     }
 
     /**
@@ -784,11 +789,11 @@ public class ZclPollControlCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getFastPollTimeoutMin(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_FASTPOLLTIMEOUTMIN).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_FASTPOLLTIMEOUTMIN).getLastValue();
+        if (getServerAttribute(ATTR_FASTPOLLTIMEOUTMIN).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_FASTPOLLTIMEOUTMIN).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_FASTPOLLTIMEOUTMIN));
+        return (Integer) readSync(getServerAttribute(ATTR_FASTPOLLTIMEOUTMIN));
     }
 
     /**
@@ -810,7 +815,7 @@ public class ZclPollControlCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setFastPollTimeoutMinReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_FASTPOLLTIMEOUTMIN), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_FASTPOLLTIMEOUTMIN), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -7,8 +7,9 @@
  */
 package com.zsmartsystems.zigbee.zcl.clusters;
 
+import java.util.Collections;
 import java.util.Map;
-import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.TreeMap;
 import java.util.concurrent.Future;
 
 import javax.annotation.Generated;
@@ -16,6 +17,7 @@ import javax.annotation.Generated;
 import com.zsmartsystems.zigbee.CommandResult;
 import com.zsmartsystems.zigbee.ZigBeeEndpoint;
 import com.zsmartsystems.zigbee.zcl.ZclAttribute;
+import com.zsmartsystems.zigbee.zcl.ZclAttributeDefinition;
 import com.zsmartsystems.zigbee.zcl.ZclCluster;
 import com.zsmartsystems.zigbee.zcl.protocol.ZclDataType;
 
@@ -27,7 +29,7 @@ import com.zsmartsystems.zigbee.zcl.protocol.ZclDataType;
  * <p>
  * Code is auto-generated. Modifications may be overwritten!
  */
-@Generated(value = "com.zsmartsystems.zigbee.autocode.ZigBeeCodeGenerator", date = "2019-10-04T18:21:10Z")
+@Generated(value = "com.zsmartsystems.zigbee.autocode.ZigBeeCodeGenerator", date = "2026-10-18T14:31:35Z")
 public class ZclPowerConfigurationCluster extends ZclCluster {
     /**
      * The ZigBee Cluster Library Cluster ID
@@ -200,42 +202,44 @@ public class ZclPowerConfigurationCluster extends ZclCluster {
      */
     public static final int ATTR_BATTERYALARMSTATE = 0x003E;
 
-    @Override
-    protected Map<Integer, ZclAttribute> initializeClientAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
-
-        return attributeMap;
+    /**
+     * The server attribute definitions. These are shared by all instances of this cluster.
+     */
+    private static final Map<Integer, ZclAttributeDefinition> SERVER_ATTRIBUTES = initializeServerAttributeDefinitions();
+
+    private static Map<Integer, ZclAttributeDefinition> initializeServerAttributeDefinitions() {
+        Map<Integer, ZclAttributeDefinition> attributeMap = new TreeMap<>();
+
+        attributeMap.put(ATTR_MAINSVOLTAGE, new ZclAttributeDefinition(ATTR_MAINSVOLTAGE, "Mains Voltage", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_MAINSFREQUENCY, new ZclAttributeDefinition(ATTR_MAINSFREQUENCY, "Mains Frequency", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_MAINSALARMMASK, new ZclAttributeDefinition(ATTR_MAINSALARMMASK, "Mains Alarm Mask", ZclDataType.BITMAP_8_BIT, false, true, true, false));
+        attributeMap.put(ATTR_MAINSVOLTAGEMINTHRESHOLD, new ZclAttributeDefinition(ATTR_MAINSVOLTAGEMINTHRESHOLD, "Mains Voltage Min Threshold", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, true, false));
+        attributeMap.put(ATTR_MAINSVOLTAGEMAXTHRESHOLD, new ZclAttributeDefinition(ATTR_MAINSVOLTAGEMAXTHRESHOLD, "Mains Voltage Max Threshold", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, true, false));
+        attributeMap.put(ATTR_MAINSVOLTAGEDWELLTRIPPOINT, new ZclAttributeDefinition(ATTR_MAINSVOLTAGEDWELLTRIPPOINT, "Mains Voltage Dwell Trip Point", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, true, false));
+        attributeMap.put(ATTR_BATTERYVOLTAGE, new ZclAttributeDefinition(ATTR_BATTERYVOLTAGE, "Battery Voltage", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_BATTERYPERCENTAGEREMAINING, new ZclAttributeDefinition(ATTR_BATTERYPERCENTAGEREMAINING, "Battery Percentage Remaining", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, true));
+        attributeMap.put(ATTR_BATTERYMANUFACTURER, new ZclAttributeDefinition(ATTR_BATTERYMANUFACTURER, "Battery Manufacturer", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        attributeMap.put(ATTR_BATTERYSIZE, new ZclAttributeDefinition(ATTR_BATTERYSIZE, "Battery Size", ZclDataType.ENUMERATION_8_BIT, false, true, true, false));
+        attributeMap.put(ATTR_BATTERYAHRRATING, new ZclAttributeDefinition(ATTR_BATTERYAHRRATING, "Battery A Hr Rating", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, true, false));
+        attributeMap.put(ATTR_BATTERYQUANTITY, new ZclAttributeDefinition(ATTR_BATTERYQUANTITY, "Battery Quantity", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, false));
+        attributeMap.put(ATTR_BATTERYRATEDVOLTAGE, new ZclAttributeDefinition(ATTR_BATTERYRATEDVOLTAGE, "Battery Rated Voltage", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, false));
+        attributeMap.put(ATTR_BATTERYALARMMASK, new ZclAttributeDefinition(ATTR_BATTERYALARMMASK, "Battery Alarm Mask", ZclDataType.BITMAP_8_BIT, false, true, true, false));
+        attributeMap.put(ATTR_BATTERYVOLTAGEMINTHRESHOLD, new ZclAttributeDefinition(ATTR_BATTERYVOLTAGEMINTHRESHOLD, "Battery Voltage Min Threshold", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, false));
+        attributeMap.put(ATTR_BATTERYVOLTAGETHRESHOLD1, new ZclAttributeDefinition(ATTR_BATTERYVOLTAGETHRESHOLD1, "Battery Voltage Threshold 1", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, false));
+        attributeMap.put(ATTR_BATTERYVOLTAGETHRESHOLD2, new ZclAttributeDefinition(ATTR_BATTERYVOLTAGETHRESHOLD2, "Battery Voltage Threshold 2", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, false));
+        attributeMap.put(ATTR_BATTERYVOLTAGETHRESHOLD3, new ZclAttributeDefinition(ATTR_BATTERYVOLTAGETHRESHOLD3, "Battery Voltage Threshold 3", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, false));
+        attributeMap.put(ATTR_BATTERYPERCENTAGEMINTHRESHOLD, new ZclAttributeDefinition(ATTR_BATTERYPERCENTAGEMINTHRESHOLD, "Battery Percentage Min Threshold", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, false));
+        attributeMap.put(ATTR_BATTERYPERCENTAGETHRESHOLD1, new ZclAttributeDefinition(ATTR_BATTERYPERCENTAGETHRESHOLD1, "Battery Percentage Threshold 1", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, false));
+        attributeMap.put(ATTR_BATTERYPERCENTAGETHRESHOLD2, new ZclAttributeDefinition(ATTR_BATTERYPERCENTAGETHRESHOLD2, "Battery Percentage Threshold 2", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, false));
+        attributeMap.put(ATTR_BATTERYPERCENTAGETHRESHOLD3, new ZclAttributeDefinition(ATTR_BATTERYPERCENTAGETHRESHOLD3, "Battery Percentage Threshold 3", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, false));
+        attributeMap.put(ATTR_BATTERYALARMSTATE, new ZclAttributeDefinition(ATTR_BATTERYALARMSTATE, "Battery Alarm State", ZclDataType.BITMAP_32_BIT, false, true, false, false));
+
+        return Collections.unmodifiableMap(attributeMap);
     }
 
     @Override
-    protected Map<Integer, ZclAttribute> initializeServerAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
-
-        attributeMap.put(ATTR_MAINSVOLTAGE, new ZclAttribute(this, ATTR_MAINSVOLTAGE, "Mains Voltage", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_MAINSFREQUENCY, new ZclAttribute(this, ATTR_MAINSFREQUENCY, "Mains Frequency", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_MAINSALARMMASK, new ZclAttribute(this, ATTR_MAINSALARMMASK, "Mains Alarm Mask", ZclDataType.BITMAP_8_BIT, false, true, true, false));
-        attributeMap.put(ATTR_MAINSVOLTAGEMINTHRESHOLD, new ZclAttribute(this, ATTR_MAINSVOLTAGEMINTHRESHOLD, "Mains Voltage Min Threshold", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, true, false));
-        attributeMap.put(ATTR_MAINSVOLTAGEMAXTHRESHOLD, new ZclAttribute(this, ATTR_MAINSVOLTAGEMAXTHRESHOLD, "Mains Voltage Max Threshold", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, true, false));
-        attributeMap.put(ATTR_MAINSVOLTAGEDWELLTRIPPOINT, new ZclAttribute(this, ATTR_MAINSVOLTAGEDWELLTRIPPOINT, "Mains Voltage Dwell Trip Point", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, true, false));
-        attributeMap.put(ATTR_BATTERYVOLTAGE, new ZclAttribute(this, ATTR_BATTERYVOLTAGE, "Battery Voltage", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_BATTERYPERCENTAGEREMAINING, new ZclAttribute(this, ATTR_BATTERYPERCENTAGEREMAINING, "Battery Percentage Remaining", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, true));
-        attributeMap.put(ATTR_BATTERYMANUFACTURER, new ZclAttribute(this, ATTR_BATTERYMANUFACTURER, "Battery Manufacturer", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_BATTERYSIZE, new ZclAttribute(this, ATTR_BATTERYSIZE, "Battery Size", ZclDataType.ENUMERATION_8_BIT, false, true, true, false));
-        attributeMap.put(ATTR_BATTERYAHRRATING, new ZclAttribute(this, ATTR_BATTERYAHRRATING, "Battery A Hr Rating", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, true, false));
-        attributeMap.put(ATTR_BATTERYQUANTITY, new ZclAttribute(this, ATTR_BATTERYQUANTITY, "Battery Quantity", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, false));
-        attributeMap.put(ATTR_BATTERYRATEDVOLTAGE, new ZclAttribute(this, ATTR_BATTERYRATEDVOLTAGE, "Battery Rated Voltage", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, false));
-        attributeMap.put(ATTR_BATTERYALARMMASK, new ZclAttribute(this, ATTR_BATTERYALARMMASK, "Battery Alarm Mask", ZclDataType.BITMAP_8_BIT, false, true, true, false));
-        attributeMap.put(ATTR_BATTERYVOLTAGEMINTHRESHOLD, new ZclAttribute(this, ATTR_BATTERYVOLTAGEMINTHRESHOLD, "Battery Voltage Min Threshold", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, false));
-        attributeMap.put(ATTR_BATTERYVOLTAGETHRESHOLD1, new ZclAttribute(this, ATTR_BATTERYVOLTAGETHRESHOLD1, "Battery Voltage Threshold 1", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, false));
-        attributeMap.put(ATTR_BATTERYVOLTAGETHRESHOLD2, new ZclAttribute(this, ATTR_BATTERYVOLTAGETHRESHOLD2, "Battery Voltage Threshold 2", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, false));
-        attributeMap.put(ATTR_BATTERYVOLTAGETHRESHOLD3, new ZclAttribute(this, ATTR_BATTERYVOLTAGETHRESHOLD3, "Battery Voltage Threshold 3", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, false));
-        attributeMap.put(ATTR_BATTERYPERCENTAGEMINTHRESHOLD, new ZclAttribute(this, ATTR_BATTERYPERCENTAGEMINTHRESHOLD, "Battery Percentage Min Threshold", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, false));
-        attributeMap.put(ATTR_BATTERYPERCENTAGETHRESHOLD1, new ZclAttribute(this, ATTR_BATTERYPERCENTAGETHRESHOLD1, "Battery Percentage Threshold 1", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, false));
-        attributeMap.put(ATTR_BATTERYPERCENTAGETHRESHOLD2, new ZclAttribute(this, ATTR_BATTERYPERCENTAGETHRESHOLD2, "Battery Percentage Threshold 2", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, false));
-        attributeMap.put(ATTR_BATTERYPERCENTAGETHRESHOLD3, new ZclAttribute(this, ATTR_BATTERYPERCENTAGETHRESHOLD3, "Battery Percentage Threshold 3", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, false));
-        attributeMap.put(ATTR_BATTERYALARMSTATE, new ZclAttribute(this, ATTR_BATTERYALARMSTATE, "Battery Alarm State", ZclDataType.BITMAP_32_BIT, false, true, false, false));
-
-        return attributeMap;
+    protected Map<Integer, ZclAttributeDefinition> getServerAttributeDefinitions() {
+        return SERVER_ATTRIBUTES;
     }
 
     /**
@@ -263,7 +267,7 @@ public class ZclPowerConfigurationCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getMainsVoltageAsync() {
-        return read(serverAttributes.get(ATTR_MAINSVOLTAGE));
+        return read(getServerAttribute(ATTR_MAINSVOLTAGE));
     }
 
     /**
@@ -290,11 +294,11 @@ public class ZclPowerConfigurationCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getMainsVoltage(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_MAINSVOLTAGE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_MAINSVOLTAGE).getLastValue();
+        if (getServerAttribute(ATTR_MAINSVOLTAGE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_MAINSVOLTAGE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_MAINSVOLTAGE));
+        return (Integer) readSync(getServerAttribute(ATTR_MAINSVOLTAGE));
     }
 
     /**
@@ -322,7 +326,7 @@ public class ZclPowerConfigurationCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getMainsFrequencyAsync() {
-        return read(serverAttributes.get(ATTR_MAINSFREQUENCY));
+        return read(getServerAttribute(ATTR_MAINSFREQUENCY));
     }
 
     /**
@@ -358,11 +362,11 @@ public class ZclPowerConfigurationCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getMainsFrequency(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_MAINSFREQUENCY).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_MAINSFREQUENCY).getLastValue();
+        if (getServerAttribute(ATTR_MAINSFREQUENCY).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_MAINSFREQUENCY).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_MAINSFREQUENCY));
+        return (Integer) readSync(getServerAttribute(ATTR_MAINSFREQUENCY));
     }
 
     /**
@@ -381,7 +385,7 @@ public class ZclPowerConfigurationCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setMainsAlarmMask(final Integer value) {
-        return write(serverAttributes.get(ATTR_MAINSALARMMASK), value);
+        return write(getServerAttribute(ATTR_MAINSALARMMASK), value);
     }
 
     /**
@@ -399,7 +403,7 @@ public class ZclPowerConfigurationCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getMainsAlarmMaskAsync() {
-        return read(serverAttributes.get(ATTR_MAINSALARMMASK));
+        return read(getServerAttribute(ATTR_MAINSALARMMASK));
     }
 
     /**
@@ -425,11 +429,11 @@ public class ZclPowerConfigurationCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getMainsAlarmMask(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_MAINSALARMMASK).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_MAINSALARMMASK).getLastValue();
+        if (getServerAttribute(ATTR_MAINSALARMMASK).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_MAINSALARMMASK).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_MAINSALARMMASK));
+        return (Integer) readSync(getServerAttribute(ATTR_MAINSALARMMASK));
     }
 
     /**
@@ -459,7 +463,7 @@ public class ZclPowerConfigurationCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setMainsVoltageMinThreshold(final Integer value) {
-        return write(serverAttributes.get(ATTR_MAINSVOLTAGEMINTHRESHOLD), value);
+        return write(getServerAttribute(ATTR_MAINSVOLTAGEMINTHRESHOLD), value);
     }
 
     /**
@@ -488,7 +492,7 @@ public class ZclPowerConfigurationCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getMainsVoltageMinThresholdAsync() {
-        return read(serverAttributes.get(ATTR_MAINSVOLTAGEMINTHRESHOLD));
+        return read(getServerAttribute(ATTR_MAINSVOLTAGEMINTHRESHOLD));
     }
 
     /**
@@ -525,11 +529,11 @@ public class ZclPowerConfigurationCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getMainsVoltageMinThreshold(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_MAINSVOLTAGEMINTHRESHOLD).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_MAINSVOLTAGEMINTHRESHOLD).getLastValue();
+        if (getServerAttribute(ATTR_MAINSVOLTAGEMINTHRESHOLD).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_MAINSVOLTAGEMINTHRESHOLD).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_MAINSVOLTAGEMINTHRESHOLD));
+        return (Integer) readSync(getServerAttribute(ATTR_MAINSVOLTAGEMINTHRESHOLD));
     }
 
     /**
@@ -559,7 +563,7 @@ public class ZclPowerConfigurationCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setMainsVoltageMaxThreshold(final Integer value) {
-        return write(serverAttributes.get(ATTR_MAINSVOLTAGEMAXTHRESHOLD), value);
+        return write(getServerAttribute(ATTR_MAINSVOLTAGEMAXTHRESHOLD), value);
     }
 
     /**
@@ -588,7 +592,7 @@ public class ZclPowerConfigurationCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getMainsVoltageMaxThresholdAsync() {
-        return read(serverAttributes.get(ATTR_MAINSVOLTAGEMAXTHRESHOLD));
+        return read(getServerAttribute(ATTR_MAINSVOLTAGEMAXTHRESHOLD));
     }
 
     /**
@@ -625,11 +629,11 @@ public class ZclPowerConfigurationCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getMainsVoltageMaxThreshold(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_MAINSVOLTAGEMAXTHRESHOLD).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_MAINSVOLTAGEMAXTHRESHOLD).getLastValue();
+        if (getServerAttribute(ATTR_MAINSVOLTAGEMAXTHRESHOLD).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_MAINSVOLTAGEMAXTHRESHOLD).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_MAINSVOLTAGEMAXTHRESHOLD));
+        return (Integer) readSync(getServerAttribute(ATTR_MAINSVOLTAGEMAXTHRESHOLD));
     }
 
     /**
@@ -652,7 +656,7 @@ public class ZclPowerConfigurationCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setMainsVoltageDwellTripPoint(final Integer value) {
-        return write(serverAttributes.get(ATTR_MAINSVOLTAGEDWELLTRIPPOINT), value);
+        return write(getServerAttribute(ATTR_MAINSVOLTAGEDWELLTRIPPOINT), value);
     }
 
     /**
@@ -674,7 +678,7 @@ public class ZclPowerConfigurationCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getMainsVoltageDwellTripPointAsync() {
-        return read(serverAttributes.get(ATTR_MAINSVOLTAGEDWELLTRIPPOINT));
+        return read(getServerAttribute(ATTR_MAINSVOLTAGEDWELLTRIPPOINT));
     }
 
     /**
@@ -704,11 +708,11 @@ public class ZclPowerConfigurationCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getMainsVoltageDwellTripPoint(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_MAINSVOLTAGEDWELLTRIPPOINT).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_MAINSVOLTAGEDWELLTRIPPOINT).getLastValue();
+        if (getServerAttribute(ATTR_MAINSVOLTAGEDWELLTRIPPOINT).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_MAINSVOLTAGEDWELLTRIPPOINT).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_MAINSVOLTAGEDWELLTRIPPOINT));
+        return (Integer) readSync(getServerAttribute(ATTR_MAINSVOLTAGEDWELLTRIPPOINT));
     }
 
     /**
@@ -727,7 +731,7 @@ public class ZclPowerConfigurationCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getBatteryVoltageAsync() {
-        return read(serverAttributes.get(ATTR_BATTERYVOLTAGE));
+        return read(getServerAttribute(ATTR_BATTERYVOLTAGE));
     }
 
     /**
@@ -754,11 +758,11 @@ public class ZclPowerConfigurationCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getBatteryVoltage(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_BATTERYVOLTAGE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_BATTERYVOLTAGE).getLastValue();
+        if (getServerAttribute(ATTR_BATTERYVOLTAGE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_BATTERYVOLTAGE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_BATTERYVOLTAGE));
+        return (Integer) readSync(getServerAttribute(ATTR_BATTERYVOLTAGE));
     }
 
     /**
@@ -773,7 +777,7 @@ public class ZclPowerConfigurationCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getBatteryPercentageRemainingAsync() {
-        return read(serverAttributes.get(ATTR_BATTERYPERCENTAGEREMAINING));
+        return read(getServerAttribute(ATTR_BATTERYPERCENTAGEREMAINING));
     }
 
     /**
@@ -796,11 +800,11 @@ public class ZclPowerConfigurationCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getBatteryPercentageRemaining(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_BATTERYPERCENTAGEREMAINING).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_BATTERYPERCENTAGEREMAINING).getLastValue();
+        if (getServerAttribute(ATTR_BATTERYPERCENTAGEREMAINING).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_BATTERYPERCENTAGEREMAINING).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_BATTERYPERCENTAGEREMAINING));
+        return (Integer) readSync(getServerAttribute(ATTR_BATTERYPERCENTAGEREMAINING));
     }
 
     /**
@@ -819,7 +823,7 @@ public class ZclPowerConfigurationCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setBatteryManufacturer(final String value) {
-        return write(serverAttributes.get(ATTR_BATTERYMANUFACTURER), value);
+        return write(getServerAttribute(ATTR_BATTERYMANUFACTURER), value);
     }
 
     /**
@@ -837,7 +841,7 @@ public class ZclPowerConfigurationCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getBatteryManufacturerAsync() {
-        return read(serverAttributes.get(ATTR_BATTERYMANUFACTURER));
+        return read(getServerAttribute(ATTR_BATTERYMANUFACTURER));
     }
 
     /**
@@ -863,11 +867,11 @@ public class ZclPowerConfigurationCluster extends ZclCluster {
      */
     @Deprecated
     public String getBatteryManufacturer(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_BATTERYMANUFACTURER).isLastValueCurrent(refreshPeriod)) {
-            return (String) serverAttributes.get(ATTR_BATTERYMANUFACTURER).getLastValue();
+        if (getServerAttribute(ATTR_BATTERYMANUFACTURER).isLastValueCurrent(refreshPeriod)) {
+            return (String) getServerAttribute(ATTR_BATTERYMANUFACTURER).getLastValue();
         }
 
-        return (String) readSync(serverAttributes.get(ATTR_BATTERYMANUFACTURER));
+        return (String) readSync(getServerAttribute(ATTR_BATTERYMANUFACTURER));
     }
 
     /**
@@ -886,7 +890,7 @@ public class ZclPowerConfigurationCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setBatterySize(final Integer value) {
-        return write(serverAttributes.get(ATTR_BATTERYSIZE), value);
+        return write(getServerAttribute(ATTR_BATTERYSIZE), value);
     }
 
     /**
@@ -904,7 +908,7 @@ public class ZclPowerConfigurationCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getBatterySizeAsync() {
-        return read(serverAttributes.get(ATTR_BATTERYSIZE));
+        return read(getServerAttribute(ATTR_BATTERYSIZE));
     }
 
     /**
@@ -930,11 +934,11 @@ public class ZclPowerConfigurationCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getBatterySize(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_BATTERYSIZE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_BATTERYSIZE).getLastValue();
+        if (getServerAttribute(ATTR_BATTERYSIZE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_BATTERYSIZE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_BATTERYSIZE));
+        return (Integer) readSync(getServerAttribute(ATTR_BATTERYSIZE));
     }
 
     /**
@@ -953,7 +957,7 @@ public class ZclPowerConfigurationCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setBatteryAHrRating(final Integer value) {
-        return write(serverAttributes.get(ATTR_BATTERYAHRRATING), value);
+        return write(getServerAttribute(ATTR_BATTERYAHRRATING), value);
     }
 
     /**
@@ -971,7 +975,7 @@ public class ZclPowerConfigurationCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getBatteryAHrRatingAsync() {
-        return read(serverAttributes.get(ATTR_BATTERYAHRRATING));
+        return read(getServerAttribute(ATTR_BATTERYAHRRATING));
     }
 
     /**
@@ -997,11 +1001,11 @@ public class ZclPowerConfigurationCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getBatteryAHrRating(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_BATTERYAHRRATING).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_BATTERYAHRRATING).getLastValue();
+        if (getServerAttribute(ATTR_BATTERYAHRRATING).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_BATTERYAHRRATING).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_BATTERYAHRRATING));
+        return (Integer) readSync(getServerAttribute(ATTR_BATTERYAHRRATING));
     }
 
     /**
@@ -1020,7 +1024,7 @@ public class ZclPowerConfigurationCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setBatteryQuantity(final Integer value) {
-        return write(serverAttributes.get(ATTR_BATTERYQUANTITY), value);
+        return write(getServerAttribute(ATTR_BATTERYQUANTITY), value);
     }
 
     /**
@@ -1038,7 +1042,7 @@ public class ZclPowerConfigurationCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getBatteryQuantityAsync() {
-        return read(serverAttributes.get(ATTR_BATTERYQUANTITY));
+        return read(getServerAttribute(ATTR_BATTERYQUANTITY));
     }
 
     /**
@@ -1064,11 +1068,11 @@ public class ZclPowerConfigurationCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getBatteryQuantity(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_BATTERYQUANTITY).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_BATTERYQUANTITY).getLastValue();
+        if (getServerAttribute(ATTR_BATTERYQUANTITY).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_BATTERYQUANTITY).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_BATTERYQUANTITY));
+        return (Integer) readSync(getServerAttribute(ATTR_BATTERYQUANTITY));
     }
 
     /**
@@ -1087,7 +1091,7 @@ public class ZclPowerConfigurationCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setBatteryRatedVoltage(final Integer value) {
-        return write(serverAttributes.get(ATTR_BATTERYRATEDVOLTAGE), value);
+        return write(getServerAttribute(ATTR_BATTERYRATEDVOLTAGE), value);
     }
 
     /**
@@ -1105,7 +1109,7 @@ public class ZclPowerConfigurationCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getBatteryRatedVoltageAsync() {
-        return read(serverAttributes.get(ATTR_BATTERYRATEDVOLTAGE));
+        return read(getServerAttribute(ATTR_BATTERYRATEDVOLTAGE));
     }
 
     /**
@@ -1131,11 +1135,11 @@ public class ZclPowerConfigurationCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getBatteryRatedVoltage(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_BATTERYRATEDVOLTAGE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_BATTERYRATEDVOLTAGE).getLastValue();
+        if (getServerAttribute(ATTR_BATTERYRATEDVOLTAGE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_BATTERYRATEDVOLTAGE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_BATTERYRATEDVOLTAGE));
+        return (Integer) readSync(getServerAttribute(ATTR_BATTERYRATEDVOLTAGE));
     }
 
     /**
@@ -1154,7 +1158,7 @@ public class ZclPowerConfigurationCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setBatteryAlarmMask(final Integer value) {
-        return write(serverAttributes.get(ATTR_BATTERYALARMMASK), value);
+        return write(getServerAttribute(ATTR_BATTERYALARMMASK), value);
     }
 
     /**
@@ -1172,7 +1176,7 @@ public class ZclPowerConfigurationCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getBatteryAlarmMaskAsync() {
-        return read(serverAttributes.get(ATTR_BATTERYALARMMASK));
+        return read(getServerAttribute(ATTR_BATTERYALARMMASK));
     }
 
     /**
@@ -1198,11 +1202,11 @@ public class ZclPowerConfigurationCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getBatteryAlarmMask(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_BATTERYALARMMASK).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_BATTERYALARMMASK).getLastValue();
+        if (getServerAttribute(ATTR_BATTERYALARMMASK).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_BATTERYALARMMASK).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_BATTERYALARMMASK));
+        return (Integer) readSync(getServerAttribute(ATTR_BATTERYALARMMASK));
     }
 
     /**
@@ -1229,7 +1233,7 @@ public class ZclPowerConfigurationCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setBatteryVoltageMinThreshold(final Integer value) {
-        return write(serverAttributes.get(ATTR_BATTERYVOLTAGEMINTHRESHOLD), value);
+        return write(getServerAttribute(ATTR_BATTERYVOLTAGEMINTHRESHOLD), value);
     }
 
     /**
@@ -1255,7 +1259,7 @@ public class ZclPowerConfigurationCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getBatteryVoltageMinThresholdAsync() {
-        return read(serverAttributes.get(ATTR_BATTERYVOLTAGEMINTHRESHOLD));
+        return read(getServerAttribute(ATTR_BATTERYVOLTAGEMINTHRESHOLD));
     }
 
     /**
@@ -1289,11 +1293,11 @@ public class ZclPowerConfigurationCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getBatteryVoltageMinThreshold(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_BATTERYVOLTAGEMINTHRESHOLD).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_BATTERYVOLTAGEMINTHRESHOLD).getLastValue();
+        if (getServerAttribute(ATTR_BATTERYVOLTAGEMINTHRESHOLD).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_BATTERYVOLTAGEMINTHRESHOLD).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_BATTERYVOLTAGEMINTHRESHOLD));
+        return (Integer) readSync(getServerAttribute(ATTR_BATTERYVOLTAGEMINTHRESHOLD));
     }
 
     /**
@@ -1312,7 +1316,7 @@ public class ZclPowerConfigurationCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setBatteryVoltageThreshold1(final Integer value) {
-        return write(serverAttributes.get(ATTR_BATTERYVOLTAGETHRESHOLD1), value);
+        return write(getServerAttribute(ATTR_BATTERYVOLTAGETHRESHOLD1), value);
     }
 
     /**
@@ -1330,7 +1334,7 @@ public class ZclPowerConfigurationCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getBatteryVoltageThreshold1Async() {
-        return read(serverAttributes.get(ATTR_BATTERYVOLTAGETHRESHOLD1));
+        return read(getServerAttribute(ATTR_BATTERYVOLTAGETHRESHOLD1));
     }
 
     /**
@@ -1356,11 +1360,11 @@ public class ZclPowerConfigurationCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getBatteryVoltageThreshold1(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_BATTERYVOLTAGETHRESHOLD1).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_BATTERYVOLTAGETHRESHOLD1).getLastValue();
+        if (getServerAttribute(ATTR_BATTERYVOLTAGETHRESHOLD1).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_BATTERYVOLTAGETHRESHOLD1).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_BATTERYVOLTAGETHRESHOLD1));
+        return (Integer) readSync(getServerAttribute(ATTR_BATTERYVOLTAGETHRESHOLD1));
     }
 
     /**
@@ -1379,7 +1383,7 @@ public class ZclPowerConfigurationCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setBatteryVoltageThreshold2(final Integer value) {
-        return write(serverAttributes.get(ATTR_BATTERYVOLTAGETHRESHOLD2), value);
+        return write(getServerAttribute(ATTR_BATTERYVOLTAGETHRESHOLD2), value);
     }
 
     /**
@@ -1397,7 +1401,7 @@ public class ZclPowerConfigurationCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getBatteryVoltageThreshold2Async() {
-        return read(serverAttributes.get(ATTR_BATTERYVOLTAGETHRESHOLD2));
+        return read(getServerAttribute(ATTR_BATTERYVOLTAGETHRESHOLD2));
     }
 
     /**
@@ -1423,11 +1427,11 @@ public class ZclPowerConfigurationCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getBatteryVoltageThreshold2(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_BATTERYVOLTAGETHRESHOLD2).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_BATTERYVOLTAGETHRESHOLD2).getLastValue();
+        if (getServerAttribute(ATTR_BATTERYVOLTAGETHRESHOLD2).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_BATTERYVOLTAGETHRESHOLD2).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_BATTERYVOLTAGETHRESHOLD2));
+        return (Integer) readSync(getServerAttribute(ATTR_BATTERYVOLTAGETHRESHOLD2));
     }
 
     /**
@@ -1446,7 +1450,7 @@ public class ZclPowerConfigurationCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setBatteryVoltageThreshold3(final Integer value) {
-        return write(serverAttributes.get(ATTR_BATTERYVOLTAGETHRESHOLD3), value);
+        return write(getServerAttribute(ATTR_BATTERYVOLTAGETHRESHOLD3), value);
     }
 
     /**
@@ -1464,7 +1468,7 @@ public class ZclPowerConfigurationCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getBatteryVoltageThreshold3Async() {
-        return read(serverAttributes.get(ATTR_BATTERYVOLTAGETHRESHOLD3));
+        return read(getServerAttribute(ATTR_BATTERYVOLTAGETHRESHOLD3));
     }
 
     /**
@@ -1490,11 +1494,11 @@ public class ZclPowerConfigurationCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getBatteryVoltageThreshold3(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_BATTERYVOLTAGETHRESHOLD3).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_BATTERYVOLTAGETHRESHOLD3).getLastValue();
+        if (getServerAttribute(ATTR_BATTERYVOLTAGETHRESHOLD3).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_BATTERYVOLTAGETHRESHOLD3).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_BATTERYVOLTAGETHRESHOLD3));
+        return (Integer) readSync(getServerAttribute(ATTR_BATTERYVOLTAGETHRESHOLD3));
     }
 
     /**
@@ -1513,7 +1517,7 @@ public class ZclPowerConfigurationCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setBatteryPercentageMinThreshold(final Integer value) {
-        return write(serverAttributes.get(ATTR_BATTERYPERCENTAGEMINTHRESHOLD), value);
+        return write(getServerAttribute(ATTR_BATTERYPERCENTAGEMINTHRESHOLD), value);
     }
 
     /**
@@ -1531,7 +1535,7 @@ public class ZclPowerConfigurationCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getBatteryPercentageMinThresholdAsync() {
-        return read(serverAttributes.get(ATTR_BATTERYPERCENTAGEMINTHRESHOLD));
+        return read(getServerAttribute(ATTR_BATTERYPERCENTAGEMINTHRESHOLD));
     }
 
     /**
@@ -1557,11 +1561,11 @@ public class ZclPowerConfigurationCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getBatteryPercentageMinThreshold(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_BATTERYPERCENTAGEMINTHRESHOLD).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_BATTERYPERCENTAGEMINTHRESHOLD).getLastValue();
+        if (getServerAttribute(ATTR_BATTERYPERCENTAGEMINTHRESHOLD).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_BATTERYPERCENTAGEMINTHRESHOLD).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_BATTERYPERCENTAGEMINTHRESHOLD));
+        return (Integer) readSync(getServerAttribute(ATTR_BATTERYPERCENTAGEMINTHRESHOLD));
     }
 
     /**
@@ -1580,7 +1584,7 @@ public class ZclPowerConfigurationCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setBatteryPercentageThreshold1(final Integer value) {
-        return write(serverAttributes.get(ATTR_BATTERYPERCENTAGETHRESHOLD1), value);
+        return write(getServerAttribute(ATTR_BATTERYPERCENTAGETHRESHOLD1), value);
     }
 
     /**
@@ -1598,7 +1602,7 @@ public class ZclPowerConfigurationCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getBatteryPercentageThreshold1Async() {
-        return read(serverAttributes.get(ATTR_BATTERYPERCENTAGETHRESHOLD1));
+        return read(getServerAttribute(ATTR_BATTERYPERCENTAGETHRESHOLD1));
     }
 
     /**
@@ -1624,11 +1628,11 @@ public class ZclPowerConfigurationCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getBatteryPercentageThreshold1(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_BATTERYPERCENTAGETHRESHOLD1).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_BATTERYPERCENTAGETHRESHOLD1).getLastValue();
+        if (getServerAttribute(ATTR_BATTERYPERCENTAGETHRESHOLD1).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_BATTERYPERCENTAGETHRESHOLD1).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_BATTERYPERCENTAGETHRESHOLD1));
+        return (Integer) readSync(getServerAttribute(ATTR_BATTERYPERCENTAGETHRESHOLD1));
     }
 
     /**
@@ -1647,7 +1651,7 @@ public class ZclPowerConfigurationCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setBatteryPercentageThreshold2(final Integer value) {
-        return write(serverAttributes.get(ATTR_BATTERYPERCENTAGETHRESHOLD2), value);
+        return write(getServerAttribute(ATTR_BATTERYPERCENTAGETHRESHOLD2), value);
     }
 
     /**
@@ -1665,7 +1669,7 @@ public class ZclPowerConfigurationCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getBatteryPercentageThreshold2Async() {
-        return read(serverAttributes.get(ATTR_BATTERYPERCENTAGETHRESHOLD2));
+        return read(getServerAttribute(ATTR_BATTERYPERCENTAGETHRESHOLD2));
     }
 
     /**
@@ -1691,11 +1695,11 @@ public class ZclPowerConfigurationCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getBatteryPercentageThreshold2(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_BATTERYPERCENTAGETHRESHOLD2).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_BATTERYPERCENTAGETHRESHOLD2).getLastValue();
+        if (getServerAttribute(ATTR_BATTERYPERCENTAGETHRESHOLD2).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_BATTERYPERCENTAGETHRESHOLD2).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_BATTERYPERCENTAGETHRESHOLD2));
+        return (Integer) readSync(getServerAttribute(ATTR_BATTERYPERCENTAGETHRESHOLD2));
     }
 
     /**
@@ -1714,7 +1718,7 @@ public class ZclPowerConfigurationCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setBatteryPercentageThreshold3(final Integer value) {
-        return write(serverAttributes.get(ATTR_BATTERYPERCENTAGETHRESHOLD3), value);
+        return write(getServerAttribute(ATTR_BATTERYPERCENTAGETHRESHOLD3), value);
     }
 
     /**
@@ -1732,7 +1736,7 @@ public class ZclPowerConfigurationCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getBatteryPercentageThreshold3Async() {
-        return read(serverAttributes.get(ATTR_BATTERYPERCENTAGETHRESHOLD3));
+        return read(getServerAttribute(ATTR_BATTERYPERCENTAGETHRESHOLD3));
     }
 
     /**
@@ -1758,11 +1762,11 @@ public class ZclPowerConfigurationCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getBatteryPercentageThreshold3(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_BATTERYPERCENTAGETHRESHOLD3).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_BATTERYPERCENTAGETHRESHOLD3).getLastValue();
+        if (getServerAttribute(ATTR_BATTERYPERCENTAGETHRESHOLD3).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_BATTERYPERCENTAGETHRESHOLD3).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_BATTERYPERCENTAGETHRESHOLD3));
+        return (Integer) readSync(getServerAttribute(ATTR_BATTERYPERCENTAGETHRESHOLD3));
     }
 
     /**
@@ -1782,7 +1786,7 @@ public class ZclPowerConfigurationCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getBatteryAlarmStateAsync() {
-        return read(serverAttributes.get(ATTR_BATTERYALARMSTATE));
+        return read(getServerAttribute(ATTR_BATTERYALARMSTATE));
     }
 
     /**
@@ -1810,10 +1814,10 @@ public class ZclPowerConfigurationCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getBatteryAlarmState(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_BATTERYALARMSTATE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_BATTERYALARMSTATE).getLastValue();
+        if (getServerAttribute(ATTR_BATTERYALARMSTATE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_BATTERYALARMSTATE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_BATTERYALARMSTATE));
+        return (Integer) readSync(getServerAttribute(ATTR_BATTERYALARMSTATE));
     }
 }
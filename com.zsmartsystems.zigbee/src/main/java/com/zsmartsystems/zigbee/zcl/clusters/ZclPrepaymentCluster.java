@@ -8,7 +8,9 @@
 package com.zsmartsystems.zigbee.zcl.clusters;
 
 import java.util.Calendar;
+import java.util.Collections;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.Future;
 
@@ -17,6 +19,7 @@ import javax.annotation.Generated;
 import com.zsmartsystems.zigbee.CommandResult;
 import com.zsmartsystems.zigbee.ZigBeeEndpoint;
 import com.zsmartsystems.zigbee.zcl.ZclAttribute;
+import com.zsmartsystems.zigbee.zcl.ZclAttributeDefinition;
 import com.zsmartsystems.zigbee.zcl.ZclCluster;
 import com.zsmartsystems.zigbee.zcl.ZclCommand;
 import com.zsmartsystems.zigbee.zcl.clusters.prepayment.ChangeDebt;
@@ -64,7 +67,7 @@ import com.zsmartsystems.zigbee.zcl.protocol.ZclDataType;
  * <p>
  * Code is auto-generated. Modifications may be overwritten!
  */
-@Generated(value = "com.zsmartsystems.zigbee.autocode.ZigBeeCodeGenerator", date = "2019-10-04T18:21:10Z")
+@Generated(value = "com.zsmartsystems.zigbee.autocode.ZigBeeCodeGenerator", date = "2026-10-18T14:31:35Z")
 public class ZclPrepaymentCluster extends ZclCluster {
     /**
      * The ZigBee Cluster Library Cluster ID
@@ -602,150 +605,152 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     public static final int ATTR_HISTORICALFREEZETIME = 0x055C;
 
-    @Override
-    protected Map<Integer, ZclAttribute> initializeClientAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
-
-        return attributeMap;
+    /**
+     * The server attribute definitions. These are shared by all instances of this cluster.
+     */
+    private static final Map<Integer, ZclAttributeDefinition> SERVER_ATTRIBUTES = initializeServerAttributeDefinitions();
+
+    private static Map<Integer, ZclAttributeDefinition> initializeServerAttributeDefinitions() {
+        Map<Integer, ZclAttributeDefinition> attributeMap = new TreeMap<>();
+
+        attributeMap.put(ATTR_PAYMENTCONTROLCONFIGURATION, new ZclAttributeDefinition(ATTR_PAYMENTCONTROLCONFIGURATION, "Payment Control Configuration", ZclDataType.BITMAP_16_BIT, true, true, false, false));
+        attributeMap.put(ATTR_CREDITREMAINING, new ZclAttributeDefinition(ATTR_CREDITREMAINING, "Credit Remaining", ZclDataType.SIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_EMERGENCYCREDITREMAINING, new ZclAttributeDefinition(ATTR_EMERGENCYCREDITREMAINING, "Emergency Credit Remaining", ZclDataType.SIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CREDITSTATUS, new ZclAttributeDefinition(ATTR_CREDITSTATUS, "Credit Status", ZclDataType.BITMAP_8_BIT, true, true, false, false));
+        attributeMap.put(ATTR_CREDITREMAININGTIMESTAMP, new ZclAttributeDefinition(ATTR_CREDITREMAININGTIMESTAMP, "Credit Remaining Timestamp", ZclDataType.UTCTIME, true, true, false, false));
+        attributeMap.put(ATTR_ACCUMULATEDDEBT, new ZclAttributeDefinition(ATTR_ACCUMULATEDDEBT, "Accumulated Debt", ZclDataType.SIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_OVERALLDEBTCAP, new ZclAttributeDefinition(ATTR_OVERALLDEBTCAP, "Overall Debt Cap", ZclDataType.SIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_EMERGENCYCREDITLIMITALLOWANCE, new ZclAttributeDefinition(ATTR_EMERGENCYCREDITLIMITALLOWANCE, "Emergency Credit Limit Allowance", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_EMERGENCYCREDITTHRESHOLD, new ZclAttributeDefinition(ATTR_EMERGENCYCREDITTHRESHOLD, "Emergency Credit Threshold", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_TOTALCREDITADDED, new ZclAttributeDefinition(ATTR_TOTALCREDITADDED, "Total Credit Added", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_MAXCREDITLIMIT, new ZclAttributeDefinition(ATTR_MAXCREDITLIMIT, "Max Credit Limit", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_MAXCREDITPERTOPUP, new ZclAttributeDefinition(ATTR_MAXCREDITPERTOPUP, "Max Credit Per Top Up", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_FRIENDLYCREDITWARNING, new ZclAttributeDefinition(ATTR_FRIENDLYCREDITWARNING, "Friendly Credit Warning", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_LOWCREDITWARNINGLEVEL, new ZclAttributeDefinition(ATTR_LOWCREDITWARNINGLEVEL, "Low Credit Warning Level", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_IHDLOWCREDITWARNINGLEVEL, new ZclAttributeDefinition(ATTR_IHDLOWCREDITWARNINGLEVEL, "Ihd Low Credit Warning Level", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, true, true));
+        attributeMap.put(ATTR_INTERRUPTSUSPENDTIME, new ZclAttributeDefinition(ATTR_INTERRUPTSUSPENDTIME, "Interrupt Suspend Time", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_REMAININGFRIENDLYCREDITTIME, new ZclAttributeDefinition(ATTR_REMAININGFRIENDLYCREDITTIME, "Remaining Friendly Credit Time", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_NEXTFRIENDLYCREDITPERIOD, new ZclAttributeDefinition(ATTR_NEXTFRIENDLYCREDITPERIOD, "Next Friendly Credit Period", ZclDataType.UTCTIME, true, true, false, false));
+        attributeMap.put(ATTR_CUTOFFVALUE, new ZclAttributeDefinition(ATTR_CUTOFFVALUE, "Cut Off Value", ZclDataType.SIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_TOKENCARRIERID, new ZclAttributeDefinition(ATTR_TOKENCARRIERID, "Token Carrier ID", ZclDataType.OCTET_STRING, false, true, true, true));
+        attributeMap.put(ATTR_TOPUPDATETIME1, new ZclAttributeDefinition(ATTR_TOPUPDATETIME1, "Top Up Date / time #1", ZclDataType.UTCTIME, true, true, false, false));
+        attributeMap.put(ATTR_TOPUPAMOUNT1, new ZclAttributeDefinition(ATTR_TOPUPAMOUNT1, "Top Up Amount #1", ZclDataType.SIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_TOPUPORIGINATINGDEVICE1, new ZclAttributeDefinition(ATTR_TOPUPORIGINATINGDEVICE1, "Top Up Originating Device #1", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
+        attributeMap.put(ATTR_TOPUPCODE1, new ZclAttributeDefinition(ATTR_TOPUPCODE1, "Top Up Code #1", ZclDataType.OCTET_STRING, true, true, false, false));
+        attributeMap.put(ATTR_TOPUPDATETIME2, new ZclAttributeDefinition(ATTR_TOPUPDATETIME2, "Top Up Date /time #2", ZclDataType.UTCTIME, true, true, false, false));
+        attributeMap.put(ATTR_TOPUPAMOUNT2, new ZclAttributeDefinition(ATTR_TOPUPAMOUNT2, "Top Up Amount #2", ZclDataType.SIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_TOPUPORIGINATINGDEVICE2, new ZclAttributeDefinition(ATTR_TOPUPORIGINATINGDEVICE2, "Top Up Originating Device #2", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
+        attributeMap.put(ATTR_TOPUPCODE2, new ZclAttributeDefinition(ATTR_TOPUPCODE2, "Top Up Code #2", ZclDataType.OCTET_STRING, true, true, false, false));
+        attributeMap.put(ATTR_TOPUPDATETIME3, new ZclAttributeDefinition(ATTR_TOPUPDATETIME3, "Top Up Date /time #3", ZclDataType.UTCTIME, true, true, false, false));
+        attributeMap.put(ATTR_TOPUPAMOUNT3, new ZclAttributeDefinition(ATTR_TOPUPAMOUNT3, "Top Up Amount #3", ZclDataType.SIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_TOPUPORIGINATINGDEVICE3, new ZclAttributeDefinition(ATTR_TOPUPORIGINATINGDEVICE3, "Top Up Originating Device #3", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
+        attributeMap.put(ATTR_TOPUPCODE3, new ZclAttributeDefinition(ATTR_TOPUPCODE3, "Top Up Code #3", ZclDataType.OCTET_STRING, true, true, false, false));
+        attributeMap.put(ATTR_TOPUPDATETIME4, new ZclAttributeDefinition(ATTR_TOPUPDATETIME4, "Top Up Date /time #4", ZclDataType.UTCTIME, true, true, false, false));
+        attributeMap.put(ATTR_TOPUPAMOUNT4, new ZclAttributeDefinition(ATTR_TOPUPAMOUNT4, "Top Up Amount #4", ZclDataType.SIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_TOPUPORIGINATINGDEVICE4, new ZclAttributeDefinition(ATTR_TOPUPORIGINATINGDEVICE4, "Top Up Originating Device #4", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
+        attributeMap.put(ATTR_TOPUPCODE4, new ZclAttributeDefinition(ATTR_TOPUPCODE4, "Top Up Code #4", ZclDataType.OCTET_STRING, true, true, false, false));
+        attributeMap.put(ATTR_TOPUPDATETIME5, new ZclAttributeDefinition(ATTR_TOPUPDATETIME5, "Top Up Date /time #5", ZclDataType.UTCTIME, true, true, false, false));
+        attributeMap.put(ATTR_TOPUPAMOUNT5, new ZclAttributeDefinition(ATTR_TOPUPAMOUNT5, "Top Up Amount #5", ZclDataType.SIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_TOPUPORIGINATINGDEVICE5, new ZclAttributeDefinition(ATTR_TOPUPORIGINATINGDEVICE5, "Top Up Originating Device #5", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
+        attributeMap.put(ATTR_TOPUPCODE5, new ZclAttributeDefinition(ATTR_TOPUPCODE5, "Top Up Code #5", ZclDataType.OCTET_STRING, true, true, false, false));
+        attributeMap.put(ATTR_DEBTLABEL1, new ZclAttributeDefinition(ATTR_DEBTLABEL1, "Debt Label 1", ZclDataType.OCTET_STRING, true, true, false, false));
+        attributeMap.put(ATTR_DEBTAMOUNT1, new ZclAttributeDefinition(ATTR_DEBTAMOUNT1, "Debt Amount 1", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_DEBTRECOVERYMETHOD1, new ZclAttributeDefinition(ATTR_DEBTRECOVERYMETHOD1, "Debt Recovery Method 1", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
+        attributeMap.put(ATTR_DEBTRECOVERYSTARTTIME1, new ZclAttributeDefinition(ATTR_DEBTRECOVERYSTARTTIME1, "Debt Recovery Start Time 1", ZclDataType.UTCTIME, true, true, false, false));
+        attributeMap.put(ATTR_DEBTRECOVERYCOLLECTIONTIME1, new ZclAttributeDefinition(ATTR_DEBTRECOVERYCOLLECTIONTIME1, "Debt Recovery Collection Time 1", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_DEBTRECOVERYFREQUENCY1, new ZclAttributeDefinition(ATTR_DEBTRECOVERYFREQUENCY1, "Debt Recovery Frequency 1", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
+        attributeMap.put(ATTR_DEBTRECOVERYAMOUNT1, new ZclAttributeDefinition(ATTR_DEBTRECOVERYAMOUNT1, "Debt Recovery Amount 1", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_DEBTRECOVERYTOPUPPERCENTAGE1, new ZclAttributeDefinition(ATTR_DEBTRECOVERYTOPUPPERCENTAGE1, "Debt Recovery Top Up Percentage 1", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_DEBTLABEL2, new ZclAttributeDefinition(ATTR_DEBTLABEL2, "Debt Label 2", ZclDataType.OCTET_STRING, true, true, false, false));
+        attributeMap.put(ATTR_DEBTAMOUNT2, new ZclAttributeDefinition(ATTR_DEBTAMOUNT2, "Debt Amount 2", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_DEBTRECOVERYMETHOD2, new ZclAttributeDefinition(ATTR_DEBTRECOVERYMETHOD2, "Debt Recovery Method 2", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
+        attributeMap.put(ATTR_DEBTRECOVERYSTARTTIME2, new ZclAttributeDefinition(ATTR_DEBTRECOVERYSTARTTIME2, "Debt Recovery Start Time 2", ZclDataType.UTCTIME, true, true, false, false));
+        attributeMap.put(ATTR_DEBTRECOVERYCOLLECTIONTIME2, new ZclAttributeDefinition(ATTR_DEBTRECOVERYCOLLECTIONTIME2, "Debt Recovery Collection Time 2", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_DEBTRECOVERYFREQUENCY2, new ZclAttributeDefinition(ATTR_DEBTRECOVERYFREQUENCY2, "Debt Recovery Frequency 2", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
+        attributeMap.put(ATTR_DEBTRECOVERYAMOUNT2, new ZclAttributeDefinition(ATTR_DEBTRECOVERYAMOUNT2, "Debt Recovery Amount 2", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_DEBTRECOVERYTOPUPPERCENTAGE2, new ZclAttributeDefinition(ATTR_DEBTRECOVERYTOPUPPERCENTAGE2, "Debt Recovery Top Up Percentage 2", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_DEBTLABEL3, new ZclAttributeDefinition(ATTR_DEBTLABEL3, "Debt Label 3", ZclDataType.OCTET_STRING, true, true, false, false));
+        attributeMap.put(ATTR_DEBTAMOUNT3, new ZclAttributeDefinition(ATTR_DEBTAMOUNT3, "Debt Amount 3", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_DEBTRECOVERYMETHOD3, new ZclAttributeDefinition(ATTR_DEBTRECOVERYMETHOD3, "Debt Recovery Method 3", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
+        attributeMap.put(ATTR_DEBTRECOVERYSTARTTIME3, new ZclAttributeDefinition(ATTR_DEBTRECOVERYSTARTTIME3, "Debt Recovery Start Time 3", ZclDataType.UTCTIME, true, true, false, false));
+        attributeMap.put(ATTR_DEBTRECOVERYCOLLECTIONTIME3, new ZclAttributeDefinition(ATTR_DEBTRECOVERYCOLLECTIONTIME3, "Debt Recovery Collection Time 3", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_DEBTRECOVERYFREQUENCY3, new ZclAttributeDefinition(ATTR_DEBTRECOVERYFREQUENCY3, "Debt Recovery Frequency 3", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
+        attributeMap.put(ATTR_DEBTRECOVERYAMOUNT3, new ZclAttributeDefinition(ATTR_DEBTRECOVERYAMOUNT3, "Debt Recovery Amount 3", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_DEBTRECOVERYTOPUPPERCENTAGE3, new ZclAttributeDefinition(ATTR_DEBTRECOVERYTOPUPPERCENTAGE3, "Debt Recovery Top Up Percentage 3", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREPAYMENTALARMSTATUS, new ZclAttributeDefinition(ATTR_PREPAYMENTALARMSTATUS, "Prepayment Alarm Status", ZclDataType.BITMAP_16_BIT, false, true, true, true));
+        attributeMap.put(ATTR_PREPAYGENERICALARMMASK, new ZclAttributeDefinition(ATTR_PREPAYGENERICALARMMASK, "Prepay Generic Alarm Mask", ZclDataType.BITMAP_16_BIT, false, true, true, true));
+        attributeMap.put(ATTR_PREPAYSWITCHALARMMASK, new ZclAttributeDefinition(ATTR_PREPAYSWITCHALARMMASK, "Prepay Switch Alarm Mask", ZclDataType.BITMAP_16_BIT, false, true, true, true));
+        attributeMap.put(ATTR_PREPAYEVENTALARMMASK, new ZclAttributeDefinition(ATTR_PREPAYEVENTALARMMASK, "Prepay Event Alarm Mask", ZclDataType.BITMAP_16_BIT, false, true, true, true));
+        attributeMap.put(ATTR_HISTORICALCOSTCONSUMPTIONFORMATTING, new ZclAttributeDefinition(ATTR_HISTORICALCOSTCONSUMPTIONFORMATTING, "Historical Cost Consumption Formatting", ZclDataType.BITMAP_8_BIT, true, true, false, false));
+        attributeMap.put(ATTR_CONSUMPTIONUNITOFMEASUREMENT, new ZclAttributeDefinition(ATTR_CONSUMPTIONUNITOFMEASUREMENT, "Consumption Unit Of Measurement", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
+        attributeMap.put(ATTR_CURRENCYSCALINGFACTOR, new ZclAttributeDefinition(ATTR_CURRENCYSCALINGFACTOR, "Currency Scaling Factor", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
+        attributeMap.put(ATTR_CURRENCY, new ZclAttributeDefinition(ATTR_CURRENCY, "Currency", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTDAYCOSTCONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTDAYCOSTCONSUMPTIONDELIVERED, "Current Day Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTDAYCOSTCONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTDAYCOSTCONSUMPTIONRECEIVED, "Current Day Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSDAYCOSTCONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSDAYCOSTCONSUMPTIONDELIVERED, "Previous Day Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSDAYCOSTCONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSDAYCOSTCONSUMPTIONRECEIVED, "Previous Day Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSDAY2COSTCONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSDAY2COSTCONSUMPTIONDELIVERED, "Previous Day 2 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSDAY2COSTCONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSDAY2COSTCONSUMPTIONRECEIVED, "Previous Day 2 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSDAY3COSTCONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSDAY3COSTCONSUMPTIONDELIVERED, "Previous Day 3 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSDAY3COSTCONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSDAY3COSTCONSUMPTIONRECEIVED, "Previous Day 3 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSDAY4COSTCONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSDAY4COSTCONSUMPTIONDELIVERED, "Previous Day 4 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSDAY4COSTCONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSDAY4COSTCONSUMPTIONRECEIVED, "Previous Day 4 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSDAY5COSTCONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSDAY5COSTCONSUMPTIONDELIVERED, "Previous Day 5 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSDAY5COSTCONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSDAY5COSTCONSUMPTIONRECEIVED, "Previous Day 5 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSDAY6COSTCONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSDAY6COSTCONSUMPTIONDELIVERED, "Previous Day 6 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSDAY6COSTCONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSDAY6COSTCONSUMPTIONRECEIVED, "Previous Day 6 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSDAY7COSTCONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSDAY7COSTCONSUMPTIONDELIVERED, "Previous Day 7 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSDAY7COSTCONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSDAY7COSTCONSUMPTIONRECEIVED, "Previous Day 7 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSDAY8COSTCONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSDAY8COSTCONSUMPTIONDELIVERED, "Previous Day 8 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSDAY8COSTCONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSDAY8COSTCONSUMPTIONRECEIVED, "Previous Day 8 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTWEEKCOSTCONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTWEEKCOSTCONSUMPTIONDELIVERED, "Current Week Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTWEEKCOSTCONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTWEEKCOSTCONSUMPTIONRECEIVED, "Current Week Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSWEEKCOSTCONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSWEEKCOSTCONSUMPTIONDELIVERED, "Previous Week Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSWEEKCOSTCONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSWEEKCOSTCONSUMPTIONRECEIVED, "Previous Week Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSWEEK2COSTCONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSWEEK2COSTCONSUMPTIONDELIVERED, "Previous Week 2 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSWEEK2COSTCONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSWEEK2COSTCONSUMPTIONRECEIVED, "Previous Week 2 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSWEEK3COSTCONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSWEEK3COSTCONSUMPTIONDELIVERED, "Previous Week 3 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSWEEK3COSTCONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSWEEK3COSTCONSUMPTIONRECEIVED, "Previous Week 3 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSWEEK4COSTCONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSWEEK4COSTCONSUMPTIONDELIVERED, "Previous Week 4 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSWEEK4COSTCONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSWEEK4COSTCONSUMPTIONRECEIVED, "Previous Week 4 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSWEEK5COSTCONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSWEEK5COSTCONSUMPTIONDELIVERED, "Previous Week 5 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSWEEK5COSTCONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSWEEK5COSTCONSUMPTIONRECEIVED, "Previous Week 5 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTMONTHCOSTCONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTMONTHCOSTCONSUMPTIONDELIVERED, "Current Month Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTMONTHCOSTCONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTMONTHCOSTCONSUMPTIONRECEIVED, "Current Month Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTHCOSTCONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTHCOSTCONSUMPTIONDELIVERED, "Previous Month Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTHCOSTCONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTHCOSTCONSUMPTIONRECEIVED, "Previous Month Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH2COSTCONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH2COSTCONSUMPTIONDELIVERED, "Previous Month 2 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH2COSTCONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH2COSTCONSUMPTIONRECEIVED, "Previous Month 2 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH3COSTCONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH3COSTCONSUMPTIONDELIVERED, "Previous Month 3 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH3COSTCONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH3COSTCONSUMPTIONRECEIVED, "Previous Month 3 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH4COSTCONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH4COSTCONSUMPTIONDELIVERED, "Previous Month 4 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH4COSTCONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH4COSTCONSUMPTIONRECEIVED, "Previous Month 4 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH5COSTCONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH5COSTCONSUMPTIONDELIVERED, "Previous Month 5 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH5COSTCONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH5COSTCONSUMPTIONRECEIVED, "Previous Month 5 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH6COSTCONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH6COSTCONSUMPTIONDELIVERED, "Previous Month 6 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH6COSTCONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH6COSTCONSUMPTIONRECEIVED, "Previous Month 6 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH7COSTCONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH7COSTCONSUMPTIONDELIVERED, "Previous Month 7 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH7COSTCONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH7COSTCONSUMPTIONRECEIVED, "Previous Month 7 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH8COSTCONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH8COSTCONSUMPTIONDELIVERED, "Previous Month 8 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH8COSTCONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH8COSTCONSUMPTIONRECEIVED, "Previous Month 8 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH9COSTCONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH9COSTCONSUMPTIONDELIVERED, "Previous Month 9 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH9COSTCONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH9COSTCONSUMPTIONRECEIVED, "Previous Month 9 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH10COSTCONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH10COSTCONSUMPTIONDELIVERED, "Previous Month 10 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH10COSTCONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH10COSTCONSUMPTIONRECEIVED, "Previous Month 10 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH11COSTCONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH11COSTCONSUMPTIONDELIVERED, "Previous Month 11 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH11COSTCONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH11COSTCONSUMPTIONRECEIVED, "Previous Month 11 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH12COSTCONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH12COSTCONSUMPTIONDELIVERED, "Previous Month 12 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH12COSTCONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH12COSTCONSUMPTIONRECEIVED, "Previous Month 12 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH13COSTCONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH13COSTCONSUMPTIONDELIVERED, "Previous Month 13 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH13COSTCONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH13COSTCONSUMPTIONRECEIVED, "Previous Month 13 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_HISTORICALFREEZETIME, new ZclAttributeDefinition(ATTR_HISTORICALFREEZETIME, "Historical Freeze Time", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+
+        return Collections.unmodifiableMap(attributeMap);
     }
 
     @Override
-    protected Map<Integer, ZclAttribute> initializeServerAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
-
-        attributeMap.put(ATTR_PAYMENTCONTROLCONFIGURATION, new ZclAttribute(this, ATTR_PAYMENTCONTROLCONFIGURATION, "Payment Control Configuration", ZclDataType.BITMAP_16_BIT, true, true, false, false));
-        attributeMap.put(ATTR_CREDITREMAINING, new ZclAttribute(this, ATTR_CREDITREMAINING, "Credit Remaining", ZclDataType.SIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_EMERGENCYCREDITREMAINING, new ZclAttribute(this, ATTR_EMERGENCYCREDITREMAINING, "Emergency Credit Remaining", ZclDataType.SIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CREDITSTATUS, new ZclAttribute(this, ATTR_CREDITSTATUS, "Credit Status", ZclDataType.BITMAP_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_CREDITREMAININGTIMESTAMP, new ZclAttribute(this, ATTR_CREDITREMAININGTIMESTAMP, "Credit Remaining Timestamp", ZclDataType.UTCTIME, true, true, false, false));
-        attributeMap.put(ATTR_ACCUMULATEDDEBT, new ZclAttribute(this, ATTR_ACCUMULATEDDEBT, "Accumulated Debt", ZclDataType.SIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_OVERALLDEBTCAP, new ZclAttribute(this, ATTR_OVERALLDEBTCAP, "Overall Debt Cap", ZclDataType.SIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_EMERGENCYCREDITLIMITALLOWANCE, new ZclAttribute(this, ATTR_EMERGENCYCREDITLIMITALLOWANCE, "Emergency Credit Limit Allowance", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_EMERGENCYCREDITTHRESHOLD, new ZclAttribute(this, ATTR_EMERGENCYCREDITTHRESHOLD, "Emergency Credit Threshold", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_TOTALCREDITADDED, new ZclAttribute(this, ATTR_TOTALCREDITADDED, "Total Credit Added", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_MAXCREDITLIMIT, new ZclAttribute(this, ATTR_MAXCREDITLIMIT, "Max Credit Limit", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_MAXCREDITPERTOPUP, new ZclAttribute(this, ATTR_MAXCREDITPERTOPUP, "Max Credit Per Top Up", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_FRIENDLYCREDITWARNING, new ZclAttribute(this, ATTR_FRIENDLYCREDITWARNING, "Friendly Credit Warning", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_LOWCREDITWARNINGLEVEL, new ZclAttribute(this, ATTR_LOWCREDITWARNINGLEVEL, "Low Credit Warning Level", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_IHDLOWCREDITWARNINGLEVEL, new ZclAttribute(this, ATTR_IHDLOWCREDITWARNINGLEVEL, "Ihd Low Credit Warning Level", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, true, true));
-        attributeMap.put(ATTR_INTERRUPTSUSPENDTIME, new ZclAttribute(this, ATTR_INTERRUPTSUSPENDTIME, "Interrupt Suspend Time", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_REMAININGFRIENDLYCREDITTIME, new ZclAttribute(this, ATTR_REMAININGFRIENDLYCREDITTIME, "Remaining Friendly Credit Time", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_NEXTFRIENDLYCREDITPERIOD, new ZclAttribute(this, ATTR_NEXTFRIENDLYCREDITPERIOD, "Next Friendly Credit Period", ZclDataType.UTCTIME, true, true, false, false));
-        attributeMap.put(ATTR_CUTOFFVALUE, new ZclAttribute(this, ATTR_CUTOFFVALUE, "Cut Off Value", ZclDataType.SIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_TOKENCARRIERID, new ZclAttribute(this, ATTR_TOKENCARRIERID, "Token Carrier ID", ZclDataType.OCTET_STRING, false, true, true, true));
-        attributeMap.put(ATTR_TOPUPDATETIME1, new ZclAttribute(this, ATTR_TOPUPDATETIME1, "Top Up Date / time #1", ZclDataType.UTCTIME, true, true, false, false));
-        attributeMap.put(ATTR_TOPUPAMOUNT1, new ZclAttribute(this, ATTR_TOPUPAMOUNT1, "Top Up Amount #1", ZclDataType.SIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_TOPUPORIGINATINGDEVICE1, new ZclAttribute(this, ATTR_TOPUPORIGINATINGDEVICE1, "Top Up Originating Device #1", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_TOPUPCODE1, new ZclAttribute(this, ATTR_TOPUPCODE1, "Top Up Code #1", ZclDataType.OCTET_STRING, true, true, false, false));
-        attributeMap.put(ATTR_TOPUPDATETIME2, new ZclAttribute(this, ATTR_TOPUPDATETIME2, "Top Up Date /time #2", ZclDataType.UTCTIME, true, true, false, false));
-        attributeMap.put(ATTR_TOPUPAMOUNT2, new ZclAttribute(this, ATTR_TOPUPAMOUNT2, "Top Up Amount #2", ZclDataType.SIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_TOPUPORIGINATINGDEVICE2, new ZclAttribute(this, ATTR_TOPUPORIGINATINGDEVICE2, "Top Up Originating Device #2", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_TOPUPCODE2, new ZclAttribute(this, ATTR_TOPUPCODE2, "Top Up Code #2", ZclDataType.OCTET_STRING, true, true, false, false));
-        attributeMap.put(ATTR_TOPUPDATETIME3, new ZclAttribute(this, ATTR_TOPUPDATETIME3, "Top Up Date /time #3", ZclDataType.UTCTIME, true, true, false, false));
-        attributeMap.put(ATTR_TOPUPAMOUNT3, new ZclAttribute(this, ATTR_TOPUPAMOUNT3, "Top Up Amount #3", ZclDataType.SIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_TOPUPORIGINATINGDEVICE3, new ZclAttribute(this, ATTR_TOPUPORIGINATINGDEVICE3, "Top Up Originating Device #3", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_TOPUPCODE3, new ZclAttribute(this, ATTR_TOPUPCODE3, "Top Up Code #3", ZclDataType.OCTET_STRING, true, true, false, false));
-        attributeMap.put(ATTR_TOPUPDATETIME4, new ZclAttribute(this, ATTR_TOPUPDATETIME4, "Top Up Date /time #4", ZclDataType.UTCTIME, true, true, false, false));
-        attributeMap.put(ATTR_TOPUPAMOUNT4, new ZclAttribute(this, ATTR_TOPUPAMOUNT4, "Top Up Amount #4", ZclDataType.SIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_TOPUPORIGINATINGDEVICE4, new ZclAttribute(this, ATTR_TOPUPORIGINATINGDEVICE4, "Top Up Originating Device #4", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_TOPUPCODE4, new ZclAttribute(this, ATTR_TOPUPCODE4, "Top Up Code #4", ZclDataType.OCTET_STRING, true, true, false, false));
-        attributeMap.put(ATTR_TOPUPDATETIME5, new ZclAttribute(this, ATTR_TOPUPDATETIME5, "Top Up Date /time #5", ZclDataType.UTCTIME, true, true, false, false));
-        attributeMap.put(ATTR_TOPUPAMOUNT5, new ZclAttribute(this, ATTR_TOPUPAMOUNT5, "Top Up Amount #5", ZclDataType.SIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_TOPUPORIGINATINGDEVICE5, new ZclAttribute(this, ATTR_TOPUPORIGINATINGDEVICE5, "Top Up Originating Device #5", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_TOPUPCODE5, new ZclAttribute(this, ATTR_TOPUPCODE5, "Top Up Code #5", ZclDataType.OCTET_STRING, true, true, false, false));
-        attributeMap.put(ATTR_DEBTLABEL1, new ZclAttribute(this, ATTR_DEBTLABEL1, "Debt Label 1", ZclDataType.OCTET_STRING, true, true, false, false));
-        attributeMap.put(ATTR_DEBTAMOUNT1, new ZclAttribute(this, ATTR_DEBTAMOUNT1, "Debt Amount 1", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_DEBTRECOVERYMETHOD1, new ZclAttribute(this, ATTR_DEBTRECOVERYMETHOD1, "Debt Recovery Method 1", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_DEBTRECOVERYSTARTTIME1, new ZclAttribute(this, ATTR_DEBTRECOVERYSTARTTIME1, "Debt Recovery Start Time 1", ZclDataType.UTCTIME, true, true, false, false));
-        attributeMap.put(ATTR_DEBTRECOVERYCOLLECTIONTIME1, new ZclAttribute(this, ATTR_DEBTRECOVERYCOLLECTIONTIME1, "Debt Recovery Collection Time 1", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_DEBTRECOVERYFREQUENCY1, new ZclAttribute(this, ATTR_DEBTRECOVERYFREQUENCY1, "Debt Recovery Frequency 1", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_DEBTRECOVERYAMOUNT1, new ZclAttribute(this, ATTR_DEBTRECOVERYAMOUNT1, "Debt Recovery Amount 1", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_DEBTRECOVERYTOPUPPERCENTAGE1, new ZclAttribute(this, ATTR_DEBTRECOVERYTOPUPPERCENTAGE1, "Debt Recovery Top Up Percentage 1", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_DEBTLABEL2, new ZclAttribute(this, ATTR_DEBTLABEL2, "Debt Label 2", ZclDataType.OCTET_STRING, true, true, false, false));
-        attributeMap.put(ATTR_DEBTAMOUNT2, new ZclAttribute(this, ATTR_DEBTAMOUNT2, "Debt Amount 2", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_DEBTRECOVERYMETHOD2, new ZclAttribute(this, ATTR_DEBTRECOVERYMETHOD2, "Debt Recovery Method 2", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_DEBTRECOVERYSTARTTIME2, new ZclAttribute(this, ATTR_DEBTRECOVERYSTARTTIME2, "Debt Recovery Start Time 2", ZclDataType.UTCTIME, true, true, false, false));
-        attributeMap.put(ATTR_DEBTRECOVERYCOLLECTIONTIME2, new ZclAttribute(this, ATTR_DEBTRECOVERYCOLLECTIONTIME2, "Debt Recovery Collection Time 2", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_DEBTRECOVERYFREQUENCY2, new ZclAttribute(this, ATTR_DEBTRECOVERYFREQUENCY2, "Debt Recovery Frequency 2", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_DEBTRECOVERYAMOUNT2, new ZclAttribute(this, ATTR_DEBTRECOVERYAMOUNT2, "Debt Recovery Amount 2", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_DEBTRECOVERYTOPUPPERCENTAGE2, new ZclAttribute(this, ATTR_DEBTRECOVERYTOPUPPERCENTAGE2, "Debt Recovery Top Up Percentage 2", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_DEBTLABEL3, new ZclAttribute(this, ATTR_DEBTLABEL3, "Debt Label 3", ZclDataType.OCTET_STRING, true, true, false, false));
-        attributeMap.put(ATTR_DEBTAMOUNT3, new ZclAttribute(this, ATTR_DEBTAMOUNT3, "Debt Amount 3", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_DEBTRECOVERYMETHOD3, new ZclAttribute(this, ATTR_DEBTRECOVERYMETHOD3, "Debt Recovery Method 3", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_DEBTRECOVERYSTARTTIME3, new ZclAttribute(this, ATTR_DEBTRECOVERYSTARTTIME3, "Debt Recovery Start Time 3", ZclDataType.UTCTIME, true, true, false, false));
-        attributeMap.put(ATTR_DEBTRECOVERYCOLLECTIONTIME3, new ZclAttribute(this, ATTR_DEBTRECOVERYCOLLECTIONTIME3, "Debt Recovery Collection Time 3", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_DEBTRECOVERYFREQUENCY3, new ZclAttribute(this, ATTR_DEBTRECOVERYFREQUENCY3, "Debt Recovery Frequency 3", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_DEBTRECOVERYAMOUNT3, new ZclAttribute(this, ATTR_DEBTRECOVERYAMOUNT3, "Debt Recovery Amount 3", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_DEBTRECOVERYTOPUPPERCENTAGE3, new ZclAttribute(this, ATTR_DEBTRECOVERYTOPUPPERCENTAGE3, "Debt Recovery Top Up Percentage 3", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREPAYMENTALARMSTATUS, new ZclAttribute(this, ATTR_PREPAYMENTALARMSTATUS, "Prepayment Alarm Status", ZclDataType.BITMAP_16_BIT, false, true, true, true));
-        attributeMap.put(ATTR_PREPAYGENERICALARMMASK, new ZclAttribute(this, ATTR_PREPAYGENERICALARMMASK, "Prepay Generic Alarm Mask", ZclDataType.BITMAP_16_BIT, false, true, true, true));
-        attributeMap.put(ATTR_PREPAYSWITCHALARMMASK, new ZclAttribute(this, ATTR_PREPAYSWITCHALARMMASK, "Prepay Switch Alarm Mask", ZclDataType.BITMAP_16_BIT, false, true, true, true));
-        attributeMap.put(ATTR_PREPAYEVENTALARMMASK, new ZclAttribute(this, ATTR_PREPAYEVENTALARMMASK, "Prepay Event Alarm Mask", ZclDataType.BITMAP_16_BIT, false, true, true, true));
-        attributeMap.put(ATTR_HISTORICALCOSTCONSUMPTIONFORMATTING, new ZclAttribute(this, ATTR_HISTORICALCOSTCONSUMPTIONFORMATTING, "Historical Cost Consumption Formatting", ZclDataType.BITMAP_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_CONSUMPTIONUNITOFMEASUREMENT, new ZclAttribute(this, ATTR_CONSUMPTIONUNITOFMEASUREMENT, "Consumption Unit Of Measurement", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_CURRENCYSCALINGFACTOR, new ZclAttribute(this, ATTR_CURRENCYSCALINGFACTOR, "Currency Scaling Factor", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_CURRENCY, new ZclAttribute(this, ATTR_CURRENCY, "Currency", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTDAYCOSTCONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTDAYCOSTCONSUMPTIONDELIVERED, "Current Day Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTDAYCOSTCONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTDAYCOSTCONSUMPTIONRECEIVED, "Current Day Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAYCOSTCONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSDAYCOSTCONSUMPTIONDELIVERED, "Previous Day Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAYCOSTCONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSDAYCOSTCONSUMPTIONRECEIVED, "Previous Day Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY2COSTCONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSDAY2COSTCONSUMPTIONDELIVERED, "Previous Day 2 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY2COSTCONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSDAY2COSTCONSUMPTIONRECEIVED, "Previous Day 2 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY3COSTCONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSDAY3COSTCONSUMPTIONDELIVERED, "Previous Day 3 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY3COSTCONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSDAY3COSTCONSUMPTIONRECEIVED, "Previous Day 3 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY4COSTCONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSDAY4COSTCONSUMPTIONDELIVERED, "Previous Day 4 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY4COSTCONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSDAY4COSTCONSUMPTIONRECEIVED, "Previous Day 4 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY5COSTCONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSDAY5COSTCONSUMPTIONDELIVERED, "Previous Day 5 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY5COSTCONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSDAY5COSTCONSUMPTIONRECEIVED, "Previous Day 5 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY6COSTCONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSDAY6COSTCONSUMPTIONDELIVERED, "Previous Day 6 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY6COSTCONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSDAY6COSTCONSUMPTIONRECEIVED, "Previous Day 6 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY7COSTCONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSDAY7COSTCONSUMPTIONDELIVERED, "Previous Day 7 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY7COSTCONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSDAY7COSTCONSUMPTIONRECEIVED, "Previous Day 7 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY8COSTCONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSDAY8COSTCONSUMPTIONDELIVERED, "Previous Day 8 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY8COSTCONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSDAY8COSTCONSUMPTIONRECEIVED, "Previous Day 8 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTWEEKCOSTCONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTWEEKCOSTCONSUMPTIONDELIVERED, "Current Week Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTWEEKCOSTCONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTWEEKCOSTCONSUMPTIONRECEIVED, "Current Week Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSWEEKCOSTCONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSWEEKCOSTCONSUMPTIONDELIVERED, "Previous Week Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSWEEKCOSTCONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSWEEKCOSTCONSUMPTIONRECEIVED, "Previous Week Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSWEEK2COSTCONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSWEEK2COSTCONSUMPTIONDELIVERED, "Previous Week 2 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSWEEK2COSTCONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSWEEK2COSTCONSUMPTIONRECEIVED, "Previous Week 2 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSWEEK3COSTCONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSWEEK3COSTCONSUMPTIONDELIVERED, "Previous Week 3 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSWEEK3COSTCONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSWEEK3COSTCONSUMPTIONRECEIVED, "Previous Week 3 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSWEEK4COSTCONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSWEEK4COSTCONSUMPTIONDELIVERED, "Previous Week 4 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSWEEK4COSTCONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSWEEK4COSTCONSUMPTIONRECEIVED, "Previous Week 4 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSWEEK5COSTCONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSWEEK5COSTCONSUMPTIONDELIVERED, "Previous Week 5 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSWEEK5COSTCONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSWEEK5COSTCONSUMPTIONRECEIVED, "Previous Week 5 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTMONTHCOSTCONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTMONTHCOSTCONSUMPTIONDELIVERED, "Current Month Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTMONTHCOSTCONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTMONTHCOSTCONSUMPTIONRECEIVED, "Current Month Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTHCOSTCONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTHCOSTCONSUMPTIONDELIVERED, "Previous Month Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTHCOSTCONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTHCOSTCONSUMPTIONRECEIVED, "Previous Month Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH2COSTCONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH2COSTCONSUMPTIONDELIVERED, "Previous Month 2 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH2COSTCONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH2COSTCONSUMPTIONRECEIVED, "Previous Month 2 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH3COSTCONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH3COSTCONSUMPTIONDELIVERED, "Previous Month 3 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH3COSTCONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH3COSTCONSUMPTIONRECEIVED, "Previous Month 3 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH4COSTCONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH4COSTCONSUMPTIONDELIVERED, "Previous Month 4 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH4COSTCONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH4COSTCONSUMPTIONRECEIVED, "Previous Month 4 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH5COSTCONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH5COSTCONSUMPTIONDELIVERED, "Previous Month 5 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH5COSTCONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH5COSTCONSUMPTIONRECEIVED, "Previous Month 5 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH6COSTCONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH6COSTCONSUMPTIONDELIVERED, "Previous Month 6 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH6COSTCONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH6COSTCONSUMPTIONRECEIVED, "Previous Month 6 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH7COSTCONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH7COSTCONSUMPTIONDELIVERED, "Previous Month 7 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH7COSTCONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH7COSTCONSUMPTIONRECEIVED, "Previous Month 7 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH8COSTCONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH8COSTCONSUMPTIONDELIVERED, "Previous Month 8 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH8COSTCONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH8COSTCONSUMPTIONRECEIVED, "Previous Month 8 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH9COSTCONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH9COSTCONSUMPTIONDELIVERED, "Previous Month 9 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH9COSTCONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH9COSTCONSUMPTIONRECEIVED, "Previous Month 9 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH10COSTCONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH10COSTCONSUMPTIONDELIVERED, "Previous Month 10 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH10COSTCONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH10COSTCONSUMPTIONRECEIVED, "Previous Month 10 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH11COSTCONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH11COSTCONSUMPTIONDELIVERED, "Previous Month 11 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH11COSTCONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH11COSTCONSUMPTIONRECEIVED, "Previous Month 11 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH12COSTCONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH12COSTCONSUMPTIONDELIVERED, "Previous Month 12 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH12COSTCONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH12COSTCONSUMPTIONRECEIVED, "Previous Month 12 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH13COSTCONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH13COSTCONSUMPTIONDELIVERED, "Previous Month 13 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH13COSTCONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH13COSTCONSUMPTIONRECEIVED, "Previous Month 13 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_HISTORICALFREEZETIME, new ZclAttribute(this, ATTR_HISTORICALFREEZETIME, "Historical Freeze Time", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-
-        return attributeMap;
+    protected Map<Integer, ZclAttributeDefinition> getServerAttributeDefinitions() {
+        return SERVER_ATTRIBUTES;
     }
 
     @Override
@@ -804,7 +809,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getPaymentControlConfigurationAsync() {
-        return read(serverAttributes.get(ATTR_PAYMENTCONTROLCONFIGURATION));
+        return read(getServerAttribute(ATTR_PAYMENTCONTROLCONFIGURATION));
     }
 
     /**
@@ -829,11 +834,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getPaymentControlConfiguration(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PAYMENTCONTROLCONFIGURATION).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_PAYMENTCONTROLCONFIGURATION).getLastValue();
+        if (getServerAttribute(ATTR_PAYMENTCONTROLCONFIGURATION).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_PAYMENTCONTROLCONFIGURATION).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_PAYMENTCONTROLCONFIGURATION));
+        return (Integer) readSync(getServerAttribute(ATTR_PAYMENTCONTROLCONFIGURATION));
     }
 
     /**
@@ -852,7 +857,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setPaymentControlConfigurationReporting(final int minInterval, final int maxInterval) {
-        return setReporting(serverAttributes.get(ATTR_PAYMENTCONTROLCONFIGURATION), minInterval, maxInterval);
+        return setReporting(getServerAttribute(ATTR_PAYMENTCONTROLCONFIGURATION), minInterval, maxInterval);
     }
 
     /**
@@ -869,7 +874,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCreditRemainingAsync() {
-        return read(serverAttributes.get(ATTR_CREDITREMAINING));
+        return read(getServerAttribute(ATTR_CREDITREMAINING));
     }
 
     /**
@@ -894,11 +899,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCreditRemaining(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CREDITREMAINING).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CREDITREMAINING).getLastValue();
+        if (getServerAttribute(ATTR_CREDITREMAINING).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CREDITREMAINING).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CREDITREMAINING));
+        return (Integer) readSync(getServerAttribute(ATTR_CREDITREMAINING));
     }
 
     /**
@@ -918,7 +923,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setCreditRemainingReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_CREDITREMAINING), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_CREDITREMAINING), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -935,7 +940,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getEmergencyCreditRemainingAsync() {
-        return read(serverAttributes.get(ATTR_EMERGENCYCREDITREMAINING));
+        return read(getServerAttribute(ATTR_EMERGENCYCREDITREMAINING));
     }
 
     /**
@@ -960,11 +965,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getEmergencyCreditRemaining(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_EMERGENCYCREDITREMAINING).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_EMERGENCYCREDITREMAINING).getLastValue();
+        if (getServerAttribute(ATTR_EMERGENCYCREDITREMAINING).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_EMERGENCYCREDITREMAINING).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_EMERGENCYCREDITREMAINING));
+        return (Integer) readSync(getServerAttribute(ATTR_EMERGENCYCREDITREMAINING));
     }
 
     /**
@@ -984,7 +989,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setEmergencyCreditRemainingReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_EMERGENCYCREDITREMAINING), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_EMERGENCYCREDITREMAINING), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -1001,7 +1006,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCreditStatusAsync() {
-        return read(serverAttributes.get(ATTR_CREDITSTATUS));
+        return read(getServerAttribute(ATTR_CREDITSTATUS));
     }
 
     /**
@@ -1026,11 +1031,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCreditStatus(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CREDITSTATUS).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CREDITSTATUS).getLastValue();
+        if (getServerAttribute(ATTR_CREDITSTATUS).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CREDITSTATUS).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CREDITSTATUS));
+        return (Integer) readSync(getServerAttribute(ATTR_CREDITSTATUS));
     }
 
     /**
@@ -1049,7 +1054,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setCreditStatusReporting(final int minInterval, final int maxInterval) {
-        return setReporting(serverAttributes.get(ATTR_CREDITSTATUS), minInterval, maxInterval);
+        return setReporting(getServerAttribute(ATTR_CREDITSTATUS), minInterval, maxInterval);
     }
 
     /**
@@ -1066,7 +1071,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCreditRemainingTimestampAsync() {
-        return read(serverAttributes.get(ATTR_CREDITREMAININGTIMESTAMP));
+        return read(getServerAttribute(ATTR_CREDITREMAININGTIMESTAMP));
     }
 
     /**
@@ -1091,11 +1096,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Calendar getCreditRemainingTimestamp(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CREDITREMAININGTIMESTAMP).isLastValueCurrent(refreshPeriod)) {
-            return (Calendar) serverAttributes.get(ATTR_CREDITREMAININGTIMESTAMP).getLastValue();
+        if (getServerAttribute(ATTR_CREDITREMAININGTIMESTAMP).isLastValueCurrent(refreshPeriod)) {
+            return (Calendar) getServerAttribute(ATTR_CREDITREMAININGTIMESTAMP).getLastValue();
         }
 
-        return (Calendar) readSync(serverAttributes.get(ATTR_CREDITREMAININGTIMESTAMP));
+        return (Calendar) readSync(getServerAttribute(ATTR_CREDITREMAININGTIMESTAMP));
     }
 
     /**
@@ -1115,7 +1120,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setCreditRemainingTimestampReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_CREDITREMAININGTIMESTAMP), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_CREDITREMAININGTIMESTAMP), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -1132,7 +1137,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getAccumulatedDebtAsync() {
-        return read(serverAttributes.get(ATTR_ACCUMULATEDDEBT));
+        return read(getServerAttribute(ATTR_ACCUMULATEDDEBT));
     }
 
     /**
@@ -1157,11 +1162,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getAccumulatedDebt(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_ACCUMULATEDDEBT).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_ACCUMULATEDDEBT).getLastValue();
+        if (getServerAttribute(ATTR_ACCUMULATEDDEBT).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_ACCUMULATEDDEBT).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_ACCUMULATEDDEBT));
+        return (Integer) readSync(getServerAttribute(ATTR_ACCUMULATEDDEBT));
     }
 
     /**
@@ -1181,7 +1186,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setAccumulatedDebtReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_ACCUMULATEDDEBT), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_ACCUMULATEDDEBT), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -1198,7 +1203,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getOverallDebtCapAsync() {
-        return read(serverAttributes.get(ATTR_OVERALLDEBTCAP));
+        return read(getServerAttribute(ATTR_OVERALLDEBTCAP));
     }
 
     /**
@@ -1223,11 +1228,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getOverallDebtCap(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_OVERALLDEBTCAP).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_OVERALLDEBTCAP).getLastValue();
+        if (getServerAttribute(ATTR_OVERALLDEBTCAP).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_OVERALLDEBTCAP).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_OVERALLDEBTCAP));
+        return (Integer) readSync(getServerAttribute(ATTR_OVERALLDEBTCAP));
     }
 
     /**
@@ -1247,7 +1252,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setOverallDebtCapReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_OVERALLDEBTCAP), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_OVERALLDEBTCAP), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -1264,7 +1269,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getEmergencyCreditLimitAllowanceAsync() {
-        return read(serverAttributes.get(ATTR_EMERGENCYCREDITLIMITALLOWANCE));
+        return read(getServerAttribute(ATTR_EMERGENCYCREDITLIMITALLOWANCE));
     }
 
     /**
@@ -1289,11 +1294,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getEmergencyCreditLimitAllowance(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_EMERGENCYCREDITLIMITALLOWANCE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_EMERGENCYCREDITLIMITALLOWANCE).getLastValue();
+        if (getServerAttribute(ATTR_EMERGENCYCREDITLIMITALLOWANCE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_EMERGENCYCREDITLIMITALLOWANCE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_EMERGENCYCREDITLIMITALLOWANCE));
+        return (Integer) readSync(getServerAttribute(ATTR_EMERGENCYCREDITLIMITALLOWANCE));
     }
 
     /**
@@ -1313,7 +1318,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setEmergencyCreditLimitAllowanceReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_EMERGENCYCREDITLIMITALLOWANCE), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_EMERGENCYCREDITLIMITALLOWANCE), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -1330,7 +1335,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getEmergencyCreditThresholdAsync() {
-        return read(serverAttributes.get(ATTR_EMERGENCYCREDITTHRESHOLD));
+        return read(getServerAttribute(ATTR_EMERGENCYCREDITTHRESHOLD));
     }
 
     /**
@@ -1355,11 +1360,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getEmergencyCreditThreshold(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_EMERGENCYCREDITTHRESHOLD).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_EMERGENCYCREDITTHRESHOLD).getLastValue();
+        if (getServerAttribute(ATTR_EMERGENCYCREDITTHRESHOLD).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_EMERGENCYCREDITTHRESHOLD).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_EMERGENCYCREDITTHRESHOLD));
+        return (Integer) readSync(getServerAttribute(ATTR_EMERGENCYCREDITTHRESHOLD));
     }
 
     /**
@@ -1379,7 +1384,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setEmergencyCreditThresholdReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_EMERGENCYCREDITTHRESHOLD), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_EMERGENCYCREDITTHRESHOLD), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -1396,7 +1401,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getTotalCreditAddedAsync() {
-        return read(serverAttributes.get(ATTR_TOTALCREDITADDED));
+        return read(getServerAttribute(ATTR_TOTALCREDITADDED));
     }
 
     /**
@@ -1421,11 +1426,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getTotalCreditAdded(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_TOTALCREDITADDED).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_TOTALCREDITADDED).getLastValue();
+        if (getServerAttribute(ATTR_TOTALCREDITADDED).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_TOTALCREDITADDED).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_TOTALCREDITADDED));
+        return (Integer) readSync(getServerAttribute(ATTR_TOTALCREDITADDED));
     }
 
     /**
@@ -1445,7 +1450,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setTotalCreditAddedReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_TOTALCREDITADDED), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_TOTALCREDITADDED), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -1462,7 +1467,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getMaxCreditLimitAsync() {
-        return read(serverAttributes.get(ATTR_MAXCREDITLIMIT));
+        return read(getServerAttribute(ATTR_MAXCREDITLIMIT));
     }
 
     /**
@@ -1487,11 +1492,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getMaxCreditLimit(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_MAXCREDITLIMIT).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_MAXCREDITLIMIT).getLastValue();
+        if (getServerAttribute(ATTR_MAXCREDITLIMIT).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_MAXCREDITLIMIT).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_MAXCREDITLIMIT));
+        return (Integer) readSync(getServerAttribute(ATTR_MAXCREDITLIMIT));
     }
 
     /**
@@ -1511,7 +1516,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setMaxCreditLimitReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_MAXCREDITLIMIT), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_MAXCREDITLIMIT), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -1528,7 +1533,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getMaxCreditPerTopUpAsync() {
-        return read(serverAttributes.get(ATTR_MAXCREDITPERTOPUP));
+        return read(getServerAttribute(ATTR_MAXCREDITPERTOPUP));
     }
 
     /**
@@ -1553,11 +1558,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getMaxCreditPerTopUp(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_MAXCREDITPERTOPUP).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_MAXCREDITPERTOPUP).getLastValue();
+        if (getServerAttribute(ATTR_MAXCREDITPERTOPUP).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_MAXCREDITPERTOPUP).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_MAXCREDITPERTOPUP));
+        return (Integer) readSync(getServerAttribute(ATTR_MAXCREDITPERTOPUP));
     }
 
     /**
@@ -1577,7 +1582,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setMaxCreditPerTopUpReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_MAXCREDITPERTOPUP), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_MAXCREDITPERTOPUP), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -1594,7 +1599,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getFriendlyCreditWarningAsync() {
-        return read(serverAttributes.get(ATTR_FRIENDLYCREDITWARNING));
+        return read(getServerAttribute(ATTR_FRIENDLYCREDITWARNING));
     }
 
     /**
@@ -1619,11 +1624,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getFriendlyCreditWarning(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_FRIENDLYCREDITWARNING).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_FRIENDLYCREDITWARNING).getLastValue();
+        if (getServerAttribute(ATTR_FRIENDLYCREDITWARNING).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_FRIENDLYCREDITWARNING).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_FRIENDLYCREDITWARNING));
+        return (Integer) readSync(getServerAttribute(ATTR_FRIENDLYCREDITWARNING));
     }
 
     /**
@@ -1643,7 +1648,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setFriendlyCreditWarningReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_FRIENDLYCREDITWARNING), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_FRIENDLYCREDITWARNING), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -1660,7 +1665,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getLowCreditWarningLevelAsync() {
-        return read(serverAttributes.get(ATTR_LOWCREDITWARNINGLEVEL));
+        return read(getServerAttribute(ATTR_LOWCREDITWARNINGLEVEL));
     }
 
     /**
@@ -1685,11 +1690,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getLowCreditWarningLevel(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_LOWCREDITWARNINGLEVEL).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_LOWCREDITWARNINGLEVEL).getLastValue();
+        if (getServerAttribute(ATTR_LOWCREDITWARNINGLEVEL).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_LOWCREDITWARNINGLEVEL).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_LOWCREDITWARNINGLEVEL));
+        return (Integer) readSync(getServerAttribute(ATTR_LOWCREDITWARNINGLEVEL));
     }
 
     /**
@@ -1709,7 +1714,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setLowCreditWarningLevelReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_LOWCREDITWARNINGLEVEL), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_LOWCREDITWARNINGLEVEL), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -1727,7 +1732,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setIhdLowCreditWarningLevel(final Integer value) {
-        return write(serverAttributes.get(ATTR_IHDLOWCREDITWARNINGLEVEL), value);
+        return write(getServerAttribute(ATTR_IHDLOWCREDITWARNINGLEVEL), value);
     }
 
     /**
@@ -1744,7 +1749,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getIhdLowCreditWarningLevelAsync() {
-        return read(serverAttributes.get(ATTR_IHDLOWCREDITWARNINGLEVEL));
+        return read(getServerAttribute(ATTR_IHDLOWCREDITWARNINGLEVEL));
     }
 
     /**
@@ -1769,11 +1774,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getIhdLowCreditWarningLevel(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_IHDLOWCREDITWARNINGLEVEL).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_IHDLOWCREDITWARNINGLEVEL).getLastValue();
+        if (getServerAttribute(ATTR_IHDLOWCREDITWARNINGLEVEL).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_IHDLOWCREDITWARNINGLEVEL).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_IHDLOWCREDITWARNINGLEVEL));
+        return (Integer) readSync(getServerAttribute(ATTR_IHDLOWCREDITWARNINGLEVEL));
     }
 
     /**
@@ -1790,7 +1795,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getInterruptSuspendTimeAsync() {
-        return read(serverAttributes.get(ATTR_INTERRUPTSUSPENDTIME));
+        return read(getServerAttribute(ATTR_INTERRUPTSUSPENDTIME));
     }
 
     /**
@@ -1815,11 +1820,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getInterruptSuspendTime(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_INTERRUPTSUSPENDTIME).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_INTERRUPTSUSPENDTIME).getLastValue();
+        if (getServerAttribute(ATTR_INTERRUPTSUSPENDTIME).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_INTERRUPTSUSPENDTIME).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_INTERRUPTSUSPENDTIME));
+        return (Integer) readSync(getServerAttribute(ATTR_INTERRUPTSUSPENDTIME));
     }
 
     /**
@@ -1839,7 +1844,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setInterruptSuspendTimeReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_INTERRUPTSUSPENDTIME), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_INTERRUPTSUSPENDTIME), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -1856,7 +1861,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getRemainingFriendlyCreditTimeAsync() {
-        return read(serverAttributes.get(ATTR_REMAININGFRIENDLYCREDITTIME));
+        return read(getServerAttribute(ATTR_REMAININGFRIENDLYCREDITTIME));
     }
 
     /**
@@ -1881,11 +1886,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getRemainingFriendlyCreditTime(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_REMAININGFRIENDLYCREDITTIME).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_REMAININGFRIENDLYCREDITTIME).getLastValue();
+        if (getServerAttribute(ATTR_REMAININGFRIENDLYCREDITTIME).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_REMAININGFRIENDLYCREDITTIME).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_REMAININGFRIENDLYCREDITTIME));
+        return (Integer) readSync(getServerAttribute(ATTR_REMAININGFRIENDLYCREDITTIME));
     }
 
     /**
@@ -1905,7 +1910,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setRemainingFriendlyCreditTimeReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_REMAININGFRIENDLYCREDITTIME), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_REMAININGFRIENDLYCREDITTIME), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -1922,7 +1927,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getNextFriendlyCreditPeriodAsync() {
-        return read(serverAttributes.get(ATTR_NEXTFRIENDLYCREDITPERIOD));
+        return read(getServerAttribute(ATTR_NEXTFRIENDLYCREDITPERIOD));
     }
 
     /**
@@ -1947,11 +1952,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Calendar getNextFriendlyCreditPeriod(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_NEXTFRIENDLYCREDITPERIOD).isLastValueCurrent(refreshPeriod)) {
-            return (Calendar) serverAttributes.get(ATTR_NEXTFRIENDLYCREDITPERIOD).getLastValue();
+        if (getServerAttribute(ATTR_NEXTFRIENDLYCREDITPERIOD).isLastValueCurrent(refreshPeriod)) {
+            return (Calendar) getServerAttribute(ATTR_NEXTFRIENDLYCREDITPERIOD).getLastValue();
         }
 
-        return (Calendar) readSync(serverAttributes.get(ATTR_NEXTFRIENDLYCREDITPERIOD));
+        return (Calendar) readSync(getServerAttribute(ATTR_NEXTFRIENDLYCREDITPERIOD));
     }
 
     /**
@@ -1971,7 +1976,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setNextFriendlyCreditPeriodReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_NEXTFRIENDLYCREDITPERIOD), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_NEXTFRIENDLYCREDITPERIOD), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -1988,7 +1993,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCutOffValueAsync() {
-        return read(serverAttributes.get(ATTR_CUTOFFVALUE));
+        return read(getServerAttribute(ATTR_CUTOFFVALUE));
     }
 
     /**
@@ -2013,11 +2018,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCutOffValue(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CUTOFFVALUE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CUTOFFVALUE).getLastValue();
+        if (getServerAttribute(ATTR_CUTOFFVALUE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CUTOFFVALUE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CUTOFFVALUE));
+        return (Integer) readSync(getServerAttribute(ATTR_CUTOFFVALUE));
     }
 
     /**
@@ -2037,7 +2042,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setCutOffValueReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_CUTOFFVALUE), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_CUTOFFVALUE), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -2055,7 +2060,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setTokenCarrierId(final ByteArray value) {
-        return write(serverAttributes.get(ATTR_TOKENCARRIERID), value);
+        return write(getServerAttribute(ATTR_TOKENCARRIERID), value);
     }
 
     /**
@@ -2072,7 +2077,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getTokenCarrierIdAsync() {
-        return read(serverAttributes.get(ATTR_TOKENCARRIERID));
+        return read(getServerAttribute(ATTR_TOKENCARRIERID));
     }
 
     /**
@@ -2097,11 +2102,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public ByteArray getTokenCarrierId(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_TOKENCARRIERID).isLastValueCurrent(refreshPeriod)) {
-            return (ByteArray) serverAttributes.get(ATTR_TOKENCARRIERID).getLastValue();
+        if (getServerAttribute(ATTR_TOKENCARRIERID).isLastValueCurrent(refreshPeriod)) {
+            return (ByteArray) getServerAttribute(ATTR_TOKENCARRIERID).getLastValue();
         }
 
-        return (ByteArray) readSync(serverAttributes.get(ATTR_TOKENCARRIERID));
+        return (ByteArray) readSync(getServerAttribute(ATTR_TOKENCARRIERID));
     }
 
     /**
@@ -2118,7 +2123,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getTopUpDateTime1Async() {
-        return read(serverAttributes.get(ATTR_TOPUPDATETIME1));
+        return read(getServerAttribute(ATTR_TOPUPDATETIME1));
     }
 
     /**
@@ -2143,11 +2148,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Calendar getTopUpDateTime1(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_TOPUPDATETIME1).isLastValueCurrent(refreshPeriod)) {
-            return (Calendar) serverAttributes.get(ATTR_TOPUPDATETIME1).getLastValue();
+        if (getServerAttribute(ATTR_TOPUPDATETIME1).isLastValueCurrent(refreshPeriod)) {
+            return (Calendar) getServerAttribute(ATTR_TOPUPDATETIME1).getLastValue();
         }
 
-        return (Calendar) readSync(serverAttributes.get(ATTR_TOPUPDATETIME1));
+        return (Calendar) readSync(getServerAttribute(ATTR_TOPUPDATETIME1));
     }
 
     /**
@@ -2167,7 +2172,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setTopUpDateTime1Reporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_TOPUPDATETIME1), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_TOPUPDATETIME1), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -2184,7 +2189,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getTopUpAmount1Async() {
-        return read(serverAttributes.get(ATTR_TOPUPAMOUNT1));
+        return read(getServerAttribute(ATTR_TOPUPAMOUNT1));
     }
 
     /**
@@ -2209,11 +2214,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getTopUpAmount1(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_TOPUPAMOUNT1).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_TOPUPAMOUNT1).getLastValue();
+        if (getServerAttribute(ATTR_TOPUPAMOUNT1).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_TOPUPAMOUNT1).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_TOPUPAMOUNT1));
+        return (Integer) readSync(getServerAttribute(ATTR_TOPUPAMOUNT1));
     }
 
     /**
@@ -2233,7 +2238,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setTopUpAmount1Reporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_TOPUPAMOUNT1), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_TOPUPAMOUNT1), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -2250,7 +2255,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getTopUpOriginatingDevice1Async() {
-        return read(serverAttributes.get(ATTR_TOPUPORIGINATINGDEVICE1));
+        return read(getServerAttribute(ATTR_TOPUPORIGINATINGDEVICE1));
     }
 
     /**
@@ -2275,11 +2280,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getTopUpOriginatingDevice1(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_TOPUPORIGINATINGDEVICE1).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_TOPUPORIGINATINGDEVICE1).getLastValue();
+        if (getServerAttribute(ATTR_TOPUPORIGINATINGDEVICE1).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_TOPUPORIGINATINGDEVICE1).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_TOPUPORIGINATINGDEVICE1));
+        return (Integer) readSync(getServerAttribute(ATTR_TOPUPORIGINATINGDEVICE1));
     }
 
     /**
@@ -2298,7 +2303,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setTopUpOriginatingDevice1Reporting(final int minInterval, final int maxInterval) {
-        return setReporting(serverAttributes.get(ATTR_TOPUPORIGINATINGDEVICE1), minInterval, maxInterval);
+        return setReporting(getServerAttribute(ATTR_TOPUPORIGINATINGDEVICE1), minInterval, maxInterval);
     }
 
     /**
@@ -2315,7 +2320,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getTopUpCode1Async() {
-        return read(serverAttributes.get(ATTR_TOPUPCODE1));
+        return read(getServerAttribute(ATTR_TOPUPCODE1));
     }
 
     /**
@@ -2340,11 +2345,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public ByteArray getTopUpCode1(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_TOPUPCODE1).isLastValueCurrent(refreshPeriod)) {
-            return (ByteArray) serverAttributes.get(ATTR_TOPUPCODE1).getLastValue();
+        if (getServerAttribute(ATTR_TOPUPCODE1).isLastValueCurrent(refreshPeriod)) {
+            return (ByteArray) getServerAttribute(ATTR_TOPUPCODE1).getLastValue();
         }
 
-        return (ByteArray) readSync(serverAttributes.get(ATTR_TOPUPCODE1));
+        return (ByteArray) readSync(getServerAttribute(ATTR_TOPUPCODE1));
     }
 
     /**
@@ -2363,7 +2368,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setTopUpCode1Reporting(final int minInterval, final int maxInterval) {
-        return setReporting(serverAttributes.get(ATTR_TOPUPCODE1), minInterval, maxInterval);
+        return setReporting(getServerAttribute(ATTR_TOPUPCODE1), minInterval, maxInterval);
     }
 
     /**
@@ -2380,7 +2385,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getTopUpDateTime2Async() {
-        return read(serverAttributes.get(ATTR_TOPUPDATETIME2));
+        return read(getServerAttribute(ATTR_TOPUPDATETIME2));
     }
 
     /**
@@ -2405,11 +2410,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Calendar getTopUpDateTime2(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_TOPUPDATETIME2).isLastValueCurrent(refreshPeriod)) {
-            return (Calendar) serverAttributes.get(ATTR_TOPUPDATETIME2).getLastValue();
+        if (getServerAttribute(ATTR_TOPUPDATETIME2).isLastValueCurrent(refreshPeriod)) {
+            return (Calendar) getServerAttribute(ATTR_TOPUPDATETIME2).getLastValue();
         }
 
-        return (Calendar) readSync(serverAttributes.get(ATTR_TOPUPDATETIME2));
+        return (Calendar) readSync(getServerAttribute(ATTR_TOPUPDATETIME2));
     }
 
     /**
@@ -2429,7 +2434,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setTopUpDateTime2Reporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_TOPUPDATETIME2), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_TOPUPDATETIME2), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -2446,7 +2451,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getTopUpAmount2Async() {
-        return read(serverAttributes.get(ATTR_TOPUPAMOUNT2));
+        return read(getServerAttribute(ATTR_TOPUPAMOUNT2));
     }
 
     /**
@@ -2471,11 +2476,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getTopUpAmount2(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_TOPUPAMOUNT2).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_TOPUPAMOUNT2).getLastValue();
+        if (getServerAttribute(ATTR_TOPUPAMOUNT2).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_TOPUPAMOUNT2).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_TOPUPAMOUNT2));
+        return (Integer) readSync(getServerAttribute(ATTR_TOPUPAMOUNT2));
     }
 
     /**
@@ -2495,7 +2500,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setTopUpAmount2Reporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_TOPUPAMOUNT2), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_TOPUPAMOUNT2), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -2512,7 +2517,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getTopUpOriginatingDevice2Async() {
-        return read(serverAttributes.get(ATTR_TOPUPORIGINATINGDEVICE2));
+        return read(getServerAttribute(ATTR_TOPUPORIGINATINGDEVICE2));
     }
 
     /**
@@ -2537,11 +2542,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getTopUpOriginatingDevice2(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_TOPUPORIGINATINGDEVICE2).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_TOPUPORIGINATINGDEVICE2).getLastValue();
+        if (getServerAttribute(ATTR_TOPUPORIGINATINGDEVICE2).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_TOPUPORIGINATINGDEVICE2).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_TOPUPORIGINATINGDEVICE2));
+        return (Integer) readSync(getServerAttribute(ATTR_TOPUPORIGINATINGDEVICE2));
     }
 
     /**
@@ -2560,7 +2565,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setTopUpOriginatingDevice2Reporting(final int minInterval, final int maxInterval) {
-        return setReporting(serverAttributes.get(ATTR_TOPUPORIGINATINGDEVICE2), minInterval, maxInterval);
+        return setReporting(getServerAttribute(ATTR_TOPUPORIGINATINGDEVICE2), minInterval, maxInterval);
     }
 
     /**
@@ -2577,7 +2582,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getTopUpCode2Async() {
-        return read(serverAttributes.get(ATTR_TOPUPCODE2));
+        return read(getServerAttribute(ATTR_TOPUPCODE2));
     }
 
     /**
@@ -2602,11 +2607,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public ByteArray getTopUpCode2(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_TOPUPCODE2).isLastValueCurrent(refreshPeriod)) {
-            return (ByteArray) serverAttributes.get(ATTR_TOPUPCODE2).getLastValue();
+        if (getServerAttribute(ATTR_TOPUPCODE2).isLastValueCurrent(refreshPeriod)) {
+            return (ByteArray) getServerAttribute(ATTR_TOPUPCODE2).getLastValue();
         }
 
-        return (ByteArray) readSync(serverAttributes.get(ATTR_TOPUPCODE2));
+        return (ByteArray) readSync(getServerAttribute(ATTR_TOPUPCODE2));
     }
 
     /**
@@ -2625,7 +2630,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setTopUpCode2Reporting(final int minInterval, final int maxInterval) {
-        return setReporting(serverAttributes.get(ATTR_TOPUPCODE2), minInterval, maxInterval);
+        return setReporting(getServerAttribute(ATTR_TOPUPCODE2), minInterval, maxInterval);
     }
 
     /**
@@ -2642,7 +2647,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getTopUpDateTime3Async() {
-        return read(serverAttributes.get(ATTR_TOPUPDATETIME3));
+        return read(getServerAttribute(ATTR_TOPUPDATETIME3));
     }
 
     /**
@@ -2667,11 +2672,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Calendar getTopUpDateTime3(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_TOPUPDATETIME3).isLastValueCurrent(refreshPeriod)) {
-            return (Calendar) serverAttributes.get(ATTR_TOPUPDATETIME3).getLastValue();
+        if (getServerAttribute(ATTR_TOPUPDATETIME3).isLastValueCurrent(refreshPeriod)) {
+            return (Calendar) getServerAttribute(ATTR_TOPUPDATETIME3).getLastValue();
         }
 
-        return (Calendar) readSync(serverAttributes.get(ATTR_TOPUPDATETIME3));
+        return (Calendar) readSync(getServerAttribute(ATTR_TOPUPDATETIME3));
     }
 
     /**
@@ -2691,7 +2696,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setTopUpDateTime3Reporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_TOPUPDATETIME3), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_TOPUPDATETIME3), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -2708,7 +2713,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getTopUpAmount3Async() {
-        return read(serverAttributes.get(ATTR_TOPUPAMOUNT3));
+        return read(getServerAttribute(ATTR_TOPUPAMOUNT3));
     }
 
     /**
@@ -2733,11 +2738,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getTopUpAmount3(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_TOPUPAMOUNT3).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_TOPUPAMOUNT3).getLastValue();
+        if (getServerAttribute(ATTR_TOPUPAMOUNT3).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_TOPUPAMOUNT3).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_TOPUPAMOUNT3));
+        return (Integer) readSync(getServerAttribute(ATTR_TOPUPAMOUNT3));
     }
 
     /**
@@ -2757,7 +2762,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setTopUpAmount3Reporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_TOPUPAMOUNT3), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_TOPUPAMOUNT3), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -2774,7 +2779,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getTopUpOriginatingDevice3Async() {
-        return read(serverAttributes.get(ATTR_TOPUPORIGINATINGDEVICE3));
+        return read(getServerAttribute(ATTR_TOPUPORIGINATINGDEVICE3));
     }
 
     /**
@@ -2799,11 +2804,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getTopUpOriginatingDevice3(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_TOPUPORIGINATINGDEVICE3).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_TOPUPORIGINATINGDEVICE3).getLastValue();
+        if (getServerAttribute(ATTR_TOPUPORIGINATINGDEVICE3).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_TOPUPORIGINATINGDEVICE3).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_TOPUPORIGINATINGDEVICE3));
+        return (Integer) readSync(getServerAttribute(ATTR_TOPUPORIGINATINGDEVICE3));
     }
 
     /**
@@ -2822,7 +2827,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setTopUpOriginatingDevice3Reporting(final int minInterval, final int maxInterval) {
-        return setReporting(serverAttributes.get(ATTR_TOPUPORIGINATINGDEVICE3), minInterval, maxInterval);
+        return setReporting(getServerAttribute(ATTR_TOPUPORIGINATINGDEVICE3), minInterval, maxInterval);
     }
 
     /**
@@ -2839,7 +2844,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getTopUpCode3Async() {
-        return read(serverAttributes.get(ATTR_TOPUPCODE3));
+        return read(getServerAttribute(ATTR_TOPUPCODE3));
     }
 
     /**
@@ -2864,11 +2869,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public ByteArray getTopUpCode3(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_TOPUPCODE3).isLastValueCurrent(refreshPeriod)) {
-            return (ByteArray) serverAttributes.get(ATTR_TOPUPCODE3).getLastValue();
+        if (getServerAttribute(ATTR_TOPUPCODE3).isLastValueCurrent(refreshPeriod)) {
+            return (ByteArray) getServerAttribute(ATTR_TOPUPCODE3).getLastValue();
         }
 
-        return (ByteArray) readSync(serverAttributes.get(ATTR_TOPUPCODE3));
+        return (ByteArray) readSync(getServerAttribute(ATTR_TOPUPCODE3));
     }
 
     /**
@@ -2887,7 +2892,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setTopUpCode3Reporting(final int minInterval, final int maxInterval) {
-        return setReporting(serverAttributes.get(ATTR_TOPUPCODE3), minInterval, maxInterval);
+        return setReporting(getServerAttribute(ATTR_TOPUPCODE3), minInterval, maxInterval);
     }
 
     /**
@@ -2904,7 +2909,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getTopUpDateTime4Async() {
-        return read(serverAttributes.get(ATTR_TOPUPDATETIME4));
+        return read(getServerAttribute(ATTR_TOPUPDATETIME4));
     }
 
     /**
@@ -2929,11 +2934,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Calendar getTopUpDateTime4(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_TOPUPDATETIME4).isLastValueCurrent(refreshPeriod)) {
-            return (Calendar) serverAttributes.get(ATTR_TOPUPDATETIME4).getLastValue();
+        if (getServerAttribute(ATTR_TOPUPDATETIME4).isLastValueCurrent(refreshPeriod)) {
+            return (Calendar) getServerAttribute(ATTR_TOPUPDATETIME4).getLastValue();
         }
 
-        return (Calendar) readSync(serverAttributes.get(ATTR_TOPUPDATETIME4));
+        return (Calendar) readSync(getServerAttribute(ATTR_TOPUPDATETIME4));
     }
 
     /**
@@ -2953,7 +2958,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setTopUpDateTime4Reporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_TOPUPDATETIME4), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_TOPUPDATETIME4), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -2970,7 +2975,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getTopUpAmount4Async() {
-        return read(serverAttributes.get(ATTR_TOPUPAMOUNT4));
+        return read(getServerAttribute(ATTR_TOPUPAMOUNT4));
     }
 
     /**
@@ -2995,11 +3000,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getTopUpAmount4(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_TOPUPAMOUNT4).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_TOPUPAMOUNT4).getLastValue();
+        if (getServerAttribute(ATTR_TOPUPAMOUNT4).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_TOPUPAMOUNT4).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_TOPUPAMOUNT4));
+        return (Integer) readSync(getServerAttribute(ATTR_TOPUPAMOUNT4));
     }
 
     /**
@@ -3019,7 +3024,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setTopUpAmount4Reporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_TOPUPAMOUNT4), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_TOPUPAMOUNT4), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -3036,7 +3041,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getTopUpOriginatingDevice4Async() {
-        return read(serverAttributes.get(ATTR_TOPUPORIGINATINGDEVICE4));
+        return read(getServerAttribute(ATTR_TOPUPORIGINATINGDEVICE4));
     }
 
     /**
@@ -3061,11 +3066,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getTopUpOriginatingDevice4(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_TOPUPORIGINATINGDEVICE4).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_TOPUPORIGINATINGDEVICE4).getLastValue();
+        if (getServerAttribute(ATTR_TOPUPORIGINATINGDEVICE4).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_TOPUPORIGINATINGDEVICE4).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_TOPUPORIGINATINGDEVICE4));
+        return (Integer) readSync(getServerAttribute(ATTR_TOPUPORIGINATINGDEVICE4));
     }
 
     /**
@@ -3084,7 +3089,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setTopUpOriginatingDevice4Reporting(final int minInterval, final int maxInterval) {
-        return setReporting(serverAttributes.get(ATTR_TOPUPORIGINATINGDEVICE4), minInterval, maxInterval);
+        return setReporting(getServerAttribute(ATTR_TOPUPORIGINATINGDEVICE4), minInterval, maxInterval);
     }
 
     /**
@@ -3101,7 +3106,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getTopUpCode4Async() {
-        return read(serverAttributes.get(ATTR_TOPUPCODE4));
+        return read(getServerAttribute(ATTR_TOPUPCODE4));
     }
 
     /**
@@ -3126,11 +3131,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public ByteArray getTopUpCode4(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_TOPUPCODE4).isLastValueCurrent(refreshPeriod)) {
-            return (ByteArray) serverAttributes.get(ATTR_TOPUPCODE4).getLastValue();
+        if (getServerAttribute(ATTR_TOPUPCODE4).isLastValueCurrent(refreshPeriod)) {
+            return (ByteArray) getServerAttribute(ATTR_TOPUPCODE4).getLastValue();
         }
 
-        return (ByteArray) readSync(serverAttributes.get(ATTR_TOPUPCODE4));
+        return (ByteArray) readSync(getServerAttribute(ATTR_TOPUPCODE4));
     }
 
     /**
@@ -3149,7 +3154,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setTopUpCode4Reporting(final int minInterval, final int maxInterval) {
-        return setReporting(serverAttributes.get(ATTR_TOPUPCODE4), minInterval, maxInterval);
+        return setReporting(getServerAttribute(ATTR_TOPUPCODE4), minInterval, maxInterval);
     }
 
     /**
@@ -3166,7 +3171,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getTopUpDateTime5Async() {
-        return read(serverAttributes.get(ATTR_TOPUPDATETIME5));
+        return read(getServerAttribute(ATTR_TOPUPDATETIME5));
     }
 
     /**
@@ -3191,11 +3196,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Calendar getTopUpDateTime5(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_TOPUPDATETIME5).isLastValueCurrent(refreshPeriod)) {
-            return (Calendar) serverAttributes.get(ATTR_TOPUPDATETIME5).getLastValue();
+        if (getServerAttribute(ATTR_TOPUPDATETIME5).isLastValueCurrent(refreshPeriod)) {
+            return (Calendar) getServerAttribute(ATTR_TOPUPDATETIME5).getLastValue();
         }
 
-        return (Calendar) readSync(serverAttributes.get(ATTR_TOPUPDATETIME5));
+        return (Calendar) readSync(getServerAttribute(ATTR_TOPUPDATETIME5));
     }
 
     /**
@@ -3215,7 +3220,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setTopUpDateTime5Reporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_TOPUPDATETIME5), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_TOPUPDATETIME5), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -3232,7 +3237,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getTopUpAmount5Async() {
-        return read(serverAttributes.get(ATTR_TOPUPAMOUNT5));
+        return read(getServerAttribute(ATTR_TOPUPAMOUNT5));
     }
 
     /**
@@ -3257,11 +3262,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getTopUpAmount5(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_TOPUPAMOUNT5).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_TOPUPAMOUNT5).getLastValue();
+        if (getServerAttribute(ATTR_TOPUPAMOUNT5).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_TOPUPAMOUNT5).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_TOPUPAMOUNT5));
+        return (Integer) readSync(getServerAttribute(ATTR_TOPUPAMOUNT5));
     }
 
     /**
@@ -3281,7 +3286,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setTopUpAmount5Reporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_TOPUPAMOUNT5), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_TOPUPAMOUNT5), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -3298,7 +3303,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getTopUpOriginatingDevice5Async() {
-        return read(serverAttributes.get(ATTR_TOPUPORIGINATINGDEVICE5));
+        return read(getServerAttribute(ATTR_TOPUPORIGINATINGDEVICE5));
     }
 
     /**
@@ -3323,11 +3328,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getTopUpOriginatingDevice5(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_TOPUPORIGINATINGDEVICE5).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_TOPUPORIGINATINGDEVICE5).getLastValue();
+        if (getServerAttribute(ATTR_TOPUPORIGINATINGDEVICE5).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_TOPUPORIGINATINGDEVICE5).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_TOPUPORIGINATINGDEVICE5));
+        return (Integer) readSync(getServerAttribute(ATTR_TOPUPORIGINATINGDEVICE5));
     }
 
     /**
@@ -3346,7 +3351,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setTopUpOriginatingDevice5Reporting(final int minInterval, final int maxInterval) {
-        return setReporting(serverAttributes.get(ATTR_TOPUPORIGINATINGDEVICE5), minInterval, maxInterval);
+        return setReporting(getServerAttribute(ATTR_TOPUPORIGINATINGDEVICE5), minInterval, maxInterval);
     }
 
     /**
@@ -3363,7 +3368,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getTopUpCode5Async() {
-        return read(serverAttributes.get(ATTR_TOPUPCODE5));
+        return read(getServerAttribute(ATTR_TOPUPCODE5));
     }
 
     /**
@@ -3388,11 +3393,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public ByteArray getTopUpCode5(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_TOPUPCODE5).isLastValueCurrent(refreshPeriod)) {
-            return (ByteArray) serverAttributes.get(ATTR_TOPUPCODE5).getLastValue();
+        if (getServerAttribute(ATTR_TOPUPCODE5).isLastValueCurrent(refreshPeriod)) {
+            return (ByteArray) getServerAttribute(ATTR_TOPUPCODE5).getLastValue();
         }
 
-        return (ByteArray) readSync(serverAttributes.get(ATTR_TOPUPCODE5));
+        return (ByteArray) readSync(getServerAttribute(ATTR_TOPUPCODE5));
     }
 
     /**
@@ -3411,7 +3416,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setTopUpCode5Reporting(final int minInterval, final int maxInterval) {
-        return setReporting(serverAttributes.get(ATTR_TOPUPCODE5), minInterval, maxInterval);
+        return setReporting(getServerAttribute(ATTR_TOPUPCODE5), minInterval, maxInterval);
     }
 
     /**
@@ -3428,7 +3433,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getDebtLabel1Async() {
-        return read(serverAttributes.get(ATTR_DEBTLABEL1));
+        return read(getServerAttribute(ATTR_DEBTLABEL1));
     }
 
     /**
@@ -3453,11 +3458,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public ByteArray getDebtLabel1(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_DEBTLABEL1).isLastValueCurrent(refreshPeriod)) {
-            return (ByteArray) serverAttributes.get(ATTR_DEBTLABEL1).getLastValue();
+        if (getServerAttribute(ATTR_DEBTLABEL1).isLastValueCurrent(refreshPeriod)) {
+            return (ByteArray) getServerAttribute(ATTR_DEBTLABEL1).getLastValue();
         }
 
-        return (ByteArray) readSync(serverAttributes.get(ATTR_DEBTLABEL1));
+        return (ByteArray) readSync(getServerAttribute(ATTR_DEBTLABEL1));
     }
 
     /**
@@ -3476,7 +3481,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setDebtLabel1Reporting(final int minInterval, final int maxInterval) {
-        return setReporting(serverAttributes.get(ATTR_DEBTLABEL1), minInterval, maxInterval);
+        return setReporting(getServerAttribute(ATTR_DEBTLABEL1), minInterval, maxInterval);
     }
 
     /**
@@ -3493,7 +3498,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getDebtAmount1Async() {
-        return read(serverAttributes.get(ATTR_DEBTAMOUNT1));
+        return read(getServerAttribute(ATTR_DEBTAMOUNT1));
     }
 
     /**
@@ -3518,11 +3523,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getDebtAmount1(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_DEBTAMOUNT1).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_DEBTAMOUNT1).getLastValue();
+        if (getServerAttribute(ATTR_DEBTAMOUNT1).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_DEBTAMOUNT1).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_DEBTAMOUNT1));
+        return (Integer) readSync(getServerAttribute(ATTR_DEBTAMOUNT1));
     }
 
     /**
@@ -3542,7 +3547,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setDebtAmount1Reporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_DEBTAMOUNT1), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_DEBTAMOUNT1), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -3559,7 +3564,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getDebtRecoveryMethod1Async() {
-        return read(serverAttributes.get(ATTR_DEBTRECOVERYMETHOD1));
+        return read(getServerAttribute(ATTR_DEBTRECOVERYMETHOD1));
     }
 
     /**
@@ -3584,11 +3589,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getDebtRecoveryMethod1(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_DEBTRECOVERYMETHOD1).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_DEBTRECOVERYMETHOD1).getLastValue();
+        if (getServerAttribute(ATTR_DEBTRECOVERYMETHOD1).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_DEBTRECOVERYMETHOD1).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_DEBTRECOVERYMETHOD1));
+        return (Integer) readSync(getServerAttribute(ATTR_DEBTRECOVERYMETHOD1));
     }
 
     /**
@@ -3607,7 +3612,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setDebtRecoveryMethod1Reporting(final int minInterval, final int maxInterval) {
-        return setReporting(serverAttributes.get(ATTR_DEBTRECOVERYMETHOD1), minInterval, maxInterval);
+        return setReporting(getServerAttribute(ATTR_DEBTRECOVERYMETHOD1), minInterval, maxInterval);
     }
 
     /**
@@ -3624,7 +3629,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getDebtRecoveryStartTime1Async() {
-        return read(serverAttributes.get(ATTR_DEBTRECOVERYSTARTTIME1));
+        return read(getServerAttribute(ATTR_DEBTRECOVERYSTARTTIME1));
     }
 
     /**
@@ -3649,11 +3654,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Calendar getDebtRecoveryStartTime1(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_DEBTRECOVERYSTARTTIME1).isLastValueCurrent(refreshPeriod)) {
-            return (Calendar) serverAttributes.get(ATTR_DEBTRECOVERYSTARTTIME1).getLastValue();
+        if (getServerAttribute(ATTR_DEBTRECOVERYSTARTTIME1).isLastValueCurrent(refreshPeriod)) {
+            return (Calendar) getServerAttribute(ATTR_DEBTRECOVERYSTARTTIME1).getLastValue();
         }
 
-        return (Calendar) readSync(serverAttributes.get(ATTR_DEBTRECOVERYSTARTTIME1));
+        return (Calendar) readSync(getServerAttribute(ATTR_DEBTRECOVERYSTARTTIME1));
     }
 
     /**
@@ -3673,7 +3678,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setDebtRecoveryStartTime1Reporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_DEBTRECOVERYSTARTTIME1), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_DEBTRECOVERYSTARTTIME1), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -3690,7 +3695,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getDebtRecoveryCollectionTime1Async() {
-        return read(serverAttributes.get(ATTR_DEBTRECOVERYCOLLECTIONTIME1));
+        return read(getServerAttribute(ATTR_DEBTRECOVERYCOLLECTIONTIME1));
     }
 
     /**
@@ -3715,11 +3720,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getDebtRecoveryCollectionTime1(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_DEBTRECOVERYCOLLECTIONTIME1).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_DEBTRECOVERYCOLLECTIONTIME1).getLastValue();
+        if (getServerAttribute(ATTR_DEBTRECOVERYCOLLECTIONTIME1).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_DEBTRECOVERYCOLLECTIONTIME1).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_DEBTRECOVERYCOLLECTIONTIME1));
+        return (Integer) readSync(getServerAttribute(ATTR_DEBTRECOVERYCOLLECTIONTIME1));
     }
 
     /**
@@ -3739,7 +3744,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setDebtRecoveryCollectionTime1Reporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_DEBTRECOVERYCOLLECTIONTIME1), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_DEBTRECOVERYCOLLECTIONTIME1), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -3756,7 +3761,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getDebtRecoveryFrequency1Async() {
-        return read(serverAttributes.get(ATTR_DEBTRECOVERYFREQUENCY1));
+        return read(getServerAttribute(ATTR_DEBTRECOVERYFREQUENCY1));
     }
 
     /**
@@ -3781,11 +3786,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getDebtRecoveryFrequency1(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_DEBTRECOVERYFREQUENCY1).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_DEBTRECOVERYFREQUENCY1).getLastValue();
+        if (getServerAttribute(ATTR_DEBTRECOVERYFREQUENCY1).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_DEBTRECOVERYFREQUENCY1).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_DEBTRECOVERYFREQUENCY1));
+        return (Integer) readSync(getServerAttribute(ATTR_DEBTRECOVERYFREQUENCY1));
     }
 
     /**
@@ -3804,7 +3809,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setDebtRecoveryFrequency1Reporting(final int minInterval, final int maxInterval) {
-        return setReporting(serverAttributes.get(ATTR_DEBTRECOVERYFREQUENCY1), minInterval, maxInterval);
+        return setReporting(getServerAttribute(ATTR_DEBTRECOVERYFREQUENCY1), minInterval, maxInterval);
     }
 
     /**
@@ -3821,7 +3826,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getDebtRecoveryAmount1Async() {
-        return read(serverAttributes.get(ATTR_DEBTRECOVERYAMOUNT1));
+        return read(getServerAttribute(ATTR_DEBTRECOVERYAMOUNT1));
     }
 
     /**
@@ -3846,11 +3851,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getDebtRecoveryAmount1(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_DEBTRECOVERYAMOUNT1).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_DEBTRECOVERYAMOUNT1).getLastValue();
+        if (getServerAttribute(ATTR_DEBTRECOVERYAMOUNT1).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_DEBTRECOVERYAMOUNT1).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_DEBTRECOVERYAMOUNT1));
+        return (Integer) readSync(getServerAttribute(ATTR_DEBTRECOVERYAMOUNT1));
     }
 
     /**
@@ -3870,7 +3875,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setDebtRecoveryAmount1Reporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_DEBTRECOVERYAMOUNT1), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_DEBTRECOVERYAMOUNT1), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -3887,7 +3892,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getDebtRecoveryTopUpPercentage1Async() {
-        return read(serverAttributes.get(ATTR_DEBTRECOVERYTOPUPPERCENTAGE1));
+        return read(getServerAttribute(ATTR_DEBTRECOVERYTOPUPPERCENTAGE1));
     }
 
     /**
@@ -3912,11 +3917,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getDebtRecoveryTopUpPercentage1(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_DEBTRECOVERYTOPUPPERCENTAGE1).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_DEBTRECOVERYTOPUPPERCENTAGE1).getLastValue();
+        if (getServerAttribute(ATTR_DEBTRECOVERYTOPUPPERCENTAGE1).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_DEBTRECOVERYTOPUPPERCENTAGE1).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_DEBTRECOVERYTOPUPPERCENTAGE1));
+        return (Integer) readSync(getServerAttribute(ATTR_DEBTRECOVERYTOPUPPERCENTAGE1));
     }
 
     /**
@@ -3936,7 +3941,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setDebtRecoveryTopUpPercentage1Reporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_DEBTRECOVERYTOPUPPERCENTAGE1), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_DEBTRECOVERYTOPUPPERCENTAGE1), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -3953,7 +3958,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getDebtLabel2Async() {
-        return read(serverAttributes.get(ATTR_DEBTLABEL2));
+        return read(getServerAttribute(ATTR_DEBTLABEL2));
     }
 
     /**
@@ -3978,11 +3983,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public ByteArray getDebtLabel2(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_DEBTLABEL2).isLastValueCurrent(refreshPeriod)) {
-            return (ByteArray) serverAttributes.get(ATTR_DEBTLABEL2).getLastValue();
+        if (getServerAttribute(ATTR_DEBTLABEL2).isLastValueCurrent(refreshPeriod)) {
+            return (ByteArray) getServerAttribute(ATTR_DEBTLABEL2).getLastValue();
         }
 
-        return (ByteArray) readSync(serverAttributes.get(ATTR_DEBTLABEL2));
+        return (ByteArray) readSync(getServerAttribute(ATTR_DEBTLABEL2));
     }
 
     /**
@@ -4001,7 +4006,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setDebtLabel2Reporting(final int minInterval, final int maxInterval) {
-        return setReporting(serverAttributes.get(ATTR_DEBTLABEL2), minInterval, maxInterval);
+        return setReporting(getServerAttribute(ATTR_DEBTLABEL2), minInterval, maxInterval);
     }
 
     /**
@@ -4018,7 +4023,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getDebtAmount2Async() {
-        return read(serverAttributes.get(ATTR_DEBTAMOUNT2));
+        return read(getServerAttribute(ATTR_DEBTAMOUNT2));
     }
 
     /**
@@ -4043,11 +4048,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getDebtAmount2(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_DEBTAMOUNT2).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_DEBTAMOUNT2).getLastValue();
+        if (getServerAttribute(ATTR_DEBTAMOUNT2).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_DEBTAMOUNT2).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_DEBTAMOUNT2));
+        return (Integer) readSync(getServerAttribute(ATTR_DEBTAMOUNT2));
     }
 
     /**
@@ -4067,7 +4072,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setDebtAmount2Reporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_DEBTAMOUNT2), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_DEBTAMOUNT2), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -4084,7 +4089,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getDebtRecoveryMethod2Async() {
-        return read(serverAttributes.get(ATTR_DEBTRECOVERYMETHOD2));
+        return read(getServerAttribute(ATTR_DEBTRECOVERYMETHOD2));
     }
 
     /**
@@ -4109,11 +4114,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getDebtRecoveryMethod2(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_DEBTRECOVERYMETHOD2).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_DEBTRECOVERYMETHOD2).getLastValue();
+        if (getServerAttribute(ATTR_DEBTRECOVERYMETHOD2).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_DEBTRECOVERYMETHOD2).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_DEBTRECOVERYMETHOD2));
+        return (Integer) readSync(getServerAttribute(ATTR_DEBTRECOVERYMETHOD2));
     }
 
     /**
@@ -4132,7 +4137,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setDebtRecoveryMethod2Reporting(final int minInterval, final int maxInterval) {
-        return setReporting(serverAttributes.get(ATTR_DEBTRECOVERYMETHOD2), minInterval, maxInterval);
+        return setReporting(getServerAttribute(ATTR_DEBTRECOVERYMETHOD2), minInterval, maxInterval);
     }
 
     /**
@@ -4149,7 +4154,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getDebtRecoveryStartTime2Async() {
-        return read(serverAttributes.get(ATTR_DEBTRECOVERYSTARTTIME2));
+        return read(getServerAttribute(ATTR_DEBTRECOVERYSTARTTIME2));
     }
 
     /**
@@ -4174,11 +4179,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Calendar getDebtRecoveryStartTime2(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_DEBTRECOVERYSTARTTIME2).isLastValueCurrent(refreshPeriod)) {
-            return (Calendar) serverAttributes.get(ATTR_DEBTRECOVERYSTARTTIME2).getLastValue();
+        if (getServerAttribute(ATTR_DEBTRECOVERYSTARTTIME2).isLastValueCurrent(refreshPeriod)) {
+            return (Calendar) getServerAttribute(ATTR_DEBTRECOVERYSTARTTIME2).getLastValue();
         }
 
-        return (Calendar) readSync(serverAttributes.get(ATTR_DEBTRECOVERYSTARTTIME2));
+        return (Calendar) readSync(getServerAttribute(ATTR_DEBTRECOVERYSTARTTIME2));
     }
 
     /**
@@ -4198,7 +4203,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setDebtRecoveryStartTime2Reporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_DEBTRECOVERYSTARTTIME2), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_DEBTRECOVERYSTARTTIME2), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -4215,7 +4220,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getDebtRecoveryCollectionTime2Async() {
-        return read(serverAttributes.get(ATTR_DEBTRECOVERYCOLLECTIONTIME2));
+        return read(getServerAttribute(ATTR_DEBTRECOVERYCOLLECTIONTIME2));
     }
 
     /**
@@ -4240,11 +4245,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getDebtRecoveryCollectionTime2(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_DEBTRECOVERYCOLLECTIONTIME2).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_DEBTRECOVERYCOLLECTIONTIME2).getLastValue();
+        if (getServerAttribute(ATTR_DEBTRECOVERYCOLLECTIONTIME2).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_DEBTRECOVERYCOLLECTIONTIME2).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_DEBTRECOVERYCOLLECTIONTIME2));
+        return (Integer) readSync(getServerAttribute(ATTR_DEBTRECOVERYCOLLECTIONTIME2));
     }
 
     /**
@@ -4264,7 +4269,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setDebtRecoveryCollectionTime2Reporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_DEBTRECOVERYCOLLECTIONTIME2), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_DEBTRECOVERYCOLLECTIONTIME2), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -4281,7 +4286,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getDebtRecoveryFrequency2Async() {
-        return read(serverAttributes.get(ATTR_DEBTRECOVERYFREQUENCY2));
+        return read(getServerAttribute(ATTR_DEBTRECOVERYFREQUENCY2));
     }
 
     /**
@@ -4306,11 +4311,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getDebtRecoveryFrequency2(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_DEBTRECOVERYFREQUENCY2).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_DEBTRECOVERYFREQUENCY2).getLastValue();
+        if (getServerAttribute(ATTR_DEBTRECOVERYFREQUENCY2).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_DEBTRECOVERYFREQUENCY2).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_DEBTRECOVERYFREQUENCY2));
+        return (Integer) readSync(getServerAttribute(ATTR_DEBTRECOVERYFREQUENCY2));
     }
 
     /**
@@ -4329,7 +4334,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setDebtRecoveryFrequency2Reporting(final int minInterval, final int maxInterval) {
-        return setReporting(serverAttributes.get(ATTR_DEBTRECOVERYFREQUENCY2), minInterval, maxInterval);
+        return setReporting(getServerAttribute(ATTR_DEBTRECOVERYFREQUENCY2), minInterval, maxInterval);
     }
 
     /**
@@ -4346,7 +4351,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getDebtRecoveryAmount2Async() {
-        return read(serverAttributes.get(ATTR_DEBTRECOVERYAMOUNT2));
+        return read(getServerAttribute(ATTR_DEBTRECOVERYAMOUNT2));
     }
 
     /**
@@ -4371,11 +4376,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getDebtRecoveryAmount2(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_DEBTRECOVERYAMOUNT2).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_DEBTRECOVERYAMOUNT2).getLastValue();
+        if (getServerAttribute(ATTR_DEBTRECOVERYAMOUNT2).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_DEBTRECOVERYAMOUNT2).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_DEBTRECOVERYAMOUNT2));
+        return (Integer) readSync(getServerAttribute(ATTR_DEBTRECOVERYAMOUNT2));
     }
 
     /**
@@ -4395,7 +4400,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setDebtRecoveryAmount2Reporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_DEBTRECOVERYAMOUNT2), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_DEBTRECOVERYAMOUNT2), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -4412,7 +4417,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getDebtRecoveryTopUpPercentage2Async() {
-        return read(serverAttributes.get(ATTR_DEBTRECOVERYTOPUPPERCENTAGE2));
+        return read(getServerAttribute(ATTR_DEBTRECOVERYTOPUPPERCENTAGE2));
     }
 
     /**
@@ -4437,11 +4442,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getDebtRecoveryTopUpPercentage2(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_DEBTRECOVERYTOPUPPERCENTAGE2).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_DEBTRECOVERYTOPUPPERCENTAGE2).getLastValue();
+        if (getServerAttribute(ATTR_DEBTRECOVERYTOPUPPERCENTAGE2).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_DEBTRECOVERYTOPUPPERCENTAGE2).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_DEBTRECOVERYTOPUPPERCENTAGE2));
+        return (Integer) readSync(getServerAttribute(ATTR_DEBTRECOVERYTOPUPPERCENTAGE2));
     }
 
     /**
@@ -4461,7 +4466,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setDebtRecoveryTopUpPercentage2Reporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_DEBTRECOVERYTOPUPPERCENTAGE2), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_DEBTRECOVERYTOPUPPERCENTAGE2), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -4478,7 +4483,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getDebtLabel3Async() {
-        return read(serverAttributes.get(ATTR_DEBTLABEL3));
+        return read(getServerAttribute(ATTR_DEBTLABEL3));
     }
 
     /**
@@ -4503,11 +4508,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public ByteArray getDebtLabel3(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_DEBTLABEL3).isLastValueCurrent(refreshPeriod)) {
-            return (ByteArray) serverAttributes.get(ATTR_DEBTLABEL3).getLastValue();
+        if (getServerAttribute(ATTR_DEBTLABEL3).isLastValueCurrent(refreshPeriod)) {
+            return (ByteArray) getServerAttribute(ATTR_DEBTLABEL3).getLastValue();
         }
 
-        return (ByteArray) readSync(serverAttributes.get(ATTR_DEBTLABEL3));
+        return (ByteArray) readSync(getServerAttribute(ATTR_DEBTLABEL3));
     }
 
     /**
@@ -4526,7 +4531,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setDebtLabel3Reporting(final int minInterval, final int maxInterval) {
-        return setReporting(serverAttributes.get(ATTR_DEBTLABEL3), minInterval, maxInterval);
+        return setReporting(getServerAttribute(ATTR_DEBTLABEL3), minInterval, maxInterval);
     }
 
     /**
@@ -4543,7 +4548,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getDebtAmount3Async() {
-        return read(serverAttributes.get(ATTR_DEBTAMOUNT3));
+        return read(getServerAttribute(ATTR_DEBTAMOUNT3));
     }
 
     /**
@@ -4568,11 +4573,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getDebtAmount3(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_DEBTAMOUNT3).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_DEBTAMOUNT3).getLastValue();
+        if (getServerAttribute(ATTR_DEBTAMOUNT3).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_DEBTAMOUNT3).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_DEBTAMOUNT3));
+        return (Integer) readSync(getServerAttribute(ATTR_DEBTAMOUNT3));
     }
 
     /**
@@ -4592,7 +4597,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setDebtAmount3Reporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_DEBTAMOUNT3), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_DEBTAMOUNT3), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -4609,7 +4614,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getDebtRecoveryMethod3Async() {
-        return read(serverAttributes.get(ATTR_DEBTRECOVERYMETHOD3));
+        return read(getServerAttribute(ATTR_DEBTRECOVERYMETHOD3));
     }
 
     /**
@@ -4634,11 +4639,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getDebtRecoveryMethod3(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_DEBTRECOVERYMETHOD3).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_DEBTRECOVERYMETHOD3).getLastValue();
+        if (getServerAttribute(ATTR_DEBTRECOVERYMETHOD3).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_DEBTRECOVERYMETHOD3).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_DEBTRECOVERYMETHOD3));
+        return (Integer) readSync(getServerAttribute(ATTR_DEBTRECOVERYMETHOD3));
     }
 
     /**
@@ -4657,7 +4662,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setDebtRecoveryMethod3Reporting(final int minInterval, final int maxInterval) {
-        return setReporting(serverAttributes.get(ATTR_DEBTRECOVERYMETHOD3), minInterval, maxInterval);
+        return setReporting(getServerAttribute(ATTR_DEBTRECOVERYMETHOD3), minInterval, maxInterval);
     }
 
     /**
@@ -4674,7 +4679,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getDebtRecoveryStartTime3Async() {
-        return read(serverAttributes.get(ATTR_DEBTRECOVERYSTARTTIME3));
+        return read(getServerAttribute(ATTR_DEBTRECOVERYSTARTTIME3));
     }
 
     /**
@@ -4699,11 +4704,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Calendar getDebtRecoveryStartTime3(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_DEBTRECOVERYSTARTTIME3).isLastValueCurrent(refreshPeriod)) {
-            return (Calendar) serverAttributes.get(ATTR_DEBTRECOVERYSTARTTIME3).getLastValue();
+        if (getServerAttribute(ATTR_DEBTRECOVERYSTARTTIME3).isLastValueCurrent(refreshPeriod)) {
+            return (Calendar) getServerAttribute(ATTR_DEBTRECOVERYSTARTTIME3).getLastValue();
         }
 
-        return (Calendar) readSync(serverAttributes.get(ATTR_DEBTRECOVERYSTARTTIME3));
+        return (Calendar) readSync(getServerAttribute(ATTR_DEBTRECOVERYSTARTTIME3));
     }
 
     /**
@@ -4723,7 +4728,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setDebtRecoveryStartTime3Reporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_DEBTRECOVERYSTARTTIME3), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_DEBTRECOVERYSTARTTIME3), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -4740,7 +4745,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getDebtRecoveryCollectionTime3Async() {
-        return read(serverAttributes.get(ATTR_DEBTRECOVERYCOLLECTIONTIME3));
+        return read(getServerAttribute(ATTR_DEBTRECOVERYCOLLECTIONTIME3));
     }
 
     /**
@@ -4765,11 +4770,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getDebtRecoveryCollectionTime3(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_DEBTRECOVERYCOLLECTIONTIME3).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_DEBTRECOVERYCOLLECTIONTIME3).getLastValue();
+        if (getServerAttribute(ATTR_DEBTRECOVERYCOLLECTIONTIME3).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_DEBTRECOVERYCOLLECTIONTIME3).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_DEBTRECOVERYCOLLECTIONTIME3));
+        return (Integer) readSync(getServerAttribute(ATTR_DEBTRECOVERYCOLLECTIONTIME3));
     }
 
     /**
@@ -4789,7 +4794,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setDebtRecoveryCollectionTime3Reporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_DEBTRECOVERYCOLLECTIONTIME3), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_DEBTRECOVERYCOLLECTIONTIME3), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -4806,7 +4811,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getDebtRecoveryFrequency3Async() {
-        return read(serverAttributes.get(ATTR_DEBTRECOVERYFREQUENCY3));
+        return read(getServerAttribute(ATTR_DEBTRECOVERYFREQUENCY3));
     }
 
     /**
@@ -4831,11 +4836,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getDebtRecoveryFrequency3(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_DEBTRECOVERYFREQUENCY3).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_DEBTRECOVERYFREQUENCY3).getLastValue();
+        if (getServerAttribute(ATTR_DEBTRECOVERYFREQUENCY3).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_DEBTRECOVERYFREQUENCY3).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_DEBTRECOVERYFREQUENCY3));
+        return (Integer) readSync(getServerAttribute(ATTR_DEBTRECOVERYFREQUENCY3));
     }
 
     /**
@@ -4854,7 +4859,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setDebtRecoveryFrequency3Reporting(final int minInterval, final int maxInterval) {
-        return setReporting(serverAttributes.get(ATTR_DEBTRECOVERYFREQUENCY3), minInterval, maxInterval);
+        return setReporting(getServerAttribute(ATTR_DEBTRECOVERYFREQUENCY3), minInterval, maxInterval);
     }
 
     /**
@@ -4871,7 +4876,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getDebtRecoveryAmount3Async() {
-        return read(serverAttributes.get(ATTR_DEBTRECOVERYAMOUNT3));
+        return read(getServerAttribute(ATTR_DEBTRECOVERYAMOUNT3));
     }
 
     /**
@@ -4896,11 +4901,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getDebtRecoveryAmount3(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_DEBTRECOVERYAMOUNT3).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_DEBTRECOVERYAMOUNT3).getLastValue();
+        if (getServerAttribute(ATTR_DEBTRECOVERYAMOUNT3).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_DEBTRECOVERYAMOUNT3).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_DEBTRECOVERYAMOUNT3));
+        return (Integer) readSync(getServerAttribute(ATTR_DEBTRECOVERYAMOUNT3));
     }
 
     /**
@@ -4920,7 +4925,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setDebtRecoveryAmount3Reporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_DEBTRECOVERYAMOUNT3), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_DEBTRECOVERYAMOUNT3), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -4937,7 +4942,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getDebtRecoveryTopUpPercentage3Async() {
-        return read(serverAttributes.get(ATTR_DEBTRECOVERYTOPUPPERCENTAGE3));
+        return read(getServerAttribute(ATTR_DEBTRECOVERYTOPUPPERCENTAGE3));
     }
 
     /**
@@ -4962,11 +4967,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getDebtRecoveryTopUpPercentage3(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_DEBTRECOVERYTOPUPPERCENTAGE3).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_DEBTRECOVERYTOPUPPERCENTAGE3).getLastValue();
+        if (getServerAttribute(ATTR_DEBTRECOVERYTOPUPPERCENTAGE3).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_DEBTRECOVERYTOPUPPERCENTAGE3).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_DEBTRECOVERYTOPUPPERCENTAGE3));
+        return (Integer) readSync(getServerAttribute(ATTR_DEBTRECOVERYTOPUPPERCENTAGE3));
     }
 
     /**
@@ -4986,7 +4991,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setDebtRecoveryTopUpPercentage3Reporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_DEBTRECOVERYTOPUPPERCENTAGE3), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_DEBTRECOVERYTOPUPPERCENTAGE3), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -5004,7 +5009,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setPrepaymentAlarmStatus(final Integer value) {
-        return write(serverAttributes.get(ATTR_PREPAYMENTALARMSTATUS), value);
+        return write(getServerAttribute(ATTR_PREPAYMENTALARMSTATUS), value);
     }
 
     /**
@@ -5021,7 +5026,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getPrepaymentAlarmStatusAsync() {
-        return read(serverAttributes.get(ATTR_PREPAYMENTALARMSTATUS));
+        return read(getServerAttribute(ATTR_PREPAYMENTALARMSTATUS));
     }
 
     /**
@@ -5046,11 +5051,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getPrepaymentAlarmStatus(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PREPAYMENTALARMSTATUS).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_PREPAYMENTALARMSTATUS).getLastValue();
+        if (getServerAttribute(ATTR_PREPAYMENTALARMSTATUS).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_PREPAYMENTALARMSTATUS).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_PREPAYMENTALARMSTATUS));
+        return (Integer) readSync(getServerAttribute(ATTR_PREPAYMENTALARMSTATUS));
     }
 
     /**
@@ -5068,7 +5073,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setPrepayGenericAlarmMask(final Integer value) {
-        return write(serverAttributes.get(ATTR_PREPAYGENERICALARMMASK), value);
+        return write(getServerAttribute(ATTR_PREPAYGENERICALARMMASK), value);
     }
 
     /**
@@ -5085,7 +5090,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getPrepayGenericAlarmMaskAsync() {
-        return read(serverAttributes.get(ATTR_PREPAYGENERICALARMMASK));
+        return read(getServerAttribute(ATTR_PREPAYGENERICALARMMASK));
     }
 
     /**
@@ -5110,11 +5115,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getPrepayGenericAlarmMask(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PREPAYGENERICALARMMASK).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_PREPAYGENERICALARMMASK).getLastValue();
+        if (getServerAttribute(ATTR_PREPAYGENERICALARMMASK).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_PREPAYGENERICALARMMASK).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_PREPAYGENERICALARMMASK));
+        return (Integer) readSync(getServerAttribute(ATTR_PREPAYGENERICALARMMASK));
     }
 
     /**
@@ -5132,7 +5137,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setPrepaySwitchAlarmMask(final Integer value) {
-        return write(serverAttributes.get(ATTR_PREPAYSWITCHALARMMASK), value);
+        return write(getServerAttribute(ATTR_PREPAYSWITCHALARMMASK), value);
     }
 
     /**
@@ -5149,7 +5154,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getPrepaySwitchAlarmMaskAsync() {
-        return read(serverAttributes.get(ATTR_PREPAYSWITCHALARMMASK));
+        return read(getServerAttribute(ATTR_PREPAYSWITCHALARMMASK));
     }
 
     /**
@@ -5174,11 +5179,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getPrepaySwitchAlarmMask(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PREPAYSWITCHALARMMASK).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_PREPAYSWITCHALARMMASK).getLastValue();
+        if (getServerAttribute(ATTR_PREPAYSWITCHALARMMASK).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_PREPAYSWITCHALARMMASK).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_PREPAYSWITCHALARMMASK));
+        return (Integer) readSync(getServerAttribute(ATTR_PREPAYSWITCHALARMMASK));
     }
 
     /**
@@ -5196,7 +5201,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setPrepayEventAlarmMask(final Integer value) {
-        return write(serverAttributes.get(ATTR_PREPAYEVENTALARMMASK), value);
+        return write(getServerAttribute(ATTR_PREPAYEVENTALARMMASK), value);
     }
 
     /**
@@ -5213,7 +5218,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getPrepayEventAlarmMaskAsync() {
-        return read(serverAttributes.get(ATTR_PREPAYEVENTALARMMASK));
+        return read(getServerAttribute(ATTR_PREPAYEVENTALARMMASK));
     }
 
     /**
@@ -5238,11 +5243,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getPrepayEventAlarmMask(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PREPAYEVENTALARMMASK).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_PREPAYEVENTALARMMASK).getLastValue();
+        if (getServerAttribute(ATTR_PREPAYEVENTALARMMASK).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_PREPAYEVENTALARMMASK).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_PREPAYEVENTALARMMASK));
+        return (Integer) readSync(getServerAttribute(ATTR_PREPAYEVENTALARMMASK));
     }
 
     /**
@@ -5259,7 +5264,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getHistoricalCostConsumptionFormattingAsync() {
-        return read(serverAttributes.get(ATTR_HISTORICALCOSTCONSUMPTIONFORMATTING));
+        return read(getServerAttribute(ATTR_HISTORICALCOSTCONSUMPTIONFORMATTING));
     }
 
     /**
@@ -5284,11 +5289,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getHistoricalCostConsumptionFormatting(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_HISTORICALCOSTCONSUMPTIONFORMATTING).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_HISTORICALCOSTCONSUMPTIONFORMATTING).getLastValue();
+        if (getServerAttribute(ATTR_HISTORICALCOSTCONSUMPTIONFORMATTING).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_HISTORICALCOSTCONSUMPTIONFORMATTING).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_HISTORICALCOSTCONSUMPTIONFORMATTING));
+        return (Integer) readSync(getServerAttribute(ATTR_HISTORICALCOSTCONSUMPTIONFORMATTING));
     }
 
     /**
@@ -5307,7 +5312,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setHistoricalCostConsumptionFormattingReporting(final int minInterval, final int maxInterval) {
-        return setReporting(serverAttributes.get(ATTR_HISTORICALCOSTCONSUMPTIONFORMATTING), minInterval, maxInterval);
+        return setReporting(getServerAttribute(ATTR_HISTORICALCOSTCONSUMPTIONFORMATTING), minInterval, maxInterval);
     }
 
     /**
@@ -5324,7 +5329,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getConsumptionUnitOfMeasurementAsync() {
-        return read(serverAttributes.get(ATTR_CONSUMPTIONUNITOFMEASUREMENT));
+        return read(getServerAttribute(ATTR_CONSUMPTIONUNITOFMEASUREMENT));
     }
 
     /**
@@ -5349,11 +5354,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getConsumptionUnitOfMeasurement(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CONSUMPTIONUNITOFMEASUREMENT).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CONSUMPTIONUNITOFMEASUREMENT).getLastValue();
+        if (getServerAttribute(ATTR_CONSUMPTIONUNITOFMEASUREMENT).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CONSUMPTIONUNITOFMEASUREMENT).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CONSUMPTIONUNITOFMEASUREMENT));
+        return (Integer) readSync(getServerAttribute(ATTR_CONSUMPTIONUNITOFMEASUREMENT));
     }
 
     /**
@@ -5372,7 +5377,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setConsumptionUnitOfMeasurementReporting(final int minInterval, final int maxInterval) {
-        return setReporting(serverAttributes.get(ATTR_CONSUMPTIONUNITOFMEASUREMENT), minInterval, maxInterval);
+        return setReporting(getServerAttribute(ATTR_CONSUMPTIONUNITOFMEASUREMENT), minInterval, maxInterval);
     }
 
     /**
@@ -5389,7 +5394,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCurrencyScalingFactorAsync() {
-        return read(serverAttributes.get(ATTR_CURRENCYSCALINGFACTOR));
+        return read(getServerAttribute(ATTR_CURRENCYSCALINGFACTOR));
     }
 
     /**
@@ -5414,11 +5419,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCurrencyScalingFactor(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CURRENCYSCALINGFACTOR).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CURRENCYSCALINGFACTOR).getLastValue();
+        if (getServerAttribute(ATTR_CURRENCYSCALINGFACTOR).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CURRENCYSCALINGFACTOR).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CURRENCYSCALINGFACTOR));
+        return (Integer) readSync(getServerAttribute(ATTR_CURRENCYSCALINGFACTOR));
     }
 
     /**
@@ -5437,7 +5442,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setCurrencyScalingFactorReporting(final int minInterval, final int maxInterval) {
-        return setReporting(serverAttributes.get(ATTR_CURRENCYSCALINGFACTOR), minInterval, maxInterval);
+        return setReporting(getServerAttribute(ATTR_CURRENCYSCALINGFACTOR), minInterval, maxInterval);
     }
 
     /**
@@ -5454,7 +5459,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCurrencyAsync() {
-        return read(serverAttributes.get(ATTR_CURRENCY));
+        return read(getServerAttribute(ATTR_CURRENCY));
     }
 
     /**
@@ -5479,11 +5484,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCurrency(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CURRENCY).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CURRENCY).getLastValue();
+        if (getServerAttribute(ATTR_CURRENCY).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CURRENCY).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CURRENCY));
+        return (Integer) readSync(getServerAttribute(ATTR_CURRENCY));
     }
 
     /**
@@ -5503,7 +5508,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setCurrencyReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_CURRENCY), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_CURRENCY), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -5520,7 +5525,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCurrentDayCostConsumptionDeliveredAsync() {
-        return read(serverAttributes.get(ATTR_CURRENTDAYCOSTCONSUMPTIONDELIVERED));
+        return read(getServerAttribute(ATTR_CURRENTDAYCOSTCONSUMPTIONDELIVERED));
     }
 
     /**
@@ -5545,11 +5550,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCurrentDayCostConsumptionDelivered(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CURRENTDAYCOSTCONSUMPTIONDELIVERED).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CURRENTDAYCOSTCONSUMPTIONDELIVERED).getLastValue();
+        if (getServerAttribute(ATTR_CURRENTDAYCOSTCONSUMPTIONDELIVERED).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CURRENTDAYCOSTCONSUMPTIONDELIVERED).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CURRENTDAYCOSTCONSUMPTIONDELIVERED));
+        return (Integer) readSync(getServerAttribute(ATTR_CURRENTDAYCOSTCONSUMPTIONDELIVERED));
     }
 
     /**
@@ -5569,7 +5574,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setCurrentDayCostConsumptionDeliveredReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_CURRENTDAYCOSTCONSUMPTIONDELIVERED), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_CURRENTDAYCOSTCONSUMPTIONDELIVERED), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -5586,7 +5591,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCurrentDayCostConsumptionReceivedAsync() {
-        return read(serverAttributes.get(ATTR_CURRENTDAYCOSTCONSUMPTIONRECEIVED));
+        return read(getServerAttribute(ATTR_CURRENTDAYCOSTCONSUMPTIONRECEIVED));
     }
 
     /**
@@ -5611,11 +5616,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCurrentDayCostConsumptionReceived(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CURRENTDAYCOSTCONSUMPTIONRECEIVED).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CURRENTDAYCOSTCONSUMPTIONRECEIVED).getLastValue();
+        if (getServerAttribute(ATTR_CURRENTDAYCOSTCONSUMPTIONRECEIVED).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CURRENTDAYCOSTCONSUMPTIONRECEIVED).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CURRENTDAYCOSTCONSUMPTIONRECEIVED));
+        return (Integer) readSync(getServerAttribute(ATTR_CURRENTDAYCOSTCONSUMPTIONRECEIVED));
     }
 
     /**
@@ -5635,7 +5640,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setCurrentDayCostConsumptionReceivedReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_CURRENTDAYCOSTCONSUMPTIONRECEIVED), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_CURRENTDAYCOSTCONSUMPTIONRECEIVED), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -5652,7 +5657,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getPreviousDayCostConsumptionDeliveredAsync() {
-        return read(serverAttributes.get(ATTR_PREVIOUSDAYCOSTCONSUMPTIONDELIVERED));
+        return read(getServerAttribute(ATTR_PREVIOUSDAYCOSTCONSUMPTIONDELIVERED));
     }
 
     /**
@@ -5677,11 +5682,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getPreviousDayCostConsumptionDelivered(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PREVIOUSDAYCOSTCONSUMPTIONDELIVERED).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_PREVIOUSDAYCOSTCONSUMPTIONDELIVERED).getLastValue();
+        if (getServerAttribute(ATTR_PREVIOUSDAYCOSTCONSUMPTIONDELIVERED).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_PREVIOUSDAYCOSTCONSUMPTIONDELIVERED).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_PREVIOUSDAYCOSTCONSUMPTIONDELIVERED));
+        return (Integer) readSync(getServerAttribute(ATTR_PREVIOUSDAYCOSTCONSUMPTIONDELIVERED));
     }
 
     /**
@@ -5701,7 +5706,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setPreviousDayCostConsumptionDeliveredReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_PREVIOUSDAYCOSTCONSUMPTIONDELIVERED), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_PREVIOUSDAYCOSTCONSUMPTIONDELIVERED), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -5718,7 +5723,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getPreviousDayCostConsumptionReceivedAsync() {
-        return read(serverAttributes.get(ATTR_PREVIOUSDAYCOSTCONSUMPTIONRECEIVED));
+        return read(getServerAttribute(ATTR_PREVIOUSDAYCOSTCONSUMPTIONRECEIVED));
     }
 
     /**
@@ -5743,11 +5748,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getPreviousDayCostConsumptionReceived(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PREVIOUSDAYCOSTCONSUMPTIONRECEIVED).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_PREVIOUSDAYCOSTCONSUMPTIONRECEIVED).getLastValue();
+        if (getServerAttribute(ATTR_PREVIOUSDAYCOSTCONSUMPTIONRECEIVED).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_PREVIOUSDAYCOSTCONSUMPTIONRECEIVED).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_PREVIOUSDAYCOSTCONSUMPTIONRECEIVED));
+        return (Integer) readSync(getServerAttribute(ATTR_PREVIOUSDAYCOSTCONSUMPTIONRECEIVED));
     }
 
     /**
@@ -5767,7 +5772,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setPreviousDayCostConsumptionReceivedReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_PREVIOUSDAYCOSTCONSUMPTIONRECEIVED), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_PREVIOUSDAYCOSTCONSUMPTIONRECEIVED), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -5784,7 +5789,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getPreviousDay2CostConsumptionDeliveredAsync() {
-        return read(serverAttributes.get(ATTR_PREVIOUSDAY2COSTCONSUMPTIONDELIVERED));
+        return read(getServerAttribute(ATTR_PREVIOUSDAY2COSTCONSUMPTIONDELIVERED));
     }
 
     /**
@@ -5809,11 +5814,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getPreviousDay2CostConsumptionDelivered(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PREVIOUSDAY2COSTCONSUMPTIONDELIVERED).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_PREVIOUSDAY2COSTCONSUMPTIONDELIVERED).getLastValue();
+        if (getServerAttribute(ATTR_PREVIOUSDAY2COSTCONSUMPTIONDELIVERED).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_PREVIOUSDAY2COSTCONSUMPTIONDELIVERED).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_PREVIOUSDAY2COSTCONSUMPTIONDELIVERED));
+        return (Integer) readSync(getServerAttribute(ATTR_PREVIOUSDAY2COSTCONSUMPTIONDELIVERED));
     }
 
     /**
@@ -5833,7 +5838,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setPreviousDay2CostConsumptionDeliveredReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_PREVIOUSDAY2COSTCONSUMPTIONDELIVERED), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_PREVIOUSDAY2COSTCONSUMPTIONDELIVERED), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -5850,7 +5855,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getPreviousDay2CostConsumptionReceivedAsync() {
-        return read(serverAttributes.get(ATTR_PREVIOUSDAY2COSTCONSUMPTIONRECEIVED));
+        return read(getServerAttribute(ATTR_PREVIOUSDAY2COSTCONSUMPTIONRECEIVED));
     }
 
     /**
@@ -5875,11 +5880,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getPreviousDay2CostConsumptionReceived(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PREVIOUSDAY2COSTCONSUMPTIONRECEIVED).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_PREVIOUSDAY2COSTCONSUMPTIONRECEIVED).getLastValue();
+        if (getServerAttribute(ATTR_PREVIOUSDAY2COSTCONSUMPTIONRECEIVED).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_PREVIOUSDAY2COSTCONSUMPTIONRECEIVED).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_PREVIOUSDAY2COSTCONSUMPTIONRECEIVED));
+        return (Integer) readSync(getServerAttribute(ATTR_PREVIOUSDAY2COSTCONSUMPTIONRECEIVED));
     }
 
     /**
@@ -5899,7 +5904,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setPreviousDay2CostConsumptionReceivedReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_PREVIOUSDAY2COSTCONSUMPTIONRECEIVED), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_PREVIOUSDAY2COSTCONSUMPTIONRECEIVED), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -5916,7 +5921,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getPreviousDay3CostConsumptionDeliveredAsync() {
-        return read(serverAttributes.get(ATTR_PREVIOUSDAY3COSTCONSUMPTIONDELIVERED));
+        return read(getServerAttribute(ATTR_PREVIOUSDAY3COSTCONSUMPTIONDELIVERED));
     }
 
     /**
@@ -5941,11 +5946,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getPreviousDay3CostConsumptionDelivered(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PREVIOUSDAY3COSTCONSUMPTIONDELIVERED).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_PREVIOUSDAY3COSTCONSUMPTIONDELIVERED).getLastValue();
+        if (getServerAttribute(ATTR_PREVIOUSDAY3COSTCONSUMPTIONDELIVERED).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_PREVIOUSDAY3COSTCONSUMPTIONDELIVERED).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_PREVIOUSDAY3COSTCONSUMPTIONDELIVERED));
+        return (Integer) readSync(getServerAttribute(ATTR_PREVIOUSDAY3COSTCONSUMPTIONDELIVERED));
     }
 
     /**
@@ -5965,7 +5970,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setPreviousDay3CostConsumptionDeliveredReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_PREVIOUSDAY3COSTCONSUMPTIONDELIVERED), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_PREVIOUSDAY3COSTCONSUMPTIONDELIVERED), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -5982,7 +5987,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getPreviousDay3CostConsumptionReceivedAsync() {
-        return read(serverAttributes.get(ATTR_PREVIOUSDAY3COSTCONSUMPTIONRECEIVED));
+        return read(getServerAttribute(ATTR_PREVIOUSDAY3COSTCONSUMPTIONRECEIVED));
     }
 
     /**
@@ -6007,11 +6012,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getPreviousDay3CostConsumptionReceived(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PREVIOUSDAY3COSTCONSUMPTIONRECEIVED).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_PREVIOUSDAY3COSTCONSUMPTIONRECEIVED).getLastValue();
+        if (getServerAttribute(ATTR_PREVIOUSDAY3COSTCONSUMPTIONRECEIVED).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_PREVIOUSDAY3COSTCONSUMPTIONRECEIVED).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_PREVIOUSDAY3COSTCONSUMPTIONRECEIVED));
+        return (Integer) readSync(getServerAttribute(ATTR_PREVIOUSDAY3COSTCONSUMPTIONRECEIVED));
     }
 
     /**
@@ -6031,7 +6036,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setPreviousDay3CostConsumptionReceivedReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_PREVIOUSDAY3COSTCONSUMPTIONRECEIVED), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_PREVIOUSDAY3COSTCONSUMPTIONRECEIVED), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -6048,7 +6053,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getPreviousDay4CostConsumptionDeliveredAsync() {
-        return read(serverAttributes.get(ATTR_PREVIOUSDAY4COSTCONSUMPTIONDELIVERED));
+        return read(getServerAttribute(ATTR_PREVIOUSDAY4COSTCONSUMPTIONDELIVERED));
     }
 
     /**
@@ -6073,11 +6078,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getPreviousDay4CostConsumptionDelivered(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PREVIOUSDAY4COSTCONSUMPTIONDELIVERED).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_PREVIOUSDAY4COSTCONSUMPTIONDELIVERED).getLastValue();
+        if (getServerAttribute(ATTR_PREVIOUSDAY4COSTCONSUMPTIONDELIVERED).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_PREVIOUSDAY4COSTCONSUMPTIONDELIVERED).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_PREVIOUSDAY4COSTCONSUMPTIONDELIVERED));
+        return (Integer) readSync(getServerAttribute(ATTR_PREVIOUSDAY4COSTCONSUMPTIONDELIVERED));
     }
 
     /**
@@ -6097,7 +6102,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setPreviousDay4CostConsumptionDeliveredReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_PREVIOUSDAY4COSTCONSUMPTIONDELIVERED), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_PREVIOUSDAY4COSTCONSUMPTIONDELIVERED), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -6114,7 +6119,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getPreviousDay4CostConsumptionReceivedAsync() {
-        return read(serverAttributes.get(ATTR_PREVIOUSDAY4COSTCONSUMPTIONRECEIVED));
+        return read(getServerAttribute(ATTR_PREVIOUSDAY4COSTCONSUMPTIONRECEIVED));
     }
 
     /**
@@ -6139,11 +6144,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getPreviousDay4CostConsumptionReceived(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PREVIOUSDAY4COSTCONSUMPTIONRECEIVED).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_PREVIOUSDAY4COSTCONSUMPTIONRECEIVED).getLastValue();
+        if (getServerAttribute(ATTR_PREVIOUSDAY4COSTCONSUMPTIONRECEIVED).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_PREVIOUSDAY4COSTCONSUMPTIONRECEIVED).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_PREVIOUSDAY4COSTCONSUMPTIONRECEIVED));
+        return (Integer) readSync(getServerAttribute(ATTR_PREVIOUSDAY4COSTCONSUMPTIONRECEIVED));
     }
 
     /**
@@ -6163,7 +6168,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setPreviousDay4CostConsumptionReceivedReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_PREVIOUSDAY4COSTCONSUMPTIONRECEIVED), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_PREVIOUSDAY4COSTCONSUMPTIONRECEIVED), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -6180,7 +6185,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getPreviousDay5CostConsumptionDeliveredAsync() {
-        return read(serverAttributes.get(ATTR_PREVIOUSDAY5COSTCONSUMPTIONDELIVERED));
+        return read(getServerAttribute(ATTR_PREVIOUSDAY5COSTCONSUMPTIONDELIVERED));
     }
 
     /**
@@ -6205,11 +6210,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getPreviousDay5CostConsumptionDelivered(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PREVIOUSDAY5COSTCONSUMPTIONDELIVERED).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_PREVIOUSDAY5COSTCONSUMPTIONDELIVERED).getLastValue();
+        if (getServerAttribute(ATTR_PREVIOUSDAY5COSTCONSUMPTIONDELIVERED).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_PREVIOUSDAY5COSTCONSUMPTIONDELIVERED).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_PREVIOUSDAY5COSTCONSUMPTIONDELIVERED));
+        return (Integer) readSync(getServerAttribute(ATTR_PREVIOUSDAY5COSTCONSUMPTIONDELIVERED));
     }
 
     /**
@@ -6229,7 +6234,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setPreviousDay5CostConsumptionDeliveredReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_PREVIOUSDAY5COSTCONSUMPTIONDELIVERED), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_PREVIOUSDAY5COSTCONSUMPTIONDELIVERED), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -6246,7 +6251,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getPreviousDay5CostConsumptionReceivedAsync() {
-        return read(serverAttributes.get(ATTR_PREVIOUSDAY5COSTCONSUMPTIONRECEIVED));
+        return read(getServerAttribute(ATTR_PREVIOUSDAY5COSTCONSUMPTIONRECEIVED));
     }
 
     /**
@@ -6271,11 +6276,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getPreviousDay5CostConsumptionReceived(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PREVIOUSDAY5COSTCONSUMPTIONRECEIVED).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_PREVIOUSDAY5COSTCONSUMPTIONRECEIVED).getLastValue();
+        if (getServerAttribute(ATTR_PREVIOUSDAY5COSTCONSUMPTIONRECEIVED).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_PREVIOUSDAY5COSTCONSUMPTIONRECEIVED).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_PREVIOUSDAY5COSTCONSUMPTIONRECEIVED));
+        return (Integer) readSync(getServerAttribute(ATTR_PREVIOUSDAY5COSTCONSUMPTIONRECEIVED));
     }
 
     /**
@@ -6295,7 +6300,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setPreviousDay5CostConsumptionReceivedReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_PREVIOUSDAY5COSTCONSUMPTIONRECEIVED), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_PREVIOUSDAY5COSTCONSUMPTIONRECEIVED), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -6312,7 +6317,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getPreviousDay6CostConsumptionDeliveredAsync() {
-        return read(serverAttributes.get(ATTR_PREVIOUSDAY6COSTCONSUMPTIONDELIVERED));
+        return read(getServerAttribute(ATTR_PREVIOUSDAY6COSTCONSUMPTIONDELIVERED));
     }
 
     /**
@@ -6337,11 +6342,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getPreviousDay6CostConsumptionDelivered(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PREVIOUSDAY6COSTCONSUMPTIONDELIVERED).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_PREVIOUSDAY6COSTCONSUMPTIONDELIVERED).getLastValue();
+        if (getServerAttribute(ATTR_PREVIOUSDAY6COSTCONSUMPTIONDELIVERED).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_PREVIOUSDAY6COSTCONSUMPTIONDELIVERED).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_PREVIOUSDAY6COSTCONSUMPTIONDELIVERED));
+        return (Integer) readSync(getServerAttribute(ATTR_PREVIOUSDAY6COSTCONSUMPTIONDELIVERED));
     }
 
     /**
@@ -6361,7 +6366,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setPreviousDay6CostConsumptionDeliveredReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_PREVIOUSDAY6COSTCONSUMPTIONDELIVERED), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_PREVIOUSDAY6COSTCONSUMPTIONDELIVERED), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -6378,7 +6383,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getPreviousDay6CostConsumptionReceivedAsync() {
-        return read(serverAttributes.get(ATTR_PREVIOUSDAY6COSTCONSUMPTIONRECEIVED));
+        return read(getServerAttribute(ATTR_PREVIOUSDAY6COSTCONSUMPTIONRECEIVED));
     }
 
     /**
@@ -6403,11 +6408,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getPreviousDay6CostConsumptionReceived(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PREVIOUSDAY6COSTCONSUMPTIONRECEIVED).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_PREVIOUSDAY6COSTCONSUMPTIONRECEIVED).getLastValue();
+        if (getServerAttribute(ATTR_PREVIOUSDAY6COSTCONSUMPTIONRECEIVED).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_PREVIOUSDAY6COSTCONSUMPTIONRECEIVED).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_PREVIOUSDAY6COSTCONSUMPTIONRECEIVED));
+        return (Integer) readSync(getServerAttribute(ATTR_PREVIOUSDAY6COSTCONSUMPTIONRECEIVED));
     }
 
     /**
@@ -6427,7 +6432,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setPreviousDay6CostConsumptionReceivedReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_PREVIOUSDAY6COSTCONSUMPTIONRECEIVED), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_PREVIOUSDAY6COSTCONSUMPTIONRECEIVED), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -6444,7 +6449,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getPreviousDay7CostConsumptionDeliveredAsync() {
-        return read(serverAttributes.get(ATTR_PREVIOUSDAY7COSTCONSUMPTIONDELIVERED));
+        return read(getServerAttribute(ATTR_PREVIOUSDAY7COSTCONSUMPTIONDELIVERED));
     }
 
     /**
@@ -6469,11 +6474,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getPreviousDay7CostConsumptionDelivered(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PREVIOUSDAY7COSTCONSUMPTIONDELIVERED).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_PREVIOUSDAY7COSTCONSUMPTIONDELIVERED).getLastValue();
+        if (getServerAttribute(ATTR_PREVIOUSDAY7COSTCONSUMPTIONDELIVERED).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_PREVIOUSDAY7COSTCONSUMPTIONDELIVERED).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_PREVIOUSDAY7COSTCONSUMPTIONDELIVERED));
+        return (Integer) readSync(getServerAttribute(ATTR_PREVIOUSDAY7COSTCONSUMPTIONDELIVERED));
     }
 
     /**
@@ -6493,7 +6498,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setPreviousDay7CostConsumptionDeliveredReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_PREVIOUSDAY7COSTCONSUMPTIONDELIVERED), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_PREVIOUSDAY7COSTCONSUMPTIONDELIVERED), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -6510,7 +6515,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getPreviousDay7CostConsumptionReceivedAsync() {
-        return read(serverAttributes.get(ATTR_PREVIOUSDAY7COSTCONSUMPTIONRECEIVED));
+        return read(getServerAttribute(ATTR_PREVIOUSDAY7COSTCONSUMPTIONRECEIVED));
     }
 
     /**
@@ -6535,11 +6540,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getPreviousDay7CostConsumptionReceived(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PREVIOUSDAY7COSTCONSUMPTIONRECEIVED).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_PREVIOUSDAY7COSTCONSUMPTIONRECEIVED).getLastValue();
+        if (getServerAttribute(ATTR_PREVIOUSDAY7COSTCONSUMPTIONRECEIVED).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_PREVIOUSDAY7COSTCONSUMPTIONRECEIVED).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_PREVIOUSDAY7COSTCONSUMPTIONRECEIVED));
+        return (Integer) readSync(getServerAttribute(ATTR_PREVIOUSDAY7COSTCONSUMPTIONRECEIVED));
     }
 
     /**
@@ -6559,7 +6564,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setPreviousDay7CostConsumptionReceivedReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_PREVIOUSDAY7COSTCONSUMPTIONRECEIVED), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_PREVIOUSDAY7COSTCONSUMPTIONRECEIVED), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -6576,7 +6581,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getPreviousDay8CostConsumptionDeliveredAsync() {
-        return read(serverAttributes.get(ATTR_PREVIOUSDAY8COSTCONSUMPTIONDELIVERED));
+        return read(getServerAttribute(ATTR_PREVIOUSDAY8COSTCONSUMPTIONDELIVERED));
     }
 
     /**
@@ -6601,11 +6606,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getPreviousDay8CostConsumptionDelivered(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PREVIOUSDAY8COSTCONSUMPTIONDELIVERED).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_PREVIOUSDAY8COSTCONSUMPTIONDELIVERED).getLastValue();
+        if (getServerAttribute(ATTR_PREVIOUSDAY8COSTCONSUMPTIONDELIVERED).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_PREVIOUSDAY8COSTCONSUMPTIONDELIVERED).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_PREVIOUSDAY8COSTCONSUMPTIONDELIVERED));
+        return (Integer) readSync(getServerAttribute(ATTR_PREVIOUSDAY8COSTCONSUMPTIONDELIVERED));
     }
 
     /**
@@ -6625,7 +6630,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setPreviousDay8CostConsumptionDeliveredReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_PREVIOUSDAY8COSTCONSUMPTIONDELIVERED), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_PREVIOUSDAY8COSTCONSUMPTIONDELIVERED), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -6642,7 +6647,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getPreviousDay8CostConsumptionReceivedAsync() {
-        return read(serverAttributes.get(ATTR_PREVIOUSDAY8COSTCONSUMPTIONRECEIVED));
+        return read(getServerAttribute(ATTR_PREVIOUSDAY8COSTCONSUMPTIONRECEIVED));
     }
 
     /**
@@ -6667,11 +6672,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getPreviousDay8CostConsumptionReceived(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PREVIOUSDAY8COSTCONSUMPTIONRECEIVED).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_PREVIOUSDAY8COSTCONSUMPTIONRECEIVED).getLastValue();
+        if (getServerAttribute(ATTR_PREVIOUSDAY8COSTCONSUMPTIONRECEIVED).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_PREVIOUSDAY8COSTCONSUMPTIONRECEIVED).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_PREVIOUSDAY8COSTCONSUMPTIONRECEIVED));
+        return (Integer) readSync(getServerAttribute(ATTR_PREVIOUSDAY8COSTCONSUMPTIONRECEIVED));
     }
 
     /**
@@ -6691,7 +6696,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setPreviousDay8CostConsumptionReceivedReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_PREVIOUSDAY8COSTCONSUMPTIONRECEIVED), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_PREVIOUSDAY8COSTCONSUMPTIONRECEIVED), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -6708,7 +6713,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCurrentWeekCostConsumptionDeliveredAsync() {
-        return read(serverAttributes.get(ATTR_CURRENTWEEKCOSTCONSUMPTIONDELIVERED));
+        return read(getServerAttribute(ATTR_CURRENTWEEKCOSTCONSUMPTIONDELIVERED));
     }
 
     /**
@@ -6733,11 +6738,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCurrentWeekCostConsumptionDelivered(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CURRENTWEEKCOSTCONSUMPTIONDELIVERED).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CURRENTWEEKCOSTCONSUMPTIONDELIVERED).getLastValue();
+        if (getServerAttribute(ATTR_CURRENTWEEKCOSTCONSUMPTIONDELIVERED).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CURRENTWEEKCOSTCONSUMPTIONDELIVERED).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CURRENTWEEKCOSTCONSUMPTIONDELIVERED));
+        return (Integer) readSync(getServerAttribute(ATTR_CURRENTWEEKCOSTCONSUMPTIONDELIVERED));
     }
 
     /**
@@ -6757,7 +6762,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setCurrentWeekCostConsumptionDeliveredReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_CURRENTWEEKCOSTCONSUMPTIONDELIVERED), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_CURRENTWEEKCOSTCONSUMPTIONDELIVERED), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -6774,7 +6779,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCurrentWeekCostConsumptionReceivedAsync() {
-        return read(serverAttributes.get(ATTR_CURRENTWEEKCOSTCONSUMPTIONRECEIVED));
+        return read(getServerAttribute(ATTR_CURRENTWEEKCOSTCONSUMPTIONRECEIVED));
     }
 
     /**
@@ -6799,11 +6804,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCurrentWeekCostConsumptionReceived(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CURRENTWEEKCOSTCONSUMPTIONRECEIVED).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CURRENTWEEKCOSTCONSUMPTIONRECEIVED).getLastValue();
+        if (getServerAttribute(ATTR_CURRENTWEEKCOSTCONSUMPTIONRECEIVED).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CURRENTWEEKCOSTCONSUMPTIONRECEIVED).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CURRENTWEEKCOSTCONSUMPTIONRECEIVED));
+        return (Integer) readSync(getServerAttribute(ATTR_CURRENTWEEKCOSTCONSUMPTIONRECEIVED));
     }
 
     /**
@@ -6823,7 +6828,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setCurrentWeekCostConsumptionReceivedReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_CURRENTWEEKCOSTCONSUMPTIONRECEIVED), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_CURRENTWEEKCOSTCONSUMPTIONRECEIVED), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -6840,7 +6845,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getPreviousWeekCostConsumptionDeliveredAsync() {
-        return read(serverAttributes.get(ATTR_PREVIOUSWEEKCOSTCONSUMPTIONDELIVERED));
+        return read(getServerAttribute(ATTR_PREVIOUSWEEKCOSTCONSUMPTIONDELIVERED));
     }
 
     /**
@@ -6865,11 +6870,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getPreviousWeekCostConsumptionDelivered(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PREVIOUSWEEKCOSTCONSUMPTIONDELIVERED).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_PREVIOUSWEEKCOSTCONSUMPTIONDELIVERED).getLastValue();
+        if (getServerAttribute(ATTR_PREVIOUSWEEKCOSTCONSUMPTIONDELIVERED).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_PREVIOUSWEEKCOSTCONSUMPTIONDELIVERED).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_PREVIOUSWEEKCOSTCONSUMPTIONDELIVERED));
+        return (Integer) readSync(getServerAttribute(ATTR_PREVIOUSWEEKCOSTCONSUMPTIONDELIVERED));
     }
 
     /**
@@ -6889,7 +6894,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setPreviousWeekCostConsumptionDeliveredReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_PREVIOUSWEEKCOSTCONSUMPTIONDELIVERED), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_PREVIOUSWEEKCOSTCONSUMPTIONDELIVERED), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -6906,7 +6911,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getPreviousWeekCostConsumptionReceivedAsync() {
-        return read(serverAttributes.get(ATTR_PREVIOUSWEEKCOSTCONSUMPTIONRECEIVED));
+        return read(getServerAttribute(ATTR_PREVIOUSWEEKCOSTCONSUMPTIONRECEIVED));
     }
 
     /**
@@ -6931,11 +6936,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getPreviousWeekCostConsumptionReceived(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PREVIOUSWEEKCOSTCONSUMPTIONRECEIVED).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_PREVIOUSWEEKCOSTCONSUMPTIONRECEIVED).getLastValue();
+        if (getServerAttribute(ATTR_PREVIOUSWEEKCOSTCONSUMPTIONRECEIVED).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_PREVIOUSWEEKCOSTCONSUMPTIONRECEIVED).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_PREVIOUSWEEKCOSTCONSUMPTIONRECEIVED));
+        return (Integer) readSync(getServerAttribute(ATTR_PREVIOUSWEEKCOSTCONSUMPTIONRECEIVED));
     }
 
     /**
@@ -6955,7 +6960,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setPreviousWeekCostConsumptionReceivedReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_PREVIOUSWEEKCOSTCONSUMPTIONRECEIVED), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_PREVIOUSWEEKCOSTCONSUMPTIONRECEIVED), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -6972,7 +6977,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getPreviousWeek2CostConsumptionDeliveredAsync() {
-        return read(serverAttributes.get(ATTR_PREVIOUSWEEK2COSTCONSUMPTIONDELIVERED));
+        return read(getServerAttribute(ATTR_PREVIOUSWEEK2COSTCONSUMPTIONDELIVERED));
     }
 
     /**
@@ -6997,11 +7002,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getPreviousWeek2CostConsumptionDelivered(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PREVIOUSWEEK2COSTCONSUMPTIONDELIVERED).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_PREVIOUSWEEK2COSTCONSUMPTIONDELIVERED).getLastValue();
+        if (getServerAttribute(ATTR_PREVIOUSWEEK2COSTCONSUMPTIONDELIVERED).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_PREVIOUSWEEK2COSTCONSUMPTIONDELIVERED).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_PREVIOUSWEEK2COSTCONSUMPTIONDELIVERED));
+        return (Integer) readSync(getServerAttribute(ATTR_PREVIOUSWEEK2COSTCONSUMPTIONDELIVERED));
     }
 
     /**
@@ -7021,7 +7026,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setPreviousWeek2CostConsumptionDeliveredReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_PREVIOUSWEEK2COSTCONSUMPTIONDELIVERED), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_PREVIOUSWEEK2COSTCONSUMPTIONDELIVERED), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -7038,7 +7043,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getPreviousWeek2CostConsumptionReceivedAsync() {
-        return read(serverAttributes.get(ATTR_PREVIOUSWEEK2COSTCONSUMPTIONRECEIVED));
+        return read(getServerAttribute(ATTR_PREVIOUSWEEK2COSTCONSUMPTIONRECEIVED));
     }
 
     /**
@@ -7063,11 +7068,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getPreviousWeek2CostConsumptionReceived(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PREVIOUSWEEK2COSTCONSUMPTIONRECEIVED).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_PREVIOUSWEEK2COSTCONSUMPTIONRECEIVED).getLastValue();
+        if (getServerAttribute(ATTR_PREVIOUSWEEK2COSTCONSUMPTIONRECEIVED).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_PREVIOUSWEEK2COSTCONSUMPTIONRECEIVED).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_PREVIOUSWEEK2COSTCONSUMPTIONRECEIVED));
+        return (Integer) readSync(getServerAttribute(ATTR_PREVIOUSWEEK2COSTCONSUMPTIONRECEIVED));
     }
 
     /**
@@ -7087,7 +7092,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setPreviousWeek2CostConsumptionReceivedReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_PREVIOUSWEEK2COSTCONSUMPTIONRECEIVED), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_PREVIOUSWEEK2COSTCONSUMPTIONRECEIVED), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -7104,7 +7109,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getPreviousWeek3CostConsumptionDeliveredAsync() {
-        return read(serverAttributes.get(ATTR_PREVIOUSWEEK3COSTCONSUMPTIONDELIVERED));
+        return read(getServerAttribute(ATTR_PREVIOUSWEEK3COSTCONSUMPTIONDELIVERED));
     }
 
     /**
@@ -7129,11 +7134,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getPreviousWeek3CostConsumptionDelivered(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PREVIOUSWEEK3COSTCONSUMPTIONDELIVERED).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_PREVIOUSWEEK3COSTCONSUMPTIONDELIVERED).getLastValue();
+        if (getServerAttribute(ATTR_PREVIOUSWEEK3COSTCONSUMPTIONDELIVERED).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_PREVIOUSWEEK3COSTCONSUMPTIONDELIVERED).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_PREVIOUSWEEK3COSTCONSUMPTIONDELIVERED));
+        return (Integer) readSync(getServerAttribute(ATTR_PREVIOUSWEEK3COSTCONSUMPTIONDELIVERED));
     }
 
     /**
@@ -7153,7 +7158,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setPreviousWeek3CostConsumptionDeliveredReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_PREVIOUSWEEK3COSTCONSUMPTIONDELIVERED), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_PREVIOUSWEEK3COSTCONSUMPTIONDELIVERED), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -7170,7 +7175,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getPreviousWeek3CostConsumptionReceivedAsync() {
-        return read(serverAttributes.get(ATTR_PREVIOUSWEEK3COSTCONSUMPTIONRECEIVED));
+        return read(getServerAttribute(ATTR_PREVIOUSWEEK3COSTCONSUMPTIONRECEIVED));
     }
 
     /**
@@ -7195,11 +7200,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getPreviousWeek3CostConsumptionReceived(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PREVIOUSWEEK3COSTCONSUMPTIONRECEIVED).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_PREVIOUSWEEK3COSTCONSUMPTIONRECEIVED).getLastValue();
+        if (getServerAttribute(ATTR_PREVIOUSWEEK3COSTCONSUMPTIONRECEIVED).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_PREVIOUSWEEK3COSTCONSUMPTIONRECEIVED).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_PREVIOUSWEEK3COSTCONSUMPTIONRECEIVED));
+        return (Integer) readSync(getServerAttribute(ATTR_PREVIOUSWEEK3COSTCONSUMPTIONRECEIVED));
     }
 
     /**
@@ -7219,7 +7224,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setPreviousWeek3CostConsumptionReceivedReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_PREVIOUSWEEK3COSTCONSUMPTIONRECEIVED), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_PREVIOUSWEEK3COSTCONSUMPTIONRECEIVED), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -7236,7 +7241,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getPreviousWeek4CostConsumptionDeliveredAsync() {
-        return read(serverAttributes.get(ATTR_PREVIOUSWEEK4COSTCONSUMPTIONDELIVERED));
+        return read(getServerAttribute(ATTR_PREVIOUSWEEK4COSTCONSUMPTIONDELIVERED));
     }
 
     /**
@@ -7261,11 +7266,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getPreviousWeek4CostConsumptionDelivered(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PREVIOUSWEEK4COSTCONSUMPTIONDELIVERED).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_PREVIOUSWEEK4COSTCONSUMPTIONDELIVERED).getLastValue();
+        if (getServerAttribute(ATTR_PREVIOUSWEEK4COSTCONSUMPTIONDELIVERED).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_PREVIOUSWEEK4COSTCONSUMPTIONDELIVERED).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_PREVIOUSWEEK4COSTCONSUMPTIONDELIVERED));
+        return (Integer) readSync(getServerAttribute(ATTR_PREVIOUSWEEK4COSTCONSUMPTIONDELIVERED));
     }
 
     /**
@@ -7285,7 +7290,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setPreviousWeek4CostConsumptionDeliveredReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_PREVIOUSWEEK4COSTCONSUMPTIONDELIVERED), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_PREVIOUSWEEK4COSTCONSUMPTIONDELIVERED), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -7302,7 +7307,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getPreviousWeek4CostConsumptionReceivedAsync() {
-        return read(serverAttributes.get(ATTR_PREVIOUSWEEK4COSTCONSUMPTIONRECEIVED));
+        return read(getServerAttribute(ATTR_PREVIOUSWEEK4COSTCONSUMPTIONRECEIVED));
     }
 
     /**
@@ -7327,11 +7332,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getPreviousWeek4CostConsumptionReceived(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PREVIOUSWEEK4COSTCONSUMPTIONRECEIVED).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_PREVIOUSWEEK4COSTCONSUMPTIONRECEIVED).getLastValue();
+        if (getServerAttribute(ATTR_PREVIOUSWEEK4COSTCONSUMPTIONRECEIVED).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_PREVIOUSWEEK4COSTCONSUMPTIONRECEIVED).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_PREVIOUSWEEK4COSTCONSUMPTIONRECEIVED));
+        return (Integer) readSync(getServerAttribute(ATTR_PREVIOUSWEEK4COSTCONSUMPTIONRECEIVED));
     }
 
     /**
@@ -7351,7 +7356,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setPreviousWeek4CostConsumptionReceivedReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_PREVIOUSWEEK4COSTCONSUMPTIONRECEIVED), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_PREVIOUSWEEK4COSTCONSUMPTIONRECEIVED), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -7368,7 +7373,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getPreviousWeek5CostConsumptionDeliveredAsync() {
-        return read(serverAttributes.get(ATTR_PREVIOUSWEEK5COSTCONSUMPTIONDELIVERED));
+        return read(getServerAttribute(ATTR_PREVIOUSWEEK5COSTCONSUMPTIONDELIVERED));
     }
 
     /**
@@ -7393,11 +7398,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getPreviousWeek5CostConsumptionDelivered(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PREVIOUSWEEK5COSTCONSUMPTIONDELIVERED).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_PREVIOUSWEEK5COSTCONSUMPTIONDELIVERED).getLastValue();
+        if (getServerAttribute(ATTR_PREVIOUSWEEK5COSTCONSUMPTIONDELIVERED).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_PREVIOUSWEEK5COSTCONSUMPTIONDELIVERED).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_PREVIOUSWEEK5COSTCONSUMPTIONDELIVERED));
+        return (Integer) readSync(getServerAttribute(ATTR_PREVIOUSWEEK5COSTCONSUMPTIONDELIVERED));
     }
 
     /**
@@ -7417,7 +7422,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setPreviousWeek5CostConsumptionDeliveredReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_PREVIOUSWEEK5COSTCONSUMPTIONDELIVERED), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_PREVIOUSWEEK5COSTCONSUMPTIONDELIVERED), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -7434,7 +7439,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getPreviousWeek5CostConsumptionReceivedAsync() {
-        return read(serverAttributes.get(ATTR_PREVIOUSWEEK5COSTCONSUMPTIONRECEIVED));
+        return read(getServerAttribute(ATTR_PREVIOUSWEEK5COSTCONSUMPTIONRECEIVED));
     }
 
     /**
@@ -7459,11 +7464,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getPreviousWeek5CostConsumptionReceived(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PREVIOUSWEEK5COSTCONSUMPTIONRECEIVED).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_PREVIOUSWEEK5COSTCONSUMPTIONRECEIVED).getLastValue();
+        if (getServerAttribute(ATTR_PREVIOUSWEEK5COSTCONSUMPTIONRECEIVED).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_PREVIOUSWEEK5COSTCONSUMPTIONRECEIVED).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_PREVIOUSWEEK5COSTCONSUMPTIONRECEIVED));
+        return (Integer) readSync(getServerAttribute(ATTR_PREVIOUSWEEK5COSTCONSUMPTIONRECEIVED));
     }
 
     /**
@@ -7483,7 +7488,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setPreviousWeek5CostConsumptionReceivedReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_PREVIOUSWEEK5COSTCONSUMPTIONRECEIVED), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_PREVIOUSWEEK5COSTCONSUMPTIONRECEIVED), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -7500,7 +7505,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCurrentMonthCostConsumptionDeliveredAsync() {
-        return read(serverAttributes.get(ATTR_CURRENTMONTHCOSTCONSUMPTIONDELIVERED));
+        return read(getServerAttribute(ATTR_CURRENTMONTHCOSTCONSUMPTIONDELIVERED));
     }
 
     /**
@@ -7525,11 +7530,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCurrentMonthCostConsumptionDelivered(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CURRENTMONTHCOSTCONSUMPTIONDELIVERED).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CURRENTMONTHCOSTCONSUMPTIONDELIVERED).getLastValue();
+        if (getServerAttribute(ATTR_CURRENTMONTHCOSTCONSUMPTIONDELIVERED).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CURRENTMONTHCOSTCONSUMPTIONDELIVERED).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CURRENTMONTHCOSTCONSUMPTIONDELIVERED));
+        return (Integer) readSync(getServerAttribute(ATTR_CURRENTMONTHCOSTCONSUMPTIONDELIVERED));
     }
 
     /**
@@ -7549,7 +7554,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setCurrentMonthCostConsumptionDeliveredReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_CURRENTMONTHCOSTCONSUMPTIONDELIVERED), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_CURRENTMONTHCOSTCONSUMPTIONDELIVERED), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -7566,7 +7571,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCurrentMonthCostConsumptionReceivedAsync() {
-        return read(serverAttributes.get(ATTR_CURRENTMONTHCOSTCONSUMPTIONRECEIVED));
+        return read(getServerAttribute(ATTR_CURRENTMONTHCOSTCONSUMPTIONRECEIVED));
     }
 
     /**
@@ -7591,11 +7596,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCurrentMonthCostConsumptionReceived(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CURRENTMONTHCOSTCONSUMPTIONRECEIVED).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CURRENTMONTHCOSTCONSUMPTIONRECEIVED).getLastValue();
+        if (getServerAttribute(ATTR_CURRENTMONTHCOSTCONSUMPTIONRECEIVED).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CURRENTMONTHCOSTCONSUMPTIONRECEIVED).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CURRENTMONTHCOSTCONSUMPTIONRECEIVED));
+        return (Integer) readSync(getServerAttribute(ATTR_CURRENTMONTHCOSTCONSUMPTIONRECEIVED));
     }
 
     /**
@@ -7615,7 +7620,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setCurrentMonthCostConsumptionReceivedReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_CURRENTMONTHCOSTCONSUMPTIONRECEIVED), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_CURRENTMONTHCOSTCONSUMPTIONRECEIVED), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -7632,7 +7637,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getPreviousMonthCostConsumptionDeliveredAsync() {
-        return read(serverAttributes.get(ATTR_PREVIOUSMONTHCOSTCONSUMPTIONDELIVERED));
+        return read(getServerAttribute(ATTR_PREVIOUSMONTHCOSTCONSUMPTIONDELIVERED));
     }
 
     /**
@@ -7657,11 +7662,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getPreviousMonthCostConsumptionDelivered(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PREVIOUSMONTHCOSTCONSUMPTIONDELIVERED).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_PREVIOUSMONTHCOSTCONSUMPTIONDELIVERED).getLastValue();
+        if (getServerAttribute(ATTR_PREVIOUSMONTHCOSTCONSUMPTIONDELIVERED).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_PREVIOUSMONTHCOSTCONSUMPTIONDELIVERED).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_PREVIOUSMONTHCOSTCONSUMPTIONDELIVERED));
+        return (Integer) readSync(getServerAttribute(ATTR_PREVIOUSMONTHCOSTCONSUMPTIONDELIVERED));
     }
 
     /**
@@ -7681,7 +7686,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setPreviousMonthCostConsumptionDeliveredReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_PREVIOUSMONTHCOSTCONSUMPTIONDELIVERED), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_PREVIOUSMONTHCOSTCONSUMPTIONDELIVERED), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -7698,7 +7703,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getPreviousMonthCostConsumptionReceivedAsync() {
-        return read(serverAttributes.get(ATTR_PREVIOUSMONTHCOSTCONSUMPTIONRECEIVED));
+        return read(getServerAttribute(ATTR_PREVIOUSMONTHCOSTCONSUMPTIONRECEIVED));
     }
 
     /**
@@ -7723,11 +7728,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getPreviousMonthCostConsumptionReceived(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PREVIOUSMONTHCOSTCONSUMPTIONRECEIVED).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_PREVIOUSMONTHCOSTCONSUMPTIONRECEIVED).getLastValue();
+        if (getServerAttribute(ATTR_PREVIOUSMONTHCOSTCONSUMPTIONRECEIVED).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_PREVIOUSMONTHCOSTCONSUMPTIONRECEIVED).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_PREVIOUSMONTHCOSTCONSUMPTIONRECEIVED));
+        return (Integer) readSync(getServerAttribute(ATTR_PREVIOUSMONTHCOSTCONSUMPTIONRECEIVED));
     }
 
     /**
@@ -7747,7 +7752,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setPreviousMonthCostConsumptionReceivedReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_PREVIOUSMONTHCOSTCONSUMPTIONRECEIVED), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_PREVIOUSMONTHCOSTCONSUMPTIONRECEIVED), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -7764,7 +7769,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getPreviousMonth2CostConsumptionDeliveredAsync() {
-        return read(serverAttributes.get(ATTR_PREVIOUSMONTH2COSTCONSUMPTIONDELIVERED));
+        return read(getServerAttribute(ATTR_PREVIOUSMONTH2COSTCONSUMPTIONDELIVERED));
     }
 
     /**
@@ -7789,11 +7794,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getPreviousMonth2CostConsumptionDelivered(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PREVIOUSMONTH2COSTCONSUMPTIONDELIVERED).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_PREVIOUSMONTH2COSTCONSUMPTIONDELIVERED).getLastValue();
+        if (getServerAttribute(ATTR_PREVIOUSMONTH2COSTCONSUMPTIONDELIVERED).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_PREVIOUSMONTH2COSTCONSUMPTIONDELIVERED).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_PREVIOUSMONTH2COSTCONSUMPTIONDELIVERED));
+        return (Integer) readSync(getServerAttribute(ATTR_PREVIOUSMONTH2COSTCONSUMPTIONDELIVERED));
     }
 
     /**
@@ -7813,7 +7818,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setPreviousMonth2CostConsumptionDeliveredReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_PREVIOUSMONTH2COSTCONSUMPTIONDELIVERED), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_PREVIOUSMONTH2COSTCONSUMPTIONDELIVERED), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -7830,7 +7835,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getPreviousMonth2CostConsumptionReceivedAsync() {
-        return read(serverAttributes.get(ATTR_PREVIOUSMONTH2COSTCONSUMPTIONRECEIVED));
+        return read(getServerAttribute(ATTR_PREVIOUSMONTH2COSTCONSUMPTIONRECEIVED));
     }
 
     /**
@@ -7855,11 +7860,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getPreviousMonth2CostConsumptionReceived(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PREVIOUSMONTH2COSTCONSUMPTIONRECEIVED).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_PREVIOUSMONTH2COSTCONSUMPTIONRECEIVED).getLastValue();
+        if (getServerAttribute(ATTR_PREVIOUSMONTH2COSTCONSUMPTIONRECEIVED).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_PREVIOUSMONTH2COSTCONSUMPTIONRECEIVED).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_PREVIOUSMONTH2COSTCONSUMPTIONRECEIVED));
+        return (Integer) readSync(getServerAttribute(ATTR_PREVIOUSMONTH2COSTCONSUMPTIONRECEIVED));
     }
 
     /**
@@ -7879,7 +7884,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setPreviousMonth2CostConsumptionReceivedReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_PREVIOUSMONTH2COSTCONSUMPTIONRECEIVED), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_PREVIOUSMONTH2COSTCONSUMPTIONRECEIVED), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -7896,7 +7901,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getPreviousMonth3CostConsumptionDeliveredAsync() {
-        return read(serverAttributes.get(ATTR_PREVIOUSMONTH3COSTCONSUMPTIONDELIVERED));
+        return read(getServerAttribute(ATTR_PREVIOUSMONTH3COSTCONSUMPTIONDELIVERED));
     }
 
     /**
@@ -7921,11 +7926,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getPreviousMonth3CostConsumptionDelivered(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PREVIOUSMONTH3COSTCONSUMPTIONDELIVERED).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_PREVIOUSMONTH3COSTCONSUMPTIONDELIVERED).getLastValue();
+        if (getServerAttribute(ATTR_PREVIOUSMONTH3COSTCONSUMPTIONDELIVERED).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_PREVIOUSMONTH3COSTCONSUMPTIONDELIVERED).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_PREVIOUSMONTH3COSTCONSUMPTIONDELIVERED));
+        return (Integer) readSync(getServerAttribute(ATTR_PREVIOUSMONTH3COSTCONSUMPTIONDELIVERED));
     }
 
     /**
@@ -7945,7 +7950,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setPreviousMonth3CostConsumptionDeliveredReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_PREVIOUSMONTH3COSTCONSUMPTIONDELIVERED), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_PREVIOUSMONTH3COSTCONSUMPTIONDELIVERED), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -7962,7 +7967,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getPreviousMonth3CostConsumptionReceivedAsync() {
-        return read(serverAttributes.get(ATTR_PREVIOUSMONTH3COSTCONSUMPTIONRECEIVED));
+        return read(getServerAttribute(ATTR_PREVIOUSMONTH3COSTCONSUMPTIONRECEIVED));
     }
 
     /**
@@ -7987,11 +7992,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getPreviousMonth3CostConsumptionReceived(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PREVIOUSMONTH3COSTCONSUMPTIONRECEIVED).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_PREVIOUSMONTH3COSTCONSUMPTIONRECEIVED).getLastValue();
+        if (getServerAttribute(ATTR_PREVIOUSMONTH3COSTCONSUMPTIONRECEIVED).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_PREVIOUSMONTH3COSTCONSUMPTIONRECEIVED).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_PREVIOUSMONTH3COSTCONSUMPTIONRECEIVED));
+        return (Integer) readSync(getServerAttribute(ATTR_PREVIOUSMONTH3COSTCONSUMPTIONRECEIVED));
     }
 
     /**
@@ -8011,7 +8016,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setPreviousMonth3CostConsumptionReceivedReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_PREVIOUSMONTH3COSTCONSUMPTIONRECEIVED), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_PREVIOUSMONTH3COSTCONSUMPTIONRECEIVED), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -8028,7 +8033,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getPreviousMonth4CostConsumptionDeliveredAsync() {
-        return read(serverAttributes.get(ATTR_PREVIOUSMONTH4COSTCONSUMPTIONDELIVERED));
+        return read(getServerAttribute(ATTR_PREVIOUSMONTH4COSTCONSUMPTIONDELIVERED));
     }
 
     /**
@@ -8053,11 +8058,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getPreviousMonth4CostConsumptionDelivered(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PREVIOUSMONTH4COSTCONSUMPTIONDELIVERED).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_PREVIOUSMONTH4COSTCONSUMPTIONDELIVERED).getLastValue();
+        if (getServerAttribute(ATTR_PREVIOUSMONTH4COSTCONSUMPTIONDELIVERED).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_PREVIOUSMONTH4COSTCONSUMPTIONDELIVERED).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_PREVIOUSMONTH4COSTCONSUMPTIONDELIVERED));
+        return (Integer) readSync(getServerAttribute(ATTR_PREVIOUSMONTH4COSTCONSUMPTIONDELIVERED));
     }
 
     /**
@@ -8077,7 +8082,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setPreviousMonth4CostConsumptionDeliveredReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_PREVIOUSMONTH4COSTCONSUMPTIONDELIVERED), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_PREVIOUSMONTH4COSTCONSUMPTIONDELIVERED), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -8094,7 +8099,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getPreviousMonth4CostConsumptionReceivedAsync() {
-        return read(serverAttributes.get(ATTR_PREVIOUSMONTH4COSTCONSUMPTIONRECEIVED));
+        return read(getServerAttribute(ATTR_PREVIOUSMONTH4COSTCONSUMPTIONRECEIVED));
     }
 
     /**
@@ -8119,11 +8124,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getPreviousMonth4CostConsumptionReceived(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PREVIOUSMONTH4COSTCONSUMPTIONRECEIVED).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_PREVIOUSMONTH4COSTCONSUMPTIONRECEIVED).getLastValue();
+        if (getServerAttribute(ATTR_PREVIOUSMONTH4COSTCONSUMPTIONRECEIVED).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_PREVIOUSMONTH4COSTCONSUMPTIONRECEIVED).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_PREVIOUSMONTH4COSTCONSUMPTIONRECEIVED));
+        return (Integer) readSync(getServerAttribute(ATTR_PREVIOUSMONTH4COSTCONSUMPTIONRECEIVED));
     }
 
     /**
@@ -8143,7 +8148,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setPreviousMonth4CostConsumptionReceivedReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_PREVIOUSMONTH4COSTCONSUMPTIONRECEIVED), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_PREVIOUSMONTH4COSTCONSUMPTIONRECEIVED), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -8160,7 +8165,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getPreviousMonth5CostConsumptionDeliveredAsync() {
-        return read(serverAttributes.get(ATTR_PREVIOUSMONTH5COSTCONSUMPTIONDELIVERED));
+        return read(getServerAttribute(ATTR_PREVIOUSMONTH5COSTCONSUMPTIONDELIVERED));
     }
 
     /**
@@ -8185,11 +8190,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getPreviousMonth5CostConsumptionDelivered(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PREVIOUSMONTH5COSTCONSUMPTIONDELIVERED).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_PREVIOUSMONTH5COSTCONSUMPTIONDELIVERED).getLastValue();
+        if (getServerAttribute(ATTR_PREVIOUSMONTH5COSTCONSUMPTIONDELIVERED).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_PREVIOUSMONTH5COSTCONSUMPTIONDELIVERED).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_PREVIOUSMONTH5COSTCONSUMPTIONDELIVERED));
+        return (Integer) readSync(getServerAttribute(ATTR_PREVIOUSMONTH5COSTCONSUMPTIONDELIVERED));
     }
 
     /**
@@ -8209,7 +8214,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setPreviousMonth5CostConsumptionDeliveredReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_PREVIOUSMONTH5COSTCONSUMPTIONDELIVERED), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_PREVIOUSMONTH5COSTCONSUMPTIONDELIVERED), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -8226,7 +8231,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getPreviousMonth5CostConsumptionReceivedAsync() {
-        return read(serverAttributes.get(ATTR_PREVIOUSMONTH5COSTCONSUMPTIONRECEIVED));
+        return read(getServerAttribute(ATTR_PREVIOUSMONTH5COSTCONSUMPTIONRECEIVED));
     }
 
     /**
@@ -8251,11 +8256,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getPreviousMonth5CostConsumptionReceived(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PREVIOUSMONTH5COSTCONSUMPTIONRECEIVED).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_PREVIOUSMONTH5COSTCONSUMPTIONRECEIVED).getLastValue();
+        if (getServerAttribute(ATTR_PREVIOUSMONTH5COSTCONSUMPTIONRECEIVED).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_PREVIOUSMONTH5COSTCONSUMPTIONRECEIVED).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_PREVIOUSMONTH5COSTCONSUMPTIONRECEIVED));
+        return (Integer) readSync(getServerAttribute(ATTR_PREVIOUSMONTH5COSTCONSUMPTIONRECEIVED));
     }
 
     /**
@@ -8275,7 +8280,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setPreviousMonth5CostConsumptionReceivedReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_PREVIOUSMONTH5COSTCONSUMPTIONRECEIVED), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_PREVIOUSMONTH5COSTCONSUMPTIONRECEIVED), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -8292,7 +8297,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getPreviousMonth6CostConsumptionDeliveredAsync() {
-        return read(serverAttributes.get(ATTR_PREVIOUSMONTH6COSTCONSUMPTIONDELIVERED));
+        return read(getServerAttribute(ATTR_PREVIOUSMONTH6COSTCONSUMPTIONDELIVERED));
     }
 
     /**
@@ -8317,11 +8322,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getPreviousMonth6CostConsumptionDelivered(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PREVIOUSMONTH6COSTCONSUMPTIONDELIVERED).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_PREVIOUSMONTH6COSTCONSUMPTIONDELIVERED).getLastValue();
+        if (getServerAttribute(ATTR_PREVIOUSMONTH6COSTCONSUMPTIONDELIVERED).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_PREVIOUSMONTH6COSTCONSUMPTIONDELIVERED).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_PREVIOUSMONTH6COSTCONSUMPTIONDELIVERED));
+        return (Integer) readSync(getServerAttribute(ATTR_PREVIOUSMONTH6COSTCONSUMPTIONDELIVERED));
     }
 
     /**
@@ -8341,7 +8346,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setPreviousMonth6CostConsumptionDeliveredReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_PREVIOUSMONTH6COSTCONSUMPTIONDELIVERED), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_PREVIOUSMONTH6COSTCONSUMPTIONDELIVERED), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -8358,7 +8363,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getPreviousMonth6CostConsumptionReceivedAsync() {
-        return read(serverAttributes.get(ATTR_PREVIOUSMONTH6COSTCONSUMPTIONRECEIVED));
+        return read(getServerAttribute(ATTR_PREVIOUSMONTH6COSTCONSUMPTIONRECEIVED));
     }
 
     /**
@@ -8383,11 +8388,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getPreviousMonth6CostConsumptionReceived(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PREVIOUSMONTH6COSTCONSUMPTIONRECEIVED).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_PREVIOUSMONTH6COSTCONSUMPTIONRECEIVED).getLastValue();
+        if (getServerAttribute(ATTR_PREVIOUSMONTH6COSTCONSUMPTIONRECEIVED).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_PREVIOUSMONTH6COSTCONSUMPTIONRECEIVED).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_PREVIOUSMONTH6COSTCONSUMPTIONRECEIVED));
+        return (Integer) readSync(getServerAttribute(ATTR_PREVIOUSMONTH6COSTCONSUMPTIONRECEIVED));
     }
 
     /**
@@ -8407,7 +8412,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setPreviousMonth6CostConsumptionReceivedReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_PREVIOUSMONTH6COSTCONSUMPTIONRECEIVED), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_PREVIOUSMONTH6COSTCONSUMPTIONRECEIVED), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -8424,7 +8429,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getPreviousMonth7CostConsumptionDeliveredAsync() {
-        return read(serverAttributes.get(ATTR_PREVIOUSMONTH7COSTCONSUMPTIONDELIVERED));
+        return read(getServerAttribute(ATTR_PREVIOUSMONTH7COSTCONSUMPTIONDELIVERED));
     }
 
     /**
@@ -8449,11 +8454,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getPreviousMonth7CostConsumptionDelivered(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PREVIOUSMONTH7COSTCONSUMPTIONDELIVERED).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_PREVIOUSMONTH7COSTCONSUMPTIONDELIVERED).getLastValue();
+        if (getServerAttribute(ATTR_PREVIOUSMONTH7COSTCONSUMPTIONDELIVERED).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_PREVIOUSMONTH7COSTCONSUMPTIONDELIVERED).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_PREVIOUSMONTH7COSTCONSUMPTIONDELIVERED));
+        return (Integer) readSync(getServerAttribute(ATTR_PREVIOUSMONTH7COSTCONSUMPTIONDELIVERED));
     }
 
     /**
@@ -8473,7 +8478,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setPreviousMonth7CostConsumptionDeliveredReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_PREVIOUSMONTH7COSTCONSUMPTIONDELIVERED), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_PREVIOUSMONTH7COSTCONSUMPTIONDELIVERED), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -8490,7 +8495,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getPreviousMonth7CostConsumptionReceivedAsync() {
-        return read(serverAttributes.get(ATTR_PREVIOUSMONTH7COSTCONSUMPTIONRECEIVED));
+        return read(getServerAttribute(ATTR_PREVIOUSMONTH7COSTCONSUMPTIONRECEIVED));
     }
 
     /**
@@ -8515,11 +8520,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getPreviousMonth7CostConsumptionReceived(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PREVIOUSMONTH7COSTCONSUMPTIONRECEIVED).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_PREVIOUSMONTH7COSTCONSUMPTIONRECEIVED).getLastValue();
+        if (getServerAttribute(ATTR_PREVIOUSMONTH7COSTCONSUMPTIONRECEIVED).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_PREVIOUSMONTH7COSTCONSUMPTIONRECEIVED).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_PREVIOUSMONTH7COSTCONSUMPTIONRECEIVED));
+        return (Integer) readSync(getServerAttribute(ATTR_PREVIOUSMONTH7COSTCONSUMPTIONRECEIVED));
     }
 
     /**
@@ -8539,7 +8544,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setPreviousMonth7CostConsumptionReceivedReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_PREVIOUSMONTH7COSTCONSUMPTIONRECEIVED), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_PREVIOUSMONTH7COSTCONSUMPTIONRECEIVED), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -8556,7 +8561,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getPreviousMonth8CostConsumptionDeliveredAsync() {
-        return read(serverAttributes.get(ATTR_PREVIOUSMONTH8COSTCONSUMPTIONDELIVERED));
+        return read(getServerAttribute(ATTR_PREVIOUSMONTH8COSTCONSUMPTIONDELIVERED));
     }
 
     /**
@@ -8581,11 +8586,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getPreviousMonth8CostConsumptionDelivered(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PREVIOUSMONTH8COSTCONSUMPTIONDELIVERED).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_PREVIOUSMONTH8COSTCONSUMPTIONDELIVERED).getLastValue();
+        if (getServerAttribute(ATTR_PREVIOUSMONTH8COSTCONSUMPTIONDELIVERED).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_PREVIOUSMONTH8COSTCONSUMPTIONDELIVERED).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_PREVIOUSMONTH8COSTCONSUMPTIONDELIVERED));
+        return (Integer) readSync(getServerAttribute(ATTR_PREVIOUSMONTH8COSTCONSUMPTIONDELIVERED));
     }
 
     /**
@@ -8605,7 +8610,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setPreviousMonth8CostConsumptionDeliveredReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_PREVIOUSMONTH8COSTCONSUMPTIONDELIVERED), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_PREVIOUSMONTH8COSTCONSUMPTIONDELIVERED), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -8622,7 +8627,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getPreviousMonth8CostConsumptionReceivedAsync() {
-        return read(serverAttributes.get(ATTR_PREVIOUSMONTH8COSTCONSUMPTIONRECEIVED));
+        return read(getServerAttribute(ATTR_PREVIOUSMONTH8COSTCONSUMPTIONRECEIVED));
     }
 
     /**
@@ -8647,11 +8652,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getPreviousMonth8CostConsumptionReceived(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PREVIOUSMONTH8COSTCONSUMPTIONRECEIVED).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_PREVIOUSMONTH8COSTCONSUMPTIONRECEIVED).getLastValue();
+        if (getServerAttribute(ATTR_PREVIOUSMONTH8COSTCONSUMPTIONRECEIVED).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_PREVIOUSMONTH8COSTCONSUMPTIONRECEIVED).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_PREVIOUSMONTH8COSTCONSUMPTIONRECEIVED));
+        return (Integer) readSync(getServerAttribute(ATTR_PREVIOUSMONTH8COSTCONSUMPTIONRECEIVED));
     }
 
     /**
@@ -8671,7 +8676,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setPreviousMonth8CostConsumptionReceivedReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_PREVIOUSMONTH8COSTCONSUMPTIONRECEIVED), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_PREVIOUSMONTH8COSTCONSUMPTIONRECEIVED), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -8688,7 +8693,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getPreviousMonth9CostConsumptionDeliveredAsync() {
-        return read(serverAttributes.get(ATTR_PREVIOUSMONTH9COSTCONSUMPTIONDELIVERED));
+        return read(getServerAttribute(ATTR_PREVIOUSMONTH9COSTCONSUMPTIONDELIVERED));
     }
 
     /**
@@ -8713,11 +8718,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getPreviousMonth9CostConsumptionDelivered(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PREVIOUSMONTH9COSTCONSUMPTIONDELIVERED).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_PREVIOUSMONTH9COSTCONSUMPTIONDELIVERED).getLastValue();
+        if (getServerAttribute(ATTR_PREVIOUSMONTH9COSTCONSUMPTIONDELIVERED).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_PREVIOUSMONTH9COSTCONSUMPTIONDELIVERED).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_PREVIOUSMONTH9COSTCONSUMPTIONDELIVERED));
+        return (Integer) readSync(getServerAttribute(ATTR_PREVIOUSMONTH9COSTCONSUMPTIONDELIVERED));
     }
 
     /**
@@ -8737,7 +8742,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setPreviousMonth9CostConsumptionDeliveredReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_PREVIOUSMONTH9COSTCONSUMPTIONDELIVERED), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_PREVIOUSMONTH9COSTCONSUMPTIONDELIVERED), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -8754,7 +8759,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getPreviousMonth9CostConsumptionReceivedAsync() {
-        return read(serverAttributes.get(ATTR_PREVIOUSMONTH9COSTCONSUMPTIONRECEIVED));
+        return read(getServerAttribute(ATTR_PREVIOUSMONTH9COSTCONSUMPTIONRECEIVED));
     }
 
     /**
@@ -8779,11 +8784,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getPreviousMonth9CostConsumptionReceived(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PREVIOUSMONTH9COSTCONSUMPTIONRECEIVED).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_PREVIOUSMONTH9COSTCONSUMPTIONRECEIVED).getLastValue();
+        if (getServerAttribute(ATTR_PREVIOUSMONTH9COSTCONSUMPTIONRECEIVED).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_PREVIOUSMONTH9COSTCONSUMPTIONRECEIVED).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_PREVIOUSMONTH9COSTCONSUMPTIONRECEIVED));
+        return (Integer) readSync(getServerAttribute(ATTR_PREVIOUSMONTH9COSTCONSUMPTIONRECEIVED));
     }
 
     /**
@@ -8803,7 +8808,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setPreviousMonth9CostConsumptionReceivedReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_PREVIOUSMONTH9COSTCONSUMPTIONRECEIVED), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_PREVIOUSMONTH9COSTCONSUMPTIONRECEIVED), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -8820,7 +8825,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getPreviousMonth10CostConsumptionDeliveredAsync() {
-        return read(serverAttributes.get(ATTR_PREVIOUSMONTH10COSTCONSUMPTIONDELIVERED));
+        return read(getServerAttribute(ATTR_PREVIOUSMONTH10COSTCONSUMPTIONDELIVERED));
     }
 
     /**
@@ -8845,11 +8850,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getPreviousMonth10CostConsumptionDelivered(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PREVIOUSMONTH10COSTCONSUMPTIONDELIVERED).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_PREVIOUSMONTH10COSTCONSUMPTIONDELIVERED).getLastValue();
+        if (getServerAttribute(ATTR_PREVIOUSMONTH10COSTCONSUMPTIONDELIVERED).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_PREVIOUSMONTH10COSTCONSUMPTIONDELIVERED).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_PREVIOUSMONTH10COSTCONSUMPTIONDELIVERED));
+        return (Integer) readSync(getServerAttribute(ATTR_PREVIOUSMONTH10COSTCONSUMPTIONDELIVERED));
     }
 
     /**
@@ -8869,7 +8874,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setPreviousMonth10CostConsumptionDeliveredReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_PREVIOUSMONTH10COSTCONSUMPTIONDELIVERED), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_PREVIOUSMONTH10COSTCONSUMPTIONDELIVERED), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -8886,7 +8891,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getPreviousMonth10CostConsumptionReceivedAsync() {
-        return read(serverAttributes.get(ATTR_PREVIOUSMONTH10COSTCONSUMPTIONRECEIVED));
+        return read(getServerAttribute(ATTR_PREVIOUSMONTH10COSTCONSUMPTIONRECEIVED));
     }
 
     /**
@@ -8911,11 +8916,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getPreviousMonth10CostConsumptionReceived(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PREVIOUSMONTH10COSTCONSUMPTIONRECEIVED).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_PREVIOUSMONTH10COSTCONSUMPTIONRECEIVED).getLastValue();
+        if (getServerAttribute(ATTR_PREVIOUSMONTH10COSTCONSUMPTIONRECEIVED).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_PREVIOUSMONTH10COSTCONSUMPTIONRECEIVED).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_PREVIOUSMONTH10COSTCONSUMPTIONRECEIVED));
+        return (Integer) readSync(getServerAttribute(ATTR_PREVIOUSMONTH10COSTCONSUMPTIONRECEIVED));
     }
 
     /**
@@ -8935,7 +8940,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setPreviousMonth10CostConsumptionReceivedReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_PREVIOUSMONTH10COSTCONSUMPTIONRECEIVED), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_PREVIOUSMONTH10COSTCONSUMPTIONRECEIVED), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -8952,7 +8957,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getPreviousMonth11CostConsumptionDeliveredAsync() {
-        return read(serverAttributes.get(ATTR_PREVIOUSMONTH11COSTCONSUMPTIONDELIVERED));
+        return read(getServerAttribute(ATTR_PREVIOUSMONTH11COSTCONSUMPTIONDELIVERED));
     }
 
     /**
@@ -8977,11 +8982,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getPreviousMonth11CostConsumptionDelivered(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PREVIOUSMONTH11COSTCONSUMPTIONDELIVERED).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_PREVIOUSMONTH11COSTCONSUMPTIONDELIVERED).getLastValue();
+        if (getServerAttribute(ATTR_PREVIOUSMONTH11COSTCONSUMPTIONDELIVERED).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_PREVIOUSMONTH11COSTCONSUMPTIONDELIVERED).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_PREVIOUSMONTH11COSTCONSUMPTIONDELIVERED));
+        return (Integer) readSync(getServerAttribute(ATTR_PREVIOUSMONTH11COSTCONSUMPTIONDELIVERED));
     }
 
     /**
@@ -9001,7 +9006,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setPreviousMonth11CostConsumptionDeliveredReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_PREVIOUSMONTH11COSTCONSUMPTIONDELIVERED), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_PREVIOUSMONTH11COSTCONSUMPTIONDELIVERED), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -9018,7 +9023,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getPreviousMonth11CostConsumptionReceivedAsync() {
-        return read(serverAttributes.get(ATTR_PREVIOUSMONTH11COSTCONSUMPTIONRECEIVED));
+        return read(getServerAttribute(ATTR_PREVIOUSMONTH11COSTCONSUMPTIONRECEIVED));
     }
 
     /**
@@ -9043,11 +9048,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getPreviousMonth11CostConsumptionReceived(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PREVIOUSMONTH11COSTCONSUMPTIONRECEIVED).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_PREVIOUSMONTH11COSTCONSUMPTIONRECEIVED).getLastValue();
+        if (getServerAttribute(ATTR_PREVIOUSMONTH11COSTCONSUMPTIONRECEIVED).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_PREVIOUSMONTH11COSTCONSUMPTIONRECEIVED).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_PREVIOUSMONTH11COSTCONSUMPTIONRECEIVED));
+        return (Integer) readSync(getServerAttribute(ATTR_PREVIOUSMONTH11COSTCONSUMPTIONRECEIVED));
     }
 
     /**
@@ -9067,7 +9072,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setPreviousMonth11CostConsumptionReceivedReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_PREVIOUSMONTH11COSTCONSUMPTIONRECEIVED), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_PREVIOUSMONTH11COSTCONSUMPTIONRECEIVED), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -9084,7 +9089,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getPreviousMonth12CostConsumptionDeliveredAsync() {
-        return read(serverAttributes.get(ATTR_PREVIOUSMONTH12COSTCONSUMPTIONDELIVERED));
+        return read(getServerAttribute(ATTR_PREVIOUSMONTH12COSTCONSUMPTIONDELIVERED));
     }
 
     /**
@@ -9109,11 +9114,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getPreviousMonth12CostConsumptionDelivered(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PREVIOUSMONTH12COSTCONSUMPTIONDELIVERED).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_PREVIOUSMONTH12COSTCONSUMPTIONDELIVERED).getLastValue();
+        if (getServerAttribute(ATTR_PREVIOUSMONTH12COSTCONSUMPTIONDELIVERED).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_PREVIOUSMONTH12COSTCONSUMPTIONDELIVERED).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_PREVIOUSMONTH12COSTCONSUMPTIONDELIVERED));
+        return (Integer) readSync(getServerAttribute(ATTR_PREVIOUSMONTH12COSTCONSUMPTIONDELIVERED));
     }
 
     /**
@@ -9133,7 +9138,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setPreviousMonth12CostConsumptionDeliveredReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_PREVIOUSMONTH12COSTCONSUMPTIONDELIVERED), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_PREVIOUSMONTH12COSTCONSUMPTIONDELIVERED), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -9150,7 +9155,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getPreviousMonth12CostConsumptionReceivedAsync() {
-        return read(serverAttributes.get(ATTR_PREVIOUSMONTH12COSTCONSUMPTIONRECEIVED));
+        return read(getServerAttribute(ATTR_PREVIOUSMONTH12COSTCONSUMPTIONRECEIVED));
     }
 
     /**
@@ -9175,11 +9180,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getPreviousMonth12CostConsumptionReceived(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PREVIOUSMONTH12COSTCONSUMPTIONRECEIVED).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_PREVIOUSMONTH12COSTCONSUMPTIONRECEIVED).getLastValue();
+        if (getServerAttribute(ATTR_PREVIOUSMONTH12COSTCONSUMPTIONRECEIVED).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_PREVIOUSMONTH12COSTCONSUMPTIONRECEIVED).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_PREVIOUSMONTH12COSTCONSUMPTIONRECEIVED));
+        return (Integer) readSync(getServerAttribute(ATTR_PREVIOUSMONTH12COSTCONSUMPTIONRECEIVED));
     }
 
     /**
@@ -9199,7 +9204,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setPreviousMonth12CostConsumptionReceivedReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_PREVIOUSMONTH12COSTCONSUMPTIONRECEIVED), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_PREVIOUSMONTH12COSTCONSUMPTIONRECEIVED), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -9216,7 +9221,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getPreviousMonth13CostConsumptionDeliveredAsync() {
-        return read(serverAttributes.get(ATTR_PREVIOUSMONTH13COSTCONSUMPTIONDELIVERED));
+        return read(getServerAttribute(ATTR_PREVIOUSMONTH13COSTCONSUMPTIONDELIVERED));
     }
 
     /**
@@ -9241,11 +9246,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getPreviousMonth13CostConsumptionDelivered(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PREVIOUSMONTH13COSTCONSUMPTIONDELIVERED).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_PREVIOUSMONTH13COSTCONSUMPTIONDELIVERED).getLastValue();
+        if (getServerAttribute(ATTR_PREVIOUSMONTH13COSTCONSUMPTIONDELIVERED).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_PREVIOUSMONTH13COSTCONSUMPTIONDELIVERED).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_PREVIOUSMONTH13COSTCONSUMPTIONDELIVERED));
+        return (Integer) readSync(getServerAttribute(ATTR_PREVIOUSMONTH13COSTCONSUMPTIONDELIVERED));
     }
 
     /**
@@ -9265,7 +9270,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setPreviousMonth13CostConsumptionDeliveredReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_PREVIOUSMONTH13COSTCONSUMPTIONDELIVERED), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_PREVIOUSMONTH13COSTCONSUMPTIONDELIVERED), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -9282,7 +9287,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getPreviousMonth13CostConsumptionReceivedAsync() {
-        return read(serverAttributes.get(ATTR_PREVIOUSMONTH13COSTCONSUMPTIONRECEIVED));
+        return read(getServerAttribute(ATTR_PREVIOUSMONTH13COSTCONSUMPTIONRECEIVED));
     }
 
     /**
@@ -9307,11 +9312,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getPreviousMonth13CostConsumptionReceived(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PREVIOUSMONTH13COSTCONSUMPTIONRECEIVED).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_PREVIOUSMONTH13COSTCONSUMPTIONRECEIVED).getLastValue();
+        if (getServerAttribute(ATTR_PREVIOUSMONTH13COSTCONSUMPTIONRECEIVED).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_PREVIOUSMONTH13COSTCONSUMPTIONRECEIVED).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_PREVIOUSMONTH13COSTCONSUMPTIONRECEIVED));
+        return (Integer) readSync(getServerAttribute(ATTR_PREVIOUSMONTH13COSTCONSUMPTIONRECEIVED));
     }
 
     /**
@@ -9331,7 +9336,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setPreviousMonth13CostConsumptionReceivedReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_PREVIOUSMONTH13COSTCONSUMPTIONRECEIVED), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_PREVIOUSMONTH13COSTCONSUMPTIONRECEIVED), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -9348,7 +9353,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getHistoricalFreezeTimeAsync() {
-        return read(serverAttributes.get(ATTR_HISTORICALFREEZETIME));
+        return read(getServerAttribute(ATTR_HISTORICALFREEZETIME));
     }
 
     /**
@@ -9373,11 +9378,11 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getHistoricalFreezeTime(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_HISTORICALFREEZETIME).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_HISTORICALFREEZETIME).getLastValue();
+        if (getServerAttribute(ATTR_HISTORICALFREEZETIME).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_HISTORICALFREEZETIME).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_HISTORICALFREEZETIME));
+        return (Integer) readSync(getServerAttribute(ATTR_HISTORICALFREEZETIME));
     }
 
     /**
@@ -9397,7 +9402,7 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setHistoricalFreezeTimeReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_HISTORICALFREEZETIME), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_HISTORICALFREEZETIME), minInterval, maxInterval, reportableChange);
     }
 
     /**
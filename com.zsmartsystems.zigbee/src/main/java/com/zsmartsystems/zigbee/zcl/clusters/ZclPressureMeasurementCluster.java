@@ -7,8 +7,9 @@
  */
 package com.zsmartsystems.zigbee.zcl.clusters;
 
+import java.util.Collections;
 import java.util.Map;
-import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.TreeMap;
 import java.util.concurrent.Future;
 
 import javax.annotation.Generated;
@@ -16,6 +17,7 @@ import javax.annotation.Generated;
 import com.zsmartsystems.zigbee.CommandResult;
 import com.zsmartsystems.zigbee.ZigBeeEndpoint;
 import com.zsmartsystems.zigbee.zcl.ZclAttribute;
+import com.zsmartsystems.zigbee.zcl.ZclAttributeDefinition;
 import com.zsmartsystems.zigbee.zcl.ZclCluster;
 import com.zsmartsystems.zigbee.zcl.protocol.ZclDataType;
 
@@ -27,7 +29,7 @@ import com.zsmartsystems.zigbee.zcl.protocol.ZclDataType;
  * <p>
  * Code is auto-generated. Modifications may be overwritten!
  */
-@Generated(value = "com.zsmartsystems.zigbee.autocode.ZigBeeCodeGenerator", date = "2019-10-04T18:21:10Z")
+@Generated(value = "com.zsmartsystems.zigbee.autocode.ZigBeeCodeGenerator", date = "2026-10-18T14:31:35Z")
 public class ZclPressureMeasurementCluster extends ZclCluster {
     /**
      * The ZigBee Cluster Library Cluster ID
@@ -100,28 +102,30 @@ public class ZclPressureMeasurementCluster extends ZclCluster {
      */
     public static final int ATTR_SCALE = 0x0014;
 
-    @Override
-    protected Map<Integer, ZclAttribute> initializeClientAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
+    /**
+     * The server attribute definitions. These are shared by all instances of this cluster.
+     */
+    private static final Map<Integer, ZclAttributeDefinition> SERVER_ATTRIBUTES = initializeServerAttributeDefinitions();
+
+    private static Map<Integer, ZclAttributeDefinition> initializeServerAttributeDefinitions() {
+        Map<Integer, ZclAttributeDefinition> attributeMap = new TreeMap<>();
+
+        attributeMap.put(ATTR_MEASUREDVALUE, new ZclAttributeDefinition(ATTR_MEASUREDVALUE, "Measured Value", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, true));
+        attributeMap.put(ATTR_MINMEASUREDVALUE, new ZclAttributeDefinition(ATTR_MINMEASUREDVALUE, "Min Measured Value", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_MAXMEASUREDVALUE, new ZclAttributeDefinition(ATTR_MAXMEASUREDVALUE, "Max Measured Value", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, true));
+        attributeMap.put(ATTR_TOLERANCE, new ZclAttributeDefinition(ATTR_TOLERANCE, "Tolerance", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_SCALEDVALUE, new ZclAttributeDefinition(ATTR_SCALEDVALUE, "Scaled Value", ZclDataType.SIGNED_16_BIT_INTEGER, false, true, false, true));
+        attributeMap.put(ATTR_MINSCALEDVALUE, new ZclAttributeDefinition(ATTR_MINSCALEDVALUE, "Min Scaled Value", ZclDataType.SIGNED_16_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_MAXSCALEDVALUE, new ZclAttributeDefinition(ATTR_MAXSCALEDVALUE, "Max Scaled Value", ZclDataType.SIGNED_16_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_SCALEDTOLERANCE, new ZclAttributeDefinition(ATTR_SCALEDTOLERANCE, "Scaled Tolerance", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, true));
+        attributeMap.put(ATTR_SCALE, new ZclAttributeDefinition(ATTR_SCALE, "Scale", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
 
-        return attributeMap;
+        return Collections.unmodifiableMap(attributeMap);
     }
 
     @Override
-    protected Map<Integer, ZclAttribute> initializeServerAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
-
-        attributeMap.put(ATTR_MEASUREDVALUE, new ZclAttribute(this, ATTR_MEASUREDVALUE, "Measured Value", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, true));
-        attributeMap.put(ATTR_MINMEASUREDVALUE, new ZclAttribute(this, ATTR_MINMEASUREDVALUE, "Min Measured Value", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_MAXMEASUREDVALUE, new ZclAttribute(this, ATTR_MAXMEASUREDVALUE, "Max Measured Value", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, true));
-        attributeMap.put(ATTR_TOLERANCE, new ZclAttribute(this, ATTR_TOLERANCE, "Tolerance", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_SCALEDVALUE, new ZclAttribute(this, ATTR_SCALEDVALUE, "Scaled Value", ZclDataType.SIGNED_16_BIT_INTEGER, false, true, false, true));
-        attributeMap.put(ATTR_MINSCALEDVALUE, new ZclAttribute(this, ATTR_MINSCALEDVALUE, "Min Scaled Value", ZclDataType.SIGNED_16_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_MAXSCALEDVALUE, new ZclAttribute(this, ATTR_MAXSCALEDVALUE, "Max Scaled Value", ZclDataType.SIGNED_16_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_SCALEDTOLERANCE, new ZclAttribute(this, ATTR_SCALEDTOLERANCE, "Scaled Tolerance", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, true));
-        attributeMap.put(ATTR_SCALE, new ZclAttribute(this, ATTR_SCALE, "Scale", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
-
-        return attributeMap;
+    protected Map<Integer, ZclAttributeDefinition> getServerAttributeDefinitions() {
+        return SERVER_ATTRIBUTES;
     }
 
     /**
@@ -157,7 +161,7 @@ public class ZclPressureMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getMeasuredValueAsync() {
-        return read(serverAttributes.get(ATTR_MEASUREDVALUE));
+        return read(getServerAttribute(ATTR_MEASUREDVALUE));
     }
 
     /**
@@ -192,11 +196,11 @@ public class ZclPressureMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getMeasuredValue(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_MEASUREDVALUE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_MEASUREDVALUE).getLastValue();
+        if (getServerAttribute(ATTR_MEASUREDVALUE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_MEASUREDVALUE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_MEASUREDVALUE));
+        return (Integer) readSync(getServerAttribute(ATTR_MEASUREDVALUE));
     }
 
     /**
@@ -226,7 +230,7 @@ public class ZclPressureMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setMeasuredValueReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_MEASUREDVALUE), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_MEASUREDVALUE), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -244,7 +248,7 @@ public class ZclPressureMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getMinMeasuredValueAsync() {
-        return read(serverAttributes.get(ATTR_MINMEASUREDVALUE));
+        return read(getServerAttribute(ATTR_MINMEASUREDVALUE));
     }
 
     /**
@@ -270,11 +274,11 @@ public class ZclPressureMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getMinMeasuredValue(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_MINMEASUREDVALUE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_MINMEASUREDVALUE).getLastValue();
+        if (getServerAttribute(ATTR_MINMEASUREDVALUE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_MINMEASUREDVALUE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_MINMEASUREDVALUE));
+        return (Integer) readSync(getServerAttribute(ATTR_MINMEASUREDVALUE));
     }
 
     /**
@@ -295,7 +299,7 @@ public class ZclPressureMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setMinMeasuredValueReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_MINMEASUREDVALUE), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_MINMEASUREDVALUE), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -317,7 +321,7 @@ public class ZclPressureMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getMaxMeasuredValueAsync() {
-        return read(serverAttributes.get(ATTR_MAXMEASUREDVALUE));
+        return read(getServerAttribute(ATTR_MAXMEASUREDVALUE));
     }
 
     /**
@@ -347,11 +351,11 @@ public class ZclPressureMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getMaxMeasuredValue(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_MAXMEASUREDVALUE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_MAXMEASUREDVALUE).getLastValue();
+        if (getServerAttribute(ATTR_MAXMEASUREDVALUE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_MAXMEASUREDVALUE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_MAXMEASUREDVALUE));
+        return (Integer) readSync(getServerAttribute(ATTR_MAXMEASUREDVALUE));
     }
 
     /**
@@ -376,7 +380,7 @@ public class ZclPressureMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setMaxMeasuredValueReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_MAXMEASUREDVALUE), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_MAXMEASUREDVALUE), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -395,7 +399,7 @@ public class ZclPressureMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getToleranceAsync() {
-        return read(serverAttributes.get(ATTR_TOLERANCE));
+        return read(getServerAttribute(ATTR_TOLERANCE));
     }
 
     /**
@@ -422,11 +426,11 @@ public class ZclPressureMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getTolerance(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_TOLERANCE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_TOLERANCE).getLastValue();
+        if (getServerAttribute(ATTR_TOLERANCE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_TOLERANCE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_TOLERANCE));
+        return (Integer) readSync(getServerAttribute(ATTR_TOLERANCE));
     }
 
     /**
@@ -444,7 +448,7 @@ public class ZclPressureMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getScaledValueAsync() {
-        return read(serverAttributes.get(ATTR_SCALEDVALUE));
+        return read(getServerAttribute(ATTR_SCALEDVALUE));
     }
 
     /**
@@ -470,11 +474,11 @@ public class ZclPressureMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getScaledValue(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_SCALEDVALUE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_SCALEDVALUE).getLastValue();
+        if (getServerAttribute(ATTR_SCALEDVALUE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_SCALEDVALUE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_SCALEDVALUE));
+        return (Integer) readSync(getServerAttribute(ATTR_SCALEDVALUE));
     }
 
     /**
@@ -492,7 +496,7 @@ public class ZclPressureMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getMinScaledValueAsync() {
-        return read(serverAttributes.get(ATTR_MINSCALEDVALUE));
+        return read(getServerAttribute(ATTR_MINSCALEDVALUE));
     }
 
     /**
@@ -518,11 +522,11 @@ public class ZclPressureMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getMinScaledValue(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_MINSCALEDVALUE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_MINSCALEDVALUE).getLastValue();
+        if (getServerAttribute(ATTR_MINSCALEDVALUE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_MINSCALEDVALUE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_MINSCALEDVALUE));
+        return (Integer) readSync(getServerAttribute(ATTR_MINSCALEDVALUE));
     }
 
     /**
@@ -540,7 +544,7 @@ public class ZclPressureMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getMaxScaledValueAsync() {
-        return read(serverAttributes.get(ATTR_MAXSCALEDVALUE));
+        return read(getServerAttribute(ATTR_MAXSCALEDVALUE));
     }
 
     /**
@@ -566,11 +570,11 @@ public class ZclPressureMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getMaxScaledValue(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_MAXSCALEDVALUE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_MAXSCALEDVALUE).getLastValue();
+        if (getServerAttribute(ATTR_MAXSCALEDVALUE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_MAXSCALEDVALUE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_MAXSCALEDVALUE));
+        return (Integer) readSync(getServerAttribute(ATTR_MAXSCALEDVALUE));
     }
 
     /**
@@ -589,7 +593,7 @@ public class ZclPressureMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getScaledToleranceAsync() {
-        return read(serverAttributes.get(ATTR_SCALEDTOLERANCE));
+        return read(getServerAttribute(ATTR_SCALEDTOLERANCE));
     }
 
     /**
@@ -616,11 +620,11 @@ public class ZclPressureMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getScaledTolerance(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_SCALEDTOLERANCE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_SCALEDTOLERANCE).getLastValue();
+        if (getServerAttribute(ATTR_SCALEDTOLERANCE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_SCALEDTOLERANCE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_SCALEDTOLERANCE));
+        return (Integer) readSync(getServerAttribute(ATTR_SCALEDTOLERANCE));
     }
 
     /**
@@ -637,7 +641,7 @@ public class ZclPressureMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getScaleAsync() {
-        return read(serverAttributes.get(ATTR_SCALE));
+        return read(getServerAttribute(ATTR_SCALE));
     }
 
     /**
@@ -662,10 +666,10 @@ public class ZclPressureMeasurementCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getScale(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_SCALE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_SCALE).getLastValue();
+        if (getServerAttribute(ATTR_SCALE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_SCALE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_SCALE));
+        return (Integer) readSync(getServerAttribute(ATTR_SCALE));
     }
 }
@@ -8,7 +8,9 @@
 package com.zsmartsystems.zigbee.zcl.clusters;
 
 import java.util.Calendar;
+import java.util.Collections;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.Future;
 
@@ -17,6 +19,7 @@ import javax.annotation.Generated;
 import com.zsmartsystems.zigbee.CommandResult;
 import com.zsmartsystems.zigbee.ZigBeeEndpoint;
 import com.zsmartsystems.zigbee.zcl.ZclAttribute;
+import com.zsmartsystems.zigbee.zcl.ZclAttributeDefinition;
 import com.zsmartsystems.zigbee.zcl.ZclCluster;
 import com.zsmartsystems.zigbee.zcl.ZclCommand;
 import com.zsmartsystems.zigbee.zcl.clusters.price.BlockThresholdSubPayload;
@@ -71,7 +74,7 @@ import com.zsmartsystems.zigbee.zcl.protocol.ZclDataType;
  * <p>
  * Code is auto-generated. Modifications may be overwritten!
  */
-@Generated(value = "com.zsmartsystems.zigbee.autocode.ZigBeeCodeGenerator", date = "2019-10-04T18:21:10Z")
+@Generated(value = "com.zsmartsystems.zigbee.autocode.ZigBeeCodeGenerator", date = "2026-10-18T14:31:35Z")
 public class ZclPriceCluster extends ZclCluster {
     /**
      * The ZigBee Cluster Library Cluster ID
@@ -3678,1049 +3681,1067 @@ public class ZclPriceCluster extends ZclCluster {
     public static final int ATTR_RECEIVEDLASTBILLINGPERIODDURATION = 0x8703;
     public static final int ATTR_RECEIVEDLASTBILLINGPERIODCONSOLIDATEDBILL = 0x8704;
 
-    @Override
-    protected Map<Integer, ZclAttribute> initializeClientAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
-
-        attributeMap.put(ATTR_PRICEINCREASERANDOMIZEMINUTES, new ZclAttribute(this, ATTR_PRICEINCREASERANDOMIZEMINUTES, "Price Increase Randomize Minutes", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, false));
-        attributeMap.put(ATTR_PRICEDECREASERANDOMIZEMINUTES, new ZclAttribute(this, ATTR_PRICEDECREASERANDOMIZEMINUTES, "Price Decrease Randomize Minutes", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, false));
-        attributeMap.put(ATTR_COMMODITYTYPECLIENT, new ZclAttribute(this, ATTR_COMMODITYTYPECLIENT, "Commodity Type Client", ZclDataType.ENUMERATION_8_BIT, false, true, true, false));
+    /**
+     * The client attribute definitions. These are shared by all instances of this cluster.
+     */
+    private static final Map<Integer, ZclAttributeDefinition> CLIENT_ATTRIBUTES = initializeClientAttributeDefinitions();
+
+    /**
+     * The server attribute definitions. These are shared by all instances of this cluster.
+     */
+    private static final Map<Integer, ZclAttributeDefinition> SERVER_ATTRIBUTES = initializeServerAttributeDefinitions();
+
+    private static Map<Integer, ZclAttributeDefinition> initializeClientAttributeDefinitions() {
+        Map<Integer, ZclAttributeDefinition> attributeMap = new TreeMap<>();
+
+        attributeMap.put(ATTR_PRICEINCREASERANDOMIZEMINUTES, new ZclAttributeDefinition(ATTR_PRICEINCREASERANDOMIZEMINUTES, "Price Increase Randomize Minutes", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, false));
+        attributeMap.put(ATTR_PRICEDECREASERANDOMIZEMINUTES, new ZclAttributeDefinition(ATTR_PRICEDECREASERANDOMIZEMINUTES, "Price Decrease Randomize Minutes", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, false));
+        attributeMap.put(ATTR_COMMODITYTYPECLIENT, new ZclAttributeDefinition(ATTR_COMMODITYTYPECLIENT, "Commodity Type Client", ZclDataType.ENUMERATION_8_BIT, false, true, true, false));
+
+        return Collections.unmodifiableMap(attributeMap);
+    }
+
+    private static Map<Integer, ZclAttributeDefinition> initializeServerAttributeDefinitions() {
+        Map<Integer, ZclAttributeDefinition> attributeMap = new TreeMap<>();
+
+        attributeMap.put(ATTR_TIER1PRICELABEL, new ZclAttributeDefinition(ATTR_TIER1PRICELABEL, "Tier 1 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        attributeMap.put(ATTR_TIER2PRICELABEL, new ZclAttributeDefinition(ATTR_TIER2PRICELABEL, "Tier 2 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        attributeMap.put(ATTR_TIER3PRICELABEL, new ZclAttributeDefinition(ATTR_TIER3PRICELABEL, "Tier 3 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        attributeMap.put(ATTR_TIER4PRICELABEL, new ZclAttributeDefinition(ATTR_TIER4PRICELABEL, "Tier 4 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        attributeMap.put(ATTR_TIER5PRICELABEL, new ZclAttributeDefinition(ATTR_TIER5PRICELABEL, "Tier 5 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        attributeMap.put(ATTR_TIER6PRICELABEL, new ZclAttributeDefinition(ATTR_TIER6PRICELABEL, "Tier 6 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        attributeMap.put(ATTR_TIER7PRICELABEL, new ZclAttributeDefinition(ATTR_TIER7PRICELABEL, "Tier 7 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        attributeMap.put(ATTR_TIER8PRICELABEL, new ZclAttributeDefinition(ATTR_TIER8PRICELABEL, "Tier 8 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        attributeMap.put(ATTR_TIER9PRICELABEL, new ZclAttributeDefinition(ATTR_TIER9PRICELABEL, "Tier 9 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        attributeMap.put(ATTR_TIER10PRICELABEL, new ZclAttributeDefinition(ATTR_TIER10PRICELABEL, "Tier 10 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        attributeMap.put(ATTR_TIER11PRICELABEL, new ZclAttributeDefinition(ATTR_TIER11PRICELABEL, "Tier 11 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        attributeMap.put(ATTR_TIER12PRICELABEL, new ZclAttributeDefinition(ATTR_TIER12PRICELABEL, "Tier 12 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        attributeMap.put(ATTR_TIER13PRICELABEL, new ZclAttributeDefinition(ATTR_TIER13PRICELABEL, "Tier 13 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        attributeMap.put(ATTR_TIER14PRICELABEL, new ZclAttributeDefinition(ATTR_TIER14PRICELABEL, "Tier 14 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        attributeMap.put(ATTR_TIER15PRICELABEL, new ZclAttributeDefinition(ATTR_TIER15PRICELABEL, "Tier 15 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        attributeMap.put(ATTR_TIER16PRICELABEL, new ZclAttributeDefinition(ATTR_TIER16PRICELABEL, "Tier 16 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        attributeMap.put(ATTR_TIER17PRICELABEL, new ZclAttributeDefinition(ATTR_TIER17PRICELABEL, "Tier 17 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        attributeMap.put(ATTR_TIER18PRICELABEL, new ZclAttributeDefinition(ATTR_TIER18PRICELABEL, "Tier 18 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        attributeMap.put(ATTR_TIER19PRICELABEL, new ZclAttributeDefinition(ATTR_TIER19PRICELABEL, "Tier 19 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        attributeMap.put(ATTR_TIER20PRICELABEL, new ZclAttributeDefinition(ATTR_TIER20PRICELABEL, "Tier 20 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        attributeMap.put(ATTR_TIER21PRICELABEL, new ZclAttributeDefinition(ATTR_TIER21PRICELABEL, "Tier 21 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        attributeMap.put(ATTR_TIER22PRICELABEL, new ZclAttributeDefinition(ATTR_TIER22PRICELABEL, "Tier 22 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        attributeMap.put(ATTR_TIER23PRICELABEL, new ZclAttributeDefinition(ATTR_TIER23PRICELABEL, "Tier 23 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        attributeMap.put(ATTR_TIER24PRICELABEL, new ZclAttributeDefinition(ATTR_TIER24PRICELABEL, "Tier 24 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        attributeMap.put(ATTR_TIER25PRICELABEL, new ZclAttributeDefinition(ATTR_TIER25PRICELABEL, "Tier 25 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        attributeMap.put(ATTR_TIER26PRICELABEL, new ZclAttributeDefinition(ATTR_TIER26PRICELABEL, "Tier 26 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        attributeMap.put(ATTR_TIER27PRICELABEL, new ZclAttributeDefinition(ATTR_TIER27PRICELABEL, "Tier 27 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        attributeMap.put(ATTR_TIER28PRICELABEL, new ZclAttributeDefinition(ATTR_TIER28PRICELABEL, "Tier 28 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        attributeMap.put(ATTR_TIER29PRICELABEL, new ZclAttributeDefinition(ATTR_TIER29PRICELABEL, "Tier 29 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        attributeMap.put(ATTR_TIER30PRICELABEL, new ZclAttributeDefinition(ATTR_TIER30PRICELABEL, "Tier 30 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        attributeMap.put(ATTR_TIER31PRICELABEL, new ZclAttributeDefinition(ATTR_TIER31PRICELABEL, "Tier 31 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        attributeMap.put(ATTR_TIER32PRICELABEL, new ZclAttributeDefinition(ATTR_TIER32PRICELABEL, "Tier 32 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        attributeMap.put(ATTR_TIER33PRICELABEL, new ZclAttributeDefinition(ATTR_TIER33PRICELABEL, "Tier 33 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        attributeMap.put(ATTR_TIER34PRICELABEL, new ZclAttributeDefinition(ATTR_TIER34PRICELABEL, "Tier 34 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        attributeMap.put(ATTR_TIER35PRICELABEL, new ZclAttributeDefinition(ATTR_TIER35PRICELABEL, "Tier 35 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        attributeMap.put(ATTR_TIER36PRICELABEL, new ZclAttributeDefinition(ATTR_TIER36PRICELABEL, "Tier 36 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        attributeMap.put(ATTR_TIER37PRICELABEL, new ZclAttributeDefinition(ATTR_TIER37PRICELABEL, "Tier 37 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        attributeMap.put(ATTR_TIER38PRICELABEL, new ZclAttributeDefinition(ATTR_TIER38PRICELABEL, "Tier 38 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        attributeMap.put(ATTR_TIER39PRICELABEL, new ZclAttributeDefinition(ATTR_TIER39PRICELABEL, "Tier 39 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        attributeMap.put(ATTR_TIER40PRICELABEL, new ZclAttributeDefinition(ATTR_TIER40PRICELABEL, "Tier 40 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        attributeMap.put(ATTR_TIER41PRICELABEL, new ZclAttributeDefinition(ATTR_TIER41PRICELABEL, "Tier 41 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        attributeMap.put(ATTR_TIER42PRICELABEL, new ZclAttributeDefinition(ATTR_TIER42PRICELABEL, "Tier 42 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        attributeMap.put(ATTR_TIER43PRICELABEL, new ZclAttributeDefinition(ATTR_TIER43PRICELABEL, "Tier 43 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        attributeMap.put(ATTR_TIER44PRICELABEL, new ZclAttributeDefinition(ATTR_TIER44PRICELABEL, "Tier 44 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        attributeMap.put(ATTR_TIER45PRICELABEL, new ZclAttributeDefinition(ATTR_TIER45PRICELABEL, "Tier 45 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        attributeMap.put(ATTR_TIER46PRICELABEL, new ZclAttributeDefinition(ATTR_TIER46PRICELABEL, "Tier 46 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        attributeMap.put(ATTR_TIER47PRICELABEL, new ZclAttributeDefinition(ATTR_TIER47PRICELABEL, "Tier 47 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        attributeMap.put(ATTR_TIER48PRICELABEL, new ZclAttributeDefinition(ATTR_TIER48PRICELABEL, "Tier 48 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        attributeMap.put(ATTR_BLOCK1THRESHOLD, new ZclAttributeDefinition(ATTR_BLOCK1THRESHOLD, "Block 1 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_BLOCK2THRESHOLD, new ZclAttributeDefinition(ATTR_BLOCK2THRESHOLD, "Block 2 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_BLOCK3THRESHOLD, new ZclAttributeDefinition(ATTR_BLOCK3THRESHOLD, "Block 3 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_BLOCK4THRESHOLD, new ZclAttributeDefinition(ATTR_BLOCK4THRESHOLD, "Block 4 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_BLOCK5THRESHOLD, new ZclAttributeDefinition(ATTR_BLOCK5THRESHOLD, "Block 5 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_BLOCK6THRESHOLD, new ZclAttributeDefinition(ATTR_BLOCK6THRESHOLD, "Block 6 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_BLOCK7THRESHOLD, new ZclAttributeDefinition(ATTR_BLOCK7THRESHOLD, "Block 7 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_BLOCK8THRESHOLD, new ZclAttributeDefinition(ATTR_BLOCK8THRESHOLD, "Block 8 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_BLOCK9THRESHOLD, new ZclAttributeDefinition(ATTR_BLOCK9THRESHOLD, "Block 9 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_BLOCK10THRESHOLD, new ZclAttributeDefinition(ATTR_BLOCK10THRESHOLD, "Block 10 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_BLOCK11THRESHOLD, new ZclAttributeDefinition(ATTR_BLOCK11THRESHOLD, "Block 11 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_BLOCK12THRESHOLD, new ZclAttributeDefinition(ATTR_BLOCK12THRESHOLD, "Block 12 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_BLOCK13THRESHOLD, new ZclAttributeDefinition(ATTR_BLOCK13THRESHOLD, "Block 13 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_BLOCK14THRESHOLD, new ZclAttributeDefinition(ATTR_BLOCK14THRESHOLD, "Block 14 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_BLOCK15THRESHOLD, new ZclAttributeDefinition(ATTR_BLOCK15THRESHOLD, "Block 15 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_BLOCKTHRESHOLDCOUNT, new ZclAttributeDefinition(ATTR_BLOCKTHRESHOLDCOUNT, "Block Threshold Count", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER1BLOCK1THRESHOLD, new ZclAttributeDefinition(ATTR_TIER1BLOCK1THRESHOLD, "Tier 1 Block 1 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER1BLOCK2THRESHOLD, new ZclAttributeDefinition(ATTR_TIER1BLOCK2THRESHOLD, "Tier 1 Block 2 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER1BLOCK3THRESHOLD, new ZclAttributeDefinition(ATTR_TIER1BLOCK3THRESHOLD, "Tier 1 Block 3 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER1BLOCK4THRESHOLD, new ZclAttributeDefinition(ATTR_TIER1BLOCK4THRESHOLD, "Tier 1 Block 4 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER1BLOCK5THRESHOLD, new ZclAttributeDefinition(ATTR_TIER1BLOCK5THRESHOLD, "Tier 1 Block 5 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER1BLOCK6THRESHOLD, new ZclAttributeDefinition(ATTR_TIER1BLOCK6THRESHOLD, "Tier 1 Block 6 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER1BLOCK7THRESHOLD, new ZclAttributeDefinition(ATTR_TIER1BLOCK7THRESHOLD, "Tier 1 Block 7 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER1BLOCK8THRESHOLD, new ZclAttributeDefinition(ATTR_TIER1BLOCK8THRESHOLD, "Tier 1 Block 8 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER1BLOCK9THRESHOLD, new ZclAttributeDefinition(ATTR_TIER1BLOCK9THRESHOLD, "Tier 1 Block 9 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER1BLOCK10THRESHOLD, new ZclAttributeDefinition(ATTR_TIER1BLOCK10THRESHOLD, "Tier 1 Block 10 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER1BLOCK11THRESHOLD, new ZclAttributeDefinition(ATTR_TIER1BLOCK11THRESHOLD, "Tier 1 Block 11 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER1BLOCK12THRESHOLD, new ZclAttributeDefinition(ATTR_TIER1BLOCK12THRESHOLD, "Tier 1 Block 12 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER1BLOCK13THRESHOLD, new ZclAttributeDefinition(ATTR_TIER1BLOCK13THRESHOLD, "Tier 1 Block 13 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER1BLOCK14THRESHOLD, new ZclAttributeDefinition(ATTR_TIER1BLOCK14THRESHOLD, "Tier 1 Block 14 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER1BLOCK15THRESHOLD, new ZclAttributeDefinition(ATTR_TIER1BLOCK15THRESHOLD, "Tier 1 Block 15 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER1BLOCKTHRESHOLDCOUNT, new ZclAttributeDefinition(ATTR_TIER1BLOCKTHRESHOLDCOUNT, "Tier 1 Block Threshold Count", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER2BLOCK1THRESHOLD, new ZclAttributeDefinition(ATTR_TIER2BLOCK1THRESHOLD, "Tier 2 Block 1 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER2BLOCK2THRESHOLD, new ZclAttributeDefinition(ATTR_TIER2BLOCK2THRESHOLD, "Tier 2 Block 2 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER2BLOCK3THRESHOLD, new ZclAttributeDefinition(ATTR_TIER2BLOCK3THRESHOLD, "Tier 2 Block 3 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER2BLOCK4THRESHOLD, new ZclAttributeDefinition(ATTR_TIER2BLOCK4THRESHOLD, "Tier 2 Block 4 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER2BLOCK5THRESHOLD, new ZclAttributeDefinition(ATTR_TIER2BLOCK5THRESHOLD, "Tier 2 Block 5 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER2BLOCK6THRESHOLD, new ZclAttributeDefinition(ATTR_TIER2BLOCK6THRESHOLD, "Tier 2 Block 6 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER2BLOCK7THRESHOLD, new ZclAttributeDefinition(ATTR_TIER2BLOCK7THRESHOLD, "Tier 2 Block 7 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER2BLOCK8THRESHOLD, new ZclAttributeDefinition(ATTR_TIER2BLOCK8THRESHOLD, "Tier 2 Block 8 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER2BLOCK9THRESHOLD, new ZclAttributeDefinition(ATTR_TIER2BLOCK9THRESHOLD, "Tier 2 Block 9 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER2BLOCK10THRESHOLD, new ZclAttributeDefinition(ATTR_TIER2BLOCK10THRESHOLD, "Tier 2 Block 10 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER2BLOCK11THRESHOLD, new ZclAttributeDefinition(ATTR_TIER2BLOCK11THRESHOLD, "Tier 2 Block 11 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER2BLOCK12THRESHOLD, new ZclAttributeDefinition(ATTR_TIER2BLOCK12THRESHOLD, "Tier 2 Block 12 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER2BLOCK13THRESHOLD, new ZclAttributeDefinition(ATTR_TIER2BLOCK13THRESHOLD, "Tier 2 Block 13 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER2BLOCK14THRESHOLD, new ZclAttributeDefinition(ATTR_TIER2BLOCK14THRESHOLD, "Tier 2 Block 14 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER2BLOCK15THRESHOLD, new ZclAttributeDefinition(ATTR_TIER2BLOCK15THRESHOLD, "Tier 2 Block 15 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER2BLOCKTHRESHOLDCOUNT, new ZclAttributeDefinition(ATTR_TIER2BLOCKTHRESHOLDCOUNT, "Tier 2 Block Threshold Count", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER3BLOCK1THRESHOLD, new ZclAttributeDefinition(ATTR_TIER3BLOCK1THRESHOLD, "Tier 3 Block 1 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER3BLOCK2THRESHOLD, new ZclAttributeDefinition(ATTR_TIER3BLOCK2THRESHOLD, "Tier 3 Block 2 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER3BLOCK3THRESHOLD, new ZclAttributeDefinition(ATTR_TIER3BLOCK3THRESHOLD, "Tier 3 Block 3 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER3BLOCK4THRESHOLD, new ZclAttributeDefinition(ATTR_TIER3BLOCK4THRESHOLD, "Tier 3 Block 4 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER3BLOCK5THRESHOLD, new ZclAttributeDefinition(ATTR_TIER3BLOCK5THRESHOLD, "Tier 3 Block 5 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER3BLOCK6THRESHOLD, new ZclAttributeDefinition(ATTR_TIER3BLOCK6THRESHOLD, "Tier 3 Block 6 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER3BLOCK7THRESHOLD, new ZclAttributeDefinition(ATTR_TIER3BLOCK7THRESHOLD, "Tier 3 Block 7 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER3BLOCK8THRESHOLD, new ZclAttributeDefinition(ATTR_TIER3BLOCK8THRESHOLD, "Tier 3 Block 8 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER3BLOCK9THRESHOLD, new ZclAttributeDefinition(ATTR_TIER3BLOCK9THRESHOLD, "Tier 3 Block 9 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER3BLOCK10THRESHOLD, new ZclAttributeDefinition(ATTR_TIER3BLOCK10THRESHOLD, "Tier 3 Block 10 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER3BLOCK11THRESHOLD, new ZclAttributeDefinition(ATTR_TIER3BLOCK11THRESHOLD, "Tier 3 Block 11 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER3BLOCK12THRESHOLD, new ZclAttributeDefinition(ATTR_TIER3BLOCK12THRESHOLD, "Tier 3 Block 12 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER3BLOCK13THRESHOLD, new ZclAttributeDefinition(ATTR_TIER3BLOCK13THRESHOLD, "Tier 3 Block 13 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER3BLOCK14THRESHOLD, new ZclAttributeDefinition(ATTR_TIER3BLOCK14THRESHOLD, "Tier 3 Block 14 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER3BLOCK15THRESHOLD, new ZclAttributeDefinition(ATTR_TIER3BLOCK15THRESHOLD, "Tier 3 Block 15 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER3BLOCKTHRESHOLDCOUNT, new ZclAttributeDefinition(ATTR_TIER3BLOCKTHRESHOLDCOUNT, "Tier 3 Block Threshold Count", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER4BLOCK1THRESHOLD, new ZclAttributeDefinition(ATTR_TIER4BLOCK1THRESHOLD, "Tier 4 Block 1 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER4BLOCK2THRESHOLD, new ZclAttributeDefinition(ATTR_TIER4BLOCK2THRESHOLD, "Tier 4 Block 2 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER4BLOCK3THRESHOLD, new ZclAttributeDefinition(ATTR_TIER4BLOCK3THRESHOLD, "Tier 4 Block 3 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER4BLOCK4THRESHOLD, new ZclAttributeDefinition(ATTR_TIER4BLOCK4THRESHOLD, "Tier 4 Block 4 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER4BLOCK5THRESHOLD, new ZclAttributeDefinition(ATTR_TIER4BLOCK5THRESHOLD, "Tier 4 Block 5 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER4BLOCK6THRESHOLD, new ZclAttributeDefinition(ATTR_TIER4BLOCK6THRESHOLD, "Tier 4 Block 6 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER4BLOCK7THRESHOLD, new ZclAttributeDefinition(ATTR_TIER4BLOCK7THRESHOLD, "Tier 4 Block 7 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER4BLOCK8THRESHOLD, new ZclAttributeDefinition(ATTR_TIER4BLOCK8THRESHOLD, "Tier 4 Block 8 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER4BLOCK9THRESHOLD, new ZclAttributeDefinition(ATTR_TIER4BLOCK9THRESHOLD, "Tier 4 Block 9 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER4BLOCK10THRESHOLD, new ZclAttributeDefinition(ATTR_TIER4BLOCK10THRESHOLD, "Tier 4 Block 10 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER4BLOCK11THRESHOLD, new ZclAttributeDefinition(ATTR_TIER4BLOCK11THRESHOLD, "Tier 4 Block 11 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER4BLOCK12THRESHOLD, new ZclAttributeDefinition(ATTR_TIER4BLOCK12THRESHOLD, "Tier 4 Block 12 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER4BLOCK13THRESHOLD, new ZclAttributeDefinition(ATTR_TIER4BLOCK13THRESHOLD, "Tier 4 Block 13 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER4BLOCK14THRESHOLD, new ZclAttributeDefinition(ATTR_TIER4BLOCK14THRESHOLD, "Tier 4 Block 14 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER4BLOCK15THRESHOLD, new ZclAttributeDefinition(ATTR_TIER4BLOCK15THRESHOLD, "Tier 4 Block 15 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER4BLOCKTHRESHOLDCOUNT, new ZclAttributeDefinition(ATTR_TIER4BLOCKTHRESHOLDCOUNT, "Tier 4 Block Threshold Count", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER5BLOCK1THRESHOLD, new ZclAttributeDefinition(ATTR_TIER5BLOCK1THRESHOLD, "Tier 5 Block 1 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER5BLOCK2THRESHOLD, new ZclAttributeDefinition(ATTR_TIER5BLOCK2THRESHOLD, "Tier 5 Block 2 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER5BLOCK3THRESHOLD, new ZclAttributeDefinition(ATTR_TIER5BLOCK3THRESHOLD, "Tier 5 Block 3 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER5BLOCK4THRESHOLD, new ZclAttributeDefinition(ATTR_TIER5BLOCK4THRESHOLD, "Tier 5 Block 4 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER5BLOCK5THRESHOLD, new ZclAttributeDefinition(ATTR_TIER5BLOCK5THRESHOLD, "Tier 5 Block 5 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER5BLOCK6THRESHOLD, new ZclAttributeDefinition(ATTR_TIER5BLOCK6THRESHOLD, "Tier 5 Block 6 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER5BLOCK7THRESHOLD, new ZclAttributeDefinition(ATTR_TIER5BLOCK7THRESHOLD, "Tier 5 Block 7 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER5BLOCK8THRESHOLD, new ZclAttributeDefinition(ATTR_TIER5BLOCK8THRESHOLD, "Tier 5 Block 8 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER5BLOCK9THRESHOLD, new ZclAttributeDefinition(ATTR_TIER5BLOCK9THRESHOLD, "Tier 5 Block 9 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER5BLOCK10THRESHOLD, new ZclAttributeDefinition(ATTR_TIER5BLOCK10THRESHOLD, "Tier 5 Block 10 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER5BLOCK11THRESHOLD, new ZclAttributeDefinition(ATTR_TIER5BLOCK11THRESHOLD, "Tier 5 Block 11 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER5BLOCK12THRESHOLD, new ZclAttributeDefinition(ATTR_TIER5BLOCK12THRESHOLD, "Tier 5 Block 12 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER5BLOCK13THRESHOLD, new ZclAttributeDefinition(ATTR_TIER5BLOCK13THRESHOLD, "Tier 5 Block 13 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER5BLOCK14THRESHOLD, new ZclAttributeDefinition(ATTR_TIER5BLOCK14THRESHOLD, "Tier 5 Block 14 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER5BLOCK15THRESHOLD, new ZclAttributeDefinition(ATTR_TIER5BLOCK15THRESHOLD, "Tier 5 Block 15 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER5BLOCKTHRESHOLDCOUNT, new ZclAttributeDefinition(ATTR_TIER5BLOCKTHRESHOLDCOUNT, "Tier 5 Block Threshold Count", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER6BLOCK1THRESHOLD, new ZclAttributeDefinition(ATTR_TIER6BLOCK1THRESHOLD, "Tier 6 Block 1 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER6BLOCK2THRESHOLD, new ZclAttributeDefinition(ATTR_TIER6BLOCK2THRESHOLD, "Tier 6 Block 2 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER6BLOCK3THRESHOLD, new ZclAttributeDefinition(ATTR_TIER6BLOCK3THRESHOLD, "Tier 6 Block 3 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER6BLOCK4THRESHOLD, new ZclAttributeDefinition(ATTR_TIER6BLOCK4THRESHOLD, "Tier 6 Block 4 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER6BLOCK5THRESHOLD, new ZclAttributeDefinition(ATTR_TIER6BLOCK5THRESHOLD, "Tier 6 Block 5 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER6BLOCK6THRESHOLD, new ZclAttributeDefinition(ATTR_TIER6BLOCK6THRESHOLD, "Tier 6 Block 6 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER6BLOCK7THRESHOLD, new ZclAttributeDefinition(ATTR_TIER6BLOCK7THRESHOLD, "Tier 6 Block 7 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER6BLOCK8THRESHOLD, new ZclAttributeDefinition(ATTR_TIER6BLOCK8THRESHOLD, "Tier 6 Block 8 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER6BLOCK9THRESHOLD, new ZclAttributeDefinition(ATTR_TIER6BLOCK9THRESHOLD, "Tier 6 Block 9 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER6BLOCK10THRESHOLD, new ZclAttributeDefinition(ATTR_TIER6BLOCK10THRESHOLD, "Tier 6 Block 10 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER6BLOCK11THRESHOLD, new ZclAttributeDefinition(ATTR_TIER6BLOCK11THRESHOLD, "Tier 6 Block 11 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER6BLOCK12THRESHOLD, new ZclAttributeDefinition(ATTR_TIER6BLOCK12THRESHOLD, "Tier 6 Block 12 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER6BLOCK13THRESHOLD, new ZclAttributeDefinition(ATTR_TIER6BLOCK13THRESHOLD, "Tier 6 Block 13 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER6BLOCK14THRESHOLD, new ZclAttributeDefinition(ATTR_TIER6BLOCK14THRESHOLD, "Tier 6 Block 14 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER6BLOCK15THRESHOLD, new ZclAttributeDefinition(ATTR_TIER6BLOCK15THRESHOLD, "Tier 6 Block 15 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER6BLOCKTHRESHOLDCOUNT, new ZclAttributeDefinition(ATTR_TIER6BLOCKTHRESHOLDCOUNT, "Tier 6 Block Threshold Count", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER7BLOCK1THRESHOLD, new ZclAttributeDefinition(ATTR_TIER7BLOCK1THRESHOLD, "Tier 7 Block 1 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER7BLOCK2THRESHOLD, new ZclAttributeDefinition(ATTR_TIER7BLOCK2THRESHOLD, "Tier 7 Block 2 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER7BLOCK3THRESHOLD, new ZclAttributeDefinition(ATTR_TIER7BLOCK3THRESHOLD, "Tier 7 Block 3 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER7BLOCK4THRESHOLD, new ZclAttributeDefinition(ATTR_TIER7BLOCK4THRESHOLD, "Tier 7 Block 4 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER7BLOCK5THRESHOLD, new ZclAttributeDefinition(ATTR_TIER7BLOCK5THRESHOLD, "Tier 7 Block 5 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER7BLOCK6THRESHOLD, new ZclAttributeDefinition(ATTR_TIER7BLOCK6THRESHOLD, "Tier 7 Block 6 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER7BLOCK7THRESHOLD, new ZclAttributeDefinition(ATTR_TIER7BLOCK7THRESHOLD, "Tier 7 Block 7 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER7BLOCK8THRESHOLD, new ZclAttributeDefinition(ATTR_TIER7BLOCK8THRESHOLD, "Tier 7 Block 8 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER7BLOCK9THRESHOLD, new ZclAttributeDefinition(ATTR_TIER7BLOCK9THRESHOLD, "Tier 7 Block 9 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER7BLOCK10THRESHOLD, new ZclAttributeDefinition(ATTR_TIER7BLOCK10THRESHOLD, "Tier 7 Block 10 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER7BLOCK11THRESHOLD, new ZclAttributeDefinition(ATTR_TIER7BLOCK11THRESHOLD, "Tier 7 Block 11 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER7BLOCK12THRESHOLD, new ZclAttributeDefinition(ATTR_TIER7BLOCK12THRESHOLD, "Tier 7 Block 12 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER7BLOCK13THRESHOLD, new ZclAttributeDefinition(ATTR_TIER7BLOCK13THRESHOLD, "Tier 7 Block 13 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER7BLOCK14THRESHOLD, new ZclAttributeDefinition(ATTR_TIER7BLOCK14THRESHOLD, "Tier 7 Block 14 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER7BLOCK15THRESHOLD, new ZclAttributeDefinition(ATTR_TIER7BLOCK15THRESHOLD, "Tier 7 Block 15 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER7BLOCKTHRESHOLDCOUNT, new ZclAttributeDefinition(ATTR_TIER7BLOCKTHRESHOLDCOUNT, "Tier 7 Block Threshold Count", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER8BLOCK1THRESHOLD, new ZclAttributeDefinition(ATTR_TIER8BLOCK1THRESHOLD, "Tier 8 Block 1 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER8BLOCK2THRESHOLD, new ZclAttributeDefinition(ATTR_TIER8BLOCK2THRESHOLD, "Tier 8 Block 2 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER8BLOCK3THRESHOLD, new ZclAttributeDefinition(ATTR_TIER8BLOCK3THRESHOLD, "Tier 8 Block 3 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER8BLOCK4THRESHOLD, new ZclAttributeDefinition(ATTR_TIER8BLOCK4THRESHOLD, "Tier 8 Block 4 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER8BLOCK5THRESHOLD, new ZclAttributeDefinition(ATTR_TIER8BLOCK5THRESHOLD, "Tier 8 Block 5 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER8BLOCK6THRESHOLD, new ZclAttributeDefinition(ATTR_TIER8BLOCK6THRESHOLD, "Tier 8 Block 6 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER8BLOCK7THRESHOLD, new ZclAttributeDefinition(ATTR_TIER8BLOCK7THRESHOLD, "Tier 8 Block 7 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER8BLOCK8THRESHOLD, new ZclAttributeDefinition(ATTR_TIER8BLOCK8THRESHOLD, "Tier 8 Block 8 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER8BLOCK9THRESHOLD, new ZclAttributeDefinition(ATTR_TIER8BLOCK9THRESHOLD, "Tier 8 Block 9 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER8BLOCK10THRESHOLD, new ZclAttributeDefinition(ATTR_TIER8BLOCK10THRESHOLD, "Tier 8 Block 10 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER8BLOCK11THRESHOLD, new ZclAttributeDefinition(ATTR_TIER8BLOCK11THRESHOLD, "Tier 8 Block 11 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER8BLOCK12THRESHOLD, new ZclAttributeDefinition(ATTR_TIER8BLOCK12THRESHOLD, "Tier 8 Block 12 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER8BLOCK13THRESHOLD, new ZclAttributeDefinition(ATTR_TIER8BLOCK13THRESHOLD, "Tier 8 Block 13 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER8BLOCK14THRESHOLD, new ZclAttributeDefinition(ATTR_TIER8BLOCK14THRESHOLD, "Tier 8 Block 14 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER8BLOCK15THRESHOLD, new ZclAttributeDefinition(ATTR_TIER8BLOCK15THRESHOLD, "Tier 8 Block 15 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER8BLOCKTHRESHOLDCOUNT, new ZclAttributeDefinition(ATTR_TIER8BLOCKTHRESHOLDCOUNT, "Tier 8 Block Threshold Count", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER9BLOCK1THRESHOLD, new ZclAttributeDefinition(ATTR_TIER9BLOCK1THRESHOLD, "Tier 9 Block 1 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER9BLOCK2THRESHOLD, new ZclAttributeDefinition(ATTR_TIER9BLOCK2THRESHOLD, "Tier 9 Block 2 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER9BLOCK3THRESHOLD, new ZclAttributeDefinition(ATTR_TIER9BLOCK3THRESHOLD, "Tier 9 Block 3 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER9BLOCK4THRESHOLD, new ZclAttributeDefinition(ATTR_TIER9BLOCK4THRESHOLD, "Tier 9 Block 4 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER9BLOCK5THRESHOLD, new ZclAttributeDefinition(ATTR_TIER9BLOCK5THRESHOLD, "Tier 9 Block 5 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER9BLOCK6THRESHOLD, new ZclAttributeDefinition(ATTR_TIER9BLOCK6THRESHOLD, "Tier 9 Block 6 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER9BLOCK7THRESHOLD, new ZclAttributeDefinition(ATTR_TIER9BLOCK7THRESHOLD, "Tier 9 Block 7 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER9BLOCK8THRESHOLD, new ZclAttributeDefinition(ATTR_TIER9BLOCK8THRESHOLD, "Tier 9 Block 8 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER9BLOCK9THRESHOLD, new ZclAttributeDefinition(ATTR_TIER9BLOCK9THRESHOLD, "Tier 9 Block 9 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER9BLOCK10THRESHOLD, new ZclAttributeDefinition(ATTR_TIER9BLOCK10THRESHOLD, "Tier 9 Block 10 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER9BLOCK11THRESHOLD, new ZclAttributeDefinition(ATTR_TIER9BLOCK11THRESHOLD, "Tier 9 Block 11 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER9BLOCK12THRESHOLD, new ZclAttributeDefinition(ATTR_TIER9BLOCK12THRESHOLD, "Tier 9 Block 12 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER9BLOCK13THRESHOLD, new ZclAttributeDefinition(ATTR_TIER9BLOCK13THRESHOLD, "Tier 9 Block 13 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER9BLOCK14THRESHOLD, new ZclAttributeDefinition(ATTR_TIER9BLOCK14THRESHOLD, "Tier 9 Block 14 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER9BLOCK15THRESHOLD, new ZclAttributeDefinition(ATTR_TIER9BLOCK15THRESHOLD, "Tier 9 Block 15 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER9BLOCKTHRESHOLDCOUNT, new ZclAttributeDefinition(ATTR_TIER9BLOCKTHRESHOLDCOUNT, "Tier 9 Block Threshold Count", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER10BLOCK1THRESHOLD, new ZclAttributeDefinition(ATTR_TIER10BLOCK1THRESHOLD, "Tier 10 Block 1 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER10BLOCK2THRESHOLD, new ZclAttributeDefinition(ATTR_TIER10BLOCK2THRESHOLD, "Tier 10 Block 2 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER10BLOCK3THRESHOLD, new ZclAttributeDefinition(ATTR_TIER10BLOCK3THRESHOLD, "Tier 10 Block 3 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER10BLOCK4THRESHOLD, new ZclAttributeDefinition(ATTR_TIER10BLOCK4THRESHOLD, "Tier 10 Block 4 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER10BLOCK5THRESHOLD, new ZclAttributeDefinition(ATTR_TIER10BLOCK5THRESHOLD, "Tier 10 Block 5 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER10BLOCK6THRESHOLD, new ZclAttributeDefinition(ATTR_TIER10BLOCK6THRESHOLD, "Tier 10 Block 6 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER10BLOCK7THRESHOLD, new ZclAttributeDefinition(ATTR_TIER10BLOCK7THRESHOLD, "Tier 10 Block 7 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER10BLOCK8THRESHOLD, new ZclAttributeDefinition(ATTR_TIER10BLOCK8THRESHOLD, "Tier 10 Block 8 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER10BLOCK9THRESHOLD, new ZclAttributeDefinition(ATTR_TIER10BLOCK9THRESHOLD, "Tier 10 Block 9 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER10BLOCK10THRESHOLD, new ZclAttributeDefinition(ATTR_TIER10BLOCK10THRESHOLD, "Tier 10 Block 10 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER10BLOCK11THRESHOLD, new ZclAttributeDefinition(ATTR_TIER10BLOCK11THRESHOLD, "Tier 10 Block 11 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER10BLOCK12THRESHOLD, new ZclAttributeDefinition(ATTR_TIER10BLOCK12THRESHOLD, "Tier 10 Block 12 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER10BLOCK13THRESHOLD, new ZclAttributeDefinition(ATTR_TIER10BLOCK13THRESHOLD, "Tier 10 Block 13 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER10BLOCK14THRESHOLD, new ZclAttributeDefinition(ATTR_TIER10BLOCK14THRESHOLD, "Tier 10 Block 14 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER10BLOCK15THRESHOLD, new ZclAttributeDefinition(ATTR_TIER10BLOCK15THRESHOLD, "Tier 10 Block 15 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER10BLOCKTHRESHOLDCOUNT, new ZclAttributeDefinition(ATTR_TIER10BLOCKTHRESHOLDCOUNT, "Tier 10 Block Threshold Count", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER11BLOCK1THRESHOLD, new ZclAttributeDefinition(ATTR_TIER11BLOCK1THRESHOLD, "Tier 11 Block 1 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER11BLOCK2THRESHOLD, new ZclAttributeDefinition(ATTR_TIER11BLOCK2THRESHOLD, "Tier 11 Block 2 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER11BLOCK3THRESHOLD, new ZclAttributeDefinition(ATTR_TIER11BLOCK3THRESHOLD, "Tier 11 Block 3 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER11BLOCK4THRESHOLD, new ZclAttributeDefinition(ATTR_TIER11BLOCK4THRESHOLD, "Tier 11 Block 4 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER11BLOCK5THRESHOLD, new ZclAttributeDefinition(ATTR_TIER11BLOCK5THRESHOLD, "Tier 11 Block 5 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER11BLOCK6THRESHOLD, new ZclAttributeDefinition(ATTR_TIER11BLOCK6THRESHOLD, "Tier 11 Block 6 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER11BLOCK7THRESHOLD, new ZclAttributeDefinition(ATTR_TIER11BLOCK7THRESHOLD, "Tier 11 Block 7 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER11BLOCK8THRESHOLD, new ZclAttributeDefinition(ATTR_TIER11BLOCK8THRESHOLD, "Tier 11 Block 8 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER11BLOCK9THRESHOLD, new ZclAttributeDefinition(ATTR_TIER11BLOCK9THRESHOLD, "Tier 11 Block 9 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER11BLOCK10THRESHOLD, new ZclAttributeDefinition(ATTR_TIER11BLOCK10THRESHOLD, "Tier 11 Block 10 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER11BLOCK11THRESHOLD, new ZclAttributeDefinition(ATTR_TIER11BLOCK11THRESHOLD, "Tier 11 Block 11 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER11BLOCK12THRESHOLD, new ZclAttributeDefinition(ATTR_TIER11BLOCK12THRESHOLD, "Tier 11 Block 12 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER11BLOCK13THRESHOLD, new ZclAttributeDefinition(ATTR_TIER11BLOCK13THRESHOLD, "Tier 11 Block 13 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER11BLOCK14THRESHOLD, new ZclAttributeDefinition(ATTR_TIER11BLOCK14THRESHOLD, "Tier 11 Block 14 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER11BLOCK15THRESHOLD, new ZclAttributeDefinition(ATTR_TIER11BLOCK15THRESHOLD, "Tier 11 Block 15 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER11BLOCKTHRESHOLDCOUNT, new ZclAttributeDefinition(ATTR_TIER11BLOCKTHRESHOLDCOUNT, "Tier 11 Block Threshold Count", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER12BLOCK1THRESHOLD, new ZclAttributeDefinition(ATTR_TIER12BLOCK1THRESHOLD, "Tier 12 Block 1 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER12BLOCK2THRESHOLD, new ZclAttributeDefinition(ATTR_TIER12BLOCK2THRESHOLD, "Tier 12 Block 2 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER12BLOCK3THRESHOLD, new ZclAttributeDefinition(ATTR_TIER12BLOCK3THRESHOLD, "Tier 12 Block 3 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER12BLOCK4THRESHOLD, new ZclAttributeDefinition(ATTR_TIER12BLOCK4THRESHOLD, "Tier 12 Block 4 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER12BLOCK5THRESHOLD, new ZclAttributeDefinition(ATTR_TIER12BLOCK5THRESHOLD, "Tier 12 Block 5 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER12BLOCK6THRESHOLD, new ZclAttributeDefinition(ATTR_TIER12BLOCK6THRESHOLD, "Tier 12 Block 6 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER12BLOCK7THRESHOLD, new ZclAttributeDefinition(ATTR_TIER12BLOCK7THRESHOLD, "Tier 12 Block 7 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER12BLOCK8THRESHOLD, new ZclAttributeDefinition(ATTR_TIER12BLOCK8THRESHOLD, "Tier 12 Block 8 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER12BLOCK9THRESHOLD, new ZclAttributeDefinition(ATTR_TIER12BLOCK9THRESHOLD, "Tier 12 Block 9 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER12BLOCK10THRESHOLD, new ZclAttributeDefinition(ATTR_TIER12BLOCK10THRESHOLD, "Tier 12 Block 10 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER12BLOCK11THRESHOLD, new ZclAttributeDefinition(ATTR_TIER12BLOCK11THRESHOLD, "Tier 12 Block 11 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER12BLOCK12THRESHOLD, new ZclAttributeDefinition(ATTR_TIER12BLOCK12THRESHOLD, "Tier 12 Block 12 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER12BLOCK13THRESHOLD, new ZclAttributeDefinition(ATTR_TIER12BLOCK13THRESHOLD, "Tier 12 Block 13 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER12BLOCK14THRESHOLD, new ZclAttributeDefinition(ATTR_TIER12BLOCK14THRESHOLD, "Tier 12 Block 14 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER12BLOCK15THRESHOLD, new ZclAttributeDefinition(ATTR_TIER12BLOCK15THRESHOLD, "Tier 12 Block 15 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER12BLOCKTHRESHOLDCOUNT, new ZclAttributeDefinition(ATTR_TIER12BLOCKTHRESHOLDCOUNT, "Tier 12 Block Threshold Count", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER13BLOCK1THRESHOLD, new ZclAttributeDefinition(ATTR_TIER13BLOCK1THRESHOLD, "Tier 13 Block 1 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER13BLOCK2THRESHOLD, new ZclAttributeDefinition(ATTR_TIER13BLOCK2THRESHOLD, "Tier 13 Block 2 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER13BLOCK3THRESHOLD, new ZclAttributeDefinition(ATTR_TIER13BLOCK3THRESHOLD, "Tier 13 Block 3 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER13BLOCK4THRESHOLD, new ZclAttributeDefinition(ATTR_TIER13BLOCK4THRESHOLD, "Tier 13 Block 4 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER13BLOCK5THRESHOLD, new ZclAttributeDefinition(ATTR_TIER13BLOCK5THRESHOLD, "Tier 13 Block 5 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER13BLOCK6THRESHOLD, new ZclAttributeDefinition(ATTR_TIER13BLOCK6THRESHOLD, "Tier 13 Block 6 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER13BLOCK7THRESHOLD, new ZclAttributeDefinition(ATTR_TIER13BLOCK7THRESHOLD, "Tier 13 Block 7 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER13BLOCK8THRESHOLD, new ZclAttributeDefinition(ATTR_TIER13BLOCK8THRESHOLD, "Tier 13 Block 8 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER13BLOCK9THRESHOLD, new ZclAttributeDefinition(ATTR_TIER13BLOCK9THRESHOLD, "Tier 13 Block 9 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER13BLOCK10THRESHOLD, new ZclAttributeDefinition(ATTR_TIER13BLOCK10THRESHOLD, "Tier 13 Block 10 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER13BLOCK11THRESHOLD, new ZclAttributeDefinition(ATTR_TIER13BLOCK11THRESHOLD, "Tier 13 Block 11 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER13BLOCK12THRESHOLD, new ZclAttributeDefinition(ATTR_TIER13BLOCK12THRESHOLD, "Tier 13 Block 12 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER13BLOCK13THRESHOLD, new ZclAttributeDefinition(ATTR_TIER13BLOCK13THRESHOLD, "Tier 13 Block 13 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER13BLOCK14THRESHOLD, new ZclAttributeDefinition(ATTR_TIER13BLOCK14THRESHOLD, "Tier 13 Block 14 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER13BLOCK15THRESHOLD, new ZclAttributeDefinition(ATTR_TIER13BLOCK15THRESHOLD, "Tier 13 Block 15 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER13BLOCKTHRESHOLDCOUNT, new ZclAttributeDefinition(ATTR_TIER13BLOCKTHRESHOLDCOUNT, "Tier 13 Block Threshold Count", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER14BLOCK1THRESHOLD, new ZclAttributeDefinition(ATTR_TIER14BLOCK1THRESHOLD, "Tier 14 Block 1 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER14BLOCK2THRESHOLD, new ZclAttributeDefinition(ATTR_TIER14BLOCK2THRESHOLD, "Tier 14 Block 2 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER14BLOCK3THRESHOLD, new ZclAttributeDefinition(ATTR_TIER14BLOCK3THRESHOLD, "Tier 14 Block 3 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER14BLOCK4THRESHOLD, new ZclAttributeDefinition(ATTR_TIER14BLOCK4THRESHOLD, "Tier 14 Block 4 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER14BLOCK5THRESHOLD, new ZclAttributeDefinition(ATTR_TIER14BLOCK5THRESHOLD, "Tier 14 Block 5 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER14BLOCK6THRESHOLD, new ZclAttributeDefinition(ATTR_TIER14BLOCK6THRESHOLD, "Tier 14 Block 6 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER14BLOCK7THRESHOLD, new ZclAttributeDefinition(ATTR_TIER14BLOCK7THRESHOLD, "Tier 14 Block 7 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER14BLOCK8THRESHOLD, new ZclAttributeDefinition(ATTR_TIER14BLOCK8THRESHOLD, "Tier 14 Block 8 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER14BLOCK9THRESHOLD, new ZclAttributeDefinition(ATTR_TIER14BLOCK9THRESHOLD, "Tier 14 Block 9 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER14BLOCK10THRESHOLD, new ZclAttributeDefinition(ATTR_TIER14BLOCK10THRESHOLD, "Tier 14 Block 10 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER14BLOCK11THRESHOLD, new ZclAttributeDefinition(ATTR_TIER14BLOCK11THRESHOLD, "Tier 14 Block 11 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER14BLOCK12THRESHOLD, new ZclAttributeDefinition(ATTR_TIER14BLOCK12THRESHOLD, "Tier 14 Block 12 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER14BLOCK13THRESHOLD, new ZclAttributeDefinition(ATTR_TIER14BLOCK13THRESHOLD, "Tier 14 Block 13 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER14BLOCK14THRESHOLD, new ZclAttributeDefinition(ATTR_TIER14BLOCK14THRESHOLD, "Tier 14 Block 14 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER14BLOCK15THRESHOLD, new ZclAttributeDefinition(ATTR_TIER14BLOCK15THRESHOLD, "Tier 14 Block 15 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER14BLOCKTHRESHOLDCOUNT, new ZclAttributeDefinition(ATTR_TIER14BLOCKTHRESHOLDCOUNT, "Tier 14 Block Threshold Count", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER15BLOCK1THRESHOLD, new ZclAttributeDefinition(ATTR_TIER15BLOCK1THRESHOLD, "Tier 15 Block 1 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER15BLOCK2THRESHOLD, new ZclAttributeDefinition(ATTR_TIER15BLOCK2THRESHOLD, "Tier 15 Block 2 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER15BLOCK3THRESHOLD, new ZclAttributeDefinition(ATTR_TIER15BLOCK3THRESHOLD, "Tier 15 Block 3 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER15BLOCK4THRESHOLD, new ZclAttributeDefinition(ATTR_TIER15BLOCK4THRESHOLD, "Tier 15 Block 4 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER15BLOCK5THRESHOLD, new ZclAttributeDefinition(ATTR_TIER15BLOCK5THRESHOLD, "Tier 15 Block 5 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER15BLOCK6THRESHOLD, new ZclAttributeDefinition(ATTR_TIER15BLOCK6THRESHOLD, "Tier 15 Block 6 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER15BLOCK7THRESHOLD, new ZclAttributeDefinition(ATTR_TIER15BLOCK7THRESHOLD, "Tier 15 Block 7 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER15BLOCK8THRESHOLD, new ZclAttributeDefinition(ATTR_TIER15BLOCK8THRESHOLD, "Tier 15 Block 8 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER15BLOCK9THRESHOLD, new ZclAttributeDefinition(ATTR_TIER15BLOCK9THRESHOLD, "Tier 15 Block 9 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER15BLOCK10THRESHOLD, new ZclAttributeDefinition(ATTR_TIER15BLOCK10THRESHOLD, "Tier 15 Block 10 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER15BLOCK11THRESHOLD, new ZclAttributeDefinition(ATTR_TIER15BLOCK11THRESHOLD, "Tier 15 Block 11 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER15BLOCK12THRESHOLD, new ZclAttributeDefinition(ATTR_TIER15BLOCK12THRESHOLD, "Tier 15 Block 12 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER15BLOCK13THRESHOLD, new ZclAttributeDefinition(ATTR_TIER15BLOCK13THRESHOLD, "Tier 15 Block 13 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER15BLOCK14THRESHOLD, new ZclAttributeDefinition(ATTR_TIER15BLOCK14THRESHOLD, "Tier 15 Block 14 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER15BLOCK15THRESHOLD, new ZclAttributeDefinition(ATTR_TIER15BLOCK15THRESHOLD, "Tier 15 Block 15 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER15BLOCKTHRESHOLDCOUNT, new ZclAttributeDefinition(ATTR_TIER15BLOCKTHRESHOLDCOUNT, "Tier 15 Block Threshold Count", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_STARTOFBLOCKPERIOD, new ZclAttributeDefinition(ATTR_STARTOFBLOCKPERIOD, "Start of Block Period", ZclDataType.UTCTIME, false, true, false, false));
+        attributeMap.put(ATTR_BLOCKPERIODDURATION, new ZclAttributeDefinition(ATTR_BLOCKPERIODDURATION, "Block Period Duration", ZclDataType.UNSIGNED_24_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_THRESHOLDMULTIPLIER, new ZclAttributeDefinition(ATTR_THRESHOLDMULTIPLIER, "Threshold Multiplier", ZclDataType.UNSIGNED_24_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_THRESHOLDDIVISOR, new ZclAttributeDefinition(ATTR_THRESHOLDDIVISOR, "Threshold Divisor", ZclDataType.UNSIGNED_24_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_BLOCKPERIODDURATIONTYPE, new ZclAttributeDefinition(ATTR_BLOCKPERIODDURATIONTYPE, "Block Period Duration Type", ZclDataType.BITMAP_8_BIT, false, true, false, false));
+        attributeMap.put(ATTR_COMMODITYTYPESERVER, new ZclAttributeDefinition(ATTR_COMMODITYTYPESERVER, "Commodity Type Server", ZclDataType.ENUMERATION_8_BIT, false, true, false, false));
+        attributeMap.put(ATTR_STANDINGCHARGE, new ZclAttributeDefinition(ATTR_STANDINGCHARGE, "Standing Charge", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_CONVERSIONFACTOR, new ZclAttributeDefinition(ATTR_CONVERSIONFACTOR, "Conversion Factor", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_CONVERSIONFACTORTRAILINGDIGIT, new ZclAttributeDefinition(ATTR_CONVERSIONFACTORTRAILINGDIGIT, "Conversion Factor Trailing Digit", ZclDataType.BITMAP_8_BIT, false, true, false, false));
+        attributeMap.put(ATTR_CALORIFICVALUE, new ZclAttributeDefinition(ATTR_CALORIFICVALUE, "Calorific Value", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_CALORIFICVALUEUNIT, new ZclAttributeDefinition(ATTR_CALORIFICVALUEUNIT, "Calorific Value Unit", ZclDataType.ENUMERATION_8_BIT, false, true, false, false));
+        attributeMap.put(ATTR_CALORIFICVALUETRAILINGDIGIT, new ZclAttributeDefinition(ATTR_CALORIFICVALUETRAILINGDIGIT, "Calorific Value Trailing Digit", ZclDataType.BITMAP_8_BIT, false, true, false, false));
+        attributeMap.put(ATTR_NOTIERBLOCK1PRICE, new ZclAttributeDefinition(ATTR_NOTIERBLOCK1PRICE, "No Tier Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_NOTIERBLOCK2PRICE, new ZclAttributeDefinition(ATTR_NOTIERBLOCK2PRICE, "No Tier Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_NOTIERBLOCK3PRICE, new ZclAttributeDefinition(ATTR_NOTIERBLOCK3PRICE, "No Tier Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_NOTIERBLOCK4PRICE, new ZclAttributeDefinition(ATTR_NOTIERBLOCK4PRICE, "No Tier Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_NOTIERBLOCK5PRICE, new ZclAttributeDefinition(ATTR_NOTIERBLOCK5PRICE, "No Tier Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_NOTIERBLOCK6PRICE, new ZclAttributeDefinition(ATTR_NOTIERBLOCK6PRICE, "No Tier Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_NOTIERBLOCK7PRICE, new ZclAttributeDefinition(ATTR_NOTIERBLOCK7PRICE, "No Tier Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_NOTIERBLOCK8PRICE, new ZclAttributeDefinition(ATTR_NOTIERBLOCK8PRICE, "No Tier Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_NOTIERBLOCK9PRICE, new ZclAttributeDefinition(ATTR_NOTIERBLOCK9PRICE, "No Tier Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_NOTIERBLOCK10PRICE, new ZclAttributeDefinition(ATTR_NOTIERBLOCK10PRICE, "No Tier Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_NOTIERBLOCK11PRICE, new ZclAttributeDefinition(ATTR_NOTIERBLOCK11PRICE, "No Tier Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_NOTIERBLOCK12PRICE, new ZclAttributeDefinition(ATTR_NOTIERBLOCK12PRICE, "No Tier Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_NOTIERBLOCK13PRICE, new ZclAttributeDefinition(ATTR_NOTIERBLOCK13PRICE, "No Tier Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_NOTIERBLOCK14PRICE, new ZclAttributeDefinition(ATTR_NOTIERBLOCK14PRICE, "No Tier Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_NOTIERBLOCK15PRICE, new ZclAttributeDefinition(ATTR_NOTIERBLOCK15PRICE, "No Tier Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_NOTIERBLOCK16PRICE, new ZclAttributeDefinition(ATTR_NOTIERBLOCK16PRICE, "No Tier Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER1BLOCK1PRICE, new ZclAttributeDefinition(ATTR_TIER1BLOCK1PRICE, "Tier 1 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER1BLOCK2PRICE, new ZclAttributeDefinition(ATTR_TIER1BLOCK2PRICE, "Tier 1 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER1BLOCK3PRICE, new ZclAttributeDefinition(ATTR_TIER1BLOCK3PRICE, "Tier 1 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER1BLOCK4PRICE, new ZclAttributeDefinition(ATTR_TIER1BLOCK4PRICE, "Tier 1 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER1BLOCK5PRICE, new ZclAttributeDefinition(ATTR_TIER1BLOCK5PRICE, "Tier 1 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER1BLOCK6PRICE, new ZclAttributeDefinition(ATTR_TIER1BLOCK6PRICE, "Tier 1 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER1BLOCK7PRICE, new ZclAttributeDefinition(ATTR_TIER1BLOCK7PRICE, "Tier 1 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER1BLOCK8PRICE, new ZclAttributeDefinition(ATTR_TIER1BLOCK8PRICE, "Tier 1 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER1BLOCK9PRICE, new ZclAttributeDefinition(ATTR_TIER1BLOCK9PRICE, "Tier 1 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER1BLOCK10PRICE, new ZclAttributeDefinition(ATTR_TIER1BLOCK10PRICE, "Tier 1 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER1BLOCK11PRICE, new ZclAttributeDefinition(ATTR_TIER1BLOCK11PRICE, "Tier 1 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER1BLOCK12PRICE, new ZclAttributeDefinition(ATTR_TIER1BLOCK12PRICE, "Tier 1 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER1BLOCK13PRICE, new ZclAttributeDefinition(ATTR_TIER1BLOCK13PRICE, "Tier 1 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER1BLOCK14PRICE, new ZclAttributeDefinition(ATTR_TIER1BLOCK14PRICE, "Tier 1 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER1BLOCK15PRICE, new ZclAttributeDefinition(ATTR_TIER1BLOCK15PRICE, "Tier 1 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER1BLOCK16PRICE, new ZclAttributeDefinition(ATTR_TIER1BLOCK16PRICE, "Tier 1 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER2BLOCK1PRICE, new ZclAttributeDefinition(ATTR_TIER2BLOCK1PRICE, "Tier 2 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER2BLOCK2PRICE, new ZclAttributeDefinition(ATTR_TIER2BLOCK2PRICE, "Tier 2 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER2BLOCK3PRICE, new ZclAttributeDefinition(ATTR_TIER2BLOCK3PRICE, "Tier 2 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER2BLOCK4PRICE, new ZclAttributeDefinition(ATTR_TIER2BLOCK4PRICE, "Tier 2 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER2BLOCK5PRICE, new ZclAttributeDefinition(ATTR_TIER2BLOCK5PRICE, "Tier 2 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER2BLOCK6PRICE, new ZclAttributeDefinition(ATTR_TIER2BLOCK6PRICE, "Tier 2 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER2BLOCK7PRICE, new ZclAttributeDefinition(ATTR_TIER2BLOCK7PRICE, "Tier 2 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER2BLOCK8PRICE, new ZclAttributeDefinition(ATTR_TIER2BLOCK8PRICE, "Tier 2 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER2BLOCK9PRICE, new ZclAttributeDefinition(ATTR_TIER2BLOCK9PRICE, "Tier 2 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER2BLOCK10PRICE, new ZclAttributeDefinition(ATTR_TIER2BLOCK10PRICE, "Tier 2 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER2BLOCK11PRICE, new ZclAttributeDefinition(ATTR_TIER2BLOCK11PRICE, "Tier 2 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER2BLOCK12PRICE, new ZclAttributeDefinition(ATTR_TIER2BLOCK12PRICE, "Tier 2 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER2BLOCK13PRICE, new ZclAttributeDefinition(ATTR_TIER2BLOCK13PRICE, "Tier 2 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER2BLOCK14PRICE, new ZclAttributeDefinition(ATTR_TIER2BLOCK14PRICE, "Tier 2 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER2BLOCK15PRICE, new ZclAttributeDefinition(ATTR_TIER2BLOCK15PRICE, "Tier 2 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER2BLOCK16PRICE, new ZclAttributeDefinition(ATTR_TIER2BLOCK16PRICE, "Tier 2 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER3BLOCK1PRICE, new ZclAttributeDefinition(ATTR_TIER3BLOCK1PRICE, "Tier 3 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER3BLOCK2PRICE, new ZclAttributeDefinition(ATTR_TIER3BLOCK2PRICE, "Tier 3 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER3BLOCK3PRICE, new ZclAttributeDefinition(ATTR_TIER3BLOCK3PRICE, "Tier 3 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER3BLOCK4PRICE, new ZclAttributeDefinition(ATTR_TIER3BLOCK4PRICE, "Tier 3 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER3BLOCK5PRICE, new ZclAttributeDefinition(ATTR_TIER3BLOCK5PRICE, "Tier 3 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER3BLOCK6PRICE, new ZclAttributeDefinition(ATTR_TIER3BLOCK6PRICE, "Tier 3 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER3BLOCK7PRICE, new ZclAttributeDefinition(ATTR_TIER3BLOCK7PRICE, "Tier 3 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER3BLOCK8PRICE, new ZclAttributeDefinition(ATTR_TIER3BLOCK8PRICE, "Tier 3 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER3BLOCK9PRICE, new ZclAttributeDefinition(ATTR_TIER3BLOCK9PRICE, "Tier 3 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER3BLOCK10PRICE, new ZclAttributeDefinition(ATTR_TIER3BLOCK10PRICE, "Tier 3 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER3BLOCK11PRICE, new ZclAttributeDefinition(ATTR_TIER3BLOCK11PRICE, "Tier 3 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER3BLOCK12PRICE, new ZclAttributeDefinition(ATTR_TIER3BLOCK12PRICE, "Tier 3 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER3BLOCK13PRICE, new ZclAttributeDefinition(ATTR_TIER3BLOCK13PRICE, "Tier 3 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER3BLOCK14PRICE, new ZclAttributeDefinition(ATTR_TIER3BLOCK14PRICE, "Tier 3 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER3BLOCK15PRICE, new ZclAttributeDefinition(ATTR_TIER3BLOCK15PRICE, "Tier 3 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER3BLOCK16PRICE, new ZclAttributeDefinition(ATTR_TIER3BLOCK16PRICE, "Tier 3 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER4BLOCK1PRICE, new ZclAttributeDefinition(ATTR_TIER4BLOCK1PRICE, "Tier 4 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER4BLOCK2PRICE, new ZclAttributeDefinition(ATTR_TIER4BLOCK2PRICE, "Tier 4 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER4BLOCK3PRICE, new ZclAttributeDefinition(ATTR_TIER4BLOCK3PRICE, "Tier 4 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER4BLOCK4PRICE, new ZclAttributeDefinition(ATTR_TIER4BLOCK4PRICE, "Tier 4 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER4BLOCK5PRICE, new ZclAttributeDefinition(ATTR_TIER4BLOCK5PRICE, "Tier 4 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER4BLOCK6PRICE, new ZclAttributeDefinition(ATTR_TIER4BLOCK6PRICE, "Tier 4 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER4BLOCK7PRICE, new ZclAttributeDefinition(ATTR_TIER4BLOCK7PRICE, "Tier 4 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER4BLOCK8PRICE, new ZclAttributeDefinition(ATTR_TIER4BLOCK8PRICE, "Tier 4 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER4BLOCK9PRICE, new ZclAttributeDefinition(ATTR_TIER4BLOCK9PRICE, "Tier 4 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER4BLOCK10PRICE, new ZclAttributeDefinition(ATTR_TIER4BLOCK10PRICE, "Tier 4 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER4BLOCK11PRICE, new ZclAttributeDefinition(ATTR_TIER4BLOCK11PRICE, "Tier 4 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER4BLOCK12PRICE, new ZclAttributeDefinition(ATTR_TIER4BLOCK12PRICE, "Tier 4 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER4BLOCK13PRICE, new ZclAttributeDefinition(ATTR_TIER4BLOCK13PRICE, "Tier 4 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER4BLOCK14PRICE, new ZclAttributeDefinition(ATTR_TIER4BLOCK14PRICE, "Tier 4 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER4BLOCK15PRICE, new ZclAttributeDefinition(ATTR_TIER4BLOCK15PRICE, "Tier 4 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER4BLOCK16PRICE, new ZclAttributeDefinition(ATTR_TIER4BLOCK16PRICE, "Tier 4 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER5BLOCK1PRICE, new ZclAttributeDefinition(ATTR_TIER5BLOCK1PRICE, "Tier 5 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER5BLOCK2PRICE, new ZclAttributeDefinition(ATTR_TIER5BLOCK2PRICE, "Tier 5 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER5BLOCK3PRICE, new ZclAttributeDefinition(ATTR_TIER5BLOCK3PRICE, "Tier 5 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER5BLOCK4PRICE, new ZclAttributeDefinition(ATTR_TIER5BLOCK4PRICE, "Tier 5 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER5BLOCK5PRICE, new ZclAttributeDefinition(ATTR_TIER5BLOCK5PRICE, "Tier 5 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER5BLOCK6PRICE, new ZclAttributeDefinition(ATTR_TIER5BLOCK6PRICE, "Tier 5 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER5BLOCK7PRICE, new ZclAttributeDefinition(ATTR_TIER5BLOCK7PRICE, "Tier 5 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER5BLOCK8PRICE, new ZclAttributeDefinition(ATTR_TIER5BLOCK8PRICE, "Tier 5 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER5BLOCK9PRICE, new ZclAttributeDefinition(ATTR_TIER5BLOCK9PRICE, "Tier 5 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER5BLOCK10PRICE, new ZclAttributeDefinition(ATTR_TIER5BLOCK10PRICE, "Tier 5 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER5BLOCK11PRICE, new ZclAttributeDefinition(ATTR_TIER5BLOCK11PRICE, "Tier 5 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER5BLOCK12PRICE, new ZclAttributeDefinition(ATTR_TIER5BLOCK12PRICE, "Tier 5 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER5BLOCK13PRICE, new ZclAttributeDefinition(ATTR_TIER5BLOCK13PRICE, "Tier 5 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER5BLOCK14PRICE, new ZclAttributeDefinition(ATTR_TIER5BLOCK14PRICE, "Tier 5 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER5BLOCK15PRICE, new ZclAttributeDefinition(ATTR_TIER5BLOCK15PRICE, "Tier 5 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER5BLOCK16PRICE, new ZclAttributeDefinition(ATTR_TIER5BLOCK16PRICE, "Tier 5 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER6BLOCK1PRICE, new ZclAttributeDefinition(ATTR_TIER6BLOCK1PRICE, "Tier 6 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER6BLOCK2PRICE, new ZclAttributeDefinition(ATTR_TIER6BLOCK2PRICE, "Tier 6 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER6BLOCK3PRICE, new ZclAttributeDefinition(ATTR_TIER6BLOCK3PRICE, "Tier 6 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER6BLOCK4PRICE, new ZclAttributeDefinition(ATTR_TIER6BLOCK4PRICE, "Tier 6 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER6BLOCK5PRICE, new ZclAttributeDefinition(ATTR_TIER6BLOCK5PRICE, "Tier 6 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER6BLOCK6PRICE, new ZclAttributeDefinition(ATTR_TIER6BLOCK6PRICE, "Tier 6 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER6BLOCK7PRICE, new ZclAttributeDefinition(ATTR_TIER6BLOCK7PRICE, "Tier 6 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER6BLOCK8PRICE, new ZclAttributeDefinition(ATTR_TIER6BLOCK8PRICE, "Tier 6 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER6BLOCK9PRICE, new ZclAttributeDefinition(ATTR_TIER6BLOCK9PRICE, "Tier 6 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER6BLOCK10PRICE, new ZclAttributeDefinition(ATTR_TIER6BLOCK10PRICE, "Tier 6 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER6BLOCK11PRICE, new ZclAttributeDefinition(ATTR_TIER6BLOCK11PRICE, "Tier 6 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER6BLOCK12PRICE, new ZclAttributeDefinition(ATTR_TIER6BLOCK12PRICE, "Tier 6 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER6BLOCK13PRICE, new ZclAttributeDefinition(ATTR_TIER6BLOCK13PRICE, "Tier 6 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER6BLOCK14PRICE, new ZclAttributeDefinition(ATTR_TIER6BLOCK14PRICE, "Tier 6 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER6BLOCK15PRICE, new ZclAttributeDefinition(ATTR_TIER6BLOCK15PRICE, "Tier 6 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER6BLOCK16PRICE, new ZclAttributeDefinition(ATTR_TIER6BLOCK16PRICE, "Tier 6 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER7BLOCK1PRICE, new ZclAttributeDefinition(ATTR_TIER7BLOCK1PRICE, "Tier 7 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER7BLOCK2PRICE, new ZclAttributeDefinition(ATTR_TIER7BLOCK2PRICE, "Tier 7 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER7BLOCK3PRICE, new ZclAttributeDefinition(ATTR_TIER7BLOCK3PRICE, "Tier 7 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER7BLOCK4PRICE, new ZclAttributeDefinition(ATTR_TIER7BLOCK4PRICE, "Tier 7 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER7BLOCK5PRICE, new ZclAttributeDefinition(ATTR_TIER7BLOCK5PRICE, "Tier 7 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER7BLOCK6PRICE, new ZclAttributeDefinition(ATTR_TIER7BLOCK6PRICE, "Tier 7 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER7BLOCK7PRICE, new ZclAttributeDefinition(ATTR_TIER7BLOCK7PRICE, "Tier 7 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER7BLOCK8PRICE, new ZclAttributeDefinition(ATTR_TIER7BLOCK8PRICE, "Tier 7 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER7BLOCK9PRICE, new ZclAttributeDefinition(ATTR_TIER7BLOCK9PRICE, "Tier 7 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER7BLOCK10PRICE, new ZclAttributeDefinition(ATTR_TIER7BLOCK10PRICE, "Tier 7 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER7BLOCK11PRICE, new ZclAttributeDefinition(ATTR_TIER7BLOCK11PRICE, "Tier 7 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER7BLOCK12PRICE, new ZclAttributeDefinition(ATTR_TIER7BLOCK12PRICE, "Tier 7 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER7BLOCK13PRICE, new ZclAttributeDefinition(ATTR_TIER7BLOCK13PRICE, "Tier 7 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER7BLOCK14PRICE, new ZclAttributeDefinition(ATTR_TIER7BLOCK14PRICE, "Tier 7 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER7BLOCK15PRICE, new ZclAttributeDefinition(ATTR_TIER7BLOCK15PRICE, "Tier 7 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER7BLOCK16PRICE, new ZclAttributeDefinition(ATTR_TIER7BLOCK16PRICE, "Tier 7 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER8BLOCK1PRICE, new ZclAttributeDefinition(ATTR_TIER8BLOCK1PRICE, "Tier 8 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER8BLOCK2PRICE, new ZclAttributeDefinition(ATTR_TIER8BLOCK2PRICE, "Tier 8 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER8BLOCK3PRICE, new ZclAttributeDefinition(ATTR_TIER8BLOCK3PRICE, "Tier 8 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER8BLOCK4PRICE, new ZclAttributeDefinition(ATTR_TIER8BLOCK4PRICE, "Tier 8 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER8BLOCK5PRICE, new ZclAttributeDefinition(ATTR_TIER8BLOCK5PRICE, "Tier 8 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER8BLOCK6PRICE, new ZclAttributeDefinition(ATTR_TIER8BLOCK6PRICE, "Tier 8 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER8BLOCK7PRICE, new ZclAttributeDefinition(ATTR_TIER8BLOCK7PRICE, "Tier 8 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER8BLOCK8PRICE, new ZclAttributeDefinition(ATTR_TIER8BLOCK8PRICE, "Tier 8 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER8BLOCK9PRICE, new ZclAttributeDefinition(ATTR_TIER8BLOCK9PRICE, "Tier 8 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER8BLOCK10PRICE, new ZclAttributeDefinition(ATTR_TIER8BLOCK10PRICE, "Tier 8 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER8BLOCK11PRICE, new ZclAttributeDefinition(ATTR_TIER8BLOCK11PRICE, "Tier 8 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER8BLOCK12PRICE, new ZclAttributeDefinition(ATTR_TIER8BLOCK12PRICE, "Tier 8 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER8BLOCK13PRICE, new ZclAttributeDefinition(ATTR_TIER8BLOCK13PRICE, "Tier 8 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER8BLOCK14PRICE, new ZclAttributeDefinition(ATTR_TIER8BLOCK14PRICE, "Tier 8 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER8BLOCK15PRICE, new ZclAttributeDefinition(ATTR_TIER8BLOCK15PRICE, "Tier 8 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER8BLOCK16PRICE, new ZclAttributeDefinition(ATTR_TIER8BLOCK16PRICE, "Tier 8 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER9BLOCK1PRICE, new ZclAttributeDefinition(ATTR_TIER9BLOCK1PRICE, "Tier 9 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER9BLOCK2PRICE, new ZclAttributeDefinition(ATTR_TIER9BLOCK2PRICE, "Tier 9 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER9BLOCK3PRICE, new ZclAttributeDefinition(ATTR_TIER9BLOCK3PRICE, "Tier 9 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER9BLOCK4PRICE, new ZclAttributeDefinition(ATTR_TIER9BLOCK4PRICE, "Tier 9 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER9BLOCK5PRICE, new ZclAttributeDefinition(ATTR_TIER9BLOCK5PRICE, "Tier 9 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER9BLOCK6PRICE, new ZclAttributeDefinition(ATTR_TIER9BLOCK6PRICE, "Tier 9 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER9BLOCK7PRICE, new ZclAttributeDefinition(ATTR_TIER9BLOCK7PRICE, "Tier 9 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER9BLOCK8PRICE, new ZclAttributeDefinition(ATTR_TIER9BLOCK8PRICE, "Tier 9 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER9BLOCK9PRICE, new ZclAttributeDefinition(ATTR_TIER9BLOCK9PRICE, "Tier 9 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER9BLOCK10PRICE, new ZclAttributeDefinition(ATTR_TIER9BLOCK10PRICE, "Tier 9 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER9BLOCK11PRICE, new ZclAttributeDefinition(ATTR_TIER9BLOCK11PRICE, "Tier 9 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER9BLOCK12PRICE, new ZclAttributeDefinition(ATTR_TIER9BLOCK12PRICE, "Tier 9 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER9BLOCK13PRICE, new ZclAttributeDefinition(ATTR_TIER9BLOCK13PRICE, "Tier 9 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER9BLOCK14PRICE, new ZclAttributeDefinition(ATTR_TIER9BLOCK14PRICE, "Tier 9 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER9BLOCK15PRICE, new ZclAttributeDefinition(ATTR_TIER9BLOCK15PRICE, "Tier 9 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER9BLOCK16PRICE, new ZclAttributeDefinition(ATTR_TIER9BLOCK16PRICE, "Tier 9 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER10BLOCK1PRICE, new ZclAttributeDefinition(ATTR_TIER10BLOCK1PRICE, "Tier 10 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER10BLOCK2PRICE, new ZclAttributeDefinition(ATTR_TIER10BLOCK2PRICE, "Tier 10 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER10BLOCK3PRICE, new ZclAttributeDefinition(ATTR_TIER10BLOCK3PRICE, "Tier 10 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER10BLOCK4PRICE, new ZclAttributeDefinition(ATTR_TIER10BLOCK4PRICE, "Tier 10 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER10BLOCK5PRICE, new ZclAttributeDefinition(ATTR_TIER10BLOCK5PRICE, "Tier 10 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER10BLOCK6PRICE, new ZclAttributeDefinition(ATTR_TIER10BLOCK6PRICE, "Tier 10 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER10BLOCK7PRICE, new ZclAttributeDefinition(ATTR_TIER10BLOCK7PRICE, "Tier 10 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER10BLOCK8PRICE, new ZclAttributeDefinition(ATTR_TIER10BLOCK8PRICE, "Tier 10 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER10BLOCK9PRICE, new ZclAttributeDefinition(ATTR_TIER10BLOCK9PRICE, "Tier 10 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER10BLOCK10PRICE, new ZclAttributeDefinition(ATTR_TIER10BLOCK10PRICE, "Tier 10 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER10BLOCK11PRICE, new ZclAttributeDefinition(ATTR_TIER10BLOCK11PRICE, "Tier 10 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER10BLOCK12PRICE, new ZclAttributeDefinition(ATTR_TIER10BLOCK12PRICE, "Tier 10 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER10BLOCK13PRICE, new ZclAttributeDefinition(ATTR_TIER10BLOCK13PRICE, "Tier 10 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER10BLOCK14PRICE, new ZclAttributeDefinition(ATTR_TIER10BLOCK14PRICE, "Tier 10 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER10BLOCK15PRICE, new ZclAttributeDefinition(ATTR_TIER10BLOCK15PRICE, "Tier 10 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER10BLOCK16PRICE, new ZclAttributeDefinition(ATTR_TIER10BLOCK16PRICE, "Tier 10 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER11BLOCK1PRICE, new ZclAttributeDefinition(ATTR_TIER11BLOCK1PRICE, "Tier 11 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER11BLOCK2PRICE, new ZclAttributeDefinition(ATTR_TIER11BLOCK2PRICE, "Tier 11 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER11BLOCK3PRICE, new ZclAttributeDefinition(ATTR_TIER11BLOCK3PRICE, "Tier 11 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER11BLOCK4PRICE, new ZclAttributeDefinition(ATTR_TIER11BLOCK4PRICE, "Tier 11 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER11BLOCK5PRICE, new ZclAttributeDefinition(ATTR_TIER11BLOCK5PRICE, "Tier 11 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER11BLOCK6PRICE, new ZclAttributeDefinition(ATTR_TIER11BLOCK6PRICE, "Tier 11 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER11BLOCK7PRICE, new ZclAttributeDefinition(ATTR_TIER11BLOCK7PRICE, "Tier 11 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER11BLOCK8PRICE, new ZclAttributeDefinition(ATTR_TIER11BLOCK8PRICE, "Tier 11 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER11BLOCK9PRICE, new ZclAttributeDefinition(ATTR_TIER11BLOCK9PRICE, "Tier 11 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER11BLOCK10PRICE, new ZclAttributeDefinition(ATTR_TIER11BLOCK10PRICE, "Tier 11 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER11BLOCK11PRICE, new ZclAttributeDefinition(ATTR_TIER11BLOCK11PRICE, "Tier 11 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER11BLOCK12PRICE, new ZclAttributeDefinition(ATTR_TIER11BLOCK12PRICE, "Tier 11 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER11BLOCK13PRICE, new ZclAttributeDefinition(ATTR_TIER11BLOCK13PRICE, "Tier 11 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER11BLOCK14PRICE, new ZclAttributeDefinition(ATTR_TIER11BLOCK14PRICE, "Tier 11 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER11BLOCK15PRICE, new ZclAttributeDefinition(ATTR_TIER11BLOCK15PRICE, "Tier 11 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER11BLOCK16PRICE, new ZclAttributeDefinition(ATTR_TIER11BLOCK16PRICE, "Tier 11 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER12BLOCK1PRICE, new ZclAttributeDefinition(ATTR_TIER12BLOCK1PRICE, "Tier 12 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER12BLOCK2PRICE, new ZclAttributeDefinition(ATTR_TIER12BLOCK2PRICE, "Tier 12 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER12BLOCK3PRICE, new ZclAttributeDefinition(ATTR_TIER12BLOCK3PRICE, "Tier 12 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER12BLOCK4PRICE, new ZclAttributeDefinition(ATTR_TIER12BLOCK4PRICE, "Tier 12 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER12BLOCK5PRICE, new ZclAttributeDefinition(ATTR_TIER12BLOCK5PRICE, "Tier 12 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER12BLOCK6PRICE, new ZclAttributeDefinition(ATTR_TIER12BLOCK6PRICE, "Tier 12 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER12BLOCK7PRICE, new ZclAttributeDefinition(ATTR_TIER12BLOCK7PRICE, "Tier 12 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER12BLOCK8PRICE, new ZclAttributeDefinition(ATTR_TIER12BLOCK8PRICE, "Tier 12 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER12BLOCK9PRICE, new ZclAttributeDefinition(ATTR_TIER12BLOCK9PRICE, "Tier 12 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER12BLOCK10PRICE, new ZclAttributeDefinition(ATTR_TIER12BLOCK10PRICE, "Tier 12 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER12BLOCK11PRICE, new ZclAttributeDefinition(ATTR_TIER12BLOCK11PRICE, "Tier 12 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER12BLOCK12PRICE, new ZclAttributeDefinition(ATTR_TIER12BLOCK12PRICE, "Tier 12 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER12BLOCK13PRICE, new ZclAttributeDefinition(ATTR_TIER12BLOCK13PRICE, "Tier 12 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER12BLOCK14PRICE, new ZclAttributeDefinition(ATTR_TIER12BLOCK14PRICE, "Tier 12 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER12BLOCK15PRICE, new ZclAttributeDefinition(ATTR_TIER12BLOCK15PRICE, "Tier 12 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER12BLOCK16PRICE, new ZclAttributeDefinition(ATTR_TIER12BLOCK16PRICE, "Tier 12 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER13BLOCK1PRICE, new ZclAttributeDefinition(ATTR_TIER13BLOCK1PRICE, "Tier 13 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER13BLOCK2PRICE, new ZclAttributeDefinition(ATTR_TIER13BLOCK2PRICE, "Tier 13 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER13BLOCK3PRICE, new ZclAttributeDefinition(ATTR_TIER13BLOCK3PRICE, "Tier 13 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER13BLOCK4PRICE, new ZclAttributeDefinition(ATTR_TIER13BLOCK4PRICE, "Tier 13 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER13BLOCK5PRICE, new ZclAttributeDefinition(ATTR_TIER13BLOCK5PRICE, "Tier 13 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER13BLOCK6PRICE, new ZclAttributeDefinition(ATTR_TIER13BLOCK6PRICE, "Tier 13 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER13BLOCK7PRICE, new ZclAttributeDefinition(ATTR_TIER13BLOCK7PRICE, "Tier 13 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER13BLOCK8PRICE, new ZclAttributeDefinition(ATTR_TIER13BLOCK8PRICE, "Tier 13 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER13BLOCK9PRICE, new ZclAttributeDefinition(ATTR_TIER13BLOCK9PRICE, "Tier 13 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER13BLOCK10PRICE, new ZclAttributeDefinition(ATTR_TIER13BLOCK10PRICE, "Tier 13 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER13BLOCK11PRICE, new ZclAttributeDefinition(ATTR_TIER13BLOCK11PRICE, "Tier 13 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER13BLOCK12PRICE, new ZclAttributeDefinition(ATTR_TIER13BLOCK12PRICE, "Tier 13 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER13BLOCK13PRICE, new ZclAttributeDefinition(ATTR_TIER13BLOCK13PRICE, "Tier 13 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER13BLOCK14PRICE, new ZclAttributeDefinition(ATTR_TIER13BLOCK14PRICE, "Tier 13 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER13BLOCK15PRICE, new ZclAttributeDefinition(ATTR_TIER13BLOCK15PRICE, "Tier 13 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER13BLOCK16PRICE, new ZclAttributeDefinition(ATTR_TIER13BLOCK16PRICE, "Tier 13 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER14BLOCK1PRICE, new ZclAttributeDefinition(ATTR_TIER14BLOCK1PRICE, "Tier 14 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER14BLOCK2PRICE, new ZclAttributeDefinition(ATTR_TIER14BLOCK2PRICE, "Tier 14 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER14BLOCK3PRICE, new ZclAttributeDefinition(ATTR_TIER14BLOCK3PRICE, "Tier 14 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER14BLOCK4PRICE, new ZclAttributeDefinition(ATTR_TIER14BLOCK4PRICE, "Tier 14 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER14BLOCK5PRICE, new ZclAttributeDefinition(ATTR_TIER14BLOCK5PRICE, "Tier 14 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER14BLOCK6PRICE, new ZclAttributeDefinition(ATTR_TIER14BLOCK6PRICE, "Tier 14 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER14BLOCK7PRICE, new ZclAttributeDefinition(ATTR_TIER14BLOCK7PRICE, "Tier 14 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER14BLOCK8PRICE, new ZclAttributeDefinition(ATTR_TIER14BLOCK8PRICE, "Tier 14 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER14BLOCK9PRICE, new ZclAttributeDefinition(ATTR_TIER14BLOCK9PRICE, "Tier 14 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER14BLOCK10PRICE, new ZclAttributeDefinition(ATTR_TIER14BLOCK10PRICE, "Tier 14 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER14BLOCK11PRICE, new ZclAttributeDefinition(ATTR_TIER14BLOCK11PRICE, "Tier 14 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER14BLOCK12PRICE, new ZclAttributeDefinition(ATTR_TIER14BLOCK12PRICE, "Tier 14 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER14BLOCK13PRICE, new ZclAttributeDefinition(ATTR_TIER14BLOCK13PRICE, "Tier 14 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER14BLOCK14PRICE, new ZclAttributeDefinition(ATTR_TIER14BLOCK14PRICE, "Tier 14 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER14BLOCK15PRICE, new ZclAttributeDefinition(ATTR_TIER14BLOCK15PRICE, "Tier 14 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER14BLOCK16PRICE, new ZclAttributeDefinition(ATTR_TIER14BLOCK16PRICE, "Tier 14 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER15BLOCK1PRICE, new ZclAttributeDefinition(ATTR_TIER15BLOCK1PRICE, "Tier 15 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER15BLOCK2PRICE, new ZclAttributeDefinition(ATTR_TIER15BLOCK2PRICE, "Tier 15 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER15BLOCK3PRICE, new ZclAttributeDefinition(ATTR_TIER15BLOCK3PRICE, "Tier 15 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER15BLOCK4PRICE, new ZclAttributeDefinition(ATTR_TIER15BLOCK4PRICE, "Tier 15 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER15BLOCK5PRICE, new ZclAttributeDefinition(ATTR_TIER15BLOCK5PRICE, "Tier 15 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER15BLOCK6PRICE, new ZclAttributeDefinition(ATTR_TIER15BLOCK6PRICE, "Tier 15 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER15BLOCK7PRICE, new ZclAttributeDefinition(ATTR_TIER15BLOCK7PRICE, "Tier 15 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER15BLOCK8PRICE, new ZclAttributeDefinition(ATTR_TIER15BLOCK8PRICE, "Tier 15 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER15BLOCK9PRICE, new ZclAttributeDefinition(ATTR_TIER15BLOCK9PRICE, "Tier 15 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER15BLOCK10PRICE, new ZclAttributeDefinition(ATTR_TIER15BLOCK10PRICE, "Tier 15 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER15BLOCK11PRICE, new ZclAttributeDefinition(ATTR_TIER15BLOCK11PRICE, "Tier 15 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER15BLOCK12PRICE, new ZclAttributeDefinition(ATTR_TIER15BLOCK12PRICE, "Tier 15 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER15BLOCK13PRICE, new ZclAttributeDefinition(ATTR_TIER15BLOCK13PRICE, "Tier 15 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER15BLOCK14PRICE, new ZclAttributeDefinition(ATTR_TIER15BLOCK14PRICE, "Tier 15 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER15BLOCK15PRICE, new ZclAttributeDefinition(ATTR_TIER15BLOCK15PRICE, "Tier 15 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER15BLOCK16PRICE, new ZclAttributeDefinition(ATTR_TIER15BLOCK16PRICE, "Tier 15 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_PRICETIER16, new ZclAttributeDefinition(ATTR_PRICETIER16, "Price Tier 16", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_PRICETIER17, new ZclAttributeDefinition(ATTR_PRICETIER17, "Price Tier 17", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_PRICETIER18, new ZclAttributeDefinition(ATTR_PRICETIER18, "Price Tier 18", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_PRICETIER19, new ZclAttributeDefinition(ATTR_PRICETIER19, "Price Tier 19", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_PRICETIER20, new ZclAttributeDefinition(ATTR_PRICETIER20, "Price Tier 20", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_PRICETIER21, new ZclAttributeDefinition(ATTR_PRICETIER21, "Price Tier 21", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_PRICETIER22, new ZclAttributeDefinition(ATTR_PRICETIER22, "Price Tier 22", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_PRICETIER23, new ZclAttributeDefinition(ATTR_PRICETIER23, "Price Tier 23", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_PRICETIER24, new ZclAttributeDefinition(ATTR_PRICETIER24, "Price Tier 24", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_PRICETIER25, new ZclAttributeDefinition(ATTR_PRICETIER25, "Price Tier 25", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_PRICETIER26, new ZclAttributeDefinition(ATTR_PRICETIER26, "Price Tier 26", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_PRICETIER27, new ZclAttributeDefinition(ATTR_PRICETIER27, "Price Tier 27", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_PRICETIER28, new ZclAttributeDefinition(ATTR_PRICETIER28, "Price Tier 28", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_PRICETIER29, new ZclAttributeDefinition(ATTR_PRICETIER29, "Price Tier 29", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_PRICETIER30, new ZclAttributeDefinition(ATTR_PRICETIER30, "Price Tier 30", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_PRICETIER31, new ZclAttributeDefinition(ATTR_PRICETIER31, "Price Tier 31", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_PRICETIER32, new ZclAttributeDefinition(ATTR_PRICETIER32, "Price Tier 32", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_PRICETIER33, new ZclAttributeDefinition(ATTR_PRICETIER33, "Price Tier 33", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_PRICETIER34, new ZclAttributeDefinition(ATTR_PRICETIER34, "Price Tier 34", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_PRICETIER35, new ZclAttributeDefinition(ATTR_PRICETIER35, "Price Tier 35", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_PRICETIER36, new ZclAttributeDefinition(ATTR_PRICETIER36, "Price Tier 36", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_PRICETIER37, new ZclAttributeDefinition(ATTR_PRICETIER37, "Price Tier 37", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_PRICETIER38, new ZclAttributeDefinition(ATTR_PRICETIER38, "Price Tier 38", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_PRICETIER39, new ZclAttributeDefinition(ATTR_PRICETIER39, "Price Tier 39", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_PRICETIER40, new ZclAttributeDefinition(ATTR_PRICETIER40, "Price Tier 40", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_PRICETIER41, new ZclAttributeDefinition(ATTR_PRICETIER41, "Price Tier 41", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_PRICETIER42, new ZclAttributeDefinition(ATTR_PRICETIER42, "Price Tier 42", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_PRICETIER43, new ZclAttributeDefinition(ATTR_PRICETIER43, "Price Tier 43", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_PRICETIER44, new ZclAttributeDefinition(ATTR_PRICETIER44, "Price Tier 44", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_PRICETIER45, new ZclAttributeDefinition(ATTR_PRICETIER45, "Price Tier 45", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_PRICETIER46, new ZclAttributeDefinition(ATTR_PRICETIER46, "Price Tier 46", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_PRICETIER47, new ZclAttributeDefinition(ATTR_PRICETIER47, "Price Tier 47", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_CPP1PRICE, new ZclAttributeDefinition(ATTR_CPP1PRICE, "Cpp 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_CPP2PRICE, new ZclAttributeDefinition(ATTR_CPP2PRICE, "Cpp 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TARIFFLABEL, new ZclAttributeDefinition(ATTR_TARIFFLABEL, "Tariff Label", ZclDataType.CHARACTER_STRING, false, true, false, false));
+        attributeMap.put(ATTR_NUMBEROFPRICETIERSINUSE, new ZclAttributeDefinition(ATTR_NUMBEROFPRICETIERSINUSE, "Numberof Price Tiers In Use", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_NUMBEROFBLOCKTHRESHOLDSINUSE, new ZclAttributeDefinition(ATTR_NUMBEROFBLOCKTHRESHOLDSINUSE, "Numberof Block Thresholds In Use", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIERBLOCKMODE, new ZclAttributeDefinition(ATTR_TIERBLOCKMODE, "Tier Block Mode", ZclDataType.ENUMERATION_8_BIT, false, true, false, false));
+        attributeMap.put(ATTR_UNITOFMEASURE, new ZclAttributeDefinition(ATTR_UNITOFMEASURE, "Unit Of Measure", ZclDataType.ENUMERATION_8_BIT, false, true, false, false));
+        attributeMap.put(ATTR_CURRENCY, new ZclAttributeDefinition(ATTR_CURRENCY, "Currency", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_PRICETRAILINGDIGIT, new ZclAttributeDefinition(ATTR_PRICETRAILINGDIGIT, "Price Trailing Digit", ZclDataType.BITMAP_16_BIT, false, true, false, false));
+        attributeMap.put(ATTR_TARIFFRESOLUTIONPERIOD, new ZclAttributeDefinition(ATTR_TARIFFRESOLUTIONPERIOD, "Tariff Resolution Period", ZclDataType.ENUMERATION_8_BIT, false, true, false, false));
+        attributeMap.put(ATTR_CO2, new ZclAttributeDefinition(ATTR_CO2, "CO2", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_CO2UNIT, new ZclAttributeDefinition(ATTR_CO2UNIT, "CO2 Unit", ZclDataType.ENUMERATION_8_BIT, false, true, false, false));
+        attributeMap.put(ATTR_CO2TRAILINGDIGIT, new ZclAttributeDefinition(ATTR_CO2TRAILINGDIGIT, "CO2 Trailing Digit", ZclDataType.BITMAP_8_BIT, false, true, false, false));
+        attributeMap.put(ATTR_CURRENTBILLINGPERIODSTART, new ZclAttributeDefinition(ATTR_CURRENTBILLINGPERIODSTART, "Current Billing Period Start", ZclDataType.UTCTIME, false, true, false, false));
+        attributeMap.put(ATTR_CURRENTBILLINGPERIODDURATION, new ZclAttributeDefinition(ATTR_CURRENTBILLINGPERIODDURATION, "Current Billing Period Duration", ZclDataType.UNSIGNED_24_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_LASTBILLINGPERIODSTART, new ZclAttributeDefinition(ATTR_LASTBILLINGPERIODSTART, "Last Billing Period Start", ZclDataType.UTCTIME, false, true, false, false));
+        attributeMap.put(ATTR_LASTBILLINGPERIODDURATION, new ZclAttributeDefinition(ATTR_LASTBILLINGPERIODDURATION, "Last Billing Period Duration", ZclDataType.UNSIGNED_24_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_LASTBILLINGPERIODCONSOLIDATEDBILL, new ZclAttributeDefinition(ATTR_LASTBILLINGPERIODCONSOLIDATEDBILL, "Last Billing Period Consolidated Bill", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_CREDITPAYMENTDUEDATE, new ZclAttributeDefinition(ATTR_CREDITPAYMENTDUEDATE, "Credit Payment Due Date", ZclDataType.UTCTIME, false, true, false, false));
+        attributeMap.put(ATTR_CREDITPAYMENTSTATUS, new ZclAttributeDefinition(ATTR_CREDITPAYMENTSTATUS, "Credit Payment Status", ZclDataType.ENUMERATION_8_BIT, false, true, false, false));
+        attributeMap.put(ATTR_CREDITPAYMENTOVERDUEAMOUNT, new ZclAttributeDefinition(ATTR_CREDITPAYMENTOVERDUEAMOUNT, "Credit Payment Over Due Amount", ZclDataType.SIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_PAYMENTDISCOUNT, new ZclAttributeDefinition(ATTR_PAYMENTDISCOUNT, "Payment Discount", ZclDataType.SIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_PAYMENTDISCOUNTPERIOD, new ZclAttributeDefinition(ATTR_PAYMENTDISCOUNTPERIOD, "Payment Discount Period", ZclDataType.ENUMERATION_8_BIT, false, true, false, false));
+        attributeMap.put(ATTR_CREDITCARDPAYMENT1, new ZclAttributeDefinition(ATTR_CREDITCARDPAYMENT1, "Credit Card Payment 1", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_CREDITCARDPAYMENTDATE1, new ZclAttributeDefinition(ATTR_CREDITCARDPAYMENTDATE1, "Credit Card Payment Date 1", ZclDataType.UTCTIME, false, true, false, false));
+        attributeMap.put(ATTR_CREDITCARDPAYMENTREF1, new ZclAttributeDefinition(ATTR_CREDITCARDPAYMENTREF1, "Credit Card Payment Ref 1", ZclDataType.OCTET_STRING, false, true, false, false));
+        attributeMap.put(ATTR_CREDITCARDPAYMENT2, new ZclAttributeDefinition(ATTR_CREDITCARDPAYMENT2, "Credit Card Payment 2", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_CREDITCARDPAYMENTDATE2, new ZclAttributeDefinition(ATTR_CREDITCARDPAYMENTDATE2, "Credit Card Payment Date 2", ZclDataType.UTCTIME, false, true, false, false));
+        attributeMap.put(ATTR_CREDITCARDPAYMENTREF2, new ZclAttributeDefinition(ATTR_CREDITCARDPAYMENTREF2, "Credit Card Payment Ref 2", ZclDataType.OCTET_STRING, false, true, false, false));
+        attributeMap.put(ATTR_CREDITCARDPAYMENT3, new ZclAttributeDefinition(ATTR_CREDITCARDPAYMENT3, "Credit Card Payment 3", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_CREDITCARDPAYMENTDATE3, new ZclAttributeDefinition(ATTR_CREDITCARDPAYMENTDATE3, "Credit Card Payment Date 3", ZclDataType.UTCTIME, false, true, false, false));
+        attributeMap.put(ATTR_CREDITCARDPAYMENTREF3, new ZclAttributeDefinition(ATTR_CREDITCARDPAYMENTREF3, "Credit Card Payment Ref 3", ZclDataType.OCTET_STRING, false, true, false, false));
+        attributeMap.put(ATTR_CREDITCARDPAYMENT4, new ZclAttributeDefinition(ATTR_CREDITCARDPAYMENT4, "Credit Card Payment 4", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_CREDITCARDPAYMENTDATE4, new ZclAttributeDefinition(ATTR_CREDITCARDPAYMENTDATE4, "Credit Card Payment Date 4", ZclDataType.UTCTIME, false, true, false, false));
+        attributeMap.put(ATTR_CREDITCARDPAYMENTREF4, new ZclAttributeDefinition(ATTR_CREDITCARDPAYMENTREF4, "Credit Card Payment Ref 4", ZclDataType.OCTET_STRING, false, true, false, false));
+        attributeMap.put(ATTR_CREDITCARDPAYMENT5, new ZclAttributeDefinition(ATTR_CREDITCARDPAYMENT5, "Credit Card Payment 5", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_CREDITCARDPAYMENTDATE5, new ZclAttributeDefinition(ATTR_CREDITCARDPAYMENTDATE5, "Credit Card Payment Date 5", ZclDataType.UTCTIME, false, true, false, false));
+        attributeMap.put(ATTR_CREDITCARDPAYMENTREF5, new ZclAttributeDefinition(ATTR_CREDITCARDPAYMENTREF5, "Credit Card Payment Ref 5", ZclDataType.OCTET_STRING, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDTIER1PRICELABEL, new ZclAttributeDefinition(ATTR_RECEIVEDTIER1PRICELABEL, "Received Tier 1 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
+        attributeMap.put(ATTR_RECEIVEDTIER2PRICELABEL, new ZclAttributeDefinition(ATTR_RECEIVEDTIER2PRICELABEL, "Received Tier 2 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
+        attributeMap.put(ATTR_RECEIVEDTIER3PRICELABEL, new ZclAttributeDefinition(ATTR_RECEIVEDTIER3PRICELABEL, "Received Tier 3 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
+        attributeMap.put(ATTR_RECEIVEDTIER4PRICELABEL, new ZclAttributeDefinition(ATTR_RECEIVEDTIER4PRICELABEL, "Received Tier 4 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
+        attributeMap.put(ATTR_RECEIVEDTIER5PRICELABEL, new ZclAttributeDefinition(ATTR_RECEIVEDTIER5PRICELABEL, "Received Tier 5 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
+        attributeMap.put(ATTR_RECEIVEDTIER6PRICELABEL, new ZclAttributeDefinition(ATTR_RECEIVEDTIER6PRICELABEL, "Received Tier 6 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
+        attributeMap.put(ATTR_RECEIVEDTIER7PRICELABEL, new ZclAttributeDefinition(ATTR_RECEIVEDTIER7PRICELABEL, "Received Tier 7 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
+        attributeMap.put(ATTR_RECEIVEDTIER8PRICELABEL, new ZclAttributeDefinition(ATTR_RECEIVEDTIER8PRICELABEL, "Received Tier 8 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
+        attributeMap.put(ATTR_RECEIVEDTIER9PRICELABEL, new ZclAttributeDefinition(ATTR_RECEIVEDTIER9PRICELABEL, "Received Tier 9 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
+        attributeMap.put(ATTR_RECEIVEDTIER10PRICELABEL, new ZclAttributeDefinition(ATTR_RECEIVEDTIER10PRICELABEL, "Received Tier 10 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
+        attributeMap.put(ATTR_RECEIVEDTIER11PRICELABEL, new ZclAttributeDefinition(ATTR_RECEIVEDTIER11PRICELABEL, "Received Tier 11 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
+        attributeMap.put(ATTR_RECEIVEDTIER12PRICELABEL, new ZclAttributeDefinition(ATTR_RECEIVEDTIER12PRICELABEL, "Received Tier 12 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
+        attributeMap.put(ATTR_RECEIVEDTIER13PRICELABEL, new ZclAttributeDefinition(ATTR_RECEIVEDTIER13PRICELABEL, "Received Tier 13 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
+        attributeMap.put(ATTR_RECEIVEDTIER14PRICELABEL, new ZclAttributeDefinition(ATTR_RECEIVEDTIER14PRICELABEL, "Received Tier 14 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
+        attributeMap.put(ATTR_RECEIVEDTIER15PRICELABEL, new ZclAttributeDefinition(ATTR_RECEIVEDTIER15PRICELABEL, "Received Tier 15 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
+        attributeMap.put(ATTR_RECEIVEDTIER16PRICELABEL, new ZclAttributeDefinition(ATTR_RECEIVEDTIER16PRICELABEL, "Received Tier 16 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
+        attributeMap.put(ATTR_RECEIVEDTIER17PRICELABEL, new ZclAttributeDefinition(ATTR_RECEIVEDTIER17PRICELABEL, "Received Tier 17 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
+        attributeMap.put(ATTR_RECEIVEDTIER18PRICELABEL, new ZclAttributeDefinition(ATTR_RECEIVEDTIER18PRICELABEL, "Received Tier 18 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
+        attributeMap.put(ATTR_RECEIVEDTIER19PRICELABEL, new ZclAttributeDefinition(ATTR_RECEIVEDTIER19PRICELABEL, "Received Tier 19 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
+        attributeMap.put(ATTR_RECEIVEDTIER20PRICELABEL, new ZclAttributeDefinition(ATTR_RECEIVEDTIER20PRICELABEL, "Received Tier 20 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
+        attributeMap.put(ATTR_RECEIVEDTIER21PRICELABEL, new ZclAttributeDefinition(ATTR_RECEIVEDTIER21PRICELABEL, "Received Tier 21 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
+        attributeMap.put(ATTR_RECEIVEDTIER22PRICELABEL, new ZclAttributeDefinition(ATTR_RECEIVEDTIER22PRICELABEL, "Received Tier 22 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
+        attributeMap.put(ATTR_RECEIVEDTIER23PRICELABEL, new ZclAttributeDefinition(ATTR_RECEIVEDTIER23PRICELABEL, "Received Tier 23 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
+        attributeMap.put(ATTR_RECEIVEDTIER24PRICELABEL, new ZclAttributeDefinition(ATTR_RECEIVEDTIER24PRICELABEL, "Received Tier 24 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
+        attributeMap.put(ATTR_RECEIVEDTIER25PRICELABEL, new ZclAttributeDefinition(ATTR_RECEIVEDTIER25PRICELABEL, "Received Tier 25 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
+        attributeMap.put(ATTR_RECEIVEDTIER26PRICELABEL, new ZclAttributeDefinition(ATTR_RECEIVEDTIER26PRICELABEL, "Received Tier 26 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
+        attributeMap.put(ATTR_RECEIVEDTIER27PRICELABEL, new ZclAttributeDefinition(ATTR_RECEIVEDTIER27PRICELABEL, "Received Tier 27 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
+        attributeMap.put(ATTR_RECEIVEDTIER28PRICELABEL, new ZclAttributeDefinition(ATTR_RECEIVEDTIER28PRICELABEL, "Received Tier 28 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
+        attributeMap.put(ATTR_RECEIVEDTIER29PRICELABEL, new ZclAttributeDefinition(ATTR_RECEIVEDTIER29PRICELABEL, "Received Tier 29 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
+        attributeMap.put(ATTR_RECEIVEDTIER30PRICELABEL, new ZclAttributeDefinition(ATTR_RECEIVEDTIER30PRICELABEL, "Received Tier 30 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
+        attributeMap.put(ATTR_RECEIVEDTIER31PRICELABEL, new ZclAttributeDefinition(ATTR_RECEIVEDTIER31PRICELABEL, "Received Tier 31 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
+        attributeMap.put(ATTR_RECEIVEDTIER32PRICELABEL, new ZclAttributeDefinition(ATTR_RECEIVEDTIER32PRICELABEL, "Received Tier 32 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
+        attributeMap.put(ATTR_RECEIVEDTIER33PRICELABEL, new ZclAttributeDefinition(ATTR_RECEIVEDTIER33PRICELABEL, "Received Tier 33 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
+        attributeMap.put(ATTR_RECEIVEDTIER34PRICELABEL, new ZclAttributeDefinition(ATTR_RECEIVEDTIER34PRICELABEL, "Received Tier 34 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
+        attributeMap.put(ATTR_RECEIVEDTIER35PRICELABEL, new ZclAttributeDefinition(ATTR_RECEIVEDTIER35PRICELABEL, "Received Tier 35 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
+        attributeMap.put(ATTR_RECEIVEDTIER36PRICELABEL, new ZclAttributeDefinition(ATTR_RECEIVEDTIER36PRICELABEL, "Received Tier 36 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
+        attributeMap.put(ATTR_RECEIVEDTIER37PRICELABEL, new ZclAttributeDefinition(ATTR_RECEIVEDTIER37PRICELABEL, "Received Tier 37 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
+        attributeMap.put(ATTR_RECEIVEDTIER38PRICELABEL, new ZclAttributeDefinition(ATTR_RECEIVEDTIER38PRICELABEL, "Received Tier 38 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
+        attributeMap.put(ATTR_RECEIVEDTIER39PRICELABEL, new ZclAttributeDefinition(ATTR_RECEIVEDTIER39PRICELABEL, "Received Tier 39 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
+        attributeMap.put(ATTR_RECEIVEDTIER40PRICELABEL, new ZclAttributeDefinition(ATTR_RECEIVEDTIER40PRICELABEL, "Received Tier 40 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
+        attributeMap.put(ATTR_RECEIVEDTIER41PRICELABEL, new ZclAttributeDefinition(ATTR_RECEIVEDTIER41PRICELABEL, "Received Tier 41 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
+        attributeMap.put(ATTR_RECEIVEDTIER42PRICELABEL, new ZclAttributeDefinition(ATTR_RECEIVEDTIER42PRICELABEL, "Received Tier 42 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
+        attributeMap.put(ATTR_RECEIVEDTIER43PRICELABEL, new ZclAttributeDefinition(ATTR_RECEIVEDTIER43PRICELABEL, "Received Tier 43 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
+        attributeMap.put(ATTR_RECEIVEDTIER44PRICELABEL, new ZclAttributeDefinition(ATTR_RECEIVEDTIER44PRICELABEL, "Received Tier 44 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
+        attributeMap.put(ATTR_RECEIVEDTIER45PRICELABEL, new ZclAttributeDefinition(ATTR_RECEIVEDTIER45PRICELABEL, "Received Tier 45 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
+        attributeMap.put(ATTR_RECEIVEDTIER46PRICELABEL, new ZclAttributeDefinition(ATTR_RECEIVEDTIER46PRICELABEL, "Received Tier 46 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
+        attributeMap.put(ATTR_RECEIVEDTIER47PRICELABEL, new ZclAttributeDefinition(ATTR_RECEIVEDTIER47PRICELABEL, "Received Tier 47 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
+        attributeMap.put(ATTR_RECEIVEDTIER48PRICELABEL, new ZclAttributeDefinition(ATTR_RECEIVEDTIER48PRICELABEL, "Received Tier 48 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
+        attributeMap.put(ATTR_RECEIVEDBLOCK1THRESHOLD, new ZclAttributeDefinition(ATTR_RECEIVEDBLOCK1THRESHOLD, "Received Block 1 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDBLOCK2THRESHOLD, new ZclAttributeDefinition(ATTR_RECEIVEDBLOCK2THRESHOLD, "Received Block 2 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDBLOCK3THRESHOLD, new ZclAttributeDefinition(ATTR_RECEIVEDBLOCK3THRESHOLD, "Received Block 3 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDBLOCK4THRESHOLD, new ZclAttributeDefinition(ATTR_RECEIVEDBLOCK4THRESHOLD, "Received Block 4 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDBLOCK5THRESHOLD, new ZclAttributeDefinition(ATTR_RECEIVEDBLOCK5THRESHOLD, "Received Block 5 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDBLOCK6THRESHOLD, new ZclAttributeDefinition(ATTR_RECEIVEDBLOCK6THRESHOLD, "Received Block 6 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDBLOCK7THRESHOLD, new ZclAttributeDefinition(ATTR_RECEIVEDBLOCK7THRESHOLD, "Received Block 7 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDBLOCK8THRESHOLD, new ZclAttributeDefinition(ATTR_RECEIVEDBLOCK8THRESHOLD, "Received Block 8 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDBLOCK9THRESHOLD, new ZclAttributeDefinition(ATTR_RECEIVEDBLOCK9THRESHOLD, "Received Block 9 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDBLOCK10THRESHOLD, new ZclAttributeDefinition(ATTR_RECEIVEDBLOCK10THRESHOLD, "Received Block 10 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDBLOCK11THRESHOLD, new ZclAttributeDefinition(ATTR_RECEIVEDBLOCK11THRESHOLD, "Received Block 11 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDBLOCK12THRESHOLD, new ZclAttributeDefinition(ATTR_RECEIVEDBLOCK12THRESHOLD, "Received Block 12 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDBLOCK13THRESHOLD, new ZclAttributeDefinition(ATTR_RECEIVEDBLOCK13THRESHOLD, "Received Block 13 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDBLOCK14THRESHOLD, new ZclAttributeDefinition(ATTR_RECEIVEDBLOCK14THRESHOLD, "Received Block 14 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDBLOCK15THRESHOLD, new ZclAttributeDefinition(ATTR_RECEIVEDBLOCK15THRESHOLD, "Received Block 15 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDBLOCK16THRESHOLD, new ZclAttributeDefinition(ATTR_RECEIVEDBLOCK16THRESHOLD, "Received Block 16 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDSTARTOFBLOCKPERIOD, new ZclAttributeDefinition(ATTR_RECEIVEDSTARTOFBLOCKPERIOD, "Received Start Of Block Period", ZclDataType.UTCTIME, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDBLOCKPERIODDURATION, new ZclAttributeDefinition(ATTR_RECEIVEDBLOCKPERIODDURATION, "Received Block Period Duration", ZclDataType.UNSIGNED_24_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDTHRESHOLDMULTIPLIER, new ZclAttributeDefinition(ATTR_RECEIVEDTHRESHOLDMULTIPLIER, "Received Threshold Multiplier", ZclDataType.UNSIGNED_24_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDTHRESHOLDDIVISOR, new ZclAttributeDefinition(ATTR_RECEIVEDTHRESHOLDDIVISOR, "Received Threshold Divisor", ZclDataType.UNSIGNED_24_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXNOTIERBLOCK1PRICE, new ZclAttributeDefinition(ATTR_RXNOTIERBLOCK1PRICE, "Rx No Tier Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXNOTIERBLOCK2PRICE, new ZclAttributeDefinition(ATTR_RXNOTIERBLOCK2PRICE, "Rx No Tier Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXNOTIERBLOCK3PRICE, new ZclAttributeDefinition(ATTR_RXNOTIERBLOCK3PRICE, "Rx No Tier Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXNOTIERBLOCK4PRICE, new ZclAttributeDefinition(ATTR_RXNOTIERBLOCK4PRICE, "Rx No Tier Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXNOTIERBLOCK5PRICE, new ZclAttributeDefinition(ATTR_RXNOTIERBLOCK5PRICE, "Rx No Tier Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXNOTIERBLOCK6PRICE, new ZclAttributeDefinition(ATTR_RXNOTIERBLOCK6PRICE, "Rx No Tier Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXNOTIERBLOCK7PRICE, new ZclAttributeDefinition(ATTR_RXNOTIERBLOCK7PRICE, "Rx No Tier Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXNOTIERBLOCK8PRICE, new ZclAttributeDefinition(ATTR_RXNOTIERBLOCK8PRICE, "Rx No Tier Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXNOTIERBLOCK9PRICE, new ZclAttributeDefinition(ATTR_RXNOTIERBLOCK9PRICE, "Rx No Tier Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXNOTIERBLOCK10PRICE, new ZclAttributeDefinition(ATTR_RXNOTIERBLOCK10PRICE, "Rx No Tier Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXNOTIERBLOCK11PRICE, new ZclAttributeDefinition(ATTR_RXNOTIERBLOCK11PRICE, "Rx No Tier Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXNOTIERBLOCK12PRICE, new ZclAttributeDefinition(ATTR_RXNOTIERBLOCK12PRICE, "Rx No Tier Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXNOTIERBLOCK13PRICE, new ZclAttributeDefinition(ATTR_RXNOTIERBLOCK13PRICE, "Rx No Tier Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXNOTIERBLOCK14PRICE, new ZclAttributeDefinition(ATTR_RXNOTIERBLOCK14PRICE, "Rx No Tier Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXNOTIERBLOCK15PRICE, new ZclAttributeDefinition(ATTR_RXNOTIERBLOCK15PRICE, "Rx No Tier Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXNOTIERBLOCK16PRICE, new ZclAttributeDefinition(ATTR_RXNOTIERBLOCK16PRICE, "Rx No Tier Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER1BLOCK1PRICE, new ZclAttributeDefinition(ATTR_RXTIER1BLOCK1PRICE, "Rx Tier 1 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER1BLOCK2PRICE, new ZclAttributeDefinition(ATTR_RXTIER1BLOCK2PRICE, "Rx Tier 1 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER1BLOCK3PRICE, new ZclAttributeDefinition(ATTR_RXTIER1BLOCK3PRICE, "Rx Tier 1 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER1BLOCK4PRICE, new ZclAttributeDefinition(ATTR_RXTIER1BLOCK4PRICE, "Rx Tier 1 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER1BLOCK5PRICE, new ZclAttributeDefinition(ATTR_RXTIER1BLOCK5PRICE, "Rx Tier 1 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER1BLOCK6PRICE, new ZclAttributeDefinition(ATTR_RXTIER1BLOCK6PRICE, "Rx Tier 1 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER1BLOCK7PRICE, new ZclAttributeDefinition(ATTR_RXTIER1BLOCK7PRICE, "Rx Tier 1 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER1BLOCK8PRICE, new ZclAttributeDefinition(ATTR_RXTIER1BLOCK8PRICE, "Rx Tier 1 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER1BLOCK9PRICE, new ZclAttributeDefinition(ATTR_RXTIER1BLOCK9PRICE, "Rx Tier 1 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER1BLOCK10PRICE, new ZclAttributeDefinition(ATTR_RXTIER1BLOCK10PRICE, "Rx Tier 1 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER1BLOCK11PRICE, new ZclAttributeDefinition(ATTR_RXTIER1BLOCK11PRICE, "Rx Tier 1 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER1BLOCK12PRICE, new ZclAttributeDefinition(ATTR_RXTIER1BLOCK12PRICE, "Rx Tier 1 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER1BLOCK13PRICE, new ZclAttributeDefinition(ATTR_RXTIER1BLOCK13PRICE, "Rx Tier 1 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER1BLOCK14PRICE, new ZclAttributeDefinition(ATTR_RXTIER1BLOCK14PRICE, "Rx Tier 1 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER1BLOCK15PRICE, new ZclAttributeDefinition(ATTR_RXTIER1BLOCK15PRICE, "Rx Tier 1 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER1BLOCK16PRICE, new ZclAttributeDefinition(ATTR_RXTIER1BLOCK16PRICE, "Rx Tier 1 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER2BLOCK1PRICE, new ZclAttributeDefinition(ATTR_RXTIER2BLOCK1PRICE, "Rx Tier 2 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER2BLOCK2PRICE, new ZclAttributeDefinition(ATTR_RXTIER2BLOCK2PRICE, "Rx Tier 2 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER2BLOCK3PRICE, new ZclAttributeDefinition(ATTR_RXTIER2BLOCK3PRICE, "Rx Tier 2 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER2BLOCK4PRICE, new ZclAttributeDefinition(ATTR_RXTIER2BLOCK4PRICE, "Rx Tier 2 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER2BLOCK5PRICE, new ZclAttributeDefinition(ATTR_RXTIER2BLOCK5PRICE, "Rx Tier 2 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER2BLOCK6PRICE, new ZclAttributeDefinition(ATTR_RXTIER2BLOCK6PRICE, "Rx Tier 2 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER2BLOCK7PRICE, new ZclAttributeDefinition(ATTR_RXTIER2BLOCK7PRICE, "Rx Tier 2 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER2BLOCK8PRICE, new ZclAttributeDefinition(ATTR_RXTIER2BLOCK8PRICE, "Rx Tier 2 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER2BLOCK9PRICE, new ZclAttributeDefinition(ATTR_RXTIER2BLOCK9PRICE, "Rx Tier 2 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER2BLOCK10PRICE, new ZclAttributeDefinition(ATTR_RXTIER2BLOCK10PRICE, "Rx Tier 2 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER2BLOCK11PRICE, new ZclAttributeDefinition(ATTR_RXTIER2BLOCK11PRICE, "Rx Tier 2 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER2BLOCK12PRICE, new ZclAttributeDefinition(ATTR_RXTIER2BLOCK12PRICE, "Rx Tier 2 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER2BLOCK13PRICE, new ZclAttributeDefinition(ATTR_RXTIER2BLOCK13PRICE, "Rx Tier 2 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER2BLOCK14PRICE, new ZclAttributeDefinition(ATTR_RXTIER2BLOCK14PRICE, "Rx Tier 2 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER2BLOCK15PRICE, new ZclAttributeDefinition(ATTR_RXTIER2BLOCK15PRICE, "Rx Tier 2 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER2BLOCK16PRICE, new ZclAttributeDefinition(ATTR_RXTIER2BLOCK16PRICE, "Rx Tier 2 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER3BLOCK1PRICE, new ZclAttributeDefinition(ATTR_RXTIER3BLOCK1PRICE, "Rx Tier 3 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER3BLOCK2PRICE, new ZclAttributeDefinition(ATTR_RXTIER3BLOCK2PRICE, "Rx Tier 3 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER3BLOCK3PRICE, new ZclAttributeDefinition(ATTR_RXTIER3BLOCK3PRICE, "Rx Tier 3 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER3BLOCK4PRICE, new ZclAttributeDefinition(ATTR_RXTIER3BLOCK4PRICE, "Rx Tier 3 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER3BLOCK5PRICE, new ZclAttributeDefinition(ATTR_RXTIER3BLOCK5PRICE, "Rx Tier 3 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER3BLOCK6PRICE, new ZclAttributeDefinition(ATTR_RXTIER3BLOCK6PRICE, "Rx Tier 3 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER3BLOCK7PRICE, new ZclAttributeDefinition(ATTR_RXTIER3BLOCK7PRICE, "Rx Tier 3 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER3BLOCK8PRICE, new ZclAttributeDefinition(ATTR_RXTIER3BLOCK8PRICE, "Rx Tier 3 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER3BLOCK9PRICE, new ZclAttributeDefinition(ATTR_RXTIER3BLOCK9PRICE, "Rx Tier 3 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER3BLOCK10PRICE, new ZclAttributeDefinition(ATTR_RXTIER3BLOCK10PRICE, "Rx Tier 3 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER3BLOCK11PRICE, new ZclAttributeDefinition(ATTR_RXTIER3BLOCK11PRICE, "Rx Tier 3 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER3BLOCK12PRICE, new ZclAttributeDefinition(ATTR_RXTIER3BLOCK12PRICE, "Rx Tier 3 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER3BLOCK13PRICE, new ZclAttributeDefinition(ATTR_RXTIER3BLOCK13PRICE, "Rx Tier 3 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER3BLOCK14PRICE, new ZclAttributeDefinition(ATTR_RXTIER3BLOCK14PRICE, "Rx Tier 3 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER3BLOCK15PRICE, new ZclAttributeDefinition(ATTR_RXTIER3BLOCK15PRICE, "Rx Tier 3 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER3BLOCK16PRICE, new ZclAttributeDefinition(ATTR_RXTIER3BLOCK16PRICE, "Rx Tier 3 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER4BLOCK1PRICE, new ZclAttributeDefinition(ATTR_RXTIER4BLOCK1PRICE, "Rx Tier 4 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER4BLOCK2PRICE, new ZclAttributeDefinition(ATTR_RXTIER4BLOCK2PRICE, "Rx Tier 4 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER4BLOCK3PRICE, new ZclAttributeDefinition(ATTR_RXTIER4BLOCK3PRICE, "Rx Tier 4 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER4BLOCK4PRICE, new ZclAttributeDefinition(ATTR_RXTIER4BLOCK4PRICE, "Rx Tier 4 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER4BLOCK5PRICE, new ZclAttributeDefinition(ATTR_RXTIER4BLOCK5PRICE, "Rx Tier 4 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER4BLOCK6PRICE, new ZclAttributeDefinition(ATTR_RXTIER4BLOCK6PRICE, "Rx Tier 4 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER4BLOCK7PRICE, new ZclAttributeDefinition(ATTR_RXTIER4BLOCK7PRICE, "Rx Tier 4 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER4BLOCK8PRICE, new ZclAttributeDefinition(ATTR_RXTIER4BLOCK8PRICE, "Rx Tier 4 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER4BLOCK9PRICE, new ZclAttributeDefinition(ATTR_RXTIER4BLOCK9PRICE, "Rx Tier 4 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER4BLOCK10PRICE, new ZclAttributeDefinition(ATTR_RXTIER4BLOCK10PRICE, "Rx Tier 4 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER4BLOCK11PRICE, new ZclAttributeDefinition(ATTR_RXTIER4BLOCK11PRICE, "Rx Tier 4 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER4BLOCK12PRICE, new ZclAttributeDefinition(ATTR_RXTIER4BLOCK12PRICE, "Rx Tier 4 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER4BLOCK13PRICE, new ZclAttributeDefinition(ATTR_RXTIER4BLOCK13PRICE, "Rx Tier 4 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER4BLOCK14PRICE, new ZclAttributeDefinition(ATTR_RXTIER4BLOCK14PRICE, "Rx Tier 4 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER4BLOCK15PRICE, new ZclAttributeDefinition(ATTR_RXTIER4BLOCK15PRICE, "Rx Tier 4 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER4BLOCK16PRICE, new ZclAttributeDefinition(ATTR_RXTIER4BLOCK16PRICE, "Rx Tier 4 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER5BLOCK1PRICE, new ZclAttributeDefinition(ATTR_RXTIER5BLOCK1PRICE, "Rx Tier 5 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER5BLOCK2PRICE, new ZclAttributeDefinition(ATTR_RXTIER5BLOCK2PRICE, "Rx Tier 5 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER5BLOCK3PRICE, new ZclAttributeDefinition(ATTR_RXTIER5BLOCK3PRICE, "Rx Tier 5 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER5BLOCK4PRICE, new ZclAttributeDefinition(ATTR_RXTIER5BLOCK4PRICE, "Rx Tier 5 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER5BLOCK5PRICE, new ZclAttributeDefinition(ATTR_RXTIER5BLOCK5PRICE, "Rx Tier 5 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER5BLOCK6PRICE, new ZclAttributeDefinition(ATTR_RXTIER5BLOCK6PRICE, "Rx Tier 5 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER5BLOCK7PRICE, new ZclAttributeDefinition(ATTR_RXTIER5BLOCK7PRICE, "Rx Tier 5 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER5BLOCK8PRICE, new ZclAttributeDefinition(ATTR_RXTIER5BLOCK8PRICE, "Rx Tier 5 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER5BLOCK9PRICE, new ZclAttributeDefinition(ATTR_RXTIER5BLOCK9PRICE, "Rx Tier 5 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER5BLOCK10PRICE, new ZclAttributeDefinition(ATTR_RXTIER5BLOCK10PRICE, "Rx Tier 5 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER5BLOCK11PRICE, new ZclAttributeDefinition(ATTR_RXTIER5BLOCK11PRICE, "Rx Tier 5 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER5BLOCK12PRICE, new ZclAttributeDefinition(ATTR_RXTIER5BLOCK12PRICE, "Rx Tier 5 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER5BLOCK13PRICE, new ZclAttributeDefinition(ATTR_RXTIER5BLOCK13PRICE, "Rx Tier 5 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER5BLOCK14PRICE, new ZclAttributeDefinition(ATTR_RXTIER5BLOCK14PRICE, "Rx Tier 5 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER5BLOCK15PRICE, new ZclAttributeDefinition(ATTR_RXTIER5BLOCK15PRICE, "Rx Tier 5 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER5BLOCK16PRICE, new ZclAttributeDefinition(ATTR_RXTIER5BLOCK16PRICE, "Rx Tier 5 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER6BLOCK1PRICE, new ZclAttributeDefinition(ATTR_RXTIER6BLOCK1PRICE, "Rx Tier 6 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER6BLOCK2PRICE, new ZclAttributeDefinition(ATTR_RXTIER6BLOCK2PRICE, "Rx Tier 6 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER6BLOCK3PRICE, new ZclAttributeDefinition(ATTR_RXTIER6BLOCK3PRICE, "Rx Tier 6 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER6BLOCK4PRICE, new ZclAttributeDefinition(ATTR_RXTIER6BLOCK4PRICE, "Rx Tier 6 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER6BLOCK5PRICE, new ZclAttributeDefinition(ATTR_RXTIER6BLOCK5PRICE, "Rx Tier 6 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER6BLOCK6PRICE, new ZclAttributeDefinition(ATTR_RXTIER6BLOCK6PRICE, "Rx Tier 6 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER6BLOCK7PRICE, new ZclAttributeDefinition(ATTR_RXTIER6BLOCK7PRICE, "Rx Tier 6 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER6BLOCK8PRICE, new ZclAttributeDefinition(ATTR_RXTIER6BLOCK8PRICE, "Rx Tier 6 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER6BLOCK9PRICE, new ZclAttributeDefinition(ATTR_RXTIER6BLOCK9PRICE, "Rx Tier 6 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER6BLOCK10PRICE, new ZclAttributeDefinition(ATTR_RXTIER6BLOCK10PRICE, "Rx Tier 6 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER6BLOCK11PRICE, new ZclAttributeDefinition(ATTR_RXTIER6BLOCK11PRICE, "Rx Tier 6 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER6BLOCK12PRICE, new ZclAttributeDefinition(ATTR_RXTIER6BLOCK12PRICE, "Rx Tier 6 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER6BLOCK13PRICE, new ZclAttributeDefinition(ATTR_RXTIER6BLOCK13PRICE, "Rx Tier 6 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER6BLOCK14PRICE, new ZclAttributeDefinition(ATTR_RXTIER6BLOCK14PRICE, "Rx Tier 6 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER6BLOCK15PRICE, new ZclAttributeDefinition(ATTR_RXTIER6BLOCK15PRICE, "Rx Tier 6 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER6BLOCK16PRICE, new ZclAttributeDefinition(ATTR_RXTIER6BLOCK16PRICE, "Rx Tier 6 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER7BLOCK1PRICE, new ZclAttributeDefinition(ATTR_RXTIER7BLOCK1PRICE, "Rx Tier 7 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER7BLOCK2PRICE, new ZclAttributeDefinition(ATTR_RXTIER7BLOCK2PRICE, "Rx Tier 7 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER7BLOCK3PRICE, new ZclAttributeDefinition(ATTR_RXTIER7BLOCK3PRICE, "Rx Tier 7 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER7BLOCK4PRICE, new ZclAttributeDefinition(ATTR_RXTIER7BLOCK4PRICE, "Rx Tier 7 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER7BLOCK5PRICE, new ZclAttributeDefinition(ATTR_RXTIER7BLOCK5PRICE, "Rx Tier 7 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER7BLOCK6PRICE, new ZclAttributeDefinition(ATTR_RXTIER7BLOCK6PRICE, "Rx Tier 7 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER7BLOCK7PRICE, new ZclAttributeDefinition(ATTR_RXTIER7BLOCK7PRICE, "Rx Tier 7 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER7BLOCK8PRICE, new ZclAttributeDefinition(ATTR_RXTIER7BLOCK8PRICE, "Rx Tier 7 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER7BLOCK9PRICE, new ZclAttributeDefinition(ATTR_RXTIER7BLOCK9PRICE, "Rx Tier 7 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER7BLOCK10PRICE, new ZclAttributeDefinition(ATTR_RXTIER7BLOCK10PRICE, "Rx Tier 7 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER7BLOCK11PRICE, new ZclAttributeDefinition(ATTR_RXTIER7BLOCK11PRICE, "Rx Tier 7 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER7BLOCK12PRICE, new ZclAttributeDefinition(ATTR_RXTIER7BLOCK12PRICE, "Rx Tier 7 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER7BLOCK13PRICE, new ZclAttributeDefinition(ATTR_RXTIER7BLOCK13PRICE, "Rx Tier 7 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER7BLOCK14PRICE, new ZclAttributeDefinition(ATTR_RXTIER7BLOCK14PRICE, "Rx Tier 7 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER7BLOCK15PRICE, new ZclAttributeDefinition(ATTR_RXTIER7BLOCK15PRICE, "Rx Tier 7 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER7BLOCK16PRICE, new ZclAttributeDefinition(ATTR_RXTIER7BLOCK16PRICE, "Rx Tier 7 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER8BLOCK1PRICE, new ZclAttributeDefinition(ATTR_RXTIER8BLOCK1PRICE, "Rx Tier 8 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER8BLOCK2PRICE, new ZclAttributeDefinition(ATTR_RXTIER8BLOCK2PRICE, "Rx Tier 8 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER8BLOCK3PRICE, new ZclAttributeDefinition(ATTR_RXTIER8BLOCK3PRICE, "Rx Tier 8 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER8BLOCK4PRICE, new ZclAttributeDefinition(ATTR_RXTIER8BLOCK4PRICE, "Rx Tier 8 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER8BLOCK5PRICE, new ZclAttributeDefinition(ATTR_RXTIER8BLOCK5PRICE, "Rx Tier 8 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER8BLOCK6PRICE, new ZclAttributeDefinition(ATTR_RXTIER8BLOCK6PRICE, "Rx Tier 8 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER8BLOCK7PRICE, new ZclAttributeDefinition(ATTR_RXTIER8BLOCK7PRICE, "Rx Tier 8 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER8BLOCK8PRICE, new ZclAttributeDefinition(ATTR_RXTIER8BLOCK8PRICE, "Rx Tier 8 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER8BLOCK9PRICE, new ZclAttributeDefinition(ATTR_RXTIER8BLOCK9PRICE, "Rx Tier 8 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER8BLOCK10PRICE, new ZclAttributeDefinition(ATTR_RXTIER8BLOCK10PRICE, "Rx Tier 8 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER8BLOCK11PRICE, new ZclAttributeDefinition(ATTR_RXTIER8BLOCK11PRICE, "Rx Tier 8 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER8BLOCK12PRICE, new ZclAttributeDefinition(ATTR_RXTIER8BLOCK12PRICE, "Rx Tier 8 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER8BLOCK13PRICE, new ZclAttributeDefinition(ATTR_RXTIER8BLOCK13PRICE, "Rx Tier 8 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER8BLOCK14PRICE, new ZclAttributeDefinition(ATTR_RXTIER8BLOCK14PRICE, "Rx Tier 8 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER8BLOCK15PRICE, new ZclAttributeDefinition(ATTR_RXTIER8BLOCK15PRICE, "Rx Tier 8 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER8BLOCK16PRICE, new ZclAttributeDefinition(ATTR_RXTIER8BLOCK16PRICE, "Rx Tier 8 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER9BLOCK1PRICE, new ZclAttributeDefinition(ATTR_RXTIER9BLOCK1PRICE, "Rx Tier 9 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER9BLOCK2PRICE, new ZclAttributeDefinition(ATTR_RXTIER9BLOCK2PRICE, "Rx Tier 9 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER9BLOCK3PRICE, new ZclAttributeDefinition(ATTR_RXTIER9BLOCK3PRICE, "Rx Tier 9 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER9BLOCK4PRICE, new ZclAttributeDefinition(ATTR_RXTIER9BLOCK4PRICE, "Rx Tier 9 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER9BLOCK5PRICE, new ZclAttributeDefinition(ATTR_RXTIER9BLOCK5PRICE, "Rx Tier 9 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER9BLOCK6PRICE, new ZclAttributeDefinition(ATTR_RXTIER9BLOCK6PRICE, "Rx Tier 9 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER9BLOCK7PRICE, new ZclAttributeDefinition(ATTR_RXTIER9BLOCK7PRICE, "Rx Tier 9 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER9BLOCK8PRICE, new ZclAttributeDefinition(ATTR_RXTIER9BLOCK8PRICE, "Rx Tier 9 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER9BLOCK9PRICE, new ZclAttributeDefinition(ATTR_RXTIER9BLOCK9PRICE, "Rx Tier 9 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER9BLOCK10PRICE, new ZclAttributeDefinition(ATTR_RXTIER9BLOCK10PRICE, "Rx Tier 9 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER9BLOCK11PRICE, new ZclAttributeDefinition(ATTR_RXTIER9BLOCK11PRICE, "Rx Tier 9 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER9BLOCK12PRICE, new ZclAttributeDefinition(ATTR_RXTIER9BLOCK12PRICE, "Rx Tier 9 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER9BLOCK13PRICE, new ZclAttributeDefinition(ATTR_RXTIER9BLOCK13PRICE, "Rx Tier 9 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER9BLOCK14PRICE, new ZclAttributeDefinition(ATTR_RXTIER9BLOCK14PRICE, "Rx Tier 9 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER9BLOCK15PRICE, new ZclAttributeDefinition(ATTR_RXTIER9BLOCK15PRICE, "Rx Tier 9 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER9BLOCK16PRICE, new ZclAttributeDefinition(ATTR_RXTIER9BLOCK16PRICE, "Rx Tier 9 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER10BLOCK1PRICE, new ZclAttributeDefinition(ATTR_RXTIER10BLOCK1PRICE, "Rx Tier 10 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER10BLOCK2PRICE, new ZclAttributeDefinition(ATTR_RXTIER10BLOCK2PRICE, "Rx Tier 10 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER10BLOCK3PRICE, new ZclAttributeDefinition(ATTR_RXTIER10BLOCK3PRICE, "Rx Tier 10 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER10BLOCK4PRICE, new ZclAttributeDefinition(ATTR_RXTIER10BLOCK4PRICE, "Rx Tier 10 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER10BLOCK5PRICE, new ZclAttributeDefinition(ATTR_RXTIER10BLOCK5PRICE, "Rx Tier 10 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER10BLOCK6PRICE, new ZclAttributeDefinition(ATTR_RXTIER10BLOCK6PRICE, "Rx Tier 10 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER10BLOCK7PRICE, new ZclAttributeDefinition(ATTR_RXTIER10BLOCK7PRICE, "Rx Tier 10 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER10BLOCK8PRICE, new ZclAttributeDefinition(ATTR_RXTIER10BLOCK8PRICE, "Rx Tier 10 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER10BLOCK9PRICE, new ZclAttributeDefinition(ATTR_RXTIER10BLOCK9PRICE, "Rx Tier 10 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER10BLOCK10PRICE, new ZclAttributeDefinition(ATTR_RXTIER10BLOCK10PRICE, "Rx Tier 10 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER10BLOCK11PRICE, new ZclAttributeDefinition(ATTR_RXTIER10BLOCK11PRICE, "Rx Tier 10 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER10BLOCK12PRICE, new ZclAttributeDefinition(ATTR_RXTIER10BLOCK12PRICE, "Rx Tier 10 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER10BLOCK13PRICE, new ZclAttributeDefinition(ATTR_RXTIER10BLOCK13PRICE, "Rx Tier 10 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER10BLOCK14PRICE, new ZclAttributeDefinition(ATTR_RXTIER10BLOCK14PRICE, "Rx Tier 10 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER10BLOCK15PRICE, new ZclAttributeDefinition(ATTR_RXTIER10BLOCK15PRICE, "Rx Tier 10 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER10BLOCK16PRICE, new ZclAttributeDefinition(ATTR_RXTIER10BLOCK16PRICE, "Rx Tier 10 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER11BLOCK1PRICE, new ZclAttributeDefinition(ATTR_RXTIER11BLOCK1PRICE, "Rx Tier 11 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER11BLOCK2PRICE, new ZclAttributeDefinition(ATTR_RXTIER11BLOCK2PRICE, "Rx Tier 11 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER11BLOCK3PRICE, new ZclAttributeDefinition(ATTR_RXTIER11BLOCK3PRICE, "Rx Tier 11 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER11BLOCK4PRICE, new ZclAttributeDefinition(ATTR_RXTIER11BLOCK4PRICE, "Rx Tier 11 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER11BLOCK5PRICE, new ZclAttributeDefinition(ATTR_RXTIER11BLOCK5PRICE, "Rx Tier 11 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER11BLOCK6PRICE, new ZclAttributeDefinition(ATTR_RXTIER11BLOCK6PRICE, "Rx Tier 11 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER11BLOCK7PRICE, new ZclAttributeDefinition(ATTR_RXTIER11BLOCK7PRICE, "Rx Tier 11 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER11BLOCK8PRICE, new ZclAttributeDefinition(ATTR_RXTIER11BLOCK8PRICE, "Rx Tier 11 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER11BLOCK9PRICE, new ZclAttributeDefinition(ATTR_RXTIER11BLOCK9PRICE, "Rx Tier 11 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER11BLOCK10PRICE, new ZclAttributeDefinition(ATTR_RXTIER11BLOCK10PRICE, "Rx Tier 11 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER11BLOCK11PRICE, new ZclAttributeDefinition(ATTR_RXTIER11BLOCK11PRICE, "Rx Tier 11 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER11BLOCK12PRICE, new ZclAttributeDefinition(ATTR_RXTIER11BLOCK12PRICE, "Rx Tier 11 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER11BLOCK13PRICE, new ZclAttributeDefinition(ATTR_RXTIER11BLOCK13PRICE, "Rx Tier 11 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER11BLOCK14PRICE, new ZclAttributeDefinition(ATTR_RXTIER11BLOCK14PRICE, "Rx Tier 11 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER11BLOCK15PRICE, new ZclAttributeDefinition(ATTR_RXTIER11BLOCK15PRICE, "Rx Tier 11 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER11BLOCK16PRICE, new ZclAttributeDefinition(ATTR_RXTIER11BLOCK16PRICE, "Rx Tier 11 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER12BLOCK1PRICE, new ZclAttributeDefinition(ATTR_RXTIER12BLOCK1PRICE, "Rx Tier 12 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER12BLOCK2PRICE, new ZclAttributeDefinition(ATTR_RXTIER12BLOCK2PRICE, "Rx Tier 12 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER12BLOCK3PRICE, new ZclAttributeDefinition(ATTR_RXTIER12BLOCK3PRICE, "Rx Tier 12 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER12BLOCK4PRICE, new ZclAttributeDefinition(ATTR_RXTIER12BLOCK4PRICE, "Rx Tier 12 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER12BLOCK5PRICE, new ZclAttributeDefinition(ATTR_RXTIER12BLOCK5PRICE, "Rx Tier 12 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER12BLOCK6PRICE, new ZclAttributeDefinition(ATTR_RXTIER12BLOCK6PRICE, "Rx Tier 12 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER12BLOCK7PRICE, new ZclAttributeDefinition(ATTR_RXTIER12BLOCK7PRICE, "Rx Tier 12 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER12BLOCK8PRICE, new ZclAttributeDefinition(ATTR_RXTIER12BLOCK8PRICE, "Rx Tier 12 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER12BLOCK9PRICE, new ZclAttributeDefinition(ATTR_RXTIER12BLOCK9PRICE, "Rx Tier 12 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER12BLOCK10PRICE, new ZclAttributeDefinition(ATTR_RXTIER12BLOCK10PRICE, "Rx Tier 12 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER12BLOCK11PRICE, new ZclAttributeDefinition(ATTR_RXTIER12BLOCK11PRICE, "Rx Tier 12 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER12BLOCK12PRICE, new ZclAttributeDefinition(ATTR_RXTIER12BLOCK12PRICE, "Rx Tier 12 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER12BLOCK13PRICE, new ZclAttributeDefinition(ATTR_RXTIER12BLOCK13PRICE, "Rx Tier 12 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER12BLOCK14PRICE, new ZclAttributeDefinition(ATTR_RXTIER12BLOCK14PRICE, "Rx Tier 12 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER12BLOCK15PRICE, new ZclAttributeDefinition(ATTR_RXTIER12BLOCK15PRICE, "Rx Tier 12 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER12BLOCK16PRICE, new ZclAttributeDefinition(ATTR_RXTIER12BLOCK16PRICE, "Rx Tier 12 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER13BLOCK1PRICE, new ZclAttributeDefinition(ATTR_RXTIER13BLOCK1PRICE, "Rx Tier 13 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER13BLOCK2PRICE, new ZclAttributeDefinition(ATTR_RXTIER13BLOCK2PRICE, "Rx Tier 13 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER13BLOCK3PRICE, new ZclAttributeDefinition(ATTR_RXTIER13BLOCK3PRICE, "Rx Tier 13 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER13BLOCK4PRICE, new ZclAttributeDefinition(ATTR_RXTIER13BLOCK4PRICE, "Rx Tier 13 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER13BLOCK5PRICE, new ZclAttributeDefinition(ATTR_RXTIER13BLOCK5PRICE, "Rx Tier 13 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER13BLOCK6PRICE, new ZclAttributeDefinition(ATTR_RXTIER13BLOCK6PRICE, "Rx Tier 13 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER13BLOCK7PRICE, new ZclAttributeDefinition(ATTR_RXTIER13BLOCK7PRICE, "Rx Tier 13 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER13BLOCK8PRICE, new ZclAttributeDefinition(ATTR_RXTIER13BLOCK8PRICE, "Rx Tier 13 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER13BLOCK9PRICE, new ZclAttributeDefinition(ATTR_RXTIER13BLOCK9PRICE, "Rx Tier 13 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER13BLOCK10PRICE, new ZclAttributeDefinition(ATTR_RXTIER13BLOCK10PRICE, "Rx Tier 13 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER13BLOCK11PRICE, new ZclAttributeDefinition(ATTR_RXTIER13BLOCK11PRICE, "Rx Tier 13 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER13BLOCK12PRICE, new ZclAttributeDefinition(ATTR_RXTIER13BLOCK12PRICE, "Rx Tier 13 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER13BLOCK13PRICE, new ZclAttributeDefinition(ATTR_RXTIER13BLOCK13PRICE, "Rx Tier 13 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER13BLOCK14PRICE, new ZclAttributeDefinition(ATTR_RXTIER13BLOCK14PRICE, "Rx Tier 13 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER13BLOCK15PRICE, new ZclAttributeDefinition(ATTR_RXTIER13BLOCK15PRICE, "Rx Tier 13 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER13BLOCK16PRICE, new ZclAttributeDefinition(ATTR_RXTIER13BLOCK16PRICE, "Rx Tier 13 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER14BLOCK1PRICE, new ZclAttributeDefinition(ATTR_RXTIER14BLOCK1PRICE, "Rx Tier 14 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER14BLOCK2PRICE, new ZclAttributeDefinition(ATTR_RXTIER14BLOCK2PRICE, "Rx Tier 14 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER14BLOCK3PRICE, new ZclAttributeDefinition(ATTR_RXTIER14BLOCK3PRICE, "Rx Tier 14 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER14BLOCK4PRICE, new ZclAttributeDefinition(ATTR_RXTIER14BLOCK4PRICE, "Rx Tier 14 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER14BLOCK5PRICE, new ZclAttributeDefinition(ATTR_RXTIER14BLOCK5PRICE, "Rx Tier 14 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER14BLOCK6PRICE, new ZclAttributeDefinition(ATTR_RXTIER14BLOCK6PRICE, "Rx Tier 14 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER14BLOCK7PRICE, new ZclAttributeDefinition(ATTR_RXTIER14BLOCK7PRICE, "Rx Tier 14 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER14BLOCK8PRICE, new ZclAttributeDefinition(ATTR_RXTIER14BLOCK8PRICE, "Rx Tier 14 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER14BLOCK9PRICE, new ZclAttributeDefinition(ATTR_RXTIER14BLOCK9PRICE, "Rx Tier 14 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER14BLOCK10PRICE, new ZclAttributeDefinition(ATTR_RXTIER14BLOCK10PRICE, "Rx Tier 14 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER14BLOCK11PRICE, new ZclAttributeDefinition(ATTR_RXTIER14BLOCK11PRICE, "Rx Tier 14 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER14BLOCK12PRICE, new ZclAttributeDefinition(ATTR_RXTIER14BLOCK12PRICE, "Rx Tier 14 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER14BLOCK13PRICE, new ZclAttributeDefinition(ATTR_RXTIER14BLOCK13PRICE, "Rx Tier 14 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER14BLOCK14PRICE, new ZclAttributeDefinition(ATTR_RXTIER14BLOCK14PRICE, "Rx Tier 14 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER14BLOCK15PRICE, new ZclAttributeDefinition(ATTR_RXTIER14BLOCK15PRICE, "Rx Tier 14 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER14BLOCK16PRICE, new ZclAttributeDefinition(ATTR_RXTIER14BLOCK16PRICE, "Rx Tier 14 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER15BLOCK1PRICE, new ZclAttributeDefinition(ATTR_RXTIER15BLOCK1PRICE, "Rx Tier 15 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER15BLOCK2PRICE, new ZclAttributeDefinition(ATTR_RXTIER15BLOCK2PRICE, "Rx Tier 15 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER15BLOCK3PRICE, new ZclAttributeDefinition(ATTR_RXTIER15BLOCK3PRICE, "Rx Tier 15 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER15BLOCK4PRICE, new ZclAttributeDefinition(ATTR_RXTIER15BLOCK4PRICE, "Rx Tier 15 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER15BLOCK5PRICE, new ZclAttributeDefinition(ATTR_RXTIER15BLOCK5PRICE, "Rx Tier 15 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER15BLOCK6PRICE, new ZclAttributeDefinition(ATTR_RXTIER15BLOCK6PRICE, "Rx Tier 15 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER15BLOCK7PRICE, new ZclAttributeDefinition(ATTR_RXTIER15BLOCK7PRICE, "Rx Tier 15 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER15BLOCK8PRICE, new ZclAttributeDefinition(ATTR_RXTIER15BLOCK8PRICE, "Rx Tier 15 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER15BLOCK9PRICE, new ZclAttributeDefinition(ATTR_RXTIER15BLOCK9PRICE, "Rx Tier 15 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER15BLOCK10PRICE, new ZclAttributeDefinition(ATTR_RXTIER15BLOCK10PRICE, "Rx Tier 15 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER15BLOCK11PRICE, new ZclAttributeDefinition(ATTR_RXTIER15BLOCK11PRICE, "Rx Tier 15 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER15BLOCK12PRICE, new ZclAttributeDefinition(ATTR_RXTIER15BLOCK12PRICE, "Rx Tier 15 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER15BLOCK13PRICE, new ZclAttributeDefinition(ATTR_RXTIER15BLOCK13PRICE, "Rx Tier 15 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER15BLOCK14PRICE, new ZclAttributeDefinition(ATTR_RXTIER15BLOCK14PRICE, "Rx Tier 15 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER15BLOCK15PRICE, new ZclAttributeDefinition(ATTR_RXTIER15BLOCK15PRICE, "Rx Tier 15 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER15BLOCK16PRICE, new ZclAttributeDefinition(ATTR_RXTIER15BLOCK16PRICE, "Rx Tier 15 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDPRICETIER16, new ZclAttributeDefinition(ATTR_RECEIVEDPRICETIER16, "Received Price Tier 16", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDPRICETIER17, new ZclAttributeDefinition(ATTR_RECEIVEDPRICETIER17, "Received Price Tier 17", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDPRICETIER18, new ZclAttributeDefinition(ATTR_RECEIVEDPRICETIER18, "Received Price Tier 18", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDPRICETIER19, new ZclAttributeDefinition(ATTR_RECEIVEDPRICETIER19, "Received Price Tier 19", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDPRICETIER20, new ZclAttributeDefinition(ATTR_RECEIVEDPRICETIER20, "Received Price Tier 20", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDPRICETIER21, new ZclAttributeDefinition(ATTR_RECEIVEDPRICETIER21, "Received Price Tier 21", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDPRICETIER22, new ZclAttributeDefinition(ATTR_RECEIVEDPRICETIER22, "Received Price Tier 22", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDPRICETIER23, new ZclAttributeDefinition(ATTR_RECEIVEDPRICETIER23, "Received Price Tier 23", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDPRICETIER24, new ZclAttributeDefinition(ATTR_RECEIVEDPRICETIER24, "Received Price Tier 24", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDPRICETIER25, new ZclAttributeDefinition(ATTR_RECEIVEDPRICETIER25, "Received Price Tier 25", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDPRICETIER26, new ZclAttributeDefinition(ATTR_RECEIVEDPRICETIER26, "Received Price Tier 26", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDPRICETIER27, new ZclAttributeDefinition(ATTR_RECEIVEDPRICETIER27, "Received Price Tier 27", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDPRICETIER28, new ZclAttributeDefinition(ATTR_RECEIVEDPRICETIER28, "Received Price Tier 28", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDPRICETIER29, new ZclAttributeDefinition(ATTR_RECEIVEDPRICETIER29, "Received Price Tier 29", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDPRICETIER30, new ZclAttributeDefinition(ATTR_RECEIVEDPRICETIER30, "Received Price Tier 30", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDPRICETIER31, new ZclAttributeDefinition(ATTR_RECEIVEDPRICETIER31, "Received Price Tier 31", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDPRICETIER32, new ZclAttributeDefinition(ATTR_RECEIVEDPRICETIER32, "Received Price Tier 32", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDPRICETIER33, new ZclAttributeDefinition(ATTR_RECEIVEDPRICETIER33, "Received Price Tier 33", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDPRICETIER34, new ZclAttributeDefinition(ATTR_RECEIVEDPRICETIER34, "Received Price Tier 34", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDPRICETIER35, new ZclAttributeDefinition(ATTR_RECEIVEDPRICETIER35, "Received Price Tier 35", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDPRICETIER36, new ZclAttributeDefinition(ATTR_RECEIVEDPRICETIER36, "Received Price Tier 36", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDPRICETIER37, new ZclAttributeDefinition(ATTR_RECEIVEDPRICETIER37, "Received Price Tier 37", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDPRICETIER38, new ZclAttributeDefinition(ATTR_RECEIVEDPRICETIER38, "Received Price Tier 38", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDPRICETIER39, new ZclAttributeDefinition(ATTR_RECEIVEDPRICETIER39, "Received Price Tier 39", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDPRICETIER40, new ZclAttributeDefinition(ATTR_RECEIVEDPRICETIER40, "Received Price Tier 40", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDPRICETIER41, new ZclAttributeDefinition(ATTR_RECEIVEDPRICETIER41, "Received Price Tier 41", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDPRICETIER42, new ZclAttributeDefinition(ATTR_RECEIVEDPRICETIER42, "Received Price Tier 42", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDPRICETIER43, new ZclAttributeDefinition(ATTR_RECEIVEDPRICETIER43, "Received Price Tier 43", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDPRICETIER44, new ZclAttributeDefinition(ATTR_RECEIVEDPRICETIER44, "Received Price Tier 44", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDPRICETIER45, new ZclAttributeDefinition(ATTR_RECEIVEDPRICETIER45, "Received Price Tier 45", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDPRICETIER46, new ZclAttributeDefinition(ATTR_RECEIVEDPRICETIER46, "Received Price Tier 46", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDPRICETIER47, new ZclAttributeDefinition(ATTR_RECEIVEDPRICETIER47, "Received Price Tier 47", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDPRICETIER48, new ZclAttributeDefinition(ATTR_RECEIVEDPRICETIER48, "Received Price Tier 48", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDPRICETIER49, new ZclAttributeDefinition(ATTR_RECEIVEDPRICETIER49, "Received Price Tier 49", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDPRICETIER50, new ZclAttributeDefinition(ATTR_RECEIVEDPRICETIER50, "Received Price Tier 50", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDPRICETIER51, new ZclAttributeDefinition(ATTR_RECEIVEDPRICETIER51, "Received Price Tier 51", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDPRICETIER52, new ZclAttributeDefinition(ATTR_RECEIVEDPRICETIER52, "Received Price Tier 52", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDPRICETIER53, new ZclAttributeDefinition(ATTR_RECEIVEDPRICETIER53, "Received Price Tier 53", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDPRICETIER54, new ZclAttributeDefinition(ATTR_RECEIVEDPRICETIER54, "Received Price Tier 54", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDPRICETIER55, new ZclAttributeDefinition(ATTR_RECEIVEDPRICETIER55, "Received Price Tier 55", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDPRICETIER56, new ZclAttributeDefinition(ATTR_RECEIVEDPRICETIER56, "Received Price Tier 56", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDPRICETIER57, new ZclAttributeDefinition(ATTR_RECEIVEDPRICETIER57, "Received Price Tier 57", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDPRICETIER58, new ZclAttributeDefinition(ATTR_RECEIVEDPRICETIER58, "Received Price Tier 58", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDPRICETIER59, new ZclAttributeDefinition(ATTR_RECEIVEDPRICETIER59, "Received Price Tier 59", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDPRICETIER60, new ZclAttributeDefinition(ATTR_RECEIVEDPRICETIER60, "Received Price Tier 60", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDPRICETIER61, new ZclAttributeDefinition(ATTR_RECEIVEDPRICETIER61, "Received Price Tier 61", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDPRICETIER62, new ZclAttributeDefinition(ATTR_RECEIVEDPRICETIER62, "Received Price Tier 62", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDPRICETIER63, new ZclAttributeDefinition(ATTR_RECEIVEDPRICETIER63, "Received Price Tier 63", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDTARIFFLABEL, new ZclAttributeDefinition(ATTR_RECEIVEDTARIFFLABEL, "Received Tariff Label", ZclDataType.OCTET_STRING, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDNUMBEROFPRICETIERSINUSE, new ZclAttributeDefinition(ATTR_RECEIVEDNUMBEROFPRICETIERSINUSE, "Received Number Of Price Tiers In Use", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDNUMBEROFBLOCKTHRESHOLDSINUSE, new ZclAttributeDefinition(ATTR_RECEIVEDNUMBEROFBLOCKTHRESHOLDSINUSE, "Received Number Of Block Thresholds In Use", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDTIERBLOCKMODE, new ZclAttributeDefinition(ATTR_RECEIVEDTIERBLOCKMODE, "Received Tier Block Mode", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDCO2, new ZclAttributeDefinition(ATTR_RECEIVEDCO2, "Received CO2", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDCO2UNIT, new ZclAttributeDefinition(ATTR_RECEIVEDCO2UNIT, "Received CO2 Unit", ZclDataType.ENUMERATION_8_BIT, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDCO2TRAILINGDIGIT, new ZclAttributeDefinition(ATTR_RECEIVEDCO2TRAILINGDIGIT, "Received CO2 Trailing Digit", ZclDataType.BITMAP_8_BIT, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDCURRENTBILLINGPERIODSTART, new ZclAttributeDefinition(ATTR_RECEIVEDCURRENTBILLINGPERIODSTART, "Received Current Billing Period Start", ZclDataType.UTCTIME, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDCURRENTBILLINGPERIODDURATION, new ZclAttributeDefinition(ATTR_RECEIVEDCURRENTBILLINGPERIODDURATION, "Received Current Billing Period Duration", ZclDataType.UNSIGNED_24_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDLASTBILLINGPERIODSTART, new ZclAttributeDefinition(ATTR_RECEIVEDLASTBILLINGPERIODSTART, "Received Last Billing Period Start", ZclDataType.UTCTIME, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDLASTBILLINGPERIODDURATION, new ZclAttributeDefinition(ATTR_RECEIVEDLASTBILLINGPERIODDURATION, "Received Last Billing Period Duration", ZclDataType.UNSIGNED_24_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDLASTBILLINGPERIODCONSOLIDATEDBILL, new ZclAttributeDefinition(ATTR_RECEIVEDLASTBILLINGPERIODCONSOLIDATEDBILL, "Received Last Billing Period Consolidated Bill", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+
+        return Collections.unmodifiableMap(attributeMap);
+    }
 
-        return attributeMap;
+    @Override
+    protected Map<Integer, ZclAttributeDefinition> getClientAttributeDefinitions() {
+        return CLIENT_ATTRIBUTES;
     }
 
     @Override
-    protected Map<Integer, ZclAttribute> initializeServerAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
-
-        attributeMap.put(ATTR_TIER1PRICELABEL, new ZclAttribute(this, ATTR_TIER1PRICELABEL, "Tier 1 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_TIER2PRICELABEL, new ZclAttribute(this, ATTR_TIER2PRICELABEL, "Tier 2 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_TIER3PRICELABEL, new ZclAttribute(this, ATTR_TIER3PRICELABEL, "Tier 3 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_TIER4PRICELABEL, new ZclAttribute(this, ATTR_TIER4PRICELABEL, "Tier 4 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_TIER5PRICELABEL, new ZclAttribute(this, ATTR_TIER5PRICELABEL, "Tier 5 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_TIER6PRICELABEL, new ZclAttribute(this, ATTR_TIER6PRICELABEL, "Tier 6 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_TIER7PRICELABEL, new ZclAttribute(this, ATTR_TIER7PRICELABEL, "Tier 7 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_TIER8PRICELABEL, new ZclAttribute(this, ATTR_TIER8PRICELABEL, "Tier 8 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_TIER9PRICELABEL, new ZclAttribute(this, ATTR_TIER9PRICELABEL, "Tier 9 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_TIER10PRICELABEL, new ZclAttribute(this, ATTR_TIER10PRICELABEL, "Tier 10 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_TIER11PRICELABEL, new ZclAttribute(this, ATTR_TIER11PRICELABEL, "Tier 11 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_TIER12PRICELABEL, new ZclAttribute(this, ATTR_TIER12PRICELABEL, "Tier 12 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_TIER13PRICELABEL, new ZclAttribute(this, ATTR_TIER13PRICELABEL, "Tier 13 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_TIER14PRICELABEL, new ZclAttribute(this, ATTR_TIER14PRICELABEL, "Tier 14 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_TIER15PRICELABEL, new ZclAttribute(this, ATTR_TIER15PRICELABEL, "Tier 15 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_TIER16PRICELABEL, new ZclAttribute(this, ATTR_TIER16PRICELABEL, "Tier 16 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_TIER17PRICELABEL, new ZclAttribute(this, ATTR_TIER17PRICELABEL, "Tier 17 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_TIER18PRICELABEL, new ZclAttribute(this, ATTR_TIER18PRICELABEL, "Tier 18 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_TIER19PRICELABEL, new ZclAttribute(this, ATTR_TIER19PRICELABEL, "Tier 19 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_TIER20PRICELABEL, new ZclAttribute(this, ATTR_TIER20PRICELABEL, "Tier 20 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_TIER21PRICELABEL, new ZclAttribute(this, ATTR_TIER21PRICELABEL, "Tier 21 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_TIER22PRICELABEL, new ZclAttribute(this, ATTR_TIER22PRICELABEL, "Tier 22 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_TIER23PRICELABEL, new ZclAttribute(this, ATTR_TIER23PRICELABEL, "Tier 23 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_TIER24PRICELABEL, new ZclAttribute(this, ATTR_TIER24PRICELABEL, "Tier 24 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_TIER25PRICELABEL, new ZclAttribute(this, ATTR_TIER25PRICELABEL, "Tier 25 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_TIER26PRICELABEL, new ZclAttribute(this, ATTR_TIER26PRICELABEL, "Tier 26 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_TIER27PRICELABEL, new ZclAttribute(this, ATTR_TIER27PRICELABEL, "Tier 27 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_TIER28PRICELABEL, new ZclAttribute(this, ATTR_TIER28PRICELABEL, "Tier 28 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_TIER29PRICELABEL, new ZclAttribute(this, ATTR_TIER29PRICELABEL, "Tier 29 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_TIER30PRICELABEL, new ZclAttribute(this, ATTR_TIER30PRICELABEL, "Tier 30 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_TIER31PRICELABEL, new ZclAttribute(this, ATTR_TIER31PRICELABEL, "Tier 31 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_TIER32PRICELABEL, new ZclAttribute(this, ATTR_TIER32PRICELABEL, "Tier 32 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_TIER33PRICELABEL, new ZclAttribute(this, ATTR_TIER33PRICELABEL, "Tier 33 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_TIER34PRICELABEL, new ZclAttribute(this, ATTR_TIER34PRICELABEL, "Tier 34 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_TIER35PRICELABEL, new ZclAttribute(this, ATTR_TIER35PRICELABEL, "Tier 35 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_TIER36PRICELABEL, new ZclAttribute(this, ATTR_TIER36PRICELABEL, "Tier 36 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_TIER37PRICELABEL, new ZclAttribute(this, ATTR_TIER37PRICELABEL, "Tier 37 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_TIER38PRICELABEL, new ZclAttribute(this, ATTR_TIER38PRICELABEL, "Tier 38 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_TIER39PRICELABEL, new ZclAttribute(this, ATTR_TIER39PRICELABEL, "Tier 39 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_TIER40PRICELABEL, new ZclAttribute(this, ATTR_TIER40PRICELABEL, "Tier 40 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_TIER41PRICELABEL, new ZclAttribute(this, ATTR_TIER41PRICELABEL, "Tier 41 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_TIER42PRICELABEL, new ZclAttribute(this, ATTR_TIER42PRICELABEL, "Tier 42 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_TIER43PRICELABEL, new ZclAttribute(this, ATTR_TIER43PRICELABEL, "Tier 43 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_TIER44PRICELABEL, new ZclAttribute(this, ATTR_TIER44PRICELABEL, "Tier 44 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_TIER45PRICELABEL, new ZclAttribute(this, ATTR_TIER45PRICELABEL, "Tier 45 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_TIER46PRICELABEL, new ZclAttribute(this, ATTR_TIER46PRICELABEL, "Tier 46 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_TIER47PRICELABEL, new ZclAttribute(this, ATTR_TIER47PRICELABEL, "Tier 47 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_TIER48PRICELABEL, new ZclAttribute(this, ATTR_TIER48PRICELABEL, "Tier 48 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_BLOCK1THRESHOLD, new ZclAttribute(this, ATTR_BLOCK1THRESHOLD, "Block 1 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_BLOCK2THRESHOLD, new ZclAttribute(this, ATTR_BLOCK2THRESHOLD, "Block 2 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_BLOCK3THRESHOLD, new ZclAttribute(this, ATTR_BLOCK3THRESHOLD, "Block 3 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_BLOCK4THRESHOLD, new ZclAttribute(this, ATTR_BLOCK4THRESHOLD, "Block 4 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_BLOCK5THRESHOLD, new ZclAttribute(this, ATTR_BLOCK5THRESHOLD, "Block 5 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_BLOCK6THRESHOLD, new ZclAttribute(this, ATTR_BLOCK6THRESHOLD, "Block 6 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_BLOCK7THRESHOLD, new ZclAttribute(this, ATTR_BLOCK7THRESHOLD, "Block 7 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_BLOCK8THRESHOLD, new ZclAttribute(this, ATTR_BLOCK8THRESHOLD, "Block 8 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_BLOCK9THRESHOLD, new ZclAttribute(this, ATTR_BLOCK9THRESHOLD, "Block 9 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_BLOCK10THRESHOLD, new ZclAttribute(this, ATTR_BLOCK10THRESHOLD, "Block 10 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_BLOCK11THRESHOLD, new ZclAttribute(this, ATTR_BLOCK11THRESHOLD, "Block 11 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_BLOCK12THRESHOLD, new ZclAttribute(this, ATTR_BLOCK12THRESHOLD, "Block 12 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_BLOCK13THRESHOLD, new ZclAttribute(this, ATTR_BLOCK13THRESHOLD, "Block 13 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_BLOCK14THRESHOLD, new ZclAttribute(this, ATTR_BLOCK14THRESHOLD, "Block 14 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_BLOCK15THRESHOLD, new ZclAttribute(this, ATTR_BLOCK15THRESHOLD, "Block 15 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_BLOCKTHRESHOLDCOUNT, new ZclAttribute(this, ATTR_BLOCKTHRESHOLDCOUNT, "Block Threshold Count", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER1BLOCK1THRESHOLD, new ZclAttribute(this, ATTR_TIER1BLOCK1THRESHOLD, "Tier 1 Block 1 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER1BLOCK2THRESHOLD, new ZclAttribute(this, ATTR_TIER1BLOCK2THRESHOLD, "Tier 1 Block 2 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER1BLOCK3THRESHOLD, new ZclAttribute(this, ATTR_TIER1BLOCK3THRESHOLD, "Tier 1 Block 3 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER1BLOCK4THRESHOLD, new ZclAttribute(this, ATTR_TIER1BLOCK4THRESHOLD, "Tier 1 Block 4 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER1BLOCK5THRESHOLD, new ZclAttribute(this, ATTR_TIER1BLOCK5THRESHOLD, "Tier 1 Block 5 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER1BLOCK6THRESHOLD, new ZclAttribute(this, ATTR_TIER1BLOCK6THRESHOLD, "Tier 1 Block 6 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER1BLOCK7THRESHOLD, new ZclAttribute(this, ATTR_TIER1BLOCK7THRESHOLD, "Tier 1 Block 7 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER1BLOCK8THRESHOLD, new ZclAttribute(this, ATTR_TIER1BLOCK8THRESHOLD, "Tier 1 Block 8 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER1BLOCK9THRESHOLD, new ZclAttribute(this, ATTR_TIER1BLOCK9THRESHOLD, "Tier 1 Block 9 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER1BLOCK10THRESHOLD, new ZclAttribute(this, ATTR_TIER1BLOCK10THRESHOLD, "Tier 1 Block 10 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER1BLOCK11THRESHOLD, new ZclAttribute(this, ATTR_TIER1BLOCK11THRESHOLD, "Tier 1 Block 11 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER1BLOCK12THRESHOLD, new ZclAttribute(this, ATTR_TIER1BLOCK12THRESHOLD, "Tier 1 Block 12 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER1BLOCK13THRESHOLD, new ZclAttribute(this, ATTR_TIER1BLOCK13THRESHOLD, "Tier 1 Block 13 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER1BLOCK14THRESHOLD, new ZclAttribute(this, ATTR_TIER1BLOCK14THRESHOLD, "Tier 1 Block 14 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER1BLOCK15THRESHOLD, new ZclAttribute(this, ATTR_TIER1BLOCK15THRESHOLD, "Tier 1 Block 15 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER1BLOCKTHRESHOLDCOUNT, new ZclAttribute(this, ATTR_TIER1BLOCKTHRESHOLDCOUNT, "Tier 1 Block Threshold Count", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER2BLOCK1THRESHOLD, new ZclAttribute(this, ATTR_TIER2BLOCK1THRESHOLD, "Tier 2 Block 1 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER2BLOCK2THRESHOLD, new ZclAttribute(this, ATTR_TIER2BLOCK2THRESHOLD, "Tier 2 Block 2 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER2BLOCK3THRESHOLD, new ZclAttribute(this, ATTR_TIER2BLOCK3THRESHOLD, "Tier 2 Block 3 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER2BLOCK4THRESHOLD, new ZclAttribute(this, ATTR_TIER2BLOCK4THRESHOLD, "Tier 2 Block 4 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER2BLOCK5THRESHOLD, new ZclAttribute(this, ATTR_TIER2BLOCK5THRESHOLD, "Tier 2 Block 5 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER2BLOCK6THRESHOLD, new ZclAttribute(this, ATTR_TIER2BLOCK6THRESHOLD, "Tier 2 Block 6 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER2BLOCK7THRESHOLD, new ZclAttribute(this, ATTR_TIER2BLOCK7THRESHOLD, "Tier 2 Block 7 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER2BLOCK8THRESHOLD, new ZclAttribute(this, ATTR_TIER2BLOCK8THRESHOLD, "Tier 2 Block 8 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER2BLOCK9THRESHOLD, new ZclAttribute(this, ATTR_TIER2BLOCK9THRESHOLD, "Tier 2 Block 9 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER2BLOCK10THRESHOLD, new ZclAttribute(this, ATTR_TIER2BLOCK10THRESHOLD, "Tier 2 Block 10 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER2BLOCK11THRESHOLD, new ZclAttribute(this, ATTR_TIER2BLOCK11THRESHOLD, "Tier 2 Block 11 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER2BLOCK12THRESHOLD, new ZclAttribute(this, ATTR_TIER2BLOCK12THRESHOLD, "Tier 2 Block 12 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER2BLOCK13THRESHOLD, new ZclAttribute(this, ATTR_TIER2BLOCK13THRESHOLD, "Tier 2 Block 13 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER2BLOCK14THRESHOLD, new ZclAttribute(this, ATTR_TIER2BLOCK14THRESHOLD, "Tier 2 Block 14 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER2BLOCK15THRESHOLD, new ZclAttribute(this, ATTR_TIER2BLOCK15THRESHOLD, "Tier 2 Block 15 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER2BLOCKTHRESHOLDCOUNT, new ZclAttribute(this, ATTR_TIER2BLOCKTHRESHOLDCOUNT, "Tier 2 Block Threshold Count", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER3BLOCK1THRESHOLD, new ZclAttribute(this, ATTR_TIER3BLOCK1THRESHOLD, "Tier 3 Block 1 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER3BLOCK2THRESHOLD, new ZclAttribute(this, ATTR_TIER3BLOCK2THRESHOLD, "Tier 3 Block 2 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER3BLOCK3THRESHOLD, new ZclAttribute(this, ATTR_TIER3BLOCK3THRESHOLD, "Tier 3 Block 3 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER3BLOCK4THRESHOLD, new ZclAttribute(this, ATTR_TIER3BLOCK4THRESHOLD, "Tier 3 Block 4 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER3BLOCK5THRESHOLD, new ZclAttribute(this, ATTR_TIER3BLOCK5THRESHOLD, "Tier 3 Block 5 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER3BLOCK6THRESHOLD, new ZclAttribute(this, ATTR_TIER3BLOCK6THRESHOLD, "Tier 3 Block 6 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER3BLOCK7THRESHOLD, new ZclAttribute(this, ATTR_TIER3BLOCK7THRESHOLD, "Tier 3 Block 7 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER3BLOCK8THRESHOLD, new ZclAttribute(this, ATTR_TIER3BLOCK8THRESHOLD, "Tier 3 Block 8 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER3BLOCK9THRESHOLD, new ZclAttribute(this, ATTR_TIER3BLOCK9THRESHOLD, "Tier 3 Block 9 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER3BLOCK10THRESHOLD, new ZclAttribute(this, ATTR_TIER3BLOCK10THRESHOLD, "Tier 3 Block 10 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER3BLOCK11THRESHOLD, new ZclAttribute(this, ATTR_TIER3BLOCK11THRESHOLD, "Tier 3 Block 11 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER3BLOCK12THRESHOLD, new ZclAttribute(this, ATTR_TIER3BLOCK12THRESHOLD, "Tier 3 Block 12 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER3BLOCK13THRESHOLD, new ZclAttribute(this, ATTR_TIER3BLOCK13THRESHOLD, "Tier 3 Block 13 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER3BLOCK14THRESHOLD, new ZclAttribute(this, ATTR_TIER3BLOCK14THRESHOLD, "Tier 3 Block 14 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER3BLOCK15THRESHOLD, new ZclAttribute(this, ATTR_TIER3BLOCK15THRESHOLD, "Tier 3 Block 15 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER3BLOCKTHRESHOLDCOUNT, new ZclAttribute(this, ATTR_TIER3BLOCKTHRESHOLDCOUNT, "Tier 3 Block Threshold Count", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER4BLOCK1THRESHOLD, new ZclAttribute(this, ATTR_TIER4BLOCK1THRESHOLD, "Tier 4 Block 1 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER4BLOCK2THRESHOLD, new ZclAttribute(this, ATTR_TIER4BLOCK2THRESHOLD, "Tier 4 Block 2 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER4BLOCK3THRESHOLD, new ZclAttribute(this, ATTR_TIER4BLOCK3THRESHOLD, "Tier 4 Block 3 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER4BLOCK4THRESHOLD, new ZclAttribute(this, ATTR_TIER4BLOCK4THRESHOLD, "Tier 4 Block 4 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER4BLOCK5THRESHOLD, new ZclAttribute(this, ATTR_TIER4BLOCK5THRESHOLD, "Tier 4 Block 5 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER4BLOCK6THRESHOLD, new ZclAttribute(this, ATTR_TIER4BLOCK6THRESHOLD, "Tier 4 Block 6 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER4BLOCK7THRESHOLD, new ZclAttribute(this, ATTR_TIER4BLOCK7THRESHOLD, "Tier 4 Block 7 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER4BLOCK8THRESHOLD, new ZclAttribute(this, ATTR_TIER4BLOCK8THRESHOLD, "Tier 4 Block 8 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER4BLOCK9THRESHOLD, new ZclAttribute(this, ATTR_TIER4BLOCK9THRESHOLD, "Tier 4 Block 9 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER4BLOCK10THRESHOLD, new ZclAttribute(this, ATTR_TIER4BLOCK10THRESHOLD, "Tier 4 Block 10 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER4BLOCK11THRESHOLD, new ZclAttribute(this, ATTR_TIER4BLOCK11THRESHOLD, "Tier 4 Block 11 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER4BLOCK12THRESHOLD, new ZclAttribute(this, ATTR_TIER4BLOCK12THRESHOLD, "Tier 4 Block 12 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER4BLOCK13THRESHOLD, new ZclAttribute(this, ATTR_TIER4BLOCK13THRESHOLD, "Tier 4 Block 13 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER4BLOCK14THRESHOLD, new ZclAttribute(this, ATTR_TIER4BLOCK14THRESHOLD, "Tier 4 Block 14 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER4BLOCK15THRESHOLD, new ZclAttribute(this, ATTR_TIER4BLOCK15THRESHOLD, "Tier 4 Block 15 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER4BLOCKTHRESHOLDCOUNT, new ZclAttribute(this, ATTR_TIER4BLOCKTHRESHOLDCOUNT, "Tier 4 Block Threshold Count", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER5BLOCK1THRESHOLD, new ZclAttribute(this, ATTR_TIER5BLOCK1THRESHOLD, "Tier 5 Block 1 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER5BLOCK2THRESHOLD, new ZclAttribute(this, ATTR_TIER5BLOCK2THRESHOLD, "Tier 5 Block 2 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER5BLOCK3THRESHOLD, new ZclAttribute(this, ATTR_TIER5BLOCK3THRESHOLD, "Tier 5 Block 3 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER5BLOCK4THRESHOLD, new ZclAttribute(this, ATTR_TIER5BLOCK4THRESHOLD, "Tier 5 Block 4 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER5BLOCK5THRESHOLD, new ZclAttribute(this, ATTR_TIER5BLOCK5THRESHOLD, "Tier 5 Block 5 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER5BLOCK6THRESHOLD, new ZclAttribute(this, ATTR_TIER5BLOCK6THRESHOLD, "Tier 5 Block 6 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER5BLOCK7THRESHOLD, new ZclAttribute(this, ATTR_TIER5BLOCK7THRESHOLD, "Tier 5 Block 7 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER5BLOCK8THRESHOLD, new ZclAttribute(this, ATTR_TIER5BLOCK8THRESHOLD, "Tier 5 Block 8 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER5BLOCK9THRESHOLD, new ZclAttribute(this, ATTR_TIER5BLOCK9THRESHOLD, "Tier 5 Block 9 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER5BLOCK10THRESHOLD, new ZclAttribute(this, ATTR_TIER5BLOCK10THRESHOLD, "Tier 5 Block 10 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER5BLOCK11THRESHOLD, new ZclAttribute(this, ATTR_TIER5BLOCK11THRESHOLD, "Tier 5 Block 11 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER5BLOCK12THRESHOLD, new ZclAttribute(this, ATTR_TIER5BLOCK12THRESHOLD, "Tier 5 Block 12 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER5BLOCK13THRESHOLD, new ZclAttribute(this, ATTR_TIER5BLOCK13THRESHOLD, "Tier 5 Block 13 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER5BLOCK14THRESHOLD, new ZclAttribute(this, ATTR_TIER5BLOCK14THRESHOLD, "Tier 5 Block 14 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER5BLOCK15THRESHOLD, new ZclAttribute(this, ATTR_TIER5BLOCK15THRESHOLD, "Tier 5 Block 15 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER5BLOCKTHRESHOLDCOUNT, new ZclAttribute(this, ATTR_TIER5BLOCKTHRESHOLDCOUNT, "Tier 5 Block Threshold Count", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER6BLOCK1THRESHOLD, new ZclAttribute(this, ATTR_TIER6BLOCK1THRESHOLD, "Tier 6 Block 1 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER6BLOCK2THRESHOLD, new ZclAttribute(this, ATTR_TIER6BLOCK2THRESHOLD, "Tier 6 Block 2 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER6BLOCK3THRESHOLD, new ZclAttribute(this, ATTR_TIER6BLOCK3THRESHOLD, "Tier 6 Block 3 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER6BLOCK4THRESHOLD, new ZclAttribute(this, ATTR_TIER6BLOCK4THRESHOLD, "Tier 6 Block 4 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER6BLOCK5THRESHOLD, new ZclAttribute(this, ATTR_TIER6BLOCK5THRESHOLD, "Tier 6 Block 5 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER6BLOCK6THRESHOLD, new ZclAttribute(this, ATTR_TIER6BLOCK6THRESHOLD, "Tier 6 Block 6 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER6BLOCK7THRESHOLD, new ZclAttribute(this, ATTR_TIER6BLOCK7THRESHOLD, "Tier 6 Block 7 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER6BLOCK8THRESHOLD, new ZclAttribute(this, ATTR_TIER6BLOCK8THRESHOLD, "Tier 6 Block 8 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER6BLOCK9THRESHOLD, new ZclAttribute(this, ATTR_TIER6BLOCK9THRESHOLD, "Tier 6 Block 9 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER6BLOCK10THRESHOLD, new ZclAttribute(this, ATTR_TIER6BLOCK10THRESHOLD, "Tier 6 Block 10 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER6BLOCK11THRESHOLD, new ZclAttribute(this, ATTR_TIER6BLOCK11THRESHOLD, "Tier 6 Block 11 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER6BLOCK12THRESHOLD, new ZclAttribute(this, ATTR_TIER6BLOCK12THRESHOLD, "Tier 6 Block 12 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER6BLOCK13THRESHOLD, new ZclAttribute(this, ATTR_TIER6BLOCK13THRESHOLD, "Tier 6 Block 13 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER6BLOCK14THRESHOLD, new ZclAttribute(this, ATTR_TIER6BLOCK14THRESHOLD, "Tier 6 Block 14 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER6BLOCK15THRESHOLD, new ZclAttribute(this, ATTR_TIER6BLOCK15THRESHOLD, "Tier 6 Block 15 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER6BLOCKTHRESHOLDCOUNT, new ZclAttribute(this, ATTR_TIER6BLOCKTHRESHOLDCOUNT, "Tier 6 Block Threshold Count", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER7BLOCK1THRESHOLD, new ZclAttribute(this, ATTR_TIER7BLOCK1THRESHOLD, "Tier 7 Block 1 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER7BLOCK2THRESHOLD, new ZclAttribute(this, ATTR_TIER7BLOCK2THRESHOLD, "Tier 7 Block 2 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER7BLOCK3THRESHOLD, new ZclAttribute(this, ATTR_TIER7BLOCK3THRESHOLD, "Tier 7 Block 3 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER7BLOCK4THRESHOLD, new ZclAttribute(this, ATTR_TIER7BLOCK4THRESHOLD, "Tier 7 Block 4 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER7BLOCK5THRESHOLD, new ZclAttribute(this, ATTR_TIER7BLOCK5THRESHOLD, "Tier 7 Block 5 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER7BLOCK6THRESHOLD, new ZclAttribute(this, ATTR_TIER7BLOCK6THRESHOLD, "Tier 7 Block 6 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER7BLOCK7THRESHOLD, new ZclAttribute(this, ATTR_TIER7BLOCK7THRESHOLD, "Tier 7 Block 7 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER7BLOCK8THRESHOLD, new ZclAttribute(this, ATTR_TIER7BLOCK8THRESHOLD, "Tier 7 Block 8 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER7BLOCK9THRESHOLD, new ZclAttribute(this, ATTR_TIER7BLOCK9THRESHOLD, "Tier 7 Block 9 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER7BLOCK10THRESHOLD, new ZclAttribute(this, ATTR_TIER7BLOCK10THRESHOLD, "Tier 7 Block 10 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER7BLOCK11THRESHOLD, new ZclAttribute(this, ATTR_TIER7BLOCK11THRESHOLD, "Tier 7 Block 11 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER7BLOCK12THRESHOLD, new ZclAttribute(this, ATTR_TIER7BLOCK12THRESHOLD, "Tier 7 Block 12 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER7BLOCK13THRESHOLD, new ZclAttribute(this, ATTR_TIER7BLOCK13THRESHOLD, "Tier 7 Block 13 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER7BLOCK14THRESHOLD, new ZclAttribute(this, ATTR_TIER7BLOCK14THRESHOLD, "Tier 7 Block 14 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER7BLOCK15THRESHOLD, new ZclAttribute(this, ATTR_TIER7BLOCK15THRESHOLD, "Tier 7 Block 15 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER7BLOCKTHRESHOLDCOUNT, new ZclAttribute(this, ATTR_TIER7BLOCKTHRESHOLDCOUNT, "Tier 7 Block Threshold Count", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER8BLOCK1THRESHOLD, new ZclAttribute(this, ATTR_TIER8BLOCK1THRESHOLD, "Tier 8 Block 1 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER8BLOCK2THRESHOLD, new ZclAttribute(this, ATTR_TIER8BLOCK2THRESHOLD, "Tier 8 Block 2 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER8BLOCK3THRESHOLD, new ZclAttribute(this, ATTR_TIER8BLOCK3THRESHOLD, "Tier 8 Block 3 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER8BLOCK4THRESHOLD, new ZclAttribute(this, ATTR_TIER8BLOCK4THRESHOLD, "Tier 8 Block 4 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER8BLOCK5THRESHOLD, new ZclAttribute(this, ATTR_TIER8BLOCK5THRESHOLD, "Tier 8 Block 5 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER8BLOCK6THRESHOLD, new ZclAttribute(this, ATTR_TIER8BLOCK6THRESHOLD, "Tier 8 Block 6 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER8BLOCK7THRESHOLD, new ZclAttribute(this, ATTR_TIER8BLOCK7THRESHOLD, "Tier 8 Block 7 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER8BLOCK8THRESHOLD, new ZclAttribute(this, ATTR_TIER8BLOCK8THRESHOLD, "Tier 8 Block 8 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER8BLOCK9THRESHOLD, new ZclAttribute(this, ATTR_TIER8BLOCK9THRESHOLD, "Tier 8 Block 9 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER8BLOCK10THRESHOLD, new ZclAttribute(this, ATTR_TIER8BLOCK10THRESHOLD, "Tier 8 Block 10 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER8BLOCK11THRESHOLD, new ZclAttribute(this, ATTR_TIER8BLOCK11THRESHOLD, "Tier 8 Block 11 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER8BLOCK12THRESHOLD, new ZclAttribute(this, ATTR_TIER8BLOCK12THRESHOLD, "Tier 8 Block 12 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER8BLOCK13THRESHOLD, new ZclAttribute(this, ATTR_TIER8BLOCK13THRESHOLD, "Tier 8 Block 13 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER8BLOCK14THRESHOLD, new ZclAttribute(this, ATTR_TIER8BLOCK14THRESHOLD, "Tier 8 Block 14 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER8BLOCK15THRESHOLD, new ZclAttribute(this, ATTR_TIER8BLOCK15THRESHOLD, "Tier 8 Block 15 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER8BLOCKTHRESHOLDCOUNT, new ZclAttribute(this, ATTR_TIER8BLOCKTHRESHOLDCOUNT, "Tier 8 Block Threshold Count", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER9BLOCK1THRESHOLD, new ZclAttribute(this, ATTR_TIER9BLOCK1THRESHOLD, "Tier 9 Block 1 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER9BLOCK2THRESHOLD, new ZclAttribute(this, ATTR_TIER9BLOCK2THRESHOLD, "Tier 9 Block 2 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER9BLOCK3THRESHOLD, new ZclAttribute(this, ATTR_TIER9BLOCK3THRESHOLD, "Tier 9 Block 3 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER9BLOCK4THRESHOLD, new ZclAttribute(this, ATTR_TIER9BLOCK4THRESHOLD, "Tier 9 Block 4 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER9BLOCK5THRESHOLD, new ZclAttribute(this, ATTR_TIER9BLOCK5THRESHOLD, "Tier 9 Block 5 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER9BLOCK6THRESHOLD, new ZclAttribute(this, ATTR_TIER9BLOCK6THRESHOLD, "Tier 9 Block 6 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER9BLOCK7THRESHOLD, new ZclAttribute(this, ATTR_TIER9BLOCK7THRESHOLD, "Tier 9 Block 7 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER9BLOCK8THRESHOLD, new ZclAttribute(this, ATTR_TIER9BLOCK8THRESHOLD, "Tier 9 Block 8 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER9BLOCK9THRESHOLD, new ZclAttribute(this, ATTR_TIER9BLOCK9THRESHOLD, "Tier 9 Block 9 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER9BLOCK10THRESHOLD, new ZclAttribute(this, ATTR_TIER9BLOCK10THRESHOLD, "Tier 9 Block 10 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER9BLOCK11THRESHOLD, new ZclAttribute(this, ATTR_TIER9BLOCK11THRESHOLD, "Tier 9 Block 11 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER9BLOCK12THRESHOLD, new ZclAttribute(this, ATTR_TIER9BLOCK12THRESHOLD, "Tier 9 Block 12 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER9BLOCK13THRESHOLD, new ZclAttribute(this, ATTR_TIER9BLOCK13THRESHOLD, "Tier 9 Block 13 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER9BLOCK14THRESHOLD, new ZclAttribute(this, ATTR_TIER9BLOCK14THRESHOLD, "Tier 9 Block 14 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER9BLOCK15THRESHOLD, new ZclAttribute(this, ATTR_TIER9BLOCK15THRESHOLD, "Tier 9 Block 15 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER9BLOCKTHRESHOLDCOUNT, new ZclAttribute(this, ATTR_TIER9BLOCKTHRESHOLDCOUNT, "Tier 9 Block Threshold Count", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER10BLOCK1THRESHOLD, new ZclAttribute(this, ATTR_TIER10BLOCK1THRESHOLD, "Tier 10 Block 1 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER10BLOCK2THRESHOLD, new ZclAttribute(this, ATTR_TIER10BLOCK2THRESHOLD, "Tier 10 Block 2 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER10BLOCK3THRESHOLD, new ZclAttribute(this, ATTR_TIER10BLOCK3THRESHOLD, "Tier 10 Block 3 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER10BLOCK4THRESHOLD, new ZclAttribute(this, ATTR_TIER10BLOCK4THRESHOLD, "Tier 10 Block 4 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER10BLOCK5THRESHOLD, new ZclAttribute(this, ATTR_TIER10BLOCK5THRESHOLD, "Tier 10 Block 5 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER10BLOCK6THRESHOLD, new ZclAttribute(this, ATTR_TIER10BLOCK6THRESHOLD, "Tier 10 Block 6 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER10BLOCK7THRESHOLD, new ZclAttribute(this, ATTR_TIER10BLOCK7THRESHOLD, "Tier 10 Block 7 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER10BLOCK8THRESHOLD, new ZclAttribute(this, ATTR_TIER10BLOCK8THRESHOLD, "Tier 10 Block 8 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER10BLOCK9THRESHOLD, new ZclAttribute(this, ATTR_TIER10BLOCK9THRESHOLD, "Tier 10 Block 9 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER10BLOCK10THRESHOLD, new ZclAttribute(this, ATTR_TIER10BLOCK10THRESHOLD, "Tier 10 Block 10 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER10BLOCK11THRESHOLD, new ZclAttribute(this, ATTR_TIER10BLOCK11THRESHOLD, "Tier 10 Block 11 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER10BLOCK12THRESHOLD, new ZclAttribute(this, ATTR_TIER10BLOCK12THRESHOLD, "Tier 10 Block 12 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER10BLOCK13THRESHOLD, new ZclAttribute(this, ATTR_TIER10BLOCK13THRESHOLD, "Tier 10 Block 13 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER10BLOCK14THRESHOLD, new ZclAttribute(this, ATTR_TIER10BLOCK14THRESHOLD, "Tier 10 Block 14 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER10BLOCK15THRESHOLD, new ZclAttribute(this, ATTR_TIER10BLOCK15THRESHOLD, "Tier 10 Block 15 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER10BLOCKTHRESHOLDCOUNT, new ZclAttribute(this, ATTR_TIER10BLOCKTHRESHOLDCOUNT, "Tier 10 Block Threshold Count", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER11BLOCK1THRESHOLD, new ZclAttribute(this, ATTR_TIER11BLOCK1THRESHOLD, "Tier 11 Block 1 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER11BLOCK2THRESHOLD, new ZclAttribute(this, ATTR_TIER11BLOCK2THRESHOLD, "Tier 11 Block 2 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER11BLOCK3THRESHOLD, new ZclAttribute(this, ATTR_TIER11BLOCK3THRESHOLD, "Tier 11 Block 3 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER11BLOCK4THRESHOLD, new ZclAttribute(this, ATTR_TIER11BLOCK4THRESHOLD, "Tier 11 Block 4 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER11BLOCK5THRESHOLD, new ZclAttribute(this, ATTR_TIER11BLOCK5THRESHOLD, "Tier 11 Block 5 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER11BLOCK6THRESHOLD, new ZclAttribute(this, ATTR_TIER11BLOCK6THRESHOLD, "Tier 11 Block 6 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER11BLOCK7THRESHOLD, new ZclAttribute(this, ATTR_TIER11BLOCK7THRESHOLD, "Tier 11 Block 7 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER11BLOCK8THRESHOLD, new ZclAttribute(this, ATTR_TIER11BLOCK8THRESHOLD, "Tier 11 Block 8 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER11BLOCK9THRESHOLD, new ZclAttribute(this, ATTR_TIER11BLOCK9THRESHOLD, "Tier 11 Block 9 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER11BLOCK10THRESHOLD, new ZclAttribute(this, ATTR_TIER11BLOCK10THRESHOLD, "Tier 11 Block 10 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER11BLOCK11THRESHOLD, new ZclAttribute(this, ATTR_TIER11BLOCK11THRESHOLD, "Tier 11 Block 11 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER11BLOCK12THRESHOLD, new ZclAttribute(this, ATTR_TIER11BLOCK12THRESHOLD, "Tier 11 Block 12 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER11BLOCK13THRESHOLD, new ZclAttribute(this, ATTR_TIER11BLOCK13THRESHOLD, "Tier 11 Block 13 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER11BLOCK14THRESHOLD, new ZclAttribute(this, ATTR_TIER11BLOCK14THRESHOLD, "Tier 11 Block 14 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER11BLOCK15THRESHOLD, new ZclAttribute(this, ATTR_TIER11BLOCK15THRESHOLD, "Tier 11 Block 15 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER11BLOCKTHRESHOLDCOUNT, new ZclAttribute(this, ATTR_TIER11BLOCKTHRESHOLDCOUNT, "Tier 11 Block Threshold Count", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER12BLOCK1THRESHOLD, new ZclAttribute(this, ATTR_TIER12BLOCK1THRESHOLD, "Tier 12 Block 1 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER12BLOCK2THRESHOLD, new ZclAttribute(this, ATTR_TIER12BLOCK2THRESHOLD, "Tier 12 Block 2 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER12BLOCK3THRESHOLD, new ZclAttribute(this, ATTR_TIER12BLOCK3THRESHOLD, "Tier 12 Block 3 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER12BLOCK4THRESHOLD, new ZclAttribute(this, ATTR_TIER12BLOCK4THRESHOLD, "Tier 12 Block 4 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER12BLOCK5THRESHOLD, new ZclAttribute(this, ATTR_TIER12BLOCK5THRESHOLD, "Tier 12 Block 5 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER12BLOCK6THRESHOLD, new ZclAttribute(this, ATTR_TIER12BLOCK6THRESHOLD, "Tier 12 Block 6 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER12BLOCK7THRESHOLD, new ZclAttribute(this, ATTR_TIER12BLOCK7THRESHOLD, "Tier 12 Block 7 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER12BLOCK8THRESHOLD, new ZclAttribute(this, ATTR_TIER12BLOCK8THRESHOLD, "Tier 12 Block 8 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER12BLOCK9THRESHOLD, new ZclAttribute(this, ATTR_TIER12BLOCK9THRESHOLD, "Tier 12 Block 9 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER12BLOCK10THRESHOLD, new ZclAttribute(this, ATTR_TIER12BLOCK10THRESHOLD, "Tier 12 Block 10 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER12BLOCK11THRESHOLD, new ZclAttribute(this, ATTR_TIER12BLOCK11THRESHOLD, "Tier 12 Block 11 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER12BLOCK12THRESHOLD, new ZclAttribute(this, ATTR_TIER12BLOCK12THRESHOLD, "Tier 12 Block 12 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER12BLOCK13THRESHOLD, new ZclAttribute(this, ATTR_TIER12BLOCK13THRESHOLD, "Tier 12 Block 13 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER12BLOCK14THRESHOLD, new ZclAttribute(this, ATTR_TIER12BLOCK14THRESHOLD, "Tier 12 Block 14 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER12BLOCK15THRESHOLD, new ZclAttribute(this, ATTR_TIER12BLOCK15THRESHOLD, "Tier 12 Block 15 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER12BLOCKTHRESHOLDCOUNT, new ZclAttribute(this, ATTR_TIER12BLOCKTHRESHOLDCOUNT, "Tier 12 Block Threshold Count", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER13BLOCK1THRESHOLD, new ZclAttribute(this, ATTR_TIER13BLOCK1THRESHOLD, "Tier 13 Block 1 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER13BLOCK2THRESHOLD, new ZclAttribute(this, ATTR_TIER13BLOCK2THRESHOLD, "Tier 13 Block 2 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER13BLOCK3THRESHOLD, new ZclAttribute(this, ATTR_TIER13BLOCK3THRESHOLD, "Tier 13 Block 3 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER13BLOCK4THRESHOLD, new ZclAttribute(this, ATTR_TIER13BLOCK4THRESHOLD, "Tier 13 Block 4 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER13BLOCK5THRESHOLD, new ZclAttribute(this, ATTR_TIER13BLOCK5THRESHOLD, "Tier 13 Block 5 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER13BLOCK6THRESHOLD, new ZclAttribute(this, ATTR_TIER13BLOCK6THRESHOLD, "Tier 13 Block 6 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER13BLOCK7THRESHOLD, new ZclAttribute(this, ATTR_TIER13BLOCK7THRESHOLD, "Tier 13 Block 7 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER13BLOCK8THRESHOLD, new ZclAttribute(this, ATTR_TIER13BLOCK8THRESHOLD, "Tier 13 Block 8 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER13BLOCK9THRESHOLD, new ZclAttribute(this, ATTR_TIER13BLOCK9THRESHOLD, "Tier 13 Block 9 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER13BLOCK10THRESHOLD, new ZclAttribute(this, ATTR_TIER13BLOCK10THRESHOLD, "Tier 13 Block 10 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER13BLOCK11THRESHOLD, new ZclAttribute(this, ATTR_TIER13BLOCK11THRESHOLD, "Tier 13 Block 11 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER13BLOCK12THRESHOLD, new ZclAttribute(this, ATTR_TIER13BLOCK12THRESHOLD, "Tier 13 Block 12 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER13BLOCK13THRESHOLD, new ZclAttribute(this, ATTR_TIER13BLOCK13THRESHOLD, "Tier 13 Block 13 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER13BLOCK14THRESHOLD, new ZclAttribute(this, ATTR_TIER13BLOCK14THRESHOLD, "Tier 13 Block 14 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER13BLOCK15THRESHOLD, new ZclAttribute(this, ATTR_TIER13BLOCK15THRESHOLD, "Tier 13 Block 15 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER13BLOCKTHRESHOLDCOUNT, new ZclAttribute(this, ATTR_TIER13BLOCKTHRESHOLDCOUNT, "Tier 13 Block Threshold Count", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER14BLOCK1THRESHOLD, new ZclAttribute(this, ATTR_TIER14BLOCK1THRESHOLD, "Tier 14 Block 1 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER14BLOCK2THRESHOLD, new ZclAttribute(this, ATTR_TIER14BLOCK2THRESHOLD, "Tier 14 Block 2 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER14BLOCK3THRESHOLD, new ZclAttribute(this, ATTR_TIER14BLOCK3THRESHOLD, "Tier 14 Block 3 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER14BLOCK4THRESHOLD, new ZclAttribute(this, ATTR_TIER14BLOCK4THRESHOLD, "Tier 14 Block 4 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER14BLOCK5THRESHOLD, new ZclAttribute(this, ATTR_TIER14BLOCK5THRESHOLD, "Tier 14 Block 5 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER14BLOCK6THRESHOLD, new ZclAttribute(this, ATTR_TIER14BLOCK6THRESHOLD, "Tier 14 Block 6 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER14BLOCK7THRESHOLD, new ZclAttribute(this, ATTR_TIER14BLOCK7THRESHOLD, "Tier 14 Block 7 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER14BLOCK8THRESHOLD, new ZclAttribute(this, ATTR_TIER14BLOCK8THRESHOLD, "Tier 14 Block 8 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER14BLOCK9THRESHOLD, new ZclAttribute(this, ATTR_TIER14BLOCK9THRESHOLD, "Tier 14 Block 9 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER14BLOCK10THRESHOLD, new ZclAttribute(this, ATTR_TIER14BLOCK10THRESHOLD, "Tier 14 Block 10 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER14BLOCK11THRESHOLD, new ZclAttribute(this, ATTR_TIER14BLOCK11THRESHOLD, "Tier 14 Block 11 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER14BLOCK12THRESHOLD, new ZclAttribute(this, ATTR_TIER14BLOCK12THRESHOLD, "Tier 14 Block 12 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER14BLOCK13THRESHOLD, new ZclAttribute(this, ATTR_TIER14BLOCK13THRESHOLD, "Tier 14 Block 13 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER14BLOCK14THRESHOLD, new ZclAttribute(this, ATTR_TIER14BLOCK14THRESHOLD, "Tier 14 Block 14 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER14BLOCK15THRESHOLD, new ZclAttribute(this, ATTR_TIER14BLOCK15THRESHOLD, "Tier 14 Block 15 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER14BLOCKTHRESHOLDCOUNT, new ZclAttribute(this, ATTR_TIER14BLOCKTHRESHOLDCOUNT, "Tier 14 Block Threshold Count", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER15BLOCK1THRESHOLD, new ZclAttribute(this, ATTR_TIER15BLOCK1THRESHOLD, "Tier 15 Block 1 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER15BLOCK2THRESHOLD, new ZclAttribute(this, ATTR_TIER15BLOCK2THRESHOLD, "Tier 15 Block 2 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER15BLOCK3THRESHOLD, new ZclAttribute(this, ATTR_TIER15BLOCK3THRESHOLD, "Tier 15 Block 3 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER15BLOCK4THRESHOLD, new ZclAttribute(this, ATTR_TIER15BLOCK4THRESHOLD, "Tier 15 Block 4 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER15BLOCK5THRESHOLD, new ZclAttribute(this, ATTR_TIER15BLOCK5THRESHOLD, "Tier 15 Block 5 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER15BLOCK6THRESHOLD, new ZclAttribute(this, ATTR_TIER15BLOCK6THRESHOLD, "Tier 15 Block 6 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER15BLOCK7THRESHOLD, new ZclAttribute(this, ATTR_TIER15BLOCK7THRESHOLD, "Tier 15 Block 7 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER15BLOCK8THRESHOLD, new ZclAttribute(this, ATTR_TIER15BLOCK8THRESHOLD, "Tier 15 Block 8 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER15BLOCK9THRESHOLD, new ZclAttribute(this, ATTR_TIER15BLOCK9THRESHOLD, "Tier 15 Block 9 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER15BLOCK10THRESHOLD, new ZclAttribute(this, ATTR_TIER15BLOCK10THRESHOLD, "Tier 15 Block 10 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER15BLOCK11THRESHOLD, new ZclAttribute(this, ATTR_TIER15BLOCK11THRESHOLD, "Tier 15 Block 11 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER15BLOCK12THRESHOLD, new ZclAttribute(this, ATTR_TIER15BLOCK12THRESHOLD, "Tier 15 Block 12 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER15BLOCK13THRESHOLD, new ZclAttribute(this, ATTR_TIER15BLOCK13THRESHOLD, "Tier 15 Block 13 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER15BLOCK14THRESHOLD, new ZclAttribute(this, ATTR_TIER15BLOCK14THRESHOLD, "Tier 15 Block 14 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER15BLOCK15THRESHOLD, new ZclAttribute(this, ATTR_TIER15BLOCK15THRESHOLD, "Tier 15 Block 15 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER15BLOCKTHRESHOLDCOUNT, new ZclAttribute(this, ATTR_TIER15BLOCKTHRESHOLDCOUNT, "Tier 15 Block Threshold Count", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_STARTOFBLOCKPERIOD, new ZclAttribute(this, ATTR_STARTOFBLOCKPERIOD, "Start of Block Period", ZclDataType.UTCTIME, false, true, false, false));
-        attributeMap.put(ATTR_BLOCKPERIODDURATION, new ZclAttribute(this, ATTR_BLOCKPERIODDURATION, "Block Period Duration", ZclDataType.UNSIGNED_24_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_THRESHOLDMULTIPLIER, new ZclAttribute(this, ATTR_THRESHOLDMULTIPLIER, "Threshold Multiplier", ZclDataType.UNSIGNED_24_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_THRESHOLDDIVISOR, new ZclAttribute(this, ATTR_THRESHOLDDIVISOR, "Threshold Divisor", ZclDataType.UNSIGNED_24_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_BLOCKPERIODDURATIONTYPE, new ZclAttribute(this, ATTR_BLOCKPERIODDURATIONTYPE, "Block Period Duration Type", ZclDataType.BITMAP_8_BIT, false, true, false, false));
-        attributeMap.put(ATTR_COMMODITYTYPESERVER, new ZclAttribute(this, ATTR_COMMODITYTYPESERVER, "Commodity Type Server", ZclDataType.ENUMERATION_8_BIT, false, true, false, false));
-        attributeMap.put(ATTR_STANDINGCHARGE, new ZclAttribute(this, ATTR_STANDINGCHARGE, "Standing Charge", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_CONVERSIONFACTOR, new ZclAttribute(this, ATTR_CONVERSIONFACTOR, "Conversion Factor", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_CONVERSIONFACTORTRAILINGDIGIT, new ZclAttribute(this, ATTR_CONVERSIONFACTORTRAILINGDIGIT, "Conversion Factor Trailing Digit", ZclDataType.BITMAP_8_BIT, false, true, false, false));
-        attributeMap.put(ATTR_CALORIFICVALUE, new ZclAttribute(this, ATTR_CALORIFICVALUE, "Calorific Value", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_CALORIFICVALUEUNIT, new ZclAttribute(this, ATTR_CALORIFICVALUEUNIT, "Calorific Value Unit", ZclDataType.ENUMERATION_8_BIT, false, true, false, false));
-        attributeMap.put(ATTR_CALORIFICVALUETRAILINGDIGIT, new ZclAttribute(this, ATTR_CALORIFICVALUETRAILINGDIGIT, "Calorific Value Trailing Digit", ZclDataType.BITMAP_8_BIT, false, true, false, false));
-        attributeMap.put(ATTR_NOTIERBLOCK1PRICE, new ZclAttribute(this, ATTR_NOTIERBLOCK1PRICE, "No Tier Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_NOTIERBLOCK2PRICE, new ZclAttribute(this, ATTR_NOTIERBLOCK2PRICE, "No Tier Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_NOTIERBLOCK3PRICE, new ZclAttribute(this, ATTR_NOTIERBLOCK3PRICE, "No Tier Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_NOTIERBLOCK4PRICE, new ZclAttribute(this, ATTR_NOTIERBLOCK4PRICE, "No Tier Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_NOTIERBLOCK5PRICE, new ZclAttribute(this, ATTR_NOTIERBLOCK5PRICE, "No Tier Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_NOTIERBLOCK6PRICE, new ZclAttribute(this, ATTR_NOTIERBLOCK6PRICE, "No Tier Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_NOTIERBLOCK7PRICE, new ZclAttribute(this, ATTR_NOTIERBLOCK7PRICE, "No Tier Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_NOTIERBLOCK8PRICE, new ZclAttribute(this, ATTR_NOTIERBLOCK8PRICE, "No Tier Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_NOTIERBLOCK9PRICE, new ZclAttribute(this, ATTR_NOTIERBLOCK9PRICE, "No Tier Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_NOTIERBLOCK10PRICE, new ZclAttribute(this, ATTR_NOTIERBLOCK10PRICE, "No Tier Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_NOTIERBLOCK11PRICE, new ZclAttribute(this, ATTR_NOTIERBLOCK11PRICE, "No Tier Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_NOTIERBLOCK12PRICE, new ZclAttribute(this, ATTR_NOTIERBLOCK12PRICE, "No Tier Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_NOTIERBLOCK13PRICE, new ZclAttribute(this, ATTR_NOTIERBLOCK13PRICE, "No Tier Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_NOTIERBLOCK14PRICE, new ZclAttribute(this, ATTR_NOTIERBLOCK14PRICE, "No Tier Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_NOTIERBLOCK15PRICE, new ZclAttribute(this, ATTR_NOTIERBLOCK15PRICE, "No Tier Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_NOTIERBLOCK16PRICE, new ZclAttribute(this, ATTR_NOTIERBLOCK16PRICE, "No Tier Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER1BLOCK1PRICE, new ZclAttribute(this, ATTR_TIER1BLOCK1PRICE, "Tier 1 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER1BLOCK2PRICE, new ZclAttribute(this, ATTR_TIER1BLOCK2PRICE, "Tier 1 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER1BLOCK3PRICE, new ZclAttribute(this, ATTR_TIER1BLOCK3PRICE, "Tier 1 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER1BLOCK4PRICE, new ZclAttribute(this, ATTR_TIER1BLOCK4PRICE, "Tier 1 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER1BLOCK5PRICE, new ZclAttribute(this, ATTR_TIER1BLOCK5PRICE, "Tier 1 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER1BLOCK6PRICE, new ZclAttribute(this, ATTR_TIER1BLOCK6PRICE, "Tier 1 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER1BLOCK7PRICE, new ZclAttribute(this, ATTR_TIER1BLOCK7PRICE, "Tier 1 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER1BLOCK8PRICE, new ZclAttribute(this, ATTR_TIER1BLOCK8PRICE, "Tier 1 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER1BLOCK9PRICE, new ZclAttribute(this, ATTR_TIER1BLOCK9PRICE, "Tier 1 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER1BLOCK10PRICE, new ZclAttribute(this, ATTR_TIER1BLOCK10PRICE, "Tier 1 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER1BLOCK11PRICE, new ZclAttribute(this, ATTR_TIER1BLOCK11PRICE, "Tier 1 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER1BLOCK12PRICE, new ZclAttribute(this, ATTR_TIER1BLOCK12PRICE, "Tier 1 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER1BLOCK13PRICE, new ZclAttribute(this, ATTR_TIER1BLOCK13PRICE, "Tier 1 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER1BLOCK14PRICE, new ZclAttribute(this, ATTR_TIER1BLOCK14PRICE, "Tier 1 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER1BLOCK15PRICE, new ZclAttribute(this, ATTR_TIER1BLOCK15PRICE, "Tier 1 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER1BLOCK16PRICE, new ZclAttribute(this, ATTR_TIER1BLOCK16PRICE, "Tier 1 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER2BLOCK1PRICE, new ZclAttribute(this, ATTR_TIER2BLOCK1PRICE, "Tier 2 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER2BLOCK2PRICE, new ZclAttribute(this, ATTR_TIER2BLOCK2PRICE, "Tier 2 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER2BLOCK3PRICE, new ZclAttribute(this, ATTR_TIER2BLOCK3PRICE, "Tier 2 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER2BLOCK4PRICE, new ZclAttribute(this, ATTR_TIER2BLOCK4PRICE, "Tier 2 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER2BLOCK5PRICE, new ZclAttribute(this, ATTR_TIER2BLOCK5PRICE, "Tier 2 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER2BLOCK6PRICE, new ZclAttribute(this, ATTR_TIER2BLOCK6PRICE, "Tier 2 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER2BLOCK7PRICE, new ZclAttribute(this, ATTR_TIER2BLOCK7PRICE, "Tier 2 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER2BLOCK8PRICE, new ZclAttribute(this, ATTR_TIER2BLOCK8PRICE, "Tier 2 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER2BLOCK9PRICE, new ZclAttribute(this, ATTR_TIER2BLOCK9PRICE, "Tier 2 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER2BLOCK10PRICE, new ZclAttribute(this, ATTR_TIER2BLOCK10PRICE, "Tier 2 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER2BLOCK11PRICE, new ZclAttribute(this, ATTR_TIER2BLOCK11PRICE, "Tier 2 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER2BLOCK12PRICE, new ZclAttribute(this, ATTR_TIER2BLOCK12PRICE, "Tier 2 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER2BLOCK13PRICE, new ZclAttribute(this, ATTR_TIER2BLOCK13PRICE, "Tier 2 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER2BLOCK14PRICE, new ZclAttribute(this, ATTR_TIER2BLOCK14PRICE, "Tier 2 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER2BLOCK15PRICE, new ZclAttribute(this, ATTR_TIER2BLOCK15PRICE, "Tier 2 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER2BLOCK16PRICE, new ZclAttribute(this, ATTR_TIER2BLOCK16PRICE, "Tier 2 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER3BLOCK1PRICE, new ZclAttribute(this, ATTR_TIER3BLOCK1PRICE, "Tier 3 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER3BLOCK2PRICE, new ZclAttribute(this, ATTR_TIER3BLOCK2PRICE, "Tier 3 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER3BLOCK3PRICE, new ZclAttribute(this, ATTR_TIER3BLOCK3PRICE, "Tier 3 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER3BLOCK4PRICE, new ZclAttribute(this, ATTR_TIER3BLOCK4PRICE, "Tier 3 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER3BLOCK5PRICE, new ZclAttribute(this, ATTR_TIER3BLOCK5PRICE, "Tier 3 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER3BLOCK6PRICE, new ZclAttribute(this, ATTR_TIER3BLOCK6PRICE, "Tier 3 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER3BLOCK7PRICE, new ZclAttribute(this, ATTR_TIER3BLOCK7PRICE, "Tier 3 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER3BLOCK8PRICE, new ZclAttribute(this, ATTR_TIER3BLOCK8PRICE, "Tier 3 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER3BLOCK9PRICE, new ZclAttribute(this, ATTR_TIER3BLOCK9PRICE, "Tier 3 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER3BLOCK10PRICE, new ZclAttribute(this, ATTR_TIER3BLOCK10PRICE, "Tier 3 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER3BLOCK11PRICE, new ZclAttribute(this, ATTR_TIER3BLOCK11PRICE, "Tier 3 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER3BLOCK12PRICE, new ZclAttribute(this, ATTR_TIER3BLOCK12PRICE, "Tier 3 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER3BLOCK13PRICE, new ZclAttribute(this, ATTR_TIER3BLOCK13PRICE, "Tier 3 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER3BLOCK14PRICE, new ZclAttribute(this, ATTR_TIER3BLOCK14PRICE, "Tier 3 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER3BLOCK15PRICE, new ZclAttribute(this, ATTR_TIER3BLOCK15PRICE, "Tier 3 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER3BLOCK16PRICE, new ZclAttribute(this, ATTR_TIER3BLOCK16PRICE, "Tier 3 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER4BLOCK1PRICE, new ZclAttribute(this, ATTR_TIER4BLOCK1PRICE, "Tier 4 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER4BLOCK2PRICE, new ZclAttribute(this, ATTR_TIER4BLOCK2PRICE, "Tier 4 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER4BLOCK3PRICE, new ZclAttribute(this, ATTR_TIER4BLOCK3PRICE, "Tier 4 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER4BLOCK4PRICE, new ZclAttribute(this, ATTR_TIER4BLOCK4PRICE, "Tier 4 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER4BLOCK5PRICE, new ZclAttribute(this, ATTR_TIER4BLOCK5PRICE, "Tier 4 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER4BLOCK6PRICE, new ZclAttribute(this, ATTR_TIER4BLOCK6PRICE, "Tier 4 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER4BLOCK7PRICE, new ZclAttribute(this, ATTR_TIER4BLOCK7PRICE, "Tier 4 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER4BLOCK8PRICE, new ZclAttribute(this, ATTR_TIER4BLOCK8PRICE, "Tier 4 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER4BLOCK9PRICE, new ZclAttribute(this, ATTR_TIER4BLOCK9PRICE, "Tier 4 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER4BLOCK10PRICE, new ZclAttribute(this, ATTR_TIER4BLOCK10PRICE, "Tier 4 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER4BLOCK11PRICE, new ZclAttribute(this, ATTR_TIER4BLOCK11PRICE, "Tier 4 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER4BLOCK12PRICE, new ZclAttribute(this, ATTR_TIER4BLOCK12PRICE, "Tier 4 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER4BLOCK13PRICE, new ZclAttribute(this, ATTR_TIER4BLOCK13PRICE, "Tier 4 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER4BLOCK14PRICE, new ZclAttribute(this, ATTR_TIER4BLOCK14PRICE, "Tier 4 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER4BLOCK15PRICE, new ZclAttribute(this, ATTR_TIER4BLOCK15PRICE, "Tier 4 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER4BLOCK16PRICE, new ZclAttribute(this, ATTR_TIER4BLOCK16PRICE, "Tier 4 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER5BLOCK1PRICE, new ZclAttribute(this, ATTR_TIER5BLOCK1PRICE, "Tier 5 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER5BLOCK2PRICE, new ZclAttribute(this, ATTR_TIER5BLOCK2PRICE, "Tier 5 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER5BLOCK3PRICE, new ZclAttribute(this, ATTR_TIER5BLOCK3PRICE, "Tier 5 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER5BLOCK4PRICE, new ZclAttribute(this, ATTR_TIER5BLOCK4PRICE, "Tier 5 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER5BLOCK5PRICE, new ZclAttribute(this, ATTR_TIER5BLOCK5PRICE, "Tier 5 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER5BLOCK6PRICE, new ZclAttribute(this, ATTR_TIER5BLOCK6PRICE, "Tier 5 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER5BLOCK7PRICE, new ZclAttribute(this, ATTR_TIER5BLOCK7PRICE, "Tier 5 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER5BLOCK8PRICE, new ZclAttribute(this, ATTR_TIER5BLOCK8PRICE, "Tier 5 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER5BLOCK9PRICE, new ZclAttribute(this, ATTR_TIER5BLOCK9PRICE, "Tier 5 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER5BLOCK10PRICE, new ZclAttribute(this, ATTR_TIER5BLOCK10PRICE, "Tier 5 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER5BLOCK11PRICE, new ZclAttribute(this, ATTR_TIER5BLOCK11PRICE, "Tier 5 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER5BLOCK12PRICE, new ZclAttribute(this, ATTR_TIER5BLOCK12PRICE, "Tier 5 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER5BLOCK13PRICE, new ZclAttribute(this, ATTR_TIER5BLOCK13PRICE, "Tier 5 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER5BLOCK14PRICE, new ZclAttribute(this, ATTR_TIER5BLOCK14PRICE, "Tier 5 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER5BLOCK15PRICE, new ZclAttribute(this, ATTR_TIER5BLOCK15PRICE, "Tier 5 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER5BLOCK16PRICE, new ZclAttribute(this, ATTR_TIER5BLOCK16PRICE, "Tier 5 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER6BLOCK1PRICE, new ZclAttribute(this, ATTR_TIER6BLOCK1PRICE, "Tier 6 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER6BLOCK2PRICE, new ZclAttribute(this, ATTR_TIER6BLOCK2PRICE, "Tier 6 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER6BLOCK3PRICE, new ZclAttribute(this, ATTR_TIER6BLOCK3PRICE, "Tier 6 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER6BLOCK4PRICE, new ZclAttribute(this, ATTR_TIER6BLOCK4PRICE, "Tier 6 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER6BLOCK5PRICE, new ZclAttribute(this, ATTR_TIER6BLOCK5PRICE, "Tier 6 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER6BLOCK6PRICE, new ZclAttribute(this, ATTR_TIER6BLOCK6PRICE, "Tier 6 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER6BLOCK7PRICE, new ZclAttribute(this, ATTR_TIER6BLOCK7PRICE, "Tier 6 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER6BLOCK8PRICE, new ZclAttribute(this, ATTR_TIER6BLOCK8PRICE, "Tier 6 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER6BLOCK9PRICE, new ZclAttribute(this, ATTR_TIER6BLOCK9PRICE, "Tier 6 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER6BLOCK10PRICE, new ZclAttribute(this, ATTR_TIER6BLOCK10PRICE, "Tier 6 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER6BLOCK11PRICE, new ZclAttribute(this, ATTR_TIER6BLOCK11PRICE, "Tier 6 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER6BLOCK12PRICE, new ZclAttribute(this, ATTR_TIER6BLOCK12PRICE, "Tier 6 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER6BLOCK13PRICE, new ZclAttribute(this, ATTR_TIER6BLOCK13PRICE, "Tier 6 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER6BLOCK14PRICE, new ZclAttribute(this, ATTR_TIER6BLOCK14PRICE, "Tier 6 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER6BLOCK15PRICE, new ZclAttribute(this, ATTR_TIER6BLOCK15PRICE, "Tier 6 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER6BLOCK16PRICE, new ZclAttribute(this, ATTR_TIER6BLOCK16PRICE, "Tier 6 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER7BLOCK1PRICE, new ZclAttribute(this, ATTR_TIER7BLOCK1PRICE, "Tier 7 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER7BLOCK2PRICE, new ZclAttribute(this, ATTR_TIER7BLOCK2PRICE, "Tier 7 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER7BLOCK3PRICE, new ZclAttribute(this, ATTR_TIER7BLOCK3PRICE, "Tier 7 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER7BLOCK4PRICE, new ZclAttribute(this, ATTR_TIER7BLOCK4PRICE, "Tier 7 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER7BLOCK5PRICE, new ZclAttribute(this, ATTR_TIER7BLOCK5PRICE, "Tier 7 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER7BLOCK6PRICE, new ZclAttribute(this, ATTR_TIER7BLOCK6PRICE, "Tier 7 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER7BLOCK7PRICE, new ZclAttribute(this, ATTR_TIER7BLOCK7PRICE, "Tier 7 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER7BLOCK8PRICE, new ZclAttribute(this, ATTR_TIER7BLOCK8PRICE, "Tier 7 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER7BLOCK9PRICE, new ZclAttribute(this, ATTR_TIER7BLOCK9PRICE, "Tier 7 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER7BLOCK10PRICE, new ZclAttribute(this, ATTR_TIER7BLOCK10PRICE, "Tier 7 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER7BLOCK11PRICE, new ZclAttribute(this, ATTR_TIER7BLOCK11PRICE, "Tier 7 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER7BLOCK12PRICE, new ZclAttribute(this, ATTR_TIER7BLOCK12PRICE, "Tier 7 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER7BLOCK13PRICE, new ZclAttribute(this, ATTR_TIER7BLOCK13PRICE, "Tier 7 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER7BLOCK14PRICE, new ZclAttribute(this, ATTR_TIER7BLOCK14PRICE, "Tier 7 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER7BLOCK15PRICE, new ZclAttribute(this, ATTR_TIER7BLOCK15PRICE, "Tier 7 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER7BLOCK16PRICE, new ZclAttribute(this, ATTR_TIER7BLOCK16PRICE, "Tier 7 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER8BLOCK1PRICE, new ZclAttribute(this, ATTR_TIER8BLOCK1PRICE, "Tier 8 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER8BLOCK2PRICE, new ZclAttribute(this, ATTR_TIER8BLOCK2PRICE, "Tier 8 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER8BLOCK3PRICE, new ZclAttribute(this, ATTR_TIER8BLOCK3PRICE, "Tier 8 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER8BLOCK4PRICE, new ZclAttribute(this, ATTR_TIER8BLOCK4PRICE, "Tier 8 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER8BLOCK5PRICE, new ZclAttribute(this, ATTR_TIER8BLOCK5PRICE, "Tier 8 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER8BLOCK6PRICE, new ZclAttribute(this, ATTR_TIER8BLOCK6PRICE, "Tier 8 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER8BLOCK7PRICE, new ZclAttribute(this, ATTR_TIER8BLOCK7PRICE, "Tier 8 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER8BLOCK8PRICE, new ZclAttribute(this, ATTR_TIER8BLOCK8PRICE, "Tier 8 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER8BLOCK9PRICE, new ZclAttribute(this, ATTR_TIER8BLOCK9PRICE, "Tier 8 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER8BLOCK10PRICE, new ZclAttribute(this, ATTR_TIER8BLOCK10PRICE, "Tier 8 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER8BLOCK11PRICE, new ZclAttribute(this, ATTR_TIER8BLOCK11PRICE, "Tier 8 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER8BLOCK12PRICE, new ZclAttribute(this, ATTR_TIER8BLOCK12PRICE, "Tier 8 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER8BLOCK13PRICE, new ZclAttribute(this, ATTR_TIER8BLOCK13PRICE, "Tier 8 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER8BLOCK14PRICE, new ZclAttribute(this, ATTR_TIER8BLOCK14PRICE, "Tier 8 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER8BLOCK15PRICE, new ZclAttribute(this, ATTR_TIER8BLOCK15PRICE, "Tier 8 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER8BLOCK16PRICE, new ZclAttribute(this, ATTR_TIER8BLOCK16PRICE, "Tier 8 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER9BLOCK1PRICE, new ZclAttribute(this, ATTR_TIER9BLOCK1PRICE, "Tier 9 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER9BLOCK2PRICE, new ZclAttribute(this, ATTR_TIER9BLOCK2PRICE, "Tier 9 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER9BLOCK3PRICE, new ZclAttribute(this, ATTR_TIER9BLOCK3PRICE, "Tier 9 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER9BLOCK4PRICE, new ZclAttribute(this, ATTR_TIER9BLOCK4PRICE, "Tier 9 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER9BLOCK5PRICE, new ZclAttribute(this, ATTR_TIER9BLOCK5PRICE, "Tier 9 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER9BLOCK6PRICE, new ZclAttribute(this, ATTR_TIER9BLOCK6PRICE, "Tier 9 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER9BLOCK7PRICE, new ZclAttribute(this, ATTR_TIER9BLOCK7PRICE, "Tier 9 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER9BLOCK8PRICE, new ZclAttribute(this, ATTR_TIER9BLOCK8PRICE, "Tier 9 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER9BLOCK9PRICE, new ZclAttribute(this, ATTR_TIER9BLOCK9PRICE, "Tier 9 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER9BLOCK10PRICE, new ZclAttribute(this, ATTR_TIER9BLOCK10PRICE, "Tier 9 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER9BLOCK11PRICE, new ZclAttribute(this, ATTR_TIER9BLOCK11PRICE, "Tier 9 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER9BLOCK12PRICE, new ZclAttribute(this, ATTR_TIER9BLOCK12PRICE, "Tier 9 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER9BLOCK13PRICE, new ZclAttribute(this, ATTR_TIER9BLOCK13PRICE, "Tier 9 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER9BLOCK14PRICE, new ZclAttribute(this, ATTR_TIER9BLOCK14PRICE, "Tier 9 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER9BLOCK15PRICE, new ZclAttribute(this, ATTR_TIER9BLOCK15PRICE, "Tier 9 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER9BLOCK16PRICE, new ZclAttribute(this, ATTR_TIER9BLOCK16PRICE, "Tier 9 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER10BLOCK1PRICE, new ZclAttribute(this, ATTR_TIER10BLOCK1PRICE, "Tier 10 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER10BLOCK2PRICE, new ZclAttribute(this, ATTR_TIER10BLOCK2PRICE, "Tier 10 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER10BLOCK3PRICE, new ZclAttribute(this, ATTR_TIER10BLOCK3PRICE, "Tier 10 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER10BLOCK4PRICE, new ZclAttribute(this, ATTR_TIER10BLOCK4PRICE, "Tier 10 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER10BLOCK5PRICE, new ZclAttribute(this, ATTR_TIER10BLOCK5PRICE, "Tier 10 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER10BLOCK6PRICE, new ZclAttribute(this, ATTR_TIER10BLOCK6PRICE, "Tier 10 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER10BLOCK7PRICE, new ZclAttribute(this, ATTR_TIER10BLOCK7PRICE, "Tier 10 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER10BLOCK8PRICE, new ZclAttribute(this, ATTR_TIER10BLOCK8PRICE, "Tier 10 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER10BLOCK9PRICE, new ZclAttribute(this, ATTR_TIER10BLOCK9PRICE, "Tier 10 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER10BLOCK10PRICE, new ZclAttribute(this, ATTR_TIER10BLOCK10PRICE, "Tier 10 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER10BLOCK11PRICE, new ZclAttribute(this, ATTR_TIER10BLOCK11PRICE, "Tier 10 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER10BLOCK12PRICE, new ZclAttribute(this, ATTR_TIER10BLOCK12PRICE, "Tier 10 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER10BLOCK13PRICE, new ZclAttribute(this, ATTR_TIER10BLOCK13PRICE, "Tier 10 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER10BLOCK14PRICE, new ZclAttribute(this, ATTR_TIER10BLOCK14PRICE, "Tier 10 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER10BLOCK15PRICE, new ZclAttribute(this, ATTR_TIER10BLOCK15PRICE, "Tier 10 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER10BLOCK16PRICE, new ZclAttribute(this, ATTR_TIER10BLOCK16PRICE, "Tier 10 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER11BLOCK1PRICE, new ZclAttribute(this, ATTR_TIER11BLOCK1PRICE, "Tier 11 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER11BLOCK2PRICE, new ZclAttribute(this, ATTR_TIER11BLOCK2PRICE, "Tier 11 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER11BLOCK3PRICE, new ZclAttribute(this, ATTR_TIER11BLOCK3PRICE, "Tier 11 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER11BLOCK4PRICE, new ZclAttribute(this, ATTR_TIER11BLOCK4PRICE, "Tier 11 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER11BLOCK5PRICE, new ZclAttribute(this, ATTR_TIER11BLOCK5PRICE, "Tier 11 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER11BLOCK6PRICE, new ZclAttribute(this, ATTR_TIER11BLOCK6PRICE, "Tier 11 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER11BLOCK7PRICE, new ZclAttribute(this, ATTR_TIER11BLOCK7PRICE, "Tier 11 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER11BLOCK8PRICE, new ZclAttribute(this, ATTR_TIER11BLOCK8PRICE, "Tier 11 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER11BLOCK9PRICE, new ZclAttribute(this, ATTR_TIER11BLOCK9PRICE, "Tier 11 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER11BLOCK10PRICE, new ZclAttribute(this, ATTR_TIER11BLOCK10PRICE, "Tier 11 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER11BLOCK11PRICE, new ZclAttribute(this, ATTR_TIER11BLOCK11PRICE, "Tier 11 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER11BLOCK12PRICE, new ZclAttribute(this, ATTR_TIER11BLOCK12PRICE, "Tier 11 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER11BLOCK13PRICE, new ZclAttribute(this, ATTR_TIER11BLOCK13PRICE, "Tier 11 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER11BLOCK14PRICE, new ZclAttribute(this, ATTR_TIER11BLOCK14PRICE, "Tier 11 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER11BLOCK15PRICE, new ZclAttribute(this, ATTR_TIER11BLOCK15PRICE, "Tier 11 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER11BLOCK16PRICE, new ZclAttribute(this, ATTR_TIER11BLOCK16PRICE, "Tier 11 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER12BLOCK1PRICE, new ZclAttribute(this, ATTR_TIER12BLOCK1PRICE, "Tier 12 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER12BLOCK2PRICE, new ZclAttribute(this, ATTR_TIER12BLOCK2PRICE, "Tier 12 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER12BLOCK3PRICE, new ZclAttribute(this, ATTR_TIER12BLOCK3PRICE, "Tier 12 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER12BLOCK4PRICE, new ZclAttribute(this, ATTR_TIER12BLOCK4PRICE, "Tier 12 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER12BLOCK5PRICE, new ZclAttribute(this, ATTR_TIER12BLOCK5PRICE, "Tier 12 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER12BLOCK6PRICE, new ZclAttribute(this, ATTR_TIER12BLOCK6PRICE, "Tier 12 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER12BLOCK7PRICE, new ZclAttribute(this, ATTR_TIER12BLOCK7PRICE, "Tier 12 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER12BLOCK8PRICE, new ZclAttribute(this, ATTR_TIER12BLOCK8PRICE, "Tier 12 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER12BLOCK9PRICE, new ZclAttribute(this, ATTR_TIER12BLOCK9PRICE, "Tier 12 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER12BLOCK10PRICE, new ZclAttribute(this, ATTR_TIER12BLOCK10PRICE, "Tier 12 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER12BLOCK11PRICE, new ZclAttribute(this, ATTR_TIER12BLOCK11PRICE, "Tier 12 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER12BLOCK12PRICE, new ZclAttribute(this, ATTR_TIER12BLOCK12PRICE, "Tier 12 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER12BLOCK13PRICE, new ZclAttribute(this, ATTR_TIER12BLOCK13PRICE, "Tier 12 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER12BLOCK14PRICE, new ZclAttribute(this, ATTR_TIER12BLOCK14PRICE, "Tier 12 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER12BLOCK15PRICE, new ZclAttribute(this, ATTR_TIER12BLOCK15PRICE, "Tier 12 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER12BLOCK16PRICE, new ZclAttribute(this, ATTR_TIER12BLOCK16PRICE, "Tier 12 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER13BLOCK1PRICE, new ZclAttribute(this, ATTR_TIER13BLOCK1PRICE, "Tier 13 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER13BLOCK2PRICE, new ZclAttribute(this, ATTR_TIER13BLOCK2PRICE, "Tier 13 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER13BLOCK3PRICE, new ZclAttribute(this, ATTR_TIER13BLOCK3PRICE, "Tier 13 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER13BLOCK4PRICE, new ZclAttribute(this, ATTR_TIER13BLOCK4PRICE, "Tier 13 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER13BLOCK5PRICE, new ZclAttribute(this, ATTR_TIER13BLOCK5PRICE, "Tier 13 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER13BLOCK6PRICE, new ZclAttribute(this, ATTR_TIER13BLOCK6PRICE, "Tier 13 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER13BLOCK7PRICE, new ZclAttribute(this, ATTR_TIER13BLOCK7PRICE, "Tier 13 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER13BLOCK8PRICE, new ZclAttribute(this, ATTR_TIER13BLOCK8PRICE, "Tier 13 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER13BLOCK9PRICE, new ZclAttribute(this, ATTR_TIER13BLOCK9PRICE, "Tier 13 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER13BLOCK10PRICE, new ZclAttribute(this, ATTR_TIER13BLOCK10PRICE, "Tier 13 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER13BLOCK11PRICE, new ZclAttribute(this, ATTR_TIER13BLOCK11PRICE, "Tier 13 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER13BLOCK12PRICE, new ZclAttribute(this, ATTR_TIER13BLOCK12PRICE, "Tier 13 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER13BLOCK13PRICE, new ZclAttribute(this, ATTR_TIER13BLOCK13PRICE, "Tier 13 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER13BLOCK14PRICE, new ZclAttribute(this, ATTR_TIER13BLOCK14PRICE, "Tier 13 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER13BLOCK15PRICE, new ZclAttribute(this, ATTR_TIER13BLOCK15PRICE, "Tier 13 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER13BLOCK16PRICE, new ZclAttribute(this, ATTR_TIER13BLOCK16PRICE, "Tier 13 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER14BLOCK1PRICE, new ZclAttribute(this, ATTR_TIER14BLOCK1PRICE, "Tier 14 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER14BLOCK2PRICE, new ZclAttribute(this, ATTR_TIER14BLOCK2PRICE, "Tier 14 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER14BLOCK3PRICE, new ZclAttribute(this, ATTR_TIER14BLOCK3PRICE, "Tier 14 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER14BLOCK4PRICE, new ZclAttribute(this, ATTR_TIER14BLOCK4PRICE, "Tier 14 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER14BLOCK5PRICE, new ZclAttribute(this, ATTR_TIER14BLOCK5PRICE, "Tier 14 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER14BLOCK6PRICE, new ZclAttribute(this, ATTR_TIER14BLOCK6PRICE, "Tier 14 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER14BLOCK7PRICE, new ZclAttribute(this, ATTR_TIER14BLOCK7PRICE, "Tier 14 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER14BLOCK8PRICE, new ZclAttribute(this, ATTR_TIER14BLOCK8PRICE, "Tier 14 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER14BLOCK9PRICE, new ZclAttribute(this, ATTR_TIER14BLOCK9PRICE, "Tier 14 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER14BLOCK10PRICE, new ZclAttribute(this, ATTR_TIER14BLOCK10PRICE, "Tier 14 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER14BLOCK11PRICE, new ZclAttribute(this, ATTR_TIER14BLOCK11PRICE, "Tier 14 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER14BLOCK12PRICE, new ZclAttribute(this, ATTR_TIER14BLOCK12PRICE, "Tier 14 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER14BLOCK13PRICE, new ZclAttribute(this, ATTR_TIER14BLOCK13PRICE, "Tier 14 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER14BLOCK14PRICE, new ZclAttribute(this, ATTR_TIER14BLOCK14PRICE, "Tier 14 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER14BLOCK15PRICE, new ZclAttribute(this, ATTR_TIER14BLOCK15PRICE, "Tier 14 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER14BLOCK16PRICE, new ZclAttribute(this, ATTR_TIER14BLOCK16PRICE, "Tier 14 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER15BLOCK1PRICE, new ZclAttribute(this, ATTR_TIER15BLOCK1PRICE, "Tier 15 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER15BLOCK2PRICE, new ZclAttribute(this, ATTR_TIER15BLOCK2PRICE, "Tier 15 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER15BLOCK3PRICE, new ZclAttribute(this, ATTR_TIER15BLOCK3PRICE, "Tier 15 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER15BLOCK4PRICE, new ZclAttribute(this, ATTR_TIER15BLOCK4PRICE, "Tier 15 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER15BLOCK5PRICE, new ZclAttribute(this, ATTR_TIER15BLOCK5PRICE, "Tier 15 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER15BLOCK6PRICE, new ZclAttribute(this, ATTR_TIER15BLOCK6PRICE, "Tier 15 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER15BLOCK7PRICE, new ZclAttribute(this, ATTR_TIER15BLOCK7PRICE, "Tier 15 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER15BLOCK8PRICE, new ZclAttribute(this, ATTR_TIER15BLOCK8PRICE, "Tier 15 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER15BLOCK9PRICE, new ZclAttribute(this, ATTR_TIER15BLOCK9PRICE, "Tier 15 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER15BLOCK10PRICE, new ZclAttribute(this, ATTR_TIER15BLOCK10PRICE, "Tier 15 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER15BLOCK11PRICE, new ZclAttribute(this, ATTR_TIER15BLOCK11PRICE, "Tier 15 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER15BLOCK12PRICE, new ZclAttribute(this, ATTR_TIER15BLOCK12PRICE, "Tier 15 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER15BLOCK13PRICE, new ZclAttribute(this, ATTR_TIER15BLOCK13PRICE, "Tier 15 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER15BLOCK14PRICE, new ZclAttribute(this, ATTR_TIER15BLOCK14PRICE, "Tier 15 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER15BLOCK15PRICE, new ZclAttribute(this, ATTR_TIER15BLOCK15PRICE, "Tier 15 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER15BLOCK16PRICE, new ZclAttribute(this, ATTR_TIER15BLOCK16PRICE, "Tier 15 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_PRICETIER16, new ZclAttribute(this, ATTR_PRICETIER16, "Price Tier 16", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_PRICETIER17, new ZclAttribute(this, ATTR_PRICETIER17, "Price Tier 17", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_PRICETIER18, new ZclAttribute(this, ATTR_PRICETIER18, "Price Tier 18", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_PRICETIER19, new ZclAttribute(this, ATTR_PRICETIER19, "Price Tier 19", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_PRICETIER20, new ZclAttribute(this, ATTR_PRICETIER20, "Price Tier 20", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_PRICETIER21, new ZclAttribute(this, ATTR_PRICETIER21, "Price Tier 21", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_PRICETIER22, new ZclAttribute(this, ATTR_PRICETIER22, "Price Tier 22", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_PRICETIER23, new ZclAttribute(this, ATTR_PRICETIER23, "Price Tier 23", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_PRICETIER24, new ZclAttribute(this, ATTR_PRICETIER24, "Price Tier 24", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_PRICETIER25, new ZclAttribute(this, ATTR_PRICETIER25, "Price Tier 25", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_PRICETIER26, new ZclAttribute(this, ATTR_PRICETIER26, "Price Tier 26", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_PRICETIER27, new ZclAttribute(this, ATTR_PRICETIER27, "Price Tier 27", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_PRICETIER28, new ZclAttribute(this, ATTR_PRICETIER28, "Price Tier 28", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_PRICETIER29, new ZclAttribute(this, ATTR_PRICETIER29, "Price Tier 29", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_PRICETIER30, new ZclAttribute(this, ATTR_PRICETIER30, "Price Tier 30", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_PRICETIER31, new ZclAttribute(this, ATTR_PRICETIER31, "Price Tier 31", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_PRICETIER32, new ZclAttribute(this, ATTR_PRICETIER32, "Price Tier 32", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_PRICETIER33, new ZclAttribute(this, ATTR_PRICETIER33, "Price Tier 33", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_PRICETIER34, new ZclAttribute(this, ATTR_PRICETIER34, "Price Tier 34", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_PRICETIER35, new ZclAttribute(this, ATTR_PRICETIER35, "Price Tier 35", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_PRICETIER36, new ZclAttribute(this, ATTR_PRICETIER36, "Price Tier 36", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_PRICETIER37, new ZclAttribute(this, ATTR_PRICETIER37, "Price Tier 37", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_PRICETIER38, new ZclAttribute(this, ATTR_PRICETIER38, "Price Tier 38", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_PRICETIER39, new ZclAttribute(this, ATTR_PRICETIER39, "Price Tier 39", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_PRICETIER40, new ZclAttribute(this, ATTR_PRICETIER40, "Price Tier 40", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_PRICETIER41, new ZclAttribute(this, ATTR_PRICETIER41, "Price Tier 41", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_PRICETIER42, new ZclAttribute(this, ATTR_PRICETIER42, "Price Tier 42", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_PRICETIER43, new ZclAttribute(this, ATTR_PRICETIER43, "Price Tier 43", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_PRICETIER44, new ZclAttribute(this, ATTR_PRICETIER44, "Price Tier 44", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_PRICETIER45, new ZclAttribute(this, ATTR_PRICETIER45, "Price Tier 45", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_PRICETIER46, new ZclAttribute(this, ATTR_PRICETIER46, "Price Tier 46", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_PRICETIER47, new ZclAttribute(this, ATTR_PRICETIER47, "Price Tier 47", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_CPP1PRICE, new ZclAttribute(this, ATTR_CPP1PRICE, "Cpp 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_CPP2PRICE, new ZclAttribute(this, ATTR_CPP2PRICE, "Cpp 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TARIFFLABEL, new ZclAttribute(this, ATTR_TARIFFLABEL, "Tariff Label", ZclDataType.CHARACTER_STRING, false, true, false, false));
-        attributeMap.put(ATTR_NUMBEROFPRICETIERSINUSE, new ZclAttribute(this, ATTR_NUMBEROFPRICETIERSINUSE, "Numberof Price Tiers In Use", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_NUMBEROFBLOCKTHRESHOLDSINUSE, new ZclAttribute(this, ATTR_NUMBEROFBLOCKTHRESHOLDSINUSE, "Numberof Block Thresholds In Use", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIERBLOCKMODE, new ZclAttribute(this, ATTR_TIERBLOCKMODE, "Tier Block Mode", ZclDataType.ENUMERATION_8_BIT, false, true, false, false));
-        attributeMap.put(ATTR_UNITOFMEASURE, new ZclAttribute(this, ATTR_UNITOFMEASURE, "Unit Of Measure", ZclDataType.ENUMERATION_8_BIT, false, true, false, false));
-        attributeMap.put(ATTR_CURRENCY, new ZclAttribute(this, ATTR_CURRENCY, "Currency", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_PRICETRAILINGDIGIT, new ZclAttribute(this, ATTR_PRICETRAILINGDIGIT, "Price Trailing Digit", ZclDataType.BITMAP_16_BIT, false, true, false, false));
-        attributeMap.put(ATTR_TARIFFRESOLUTIONPERIOD, new ZclAttribute(this, ATTR_TARIFFRESOLUTIONPERIOD, "Tariff Resolution Period", ZclDataType.ENUMERATION_8_BIT, false, true, false, false));
-        attributeMap.put(ATTR_CO2, new ZclAttribute(this, ATTR_CO2, "CO2", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_CO2UNIT, new ZclAttribute(this, ATTR_CO2UNIT, "CO2 Unit", ZclDataType.ENUMERATION_8_BIT, false, true, false, false));
-        attributeMap.put(ATTR_CO2TRAILINGDIGIT, new ZclAttribute(this, ATTR_CO2TRAILINGDIGIT, "CO2 Trailing Digit", ZclDataType.BITMAP_8_BIT, false, true, false, false));
-        attributeMap.put(ATTR_CURRENTBILLINGPERIODSTART, new ZclAttribute(this, ATTR_CURRENTBILLINGPERIODSTART, "Current Billing Period Start", ZclDataType.UTCTIME, false, true, false, false));
-        attributeMap.put(ATTR_CURRENTBILLINGPERIODDURATION, new ZclAttribute(this, ATTR_CURRENTBILLINGPERIODDURATION, "Current Billing Period Duration", ZclDataType.UNSIGNED_24_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_LASTBILLINGPERIODSTART, new ZclAttribute(this, ATTR_LASTBILLINGPERIODSTART, "Last Billing Period Start", ZclDataType.UTCTIME, false, true, false, false));
-        attributeMap.put(ATTR_LASTBILLINGPERIODDURATION, new ZclAttribute(this, ATTR_LASTBILLINGPERIODDURATION, "Last Billing Period Duration", ZclDataType.UNSIGNED_24_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_LASTBILLINGPERIODCONSOLIDATEDBILL, new ZclAttribute(this, ATTR_LASTBILLINGPERIODCONSOLIDATEDBILL, "Last Billing Period Consolidated Bill", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_CREDITPAYMENTDUEDATE, new ZclAttribute(this, ATTR_CREDITPAYMENTDUEDATE, "Credit Payment Due Date", ZclDataType.UTCTIME, false, true, false, false));
-        attributeMap.put(ATTR_CREDITPAYMENTSTATUS, new ZclAttribute(this, ATTR_CREDITPAYMENTSTATUS, "Credit Payment Status", ZclDataType.ENUMERATION_8_BIT, false, true, false, false));
-        attributeMap.put(ATTR_CREDITPAYMENTOVERDUEAMOUNT, new ZclAttribute(this, ATTR_CREDITPAYMENTOVERDUEAMOUNT, "Credit Payment Over Due Amount", ZclDataType.SIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_PAYMENTDISCOUNT, new ZclAttribute(this, ATTR_PAYMENTDISCOUNT, "Payment Discount", ZclDataType.SIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_PAYMENTDISCOUNTPERIOD, new ZclAttribute(this, ATTR_PAYMENTDISCOUNTPERIOD, "Payment Discount Period", ZclDataType.ENUMERATION_8_BIT, false, true, false, false));
-        attributeMap.put(ATTR_CREDITCARDPAYMENT1, new ZclAttribute(this, ATTR_CREDITCARDPAYMENT1, "Credit Card Payment 1", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_CREDITCARDPAYMENTDATE1, new ZclAttribute(this, ATTR_CREDITCARDPAYMENTDATE1, "Credit Card Payment Date 1", ZclDataType.UTCTIME, false, true, false, false));
-        attributeMap.put(ATTR_CREDITCARDPAYMENTREF1, new ZclAttribute(this, ATTR_CREDITCARDPAYMENTREF1, "Credit Card Payment Ref 1", ZclDataType.OCTET_STRING, false, true, false, false));
-        attributeMap.put(ATTR_CREDITCARDPAYMENT2, new ZclAttribute(this, ATTR_CREDITCARDPAYMENT2, "Credit Card Payment 2", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_CREDITCARDPAYMENTDATE2, new ZclAttribute(this, ATTR_CREDITCARDPAYMENTDATE2, "Credit Card Payment Date 2", ZclDataType.UTCTIME, false, true, false, false));
-        attributeMap.put(ATTR_CREDITCARDPAYMENTREF2, new ZclAttribute(this, ATTR_CREDITCARDPAYMENTREF2, "Credit Card Payment Ref 2", ZclDataType.OCTET_STRING, false, true, false, false));
-        attributeMap.put(ATTR_CREDITCARDPAYMENT3, new ZclAttribute(this, ATTR_CREDITCARDPAYMENT3, "Credit Card Payment 3", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_CREDITCARDPAYMENTDATE3, new ZclAttribute(this, ATTR_CREDITCARDPAYMENTDATE3, "Credit Card Payment Date 3", ZclDataType.UTCTIME, false, true, false, false));
-        attributeMap.put(ATTR_CREDITCARDPAYMENTREF3, new ZclAttribute(this, ATTR_CREDITCARDPAYMENTREF3, "Credit Card Payment Ref 3", ZclDataType.OCTET_STRING, false, true, false, false));
-        attributeMap.put(ATTR_CREDITCARDPAYMENT4, new ZclAttribute(this, ATTR_CREDITCARDPAYMENT4, "Credit Card Payment 4", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_CREDITCARDPAYMENTDATE4, new ZclAttribute(this, ATTR_CREDITCARDPAYMENTDATE4, "Credit Card Payment Date 4", ZclDataType.UTCTIME, false, true, false, false));
-        attributeMap.put(ATTR_CREDITCARDPAYMENTREF4, new ZclAttribute(this, ATTR_CREDITCARDPAYMENTREF4, "Credit Card Payment Ref 4", ZclDataType.OCTET_STRING, false, true, false, false));
-        attributeMap.put(ATTR_CREDITCARDPAYMENT5, new ZclAttribute(this, ATTR_CREDITCARDPAYMENT5, "Credit Card Payment 5", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_CREDITCARDPAYMENTDATE5, new ZclAttribute(this, ATTR_CREDITCARDPAYMENTDATE5, "Credit Card Payment Date 5", ZclDataType.UTCTIME, false, true, false, false));
-        attributeMap.put(ATTR_CREDITCARDPAYMENTREF5, new ZclAttribute(this, ATTR_CREDITCARDPAYMENTREF5, "Credit Card Payment Ref 5", ZclDataType.OCTET_STRING, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDTIER1PRICELABEL, new ZclAttribute(this, ATTR_RECEIVEDTIER1PRICELABEL, "Received Tier 1 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
-        attributeMap.put(ATTR_RECEIVEDTIER2PRICELABEL, new ZclAttribute(this, ATTR_RECEIVEDTIER2PRICELABEL, "Received Tier 2 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
-        attributeMap.put(ATTR_RECEIVEDTIER3PRICELABEL, new ZclAttribute(this, ATTR_RECEIVEDTIER3PRICELABEL, "Received Tier 3 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
-        attributeMap.put(ATTR_RECEIVEDTIER4PRICELABEL, new ZclAttribute(this, ATTR_RECEIVEDTIER4PRICELABEL, "Received Tier 4 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
-        attributeMap.put(ATTR_RECEIVEDTIER5PRICELABEL, new ZclAttribute(this, ATTR_RECEIVEDTIER5PRICELABEL, "Received Tier 5 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
-        attributeMap.put(ATTR_RECEIVEDTIER6PRICELABEL, new ZclAttribute(this, ATTR_RECEIVEDTIER6PRICELABEL, "Received Tier 6 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
-        attributeMap.put(ATTR_RECEIVEDTIER7PRICELABEL, new ZclAttribute(this, ATTR_RECEIVEDTIER7PRICELABEL, "Received Tier 7 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
-        attributeMap.put(ATTR_RECEIVEDTIER8PRICELABEL, new ZclAttribute(this, ATTR_RECEIVEDTIER8PRICELABEL, "Received Tier 8 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
-        attributeMap.put(ATTR_RECEIVEDTIER9PRICELABEL, new ZclAttribute(this, ATTR_RECEIVEDTIER9PRICELABEL, "Received Tier 9 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
-        attributeMap.put(ATTR_RECEIVEDTIER10PRICELABEL, new ZclAttribute(this, ATTR_RECEIVEDTIER10PRICELABEL, "Received Tier 10 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
-        attributeMap.put(ATTR_RECEIVEDTIER11PRICELABEL, new ZclAttribute(this, ATTR_RECEIVEDTIER11PRICELABEL, "Received Tier 11 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
-        attributeMap.put(ATTR_RECEIVEDTIER12PRICELABEL, new ZclAttribute(this, ATTR_RECEIVEDTIER12PRICELABEL, "Received Tier 12 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
-        attributeMap.put(ATTR_RECEIVEDTIER13PRICELABEL, new ZclAttribute(this, ATTR_RECEIVEDTIER13PRICELABEL, "Received Tier 13 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
-        attributeMap.put(ATTR_RECEIVEDTIER14PRICELABEL, new ZclAttribute(this, ATTR_RECEIVEDTIER14PRICELABEL, "Received Tier 14 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
-        attributeMap.put(ATTR_RECEIVEDTIER15PRICELABEL, new ZclAttribute(this, ATTR_RECEIVEDTIER15PRICELABEL, "Received Tier 15 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
-        attributeMap.put(ATTR_RECEIVEDTIER16PRICELABEL, new ZclAttribute(this, ATTR_RECEIVEDTIER16PRICELABEL, "Received Tier 16 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
-        attributeMap.put(ATTR_RECEIVEDTIER17PRICELABEL, new ZclAttribute(this, ATTR_RECEIVEDTIER17PRICELABEL, "Received Tier 17 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
-        attributeMap.put(ATTR_RECEIVEDTIER18PRICELABEL, new ZclAttribute(this, ATTR_RECEIVEDTIER18PRICELABEL, "Received Tier 18 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
-        attributeMap.put(ATTR_RECEIVEDTIER19PRICELABEL, new ZclAttribute(this, ATTR_RECEIVEDTIER19PRICELABEL, "Received Tier 19 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
-        attributeMap.put(ATTR_RECEIVEDTIER20PRICELABEL, new ZclAttribute(this, ATTR_RECEIVEDTIER20PRICELABEL, "Received Tier 20 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
-        attributeMap.put(ATTR_RECEIVEDTIER21PRICELABEL, new ZclAttribute(this, ATTR_RECEIVEDTIER21PRICELABEL, "Received Tier 21 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
-        attributeMap.put(ATTR_RECEIVEDTIER22PRICELABEL, new ZclAttribute(this, ATTR_RECEIVEDTIER22PRICELABEL, "Received Tier 22 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
-        attributeMap.put(ATTR_RECEIVEDTIER23PRICELABEL, new ZclAttribute(this, ATTR_RECEIVEDTIER23PRICELABEL, "Received Tier 23 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
-        attributeMap.put(ATTR_RECEIVEDTIER24PRICELABEL, new ZclAttribute(this, ATTR_RECEIVEDTIER24PRICELABEL, "Received Tier 24 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
-        attributeMap.put(ATTR_RECEIVEDTIER25PRICELABEL, new ZclAttribute(this, ATTR_RECEIVEDTIER25PRICELABEL, "Received Tier 25 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
-        attributeMap.put(ATTR_RECEIVEDTIER26PRICELABEL, new ZclAttribute(this, ATTR_RECEIVEDTIER26PRICELABEL, "Received Tier 26 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
-        attributeMap.put(ATTR_RECEIVEDTIER27PRICELABEL, new ZclAttribute(this, ATTR_RECEIVEDTIER27PRICELABEL, "Received Tier 27 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
-        attributeMap.put(ATTR_RECEIVEDTIER28PRICELABEL, new ZclAttribute(this, ATTR_RECEIVEDTIER28PRICELABEL, "Received Tier 28 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
-        attributeMap.put(ATTR_RECEIVEDTIER29PRICELABEL, new ZclAttribute(this, ATTR_RECEIVEDTIER29PRICELABEL, "Received Tier 29 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
-        attributeMap.put(ATTR_RECEIVEDTIER30PRICELABEL, new ZclAttribute(this, ATTR_RECEIVEDTIER30PRICELABEL, "Received Tier 30 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
-        attributeMap.put(ATTR_RECEIVEDTIER31PRICELABEL, new ZclAttribute(this, ATTR_RECEIVEDTIER31PRICELABEL, "Received Tier 31 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
-        attributeMap.put(ATTR_RECEIVEDTIER32PRICELABEL, new ZclAttribute(this, ATTR_RECEIVEDTIER32PRICELABEL, "Received Tier 32 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
-        attributeMap.put(ATTR_RECEIVEDTIER33PRICELABEL, new ZclAttribute(this, ATTR_RECEIVEDTIER33PRICELABEL, "Received Tier 33 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
-        attributeMap.put(ATTR_RECEIVEDTIER34PRICELABEL, new ZclAttribute(this, ATTR_RECEIVEDTIER34PRICELABEL, "Received Tier 34 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
-        attributeMap.put(ATTR_RECEIVEDTIER35PRICELABEL, new ZclAttribute(this, ATTR_RECEIVEDTIER35PRICELABEL, "Received Tier 35 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
-        attributeMap.put(ATTR_RECEIVEDTIER36PRICELABEL, new ZclAttribute(this, ATTR_RECEIVEDTIER36PRICELABEL, "Received Tier 36 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
-        attributeMap.put(ATTR_RECEIVEDTIER37PRICELABEL, new ZclAttribute(this, ATTR_RECEIVEDTIER37PRICELABEL, "Received Tier 37 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
-        attributeMap.put(ATTR_RECEIVEDTIER38PRICELABEL, new ZclAttribute(this, ATTR_RECEIVEDTIER38PRICELABEL, "Received Tier 38 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
-        attributeMap.put(ATTR_RECEIVEDTIER39PRICELABEL, new ZclAttribute(this, ATTR_RECEIVEDTIER39PRICELABEL, "Received Tier 39 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
-        attributeMap.put(ATTR_RECEIVEDTIER40PRICELABEL, new ZclAttribute(this, ATTR_RECEIVEDTIER40PRICELABEL, "Received Tier 40 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
-        attributeMap.put(ATTR_RECEIVEDTIER41PRICELABEL, new ZclAttribute(this, ATTR_RECEIVEDTIER41PRICELABEL, "Received Tier 41 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
-        attributeMap.put(ATTR_RECEIVEDTIER42PRICELABEL, new ZclAttribute(this, ATTR_RECEIVEDTIER42PRICELABEL, "Received Tier 42 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
-        attributeMap.put(ATTR_RECEIVEDTIER43PRICELABEL, new ZclAttribute(this, ATTR_RECEIVEDTIER43PRICELABEL, "Received Tier 43 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
-        attributeMap.put(ATTR_RECEIVEDTIER44PRICELABEL, new ZclAttribute(this, ATTR_RECEIVEDTIER44PRICELABEL, "Received Tier 44 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
-        attributeMap.put(ATTR_RECEIVEDTIER45PRICELABEL, new ZclAttribute(this, ATTR_RECEIVEDTIER45PRICELABEL, "Received Tier 45 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
-        attributeMap.put(ATTR_RECEIVEDTIER46PRICELABEL, new ZclAttribute(this, ATTR_RECEIVEDTIER46PRICELABEL, "Received Tier 46 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
-        attributeMap.put(ATTR_RECEIVEDTIER47PRICELABEL, new ZclAttribute(this, ATTR_RECEIVEDTIER47PRICELABEL, "Received Tier 47 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
-        attributeMap.put(ATTR_RECEIVEDTIER48PRICELABEL, new ZclAttribute(this, ATTR_RECEIVEDTIER48PRICELABEL, "Received Tier 48 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
-        attributeMap.put(ATTR_RECEIVEDBLOCK1THRESHOLD, new ZclAttribute(this, ATTR_RECEIVEDBLOCK1THRESHOLD, "Received Block 1 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDBLOCK2THRESHOLD, new ZclAttribute(this, ATTR_RECEIVEDBLOCK2THRESHOLD, "Received Block 2 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDBLOCK3THRESHOLD, new ZclAttribute(this, ATTR_RECEIVEDBLOCK3THRESHOLD, "Received Block 3 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDBLOCK4THRESHOLD, new ZclAttribute(this, ATTR_RECEIVEDBLOCK4THRESHOLD, "Received Block 4 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDBLOCK5THRESHOLD, new ZclAttribute(this, ATTR_RECEIVEDBLOCK5THRESHOLD, "Received Block 5 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDBLOCK6THRESHOLD, new ZclAttribute(this, ATTR_RECEIVEDBLOCK6THRESHOLD, "Received Block 6 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDBLOCK7THRESHOLD, new ZclAttribute(this, ATTR_RECEIVEDBLOCK7THRESHOLD, "Received Block 7 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDBLOCK8THRESHOLD, new ZclAttribute(this, ATTR_RECEIVEDBLOCK8THRESHOLD, "Received Block 8 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDBLOCK9THRESHOLD, new ZclAttribute(this, ATTR_RECEIVEDBLOCK9THRESHOLD, "Received Block 9 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDBLOCK10THRESHOLD, new ZclAttribute(this, ATTR_RECEIVEDBLOCK10THRESHOLD, "Received Block 10 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDBLOCK11THRESHOLD, new ZclAttribute(this, ATTR_RECEIVEDBLOCK11THRESHOLD, "Received Block 11 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDBLOCK12THRESHOLD, new ZclAttribute(this, ATTR_RECEIVEDBLOCK12THRESHOLD, "Received Block 12 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDBLOCK13THRESHOLD, new ZclAttribute(this, ATTR_RECEIVEDBLOCK13THRESHOLD, "Received Block 13 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDBLOCK14THRESHOLD, new ZclAttribute(this, ATTR_RECEIVEDBLOCK14THRESHOLD, "Received Block 14 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDBLOCK15THRESHOLD, new ZclAttribute(this, ATTR_RECEIVEDBLOCK15THRESHOLD, "Received Block 15 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDBLOCK16THRESHOLD, new ZclAttribute(this, ATTR_RECEIVEDBLOCK16THRESHOLD, "Received Block 16 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDSTARTOFBLOCKPERIOD, new ZclAttribute(this, ATTR_RECEIVEDSTARTOFBLOCKPERIOD, "Received Start Of Block Period", ZclDataType.UTCTIME, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDBLOCKPERIODDURATION, new ZclAttribute(this, ATTR_RECEIVEDBLOCKPERIODDURATION, "Received Block Period Duration", ZclDataType.UNSIGNED_24_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDTHRESHOLDMULTIPLIER, new ZclAttribute(this, ATTR_RECEIVEDTHRESHOLDMULTIPLIER, "Received Threshold Multiplier", ZclDataType.UNSIGNED_24_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDTHRESHOLDDIVISOR, new ZclAttribute(this, ATTR_RECEIVEDTHRESHOLDDIVISOR, "Received Threshold Divisor", ZclDataType.UNSIGNED_24_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXNOTIERBLOCK1PRICE, new ZclAttribute(this, ATTR_RXNOTIERBLOCK1PRICE, "Rx No Tier Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXNOTIERBLOCK2PRICE, new ZclAttribute(this, ATTR_RXNOTIERBLOCK2PRICE, "Rx No Tier Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXNOTIERBLOCK3PRICE, new ZclAttribute(this, ATTR_RXNOTIERBLOCK3PRICE, "Rx No Tier Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXNOTIERBLOCK4PRICE, new ZclAttribute(this, ATTR_RXNOTIERBLOCK4PRICE, "Rx No Tier Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXNOTIERBLOCK5PRICE, new ZclAttribute(this, ATTR_RXNOTIERBLOCK5PRICE, "Rx No Tier Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXNOTIERBLOCK6PRICE, new ZclAttribute(this, ATTR_RXNOTIERBLOCK6PRICE, "Rx No Tier Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXNOTIERBLOCK7PRICE, new ZclAttribute(this, ATTR_RXNOTIERBLOCK7PRICE, "Rx No Tier Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXNOTIERBLOCK8PRICE, new ZclAttribute(this, ATTR_RXNOTIERBLOCK8PRICE, "Rx No Tier Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXNOTIERBLOCK9PRICE, new ZclAttribute(this, ATTR_RXNOTIERBLOCK9PRICE, "Rx No Tier Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXNOTIERBLOCK10PRICE, new ZclAttribute(this, ATTR_RXNOTIERBLOCK10PRICE, "Rx No Tier Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXNOTIERBLOCK11PRICE, new ZclAttribute(this, ATTR_RXNOTIERBLOCK11PRICE, "Rx No Tier Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXNOTIERBLOCK12PRICE, new ZclAttribute(this, ATTR_RXNOTIERBLOCK12PRICE, "Rx No Tier Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXNOTIERBLOCK13PRICE, new ZclAttribute(this, ATTR_RXNOTIERBLOCK13PRICE, "Rx No Tier Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXNOTIERBLOCK14PRICE, new ZclAttribute(this, ATTR_RXNOTIERBLOCK14PRICE, "Rx No Tier Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXNOTIERBLOCK15PRICE, new ZclAttribute(this, ATTR_RXNOTIERBLOCK15PRICE, "Rx No Tier Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXNOTIERBLOCK16PRICE, new ZclAttribute(this, ATTR_RXNOTIERBLOCK16PRICE, "Rx No Tier Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER1BLOCK1PRICE, new ZclAttribute(this, ATTR_RXTIER1BLOCK1PRICE, "Rx Tier 1 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER1BLOCK2PRICE, new ZclAttribute(this, ATTR_RXTIER1BLOCK2PRICE, "Rx Tier 1 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER1BLOCK3PRICE, new ZclAttribute(this, ATTR_RXTIER1BLOCK3PRICE, "Rx Tier 1 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER1BLOCK4PRICE, new ZclAttribute(this, ATTR_RXTIER1BLOCK4PRICE, "Rx Tier 1 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER1BLOCK5PRICE, new ZclAttribute(this, ATTR_RXTIER1BLOCK5PRICE, "Rx Tier 1 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER1BLOCK6PRICE, new ZclAttribute(this, ATTR_RXTIER1BLOCK6PRICE, "Rx Tier 1 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER1BLOCK7PRICE, new ZclAttribute(this, ATTR_RXTIER1BLOCK7PRICE, "Rx Tier 1 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER1BLOCK8PRICE, new ZclAttribute(this, ATTR_RXTIER1BLOCK8PRICE, "Rx Tier 1 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER1BLOCK9PRICE, new ZclAttribute(this, ATTR_RXTIER1BLOCK9PRICE, "Rx Tier 1 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER1BLOCK10PRICE, new ZclAttribute(this, ATTR_RXTIER1BLOCK10PRICE, "Rx Tier 1 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER1BLOCK11PRICE, new ZclAttribute(this, ATTR_RXTIER1BLOCK11PRICE, "Rx Tier 1 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER1BLOCK12PRICE, new ZclAttribute(this, ATTR_RXTIER1BLOCK12PRICE, "Rx Tier 1 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER1BLOCK13PRICE, new ZclAttribute(this, ATTR_RXTIER1BLOCK13PRICE, "Rx Tier 1 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER1BLOCK14PRICE, new ZclAttribute(this, ATTR_RXTIER1BLOCK14PRICE, "Rx Tier 1 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER1BLOCK15PRICE, new ZclAttribute(this, ATTR_RXTIER1BLOCK15PRICE, "Rx Tier 1 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER1BLOCK16PRICE, new ZclAttribute(this, ATTR_RXTIER1BLOCK16PRICE, "Rx Tier 1 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER2BLOCK1PRICE, new ZclAttribute(this, ATTR_RXTIER2BLOCK1PRICE, "Rx Tier 2 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER2BLOCK2PRICE, new ZclAttribute(this, ATTR_RXTIER2BLOCK2PRICE, "Rx Tier 2 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER2BLOCK3PRICE, new ZclAttribute(this, ATTR_RXTIER2BLOCK3PRICE, "Rx Tier 2 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER2BLOCK4PRICE, new ZclAttribute(this, ATTR_RXTIER2BLOCK4PRICE, "Rx Tier 2 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER2BLOCK5PRICE, new ZclAttribute(this, ATTR_RXTIER2BLOCK5PRICE, "Rx Tier 2 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER2BLOCK6PRICE, new ZclAttribute(this, ATTR_RXTIER2BLOCK6PRICE, "Rx Tier 2 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER2BLOCK7PRICE, new ZclAttribute(this, ATTR_RXTIER2BLOCK7PRICE, "Rx Tier 2 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER2BLOCK8PRICE, new ZclAttribute(this, ATTR_RXTIER2BLOCK8PRICE, "Rx Tier 2 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER2BLOCK9PRICE, new ZclAttribute(this, ATTR_RXTIER2BLOCK9PRICE, "Rx Tier 2 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER2BLOCK10PRICE, new ZclAttribute(this, ATTR_RXTIER2BLOCK10PRICE, "Rx Tier 2 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER2BLOCK11PRICE, new ZclAttribute(this, ATTR_RXTIER2BLOCK11PRICE, "Rx Tier 2 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER2BLOCK12PRICE, new ZclAttribute(this, ATTR_RXTIER2BLOCK12PRICE, "Rx Tier 2 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER2BLOCK13PRICE, new ZclAttribute(this, ATTR_RXTIER2BLOCK13PRICE, "Rx Tier 2 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER2BLOCK14PRICE, new ZclAttribute(this, ATTR_RXTIER2BLOCK14PRICE, "Rx Tier 2 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER2BLOCK15PRICE, new ZclAttribute(this, ATTR_RXTIER2BLOCK15PRICE, "Rx Tier 2 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER2BLOCK16PRICE, new ZclAttribute(this, ATTR_RXTIER2BLOCK16PRICE, "Rx Tier 2 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER3BLOCK1PRICE, new ZclAttribute(this, ATTR_RXTIER3BLOCK1PRICE, "Rx Tier 3 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER3BLOCK2PRICE, new ZclAttribute(this, ATTR_RXTIER3BLOCK2PRICE, "Rx Tier 3 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER3BLOCK3PRICE, new ZclAttribute(this, ATTR_RXTIER3BLOCK3PRICE, "Rx Tier 3 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER3BLOCK4PRICE, new ZclAttribute(this, ATTR_RXTIER3BLOCK4PRICE, "Rx Tier 3 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER3BLOCK5PRICE, new ZclAttribute(this, ATTR_RXTIER3BLOCK5PRICE, "Rx Tier 3 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER3BLOCK6PRICE, new ZclAttribute(this, ATTR_RXTIER3BLOCK6PRICE, "Rx Tier 3 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER3BLOCK7PRICE, new ZclAttribute(this, ATTR_RXTIER3BLOCK7PRICE, "Rx Tier 3 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER3BLOCK8PRICE, new ZclAttribute(this, ATTR_RXTIER3BLOCK8PRICE, "Rx Tier 3 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER3BLOCK9PRICE, new ZclAttribute(this, ATTR_RXTIER3BLOCK9PRICE, "Rx Tier 3 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER3BLOCK10PRICE, new ZclAttribute(this, ATTR_RXTIER3BLOCK10PRICE, "Rx Tier 3 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER3BLOCK11PRICE, new ZclAttribute(this, ATTR_RXTIER3BLOCK11PRICE, "Rx Tier 3 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER3BLOCK12PRICE, new ZclAttribute(this, ATTR_RXTIER3BLOCK12PRICE, "Rx Tier 3 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER3BLOCK13PRICE, new ZclAttribute(this, ATTR_RXTIER3BLOCK13PRICE, "Rx Tier 3 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER3BLOCK14PRICE, new ZclAttribute(this, ATTR_RXTIER3BLOCK14PRICE, "Rx Tier 3 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER3BLOCK15PRICE, new ZclAttribute(this, ATTR_RXTIER3BLOCK15PRICE, "Rx Tier 3 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER3BLOCK16PRICE, new ZclAttribute(this, ATTR_RXTIER3BLOCK16PRICE, "Rx Tier 3 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER4BLOCK1PRICE, new ZclAttribute(this, ATTR_RXTIER4BLOCK1PRICE, "Rx Tier 4 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER4BLOCK2PRICE, new ZclAttribute(this, ATTR_RXTIER4BLOCK2PRICE, "Rx Tier 4 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER4BLOCK3PRICE, new ZclAttribute(this, ATTR_RXTIER4BLOCK3PRICE, "Rx Tier 4 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER4BLOCK4PRICE, new ZclAttribute(this, ATTR_RXTIER4BLOCK4PRICE, "Rx Tier 4 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER4BLOCK5PRICE, new ZclAttribute(this, ATTR_RXTIER4BLOCK5PRICE, "Rx Tier 4 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER4BLOCK6PRICE, new ZclAttribute(this, ATTR_RXTIER4BLOCK6PRICE, "Rx Tier 4 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER4BLOCK7PRICE, new ZclAttribute(this, ATTR_RXTIER4BLOCK7PRICE, "Rx Tier 4 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER4BLOCK8PRICE, new ZclAttribute(this, ATTR_RXTIER4BLOCK8PRICE, "Rx Tier 4 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER4BLOCK9PRICE, new ZclAttribute(this, ATTR_RXTIER4BLOCK9PRICE, "Rx Tier 4 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER4BLOCK10PRICE, new ZclAttribute(this, ATTR_RXTIER4BLOCK10PRICE, "Rx Tier 4 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER4BLOCK11PRICE, new ZclAttribute(this, ATTR_RXTIER4BLOCK11PRICE, "Rx Tier 4 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER4BLOCK12PRICE, new ZclAttribute(this, ATTR_RXTIER4BLOCK12PRICE, "Rx Tier 4 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER4BLOCK13PRICE, new ZclAttribute(this, ATTR_RXTIER4BLOCK13PRICE, "Rx Tier 4 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER4BLOCK14PRICE, new ZclAttribute(this, ATTR_RXTIER4BLOCK14PRICE, "Rx Tier 4 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER4BLOCK15PRICE, new ZclAttribute(this, ATTR_RXTIER4BLOCK15PRICE, "Rx Tier 4 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER4BLOCK16PRICE, new ZclAttribute(this, ATTR_RXTIER4BLOCK16PRICE, "Rx Tier 4 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER5BLOCK1PRICE, new ZclAttribute(this, ATTR_RXTIER5BLOCK1PRICE, "Rx Tier 5 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER5BLOCK2PRICE, new ZclAttribute(this, ATTR_RXTIER5BLOCK2PRICE, "Rx Tier 5 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER5BLOCK3PRICE, new ZclAttribute(this, ATTR_RXTIER5BLOCK3PRICE, "Rx Tier 5 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER5BLOCK4PRICE, new ZclAttribute(this, ATTR_RXTIER5BLOCK4PRICE, "Rx Tier 5 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER5BLOCK5PRICE, new ZclAttribute(this, ATTR_RXTIER5BLOCK5PRICE, "Rx Tier 5 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER5BLOCK6PRICE, new ZclAttribute(this, ATTR_RXTIER5BLOCK6PRICE, "Rx Tier 5 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER5BLOCK7PRICE, new ZclAttribute(this, ATTR_RXTIER5BLOCK7PRICE, "Rx Tier 5 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER5BLOCK8PRICE, new ZclAttribute(this, ATTR_RXTIER5BLOCK8PRICE, "Rx Tier 5 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER5BLOCK9PRICE, new ZclAttribute(this, ATTR_RXTIER5BLOCK9PRICE, "Rx Tier 5 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER5BLOCK10PRICE, new ZclAttribute(this, ATTR_RXTIER5BLOCK10PRICE, "Rx Tier 5 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER5BLOCK11PRICE, new ZclAttribute(this, ATTR_RXTIER5BLOCK11PRICE, "Rx Tier 5 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER5BLOCK12PRICE, new ZclAttribute(this, ATTR_RXTIER5BLOCK12PRICE, "Rx Tier 5 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER5BLOCK13PRICE, new ZclAttribute(this, ATTR_RXTIER5BLOCK13PRICE, "Rx Tier 5 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER5BLOCK14PRICE, new ZclAttribute(this, ATTR_RXTIER5BLOCK14PRICE, "Rx Tier 5 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER5BLOCK15PRICE, new ZclAttribute(this, ATTR_RXTIER5BLOCK15PRICE, "Rx Tier 5 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER5BLOCK16PRICE, new ZclAttribute(this, ATTR_RXTIER5BLOCK16PRICE, "Rx Tier 5 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER6BLOCK1PRICE, new ZclAttribute(this, ATTR_RXTIER6BLOCK1PRICE, "Rx Tier 6 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER6BLOCK2PRICE, new ZclAttribute(this, ATTR_RXTIER6BLOCK2PRICE, "Rx Tier 6 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER6BLOCK3PRICE, new ZclAttribute(this, ATTR_RXTIER6BLOCK3PRICE, "Rx Tier 6 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER6BLOCK4PRICE, new ZclAttribute(this, ATTR_RXTIER6BLOCK4PRICE, "Rx Tier 6 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER6BLOCK5PRICE, new ZclAttribute(this, ATTR_RXTIER6BLOCK5PRICE, "Rx Tier 6 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER6BLOCK6PRICE, new ZclAttribute(this, ATTR_RXTIER6BLOCK6PRICE, "Rx Tier 6 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER6BLOCK7PRICE, new ZclAttribute(this, ATTR_RXTIER6BLOCK7PRICE, "Rx Tier 6 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER6BLOCK8PRICE, new ZclAttribute(this, ATTR_RXTIER6BLOCK8PRICE, "Rx Tier 6 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER6BLOCK9PRICE, new ZclAttribute(this, ATTR_RXTIER6BLOCK9PRICE, "Rx Tier 6 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER6BLOCK10PRICE, new ZclAttribute(this, ATTR_RXTIER6BLOCK10PRICE, "Rx Tier 6 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER6BLOCK11PRICE, new ZclAttribute(this, ATTR_RXTIER6BLOCK11PRICE, "Rx Tier 6 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER6BLOCK12PRICE, new ZclAttribute(this, ATTR_RXTIER6BLOCK12PRICE, "Rx Tier 6 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER6BLOCK13PRICE, new ZclAttribute(this, ATTR_RXTIER6BLOCK13PRICE, "Rx Tier 6 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER6BLOCK14PRICE, new ZclAttribute(this, ATTR_RXTIER6BLOCK14PRICE, "Rx Tier 6 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER6BLOCK15PRICE, new ZclAttribute(this, ATTR_RXTIER6BLOCK15PRICE, "Rx Tier 6 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER6BLOCK16PRICE, new ZclAttribute(this, ATTR_RXTIER6BLOCK16PRICE, "Rx Tier 6 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER7BLOCK1PRICE, new ZclAttribute(this, ATTR_RXTIER7BLOCK1PRICE, "Rx Tier 7 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER7BLOCK2PRICE, new ZclAttribute(this, ATTR_RXTIER7BLOCK2PRICE, "Rx Tier 7 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER7BLOCK3PRICE, new ZclAttribute(this, ATTR_RXTIER7BLOCK3PRICE, "Rx Tier 7 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER7BLOCK4PRICE, new ZclAttribute(this, ATTR_RXTIER7BLOCK4PRICE, "Rx Tier 7 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER7BLOCK5PRICE, new ZclAttribute(this, ATTR_RXTIER7BLOCK5PRICE, "Rx Tier 7 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER7BLOCK6PRICE, new ZclAttribute(this, ATTR_RXTIER7BLOCK6PRICE, "Rx Tier 7 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER7BLOCK7PRICE, new ZclAttribute(this, ATTR_RXTIER7BLOCK7PRICE, "Rx Tier 7 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER7BLOCK8PRICE, new ZclAttribute(this, ATTR_RXTIER7BLOCK8PRICE, "Rx Tier 7 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER7BLOCK9PRICE, new ZclAttribute(this, ATTR_RXTIER7BLOCK9PRICE, "Rx Tier 7 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER7BLOCK10PRICE, new ZclAttribute(this, ATTR_RXTIER7BLOCK10PRICE, "Rx Tier 7 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER7BLOCK11PRICE, new ZclAttribute(this, ATTR_RXTIER7BLOCK11PRICE, "Rx Tier 7 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER7BLOCK12PRICE, new ZclAttribute(this, ATTR_RXTIER7BLOCK12PRICE, "Rx Tier 7 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER7BLOCK13PRICE, new ZclAttribute(this, ATTR_RXTIER7BLOCK13PRICE, "Rx Tier 7 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER7BLOCK14PRICE, new ZclAttribute(this, ATTR_RXTIER7BLOCK14PRICE, "Rx Tier 7 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER7BLOCK15PRICE, new ZclAttribute(this, ATTR_RXTIER7BLOCK15PRICE, "Rx Tier 7 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER7BLOCK16PRICE, new ZclAttribute(this, ATTR_RXTIER7BLOCK16PRICE, "Rx Tier 7 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER8BLOCK1PRICE, new ZclAttribute(this, ATTR_RXTIER8BLOCK1PRICE, "Rx Tier 8 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER8BLOCK2PRICE, new ZclAttribute(this, ATTR_RXTIER8BLOCK2PRICE, "Rx Tier 8 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER8BLOCK3PRICE, new ZclAttribute(this, ATTR_RXTIER8BLOCK3PRICE, "Rx Tier 8 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER8BLOCK4PRICE, new ZclAttribute(this, ATTR_RXTIER8BLOCK4PRICE, "Rx Tier 8 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER8BLOCK5PRICE, new ZclAttribute(this, ATTR_RXTIER8BLOCK5PRICE, "Rx Tier 8 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER8BLOCK6PRICE, new ZclAttribute(this, ATTR_RXTIER8BLOCK6PRICE, "Rx Tier 8 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER8BLOCK7PRICE, new ZclAttribute(this, ATTR_RXTIER8BLOCK7PRICE, "Rx Tier 8 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER8BLOCK8PRICE, new ZclAttribute(this, ATTR_RXTIER8BLOCK8PRICE, "Rx Tier 8 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER8BLOCK9PRICE, new ZclAttribute(this, ATTR_RXTIER8BLOCK9PRICE, "Rx Tier 8 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER8BLOCK10PRICE, new ZclAttribute(this, ATTR_RXTIER8BLOCK10PRICE, "Rx Tier 8 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER8BLOCK11PRICE, new ZclAttribute(this, ATTR_RXTIER8BLOCK11PRICE, "Rx Tier 8 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER8BLOCK12PRICE, new ZclAttribute(this, ATTR_RXTIER8BLOCK12PRICE, "Rx Tier 8 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER8BLOCK13PRICE, new ZclAttribute(this, ATTR_RXTIER8BLOCK13PRICE, "Rx Tier 8 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER8BLOCK14PRICE, new ZclAttribute(this, ATTR_RXTIER8BLOCK14PRICE, "Rx Tier 8 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER8BLOCK15PRICE, new ZclAttribute(this, ATTR_RXTIER8BLOCK15PRICE, "Rx Tier 8 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER8BLOCK16PRICE, new ZclAttribute(this, ATTR_RXTIER8BLOCK16PRICE, "Rx Tier 8 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER9BLOCK1PRICE, new ZclAttribute(this, ATTR_RXTIER9BLOCK1PRICE, "Rx Tier 9 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER9BLOCK2PRICE, new ZclAttribute(this, ATTR_RXTIER9BLOCK2PRICE, "Rx Tier 9 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER9BLOCK3PRICE, new ZclAttribute(this, ATTR_RXTIER9BLOCK3PRICE, "Rx Tier 9 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER9BLOCK4PRICE, new ZclAttribute(this, ATTR_RXTIER9BLOCK4PRICE, "Rx Tier 9 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER9BLOCK5PRICE, new ZclAttribute(this, ATTR_RXTIER9BLOCK5PRICE, "Rx Tier 9 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER9BLOCK6PRICE, new ZclAttribute(this, ATTR_RXTIER9BLOCK6PRICE, "Rx Tier 9 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER9BLOCK7PRICE, new ZclAttribute(this, ATTR_RXTIER9BLOCK7PRICE, "Rx Tier 9 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER9BLOCK8PRICE, new ZclAttribute(this, ATTR_RXTIER9BLOCK8PRICE, "Rx Tier 9 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER9BLOCK9PRICE, new ZclAttribute(this, ATTR_RXTIER9BLOCK9PRICE, "Rx Tier 9 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER9BLOCK10PRICE, new ZclAttribute(this, ATTR_RXTIER9BLOCK10PRICE, "Rx Tier 9 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER9BLOCK11PRICE, new ZclAttribute(this, ATTR_RXTIER9BLOCK11PRICE, "Rx Tier 9 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER9BLOCK12PRICE, new ZclAttribute(this, ATTR_RXTIER9BLOCK12PRICE, "Rx Tier 9 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER9BLOCK13PRICE, new ZclAttribute(this, ATTR_RXTIER9BLOCK13PRICE, "Rx Tier 9 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER9BLOCK14PRICE, new ZclAttribute(this, ATTR_RXTIER9BLOCK14PRICE, "Rx Tier 9 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER9BLOCK15PRICE, new ZclAttribute(this, ATTR_RXTIER9BLOCK15PRICE, "Rx Tier 9 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER9BLOCK16PRICE, new ZclAttribute(this, ATTR_RXTIER9BLOCK16PRICE, "Rx Tier 9 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER10BLOCK1PRICE, new ZclAttribute(this, ATTR_RXTIER10BLOCK1PRICE, "Rx Tier 10 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER10BLOCK2PRICE, new ZclAttribute(this, ATTR_RXTIER10BLOCK2PRICE, "Rx Tier 10 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER10BLOCK3PRICE, new ZclAttribute(this, ATTR_RXTIER10BLOCK3PRICE, "Rx Tier 10 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER10BLOCK4PRICE, new ZclAttribute(this, ATTR_RXTIER10BLOCK4PRICE, "Rx Tier 10 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER10BLOCK5PRICE, new ZclAttribute(this, ATTR_RXTIER10BLOCK5PRICE, "Rx Tier 10 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER10BLOCK6PRICE, new ZclAttribute(this, ATTR_RXTIER10BLOCK6PRICE, "Rx Tier 10 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER10BLOCK7PRICE, new ZclAttribute(this, ATTR_RXTIER10BLOCK7PRICE, "Rx Tier 10 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER10BLOCK8PRICE, new ZclAttribute(this, ATTR_RXTIER10BLOCK8PRICE, "Rx Tier 10 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER10BLOCK9PRICE, new ZclAttribute(this, ATTR_RXTIER10BLOCK9PRICE, "Rx Tier 10 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER10BLOCK10PRICE, new ZclAttribute(this, ATTR_RXTIER10BLOCK10PRICE, "Rx Tier 10 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER10BLOCK11PRICE, new ZclAttribute(this, ATTR_RXTIER10BLOCK11PRICE, "Rx Tier 10 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER10BLOCK12PRICE, new ZclAttribute(this, ATTR_RXTIER10BLOCK12PRICE, "Rx Tier 10 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER10BLOCK13PRICE, new ZclAttribute(this, ATTR_RXTIER10BLOCK13PRICE, "Rx Tier 10 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER10BLOCK14PRICE, new ZclAttribute(this, ATTR_RXTIER10BLOCK14PRICE, "Rx Tier 10 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER10BLOCK15PRICE, new ZclAttribute(this, ATTR_RXTIER10BLOCK15PRICE, "Rx Tier 10 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER10BLOCK16PRICE, new ZclAttribute(this, ATTR_RXTIER10BLOCK16PRICE, "Rx Tier 10 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER11BLOCK1PRICE, new ZclAttribute(this, ATTR_RXTIER11BLOCK1PRICE, "Rx Tier 11 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER11BLOCK2PRICE, new ZclAttribute(this, ATTR_RXTIER11BLOCK2PRICE, "Rx Tier 11 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER11BLOCK3PRICE, new ZclAttribute(this, ATTR_RXTIER11BLOCK3PRICE, "Rx Tier 11 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER11BLOCK4PRICE, new ZclAttribute(this, ATTR_RXTIER11BLOCK4PRICE, "Rx Tier 11 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER11BLOCK5PRICE, new ZclAttribute(this, ATTR_RXTIER11BLOCK5PRICE, "Rx Tier 11 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER11BLOCK6PRICE, new ZclAttribute(this, ATTR_RXTIER11BLOCK6PRICE, "Rx Tier 11 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER11BLOCK7PRICE, new ZclAttribute(this, ATTR_RXTIER11BLOCK7PRICE, "Rx Tier 11 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER11BLOCK8PRICE, new ZclAttribute(this, ATTR_RXTIER11BLOCK8PRICE, "Rx Tier 11 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER11BLOCK9PRICE, new ZclAttribute(this, ATTR_RXTIER11BLOCK9PRICE, "Rx Tier 11 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER11BLOCK10PRICE, new ZclAttribute(this, ATTR_RXTIER11BLOCK10PRICE, "Rx Tier 11 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER11BLOCK11PRICE, new ZclAttribute(this, ATTR_RXTIER11BLOCK11PRICE, "Rx Tier 11 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER11BLOCK12PRICE, new ZclAttribute(this, ATTR_RXTIER11BLOCK12PRICE, "Rx Tier 11 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER11BLOCK13PRICE, new ZclAttribute(this, ATTR_RXTIER11BLOCK13PRICE, "Rx Tier 11 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER11BLOCK14PRICE, new ZclAttribute(this, ATTR_RXTIER11BLOCK14PRICE, "Rx Tier 11 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER11BLOCK15PRICE, new ZclAttribute(this, ATTR_RXTIER11BLOCK15PRICE, "Rx Tier 11 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER11BLOCK16PRICE, new ZclAttribute(this, ATTR_RXTIER11BLOCK16PRICE, "Rx Tier 11 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER12BLOCK1PRICE, new ZclAttribute(this, ATTR_RXTIER12BLOCK1PRICE, "Rx Tier 12 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER12BLOCK2PRICE, new ZclAttribute(this, ATTR_RXTIER12BLOCK2PRICE, "Rx Tier 12 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER12BLOCK3PRICE, new ZclAttribute(this, ATTR_RXTIER12BLOCK3PRICE, "Rx Tier 12 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER12BLOCK4PRICE, new ZclAttribute(this, ATTR_RXTIER12BLOCK4PRICE, "Rx Tier 12 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER12BLOCK5PRICE, new ZclAttribute(this, ATTR_RXTIER12BLOCK5PRICE, "Rx Tier 12 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER12BLOCK6PRICE, new ZclAttribute(this, ATTR_RXTIER12BLOCK6PRICE, "Rx Tier 12 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER12BLOCK7PRICE, new ZclAttribute(this, ATTR_RXTIER12BLOCK7PRICE, "Rx Tier 12 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER12BLOCK8PRICE, new ZclAttribute(this, ATTR_RXTIER12BLOCK8PRICE, "Rx Tier 12 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER12BLOCK9PRICE, new ZclAttribute(this, ATTR_RXTIER12BLOCK9PRICE, "Rx Tier 12 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER12BLOCK10PRICE, new ZclAttribute(this, ATTR_RXTIER12BLOCK10PRICE, "Rx Tier 12 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER12BLOCK11PRICE, new ZclAttribute(this, ATTR_RXTIER12BLOCK11PRICE, "Rx Tier 12 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER12BLOCK12PRICE, new ZclAttribute(this, ATTR_RXTIER12BLOCK12PRICE, "Rx Tier 12 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER12BLOCK13PRICE, new ZclAttribute(this, ATTR_RXTIER12BLOCK13PRICE, "Rx Tier 12 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER12BLOCK14PRICE, new ZclAttribute(this, ATTR_RXTIER12BLOCK14PRICE, "Rx Tier 12 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER12BLOCK15PRICE, new ZclAttribute(this, ATTR_RXTIER12BLOCK15PRICE, "Rx Tier 12 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER12BLOCK16PRICE, new ZclAttribute(this, ATTR_RXTIER12BLOCK16PRICE, "Rx Tier 12 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER13BLOCK1PRICE, new ZclAttribute(this, ATTR_RXTIER13BLOCK1PRICE, "Rx Tier 13 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER13BLOCK2PRICE, new ZclAttribute(this, ATTR_RXTIER13BLOCK2PRICE, "Rx Tier 13 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER13BLOCK3PRICE, new ZclAttribute(this, ATTR_RXTIER13BLOCK3PRICE, "Rx Tier 13 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER13BLOCK4PRICE, new ZclAttribute(this, ATTR_RXTIER13BLOCK4PRICE, "Rx Tier 13 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER13BLOCK5PRICE, new ZclAttribute(this, ATTR_RXTIER13BLOCK5PRICE, "Rx Tier 13 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER13BLOCK6PRICE, new ZclAttribute(this, ATTR_RXTIER13BLOCK6PRICE, "Rx Tier 13 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER13BLOCK7PRICE, new ZclAttribute(this, ATTR_RXTIER13BLOCK7PRICE, "Rx Tier 13 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER13BLOCK8PRICE, new ZclAttribute(this, ATTR_RXTIER13BLOCK8PRICE, "Rx Tier 13 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER13BLOCK9PRICE, new ZclAttribute(this, ATTR_RXTIER13BLOCK9PRICE, "Rx Tier 13 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER13BLOCK10PRICE, new ZclAttribute(this, ATTR_RXTIER13BLOCK10PRICE, "Rx Tier 13 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER13BLOCK11PRICE, new ZclAttribute(this, ATTR_RXTIER13BLOCK11PRICE, "Rx Tier 13 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER13BLOCK12PRICE, new ZclAttribute(this, ATTR_RXTIER13BLOCK12PRICE, "Rx Tier 13 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER13BLOCK13PRICE, new ZclAttribute(this, ATTR_RXTIER13BLOCK13PRICE, "Rx Tier 13 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER13BLOCK14PRICE, new ZclAttribute(this, ATTR_RXTIER13BLOCK14PRICE, "Rx Tier 13 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER13BLOCK15PRICE, new ZclAttribute(this, ATTR_RXTIER13BLOCK15PRICE, "Rx Tier 13 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER13BLOCK16PRICE, new ZclAttribute(this, ATTR_RXTIER13BLOCK16PRICE, "Rx Tier 13 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER14BLOCK1PRICE, new ZclAttribute(this, ATTR_RXTIER14BLOCK1PRICE, "Rx Tier 14 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER14BLOCK2PRICE, new ZclAttribute(this, ATTR_RXTIER14BLOCK2PRICE, "Rx Tier 14 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER14BLOCK3PRICE, new ZclAttribute(this, ATTR_RXTIER14BLOCK3PRICE, "Rx Tier 14 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER14BLOCK4PRICE, new ZclAttribute(this, ATTR_RXTIER14BLOCK4PRICE, "Rx Tier 14 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER14BLOCK5PRICE, new ZclAttribute(this, ATTR_RXTIER14BLOCK5PRICE, "Rx Tier 14 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER14BLOCK6PRICE, new ZclAttribute(this, ATTR_RXTIER14BLOCK6PRICE, "Rx Tier 14 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER14BLOCK7PRICE, new ZclAttribute(this, ATTR_RXTIER14BLOCK7PRICE, "Rx Tier 14 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER14BLOCK8PRICE, new ZclAttribute(this, ATTR_RXTIER14BLOCK8PRICE, "Rx Tier 14 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER14BLOCK9PRICE, new ZclAttribute(this, ATTR_RXTIER14BLOCK9PRICE, "Rx Tier 14 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER14BLOCK10PRICE, new ZclAttribute(this, ATTR_RXTIER14BLOCK10PRICE, "Rx Tier 14 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER14BLOCK11PRICE, new ZclAttribute(this, ATTR_RXTIER14BLOCK11PRICE, "Rx Tier 14 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER14BLOCK12PRICE, new ZclAttribute(this, ATTR_RXTIER14BLOCK12PRICE, "Rx Tier 14 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER14BLOCK13PRICE, new ZclAttribute(this, ATTR_RXTIER14BLOCK13PRICE, "Rx Tier 14 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER14BLOCK14PRICE, new ZclAttribute(this, ATTR_RXTIER14BLOCK14PRICE, "Rx Tier 14 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER14BLOCK15PRICE, new ZclAttribute(this, ATTR_RXTIER14BLOCK15PRICE, "Rx Tier 14 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER14BLOCK16PRICE, new ZclAttribute(this, ATTR_RXTIER14BLOCK16PRICE, "Rx Tier 14 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER15BLOCK1PRICE, new ZclAttribute(this, ATTR_RXTIER15BLOCK1PRICE, "Rx Tier 15 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER15BLOCK2PRICE, new ZclAttribute(this, ATTR_RXTIER15BLOCK2PRICE, "Rx Tier 15 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER15BLOCK3PRICE, new ZclAttribute(this, ATTR_RXTIER15BLOCK3PRICE, "Rx Tier 15 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER15BLOCK4PRICE, new ZclAttribute(this, ATTR_RXTIER15BLOCK4PRICE, "Rx Tier 15 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER15BLOCK5PRICE, new ZclAttribute(this, ATTR_RXTIER15BLOCK5PRICE, "Rx Tier 15 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER15BLOCK6PRICE, new ZclAttribute(this, ATTR_RXTIER15BLOCK6PRICE, "Rx Tier 15 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER15BLOCK7PRICE, new ZclAttribute(this, ATTR_RXTIER15BLOCK7PRICE, "Rx Tier 15 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER15BLOCK8PRICE, new ZclAttribute(this, ATTR_RXTIER15BLOCK8PRICE, "Rx Tier 15 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER15BLOCK9PRICE, new ZclAttribute(this, ATTR_RXTIER15BLOCK9PRICE, "Rx Tier 15 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER15BLOCK10PRICE, new ZclAttribute(this, ATTR_RXTIER15BLOCK10PRICE, "Rx Tier 15 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER15BLOCK11PRICE, new ZclAttribute(this, ATTR_RXTIER15BLOCK11PRICE, "Rx Tier 15 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER15BLOCK12PRICE, new ZclAttribute(this, ATTR_RXTIER15BLOCK12PRICE, "Rx Tier 15 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER15BLOCK13PRICE, new ZclAttribute(this, ATTR_RXTIER15BLOCK13PRICE, "Rx Tier 15 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER15BLOCK14PRICE, new ZclAttribute(this, ATTR_RXTIER15BLOCK14PRICE, "Rx Tier 15 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER15BLOCK15PRICE, new ZclAttribute(this, ATTR_RXTIER15BLOCK15PRICE, "Rx Tier 15 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER15BLOCK16PRICE, new ZclAttribute(this, ATTR_RXTIER15BLOCK16PRICE, "Rx Tier 15 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDPRICETIER16, new ZclAttribute(this, ATTR_RECEIVEDPRICETIER16, "Received Price Tier 16", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDPRICETIER17, new ZclAttribute(this, ATTR_RECEIVEDPRICETIER17, "Received Price Tier 17", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDPRICETIER18, new ZclAttribute(this, ATTR_RECEIVEDPRICETIER18, "Received Price Tier 18", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDPRICETIER19, new ZclAttribute(this, ATTR_RECEIVEDPRICETIER19, "Received Price Tier 19", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDPRICETIER20, new ZclAttribute(this, ATTR_RECEIVEDPRICETIER20, "Received Price Tier 20", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDPRICETIER21, new ZclAttribute(this, ATTR_RECEIVEDPRICETIER21, "Received Price Tier 21", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDPRICETIER22, new ZclAttribute(this, ATTR_RECEIVEDPRICETIER22, "Received Price Tier 22", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDPRICETIER23, new ZclAttribute(this, ATTR_RECEIVEDPRICETIER23, "Received Price Tier 23", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDPRICETIER24, new ZclAttribute(this, ATTR_RECEIVEDPRICETIER24, "Received Price Tier 24", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDPRICETIER25, new ZclAttribute(this, ATTR_RECEIVEDPRICETIER25, "Received Price Tier 25", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDPRICETIER26, new ZclAttribute(this, ATTR_RECEIVEDPRICETIER26, "Received Price Tier 26", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDPRICETIER27, new ZclAttribute(this, ATTR_RECEIVEDPRICETIER27, "Received Price Tier 27", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDPRICETIER28, new ZclAttribute(this, ATTR_RECEIVEDPRICETIER28, "Received Price Tier 28", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDPRICETIER29, new ZclAttribute(this, ATTR_RECEIVEDPRICETIER29, "Received Price Tier 29", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDPRICETIER30, new ZclAttribute(this, ATTR_RECEIVEDPRICETIER30, "Received Price Tier 30", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDPRICETIER31, new ZclAttribute(this, ATTR_RECEIVEDPRICETIER31, "Received Price Tier 31", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDPRICETIER32, new ZclAttribute(this, ATTR_RECEIVEDPRICETIER32, "Received Price Tier 32", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDPRICETIER33, new ZclAttribute(this, ATTR_RECEIVEDPRICETIER33, "Received Price Tier 33", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDPRICETIER34, new ZclAttribute(this, ATTR_RECEIVEDPRICETIER34, "Received Price Tier 34", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDPRICETIER35, new ZclAttribute(this, ATTR_RECEIVEDPRICETIER35, "Received Price Tier 35", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDPRICETIER36, new ZclAttribute(this, ATTR_RECEIVEDPRICETIER36, "Received Price Tier 36", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDPRICETIER37, new ZclAttribute(this, ATTR_RECEIVEDPRICETIER37, "Received Price Tier 37", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDPRICETIER38, new ZclAttribute(this, ATTR_RECEIVEDPRICETIER38, "Received Price Tier 38", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDPRICETIER39, new ZclAttribute(this, ATTR_RECEIVEDPRICETIER39, "Received Price Tier 39", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDPRICETIER40, new ZclAttribute(this, ATTR_RECEIVEDPRICETIER40, "Received Price Tier 40", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDPRICETIER41, new ZclAttribute(this, ATTR_RECEIVEDPRICETIER41, "Received Price Tier 41", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDPRICETIER42, new ZclAttribute(this, ATTR_RECEIVEDPRICETIER42, "Received Price Tier 42", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDPRICETIER43, new ZclAttribute(this, ATTR_RECEIVEDPRICETIER43, "Received Price Tier 43", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDPRICETIER44, new ZclAttribute(this, ATTR_RECEIVEDPRICETIER44, "Received Price Tier 44", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDPRICETIER45, new ZclAttribute(this, ATTR_RECEIVEDPRICETIER45, "Received Price Tier 45", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDPRICETIER46, new ZclAttribute(this, ATTR_RECEIVEDPRICETIER46, "Received Price Tier 46", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDPRICETIER47, new ZclAttribute(this, ATTR_RECEIVEDPRICETIER47, "Received Price Tier 47", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDPRICETIER48, new ZclAttribute(this, ATTR_RECEIVEDPRICETIER48, "Received Price Tier 48", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDPRICETIER49, new ZclAttribute(this, ATTR_RECEIVEDPRICETIER49, "Received Price Tier 49", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDPRICETIER50, new ZclAttribute(this, ATTR_RECEIVEDPRICETIER50, "Received Price Tier 50", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDPRICETIER51, new ZclAttribute(this, ATTR_RECEIVEDPRICETIER51, "Received Price Tier 51", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDPRICETIER52, new ZclAttribute(this, ATTR_RECEIVEDPRICETIER52, "Received Price Tier 52", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDPRICETIER53, new ZclAttribute(this, ATTR_RECEIVEDPRICETIER53, "Received Price Tier 53", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDPRICETIER54, new ZclAttribute(this, ATTR_RECEIVEDPRICETIER54, "Received Price Tier 54", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDPRICETIER55, new ZclAttribute(this, ATTR_RECEIVEDPRICETIER55, "Received Price Tier 55", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDPRICETIER56, new ZclAttribute(this, ATTR_RECEIVEDPRICETIER56, "Received Price Tier 56", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDPRICETIER57, new ZclAttribute(this, ATTR_RECEIVEDPRICETIER57, "Received Price Tier 57", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDPRICETIER58, new ZclAttribute(this, ATTR_RECEIVEDPRICETIER58, "Received Price Tier 58", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDPRICETIER59, new ZclAttribute(this, ATTR_RECEIVEDPRICETIER59, "Received Price Tier 59", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDPRICETIER60, new ZclAttribute(this, ATTR_RECEIVEDPRICETIER60, "Received Price Tier 60", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDPRICETIER61, new ZclAttribute(this, ATTR_RECEIVEDPRICETIER61, "Received Price Tier 61", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDPRICETIER62, new ZclAttribute(this, ATTR_RECEIVEDPRICETIER62, "Received Price Tier 62", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDPRICETIER63, new ZclAttribute(this, ATTR_RECEIVEDPRICETIER63, "Received Price Tier 63", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDTARIFFLABEL, new ZclAttribute(this, ATTR_RECEIVEDTARIFFLABEL, "Received Tariff Label", ZclDataType.OCTET_STRING, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDNUMBEROFPRICETIERSINUSE, new ZclAttribute(this, ATTR_RECEIVEDNUMBEROFPRICETIERSINUSE, "Received Number Of Price Tiers In Use", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDNUMBEROFBLOCKTHRESHOLDSINUSE, new ZclAttribute(this, ATTR_RECEIVEDNUMBEROFBLOCKTHRESHOLDSINUSE, "Received Number Of Block Thresholds In Use", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDTIERBLOCKMODE, new ZclAttribute(this, ATTR_RECEIVEDTIERBLOCKMODE, "Received Tier Block Mode", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDCO2, new ZclAttribute(this, ATTR_RECEIVEDCO2, "Received CO2", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDCO2UNIT, new ZclAttribute(this, ATTR_RECEIVEDCO2UNIT, "Received CO2 Unit", ZclDataType.ENUMERATION_8_BIT, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDCO2TRAILINGDIGIT, new ZclAttribute(this, ATTR_RECEIVEDCO2TRAILINGDIGIT, "Received CO2 Trailing Digit", ZclDataType.BITMAP_8_BIT, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDCURRENTBILLINGPERIODSTART, new ZclAttribute(this, ATTR_RECEIVEDCURRENTBILLINGPERIODSTART, "Received Current Billing Period Start", ZclDataType.UTCTIME, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDCURRENTBILLINGPERIODDURATION, new ZclAttribute(this, ATTR_RECEIVEDCURRENTBILLINGPERIODDURATION, "Received Current Billing Period Duration", ZclDataType.UNSIGNED_24_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDLASTBILLINGPERIODSTART, new ZclAttribute(this, ATTR_RECEIVEDLASTBILLINGPERIODSTART, "Received Last Billing Period Start", ZclDataType.UTCTIME, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDLASTBILLINGPERIODDURATION, new ZclAttribute(this, ATTR_RECEIVEDLASTBILLINGPERIODDURATION, "Received Last Billing Period Duration", ZclDataType.UNSIGNED_24_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDLASTBILLINGPERIODCONSOLIDATEDBILL, new ZclAttribute(this, ATTR_RECEIVEDLASTBILLINGPERIODCONSOLIDATEDBILL, "Received Last Billing Period Consolidated Bill", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-
-        return attributeMap;
+    protected Map<Integer, ZclAttributeDefinition> getServerAttributeDefinitions() {
+        return SERVER_ATTRIBUTES;
     }
 
     @Override
@@ -4794,7 +4815,7 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setTierPriceLabel(final int arrayOffset, final String value) {
-        return write(serverAttributes.get(ATTR_TIER1PRICELABEL + arrayOffset), value);
+        return write(getServerAttribute(ATTR_TIER1PRICELABEL + arrayOffset), value);
     }
 
     /**
@@ -4814,7 +4835,7 @@ public class ZclPriceCluster extends ZclCluster {
             throw new IllegalArgumentException("arrayOffset out of bounds");
         }
 
-        return read(serverAttributes.get(ATTR_TIER1PRICELABEL + arrayOffset));
+        return read(getServerAttribute(ATTR_TIER1PRICELABEL + arrayOffset));
     }
 
     /**
@@ -4838,11 +4859,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public String getTierPriceLabel(final int arrayOffset, final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_TIER1PRICELABEL + arrayOffset).isLastValueCurrent(refreshPeriod)) {
-            return (String) serverAttributes.get(ATTR_TIER1PRICELABEL + arrayOffset).getLastValue();
+        if (getServerAttribute(ATTR_TIER1PRICELABEL + arrayOffset).isLastValueCurrent(refreshPeriod)) {
+            return (String) getServerAttribute(ATTR_TIER1PRICELABEL + arrayOffset).getLastValue();
         }
 
-        return (String) readSync(serverAttributes.get(ATTR_TIER1PRICELABEL + arrayOffset));
+        return (String) readSync(getServerAttribute(ATTR_TIER1PRICELABEL + arrayOffset));
     }
 
     /**
@@ -4870,7 +4891,7 @@ public class ZclPriceCluster extends ZclCluster {
             throw new IllegalArgumentException("arrayOffset out of bounds");
         }
 
-        return read(serverAttributes.get(ATTR_BLOCK1THRESHOLD + arrayOffset));
+        return read(getServerAttribute(ATTR_BLOCK1THRESHOLD + arrayOffset));
     }
 
     /**
@@ -4902,11 +4923,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getBlockThreshold(final int arrayOffset, final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_BLOCK1THRESHOLD + arrayOffset).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_BLOCK1THRESHOLD + arrayOffset).getLastValue();
+        if (getServerAttribute(ATTR_BLOCK1THRESHOLD + arrayOffset).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_BLOCK1THRESHOLD + arrayOffset).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_BLOCK1THRESHOLD + arrayOffset));
+        return (Integer) readSync(getServerAttribute(ATTR_BLOCK1THRESHOLD + arrayOffset));
     }
 
     /**
@@ -4926,7 +4947,7 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getBlockThresholdCountAsync() {
-        return read(serverAttributes.get(ATTR_BLOCKTHRESHOLDCOUNT));
+        return read(getServerAttribute(ATTR_BLOCKTHRESHOLDCOUNT));
     }
 
     /**
@@ -4954,11 +4975,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getBlockThresholdCount(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_BLOCKTHRESHOLDCOUNT).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_BLOCKTHRESHOLDCOUNT).getLastValue();
+        if (getServerAttribute(ATTR_BLOCKTHRESHOLDCOUNT).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_BLOCKTHRESHOLDCOUNT).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_BLOCKTHRESHOLDCOUNT));
+        return (Integer) readSync(getServerAttribute(ATTR_BLOCKTHRESHOLDCOUNT));
     }
 
     /**
@@ -4986,7 +5007,7 @@ public class ZclPriceCluster extends ZclCluster {
             throw new IllegalArgumentException("arrayOffset out of bounds");
         }
 
-        return read(serverAttributes.get(ATTR_TIER1BLOCK1THRESHOLD + arrayOffset));
+        return read(getServerAttribute(ATTR_TIER1BLOCK1THRESHOLD + arrayOffset));
     }
 
     /**
@@ -5018,11 +5039,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getTier1BlockThreshold(final int arrayOffset, final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_TIER1BLOCK1THRESHOLD + arrayOffset).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_TIER1BLOCK1THRESHOLD + arrayOffset).getLastValue();
+        if (getServerAttribute(ATTR_TIER1BLOCK1THRESHOLD + arrayOffset).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_TIER1BLOCK1THRESHOLD + arrayOffset).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_TIER1BLOCK1THRESHOLD + arrayOffset));
+        return (Integer) readSync(getServerAttribute(ATTR_TIER1BLOCK1THRESHOLD + arrayOffset));
     }
 
     /**
@@ -5042,7 +5063,7 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getTier1BlockThresholdCountAsync() {
-        return read(serverAttributes.get(ATTR_TIER1BLOCKTHRESHOLDCOUNT));
+        return read(getServerAttribute(ATTR_TIER1BLOCKTHRESHOLDCOUNT));
     }
 
     /**
@@ -5070,11 +5091,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getTier1BlockThresholdCount(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_TIER1BLOCKTHRESHOLDCOUNT).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_TIER1BLOCKTHRESHOLDCOUNT).getLastValue();
+        if (getServerAttribute(ATTR_TIER1BLOCKTHRESHOLDCOUNT).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_TIER1BLOCKTHRESHOLDCOUNT).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_TIER1BLOCKTHRESHOLDCOUNT));
+        return (Integer) readSync(getServerAttribute(ATTR_TIER1BLOCKTHRESHOLDCOUNT));
     }
 
     /**
@@ -5102,7 +5123,7 @@ public class ZclPriceCluster extends ZclCluster {
             throw new IllegalArgumentException("arrayOffset out of bounds");
         }
 
-        return read(serverAttributes.get(ATTR_TIER2BLOCK1THRESHOLD + arrayOffset));
+        return read(getServerAttribute(ATTR_TIER2BLOCK1THRESHOLD + arrayOffset));
     }
 
     /**
@@ -5134,11 +5155,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getTier2BlockThreshold(final int arrayOffset, final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_TIER2BLOCK1THRESHOLD + arrayOffset).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_TIER2BLOCK1THRESHOLD + arrayOffset).getLastValue();
+        if (getServerAttribute(ATTR_TIER2BLOCK1THRESHOLD + arrayOffset).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_TIER2BLOCK1THRESHOLD + arrayOffset).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_TIER2BLOCK1THRESHOLD + arrayOffset));
+        return (Integer) readSync(getServerAttribute(ATTR_TIER2BLOCK1THRESHOLD + arrayOffset));
     }
 
     /**
@@ -5158,7 +5179,7 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getTier2BlockThresholdCountAsync() {
-        return read(serverAttributes.get(ATTR_TIER2BLOCKTHRESHOLDCOUNT));
+        return read(getServerAttribute(ATTR_TIER2BLOCKTHRESHOLDCOUNT));
     }
 
     /**
@@ -5186,11 +5207,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getTier2BlockThresholdCount(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_TIER2BLOCKTHRESHOLDCOUNT).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_TIER2BLOCKTHRESHOLDCOUNT).getLastValue();
+        if (getServerAttribute(ATTR_TIER2BLOCKTHRESHOLDCOUNT).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_TIER2BLOCKTHRESHOLDCOUNT).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_TIER2BLOCKTHRESHOLDCOUNT));
+        return (Integer) readSync(getServerAttribute(ATTR_TIER2BLOCKTHRESHOLDCOUNT));
     }
 
     /**
@@ -5218,7 +5239,7 @@ public class ZclPriceCluster extends ZclCluster {
             throw new IllegalArgumentException("arrayOffset out of bounds");
         }
 
-        return read(serverAttributes.get(ATTR_TIER3BLOCK1THRESHOLD + arrayOffset));
+        return read(getServerAttribute(ATTR_TIER3BLOCK1THRESHOLD + arrayOffset));
     }
 
     /**
@@ -5250,11 +5271,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getTier3BlockThreshold(final int arrayOffset, final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_TIER3BLOCK1THRESHOLD + arrayOffset).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_TIER3BLOCK1THRESHOLD + arrayOffset).getLastValue();
+        if (getServerAttribute(ATTR_TIER3BLOCK1THRESHOLD + arrayOffset).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_TIER3BLOCK1THRESHOLD + arrayOffset).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_TIER3BLOCK1THRESHOLD + arrayOffset));
+        return (Integer) readSync(getServerAttribute(ATTR_TIER3BLOCK1THRESHOLD + arrayOffset));
     }
 
     /**
@@ -5274,7 +5295,7 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getTier3BlockThresholdCountAsync() {
-        return read(serverAttributes.get(ATTR_TIER3BLOCKTHRESHOLDCOUNT));
+        return read(getServerAttribute(ATTR_TIER3BLOCKTHRESHOLDCOUNT));
     }
 
     /**
@@ -5302,11 +5323,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getTier3BlockThresholdCount(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_TIER3BLOCKTHRESHOLDCOUNT).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_TIER3BLOCKTHRESHOLDCOUNT).getLastValue();
+        if (getServerAttribute(ATTR_TIER3BLOCKTHRESHOLDCOUNT).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_TIER3BLOCKTHRESHOLDCOUNT).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_TIER3BLOCKTHRESHOLDCOUNT));
+        return (Integer) readSync(getServerAttribute(ATTR_TIER3BLOCKTHRESHOLDCOUNT));
     }
 
     /**
@@ -5334,7 +5355,7 @@ public class ZclPriceCluster extends ZclCluster {
             throw new IllegalArgumentException("arrayOffset out of bounds");
         }
 
-        return read(serverAttributes.get(ATTR_TIER4BLOCK1THRESHOLD + arrayOffset));
+        return read(getServerAttribute(ATTR_TIER4BLOCK1THRESHOLD + arrayOffset));
     }
 
     /**
@@ -5366,11 +5387,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getTier4BlockThreshold(final int arrayOffset, final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_TIER4BLOCK1THRESHOLD + arrayOffset).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_TIER4BLOCK1THRESHOLD + arrayOffset).getLastValue();
+        if (getServerAttribute(ATTR_TIER4BLOCK1THRESHOLD + arrayOffset).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_TIER4BLOCK1THRESHOLD + arrayOffset).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_TIER4BLOCK1THRESHOLD + arrayOffset));
+        return (Integer) readSync(getServerAttribute(ATTR_TIER4BLOCK1THRESHOLD + arrayOffset));
     }
 
     /**
@@ -5390,7 +5411,7 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getTier4BlockThresholdCountAsync() {
-        return read(serverAttributes.get(ATTR_TIER4BLOCKTHRESHOLDCOUNT));
+        return read(getServerAttribute(ATTR_TIER4BLOCKTHRESHOLDCOUNT));
     }
 
     /**
@@ -5418,11 +5439,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getTier4BlockThresholdCount(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_TIER4BLOCKTHRESHOLDCOUNT).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_TIER4BLOCKTHRESHOLDCOUNT).getLastValue();
+        if (getServerAttribute(ATTR_TIER4BLOCKTHRESHOLDCOUNT).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_TIER4BLOCKTHRESHOLDCOUNT).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_TIER4BLOCKTHRESHOLDCOUNT));
+        return (Integer) readSync(getServerAttribute(ATTR_TIER4BLOCKTHRESHOLDCOUNT));
     }
 
     /**
@@ -5450,7 +5471,7 @@ public class ZclPriceCluster extends ZclCluster {
             throw new IllegalArgumentException("arrayOffset out of bounds");
         }
 
-        return read(serverAttributes.get(ATTR_TIER5BLOCK1THRESHOLD + arrayOffset));
+        return read(getServerAttribute(ATTR_TIER5BLOCK1THRESHOLD + arrayOffset));
     }
 
     /**
@@ -5482,11 +5503,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getTier5BlockThreshold(final int arrayOffset, final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_TIER5BLOCK1THRESHOLD + arrayOffset).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_TIER5BLOCK1THRESHOLD + arrayOffset).getLastValue();
+        if (getServerAttribute(ATTR_TIER5BLOCK1THRESHOLD + arrayOffset).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_TIER5BLOCK1THRESHOLD + arrayOffset).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_TIER5BLOCK1THRESHOLD + arrayOffset));
+        return (Integer) readSync(getServerAttribute(ATTR_TIER5BLOCK1THRESHOLD + arrayOffset));
     }
 
     /**
@@ -5506,7 +5527,7 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getTier5BlockThresholdCountAsync() {
-        return read(serverAttributes.get(ATTR_TIER5BLOCKTHRESHOLDCOUNT));
+        return read(getServerAttribute(ATTR_TIER5BLOCKTHRESHOLDCOUNT));
     }
 
     /**
@@ -5534,11 +5555,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getTier5BlockThresholdCount(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_TIER5BLOCKTHRESHOLDCOUNT).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_TIER5BLOCKTHRESHOLDCOUNT).getLastValue();
+        if (getServerAttribute(ATTR_TIER5BLOCKTHRESHOLDCOUNT).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_TIER5BLOCKTHRESHOLDCOUNT).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_TIER5BLOCKTHRESHOLDCOUNT));
+        return (Integer) readSync(getServerAttribute(ATTR_TIER5BLOCKTHRESHOLDCOUNT));
     }
 
     /**
@@ -5566,7 +5587,7 @@ public class ZclPriceCluster extends ZclCluster {
             throw new IllegalArgumentException("arrayOffset out of bounds");
         }
 
-        return read(serverAttributes.get(ATTR_TIER6BLOCK1THRESHOLD + arrayOffset));
+        return read(getServerAttribute(ATTR_TIER6BLOCK1THRESHOLD + arrayOffset));
     }
 
     /**
@@ -5598,11 +5619,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getTier6BlockThreshold(final int arrayOffset, final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_TIER6BLOCK1THRESHOLD + arrayOffset).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_TIER6BLOCK1THRESHOLD + arrayOffset).getLastValue();
+        if (getServerAttribute(ATTR_TIER6BLOCK1THRESHOLD + arrayOffset).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_TIER6BLOCK1THRESHOLD + arrayOffset).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_TIER6BLOCK1THRESHOLD + arrayOffset));
+        return (Integer) readSync(getServerAttribute(ATTR_TIER6BLOCK1THRESHOLD + arrayOffset));
     }
 
     /**
@@ -5622,7 +5643,7 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getTier6BlockThresholdCountAsync() {
-        return read(serverAttributes.get(ATTR_TIER6BLOCKTHRESHOLDCOUNT));
+        return read(getServerAttribute(ATTR_TIER6BLOCKTHRESHOLDCOUNT));
     }
 
     /**
@@ -5650,11 +5671,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getTier6BlockThresholdCount(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_TIER6BLOCKTHRESHOLDCOUNT).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_TIER6BLOCKTHRESHOLDCOUNT).getLastValue();
+        if (getServerAttribute(ATTR_TIER6BLOCKTHRESHOLDCOUNT).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_TIER6BLOCKTHRESHOLDCOUNT).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_TIER6BLOCKTHRESHOLDCOUNT));
+        return (Integer) readSync(getServerAttribute(ATTR_TIER6BLOCKTHRESHOLDCOUNT));
     }
 
     /**
@@ -5682,7 +5703,7 @@ public class ZclPriceCluster extends ZclCluster {
             throw new IllegalArgumentException("arrayOffset out of bounds");
         }
 
-        return read(serverAttributes.get(ATTR_TIER7BLOCK1THRESHOLD + arrayOffset));
+        return read(getServerAttribute(ATTR_TIER7BLOCK1THRESHOLD + arrayOffset));
     }
 
     /**
@@ -5714,11 +5735,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getTier7BlockThreshold(final int arrayOffset, final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_TIER7BLOCK1THRESHOLD + arrayOffset).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_TIER7BLOCK1THRESHOLD + arrayOffset).getLastValue();
+        if (getServerAttribute(ATTR_TIER7BLOCK1THRESHOLD + arrayOffset).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_TIER7BLOCK1THRESHOLD + arrayOffset).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_TIER7BLOCK1THRESHOLD + arrayOffset));
+        return (Integer) readSync(getServerAttribute(ATTR_TIER7BLOCK1THRESHOLD + arrayOffset));
     }
 
     /**
@@ -5738,7 +5759,7 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getTier7BlockThresholdCountAsync() {
-        return read(serverAttributes.get(ATTR_TIER7BLOCKTHRESHOLDCOUNT));
+        return read(getServerAttribute(ATTR_TIER7BLOCKTHRESHOLDCOUNT));
     }
 
     /**
@@ -5766,11 +5787,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getTier7BlockThresholdCount(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_TIER7BLOCKTHRESHOLDCOUNT).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_TIER7BLOCKTHRESHOLDCOUNT).getLastValue();
+        if (getServerAttribute(ATTR_TIER7BLOCKTHRESHOLDCOUNT).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_TIER7BLOCKTHRESHOLDCOUNT).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_TIER7BLOCKTHRESHOLDCOUNT));
+        return (Integer) readSync(getServerAttribute(ATTR_TIER7BLOCKTHRESHOLDCOUNT));
     }
 
     /**
@@ -5798,7 +5819,7 @@ public class ZclPriceCluster extends ZclCluster {
             throw new IllegalArgumentException("arrayOffset out of bounds");
         }
 
-        return read(serverAttributes.get(ATTR_TIER8BLOCK1THRESHOLD + arrayOffset));
+        return read(getServerAttribute(ATTR_TIER8BLOCK1THRESHOLD + arrayOffset));
     }
 
     /**
@@ -5830,11 +5851,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getTier8BlockThreshold(final int arrayOffset, final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_TIER8BLOCK1THRESHOLD + arrayOffset).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_TIER8BLOCK1THRESHOLD + arrayOffset).getLastValue();
+        if (getServerAttribute(ATTR_TIER8BLOCK1THRESHOLD + arrayOffset).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_TIER8BLOCK1THRESHOLD + arrayOffset).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_TIER8BLOCK1THRESHOLD + arrayOffset));
+        return (Integer) readSync(getServerAttribute(ATTR_TIER8BLOCK1THRESHOLD + arrayOffset));
     }
 
     /**
@@ -5854,7 +5875,7 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getTier8BlockThresholdCountAsync() {
-        return read(serverAttributes.get(ATTR_TIER8BLOCKTHRESHOLDCOUNT));
+        return read(getServerAttribute(ATTR_TIER8BLOCKTHRESHOLDCOUNT));
     }
 
     /**
@@ -5882,11 +5903,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getTier8BlockThresholdCount(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_TIER8BLOCKTHRESHOLDCOUNT).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_TIER8BLOCKTHRESHOLDCOUNT).getLastValue();
+        if (getServerAttribute(ATTR_TIER8BLOCKTHRESHOLDCOUNT).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_TIER8BLOCKTHRESHOLDCOUNT).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_TIER8BLOCKTHRESHOLDCOUNT));
+        return (Integer) readSync(getServerAttribute(ATTR_TIER8BLOCKTHRESHOLDCOUNT));
     }
 
     /**
@@ -5914,7 +5935,7 @@ public class ZclPriceCluster extends ZclCluster {
             throw new IllegalArgumentException("arrayOffset out of bounds");
         }
 
-        return read(serverAttributes.get(ATTR_TIER9BLOCK1THRESHOLD + arrayOffset));
+        return read(getServerAttribute(ATTR_TIER9BLOCK1THRESHOLD + arrayOffset));
     }
 
     /**
@@ -5946,11 +5967,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getTier9BlockThreshold(final int arrayOffset, final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_TIER9BLOCK1THRESHOLD + arrayOffset).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_TIER9BLOCK1THRESHOLD + arrayOffset).getLastValue();
+        if (getServerAttribute(ATTR_TIER9BLOCK1THRESHOLD + arrayOffset).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_TIER9BLOCK1THRESHOLD + arrayOffset).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_TIER9BLOCK1THRESHOLD + arrayOffset));
+        return (Integer) readSync(getServerAttribute(ATTR_TIER9BLOCK1THRESHOLD + arrayOffset));
     }
 
     /**
@@ -5970,7 +5991,7 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getTier9BlockThresholdCountAsync() {
-        return read(serverAttributes.get(ATTR_TIER9BLOCKTHRESHOLDCOUNT));
+        return read(getServerAttribute(ATTR_TIER9BLOCKTHRESHOLDCOUNT));
     }
 
     /**
@@ -5998,11 +6019,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getTier9BlockThresholdCount(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_TIER9BLOCKTHRESHOLDCOUNT).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_TIER9BLOCKTHRESHOLDCOUNT).getLastValue();
+        if (getServerAttribute(ATTR_TIER9BLOCKTHRESHOLDCOUNT).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_TIER9BLOCKTHRESHOLDCOUNT).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_TIER9BLOCKTHRESHOLDCOUNT));
+        return (Integer) readSync(getServerAttribute(ATTR_TIER9BLOCKTHRESHOLDCOUNT));
     }
 
     /**
@@ -6030,7 +6051,7 @@ public class ZclPriceCluster extends ZclCluster {
             throw new IllegalArgumentException("arrayOffset out of bounds");
         }
 
-        return read(serverAttributes.get(ATTR_TIER10BLOCK1THRESHOLD + arrayOffset));
+        return read(getServerAttribute(ATTR_TIER10BLOCK1THRESHOLD + arrayOffset));
     }
 
     /**
@@ -6062,11 +6083,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getTier10BlockThreshold(final int arrayOffset, final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_TIER10BLOCK1THRESHOLD + arrayOffset).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_TIER10BLOCK1THRESHOLD + arrayOffset).getLastValue();
+        if (getServerAttribute(ATTR_TIER10BLOCK1THRESHOLD + arrayOffset).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_TIER10BLOCK1THRESHOLD + arrayOffset).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_TIER10BLOCK1THRESHOLD + arrayOffset));
+        return (Integer) readSync(getServerAttribute(ATTR_TIER10BLOCK1THRESHOLD + arrayOffset));
     }
 
     /**
@@ -6086,7 +6107,7 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getTier10BlockThresholdCountAsync() {
-        return read(serverAttributes.get(ATTR_TIER10BLOCKTHRESHOLDCOUNT));
+        return read(getServerAttribute(ATTR_TIER10BLOCKTHRESHOLDCOUNT));
     }
 
     /**
@@ -6114,11 +6135,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getTier10BlockThresholdCount(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_TIER10BLOCKTHRESHOLDCOUNT).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_TIER10BLOCKTHRESHOLDCOUNT).getLastValue();
+        if (getServerAttribute(ATTR_TIER10BLOCKTHRESHOLDCOUNT).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_TIER10BLOCKTHRESHOLDCOUNT).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_TIER10BLOCKTHRESHOLDCOUNT));
+        return (Integer) readSync(getServerAttribute(ATTR_TIER10BLOCKTHRESHOLDCOUNT));
     }
 
     /**
@@ -6146,7 +6167,7 @@ public class ZclPriceCluster extends ZclCluster {
             throw new IllegalArgumentException("arrayOffset out of bounds");
         }
 
-        return read(serverAttributes.get(ATTR_TIER11BLOCK1THRESHOLD + arrayOffset));
+        return read(getServerAttribute(ATTR_TIER11BLOCK1THRESHOLD + arrayOffset));
     }
 
     /**
@@ -6178,11 +6199,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getTier11BlockThreshold(final int arrayOffset, final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_TIER11BLOCK1THRESHOLD + arrayOffset).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_TIER11BLOCK1THRESHOLD + arrayOffset).getLastValue();
+        if (getServerAttribute(ATTR_TIER11BLOCK1THRESHOLD + arrayOffset).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_TIER11BLOCK1THRESHOLD + arrayOffset).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_TIER11BLOCK1THRESHOLD + arrayOffset));
+        return (Integer) readSync(getServerAttribute(ATTR_TIER11BLOCK1THRESHOLD + arrayOffset));
     }
 
     /**
@@ -6202,7 +6223,7 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getTier11BlockThresholdCountAsync() {
-        return read(serverAttributes.get(ATTR_TIER11BLOCKTHRESHOLDCOUNT));
+        return read(getServerAttribute(ATTR_TIER11BLOCKTHRESHOLDCOUNT));
     }
 
     /**
@@ -6230,11 +6251,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getTier11BlockThresholdCount(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_TIER11BLOCKTHRESHOLDCOUNT).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_TIER11BLOCKTHRESHOLDCOUNT).getLastValue();
+        if (getServerAttribute(ATTR_TIER11BLOCKTHRESHOLDCOUNT).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_TIER11BLOCKTHRESHOLDCOUNT).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_TIER11BLOCKTHRESHOLDCOUNT));
+        return (Integer) readSync(getServerAttribute(ATTR_TIER11BLOCKTHRESHOLDCOUNT));
     }
 
     /**
@@ -6262,7 +6283,7 @@ public class ZclPriceCluster extends ZclCluster {
             throw new IllegalArgumentException("arrayOffset out of bounds");
         }
 
-        return read(serverAttributes.get(ATTR_TIER12BLOCK1THRESHOLD + arrayOffset));
+        return read(getServerAttribute(ATTR_TIER12BLOCK1THRESHOLD + arrayOffset));
     }
 
     /**
@@ -6294,11 +6315,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getTier12BlockThreshold(final int arrayOffset, final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_TIER12BLOCK1THRESHOLD + arrayOffset).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_TIER12BLOCK1THRESHOLD + arrayOffset).getLastValue();
+        if (getServerAttribute(ATTR_TIER12BLOCK1THRESHOLD + arrayOffset).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_TIER12BLOCK1THRESHOLD + arrayOffset).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_TIER12BLOCK1THRESHOLD + arrayOffset));
+        return (Integer) readSync(getServerAttribute(ATTR_TIER12BLOCK1THRESHOLD + arrayOffset));
     }
 
     /**
@@ -6318,7 +6339,7 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getTier12BlockThresholdCountAsync() {
-        return read(serverAttributes.get(ATTR_TIER12BLOCKTHRESHOLDCOUNT));
+        return read(getServerAttribute(ATTR_TIER12BLOCKTHRESHOLDCOUNT));
     }
 
     /**
@@ -6346,11 +6367,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getTier12BlockThresholdCount(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_TIER12BLOCKTHRESHOLDCOUNT).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_TIER12BLOCKTHRESHOLDCOUNT).getLastValue();
+        if (getServerAttribute(ATTR_TIER12BLOCKTHRESHOLDCOUNT).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_TIER12BLOCKTHRESHOLDCOUNT).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_TIER12BLOCKTHRESHOLDCOUNT));
+        return (Integer) readSync(getServerAttribute(ATTR_TIER12BLOCKTHRESHOLDCOUNT));
     }
 
     /**
@@ -6378,7 +6399,7 @@ public class ZclPriceCluster extends ZclCluster {
             throw new IllegalArgumentException("arrayOffset out of bounds");
         }
 
-        return read(serverAttributes.get(ATTR_TIER13BLOCK1THRESHOLD + arrayOffset));
+        return read(getServerAttribute(ATTR_TIER13BLOCK1THRESHOLD + arrayOffset));
     }
 
     /**
@@ -6410,11 +6431,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getTier13BlockThreshold(final int arrayOffset, final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_TIER13BLOCK1THRESHOLD + arrayOffset).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_TIER13BLOCK1THRESHOLD + arrayOffset).getLastValue();
+        if (getServerAttribute(ATTR_TIER13BLOCK1THRESHOLD + arrayOffset).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_TIER13BLOCK1THRESHOLD + arrayOffset).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_TIER13BLOCK1THRESHOLD + arrayOffset));
+        return (Integer) readSync(getServerAttribute(ATTR_TIER13BLOCK1THRESHOLD + arrayOffset));
     }
 
     /**
@@ -6434,7 +6455,7 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getTier13BlockThresholdCountAsync() {
-        return read(serverAttributes.get(ATTR_TIER13BLOCKTHRESHOLDCOUNT));
+        return read(getServerAttribute(ATTR_TIER13BLOCKTHRESHOLDCOUNT));
     }
 
     /**
@@ -6462,11 +6483,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getTier13BlockThresholdCount(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_TIER13BLOCKTHRESHOLDCOUNT).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_TIER13BLOCKTHRESHOLDCOUNT).getLastValue();
+        if (getServerAttribute(ATTR_TIER13BLOCKTHRESHOLDCOUNT).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_TIER13BLOCKTHRESHOLDCOUNT).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_TIER13BLOCKTHRESHOLDCOUNT));
+        return (Integer) readSync(getServerAttribute(ATTR_TIER13BLOCKTHRESHOLDCOUNT));
     }
 
     /**
@@ -6494,7 +6515,7 @@ public class ZclPriceCluster extends ZclCluster {
             throw new IllegalArgumentException("arrayOffset out of bounds");
         }
 
-        return read(serverAttributes.get(ATTR_TIER14BLOCK1THRESHOLD + arrayOffset));
+        return read(getServerAttribute(ATTR_TIER14BLOCK1THRESHOLD + arrayOffset));
     }
 
     /**
@@ -6526,11 +6547,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getTier14BlockThreshold(final int arrayOffset, final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_TIER14BLOCK1THRESHOLD + arrayOffset).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_TIER14BLOCK1THRESHOLD + arrayOffset).getLastValue();
+        if (getServerAttribute(ATTR_TIER14BLOCK1THRESHOLD + arrayOffset).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_TIER14BLOCK1THRESHOLD + arrayOffset).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_TIER14BLOCK1THRESHOLD + arrayOffset));
+        return (Integer) readSync(getServerAttribute(ATTR_TIER14BLOCK1THRESHOLD + arrayOffset));
     }
 
     /**
@@ -6550,7 +6571,7 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getTier14BlockThresholdCountAsync() {
-        return read(serverAttributes.get(ATTR_TIER14BLOCKTHRESHOLDCOUNT));
+        return read(getServerAttribute(ATTR_TIER14BLOCKTHRESHOLDCOUNT));
     }
 
     /**
@@ -6578,11 +6599,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getTier14BlockThresholdCount(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_TIER14BLOCKTHRESHOLDCOUNT).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_TIER14BLOCKTHRESHOLDCOUNT).getLastValue();
+        if (getServerAttribute(ATTR_TIER14BLOCKTHRESHOLDCOUNT).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_TIER14BLOCKTHRESHOLDCOUNT).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_TIER14BLOCKTHRESHOLDCOUNT));
+        return (Integer) readSync(getServerAttribute(ATTR_TIER14BLOCKTHRESHOLDCOUNT));
     }
 
     /**
@@ -6610,7 +6631,7 @@ public class ZclPriceCluster extends ZclCluster {
             throw new IllegalArgumentException("arrayOffset out of bounds");
         }
 
-        return read(serverAttributes.get(ATTR_TIER15BLOCK1THRESHOLD + arrayOffset));
+        return read(getServerAttribute(ATTR_TIER15BLOCK1THRESHOLD + arrayOffset));
     }
 
     /**
@@ -6642,11 +6663,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getTier15BlockThreshold(final int arrayOffset, final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_TIER15BLOCK1THRESHOLD + arrayOffset).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_TIER15BLOCK1THRESHOLD + arrayOffset).getLastValue();
+        if (getServerAttribute(ATTR_TIER15BLOCK1THRESHOLD + arrayOffset).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_TIER15BLOCK1THRESHOLD + arrayOffset).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_TIER15BLOCK1THRESHOLD + arrayOffset));
+        return (Integer) readSync(getServerAttribute(ATTR_TIER15BLOCK1THRESHOLD + arrayOffset));
     }
 
     /**
@@ -6666,7 +6687,7 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getTier15BlockThresholdCountAsync() {
-        return read(serverAttributes.get(ATTR_TIER15BLOCKTHRESHOLDCOUNT));
+        return read(getServerAttribute(ATTR_TIER15BLOCKTHRESHOLDCOUNT));
     }
 
     /**
@@ -6694,11 +6715,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getTier15BlockThresholdCount(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_TIER15BLOCKTHRESHOLDCOUNT).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_TIER15BLOCKTHRESHOLDCOUNT).getLastValue();
+        if (getServerAttribute(ATTR_TIER15BLOCKTHRESHOLDCOUNT).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_TIER15BLOCKTHRESHOLDCOUNT).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_TIER15BLOCKTHRESHOLDCOUNT));
+        return (Integer) readSync(getServerAttribute(ATTR_TIER15BLOCKTHRESHOLDCOUNT));
     }
 
     /**
@@ -6716,7 +6737,7 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getStartOfBlockPeriodAsync() {
-        return read(serverAttributes.get(ATTR_STARTOFBLOCKPERIOD));
+        return read(getServerAttribute(ATTR_STARTOFBLOCKPERIOD));
     }
 
     /**
@@ -6742,11 +6763,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Calendar getStartOfBlockPeriod(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_STARTOFBLOCKPERIOD).isLastValueCurrent(refreshPeriod)) {
-            return (Calendar) serverAttributes.get(ATTR_STARTOFBLOCKPERIOD).getLastValue();
+        if (getServerAttribute(ATTR_STARTOFBLOCKPERIOD).isLastValueCurrent(refreshPeriod)) {
+            return (Calendar) getServerAttribute(ATTR_STARTOFBLOCKPERIOD).getLastValue();
         }
 
-        return (Calendar) readSync(serverAttributes.get(ATTR_STARTOFBLOCKPERIOD));
+        return (Calendar) readSync(getServerAttribute(ATTR_STARTOFBLOCKPERIOD));
     }
 
     /**
@@ -6766,7 +6787,7 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getBlockPeriodDurationAsync() {
-        return read(serverAttributes.get(ATTR_BLOCKPERIODDURATION));
+        return read(getServerAttribute(ATTR_BLOCKPERIODDURATION));
     }
 
     /**
@@ -6794,11 +6815,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getBlockPeriodDuration(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_BLOCKPERIODDURATION).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_BLOCKPERIODDURATION).getLastValue();
+        if (getServerAttribute(ATTR_BLOCKPERIODDURATION).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_BLOCKPERIODDURATION).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_BLOCKPERIODDURATION));
+        return (Integer) readSync(getServerAttribute(ATTR_BLOCKPERIODDURATION));
     }
 
     /**
@@ -6820,7 +6841,7 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getThresholdMultiplierAsync() {
-        return read(serverAttributes.get(ATTR_THRESHOLDMULTIPLIER));
+        return read(getServerAttribute(ATTR_THRESHOLDMULTIPLIER));
     }
 
     /**
@@ -6850,11 +6871,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getThresholdMultiplier(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_THRESHOLDMULTIPLIER).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_THRESHOLDMULTIPLIER).getLastValue();
+        if (getServerAttribute(ATTR_THRESHOLDMULTIPLIER).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_THRESHOLDMULTIPLIER).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_THRESHOLDMULTIPLIER));
+        return (Integer) readSync(getServerAttribute(ATTR_THRESHOLDMULTIPLIER));
     }
 
     /**
@@ -6876,7 +6897,7 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getThresholdDivisorAsync() {
-        return read(serverAttributes.get(ATTR_THRESHOLDDIVISOR));
+        return read(getServerAttribute(ATTR_THRESHOLDDIVISOR));
     }
 
     /**
@@ -6906,11 +6927,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getThresholdDivisor(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_THRESHOLDDIVISOR).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_THRESHOLDDIVISOR).getLastValue();
+        if (getServerAttribute(ATTR_THRESHOLDDIVISOR).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_THRESHOLDDIVISOR).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_THRESHOLDDIVISOR));
+        return (Integer) readSync(getServerAttribute(ATTR_THRESHOLDDIVISOR));
     }
 
     /**
@@ -6929,7 +6950,7 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getBlockPeriodDurationTypeAsync() {
-        return read(serverAttributes.get(ATTR_BLOCKPERIODDURATIONTYPE));
+        return read(getServerAttribute(ATTR_BLOCKPERIODDURATIONTYPE));
     }
 
     /**
@@ -6956,11 +6977,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getBlockPeriodDurationType(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_BLOCKPERIODDURATIONTYPE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_BLOCKPERIODDURATIONTYPE).getLastValue();
+        if (getServerAttribute(ATTR_BLOCKPERIODDURATIONTYPE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_BLOCKPERIODDURATIONTYPE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_BLOCKPERIODDURATIONTYPE));
+        return (Integer) readSync(getServerAttribute(ATTR_BLOCKPERIODDURATIONTYPE));
     }
 
     /**
@@ -6978,7 +6999,7 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCommodityTypeServerAsync() {
-        return read(serverAttributes.get(ATTR_COMMODITYTYPESERVER));
+        return read(getServerAttribute(ATTR_COMMODITYTYPESERVER));
     }
 
     /**
@@ -7004,11 +7025,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCommodityTypeServer(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_COMMODITYTYPESERVER).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_COMMODITYTYPESERVER).getLastValue();
+        if (getServerAttribute(ATTR_COMMODITYTYPESERVER).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_COMMODITYTYPESERVER).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_COMMODITYTYPESERVER));
+        return (Integer) readSync(getServerAttribute(ATTR_COMMODITYTYPESERVER));
     }
 
     /**
@@ -7028,7 +7049,7 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getStandingChargeAsync() {
-        return read(serverAttributes.get(ATTR_STANDINGCHARGE));
+        return read(getServerAttribute(ATTR_STANDINGCHARGE));
     }
 
     /**
@@ -7056,11 +7077,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getStandingCharge(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_STANDINGCHARGE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_STANDINGCHARGE).getLastValue();
+        if (getServerAttribute(ATTR_STANDINGCHARGE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_STANDINGCHARGE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_STANDINGCHARGE));
+        return (Integer) readSync(getServerAttribute(ATTR_STANDINGCHARGE));
     }
 
     /**
@@ -7075,7 +7096,7 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getConversionFactorAsync() {
-        return read(serverAttributes.get(ATTR_CONVERSIONFACTOR));
+        return read(getServerAttribute(ATTR_CONVERSIONFACTOR));
     }
 
     /**
@@ -7098,11 +7119,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getConversionFactor(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CONVERSIONFACTOR).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CONVERSIONFACTOR).getLastValue();
+        if (getServerAttribute(ATTR_CONVERSIONFACTOR).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CONVERSIONFACTOR).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CONVERSIONFACTOR));
+        return (Integer) readSync(getServerAttribute(ATTR_CONVERSIONFACTOR));
     }
 
     /**
@@ -7117,7 +7138,7 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getConversionFactorTrailingDigitAsync() {
-        return read(serverAttributes.get(ATTR_CONVERSIONFACTORTRAILINGDIGIT));
+        return read(getServerAttribute(ATTR_CONVERSIONFACTORTRAILINGDIGIT));
     }
 
     /**
@@ -7140,11 +7161,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getConversionFactorTrailingDigit(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CONVERSIONFACTORTRAILINGDIGIT).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CONVERSIONFACTORTRAILINGDIGIT).getLastValue();
+        if (getServerAttribute(ATTR_CONVERSIONFACTORTRAILINGDIGIT).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CONVERSIONFACTORTRAILINGDIGIT).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CONVERSIONFACTORTRAILINGDIGIT));
+        return (Integer) readSync(getServerAttribute(ATTR_CONVERSIONFACTORTRAILINGDIGIT));
     }
 
     /**
@@ -7159,7 +7180,7 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCalorificValueAsync() {
-        return read(serverAttributes.get(ATTR_CALORIFICVALUE));
+        return read(getServerAttribute(ATTR_CALORIFICVALUE));
     }
 
     /**
@@ -7182,11 +7203,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCalorificValue(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CALORIFICVALUE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CALORIFICVALUE).getLastValue();
+        if (getServerAttribute(ATTR_CALORIFICVALUE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CALORIFICVALUE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CALORIFICVALUE));
+        return (Integer) readSync(getServerAttribute(ATTR_CALORIFICVALUE));
     }
 
     /**
@@ -7201,7 +7222,7 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCalorificValueUnitAsync() {
-        return read(serverAttributes.get(ATTR_CALORIFICVALUEUNIT));
+        return read(getServerAttribute(ATTR_CALORIFICVALUEUNIT));
     }
 
     /**
@@ -7224,11 +7245,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCalorificValueUnit(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CALORIFICVALUEUNIT).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CALORIFICVALUEUNIT).getLastValue();
+        if (getServerAttribute(ATTR_CALORIFICVALUEUNIT).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CALORIFICVALUEUNIT).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CALORIFICVALUEUNIT));
+        return (Integer) readSync(getServerAttribute(ATTR_CALORIFICVALUEUNIT));
     }
 
     /**
@@ -7243,7 +7264,7 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCalorificValueTrailingDigitAsync() {
-        return read(serverAttributes.get(ATTR_CALORIFICVALUETRAILINGDIGIT));
+        return read(getServerAttribute(ATTR_CALORIFICVALUETRAILINGDIGIT));
     }
 
     /**
@@ -7266,11 +7287,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCalorificValueTrailingDigit(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CALORIFICVALUETRAILINGDIGIT).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CALORIFICVALUETRAILINGDIGIT).getLastValue();
+        if (getServerAttribute(ATTR_CALORIFICVALUETRAILINGDIGIT).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CALORIFICVALUETRAILINGDIGIT).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CALORIFICVALUETRAILINGDIGIT));
+        return (Integer) readSync(getServerAttribute(ATTR_CALORIFICVALUETRAILINGDIGIT));
     }
 
     /**
@@ -7290,7 +7311,7 @@ public class ZclPriceCluster extends ZclCluster {
             throw new IllegalArgumentException("arrayOffset out of bounds");
         }
 
-        return read(serverAttributes.get(ATTR_NOTIERBLOCK1PRICE + arrayOffset));
+        return read(getServerAttribute(ATTR_NOTIERBLOCK1PRICE + arrayOffset));
     }
 
     /**
@@ -7314,11 +7335,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getNoTierBlockPrice(final int arrayOffset, final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_NOTIERBLOCK1PRICE + arrayOffset).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_NOTIERBLOCK1PRICE + arrayOffset).getLastValue();
+        if (getServerAttribute(ATTR_NOTIERBLOCK1PRICE + arrayOffset).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_NOTIERBLOCK1PRICE + arrayOffset).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_NOTIERBLOCK1PRICE + arrayOffset));
+        return (Integer) readSync(getServerAttribute(ATTR_NOTIERBLOCK1PRICE + arrayOffset));
     }
 
     /**
@@ -7338,7 +7359,7 @@ public class ZclPriceCluster extends ZclCluster {
             throw new IllegalArgumentException("arrayOffset out of bounds");
         }
 
-        return read(serverAttributes.get(ATTR_TIER1BLOCK1PRICE + arrayOffset));
+        return read(getServerAttribute(ATTR_TIER1BLOCK1PRICE + arrayOffset));
     }
 
     /**
@@ -7362,11 +7383,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getTier1BlockPrice(final int arrayOffset, final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_TIER1BLOCK1PRICE + arrayOffset).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_TIER1BLOCK1PRICE + arrayOffset).getLastValue();
+        if (getServerAttribute(ATTR_TIER1BLOCK1PRICE + arrayOffset).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_TIER1BLOCK1PRICE + arrayOffset).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_TIER1BLOCK1PRICE + arrayOffset));
+        return (Integer) readSync(getServerAttribute(ATTR_TIER1BLOCK1PRICE + arrayOffset));
     }
 
     /**
@@ -7386,7 +7407,7 @@ public class ZclPriceCluster extends ZclCluster {
             throw new IllegalArgumentException("arrayOffset out of bounds");
         }
 
-        return read(serverAttributes.get(ATTR_TIER2BLOCK1PRICE + arrayOffset));
+        return read(getServerAttribute(ATTR_TIER2BLOCK1PRICE + arrayOffset));
     }
 
     /**
@@ -7410,11 +7431,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getTier2BlockPrice(final int arrayOffset, final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_TIER2BLOCK1PRICE + arrayOffset).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_TIER2BLOCK1PRICE + arrayOffset).getLastValue();
+        if (getServerAttribute(ATTR_TIER2BLOCK1PRICE + arrayOffset).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_TIER2BLOCK1PRICE + arrayOffset).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_TIER2BLOCK1PRICE + arrayOffset));
+        return (Integer) readSync(getServerAttribute(ATTR_TIER2BLOCK1PRICE + arrayOffset));
     }
 
     /**
@@ -7434,7 +7455,7 @@ public class ZclPriceCluster extends ZclCluster {
             throw new IllegalArgumentException("arrayOffset out of bounds");
         }
 
-        return read(serverAttributes.get(ATTR_TIER3BLOCK1PRICE + arrayOffset));
+        return read(getServerAttribute(ATTR_TIER3BLOCK1PRICE + arrayOffset));
     }
 
     /**
@@ -7458,11 +7479,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getTier3BlockPrice(final int arrayOffset, final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_TIER3BLOCK1PRICE + arrayOffset).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_TIER3BLOCK1PRICE + arrayOffset).getLastValue();
+        if (getServerAttribute(ATTR_TIER3BLOCK1PRICE + arrayOffset).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_TIER3BLOCK1PRICE + arrayOffset).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_TIER3BLOCK1PRICE + arrayOffset));
+        return (Integer) readSync(getServerAttribute(ATTR_TIER3BLOCK1PRICE + arrayOffset));
     }
 
     /**
@@ -7482,7 +7503,7 @@ public class ZclPriceCluster extends ZclCluster {
             throw new IllegalArgumentException("arrayOffset out of bounds");
         }
 
-        return read(serverAttributes.get(ATTR_TIER4BLOCK1PRICE + arrayOffset));
+        return read(getServerAttribute(ATTR_TIER4BLOCK1PRICE + arrayOffset));
     }
 
     /**
@@ -7506,11 +7527,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getTier4BlockPrice(final int arrayOffset, final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_TIER4BLOCK1PRICE + arrayOffset).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_TIER4BLOCK1PRICE + arrayOffset).getLastValue();
+        if (getServerAttribute(ATTR_TIER4BLOCK1PRICE + arrayOffset).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_TIER4BLOCK1PRICE + arrayOffset).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_TIER4BLOCK1PRICE + arrayOffset));
+        return (Integer) readSync(getServerAttribute(ATTR_TIER4BLOCK1PRICE + arrayOffset));
     }
 
     /**
@@ -7530,7 +7551,7 @@ public class ZclPriceCluster extends ZclCluster {
             throw new IllegalArgumentException("arrayOffset out of bounds");
         }
 
-        return read(serverAttributes.get(ATTR_TIER5BLOCK1PRICE + arrayOffset));
+        return read(getServerAttribute(ATTR_TIER5BLOCK1PRICE + arrayOffset));
     }
 
     /**
@@ -7554,11 +7575,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getTier5BlockPrice(final int arrayOffset, final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_TIER5BLOCK1PRICE + arrayOffset).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_TIER5BLOCK1PRICE + arrayOffset).getLastValue();
+        if (getServerAttribute(ATTR_TIER5BLOCK1PRICE + arrayOffset).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_TIER5BLOCK1PRICE + arrayOffset).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_TIER5BLOCK1PRICE + arrayOffset));
+        return (Integer) readSync(getServerAttribute(ATTR_TIER5BLOCK1PRICE + arrayOffset));
     }
 
     /**
@@ -7578,7 +7599,7 @@ public class ZclPriceCluster extends ZclCluster {
             throw new IllegalArgumentException("arrayOffset out of bounds");
         }
 
-        return read(serverAttributes.get(ATTR_TIER6BLOCK1PRICE + arrayOffset));
+        return read(getServerAttribute(ATTR_TIER6BLOCK1PRICE + arrayOffset));
     }
 
     /**
@@ -7602,11 +7623,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getTier6BlockPrice(final int arrayOffset, final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_TIER6BLOCK1PRICE + arrayOffset).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_TIER6BLOCK1PRICE + arrayOffset).getLastValue();
+        if (getServerAttribute(ATTR_TIER6BLOCK1PRICE + arrayOffset).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_TIER6BLOCK1PRICE + arrayOffset).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_TIER6BLOCK1PRICE + arrayOffset));
+        return (Integer) readSync(getServerAttribute(ATTR_TIER6BLOCK1PRICE + arrayOffset));
     }
 
     /**
@@ -7626,7 +7647,7 @@ public class ZclPriceCluster extends ZclCluster {
             throw new IllegalArgumentException("arrayOffset out of bounds");
         }
 
-        return read(serverAttributes.get(ATTR_TIER7BLOCK1PRICE + arrayOffset));
+        return read(getServerAttribute(ATTR_TIER7BLOCK1PRICE + arrayOffset));
     }
 
     /**
@@ -7650,11 +7671,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getTier7BlockPrice(final int arrayOffset, final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_TIER7BLOCK1PRICE + arrayOffset).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_TIER7BLOCK1PRICE + arrayOffset).getLastValue();
+        if (getServerAttribute(ATTR_TIER7BLOCK1PRICE + arrayOffset).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_TIER7BLOCK1PRICE + arrayOffset).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_TIER7BLOCK1PRICE + arrayOffset));
+        return (Integer) readSync(getServerAttribute(ATTR_TIER7BLOCK1PRICE + arrayOffset));
     }
 
     /**
@@ -7674,7 +7695,7 @@ public class ZclPriceCluster extends ZclCluster {
             throw new IllegalArgumentException("arrayOffset out of bounds");
         }
 
-        return read(serverAttributes.get(ATTR_TIER8BLOCK1PRICE + arrayOffset));
+        return read(getServerAttribute(ATTR_TIER8BLOCK1PRICE + arrayOffset));
     }
 
     /**
@@ -7698,11 +7719,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getTier8BlockPrice(final int arrayOffset, final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_TIER8BLOCK1PRICE + arrayOffset).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_TIER8BLOCK1PRICE + arrayOffset).getLastValue();
+        if (getServerAttribute(ATTR_TIER8BLOCK1PRICE + arrayOffset).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_TIER8BLOCK1PRICE + arrayOffset).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_TIER8BLOCK1PRICE + arrayOffset));
+        return (Integer) readSync(getServerAttribute(ATTR_TIER8BLOCK1PRICE + arrayOffset));
     }
 
     /**
@@ -7722,7 +7743,7 @@ public class ZclPriceCluster extends ZclCluster {
             throw new IllegalArgumentException("arrayOffset out of bounds");
         }
 
-        return read(serverAttributes.get(ATTR_TIER9BLOCK1PRICE + arrayOffset));
+        return read(getServerAttribute(ATTR_TIER9BLOCK1PRICE + arrayOffset));
     }
 
     /**
@@ -7746,11 +7767,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getTier9BlockPrice(final int arrayOffset, final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_TIER9BLOCK1PRICE + arrayOffset).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_TIER9BLOCK1PRICE + arrayOffset).getLastValue();
+        if (getServerAttribute(ATTR_TIER9BLOCK1PRICE + arrayOffset).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_TIER9BLOCK1PRICE + arrayOffset).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_TIER9BLOCK1PRICE + arrayOffset));
+        return (Integer) readSync(getServerAttribute(ATTR_TIER9BLOCK1PRICE + arrayOffset));
     }
 
     /**
@@ -7770,7 +7791,7 @@ public class ZclPriceCluster extends ZclCluster {
             throw new IllegalArgumentException("arrayOffset out of bounds");
         }
 
-        return read(serverAttributes.get(ATTR_TIER10BLOCK1PRICE + arrayOffset));
+        return read(getServerAttribute(ATTR_TIER10BLOCK1PRICE + arrayOffset));
     }
 
     /**
@@ -7794,11 +7815,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getTier10BlockPrice(final int arrayOffset, final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_TIER10BLOCK1PRICE + arrayOffset).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_TIER10BLOCK1PRICE + arrayOffset).getLastValue();
+        if (getServerAttribute(ATTR_TIER10BLOCK1PRICE + arrayOffset).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_TIER10BLOCK1PRICE + arrayOffset).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_TIER10BLOCK1PRICE + arrayOffset));
+        return (Integer) readSync(getServerAttribute(ATTR_TIER10BLOCK1PRICE + arrayOffset));
     }
 
     /**
@@ -7818,7 +7839,7 @@ public class ZclPriceCluster extends ZclCluster {
             throw new IllegalArgumentException("arrayOffset out of bounds");
         }
 
-        return read(serverAttributes.get(ATTR_TIER11BLOCK1PRICE + arrayOffset));
+        return read(getServerAttribute(ATTR_TIER11BLOCK1PRICE + arrayOffset));
     }
 
     /**
@@ -7842,11 +7863,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getTier11BlockPrice(final int arrayOffset, final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_TIER11BLOCK1PRICE + arrayOffset).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_TIER11BLOCK1PRICE + arrayOffset).getLastValue();
+        if (getServerAttribute(ATTR_TIER11BLOCK1PRICE + arrayOffset).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_TIER11BLOCK1PRICE + arrayOffset).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_TIER11BLOCK1PRICE + arrayOffset));
+        return (Integer) readSync(getServerAttribute(ATTR_TIER11BLOCK1PRICE + arrayOffset));
     }
 
     /**
@@ -7866,7 +7887,7 @@ public class ZclPriceCluster extends ZclCluster {
             throw new IllegalArgumentException("arrayOffset out of bounds");
         }
 
-        return read(serverAttributes.get(ATTR_TIER12BLOCK1PRICE + arrayOffset));
+        return read(getServerAttribute(ATTR_TIER12BLOCK1PRICE + arrayOffset));
     }
 
     /**
@@ -7890,11 +7911,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getTier12BlockPrice(final int arrayOffset, final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_TIER12BLOCK1PRICE + arrayOffset).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_TIER12BLOCK1PRICE + arrayOffset).getLastValue();
+        if (getServerAttribute(ATTR_TIER12BLOCK1PRICE + arrayOffset).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_TIER12BLOCK1PRICE + arrayOffset).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_TIER12BLOCK1PRICE + arrayOffset));
+        return (Integer) readSync(getServerAttribute(ATTR_TIER12BLOCK1PRICE + arrayOffset));
     }
 
     /**
@@ -7914,7 +7935,7 @@ public class ZclPriceCluster extends ZclCluster {
             throw new IllegalArgumentException("arrayOffset out of bounds");
         }
 
-        return read(serverAttributes.get(ATTR_TIER13BLOCK1PRICE + arrayOffset));
+        return read(getServerAttribute(ATTR_TIER13BLOCK1PRICE + arrayOffset));
     }
 
     /**
@@ -7938,11 +7959,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getTier13BlockPrice(final int arrayOffset, final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_TIER13BLOCK1PRICE + arrayOffset).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_TIER13BLOCK1PRICE + arrayOffset).getLastValue();
+        if (getServerAttribute(ATTR_TIER13BLOCK1PRICE + arrayOffset).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_TIER13BLOCK1PRICE + arrayOffset).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_TIER13BLOCK1PRICE + arrayOffset));
+        return (Integer) readSync(getServerAttribute(ATTR_TIER13BLOCK1PRICE + arrayOffset));
     }
 
     /**
@@ -7962,7 +7983,7 @@ public class ZclPriceCluster extends ZclCluster {
             throw new IllegalArgumentException("arrayOffset out of bounds");
         }
 
-        return read(serverAttributes.get(ATTR_TIER14BLOCK1PRICE + arrayOffset));
+        return read(getServerAttribute(ATTR_TIER14BLOCK1PRICE + arrayOffset));
     }
 
     /**
@@ -7986,11 +8007,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getTier14BlockPrice(final int arrayOffset, final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_TIER14BLOCK1PRICE + arrayOffset).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_TIER14BLOCK1PRICE + arrayOffset).getLastValue();
+        if (getServerAttribute(ATTR_TIER14BLOCK1PRICE + arrayOffset).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_TIER14BLOCK1PRICE + arrayOffset).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_TIER14BLOCK1PRICE + arrayOffset));
+        return (Integer) readSync(getServerAttribute(ATTR_TIER14BLOCK1PRICE + arrayOffset));
     }
 
     /**
@@ -8010,7 +8031,7 @@ public class ZclPriceCluster extends ZclCluster {
             throw new IllegalArgumentException("arrayOffset out of bounds");
         }
 
-        return read(serverAttributes.get(ATTR_TIER15BLOCK1PRICE + arrayOffset));
+        return read(getServerAttribute(ATTR_TIER15BLOCK1PRICE + arrayOffset));
     }
 
     /**
@@ -8034,11 +8055,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getTier15BlockPrice(final int arrayOffset, final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_TIER15BLOCK1PRICE + arrayOffset).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_TIER15BLOCK1PRICE + arrayOffset).getLastValue();
+        if (getServerAttribute(ATTR_TIER15BLOCK1PRICE + arrayOffset).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_TIER15BLOCK1PRICE + arrayOffset).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_TIER15BLOCK1PRICE + arrayOffset));
+        return (Integer) readSync(getServerAttribute(ATTR_TIER15BLOCK1PRICE + arrayOffset));
     }
 
     /**
@@ -8062,7 +8083,7 @@ public class ZclPriceCluster extends ZclCluster {
             throw new IllegalArgumentException("arrayOffset out of bounds");
         }
 
-        return read(serverAttributes.get(ATTR_PRICETIER16 + arrayOffset));
+        return read(getServerAttribute(ATTR_PRICETIER16 + arrayOffset));
     }
 
     /**
@@ -8090,11 +8111,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getPriceTier(final int arrayOffset, final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PRICETIER16 + arrayOffset).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_PRICETIER16 + arrayOffset).getLastValue();
+        if (getServerAttribute(ATTR_PRICETIER16 + arrayOffset).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_PRICETIER16 + arrayOffset).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_PRICETIER16 + arrayOffset));
+        return (Integer) readSync(getServerAttribute(ATTR_PRICETIER16 + arrayOffset));
     }
 
     /**
@@ -8113,7 +8134,7 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCpp1PriceAsync() {
-        return read(serverAttributes.get(ATTR_CPP1PRICE));
+        return read(getServerAttribute(ATTR_CPP1PRICE));
     }
 
     /**
@@ -8140,11 +8161,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCpp1Price(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CPP1PRICE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CPP1PRICE).getLastValue();
+        if (getServerAttribute(ATTR_CPP1PRICE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CPP1PRICE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CPP1PRICE));
+        return (Integer) readSync(getServerAttribute(ATTR_CPP1PRICE));
     }
 
     /**
@@ -8163,7 +8184,7 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCpp2PriceAsync() {
-        return read(serverAttributes.get(ATTR_CPP2PRICE));
+        return read(getServerAttribute(ATTR_CPP2PRICE));
     }
 
     /**
@@ -8190,11 +8211,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCpp2Price(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CPP2PRICE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CPP2PRICE).getLastValue();
+        if (getServerAttribute(ATTR_CPP2PRICE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CPP2PRICE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CPP2PRICE));
+        return (Integer) readSync(getServerAttribute(ATTR_CPP2PRICE));
     }
 
     /**
@@ -8209,7 +8230,7 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getTariffLabelAsync() {
-        return read(serverAttributes.get(ATTR_TARIFFLABEL));
+        return read(getServerAttribute(ATTR_TARIFFLABEL));
     }
 
     /**
@@ -8232,11 +8253,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public String getTariffLabel(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_TARIFFLABEL).isLastValueCurrent(refreshPeriod)) {
-            return (String) serverAttributes.get(ATTR_TARIFFLABEL).getLastValue();
+        if (getServerAttribute(ATTR_TARIFFLABEL).isLastValueCurrent(refreshPeriod)) {
+            return (String) getServerAttribute(ATTR_TARIFFLABEL).getLastValue();
         }
 
-        return (String) readSync(serverAttributes.get(ATTR_TARIFFLABEL));
+        return (String) readSync(getServerAttribute(ATTR_TARIFFLABEL));
     }
 
     /**
@@ -8251,7 +8272,7 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getNumberofPriceTiersInUseAsync() {
-        return read(serverAttributes.get(ATTR_NUMBEROFPRICETIERSINUSE));
+        return read(getServerAttribute(ATTR_NUMBEROFPRICETIERSINUSE));
     }
 
     /**
@@ -8274,11 +8295,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getNumberofPriceTiersInUse(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_NUMBEROFPRICETIERSINUSE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_NUMBEROFPRICETIERSINUSE).getLastValue();
+        if (getServerAttribute(ATTR_NUMBEROFPRICETIERSINUSE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_NUMBEROFPRICETIERSINUSE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_NUMBEROFPRICETIERSINUSE));
+        return (Integer) readSync(getServerAttribute(ATTR_NUMBEROFPRICETIERSINUSE));
     }
 
     /**
@@ -8293,7 +8314,7 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getNumberofBlockThresholdsInUseAsync() {
-        return read(serverAttributes.get(ATTR_NUMBEROFBLOCKTHRESHOLDSINUSE));
+        return read(getServerAttribute(ATTR_NUMBEROFBLOCKTHRESHOLDSINUSE));
     }
 
     /**
@@ -8316,11 +8337,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getNumberofBlockThresholdsInUse(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_NUMBEROFBLOCKTHRESHOLDSINUSE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_NUMBEROFBLOCKTHRESHOLDSINUSE).getLastValue();
+        if (getServerAttribute(ATTR_NUMBEROFBLOCKTHRESHOLDSINUSE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_NUMBEROFBLOCKTHRESHOLDSINUSE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_NUMBEROFBLOCKTHRESHOLDSINUSE));
+        return (Integer) readSync(getServerAttribute(ATTR_NUMBEROFBLOCKTHRESHOLDSINUSE));
     }
 
     /**
@@ -8335,7 +8356,7 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getTierBlockModeAsync() {
-        return read(serverAttributes.get(ATTR_TIERBLOCKMODE));
+        return read(getServerAttribute(ATTR_TIERBLOCKMODE));
     }
 
     /**
@@ -8358,11 +8379,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getTierBlockMode(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_TIERBLOCKMODE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_TIERBLOCKMODE).getLastValue();
+        if (getServerAttribute(ATTR_TIERBLOCKMODE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_TIERBLOCKMODE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_TIERBLOCKMODE));
+        return (Integer) readSync(getServerAttribute(ATTR_TIERBLOCKMODE));
     }
 
     /**
@@ -8377,7 +8398,7 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getUnitOfMeasureAsync() {
-        return read(serverAttributes.get(ATTR_UNITOFMEASURE));
+        return read(getServerAttribute(ATTR_UNITOFMEASURE));
     }
 
     /**
@@ -8400,11 +8421,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getUnitOfMeasure(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_UNITOFMEASURE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_UNITOFMEASURE).getLastValue();
+        if (getServerAttribute(ATTR_UNITOFMEASURE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_UNITOFMEASURE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_UNITOFMEASURE));
+        return (Integer) readSync(getServerAttribute(ATTR_UNITOFMEASURE));
     }
 
     /**
@@ -8419,7 +8440,7 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCurrencyAsync() {
-        return read(serverAttributes.get(ATTR_CURRENCY));
+        return read(getServerAttribute(ATTR_CURRENCY));
     }
 
     /**
@@ -8442,11 +8463,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCurrency(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CURRENCY).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CURRENCY).getLastValue();
+        if (getServerAttribute(ATTR_CURRENCY).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CURRENCY).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CURRENCY));
+        return (Integer) readSync(getServerAttribute(ATTR_CURRENCY));
     }
 
     /**
@@ -8461,7 +8482,7 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getPriceTrailingDigitAsync() {
-        return read(serverAttributes.get(ATTR_PRICETRAILINGDIGIT));
+        return read(getServerAttribute(ATTR_PRICETRAILINGDIGIT));
     }
 
     /**
@@ -8484,11 +8505,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getPriceTrailingDigit(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PRICETRAILINGDIGIT).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_PRICETRAILINGDIGIT).getLastValue();
+        if (getServerAttribute(ATTR_PRICETRAILINGDIGIT).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_PRICETRAILINGDIGIT).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_PRICETRAILINGDIGIT));
+        return (Integer) readSync(getServerAttribute(ATTR_PRICETRAILINGDIGIT));
     }
 
     /**
@@ -8505,7 +8526,7 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getTariffResolutionPeriodAsync() {
-        return read(serverAttributes.get(ATTR_TARIFFRESOLUTIONPERIOD));
+        return read(getServerAttribute(ATTR_TARIFFRESOLUTIONPERIOD));
     }
 
     /**
@@ -8530,11 +8551,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getTariffResolutionPeriod(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_TARIFFRESOLUTIONPERIOD).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_TARIFFRESOLUTIONPERIOD).getLastValue();
+        if (getServerAttribute(ATTR_TARIFFRESOLUTIONPERIOD).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_TARIFFRESOLUTIONPERIOD).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_TARIFFRESOLUTIONPERIOD));
+        return (Integer) readSync(getServerAttribute(ATTR_TARIFFRESOLUTIONPERIOD));
     }
 
     /**
@@ -8554,7 +8575,7 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCo2Async() {
-        return read(serverAttributes.get(ATTR_CO2));
+        return read(getServerAttribute(ATTR_CO2));
     }
 
     /**
@@ -8582,11 +8603,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCo2(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CO2).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CO2).getLastValue();
+        if (getServerAttribute(ATTR_CO2).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CO2).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CO2));
+        return (Integer) readSync(getServerAttribute(ATTR_CO2));
     }
 
     /**
@@ -8605,7 +8626,7 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCo2UnitAsync() {
-        return read(serverAttributes.get(ATTR_CO2UNIT));
+        return read(getServerAttribute(ATTR_CO2UNIT));
     }
 
     /**
@@ -8632,11 +8653,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCo2Unit(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CO2UNIT).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CO2UNIT).getLastValue();
+        if (getServerAttribute(ATTR_CO2UNIT).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CO2UNIT).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CO2UNIT));
+        return (Integer) readSync(getServerAttribute(ATTR_CO2UNIT));
     }
 
     /**
@@ -8651,7 +8672,7 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCo2TrailingDigitAsync() {
-        return read(serverAttributes.get(ATTR_CO2TRAILINGDIGIT));
+        return read(getServerAttribute(ATTR_CO2TRAILINGDIGIT));
     }
 
     /**
@@ -8674,11 +8695,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCo2TrailingDigit(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CO2TRAILINGDIGIT).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CO2TRAILINGDIGIT).getLastValue();
+        if (getServerAttribute(ATTR_CO2TRAILINGDIGIT).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CO2TRAILINGDIGIT).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CO2TRAILINGDIGIT));
+        return (Integer) readSync(getServerAttribute(ATTR_CO2TRAILINGDIGIT));
     }
 
     /**
@@ -8696,7 +8717,7 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCurrentBillingPeriodStartAsync() {
-        return read(serverAttributes.get(ATTR_CURRENTBILLINGPERIODSTART));
+        return read(getServerAttribute(ATTR_CURRENTBILLINGPERIODSTART));
     }
 
     /**
@@ -8722,11 +8743,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Calendar getCurrentBillingPeriodStart(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CURRENTBILLINGPERIODSTART).isLastValueCurrent(refreshPeriod)) {
-            return (Calendar) serverAttributes.get(ATTR_CURRENTBILLINGPERIODSTART).getLastValue();
+        if (getServerAttribute(ATTR_CURRENTBILLINGPERIODSTART).isLastValueCurrent(refreshPeriod)) {
+            return (Calendar) getServerAttribute(ATTR_CURRENTBILLINGPERIODSTART).getLastValue();
         }
 
-        return (Calendar) readSync(serverAttributes.get(ATTR_CURRENTBILLINGPERIODSTART));
+        return (Calendar) readSync(getServerAttribute(ATTR_CURRENTBILLINGPERIODSTART));
     }
 
     /**
@@ -8744,7 +8765,7 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCurrentBillingPeriodDurationAsync() {
-        return read(serverAttributes.get(ATTR_CURRENTBILLINGPERIODDURATION));
+        return read(getServerAttribute(ATTR_CURRENTBILLINGPERIODDURATION));
     }
 
     /**
@@ -8770,11 +8791,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCurrentBillingPeriodDuration(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CURRENTBILLINGPERIODDURATION).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CURRENTBILLINGPERIODDURATION).getLastValue();
+        if (getServerAttribute(ATTR_CURRENTBILLINGPERIODDURATION).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CURRENTBILLINGPERIODDURATION).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CURRENTBILLINGPERIODDURATION));
+        return (Integer) readSync(getServerAttribute(ATTR_CURRENTBILLINGPERIODDURATION));
     }
 
     /**
@@ -8792,7 +8813,7 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getLastBillingPeriodStartAsync() {
-        return read(serverAttributes.get(ATTR_LASTBILLINGPERIODSTART));
+        return read(getServerAttribute(ATTR_LASTBILLINGPERIODSTART));
     }
 
     /**
@@ -8818,11 +8839,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Calendar getLastBillingPeriodStart(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_LASTBILLINGPERIODSTART).isLastValueCurrent(refreshPeriod)) {
-            return (Calendar) serverAttributes.get(ATTR_LASTBILLINGPERIODSTART).getLastValue();
+        if (getServerAttribute(ATTR_LASTBILLINGPERIODSTART).isLastValueCurrent(refreshPeriod)) {
+            return (Calendar) getServerAttribute(ATTR_LASTBILLINGPERIODSTART).getLastValue();
         }
 
-        return (Calendar) readSync(serverAttributes.get(ATTR_LASTBILLINGPERIODSTART));
+        return (Calendar) readSync(getServerAttribute(ATTR_LASTBILLINGPERIODSTART));
     }
 
     /**
@@ -8840,7 +8861,7 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getLastBillingPeriodDurationAsync() {
-        return read(serverAttributes.get(ATTR_LASTBILLINGPERIODDURATION));
+        return read(getServerAttribute(ATTR_LASTBILLINGPERIODDURATION));
     }
 
     /**
@@ -8866,11 +8887,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getLastBillingPeriodDuration(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_LASTBILLINGPERIODDURATION).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_LASTBILLINGPERIODDURATION).getLastValue();
+        if (getServerAttribute(ATTR_LASTBILLINGPERIODDURATION).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_LASTBILLINGPERIODDURATION).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_LASTBILLINGPERIODDURATION));
+        return (Integer) readSync(getServerAttribute(ATTR_LASTBILLINGPERIODDURATION));
     }
 
     /**
@@ -8891,7 +8912,7 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getLastBillingPeriodConsolidatedBillAsync() {
-        return read(serverAttributes.get(ATTR_LASTBILLINGPERIODCONSOLIDATEDBILL));
+        return read(getServerAttribute(ATTR_LASTBILLINGPERIODCONSOLIDATEDBILL));
     }
 
     /**
@@ -8920,11 +8941,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getLastBillingPeriodConsolidatedBill(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_LASTBILLINGPERIODCONSOLIDATEDBILL).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_LASTBILLINGPERIODCONSOLIDATEDBILL).getLastValue();
+        if (getServerAttribute(ATTR_LASTBILLINGPERIODCONSOLIDATEDBILL).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_LASTBILLINGPERIODCONSOLIDATEDBILL).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_LASTBILLINGPERIODCONSOLIDATEDBILL));
+        return (Integer) readSync(getServerAttribute(ATTR_LASTBILLINGPERIODCONSOLIDATEDBILL));
     }
 
     /**
@@ -8942,7 +8963,7 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCreditPaymentDueDateAsync() {
-        return read(serverAttributes.get(ATTR_CREDITPAYMENTDUEDATE));
+        return read(getServerAttribute(ATTR_CREDITPAYMENTDUEDATE));
     }
 
     /**
@@ -8968,11 +8989,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Calendar getCreditPaymentDueDate(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CREDITPAYMENTDUEDATE).isLastValueCurrent(refreshPeriod)) {
-            return (Calendar) serverAttributes.get(ATTR_CREDITPAYMENTDUEDATE).getLastValue();
+        if (getServerAttribute(ATTR_CREDITPAYMENTDUEDATE).isLastValueCurrent(refreshPeriod)) {
+            return (Calendar) getServerAttribute(ATTR_CREDITPAYMENTDUEDATE).getLastValue();
         }
 
-        return (Calendar) readSync(serverAttributes.get(ATTR_CREDITPAYMENTDUEDATE));
+        return (Calendar) readSync(getServerAttribute(ATTR_CREDITPAYMENTDUEDATE));
     }
 
     /**
@@ -8989,7 +9010,7 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCreditPaymentStatusAsync() {
-        return read(serverAttributes.get(ATTR_CREDITPAYMENTSTATUS));
+        return read(getServerAttribute(ATTR_CREDITPAYMENTSTATUS));
     }
 
     /**
@@ -9014,11 +9035,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCreditPaymentStatus(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CREDITPAYMENTSTATUS).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CREDITPAYMENTSTATUS).getLastValue();
+        if (getServerAttribute(ATTR_CREDITPAYMENTSTATUS).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CREDITPAYMENTSTATUS).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CREDITPAYMENTSTATUS));
+        return (Integer) readSync(getServerAttribute(ATTR_CREDITPAYMENTSTATUS));
     }
 
     /**
@@ -9035,7 +9056,7 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCreditPaymentOverDueAmountAsync() {
-        return read(serverAttributes.get(ATTR_CREDITPAYMENTOVERDUEAMOUNT));
+        return read(getServerAttribute(ATTR_CREDITPAYMENTOVERDUEAMOUNT));
     }
 
     /**
@@ -9060,11 +9081,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCreditPaymentOverDueAmount(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CREDITPAYMENTOVERDUEAMOUNT).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CREDITPAYMENTOVERDUEAMOUNT).getLastValue();
+        if (getServerAttribute(ATTR_CREDITPAYMENTOVERDUEAMOUNT).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CREDITPAYMENTOVERDUEAMOUNT).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CREDITPAYMENTOVERDUEAMOUNT));
+        return (Integer) readSync(getServerAttribute(ATTR_CREDITPAYMENTOVERDUEAMOUNT));
     }
 
     /**
@@ -9082,7 +9103,7 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getPaymentDiscountAsync() {
-        return read(serverAttributes.get(ATTR_PAYMENTDISCOUNT));
+        return read(getServerAttribute(ATTR_PAYMENTDISCOUNT));
     }
 
     /**
@@ -9108,11 +9129,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getPaymentDiscount(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PAYMENTDISCOUNT).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_PAYMENTDISCOUNT).getLastValue();
+        if (getServerAttribute(ATTR_PAYMENTDISCOUNT).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_PAYMENTDISCOUNT).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_PAYMENTDISCOUNT));
+        return (Integer) readSync(getServerAttribute(ATTR_PAYMENTDISCOUNT));
     }
 
     /**
@@ -9130,7 +9151,7 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getPaymentDiscountPeriodAsync() {
-        return read(serverAttributes.get(ATTR_PAYMENTDISCOUNTPERIOD));
+        return read(getServerAttribute(ATTR_PAYMENTDISCOUNTPERIOD));
     }
 
     /**
@@ -9156,11 +9177,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getPaymentDiscountPeriod(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PAYMENTDISCOUNTPERIOD).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_PAYMENTDISCOUNTPERIOD).getLastValue();
+        if (getServerAttribute(ATTR_PAYMENTDISCOUNTPERIOD).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_PAYMENTDISCOUNTPERIOD).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_PAYMENTDISCOUNTPERIOD));
+        return (Integer) readSync(getServerAttribute(ATTR_PAYMENTDISCOUNTPERIOD));
     }
 
     /**
@@ -9175,7 +9196,7 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCreditCardPayment1Async() {
-        return read(serverAttributes.get(ATTR_CREDITCARDPAYMENT1));
+        return read(getServerAttribute(ATTR_CREDITCARDPAYMENT1));
     }
 
     /**
@@ -9198,11 +9219,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCreditCardPayment1(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CREDITCARDPAYMENT1).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CREDITCARDPAYMENT1).getLastValue();
+        if (getServerAttribute(ATTR_CREDITCARDPAYMENT1).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CREDITCARDPAYMENT1).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CREDITCARDPAYMENT1));
+        return (Integer) readSync(getServerAttribute(ATTR_CREDITCARDPAYMENT1));
     }
 
     /**
@@ -9217,7 +9238,7 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCreditCardPaymentDate1Async() {
-        return read(serverAttributes.get(ATTR_CREDITCARDPAYMENTDATE1));
+        return read(getServerAttribute(ATTR_CREDITCARDPAYMENTDATE1));
     }
 
     /**
@@ -9240,11 +9261,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Calendar getCreditCardPaymentDate1(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CREDITCARDPAYMENTDATE1).isLastValueCurrent(refreshPeriod)) {
-            return (Calendar) serverAttributes.get(ATTR_CREDITCARDPAYMENTDATE1).getLastValue();
+        if (getServerAttribute(ATTR_CREDITCARDPAYMENTDATE1).isLastValueCurrent(refreshPeriod)) {
+            return (Calendar) getServerAttribute(ATTR_CREDITCARDPAYMENTDATE1).getLastValue();
         }
 
-        return (Calendar) readSync(serverAttributes.get(ATTR_CREDITCARDPAYMENTDATE1));
+        return (Calendar) readSync(getServerAttribute(ATTR_CREDITCARDPAYMENTDATE1));
     }
 
     /**
@@ -9259,7 +9280,7 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCreditCardPaymentRef1Async() {
-        return read(serverAttributes.get(ATTR_CREDITCARDPAYMENTREF1));
+        return read(getServerAttribute(ATTR_CREDITCARDPAYMENTREF1));
     }
 
     /**
@@ -9282,11 +9303,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public ByteArray getCreditCardPaymentRef1(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CREDITCARDPAYMENTREF1).isLastValueCurrent(refreshPeriod)) {
-            return (ByteArray) serverAttributes.get(ATTR_CREDITCARDPAYMENTREF1).getLastValue();
+        if (getServerAttribute(ATTR_CREDITCARDPAYMENTREF1).isLastValueCurrent(refreshPeriod)) {
+            return (ByteArray) getServerAttribute(ATTR_CREDITCARDPAYMENTREF1).getLastValue();
         }
 
-        return (ByteArray) readSync(serverAttributes.get(ATTR_CREDITCARDPAYMENTREF1));
+        return (ByteArray) readSync(getServerAttribute(ATTR_CREDITCARDPAYMENTREF1));
     }
 
     /**
@@ -9301,7 +9322,7 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCreditCardPayment2Async() {
-        return read(serverAttributes.get(ATTR_CREDITCARDPAYMENT2));
+        return read(getServerAttribute(ATTR_CREDITCARDPAYMENT2));
     }
 
     /**
@@ -9324,11 +9345,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCreditCardPayment2(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CREDITCARDPAYMENT2).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CREDITCARDPAYMENT2).getLastValue();
+        if (getServerAttribute(ATTR_CREDITCARDPAYMENT2).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CREDITCARDPAYMENT2).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CREDITCARDPAYMENT2));
+        return (Integer) readSync(getServerAttribute(ATTR_CREDITCARDPAYMENT2));
     }
 
     /**
@@ -9343,7 +9364,7 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCreditCardPaymentDate2Async() {
-        return read(serverAttributes.get(ATTR_CREDITCARDPAYMENTDATE2));
+        return read(getServerAttribute(ATTR_CREDITCARDPAYMENTDATE2));
     }
 
     /**
@@ -9366,11 +9387,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Calendar getCreditCardPaymentDate2(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CREDITCARDPAYMENTDATE2).isLastValueCurrent(refreshPeriod)) {
-            return (Calendar) serverAttributes.get(ATTR_CREDITCARDPAYMENTDATE2).getLastValue();
+        if (getServerAttribute(ATTR_CREDITCARDPAYMENTDATE2).isLastValueCurrent(refreshPeriod)) {
+            return (Calendar) getServerAttribute(ATTR_CREDITCARDPAYMENTDATE2).getLastValue();
         }
 
-        return (Calendar) readSync(serverAttributes.get(ATTR_CREDITCARDPAYMENTDATE2));
+        return (Calendar) readSync(getServerAttribute(ATTR_CREDITCARDPAYMENTDATE2));
     }
 
     /**
@@ -9385,7 +9406,7 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCreditCardPaymentRef2Async() {
-        return read(serverAttributes.get(ATTR_CREDITCARDPAYMENTREF2));
+        return read(getServerAttribute(ATTR_CREDITCARDPAYMENTREF2));
     }
 
     /**
@@ -9408,11 +9429,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public ByteArray getCreditCardPaymentRef2(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CREDITCARDPAYMENTREF2).isLastValueCurrent(refreshPeriod)) {
-            return (ByteArray) serverAttributes.get(ATTR_CREDITCARDPAYMENTREF2).getLastValue();
+        if (getServerAttribute(ATTR_CREDITCARDPAYMENTREF2).isLastValueCurrent(refreshPeriod)) {
+            return (ByteArray) getServerAttribute(ATTR_CREDITCARDPAYMENTREF2).getLastValue();
         }
 
-        return (ByteArray) readSync(serverAttributes.get(ATTR_CREDITCARDPAYMENTREF2));
+        return (ByteArray) readSync(getServerAttribute(ATTR_CREDITCARDPAYMENTREF2));
     }
 
     /**
@@ -9427,7 +9448,7 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCreditCardPayment3Async() {
-        return read(serverAttributes.get(ATTR_CREDITCARDPAYMENT3));
+        return read(getServerAttribute(ATTR_CREDITCARDPAYMENT3));
     }
 
     /**
@@ -9450,11 +9471,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCreditCardPayment3(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CREDITCARDPAYMENT3).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CREDITCARDPAYMENT3).getLastValue();
+        if (getServerAttribute(ATTR_CREDITCARDPAYMENT3).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CREDITCARDPAYMENT3).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CREDITCARDPAYMENT3));
+        return (Integer) readSync(getServerAttribute(ATTR_CREDITCARDPAYMENT3));
     }
 
     /**
@@ -9469,7 +9490,7 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCreditCardPaymentDate3Async() {
-        return read(serverAttributes.get(ATTR_CREDITCARDPAYMENTDATE3));
+        return read(getServerAttribute(ATTR_CREDITCARDPAYMENTDATE3));
     }
 
     /**
@@ -9492,11 +9513,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Calendar getCreditCardPaymentDate3(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CREDITCARDPAYMENTDATE3).isLastValueCurrent(refreshPeriod)) {
-            return (Calendar) serverAttributes.get(ATTR_CREDITCARDPAYMENTDATE3).getLastValue();
+        if (getServerAttribute(ATTR_CREDITCARDPAYMENTDATE3).isLastValueCurrent(refreshPeriod)) {
+            return (Calendar) getServerAttribute(ATTR_CREDITCARDPAYMENTDATE3).getLastValue();
         }
 
-        return (Calendar) readSync(serverAttributes.get(ATTR_CREDITCARDPAYMENTDATE3));
+        return (Calendar) readSync(getServerAttribute(ATTR_CREDITCARDPAYMENTDATE3));
     }
 
     /**
@@ -9511,7 +9532,7 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCreditCardPaymentRef3Async() {
-        return read(serverAttributes.get(ATTR_CREDITCARDPAYMENTREF3));
+        return read(getServerAttribute(ATTR_CREDITCARDPAYMENTREF3));
     }
 
     /**
@@ -9534,11 +9555,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public ByteArray getCreditCardPaymentRef3(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CREDITCARDPAYMENTREF3).isLastValueCurrent(refreshPeriod)) {
-            return (ByteArray) serverAttributes.get(ATTR_CREDITCARDPAYMENTREF3).getLastValue();
+        if (getServerAttribute(ATTR_CREDITCARDPAYMENTREF3).isLastValueCurrent(refreshPeriod)) {
+            return (ByteArray) getServerAttribute(ATTR_CREDITCARDPAYMENTREF3).getLastValue();
         }
 
-        return (ByteArray) readSync(serverAttributes.get(ATTR_CREDITCARDPAYMENTREF3));
+        return (ByteArray) readSync(getServerAttribute(ATTR_CREDITCARDPAYMENTREF3));
     }
 
     /**
@@ -9553,7 +9574,7 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCreditCardPayment4Async() {
-        return read(serverAttributes.get(ATTR_CREDITCARDPAYMENT4));
+        return read(getServerAttribute(ATTR_CREDITCARDPAYMENT4));
     }
 
     /**
@@ -9576,11 +9597,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCreditCardPayment4(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CREDITCARDPAYMENT4).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CREDITCARDPAYMENT4).getLastValue();
+        if (getServerAttribute(ATTR_CREDITCARDPAYMENT4).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CREDITCARDPAYMENT4).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CREDITCARDPAYMENT4));
+        return (Integer) readSync(getServerAttribute(ATTR_CREDITCARDPAYMENT4));
     }
 
     /**
@@ -9595,7 +9616,7 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCreditCardPaymentDate4Async() {
-        return read(serverAttributes.get(ATTR_CREDITCARDPAYMENTDATE4));
+        return read(getServerAttribute(ATTR_CREDITCARDPAYMENTDATE4));
     }
 
     /**
@@ -9618,11 +9639,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Calendar getCreditCardPaymentDate4(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CREDITCARDPAYMENTDATE4).isLastValueCurrent(refreshPeriod)) {
-            return (Calendar) serverAttributes.get(ATTR_CREDITCARDPAYMENTDATE4).getLastValue();
+        if (getServerAttribute(ATTR_CREDITCARDPAYMENTDATE4).isLastValueCurrent(refreshPeriod)) {
+            return (Calendar) getServerAttribute(ATTR_CREDITCARDPAYMENTDATE4).getLastValue();
         }
 
-        return (Calendar) readSync(serverAttributes.get(ATTR_CREDITCARDPAYMENTDATE4));
+        return (Calendar) readSync(getServerAttribute(ATTR_CREDITCARDPAYMENTDATE4));
     }
 
     /**
@@ -9637,7 +9658,7 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCreditCardPaymentRef4Async() {
-        return read(serverAttributes.get(ATTR_CREDITCARDPAYMENTREF4));
+        return read(getServerAttribute(ATTR_CREDITCARDPAYMENTREF4));
     }
 
     /**
@@ -9660,11 +9681,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public ByteArray getCreditCardPaymentRef4(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CREDITCARDPAYMENTREF4).isLastValueCurrent(refreshPeriod)) {
-            return (ByteArray) serverAttributes.get(ATTR_CREDITCARDPAYMENTREF4).getLastValue();
+        if (getServerAttribute(ATTR_CREDITCARDPAYMENTREF4).isLastValueCurrent(refreshPeriod)) {
+            return (ByteArray) getServerAttribute(ATTR_CREDITCARDPAYMENTREF4).getLastValue();
         }
 
-        return (ByteArray) readSync(serverAttributes.get(ATTR_CREDITCARDPAYMENTREF4));
+        return (ByteArray) readSync(getServerAttribute(ATTR_CREDITCARDPAYMENTREF4));
     }
 
     /**
@@ -9679,7 +9700,7 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCreditCardPayment5Async() {
-        return read(serverAttributes.get(ATTR_CREDITCARDPAYMENT5));
+        return read(getServerAttribute(ATTR_CREDITCARDPAYMENT5));
     }
 
     /**
@@ -9702,11 +9723,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCreditCardPayment5(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CREDITCARDPAYMENT5).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CREDITCARDPAYMENT5).getLastValue();
+        if (getServerAttribute(ATTR_CREDITCARDPAYMENT5).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CREDITCARDPAYMENT5).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CREDITCARDPAYMENT5));
+        return (Integer) readSync(getServerAttribute(ATTR_CREDITCARDPAYMENT5));
     }
 
     /**
@@ -9721,7 +9742,7 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCreditCardPaymentDate5Async() {
-        return read(serverAttributes.get(ATTR_CREDITCARDPAYMENTDATE5));
+        return read(getServerAttribute(ATTR_CREDITCARDPAYMENTDATE5));
     }
 
     /**
@@ -9744,11 +9765,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Calendar getCreditCardPaymentDate5(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CREDITCARDPAYMENTDATE5).isLastValueCurrent(refreshPeriod)) {
-            return (Calendar) serverAttributes.get(ATTR_CREDITCARDPAYMENTDATE5).getLastValue();
+        if (getServerAttribute(ATTR_CREDITCARDPAYMENTDATE5).isLastValueCurrent(refreshPeriod)) {
+            return (Calendar) getServerAttribute(ATTR_CREDITCARDPAYMENTDATE5).getLastValue();
         }
 
-        return (Calendar) readSync(serverAttributes.get(ATTR_CREDITCARDPAYMENTDATE5));
+        return (Calendar) readSync(getServerAttribute(ATTR_CREDITCARDPAYMENTDATE5));
     }
 
     /**
@@ -9763,7 +9784,7 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCreditCardPaymentRef5Async() {
-        return read(serverAttributes.get(ATTR_CREDITCARDPAYMENTREF5));
+        return read(getServerAttribute(ATTR_CREDITCARDPAYMENTREF5));
     }
 
     /**
@@ -9786,11 +9807,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public ByteArray getCreditCardPaymentRef5(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CREDITCARDPAYMENTREF5).isLastValueCurrent(refreshPeriod)) {
-            return (ByteArray) serverAttributes.get(ATTR_CREDITCARDPAYMENTREF5).getLastValue();
+        if (getServerAttribute(ATTR_CREDITCARDPAYMENTREF5).isLastValueCurrent(refreshPeriod)) {
+            return (ByteArray) getServerAttribute(ATTR_CREDITCARDPAYMENTREF5).getLastValue();
         }
 
-        return (ByteArray) readSync(serverAttributes.get(ATTR_CREDITCARDPAYMENTREF5));
+        return (ByteArray) readSync(getServerAttribute(ATTR_CREDITCARDPAYMENTREF5));
     }
 
     /**
@@ -9807,7 +9828,7 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setReceivedTierPriceLabel(final int arrayOffset, final ByteArray value) {
-        return write(serverAttributes.get(ATTR_RECEIVEDTIER1PRICELABEL + arrayOffset), value);
+        return write(getServerAttribute(ATTR_RECEIVEDTIER1PRICELABEL + arrayOffset), value);
     }
 
     /**
@@ -9827,7 +9848,7 @@ public class ZclPriceCluster extends ZclCluster {
             throw new IllegalArgumentException("arrayOffset out of bounds");
         }
 
-        return read(serverAttributes.get(ATTR_RECEIVEDTIER1PRICELABEL + arrayOffset));
+        return read(getServerAttribute(ATTR_RECEIVEDTIER1PRICELABEL + arrayOffset));
     }
 
     /**
@@ -9851,11 +9872,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public ByteArray getReceivedTierPriceLabel(final int arrayOffset, final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_RECEIVEDTIER1PRICELABEL + arrayOffset).isLastValueCurrent(refreshPeriod)) {
-            return (ByteArray) serverAttributes.get(ATTR_RECEIVEDTIER1PRICELABEL + arrayOffset).getLastValue();
+        if (getServerAttribute(ATTR_RECEIVEDTIER1PRICELABEL + arrayOffset).isLastValueCurrent(refreshPeriod)) {
+            return (ByteArray) getServerAttribute(ATTR_RECEIVEDTIER1PRICELABEL + arrayOffset).getLastValue();
         }
 
-        return (ByteArray) readSync(serverAttributes.get(ATTR_RECEIVEDTIER1PRICELABEL + arrayOffset));
+        return (ByteArray) readSync(getServerAttribute(ATTR_RECEIVEDTIER1PRICELABEL + arrayOffset));
     }
 
     /**
@@ -9875,7 +9896,7 @@ public class ZclPriceCluster extends ZclCluster {
             throw new IllegalArgumentException("arrayOffset out of bounds");
         }
 
-        return read(serverAttributes.get(ATTR_RECEIVEDBLOCK1THRESHOLD + arrayOffset));
+        return read(getServerAttribute(ATTR_RECEIVEDBLOCK1THRESHOLD + arrayOffset));
     }
 
     /**
@@ -9899,11 +9920,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getReceivedBlockThreshold(final int arrayOffset, final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_RECEIVEDBLOCK1THRESHOLD + arrayOffset).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_RECEIVEDBLOCK1THRESHOLD + arrayOffset).getLastValue();
+        if (getServerAttribute(ATTR_RECEIVEDBLOCK1THRESHOLD + arrayOffset).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_RECEIVEDBLOCK1THRESHOLD + arrayOffset).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_RECEIVEDBLOCK1THRESHOLD + arrayOffset));
+        return (Integer) readSync(getServerAttribute(ATTR_RECEIVEDBLOCK1THRESHOLD + arrayOffset));
     }
 
     /**
@@ -9918,7 +9939,7 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getReceivedStartOfBlockPeriodAsync() {
-        return read(serverAttributes.get(ATTR_RECEIVEDSTARTOFBLOCKPERIOD));
+        return read(getServerAttribute(ATTR_RECEIVEDSTARTOFBLOCKPERIOD));
     }
 
     /**
@@ -9941,11 +9962,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Calendar getReceivedStartOfBlockPeriod(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_RECEIVEDSTARTOFBLOCKPERIOD).isLastValueCurrent(refreshPeriod)) {
-            return (Calendar) serverAttributes.get(ATTR_RECEIVEDSTARTOFBLOCKPERIOD).getLastValue();
+        if (getServerAttribute(ATTR_RECEIVEDSTARTOFBLOCKPERIOD).isLastValueCurrent(refreshPeriod)) {
+            return (Calendar) getServerAttribute(ATTR_RECEIVEDSTARTOFBLOCKPERIOD).getLastValue();
         }
 
-        return (Calendar) readSync(serverAttributes.get(ATTR_RECEIVEDSTARTOFBLOCKPERIOD));
+        return (Calendar) readSync(getServerAttribute(ATTR_RECEIVEDSTARTOFBLOCKPERIOD));
     }
 
     /**
@@ -9960,7 +9981,7 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getReceivedBlockPeriodDurationAsync() {
-        return read(serverAttributes.get(ATTR_RECEIVEDBLOCKPERIODDURATION));
+        return read(getServerAttribute(ATTR_RECEIVEDBLOCKPERIODDURATION));
     }
 
     /**
@@ -9983,11 +10004,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getReceivedBlockPeriodDuration(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_RECEIVEDBLOCKPERIODDURATION).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_RECEIVEDBLOCKPERIODDURATION).getLastValue();
+        if (getServerAttribute(ATTR_RECEIVEDBLOCKPERIODDURATION).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_RECEIVEDBLOCKPERIODDURATION).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_RECEIVEDBLOCKPERIODDURATION));
+        return (Integer) readSync(getServerAttribute(ATTR_RECEIVEDBLOCKPERIODDURATION));
     }
 
     /**
@@ -10002,7 +10023,7 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getReceivedThresholdMultiplierAsync() {
-        return read(serverAttributes.get(ATTR_RECEIVEDTHRESHOLDMULTIPLIER));
+        return read(getServerAttribute(ATTR_RECEIVEDTHRESHOLDMULTIPLIER));
     }
 
     /**
@@ -10025,11 +10046,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getReceivedThresholdMultiplier(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_RECEIVEDTHRESHOLDMULTIPLIER).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_RECEIVEDTHRESHOLDMULTIPLIER).getLastValue();
+        if (getServerAttribute(ATTR_RECEIVEDTHRESHOLDMULTIPLIER).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_RECEIVEDTHRESHOLDMULTIPLIER).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_RECEIVEDTHRESHOLDMULTIPLIER));
+        return (Integer) readSync(getServerAttribute(ATTR_RECEIVEDTHRESHOLDMULTIPLIER));
     }
 
     /**
@@ -10044,7 +10065,7 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getReceivedThresholdDivisorAsync() {
-        return read(serverAttributes.get(ATTR_RECEIVEDTHRESHOLDDIVISOR));
+        return read(getServerAttribute(ATTR_RECEIVEDTHRESHOLDDIVISOR));
     }
 
     /**
@@ -10067,11 +10088,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getReceivedThresholdDivisor(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_RECEIVEDTHRESHOLDDIVISOR).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_RECEIVEDTHRESHOLDDIVISOR).getLastValue();
+        if (getServerAttribute(ATTR_RECEIVEDTHRESHOLDDIVISOR).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_RECEIVEDTHRESHOLDDIVISOR).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_RECEIVEDTHRESHOLDDIVISOR));
+        return (Integer) readSync(getServerAttribute(ATTR_RECEIVEDTHRESHOLDDIVISOR));
     }
 
     /**
@@ -10091,7 +10112,7 @@ public class ZclPriceCluster extends ZclCluster {
             throw new IllegalArgumentException("arrayOffset out of bounds");
         }
 
-        return read(serverAttributes.get(ATTR_RXNOTIERBLOCK1PRICE + arrayOffset));
+        return read(getServerAttribute(ATTR_RXNOTIERBLOCK1PRICE + arrayOffset));
     }
 
     /**
@@ -10115,11 +10136,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getRxNoTierBlockPrice(final int arrayOffset, final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_RXNOTIERBLOCK1PRICE + arrayOffset).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_RXNOTIERBLOCK1PRICE + arrayOffset).getLastValue();
+        if (getServerAttribute(ATTR_RXNOTIERBLOCK1PRICE + arrayOffset).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_RXNOTIERBLOCK1PRICE + arrayOffset).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_RXNOTIERBLOCK1PRICE + arrayOffset));
+        return (Integer) readSync(getServerAttribute(ATTR_RXNOTIERBLOCK1PRICE + arrayOffset));
     }
 
     /**
@@ -10139,7 +10160,7 @@ public class ZclPriceCluster extends ZclCluster {
             throw new IllegalArgumentException("arrayOffset out of bounds");
         }
 
-        return read(serverAttributes.get(ATTR_RXTIER1BLOCK1PRICE + arrayOffset));
+        return read(getServerAttribute(ATTR_RXTIER1BLOCK1PRICE + arrayOffset));
     }
 
     /**
@@ -10163,11 +10184,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getRxTier1BlockPrice(final int arrayOffset, final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_RXTIER1BLOCK1PRICE + arrayOffset).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_RXTIER1BLOCK1PRICE + arrayOffset).getLastValue();
+        if (getServerAttribute(ATTR_RXTIER1BLOCK1PRICE + arrayOffset).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_RXTIER1BLOCK1PRICE + arrayOffset).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_RXTIER1BLOCK1PRICE + arrayOffset));
+        return (Integer) readSync(getServerAttribute(ATTR_RXTIER1BLOCK1PRICE + arrayOffset));
     }
 
     /**
@@ -10187,7 +10208,7 @@ public class ZclPriceCluster extends ZclCluster {
             throw new IllegalArgumentException("arrayOffset out of bounds");
         }
 
-        return read(serverAttributes.get(ATTR_RXTIER2BLOCK1PRICE + arrayOffset));
+        return read(getServerAttribute(ATTR_RXTIER2BLOCK1PRICE + arrayOffset));
     }
 
     /**
@@ -10211,11 +10232,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getRxTier2BlockPrice(final int arrayOffset, final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_RXTIER2BLOCK1PRICE + arrayOffset).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_RXTIER2BLOCK1PRICE + arrayOffset).getLastValue();
+        if (getServerAttribute(ATTR_RXTIER2BLOCK1PRICE + arrayOffset).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_RXTIER2BLOCK1PRICE + arrayOffset).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_RXTIER2BLOCK1PRICE + arrayOffset));
+        return (Integer) readSync(getServerAttribute(ATTR_RXTIER2BLOCK1PRICE + arrayOffset));
     }
 
     /**
@@ -10235,7 +10256,7 @@ public class ZclPriceCluster extends ZclCluster {
             throw new IllegalArgumentException("arrayOffset out of bounds");
         }
 
-        return read(serverAttributes.get(ATTR_RXTIER3BLOCK1PRICE + arrayOffset));
+        return read(getServerAttribute(ATTR_RXTIER3BLOCK1PRICE + arrayOffset));
     }
 
     /**
@@ -10259,11 +10280,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getRxTier3BlockPrice(final int arrayOffset, final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_RXTIER3BLOCK1PRICE + arrayOffset).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_RXTIER3BLOCK1PRICE + arrayOffset).getLastValue();
+        if (getServerAttribute(ATTR_RXTIER3BLOCK1PRICE + arrayOffset).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_RXTIER3BLOCK1PRICE + arrayOffset).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_RXTIER3BLOCK1PRICE + arrayOffset));
+        return (Integer) readSync(getServerAttribute(ATTR_RXTIER3BLOCK1PRICE + arrayOffset));
     }
 
     /**
@@ -10283,7 +10304,7 @@ public class ZclPriceCluster extends ZclCluster {
             throw new IllegalArgumentException("arrayOffset out of bounds");
         }
 
-        return read(serverAttributes.get(ATTR_RXTIER4BLOCK1PRICE + arrayOffset));
+        return read(getServerAttribute(ATTR_RXTIER4BLOCK1PRICE + arrayOffset));
     }
 
     /**
@@ -10307,11 +10328,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getRxTier4BlockPrice(final int arrayOffset, final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_RXTIER4BLOCK1PRICE + arrayOffset).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_RXTIER4BLOCK1PRICE + arrayOffset).getLastValue();
+        if (getServerAttribute(ATTR_RXTIER4BLOCK1PRICE + arrayOffset).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_RXTIER4BLOCK1PRICE + arrayOffset).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_RXTIER4BLOCK1PRICE + arrayOffset));
+        return (Integer) readSync(getServerAttribute(ATTR_RXTIER4BLOCK1PRICE + arrayOffset));
     }
 
     /**
@@ -10331,7 +10352,7 @@ public class ZclPriceCluster extends ZclCluster {
             throw new IllegalArgumentException("arrayOffset out of bounds");
         }
 
-        return read(serverAttributes.get(ATTR_RXTIER5BLOCK1PRICE + arrayOffset));
+        return read(getServerAttribute(ATTR_RXTIER5BLOCK1PRICE + arrayOffset));
     }
 
     /**
@@ -10355,11 +10376,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getRxTier5BlockPrice(final int arrayOffset, final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_RXTIER5BLOCK1PRICE + arrayOffset).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_RXTIER5BLOCK1PRICE + arrayOffset).getLastValue();
+        if (getServerAttribute(ATTR_RXTIER5BLOCK1PRICE + arrayOffset).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_RXTIER5BLOCK1PRICE + arrayOffset).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_RXTIER5BLOCK1PRICE + arrayOffset));
+        return (Integer) readSync(getServerAttribute(ATTR_RXTIER5BLOCK1PRICE + arrayOffset));
     }
 
     /**
@@ -10379,7 +10400,7 @@ public class ZclPriceCluster extends ZclCluster {
             throw new IllegalArgumentException("arrayOffset out of bounds");
         }
 
-        return read(serverAttributes.get(ATTR_RXTIER6BLOCK1PRICE + arrayOffset));
+        return read(getServerAttribute(ATTR_RXTIER6BLOCK1PRICE + arrayOffset));
     }
 
     /**
@@ -10403,11 +10424,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getRxTier6BlockPrice(final int arrayOffset, final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_RXTIER6BLOCK1PRICE + arrayOffset).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_RXTIER6BLOCK1PRICE + arrayOffset).getLastValue();
+        if (getServerAttribute(ATTR_RXTIER6BLOCK1PRICE + arrayOffset).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_RXTIER6BLOCK1PRICE + arrayOffset).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_RXTIER6BLOCK1PRICE + arrayOffset));
+        return (Integer) readSync(getServerAttribute(ATTR_RXTIER6BLOCK1PRICE + arrayOffset));
     }
 
     /**
@@ -10427,7 +10448,7 @@ public class ZclPriceCluster extends ZclCluster {
             throw new IllegalArgumentException("arrayOffset out of bounds");
         }
 
-        return read(serverAttributes.get(ATTR_RXTIER7BLOCK1PRICE + arrayOffset));
+        return read(getServerAttribute(ATTR_RXTIER7BLOCK1PRICE + arrayOffset));
     }
 
     /**
@@ -10451,11 +10472,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getRxTier7BlockPrice(final int arrayOffset, final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_RXTIER7BLOCK1PRICE + arrayOffset).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_RXTIER7BLOCK1PRICE + arrayOffset).getLastValue();
+        if (getServerAttribute(ATTR_RXTIER7BLOCK1PRICE + arrayOffset).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_RXTIER7BLOCK1PRICE + arrayOffset).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_RXTIER7BLOCK1PRICE + arrayOffset));
+        return (Integer) readSync(getServerAttribute(ATTR_RXTIER7BLOCK1PRICE + arrayOffset));
     }
 
     /**
@@ -10475,7 +10496,7 @@ public class ZclPriceCluster extends ZclCluster {
             throw new IllegalArgumentException("arrayOffset out of bounds");
         }
 
-        return read(serverAttributes.get(ATTR_RXTIER8BLOCK1PRICE + arrayOffset));
+        return read(getServerAttribute(ATTR_RXTIER8BLOCK1PRICE + arrayOffset));
     }
 
     /**
@@ -10499,11 +10520,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getRxTier8BlockPrice(final int arrayOffset, final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_RXTIER8BLOCK1PRICE + arrayOffset).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_RXTIER8BLOCK1PRICE + arrayOffset).getLastValue();
+        if (getServerAttribute(ATTR_RXTIER8BLOCK1PRICE + arrayOffset).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_RXTIER8BLOCK1PRICE + arrayOffset).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_RXTIER8BLOCK1PRICE + arrayOffset));
+        return (Integer) readSync(getServerAttribute(ATTR_RXTIER8BLOCK1PRICE + arrayOffset));
     }
 
     /**
@@ -10523,7 +10544,7 @@ public class ZclPriceCluster extends ZclCluster {
             throw new IllegalArgumentException("arrayOffset out of bounds");
         }
 
-        return read(serverAttributes.get(ATTR_RXTIER9BLOCK1PRICE + arrayOffset));
+        return read(getServerAttribute(ATTR_RXTIER9BLOCK1PRICE + arrayOffset));
     }
 
     /**
@@ -10547,11 +10568,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getRxTier9BlockPrice(final int arrayOffset, final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_RXTIER9BLOCK1PRICE + arrayOffset).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_RXTIER9BLOCK1PRICE + arrayOffset).getLastValue();
+        if (getServerAttribute(ATTR_RXTIER9BLOCK1PRICE + arrayOffset).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_RXTIER9BLOCK1PRICE + arrayOffset).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_RXTIER9BLOCK1PRICE + arrayOffset));
+        return (Integer) readSync(getServerAttribute(ATTR_RXTIER9BLOCK1PRICE + arrayOffset));
     }
 
     /**
@@ -10571,7 +10592,7 @@ public class ZclPriceCluster extends ZclCluster {
             throw new IllegalArgumentException("arrayOffset out of bounds");
         }
 
-        return read(serverAttributes.get(ATTR_RXTIER10BLOCK1PRICE + arrayOffset));
+        return read(getServerAttribute(ATTR_RXTIER10BLOCK1PRICE + arrayOffset));
     }
 
     /**
@@ -10595,11 +10616,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getRxTier10BlockPrice(final int arrayOffset, final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_RXTIER10BLOCK1PRICE + arrayOffset).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_RXTIER10BLOCK1PRICE + arrayOffset).getLastValue();
+        if (getServerAttribute(ATTR_RXTIER10BLOCK1PRICE + arrayOffset).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_RXTIER10BLOCK1PRICE + arrayOffset).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_RXTIER10BLOCK1PRICE + arrayOffset));
+        return (Integer) readSync(getServerAttribute(ATTR_RXTIER10BLOCK1PRICE + arrayOffset));
     }
 
     /**
@@ -10619,7 +10640,7 @@ public class ZclPriceCluster extends ZclCluster {
             throw new IllegalArgumentException("arrayOffset out of bounds");
         }
 
-        return read(serverAttributes.get(ATTR_RXTIER11BLOCK1PRICE + arrayOffset));
+        return read(getServerAttribute(ATTR_RXTIER11BLOCK1PRICE + arrayOffset));
     }
 
     /**
@@ -10643,11 +10664,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getRxTier11BlockPrice(final int arrayOffset, final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_RXTIER11BLOCK1PRICE + arrayOffset).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_RXTIER11BLOCK1PRICE + arrayOffset).getLastValue();
+        if (getServerAttribute(ATTR_RXTIER11BLOCK1PRICE + arrayOffset).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_RXTIER11BLOCK1PRICE + arrayOffset).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_RXTIER11BLOCK1PRICE + arrayOffset));
+        return (Integer) readSync(getServerAttribute(ATTR_RXTIER11BLOCK1PRICE + arrayOffset));
     }
 
     /**
@@ -10667,7 +10688,7 @@ public class ZclPriceCluster extends ZclCluster {
             throw new IllegalArgumentException("arrayOffset out of bounds");
         }
 
-        return read(serverAttributes.get(ATTR_RXTIER12BLOCK1PRICE + arrayOffset));
+        return read(getServerAttribute(ATTR_RXTIER12BLOCK1PRICE + arrayOffset));
     }
 
     /**
@@ -10691,11 +10712,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getRxTier12BlockPrice(final int arrayOffset, final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_RXTIER12BLOCK1PRICE + arrayOffset).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_RXTIER12BLOCK1PRICE + arrayOffset).getLastValue();
+        if (getServerAttribute(ATTR_RXTIER12BLOCK1PRICE + arrayOffset).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_RXTIER12BLOCK1PRICE + arrayOffset).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_RXTIER12BLOCK1PRICE + arrayOffset));
+        return (Integer) readSync(getServerAttribute(ATTR_RXTIER12BLOCK1PRICE + arrayOffset));
     }
 
     /**
@@ -10715,7 +10736,7 @@ public class ZclPriceCluster extends ZclCluster {
             throw new IllegalArgumentException("arrayOffset out of bounds");
         }
 
-        return read(serverAttributes.get(ATTR_RXTIER13BLOCK1PRICE + arrayOffset));
+        return read(getServerAttribute(ATTR_RXTIER13BLOCK1PRICE + arrayOffset));
     }
 
     /**
@@ -10739,11 +10760,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getRxTier13BlockPrice(final int arrayOffset, final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_RXTIER13BLOCK1PRICE + arrayOffset).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_RXTIER13BLOCK1PRICE + arrayOffset).getLastValue();
+        if (getServerAttribute(ATTR_RXTIER13BLOCK1PRICE + arrayOffset).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_RXTIER13BLOCK1PRICE + arrayOffset).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_RXTIER13BLOCK1PRICE + arrayOffset));
+        return (Integer) readSync(getServerAttribute(ATTR_RXTIER13BLOCK1PRICE + arrayOffset));
     }
 
     /**
@@ -10763,7 +10784,7 @@ public class ZclPriceCluster extends ZclCluster {
             throw new IllegalArgumentException("arrayOffset out of bounds");
         }
 
-        return read(serverAttributes.get(ATTR_RXTIER14BLOCK1PRICE + arrayOffset));
+        return read(getServerAttribute(ATTR_RXTIER14BLOCK1PRICE + arrayOffset));
     }
 
     /**
@@ -10787,11 +10808,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getRxTier14BlockPrice(final int arrayOffset, final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_RXTIER14BLOCK1PRICE + arrayOffset).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_RXTIER14BLOCK1PRICE + arrayOffset).getLastValue();
+        if (getServerAttribute(ATTR_RXTIER14BLOCK1PRICE + arrayOffset).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_RXTIER14BLOCK1PRICE + arrayOffset).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_RXTIER14BLOCK1PRICE + arrayOffset));
+        return (Integer) readSync(getServerAttribute(ATTR_RXTIER14BLOCK1PRICE + arrayOffset));
     }
 
     /**
@@ -10811,7 +10832,7 @@ public class ZclPriceCluster extends ZclCluster {
             throw new IllegalArgumentException("arrayOffset out of bounds");
         }
 
-        return read(serverAttributes.get(ATTR_RXTIER15BLOCK1PRICE + arrayOffset));
+        return read(getServerAttribute(ATTR_RXTIER15BLOCK1PRICE + arrayOffset));
     }
 
     /**
@@ -10835,11 +10856,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getRxTier15BlockPrice(final int arrayOffset, final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_RXTIER15BLOCK1PRICE + arrayOffset).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_RXTIER15BLOCK1PRICE + arrayOffset).getLastValue();
+        if (getServerAttribute(ATTR_RXTIER15BLOCK1PRICE + arrayOffset).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_RXTIER15BLOCK1PRICE + arrayOffset).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_RXTIER15BLOCK1PRICE + arrayOffset));
+        return (Integer) readSync(getServerAttribute(ATTR_RXTIER15BLOCK1PRICE + arrayOffset));
     }
 
     /**
@@ -10859,7 +10880,7 @@ public class ZclPriceCluster extends ZclCluster {
             throw new IllegalArgumentException("arrayOffset out of bounds");
         }
 
-        return read(serverAttributes.get(ATTR_RECEIVEDPRICETIER16 + arrayOffset));
+        return read(getServerAttribute(ATTR_RECEIVEDPRICETIER16 + arrayOffset));
     }
 
     /**
@@ -10883,11 +10904,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getReceivedPriceTier(final int arrayOffset, final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_RECEIVEDPRICETIER16 + arrayOffset).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_RECEIVEDPRICETIER16 + arrayOffset).getLastValue();
+        if (getServerAttribute(ATTR_RECEIVEDPRICETIER16 + arrayOffset).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_RECEIVEDPRICETIER16 + arrayOffset).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_RECEIVEDPRICETIER16 + arrayOffset));
+        return (Integer) readSync(getServerAttribute(ATTR_RECEIVEDPRICETIER16 + arrayOffset));
     }
 
     /**
@@ -10902,7 +10923,7 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getReceivedTariffLabelAsync() {
-        return read(serverAttributes.get(ATTR_RECEIVEDTARIFFLABEL));
+        return read(getServerAttribute(ATTR_RECEIVEDTARIFFLABEL));
     }
 
     /**
@@ -10925,11 +10946,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public ByteArray getReceivedTariffLabel(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_RECEIVEDTARIFFLABEL).isLastValueCurrent(refreshPeriod)) {
-            return (ByteArray) serverAttributes.get(ATTR_RECEIVEDTARIFFLABEL).getLastValue();
+        if (getServerAttribute(ATTR_RECEIVEDTARIFFLABEL).isLastValueCurrent(refreshPeriod)) {
+            return (ByteArray) getServerAttribute(ATTR_RECEIVEDTARIFFLABEL).getLastValue();
         }
 
-        return (ByteArray) readSync(serverAttributes.get(ATTR_RECEIVEDTARIFFLABEL));
+        return (ByteArray) readSync(getServerAttribute(ATTR_RECEIVEDTARIFFLABEL));
     }
 
     /**
@@ -10944,7 +10965,7 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getReceivedNumberOfPriceTiersInUseAsync() {
-        return read(serverAttributes.get(ATTR_RECEIVEDNUMBEROFPRICETIERSINUSE));
+        return read(getServerAttribute(ATTR_RECEIVEDNUMBEROFPRICETIERSINUSE));
     }
 
     /**
@@ -10967,11 +10988,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getReceivedNumberOfPriceTiersInUse(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_RECEIVEDNUMBEROFPRICETIERSINUSE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_RECEIVEDNUMBEROFPRICETIERSINUSE).getLastValue();
+        if (getServerAttribute(ATTR_RECEIVEDNUMBEROFPRICETIERSINUSE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_RECEIVEDNUMBEROFPRICETIERSINUSE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_RECEIVEDNUMBEROFPRICETIERSINUSE));
+        return (Integer) readSync(getServerAttribute(ATTR_RECEIVEDNUMBEROFPRICETIERSINUSE));
     }
 
     /**
@@ -10986,7 +11007,7 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getReceivedNumberOfBlockThresholdsInUseAsync() {
-        return read(serverAttributes.get(ATTR_RECEIVEDNUMBEROFBLOCKTHRESHOLDSINUSE));
+        return read(getServerAttribute(ATTR_RECEIVEDNUMBEROFBLOCKTHRESHOLDSINUSE));
     }
 
     /**
@@ -11009,11 +11030,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getReceivedNumberOfBlockThresholdsInUse(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_RECEIVEDNUMBEROFBLOCKTHRESHOLDSINUSE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_RECEIVEDNUMBEROFBLOCKTHRESHOLDSINUSE).getLastValue();
+        if (getServerAttribute(ATTR_RECEIVEDNUMBEROFBLOCKTHRESHOLDSINUSE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_RECEIVEDNUMBEROFBLOCKTHRESHOLDSINUSE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_RECEIVEDNUMBEROFBLOCKTHRESHOLDSINUSE));
+        return (Integer) readSync(getServerAttribute(ATTR_RECEIVEDNUMBEROFBLOCKTHRESHOLDSINUSE));
     }
 
     /**
@@ -11028,7 +11049,7 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getReceivedTierBlockModeAsync() {
-        return read(serverAttributes.get(ATTR_RECEIVEDTIERBLOCKMODE));
+        return read(getServerAttribute(ATTR_RECEIVEDTIERBLOCKMODE));
     }
 
     /**
@@ -11051,11 +11072,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getReceivedTierBlockMode(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_RECEIVEDTIERBLOCKMODE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_RECEIVEDTIERBLOCKMODE).getLastValue();
+        if (getServerAttribute(ATTR_RECEIVEDTIERBLOCKMODE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_RECEIVEDTIERBLOCKMODE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_RECEIVEDTIERBLOCKMODE));
+        return (Integer) readSync(getServerAttribute(ATTR_RECEIVEDTIERBLOCKMODE));
     }
 
     /**
@@ -11070,7 +11091,7 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getReceivedCo2Async() {
-        return read(serverAttributes.get(ATTR_RECEIVEDCO2));
+        return read(getServerAttribute(ATTR_RECEIVEDCO2));
     }
 
     /**
@@ -11093,11 +11114,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getReceivedCo2(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_RECEIVEDCO2).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_RECEIVEDCO2).getLastValue();
+        if (getServerAttribute(ATTR_RECEIVEDCO2).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_RECEIVEDCO2).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_RECEIVEDCO2));
+        return (Integer) readSync(getServerAttribute(ATTR_RECEIVEDCO2));
     }
 
     /**
@@ -11112,7 +11133,7 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getReceivedCo2UnitAsync() {
-        return read(serverAttributes.get(ATTR_RECEIVEDCO2UNIT));
+        return read(getServerAttribute(ATTR_RECEIVEDCO2UNIT));
     }
 
     /**
@@ -11135,11 +11156,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getReceivedCo2Unit(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_RECEIVEDCO2UNIT).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_RECEIVEDCO2UNIT).getLastValue();
+        if (getServerAttribute(ATTR_RECEIVEDCO2UNIT).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_RECEIVEDCO2UNIT).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_RECEIVEDCO2UNIT));
+        return (Integer) readSync(getServerAttribute(ATTR_RECEIVEDCO2UNIT));
     }
 
     /**
@@ -11154,7 +11175,7 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getReceivedCo2TrailingDigitAsync() {
-        return read(serverAttributes.get(ATTR_RECEIVEDCO2TRAILINGDIGIT));
+        return read(getServerAttribute(ATTR_RECEIVEDCO2TRAILINGDIGIT));
     }
 
     /**
@@ -11177,11 +11198,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getReceivedCo2TrailingDigit(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_RECEIVEDCO2TRAILINGDIGIT).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_RECEIVEDCO2TRAILINGDIGIT).getLastValue();
+        if (getServerAttribute(ATTR_RECEIVEDCO2TRAILINGDIGIT).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_RECEIVEDCO2TRAILINGDIGIT).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_RECEIVEDCO2TRAILINGDIGIT));
+        return (Integer) readSync(getServerAttribute(ATTR_RECEIVEDCO2TRAILINGDIGIT));
     }
 
     /**
@@ -11196,7 +11217,7 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getReceivedCurrentBillingPeriodStartAsync() {
-        return read(serverAttributes.get(ATTR_RECEIVEDCURRENTBILLINGPERIODSTART));
+        return read(getServerAttribute(ATTR_RECEIVEDCURRENTBILLINGPERIODSTART));
     }
 
     /**
@@ -11219,11 +11240,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Calendar getReceivedCurrentBillingPeriodStart(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_RECEIVEDCURRENTBILLINGPERIODSTART).isLastValueCurrent(refreshPeriod)) {
-            return (Calendar) serverAttributes.get(ATTR_RECEIVEDCURRENTBILLINGPERIODSTART).getLastValue();
+        if (getServerAttribute(ATTR_RECEIVEDCURRENTBILLINGPERIODSTART).isLastValueCurrent(refreshPeriod)) {
+            return (Calendar) getServerAttribute(ATTR_RECEIVEDCURRENTBILLINGPERIODSTART).getLastValue();
         }
 
-        return (Calendar) readSync(serverAttributes.get(ATTR_RECEIVEDCURRENTBILLINGPERIODSTART));
+        return (Calendar) readSync(getServerAttribute(ATTR_RECEIVEDCURRENTBILLINGPERIODSTART));
     }
 
     /**
@@ -11238,7 +11259,7 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getReceivedCurrentBillingPeriodDurationAsync() {
-        return read(serverAttributes.get(ATTR_RECEIVEDCURRENTBILLINGPERIODDURATION));
+        return read(getServerAttribute(ATTR_RECEIVEDCURRENTBILLINGPERIODDURATION));
     }
 
     /**
@@ -11261,11 +11282,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getReceivedCurrentBillingPeriodDuration(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_RECEIVEDCURRENTBILLINGPERIODDURATION).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_RECEIVEDCURRENTBILLINGPERIODDURATION).getLastValue();
+        if (getServerAttribute(ATTR_RECEIVEDCURRENTBILLINGPERIODDURATION).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_RECEIVEDCURRENTBILLINGPERIODDURATION).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_RECEIVEDCURRENTBILLINGPERIODDURATION));
+        return (Integer) readSync(getServerAttribute(ATTR_RECEIVEDCURRENTBILLINGPERIODDURATION));
     }
 
     /**
@@ -11280,7 +11301,7 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getReceivedLastBillingPeriodStartAsync() {
-        return read(serverAttributes.get(ATTR_RECEIVEDLASTBILLINGPERIODSTART));
+        return read(getServerAttribute(ATTR_RECEIVEDLASTBILLINGPERIODSTART));
     }
 
     /**
@@ -11303,11 +11324,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Calendar getReceivedLastBillingPeriodStart(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_RECEIVEDLASTBILLINGPERIODSTART).isLastValueCurrent(refreshPeriod)) {
-            return (Calendar) serverAttributes.get(ATTR_RECEIVEDLASTBILLINGPERIODSTART).getLastValue();
+        if (getServerAttribute(ATTR_RECEIVEDLASTBILLINGPERIODSTART).isLastValueCurrent(refreshPeriod)) {
+            return (Calendar) getServerAttribute(ATTR_RECEIVEDLASTBILLINGPERIODSTART).getLastValue();
         }
 
-        return (Calendar) readSync(serverAttributes.get(ATTR_RECEIVEDLASTBILLINGPERIODSTART));
+        return (Calendar) readSync(getServerAttribute(ATTR_RECEIVEDLASTBILLINGPERIODSTART));
     }
 
     /**
@@ -11322,7 +11343,7 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getReceivedLastBillingPeriodDurationAsync() {
-        return read(serverAttributes.get(ATTR_RECEIVEDLASTBILLINGPERIODDURATION));
+        return read(getServerAttribute(ATTR_RECEIVEDLASTBILLINGPERIODDURATION));
     }
 
     /**
@@ -11345,11 +11366,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getReceivedLastBillingPeriodDuration(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_RECEIVEDLASTBILLINGPERIODDURATION).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_RECEIVEDLASTBILLINGPERIODDURATION).getLastValue();
+        if (getServerAttribute(ATTR_RECEIVEDLASTBILLINGPERIODDURATION).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_RECEIVEDLASTBILLINGPERIODDURATION).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_RECEIVEDLASTBILLINGPERIODDURATION));
+        return (Integer) readSync(getServerAttribute(ATTR_RECEIVEDLASTBILLINGPERIODDURATION));
     }
 
     /**
@@ -11364,7 +11385,7 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getReceivedLastBillingPeriodConsolidatedBillAsync() {
-        return read(serverAttributes.get(ATTR_RECEIVEDLASTBILLINGPERIODCONSOLIDATEDBILL));
+        return read(getServerAttribute(ATTR_RECEIVEDLASTBILLINGPERIODCONSOLIDATEDBILL));
     }
 
     /**
@@ -11387,11 +11408,11 @@ public class ZclPriceCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getReceivedLastBillingPeriodConsolidatedBill(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_RECEIVEDLASTBILLINGPERIODCONSOLIDATEDBILL).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_RECEIVEDLASTBILLINGPERIODCONSOLIDATEDBILL).getLastValue();
+        if (getServerAttribute(ATTR_RECEIVEDLASTBILLINGPERIODCONSOLIDATEDBILL).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_RECEIVEDLASTBILLINGPERIODCONSOLIDATEDBILL).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_RECEIVEDLASTBILLINGPERIODCONSOLIDATEDBILL));
+        return (Integer) readSync(getServerAttribute(ATTR_RECEIVEDLASTBILLINGPERIODCONSOLIDATEDBILL));
     }
 
     /**
@@ -7,8 +7,10 @@
  */
 package com.zsmartsystems.zigbee.zcl.clusters;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.Future;
 
@@ -18,6 +20,7 @@ import com.zsmartsystems.zigbee.CommandResult;
 import com.zsmartsystems.zigbee.IeeeAddress;
 import com.zsmartsystems.zigbee.ZigBeeEndpoint;
 import com.zsmartsystems.zigbee.zcl.ZclAttribute;
+import com.zsmartsystems.zigbee.zcl.ZclAttributeDefinition;
 import com.zsmartsystems.zigbee.zcl.ZclCluster;
 import com.zsmartsystems.zigbee.zcl.ZclCommand;
 import com.zsmartsystems.zigbee.zcl.clusters.rssilocation.AnchorNodeAnnounceCommand;
@@ -47,7 +50,7 @@ import com.zsmartsystems.zigbee.zcl.protocol.ZclDataType;
  * <p>
  * Code is auto-generated. Modifications may be overwritten!
  */
-@Generated(value = "com.zsmartsystems.zigbee.autocode.ZigBeeCodeGenerator", date = "2019-10-04T18:21:10Z")
+@Generated(value = "com.zsmartsystems.zigbee.autocode.ZigBeeCodeGenerator", date = "2026-10-18T14:31:35Z")
 public class ZclRssiLocationCluster extends ZclCluster {
     /**
      * The ZigBee Cluster Library Cluster ID
@@ -161,32 +164,34 @@ public class ZclRssiLocationCluster extends ZclCluster {
      */
     public static final int ATTR_NUMBERRSSIMEASUREMENTS = 0x0017;
 
-    @Override
-    protected Map<Integer, ZclAttribute> initializeClientAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
+    /**
+     * The server attribute definitions. These are shared by all instances of this cluster.
+     */
+    private static final Map<Integer, ZclAttributeDefinition> SERVER_ATTRIBUTES = initializeServerAttributeDefinitions();
+
+    private static Map<Integer, ZclAttributeDefinition> initializeServerAttributeDefinitions() {
+        Map<Integer, ZclAttributeDefinition> attributeMap = new TreeMap<>();
+
+        attributeMap.put(ATTR_LOCATIONTYPE, new ZclAttributeDefinition(ATTR_LOCATIONTYPE, "Location Type", ZclDataType.DATA_8_BIT, true, true, false, false));
+        attributeMap.put(ATTR_LOCATIONMETHOD, new ZclAttributeDefinition(ATTR_LOCATIONMETHOD, "Location Method", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
+        attributeMap.put(ATTR_LOCATIONAGE, new ZclAttributeDefinition(ATTR_LOCATIONAGE, "Location Age", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_QUALITYMEASURE, new ZclAttributeDefinition(ATTR_QUALITYMEASURE, "Quality Measure", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_NUMBEROFDEVICES, new ZclAttributeDefinition(ATTR_NUMBEROFDEVICES, "Number Of Devices", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_COORDINATE1, new ZclAttributeDefinition(ATTR_COORDINATE1, "Coordinate 1", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, true, false));
+        attributeMap.put(ATTR_COORDINATE2, new ZclAttributeDefinition(ATTR_COORDINATE2, "Coordinate 2", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, true, false));
+        attributeMap.put(ATTR_COORDINATE3, new ZclAttributeDefinition(ATTR_COORDINATE3, "Coordinate 3", ZclDataType.SIGNED_16_BIT_INTEGER, false, true, true, false));
+        attributeMap.put(ATTR_POWER, new ZclAttributeDefinition(ATTR_POWER, "Power", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, true, false));
+        attributeMap.put(ATTR_PATHLOSSEXPONENT, new ZclAttributeDefinition(ATTR_PATHLOSSEXPONENT, "Path Loss Exponent", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, true, false));
+        attributeMap.put(ATTR_REPORTINGPERIOD, new ZclAttributeDefinition(ATTR_REPORTINGPERIOD, "Reporting Period", ZclDataType.SIGNED_16_BIT_INTEGER, false, true, true, false));
+        attributeMap.put(ATTR_CALCULATIONPERIOD, new ZclAttributeDefinition(ATTR_CALCULATIONPERIOD, "Calculation Period", ZclDataType.SIGNED_16_BIT_INTEGER, false, true, true, false));
+        attributeMap.put(ATTR_NUMBERRSSIMEASUREMENTS, new ZclAttributeDefinition(ATTR_NUMBERRSSIMEASUREMENTS, "Number RSSI Measurements", ZclDataType.SIGNED_16_BIT_INTEGER, false, true, true, false));
 
-        return attributeMap;
+        return Collections.unmodifiableMap(attributeMap);
     }
 
     @Override
-    protected Map<Integer, ZclAttribute> initializeServerAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
-
-        attributeMap.put(ATTR_LOCATIONTYPE, new ZclAttribute(this, ATTR_LOCATIONTYPE, "Location Type", ZclDataType.DATA_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_LOCATIONMETHOD, new ZclAttribute(this, ATTR_LOCATIONMETHOD, "Location Method", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_LOCATIONAGE, new ZclAttribute(this, ATTR_LOCATIONAGE, "Location Age", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_QUALITYMEASURE, new ZclAttribute(this, ATTR_QUALITYMEASURE, "Quality Measure", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_NUMBEROFDEVICES, new ZclAttribute(this, ATTR_NUMBEROFDEVICES, "Number Of Devices", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_COORDINATE1, new ZclAttribute(this, ATTR_COORDINATE1, "Coordinate 1", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, true, false));
-        attributeMap.put(ATTR_COORDINATE2, new ZclAttribute(this, ATTR_COORDINATE2, "Coordinate 2", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, true, false));
-        attributeMap.put(ATTR_COORDINATE3, new ZclAttribute(this, ATTR_COORDINATE3, "Coordinate 3", ZclDataType.SIGNED_16_BIT_INTEGER, false, true, true, false));
-        attributeMap.put(ATTR_POWER, new ZclAttribute(this, ATTR_POWER, "Power", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, true, false));
-        attributeMap.put(ATTR_PATHLOSSEXPONENT, new ZclAttribute(this, ATTR_PATHLOSSEXPONENT, "Path Loss Exponent", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, true, false));
-        attributeMap.put(ATTR_REPORTINGPERIOD, new ZclAttribute(this, ATTR_REPORTINGPERIOD, "Reporting Period", ZclDataType.SIGNED_16_BIT_INTEGER, false, true, true, false));
-        attributeMap.put(ATTR_CALCULATIONPERIOD, new ZclAttribute(this, ATTR_CALCULATIONPERIOD, "Calculation Period", ZclDataType.SIGNED_16_BIT_INTEGER, false, true, true, false));
-        attributeMap.put(ATTR_NUMBERRSSIMEASUREMENTS, new ZclAttribute(this, ATTR_NUMBERRSSIMEASUREMENTS, "Number RSSI Measurements", ZclDataType.SIGNED_16_BIT_INTEGER, false, true, true, false));
-
-        return attributeMap;
+    protected Map<Integer, ZclAttributeDefinition> getServerAttributeDefinitions() {
+        return SERVER_ATTRIBUTES;
     }
 
     @Override
@@ -243,7 +248,7 @@ public class ZclRssiLocationCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getLocationTypeAsync() {
-        return read(serverAttributes.get(ATTR_LOCATIONTYPE));
+        return read(getServerAttribute(ATTR_LOCATIONTYPE));
     }
 
     /**
@@ -268,11 +273,11 @@ public class ZclRssiLocationCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getLocationType(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_LOCATIONTYPE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_LOCATIONTYPE).getLastValue();
+        if (getServerAttribute(ATTR_LOCATIONTYPE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_LOCATIONTYPE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_LOCATIONTYPE));
+        return (Integer) readSync(getServerAttribute(ATTR_LOCATIONTYPE));
     }
 
     /**
@@ -291,7 +296,7 @@ public class ZclRssiLocationCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setLocationTypeReporting(final int minInterval, final int maxInterval) {
-        return setReporting(serverAttributes.get(ATTR_LOCATIONTYPE), minInterval, maxInterval);
+        return setReporting(getServerAttribute(ATTR_LOCATIONTYPE), minInterval, maxInterval);
     }
 
     /**
@@ -306,7 +311,7 @@ public class ZclRssiLocationCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getLocationMethodAsync() {
-        return read(serverAttributes.get(ATTR_LOCATIONMETHOD));
+        return read(getServerAttribute(ATTR_LOCATIONMETHOD));
     }
 
     /**
@@ -329,11 +334,11 @@ public class ZclRssiLocationCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getLocationMethod(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_LOCATIONMETHOD).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_LOCATIONMETHOD).getLastValue();
+        if (getServerAttribute(ATTR_LOCATIONMETHOD).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_LOCATIONMETHOD).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_LOCATIONMETHOD));
+        return (Integer) readSync(getServerAttribute(ATTR_LOCATIONMETHOD));
     }
 
     /**
@@ -350,7 +355,7 @@ public class ZclRssiLocationCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setLocationMethodReporting(final int minInterval, final int maxInterval) {
-        return setReporting(serverAttributes.get(ATTR_LOCATIONMETHOD), minInterval, maxInterval);
+        return setReporting(getServerAttribute(ATTR_LOCATIONMETHOD), minInterval, maxInterval);
     }
 
     /**
@@ -369,7 +374,7 @@ public class ZclRssiLocationCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getLocationAgeAsync() {
-        return read(serverAttributes.get(ATTR_LOCATIONAGE));
+        return read(getServerAttribute(ATTR_LOCATIONAGE));
     }
 
     /**
@@ -396,11 +401,11 @@ public class ZclRssiLocationCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getLocationAge(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_LOCATIONAGE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_LOCATIONAGE).getLastValue();
+        if (getServerAttribute(ATTR_LOCATIONAGE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_LOCATIONAGE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_LOCATIONAGE));
+        return (Integer) readSync(getServerAttribute(ATTR_LOCATIONAGE));
     }
 
     /**
@@ -423,7 +428,7 @@ public class ZclRssiLocationCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getQualityMeasureAsync() {
-        return read(serverAttributes.get(ATTR_QUALITYMEASURE));
+        return read(getServerAttribute(ATTR_QUALITYMEASURE));
     }
 
     /**
@@ -454,11 +459,11 @@ public class ZclRssiLocationCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getQualityMeasure(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_QUALITYMEASURE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_QUALITYMEASURE).getLastValue();
+        if (getServerAttribute(ATTR_QUALITYMEASURE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_QUALITYMEASURE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_QUALITYMEASURE));
+        return (Integer) readSync(getServerAttribute(ATTR_QUALITYMEASURE));
     }
 
     /**
@@ -477,7 +482,7 @@ public class ZclRssiLocationCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getNumberOfDevicesAsync() {
-        return read(serverAttributes.get(ATTR_NUMBEROFDEVICES));
+        return read(getServerAttribute(ATTR_NUMBEROFDEVICES));
     }
 
     /**
@@ -504,11 +509,11 @@ public class ZclRssiLocationCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getNumberOfDevices(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_NUMBEROFDEVICES).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_NUMBEROFDEVICES).getLastValue();
+        if (getServerAttribute(ATTR_NUMBEROFDEVICES).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_NUMBEROFDEVICES).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_NUMBEROFDEVICES));
+        return (Integer) readSync(getServerAttribute(ATTR_NUMBEROFDEVICES));
     }
 
     /**
@@ -533,7 +538,7 @@ public class ZclRssiLocationCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setCoordinate1(final Integer value) {
-        return write(serverAttributes.get(ATTR_COORDINATE1), value);
+        return write(getServerAttribute(ATTR_COORDINATE1), value);
     }
 
     /**
@@ -557,7 +562,7 @@ public class ZclRssiLocationCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCoordinate1Async() {
-        return read(serverAttributes.get(ATTR_COORDINATE1));
+        return read(getServerAttribute(ATTR_COORDINATE1));
     }
 
     /**
@@ -589,11 +594,11 @@ public class ZclRssiLocationCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCoordinate1(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_COORDINATE1).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_COORDINATE1).getLastValue();
+        if (getServerAttribute(ATTR_COORDINATE1).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_COORDINATE1).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_COORDINATE1));
+        return (Integer) readSync(getServerAttribute(ATTR_COORDINATE1));
     }
 
     /**
@@ -620,7 +625,7 @@ public class ZclRssiLocationCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setCoordinate1Reporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_COORDINATE1), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_COORDINATE1), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -645,7 +650,7 @@ public class ZclRssiLocationCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setCoordinate2(final Integer value) {
-        return write(serverAttributes.get(ATTR_COORDINATE2), value);
+        return write(getServerAttribute(ATTR_COORDINATE2), value);
     }
 
     /**
@@ -669,7 +674,7 @@ public class ZclRssiLocationCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCoordinate2Async() {
-        return read(serverAttributes.get(ATTR_COORDINATE2));
+        return read(getServerAttribute(ATTR_COORDINATE2));
     }
 
     /**
@@ -701,11 +706,11 @@ public class ZclRssiLocationCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCoordinate2(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_COORDINATE2).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_COORDINATE2).getLastValue();
+        if (getServerAttribute(ATTR_COORDINATE2).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_COORDINATE2).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_COORDINATE2));
+        return (Integer) readSync(getServerAttribute(ATTR_COORDINATE2));
     }
 
     /**
@@ -732,7 +737,7 @@ public class ZclRssiLocationCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setCoordinate2Reporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_COORDINATE2), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_COORDINATE2), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -757,7 +762,7 @@ public class ZclRssiLocationCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setCoordinate3(final Integer value) {
-        return write(serverAttributes.get(ATTR_COORDINATE3), value);
+        return write(getServerAttribute(ATTR_COORDINATE3), value);
     }
 
     /**
@@ -781,7 +786,7 @@ public class ZclRssiLocationCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCoordinate3Async() {
-        return read(serverAttributes.get(ATTR_COORDINATE3));
+        return read(getServerAttribute(ATTR_COORDINATE3));
     }
 
     /**
@@ -813,11 +818,11 @@ public class ZclRssiLocationCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCoordinate3(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_COORDINATE3).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_COORDINATE3).getLastValue();
+        if (getServerAttribute(ATTR_COORDINATE3).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_COORDINATE3).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_COORDINATE3));
+        return (Integer) readSync(getServerAttribute(ATTR_COORDINATE3));
     }
 
     /**
@@ -840,7 +845,7 @@ public class ZclRssiLocationCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setPower(final Integer value) {
-        return write(serverAttributes.get(ATTR_POWER), value);
+        return write(getServerAttribute(ATTR_POWER), value);
     }
 
     /**
@@ -862,7 +867,7 @@ public class ZclRssiLocationCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getPowerAsync() {
-        return read(serverAttributes.get(ATTR_POWER));
+        return read(getServerAttribute(ATTR_POWER));
     }
 
     /**
@@ -892,11 +897,11 @@ public class ZclRssiLocationCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getPower(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_POWER).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_POWER).getLastValue();
+        if (getServerAttribute(ATTR_POWER).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_POWER).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_POWER));
+        return (Integer) readSync(getServerAttribute(ATTR_POWER));
     }
 
     /**
@@ -921,7 +926,7 @@ public class ZclRssiLocationCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setPowerReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_POWER), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_POWER), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -945,7 +950,7 @@ public class ZclRssiLocationCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setPathLossExponent(final Integer value) {
-        return write(serverAttributes.get(ATTR_PATHLOSSEXPONENT), value);
+        return write(getServerAttribute(ATTR_PATHLOSSEXPONENT), value);
     }
 
     /**
@@ -968,7 +973,7 @@ public class ZclRssiLocationCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getPathLossExponentAsync() {
-        return read(serverAttributes.get(ATTR_PATHLOSSEXPONENT));
+        return read(getServerAttribute(ATTR_PATHLOSSEXPONENT));
     }
 
     /**
@@ -999,11 +1004,11 @@ public class ZclRssiLocationCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getPathLossExponent(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PATHLOSSEXPONENT).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_PATHLOSSEXPONENT).getLastValue();
+        if (getServerAttribute(ATTR_PATHLOSSEXPONENT).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_PATHLOSSEXPONENT).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_PATHLOSSEXPONENT));
+        return (Integer) readSync(getServerAttribute(ATTR_PATHLOSSEXPONENT));
     }
 
     /**
@@ -1029,7 +1034,7 @@ public class ZclRssiLocationCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setPathLossExponentReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_PATHLOSSEXPONENT), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_PATHLOSSEXPONENT), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -1051,7 +1056,7 @@ public class ZclRssiLocationCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setReportingPeriod(final Integer value) {
-        return write(serverAttributes.get(ATTR_REPORTINGPERIOD), value);
+        return write(getServerAttribute(ATTR_REPORTINGPERIOD), value);
     }
 
     /**
@@ -1072,7 +1077,7 @@ public class ZclRssiLocationCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getReportingPeriodAsync() {
-        return read(serverAttributes.get(ATTR_REPORTINGPERIOD));
+        return read(getServerAttribute(ATTR_REPORTINGPERIOD));
     }
 
     /**
@@ -1101,11 +1106,11 @@ public class ZclRssiLocationCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getReportingPeriod(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_REPORTINGPERIOD).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_REPORTINGPERIOD).getLastValue();
+        if (getServerAttribute(ATTR_REPORTINGPERIOD).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_REPORTINGPERIOD).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_REPORTINGPERIOD));
+        return (Integer) readSync(getServerAttribute(ATTR_REPORTINGPERIOD));
     }
 
     /**
@@ -1126,7 +1131,7 @@ public class ZclRssiLocationCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setCalculationPeriod(final Integer value) {
-        return write(serverAttributes.get(ATTR_CALCULATIONPERIOD), value);
+        return write(getServerAttribute(ATTR_CALCULATIONPERIOD), value);
     }
 
     /**
@@ -1146,7 +1151,7 @@ public class ZclRssiLocationCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCalculationPeriodAsync() {
-        return read(serverAttributes.get(ATTR_CALCULATIONPERIOD));
+        return read(getServerAttribute(ATTR_CALCULATIONPERIOD));
     }
 
     /**
@@ -1174,11 +1179,11 @@ public class ZclRssiLocationCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCalculationPeriod(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CALCULATIONPERIOD).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CALCULATIONPERIOD).getLastValue();
+        if (getServerAttribute(ATTR_CALCULATIONPERIOD).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CALCULATIONPERIOD).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CALCULATIONPERIOD));
+        return (Integer) readSync(getServerAttribute(ATTR_CALCULATIONPERIOD));
     }
 
     /**
@@ -1198,7 +1203,7 @@ public class ZclRssiLocationCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setNumberRssiMeasurements(final Integer value) {
-        return write(serverAttributes.get(ATTR_NUMBERRSSIMEASUREMENTS), value);
+        return write(getServerAttribute(ATTR_NUMBERRSSIMEASUREMENTS), value);
     }
 
     /**
@@ -1217,7 +1222,7 @@ public class ZclRssiLocationCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getNumberRssiMeasurementsAsync() {
-        return read(serverAttributes.get(ATTR_NUMBERRSSIMEASUREMENTS));
+        return read(getServerAttribute(ATTR_NUMBERRSSIMEASUREMENTS));
     }
 
     /**
@@ -1244,11 +1249,11 @@ public class ZclRssiLocationCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getNumberRssiMeasurements(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_NUMBERRSSIMEASUREMENTS).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_NUMBERRSSIMEASUREMENTS).getLastValue();
+        if (getServerAttribute(ATTR_NUMBERRSSIMEASUREMENTS).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_NUMBERRSSIMEASUREMENTS).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_NUMBERRSSIMEASUREMENTS));
+        return (Integer) readSync(getServerAttribute(ATTR_NUMBERRSSIMEASUREMENTS));
     }
 
     /**
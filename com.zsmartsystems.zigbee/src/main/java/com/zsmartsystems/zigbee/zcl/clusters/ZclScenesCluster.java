@@ -7,8 +7,10 @@
  */
 package com.zsmartsystems.zigbee.zcl.clusters;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.Future;
 
@@ -18,6 +20,7 @@ import com.zsmartsystems.zigbee.CommandResult;
 import com.zsmartsystems.zigbee.IeeeAddress;
 import com.zsmartsystems.zigbee.ZigBeeEndpoint;
 import com.zsmartsystems.zigbee.zcl.ZclAttribute;
+import com.zsmartsystems.zigbee.zcl.ZclAttributeDefinition;
 import com.zsmartsystems.zigbee.zcl.ZclCluster;
 import com.zsmartsystems.zigbee.zcl.ZclCommand;
 import com.zsmartsystems.zigbee.zcl.clusters.scenes.AddSceneCommand;
@@ -54,7 +57,7 @@ import com.zsmartsystems.zigbee.zcl.protocol.ZclDataType;
  * <p>
  * Code is auto-generated. Modifications may be overwritten!
  */
-@Generated(value = "com.zsmartsystems.zigbee.autocode.ZigBeeCodeGenerator", date = "2019-10-04T18:21:10Z")
+@Generated(value = "com.zsmartsystems.zigbee.autocode.ZigBeeCodeGenerator", date = "2026-10-18T14:31:35Z")
 public class ZclScenesCluster extends ZclCluster {
     /**
      * The ZigBee Cluster Library Cluster ID
@@ -106,25 +109,27 @@ public class ZclScenesCluster extends ZclCluster {
      */
     public static final int ATTR_LASTCONFIGUREDBY = 0x0005;
 
-    @Override
-    protected Map<Integer, ZclAttribute> initializeClientAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
+    /**
+     * The server attribute definitions. These are shared by all instances of this cluster.
+     */
+    private static final Map<Integer, ZclAttributeDefinition> SERVER_ATTRIBUTES = initializeServerAttributeDefinitions();
 
-        return attributeMap;
-    }
+    private static Map<Integer, ZclAttributeDefinition> initializeServerAttributeDefinitions() {
+        Map<Integer, ZclAttributeDefinition> attributeMap = new TreeMap<>();
 
-    @Override
-    protected Map<Integer, ZclAttribute> initializeServerAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
+        attributeMap.put(ATTR_SCENECOUNT, new ZclAttributeDefinition(ATTR_SCENECOUNT, "Scene Count", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTSCENE, new ZclAttributeDefinition(ATTR_CURRENTSCENE, "Current Scene", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTGROUP, new ZclAttributeDefinition(ATTR_CURRENTGROUP, "Current Group", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_SCENEVALID, new ZclAttributeDefinition(ATTR_SCENEVALID, "Scene Valid", ZclDataType.BOOLEAN, true, true, false, false));
+        attributeMap.put(ATTR_NAMESUPPORT, new ZclAttributeDefinition(ATTR_NAMESUPPORT, "Name Support", ZclDataType.BITMAP_8_BIT, true, true, false, false));
+        attributeMap.put(ATTR_LASTCONFIGUREDBY, new ZclAttributeDefinition(ATTR_LASTCONFIGUREDBY, "Last Configured By", ZclDataType.IEEE_ADDRESS, false, true, false, false));
 
-        attributeMap.put(ATTR_SCENECOUNT, new ZclAttribute(this, ATTR_SCENECOUNT, "Scene Count", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTSCENE, new ZclAttribute(this, ATTR_CURRENTSCENE, "Current Scene", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTGROUP, new ZclAttribute(this, ATTR_CURRENTGROUP, "Current Group", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_SCENEVALID, new ZclAttribute(this, ATTR_SCENEVALID, "Scene Valid", ZclDataType.BOOLEAN, true, true, false, false));
-        attributeMap.put(ATTR_NAMESUPPORT, new ZclAttribute(this, ATTR_NAMESUPPORT, "Name Support", ZclDataType.BITMAP_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_LASTCONFIGUREDBY, new ZclAttribute(this, ATTR_LASTCONFIGUREDBY, "Last Configured By", ZclDataType.IEEE_ADDRESS, false, true, false, false));
+        return Collections.unmodifiableMap(attributeMap);
+    }
 
-        return attributeMap;
+    @Override
+    protected Map<Integer, ZclAttributeDefinition> getServerAttributeDefinitions() {
+        return SERVER_ATTRIBUTES;
     }
 
     @Override
@@ -184,7 +189,7 @@ public class ZclScenesCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getSceneCountAsync() {
-        return read(serverAttributes.get(ATTR_SCENECOUNT));
+        return read(getServerAttribute(ATTR_SCENECOUNT));
     }
 
     /**
@@ -210,11 +215,11 @@ public class ZclScenesCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getSceneCount(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_SCENECOUNT).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_SCENECOUNT).getLastValue();
+        if (getServerAttribute(ATTR_SCENECOUNT).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_SCENECOUNT).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_SCENECOUNT));
+        return (Integer) readSync(getServerAttribute(ATTR_SCENECOUNT));
     }
 
     /**
@@ -235,7 +240,7 @@ public class ZclScenesCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setSceneCountReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_SCENECOUNT), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_SCENECOUNT), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -252,7 +257,7 @@ public class ZclScenesCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCurrentSceneAsync() {
-        return read(serverAttributes.get(ATTR_CURRENTSCENE));
+        return read(getServerAttribute(ATTR_CURRENTSCENE));
     }
 
     /**
@@ -277,11 +282,11 @@ public class ZclScenesCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCurrentScene(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CURRENTSCENE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CURRENTSCENE).getLastValue();
+        if (getServerAttribute(ATTR_CURRENTSCENE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CURRENTSCENE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CURRENTSCENE));
+        return (Integer) readSync(getServerAttribute(ATTR_CURRENTSCENE));
     }
 
     /**
@@ -301,7 +306,7 @@ public class ZclScenesCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setCurrentSceneReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_CURRENTSCENE), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_CURRENTSCENE), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -319,7 +324,7 @@ public class ZclScenesCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCurrentGroupAsync() {
-        return read(serverAttributes.get(ATTR_CURRENTGROUP));
+        return read(getServerAttribute(ATTR_CURRENTGROUP));
     }
 
     /**
@@ -345,11 +350,11 @@ public class ZclScenesCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCurrentGroup(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CURRENTGROUP).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CURRENTGROUP).getLastValue();
+        if (getServerAttribute(ATTR_CURRENTGROUP).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CURRENTGROUP).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CURRENTGROUP));
+        return (Integer) readSync(getServerAttribute(ATTR_CURRENTGROUP));
     }
 
     /**
@@ -370,7 +375,7 @@ public class ZclScenesCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setCurrentGroupReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_CURRENTGROUP), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_CURRENTGROUP), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -393,7 +398,7 @@ public class ZclScenesCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getSceneValidAsync() {
-        return read(serverAttributes.get(ATTR_SCENEVALID));
+        return read(getServerAttribute(ATTR_SCENEVALID));
     }
 
     /**
@@ -424,11 +429,11 @@ public class ZclScenesCluster extends ZclCluster {
      */
     @Deprecated
     public Boolean getSceneValid(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_SCENEVALID).isLastValueCurrent(refreshPeriod)) {
-            return (Boolean) serverAttributes.get(ATTR_SCENEVALID).getLastValue();
+        if (getServerAttribute(ATTR_SCENEVALID).isLastValueCurrent(refreshPeriod)) {
+            return (Boolean) getServerAttribute(ATTR_SCENEVALID).getLastValue();
         }
 
-        return (Boolean) readSync(serverAttributes.get(ATTR_SCENEVALID));
+        return (Boolean) readSync(getServerAttribute(ATTR_SCENEVALID));
     }
 
     /**
@@ -453,7 +458,7 @@ public class ZclScenesCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setSceneValidReporting(final int minInterval, final int maxInterval) {
-        return setReporting(serverAttributes.get(ATTR_SCENEVALID), minInterval, maxInterval);
+        return setReporting(getServerAttribute(ATTR_SCENEVALID), minInterval, maxInterval);
     }
 
     /**
@@ -472,7 +477,7 @@ public class ZclScenesCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getNameSupportAsync() {
-        return read(serverAttributes.get(ATTR_NAMESUPPORT));
+        return read(getServerAttribute(ATTR_NAMESUPPORT));
     }
 
     /**
@@ -499,11 +504,11 @@ public class ZclScenesCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getNameSupport(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_NAMESUPPORT).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_NAMESUPPORT).getLastValue();
+        if (getServerAttribute(ATTR_NAMESUPPORT).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_NAMESUPPORT).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_NAMESUPPORT));
+        return (Integer) readSync(getServerAttribute(ATTR_NAMESUPPORT));
     }
 
     /**
@@ -524,7 +529,7 @@ public class ZclScenesCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setNameSupportReporting(final int minInterval, final int maxInterval) {
-        return setReporting(serverAttributes.get(ATTR_NAMESUPPORT), minInterval, maxInterval);
+        return setReporting(getServerAttribute(ATTR_NAMESUPPORT), minInterval, maxInterval);
     }
 
     /**
@@ -545,7 +550,7 @@ public class ZclScenesCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getLastConfiguredByAsync() {
-        return read(serverAttributes.get(ATTR_LASTCONFIGUREDBY));
+        return read(getServerAttribute(ATTR_LASTCONFIGUREDBY));
     }
 
     /**
@@ -574,11 +579,11 @@ public class ZclScenesCluster extends ZclCluster {
      */
     @Deprecated
     public IeeeAddress getLastConfiguredBy(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_LASTCONFIGUREDBY).isLastValueCurrent(refreshPeriod)) {
-            return (IeeeAddress) serverAttributes.get(ATTR_LASTCONFIGUREDBY).getLastValue();
+        if (getServerAttribute(ATTR_LASTCONFIGUREDBY).isLastValueCurrent(refreshPeriod)) {
+            return (IeeeAddress) getServerAttribute(ATTR_LASTCONFIGUREDBY).getLastValue();
         }
 
-        return (IeeeAddress) readSync(serverAttributes.get(ATTR_LASTCONFIGUREDBY));
+        return (IeeeAddress) readSync(getServerAttribute(ATTR_LASTCONFIGUREDBY));
     }
 
     /**
@@ -7,7 +7,9 @@
  */
 package com.zsmartsystems.zigbee.zcl.clusters;
 
+import java.util.Collections;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.Future;
 
@@ -16,6 +18,7 @@ import javax.annotation.Generated;
 import com.zsmartsystems.zigbee.CommandResult;
 import com.zsmartsystems.zigbee.ZigBeeEndpoint;
 import com.zsmartsystems.zigbee.zcl.ZclAttribute;
+import com.zsmartsystems.zigbee.zcl.ZclAttributeDefinition;
 import com.zsmartsystems.zigbee.zcl.ZclCluster;
 import com.zsmartsystems.zigbee.zcl.ZclCommand;
 import com.zsmartsystems.zigbee.zcl.clusters.smartenergytunneling.AckTransferDataClientToServer;
@@ -65,7 +68,7 @@ import com.zsmartsystems.zigbee.zcl.protocol.ZclDataType;
  * <p>
  * Code is auto-generated. Modifications may be overwritten!
  */
-@Generated(value = "com.zsmartsystems.zigbee.autocode.ZigBeeCodeGenerator", date = "2019-10-04T18:21:10Z")
+@Generated(value = "com.zsmartsystems.zigbee.autocode.ZigBeeCodeGenerator", date = "2026-10-18T14:31:35Z")
 public class ZclSmartEnergyTunnelingCluster extends ZclCluster {
     /**
      * The ZigBee Cluster Library Cluster ID
@@ -86,20 +89,22 @@ public class ZclSmartEnergyTunnelingCluster extends ZclCluster {
      */
     public static final int ATTR_CLOSETUNNELTIMEOUT = 0x0000;
 
-    @Override
-    protected Map<Integer, ZclAttribute> initializeClientAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
+    /**
+     * The server attribute definitions. These are shared by all instances of this cluster.
+     */
+    private static final Map<Integer, ZclAttributeDefinition> SERVER_ATTRIBUTES = initializeServerAttributeDefinitions();
 
-        return attributeMap;
-    }
+    private static Map<Integer, ZclAttributeDefinition> initializeServerAttributeDefinitions() {
+        Map<Integer, ZclAttributeDefinition> attributeMap = new TreeMap<>();
 
-    @Override
-    protected Map<Integer, ZclAttribute> initializeServerAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
+        attributeMap.put(ATTR_CLOSETUNNELTIMEOUT, new ZclAttributeDefinition(ATTR_CLOSETUNNELTIMEOUT, "Close Tunnel Timeout", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
 
-        attributeMap.put(ATTR_CLOSETUNNELTIMEOUT, new ZclAttribute(this, ATTR_CLOSETUNNELTIMEOUT, "Close Tunnel Timeout", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        return Collections.unmodifiableMap(attributeMap);
+    }
 
-        return attributeMap;
+    @Override
+    protected Map<Integer, ZclAttributeDefinition> getServerAttributeDefinitions() {
+        return SERVER_ATTRIBUTES;
     }
 
     @Override
@@ -158,7 +163,7 @@ public class ZclSmartEnergyTunnelingCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCloseTunnelTimeoutAsync() {
-        return read(serverAttributes.get(ATTR_CLOSETUNNELTIMEOUT));
+        return read(getServerAttribute(ATTR_CLOSETUNNELTIMEOUT));
     }
 
     /**
@@ -186,11 +191,11 @@ public class ZclSmartEnergyTunnelingCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCloseTunnelTimeout(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CLOSETUNNELTIMEOUT).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CLOSETUNNELTIMEOUT).getLastValue();
+        if (getServerAttribute(ATTR_CLOSETUNNELTIMEOUT).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CLOSETUNNELTIMEOUT).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CLOSETUNNELTIMEOUT));
+        return (Integer) readSync(getServerAttribute(ATTR_CLOSETUNNELTIMEOUT));
     }
 
     /**
@@ -213,7 +218,7 @@ public class ZclSmartEnergyTunnelingCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setCloseTunnelTimeoutReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_CLOSETUNNELTIMEOUT), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_CLOSETUNNELTIMEOUT), minInterval, maxInterval, reportableChange);
     }
 
     /**
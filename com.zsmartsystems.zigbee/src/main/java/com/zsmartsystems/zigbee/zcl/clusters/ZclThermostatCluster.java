@@ -7,7 +7,9 @@
  */
 package com.zsmartsystems.zigbee.zcl.clusters;
 
+import java.util.Collections;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.Future;
 
@@ -16,6 +18,7 @@ import javax.annotation.Generated;
 import com.zsmartsystems.zigbee.CommandResult;
 import com.zsmartsystems.zigbee.ZigBeeEndpoint;
 import com.zsmartsystems.zigbee.zcl.ZclAttribute;
+import com.zsmartsystems.zigbee.zcl.ZclAttributeDefinition;
 import com.zsmartsystems.zigbee.zcl.ZclCluster;
 import com.zsmartsystems.zigbee.zcl.ZclCommand;
 import com.zsmartsystems.zigbee.zcl.clusters.thermostat.ClearWeeklySchedule;
@@ -34,7 +37,7 @@ import com.zsmartsystems.zigbee.zcl.protocol.ZclDataType;
  * <p>
  * Code is auto-generated. Modifications may be overwritten!
  */
-@Generated(value = "com.zsmartsystems.zigbee.autocode.ZigBeeCodeGenerator", date = "2019-10-04T18:21:10Z")
+@Generated(value = "com.zsmartsystems.zigbee.autocode.ZigBeeCodeGenerator", date = "2026-10-18T14:31:35Z")
 public class ZclThermostatCluster extends ZclCluster {
     /**
      * The ZigBee Cluster Library Cluster ID
@@ -110,44 +113,46 @@ public class ZclThermostatCluster extends ZclCluster {
     public static final int ATTR_ALARMMASK = 0x001D;
     public static final int ATTR_THERMOSTATRUNNINGMODE = 0x001E;
 
-    @Override
-    protected Map<Integer, ZclAttribute> initializeClientAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
-
-        return attributeMap;
+    /**
+     * The server attribute definitions. These are shared by all instances of this cluster.
+     */
+    private static final Map<Integer, ZclAttributeDefinition> SERVER_ATTRIBUTES = initializeServerAttributeDefinitions();
+
+    private static Map<Integer, ZclAttributeDefinition> initializeServerAttributeDefinitions() {
+        Map<Integer, ZclAttributeDefinition> attributeMap = new TreeMap<>();
+
+        attributeMap.put(ATTR_LOCALTEMPERATURE, new ZclAttributeDefinition(ATTR_LOCALTEMPERATURE, "Local Temperature", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, true));
+        attributeMap.put(ATTR_OUTDOORTEMPERATURE, new ZclAttributeDefinition(ATTR_OUTDOORTEMPERATURE, "Outdoor Temperature", ZclDataType.SIGNED_16_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_OCCUPANCY, new ZclAttributeDefinition(ATTR_OCCUPANCY, "Occupancy", ZclDataType.BITMAP_8_BIT, false, true, false, false));
+        attributeMap.put(ATTR_ABSMINHEATSETPOINTLIMIT, new ZclAttributeDefinition(ATTR_ABSMINHEATSETPOINTLIMIT, "Abs Min Heat Setpoint Limit", ZclDataType.SIGNED_16_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_ABSMAXHEATSETPOINTLIMIT, new ZclAttributeDefinition(ATTR_ABSMAXHEATSETPOINTLIMIT, "Abs Max Heat Setpoint Limit", ZclDataType.SIGNED_16_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_ABSMINCOOLSETPOINTLIMIT, new ZclAttributeDefinition(ATTR_ABSMINCOOLSETPOINTLIMIT, "Abs Min Cool Setpoint Limit", ZclDataType.SIGNED_16_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_ABSMAXCOOLSETPOINTLIMIT, new ZclAttributeDefinition(ATTR_ABSMAXCOOLSETPOINTLIMIT, "Abs Max Cool Setpoint Limit", ZclDataType.SIGNED_16_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_PICOOLINGDEMAND, new ZclAttributeDefinition(ATTR_PICOOLINGDEMAND, "Pi Cooling Demand", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, true));
+        attributeMap.put(ATTR_PIHEATINGDEMAND, new ZclAttributeDefinition(ATTR_PIHEATINGDEMAND, "Pi Heating Demand", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, true));
+        attributeMap.put(ATTR_HVACSYSTEMTYPECONFIGURATION, new ZclAttributeDefinition(ATTR_HVACSYSTEMTYPECONFIGURATION, "Hvac System Type Configuration", ZclDataType.BITMAP_8_BIT, false, true, false, false));
+        attributeMap.put(ATTR_LOCALTEMPERATURECALIBRATION, new ZclAttributeDefinition(ATTR_LOCALTEMPERATURECALIBRATION, "Local Temperature Calibration", ZclDataType.SIGNED_16_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_OCCUPIEDCOOLINGSETPOINT, new ZclAttributeDefinition(ATTR_OCCUPIEDCOOLINGSETPOINT, "Occupied Cooling Setpoint", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_OCCUPIEDHEATINGSETPOINT, new ZclAttributeDefinition(ATTR_OCCUPIEDHEATINGSETPOINT, "Occupied Heating Setpoint", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_UNOCCUPIEDCOOLINGSETPOINT, new ZclAttributeDefinition(ATTR_UNOCCUPIEDCOOLINGSETPOINT, "Unoccupied Cooling Setpoint", ZclDataType.SIGNED_16_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_UNOCCUPIEDHEATINGSETPOINT, new ZclAttributeDefinition(ATTR_UNOCCUPIEDHEATINGSETPOINT, "Unoccupied Heating Setpoint", ZclDataType.SIGNED_16_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_MINHEATSETPOINTLIMIT, new ZclAttributeDefinition(ATTR_MINHEATSETPOINTLIMIT, "Min Heat Setpoint Limit", ZclDataType.SIGNED_16_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_MAXHEATSETPOINTLIMIT, new ZclAttributeDefinition(ATTR_MAXHEATSETPOINTLIMIT, "Max Heat Setpoint Limit", ZclDataType.SIGNED_16_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_MINCOOLSETPOINTLIMIT, new ZclAttributeDefinition(ATTR_MINCOOLSETPOINTLIMIT, "Min Cool Setpoint Limit", ZclDataType.SIGNED_16_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_MAXCOOLSETPOINTLIMIT, new ZclAttributeDefinition(ATTR_MAXCOOLSETPOINTLIMIT, "Max Cool Setpoint Limit", ZclDataType.SIGNED_16_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_MINSETPOINTDEADBAND, new ZclAttributeDefinition(ATTR_MINSETPOINTDEADBAND, "Min Setpoint Dead Band", ZclDataType.SIGNED_16_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_REMOTESENSING, new ZclAttributeDefinition(ATTR_REMOTESENSING, "Remote Sensing", ZclDataType.BITMAP_8_BIT, false, true, false, false));
+        attributeMap.put(ATTR_CONTROLSEQUENCEOFOPERATION, new ZclAttributeDefinition(ATTR_CONTROLSEQUENCEOFOPERATION, "Control Sequence Of Operation", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
+        attributeMap.put(ATTR_SYSTEMMODE, new ZclAttributeDefinition(ATTR_SYSTEMMODE, "System Mode", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
+        attributeMap.put(ATTR_ALARMMASK, new ZclAttributeDefinition(ATTR_ALARMMASK, "Alarm Mask", ZclDataType.ENUMERATION_8_BIT, false, true, false, false));
+        attributeMap.put(ATTR_THERMOSTATRUNNINGMODE, new ZclAttributeDefinition(ATTR_THERMOSTATRUNNINGMODE, "Thermostat Running Mode", ZclDataType.ENUMERATION_8_BIT, false, true, false, false));
+
+        return Collections.unmodifiableMap(attributeMap);
     }
 
     @Override
-    protected Map<Integer, ZclAttribute> initializeServerAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
-
-        attributeMap.put(ATTR_LOCALTEMPERATURE, new ZclAttribute(this, ATTR_LOCALTEMPERATURE, "Local Temperature", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, true));
-        attributeMap.put(ATTR_OUTDOORTEMPERATURE, new ZclAttribute(this, ATTR_OUTDOORTEMPERATURE, "Outdoor Temperature", ZclDataType.SIGNED_16_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_OCCUPANCY, new ZclAttribute(this, ATTR_OCCUPANCY, "Occupancy", ZclDataType.BITMAP_8_BIT, false, true, false, false));
-        attributeMap.put(ATTR_ABSMINHEATSETPOINTLIMIT, new ZclAttribute(this, ATTR_ABSMINHEATSETPOINTLIMIT, "Abs Min Heat Setpoint Limit", ZclDataType.SIGNED_16_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_ABSMAXHEATSETPOINTLIMIT, new ZclAttribute(this, ATTR_ABSMAXHEATSETPOINTLIMIT, "Abs Max Heat Setpoint Limit", ZclDataType.SIGNED_16_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_ABSMINCOOLSETPOINTLIMIT, new ZclAttribute(this, ATTR_ABSMINCOOLSETPOINTLIMIT, "Abs Min Cool Setpoint Limit", ZclDataType.SIGNED_16_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_ABSMAXCOOLSETPOINTLIMIT, new ZclAttribute(this, ATTR_ABSMAXCOOLSETPOINTLIMIT, "Abs Max Cool Setpoint Limit", ZclDataType.SIGNED_16_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_PICOOLINGDEMAND, new ZclAttribute(this, ATTR_PICOOLINGDEMAND, "Pi Cooling Demand", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, true));
-        attributeMap.put(ATTR_PIHEATINGDEMAND, new ZclAttribute(this, ATTR_PIHEATINGDEMAND, "Pi Heating Demand", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, true));
-        attributeMap.put(ATTR_HVACSYSTEMTYPECONFIGURATION, new ZclAttribute(this, ATTR_HVACSYSTEMTYPECONFIGURATION, "Hvac System Type Configuration", ZclDataType.BITMAP_8_BIT, false, true, false, false));
-        attributeMap.put(ATTR_LOCALTEMPERATURECALIBRATION, new ZclAttribute(this, ATTR_LOCALTEMPERATURECALIBRATION, "Local Temperature Calibration", ZclDataType.SIGNED_16_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_OCCUPIEDCOOLINGSETPOINT, new ZclAttribute(this, ATTR_OCCUPIEDCOOLINGSETPOINT, "Occupied Cooling Setpoint", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_OCCUPIEDHEATINGSETPOINT, new ZclAttribute(this, ATTR_OCCUPIEDHEATINGSETPOINT, "Occupied Heating Setpoint", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_UNOCCUPIEDCOOLINGSETPOINT, new ZclAttribute(this, ATTR_UNOCCUPIEDCOOLINGSETPOINT, "Unoccupied Cooling Setpoint", ZclDataType.SIGNED_16_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_UNOCCUPIEDHEATINGSETPOINT, new ZclAttribute(this, ATTR_UNOCCUPIEDHEATINGSETPOINT, "Unoccupied Heating Setpoint", ZclDataType.SIGNED_16_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_MINHEATSETPOINTLIMIT, new ZclAttribute(this, ATTR_MINHEATSETPOINTLIMIT, "Min Heat Setpoint Limit", ZclDataType.SIGNED_16_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_MAXHEATSETPOINTLIMIT, new ZclAttribute(this, ATTR_MAXHEATSETPOINTLIMIT, "Max Heat Setpoint Limit", ZclDataType.SIGNED_16_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_MINCOOLSETPOINTLIMIT, new ZclAttribute(this, ATTR_MINCOOLSETPOINTLIMIT, "Min Cool Setpoint Limit", ZclDataType.SIGNED_16_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_MAXCOOLSETPOINTLIMIT, new ZclAttribute(this, ATTR_MAXCOOLSETPOINTLIMIT, "Max Cool Setpoint Limit", ZclDataType.SIGNED_16_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_MINSETPOINTDEADBAND, new ZclAttribute(this, ATTR_MINSETPOINTDEADBAND, "Min Setpoint Dead Band", ZclDataType.SIGNED_16_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_REMOTESENSING, new ZclAttribute(this, ATTR_REMOTESENSING, "Remote Sensing", ZclDataType.BITMAP_8_BIT, false, true, false, false));
-        attributeMap.put(ATTR_CONTROLSEQUENCEOFOPERATION, new ZclAttribute(this, ATTR_CONTROLSEQUENCEOFOPERATION, "Control Sequence Of Operation", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_SYSTEMMODE, new ZclAttribute(this, ATTR_SYSTEMMODE, "System Mode", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_ALARMMASK, new ZclAttribute(this, ATTR_ALARMMASK, "Alarm Mask", ZclDataType.ENUMERATION_8_BIT, false, true, false, false));
-        attributeMap.put(ATTR_THERMOSTATRUNNINGMODE, new ZclAttribute(this, ATTR_THERMOSTATRUNNINGMODE, "Thermostat Running Mode", ZclDataType.ENUMERATION_8_BIT, false, true, false, false));
-
-        return attributeMap;
+    protected Map<Integer, ZclAttributeDefinition> getServerAttributeDefinitions() {
+        return SERVER_ATTRIBUTES;
     }
 
     @Override
@@ -197,7 +202,7 @@ public class ZclThermostatCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getLocalTemperatureAsync() {
-        return read(serverAttributes.get(ATTR_LOCALTEMPERATURE));
+        return read(getServerAttribute(ATTR_LOCALTEMPERATURE));
     }
 
     /**
@@ -223,11 +228,11 @@ public class ZclThermostatCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getLocalTemperature(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_LOCALTEMPERATURE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_LOCALTEMPERATURE).getLastValue();
+        if (getServerAttribute(ATTR_LOCALTEMPERATURE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_LOCALTEMPERATURE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_LOCALTEMPERATURE));
+        return (Integer) readSync(getServerAttribute(ATTR_LOCALTEMPERATURE));
     }
 
     /**
@@ -248,7 +253,7 @@ public class ZclThermostatCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setLocalTemperatureReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_LOCALTEMPERATURE), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_LOCALTEMPERATURE), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -266,7 +271,7 @@ public class ZclThermostatCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getOutdoorTemperatureAsync() {
-        return read(serverAttributes.get(ATTR_OUTDOORTEMPERATURE));
+        return read(getServerAttribute(ATTR_OUTDOORTEMPERATURE));
     }
 
     /**
@@ -292,11 +297,11 @@ public class ZclThermostatCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getOutdoorTemperature(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_OUTDOORTEMPERATURE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_OUTDOORTEMPERATURE).getLastValue();
+        if (getServerAttribute(ATTR_OUTDOORTEMPERATURE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_OUTDOORTEMPERATURE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_OUTDOORTEMPERATURE));
+        return (Integer) readSync(getServerAttribute(ATTR_OUTDOORTEMPERATURE));
     }
 
     /**
@@ -313,7 +318,7 @@ public class ZclThermostatCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getOccupancyAsync() {
-        return read(serverAttributes.get(ATTR_OCCUPANCY));
+        return read(getServerAttribute(ATTR_OCCUPANCY));
     }
 
     /**
@@ -338,11 +343,11 @@ public class ZclThermostatCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getOccupancy(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_OCCUPANCY).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_OCCUPANCY).getLastValue();
+        if (getServerAttribute(ATTR_OCCUPANCY).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_OCCUPANCY).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_OCCUPANCY));
+        return (Integer) readSync(getServerAttribute(ATTR_OCCUPANCY));
     }
 
     /**
@@ -360,7 +365,7 @@ public class ZclThermostatCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getAbsMinHeatSetpointLimitAsync() {
-        return read(serverAttributes.get(ATTR_ABSMINHEATSETPOINTLIMIT));
+        return read(getServerAttribute(ATTR_ABSMINHEATSETPOINTLIMIT));
     }
 
     /**
@@ -386,11 +391,11 @@ public class ZclThermostatCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getAbsMinHeatSetpointLimit(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_ABSMINHEATSETPOINTLIMIT).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_ABSMINHEATSETPOINTLIMIT).getLastValue();
+        if (getServerAttribute(ATTR_ABSMINHEATSETPOINTLIMIT).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_ABSMINHEATSETPOINTLIMIT).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_ABSMINHEATSETPOINTLIMIT));
+        return (Integer) readSync(getServerAttribute(ATTR_ABSMINHEATSETPOINTLIMIT));
     }
 
     /**
@@ -408,7 +413,7 @@ public class ZclThermostatCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getAbsMaxHeatSetpointLimitAsync() {
-        return read(serverAttributes.get(ATTR_ABSMAXHEATSETPOINTLIMIT));
+        return read(getServerAttribute(ATTR_ABSMAXHEATSETPOINTLIMIT));
     }
 
     /**
@@ -434,11 +439,11 @@ public class ZclThermostatCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getAbsMaxHeatSetpointLimit(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_ABSMAXHEATSETPOINTLIMIT).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_ABSMAXHEATSETPOINTLIMIT).getLastValue();
+        if (getServerAttribute(ATTR_ABSMAXHEATSETPOINTLIMIT).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_ABSMAXHEATSETPOINTLIMIT).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_ABSMAXHEATSETPOINTLIMIT));
+        return (Integer) readSync(getServerAttribute(ATTR_ABSMAXHEATSETPOINTLIMIT));
     }
 
     /**
@@ -456,7 +461,7 @@ public class ZclThermostatCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getAbsMinCoolSetpointLimitAsync() {
-        return read(serverAttributes.get(ATTR_ABSMINCOOLSETPOINTLIMIT));
+        return read(getServerAttribute(ATTR_ABSMINCOOLSETPOINTLIMIT));
     }
 
     /**
@@ -482,11 +487,11 @@ public class ZclThermostatCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getAbsMinCoolSetpointLimit(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_ABSMINCOOLSETPOINTLIMIT).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_ABSMINCOOLSETPOINTLIMIT).getLastValue();
+        if (getServerAttribute(ATTR_ABSMINCOOLSETPOINTLIMIT).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_ABSMINCOOLSETPOINTLIMIT).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_ABSMINCOOLSETPOINTLIMIT));
+        return (Integer) readSync(getServerAttribute(ATTR_ABSMINCOOLSETPOINTLIMIT));
     }
 
     /**
@@ -504,7 +509,7 @@ public class ZclThermostatCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getAbsMaxCoolSetpointLimitAsync() {
-        return read(serverAttributes.get(ATTR_ABSMAXCOOLSETPOINTLIMIT));
+        return read(getServerAttribute(ATTR_ABSMAXCOOLSETPOINTLIMIT));
     }
 
     /**
@@ -530,11 +535,11 @@ public class ZclThermostatCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getAbsMaxCoolSetpointLimit(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_ABSMAXCOOLSETPOINTLIMIT).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_ABSMAXCOOLSETPOINTLIMIT).getLastValue();
+        if (getServerAttribute(ATTR_ABSMAXCOOLSETPOINTLIMIT).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_ABSMAXCOOLSETPOINTLIMIT).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_ABSMAXCOOLSETPOINTLIMIT));
+        return (Integer) readSync(getServerAttribute(ATTR_ABSMAXCOOLSETPOINTLIMIT));
     }
 
     /**
@@ -553,7 +558,7 @@ public class ZclThermostatCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getPiCoolingDemandAsync() {
-        return read(serverAttributes.get(ATTR_PICOOLINGDEMAND));
+        return read(getServerAttribute(ATTR_PICOOLINGDEMAND));
     }
 
     /**
@@ -580,11 +585,11 @@ public class ZclThermostatCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getPiCoolingDemand(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PICOOLINGDEMAND).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_PICOOLINGDEMAND).getLastValue();
+        if (getServerAttribute(ATTR_PICOOLINGDEMAND).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_PICOOLINGDEMAND).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_PICOOLINGDEMAND));
+        return (Integer) readSync(getServerAttribute(ATTR_PICOOLINGDEMAND));
     }
 
     /**
@@ -603,7 +608,7 @@ public class ZclThermostatCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getPiHeatingDemandAsync() {
-        return read(serverAttributes.get(ATTR_PIHEATINGDEMAND));
+        return read(getServerAttribute(ATTR_PIHEATINGDEMAND));
     }
 
     /**
@@ -630,11 +635,11 @@ public class ZclThermostatCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getPiHeatingDemand(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PIHEATINGDEMAND).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_PIHEATINGDEMAND).getLastValue();
+        if (getServerAttribute(ATTR_PIHEATINGDEMAND).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_PIHEATINGDEMAND).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_PIHEATINGDEMAND));
+        return (Integer) readSync(getServerAttribute(ATTR_PIHEATINGDEMAND));
     }
 
     /**
@@ -649,7 +654,7 @@ public class ZclThermostatCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getHvacSystemTypeConfigurationAsync() {
-        return read(serverAttributes.get(ATTR_HVACSYSTEMTYPECONFIGURATION));
+        return read(getServerAttribute(ATTR_HVACSYSTEMTYPECONFIGURATION));
     }
 
     /**
@@ -672,11 +677,11 @@ public class ZclThermostatCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getHvacSystemTypeConfiguration(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_HVACSYSTEMTYPECONFIGURATION).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_HVACSYSTEMTYPECONFIGURATION).getLastValue();
+        if (getServerAttribute(ATTR_HVACSYSTEMTYPECONFIGURATION).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_HVACSYSTEMTYPECONFIGURATION).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_HVACSYSTEMTYPECONFIGURATION));
+        return (Integer) readSync(getServerAttribute(ATTR_HVACSYSTEMTYPECONFIGURATION));
     }
 
     /**
@@ -691,7 +696,7 @@ public class ZclThermostatCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getLocalTemperatureCalibrationAsync() {
-        return read(serverAttributes.get(ATTR_LOCALTEMPERATURECALIBRATION));
+        return read(getServerAttribute(ATTR_LOCALTEMPERATURECALIBRATION));
     }
 
     /**
@@ -714,11 +719,11 @@ public class ZclThermostatCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getLocalTemperatureCalibration(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_LOCALTEMPERATURECALIBRATION).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_LOCALTEMPERATURECALIBRATION).getLastValue();
+        if (getServerAttribute(ATTR_LOCALTEMPERATURECALIBRATION).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_LOCALTEMPERATURECALIBRATION).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_LOCALTEMPERATURECALIBRATION));
+        return (Integer) readSync(getServerAttribute(ATTR_LOCALTEMPERATURECALIBRATION));
     }
 
     /**
@@ -733,7 +738,7 @@ public class ZclThermostatCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getOccupiedCoolingSetpointAsync() {
-        return read(serverAttributes.get(ATTR_OCCUPIEDCOOLINGSETPOINT));
+        return read(getServerAttribute(ATTR_OCCUPIEDCOOLINGSETPOINT));
     }
 
     /**
@@ -756,11 +761,11 @@ public class ZclThermostatCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getOccupiedCoolingSetpoint(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_OCCUPIEDCOOLINGSETPOINT).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_OCCUPIEDCOOLINGSETPOINT).getLastValue();
+        if (getServerAttribute(ATTR_OCCUPIEDCOOLINGSETPOINT).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_OCCUPIEDCOOLINGSETPOINT).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_OCCUPIEDCOOLINGSETPOINT));
+        return (Integer) readSync(getServerAttribute(ATTR_OCCUPIEDCOOLINGSETPOINT));
     }
 
     /**
@@ -778,7 +783,7 @@ public class ZclThermostatCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setOccupiedCoolingSetpointReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_OCCUPIEDCOOLINGSETPOINT), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_OCCUPIEDCOOLINGSETPOINT), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -793,7 +798,7 @@ public class ZclThermostatCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getOccupiedHeatingSetpointAsync() {
-        return read(serverAttributes.get(ATTR_OCCUPIEDHEATINGSETPOINT));
+        return read(getServerAttribute(ATTR_OCCUPIEDHEATINGSETPOINT));
     }
 
     /**
@@ -816,11 +821,11 @@ public class ZclThermostatCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getOccupiedHeatingSetpoint(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_OCCUPIEDHEATINGSETPOINT).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_OCCUPIEDHEATINGSETPOINT).getLastValue();
+        if (getServerAttribute(ATTR_OCCUPIEDHEATINGSETPOINT).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_OCCUPIEDHEATINGSETPOINT).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_OCCUPIEDHEATINGSETPOINT));
+        return (Integer) readSync(getServerAttribute(ATTR_OCCUPIEDHEATINGSETPOINT));
     }
 
     /**
@@ -838,7 +843,7 @@ public class ZclThermostatCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setOccupiedHeatingSetpointReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_OCCUPIEDHEATINGSETPOINT), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_OCCUPIEDHEATINGSETPOINT), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -853,7 +858,7 @@ public class ZclThermostatCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getUnoccupiedCoolingSetpointAsync() {
-        return read(serverAttributes.get(ATTR_UNOCCUPIEDCOOLINGSETPOINT));
+        return read(getServerAttribute(ATTR_UNOCCUPIEDCOOLINGSETPOINT));
     }
 
     /**
@@ -876,11 +881,11 @@ public class ZclThermostatCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getUnoccupiedCoolingSetpoint(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_UNOCCUPIEDCOOLINGSETPOINT).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_UNOCCUPIEDCOOLINGSETPOINT).getLastValue();
+        if (getServerAttribute(ATTR_UNOCCUPIEDCOOLINGSETPOINT).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_UNOCCUPIEDCOOLINGSETPOINT).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_UNOCCUPIEDCOOLINGSETPOINT));
+        return (Integer) readSync(getServerAttribute(ATTR_UNOCCUPIEDCOOLINGSETPOINT));
     }
 
     /**
@@ -895,7 +900,7 @@ public class ZclThermostatCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getUnoccupiedHeatingSetpointAsync() {
-        return read(serverAttributes.get(ATTR_UNOCCUPIEDHEATINGSETPOINT));
+        return read(getServerAttribute(ATTR_UNOCCUPIEDHEATINGSETPOINT));
     }
 
     /**
@@ -918,11 +923,11 @@ public class ZclThermostatCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getUnoccupiedHeatingSetpoint(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_UNOCCUPIEDHEATINGSETPOINT).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_UNOCCUPIEDHEATINGSETPOINT).getLastValue();
+        if (getServerAttribute(ATTR_UNOCCUPIEDHEATINGSETPOINT).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_UNOCCUPIEDHEATINGSETPOINT).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_UNOCCUPIEDHEATINGSETPOINT));
+        return (Integer) readSync(getServerAttribute(ATTR_UNOCCUPIEDHEATINGSETPOINT));
     }
 
     /**
@@ -937,7 +942,7 @@ public class ZclThermostatCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getMinHeatSetpointLimitAsync() {
-        return read(serverAttributes.get(ATTR_MINHEATSETPOINTLIMIT));
+        return read(getServerAttribute(ATTR_MINHEATSETPOINTLIMIT));
     }
 
     /**
@@ -960,11 +965,11 @@ public class ZclThermostatCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getMinHeatSetpointLimit(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_MINHEATSETPOINTLIMIT).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_MINHEATSETPOINTLIMIT).getLastValue();
+        if (getServerAttribute(ATTR_MINHEATSETPOINTLIMIT).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_MINHEATSETPOINTLIMIT).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_MINHEATSETPOINTLIMIT));
+        return (Integer) readSync(getServerAttribute(ATTR_MINHEATSETPOINTLIMIT));
     }
 
     /**
@@ -979,7 +984,7 @@ public class ZclThermostatCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getMaxHeatSetpointLimitAsync() {
-        return read(serverAttributes.get(ATTR_MAXHEATSETPOINTLIMIT));
+        return read(getServerAttribute(ATTR_MAXHEATSETPOINTLIMIT));
     }
 
     /**
@@ -1002,11 +1007,11 @@ public class ZclThermostatCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getMaxHeatSetpointLimit(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_MAXHEATSETPOINTLIMIT).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_MAXHEATSETPOINTLIMIT).getLastValue();
+        if (getServerAttribute(ATTR_MAXHEATSETPOINTLIMIT).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_MAXHEATSETPOINTLIMIT).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_MAXHEATSETPOINTLIMIT));
+        return (Integer) readSync(getServerAttribute(ATTR_MAXHEATSETPOINTLIMIT));
     }
 
     /**
@@ -1021,7 +1026,7 @@ public class ZclThermostatCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getMinCoolSetpointLimitAsync() {
-        return read(serverAttributes.get(ATTR_MINCOOLSETPOINTLIMIT));
+        return read(getServerAttribute(ATTR_MINCOOLSETPOINTLIMIT));
     }
 
     /**
@@ -1044,11 +1049,11 @@ public class ZclThermostatCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getMinCoolSetpointLimit(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_MINCOOLSETPOINTLIMIT).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_MINCOOLSETPOINTLIMIT).getLastValue();
+        if (getServerAttribute(ATTR_MINCOOLSETPOINTLIMIT).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_MINCOOLSETPOINTLIMIT).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_MINCOOLSETPOINTLIMIT));
+        return (Integer) readSync(getServerAttribute(ATTR_MINCOOLSETPOINTLIMIT));
     }
 
     /**
@@ -1063,7 +1068,7 @@ public class ZclThermostatCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getMaxCoolSetpointLimitAsync() {
-        return read(serverAttributes.get(ATTR_MAXCOOLSETPOINTLIMIT));
+        return read(getServerAttribute(ATTR_MAXCOOLSETPOINTLIMIT));
     }
 
     /**
@@ -1086,11 +1091,11 @@ public class ZclThermostatCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getMaxCoolSetpointLimit(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_MAXCOOLSETPOINTLIMIT).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_MAXCOOLSETPOINTLIMIT).getLastValue();
+        if (getServerAttribute(ATTR_MAXCOOLSETPOINTLIMIT).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_MAXCOOLSETPOINTLIMIT).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_MAXCOOLSETPOINTLIMIT));
+        return (Integer) readSync(getServerAttribute(ATTR_MAXCOOLSETPOINTLIMIT));
     }
 
     /**
@@ -1105,7 +1110,7 @@ public class ZclThermostatCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getMinSetpointDeadBandAsync() {
-        return read(serverAttributes.get(ATTR_MINSETPOINTDEADBAND));
+        return read(getServerAttribute(ATTR_MINSETPOINTDEADBAND));
     }
 
     /**
@@ -1128,11 +1133,11 @@ public class ZclThermostatCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getMinSetpointDeadBand(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_MINSETPOINTDEADBAND).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_MINSETPOINTDEADBAND).getLastValue();
+        if (getServerAttribute(ATTR_MINSETPOINTDEADBAND).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_MINSETPOINTDEADBAND).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_MINSETPOINTDEADBAND));
+        return (Integer) readSync(getServerAttribute(ATTR_MINSETPOINTDEADBAND));
     }
 
     /**
@@ -1147,7 +1152,7 @@ public class ZclThermostatCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getRemoteSensingAsync() {
-        return read(serverAttributes.get(ATTR_REMOTESENSING));
+        return read(getServerAttribute(ATTR_REMOTESENSING));
     }
 
     /**
@@ -1170,11 +1175,11 @@ public class ZclThermostatCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getRemoteSensing(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_REMOTESENSING).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_REMOTESENSING).getLastValue();
+        if (getServerAttribute(ATTR_REMOTESENSING).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_REMOTESENSING).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_REMOTESENSING));
+        return (Integer) readSync(getServerAttribute(ATTR_REMOTESENSING));
     }
 
     /**
@@ -1189,7 +1194,7 @@ public class ZclThermostatCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getControlSequenceOfOperationAsync() {
-        return read(serverAttributes.get(ATTR_CONTROLSEQUENCEOFOPERATION));
+        return read(getServerAttribute(ATTR_CONTROLSEQUENCEOFOPERATION));
     }
 
     /**
@@ -1212,11 +1217,11 @@ public class ZclThermostatCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getControlSequenceOfOperation(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CONTROLSEQUENCEOFOPERATION).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CONTROLSEQUENCEOFOPERATION).getLastValue();
+        if (getServerAttribute(ATTR_CONTROLSEQUENCEOFOPERATION).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CONTROLSEQUENCEOFOPERATION).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CONTROLSEQUENCEOFOPERATION));
+        return (Integer) readSync(getServerAttribute(ATTR_CONTROLSEQUENCEOFOPERATION));
     }
 
     /**
@@ -1233,7 +1238,7 @@ public class ZclThermostatCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setControlSequenceOfOperationReporting(final int minInterval, final int maxInterval) {
-        return setReporting(serverAttributes.get(ATTR_CONTROLSEQUENCEOFOPERATION), minInterval, maxInterval);
+        return setReporting(getServerAttribute(ATTR_CONTROLSEQUENCEOFOPERATION), minInterval, maxInterval);
     }
 
     /**
@@ -1248,7 +1253,7 @@ public class ZclThermostatCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getSystemModeAsync() {
-        return read(serverAttributes.get(ATTR_SYSTEMMODE));
+        return read(getServerAttribute(ATTR_SYSTEMMODE));
     }
 
     /**
@@ -1271,11 +1276,11 @@ public class ZclThermostatCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getSystemMode(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_SYSTEMMODE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_SYSTEMMODE).getLastValue();
+        if (getServerAttribute(ATTR_SYSTEMMODE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_SYSTEMMODE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_SYSTEMMODE));
+        return (Integer) readSync(getServerAttribute(ATTR_SYSTEMMODE));
     }
 
     /**
@@ -1292,7 +1297,7 @@ public class ZclThermostatCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setSystemModeReporting(final int minInterval, final int maxInterval) {
-        return setReporting(serverAttributes.get(ATTR_SYSTEMMODE), minInterval, maxInterval);
+        return setReporting(getServerAttribute(ATTR_SYSTEMMODE), minInterval, maxInterval);
     }
 
     /**
@@ -1307,7 +1312,7 @@ public class ZclThermostatCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getAlarmMaskAsync() {
-        return read(serverAttributes.get(ATTR_ALARMMASK));
+        return read(getServerAttribute(ATTR_ALARMMASK));
     }
 
     /**
@@ -1330,11 +1335,11 @@ public class ZclThermostatCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getAlarmMask(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_ALARMMASK).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_ALARMMASK).getLastValue();
+        if (getServerAttribute(ATTR_ALARMMASK).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_ALARMMASK).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_ALARMMASK));
+        return (Integer) readSync(getServerAttribute(ATTR_ALARMMASK));
     }
 
     /**
@@ -1349,7 +1354,7 @@ public class ZclThermostatCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getThermostatRunningModeAsync() {
-        return read(serverAttributes.get(ATTR_THERMOSTATRUNNINGMODE));
+        return read(getServerAttribute(ATTR_THERMOSTATRUNNINGMODE));
     }
 
     /**
@@ -1372,11 +1377,11 @@ public class ZclThermostatCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getThermostatRunningMode(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_THERMOSTATRUNNINGMODE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_THERMOSTATRUNNINGMODE).getLastValue();
+        if (getServerAttribute(ATTR_THERMOSTATRUNNINGMODE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_THERMOSTATRUNNINGMODE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_THERMOSTATRUNNINGMODE));
+        return (Integer) readSync(getServerAttribute(ATTR_THERMOSTATRUNNINGMODE));
     }
 
     /**
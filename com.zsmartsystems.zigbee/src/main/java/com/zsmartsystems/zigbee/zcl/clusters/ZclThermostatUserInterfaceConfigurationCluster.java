@@ -7,8 +7,9 @@
  */
 package com.zsmartsystems.zigbee.zcl.clusters;
 
+import java.util.Collections;
 import java.util.Map;
-import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.TreeMap;
 import java.util.concurrent.Future;
 
 import javax.annotation.Generated;
@@ -16,6 +17,7 @@ import javax.annotation.Generated;
 import com.zsmartsystems.zigbee.CommandResult;
 import com.zsmartsystems.zigbee.ZigBeeEndpoint;
 import com.zsmartsystems.zigbee.zcl.ZclAttribute;
+import com.zsmartsystems.zigbee.zcl.ZclAttributeDefinition;
 import com.zsmartsystems.zigbee.zcl.ZclCluster;
 import com.zsmartsystems.zigbee.zcl.protocol.ZclDataType;
 
@@ -27,7 +29,7 @@ import com.zsmartsystems.zigbee.zcl.protocol.ZclDataType;
  * <p>
  * Code is auto-generated. Modifications may be overwritten!
  */
-@Generated(value = "com.zsmartsystems.zigbee.autocode.ZigBeeCodeGenerator", date = "2019-10-04T18:21:10Z")
+@Generated(value = "com.zsmartsystems.zigbee.autocode.ZigBeeCodeGenerator", date = "2026-10-18T14:31:35Z")
 public class ZclThermostatUserInterfaceConfigurationCluster extends ZclCluster {
     /**
      * The ZigBee Cluster Library Cluster ID
@@ -63,22 +65,24 @@ public class ZclThermostatUserInterfaceConfigurationCluster extends ZclCluster {
      */
     public static final int ATTR_SCHEDULEPROGRAMMINGVISIBILITY = 0x0002;
 
-    @Override
-    protected Map<Integer, ZclAttribute> initializeClientAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
+    /**
+     * The server attribute definitions. These are shared by all instances of this cluster.
+     */
+    private static final Map<Integer, ZclAttributeDefinition> SERVER_ATTRIBUTES = initializeServerAttributeDefinitions();
 
-        return attributeMap;
-    }
+    private static Map<Integer, ZclAttributeDefinition> initializeServerAttributeDefinitions() {
+        Map<Integer, ZclAttributeDefinition> attributeMap = new TreeMap<>();
 
-    @Override
-    protected Map<Integer, ZclAttribute> initializeServerAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
+        attributeMap.put(ATTR_TEMPERATUREDISPLAYMODE, new ZclAttributeDefinition(ATTR_TEMPERATUREDISPLAYMODE, "Temperature Display Mode", ZclDataType.ENUMERATION_8_BIT, false, true, true, true));
+        attributeMap.put(ATTR_KEYPADLOCKOUT, new ZclAttributeDefinition(ATTR_KEYPADLOCKOUT, "Keypad Lockout", ZclDataType.ENUMERATION_8_BIT, false, true, true, true));
+        attributeMap.put(ATTR_SCHEDULEPROGRAMMINGVISIBILITY, new ZclAttributeDefinition(ATTR_SCHEDULEPROGRAMMINGVISIBILITY, "Schedule Programming Visibility", ZclDataType.ENUMERATION_8_BIT, false, true, true, true));
 
-        attributeMap.put(ATTR_TEMPERATUREDISPLAYMODE, new ZclAttribute(this, ATTR_TEMPERATUREDISPLAYMODE, "Temperature Display Mode", ZclDataType.ENUMERATION_8_BIT, false, true, true, true));
-        attributeMap.put(ATTR_KEYPADLOCKOUT, new ZclAttribute(this, ATTR_KEYPADLOCKOUT, "Keypad Lockout", ZclDataType.ENUMERATION_8_BIT, false, true, true, true));
-        attributeMap.put(ATTR_SCHEDULEPROGRAMMINGVISIBILITY, new ZclAttribute(this, ATTR_SCHEDULEPROGRAMMINGVISIBILITY, "Schedule Programming Visibility", ZclDataType.ENUMERATION_8_BIT, false, true, true, true));
+        return Collections.unmodifiableMap(attributeMap);
+    }
 
-        return attributeMap;
+    @Override
+    protected Map<Integer, ZclAttributeDefinition> getServerAttributeDefinitions() {
+        return SERVER_ATTRIBUTES;
     }
 
     /**
@@ -106,7 +110,7 @@ public class ZclThermostatUserInterfaceConfigurationCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setTemperatureDisplayMode(final Integer value) {
-        return write(serverAttributes.get(ATTR_TEMPERATUREDISPLAYMODE), value);
+        return write(getServerAttribute(ATTR_TEMPERATUREDISPLAYMODE), value);
     }
 
     /**
@@ -124,7 +128,7 @@ public class ZclThermostatUserInterfaceConfigurationCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getTemperatureDisplayModeAsync() {
-        return read(serverAttributes.get(ATTR_TEMPERATUREDISPLAYMODE));
+        return read(getServerAttribute(ATTR_TEMPERATUREDISPLAYMODE));
     }
 
     /**
@@ -150,11 +154,11 @@ public class ZclThermostatUserInterfaceConfigurationCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getTemperatureDisplayMode(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_TEMPERATUREDISPLAYMODE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_TEMPERATUREDISPLAYMODE).getLastValue();
+        if (getServerAttribute(ATTR_TEMPERATUREDISPLAYMODE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_TEMPERATUREDISPLAYMODE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_TEMPERATUREDISPLAYMODE));
+        return (Integer) readSync(getServerAttribute(ATTR_TEMPERATUREDISPLAYMODE));
     }
 
     /**
@@ -173,7 +177,7 @@ public class ZclThermostatUserInterfaceConfigurationCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setKeypadLockout(final Integer value) {
-        return write(serverAttributes.get(ATTR_KEYPADLOCKOUT), value);
+        return write(getServerAttribute(ATTR_KEYPADLOCKOUT), value);
     }
 
     /**
@@ -191,7 +195,7 @@ public class ZclThermostatUserInterfaceConfigurationCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getKeypadLockoutAsync() {
-        return read(serverAttributes.get(ATTR_KEYPADLOCKOUT));
+        return read(getServerAttribute(ATTR_KEYPADLOCKOUT));
     }
 
     /**
@@ -217,11 +221,11 @@ public class ZclThermostatUserInterfaceConfigurationCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getKeypadLockout(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_KEYPADLOCKOUT).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_KEYPADLOCKOUT).getLastValue();
+        if (getServerAttribute(ATTR_KEYPADLOCKOUT).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_KEYPADLOCKOUT).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_KEYPADLOCKOUT));
+        return (Integer) readSync(getServerAttribute(ATTR_KEYPADLOCKOUT));
     }
 
     /**
@@ -247,7 +251,7 @@ public class ZclThermostatUserInterfaceConfigurationCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setScheduleProgrammingVisibility(final Integer value) {
-        return write(serverAttributes.get(ATTR_SCHEDULEPROGRAMMINGVISIBILITY), value);
+        return write(getServerAttribute(ATTR_SCHEDULEPROGRAMMINGVISIBILITY), value);
     }
 
     /**
@@ -272,7 +276,7 @@ public class ZclThermostatUserInterfaceConfigurationCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getScheduleProgrammingVisibilityAsync() {
-        return read(serverAttributes.get(ATTR_SCHEDULEPROGRAMMINGVISIBILITY));
+        return read(getServerAttribute(ATTR_SCHEDULEPROGRAMMINGVISIBILITY));
     }
 
     /**
@@ -305,10 +309,10 @@ public class ZclThermostatUserInterfaceConfigurationCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getScheduleProgrammingVisibility(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_SCHEDULEPROGRAMMINGVISIBILITY).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_SCHEDULEPROGRAMMINGVISIBILITY).getLastValue();
+        if (getServerAttribute(ATTR_SCHEDULEPROGRAMMINGVISIBILITY).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_SCHEDULEPROGRAMMINGVISIBILITY).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_SCHEDULEPROGRAMMINGVISIBILITY));
+        return (Integer) readSync(getServerAttribute(ATTR_SCHEDULEPROGRAMMINGVISIBILITY));
     }
 }
@@ -8,8 +8,9 @@
 package com.zsmartsystems.zigbee.zcl.clusters;
 
 import java.util.Calendar;
+import java.util.Collections;
 import java.util.Map;
-import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.TreeMap;
 import java.util.concurrent.Future;
 
 import javax.annotation.Generated;
@@ -17,6 +18,7 @@ import javax.annotation.Generated;
 import com.zsmartsystems.zigbee.CommandResult;
 import com.zsmartsystems.zigbee.ZigBeeEndpoint;
 import com.zsmartsystems.zigbee.zcl.ZclAttribute;
+import com.zsmartsystems.zigbee.zcl.ZclAttributeDefinition;
 import com.zsmartsystems.zigbee.zcl.ZclCluster;
 import com.zsmartsystems.zigbee.zcl.protocol.ZclDataType;
 
@@ -30,7 +32,7 @@ import com.zsmartsystems.zigbee.zcl.protocol.ZclDataType;
  * <p>
  * Code is auto-generated. Modifications may be overwritten!
  */
-@Generated(value = "com.zsmartsystems.zigbee.autocode.ZigBeeCodeGenerator", date = "2019-10-04T18:21:10Z")
+@Generated(value = "com.zsmartsystems.zigbee.autocode.ZigBeeCodeGenerator", date = "2026-10-18T14:31:35Z")
 public class ZclTimeCluster extends ZclCluster {
     /**
      * The ZigBee Cluster Library Cluster ID
@@ -122,29 +124,31 @@ public class ZclTimeCluster extends ZclCluster {
      */
     public static final int ATTR_VALIDUNTILTIME = 0x0009;
 
-    @Override
-    protected Map<Integer, ZclAttribute> initializeClientAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
+    /**
+     * The server attribute definitions. These are shared by all instances of this cluster.
+     */
+    private static final Map<Integer, ZclAttributeDefinition> SERVER_ATTRIBUTES = initializeServerAttributeDefinitions();
+
+    private static Map<Integer, ZclAttributeDefinition> initializeServerAttributeDefinitions() {
+        Map<Integer, ZclAttributeDefinition> attributeMap = new TreeMap<>();
+
+        attributeMap.put(ATTR_TIME, new ZclAttributeDefinition(ATTR_TIME, "Time", ZclDataType.UTCTIME, true, true, true, false));
+        attributeMap.put(ATTR_TIMESTATUS, new ZclAttributeDefinition(ATTR_TIMESTATUS, "Time Status", ZclDataType.BITMAP_8_BIT, false, true, true, false));
+        attributeMap.put(ATTR_TIMEZONE, new ZclAttributeDefinition(ATTR_TIMEZONE, "Time Zone", ZclDataType.SIGNED_32_BIT_INTEGER, false, true, true, false));
+        attributeMap.put(ATTR_DSTSTART, new ZclAttributeDefinition(ATTR_DSTSTART, "DST Start", ZclDataType.UTCTIME, false, true, true, false));
+        attributeMap.put(ATTR_DSTEND, new ZclAttributeDefinition(ATTR_DSTEND, "DST End", ZclDataType.UTCTIME, false, true, true, false));
+        attributeMap.put(ATTR_DSTSHIFT, new ZclAttributeDefinition(ATTR_DSTSHIFT, "DST Shift", ZclDataType.SIGNED_32_BIT_INTEGER, false, true, true, false));
+        attributeMap.put(ATTR_STANDARDTIME, new ZclAttributeDefinition(ATTR_STANDARDTIME, "Standard Time", ZclDataType.UTCTIME, false, true, false, false));
+        attributeMap.put(ATTR_LOCALTIME, new ZclAttributeDefinition(ATTR_LOCALTIME, "Local Time", ZclDataType.UTCTIME, false, true, false, false));
+        attributeMap.put(ATTR_LASTSETTIME, new ZclAttributeDefinition(ATTR_LASTSETTIME, "Last Set Time", ZclDataType.UTCTIME, false, true, false, false));
+        attributeMap.put(ATTR_VALIDUNTILTIME, new ZclAttributeDefinition(ATTR_VALIDUNTILTIME, "Valid Until Time", ZclDataType.UTCTIME, false, true, true, false));
 
-        return attributeMap;
+        return Collections.unmodifiableMap(attributeMap);
     }
 
     @Override
-    protected Map<Integer, ZclAttribute> initializeServerAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
-
-        attributeMap.put(ATTR_TIME, new ZclAttribute(this, ATTR_TIME, "Time", ZclDataType.UTCTIME, true, true, true, false));
-        attributeMap.put(ATTR_TIMESTATUS, new ZclAttribute(this, ATTR_TIMESTATUS, "Time Status", ZclDataType.BITMAP_8_BIT, false, true, true, false));
-        attributeMap.put(ATTR_TIMEZONE, new ZclAttribute(this, ATTR_TIMEZONE, "Time Zone", ZclDataType.SIGNED_32_BIT_INTEGER, false, true, true, false));
-        attributeMap.put(ATTR_DSTSTART, new ZclAttribute(this, ATTR_DSTSTART, "DST Start", ZclDataType.UTCTIME, false, true, true, false));
-        attributeMap.put(ATTR_DSTEND, new ZclAttribute(this, ATTR_DSTEND, "DST End", ZclDataType.UTCTIME, false, true, true, false));
-        attributeMap.put(ATTR_DSTSHIFT, new ZclAttribute(this, ATTR_DSTSHIFT, "DST Shift", ZclDataType.SIGNED_32_BIT_INTEGER, false, true, true, false));
-        attributeMap.put(ATTR_STANDARDTIME, new ZclAttribute(this, ATTR_STANDARDTIME, "Standard Time", ZclDataType.UTCTIME, false, true, false, false));
-        attributeMap.put(ATTR_LOCALTIME, new ZclAttribute(this, ATTR_LOCALTIME, "Local Time", ZclDataType.UTCTIME, false, true, false, false));
-        attributeMap.put(ATTR_LASTSETTIME, new ZclAttribute(this, ATTR_LASTSETTIME, "Last Set Time", ZclDataType.UTCTIME, false, true, false, false));
-        attributeMap.put(ATTR_VALIDUNTILTIME, new ZclAttribute(this, ATTR_VALIDUNTILTIME, "Valid Until Time", ZclDataType.UTCTIME, false, true, true, false));
-
-        return attributeMap;
+    protected Map<Integer, ZclAttributeDefinition> getServerAttributeDefinitions() {
+        return SERVER_ATTRIBUTES;
     }
 
     /**
@@ -177,7 +181,7 @@ public class ZclTimeCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setTime(final Calendar value) {
-        return write(serverAttributes.get(ATTR_TIME), value);
+        return write(getServerAttribute(ATTR_TIME), value);
     }
 
     /**
@@ -200,7 +204,7 @@ public class ZclTimeCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getTimeAsync() {
-        return read(serverAttributes.get(ATTR_TIME));
+        return read(getServerAttribute(ATTR_TIME));
     }
 
     /**
@@ -231,11 +235,11 @@ public class ZclTimeCluster extends ZclCluster {
      */
     @Deprecated
     public Calendar getTime(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_TIME).isLastValueCurrent(refreshPeriod)) {
-            return (Calendar) serverAttributes.get(ATTR_TIME).getLastValue();
+        if (getServerAttribute(ATTR_TIME).isLastValueCurrent(refreshPeriod)) {
+            return (Calendar) getServerAttribute(ATTR_TIME).getLastValue();
         }
 
-        return (Calendar) readSync(serverAttributes.get(ATTR_TIME));
+        return (Calendar) readSync(getServerAttribute(ATTR_TIME));
     }
 
     /**
@@ -261,7 +265,7 @@ public class ZclTimeCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setTimeReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_TIME), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_TIME), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -279,7 +283,7 @@ public class ZclTimeCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setTimeStatus(final Integer value) {
-        return write(serverAttributes.get(ATTR_TIMESTATUS), value);
+        return write(getServerAttribute(ATTR_TIMESTATUS), value);
     }
 
     /**
@@ -296,7 +300,7 @@ public class ZclTimeCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getTimeStatusAsync() {
-        return read(serverAttributes.get(ATTR_TIMESTATUS));
+        return read(getServerAttribute(ATTR_TIMESTATUS));
     }
 
     /**
@@ -321,11 +325,11 @@ public class ZclTimeCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getTimeStatus(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_TIMESTATUS).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_TIMESTATUS).getLastValue();
+        if (getServerAttribute(ATTR_TIMESTATUS).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_TIMESTATUS).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_TIMESTATUS));
+        return (Integer) readSync(getServerAttribute(ATTR_TIMESTATUS));
     }
 
     /**
@@ -344,7 +348,7 @@ public class ZclTimeCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setTimeZone(final Integer value) {
-        return write(serverAttributes.get(ATTR_TIMEZONE), value);
+        return write(getServerAttribute(ATTR_TIMEZONE), value);
     }
 
     /**
@@ -362,7 +366,7 @@ public class ZclTimeCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getTimeZoneAsync() {
-        return read(serverAttributes.get(ATTR_TIMEZONE));
+        return read(getServerAttribute(ATTR_TIMEZONE));
     }
 
     /**
@@ -388,11 +392,11 @@ public class ZclTimeCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getTimeZone(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_TIMEZONE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_TIMEZONE).getLastValue();
+        if (getServerAttribute(ATTR_TIMEZONE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_TIMEZONE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_TIMEZONE));
+        return (Integer) readSync(getServerAttribute(ATTR_TIMEZONE));
     }
 
     /**
@@ -411,7 +415,7 @@ public class ZclTimeCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setDstStart(final Calendar value) {
-        return write(serverAttributes.get(ATTR_DSTSTART), value);
+        return write(getServerAttribute(ATTR_DSTSTART), value);
     }
 
     /**
@@ -429,7 +433,7 @@ public class ZclTimeCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getDstStartAsync() {
-        return read(serverAttributes.get(ATTR_DSTSTART));
+        return read(getServerAttribute(ATTR_DSTSTART));
     }
 
     /**
@@ -455,11 +459,11 @@ public class ZclTimeCluster extends ZclCluster {
      */
     @Deprecated
     public Calendar getDstStart(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_DSTSTART).isLastValueCurrent(refreshPeriod)) {
-            return (Calendar) serverAttributes.get(ATTR_DSTSTART).getLastValue();
+        if (getServerAttribute(ATTR_DSTSTART).isLastValueCurrent(refreshPeriod)) {
+            return (Calendar) getServerAttribute(ATTR_DSTSTART).getLastValue();
         }
 
-        return (Calendar) readSync(serverAttributes.get(ATTR_DSTSTART));
+        return (Calendar) readSync(getServerAttribute(ATTR_DSTSTART));
     }
 
     /**
@@ -489,7 +493,7 @@ public class ZclTimeCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setDstEnd(final Calendar value) {
-        return write(serverAttributes.get(ATTR_DSTEND), value);
+        return write(getServerAttribute(ATTR_DSTEND), value);
     }
 
     /**
@@ -518,7 +522,7 @@ public class ZclTimeCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getDstEndAsync() {
-        return read(serverAttributes.get(ATTR_DSTEND));
+        return read(getServerAttribute(ATTR_DSTEND));
     }
 
     /**
@@ -555,11 +559,11 @@ public class ZclTimeCluster extends ZclCluster {
      */
     @Deprecated
     public Calendar getDstEnd(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_DSTEND).isLastValueCurrent(refreshPeriod)) {
-            return (Calendar) serverAttributes.get(ATTR_DSTEND).getLastValue();
+        if (getServerAttribute(ATTR_DSTEND).isLastValueCurrent(refreshPeriod)) {
+            return (Calendar) getServerAttribute(ATTR_DSTEND).getLastValue();
         }
 
-        return (Calendar) readSync(serverAttributes.get(ATTR_DSTEND));
+        return (Calendar) readSync(getServerAttribute(ATTR_DSTEND));
     }
 
     /**
@@ -583,7 +587,7 @@ public class ZclTimeCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setDstShift(final Integer value) {
-        return write(serverAttributes.get(ATTR_DSTSHIFT), value);
+        return write(getServerAttribute(ATTR_DSTSHIFT), value);
     }
 
     /**
@@ -606,7 +610,7 @@ public class ZclTimeCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getDstShiftAsync() {
-        return read(serverAttributes.get(ATTR_DSTSHIFT));
+        return read(getServerAttribute(ATTR_DSTSHIFT));
     }
 
     /**
@@ -637,11 +641,11 @@ public class ZclTimeCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getDstShift(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_DSTSHIFT).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_DSTSHIFT).getLastValue();
+        if (getServerAttribute(ATTR_DSTSHIFT).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_DSTSHIFT).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_DSTSHIFT));
+        return (Integer) readSync(getServerAttribute(ATTR_DSTSHIFT));
     }
 
     /**
@@ -660,7 +664,7 @@ public class ZclTimeCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getStandardTimeAsync() {
-        return read(serverAttributes.get(ATTR_STANDARDTIME));
+        return read(getServerAttribute(ATTR_STANDARDTIME));
     }
 
     /**
@@ -687,11 +691,11 @@ public class ZclTimeCluster extends ZclCluster {
      */
     @Deprecated
     public Calendar getStandardTime(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_STANDARDTIME).isLastValueCurrent(refreshPeriod)) {
-            return (Calendar) serverAttributes.get(ATTR_STANDARDTIME).getLastValue();
+        if (getServerAttribute(ATTR_STANDARDTIME).isLastValueCurrent(refreshPeriod)) {
+            return (Calendar) getServerAttribute(ATTR_STANDARDTIME).getLastValue();
         }
 
-        return (Calendar) readSync(serverAttributes.get(ATTR_STANDARDTIME));
+        return (Calendar) readSync(getServerAttribute(ATTR_STANDARDTIME));
     }
 
     /**
@@ -711,7 +715,7 @@ public class ZclTimeCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getLocalTimeAsync() {
-        return read(serverAttributes.get(ATTR_LOCALTIME));
+        return read(getServerAttribute(ATTR_LOCALTIME));
     }
 
     /**
@@ -739,11 +743,11 @@ public class ZclTimeCluster extends ZclCluster {
      */
     @Deprecated
     public Calendar getLocalTime(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_LOCALTIME).isLastValueCurrent(refreshPeriod)) {
-            return (Calendar) serverAttributes.get(ATTR_LOCALTIME).getLastValue();
+        if (getServerAttribute(ATTR_LOCALTIME).isLastValueCurrent(refreshPeriod)) {
+            return (Calendar) getServerAttribute(ATTR_LOCALTIME).getLastValue();
         }
 
-        return (Calendar) readSync(serverAttributes.get(ATTR_LOCALTIME));
+        return (Calendar) readSync(getServerAttribute(ATTR_LOCALTIME));
     }
 
     /**
@@ -763,7 +767,7 @@ public class ZclTimeCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getLastSetTimeAsync() {
-        return read(serverAttributes.get(ATTR_LASTSETTIME));
+        return read(getServerAttribute(ATTR_LASTSETTIME));
     }
 
     /**
@@ -791,11 +795,11 @@ public class ZclTimeCluster extends ZclCluster {
      */
     @Deprecated
     public Calendar getLastSetTime(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_LASTSETTIME).isLastValueCurrent(refreshPeriod)) {
-            return (Calendar) serverAttributes.get(ATTR_LASTSETTIME).getLastValue();
+        if (getServerAttribute(ATTR_LASTSETTIME).isLastValueCurrent(refreshPeriod)) {
+            return (Calendar) getServerAttribute(ATTR_LASTSETTIME).getLastValue();
         }
 
-        return (Calendar) readSync(serverAttributes.get(ATTR_LASTSETTIME));
+        return (Calendar) readSync(getServerAttribute(ATTR_LASTSETTIME));
     }
 
     /**
@@ -817,7 +821,7 @@ public class ZclTimeCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setValidUntilTime(final Calendar value) {
-        return write(serverAttributes.get(ATTR_VALIDUNTILTIME), value);
+        return write(getServerAttribute(ATTR_VALIDUNTILTIME), value);
     }
 
     /**
@@ -838,7 +842,7 @@ public class ZclTimeCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getValidUntilTimeAsync() {
-        return read(serverAttributes.get(ATTR_VALIDUNTILTIME));
+        return read(getServerAttribute(ATTR_VALIDUNTILTIME));
     }
 
     /**
@@ -867,10 +871,10 @@ public class ZclTimeCluster extends ZclCluster {
      */
     @Deprecated
     public Calendar getValidUntilTime(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_VALIDUNTILTIME).isLastValueCurrent(refreshPeriod)) {
-            return (Calendar) serverAttributes.get(ATTR_VALIDUNTILTIME).getLastValue();
+        if (getServerAttribute(ATTR_VALIDUNTILTIME).isLastValueCurrent(refreshPeriod)) {
+            return (Calendar) getServerAttribute(ATTR_VALIDUNTILTIME).getLastValue();
         }
 
-        return (Calendar) readSync(serverAttributes.get(ATTR_VALIDUNTILTIME));
+        return (Calendar) readSync(getServerAttribute(ATTR_VALIDUNTILTIME));
     }
 }
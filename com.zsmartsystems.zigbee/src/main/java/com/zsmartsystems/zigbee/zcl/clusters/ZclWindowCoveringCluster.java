@@ -7,7 +7,9 @@
  */
 package com.zsmartsystems.zigbee.zcl.clusters;
 
+import java.util.Collections;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.Future;
 
@@ -16,6 +18,7 @@ import javax.annotation.Generated;
 import com.zsmartsystems.zigbee.CommandResult;
 import com.zsmartsystems.zigbee.ZigBeeEndpoint;
 import com.zsmartsystems.zigbee.zcl.ZclAttribute;
+import com.zsmartsystems.zigbee.zcl.ZclAttributeDefinition;
 import com.zsmartsystems.zigbee.zcl.ZclCluster;
 import com.zsmartsystems.zigbee.zcl.ZclCommand;
 import com.zsmartsystems.zigbee.zcl.clusters.windowcovering.WindowCoveringDownClose;
@@ -35,7 +38,7 @@ import com.zsmartsystems.zigbee.zcl.protocol.ZclDataType;
  * <p>
  * Code is auto-generated. Modifications may be overwritten!
  */
-@Generated(value = "com.zsmartsystems.zigbee.autocode.ZigBeeCodeGenerator", date = "2019-10-04T18:21:10Z")
+@Generated(value = "com.zsmartsystems.zigbee.autocode.ZigBeeCodeGenerator", date = "2026-10-18T14:31:35Z")
 public class ZclWindowCoveringCluster extends ZclCluster {
     /**
      * The ZigBee Cluster Library Cluster ID
@@ -174,39 +177,41 @@ public class ZclWindowCoveringCluster extends ZclCluster {
      */
     public static final int ATTR_INTERMEDIATESETPOINTSTILT = 0x0019;
 
-    @Override
-    protected Map<Integer, ZclAttribute> initializeClientAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
+    /**
+     * The server attribute definitions. These are shared by all instances of this cluster.
+     */
+    private static final Map<Integer, ZclAttributeDefinition> SERVER_ATTRIBUTES = initializeServerAttributeDefinitions();
+
+    private static Map<Integer, ZclAttributeDefinition> initializeServerAttributeDefinitions() {
+        Map<Integer, ZclAttributeDefinition> attributeMap = new TreeMap<>();
+
+        attributeMap.put(ATTR_WINDOWCOVERINGTYPE, new ZclAttributeDefinition(ATTR_WINDOWCOVERINGTYPE, "Window Covering Type", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
+        attributeMap.put(ATTR_PHYSICALCLOSEDLIMITLIFT, new ZclAttributeDefinition(ATTR_PHYSICALCLOSEDLIMITLIFT, "Physical Closed Limit - Lift", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PHYSICALCLOSEDLIMITTILT, new ZclAttributeDefinition(ATTR_PHYSICALCLOSEDLIMITTILT, "Physical Closed Limit - Tilt", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTPOSITIONLIFT, new ZclAttributeDefinition(ATTR_CURRENTPOSITIONLIFT, "Current Position - Lift", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTPOSITIONTILT, new ZclAttributeDefinition(ATTR_CURRENTPOSITIONTILT, "Current Position - Tilt", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_NUMBEROFACTUATIONSLIFT, new ZclAttributeDefinition(ATTR_NUMBEROFACTUATIONSLIFT, "Number Of Actuations - Lift", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_NUMBEROFACTUATIONSTILT, new ZclAttributeDefinition(ATTR_NUMBEROFACTUATIONSTILT, "Number Of Actuations - Tilt", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CONFIGSTATUS, new ZclAttributeDefinition(ATTR_CONFIGSTATUS, "Config Status", ZclDataType.BITMAP_8_BIT, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTPOSITIONLIFTPERCENTAGE, new ZclAttributeDefinition(ATTR_CURRENTPOSITIONLIFTPERCENTAGE, "Current Position Lift Percentage", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTPOSITIONTILTPERCENTAGE, new ZclAttributeDefinition(ATTR_CURRENTPOSITIONTILTPERCENTAGE, "Current Position Tilt Percentage", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_INSTALLEDOPENLIMITLIFT, new ZclAttributeDefinition(ATTR_INSTALLEDOPENLIMITLIFT, "Installed Open Limit - Lift", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_INSTALLEDCLOSEDLIMITLIFT, new ZclAttributeDefinition(ATTR_INSTALLEDCLOSEDLIMITLIFT, "Installed Closed Limit - Lift", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_INSTALLEDOPENLIMITTILT, new ZclAttributeDefinition(ATTR_INSTALLEDOPENLIMITTILT, "Installed Open Limit - Tilt", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_INSTALLEDCLOSEDLIMITTILT, new ZclAttributeDefinition(ATTR_INSTALLEDCLOSEDLIMITTILT, "Installed Closed Limit - Tilt", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_VELOCITYLIFT, new ZclAttributeDefinition(ATTR_VELOCITYLIFT, "Velocity - Lift", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, true, true));
+        attributeMap.put(ATTR_ACCELERATIONTIMELIFT, new ZclAttributeDefinition(ATTR_ACCELERATIONTIMELIFT, "Acceleration Time - Lift", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, true, true));
+        attributeMap.put(ATTR_DECELERATIONTIMELIFT, new ZclAttributeDefinition(ATTR_DECELERATIONTIMELIFT, "Deceleration Time - Lift", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, true, true));
+        attributeMap.put(ATTR_MODE, new ZclAttributeDefinition(ATTR_MODE, "Mode", ZclDataType.BITMAP_8_BIT, false, true, true, true));
+        attributeMap.put(ATTR_INTERMEDIATESETPOINTSLIFT, new ZclAttributeDefinition(ATTR_INTERMEDIATESETPOINTSLIFT, "Intermediate Setpoints - Lift", ZclDataType.OCTET_STRING, false, true, true, true));
+        attributeMap.put(ATTR_INTERMEDIATESETPOINTSTILT, new ZclAttributeDefinition(ATTR_INTERMEDIATESETPOINTSTILT, "Intermediate Setpoints - Tilt", ZclDataType.OCTET_STRING, false, true, true, true));
 
-        return attributeMap;
+        return Collections.unmodifiableMap(attributeMap);
     }
 
     @Override
-    protected Map<Integer, ZclAttribute> initializeServerAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
-
-        attributeMap.put(ATTR_WINDOWCOVERINGTYPE, new ZclAttribute(this, ATTR_WINDOWCOVERINGTYPE, "Window Covering Type", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_PHYSICALCLOSEDLIMITLIFT, new ZclAttribute(this, ATTR_PHYSICALCLOSEDLIMITLIFT, "Physical Closed Limit - Lift", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PHYSICALCLOSEDLIMITTILT, new ZclAttribute(this, ATTR_PHYSICALCLOSEDLIMITTILT, "Physical Closed Limit - Tilt", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTPOSITIONLIFT, new ZclAttribute(this, ATTR_CURRENTPOSITIONLIFT, "Current Position - Lift", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTPOSITIONTILT, new ZclAttribute(this, ATTR_CURRENTPOSITIONTILT, "Current Position - Tilt", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_NUMBEROFACTUATIONSLIFT, new ZclAttribute(this, ATTR_NUMBEROFACTUATIONSLIFT, "Number Of Actuations - Lift", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_NUMBEROFACTUATIONSTILT, new ZclAttribute(this, ATTR_NUMBEROFACTUATIONSTILT, "Number Of Actuations - Tilt", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CONFIGSTATUS, new ZclAttribute(this, ATTR_CONFIGSTATUS, "Config Status", ZclDataType.BITMAP_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTPOSITIONLIFTPERCENTAGE, new ZclAttribute(this, ATTR_CURRENTPOSITIONLIFTPERCENTAGE, "Current Position Lift Percentage", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTPOSITIONTILTPERCENTAGE, new ZclAttribute(this, ATTR_CURRENTPOSITIONTILTPERCENTAGE, "Current Position Tilt Percentage", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_INSTALLEDOPENLIMITLIFT, new ZclAttribute(this, ATTR_INSTALLEDOPENLIMITLIFT, "Installed Open Limit - Lift", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_INSTALLEDCLOSEDLIMITLIFT, new ZclAttribute(this, ATTR_INSTALLEDCLOSEDLIMITLIFT, "Installed Closed Limit - Lift", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_INSTALLEDOPENLIMITTILT, new ZclAttribute(this, ATTR_INSTALLEDOPENLIMITTILT, "Installed Open Limit - Tilt", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_INSTALLEDCLOSEDLIMITTILT, new ZclAttribute(this, ATTR_INSTALLEDCLOSEDLIMITTILT, "Installed Closed Limit - Tilt", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_VELOCITYLIFT, new ZclAttribute(this, ATTR_VELOCITYLIFT, "Velocity - Lift", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, true, true));
-        attributeMap.put(ATTR_ACCELERATIONTIMELIFT, new ZclAttribute(this, ATTR_ACCELERATIONTIMELIFT, "Acceleration Time - Lift", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, true, true));
-        attributeMap.put(ATTR_DECELERATIONTIMELIFT, new ZclAttribute(this, ATTR_DECELERATIONTIMELIFT, "Deceleration Time - Lift", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, true, true));
-        attributeMap.put(ATTR_MODE, new ZclAttribute(this, ATTR_MODE, "Mode", ZclDataType.BITMAP_8_BIT, false, true, true, true));
-        attributeMap.put(ATTR_INTERMEDIATESETPOINTSLIFT, new ZclAttribute(this, ATTR_INTERMEDIATESETPOINTSLIFT, "Intermediate Setpoints - Lift", ZclDataType.OCTET_STRING, false, true, true, true));
-        attributeMap.put(ATTR_INTERMEDIATESETPOINTSTILT, new ZclAttribute(this, ATTR_INTERMEDIATESETPOINTSTILT, "Intermediate Setpoints - Tilt", ZclDataType.OCTET_STRING, false, true, true, true));
-
-        return attributeMap;
+    protected Map<Integer, ZclAttributeDefinition> getServerAttributeDefinitions() {
+        return SERVER_ATTRIBUTES;
     }
 
     @Override
@@ -248,7 +253,7 @@ public class ZclWindowCoveringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getWindowCoveringTypeAsync() {
-        return read(serverAttributes.get(ATTR_WINDOWCOVERINGTYPE));
+        return read(getServerAttribute(ATTR_WINDOWCOVERINGTYPE));
     }
 
     /**
@@ -274,11 +279,11 @@ public class ZclWindowCoveringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getWindowCoveringType(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_WINDOWCOVERINGTYPE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_WINDOWCOVERINGTYPE).getLastValue();
+        if (getServerAttribute(ATTR_WINDOWCOVERINGTYPE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_WINDOWCOVERINGTYPE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_WINDOWCOVERINGTYPE));
+        return (Integer) readSync(getServerAttribute(ATTR_WINDOWCOVERINGTYPE));
     }
 
     /**
@@ -298,7 +303,7 @@ public class ZclWindowCoveringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setWindowCoveringTypeReporting(final int minInterval, final int maxInterval) {
-        return setReporting(serverAttributes.get(ATTR_WINDOWCOVERINGTYPE), minInterval, maxInterval);
+        return setReporting(getServerAttribute(ATTR_WINDOWCOVERINGTYPE), minInterval, maxInterval);
     }
 
     /**
@@ -317,7 +322,7 @@ public class ZclWindowCoveringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getPhysicalClosedLimitLiftAsync() {
-        return read(serverAttributes.get(ATTR_PHYSICALCLOSEDLIMITLIFT));
+        return read(getServerAttribute(ATTR_PHYSICALCLOSEDLIMITLIFT));
     }
 
     /**
@@ -344,11 +349,11 @@ public class ZclWindowCoveringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getPhysicalClosedLimitLift(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PHYSICALCLOSEDLIMITLIFT).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_PHYSICALCLOSEDLIMITLIFT).getLastValue();
+        if (getServerAttribute(ATTR_PHYSICALCLOSEDLIMITLIFT).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_PHYSICALCLOSEDLIMITLIFT).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_PHYSICALCLOSEDLIMITLIFT));
+        return (Integer) readSync(getServerAttribute(ATTR_PHYSICALCLOSEDLIMITLIFT));
     }
 
     /**
@@ -370,7 +375,7 @@ public class ZclWindowCoveringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setPhysicalClosedLimitLiftReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_PHYSICALCLOSEDLIMITLIFT), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_PHYSICALCLOSEDLIMITLIFT), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -389,7 +394,7 @@ public class ZclWindowCoveringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getPhysicalClosedLimitTiltAsync() {
-        return read(serverAttributes.get(ATTR_PHYSICALCLOSEDLIMITTILT));
+        return read(getServerAttribute(ATTR_PHYSICALCLOSEDLIMITTILT));
     }
 
     /**
@@ -416,11 +421,11 @@ public class ZclWindowCoveringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getPhysicalClosedLimitTilt(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_PHYSICALCLOSEDLIMITTILT).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_PHYSICALCLOSEDLIMITTILT).getLastValue();
+        if (getServerAttribute(ATTR_PHYSICALCLOSEDLIMITTILT).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_PHYSICALCLOSEDLIMITTILT).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_PHYSICALCLOSEDLIMITTILT));
+        return (Integer) readSync(getServerAttribute(ATTR_PHYSICALCLOSEDLIMITTILT));
     }
 
     /**
@@ -442,7 +447,7 @@ public class ZclWindowCoveringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setPhysicalClosedLimitTiltReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_PHYSICALCLOSEDLIMITTILT), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_PHYSICALCLOSEDLIMITTILT), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -461,7 +466,7 @@ public class ZclWindowCoveringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCurrentPositionLiftAsync() {
-        return read(serverAttributes.get(ATTR_CURRENTPOSITIONLIFT));
+        return read(getServerAttribute(ATTR_CURRENTPOSITIONLIFT));
     }
 
     /**
@@ -488,11 +493,11 @@ public class ZclWindowCoveringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCurrentPositionLift(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CURRENTPOSITIONLIFT).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CURRENTPOSITIONLIFT).getLastValue();
+        if (getServerAttribute(ATTR_CURRENTPOSITIONLIFT).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CURRENTPOSITIONLIFT).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CURRENTPOSITIONLIFT));
+        return (Integer) readSync(getServerAttribute(ATTR_CURRENTPOSITIONLIFT));
     }
 
     /**
@@ -514,7 +519,7 @@ public class ZclWindowCoveringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setCurrentPositionLiftReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_CURRENTPOSITIONLIFT), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_CURRENTPOSITIONLIFT), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -533,7 +538,7 @@ public class ZclWindowCoveringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCurrentPositionTiltAsync() {
-        return read(serverAttributes.get(ATTR_CURRENTPOSITIONTILT));
+        return read(getServerAttribute(ATTR_CURRENTPOSITIONTILT));
     }
 
     /**
@@ -560,11 +565,11 @@ public class ZclWindowCoveringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCurrentPositionTilt(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CURRENTPOSITIONTILT).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CURRENTPOSITIONTILT).getLastValue();
+        if (getServerAttribute(ATTR_CURRENTPOSITIONTILT).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CURRENTPOSITIONTILT).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CURRENTPOSITIONTILT));
+        return (Integer) readSync(getServerAttribute(ATTR_CURRENTPOSITIONTILT));
     }
 
     /**
@@ -586,7 +591,7 @@ public class ZclWindowCoveringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setCurrentPositionTiltReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_CURRENTPOSITIONTILT), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_CURRENTPOSITIONTILT), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -604,7 +609,7 @@ public class ZclWindowCoveringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getNumberOfActuationsLiftAsync() {
-        return read(serverAttributes.get(ATTR_NUMBEROFACTUATIONSLIFT));
+        return read(getServerAttribute(ATTR_NUMBEROFACTUATIONSLIFT));
     }
 
     /**
@@ -630,11 +635,11 @@ public class ZclWindowCoveringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getNumberOfActuationsLift(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_NUMBEROFACTUATIONSLIFT).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_NUMBEROFACTUATIONSLIFT).getLastValue();
+        if (getServerAttribute(ATTR_NUMBEROFACTUATIONSLIFT).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_NUMBEROFACTUATIONSLIFT).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_NUMBEROFACTUATIONSLIFT));
+        return (Integer) readSync(getServerAttribute(ATTR_NUMBEROFACTUATIONSLIFT));
     }
 
     /**
@@ -655,7 +660,7 @@ public class ZclWindowCoveringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setNumberOfActuationsLiftReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_NUMBEROFACTUATIONSLIFT), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_NUMBEROFACTUATIONSLIFT), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -673,7 +678,7 @@ public class ZclWindowCoveringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getNumberOfActuationsTiltAsync() {
-        return read(serverAttributes.get(ATTR_NUMBEROFACTUATIONSTILT));
+        return read(getServerAttribute(ATTR_NUMBEROFACTUATIONSTILT));
     }
 
     /**
@@ -699,11 +704,11 @@ public class ZclWindowCoveringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getNumberOfActuationsTilt(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_NUMBEROFACTUATIONSTILT).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_NUMBEROFACTUATIONSTILT).getLastValue();
+        if (getServerAttribute(ATTR_NUMBEROFACTUATIONSTILT).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_NUMBEROFACTUATIONSTILT).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_NUMBEROFACTUATIONSTILT));
+        return (Integer) readSync(getServerAttribute(ATTR_NUMBEROFACTUATIONSTILT));
     }
 
     /**
@@ -724,7 +729,7 @@ public class ZclWindowCoveringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setNumberOfActuationsTiltReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_NUMBEROFACTUATIONSTILT), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_NUMBEROFACTUATIONSTILT), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -744,7 +749,7 @@ public class ZclWindowCoveringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getConfigStatusAsync() {
-        return read(serverAttributes.get(ATTR_CONFIGSTATUS));
+        return read(getServerAttribute(ATTR_CONFIGSTATUS));
     }
 
     /**
@@ -772,11 +777,11 @@ public class ZclWindowCoveringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getConfigStatus(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CONFIGSTATUS).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CONFIGSTATUS).getLastValue();
+        if (getServerAttribute(ATTR_CONFIGSTATUS).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CONFIGSTATUS).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CONFIGSTATUS));
+        return (Integer) readSync(getServerAttribute(ATTR_CONFIGSTATUS));
     }
 
     /**
@@ -798,7 +803,7 @@ public class ZclWindowCoveringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setConfigStatusReporting(final int minInterval, final int maxInterval) {
-        return setReporting(serverAttributes.get(ATTR_CONFIGSTATUS), minInterval, maxInterval);
+        return setReporting(getServerAttribute(ATTR_CONFIGSTATUS), minInterval, maxInterval);
     }
 
     /**
@@ -820,7 +825,7 @@ public class ZclWindowCoveringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCurrentPositionLiftPercentageAsync() {
-        return read(serverAttributes.get(ATTR_CURRENTPOSITIONLIFTPERCENTAGE));
+        return read(getServerAttribute(ATTR_CURRENTPOSITIONLIFTPERCENTAGE));
     }
 
     /**
@@ -850,11 +855,11 @@ public class ZclWindowCoveringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCurrentPositionLiftPercentage(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CURRENTPOSITIONLIFTPERCENTAGE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CURRENTPOSITIONLIFTPERCENTAGE).getLastValue();
+        if (getServerAttribute(ATTR_CURRENTPOSITIONLIFTPERCENTAGE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CURRENTPOSITIONLIFTPERCENTAGE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CURRENTPOSITIONLIFTPERCENTAGE));
+        return (Integer) readSync(getServerAttribute(ATTR_CURRENTPOSITIONLIFTPERCENTAGE));
     }
 
     /**
@@ -879,7 +884,7 @@ public class ZclWindowCoveringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setCurrentPositionLiftPercentageReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_CURRENTPOSITIONLIFTPERCENTAGE), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_CURRENTPOSITIONLIFTPERCENTAGE), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -901,7 +906,7 @@ public class ZclWindowCoveringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getCurrentPositionTiltPercentageAsync() {
-        return read(serverAttributes.get(ATTR_CURRENTPOSITIONTILTPERCENTAGE));
+        return read(getServerAttribute(ATTR_CURRENTPOSITIONTILTPERCENTAGE));
     }
 
     /**
@@ -931,11 +936,11 @@ public class ZclWindowCoveringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getCurrentPositionTiltPercentage(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_CURRENTPOSITIONTILTPERCENTAGE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_CURRENTPOSITIONTILTPERCENTAGE).getLastValue();
+        if (getServerAttribute(ATTR_CURRENTPOSITIONTILTPERCENTAGE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_CURRENTPOSITIONTILTPERCENTAGE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_CURRENTPOSITIONTILTPERCENTAGE));
+        return (Integer) readSync(getServerAttribute(ATTR_CURRENTPOSITIONTILTPERCENTAGE));
     }
 
     /**
@@ -960,7 +965,7 @@ public class ZclWindowCoveringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setCurrentPositionTiltPercentageReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_CURRENTPOSITIONTILTPERCENTAGE), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_CURRENTPOSITIONTILTPERCENTAGE), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -979,7 +984,7 @@ public class ZclWindowCoveringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getInstalledOpenLimitLiftAsync() {
-        return read(serverAttributes.get(ATTR_INSTALLEDOPENLIMITLIFT));
+        return read(getServerAttribute(ATTR_INSTALLEDOPENLIMITLIFT));
     }
 
     /**
@@ -1006,11 +1011,11 @@ public class ZclWindowCoveringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getInstalledOpenLimitLift(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_INSTALLEDOPENLIMITLIFT).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_INSTALLEDOPENLIMITLIFT).getLastValue();
+        if (getServerAttribute(ATTR_INSTALLEDOPENLIMITLIFT).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_INSTALLEDOPENLIMITLIFT).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_INSTALLEDOPENLIMITLIFT));
+        return (Integer) readSync(getServerAttribute(ATTR_INSTALLEDOPENLIMITLIFT));
     }
 
     /**
@@ -1032,7 +1037,7 @@ public class ZclWindowCoveringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setInstalledOpenLimitLiftReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_INSTALLEDOPENLIMITLIFT), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_INSTALLEDOPENLIMITLIFT), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -1051,7 +1056,7 @@ public class ZclWindowCoveringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getInstalledClosedLimitLiftAsync() {
-        return read(serverAttributes.get(ATTR_INSTALLEDCLOSEDLIMITLIFT));
+        return read(getServerAttribute(ATTR_INSTALLEDCLOSEDLIMITLIFT));
     }
 
     /**
@@ -1078,11 +1083,11 @@ public class ZclWindowCoveringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getInstalledClosedLimitLift(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_INSTALLEDCLOSEDLIMITLIFT).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_INSTALLEDCLOSEDLIMITLIFT).getLastValue();
+        if (getServerAttribute(ATTR_INSTALLEDCLOSEDLIMITLIFT).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_INSTALLEDCLOSEDLIMITLIFT).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_INSTALLEDCLOSEDLIMITLIFT));
+        return (Integer) readSync(getServerAttribute(ATTR_INSTALLEDCLOSEDLIMITLIFT));
     }
 
     /**
@@ -1104,7 +1109,7 @@ public class ZclWindowCoveringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setInstalledClosedLimitLiftReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_INSTALLEDCLOSEDLIMITLIFT), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_INSTALLEDCLOSEDLIMITLIFT), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -1124,7 +1129,7 @@ public class ZclWindowCoveringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getInstalledOpenLimitTiltAsync() {
-        return read(serverAttributes.get(ATTR_INSTALLEDOPENLIMITTILT));
+        return read(getServerAttribute(ATTR_INSTALLEDOPENLIMITTILT));
     }
 
     /**
@@ -1152,11 +1157,11 @@ public class ZclWindowCoveringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getInstalledOpenLimitTilt(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_INSTALLEDOPENLIMITTILT).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_INSTALLEDOPENLIMITTILT).getLastValue();
+        if (getServerAttribute(ATTR_INSTALLEDOPENLIMITTILT).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_INSTALLEDOPENLIMITTILT).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_INSTALLEDOPENLIMITTILT));
+        return (Integer) readSync(getServerAttribute(ATTR_INSTALLEDOPENLIMITTILT));
     }
 
     /**
@@ -1179,7 +1184,7 @@ public class ZclWindowCoveringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setInstalledOpenLimitTiltReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_INSTALLEDOPENLIMITTILT), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_INSTALLEDOPENLIMITTILT), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -1199,7 +1204,7 @@ public class ZclWindowCoveringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getInstalledClosedLimitTiltAsync() {
-        return read(serverAttributes.get(ATTR_INSTALLEDCLOSEDLIMITTILT));
+        return read(getServerAttribute(ATTR_INSTALLEDCLOSEDLIMITTILT));
     }
 
     /**
@@ -1227,11 +1232,11 @@ public class ZclWindowCoveringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getInstalledClosedLimitTilt(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_INSTALLEDCLOSEDLIMITTILT).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_INSTALLEDCLOSEDLIMITTILT).getLastValue();
+        if (getServerAttribute(ATTR_INSTALLEDCLOSEDLIMITTILT).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_INSTALLEDCLOSEDLIMITTILT).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_INSTALLEDCLOSEDLIMITTILT));
+        return (Integer) readSync(getServerAttribute(ATTR_INSTALLEDCLOSEDLIMITTILT));
     }
 
     /**
@@ -1254,7 +1259,7 @@ public class ZclWindowCoveringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setInstalledClosedLimitTiltReporting(final int minInterval, final int maxInterval, final Object reportableChange) {
-        return setReporting(serverAttributes.get(ATTR_INSTALLEDCLOSEDLIMITTILT), minInterval, maxInterval, reportableChange);
+        return setReporting(getServerAttribute(ATTR_INSTALLEDCLOSEDLIMITTILT), minInterval, maxInterval, reportableChange);
     }
 
     /**
@@ -1273,7 +1278,7 @@ public class ZclWindowCoveringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setVelocityLift(final Integer value) {
-        return write(serverAttributes.get(ATTR_VELOCITYLIFT), value);
+        return write(getServerAttribute(ATTR_VELOCITYLIFT), value);
     }
 
     /**
@@ -1291,7 +1296,7 @@ public class ZclWindowCoveringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getVelocityLiftAsync() {
-        return read(serverAttributes.get(ATTR_VELOCITYLIFT));
+        return read(getServerAttribute(ATTR_VELOCITYLIFT));
     }
 
     /**
@@ -1317,11 +1322,11 @@ public class ZclWindowCoveringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getVelocityLift(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_VELOCITYLIFT).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_VELOCITYLIFT).getLastValue();
+        if (getServerAttribute(ATTR_VELOCITYLIFT).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_VELOCITYLIFT).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_VELOCITYLIFT));
+        return (Integer) readSync(getServerAttribute(ATTR_VELOCITYLIFT));
     }
 
     /**
@@ -1340,7 +1345,7 @@ public class ZclWindowCoveringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setAccelerationTimeLift(final Integer value) {
-        return write(serverAttributes.get(ATTR_ACCELERATIONTIMELIFT), value);
+        return write(getServerAttribute(ATTR_ACCELERATIONTIMELIFT), value);
     }
 
     /**
@@ -1358,7 +1363,7 @@ public class ZclWindowCoveringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getAccelerationTimeLiftAsync() {
-        return read(serverAttributes.get(ATTR_ACCELERATIONTIMELIFT));
+        return read(getServerAttribute(ATTR_ACCELERATIONTIMELIFT));
     }
 
     /**
@@ -1384,11 +1389,11 @@ public class ZclWindowCoveringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getAccelerationTimeLift(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_ACCELERATIONTIMELIFT).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_ACCELERATIONTIMELIFT).getLastValue();
+        if (getServerAttribute(ATTR_ACCELERATIONTIMELIFT).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_ACCELERATIONTIMELIFT).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_ACCELERATIONTIMELIFT));
+        return (Integer) readSync(getServerAttribute(ATTR_ACCELERATIONTIMELIFT));
     }
 
     /**
@@ -1407,7 +1412,7 @@ public class ZclWindowCoveringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setDecelerationTimeLift(final Integer value) {
-        return write(serverAttributes.get(ATTR_DECELERATIONTIMELIFT), value);
+        return write(getServerAttribute(ATTR_DECELERATIONTIMELIFT), value);
     }
 
     /**
@@ -1425,7 +1430,7 @@ public class ZclWindowCoveringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getDecelerationTimeLiftAsync() {
-        return read(serverAttributes.get(ATTR_DECELERATIONTIMELIFT));
+        return read(getServerAttribute(ATTR_DECELERATIONTIMELIFT));
     }
 
     /**
@@ -1451,11 +1456,11 @@ public class ZclWindowCoveringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getDecelerationTimeLift(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_DECELERATIONTIMELIFT).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_DECELERATIONTIMELIFT).getLastValue();
+        if (getServerAttribute(ATTR_DECELERATIONTIMELIFT).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_DECELERATIONTIMELIFT).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_DECELERATIONTIMELIFT));
+        return (Integer) readSync(getServerAttribute(ATTR_DECELERATIONTIMELIFT));
     }
 
     /**
@@ -1475,7 +1480,7 @@ public class ZclWindowCoveringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setMode(final Integer value) {
-        return write(serverAttributes.get(ATTR_MODE), value);
+        return write(getServerAttribute(ATTR_MODE), value);
     }
 
     /**
@@ -1494,7 +1499,7 @@ public class ZclWindowCoveringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getModeAsync() {
-        return read(serverAttributes.get(ATTR_MODE));
+        return read(getServerAttribute(ATTR_MODE));
     }
 
     /**
@@ -1521,11 +1526,11 @@ public class ZclWindowCoveringCluster extends ZclCluster {
      */
     @Deprecated
     public Integer getMode(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_MODE).isLastValueCurrent(refreshPeriod)) {
-            return (Integer) serverAttributes.get(ATTR_MODE).getLastValue();
+        if (getServerAttribute(ATTR_MODE).isLastValueCurrent(refreshPeriod)) {
+            return (Integer) getServerAttribute(ATTR_MODE).getLastValue();
         }
 
-        return (Integer) readSync(serverAttributes.get(ATTR_MODE));
+        return (Integer) readSync(getServerAttribute(ATTR_MODE));
     }
 
     /**
@@ -1546,7 +1551,7 @@ public class ZclWindowCoveringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setIntermediateSetpointsLift(final ByteArray value) {
-        return write(serverAttributes.get(ATTR_INTERMEDIATESETPOINTSLIFT), value);
+        return write(getServerAttribute(ATTR_INTERMEDIATESETPOINTSLIFT), value);
     }
 
     /**
@@ -1566,7 +1571,7 @@ public class ZclWindowCoveringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getIntermediateSetpointsLiftAsync() {
-        return read(serverAttributes.get(ATTR_INTERMEDIATESETPOINTSLIFT));
+        return read(getServerAttribute(ATTR_INTERMEDIATESETPOINTSLIFT));
     }
 
     /**
@@ -1594,11 +1599,11 @@ public class ZclWindowCoveringCluster extends ZclCluster {
      */
     @Deprecated
     public ByteArray getIntermediateSetpointsLift(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_INTERMEDIATESETPOINTSLIFT).isLastValueCurrent(refreshPeriod)) {
-            return (ByteArray) serverAttributes.get(ATTR_INTERMEDIATESETPOINTSLIFT).getLastValue();
+        if (getServerAttribute(ATTR_INTERMEDIATESETPOINTSLIFT).isLastValueCurrent(refreshPeriod)) {
+            return (ByteArray) getServerAttribute(ATTR_INTERMEDIATESETPOINTSLIFT).getLastValue();
         }
 
-        return (ByteArray) readSync(serverAttributes.get(ATTR_INTERMEDIATESETPOINTSLIFT));
+        return (ByteArray) readSync(getServerAttribute(ATTR_INTERMEDIATESETPOINTSLIFT));
     }
 
     /**
@@ -1619,7 +1624,7 @@ public class ZclWindowCoveringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> setIntermediateSetpointsTilt(final ByteArray value) {
-        return write(serverAttributes.get(ATTR_INTERMEDIATESETPOINTSTILT), value);
+        return write(getServerAttribute(ATTR_INTERMEDIATESETPOINTSTILT), value);
     }
 
     /**
@@ -1639,7 +1644,7 @@ public class ZclWindowCoveringCluster extends ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> getIntermediateSetpointsTiltAsync() {
-        return read(serverAttributes.get(ATTR_INTERMEDIATESETPOINTSTILT));
+        return read(getServerAttribute(ATTR_INTERMEDIATESETPOINTSTILT));
     }
 
     /**
@@ -1667,11 +1672,11 @@ public class ZclWindowCoveringCluster extends ZclCluster {
      */
     @Deprecated
     public ByteArray getIntermediateSetpointsTilt(final long refreshPeriod) {
-        if (serverAttributes.get(ATTR_INTERMEDIATESETPOINTSTILT).isLastValueCurrent(refreshPeriod)) {
-            return (ByteArray) serverAttributes.get(ATTR_INTERMEDIATESETPOINTSTILT).getLastValue();
+        if (getServerAttribute(ATTR_INTERMEDIATESETPOINTSTILT).isLastValueCurrent(refreshPeriod)) {
+            return (ByteArray) getServerAttribute(ATTR_INTERMEDIATESETPOINTSTILT).getLastValue();
         }
 
-        return (ByteArray) readSync(serverAttributes.get(ATTR_INTERMEDIATESETPOINTSTILT));
+        return (ByteArray) readSync(getServerAttribute(ATTR_INTERMEDIATESETPOINTSTILT));
     }
 
     /**
@@ -27,6 +27,18 @@ public class ByteArray {
         value = array;
     }
 
+    /**
+     * Constructor taking part of an existing byte array. The data is copied from the existing array.
+     *
+     * @param payload the existing byte array
+     * @param start the start offset of the array (inclusive)
+     * @param finish the end offset of the array (exclusive)
+     */
+    public ByteArray(byte[] payload, int start, int finish) {
+        value = new byte[finish - start];
+        System.arraycopy(payload, start, value, 0, finish - start);
+    }
+
     /**
      * Constructor taking part of an existing integer array
      *
@@ -7,6 +7,9 @@
  */
 package com.zsmartsystems.zigbee.zdo;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import com.zsmartsystems.zigbee.zdo.command.NetworkAddressRequest;
 import com.zsmartsystems.zigbee.zdo.command.IeeeAddressRequest;
 import com.zsmartsystems.zigbee.zdo.command.NodeDescriptorRequest;
@@ -585,6 +588,17 @@ public enum ZdoCommandType {
      */
     USER_DESCRIPTOR_SET_REQUEST(0x0014, UserDescriptorSetRequest.class);
 
+    /**
+     * A mapping between the cluster ID and the enum value
+     */
+    private static final Map<Integer, ZdoCommandType> idMap = new HashMap<>();
+
+    static {
+        for (final ZdoCommandType value : values()) {
+            idMap.put(value.clusterId, value);
+        }
+    }
+
     private final int clusterId;
     private final Class<? extends ZdoCommand> commandClass;
 
@@ -602,11 +616,6 @@ public enum ZdoCommandType {
     }
 
     public static ZdoCommandType getValueById(final int clusterId) {
-        for (final ZdoCommandType value : values()) {
-            if(value.clusterId == clusterId) {
-                return value;
-            }
-        }
-        return null;
+        return idMap.get(clusterId);
     }
 }
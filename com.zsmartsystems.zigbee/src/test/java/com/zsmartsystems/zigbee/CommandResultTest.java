@@ -44,4 +44,17 @@ public class CommandResultTest {
         assertFalse(result.isSuccess());
     }
 
+    @Test
+    public void testSuperseded() {
+        CommandResult result = new CommandResult();
+        assertFalse(result.isSuperseded());
+        assertTrue(result.isTimeout());
+
+        result = CommandResult.superseded();
+        assertTrue(result.isSuperseded());
+        assertFalse(result.isTimeout());
+        assertFalse(result.isSuccess());
+        assertTrue(result.isError());
+        assertTrue(result.toString().contains("SUPERSEDED"));
+    }
 }
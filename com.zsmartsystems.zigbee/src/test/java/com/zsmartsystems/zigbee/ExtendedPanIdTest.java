@@ -7,6 +7,7 @@
  */
 package com.zsmartsystems.zigbee;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
@@ -91,4 +92,13 @@ public class ExtendedPanIdTest {
         ExtendedPanId pan2 = ExtendedPanId.createRandom();
         assertNotEquals(pan1, pan2);
     }
+
+    @Test
+    public void testLong() {
+        ExtendedPanId panId = new ExtendedPanId(0x0017880100DC880BL);
+        assertEquals("0017880100DC880B", panId.toString());
+        assertEquals(0x0017880100DC880BL, panId.longValue());
+        assertArrayEquals(new int[] { 0x0b, 0x88, 0xdc, 0x00, 0x01, 0x88, 0x17, 0x00 }, panId.getValue());
+        assertEquals(panId, new ExtendedPanId(panId.getValue()));
+    }
 }
@@ -7,7 +7,11 @@
  */
 package com.zsmartsystems.zigbee;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import org.junit.Test;
@@ -86,4 +90,24 @@ public class IeeeAddressTest {
         address2 = new IeeeAddress("16880100dc880b");
         assertEquals(1, address1.compareTo(address2));
     }
+
+    @Test
+    public void testLong() {
+        IeeeAddress address = new IeeeAddress(0x8418260000D9959BL);
+        assertEquals("8418260000D9959B", address.toString());
+        assertEquals(0x8418260000D9959BL, address.longValue());
+        assertEquals(new IeeeAddress("8418260000D9959B"), address);
+        assertArrayEquals(new int[] { 0x9B, 0x95, 0xD9, 0x00, 0x00, 0x26, 0x18, 0x84 }, address.getValue());
+        assertEquals(address, new IeeeAddress(address.getValue()));
+        assertFalse(address.equals(new IeeeAddress(0x8418260000D9959AL)));
+    }
+
+    @Test
+    public void testIntern() {
+        IeeeAddress address1 = new IeeeAddress("17880100dc880b");
+        IeeeAddress address2 = new IeeeAddress("17880100dc880b");
+        assertNotSame(address1, address2);
+        assertSame(address1.intern(), address2.intern());
+        assertSame(address1.intern(), address1.intern());
+    }
 }
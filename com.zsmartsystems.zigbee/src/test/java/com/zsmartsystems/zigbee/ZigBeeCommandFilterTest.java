@@ -0,0 +1,68 @@
+/**
+ * Copyright (c) 2016-2019 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import com.zsmartsystems.zigbee.zcl.ZclCommand;
+import com.zsmartsystems.zigbee.zcl.clusters.onoff.OnCommand;
+import com.zsmartsystems.zigbee.zdo.command.DeviceAnnounce;
+
+/**
+ *
+ * @author agent
+ *
+ */
+public class ZigBeeCommandFilterTest {
+    @Test
+    public void isMatchAll() {
+        ZigBeeCommandFilter filter = new ZigBeeCommandFilter();
+        assertTrue(filter.isMatch(new OnCommand()));
+        assertTrue(filter.isMatch(new DeviceAnnounce()));
+    }
+
+    @Test
+    public void isMatchCommandClass() {
+        ZigBeeCommandFilter filter = new ZigBeeCommandFilter(DeviceAnnounce.class);
+        assertFalse(filter.isMatch(new OnCommand()));
+        assertTrue(filter.isMatch(new DeviceAnnounce()));
+
+        filter = new ZigBeeCommandFilter();
+        filter.addCommandClass(ZclCommand.class);
+        assertTrue(filter.isMatch(new OnCommand()));
+        assertFalse(filter.isMatch(new DeviceAnnounce()));
+    }
+
+    @Test
+    public void isMatchClusterId() {
+        ZigBeeCommandFilter filter = new ZigBeeCommandFilter();
+        filter.addClusterId(6);
+        assertTrue(filter.isMatch(new OnCommand()));
+        assertFalse(filter.isMatch(new DeviceAnnounce()));
+    }
+
+    @Test
+    public void isMatchSourceAddress() {
+        ZigBeeCommandFilter filter = new ZigBeeCommandFilter();
+        filter.setSourceAddress(1234);
+
+        OnCommand command = new OnCommand();
+        assertFalse(filter.isMatch(command));
+        command.setSourceAddress(new ZigBeeEndpointAddress(4321, 1));
+        assertFalse(filter.isMatch(command));
+        command.setSourceAddress(new ZigBeeEndpointAddress(1234, 1));
+        assertTrue(filter.isMatch(command));
+
+        filter.setSourceAddress(null);
+        command.setSourceAddress(new ZigBeeEndpointAddress(4321, 1));
+        assertTrue(filter.isMatch(command));
+    }
+}
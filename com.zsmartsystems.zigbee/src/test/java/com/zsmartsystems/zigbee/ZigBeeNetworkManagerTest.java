@@ -45,9 +45,11 @@ import com.zsmartsystems.zigbee.aps.ZigBeeApsFrame;
 import com.zsmartsystems.zigbee.database.ZigBeeNetworkDataStore;
 import com.zsmartsystems.zigbee.database.ZigBeeNetworkDatabaseManager;
 import com.zsmartsystems.zigbee.internal.NotificationService;
+import com.zsmartsystems.zigbee.internal.ZigBeeTimerService;
 import com.zsmartsystems.zigbee.security.ZigBeeKey;
 import com.zsmartsystems.zigbee.serialization.DefaultDeserializer;
 import com.zsmartsystems.zigbee.serialization.DefaultSerializer;
+import com.zsmartsystems.zigbee.transaction.ZigBeeTransactionAdmissionStatus;
 import com.zsmartsystems.zigbee.transaction.ZigBeeTransactionManager;
 import com.zsmartsystems.zigbee.transport.ZigBeeTransportState;
 import com.zsmartsystems.zigbee.transport.ZigBeeTransportTransmit;
@@ -239,6 +241,39 @@ public class ZigBeeNetworkManagerTest
         assertEquals(Integer.valueOf(5678), nodeWeGot.getNetworkAddress());
     }
 
+    @Test
+    public void testGetNodeByNetworkAddress() throws Exception {
+        ZigBeeNetworkManager networkManager = mockZigBeeNetworkManager();
+
+        ZigBeeNode node1 = new ZigBeeNode(networkManager, new IeeeAddress("1111111111111111"), 1111);
+        ZigBeeNode node2 = new ZigBeeNode(networkManager, new IeeeAddress("2222222222222222"), 2222);
+        networkManager.updateNode(node1);
+        networkManager.updateNode(node2);
+        assertEquals(node1, networkManager.getNode(1111));
+        assertEquals(node2, networkManager.getNode(2222));
+        assertNull(networkManager.getNode(3333));
+        assertNull(networkManager.getNode((Integer) null));
+
+        // Address changed on a copy of the node
+        networkManager.updateNode(new ZigBeeNode(networkManager, new IeeeAddress("1111111111111111"), 3333));
+        assertNull(networkManager.getNode(1111));
+        assertEquals(node1, networkManager.getNode(3333));
+
+        // Address reused by another node, changed directly on the node before it is updated
+        node2.setNetworkAddress(1111);
+        networkManager.updateNode(node2);
+        assertEquals(node2, networkManager.getNode(1111));
+        assertNull(networkManager.getNode(2222));
+
+        // An address changed without updating the network manager is not found through the stale index entry
+        node2.setNetworkAddress(4444);
+        assertNull(networkManager.getNode(1111));
+
+        networkManager.removeNode(node2);
+        assertNull(networkManager.getNode(1111));
+        assertEquals(node1, networkManager.getNode(3333));
+    }
+
     @Test
     public void testAddRemoveGroup() throws Exception {
         ZigBeeNetworkManager networkManager = mockZigBeeNetworkManager();
@@ -567,6 +602,20 @@ public class ZigBeeNetworkManagerTest
                 .sendTransaction(ArgumentMatchers.any(ZigBeeCommand.class));
     }
 
+    @Test
+    public void trySendTransaction() throws Exception {
+        ZigBeeNetworkManager networkManager = mockZigBeeNetworkManager();
+        ZigBeeTransactionManager transactionManager = Mockito.mock(ZigBeeTransactionManager.class);
+        TestUtilities.setField(ZigBeeNetworkManager.class, networkManager, "transactionManager", transactionManager);
+        assertEquals(transactionManager, networkManager.getTransactionManager());
+
+        ZigBeeCommand command = new ZigBeeCommand();
+        Mockito.when(transactionManager.trySendTransaction(command, null, null))
+                .thenReturn(ZigBeeTransactionAdmissionStatus.REJECTED);
+        assertEquals(ZigBeeTransactionAdmissionStatus.REJECTED, networkManager.trySendTransaction(command, null, null));
+        assertNotNull(command.getSourceAddress());
+    }
+
     private ZigBeeNetworkManager mockZigBeeNetworkManager() throws Exception {
         mockedTransport = Mockito.mock(ZigBeeTransportTransmit.class);
         mockedStateListener = Mockito.mock(ZigBeeNetworkStateListener.class);
@@ -1088,6 +1137,8 @@ public class ZigBeeNetworkManagerTest
         ZigBeeNetworkManager networkManager = mockZigBeeNetworkManager();
         ScheduledExecutorService scheduler = Mockito.mock(ScheduledExecutorService.class);
         TestUtilities.setField(ZigBeeNetworkManager.class, networkManager, "executorService", scheduler);
+        ZigBeeTimerService timerService = Mockito.mock(ZigBeeTimerService.class);
+        TestUtilities.setField(ZigBeeNetworkManager.class, networkManager, "timerService", timerService);
 
         assertNull(networkManager.scheduleTask(Mockito.mock(Runnable.class), 0, 0));
         assertNull(networkManager.scheduleTask(Mockito.mock(Runnable.class), 0, 1));
@@ -1098,22 +1149,24 @@ public class ZigBeeNetworkManagerTest
         TestUtilities.setField(ZigBeeNetworkManager.class, networkManager, "networkState", ZigBeeNetworkState.ONLINE);
 
         networkManager.scheduleTask(Mockito.mock(Runnable.class), 0, 0);
-        Mockito.verify(scheduler, Mockito.times(2)).schedule(ArgumentMatchers.any(Runnable.class),
-                ArgumentMatchers.anyLong(), ArgumentMatchers.any(TimeUnit.class));
+        Mockito.verify(timerService, Mockito.times(2)).schedule(ArgumentMatchers.any(Runnable.class),
+                ArgumentMatchers.anyLong());
 
         networkManager.scheduleTask(Mockito.mock(Runnable.class), 0, 1);
         Mockito.verify(scheduler, Mockito.times(2)).scheduleAtFixedRate(ArgumentMatchers.any(Runnable.class),
                 ArgumentMatchers.anyLong(), ArgumentMatchers.anyLong(), ArgumentMatchers.any(TimeUnit.class));
 
         networkManager.scheduleTask(Mockito.mock(Runnable.class), 0);
-        Mockito.verify(scheduler, Mockito.times(3)).schedule(ArgumentMatchers.any(Runnable.class),
-                ArgumentMatchers.anyLong(), ArgumentMatchers.any(TimeUnit.class));
+        Mockito.verify(timerService, Mockito.times(3)).schedule(ArgumentMatchers.any(Runnable.class),
+                ArgumentMatchers.anyLong());
 
         networkManager.executeTask(Mockito.mock(Runnable.class));
         Mockito.verify(scheduler, Mockito.times(1)).execute(ArgumentMatchers.any(Runnable.class));
 
         networkManager.rescheduleTask(Mockito.mock(ScheduledFuture.class), Mockito.mock(Runnable.class), 0);
-        Mockito.verify(scheduler, Mockito.times(4)).schedule(ArgumentMatchers.any(Runnable.class),
+        Mockito.verify(timerService, Mockito.times(4)).schedule(ArgumentMatchers.any(Runnable.class),
+                ArgumentMatchers.anyLong());
+        Mockito.verify(scheduler, Mockito.never()).schedule(ArgumentMatchers.any(Runnable.class),
                 ArgumentMatchers.anyLong(), ArgumentMatchers.any(TimeUnit.class));
     }
 
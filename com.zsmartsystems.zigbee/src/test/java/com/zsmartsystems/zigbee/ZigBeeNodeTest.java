@@ -15,6 +15,7 @@ import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 import java.lang.reflect.Field;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
@@ -31,6 +32,9 @@ import org.mockito.invocation.InvocationOnMock;
 import org.mockito.stubbing.Answer;
 
 import com.zsmartsystems.zigbee.ZigBeeNode.ZigBeeNodeState;
+import com.zsmartsystems.zigbee.database.ZclClusterDao;
+import com.zsmartsystems.zigbee.database.ZigBeeEndpointDao;
+import com.zsmartsystems.zigbee.database.ZigBeeNodeDao;
 import com.zsmartsystems.zigbee.internal.NotificationService;
 import com.zsmartsystems.zigbee.serialization.DefaultDeserializer;
 import com.zsmartsystems.zigbee.transaction.ZigBeeTransactionFuture;
@@ -476,6 +480,35 @@ public class ZigBeeNodeTest {
         node.removeNetworkEndpointListener(listener);
     }
 
+    @Test
+    public void getCommandFilter() {
+        ZigBeeNode node = new ZigBeeNode(Mockito.mock(ZigBeeNetworkManager.class), new IeeeAddress("1234567890"),
+                12345);
+        ZigBeeCommandFilter filter = node.getCommandFilter();
+
+        ZclCommand command = Mockito.mock(ZclCommand.class);
+        Mockito.when(command.getSourceAddress()).thenReturn(new ZigBeeEndpointAddress(12345, 1));
+        ZclCommand otherCommand = Mockito.mock(ZclCommand.class);
+        Mockito.when(otherCommand.getSourceAddress()).thenReturn(new ZigBeeEndpointAddress(1234, 1));
+        ZdoCommand zdoCommand = Mockito.mock(ZdoCommand.class);
+        Mockito.when(zdoCommand.getSourceAddress()).thenReturn(new ZigBeeEndpointAddress(12345));
+
+        assertTrue(filter.isMatch(command));
+        assertFalse(filter.isMatch(otherCommand));
+        assertFalse(filter.isMatch(zdoCommand));
+
+        // The registered filter follows changes to the network address
+        node.setNetworkAddress(1234);
+        assertFalse(filter.isMatch(command));
+        assertTrue(filter.isMatch(otherCommand));
+
+        ZigBeeNode updatedNode = new ZigBeeNode(Mockito.mock(ZigBeeNetworkManager.class),
+                new IeeeAddress("1234567890"), 12345);
+        assertTrue(node.updateNode(updatedNode));
+        assertTrue(filter.isMatch(command));
+        assertFalse(filter.isMatch(otherCommand));
+    }
+
     @Test
     public void commandReceived() {
         ZigBeeNetworkManager networkManager = Mockito.mock(ZigBeeNetworkManager.class);
@@ -587,4 +620,48 @@ public class ZigBeeNodeTest {
         Future<ZigBeeStatus> future = node.updateBindingTable();
         assertEquals(ZigBeeStatus.UNSUPPORTED, future.get());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void getDeltaDao() {
+        ZigBeeNode node = new ZigBeeNode(Mockito.mock(ZigBeeNetworkManager.class), new IeeeAddress("1234567890"));
+        node.setNetworkAddress(1234);
+        ZigBeeEndpoint endpoint = new ZigBeeEndpoint(node, 1);
+        endpoint.setInputClusterIds(Collections.singletonList(6));
+        endpoint.setOutputClusterIds(Collections.singletonList(8));
+        node.addEndpoint(endpoint);
+
+        // A new node always requires the full DAO
+        assertTrue(node.isDirty());
+        ZigBeeNodeDao nodeDao = node.getDeltaDao();
+        assertFalse(nodeDao.isDelta());
+        assertEquals(1, nodeDao.getEndpoints().size());
+        assertFalse(node.isDirty());
+        assertNull(node.getDeltaDao());
+
+        // Attribute updates only include the changed attribute
+        endpoint.getInputCluster(6).getAttribute(0).updateValue(Boolean.TRUE);
+        assertTrue(node.isDirty());
+        nodeDao = node.getDeltaDao();
+        assertTrue(nodeDao.isDelta());
+        assertEquals(new IeeeAddress("1234567890"), nodeDao.getIeeeAddress());
+        assertNull(nodeDao.getNetworkAddress());
+        assertEquals(1, nodeDao.getEndpoints().size());
+        ZigBeeEndpointDao endpointDao = nodeDao.getEndpoints().get(0);
+        assertEquals(1, endpointDao.getEndpointId());
+        assertTrue(endpointDao.getOutputClusters().isEmpty());
+        assertEquals(1, endpointDao.getInputClusters().size());
+        ZclClusterDao clusterDao = endpointDao.getInputClusters().get(0);
+        assertEquals(6, clusterDao.getClusterId());
+        assertNull(clusterDao.getSupportedCommandsGenerated());
+        assertEquals(Collections.singleton(0), clusterDao.getAttributes().keySet());
+        assertEquals(Boolean.TRUE, clusterDao.getAttributes().get(0).getLastValue());
+        assertNull(node.getDeltaDao());
+
+        // Node changes require the full DAO
+        node.setNetworkAddress(4321);
+        nodeDao = node.getDeltaDao();
+        assertFalse(nodeDao.isDelta());
+        assertEquals(Integer.valueOf(4321), nodeDao.getNetworkAddress());
+        assertNull(node.getDeltaDao());
+    }
+}
@@ -248,4 +248,49 @@ public class ZigBeeNetworkDiscovererTest {
         assertEquals(new IeeeAddress("1111111111111111"), node.getIeeeAddress());
         assertEquals(0, node.getEndpoints().size());
     }
+
+    @Test
+    public void maxActiveDiscoveries() throws Exception {
+        // Transactions that don't complete keep the discovery active
+        final List<ZigBeeTransactionFuture> futures = new ArrayList<>();
+        Mockito.doAnswer(new Answer<Future<CommandResult>>() {
+            @Override
+            public Future<CommandResult> answer(InvocationOnMock invocation) {
+                ZigBeeTransactionFuture future = new ZigBeeTransactionFuture();
+                synchronized (futures) {
+                    futures.add(future);
+                }
+                return future;
+            }
+        }).when(networkManager).sendTransaction(ArgumentMatchers.any(ZigBeeCommand.class),
+                ArgumentMatchers.any(ZigBeeTransactionMatcher.class));
+
+        ZigBeeNetworkDiscoverer discoverer = new ZigBeeNetworkDiscoverer(networkManager);
+        discoverer.setMaxActiveDiscoveries(2);
+        TestUtilities.setField(ZigBeeNetworkDiscoverer.class, discoverer, "initialized", true);
+
+        discoverer.rediscoverNode(1111);
+        discoverer.rediscoverNode(2222);
+        discoverer.rediscoverNode(3333);
+
+        // Only two discoveries are started - the third is queued
+        Mockito.verify(networkManager, Mockito.timeout(TIMEOUT).times(3)).executeTask(ArgumentMatchers.any());
+        Mockito.verify(networkManager, Mockito.after(500).times(2)).sendTransaction(ArgumentMatchers.any(),
+                ArgumentMatchers.any());
+
+        // Completing the first discovery frees a slot, and the queued discovery starts
+        ZigBeeTransactionFuture firstFuture;
+        synchronized (futures) {
+            firstFuture = futures.get(0);
+        }
+        firstFuture.set(new CommandResult());
+        Mockito.verify(networkManager, Mockito.timeout(TIMEOUT).times(3)).sendTransaction(ArgumentMatchers.any(),
+                ArgumentMatchers.any());
+
+        // The limit is still enforced with the queue empty
+        discoverer.rediscoverNode(4444);
+        Mockito.verify(networkManager, Mockito.timeout(TIMEOUT).times(5)).executeTask(ArgumentMatchers.any());
+        Mockito.verify(networkManager, Mockito.after(500).times(3)).sendTransaction(ArgumentMatchers.any(),
+                ArgumentMatchers.any());
+    }
 }
@@ -184,6 +184,43 @@ public class ZclOtaUpgradeServerTest implements ZigBeeOtaStatusCallback {
         assertEquals(ZigBeeOtaServerStatus.OTA_CANCELLED, server.getServerStatus());
     }
 
+    @Test
+    public void transferTimeout() throws Exception {
+        otaStatusCapture = new ArrayList<ZigBeeOtaServerStatus>();
+
+        ZigBeeNetworkManager networkManager = Mockito.mock(ZigBeeNetworkManager.class);
+        ZclOtaUpgradeCluster cluster = Mockito.mock(ZclOtaUpgradeCluster.class);
+        ZclOtaUpgradeServer server = new ZclOtaUpgradeServer(networkManager);
+        assertEquals(ZigBeeStatus.SUCCESS, server.appStartup(cluster));
+        server.addListener(this);
+        server.setAutoUpgrade(false);
+        server.setAllowExistingFile(true);
+        server.setTransferTimeoutPeriod(12345);
+
+        ZigBeeOtaFile otaFile = Mockito.mock(ZigBeeOtaFile.class);
+        Mockito.when(otaFile.getManufacturerCode()).thenReturn(123);
+        Mockito.when(otaFile.getImageType()).thenReturn(987);
+        server.setFirmware(otaFile);
+
+        QueryNextImageCommand query = new QueryNextImageCommand();
+        query.setClusterId(ZclOtaUpgradeCluster.CLUSTER_ID);
+        query.setManufacturerCode(123);
+        query.setImageType(987);
+        server.commandReceived(query);
+
+        // The transfer timeout is scheduled with the network manager
+        ArgumentCaptor<Runnable> timerCaptor = ArgumentCaptor.forClass(Runnable.class);
+        Mockito.verify(networkManager, Mockito.timeout(1000)).scheduleTask(timerCaptor.capture(),
+                ArgumentMatchers.eq(12345L));
+
+        timerCaptor.getValue().run();
+        await().atMost(1, SECONDS)
+                .until(() -> assertTrue(otaStatusCapture.contains(ZigBeeOtaServerStatus.OTA_UPGRADE_FAILED)));
+        assertEquals(ZigBeeOtaServerStatus.OTA_UPGRADE_FAILED, server.getServerStatus());
+
+        server.appShutdown();
+    }
+
     @Test
     public void getClusterId() {
         ZclOtaUpgradeServer server = new ZclOtaUpgradeServer();
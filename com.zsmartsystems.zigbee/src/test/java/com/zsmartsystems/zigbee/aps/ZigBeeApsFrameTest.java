@@ -10,8 +10,11 @@ package com.zsmartsystems.zigbee.aps;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import java.util.Arrays;
+
 import org.junit.Test;
 
 /**
@@ -67,4 +70,22 @@ public class ZigBeeApsFrameTest {
         assertEquals(1, frame.getGroupAddress());
     }
 
+    @Test
+    public void testPayload() {
+        ZigBeeApsFrame frame = new ZigBeeApsFrame();
+        assertEquals(0, frame.getPayloadLength());
+        assertNull(frame.getPayload());
+
+        frame.setPayload(new int[] { 0x00, 0x7F, 0x80, 0xFF });
+        assertEquals(4, frame.getPayloadLength());
+        assertTrue(Arrays.equals(new byte[] { 0x00, 0x7F, (byte) 0x80, (byte) 0xFF }, frame.getPayloadBytes()));
+        assertTrue(Arrays.equals(new int[] { 0x00, 0x7F, 0x80, 0xFF }, frame.getPayload()));
+
+        byte[] payload = new byte[] { 0x11, (byte) 0xEE };
+        frame.setPayloadBytes(payload);
+        assertTrue(payload == frame.getPayloadBytes());
+        assertTrue(Arrays.equals(new int[] { 0x11, 0xEE }, frame.getPayload()));
+        assertTrue(frame.toString().contains("payload=11 EE]"));
+    }
+
 }
@@ -0,0 +1,503 @@
+/**
+ * Copyright (c) 2016-2019 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.database;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.CRC32;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.zsmartsystems.zigbee.IeeeAddress;
+import com.zsmartsystems.zigbee.security.ZigBeeKey;
+import com.zsmartsystems.zigbee.serialization.DefaultDeserializer;
+import com.zsmartsystems.zigbee.zcl.ZclStatus;
+import com.zsmartsystems.zigbee.zcl.field.ByteArray;
+import com.zsmartsystems.zigbee.zcl.field.ZclArrayList;
+import com.zsmartsystems.zigbee.zcl.field.ZclDataPair;
+import com.zsmartsystems.zigbee.zcl.protocol.ZclDataType;
+import com.zsmartsystems.zigbee.zdo.ZdoStatus;
+import com.zsmartsystems.zigbee.zdo.field.BindingTable;
+import com.zsmartsystems.zigbee.zdo.field.NodeDescriptor;
+import com.zsmartsystems.zigbee.zdo.field.PowerDescriptor;
+
+/**
+ *
+ * @author agent
+ *
+ */
+public class ZigBeeBinaryNetworkDataStoreTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private ZigBeeNodeDao createNodeDao(IeeeAddress address, int networkAddress) {
+        ZigBeeNodeDao node = new ZigBeeNodeDao();
+        node.setIeeeAddress(address);
+        node.setNetworkAddress(networkAddress);
+
+        NodeDescriptor nodeDescriptor = new NodeDescriptor();
+        nodeDescriptor.deserialize(new DefaultDeserializer(
+                new int[] { 0x01, 0x40, 0x8E, 0x7F, 0x10, 0x52, 0x52, 0x00, 0x00, 0x2C, 0x52, 0x00, 0x00 }));
+        node.setNodeDescriptor(nodeDescriptor);
+
+        PowerDescriptor powerDescriptor = new PowerDescriptor();
+        powerDescriptor.deserialize(new DefaultDeserializer(new int[] { 0x10, 0xC1 }));
+        node.setPowerDescriptor(powerDescriptor);
+
+        ZclAttributeDao attribute = new ZclAttributeDao();
+        attribute.setId(0);
+        attribute.setName("On Off");
+        attribute.setDataType(ZclDataType.BOOLEAN);
+        attribute.setImplemented(true);
+        attribute.setReportable(true);
+        attribute.setMinimumReportingPeriod(1);
+        attribute.setMaximumReportingPeriod(900);
+        attribute.setLastValue(Boolean.TRUE);
+        attribute.setLastReportTime(Calendar.getInstance());
+        ZclAttributeDao attributeBytes = new ZclAttributeDao();
+        attributeBytes.setId(5);
+        attributeBytes.setDataType(ZclDataType.OCTET_STRING);
+        attributeBytes.setLastValue(new ByteArray(new byte[] { 1, 2, 3 }));
+        Map<Integer, ZclAttributeDao> attributes = new HashMap<>();
+        attributes.put(attribute.getId(), attribute);
+        attributes.put(attributeBytes.getId(), attributeBytes);
+
+        ZclClusterDao cluster = new ZclClusterDao();
+        cluster.setClusterId(6);
+        cluster.setLabel("On/Off");
+        cluster.setAttributes(attributes);
+        cluster.setSupportedCommandsGenerated(Collections.singleton(1));
+        cluster.setSupportedCommandsReceived(new HashSet<Integer>());
+
+        ZigBeeEndpointDao endpoint = new ZigBeeEndpointDao();
+        endpoint.setEndpointId(1);
+        endpoint.setProfileId(0x104);
+        endpoint.setDeviceId(0x100);
+        endpoint.setDeviceVersion(1);
+        endpoint.setInputClusterIds(Collections.singleton(6));
+        endpoint.setInputClusters(Collections.singletonList(cluster));
+        node.setEndpoints(Collections.singletonList(endpoint));
+
+        BindingTable binding = new BindingTable();
+        binding.deserialize(new DefaultDeserializer(new int[] { 0x01, 0x02, 0x03, 0x04, 0x05, 0x06, 0x07, 0x08, 0x01,
+                0x06, 0x00, 0x01, 0x34, 0x12 }));
+        Set<BindingTable> bindingTable = new HashSet<>();
+        bindingTable.add(binding);
+        node.setBindingTable(bindingTable);
+
+        return node;
+    }
+
+    @Test
+    public void writeAndRestore() throws IOException {
+        File file = new File(folder.getRoot(), "network.db");
+        IeeeAddress address = new IeeeAddress("1234567890ABCDEF");
+        ZigBeeNodeDao nodeDao = createNodeDao(address, 12345);
+
+        ZigBeeBinaryNetworkDataStore dataStore = new ZigBeeBinaryNetworkDataStore(file);
+        assertTrue(dataStore.readNetworkNodes().isEmpty());
+        dataStore.writeNode(nodeDao);
+        dataStore.close();
+
+        dataStore = new ZigBeeBinaryNetworkDataStore(file);
+        assertEquals(Collections.singleton(address), dataStore.readNetworkNodes());
+
+        ZigBeeNodeDao restored = dataStore.readNode(address);
+        assertEquals(address, restored.getIeeeAddress());
+        assertEquals(Integer.valueOf(12345), restored.getNetworkAddress());
+        assertEquals(nodeDao.getNodeDescriptor(), restored.getNodeDescriptor());
+        assertEquals(nodeDao.getPowerDescriptor(), restored.getPowerDescriptor());
+        assertEquals(nodeDao.getBindingTable(), restored.getBindingTable());
+
+        assertEquals(1, restored.getEndpoints().size());
+        ZigBeeEndpointDao endpoint = restored.getEndpoints().get(0);
+        assertEquals(1, endpoint.getEndpointId());
+        assertEquals(Integer.valueOf(0x104), endpoint.getProfileId());
+        assertEquals(Integer.valueOf(0x100), endpoint.getDeviceId());
+        assertEquals(Collections.singletonList(6), endpoint.getInputClusterIds());
+        assertTrue(endpoint.getOutputClusters().isEmpty());
+
+        ZclClusterDao cluster = endpoint.getInputClusters().get(0);
+        assertEquals(6, cluster.getClusterId());
+        assertEquals("On/Off", cluster.getLabel());
+        assertNull(cluster.getSupportedAttributes());
+        assertEquals(Collections.singleton(1), cluster.getSupportedCommandsGenerated());
+        assertTrue(cluster.getSupportedCommandsReceived().isEmpty());
+
+        ZclAttributeDao attribute = cluster.getAttributes().get(0);
+        assertEquals("On Off", attribute.getName());
+        assertEquals(ZclDataType.BOOLEAN, attribute.getDataType());
+        assertTrue(attribute.isImplemented());
+        assertTrue(attribute.isReportable());
+        assertEquals(900, attribute.getMaximumReportingPeriod());
+        assertEquals(Boolean.TRUE, attribute.getLastValue());
+        assertEquals(nodeDao.getEndpoints().get(0).getInputClusters().get(0).getAttributes().get(0)
+                .getLastReportTime().getTimeInMillis(), attribute.getLastReportTime().getTimeInMillis());
+        assertEquals(new ByteArray(new byte[] { 1, 2, 3 }), cluster.getAttributes().get(5).getLastValue());
+    }
+
+    @Test
+    public void removeNode() {
+        File file = new File(folder.getRoot(), "network.db");
+        IeeeAddress address1 = new IeeeAddress("1234567890ABCDEF");
+        IeeeAddress address2 = new IeeeAddress("FEDCBA0987654321");
+
+        ZigBeeBinaryNetworkDataStore dataStore = new ZigBeeBinaryNetworkDataStore(file);
+        dataStore.writeNode(createNodeDao(address1, 1));
+        dataStore.writeNode(createNodeDao(address2, 2));
+        dataStore.removeNode(address1);
+        assertNull(dataStore.readNode(address1));
+        dataStore.close();
+
+        dataStore = new ZigBeeBinaryNetworkDataStore(file);
+        assertEquals(Collections.singleton(address2), dataStore.readNetworkNodes());
+        assertEquals(Integer.valueOf(2), dataStore.readNode(address2).getNetworkAddress());
+    }
+
+    @Test
+    public void writeNodes() {
+        File file = new File(folder.getRoot(), "network.db");
+        IeeeAddress address1 = new IeeeAddress("1234567890ABCDEF");
+        IeeeAddress address2 = new IeeeAddress("FEDCBA0987654321");
+
+        ZigBeeBinaryNetworkDataStore dataStore = new ZigBeeBinaryNetworkDataStore(file);
+        dataStore.writeNodes(Arrays.asList(createNodeDao(address1, 1), createNodeDao(address2, 2)));
+        dataStore.close();
+
+        dataStore = new ZigBeeBinaryNetworkDataStore(file);
+        assertEquals(2, dataStore.readNetworkNodes().size());
+        assertEquals(Integer.valueOf(1), dataStore.readNode(address1).getNetworkAddress());
+        assertEquals(Integer.valueOf(2), dataStore.readNode(address2).getNetworkAddress());
+    }
+
+    private ZigBeeNodeDao createDeltaDao(IeeeAddress address, Object value) {
+        ZclAttributeDao attribute = new ZclAttributeDao();
+        attribute.setId(0);
+        attribute.setName("On Off");
+        attribute.setDataType(ZclDataType.BOOLEAN);
+        attribute.setLastValue(value);
+
+        ZclClusterDao cluster = new ZclClusterDao();
+        cluster.setClusterId(6);
+        cluster.setAttributes(Collections.singletonMap(0, attribute));
+
+        ZigBeeEndpointDao endpoint = new ZigBeeEndpointDao();
+        endpoint.setEndpointId(1);
+        endpoint.setInputClusters(Collections.singletonList(cluster));
+
+        ZigBeeNodeDao node = new ZigBeeNodeDao();
+        node.setDelta(true);
+        node.setIeeeAddress(address);
+        node.setEndpoints(Collections.singletonList(endpoint));
+        return node;
+    }
+
+    @Test
+    public void writeDelta() {
+        File file = new File(folder.getRoot(), "network.db");
+        IeeeAddress address = new IeeeAddress("1234567890ABCDEF");
+
+        ZigBeeBinaryNetworkDataStore dataStore = new ZigBeeBinaryNetworkDataStore(file);
+        assertTrue(dataStore.isDeltaSupported());
+        dataStore.writeNode(createNodeDao(address, 1));
+        long fullLength = file.length();
+        dataStore.writeNode(createDeltaDao(address, Boolean.FALSE));
+        assertTrue(file.length() - fullLength < fullLength);
+
+        // Deltas for unknown nodes are ignored
+        dataStore.writeNode(createDeltaDao(new IeeeAddress("FEDCBA0987654321"), Boolean.FALSE));
+        assertEquals(1, dataStore.readNetworkNodes().size());
+
+        ZigBeeNodeDao restored = dataStore.readNode(address);
+        assertFalse(restored.isDelta());
+        Map<Integer, ZclAttributeDao> attributes = restored.getEndpoints().get(0).getInputClusters().get(0)
+                .getAttributes();
+        assertEquals(Boolean.FALSE, attributes.get(0).getLastValue());
+        assertEquals(new ByteArray(new byte[] { 1, 2, 3 }), attributes.get(5).getLastValue());
+        dataStore.close();
+
+        // Ensure deltas are restored from the log, and merged when the maximum number is reached
+        dataStore = new ZigBeeBinaryNetworkDataStore(file);
+        assertEquals(Boolean.FALSE, dataStore.readNode(address).getEndpoints().get(0).getInputClusters().get(0)
+                .getAttributes().get(0).getLastValue());
+        for (int cnt = 0; cnt < 20; cnt++) {
+            dataStore.writeNode(createDeltaDao(address, cnt));
+        }
+        assertEquals(19, dataStore.readNode(address).getEndpoints().get(0).getInputClusters().get(0).getAttributes()
+                .get(0).getLastValue());
+
+        dataStore.compact();
+        dataStore.close();
+        dataStore = new ZigBeeBinaryNetworkDataStore(file);
+        restored = dataStore.readNode(address);
+        assertEquals(Integer.valueOf(1), restored.getNetworkAddress());
+        assertEquals(19, restored.getEndpoints().get(0).getInputClusters().get(0).getAttributes().get(0)
+                .getLastValue());
+    }
+
+    @Test
+    public void compaction() {
+        File file = new File(folder.getRoot(), "network.db");
+        IeeeAddress address = new IeeeAddress("1234567890ABCDEF");
+
+        ZigBeeBinaryNetworkDataStore dataStore = new ZigBeeBinaryNetworkDataStore(file);
+        dataStore.setCompactionRecordsMin(10);
+        dataStore.writeNode(createNodeDao(address, 1));
+        long singleLength = file.length();
+        for (int cnt = 2; cnt <= 25; cnt++) {
+            dataStore.writeNode(createNodeDao(address, cnt));
+        }
+        assertTrue(file.length() < singleLength * 10);
+        dataStore.close();
+
+        dataStore = new ZigBeeBinaryNetworkDataStore(file);
+        assertEquals(Integer.valueOf(25), dataStore.readNode(address).getNetworkAddress());
+    }
+
+    @Test
+    public void truncatedRecord() throws IOException {
+        File file = new File(folder.getRoot(), "network.db");
+        IeeeAddress address = new IeeeAddress("1234567890ABCDEF");
+
+        ZigBeeBinaryNetworkDataStore dataStore = new ZigBeeBinaryNetworkDataStore(file);
+        dataStore.writeNode(createNodeDao(address, 1));
+        long validLength = file.length();
+        dataStore.writeNode(createNodeDao(address, 2));
+        dataStore.close();
+
+        // Corrupt the last record
+        try (RandomAccessFile corruptFile = new RandomAccessFile(file, "rw")) {
+            corruptFile.setLength(file.length() - 3);
+        }
+
+        dataStore = new ZigBeeBinaryNetworkDataStore(file);
+        assertEquals(Integer.valueOf(1), dataStore.readNode(address).getNetworkAddress());
+        assertEquals(validLength, file.length());
+
+        dataStore.writeNode(createNodeDao(address, 3));
+        dataStore.close();
+        dataStore = new ZigBeeBinaryNetworkDataStore(file);
+        assertEquals(Integer.valueOf(3), dataStore.readNode(address).getNetworkAddress());
+    }
+
+    private Object writeAndRestoreValue(File file, Object value) {
+        IeeeAddress address = new IeeeAddress("1234567890ABCDEF");
+        ZigBeeBinaryNetworkDataStore dataStore = new ZigBeeBinaryNetworkDataStore(file);
+        dataStore.writeNode(createNodeDao(address, 1));
+        dataStore.writeNode(createDeltaDao(address, value));
+        dataStore.close();
+
+        dataStore = new ZigBeeBinaryNetworkDataStore(file);
+        Object restored = dataStore.readNode(address).getEndpoints().get(0).getInputClusters().get(0).getAttributes()
+                .get(0).getLastValue();
+        dataStore.close();
+        return restored;
+    }
+
+    @Test
+    public void attributeValues() {
+        File file = new File(folder.getRoot(), "network.db");
+
+        ZigBeeKey key = new ZigBeeKey("11223344556677889900AABBCCDDEEFF");
+        key.setAddress(new IeeeAddress("1234567890ABCDEF"));
+        key.setIncomingFrameCounter(123);
+        ZigBeeKey restoredKey = (ZigBeeKey) writeAndRestoreValue(file, key);
+        assertEquals(key, restoredKey);
+        assertEquals(new IeeeAddress("1234567890ABCDEF"), restoredKey.getAddress());
+        assertEquals(Integer.valueOf(123), restoredKey.getIncomingFrameCounter());
+        assertNull(restoredKey.getOutgoingFrameCounter());
+
+        assertEquals(ZclStatus.UNSUPPORTED_ATTRIBUTE, writeAndRestoreValue(file, ZclStatus.UNSUPPORTED_ATTRIBUTE));
+        assertEquals(ZdoStatus.NOT_SUPPORTED, writeAndRestoreValue(file, ZdoStatus.NOT_SUPPORTED));
+        assertEquals(ZclDataType.UNSIGNED_8_BIT_INTEGER,
+                writeAndRestoreValue(file, ZclDataType.UNSIGNED_8_BIT_INTEGER));
+
+        ZclArrayList array = new ZclArrayList(ZclDataType.UNSIGNED_16_BIT_INTEGER);
+        array.add(1);
+        array.add(2);
+        ZclArrayList restoredArray = (ZclArrayList) writeAndRestoreValue(file, array);
+        assertEquals(ZclDataType.UNSIGNED_16_BIT_INTEGER, restoredArray.getDataType());
+        assertEquals(Arrays.asList(1, 2), new ArrayList<Object>(restoredArray));
+
+        List<?> restoredList = (List<?>) writeAndRestoreValue(file, Collections
+                .singletonList(new ZclDataPair(ZclDataType.CHARACTER_STRING, "Value")));
+        assertEquals(1, restoredList.size());
+        ZclDataPair pair = (ZclDataPair) restoredList.get(0);
+        assertEquals(ZclDataType.CHARACTER_STRING, pair.getDataType());
+        assertEquals("Value", pair.getValue());
+    }
+
+    @Test
+    public void unsupportedValue() {
+        File file = new File(folder.getRoot(), "network.db");
+        IeeeAddress address = new IeeeAddress("1234567890ABCDEF");
+
+        ZigBeeBinaryNetworkDataStore dataStore = new ZigBeeBinaryNetworkDataStore(file);
+        dataStore.writeNode(createNodeDao(address, 1));
+        long length = file.length();
+
+        // The delta is not written rather than losing the value
+        dataStore.writeNode(createDeltaDao(address, new Object()));
+        assertEquals(length, file.length());
+        assertEquals(Boolean.TRUE, dataStore.readNode(address).getEndpoints().get(0).getInputClusters().get(0)
+                .getAttributes().get(0).getLastValue());
+    }
+
+    @Test
+    public void nullClusters() {
+        File file = new File(folder.getRoot(), "network.db");
+        IeeeAddress address = new IeeeAddress("1234567890ABCDEF");
+        ZigBeeNodeDao nodeDao = createNodeDao(address, 1);
+
+        // An endpoint restored by XStream from a file without the lists
+        ZigBeeEndpointDao endpointDao = new ZigBeeEndpointDao() {
+            @Override
+            public List<Integer> getOutputClusterIds() {
+                return null;
+            }
+
+            @Override
+            public List<ZclClusterDao> getInputClusters() {
+                return null;
+            }
+
+            @Override
+            public List<ZclClusterDao> getOutputClusters() {
+                return null;
+            }
+        };
+        endpointDao.setEndpointId(1);
+        nodeDao.setEndpoints(Collections.singletonList(endpointDao));
+
+        ZigBeeBinaryNetworkDataStore dataStore = new ZigBeeBinaryNetworkDataStore(file);
+        dataStore.writeNode(nodeDao);
+        dataStore.close();
+
+        dataStore = new ZigBeeBinaryNetworkDataStore(file);
+        ZigBeeEndpointDao endpoint = dataStore.readNode(address).getEndpoints().get(0);
+        assertTrue(endpoint.getOutputClusterIds().isEmpty());
+        assertTrue(endpoint.getInputClusters().isEmpty());
+        assertTrue(endpoint.getOutputClusters().isEmpty());
+    }
+
+    @Test
+    public void invalidFile() throws IOException {
+        File file = new File(folder.getRoot(), "network.db");
+        byte[] foreign = new byte[] { '<', '?', 'x', 'm', 'l', ' ' };
+        try (FileOutputStream output = new FileOutputStream(file)) {
+            output.write(foreign);
+        }
+
+        IeeeAddress address = new IeeeAddress("1234567890ABCDEF");
+        ZigBeeBinaryNetworkDataStore dataStore = new ZigBeeBinaryNetworkDataStore(file);
+        assertTrue(dataStore.readNetworkNodes().isEmpty());
+        dataStore.writeNode(createNodeDao(address, 1));
+        dataStore.close();
+
+        // The foreign file is moved aside unmodified, and a new log is started
+        File invalidFile = new File(folder.getRoot(), "network.db.invalid");
+        assertEquals(foreign.length, invalidFile.length());
+        dataStore = new ZigBeeBinaryNetworkDataStore(file);
+        assertEquals(Integer.valueOf(1), dataStore.readNode(address).getNetworkAddress());
+    }
+
+    @Test
+    public void writeFailure() {
+        File file = new File(folder.getRoot(), "network.db");
+        IeeeAddress address1 = new IeeeAddress("1234567890ABCDEF");
+        IeeeAddress address2 = new IeeeAddress("FEDCBA0987654321");
+
+        ZigBeeBinaryNetworkDataStore dataStore = new ZigBeeBinaryNetworkDataStore(file);
+        dataStore.writeNode(createNodeDao(address1, 1));
+        dataStore.close();
+
+        // Replace the log with a directory so that it can not be opened
+        assertTrue(file.delete());
+        assertTrue(file.mkdir());
+        try {
+            dataStore.writeNode(createNodeDao(address2, 2));
+            fail();
+        } catch (IllegalStateException e) {
+            // Expected
+        }
+        assertTrue(file.delete());
+
+        // The next write replaces the log, including the nodes that were not written
+        dataStore.writeNode(createDeltaDao(address1, Boolean.FALSE));
+        dataStore.close();
+
+        dataStore = new ZigBeeBinaryNetworkDataStore(file);
+        assertEquals(2, dataStore.readNetworkNodes().size());
+        assertEquals(Integer.valueOf(2), dataStore.readNode(address2).getNetworkAddress());
+        assertEquals(Boolean.FALSE, dataStore.readNode(address1).getEndpoints().get(0).getInputClusters().get(0)
+                .getAttributes().get(0).getLastValue());
+    }
+
+    @Test
+    public void invalidRecord() throws IOException {
+        File file = new File(folder.getRoot(), "network.db");
+        IeeeAddress address1 = new IeeeAddress("1234567890ABCDEF");
+        IeeeAddress address2 = new IeeeAddress("FEDCBA0987654321");
+
+        ZigBeeBinaryNetworkDataStore dataStore = new ZigBeeBinaryNetworkDataStore(file);
+        dataStore.writeNode(createNodeDao(address1, 1));
+        int firstLength = (int) file.length();
+        dataStore.writeNode(createNodeDao(address2, 2));
+        dataStore.close();
+
+        // Insert a complete record, with a valid checksum, that is too short to hold an address
+        byte[] log = Files.readAllBytes(file.toPath());
+        byte[] record = new byte[] { (byte) ZigBeeBinaryNetworkDataStore.RECORD_NODE, 0x12, 0x34 };
+        CRC32 crc = new CRC32();
+        crc.update(record);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream output = new DataOutputStream(bytes);
+        output.write(log, 0, firstLength);
+        output.writeInt(record.length);
+        output.write(record);
+        output.writeInt((int) crc.getValue());
+        output.write(log, firstLength, log.length - firstLength);
+        byte[] corruptLog = bytes.toByteArray();
+        Files.write(file.toPath(), corruptLog);
+
+        // The log is moved aside unmodified, and a new log is written with the nodes that were read
+        dataStore = new ZigBeeBinaryNetworkDataStore(file);
+        assertEquals(Collections.singleton(address1), dataStore.readNetworkNodes());
+        File invalidFile = new File(folder.getRoot(), "network.db.invalid");
+        assertTrue(Arrays.equals(corruptLog, Files.readAllBytes(invalidFile.toPath())));
+
+        dataStore.writeNode(createDeltaDao(address1, Boolean.FALSE));
+        dataStore.close();
+        dataStore = new ZigBeeBinaryNetworkDataStore(file);
+        assertEquals(Collections.singleton(address1), dataStore.readNetworkNodes());
+        assertEquals(Integer.valueOf(1), dataStore.readNode(address1).getNetworkAddress());
+        assertTrue(Arrays.equals(corruptLog, Files.readAllBytes(invalidFile.toPath())));
+    }
+}
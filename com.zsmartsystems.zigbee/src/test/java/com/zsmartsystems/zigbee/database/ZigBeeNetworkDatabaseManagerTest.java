@@ -7,16 +7,19 @@
  */
 package com.zsmartsystems.zigbee.database;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledFuture;
 
 import org.junit.Assert;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.ArgumentMatcher;
 import org.mockito.ArgumentMatchers;
 import org.mockito.Mockito;
@@ -104,16 +107,11 @@ public class ZigBeeNetworkDatabaseManagerTest {
         databaseManager.nodeUpdated(node);
         Mockito.verify(dataStore, Mockito.timeout(TIMEOUT).times(2)).writeNode(nodeDao);
 
-        Map<IeeeAddress, ScheduledFuture<?>> deferredWriteFutures = new ConcurrentHashMap<>();
-        Map<IeeeAddress, Long> deferredWriteTimes = new ConcurrentHashMap<>();
-
-        deferredWriteTimes.put(new IeeeAddress("1234567890ABCDEF"), Long.valueOf(0));
-        deferredWriteFutures.put(new IeeeAddress("1234567890ABCDEF"), Mockito.mock(ScheduledFuture.class));
-
-        TestUtilities.setField(ZigBeeNetworkDatabaseManager.class, databaseManager, "deferredWriteTimes",
-                deferredWriteTimes);
-        TestUtilities.setField(ZigBeeNetworkDatabaseManager.class, databaseManager, "deferredWriteFutures",
-                deferredWriteFutures);
+        // Set the maximum deferred time as already expired so the write is performed immediately
+        TestUtilities.setField(ZigBeeNetworkDatabaseManager.class, databaseManager, "deferredWriteTimeoutTime",
+                Long.valueOf(0));
+        TestUtilities.setField(ZigBeeNetworkDatabaseManager.class, databaseManager, "deferredWriteFuture",
+                Mockito.mock(ScheduledFuture.class));
         networkManager = Mockito.mock(ZigBeeNetworkManager.class);
         TestUtilities.setField(ZigBeeNetworkDatabaseManager.class, databaseManager, "networkManager", networkManager);
 
@@ -129,4 +127,79 @@ public class ZigBeeNetworkDatabaseManagerTest {
         databaseManager.shutdown();
         Mockito.verify(networkManager, Mockito.timeout(TIMEOUT).times(1)).removeNetworkNodeListener(databaseManager);
     }
+
+    @Test
+    public void writeNodesBatch() throws Exception {
+        ZigBeeNetworkManager networkManager = Mockito.mock(ZigBeeNetworkManager.class);
+        ZigBeeNetworkDatabaseManager databaseManager = new ZigBeeNetworkDatabaseManager(networkManager);
+        ZigBeeNetworkDataStore dataStore = Mockito.mock(ZigBeeNetworkDataStore.class);
+        Mockito.when(dataStore.readNetworkNodes()).thenReturn(new HashSet<IeeeAddress>());
+        databaseManager.setDataStore(dataStore);
+        databaseManager.startup();
+
+        databaseManager.setDeferredWriteTime(10000);
+        databaseManager.setMaxDeferredWriteTime(10000);
+
+        ZigBeeNode node1 = createNode("1234567890ABCDEF");
+        ZigBeeNode node2 = createNode("FEDCBA0987654321");
+        ZigBeeNode node3 = createNode("1111111111111111");
+
+        databaseManager.nodeAdded(node1);
+        databaseManager.nodeUpdated(node2);
+        databaseManager.nodeUpdated(node1);
+        databaseManager.nodeAdded(node3);
+        databaseManager.nodeRemoved(node3);
+
+        // The outstanding batch is written on shutdown
+        databaseManager.shutdown();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<ZigBeeNodeDao>> captor = ArgumentCaptor.forClass(Collection.class);
+        Mockito.verify(dataStore, Mockito.timeout(TIMEOUT).times(1)).writeNodes(captor.capture());
+        Mockito.verify(dataStore, Mockito.never()).writeNode(ArgumentMatchers.any(ZigBeeNodeDao.class));
+        Mockito.verify(dataStore, Mockito.times(1)).removeNode(new IeeeAddress("1111111111111111"));
+
+        Collection<ZigBeeNodeDao> nodes = captor.getValue();
+        assertEquals(2, nodes.size());
+        Set<IeeeAddress> addresses = new HashSet<>();
+        for (ZigBeeNodeDao nodeDao : nodes) {
+            addresses.add(nodeDao.getIeeeAddress());
+        }
+        assertTrue(addresses.contains(new IeeeAddress("1234567890ABCDEF")));
+        assertTrue(addresses.contains(new IeeeAddress("FEDCBA0987654321")));
+    }
+
+    @Test
+    public void writeNodeFailure() throws Exception {
+        ZigBeeNetworkManager networkManager = Mockito.mock(ZigBeeNetworkManager.class);
+        ZigBeeNetworkDatabaseManager databaseManager = new ZigBeeNetworkDatabaseManager(networkManager);
+        ZigBeeNetworkDataStore dataStore = Mockito.mock(ZigBeeNetworkDataStore.class);
+        Mockito.when(dataStore.readNetworkNodes()).thenReturn(new HashSet<IeeeAddress>());
+        Mockito.doThrow(new IllegalStateException()).doNothing().when(dataStore)
+                .writeNode(ArgumentMatchers.any(ZigBeeNodeDao.class));
+        databaseManager.setDataStore(dataStore);
+        databaseManager.startup();
+
+        databaseManager.setDeferredWriteTime(0);
+        databaseManager.setMaxDeferredWriteTime(10);
+
+        ZigBeeNode node = createNode("1234567890ABCDEF");
+        databaseManager.nodeUpdated(node);
+
+        // The node is marked to be written in full, and the write is retried without a further update
+        Mockito.verify(dataStore, Mockito.timeout(TIMEOUT).times(2)).writeNode(node.getDao());
+        Mockito.verify(node, Mockito.times(1)).setFullSnapshotRequired();
+
+        databaseManager.shutdown();
+    }
+
+    private ZigBeeNode createNode(String address) {
+        ZigBeeNodeDao nodeDao = new ZigBeeNodeDao();
+        nodeDao.setIeeeAddress(new IeeeAddress(address));
+
+        ZigBeeNode node = Mockito.mock(ZigBeeNode.class);
+        Mockito.when(node.getDao()).thenReturn(nodeDao);
+        Mockito.when(node.getIeeeAddress()).thenReturn(new IeeeAddress(address));
+        return node;
+    }
 }
@@ -7,6 +7,13 @@
  */
 package com.zsmartsystems.zigbee.database;
 
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 import org.junit.Test;
 import org.mockito.Mockito;
 
@@ -50,4 +57,53 @@ public class ZigBeeNodeDaoTest {
          * assertEquals(123, endpoint.getProfileId());
          */
     }
+
+    @Test
+    public void applyDelta() {
+        ZigBeeNodeDao node = new ZigBeeNodeDao();
+        node.setIeeeAddress(new IeeeAddress("1234567890ABCDEF"));
+        node.setNetworkAddress(12345);
+        node.setEndpoints(Collections.singletonList(createEndpoint(1, 6, 0, 1)));
+
+        ZigBeeNodeDao delta = new ZigBeeNodeDao();
+        delta.setDelta(true);
+        delta.setIeeeAddress(new IeeeAddress("1234567890ABCDEF"));
+        ZigBeeEndpointDao deltaEndpoint = createEndpoint(1, 6, 0, 2);
+        deltaEndpoint.getInputClusters().get(0).getAttributes().putAll(createEndpoint(1, 6, 1, 3).getInputClusters()
+                .get(0).getAttributes());
+        delta.setEndpoints(new ArrayList<ZigBeeEndpointDao>());
+        delta.getEndpoints().add(deltaEndpoint);
+        delta.getEndpoints().add(createEndpoint(2, 8, 0, 4));
+
+        node.applyDelta(delta);
+
+        assertEquals(Integer.valueOf(12345), node.getNetworkAddress());
+        assertEquals(2, node.getEndpoints().size());
+        ZigBeeEndpointDao endpoint = node.getEndpoints().get(0);
+        assertEquals(Integer.valueOf(0x104), endpoint.getProfileId());
+        assertEquals(1, endpoint.getInputClusters().size());
+        Map<Integer, ZclAttributeDao> attributes = endpoint.getInputClusters().get(0).getAttributes();
+        assertEquals(2, attributes.size());
+        assertEquals(2, attributes.get(0).getLastValue());
+        assertEquals(3, attributes.get(1).getLastValue());
+        assertEquals(8, node.getEndpoints().get(1).getInputClusters().get(0).getClusterId());
+    }
+
+    private ZigBeeEndpointDao createEndpoint(int endpointId, int clusterId, int attributeId, Object value) {
+        ZclAttributeDao attribute = new ZclAttributeDao();
+        attribute.setId(attributeId);
+        attribute.setLastValue(value);
+        Map<Integer, ZclAttributeDao> attributes = new HashMap<>();
+        attributes.put(attributeId, attribute);
+
+        ZclClusterDao cluster = new ZclClusterDao();
+        cluster.setClusterId(clusterId);
+        cluster.setAttributes(attributes);
+
+        ZigBeeEndpointDao endpoint = new ZigBeeEndpointDao();
+        endpoint.setEndpointId(endpointId);
+        endpoint.setProfileId(0x104);
+        endpoint.setInputClusters(Collections.singletonList(cluster));
+        return endpoint;
+    }
 }
@@ -0,0 +1,176 @@
+/**
+ * Copyright (c) 2016-2019 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ *
+ * @author agent
+ *
+ */
+public class NotificationServiceTest {
+    private static final int TIMEOUT = 5000;
+
+    @Before
+    public void initialize() {
+        // The service is static - restart it so that notifications from other tests do not affect the statistics
+        NotificationService.shutdown(TIMEOUT);
+        NotificationService.initialize();
+        NotificationService.resetStatistics();
+    }
+
+    @After
+    public void restoreDefaults() {
+        NotificationService.setThreadPoolSize(NotificationService.DEFAULT_THREAD_POOL_SIZE);
+        NotificationService.setQueueSize(NotificationService.DEFAULT_QUEUE_SIZE);
+        NotificationService.setVirtualThreads(false);
+    }
+
+    @Test
+    public void executeOrdered() throws Exception {
+        final Object key = new Object();
+        final List<Integer> received = Collections.synchronizedList(new ArrayList<Integer>());
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicBoolean overlapped = new AtomicBoolean();
+        final CountDownLatch latch = new CountDownLatch(100);
+
+        for (int cnt = 0; cnt < 100; cnt++) {
+            final int value = cnt;
+            NotificationService.execute(key, new Runnable() {
+                @Override
+                public void run() {
+                    if (running.incrementAndGet() != 1) {
+                        overlapped.set(true);
+                    }
+                    received.add(value);
+                    running.decrementAndGet();
+                    latch.countDown();
+                }
+            });
+        }
+
+        assertTrue(latch.await(TIMEOUT, TimeUnit.MILLISECONDS));
+        assertFalse(overlapped.get());
+        for (int cnt = 0; cnt < 100; cnt++) {
+            assertEquals(Integer.valueOf(cnt), received.get(cnt));
+        }
+    }
+
+    @Test
+    public void executeTransaction() throws Exception {
+        final CountDownLatch blocked = new CountDownLatch(1);
+        final CountDownLatch transaction = new CountDownLatch(1);
+        NotificationService.setThreadPoolSize(1);
+
+        // A blocked listener does not delay transaction notifications
+        NotificationService.execute(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    blocked.await(TIMEOUT, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                }
+            }
+        });
+        NotificationService.executeTransaction(new Object(), new Runnable() {
+            @Override
+            public void run() {
+                transaction.countDown();
+            }
+        });
+
+        assertTrue(transaction.await(TIMEOUT, TimeUnit.MILLISECONDS));
+        blocked.countDown();
+    }
+
+    @Test
+    public void queueOverflow() throws Exception {
+        final CountDownLatch blocked = new CountDownLatch(1);
+        final CountDownLatch started = new CountDownLatch(1);
+        NotificationService.setThreadPoolSize(1);
+        NotificationService.setQueueSize(1);
+        NotificationService.resetStatistics();
+
+        NotificationService.execute(new Runnable() {
+            @Override
+            public void run() {
+                started.countDown();
+                try {
+                    blocked.await(TIMEOUT, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                }
+            }
+        });
+        assertTrue(started.await(TIMEOUT, TimeUnit.MILLISECONDS));
+
+        final List<Thread> threads = Collections.synchronizedList(new ArrayList<Thread>());
+        Runnable recordThread = new Runnable() {
+            @Override
+            public void run() {
+                threads.add(Thread.currentThread());
+            }
+        };
+
+        // The first notification is queued, and the second is held in the overflow backlog as the queue is full
+        NotificationService.execute(recordThread);
+        assertEquals(1, NotificationService.getQueueDepth());
+        NotificationService.execute(recordThread);
+        assertEquals(1, NotificationService.getOverflowCount());
+        assertEquals(2, NotificationService.getQueueDepth());
+        assertEquals(0, threads.size());
+
+        // Both notifications are run by the notification thread once it is free
+        blocked.countDown();
+        long timeout = System.currentTimeMillis() + TIMEOUT;
+        while (threads.size() != 2 && System.currentTimeMillis() < timeout) {
+            Thread.sleep(10);
+        }
+        assertEquals(2, threads.size());
+        assertFalse(threads.contains(Thread.currentThread()));
+        assertEquals(3, NotificationService.getExecutedCount());
+        assertEquals(2, NotificationService.getMaxQueueDepth());
+        assertEquals(0, NotificationService.getQueueDepth());
+    }
+
+    @Test
+    public void setVirtualThreads() {
+        boolean available;
+        try {
+            Thread.class.getMethod("ofVirtual");
+            available = true;
+        } catch (NoSuchMethodException e) {
+            available = false;
+        }
+        assertEquals(available, NotificationService.setVirtualThreads(true));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void setThreadPoolSizeInvalid() {
+        NotificationService.setThreadPoolSize(0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void setQueueSizeInvalid() {
+        NotificationService.setQueueSize(0);
+    }
+}
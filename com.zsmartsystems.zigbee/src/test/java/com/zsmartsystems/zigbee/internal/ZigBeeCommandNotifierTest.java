@@ -12,12 +12,17 @@ import static org.junit.Assert.assertEquals;
 import java.util.Set;
 
 import org.junit.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.InOrder;
 import org.mockito.Mockito;
 
 import com.zsmartsystems.zigbee.TestUtilities;
 import com.zsmartsystems.zigbee.ZigBeeCommand;
+import com.zsmartsystems.zigbee.ZigBeeCommandFilter;
 import com.zsmartsystems.zigbee.ZigBeeCommandListener;
 import com.zsmartsystems.zigbee.zcl.ZclCommand;
+import com.zsmartsystems.zigbee.zcl.clusters.onoff.OnCommand;
+import com.zsmartsystems.zigbee.zdo.command.DeviceAnnounce;
 
 /**
  *
@@ -59,4 +64,50 @@ public class ZigBeeCommandNotifierTest {
         notifier.removeCommandListener(commandListener);
         assertEquals(1, commandListeners.size());
     }
+
+    @Test
+    public void notifyCommandListenersFiltered() throws Exception {
+        ZigBeeCommandNotifier notifier = new ZigBeeCommandNotifier();
+
+        ZigBeeCommandListener filteredListener = Mockito.mock(ZigBeeCommandListener.class);
+        Mockito.when(filteredListener.getCommandFilter()).thenReturn(new ZigBeeCommandFilter(DeviceAnnounce.class));
+        notifier.addCommandListener(filteredListener);
+        ZigBeeCommandListener commandListener = Mockito.mock(ZigBeeCommandListener.class);
+        notifier.addCommandListener(commandListener);
+
+        ZigBeeCommand command = new OnCommand();
+        notifier.notifyCommandListeners(command);
+        Mockito.verify(commandListener, Mockito.timeout(TIMEOUT).times(1)).commandReceived(command);
+
+        ZigBeeCommand announce = new DeviceAnnounce();
+        notifier.notifyCommandListeners(announce);
+        Mockito.verify(commandListener, Mockito.timeout(TIMEOUT).times(1)).commandReceived(announce);
+        Mockito.verify(filteredListener, Mockito.timeout(TIMEOUT).times(1)).commandReceived(announce);
+        Mockito.verify(filteredListener, Mockito.times(0)).commandReceived(command);
+    }
+
+    @Test
+    public void notifyCommandListenersBatched() throws Exception {
+        ZigBeeCommandNotifier notifier = new ZigBeeCommandNotifier();
+        notifier.setBatchedDelivery(true);
+
+        ZigBeeCommandListener failingListener = Mockito.mock(ZigBeeCommandListener.class);
+        Mockito.doThrow(new IllegalStateException()).when(failingListener)
+                .commandReceived(ArgumentMatchers.any(ZigBeeCommand.class));
+        notifier.addCommandListener(failingListener);
+        ZigBeeCommandListener commandListener = Mockito.mock(ZigBeeCommandListener.class);
+        notifier.addCommandListener(commandListener);
+
+        ZigBeeCommand command1 = new OnCommand();
+        ZigBeeCommand command2 = new OnCommand();
+        notifier.notifyCommandListeners(command1);
+        notifier.notifyCommandListeners(command2);
+
+        // A listener that throws does not stop the others being notified, and commands remain in order
+        InOrder inOrder = Mockito.inOrder(commandListener);
+        inOrder.verify(commandListener, Mockito.timeout(TIMEOUT)).commandReceived(command1);
+        inOrder.verify(commandListener, Mockito.timeout(TIMEOUT)).commandReceived(command2);
+        Mockito.verify(failingListener, Mockito.timeout(TIMEOUT).times(2))
+                .commandReceived(ArgumentMatchers.any(ZigBeeCommand.class));
+    }
 }
@@ -0,0 +1,168 @@
+/**
+ * Copyright (c) 2016-2019 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+/**
+ * Tests for {@link ZigBeeTimerService}
+ *
+ * @author agent
+ *
+ */
+public class ZigBeeTimerServiceTest {
+    @Test
+    public void schedule() throws Exception {
+        ZigBeeTimerService timerService = new ZigBeeTimerService("Test", null, 5, 4);
+        final CountDownLatch latch = new CountDownLatch(1);
+
+        long start = System.nanoTime();
+        ScheduledFuture<?> future = timerService.schedule(new Runnable() {
+            @Override
+            public void run() {
+                latch.countDown();
+            }
+        }, 50);
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        // The wheel only has 4 buckets of 5ms, so this timer must wait for multiple rounds
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 50);
+        future.get(5, TimeUnit.SECONDS);
+        assertTrue(future.isDone());
+        assertFalse(future.isCancelled());
+
+        timerService.shutdown();
+    }
+
+    @Test
+    public void cancel() throws Exception {
+        ZigBeeTimerService timerService = new ZigBeeTimerService("Test", null);
+        final AtomicInteger count = new AtomicInteger();
+        Runnable task = new Runnable() {
+            @Override
+            public void run() {
+                count.incrementAndGet();
+            }
+        };
+
+        ScheduledFuture<?> cancelled = timerService.schedule(task, 20);
+        ScheduledFuture<?> expired = timerService.schedule(task, 40);
+        assertTrue(cancelled.getDelay(TimeUnit.MILLISECONDS) <= 20);
+        assertTrue(cancelled.cancel(false));
+        assertFalse(cancelled.cancel(false));
+        assertTrue(cancelled.isCancelled());
+        assertTrue(cancelled.isDone());
+
+        expired.get(5, TimeUnit.SECONDS);
+        assertEquals(1, count.get());
+        assertFalse(expired.cancel(false));
+
+        timerService.shutdown();
+    }
+
+    @Test
+    public void executor() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        ZigBeeTimerService timerService = new ZigBeeTimerService("Test", executor);
+        final CountDownLatch latch = new CountDownLatch(1);
+        final Thread[] thread = new Thread[1];
+
+        timerService.schedule(new Runnable() {
+            @Override
+            public void run() {
+                thread[0] = Thread.currentThread();
+                latch.countDown();
+            }
+        }, 0);
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertFalse("Test".equals(thread[0].getName()));
+
+        timerService.shutdown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void shutdown() throws Exception {
+        ZigBeeTimerService timerService = new ZigBeeTimerService("Test", null);
+        ScheduledFuture<?> future = timerService.schedule(new Runnable() {
+            @Override
+            public void run() {
+            }
+        }, 10000);
+
+        timerService.shutdown();
+        assertTrue(future.isCancelled());
+
+        try {
+            timerService.schedule(new Runnable() {
+                @Override
+                public void run() {
+                }
+            }, 0);
+            assertTrue(false);
+        } catch (RejectedExecutionException e) {
+            // Expected
+        }
+    }
+
+    @Test
+    public void idle() throws Exception {
+        ZigBeeTimerService timerService = new ZigBeeTimerService("IdleTimerTest", null);
+        final AtomicInteger count = new AtomicInteger();
+        Runnable task = new Runnable() {
+            @Override
+            public void run() {
+                count.incrementAndGet();
+            }
+        };
+
+        timerService.schedule(task, 10).get(5, TimeUnit.SECONDS);
+        timerService.schedule(task, 100).cancel(false);
+
+        // Once the wheel is empty the timer thread waits without ticking
+        Thread timerThread = null;
+        for (Thread thread : Thread.getAllStackTraces().keySet()) {
+            if ("IdleTimerTest".equals(thread.getName())) {
+                timerThread = thread;
+            }
+        }
+        long waitDeadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (timerThread.getState() != Thread.State.WAITING && System.nanoTime() < waitDeadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(Thread.State.WAITING, timerThread.getState());
+
+        // Timers scheduled while waiting are still run, and not before their delay
+        Thread.sleep(50);
+        long start = System.nanoTime();
+        timerService.schedule(task, 20).get(5, TimeUnit.SECONDS);
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 20);
+        assertEquals(2, count.get());
+
+        timerService.shutdown();
+        assertFalse(timerThread.isAlive());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidTick() {
+        new ZigBeeTimerService("Test", null, 0, 512);
+    }
+}
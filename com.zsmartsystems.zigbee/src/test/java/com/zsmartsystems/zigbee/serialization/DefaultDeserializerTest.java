@@ -8,6 +8,7 @@
 package com.zsmartsystems.zigbee.serialization;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 import org.junit.Test;
 
@@ -80,6 +81,18 @@ public class DefaultDeserializerTest {
                 0x00 }, "MaestroStat", ZclDataType.CHARACTER_STRING);
     }
 
+    @Test
+    public void testDeserializeBytes() {
+        DefaultDeserializer deserializer = new DefaultDeserializer(
+                new byte[] { (byte) 0x97, (byte) 0xF3, (byte) 0xFE, 0x02, 0x01, (byte) 0xAA, 0x49 });
+        assertEquals(7, deserializer.getSize());
+        assertEquals(-3177, deserializer.readZigBeeType(ZclDataType.SIGNED_16_BIT_INTEGER));
+        assertEquals(0xFE, deserializer.readZigBeeType(ZclDataType.UNSIGNED_8_BIT_INTEGER));
+        assertEquals(new ByteArray(new int[] { 0x01, 0xAA }), deserializer.readZigBeeType(ZclDataType.OCTET_STRING));
+        assertEquals(0x49, deserializer.readZigBeeType(ZclDataType.DATA_8_BIT));
+        assertTrue(deserializer.isEndOfStream());
+    }
+
     private void testDeserialize(int[] input, Object objectIn, ZclDataType type) {
         DefaultDeserializer deserializer = new DefaultDeserializer(input);
         Object objectOut = deserializer.readZigBeeType(type);
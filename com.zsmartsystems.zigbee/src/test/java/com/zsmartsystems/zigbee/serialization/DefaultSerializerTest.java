@@ -85,6 +85,17 @@ public class DefaultSerializerTest {
         testSerializedData(valIn, valOut, ZclDataType.X_UNSIGNED_8_BIT_INTEGER);
     }
 
+    @Test
+    public void testGetPayloadBytes() {
+        DefaultSerializer serializer = new DefaultSerializer();
+        serializer.appendZigBeeType(0xFE12, ZclDataType.UNSIGNED_16_BIT_INTEGER);
+        serializer.appendZigBeeType(new ByteArray(new byte[] { (byte) 0x80, 0x01 }), ZclDataType.OCTET_STRING);
+
+        assertTrue(Arrays.equals(new byte[] { 0x12, (byte) 0xFE, 0x02, (byte) 0x80, 0x01 },
+                serializer.getPayloadBytes()));
+        assertTrue(Arrays.equals(new int[] { 0x12, 0xFE, 0x02, 0x80, 0x01 }, serializer.getPayload()));
+    }
+
     private void testSerializedData(Object object, int[] output, ZclDataType type) {
         DefaultSerializer serializer = new DefaultSerializer();
         serializer.appendZigBeeType(object, type);
@@ -0,0 +1,81 @@
+/**
+ * Copyright (c) 2016-2019 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.transaction;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.zsmartsystems.zigbee.ZigBeeCommand;
+import com.zsmartsystems.zigbee.ZigBeeEndpointAddress;
+import com.zsmartsystems.zigbee.zcl.clusters.general.WriteAttributesCommand;
+import com.zsmartsystems.zigbee.zcl.clusters.levelcontrol.MoveToLevelCommand;
+import com.zsmartsystems.zigbee.zcl.clusters.levelcontrol.MoveToLevelWithOnOffCommand;
+import com.zsmartsystems.zigbee.zcl.clusters.onoff.OffCommand;
+import com.zsmartsystems.zigbee.zcl.clusters.onoff.OnCommand;
+import com.zsmartsystems.zigbee.zcl.clusters.onoff.ToggleCommand;
+import com.zsmartsystems.zigbee.zcl.field.WriteAttributeRecord;
+
+/**
+ * Tests for {@link ZigBeeDefaultSupersedeKeyProvider}
+ *
+ * @author agent
+ *
+ */
+public class ZigBeeDefaultSupersedeKeyProviderTest {
+    private ZigBeeCommand address(ZigBeeCommand command, int endpoint) {
+        command.setDestinationAddress(new ZigBeeEndpointAddress(1234, endpoint));
+        return command;
+    }
+
+    private WriteAttributesCommand writeAttributes(int... attributes) {
+        List<WriteAttributeRecord> records = new ArrayList<>();
+        for (int attribute : attributes) {
+            WriteAttributeRecord record = new WriteAttributeRecord();
+            record.setAttributeIdentifier(attribute);
+            records.add(record);
+        }
+        WriteAttributesCommand command = new WriteAttributesCommand();
+        command.setClusterId(6);
+        command.setRecords(records);
+        address(command, 1);
+        return command;
+    }
+
+    @Test
+    public void getSupersedeKey() {
+        ZigBeeSupersedeKeyProvider provider = new ZigBeeDefaultSupersedeKeyProvider();
+
+        // On and Off supersede each other on the same endpoint
+        Object onKey = provider.getSupersedeKey(address(new OnCommand(), 1));
+        assertNotNull(onKey);
+        assertEquals(onKey, provider.getSupersedeKey(address(new OffCommand(), 1)));
+        assertNotEquals(onKey, provider.getSupersedeKey(address(new OffCommand(), 2)));
+
+        // Toggle is relative, so is never superseded
+        assertNull(provider.getSupersedeKey(address(new ToggleCommand(), 1)));
+
+        Object levelKey = provider.getSupersedeKey(address(new MoveToLevelCommand(), 1));
+        assertNotNull(levelKey);
+        assertEquals(levelKey, provider.getSupersedeKey(address(new MoveToLevelWithOnOffCommand(), 1)));
+        assertNotEquals(onKey, levelKey);
+
+        // Writes to the same set of attributes supersede each other
+        Object writeKey = provider.getSupersedeKey(writeAttributes(1, 2));
+        assertNotNull(writeKey);
+        assertEquals(writeKey, provider.getSupersedeKey(writeAttributes(2, 1)));
+        assertNotEquals(writeKey, provider.getSupersedeKey(writeAttributes(1)));
+        assertNull(provider.getSupersedeKey(writeAttributes()));
+    }
+}
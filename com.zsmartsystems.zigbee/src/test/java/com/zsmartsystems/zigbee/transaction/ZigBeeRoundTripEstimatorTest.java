@@ -0,0 +1,95 @@
+/**
+ * Copyright (c) 2016-2019 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.transaction;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+/**
+ * Tests for {@link ZigBeeRoundTripEstimator}
+ *
+ * @author agent
+ *
+ */
+public class ZigBeeRoundTripEstimatorTest {
+    @Test
+    public void estimate() {
+        ZigBeeRoundTripEstimator estimator = new ZigBeeRoundTripEstimator();
+
+        // No samples uses the maximum timeout
+        assertEquals(0, estimator.getSampleCount());
+        assertEquals(10000, estimator.getRetryTimeout(1000, 10000));
+
+        estimator.addSample(400);
+        assertEquals(1, estimator.getSampleCount());
+        assertEquals(400, estimator.getSmoothedRoundTripTime());
+        assertEquals(200, estimator.getRoundTripTimeVariance());
+        assertEquals(1200, estimator.getRetryTimeout(1000, 10000));
+
+        estimator.addSample(800);
+        assertEquals(450, estimator.getSmoothedRoundTripTime());
+        assertEquals(250, estimator.getRoundTripTimeVariance());
+        assertEquals(1450, estimator.getRetryTimeout(1000, 10000));
+
+        // Negative samples are ignored
+        estimator.addSample(-1);
+        assertEquals(2, estimator.getSampleCount());
+    }
+
+    @Test
+    public void limits() {
+        ZigBeeRoundTripEstimator estimator = new ZigBeeRoundTripEstimator();
+
+        estimator.addSample(100);
+        assertEquals(2000, estimator.getRetryTimeout(2000, 10000));
+
+        estimator.addSample(20000);
+        assertEquals(10000, estimator.getRetryTimeout(2000, 10000));
+    }
+
+    @Test
+    public void backoff() {
+        ZigBeeRoundTripEstimator estimator = new ZigBeeRoundTripEstimator();
+        estimator.addSample(500);
+        assertEquals(1500, estimator.getRetryTimeout(0, 100000));
+
+        estimator.transactionFailed();
+        assertEquals(3000, estimator.getRetryTimeout(0, 100000));
+        estimator.transactionFailed();
+        assertEquals(6000, estimator.getRetryTimeout(0, 100000));
+        estimator.transactionFailed();
+        estimator.transactionFailed();
+        assertEquals(12000, estimator.getRetryTimeout(0, 100000));
+
+        // A new sample resets the backoff
+        estimator.addSample(500);
+        assertEquals(1252, estimator.getRetryTimeout(0, 100000));
+    }
+
+    @Test
+    public void defaultEstimator() {
+        ZigBeeRoundTripEstimator defaultEstimator = new ZigBeeRoundTripEstimator();
+        defaultEstimator.addSample(100);
+        ZigBeeRoundTripEstimator estimator = new ZigBeeRoundTripEstimator();
+
+        // Without samples, the default estimate is used with the backoff from failures of this estimator
+        assertEquals(300, estimator.getRetryTimeout(0, 100000, defaultEstimator));
+        estimator.transactionFailed();
+        assertEquals(600, estimator.getRetryTimeout(0, 100000, defaultEstimator));
+        estimator.transactionFailed();
+        estimator.transactionFailed();
+        assertEquals(2400, estimator.getRetryTimeout(0, 100000, defaultEstimator));
+        assertEquals(2000, estimator.getRetryTimeout(0, 2000, defaultEstimator));
+        assertEquals(300, defaultEstimator.getRetryTimeout(0, 100000));
+
+        // Once a sample is received, the default estimator is no longer used
+        estimator.addSample(500);
+        assertEquals(1500, estimator.getRetryTimeout(0, 100000, defaultEstimator));
+    }
+}
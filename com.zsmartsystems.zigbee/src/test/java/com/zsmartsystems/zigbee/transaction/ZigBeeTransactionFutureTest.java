@@ -13,6 +13,8 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
@@ -126,4 +128,34 @@ public class ZigBeeTransactionFutureTest {
         assertTrue(finishLatch.await(TIMEOUT, TimeUnit.MILLISECONDS));
     }
 
+
+    @Test
+    public void testCallback() throws InterruptedException {
+        final BlockingQueue<CommandResult> results = new ArrayBlockingQueue<>(3);
+        ZigBeeTransactionCallback callback = new ZigBeeTransactionCallback() {
+            @Override
+            public void transactionComplete(CommandResult result) {
+                results.add(result);
+            }
+        };
+
+        ZigBeeTransactionFuture future = new ZigBeeTransactionFuture();
+        future.addCallback(callback);
+        assertNull(results.poll(100, TimeUnit.MILLISECONDS));
+
+        CommandResult result = new CommandResult();
+        future.set(result);
+        assertEquals(result, results.poll(TIMEOUT, TimeUnit.MILLISECONDS));
+
+        // Callbacks added after completion are notified immediately
+        future.addCallback(callback);
+        assertEquals(result, results.poll(TIMEOUT, TimeUnit.MILLISECONDS));
+
+        // Cancelled transactions are notified as a timeout
+        future = new ZigBeeTransactionFuture();
+        future.addCallback(callback);
+        future.cancel(false);
+        assertTrue(results.poll(TIMEOUT, TimeUnit.MILLISECONDS).isTimeout());
+        assertNull(results.poll(100, TimeUnit.MILLISECONDS));
+    }
 }
@@ -43,6 +43,10 @@ import com.zsmartsystems.zigbee.ZigBeeNode;
 import com.zsmartsystems.zigbee.internal.NotificationService;
 import com.zsmartsystems.zigbee.transaction.ZigBeeTransaction.TransactionState;
 import com.zsmartsystems.zigbee.transport.ZigBeeTransportProgressState;
+import com.zsmartsystems.zigbee.zcl.ZclCommand;
+import com.zsmartsystems.zigbee.zcl.ZclTransactionMatcher;
+import com.zsmartsystems.zigbee.zcl.clusters.onoff.OffCommand;
+import com.zsmartsystems.zigbee.zcl.clusters.onoff.OnCommand;
 import com.zsmartsystems.zigbee.zdo.field.NodeDescriptor;
 import com.zsmartsystems.zigbee.zdo.field.NodeDescriptor.MacCapabilitiesType;
 
@@ -205,6 +209,7 @@ public class ZigBeeTransactionManagerTest {
         ZigBeeTransactionManager transactionManager = new ZigBeeTransactionManager(networkManager);
 
         ZigBeeTransaction transaction = Mockito.mock(ZigBeeTransaction.class);
+        Mockito.when(transaction.getTransactionId()).thenReturn(123);
 
         IeeeAddress ieeeAddress = new IeeeAddress("1234567890ABCDEF");
         ZigBeeTransactionQueue queue = Mockito.mock(ZigBeeTransactionQueue.class);
@@ -246,6 +251,7 @@ public class ZigBeeTransactionManagerTest {
         ZigBeeTransactionManager transactionManager = new ZigBeeTransactionManager(networkManager);
 
         ZigBeeTransaction transaction = Mockito.mock(ZigBeeTransaction.class);
+        Mockito.when(transaction.getTransactionId()).thenReturn(123);
 
         IeeeAddress ieeeAddress = new IeeeAddress("1234567890ABCDEF");
         ZigBeeTransactionQueue queue = Mockito.mock(ZigBeeTransactionQueue.class);
@@ -293,6 +299,60 @@ public class ZigBeeTransactionManagerTest {
         Mockito.verify(transaction, Mockito.times(1)).commandReceived(rxCommand);
     }
 
+    @Test
+    public void receiveIndexed() throws Exception {
+        ZigBeeNetworkManager networkManager = Mockito.mock(ZigBeeNetworkManager.class);
+        ZigBeeTransactionManager transactionManager = new ZigBeeTransactionManager(networkManager);
+
+        ZigBeeTransaction transaction1 = getZclTransaction(new ZigBeeEndpointAddress(123, 1), 11);
+        ZigBeeTransaction transaction2 = getZclTransaction(new ZigBeeEndpointAddress(456, 1), 22);
+        ZigBeeTransaction transaction3 = Mockito.mock(ZigBeeTransaction.class);
+        Mockito.when(transaction3.getResponseMatcher()).thenReturn(Mockito.mock(ZigBeeTransactionMatcher.class));
+        Mockito.when(transaction3.getDestinationAddress()).thenReturn(new ZigBeeEndpointAddress(789));
+        Mockito.when(transaction3.getTransactionId()).thenReturn(33);
+
+        TestUtilities.invokeMethod(ZigBeeTransactionManager.class, transactionManager, "addTransactionListener",
+                ZigBeeTransaction.class, transaction1);
+        TestUtilities.invokeMethod(ZigBeeTransactionManager.class, transactionManager, "addTransactionListener",
+                ZigBeeTransaction.class, transaction2);
+        TestUtilities.invokeMethod(ZigBeeTransactionManager.class, transactionManager, "addTransactionListener",
+                ZigBeeTransaction.class, transaction3);
+
+        // A ZCL response is only routed to the ZCL transaction it correlates with, and the unindexed transaction
+        ZclCommand response = Mockito.mock(ZclCommand.class);
+        Mockito.when(response.getSourceAddress()).thenReturn(new ZigBeeEndpointAddress(456, 1));
+        Mockito.when(response.getTransactionId()).thenReturn(22);
+        transactionManager.receive(response);
+        Mockito.verify(transaction2, Mockito.timeout(TIMEOUT)).commandReceived(response);
+        Mockito.verify(transaction3, Mockito.timeout(TIMEOUT)).commandReceived(response);
+        Mockito.verify(transaction1, Mockito.never()).commandReceived(response);
+
+        // Progress updates are only routed to the transaction with the same transaction ID
+        transactionManager.receiveCommandState(11, ZigBeeTransportProgressState.TX_ACK);
+        Mockito.verify(transaction1, Mockito.timeout(TIMEOUT))
+                .transactionStatusReceived(ZigBeeTransportProgressState.TX_ACK, 11);
+        Mockito.verify(transaction2, Mockito.never()).transactionStatusReceived(ZigBeeTransportProgressState.TX_ACK,
+                11);
+        Mockito.verify(transaction3, Mockito.never()).transactionStatusReceived(ZigBeeTransportProgressState.TX_ACK,
+                11);
+
+        // Once complete, the transaction is removed from the index
+        transactionManager.transactionComplete(transaction2, TransactionState.COMPLETE);
+        transactionManager.receive(response);
+        Mockito.verify(transaction3, Mockito.timeout(TIMEOUT).times(2)).commandReceived(response);
+        Mockito.verify(transaction2, Mockito.times(1)).commandReceived(response);
+
+        transactionManager.shutdown();
+    }
+
+    private ZigBeeTransaction getZclTransaction(ZigBeeEndpointAddress address, int transactionId) {
+        ZigBeeTransaction transaction = Mockito.mock(ZigBeeTransaction.class);
+        Mockito.when(transaction.getResponseMatcher()).thenReturn(new ZclTransactionMatcher());
+        Mockito.when(transaction.getDestinationAddress()).thenReturn(address);
+        Mockito.when(transaction.getTransactionId()).thenReturn(transactionId);
+        return transaction;
+    }
+
     @Test
     public void transactionTimer() throws Exception {
         ZigBeeNetworkManager networkManager = Mockito.mock(ZigBeeNetworkManager.class);
@@ -318,14 +378,12 @@ public class ZigBeeTransactionManagerTest {
         nodeQueue.put(new IeeeAddress("2222222222222222"), queue2);
         nodeQueue.put(new IeeeAddress("3333333333333333"), queue3);
 
-        List<ZigBeeTransactionQueue> outstandingQueues = new ArrayList<>();
-        outstandingQueues.add(queue1);
-        outstandingQueues.add(queue2);
-        outstandingQueues.add(queue3);
-
         TestUtilities.setField(ZigBeeTransactionManager.class, transactionManager, "nodeQueue", nodeQueue);
-        TestUtilities.setField(ZigBeeTransactionManager.class, transactionManager, "outstandingQueues",
-                outstandingQueues);
+        ZigBeeTransactionScheduler scheduler = (ZigBeeTransactionScheduler) TestUtilities
+                .getField(ZigBeeTransactionManager.class, transactionManager, "scheduler");
+        scheduler.schedule(queue1);
+        scheduler.schedule(queue2);
+        scheduler.schedule(queue3);
         TestUtilities.invokeMethod(ZigBeeTransactionManager.class, transactionManager, "sendNextTransaction");
 
         assertFalse(delayCapture.isEmpty());
@@ -411,6 +469,120 @@ public class ZigBeeTransactionManagerTest {
         assertNull(transactionManager.getQueue(address));
     }
 
+    private ZigBeeTransactionManager getAdmissionManager(ZigBeeNetworkManager networkManager) {
+        ZigBeeNode node = Mockito.mock(ZigBeeNode.class);
+        Mockito.when(node.getIeeeAddress()).thenReturn(new IeeeAddress("1111111111111111"));
+        Mockito.when(networkManager.getNode(111)).thenReturn(node);
+
+        ZigBeeTransactionManager transactionManager = new ZigBeeTransactionManager(networkManager);
+        // Hold all transactions in the queues
+        transactionManager.setMaxOutstandingTransactions(0);
+        return transactionManager;
+    }
+
+    private ZigBeeCommand getZclCommand(ZclCommand command) {
+        command.setDestinationAddress(new ZigBeeEndpointAddress(111, 1));
+        return command;
+    }
+
+    @Test
+    public void admissionReject() throws Exception {
+        ZigBeeTransactionManager transactionManager = getAdmissionManager(Mockito.mock(ZigBeeNetworkManager.class));
+        transactionManager.setMaxQueueDepth(2);
+        assertEquals(2, transactionManager.getMaxQueueDepth());
+        assertEquals(ZigBeeTransactionAdmissionPolicy.REJECT, transactionManager.getAdmissionPolicy());
+
+        ZigBeeTransactionCallback callback = Mockito.mock(ZigBeeTransactionCallback.class);
+        assertEquals(ZigBeeTransactionAdmissionStatus.ACCEPTED,
+                transactionManager.trySendTransaction(getZclCommand(new OnCommand()), null, callback));
+        assertEquals(ZigBeeTransactionAdmissionStatus.ACCEPTED,
+                transactionManager.trySendTransaction(getZclCommand(new OnCommand()), null, callback));
+        assertEquals(ZigBeeTransactionAdmissionStatus.REJECTED,
+                transactionManager.trySendTransaction(getZclCommand(new OnCommand()), null, callback));
+        assertEquals(2, transactionManager.getQueuedTransactions());
+
+        // Rejected transactions complete immediately when the caller can't see the status
+        Future<CommandResult> future = transactionManager.sendTransaction(getZclCommand(new OnCommand()), null);
+        assertTrue(future.isDone());
+        assertTrue(future.get().isTimeout());
+
+        // The global limit is also applied
+        transactionManager.setMaxQueueDepth(10);
+        transactionManager.setMaxQueuedTransactions(3);
+        assertEquals(3, transactionManager.getMaxQueuedTransactions());
+        assertEquals(ZigBeeTransactionAdmissionStatus.ACCEPTED,
+                transactionManager.trySendTransaction(getZclCommand(new OnCommand()), null, callback));
+        assertEquals(ZigBeeTransactionAdmissionStatus.REJECTED,
+                transactionManager.trySendTransaction(getZclCommand(new OnCommand()), null, callback));
+
+        Mockito.verify(callback, Mockito.never()).transactionComplete(ArgumentMatchers.any(CommandResult.class));
+        transactionManager.shutdown();
+    }
+
+    @Test
+    public void admissionDropOldest() throws Exception {
+        ZigBeeTransactionManager transactionManager = getAdmissionManager(Mockito.mock(ZigBeeNetworkManager.class));
+        transactionManager.setMaxQueueDepth(1);
+        transactionManager.setAdmissionPolicy(ZigBeeTransactionAdmissionPolicy.DROP_OLDEST);
+
+        Future<CommandResult> future1 = transactionManager.sendTransaction(getZclCommand(new OnCommand()), null);
+        assertFalse(future1.isDone());
+        Future<CommandResult> future2 = transactionManager.sendTransaction(getZclCommand(new OffCommand()), null);
+
+        assertTrue(future1.isDone());
+        assertTrue(future1.get().isTimeout());
+        assertFalse(future2.isDone());
+        assertEquals(1, transactionManager.getQueuedTransactions());
+        transactionManager.shutdown();
+    }
+
+    @Test
+    public void admissionCoalesce() throws Exception {
+        ZigBeeTransactionManager transactionManager = getAdmissionManager(Mockito.mock(ZigBeeNetworkManager.class));
+        transactionManager.setAdmissionPolicy(ZigBeeTransactionAdmissionPolicy.COALESCE);
+
+        Future<CommandResult> future1 = transactionManager.sendTransaction(getZclCommand(new OnCommand()), null);
+        Future<CommandResult> future2 = transactionManager.sendTransaction(getZclCommand(new OnCommand()), null);
+        assertEquals(future1, future2);
+        assertEquals(ZigBeeTransactionAdmissionStatus.COALESCED,
+                transactionManager.trySendTransaction(getZclCommand(new OnCommand()), null, null));
+        assertEquals(ZigBeeTransactionAdmissionStatus.ACCEPTED,
+                transactionManager.trySendTransaction(getZclCommand(new OffCommand()), null, null));
+        assertEquals(2, transactionManager.getQueuedTransactions());
+        transactionManager.shutdown();
+    }
+
+    @Test
+    public void admissionWatermarks() throws Exception {
+        ZigBeeNetworkManager networkManager = Mockito.mock(ZigBeeNetworkManager.class);
+        ZigBeeTransactionManager transactionManager = getAdmissionManager(networkManager);
+        transactionManager.setWatermarks(0, 2);
+
+        ZigBeeTransactionQueueListener listener = Mockito.mock(ZigBeeTransactionQueueListener.class);
+        transactionManager.addQueueListener(listener);
+
+        transactionManager.sendTransaction(getZclCommand(new OnCommand()), null);
+        transactionManager.sendTransaction(getZclCommand(new OffCommand()), null);
+        Mockito.verify(listener, Mockito.timeout(TIMEOUT).times(1)).transactionQueueCongestion(true, 2);
+
+        // Send the queued transactions
+        transactionManager.getDefaultProfile().setInterTransactionDelay(0);
+        transactionManager.setMaxOutstandingTransactions(9);
+        TestUtilities.invokeMethod(ZigBeeTransactionManager.class, transactionManager, "sendNextTransaction");
+        Mockito.verify(listener, Mockito.timeout(TIMEOUT).times(1)).transactionQueueCongestion(false, 0);
+        assertEquals(0, transactionManager.getQueuedTransactions());
+
+        transactionManager.removeQueueListener(listener);
+        transactionManager.shutdown();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void admissionWatermarksInvalid() {
+        ZigBeeTransactionManager transactionManager = new ZigBeeTransactionManager(
+                Mockito.mock(ZigBeeNetworkManager.class));
+        transactionManager.setWatermarks(10, 10);
+    }
+
     private ZigBeeCommand getCommand(int address) {
         ZigBeeCommand command = Mockito.mock(ZigBeeCommand.class);
         Mockito.when(command.getDestinationAddress()).thenReturn(new ZigBeeEndpointAddress(address));
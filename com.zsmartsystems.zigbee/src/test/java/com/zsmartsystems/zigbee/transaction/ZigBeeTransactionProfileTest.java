@@ -30,6 +30,12 @@ public class ZigBeeTransactionProfileTest {
         profile.setMaxRetries(11);
         assertEquals(11, profile.getMaxRetries());
 
+        profile.setMinRetryTimeout(500);
+        assertEquals(500, profile.getMinRetryTimeout());
+
+        profile.setMaxRetryTimeout(20000);
+        assertEquals(20000, profile.getMaxRetryTimeout());
+
         System.out.println(profile.toString());
 
         profile = new ZigBeeTransactionProfile(1, 2, 3);
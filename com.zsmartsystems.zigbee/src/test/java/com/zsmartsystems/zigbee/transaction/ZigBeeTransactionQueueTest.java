@@ -20,7 +20,11 @@ import org.mockito.Mockito;
 
 import com.zsmartsystems.zigbee.CommandResult;
 import com.zsmartsystems.zigbee.ZigBeeCommand;
+import com.zsmartsystems.zigbee.ZigBeeEndpointAddress;
 import com.zsmartsystems.zigbee.transaction.ZigBeeTransaction.TransactionState;
+import com.zsmartsystems.zigbee.zcl.clusters.onoff.OffCommand;
+import com.zsmartsystems.zigbee.zcl.clusters.onoff.OnCommand;
+import com.zsmartsystems.zigbee.zcl.clusters.onoff.ToggleCommand;
 
 /**
  * Tests for {@link ZigBeeTransactionQueue}
@@ -114,4 +118,112 @@ public class ZigBeeTransactionQueueTest {
 
         assertTrue(queue.isEmpty());
     }
+
+    @Test
+    public void roundTripTimeDefaultEstimator() {
+        ZigBeeTransactionQueue queue = new ZigBeeTransactionQueue("QueueName");
+        ZigBeeTransactionProfile profile = new ZigBeeTransactionProfile(2, 2, 0);
+        profile.setMinRetryTimeout(1000);
+        profile.setMaxRetryTimeout(8000);
+        queue.setProfile(profile);
+
+        ZigBeeRoundTripEstimator defaultEstimator = new ZigBeeRoundTripEstimator();
+        defaultEstimator.addSample(100);
+        assertEquals(1000, queue.getRetryTimeout(defaultEstimator));
+
+        // Failures on the queue increase the default estimate, even though the queue has no samples
+        ZigBeeTransaction transaction = Mockito.mock(ZigBeeTransaction.class);
+        Mockito.when(transaction.getSendCnt()).thenReturn(1);
+        queue.addToQueue(transaction);
+        queue.getTransaction();
+        queue.transactionComplete(transaction, TransactionState.FAILED);
+        assertEquals(0, queue.getRoundTripSampleCount());
+        assertEquals(2000, queue.getRetryTimeout(defaultEstimator));
+    }
+
+    @Test
+    public void roundTripTime() {
+        ZigBeeTransactionQueue queue = new ZigBeeTransactionQueue("QueueName");
+        ZigBeeTransactionProfile profile = new ZigBeeTransactionProfile(2, 2, 0);
+        profile.setMinRetryTimeout(1000);
+        profile.setMaxRetryTimeout(8000);
+        queue.setProfile(profile);
+        assertEquals(8000, queue.getRetryTimeout());
+
+        ZigBeeTransaction transaction = Mockito.mock(ZigBeeTransaction.class);
+        Mockito.when(transaction.getSendCnt()).thenReturn(1);
+        Mockito.when(transaction.getRoundTripTime()).thenReturn(600L);
+        queue.addToQueue(transaction);
+        queue.getTransaction();
+        queue.transactionComplete(transaction, TransactionState.COMPLETE);
+
+        assertEquals(1, queue.getRoundTripSampleCount());
+        assertEquals(600, queue.getSmoothedRoundTripTime());
+        assertEquals(300, queue.getRoundTripTimeVariance());
+        assertEquals(1800, queue.getRetryTimeout());
+
+        // Retried transactions are not measured
+        Mockito.when(transaction.getSendCnt()).thenReturn(2);
+        queue.addToQueue(transaction);
+        queue.getTransaction();
+        queue.transactionComplete(transaction, TransactionState.COMPLETE);
+        assertEquals(1, queue.getRoundTripSampleCount());
+
+        // Failures increase the timeout
+        Mockito.when(transaction.getSendCnt()).thenReturn(1);
+        queue.addToQueue(transaction);
+        queue.getTransaction();
+        queue.transactionComplete(transaction, TransactionState.FAILED);
+        assertEquals(3600, queue.getRetryTimeout());
+    }
+
+    private ZigBeeTransaction getTransaction(ZigBeeCommand command) {
+        command.setDestinationAddress(new ZigBeeEndpointAddress(1234, 1));
+        return new ZigBeeTransaction(Mockito.mock(ZigBeeTransactionManager.class), command, null);
+    }
+
+    @Test
+    public void supersede() throws Exception {
+        ZigBeeTransactionQueue queue = new ZigBeeTransactionQueue("QueueName");
+        queue.setProfile(new ZigBeeTransactionProfile(2, 1, 0));
+        assertNull(queue.getSupersedeKeyProvider());
+
+        // Without a provider, nothing is superseded
+        queue.addToQueue(getTransaction(new OnCommand()));
+        queue.addToQueue(getTransaction(new OffCommand()));
+        assertEquals(2, queue.size());
+
+        queue = new ZigBeeTransactionQueue("QueueName");
+        queue.setProfile(new ZigBeeTransactionProfile(2, 1, 0));
+        ZigBeeSupersedeKeyProvider provider = new ZigBeeDefaultSupersedeKeyProvider();
+        queue.setSupersedeKeyProvider(provider);
+        assertEquals(provider, queue.getSupersedeKeyProvider());
+
+        ZigBeeTransaction sent = getTransaction(new OnCommand());
+        Future<CommandResult> sentFuture = queue.addToQueue(sent);
+        assertEquals(sent, queue.getTransaction());
+        sent.startTransaction();
+
+        ZigBeeTransaction on = getTransaction(new OnCommand());
+        Future<CommandResult> onFuture = queue.addToQueue(on);
+        ZigBeeTransaction toggle = getTransaction(new ToggleCommand());
+        queue.addToQueue(toggle);
+        assertEquals(2, queue.size());
+
+        // The waiting On command is superseded, but the sent On command is not
+        ZigBeeTransaction off = getTransaction(new OffCommand());
+        Future<CommandResult> offFuture = queue.addToQueue(off);
+        assertEquals(2, queue.size());
+        assertFalse(sentFuture.isDone());
+        assertFalse(offFuture.isDone());
+        assertTrue(onFuture.isDone());
+        assertTrue(onFuture.get().isSuperseded());
+        assertFalse(onFuture.get().isTimeout());
+
+        // The new transaction is added to the end of the queue
+        queue.transactionComplete(sent, TransactionState.COMPLETE);
+        assertEquals(toggle, queue.getTransaction());
+        queue.transactionComplete(toggle, TransactionState.COMPLETE);
+        assertEquals(off, queue.getTransaction());
+    }
 }
@@ -0,0 +1,138 @@
+/**
+ * Copyright (c) 2016-2019 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.transaction;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+import org.mockito.Mockito;
+
+/**
+ * Tests for {@link ZigBeeTransactionScheduler}
+ *
+ * @author agent
+ *
+ */
+public class ZigBeeTransactionSchedulerTest {
+    private ZigBeeTransactionQueue getQueue(boolean sleepy, long releaseTime) {
+        ZigBeeTransactionQueue queue = Mockito.mock(ZigBeeTransactionQueue.class);
+        Mockito.when(queue.isSleepy()).thenReturn(sleepy);
+        Mockito.when(queue.getNextReleaseTime()).thenReturn(releaseTime);
+        return queue;
+    }
+
+    @Test
+    public void roundRobin() {
+        ZigBeeTransactionScheduler scheduler = new ZigBeeTransactionScheduler();
+        ZigBeeTransactionQueue queue1 = getQueue(false, 0);
+        ZigBeeTransactionQueue queue2 = getQueue(false, 0);
+        ZigBeeTransactionQueue queue3 = getQueue(false, 0);
+
+        scheduler.schedule(queue1);
+        scheduler.schedule(queue2);
+        scheduler.schedule(queue3);
+        // Scheduling a queue twice does not change its position
+        scheduler.schedule(queue1);
+        assertEquals(3, scheduler.size());
+        assertEquals(Long.MAX_VALUE, scheduler.getNextReleaseTime());
+
+        for (int cnt = 0; cnt < 3; cnt++) {
+            assertEquals(queue1, scheduler.getNextQueue(true));
+            scheduler.schedule(queue1);
+            assertEquals(queue2, scheduler.getNextQueue(true));
+            scheduler.schedule(queue2);
+            assertEquals(queue3, scheduler.getNextQueue(true));
+            scheduler.schedule(queue3);
+        }
+
+        // Empty and blocked queues are not scheduled
+        assertEquals(queue1, scheduler.getNextQueue(true));
+        Mockito.when(queue1.isEmpty()).thenReturn(true);
+        scheduler.schedule(queue1);
+        assertEquals(queue2, scheduler.getNextQueue(true));
+        Mockito.when(queue2.isBlocked()).thenReturn(true);
+        scheduler.schedule(queue2);
+        assertEquals(queue3, scheduler.getNextQueue(true));
+        assertNull(scheduler.getNextQueue(true));
+        assertEquals(0, scheduler.size());
+    }
+
+    @Test
+    public void sleepyQueues() {
+        ZigBeeTransactionScheduler scheduler = new ZigBeeTransactionScheduler();
+        ZigBeeTransactionQueue sleepyQueue = getQueue(true, 0);
+        ZigBeeTransactionQueue mainsQueue = getQueue(false, 0);
+
+        scheduler.schedule(sleepyQueue);
+        assertNull(scheduler.getNextQueue(false));
+        assertEquals(1, scheduler.size());
+
+        // Mains queues are served while sleepy transactions are not available
+        scheduler.schedule(mainsQueue);
+        assertEquals(mainsQueue, scheduler.getNextQueue(false));
+        assertEquals(sleepyQueue, scheduler.getNextQueue(true));
+        assertEquals(0, scheduler.size());
+    }
+
+    @Test
+    public void deficitRoundRobin() {
+        ZigBeeTransactionScheduler scheduler = new ZigBeeTransactionScheduler();
+        ZigBeeTransactionQueue sleepyQueue = getQueue(true, 0);
+        ZigBeeTransactionQueue mainsQueue = getQueue(false, 0);
+        scheduler.schedule(sleepyQueue);
+        scheduler.schedule(mainsQueue);
+
+        int sleepyCnt = 0;
+        int mainsCnt = 0;
+        for (int cnt = 0; cnt < 50; cnt++) {
+            ZigBeeTransactionQueue queue = scheduler.getNextQueue(true);
+            if (queue == sleepyQueue) {
+                sleepyCnt++;
+            } else {
+                mainsCnt++;
+            }
+            scheduler.schedule(queue);
+        }
+
+        assertEquals(10, sleepyCnt);
+        assertEquals(40, mainsCnt);
+    }
+
+    @Test
+    public void delayedQueues() {
+        ZigBeeTransactionScheduler scheduler = new ZigBeeTransactionScheduler();
+        ZigBeeTransactionQueue queue1 = getQueue(false, 300);
+        ZigBeeTransactionQueue queue2 = getQueue(false, 100);
+        ZigBeeTransactionQueue queue3 = getQueue(false, 200);
+
+        scheduler.schedule(queue1);
+        scheduler.schedule(queue2);
+        scheduler.schedule(queue3);
+        assertEquals(100, scheduler.getNextReleaseTime());
+        assertNull(scheduler.getNextQueue(true));
+
+        scheduler.remove(queue2);
+        assertEquals(200, scheduler.getNextReleaseTime());
+        assertEquals(2, scheduler.size());
+    }
+
+    @Test
+    public void delayedQueueReleased() throws Exception {
+        ZigBeeTransactionScheduler scheduler = new ZigBeeTransactionScheduler();
+        ZigBeeTransactionQueue queue = getQueue(false, 10);
+
+        scheduler.schedule(queue);
+        assertNull(scheduler.getNextQueue(true));
+
+        Thread.sleep(20);
+        Mockito.when(queue.getNextReleaseTime()).thenReturn(0L);
+        assertEquals(queue, scheduler.getNextQueue(true));
+        assertEquals(Long.MAX_VALUE, scheduler.getNextReleaseTime());
+    }
+}
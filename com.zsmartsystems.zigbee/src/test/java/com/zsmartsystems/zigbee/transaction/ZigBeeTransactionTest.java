@@ -316,6 +316,10 @@ public class ZigBeeTransactionTest {
         int timeout2 = transaction.getTimerPeriod1();
         transaction.setTimerPeriod1(timeout2 + 23);
         assertEquals(timeout2 + 23, transaction.getTimerPeriod1());
+
+        transaction.setTimerPeriod2(1234);
+        assertEquals(1234, transaction.getTimerPeriod2());
+        assertEquals(timeout2 + 23, transaction.getTimerPeriod1());
     }
 
     @Test
@@ -0,0 +1,97 @@
+/**
+ * Copyright (c) 2016-2019 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.transport;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
+
+import org.junit.Test;
+
+/**
+ *
+ * @author agent
+ *
+ */
+public class ZigBeePortTest {
+    class TestPort implements ZigBeePort {
+        List<Integer> outputData = new ArrayList<>();
+        Queue<Integer> inputData = new LinkedList<>();
+
+        @Override
+        public boolean open() {
+            return true;
+        }
+
+        @Override
+        public boolean open(int baudRate) {
+            return true;
+        }
+
+        @Override
+        public boolean open(int baudRate, FlowControl flowControl) {
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public void write(int value) {
+            outputData.add(value);
+        }
+
+        @Override
+        public int read() {
+            return read(0);
+        }
+
+        @Override
+        public int read(int timeout) {
+            Integer value = inputData.poll();
+            return value == null ? -1 : value;
+        }
+
+        @Override
+        public void purgeRxBuffer() {
+            inputData.clear();
+        }
+    }
+
+    @Test
+    public void writeBlock() {
+        TestPort port = new TestPort();
+
+        port.write(new byte[] { 0x01, 0x02, (byte) 0xFE, (byte) 0xFF }, 1, 3);
+        assertEquals(3, port.outputData.size());
+        assertEquals(Integer.valueOf(0x02), port.outputData.get(0));
+        assertEquals(Integer.valueOf(0xFE), port.outputData.get(1));
+        assertEquals(Integer.valueOf(0xFF), port.outputData.get(2));
+    }
+
+    @Test
+    public void readBlock() {
+        TestPort port = new TestPort();
+        byte[] buffer = new byte[4];
+
+        assertEquals(-1, port.read(buffer, 0, 4, 0));
+        assertEquals(0, port.read(buffer, 0, 0, 0));
+
+        port.inputData.add(0x81);
+        port.inputData.add(0x02);
+        assertEquals(1, port.read(buffer, 2, 2, 0));
+        assertEquals((byte) 0x81, buffer[2]);
+        assertEquals(1, port.read(buffer, 3, 1, 0));
+        assertEquals((byte) 0x02, buffer[3]);
+        assertEquals(-1, port.read(buffer, 0, 4, 0));
+    }
+}
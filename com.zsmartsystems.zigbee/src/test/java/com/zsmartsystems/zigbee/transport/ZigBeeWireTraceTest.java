@@ -0,0 +1,99 @@
+/**
+ * Copyright (c) 2016-2019 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.transport;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import org.junit.Test;
+
+/**
+ *
+ * @author agent
+ *
+ */
+public class ZigBeeWireTraceTest {
+    private int getInt(byte[] data, int offset) {
+        return ((data[offset] & 0xFF) << 24) | ((data[offset + 1] & 0xFF) << 16) | ((data[offset + 2] & 0xFF) << 8)
+                | (data[offset + 3] & 0xFF);
+    }
+
+    @Test
+    public void dump() throws IOException {
+        ZigBeeWireTrace wireTrace = new ZigBeeWireTrace();
+        wireTrace.traceTx(new int[] { 0x01, 0x02, 0x03 });
+        wireTrace.traceRx(new int[] { 0x99, 0x04, 0x05, 0x99 }, 1, 2);
+        assertEquals(2, wireTrace.getRecordCount());
+
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        wireTrace.dump(stream);
+        byte[] data = stream.toByteArray();
+
+        // File header + (record header + direction + data) for each frame
+        assertEquals(24 + 16 + 1 + 3 + 16 + 1 + 2, data.length);
+        assertEquals(0xA1B2C3D4, getInt(data, 0));
+        assertEquals(ZigBeeWireTrace.PCAP_LINKTYPE_USER0, getInt(data, 20));
+
+        assertEquals(4, getInt(data, 24 + 8));
+        assertEquals(ZigBeeWireTrace.DIRECTION_TX, data[40]);
+        assertEquals(0x01, data[41]);
+        assertEquals(0x03, data[43]);
+
+        assertEquals(3, getInt(data, 44 + 8));
+        assertEquals(ZigBeeWireTrace.DIRECTION_RX, data[60]);
+        assertEquals(0x04, data[61]);
+        assertEquals(0x05, data[62]);
+
+        wireTrace.clear();
+        assertEquals(0, wireTrace.getRecordCount());
+    }
+
+    @Test
+    public void ringBufferWrap() throws IOException {
+        // Each record uses 11 bytes of header plus the data
+        ZigBeeWireTrace wireTrace = new ZigBeeWireTrace(40);
+        for (int cnt = 0; cnt < 10; cnt++) {
+            wireTrace.traceTx(new int[] { cnt, cnt, cnt, cnt });
+        }
+        assertEquals(2, wireTrace.getRecordCount());
+
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        wireTrace.dump(stream);
+        byte[] data = stream.toByteArray();
+        assertEquals(24 + (16 + 1 + 4) * 2, data.length);
+        assertEquals(8, data[41]);
+        assertEquals(9, data[62]);
+
+        // Frames larger than the buffer are not stored
+        wireTrace.traceRx(new int[40]);
+        assertEquals(2, wireTrace.getRecordCount());
+    }
+
+    @Test
+    public void stream() throws IOException {
+        ZigBeeWireTrace wireTrace = new ZigBeeWireTrace();
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        wireTrace.setOutputStream(stream);
+        assertEquals(24, stream.size());
+
+        wireTrace.traceRx(new int[] { 0x01, 0x02 });
+        assertEquals(24 + 16 + 1 + 2, stream.size());
+
+        wireTrace.setOutputStream(null);
+        wireTrace.traceRx(new int[] { 0x01, 0x02 });
+        assertEquals(24 + 16 + 1 + 2, stream.size());
+        assertEquals(2, wireTrace.getRecordCount());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidBufferSize() {
+        new ZigBeeWireTrace(11);
+    }
+}
@@ -607,8 +607,43 @@ public class ZclClusterTest {
         clusterDao.setAttributes(attributes);
 
         cluster.setDao(clusterDao);
-        assertEquals(1, cluster.getAttributes().size());
-        assertEquals(Integer.class, cluster.getAttributes().iterator().next().getLastValue().getClass());
+        assertEquals(1, cluster.getInstantiatedAttributes().size());
+        assertEquals(Integer.class, cluster.getInstantiatedAttributes().iterator().next().getLastValue().getClass());
+
+        // Attributes defined by the cluster are still created when first used
+        assertNull(cluster.getAttribute(ZclOnOffCluster.ATTR_ONOFF).getLastValue());
+        assertEquals(2, cluster.getInstantiatedAttributes().size());
+        assertEquals(6, cluster.getAttributes().size());
+        assertEquals(Integer.class, cluster.getAttribute(1).getLastValue().getClass());
+    }
+
+    @Test
+    public void sharedAttributeDefinitions() {
+        createEndpoint();
+
+        ZclOnOffCluster cluster1 = new ZclOnOffCluster(endpoint);
+        ZclOnOffCluster cluster2 = new ZclOnOffCluster(endpoint);
+
+        assertEquals(0, cluster1.getDao().getAttributes().size());
+        assertEquals(0, cluster1.getInstantiatedAttributes().size());
+        assertEquals(5, cluster1.getAttributeDefinitions().size());
+        assertEquals(0, cluster1.getInstantiatedAttributes().size());
+
+        ZclAttribute attribute1 = cluster1.getAttribute(ZclOnOffCluster.ATTR_ONOFF);
+        ZclAttribute attribute2 = cluster2.getAttribute(ZclOnOffCluster.ATTR_ONOFF);
+        assertFalse(attribute1 == attribute2);
+        assertTrue(attribute1.getDefinition() == attribute2.getDefinition());
+        assertTrue(attribute1 == cluster1.getAttribute(ZclOnOffCluster.ATTR_ONOFF));
+        assertEquals("On Off", attribute1.getName());
+        assertEquals(ZclDataType.BOOLEAN, attribute1.getDataType());
+
+        assertEquals(1, cluster1.getDao().getAttributes().size());
+        assertNull(cluster1.getAttribute(0x1234));
+
+        // Getting all attributes creates those not yet used
+        assertEquals(5, cluster1.getAttributes().size());
+        assertEquals(5, cluster1.getInstantiatedAttributes().size());
+        assertEquals(1, cluster2.getInstantiatedAttributes().size());
     }
 
     @Test
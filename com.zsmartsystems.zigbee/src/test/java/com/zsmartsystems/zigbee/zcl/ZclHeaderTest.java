@@ -42,6 +42,8 @@ public class ZclHeaderTest extends CommandTest {
         DefaultSerializer serializer = new DefaultSerializer();
         ZclFieldSerializer fieldSerializer = new ZclFieldSerializer(serializer);
         assertTrue(Arrays.equals(packet, zclHeader.serialize(fieldSerializer, new int[] {})));
+        assertTrue(Arrays.equals(new byte[] { 0x11, 0x04, 0x01, 0x55 },
+                zclHeader.serialize(fieldSerializer, new byte[] { 0x55 })));
     }
 
     @Test